@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Allocation assertions for operations that are expected to be garbage free.
+ * 
+ * <p>Run {@link #main} (or 
+ * {@code java -cp target/benchmarks.jar br.eti.rslemos.bitsmagic.jmh.AllocationBenchmark}) 
+ * to execute these benchmarks under {@link GCProfiler} and fail if any of 
+ * them allocates on the heap. Run through the regular JMH launcher they 
+ * behave as plain benchmarks.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class AllocationBenchmark {
+	/**
+	 * Highest tolerated allocation, in bytes per operation. Nonzero just to 
+	 * absorb measurement noise, which is amortized to a tiny fraction of a 
+	 * byte over millions of operations; any real allocation is at least 16 
+	 * bytes.
+	 */
+	static final double TOLERANCE = 0.5;
+	
+	private static final String ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+	
+	@Param({"BYTE", "CHAR", "SHORT", "INT", "LONG"})
+	public Storage storage;
+	
+	private Object src;
+	private Object dest;
+	private int bits;
+	
+	@Setup
+	public void setup() {
+		bits = 1024;
+		src = storage.randomBits(bits, RegionBenchmark.SEED);
+		dest = storage.randomBits(bits, ~RegionBenchmark.SEED);
+	}
+	
+	/**
+	 * A copy whose source and destination both straddle their storage limits, 
+	 * so that every clamping branch is taken.
+	 */
+	@Benchmark
+	public void safeCopyFromClamped(Blackhole bh) {
+		storage.safeCopyFrom(src, -37, dest, 3, bits + 13);
+		bh.consume(dest);
+	}
+	
+	@Benchmark
+	public void shr(Blackhole bh) {
+		storage.shr(dest, 5, bits - 7, 3);
+		bh.consume(dest);
+	}
+	
+	@Benchmark
+	public void copyFromHigher(Blackhole bh) {
+		storage.copyFrom(src, 3, dest, 5, bits - 8);
+		bh.consume(dest);
+	}
+	
+	@Benchmark
+	public void copyFromLower(Blackhole bh) {
+		storage.copyFrom(src, 5, dest, 3, bits - 8);
+		bh.consume(dest);
+	}
+	
+	@Benchmark
+	public void xorFrom(Blackhole bh) {
+		storage.xorFrom(src, 3, dest, 5, bits - 8);
+		bh.consume(dest);
+	}
+	
+	@Benchmark
+	public void fill(Blackhole bh) {
+		storage.fill(dest, 3, bits - 5, true);
+		bh.consume(dest);
+	}
+	
+	@Benchmark
+	public int ones() {
+		return storage.ones(src, 3, bits - 5);
+	}
+	
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(AllocationBenchmark.class.getName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		
+		Collection<RunResult> results = new Runner(opt).run();
+		
+		int failures = 0;
+		for (RunResult result : results) {
+			String label = result.getParams().getBenchmark() + " " + result.getParams().getParam("storage");
+			Map<String, Result> secondary = result.getSecondaryResults();
+			Result alloc = null;
+			for (Map.Entry<String, Result> entry : secondary.entrySet())
+				if (entry.getKey().endsWith(ALLOC_RATE_NORM))
+					alloc = entry.getValue();
+			
+			if (alloc == null) {
+				System.err.println(label + ": no " + ALLOC_RATE_NORM + " reported");
+				failures++;
+			} else if (alloc.getScore() > TOLERANCE) {
+				System.err.println(label + ": allocates " + alloc.getScore() + " " + alloc.getScoreUnit());
+				failures++;
+			}
+		}
+		
+		if (failures > 0) {
+			System.err.println(failures + " benchmark(s) allocate on the heap");
+			System.exit(1);
+		}
+		
+		System.out.println("No heap allocation detected");
+	}
+}
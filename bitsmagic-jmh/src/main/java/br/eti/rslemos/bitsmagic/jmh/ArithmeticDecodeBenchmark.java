@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eti.rslemos.bitsmagic.arithmetic.ArithmeticCodec;
+import br.eti.rslemos.bitsmagic.arithmetic.Base2ArithmeticCodec;
+import br.eti.rslemos.bitsmagic.arithmetic.DecodeTable;
+import br.eti.rslemos.bitsmagic.stream.GrowableIntOutputStream;
+import br.eti.rslemos.bitsmagic.stream.LongArrayIntStream;
+
+/**
+ * Benchmarks for arithmetic decoding over alphabets of several sizes, 
+ * looking symbols up in the cumulative count function itself against 
+ * through a {@link DecodeTable}.
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArithmeticDecodeBenchmark {
+	private static final int SYMBOLS = 4096;
+	
+	@Param({"2", "256", "65536"})
+	public int alphabet;
+	
+	private int[] cumulativeCount;
+	private DecodeTable table;
+	private long[] encoded;
+	
+	@Setup
+	public void setup() throws IOException {
+		Random random = new Random(RegionBenchmark.SEED);
+		
+		cumulativeCount = new int[alphabet];
+		for (int i = 0, accum = 0; i < alphabet; i++)
+			cumulativeCount[i] = accum += random.nextInt(16) + 1;
+		
+		table = new DecodeTable(cumulativeCount);
+		
+		GrowableIntOutputStream output = new GrowableIntOutputStream(1);
+		ArithmeticCodec.Encoder encoder = new Base2ArithmeticCodec.Encoder(output);
+		for (int i = 0; i < SYMBOLS; i++)
+			encoder.write(random.nextInt(alphabet), cumulativeCount);
+		encoder.flush();
+		
+		encoded = output.toLongArray();
+	}
+	
+	@Benchmark
+	public int cumulativeCount() throws IOException {
+		ArithmeticCodec.Decoder decoder = new Base2ArithmeticCodec.Decoder(new LongArrayIntStream.Input(1, encoded));
+		
+		int sum = 0;
+		for (int i = 0; i < SYMBOLS; i++)
+			sum += decoder.read(cumulativeCount);
+		
+		return sum;
+	}
+	
+	@Benchmark
+	public int decodeTable() throws IOException {
+		ArithmeticCodec.Decoder decoder = new Base2ArithmeticCodec.Decoder(new LongArrayIntStream.Input(1, encoded));
+		
+		int sum = 0;
+		for (int i = 0; i < SYMBOLS; i++)
+			sum += decoder.read(table);
+		
+		return sum;
+	}
+}
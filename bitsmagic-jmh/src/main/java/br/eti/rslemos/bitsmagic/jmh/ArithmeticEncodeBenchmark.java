@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eti.rslemos.bitsmagic.arithmetic.ArithmeticCodec;
+import br.eti.rslemos.bitsmagic.arithmetic.Base2ArithmeticCodec;
+import br.eti.rslemos.bitsmagic.arithmetic.IntegralPowerOf2BaseArithmeticCodec;
+import br.eti.rslemos.bitsmagic.stream.ByteArrayIntStream;
+
+/**
+ * Benchmarks for arithmetic coding in bases 2 and 256, through a digit 
+ * stream against straight into (and from) a {@link ByteBuffer}.
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArithmeticEncodeBenchmark {
+	private static final int SYMBOLS = 4096;
+	
+	@Param({"1", "8"})
+	public int baseBits;
+	
+	private int[] cumulativeCount;
+	private int[] input;
+	private byte[] array;
+	private ByteBuffer buffer;
+	private byte[] encoded;
+	
+	@Setup
+	public void setup() throws IOException {
+		Random random = new Random(RegionBenchmark.SEED);
+		
+		cumulativeCount = new int[256];
+		for (int i = 0, accum = 0; i < cumulativeCount.length; i++)
+			cumulativeCount[i] = accum += random.nextInt(16) + 1;
+		
+		input = new int[SYMBOLS];
+		for (int i = 0; i < SYMBOLS; i++)
+			input[i] = random.nextInt(cumulativeCount.length);
+		
+		array = new byte[SYMBOLS * 2];
+		buffer = ByteBuffer.allocate(array.length);
+		
+		encoded = Arrays.copyOf(buffer.array(), bufferEncode());
+	}
+	
+	private ArithmeticCodec.Encoder encoder(ByteArrayIntStream.Output output) {
+		return baseBits == 1 ? new Base2ArithmeticCodec.Encoder(output) : new IntegralPowerOf2BaseArithmeticCodec.Encoder(output, baseBits);
+	}
+	
+	private ArithmeticCodec.Encoder encoder(ByteBuffer sink) {
+		return baseBits == 1 ? new Base2ArithmeticCodec.Encoder(sink) : new IntegralPowerOf2BaseArithmeticCodec.Encoder(sink, baseBits);
+	}
+	
+	private ArithmeticCodec.Decoder decoder(ByteArrayIntStream.Input input) throws IOException {
+		return baseBits == 1 ? new Base2ArithmeticCodec.Decoder(input) : new IntegralPowerOf2BaseArithmeticCodec.Decoder(input, baseBits);
+	}
+	
+	private ArithmeticCodec.Decoder decoder(ByteBuffer source) throws IOException {
+		return baseBits == 1 ? new Base2ArithmeticCodec.Decoder(source) : new IntegralPowerOf2BaseArithmeticCodec.Decoder(source, baseBits);
+	}
+	
+	@Benchmark
+	public byte[] streamEncode() throws IOException {
+		ArithmeticCodec.Encoder encoder = encoder(new ByteArrayIntStream.Output(baseBits, array));
+		for (int i = 0; i < SYMBOLS; i++)
+			encoder.write(input[i], cumulativeCount);
+		encoder.flush();
+		
+		return array;
+	}
+	
+	@Benchmark
+	public int bufferEncode() throws IOException {
+		buffer.clear();
+		ArithmeticCodec.Encoder encoder = encoder(buffer);
+		for (int i = 0; i < SYMBOLS; i++)
+			encoder.write(input[i], cumulativeCount);
+		encoder.flush();
+		
+		return buffer.position();
+	}
+	
+	@Benchmark
+	public int streamDecode() throws IOException {
+		ArithmeticCodec.Decoder decoder = decoder(new ByteArrayIntStream.Input(baseBits, encoded));
+		
+		int sum = 0;
+		for (int i = 0; i < SYMBOLS; i++)
+			sum += decoder.read(cumulativeCount);
+		
+		return sum;
+	}
+	
+	@Benchmark
+	public int bufferDecode() throws IOException {
+		ArithmeticCodec.Decoder decoder = decoder(ByteBuffer.wrap(encoded));
+		
+		int sum = 0;
+		for (int i = 0; i < SYMBOLS; i++)
+			sum += decoder.read(cumulativeCount);
+		
+		return sum;
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eti.rslemos.bitsmagic.Ones;
+
+/**
+ * Benchmarks {@link Ones#ones(byte[], long, long)} over whole {@code byte[]} 
+ * bitmaps against per-byte counting.
+ * 
+ * <p>{@code perByteSwar} is the shape the array path used to have (one SWAR 
+ * reduction per element); {@code perByte} keeps one count per element but 
+ * with the {@code POPCNT} intrinsic; {@code ones} counts 8 bytes at a time.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BitmapOnesBenchmark {
+	/**
+	 * Bitmap length, in bytes (4 KiB, 1 MiB, 64 MiB).
+	 */
+	@Param({"4096", "1048576", "67108864"})
+	public int bytes;
+	
+	private byte[] data;
+	
+	@Setup
+	public void setup() {
+		data = (byte[]) Storage.BYTE.randomBits((long) bytes * Byte.SIZE, RegionBenchmark.SEED);
+	}
+	
+	@Benchmark
+	public long ones() {
+		return Ones.ones(data, 0L, (long) bytes * Byte.SIZE);
+	}
+	
+	@Benchmark
+	public long perByte() {
+		long count = 0;
+		for (int j = 0; j < bytes; j++)
+			count += Integer.bitCount(data[j] & 0xFF);
+		
+		return count;
+	}
+	
+	@Benchmark
+	public long perByteSwar() {
+		long count = 0;
+		for (int j = 0; j < bytes; j++)
+			count += swar(data[j] & 0xFF);
+		
+		return count;
+	}
+	
+	private static int swar(int x) {
+		x -= ((x >> 1) & 0x55555555);
+		x = (((x >> 2) & 0x33333333) + (x & 0x33333333));
+		x = (((x >> 4) + x) & 0x0f0f0f0f);
+		x += (x >> 8);
+		x += (x >> 16);
+		return (x & 0x0000003f);
+	}
+}
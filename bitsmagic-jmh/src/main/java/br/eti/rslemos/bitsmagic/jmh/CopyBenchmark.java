@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks for {@link br.eti.rslemos.bitsmagic.Copy}.
+ * 
+ * <p>Copies the region between two distinct storages, exercising each of the 
+ * three internal paths (see {@link Path}).
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+public class CopyBenchmark extends RegionBenchmark {
+	@Param({"PARALLEL", "HIGHER", "LOWER"})
+	public Path path;
+	
+	private Object src;
+	private Object dest;
+	
+	@Setup
+	public void setup() {
+		src = storage.randomBits(path.srcPos(to()), SEED);
+		dest = storage.allocateBits(path.destPos(to()));
+	}
+	
+	@Benchmark
+	public Object copyFrom() {
+		storage.copyFrom(src, path.srcPos(from()), dest, path.destPos(from()), length);
+		return dest;
+	}
+	
+	@Benchmark
+	public Object safeCopyFrom() {
+		storage.safeCopyFrom(src, path.srcPos(from()), dest, path.destPos(from()), length);
+		return dest;
+	}
+}
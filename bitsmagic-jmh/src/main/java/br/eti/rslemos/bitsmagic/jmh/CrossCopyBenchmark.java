@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import br.eti.rslemos.bitsmagic.Copy;
+import br.eti.rslemos.bitsmagic.Store;
+
+/**
+ * Benchmarks for cross-type {@link Copy#copyFrom(byte[], int, long[], int, int)} 
+ * and its siblings.
+ * 
+ * <p>Copies the region from a storage of the parameterized type into a 
+ * {@code long[]}, either directly or through the {@link Store#readLong} / 
+ * {@link Store#writeLong} loop it replaces. For {@code LONG} both sides are 
+ * of the same type, which makes for a baseline.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+public class CrossCopyBenchmark extends RegionBenchmark {
+	private Object src;
+	private long[] dest;
+	
+	@Setup
+	public void setup() {
+		src = storage.randomBits(to(), SEED);
+		dest = (long[]) Storage.LONG.allocateBits(to());
+	}
+	
+	@Benchmark
+	public Object copyFrom() {
+		storage.copyToLongs(src, from(), dest, from(), length);
+		return dest;
+	}
+	
+	@Benchmark
+	public Object readLongWriteLong() {
+		final int srcPos = from();
+		final int destPos = from();
+		
+		int i = 0;
+		for (; i + Long.SIZE <= length; i += Long.SIZE)
+			Store.writeLong(dest, destPos + i, storage.readLong(src, srcPos + i));
+		
+		if (i < length) {
+			long mask = -1L >>> Long.SIZE - (length - i);
+			long d = Store.readLong(dest, destPos + i);
+			Store.writeLong(dest, destPos + i, d & ~mask | storage.readLong(src, srcPos + i) & mask);
+		}
+		
+		return dest;
+	}
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eti.rslemos.bitsmagic.arithmetic.ArithmeticCodec;
+import br.eti.rslemos.bitsmagic.arithmetic.Base2ArithmeticCodec;
+import br.eti.rslemos.bitsmagic.arithmetic.DecodeTable;
+import br.eti.rslemos.bitsmagic.arithmetic.IntegralPowerOf2BaseArithmeticCodec;
+import br.eti.rslemos.bitsmagic.arithmetic.RansCodec;
+import br.eti.rslemos.bitsmagic.arithmetic.TansCodec;
+
+/**
+ * Benchmarks for the entropy coders behind {@link ArithmeticCodec}, all 
+ * over a {@link ByteBuffer} and a static, skewed distribution of 256 
+ * symbols (with a total of {@code 2^16}). The compression ratio of each one, 
+ * in bits per symbol against the entropy of the distribution, is printed 
+ * on setup.
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntropyCoderBenchmark {
+	private static final int SYMBOLS = 16384;
+	
+	public enum Coder {
+		BASE2 {
+			@Override ArithmeticCodec.Encoder encoder(ByteBuffer sink) { return new Base2ArithmeticCodec.Encoder(sink); }
+			@Override ArithmeticCodec.Decoder decoder(ByteBuffer source) throws IOException { return new Base2ArithmeticCodec.Decoder(source); }
+		},
+		BASE256 {
+			@Override ArithmeticCodec.Encoder encoder(ByteBuffer sink) { return new IntegralPowerOf2BaseArithmeticCodec.Encoder(sink, 8); }
+			@Override ArithmeticCodec.Decoder decoder(ByteBuffer source) throws IOException { return new IntegralPowerOf2BaseArithmeticCodec.Decoder(source, 8); }
+		},
+		RANS {
+			@Override ArithmeticCodec.Encoder encoder(ByteBuffer sink) { return new RansCodec.Encoder(sink); }
+			@Override ArithmeticCodec.Decoder decoder(ByteBuffer source) throws IOException { return new RansCodec.Decoder(source); }
+		},
+		TANS {
+			@Override ArithmeticCodec.Encoder encoder(ByteBuffer sink) { return new TansCodec.Encoder(sink); }
+			@Override ArithmeticCodec.Decoder decoder(ByteBuffer source) { return new TansCodec.Decoder(source); }
+		};
+		
+		abstract ArithmeticCodec.Encoder encoder(ByteBuffer sink);
+		abstract ArithmeticCodec.Decoder decoder(ByteBuffer source) throws IOException;
+	}
+	
+	@Param
+	public Coder coder;
+	
+	private int[] cumulativeCount;
+	private DecodeTable table;
+	private int[] input;
+	private ByteBuffer buffer;
+	private byte[] encoded;
+	
+	@Setup
+	public void setup() throws IOException {
+		Random random = new Random(RegionBenchmark.SEED);
+		
+		// geometric-like: symbol i about 0.97^i as likely as symbol 0
+		int[] counts = new int[256];
+		int total = 0;
+		for (int i = 0; i < counts.length; i++)
+			total += counts[i] = 1 + (int) (2000 * Math.pow(0.97, i));
+		counts[0] += (1 << 16) - total;
+		
+		cumulativeCount = new int[counts.length];
+		for (int i = 0, accum = 0; i < counts.length; i++)
+			cumulativeCount[i] = accum += counts[i];
+		
+		table = new DecodeTable(cumulativeCount);
+		
+		input = new int[SYMBOLS];
+		for (int i = 0; i < SYMBOLS; i++)
+			input[i] = table.getSymbol(random.nextInt(1 << 16));
+		
+		buffer = ByteBuffer.allocate(SYMBOLS * 2);
+		encoded = Arrays.copyOf(buffer.array(), encode());
+		
+		double entropy = 0;
+		for (int count : counts) {
+			double p = count / (double) (1 << 16);
+			entropy -= p * Math.log(p) / Math.log(2);
+		}
+		
+		System.out.printf("%n%s: %.4f bits per symbol (entropy %.4f)%n", coder, encoded.length * 8.0 / SYMBOLS, entropy);
+	}
+	
+	@Benchmark
+	public int encode() throws IOException {
+		buffer.clear();
+		ArithmeticCodec.Encoder encoder = coder.encoder(buffer);
+		for (int i = 0; i < SYMBOLS; i++)
+			encoder.write(input[i], cumulativeCount);
+		encoder.flush();
+		
+		return buffer.position();
+	}
+	
+	@Benchmark
+	public int decode() throws IOException {
+		ArithmeticCodec.Decoder decoder = coder.decoder(ByteBuffer.wrap(encoded));
+		
+		int sum = 0;
+		for (int i = 0; i < SYMBOLS; i++)
+			sum += decoder.read(table);
+		
+		return sum;
+	}
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eti.rslemos.bitsmagic.stream.ByteArrayIntStream;
+import br.eti.rslemos.bitsmagic.stream.IntInputStream;
+import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+import br.eti.rslemos.bitsmagic.stream.LongArrayIntStream;
+
+/**
+ * Benchmarks for the array backed int streams, reading (or writing) values 
+ * one by one against in bulk.
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntStreamBenchmark {
+	private static final int VALUES = 65536;
+	
+	@Param({"BYTE", "LONG"})
+	public String storage;
+	
+	@Param({"3", "7", "12"})
+	public int width;
+	
+	private byte[] bytes;
+	private long[] longs;
+	private int[] buffer;
+	
+	@Setup
+	public void setup() {
+		bytes = new byte[VALUES * width / Byte.SIZE];
+		longs = new long[VALUES * width / Long.SIZE];
+		buffer = new int[VALUES];
+		
+		Random random = new Random(RegionBenchmark.SEED);
+		random.nextBytes(bytes);
+		for (int i = 0; i < longs.length; i++)
+			longs[i] = random.nextLong();
+	}
+	
+	private IntInputStream input() {
+		return "BYTE".equals(storage) ? new ByteArrayIntStream.Input(width, bytes) : new LongArrayIntStream.Input(width, longs);
+	}
+	
+	private IntOutputStream output() {
+		return "BYTE".equals(storage) ? new ByteArrayIntStream.Output(width, bytes) : new LongArrayIntStream.Output(width, longs);
+	}
+	
+	@Benchmark
+	public int[] readInt() throws IOException {
+		IntInputStream input = input();
+		for (int i = 0; i < VALUES; i++)
+			buffer[i] = input.readInt();
+		
+		return buffer;
+	}
+	
+	@Benchmark
+	public int[] readInts() throws IOException {
+		input().readInts(buffer, 0, VALUES);
+		return buffer;
+	}
+	
+	@Benchmark
+	public Object writeInt() throws IOException {
+		IntOutputStream output = output();
+		for (int i = 0; i < VALUES; i++)
+			output.writeInt(buffer[i]);
+		
+		return output;
+	}
+	
+	@Benchmark
+	public Object writeInts() throws IOException {
+		IntOutputStream output = output();
+		output.writeInts(buffer, 0, VALUES);
+		return output;
+	}
+}
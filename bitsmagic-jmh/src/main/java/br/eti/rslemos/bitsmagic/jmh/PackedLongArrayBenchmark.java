@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eti.rslemos.bitsmagic.PackedLongArray;
+import br.eti.rslemos.bitsmagic.Store;
+
+/**
+ * Benchmarks for the bulk methods of {@link PackedLongArray}, against the 
+ * same values read (or written) one by one through {@link Store}.
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedLongArrayBenchmark {
+	private static final int VALUES = 65536;
+	
+	@Param({"1", "4", "7", "13", "32", "51", "64"})
+	public int width;
+	
+	private PackedLongArray array;
+	private long[] buffer;
+	private long mask;
+	
+	@Setup
+	public void setup() {
+		array = new PackedLongArray(width, VALUES);
+		buffer = new long[VALUES];
+		mask = -1L >>> Long.SIZE - width;
+		
+		Random random = new Random(RegionBenchmark.SEED);
+		for (int i = 0; i < VALUES; i++)
+			buffer[i] = random.nextLong();
+		
+		array.set(0, buffer, 0, VALUES);
+	}
+	
+	@Benchmark
+	public long[] bulkGet() {
+		array.get(0, buffer, 0, VALUES);
+		return buffer;
+	}
+	
+	@Benchmark
+	public long[] storeGet() {
+		final long[] data = array.data();
+		for (int i = 0; i < VALUES; i++)
+			buffer[i] = Store.readLong(data, (long) i * width) & mask;
+		
+		return buffer;
+	}
+	
+	@Benchmark
+	public long[] bulkSet() {
+		array.set(0, buffer, 0, VALUES);
+		return array.data();
+	}
+	
+	@Benchmark
+	public long[] storeSet() {
+		final long[] data = array.data();
+		for (int i = 0; i < VALUES; i++) {
+			final long bit = (long) i * width;
+			Store.writeLong(data, bit, Store.readLong(data, bit) & ~mask | buffer[i] & mask);
+		}
+		
+		return data;
+	}
+}
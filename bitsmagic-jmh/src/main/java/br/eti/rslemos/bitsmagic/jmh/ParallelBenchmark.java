@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eti.rslemos.bitsmagic.Copy;
+import br.eti.rslemos.bitsmagic.Ones;
+import br.eti.rslemos.bitsmagic.Store;
+import br.eti.rslemos.bitsmagic.Xor;
+
+/**
+ * Scaling of the {@code parallel*} methods with the number of threads, over 
+ * a 128 MiB {@code long[]} bitmap.
+ * 
+ * <p>Each benchmark runs on a dedicated {@link ForkJoinPool} of 
+ * {@code threads} threads; {@code threads=0} runs the sequential method 
+ * instead, as a baseline. Regions are misaligned by 3 bits, so every piece 
+ * but the outermost ones goes through whole words.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ParallelBenchmark {
+	private static final long LENGTH = 1L << 30;
+	private static final long FROM = 3;
+	private static final long TO = LENGTH - 61;
+	
+	@Param({"0", "1", "2", "4", "8", "16", "32"})
+	public int threads;
+	
+	/**
+	 * Pieces handed to each task, in bits (default grain is 16 Mibit).
+	 */
+	@Param({"16777216"})
+	public long grain;
+	
+	private long[] source;
+	private long[] dest;
+	private ForkJoinPool pool;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		source = (long[]) Storage.LONG.randomBits(LENGTH, RegionBenchmark.SEED);
+		dest = new long[source.length];
+		pool = threads > 0 ? new ForkJoinPool(threads) : null;
+	}
+	
+	@TearDown(Level.Trial)
+	public void teardown() {
+		if (pool != null)
+			pool.shutdown();
+	}
+	
+	@Benchmark
+	public long ones() {
+		return pool != null ? Ones.parallelOnes(source, FROM, TO, pool, grain) : Ones.ones(source, FROM, TO);
+	}
+	
+	@Benchmark
+	public Object fill() {
+		if (pool != null)
+			Store.parallelFill(dest, FROM, TO, true, pool, grain);
+		else
+			Store.fill(dest, FROM, TO, true);
+		
+		return dest;
+	}
+	
+	@Benchmark
+	public Object copyFrom() {
+		if (pool != null)
+			Copy.parallelCopyFrom(source, FROM, dest, FROM + 5, TO - FROM - 5, pool, grain);
+		else
+			Copy.copyFrom(source, FROM, dest, FROM + 5, TO - FROM - 5);
+		
+		return dest;
+	}
+	
+	@Benchmark
+	public Object xorFrom() {
+		if (pool != null)
+			Xor.parallelXorFrom(source, FROM, dest, FROM + 5, TO - FROM - 5, pool, grain);
+		else
+			Xor.xorFrom(source, FROM, dest, FROM + 5, TO - FROM - 5);
+		
+		return dest;
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+/**
+ * Relative in-word alignment of source and destination, as seen by 
+ * {@link br.eti.rslemos.bitsmagic.Copy} and 
+ * {@link br.eti.rslemos.bitsmagic.Xor}.
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+public enum Path {
+	/**
+	 * Source and destination share the same in-word offset.
+	 */
+	PARALLEL(0, 0),
+	
+	/**
+	 * Destination in-word offset is higher than source's.
+	 */
+	HIGHER(0, 3),
+	
+	/**
+	 * Destination in-word offset is lower than source's.
+	 */
+	LOWER(3, 0);
+	
+	private final int srcShift;
+	private final int destShift;
+	
+	private Path(int srcShift, int destShift) {
+		this.srcShift = srcShift;
+		this.destShift = destShift;
+	}
+	
+	int srcPos(int pos) {
+		return pos + srcShift;
+	}
+	
+	int destPos(int pos) {
+		return pos + destShift;
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eti.rslemos.bitsmagic.Copy;
+import br.eti.rslemos.bitsmagic.Ones;
+import br.eti.rslemos.bitsmagic.Xor;
+
+/**
+ * Compares the Vector API kernels against the scalar word loops they 
+ * replace, over {@code long[]} regions of 4 KiB, 1 MiB and 256 MiB.
+ * 
+ * <p>Requires Java 21 or later: the kernels live in the multi-release layer 
+ * of bitsmagic, and are only selected when {@code jdk.incubator.vector} is 
+ * present. The {@code simd} parameter turns them off through the 
+ * {@code br.eti.rslemos.bitsmagic.simd} system property, which is read once 
+ * per JVM (JMH forks one per parameter combination).
+ * </p>
+ * <p>{@link Copy} takes no kernel of its own: its parallel path already 
+ * delegates to {@link System#arraycopy}. It is measured here as the 
+ * bandwidth reference.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx2g", "--add-modules=jdk.incubator.vector" })
+public class SimdBenchmark {
+	@Param({"true", "false"})
+	public boolean simd;
+	
+	/**
+	 * Region length, in bytes (4 KiB, 1 MiB, 256 MiB).
+	 */
+	@Param({"4096", "1048576", "268435456"})
+	public long bytes;
+	
+	private long[] src;
+	private long[] dest;
+	
+	@Setup
+	public void setup() {
+		// before any kernel gets to be selected
+		System.setProperty("br.eti.rslemos.bitsmagic.simd", String.valueOf(simd));
+		
+		src = (long[]) Storage.LONG.randomBits(bits(), RegionBenchmark.SEED);
+		dest = (long[]) Storage.LONG.randomBits(bits(), ~RegionBenchmark.SEED);
+	}
+	
+	private long bits() {
+		return bytes * Byte.SIZE;
+	}
+	
+	@Benchmark
+	public Object xorFrom() {
+		Xor.xorFrom(src, 0L, dest, 0L, bits());
+		return dest;
+	}
+	
+	@Benchmark
+	public Object copyFrom() {
+		Copy.copyFrom(src, 0L, dest, 0L, bits());
+		return dest;
+	}
+	
+	@Benchmark
+	public long ones() {
+		return Ones.ones(src, 0L, bits());
+	}
+}
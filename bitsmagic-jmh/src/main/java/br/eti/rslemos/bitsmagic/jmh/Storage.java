@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import java.util.Random;
+
+import br.eti.rslemos.bitsmagic.Copy;
+import br.eti.rslemos.bitsmagic.GrayCode;
+import br.eti.rslemos.bitsmagic.Ones;
+import br.eti.rslemos.bitsmagic.Shifter;
+import br.eti.rslemos.bitsmagic.Store;
+import br.eti.rslemos.bitsmagic.Xor;
+
+/**
+ * The five storage types supported by bitsmagic, so that a single benchmark 
+ * can be parameterized over all of them.
+ * 
+ * <p>Storages are handled as {@code Object} and cast back on every call. 
+ * Within a single fork only one constant is ever used, so the dispatch is 
+ * monomorphic and the cast is essentially free.
+ * </p>
+ */
+public enum Storage {
+	BYTE(Byte.SIZE) {
+		@Override Object allocate(int elements) { return new byte[elements]; }
+		@Override void randomize(Object data, Random random) { random.nextBytes((byte[]) data); }
+		@Override void fill(Object data, int from, int to, boolean v) { Store.fill((byte[]) data, from, to, v); }
+		@Override int readInt(Object data, int i) { return Store.readInt((byte[]) data, i); }
+		@Override long readLong(Object data, int i) { return Store.readLong((byte[]) data, i); }
+		@Override void writeLong(Object data, int i, long v) { Store.writeLong((byte[]) data, i, v); }
+		@Override void copyFrom(Object src, int srcPos, Object dest, int destPos, int length) { Copy.copyFrom((byte[]) src, srcPos, (byte[]) dest, destPos, length); }
+		@Override void copyToLongs(Object src, int srcPos, long[] dest, int destPos, int length) { Copy.copyFrom((byte[]) src, srcPos, dest, destPos, length); }
+		@Override void safeCopyFrom(Object src, int srcPos, Object dest, int destPos, int length) { Copy.safeCopyFrom((byte[]) src, srcPos, (byte[]) dest, destPos, length); }
+		@Override void xorFrom(Object src, int srcPos, Object dest, int destPos, int length) { Xor.xorFrom((byte[]) src, srcPos, (byte[]) dest, destPos, length); }
+		@Override void shr(Object data, int from, int to, int amount) { Shifter.shr((byte[]) data, from, to, amount); }
+		@Override void shl(Object data, int from, int to, int amount) { Shifter.shl((byte[]) data, from, to, amount); }
+		@Override void rotr(Object data, int from, int to, int amount) { Shifter.rotr((byte[]) data, from, to, amount); }
+		@Override int ones(Object data, int from, int to) { return Ones.ones((byte[]) data, from, to); }
+		@Override void toGray(Object data, int from, int to) { GrayCode.toGray((byte[]) data, from, to); }
+		@Override void fromGray(Object data, int from, int to) { GrayCode.fromGray((byte[]) data, from, to); }
+	},
+	
+	CHAR(Character.SIZE) {
+		@Override Object allocate(int elements) { return new char[elements]; }
+		@Override void randomize(Object data, Random random) { char[] d = (char[]) data; for (int i = 0; i < d.length; i++) d[i] = (char) random.nextInt(); }
+		@Override void fill(Object data, int from, int to, boolean v) { Store.fill((char[]) data, from, to, v); }
+		@Override int readInt(Object data, int i) { return Store.readInt((char[]) data, i); }
+		@Override long readLong(Object data, int i) { return Store.readLong((char[]) data, i); }
+		@Override void writeLong(Object data, int i, long v) { Store.writeLong((char[]) data, i, v); }
+		@Override void copyFrom(Object src, int srcPos, Object dest, int destPos, int length) { Copy.copyFrom((char[]) src, srcPos, (char[]) dest, destPos, length); }
+		@Override void copyToLongs(Object src, int srcPos, long[] dest, int destPos, int length) { Copy.copyFrom((char[]) src, srcPos, dest, destPos, length); }
+		@Override void safeCopyFrom(Object src, int srcPos, Object dest, int destPos, int length) { Copy.safeCopyFrom((char[]) src, srcPos, (char[]) dest, destPos, length); }
+		@Override void xorFrom(Object src, int srcPos, Object dest, int destPos, int length) { Xor.xorFrom((char[]) src, srcPos, (char[]) dest, destPos, length); }
+		@Override void shr(Object data, int from, int to, int amount) { Shifter.shr((char[]) data, from, to, amount); }
+		@Override void shl(Object data, int from, int to, int amount) { Shifter.shl((char[]) data, from, to, amount); }
+		@Override void rotr(Object data, int from, int to, int amount) { Shifter.rotr((char[]) data, from, to, amount); }
+		@Override int ones(Object data, int from, int to) { return Ones.ones((char[]) data, from, to); }
+		@Override void toGray(Object data, int from, int to) { GrayCode.toGray((char[]) data, from, to); }
+		@Override void fromGray(Object data, int from, int to) { GrayCode.fromGray((char[]) data, from, to); }
+	},
+	
+	SHORT(Short.SIZE) {
+		@Override Object allocate(int elements) { return new short[elements]; }
+		@Override void randomize(Object data, Random random) { short[] d = (short[]) data; for (int i = 0; i < d.length; i++) d[i] = (short) random.nextInt(); }
+		@Override void fill(Object data, int from, int to, boolean v) { Store.fill((short[]) data, from, to, v); }
+		@Override int readInt(Object data, int i) { return Store.readInt((short[]) data, i); }
+		@Override long readLong(Object data, int i) { return Store.readLong((short[]) data, i); }
+		@Override void writeLong(Object data, int i, long v) { Store.writeLong((short[]) data, i, v); }
+		@Override void copyFrom(Object src, int srcPos, Object dest, int destPos, int length) { Copy.copyFrom((short[]) src, srcPos, (short[]) dest, destPos, length); }
+		@Override void copyToLongs(Object src, int srcPos, long[] dest, int destPos, int length) { Copy.copyFrom((short[]) src, srcPos, dest, destPos, length); }
+		@Override void safeCopyFrom(Object src, int srcPos, Object dest, int destPos, int length) { Copy.safeCopyFrom((short[]) src, srcPos, (short[]) dest, destPos, length); }
+		@Override void xorFrom(Object src, int srcPos, Object dest, int destPos, int length) { Xor.xorFrom((short[]) src, srcPos, (short[]) dest, destPos, length); }
+		@Override void shr(Object data, int from, int to, int amount) { Shifter.shr((short[]) data, from, to, amount); }
+		@Override void shl(Object data, int from, int to, int amount) { Shifter.shl((short[]) data, from, to, amount); }
+		@Override void rotr(Object data, int from, int to, int amount) { Shifter.rotr((short[]) data, from, to, amount); }
+		@Override int ones(Object data, int from, int to) { return Ones.ones((short[]) data, from, to); }
+		@Override void toGray(Object data, int from, int to) { GrayCode.toGray((short[]) data, from, to); }
+		@Override void fromGray(Object data, int from, int to) { GrayCode.fromGray((short[]) data, from, to); }
+	},
+	
+	INT(Integer.SIZE) {
+		@Override Object allocate(int elements) { return new int[elements]; }
+		@Override void randomize(Object data, Random random) { int[] d = (int[]) data; for (int i = 0; i < d.length; i++) d[i] = random.nextInt(); }
+		@Override void fill(Object data, int from, int to, boolean v) { Store.fill((int[]) data, from, to, v); }
+		@Override int readInt(Object data, int i) { return Store.readInt((int[]) data, i); }
+		@Override long readLong(Object data, int i) { return Store.readLong((int[]) data, i); }
+		@Override void writeLong(Object data, int i, long v) { Store.writeLong((int[]) data, i, v); }
+		@Override void copyFrom(Object src, int srcPos, Object dest, int destPos, int length) { Copy.copyFrom((int[]) src, srcPos, (int[]) dest, destPos, length); }
+		@Override void copyToLongs(Object src, int srcPos, long[] dest, int destPos, int length) { Copy.copyFrom((int[]) src, srcPos, dest, destPos, length); }
+		@Override void safeCopyFrom(Object src, int srcPos, Object dest, int destPos, int length) { Copy.safeCopyFrom((int[]) src, srcPos, (int[]) dest, destPos, length); }
+		@Override void xorFrom(Object src, int srcPos, Object dest, int destPos, int length) { Xor.xorFrom((int[]) src, srcPos, (int[]) dest, destPos, length); }
+		@Override void shr(Object data, int from, int to, int amount) { Shifter.shr((int[]) data, from, to, amount); }
+		@Override void shl(Object data, int from, int to, int amount) { Shifter.shl((int[]) data, from, to, amount); }
+		@Override void rotr(Object data, int from, int to, int amount) { Shifter.rotr((int[]) data, from, to, amount); }
+		@Override int ones(Object data, int from, int to) { return Ones.ones((int[]) data, from, to); }
+		@Override void toGray(Object data, int from, int to) { GrayCode.toGray((int[]) data, from, to); }
+		@Override void fromGray(Object data, int from, int to) { GrayCode.fromGray((int[]) data, from, to); }
+	},
+	
+	LONG(Long.SIZE) {
+		@Override Object allocate(int elements) { return new long[elements]; }
+		@Override void randomize(Object data, Random random) { long[] d = (long[]) data; for (int i = 0; i < d.length; i++) d[i] = random.nextLong(); }
+		@Override void fill(Object data, int from, int to, boolean v) { Store.fill((long[]) data, from, to, v); }
+		@Override int readInt(Object data, int i) { return Store.readInt((long[]) data, i); }
+		@Override long readLong(Object data, int i) { return Store.readLong((long[]) data, i); }
+		@Override void writeLong(Object data, int i, long v) { Store.writeLong((long[]) data, i, v); }
+		@Override void copyFrom(Object src, int srcPos, Object dest, int destPos, int length) { Copy.copyFrom((long[]) src, srcPos, (long[]) dest, destPos, length); }
+		@Override void copyToLongs(Object src, int srcPos, long[] dest, int destPos, int length) { Copy.copyFrom((long[]) src, srcPos, dest, destPos, length); }
+		@Override void safeCopyFrom(Object src, int srcPos, Object dest, int destPos, int length) { Copy.safeCopyFrom((long[]) src, srcPos, (long[]) dest, destPos, length); }
+		@Override void xorFrom(Object src, int srcPos, Object dest, int destPos, int length) { Xor.xorFrom((long[]) src, srcPos, (long[]) dest, destPos, length); }
+		@Override void shr(Object data, int from, int to, int amount) { Shifter.shr((long[]) data, from, to, amount); }
+		@Override void shl(Object data, int from, int to, int amount) { Shifter.shl((long[]) data, from, to, amount); }
+		@Override void rotr(Object data, int from, int to, int amount) { Shifter.rotr((long[]) data, from, to, amount); }
+		@Override int ones(Object data, int from, int to) { return Ones.ones((long[]) data, from, to); }
+		@Override void toGray(Object data, int from, int to) { GrayCode.toGray((long[]) data, from, to); }
+		@Override void fromGray(Object data, int from, int to) { GrayCode.fromGray((long[]) data, from, to); }
+	};
+	
+	/**
+	 * Element width, in bits.
+	 */
+	final int width;
+	
+	private Storage(int width) { this.width = width; }
+
+	/**
+	 * Allocates a zeroed storage with room for at least {@code bits} bits, 
+	 * plus one spare element.
+	 */
+	Object allocateBits(long bits) {
+		long elements = (bits + width - 1) / width + 1;
+		if (elements > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Region too large for " + this + ": " + bits + " bits");
+		
+		return allocate((int) elements);
+	}
+	
+	/**
+	 * Allocates a storage with room for at least {@code bits} bits, plus one 
+	 * spare element, filled with pseudo random data.
+	 */
+	Object randomBits(long bits, long seed) {
+		Object data = allocateBits(bits);
+		randomize(data, new Random(seed));
+		return data;
+	}
+	
+	abstract Object allocate(int elements);
+	abstract void randomize(Object data, Random random);
+	
+	abstract void fill(Object data, int from, int to, boolean v);
+	abstract int readInt(Object data, int i);
+	abstract long readLong(Object data, int i);
+	abstract void writeLong(Object data, int i, long v);
+	abstract void copyFrom(Object src, int srcPos, Object dest, int destPos, int length);
+	abstract void copyToLongs(Object src, int srcPos, long[] dest, int destPos, int length);
+	abstract void safeCopyFrom(Object src, int srcPos, Object dest, int destPos, int length);
+	abstract void xorFrom(Object src, int srcPos, Object dest, int destPos, int length);
+	abstract void shr(Object data, int from, int to, int amount);
+	abstract void shl(Object data, int from, int to, int amount);
+	abstract void rotr(Object data, int from, int to, int amount);
+	abstract int ones(Object data, int from, int to);
+	abstract void toGray(Object data, int from, int to);
+	abstract void fromGray(Object data, int from, int to);
+}
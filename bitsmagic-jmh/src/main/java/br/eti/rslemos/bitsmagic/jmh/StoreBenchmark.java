@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import br.eti.rslemos.bitsmagic.Store;
+
+/**
+ * Benchmarks for {@link Store}.
+ * 
+ * <p>Sequentially reads (or writes) every 32-bit (64-bit) word of the region.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+public class StoreBenchmark extends RegionBenchmark {
+	private Object data;
+	
+	@Setup
+	public void setup() {
+		data = storage.randomBits(to(), SEED);
+	}
+	
+	@Benchmark
+	public int readInt() {
+		final Storage storage = this.storage;
+		final Object data = this.data;
+		final int to = to();
+		
+		int x = 0;
+		int i = from();
+		do {
+			x ^= storage.readInt(data, i);
+		} while ((i += Integer.SIZE) < to);
+		
+		return x;
+	}
+	
+	@Benchmark
+	public Object writeLong() {
+		final Storage storage = this.storage;
+		final Object data = this.data;
+		final int to = to();
+		
+		long v = SEED;
+		int i = from();
+		do {
+			storage.writeLong(data, i, v++);
+		} while ((i += Long.SIZE) < to);
+		
+		return data;
+	}
+	
+	@Benchmark
+	public Object fill() {
+		storage.fill(data, from(), to(), true);
+		return data;
+	}
+}
@@ -0,0 +1,1584 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static br.eti.rslemos.bitsmagic.Copy.checkSafeIndices;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.INT_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.INT_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.INT_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.INT_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_MASK;
+
+/**
+ * This class consists exclusively of static methods that and the complement 
+ * of bits over arrays of integral primitive type ({@code dest &= ~source}).
+ * 
+ * <p>For every method available in this class, the arguments that represent
+ * offsets should always be given in bits, and are 0-based. For more 
+ * information about bit mapping in arrays of integral primitive types see 
+ * {@link Store} class.
+ * </p>
+ * <p>The general syntax for methods in this class conforms to that of 
+ * {@link System#arraycopy}.
+ * </p>
+ * <p>Access to offlimits bits, either for reading or for writing, will throw 
+ * {@code ArrayIndexOutOfBoundsException}. In this case destination will be 
+ * left unchanged.
+ * </p>
+ * <p>In case of using the same underlying storage for both source and 
+ * destination, all methods of this class behave as if copying the bits first 
+ * to a temporary location, then and-not'ing them over the destination.
+ * </p>
+ * <p>{@code NullPointerException} is thrown if either given array is 
+ * {@code null}.
+ * </p>
+ * <p>All methods are inherently thread unsafe: in case of more than one thread 
+ * acting upon the same storage the results are undefined. Also neither they 
+ * acquire nor block on any monitor. Any necessary synchronization should be 
+ * done externally.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+public class AndNot {
+	private AndNot() { /* non-instantiable */ }
+
+	/********** byte[] **********/
+	
+	/**
+	 * Clears the specified bits of the destination storage wherever the 
+	 * specified bits of the source storage, beginning at the specified bit, 
+	 * are set. The number of bits considered is equal to the {@code length} 
+	 * argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented then 
+	 * and'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be and-not'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void andNotFrom(byte[] source, int srcPos, byte[] dest, int destPos, int length) {
+		andNotFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Clears the specified bits of the destination storage wherever the 
+	 * specified bits of the source storage, beginning at the specified bit, 
+	 * are set. The number of bits considered is equal to the {@code length} 
+	 * argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented then 
+	 * and'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be and-not'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void andNotFrom(byte[] source, long srcPos, byte[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << BYTE_ADDRESS_LINES, (long) dest.length << BYTE_ADDRESS_LINES))
+			return;
+		
+		int sIndex0 = (int) (srcPos >> BYTE_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> BYTE_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & BYTE_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & BYTE_ADDRESS_MASK;
+		
+		int dIndex0 = (int) (destPos >> BYTE_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> BYTE_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & BYTE_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & BYTE_ADDRESS_MASK;
+		
+		if (sOffset0 == dOffset0)
+			// FAST PATH: handle both ends specially, and-not middle unchanged
+			andNotParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			andNotHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			andNotLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotParallelFrom0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
+			// special case: subword and-not within word and neither offset is zero
+			
+			final int LOWEST_BITS_FROM = ~(BYTE_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = BYTE_DATA_MASK << dOffset1;
+
+			dest[dIndex0] &= ~(source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
+
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotParallelFromForwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset0;
+			
+			dest[dIndex0] &= ~(source[sIndex0] & HIGHEST_BITS);
+			
+			// first index already taken care of
+			sIndex0++;
+			dIndex0++;
+		}
+
+		// unfortunately no fast path available
+		// (though this is fast enough without masking and bit shifting)
+		for(int i = dIndex0, j = sIndex0; i < dIndex1; i++, j++)
+			dest[i] &= ~source[j];
+
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset1;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			dest[dIndex1] &= ~(source[sIndex1] & LOWEST_BITS);
+		}
+	}
+
+	private static void andNotParallelFromBackwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset1;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			dest[dIndex1] &= ~(source[sIndex1] & LOWEST_BITS);
+		}
+
+		if (dOffset0 != 0) {
+			// don't and-not the first index if partial
+			dIndex0++;
+			sIndex0++;
+		}
+		
+		// unfortunately no fast path available
+		// (though this is fast enough without masking and bit shifting)
+		for(int i = dIndex1 - 1, j = sIndex1 - 1; i >= dIndex0; i--, j--)
+			dest[i] &= ~source[j];
+
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			sIndex0--;
+			dIndex0--;
+			
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset0;
+			
+			dest[dIndex0] &= ~(source[sIndex0] & HIGHEST_BITS);
+		}
+	}
+
+	private static void andNotHigherFrom0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+					
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to and-not more than 1 chunk).
+			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
+			dest[d] &= ~((source[s] << dOffset0 - sOffset0) & ~(BYTE_DATA_MASK << dOffset1) & BYTE_DATA_MASK << dOffset0);
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotHigherFromForwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
+				
+		dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0);
+
+		while(++d < dIndex1) {
+			dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+
+			++s;
+
+			dest[d] &= ~(source[s] << dOffset0 - sOffset0);
+		}
+
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] &= ~((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+			} else /* dOffset1 > sOffset1 */ {
+				dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+				
+				if (sOffset1 > 0) {
+					s++;
+					
+					dest[d] &= ~((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				}
+			}
+		}
+	}
+
+	private static void andNotHigherFromBackwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
+				
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				dest[d] &= ~((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					dest[d] &= ~((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				}
+				
+				s--;
+				
+				dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+			}
+		}
+
+		while(--d > dIndex0) {
+			dest[d] &= ~(source[s] << dOffset0 - sOffset0);
+
+			--s;
+
+			dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+		}
+
+		dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0);
+	}
+
+	private static void andNotLowerFrom0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+			
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to and-not more than 1 chunk).
+			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
+			dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> (sOffset0 - dOffset0) & ~(BYTE_DATA_MASK << dOffset1) & BYTE_DATA_MASK << dOffset0);
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotLowerFromForwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
+		
+		dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0);
+
+		while(++s < sIndex1) {
+			dest[d] &= ~(source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0));
+
+			++d;
+
+			dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> sOffset0 - dOffset0);
+		}
+		
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+			} else /* dOffset1 < sOffset1 */ {
+				dest[d] &= ~(source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0));
+
+				if (dOffset1 > 0) {
+					d++;
+					
+					dest[d] &= ~((source[s] & ~(BYTE_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+				}
+			}
+		}
+	}
+
+	private static void andNotLowerFromBackwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
+		
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					dest[d] &= ~((source[s] & ~(BYTE_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+				}
+				
+				d--;
+				
+				dest[d] &= ~(source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0));
+			}
+		}
+
+		while(--s > sIndex0) {
+			dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> sOffset0 - dOffset0);
+
+			--d;
+
+			dest[d] &= ~(source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0));
+		}
+		
+		dest[d] &= ~((source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0);
+	}
+
+	/********** char[] **********/
+
+	/**
+	 * Clears the specified bits of the destination storage wherever the 
+	 * specified bits of the source storage, beginning at the specified bit, 
+	 * are set. The number of bits considered is equal to the {@code length} 
+	 * argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented then 
+	 * and'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be and-not'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void andNotFrom(char[] source, int srcPos, char[] dest, int destPos, int length) {
+		andNotFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Clears the specified bits of the destination storage wherever the 
+	 * specified bits of the source storage, beginning at the specified bit, 
+	 * are set. The number of bits considered is equal to the {@code length} 
+	 * argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented then 
+	 * and'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be and-not'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void andNotFrom(char[] source, long srcPos, char[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << CHAR_ADDRESS_LINES, (long) dest.length << CHAR_ADDRESS_LINES))
+			return;
+		
+		int sIndex0 = (int) (srcPos >> CHAR_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> CHAR_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & CHAR_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & CHAR_ADDRESS_MASK;
+		
+		int dIndex0 = (int) (destPos >> CHAR_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> CHAR_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & CHAR_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & CHAR_ADDRESS_MASK;
+		
+		if (sOffset0 == dOffset0)
+			// FAST PATH: handle both ends specially, and-not middle unchanged
+			andNotParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			andNotHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			andNotLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotParallelFrom0(char[] source, char[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
+			// special case: subword and-not within word and neither offset is zero
+			
+			final int LOWEST_BITS_FROM = ~(CHAR_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = CHAR_DATA_MASK << dOffset1;
+
+			dest[dIndex0] &= ~(source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
+
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotParallelFromForwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset0;
+			
+			dest[dIndex0] &= ~(source[sIndex0] & HIGHEST_BITS);
+			
+			// first index already taken care of
+			sIndex0++;
+			dIndex0++;
+		}
+
+		// unfortunately no fast path available
+		// (though this is fast enough without masking and bit shifting)
+		for(int i = dIndex0, j = sIndex0; i < dIndex1; i++, j++)
+			dest[i] &= ~source[j];
+
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset1;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			dest[dIndex1] &= ~(source[sIndex1] & LOWEST_BITS);
+		}
+	}
+
+	private static void andNotParallelFromBackwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset1;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			dest[dIndex1] &= ~(source[sIndex1] & LOWEST_BITS);
+		}
+
+		if (dOffset0 != 0) {
+			// don't and-not the first index if partial
+			dIndex0++;
+			sIndex0++;
+		}
+		
+		// unfortunately no fast path available
+		// (though this is fast enough without masking and bit shifting)
+		for(int i = dIndex1 - 1, j = sIndex1 - 1; i >= dIndex0; i--, j--)
+			dest[i] &= ~source[j];
+
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			sIndex0--;
+			dIndex0--;
+			
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset0;
+			
+			dest[dIndex0] &= ~(source[sIndex0] & HIGHEST_BITS);
+		}
+	}
+
+	private static void andNotHigherFrom0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+					
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to and-not more than 1 chunk).
+			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
+			dest[d] &= ~((source[s] << dOffset0 - sOffset0) & ~(CHAR_DATA_MASK << dOffset1) & CHAR_DATA_MASK << dOffset0);
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotHigherFromForwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
+				
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+
+		while(++d < dIndex1) {
+			dest[d] &= ~(source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+
+			++s;
+
+			dest[d] &= ~(source[s] << dOffset0 - sOffset0);
+		}
+
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+			} else /* dOffset1 > sOffset1 */ {
+				dest[d] &= ~(source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+				
+				if (sOffset1 > 0) {
+					s++;
+					
+					dest[d] &= ~((source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				}
+			}
+		}
+	}
+
+	private static void andNotHigherFromBackwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
+				
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					dest[d] &= ~((source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				}
+				
+				s--;
+				
+				dest[d] &= ~(source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+			}
+		}
+
+		while(--d > dIndex0) {
+			dest[d] &= ~(source[s] << dOffset0 - sOffset0);
+
+			--s;
+
+			dest[d] &= ~(source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+		}
+
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+	}
+
+	private static void andNotLowerFrom0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+			
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to and-not more than 1 chunk).
+			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
+			dest[d] &= ~(source[s] >>> (sOffset0 - dOffset0) & ~(CHAR_DATA_MASK << dOffset1) & CHAR_DATA_MASK << dOffset0);
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotLowerFromForwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
+		
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+
+		while(++s < sIndex1) {
+			dest[d] &= ~(source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0));
+
+			++d;
+
+			dest[d] &= ~(source[s] >>> sOffset0 - dOffset0);
+		}
+		
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+			} else /* dOffset1 < sOffset1 */ {
+				dest[d] &= ~(source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0));
+				
+				if (dOffset1 > 0) {
+					d++;
+					
+					dest[d] &= ~((source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+				}
+			}
+		}
+	}
+
+	private static void andNotLowerFromBackwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
+		
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					dest[d] &= ~((source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+				}
+				
+				d--;
+				
+				dest[d] &= ~(source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0));
+			}
+		}
+
+		while(--s > sIndex0) {
+			dest[d] &= ~(source[s] >>> sOffset0 - dOffset0);
+
+			--d;
+
+			dest[d] &= ~(source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0));
+		}
+		
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+	}
+
+	/********** short[] **********/
+	
+	/**
+	 * Clears the specified bits of the destination storage wherever the 
+	 * specified bits of the source storage, beginning at the specified bit, 
+	 * are set. The number of bits considered is equal to the {@code length} 
+	 * argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented then 
+	 * and'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be and-not'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void andNotFrom(short[] source, int srcPos, short[] dest, int destPos, int length) {
+		andNotFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Clears the specified bits of the destination storage wherever the 
+	 * specified bits of the source storage, beginning at the specified bit, 
+	 * are set. The number of bits considered is equal to the {@code length} 
+	 * argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented then 
+	 * and'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be and-not'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void andNotFrom(short[] source, long srcPos, short[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << SHORT_ADDRESS_LINES, (long) dest.length << SHORT_ADDRESS_LINES))
+			return;
+		
+		int sIndex0 = (int) (srcPos >> SHORT_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> SHORT_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & SHORT_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & SHORT_ADDRESS_MASK;
+		
+		int dIndex0 = (int) (destPos >> SHORT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> SHORT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & SHORT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & SHORT_ADDRESS_MASK;
+		
+		if (sOffset0 == dOffset0)
+			// FAST PATH: handle both ends specially, and-not middle unchanged
+			andNotParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			andNotHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			andNotLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotParallelFrom0(short[] source, short[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
+			// special case: subword and-not within word and neither offset is zero
+			
+			final int LOWEST_BITS_FROM = ~(SHORT_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = SHORT_DATA_MASK << dOffset1;
+
+			dest[dIndex0] &= ~(source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
+
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotParallelFromForwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset0;
+			
+			dest[dIndex0] &= ~(source[sIndex0] & HIGHEST_BITS);
+			
+			// first index already taken care of
+			sIndex0++;
+			dIndex0++;
+		}
+
+		// unfortunately no fast path available
+		// (though this is fast enough without masking and bit shifting)
+		for(int i = dIndex0, j = sIndex0; i < dIndex1; i++, j++)
+			dest[i] &= ~source[j];
+
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset1;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			dest[dIndex1] &= ~(source[sIndex1] & LOWEST_BITS);
+		}
+	}
+
+	private static void andNotParallelFromBackwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset1;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			dest[dIndex1] &= ~(source[sIndex1] & LOWEST_BITS);
+		}
+
+		if (dOffset0 != 0) {
+			// don't and-not the first index if partial
+			dIndex0++;
+			sIndex0++;
+		}
+		
+		// unfortunately no fast path available
+		// (though this is fast enough without masking and bit shifting)
+		for(int i = dIndex1 - 1, j = sIndex1 - 1; i >= dIndex0; i--, j--)
+			dest[i] &= ~source[j];
+
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			sIndex0--;
+			dIndex0--;
+			
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset0;
+			
+			dest[dIndex0] &= ~(source[sIndex0] & HIGHEST_BITS);
+		}
+	}
+
+	private static void andNotHigherFrom0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+					
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to and-not more than 1 chunk).
+			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
+			dest[d] &= ~((source[s] << dOffset0 - sOffset0) & ~(SHORT_DATA_MASK << dOffset1) & SHORT_DATA_MASK << dOffset0);
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotHigherFromForwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
+				
+		dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0);
+
+		while(++d < dIndex1) {
+			dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+
+			++s;
+
+			dest[d] &= ~(source[s] << dOffset0 - sOffset0);
+		}
+
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] &= ~((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+			} else /* dOffset1 > sOffset1 */ {
+				dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+				
+				if (sOffset1 > 0) {
+					s++;
+					
+					dest[d] &= ~((source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				}
+			}
+		}
+	}
+
+	private static void andNotHigherFromBackwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
+				
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				dest[d] &= ~((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					dest[d] &= ~((source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				}
+				
+				s--;
+				
+				dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+			}
+		}
+
+		while(--d > dIndex0) {
+			dest[d] &= ~(source[s] << dOffset0 - sOffset0);
+
+			--s;
+
+			dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+		}
+
+		dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0);
+	}
+
+	private static void andNotLowerFrom0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+			
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to and-not more than 1 chunk).
+			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
+			dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> (sOffset0 - dOffset0) & ~(SHORT_DATA_MASK << dOffset1) & SHORT_DATA_MASK << dOffset0);
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotLowerFromForwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
+		
+		dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0);
+
+		while(++s < sIndex1) {
+			dest[d] &= ~(source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0));
+
+			++d;
+
+			dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> sOffset0 - dOffset0);
+		}
+		
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+			} else /* dOffset1 < sOffset1 */ {
+				dest[d] &= ~(source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0));
+				
+				if (dOffset1 > 0) {
+					d++;
+					
+					dest[d] &= ~((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+				}
+			}
+		}
+	}
+
+	private static void andNotLowerFromBackwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
+		
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				dest[d] &= ~((source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					dest[d] &= ~((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+				}
+				
+				d--;
+				
+				dest[d] &= ~(source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0));
+			}
+		}
+
+		while(--s > sIndex0) {
+			dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> sOffset0 - dOffset0);
+
+			--d;
+
+			dest[d] &= ~(source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0));
+		}
+		
+		dest[d] &= ~((source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0);
+	}
+
+	/********** int[] **********/
+
+	/**
+	 * Clears the specified bits of the destination storage wherever the 
+	 * specified bits of the source storage, beginning at the specified bit, 
+	 * are set. The number of bits considered is equal to the {@code length} 
+	 * argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented then 
+	 * and'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be and-not'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void andNotFrom(int[] source, int srcPos, int[] dest, int destPos, int length) {
+		andNotFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Clears the specified bits of the destination storage wherever the 
+	 * specified bits of the source storage, beginning at the specified bit, 
+	 * are set. The number of bits considered is equal to the {@code length} 
+	 * argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented then 
+	 * and'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be and-not'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void andNotFrom(int[] source, long srcPos, int[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << INT_ADDRESS_LINES, (long) dest.length << INT_ADDRESS_LINES))
+			return;
+		
+		int sIndex0 = (int) (srcPos >> INT_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> INT_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & INT_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & INT_ADDRESS_MASK;
+		
+		int dIndex0 = (int) (destPos >> INT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> INT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & INT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & INT_ADDRESS_MASK;
+		
+		if (sOffset0 == dOffset0)
+			// FAST PATH: handle both ends specially, and-not middle unchanged
+			andNotParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			andNotHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			andNotLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotParallelFrom0(int[] source, int[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
+			// special case: subword and-not within word and neither offset is zero
+			
+			final int LOWEST_BITS_FROM = ~(INT_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = INT_DATA_MASK << dOffset1;
+
+			dest[dIndex0] &= ~(source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
+
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotParallelFromForwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset0;
+			
+			dest[dIndex0] &= ~(source[sIndex0] & HIGHEST_BITS);
+			
+			// first index already taken care of
+			sIndex0++;
+			dIndex0++;
+		}
+
+		// unfortunately no fast path available
+		// (though this is fast enough without masking and bit shifting)
+		for(int i = dIndex0, j = sIndex0; i < dIndex1; i++, j++)
+			dest[i] &= ~source[j];
+
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset1;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			dest[dIndex1] &= ~(source[sIndex1] & LOWEST_BITS);
+		}
+	}
+
+	private static void andNotParallelFromBackwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset1;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			dest[dIndex1] &= ~(source[sIndex1] & LOWEST_BITS);
+		}
+
+		if (dOffset0 != 0) {
+			// don't and-not the first index if partial
+			dIndex0++;
+			sIndex0++;
+		}
+		
+		// unfortunately no fast path available
+		// (though this is fast enough without masking and bit shifting)
+		for(int i = dIndex1 - 1, j = sIndex1 - 1; i >= dIndex0; i--, j--)
+			dest[i] &= ~source[j];
+
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			sIndex0--;
+			dIndex0--;
+			
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset0;
+			
+			dest[dIndex0] &= ~(source[sIndex0] & HIGHEST_BITS);
+		}
+	}
+
+	private static void andNotHigherFrom0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+					
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to and-not more than 1 chunk).
+			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
+			dest[d] &= ~((source[s] << dOffset0 - sOffset0) & ~(INT_DATA_MASK << dOffset1) & INT_DATA_MASK << dOffset0);
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotHigherFromForwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
+				
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+
+		while(++d < dIndex1) {
+			dest[d] &= ~(source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0));
+
+			++s;
+
+			dest[d] &= ~(source[s] << dOffset0 - sOffset0);
+		}
+
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(INT_DATA_MASK << sOffset1)) >>> INT_DATA_LINES - (dOffset0 - sOffset0));
+			} else /* dOffset1 > sOffset1 */ {
+				dest[d] &= ~(source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0));
+				
+				if (sOffset1 > 0) {
+					s++;
+					
+					dest[d] &= ~((source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				}
+			}
+		}
+	}
+
+	private static void andNotHigherFromBackwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
+				
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				dest[d] &= ~((source[s] & ~(INT_DATA_MASK << sOffset1)) >>> INT_DATA_LINES - (dOffset0 - sOffset0));
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					dest[d] &= ~((source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				}
+				
+				s--;
+				
+				dest[d] &= ~(source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0));
+			}
+		}
+
+		while(--d > dIndex0) {
+			dest[d] &= ~(source[s] << dOffset0 - sOffset0);
+
+			--s;
+
+			dest[d] &= ~(source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0));
+		}
+
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+	}
+
+	private static void andNotLowerFrom0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+			
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to and-not more than 1 chunk).
+			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
+			dest[d] &= ~(source[s] >>> (sOffset0 - dOffset0) & ~(INT_DATA_MASK << dOffset1) & INT_DATA_MASK << dOffset0);
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotLowerFromForwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
+		
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+
+		while(++s < sIndex1) {
+			dest[d] &= ~(source[s] << INT_DATA_LINES - (sOffset0 - dOffset0));
+
+			++d;
+
+			dest[d] &= ~(source[s] >>> sOffset0 - dOffset0);
+		}
+		
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+			} else /* dOffset1 < sOffset1 */ {
+				dest[d] &= ~(source[s] << INT_DATA_LINES - (sOffset0 - dOffset0));
+				
+				if (dOffset1 > 0) {
+					d++;
+					
+					dest[d] &= ~((source[s] & ~(INT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+				}
+			}
+		}
+	}
+
+	private static void andNotLowerFromBackwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
+		
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				dest[d] &= ~((source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					dest[d] &= ~((source[s] & ~(INT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+				}
+				
+				d--;
+				
+				dest[d] &= ~(source[s] << INT_DATA_LINES - (sOffset0 - dOffset0));
+			}
+		}
+
+		while(--s > sIndex0) {
+			dest[d] &= ~(source[s] >>> sOffset0 - dOffset0);
+
+			--d;
+
+			dest[d] &= ~(source[s] << INT_DATA_LINES - (sOffset0 - dOffset0));
+		}
+		
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+	}
+
+	/********** long[] **********/
+
+	/**
+	 * Clears the specified bits of the destination storage wherever the 
+	 * specified bits of the source storage, beginning at the specified bit, 
+	 * are set. The number of bits considered is equal to the {@code length} 
+	 * argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented then 
+	 * and'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be and-not'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void andNotFrom(long[] source, int srcPos, long[] dest, int destPos, int length) {
+		andNotFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Clears the specified bits of the destination storage wherever the 
+	 * specified bits of the source storage, beginning at the specified bit, 
+	 * are set. The number of bits considered is equal to the {@code length} 
+	 * argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented then 
+	 * and'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be and-not'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void andNotFrom(long[] source, long srcPos, long[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << LONG_ADDRESS_LINES, (long) dest.length << LONG_ADDRESS_LINES))
+			return;
+		
+		int sIndex0 = (int) (srcPos >> LONG_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> LONG_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & LONG_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & LONG_ADDRESS_MASK;
+		
+		int dIndex0 = (int) (destPos >> LONG_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> LONG_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & LONG_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & LONG_ADDRESS_MASK;
+		
+		if (sOffset0 == dOffset0)
+			// FAST PATH: handle both ends specially, and-not middle unchanged
+			andNotParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			andNotHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			andNotLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotParallelFrom0(long[] source, long[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
+			// special case: subword and-not within word and neither offset is zero
+			
+			final long LOWEST_BITS_FROM = ~(LONG_DATA_MASK << dOffset0);
+			final long HIGHEST_BITS_TO = LONG_DATA_MASK << dOffset1;
+
+			dest[dIndex0] &= ~(source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
+
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotParallelFromForwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset0;
+			
+			dest[dIndex0] &= ~(source[sIndex0] & HIGHEST_BITS);
+			
+			// first index already taken care of
+			sIndex0++;
+			dIndex0++;
+		}
+
+		// unfortunately no fast path available
+		// (though this is fast enough without masking and bit shifting)
+		for(int i = dIndex0, j = sIndex0; i < dIndex1; i++, j++)
+			dest[i] &= ~source[j];
+
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset1;
+			final long LOWEST_BITS = ~HIGHEST_BITS;
+			
+			dest[dIndex1] &= ~(source[sIndex1] & LOWEST_BITS);
+		}
+	}
+
+	private static void andNotParallelFromBackwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset1;
+			final long LOWEST_BITS = ~HIGHEST_BITS;
+			
+			dest[dIndex1] &= ~(source[sIndex1] & LOWEST_BITS);
+		}
+
+		if (dOffset0 != 0) {
+			// don't and-not the first index if partial
+			dIndex0++;
+			sIndex0++;
+		}
+		
+		// unfortunately no fast path available
+		// (though this is fast enough without masking and bit shifting)
+		for(int i = dIndex1 - 1, j = sIndex1 - 1; i >= dIndex0; i--, j--)
+			dest[i] &= ~source[j];
+
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			sIndex0--;
+			dIndex0--;
+			
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset0;
+			
+			dest[dIndex0] &= ~(source[sIndex0] & HIGHEST_BITS);
+		}
+	}
+
+	private static void andNotHigherFrom0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+					
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to and-not more than 1 chunk).
+			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
+			dest[d] &= ~((source[s] << dOffset0 - sOffset0) & ~(LONG_DATA_MASK << dOffset1) & LONG_DATA_MASK << dOffset0);
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotHigherFromForwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
+				
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+
+		while(++d < dIndex1) {
+			dest[d] &= ~(source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0));
+
+			++s;
+
+			dest[d] &= ~(source[s] << dOffset0 - sOffset0);
+		}
+
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> LONG_DATA_LINES - (dOffset0 - sOffset0));
+			} else /* dOffset1 > sOffset1 */ {
+				dest[d] &= ~(source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0));
+				
+				if (sOffset1 > 0) {
+					s++;
+					
+					dest[d] &= ~((source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				}
+			}
+		}
+	}
+
+	private static void andNotHigherFromBackwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
+				
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				dest[d] &= ~((source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> LONG_DATA_LINES - (dOffset0 - sOffset0));
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					dest[d] &= ~((source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				}
+				
+				s--;
+				
+				dest[d] &= ~(source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0));
+			}
+		}
+
+		while(--d > dIndex0) {
+			dest[d] &= ~(source[s] << dOffset0 - sOffset0);
+
+			--s;
+
+			dest[d] &= ~(source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0));
+		}
+
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+	}
+
+	private static void andNotLowerFrom0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+			
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to and-not more than 1 chunk).
+			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
+			dest[d] &= ~(source[s] >>> (sOffset0 - dOffset0) & ~(LONG_DATA_MASK << dOffset1) & LONG_DATA_MASK << dOffset0);
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			andNotLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			andNotLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			andNotLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void andNotLowerFromForwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
+		
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+
+		while(++s < sIndex1) {
+			dest[d] &= ~(source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0));
+
+			++d;
+
+			dest[d] &= ~(source[s] >>> sOffset0 - dOffset0);
+		}
+		
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] &= ~((source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+			} else /* dOffset1 < sOffset1 */ {
+				dest[d] &= ~(source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0));
+				
+				if (dOffset1 > 0) {
+					d++;
+					
+					dest[d] &= ~((source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+				}
+			}
+		}
+	}
+
+	private static void andNotLowerFromBackwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
+		
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				dest[d] &= ~((source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					dest[d] &= ~((source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+				}
+				
+				d--;
+				
+				dest[d] &= ~(source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0));
+			}
+		}
+
+		while(--s > sIndex0) {
+			dest[d] &= ~(source[s] >>> sOffset0 - dOffset0);
+
+			--d;
+
+			dest[d] &= ~(source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0));
+		}
+		
+		dest[d] &= ~(source[s] >>> sOffset0 << dOffset0);
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+/**
+ * Atomic primitives over single elements of {@code int[]} and {@code long[]} 
+ * arrays, upon which {@link AtomicStore} is built.
+ * 
+ * <p>This is the portable version: Java 8 and earlier have no public means 
+ * to atomically update an element of a plain array, so every operation is 
+ * done while holding the monitor of the array. It is thus only atomic with 
+ * respect to other operations of this class. On Java 9 or later it is 
+ * superseded by the multi-release version (under 
+ * {@code META-INF/versions/9}), which is lock-free.
+ * </p>
+ * <p>Indices are not checked beyond what array access itself does.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+final class AtomicArrays {
+	private AtomicArrays() { /* non-instantiable */ }
+	
+	/********** int[] **********/
+	
+	static int getVolatile(int[] data, int index) {
+		synchronized (data) {
+			return data[index];
+		}
+	}
+	
+	static boolean compareAndSet(int[] data, int index, int expected, int v) {
+		synchronized (data) {
+			if (data[index] != expected)
+				return false;
+			
+			data[index] = v;
+			return true;
+		}
+	}
+	
+	static int getAndBitwiseOr(int[] data, int index, int v) {
+		synchronized (data) {
+			final int w = data[index];
+			data[index] = w | v;
+			return w;
+		}
+	}
+	
+	static int getAndBitwiseAnd(int[] data, int index, int v) {
+		synchronized (data) {
+			final int w = data[index];
+			data[index] = w & v;
+			return w;
+		}
+	}
+	
+	static int getAndBitwiseXor(int[] data, int index, int v) {
+		synchronized (data) {
+			final int w = data[index];
+			data[index] = w ^ v;
+			return w;
+		}
+	}
+	
+	/********** long[] **********/
+	
+	static long getVolatile(long[] data, int index) {
+		synchronized (data) {
+			return data[index];
+		}
+	}
+	
+	static boolean compareAndSet(long[] data, int index, long expected, long v) {
+		synchronized (data) {
+			if (data[index] != expected)
+				return false;
+			
+			data[index] = v;
+			return true;
+		}
+	}
+	
+	static long getAndBitwiseOr(long[] data, int index, long v) {
+		synchronized (data) {
+			final long w = data[index];
+			data[index] = w | v;
+			return w;
+		}
+	}
+	
+	static long getAndBitwiseAnd(long[] data, int index, long v) {
+		synchronized (data) {
+			final long w = data[index];
+			data[index] = w & v;
+			return w;
+		}
+	}
+	
+	static long getAndBitwiseXor(long[] data, int index, long v) {
+		synchronized (data) {
+			final long w = data[index];
+			data[index] = w ^ v;
+			return w;
+		}
+	}
+}
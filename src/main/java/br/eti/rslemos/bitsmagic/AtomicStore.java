@@ -0,0 +1,690 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static br.eti.rslemos.bitsmagic.Store.INT_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.INT_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.saturate;
+
+/**
+ * This class consists exclusively of static methods that atomically read or 
+ * write bits over arrays of {@code int} or {@code long}.
+ * 
+ * <p>Bit mapping and offlimits bits follow {@link Store} (offlimits bits 
+ * always read as 0, and any value written to them is discarded), so both 
+ * classes may operate upon the same storage: for instance, set bits here from 
+ * several threads, then scan them with {@link Store} or {@link Ones} once 
+ * those threads are done.
+ * </p>
+ * <p>Every method takes effect as a single atomic update of one array 
+ * element, with volatile memory semantics. Methods that update fields (as 
+ * opposed to single bits) require them to lie within one array element.
+ * </p>
+ * <p>On Java 9 or later all methods are lock-free (they go through 
+ * {@link java.lang.invoke.VarHandle}s, from {@code META-INF/versions/9}). 
+ * Java 6 to 8 have no public means to atomically update an element of a 
+ * plain array, so there they fall back to synchronizing on the given array 
+ * instead: they are then only atomic with respect to each other, and may 
+ * block while another thread holds the monitor of the array.
+ * </p>
+ * <p>{@code NullPointerException} is thrown if the given array is {@code null}.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ * @see Store
+ */
+public class AtomicStore {
+	private AtomicStore() { /* non-instantiable */ }
+
+	// bits of the field [from, to) within its element (of 2^addressLines bits)
+	private static long fieldMask(long from, long to, int addressLines) {
+		if (!(to > from) || from >> addressLines != (to - 1) >> addressLines)
+			throw new IllegalArgumentException("Field must lie within a single element: [" + from + ", " + to + ")");
+		
+		return LONG_DATA_MASK >>> LONG_DATA_LINES - (int) (to - from) << ((int) from & ~(-1 << addressLines));
+	}
+
+	/********** int[] **********/
+
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage, with volatile 
+	 * memory semantics.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean getBit(int[] data, int i) {
+		return getBit(data, (long) i);
+	}
+
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage, with volatile 
+	 * memory semantics.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean getBit(int[] data, long i) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
+		
+		if (index >= data.length || index < 0)
+			return false;
+		
+		int offset = (int) i & INT_ADDRESS_MASK;
+		return (AtomicArrays.getVolatile(data, index) >>> offset & 1) != 0;
+	}
+
+	/**
+	 * Sets (to 1) the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean setBit(int[] data, int i) {
+		return setBit(data, (long) i);
+	}
+
+	/**
+	 * Sets (to 1) the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean setBit(int[] data, long i) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
+		
+		if (index >= data.length || index < 0)
+			return false;
+		
+		int offset = (int) i & INT_ADDRESS_MASK;
+		return (AtomicArrays.getAndBitwiseOr(data, index, 1 << offset) >>> offset & 1) != 0;
+	}
+
+	/**
+	 * Clears (to 0) the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean clearBit(int[] data, int i) {
+		return clearBit(data, (long) i);
+	}
+
+	/**
+	 * Clears (to 0) the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean clearBit(int[] data, long i) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
+		
+		if (index >= data.length || index < 0)
+			return false;
+		
+		int offset = (int) i & INT_ADDRESS_MASK;
+		return (AtomicArrays.getAndBitwiseAnd(data, index, ~(1 << offset)) >>> offset & 1) != 0;
+	}
+
+	/**
+	 * Flips the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean flipBit(int[] data, int i) {
+		return flipBit(data, (long) i);
+	}
+
+	/**
+	 * Flips the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean flipBit(int[] data, long i) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
+		
+		if (index >= data.length || index < 0)
+			return false;
+		
+		int offset = (int) i & INT_ADDRESS_MASK;
+		return (AtomicArrays.getAndBitwiseXor(data, index, 1 << offset) >>> offset & 1) != 0;
+	}
+
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean getAndSetBit(int[] data, int i, boolean v) {
+		return getAndSetBit(data, (long) i, v);
+	}
+
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean getAndSetBit(int[] data, long i, boolean v) {
+		return v ? setBit(data, i) : clearBit(data, i);
+	}
+
+	/**
+	 * Atomically writes a field of the given storage, provided it currently 
+	 * holds the expected value. The field extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive, and must lie within a single 
+	 * array element. Only the {@code to - from} least significant bits of 
+	 * {@code expected} and {@code v} are taken into account; the other bits of 
+	 * the element are left unchanged (even if concurrently modified).
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) of 
+	 *        the field.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) of the 
+	 *        field.
+	 * @param expected expected value of the field.
+	 * @param v value whose contents will be written to the field.
+	 * 
+	 * @return {@code true} if the field held the expected value (and then was 
+	 *         written), {@code false} otherwise.
+	 * @throws IllegalArgumentException if {@code to <= from}, or if the field 
+	 *         spans more than one array element.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean compareAndSetRange(int[] data, int from, int to, int expected, int v) {
+		return compareAndSetRange(data, (long) from, (long) to, expected, v);
+	}
+
+	/**
+	 * Atomically writes a field of the given storage, provided it currently 
+	 * holds the expected value. The field extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive, and must lie within a single 
+	 * array element. Only the {@code to - from} least significant bits of 
+	 * {@code expected} and {@code v} are taken into account; the other bits of 
+	 * the element are left unchanged (even if concurrently modified).
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) of 
+	 *        the field.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) of the 
+	 *        field.
+	 * @param expected expected value of the field.
+	 * @param v value whose contents will be written to the field.
+	 * 
+	 * @return {@code true} if the field held the expected value (and then was 
+	 *         written), {@code false} otherwise.
+	 * @throws IllegalArgumentException if {@code to <= from}, or if the field 
+	 *         spans more than one array element.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean compareAndSetRange(int[] data, long from, long to, int expected, int v) {
+		final int MASK = (int) fieldMask(from, to, INT_ADDRESS_LINES);
+		final int offset = (int) from & INT_ADDRESS_MASK;
+		int index = saturate(from >> INT_ADDRESS_LINES);
+		
+		expected = expected << offset & MASK;
+		v = v << offset & MASK;
+		
+		if (index >= data.length || index < 0)
+			// offlimits bits are hardwired to 0
+			return expected == 0;
+		
+		int w;
+		do {
+			w = AtomicArrays.getVolatile(data, index);
+			
+			if ((w & MASK) != expected)
+				return false;
+		} while (!AtomicArrays.compareAndSet(data, index, w, w & ~MASK | v));
+		
+		return true;
+	}
+
+	/**
+	 * Atomically ors the given value into a field of the given storage. The 
+	 * field extends from offset {@code from}, inclusive, to offset {@code to}, 
+	 * exclusive, and must lie within a single array element. Only the 
+	 * {@code to - from} least significant bits of {@code v} are taken into 
+	 * account; the other bits of the element are left unchanged.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) of 
+	 *        the field.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) of the 
+	 *        field.
+	 * @param v value to be or'ed into the field.
+	 * 
+	 * @return the previous value of the field.
+	 * @throws IllegalArgumentException if {@code to <= from}, or if the field 
+	 *         spans more than one array element.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int fetchOr(int[] data, int from, int to, int v) {
+		return fetchOr(data, (long) from, (long) to, v);
+	}
+
+	/**
+	 * Atomically ors the given value into a field of the given storage. The 
+	 * field extends from offset {@code from}, inclusive, to offset {@code to}, 
+	 * exclusive, and must lie within a single array element. Only the 
+	 * {@code to - from} least significant bits of {@code v} are taken into 
+	 * account; the other bits of the element are left unchanged.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) of 
+	 *        the field.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) of the 
+	 *        field.
+	 * @param v value to be or'ed into the field.
+	 * 
+	 * @return the previous value of the field.
+	 * @throws IllegalArgumentException if {@code to <= from}, or if the field 
+	 *         spans more than one array element.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int fetchOr(int[] data, long from, long to, int v) {
+		final int MASK = (int) fieldMask(from, to, INT_ADDRESS_LINES);
+		final int offset = (int) from & INT_ADDRESS_MASK;
+		int index = saturate(from >> INT_ADDRESS_LINES);
+		
+		if (index >= data.length || index < 0)
+			// offlimits bits are hardwired to 0
+			return 0;
+		
+		return (AtomicArrays.getAndBitwiseOr(data, index, v << offset & MASK) & MASK) >>> offset;
+	}
+
+	/********** long[] **********/
+
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage, with volatile 
+	 * memory semantics.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean getBit(long[] data, int i) {
+		return getBit(data, (long) i);
+	}
+
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage, with volatile 
+	 * memory semantics.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean getBit(long[] data, long i) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
+		
+		if (index >= data.length || index < 0)
+			return false;
+		
+		int offset = (int) i & LONG_ADDRESS_MASK;
+		return (AtomicArrays.getVolatile(data, index) >>> offset & 1) != 0;
+	}
+
+	/**
+	 * Sets (to 1) the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean setBit(long[] data, int i) {
+		return setBit(data, (long) i);
+	}
+
+	/**
+	 * Sets (to 1) the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean setBit(long[] data, long i) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
+		
+		if (index >= data.length || index < 0)
+			return false;
+		
+		int offset = (int) i & LONG_ADDRESS_MASK;
+		return (AtomicArrays.getAndBitwiseOr(data, index, 1L << offset) >>> offset & 1) != 0;
+	}
+
+	/**
+	 * Clears (to 0) the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean clearBit(long[] data, int i) {
+		return clearBit(data, (long) i);
+	}
+
+	/**
+	 * Clears (to 0) the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean clearBit(long[] data, long i) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
+		
+		if (index >= data.length || index < 0)
+			return false;
+		
+		int offset = (int) i & LONG_ADDRESS_MASK;
+		return (AtomicArrays.getAndBitwiseAnd(data, index, ~(1L << offset)) >>> offset & 1) != 0;
+	}
+
+	/**
+	 * Flips the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean flipBit(long[] data, int i) {
+		return flipBit(data, (long) i);
+	}
+
+	/**
+	 * Flips the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean flipBit(long[] data, long i) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
+		
+		if (index >= data.length || index < 0)
+			return false;
+		
+		int offset = (int) i & LONG_ADDRESS_MASK;
+		return (AtomicArrays.getAndBitwiseXor(data, index, 1L << offset) >>> offset & 1) != 0;
+	}
+
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean getAndSetBit(long[] data, int i, boolean v) {
+		return getAndSetBit(data, (long) i, v);
+	}
+
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage, 
+	 * atomically.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @return the previous value of the bit.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean getAndSetBit(long[] data, long i, boolean v) {
+		return v ? setBit(data, i) : clearBit(data, i);
+	}
+
+	/**
+	 * Atomically writes a field of the given storage, provided it currently 
+	 * holds the expected value. The field extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive, and must lie within a single 
+	 * array element. Only the {@code to - from} least significant bits of 
+	 * {@code expected} and {@code v} are taken into account; the other bits of 
+	 * the element are left unchanged (even if concurrently modified).
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) of 
+	 *        the field.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) of the 
+	 *        field.
+	 * @param expected expected value of the field.
+	 * @param v value whose contents will be written to the field.
+	 * 
+	 * @return {@code true} if the field held the expected value (and then was 
+	 *         written), {@code false} otherwise.
+	 * @throws IllegalArgumentException if {@code to <= from}, or if the field 
+	 *         spans more than one array element.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean compareAndSetRange(long[] data, int from, int to, long expected, long v) {
+		return compareAndSetRange(data, (long) from, (long) to, expected, v);
+	}
+
+	/**
+	 * Atomically writes a field of the given storage, provided it currently 
+	 * holds the expected value. The field extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive, and must lie within a single 
+	 * array element. Only the {@code to - from} least significant bits of 
+	 * {@code expected} and {@code v} are taken into account; the other bits of 
+	 * the element are left unchanged (even if concurrently modified).
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) of 
+	 *        the field.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) of the 
+	 *        field.
+	 * @param expected expected value of the field.
+	 * @param v value whose contents will be written to the field.
+	 * 
+	 * @return {@code true} if the field held the expected value (and then was 
+	 *         written), {@code false} otherwise.
+	 * @throws IllegalArgumentException if {@code to <= from}, or if the field 
+	 *         spans more than one array element.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean compareAndSetRange(long[] data, long from, long to, long expected, long v) {
+		final long MASK = fieldMask(from, to, LONG_ADDRESS_LINES);
+		final int offset = (int) from & LONG_ADDRESS_MASK;
+		int index = saturate(from >> LONG_ADDRESS_LINES);
+		
+		expected = expected << offset & MASK;
+		v = v << offset & MASK;
+		
+		if (index >= data.length || index < 0)
+			// offlimits bits are hardwired to 0
+			return expected == 0;
+		
+		long w;
+		do {
+			w = AtomicArrays.getVolatile(data, index);
+			
+			if ((w & MASK) != expected)
+				return false;
+		} while (!AtomicArrays.compareAndSet(data, index, w, w & ~MASK | v));
+		
+		return true;
+	}
+
+	/**
+	 * Atomically ors the given value into a field of the given storage. The 
+	 * field extends from offset {@code from}, inclusive, to offset {@code to}, 
+	 * exclusive, and must lie within a single array element. Only the 
+	 * {@code to - from} least significant bits of {@code v} are taken into 
+	 * account; the other bits of the element are left unchanged.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) of 
+	 *        the field.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) of the 
+	 *        field.
+	 * @param v value to be or'ed into the field.
+	 * 
+	 * @return the previous value of the field.
+	 * @throws IllegalArgumentException if {@code to <= from}, or if the field 
+	 *         spans more than one array element.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long fetchOr(long[] data, int from, int to, long v) {
+		return fetchOr(data, (long) from, (long) to, v);
+	}
+
+	/**
+	 * Atomically ors the given value into a field of the given storage. The 
+	 * field extends from offset {@code from}, inclusive, to offset {@code to}, 
+	 * exclusive, and must lie within a single array element. Only the 
+	 * {@code to - from} least significant bits of {@code v} are taken into 
+	 * account; the other bits of the element are left unchanged.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) of 
+	 *        the field.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) of the 
+	 *        field.
+	 * @param v value to be or'ed into the field.
+	 * 
+	 * @return the previous value of the field.
+	 * @throws IllegalArgumentException if {@code to <= from}, or if the field 
+	 *         spans more than one array element.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long fetchOr(long[] data, long from, long to, long v) {
+		final long MASK = fieldMask(from, to, LONG_ADDRESS_LINES);
+		final int offset = (int) from & LONG_ADDRESS_MASK;
+		int index = saturate(from >> LONG_ADDRESS_LINES);
+		
+		if (index >= data.length || index < 0)
+			// offlimits bits are hardwired to 0
+			return 0;
+		
+		return (AtomicArrays.getAndBitwiseOr(data, index, v << offset & MASK) & MASK) >>> offset;
+	}
+}
@@ -0,0 +1,618 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * This class consists exclusively of static methods that read or write bits 
+ * over NIO buffers: {@link ByteBuffer} (hence also 
+ * {@link java.nio.MappedByteBuffer}) and {@link LongBuffer}.
+ * 
+ * <p>Bit mapping is the same as that of {@link Store} for the corresponding 
+ * array type ({@code byte[]} and {@code long[]}, respectively), taking 
+ * buffer elements by their absolute index, from {@code 0}, inclusive, to 
+ * {@code limit()}, exclusive. Neither buffer position nor mark are used or 
+ * changed; bits at or beyond {@code limit()} are offlimits.
+ * </p>
+ * <p>On a {@code ByteBuffer} bits are always laid out least significant byte 
+ * first, irrespective of the buffer byte order, so a given file has the same 
+ * bit contents whether mapped or read into a {@code byte[]}. Whenever 
+ * possible bytes are accessed 8 at a time, through {@link ByteBuffer#getLong}
+ * and {@link ByteBuffer#putLong}.
+ * </p>
+ * <p>For every method available in this class, the arguments that represent
+ * offsets should always be given in bits, and are 0-based.
+ * </p>
+ * <p>Offlimits bits are hardwired to 0: they always read as 0, and any value 
+ * written to them is discarded. Except where otherwise noted, methods in this 
+ * class should never throw {@code IndexOutOfBoundsException}.
+ * </p>
+ * <p>{@code NullPointerException} is thrown if the given buffer is 
+ * {@code null}. {@code ReadOnlyBufferException} is thrown if the given buffer 
+ * is read-only and a write is attempted.
+ * </p>
+ * <p>All methods are inherently thread unsafe: in case of more than one thread 
+ * acting upon the same storage the results are undefined. Also neither they 
+ * acquire nor block on any monitor. Any necessary synchronization should be 
+ * done externally.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ * @see Store
+ */
+public class BufferStore {
+	private BufferStore() { /* non-instantiable */ }
+
+	private static void checkRange(long offset, int length, long max) {
+		if (offset < 0 || length < 0 || offset + length > max)
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length) + ") out of [0, " + max + ")");
+	}
+
+	/********** ByteBuffer **********/
+
+	private static final int BYTE_ADDRESS_LINES = Store.BYTE_ADDRESS_LINES;
+	private static final int BYTE_ADDRESS_MASK = Store.BYTE_ADDRESS_MASK;
+	private static final int BYTE_DATA_MASK = Store.BYTE_DATA_MASK;
+	
+	// we expect this function to be heavily inlined
+	private static int read(ByteBuffer data, long index) {
+		return index < data.limit() && index >= 0 ? data.get((int) index) & BYTE_DATA_MASK : 0;
+	}
+
+	// 8 bytes, least significant first
+	private static long getLong(ByteBuffer data, int index) {
+		long v = data.getLong(index);
+		return data.order() == ByteOrder.LITTLE_ENDIAN ? v : Long.reverseBytes(v);
+	}
+	
+	// 8 bytes, least significant first
+	private static void putLong(ByteBuffer data, int index, long v) {
+		data.putLong(index, data.order() == ByteOrder.LITTLE_ENDIAN ? v : Long.reverseBytes(v));
+	}
+	
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean readBit(ByteBuffer data, long i) {
+		return (read(data, i >> BYTE_ADDRESS_LINES) >>> ((int) i & BYTE_ADDRESS_MASK) & 1) != 0;
+	}
+	
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBit(ByteBuffer data, long i, boolean v) {
+		long index = i >> BYTE_ADDRESS_LINES;
+		
+		if (index < data.limit() && index >= 0) {
+			int mask = 1 << ((int) i & BYTE_ADDRESS_MASK);
+			int d = data.get((int) index);
+			data.put((int) index, (byte) (v ? d | mask : d & ~mask));
+		}
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage. The range to be filled extends from offset 
+	 * {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} this method does nothing.
+	 * 
+	 * @param data storage buffer.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void fill(ByteBuffer data, long from, long to, boolean v) {
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (to > (long) data.limit() << BYTE_ADDRESS_LINES)
+			to = (long) data.limit() << BYTE_ADDRESS_LINES;
+		
+		if (!(to > from))
+			return;
+
+		int index0  = (int) (from >> BYTE_ADDRESS_LINES);
+		int index1  = (int) (to >> BYTE_ADDRESS_LINES);
+		int offset0 = (int) from & BYTE_ADDRESS_MASK;
+		int offset1 = (int) to & BYTE_ADDRESS_MASK;
+		
+		if (index1 == index0) {
+			// special case: subword fill
+			fill0(data, index0, BYTE_DATA_MASK << offset0 & ~(BYTE_DATA_MASK << offset1), v);
+			return;
+		}
+		
+		if (offset0 != 0) {
+			// handle "from" end specially
+			fill0(data, index0, BYTE_DATA_MASK << offset0, v);
+			
+			// first index already taken care of
+			index0++;
+		}
+
+		// byte order is irrelevant when all bits are the same
+		for (; index0 + Long.SIZE/Byte.SIZE <= index1; index0 += Long.SIZE/Byte.SIZE)
+			data.putLong(index0, v ? -1L : 0L);
+		
+		for (; index0 < index1; index0++)
+			data.put(index0, (byte) (v ? -1 : 0));
+
+		if (offset1 != 0)
+			fill0(data, index1, ~(BYTE_DATA_MASK << offset1), v);
+	}
+
+	private static void fill0(ByteBuffer data, int index, int mask, boolean v) {
+		int d = data.get(index);
+		data.put(index, (byte) (v ? d | mask : d & ~mask));
+	}
+	
+	/**
+	 * Reads as {@code int} the 32 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int readInt(ByteBuffer data, long i) {
+		long index = i >> BYTE_ADDRESS_LINES;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
+		
+		// FAST PATH: 32 bits at any offset fit into 8 bytes
+		if (index >= 0 && index <= data.limit() - 8)
+			return (int) (getLong(data, (int) index) >>> offset);
+		
+		return (int) readLong0(data, index, offset);
+	}
+	
+	/**
+	 * Writes 32 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeInt(ByteBuffer data, long i, int v) {
+		long index = i >> BYTE_ADDRESS_LINES;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
+		
+		final long MASK = 0xFFFFFFFFL;
+		
+		// FAST PATH: 32 bits at any offset fit into 8 bytes
+		if (index >= 0 && index <= data.limit() - 8) {
+			long d = getLong(data, (int) index);
+			d &= ~(MASK << offset);
+			d |= (v & MASK) << offset;
+			putLong(data, (int) index, d);
+			return;
+		}
+		
+		write0(data, i, v & MASK, MASK);
+	}
+
+	/**
+	 * Reads as {@code long} the 64 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long readLong(ByteBuffer data, long i) {
+		long index = i >> BYTE_ADDRESS_LINES;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
+		
+		// FAST PATH: all 8 (or 9) bytes within limits
+		if (index >= 0 && index <= data.limit() - (offset == 0 ? 8 : 9)) {
+			long d = getLong(data, (int) index);
+			
+			if (offset == 0)
+				return d;
+			
+			return d >>> offset | (long) (data.get((int) index + 8) & BYTE_DATA_MASK) << Long.SIZE - offset;
+		}
+		
+		return readLong0(data, index, offset);
+	}
+
+	private static long readLong0(ByteBuffer data, long index, int offset) {
+		long d = 0;
+		for (int k = 0; k < Long.SIZE/Byte.SIZE; k++)
+			d |= (long) read(data, index + k) << k*Byte.SIZE;
+		
+		if (offset == 0)
+			return d;
+		
+		return d >>> offset | (long) read(data, index + 8) << Long.SIZE - offset;
+	}
+	
+	/**
+	 * Writes 64 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeLong(ByteBuffer data, long i, long v) {
+		long index = i >> BYTE_ADDRESS_LINES;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
+		
+		// FAST PATH: all 8 (or 9) bytes within limits
+		if (index >= 0 && index <= data.limit() - (offset == 0 ? 8 : 9)) {
+			if (offset == 0) {
+				putLong(data, (int) index, v);
+				return;
+			}
+			
+			long d = getLong(data, (int) index);
+			d &= ~(-1L << offset);
+			d |= v << offset;
+			putLong(data, (int) index, d);
+			
+			final int LOWEST_BITS = ~(BYTE_DATA_MASK << offset);
+			int d8 = data.get((int) index + 8);
+			d8 &= ~LOWEST_BITS;
+			d8 |= (int) (v >>> Long.SIZE - offset) & LOWEST_BITS;
+			data.put((int) index + 8, (byte) d8);
+			return;
+		}
+		
+		write0(data, i, v, -1L);
+	}
+
+	// slow path: byte by byte, skipping offlimits bytes
+	private static void write0(ByteBuffer data, long i, long v, long mask) {
+		final int width = Long.SIZE - Long.numberOfLeadingZeros(mask);
+		
+		long index0 = Math.max(i >> BYTE_ADDRESS_LINES, 0);
+		long index1 = Math.min((i + width - 1) >> BYTE_ADDRESS_LINES, data.limit() - 1);
+		
+		for (long index = index0; index <= index1; index++) {
+			// position, within v, of bit 0 of this byte
+			long shift = (index << BYTE_ADDRESS_LINES) - i;
+			
+			int bits = (int) (shift >= 0 ? v >>> shift : v << -shift);
+			int m = (int) (shift >= 0 ? mask >>> shift : mask << -shift) & BYTE_DATA_MASK;
+			
+			int d = data.get((int) index);
+			data.put((int) index, (byte) (d & ~m | bits & m));
+		}
+	}
+	
+	/**
+	 * Returns a string representation of a range of the contents of the given 
+	 * storage. The string representation consists of digits '0' and '1' for 
+	 * bits ranging from {@code offset}, inclusive, to {@code offset + length}, 
+	 * exclusive. If any offlimits bit is touched, this method will throw 
+	 * {@code IndexOutOfBoundsException}.
+	 * 
+	 * @param data storage buffer.
+	 * @param offset start of range, in bits, 0-based, inclusive.
+	 * @param length number of digits returned.
+	 * @throws IndexOutOfBoundsException if offset is negative or if 
+	 *   {@code offset + length} is greater than the number of bits available.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static String readBitString(ByteBuffer data, long offset, int length) {
+		checkRange(offset, length, (long) data.limit() << BYTE_ADDRESS_LINES);
+		
+		char[] dest = new char[length];
+		for (int i = length - 1; i >= 0; i--, offset++)
+			dest[i] = readBit(data, offset) ? '1' : '0';
+		
+		return new String(dest);
+	}
+
+	/**
+	 * Stores a string representation into a range of the contents of the given 
+	 * storage. The string representation consists of digits '0' and '1'. The 
+	 * range of bits to be stored extends from {@code offset}, inclusive, to 
+	 * {@code offset + length}, exclusive. If any offlimits bit is touched, 
+	 * this method will throw {@code IndexOutOfBoundsException}.
+	 * 
+	 * @param data storage buffer.
+	 * @param offset start of range, in bits, 0-based, inclusive.
+	 * @param v string whose contents are stored into given storage.
+	 * @throws IndexOutOfBoundsException if offset is negative or if 
+	 *   {@code offset + length} is greater than the number of bits available.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBitString(ByteBuffer data, long offset, String v) {
+		checkRange(offset, v.length(), (long) data.limit() << BYTE_ADDRESS_LINES);
+		
+		for (int i = v.length() - 1; i >= 0; i--, offset++)
+			writeBit(data, offset, v.charAt(i) == '1');
+	}
+	
+	/********** LongBuffer **********/
+
+	private static final int LONG_ADDRESS_LINES = Store.LONG_ADDRESS_LINES;
+	private static final int LONG_DATA_LINES = Store.LONG_DATA_LINES;
+	private static final int LONG_ADDRESS_MASK = Store.LONG_ADDRESS_MASK;
+	
+	// we expect this function to be heavily inlined
+	private static long read(LongBuffer data, long index) {
+		return index < data.limit() && index >= 0 ? data.get((int) index) : 0;
+	}
+
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean readBit(LongBuffer data, long i) {
+		return (read(data, i >> LONG_ADDRESS_LINES) >>> ((int) i & LONG_ADDRESS_MASK) & 1) != 0;
+	}
+	
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBit(LongBuffer data, long i, boolean v) {
+		long index = i >> LONG_ADDRESS_LINES;
+		
+		if (index < data.limit() && index >= 0)
+			fill0(data, (int) index, 1L << ((int) i & LONG_ADDRESS_MASK), v);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage. The range to be filled extends from offset 
+	 * {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} this method does nothing.
+	 * 
+	 * @param data storage buffer.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void fill(LongBuffer data, long from, long to, boolean v) {
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (to > (long) data.limit() << LONG_ADDRESS_LINES)
+			to = (long) data.limit() << LONG_ADDRESS_LINES;
+		
+		if (!(to > from))
+			return;
+
+		int index0  = (int) (from >> LONG_ADDRESS_LINES);
+		int index1  = (int) (to >> LONG_ADDRESS_LINES);
+		int offset0 = (int) from & LONG_ADDRESS_MASK;
+		int offset1 = (int) to & LONG_ADDRESS_MASK;
+		
+		if (index1 == index0) {
+			// special case: subword fill
+			fill0(data, index0, -1L << offset0 & ~(-1L << offset1), v);
+			return;
+		}
+		
+		if (offset0 != 0) {
+			// handle "from" end specially
+			fill0(data, index0, -1L << offset0, v);
+			
+			// first index already taken care of
+			index0++;
+		}
+
+		for (; index0 < index1; index0++)
+			data.put(index0, v ? -1L : 0L);
+
+		if (offset1 != 0)
+			fill0(data, index1, ~(-1L << offset1), v);
+	}
+
+	private static void fill0(LongBuffer data, int index, long mask, boolean v) {
+		long d = data.get(index);
+		data.put(index, v ? d | mask : d & ~mask);
+	}
+	
+	/**
+	 * Reads as {@code int} the 32 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int readInt(LongBuffer data, long i) {
+		return (int) readLong(data, i);
+	}
+	
+	/**
+	 * Writes 32 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeInt(LongBuffer data, long i, int v) {
+		write0(data, i, v & 0xFFFFFFFFL, 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Reads as {@code long} the 64 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long readLong(LongBuffer data, long i) {
+		long index = i >> LONG_ADDRESS_LINES;
+		int offset = (int) i & LONG_ADDRESS_MASK;
+		
+		long d0 = read(data, index);
+		if (offset == 0)
+			return d0;
+		
+		long d1 = read(data, index + 1);
+		return d0 >>> offset | d1 << LONG_DATA_LINES - offset;
+	}
+	
+	/**
+	 * Writes 64 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage buffer.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeLong(LongBuffer data, long i, long v) {
+		write0(data, i, v, -1L);
+	}
+
+	private static void write0(LongBuffer data, long i, long v, long mask) {
+		long index = i >> LONG_ADDRESS_LINES;
+		int offset = (int) i & LONG_ADDRESS_MASK;
+		
+		if (index < data.limit() && index >= 0) {
+			long d = data.get((int) index);
+			d &= ~(mask << offset);
+			d |= v << offset;
+			data.put((int) index, d);
+		}
+		
+		if (offset == 0)
+			return;
+		
+		if (++index < data.limit() && index >= 0) {
+			long d = data.get((int) index);
+			d &= ~(mask >>> LONG_DATA_LINES - offset);
+			d |= v >>> LONG_DATA_LINES - offset;
+			data.put((int) index, d);
+		}
+	}
+	
+	/**
+	 * Returns a string representation of a range of the contents of the given 
+	 * storage. The string representation consists of digits '0' and '1' for 
+	 * bits ranging from {@code offset}, inclusive, to {@code offset + length}, 
+	 * exclusive. If any offlimits bit is touched, this method will throw 
+	 * {@code IndexOutOfBoundsException}.
+	 * 
+	 * @param data storage buffer.
+	 * @param offset start of range, in bits, 0-based, inclusive.
+	 * @param length number of digits returned.
+	 * @throws IndexOutOfBoundsException if offset is negative or if 
+	 *   {@code offset + length} is greater than the number of bits available.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static String readBitString(LongBuffer data, long offset, int length) {
+		checkRange(offset, length, (long) data.limit() << LONG_ADDRESS_LINES);
+		
+		char[] dest = new char[length];
+		for (int i = length - 1; i >= 0; i--, offset++)
+			dest[i] = readBit(data, offset) ? '1' : '0';
+		
+		return new String(dest);
+	}
+
+	/**
+	 * Stores a string representation into a range of the contents of the given 
+	 * storage. The string representation consists of digits '0' and '1'. The 
+	 * range of bits to be stored extends from {@code offset}, inclusive, to 
+	 * {@code offset + length}, exclusive. If any offlimits bit is touched, 
+	 * this method will throw {@code IndexOutOfBoundsException}.
+	 * 
+	 * @param data storage buffer.
+	 * @param offset start of range, in bits, 0-based, inclusive.
+	 * @param v string whose contents are stored into given storage.
+	 * @throws IndexOutOfBoundsException if offset is negative or if 
+	 *   {@code offset + length} is greater than the number of bits available.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBitString(LongBuffer data, long offset, String v) {
+		checkRange(offset, v.length(), (long) data.limit() << LONG_ADDRESS_LINES);
+		
+		for (int i = v.length() - 1; i >= 0; i--, offset++)
+			writeBit(data, offset, v.charAt(i) == '1');
+	}
+}
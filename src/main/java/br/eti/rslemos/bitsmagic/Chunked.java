@@ -0,0 +1,518 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static br.eti.rslemos.bitsmagic.Copy.checkSafeIndices;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_LINES;
+
+/**
+ * This class consists exclusively of static methods that read, write, copy, 
+ * xor and count bits over chunked storages, that is, arrays of {@code long} 
+ * arrays ({@code long[][]}).
+ * 
+ * <p>A chunked storage lifts the limit on the number of bits a single Java 
+ * array can hold. Chunks are laid out one after the other: bit 0 is the least 
+ * significant bit of the first element of the first chunk, and the bit right 
+ * after the last bit of a chunk is the first bit of the next chunk. Every 
+ * chunk must have the same length as the first one, except for the last, 
+ * which may be shorter. Empty chunks are not allowed. Both requirements are 
+ * not verified; results are undefined if they do not hold.
+ * </p>
+ * <p>For every method available in this class, the arguments that represent
+ * offsets should always be given in bits, and are 0-based. Inside each chunk, 
+ * bit mapping follows that of {@link Store}.
+ * </p>
+ * <p>Offlimits bits are hardwired to 0: they always read as 0, and any value 
+ * written to them is discarded. Except for {@link #copyFrom} and 
+ * {@link #xorFrom}, which behave like their counterparts in {@link Copy} and 
+ * {@link Xor}, methods in this class should never throw 
+ * {@code ArrayIndexOutOfBoundsException}.
+ * </p>
+ * <p>{@code NullPointerException} is thrown if the given storage, or any of 
+ * its chunks, is {@code null}.
+ * </p>
+ * <p>All methods are inherently thread unsafe: in case of more than one thread 
+ * acting upon the same storage the results are undefined. Also neither they 
+ * acquire nor block on any monitor. Any necessary synchronization should be 
+ * done externally.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ * @see Store
+ */
+public class Chunked {
+	private Chunked() { /* non-instantiable */ }
+
+	/**
+	 * Allocates a chunked storage with room for at least {@code bits} bits, 
+	 * split in chunks of {@code chunkLength} elements each (the last chunk 
+	 * being possibly shorter).
+	 * 
+	 * @param bits number of bits to allocate.
+	 * @param chunkLength number of elements in each chunk.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long[][] allocate(long bits, int chunkLength) {
+		if (bits < 0)
+			throw new IllegalArgumentException("Negative size: " + bits);
+		
+		if (chunkLength <= 0)
+			throw new IllegalArgumentException("Chunk length must be positive: " + chunkLength);
+		
+		long elements = (bits + Long.SIZE - 1) >>> LONG_ADDRESS_LINES;
+		long chunks = (elements + chunkLength - 1) / chunkLength;
+		
+		if (chunks > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Too many chunks: " + chunks);
+		
+		long[][] data = new long[(int) chunks][];
+		for (int k = 0; k < data.length - 1; k++)
+			data[k] = new long[chunkLength];
+		
+		if (data.length > 0)
+			data[data.length - 1] = new long[(int) (elements - (long) (data.length - 1) * chunkLength)];
+		
+		return data;
+	}
+	
+	/**
+	 * Returns the number of bits available in the given storage.
+	 * 
+	 * @param data chunked storage.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long size(long[][] data) {
+		if (data.length == 0)
+			return 0;
+		
+		return (data.length - 1) * chunkBits(data) + ((long) data[data.length - 1].length << LONG_ADDRESS_LINES);
+	}
+
+	private static long chunkBits(long[][] data) {
+		return data.length > 0 ? (long) data[0].length << LONG_ADDRESS_LINES : 0;
+	}
+	
+	// floor division, as i might be negative
+	private static long chunk(long i, long chunkBits) {
+		return i >= 0 ? i / chunkBits : -1 - (-1 - i) / chunkBits;
+	}
+	
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data chunked storage.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean readBit(long[][] data, long i) {
+		final long chunkBits = chunkBits(data);
+		if (i < 0 || chunkBits == 0)
+			return false;
+		
+		long k = i / chunkBits;
+		return k < data.length ? Store.readBit(data[(int) k], i - k * chunkBits) : false;
+	}
+	
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data chunked storage.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBit(long[][] data, long i, boolean v) {
+		final long chunkBits = chunkBits(data);
+		if (i < 0 || chunkBits == 0)
+			return;
+		
+		long k = i / chunkBits;
+		if (k < data.length)
+			Store.writeBit(data[(int) k], i - k * chunkBits, v);
+	}
+	
+	/**
+	 * Reads as {@code int} the 32 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data chunked storage.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int readInt(long[][] data, long i) {
+		final long chunkBits = chunkBits(data);
+		if (chunkBits == 0)
+			return 0;
+		
+		// every chunk holds at least 64 bits, so at most 2 chunks are touched
+		long k = chunk(i, chunkBits);
+		long offset = i - k * chunkBits;
+		
+		int v = 0;
+		if (k >= 0 && k < data.length)
+			v |= Store.readInt(data[(int) k], offset);
+		
+		if (++k >= 0 && k < data.length)
+			v |= Store.readInt(data[(int) k], offset - chunkBits);
+		
+		return v;
+	}
+	
+	/**
+	 * Writes 32 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data chunked storage.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeInt(long[][] data, long i, int v) {
+		final long chunkBits = chunkBits(data);
+		if (chunkBits == 0)
+			return;
+		
+		long k = chunk(i, chunkBits);
+		long offset = i - k * chunkBits;
+		
+		if (k >= 0 && k < data.length)
+			Store.writeInt(data[(int) k], offset, v);
+		
+		if (++k >= 0 && k < data.length)
+			Store.writeInt(data[(int) k], offset - chunkBits, v);
+	}
+	
+	/**
+	 * Reads as {@code long} the 64 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data chunked storage.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long readLong(long[][] data, long i) {
+		final long chunkBits = chunkBits(data);
+		if (chunkBits == 0)
+			return 0;
+		
+		// every chunk holds at least 64 bits, so at most 2 chunks are touched
+		long k = chunk(i, chunkBits);
+		long offset = i - k * chunkBits;
+		
+		long v = 0;
+		if (k >= 0 && k < data.length)
+			v |= Store.readLong(data[(int) k], offset);
+		
+		if (++k >= 0 && k < data.length)
+			v |= Store.readLong(data[(int) k], offset - chunkBits);
+		
+		return v;
+	}
+	
+	/**
+	 * Writes 64 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data chunked storage.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeLong(long[][] data, long i, long v) {
+		final long chunkBits = chunkBits(data);
+		if (chunkBits == 0)
+			return;
+		
+		long k = chunk(i, chunkBits);
+		long offset = i - k * chunkBits;
+		
+		if (k >= 0 && k < data.length)
+			Store.writeLong(data[(int) k], offset, v);
+		
+		if (++k >= 0 && k < data.length)
+			Store.writeLong(data[(int) k], offset - chunkBits, v);
+	}
+	
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage. The range to be filled extends from offset 
+	 * {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} this method does nothing.
+	 * 
+	 * @param data chunked storage.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void fill(long[][] data, long from, long to, boolean v) {
+		final long chunkBits = chunkBits(data);
+		
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (!(to > from) || chunkBits == 0)
+			return;
+		
+		final long k1 = Math.min((to - 1) / chunkBits, data.length - 1);
+		for (long k = from / chunkBits; k <= k1; k++)
+			Store.fill(data[(int) k], from - k * chunkBits, to - k * chunkBits, v);
+	}
+	
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage. The range considered extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive. If {@code to <= from} this 
+	 * method returns 0.
+	 * 
+	 * @param data chunked storage.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long ones(long[][] data, long from, long to) {
+		final long chunkBits = chunkBits(data);
+		
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (!(to > from) || chunkBits == 0)
+			return 0;
+		
+		long count = 0;
+		
+		final long k1 = Math.min((to - 1) / chunkBits, data.length - 1);
+		for (long k = from / chunkBits; k <= k1; k++)
+			count += Ones.ones(data[(int) k], from - k * chunkBits, to - k * chunkBits);
+		
+		return count;
+	}
+	
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Touching any offlimits bits throws 
+	 * {@code ArrayIndexOutOfBoundsException}, destination being left 
+	 * unchanged. Source and destination chunk lengths need not match.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 * @see Copy#copyFrom(long[], long, long[], long, long)
+	 */
+	public static void copyFrom(long[][] source, long srcPos, long[][] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, size(source), size(dest)))
+			return;
+		
+		transfer(source, srcPos, dest, destPos, length, false);
+	}
+	
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Offlimits bits are read as 0, and discarded when written to.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 * @see Copy#safeCopyFrom(long[], long, long[], long, long)
+	 */
+	public static void safeCopyFrom(long[][] source, long srcPos, long[][] dest, long destPos, long length) {
+		if (length == 0)
+			return;
+		
+		if (length < 0)
+			throw new IllegalArgumentException();
+		
+		final long maxDest = size(dest);
+		final long maxSource = size(source);
+		
+		if (!(destPos < maxDest && destPos + length > 0))
+			return;
+
+		// fix destination starting point out of range 
+		if (destPos < 0) {
+			length -= -destPos;
+			srcPos += -destPos;
+			destPos = 0;
+		}
+		
+		// fix destination ending point out of range
+		if (destPos + length > maxDest)
+			length -= (destPos + length) - maxDest;
+		
+		long fillLow = 0;
+		long fillHigh = 0;
+		
+		if (!(srcPos < maxSource && srcPos + length > 0)) {
+			fillHigh = length;
+			length = 0;
+			srcPos = 0;
+		} else {
+			// fix source starting point out of range
+			if (srcPos < 0) {
+				fillLow = -srcPos;
+				
+				length -= fillLow;
+				destPos += fillLow;
+				srcPos = 0;
+			}
+			
+			// fix source ending point out of range
+			if (srcPos + length > maxSource) {
+				fillHigh = (srcPos + length) - maxSource;
+				length -= fillHigh;
+			}
+		}
+		
+		copyFrom(source, srcPos, dest, destPos, length);
+		fill(dest, destPos + length, destPos + length + fillHigh, false);
+		fill(dest, destPos - fillLow, destPos, false);
+	}
+	
+	/**
+	 * Xors bits from the specified source storage, beginning at the specified 
+	 * bit, to the specified bits of the destination storage. The bits at 
+	 * offsets {@code srcPos} through {@code srcPos+length-1} in the source 
+	 * storage are xored into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Touching any offlimits bits throws 
+	 * {@code ArrayIndexOutOfBoundsException}, destination being left 
+	 * unchanged. Source and destination chunk lengths need not match.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xored.
+	 *
+	 * @since 1.0.0
+	 * @see Xor#xorFrom(long[], long, long[], long, long)
+	 */
+	public static void xorFrom(long[][] source, long srcPos, long[][] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, size(source), size(dest)))
+			return;
+		
+		transfer(source, srcPos, dest, destPos, length, true);
+	}
+	
+	/*
+	 * Splits the transfer into pieces that do not cross chunk boundaries, 
+	 * neither on source nor on destination. When source and destination are 
+	 * the same storage and the destination lies ahead, pieces are transferred 
+	 * last to first, so that no source bit is overwritten before being read.
+	 */
+	private static void transfer(long[][] source, long srcPos, long[][] dest, long destPos, long length, boolean xor) {
+		final long sChunkBits = chunkBits(source);
+		final long dChunkBits = chunkBits(dest);
+		
+		if (source != dest || destPos <= srcPos) {
+			for (long r = 0; r < length; ) {
+				final long s = srcPos + r;
+				final long d = destPos + r;
+				
+				final long ks = s / sChunkBits;
+				final long kd = d / dChunkBits;
+				
+				final long sOffset = s - ks * sChunkBits;
+				final long dOffset = d - kd * dChunkBits;
+				
+				final long n = Math.min(length - r, Math.min(sChunkBits - sOffset, dChunkBits - dOffset));
+				transfer0(source[(int) ks], sOffset, dest[(int) kd], dOffset, n, xor);
+				
+				r += n;
+			}
+		} else {
+			for (long r = length; r > 0; ) {
+				// exclusive ends
+				final long s = srcPos + r;
+				final long d = destPos + r;
+				
+				final long ks = (s - 1) / sChunkBits;
+				final long kd = (d - 1) / dChunkBits;
+				
+				final long sOffset = s - ks * sChunkBits;
+				final long dOffset = d - kd * dChunkBits;
+				
+				final long n = Math.min(r, Math.min(sOffset, dOffset));
+				transfer0(source[(int) ks], sOffset - n, dest[(int) kd], dOffset - n, n, xor);
+				
+				r -= n;
+			}
+		}
+	}
+
+	private static void transfer0(long[] source, long srcPos, long[] dest, long destPos, long length, boolean xor) {
+		if (xor)
+			Xor.xorFrom(source, srcPos, dest, destPos, length);
+		else
+			Copy.copyFrom(source, srcPos, dest, destPos, length);
+	}
+}
@@ -27,7 +27,6 @@
  *******************************************************************************/
 package br.eti.rslemos.bitsmagic;
 
-import static br.eti.rslemos.bitsmagic.ByReference.byRef;
 import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_LINES;
 import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_MASK;
 import static br.eti.rslemos.bitsmagic.Store.BYTE_DATA_LINES;
@@ -49,7 +48,7 @@ import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_MASK;
 import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_LINES;
 import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_MASK;
 
-import br.eti.rslemos.bitsmagic.ByReference.IntRef;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class consists exclusively of static methods that copy bits over arrays 
@@ -63,6 +62,10 @@ import br.eti.rslemos.bitsmagic.ByReference.IntRef;
  * <p>The general syntax for methods in this class conforms to that of 
  * {@link System#arraycopy}.
  * </p>
+ * <p>Bits can also be copied across arrays of different types (for instance
+ * from {@code byte[]} into {@code long[]}): bit offsets keep the meaning
+ * given by {@link Store} on each side, so copying preserves the bit sequence.
+ * </p>
  * <p>For {@link #copyFrom} methods, touching any offlimits bits throws 
  * {@code ArrayIndexOutOfBoundsException}, destination being left unchanged.
  * </p>
@@ -89,75 +92,126 @@ import br.eti.rslemos.bitsmagic.ByReference.IntRef;
 public class Copy {
 	private Copy() { /* non-instantiable */ }
 
-	static boolean checkSafeIndices(int srcPos, int destPos, int length, int maxSrc, int maxDest) {
+	static boolean checkSafeIndices(long srcPos, long destPos, long length, long maxSrc, long maxDest) {
 		if (srcPos < 0 || srcPos > maxSrc)
-			throw new ArrayIndexOutOfBoundsException(srcPos);
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + srcPos);
 		
 		if (srcPos + length < 0 || srcPos + length > maxSrc)
-			throw new ArrayIndexOutOfBoundsException(srcPos + length);
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + (srcPos + length));
 		
 		if (destPos < 0 || destPos > maxDest)
-			throw new ArrayIndexOutOfBoundsException(destPos);
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + destPos);
 		
 		if (destPos + length < 0 || destPos + length > maxDest)
-			throw new ArrayIndexOutOfBoundsException(destPos + length);
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + (destPos + length));
 		
 		if (length < 0)
-			throw new ArrayIndexOutOfBoundsException(length);
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + length);
 		
 		return length > 0;
 	}
 	
-	private static boolean prepareSafeCopy(IntRef srcPos, IntRef destPos, IntRef length, IntRef fillLow, IntRef fillHigh, final int maxDest, final int maxSource) {
-		if (length.i == 0)
-			return false;
+	/********** byte[] **********/
+	
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Offlimits bits are read as 0, and discarded when written to.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void safeCopyFrom(byte[] source, int srcPos, byte[] dest, int destPos, int length) {
+		safeCopyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Offlimits bits are read as 0, and discarded when written to.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void safeCopyFrom(byte[] source, long srcPos, byte[] dest, long destPos, long length) {
+		if (length == 0)
+			return;
 		
-		if (length.i < 0)
+		if (length < 0)
 			throw new IllegalArgumentException();
 		
-		if (!(destPos.i < maxDest && destPos.i + length.i > 0))
-			return false;
+		final long maxDest = (long) dest.length << BYTE_ADDRESS_LINES;
+		final long maxSource = (long) source.length << BYTE_ADDRESS_LINES;
+		
+		if (!(destPos < maxDest && destPos + length > 0))
+			return;
 
 		// fix destination starting point out of range 
-		if (destPos.i < 0) {
-			length.i -= -destPos.i;
-			srcPos.i += -destPos.i;
-			destPos.i += -destPos.i;
+		if (destPos < 0) {
+			length -= -destPos;
+			srcPos += -destPos;
+			destPos = 0;
 		}
 		
 		// fix destination ending point out of range
-		if (destPos.i + length.i > maxDest) {
-			length.i -= (destPos.i + length.i) - maxDest;
-		}
+		if (destPos + length > maxDest)
+			length -= (destPos + length) - maxDest;
 		
-		if (!(srcPos.i < maxSource && srcPos.i + length.i > 0)) {
-			fillHigh.i = length.i;
-			length.i = 0;
-			srcPos.i = 0;
-			
-			return true;
-		}
+		long fillLow = 0;
+		long fillHigh = 0;
 		
-		// fix source starting point out of range
-		if (srcPos.i < 0) {
-			fillLow.i = -srcPos.i;
+		if (!(srcPos < maxSource && srcPos + length > 0)) {
+			fillHigh = length;
+			length = 0;
+			srcPos = 0;
+		} else {
+			// fix source starting point out of range
+			if (srcPos < 0) {
+				fillLow = -srcPos;
+				
+				length -= fillLow;
+				destPos += fillLow;
+				srcPos = 0;
+			}
 			
-			length.i -= -srcPos.i;
-			destPos.i += -srcPos.i;
-			srcPos.i += -srcPos.i;
-		}
-		
-		// fix source ending point out of range
-		if (srcPos.i + length.i > maxSource) {
-			fillHigh.i = (srcPos.i + length.i) - maxSource;
-			length.i -= (srcPos.i + length.i) - maxSource;
+			// fix source ending point out of range
+			if (srcPos + length > maxSource) {
+				fillHigh = (srcPos + length) - maxSource;
+				length -= fillHigh;
+			}
 		}
 		
-		return true;
+		copyFrom(source, srcPos, dest, destPos, length);
+		Store.fill(dest, destPos + length, destPos + length + fillHigh, false);
+		Store.fill(dest, destPos - fillLow, destPos, false);
 	}
 
-	/********** byte[] **********/
-	
 	/**
 	 * Copies bits from the specified source storage, beginning at the 
 	 * specified bit, to the specified bits of the destination storage. A 
@@ -167,9 +221,6 @@ public class Copy {
 	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
 	 * source storage are copied into positions {@code destPos} through 
 	 * {@code destPos+length-1}, respectively, of the destination storage.
-	 * 
-	 * <p>Offlimits bits are read as 0, and discarded when written to.
-	 * </p>
 	 *
 	 * @param source the source storage.
 	 * @param srcPos starting bit in the source storage.
@@ -179,19 +230,8 @@ public class Copy {
 	 *
 	 * @since 1.0.0
 	 */
-	public static void safeCopyFrom(byte[] source, int srcPos, byte[] dest, int destPos, int length) {
-		safeCopyFrom0(source, byRef(srcPos), dest, byRef(destPos), byRef(length));
-	}
-
-	private static void safeCopyFrom0(byte[] source, IntRef srcPos, byte[] dest, IntRef destPos, IntRef length) {
-		IntRef fillLow = byRef(0);
-		IntRef fillHigh = byRef(0);
-		if (!prepareSafeCopy(srcPos, destPos, length, fillLow, fillHigh, dest.length << BYTE_ADDRESS_LINES, source.length << BYTE_ADDRESS_LINES))
-			return;
-		
-		copyFrom(source, srcPos.i, dest, destPos.i, length.i);
-		Store.fill(dest, destPos.i + length.i, destPos.i + length.i + fillHigh.i, false);
-		Store.fill(dest, destPos.i - fillLow.i, destPos.i, false);
+	public static void copyFrom(byte[] source, int srcPos, byte[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
 	}
 
 	/**
@@ -212,338 +252,409 @@ public class Copy {
 	 *
 	 * @since 1.0.0
 	 */
-	public static void copyFrom(byte[] source, int srcPos, byte[] dest, int destPos, int length) {
-		if (!checkSafeIndices(srcPos, destPos, length, source.length << BYTE_ADDRESS_LINES, dest.length << BYTE_ADDRESS_LINES))
+	public static void copyFrom(byte[] source, long srcPos, byte[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << BYTE_ADDRESS_LINES, (long) dest.length << BYTE_ADDRESS_LINES))
 			return;
 		
-		int[] sIndex  = {srcPos  >> BYTE_ADDRESS_LINES, (srcPos  + length) >> BYTE_ADDRESS_LINES};
-		int[] sOffset = {srcPos  & BYTE_ADDRESS_MASK,   (srcPos  + length) & BYTE_ADDRESS_MASK  };
+		int sIndex0 = (int) (srcPos >> BYTE_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> BYTE_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & BYTE_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & BYTE_ADDRESS_MASK;
 		
-		int[] dIndex  = {destPos >> BYTE_ADDRESS_LINES, (destPos + length) >> BYTE_ADDRESS_LINES};
-		int[] dOffset = {destPos & BYTE_ADDRESS_MASK,   (destPos + length) & BYTE_ADDRESS_MASK  };
+		int dIndex0 = (int) (destPos >> BYTE_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> BYTE_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & BYTE_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & BYTE_ADDRESS_MASK;
 
-		if (sOffset[0] == dOffset[0])
+		if (sOffset0 == dOffset0)
 			// FAST PATH: handle both ends specially, copy middle unchanged
-			copyParallelFrom0(source, dest, sIndex, dIndex, dOffset);
-		else if (sOffset[0] < dOffset[0])
-			copyHigherFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else /* if (sOffset[0] > dOffset[0]) */
-			copyLowerFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			copyHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			copyLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage, in 
+	 * parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelCopyFrom(byte[], long, byte[], long, long, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 *
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelCopyFrom(byte[] source, long srcPos, byte[] dest, long destPos, long length) {
+		parallelCopyFrom(source, srcPos, dest, destPos, length, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage, in 
+	 * parallel. The result is the same as 
+	 * {@link #copyFrom(byte[], long, byte[], long, long)}.
+	 * 
+	 * <p>The destination region is split on element boundaries into pieces of 
+	 * about {@code grain} bits, which are copied concurrently by the threads 
+	 * of {@code pool}; partial elements at either end are handled by the 
+	 * sequential code. If source and destination regions overlap (within the 
+	 * same storage) the whole region is copied sequentially.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelCopyFrom(final byte[] source, final long srcPos, final byte[] dest, final long destPos, long length, ForkJoinPool pool, long grain) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << BYTE_ADDRESS_LINES, (long) dest.length << BYTE_ADDRESS_LINES))
+			return;
+		
+		if (source == dest && srcPos < destPos + length && destPos < srcPos + length) {
+			copyFrom(source, srcPos, dest, destPos, length);
+			return;
+		}
+		
+		Parallel.invoke(pool, grain, BYTE_ADDRESS_LINES, destPos, destPos + length, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				copyFrom(source, srcPos + (from - destPos), dest, from, to - from);
+				return 0;
+			}
+		});
 	}
 
-	private static void copyParallelFrom0(byte[] source, byte[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dIndex[1] == dIndex[0]) {
+	private static void copyParallelFrom0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
 			// special case: subword copy within word and neither offset is zero
 			
-			final int LOWEST_BITS_FROM = ~(BYTE_DATA_MASK << dOffset[0]);
-			final int HIGHEST_BITS_TO = BYTE_DATA_MASK << dOffset[1];
+			final int LOWEST_BITS_FROM = ~(BYTE_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = BYTE_DATA_MASK << dOffset1;
 
-			byte save = (byte) (source[sIndex[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
-			dest[dIndex[0]] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
-			dest[dIndex[0]] |= save;
+			byte save = (byte) (source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
+			dest[dIndex0] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
+			dest[dIndex0] |= save;
 
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyParallelFromBackwards0(source, dest, sIndex, dIndex, dOffset);
+			copyParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyParallelFromForwards0(byte[] source, byte[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
+	private static void copyParallelFromForwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		byte save;
 		
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset0;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = (byte) (source[sIndex[0]] & HIGHEST_BITS);
-			dest[dIndex[0]] &= LOWEST_BITS;
-			dest[dIndex[0]] |= save;
+			save = (byte) (source[sIndex0] & HIGHEST_BITS);
+			dest[dIndex0] &= LOWEST_BITS;
+			dest[dIndex0] |= save;
 			
 			// first index already taken care of
-			sIndex[0]++;
-			dIndex[0]++;
+			sIndex0++;
+			dIndex0++;
 		}
 
-		if (dIndex[1] > dIndex[0])
+		if (dIndex1 > dIndex0)
 			// main bulk copy (FASTEST PATH if no end should be handled specially)
-		    System.arraycopy(source, sIndex[0], dest, dIndex[0], dIndex[1]-dIndex[0]);
+		    System.arraycopy(source, sIndex0, dest, dIndex0, dIndex1-dIndex0);
 
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = (byte) (source[sIndex[1]] & LOWEST_BITS);
-			dest[dIndex[1]] &= HIGHEST_BITS;
-			dest[dIndex[1]] |= save;
+			save = (byte) (source[sIndex1] & LOWEST_BITS);
+			dest[dIndex1] &= HIGHEST_BITS;
+			dest[dIndex1] |= save;
 		}
 	}
 
-	private static void copyParallelFromBackwards0(byte[] source, byte[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
+	private static void copyParallelFromBackwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		byte save;
 		
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = (byte) (source[sIndex[1]] & LOWEST_BITS);
-			dest[dIndex[1]] &= HIGHEST_BITS;
-			dest[dIndex[1]] |= save;
+			save = (byte) (source[sIndex1] & LOWEST_BITS);
+			dest[dIndex1] &= HIGHEST_BITS;
+			dest[dIndex1] |= save;
 			
 		}
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// don't copy the first index if partial
-			dIndex[0]++;
-			sIndex[0]++;
+			dIndex0++;
+			sIndex0++;
 		}
 		
-		if (dIndex[1] > dIndex[0])
+		if (dIndex1 > dIndex0)
 			// main bulk copy (FASTEST PATH if no end should be handled specially)
-		    System.arraycopy(source, sIndex[0], dest, dIndex[0], dIndex[1]-dIndex[0]);
+		    System.arraycopy(source, sIndex0, dest, dIndex0, dIndex1-dIndex0);
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
-			dIndex[0]--;
-			sIndex[0]--;
+			dIndex0--;
+			sIndex0--;
 			
-			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset0;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = (byte) (source[sIndex[0]] & HIGHEST_BITS);
-			dest[dIndex[0]] &= LOWEST_BITS;
-			dest[dIndex[0]] |= save;
+			save = (byte) (source[sIndex0] & HIGHEST_BITS);
+			dest[dIndex0] &= LOWEST_BITS;
+			dest[dIndex0] |= save;
 		}
 	}
 
-	private static void copyHigherFrom0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (dIndex[0] == dIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
-			// At this point dIndex[0] == dIndex[1] AND sOffset[0] < dOffset[0].
-			// This implies that sIndex[0] == sIndex[1] (so there is no need to copy more than 1 chunk).
+	private static void copyHigherFrom0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to copy more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			byte save = (byte) ((source[s] << dOffset[0] - sOffset[0]) & ~(BYTE_DATA_MASK << dOffset[1]) & BYTE_DATA_MASK << dOffset[0]);
-			dest[d] &= BYTE_DATA_MASK << dOffset[1] | ~(BYTE_DATA_MASK << dOffset[0]);
+			byte save = (byte) ((source[s] << dOffset0 - sOffset0) & ~(BYTE_DATA_MASK << dOffset1) & BYTE_DATA_MASK << dOffset0);
+			dest[d] &= BYTE_DATA_MASK << dOffset1 | ~(BYTE_DATA_MASK << dOffset0);
 			dest[d] |= save;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyHigherFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 	
-	private static void copyHigherFromForwards0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyHigherFromForwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		byte save;
 		
-		int d = dIndex[0];
-		int s = sIndex[0];
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~(BYTE_DATA_MASK << dOffset[0]);
+		save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0);
+		dest[d] &= ~(BYTE_DATA_MASK << dOffset0);
 		dest[d] |= save; 
 
-		while(++d < dIndex[1]) {
-			save = (byte) ((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]));
-			dest[d] &= ~(BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]));
+		while(++d < dIndex1) {
+			save = (byte) ((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+			dest[d] &= ~(BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
 			dest[d] |= save;
 
 			++s;
 
-			save = (byte) (source[s] << dOffset[0] - sOffset[0]);
-			dest[d] &= BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]);
+			save = (byte) (source[s] << dOffset0 - sOffset0);
+			dest[d] &= BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset0 - sOffset0);
 			dest[d] |= save;
 		}
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				save = (byte) ((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset[1])) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= BYTE_DATA_MASK << dOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				save = (byte) ((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= BYTE_DATA_MASK << dOffset1;
 				dest[d] |= save;
-			} else /* dOffset[1] > sOffset[1] */ {
-				save = (byte) ((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= ~(BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]));
+			} else /* dOffset1 > sOffset1 */ {
+				save = (byte) ((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= ~(BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
 				dest[d] |= save;
 				
-				if (sOffset[1] > 0) {
+				if (sOffset1 > 0) {
 					s++;
 					
-					save = (byte) ((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-					dest[d] &= BYTE_DATA_MASK << dOffset[1] | BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset[1] - sOffset[1]);
+					save = (byte) ((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+					dest[d] &= BYTE_DATA_MASK << dOffset1 | BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset1 - sOffset1);
 					dest[d] |= save;
 				}
 			}
 		}
 	}
 
-	private static void copyHigherFromBackwards0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyHigherFromBackwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		byte save;
 		
-		int d = dIndex[1];
-		int s = sIndex[1];
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				save = (byte) ((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset[1])) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= BYTE_DATA_MASK << dOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				save = (byte) ((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= BYTE_DATA_MASK << dOffset1;
 				dest[d] |= save;
-			} else /* dOffset[1] > sOffset[1] */ {
-				if (sOffset[1] > 0) {
-					save = (byte) ((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-					dest[d] &= BYTE_DATA_MASK << dOffset[1] | BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset[1] - sOffset[1]);
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					save = (byte) ((source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+					dest[d] &= BYTE_DATA_MASK << dOffset1 | BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset1 - sOffset1);
 					dest[d] |= save;
 				}
 				
 				s--;
 				
-				save = (byte) ((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= ~(BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]));
+				save = (byte) ((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= ~(BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
 				dest[d] |= save;
 			}
 		}
 
-		while(--d > dIndex[0]) {
-			save = (byte) (source[s] << dOffset[0] - sOffset[0]);
-			dest[d] &= BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]);
+		while(--d > dIndex0) {
+			save = (byte) (source[s] << dOffset0 - sOffset0);
+			dest[d] &= BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset0 - sOffset0);
 			dest[d] |= save;
 
 			--s;
 
-			save = (byte) ((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]));
-			dest[d] &= ~(BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]));
+			save = (byte) ((source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
+			dest[d] &= ~(BYTE_DATA_MASK >>> BYTE_DATA_LINES - (dOffset0 - sOffset0));
 			dest[d] |= save;
 		}
 
-		save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~(BYTE_DATA_MASK << dOffset[0]);
+		save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0);
+		dest[d] &= ~(BYTE_DATA_MASK << dOffset0);
 		dest[d] |= save; 
 	}
 	
-	private static void copyLowerFrom0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (sIndex[0] == sIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void copyLowerFrom0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 			
-			// At this point sIndex[0] == sIndex[1] AND sOffset[0] > dOffset[0].
-			// This implies that dIndex[0] == dIndex[1] (so there is no need to copy more than 1 chunk).
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to copy more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			byte save = (byte) ((source[s] & BYTE_DATA_MASK) >>> (sOffset[0] - dOffset[0]) & ~(BYTE_DATA_MASK << dOffset[1]) & BYTE_DATA_MASK << dOffset[0]);
-			dest[d] &= BYTE_DATA_MASK << dOffset[1] | ~(BYTE_DATA_MASK << dOffset[0]);
+			byte save = (byte) ((source[s] & BYTE_DATA_MASK) >>> (sOffset0 - dOffset0) & ~(BYTE_DATA_MASK << dOffset1) & BYTE_DATA_MASK << dOffset0);
+			dest[d] &= BYTE_DATA_MASK << dOffset1 | ~(BYTE_DATA_MASK << dOffset0);
 			dest[d] |= save;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyLowerFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 	
-	private static void copyLowerFromForwards0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyLowerFromForwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		byte save;
 		
-		int d = dIndex[0];
-		int s = sIndex[0];
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~((BYTE_DATA_MASK >>> sOffset[0]) << dOffset[0]);
+		save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0);
+		dest[d] &= ~((BYTE_DATA_MASK >>> sOffset0) << dOffset0);
 		dest[d] |= save;
 
-		while(++s < sIndex[1]) {
-			save = (byte) (source[s] << BYTE_DATA_LINES - (sOffset[0] - dOffset[0]));
-			dest[d] &= BYTE_DATA_MASK >>> sOffset[0] - dOffset[0];
+		while(++s < sIndex1) {
+			save = (byte) (source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0));
+			dest[d] &= BYTE_DATA_MASK >>> sOffset0 - dOffset0;
 			dest[d] |= save;
 
 			++d;
 
-			save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset[0] - dOffset[0]);
-			dest[d] &= ~(BYTE_DATA_MASK >>> sOffset[0] - dOffset[0]);
+			save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset0 - dOffset0);
+			dest[d] &= ~(BYTE_DATA_MASK >>> sOffset0 - dOffset0);
 			dest[d] |= save;
 		}
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				save = (byte) ((source[s] & ~(BYTE_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-				dest[d] &= ~(~(BYTE_DATA_MASK << sOffset[1]) << dOffset[1] - sOffset[1]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				save = (byte) ((source[s] & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				dest[d] &= ~(~(BYTE_DATA_MASK << sOffset1) << dOffset1 - sOffset1);
 				dest[d] |= save;
-			} else /* dOffset[1] < sOffset[1] */ {
-				save = (byte) (source[s] << BYTE_DATA_LINES - (sOffset[0] - dOffset[0]));
-				dest[d] &= BYTE_DATA_MASK >>> sOffset[0] - dOffset[0];
+			} else /* dOffset1 < sOffset1 */ {
+				save = (byte) (source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0));
+				dest[d] &= BYTE_DATA_MASK >>> sOffset0 - dOffset0;
 				dest[d] |= save;
 				
-				if (dOffset[1] > 0) {
+				if (dOffset1 > 0) {
 					d++;
 					
-					save = (byte) ((source[s] & ~(BYTE_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0]);
-					dest[d] &= ~(~(BYTE_DATA_MASK << sOffset[1]) >>> sOffset[0] - dOffset[0]);
+					save = (byte) ((source[s] & ~(BYTE_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+					dest[d] &= ~(~(BYTE_DATA_MASK << sOffset1) >>> sOffset0 - dOffset0);
 					dest[d] |= save;
 				}
 			}
 		}
 	}
 
-	private static void copyLowerFromBackwards0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyLowerFromBackwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		byte save;
 		
-		int d = dIndex[1];
-		int s = sIndex[1];
+		int d = dIndex1;
+		int s = sIndex1;
 
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				save = (byte) ((source[s] & ~(BYTE_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-				dest[d] &= ~(~(BYTE_DATA_MASK << sOffset[1]) << dOffset[1] - sOffset[1]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				save = (byte) ((source[s] & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				dest[d] &= ~(~(BYTE_DATA_MASK << sOffset1) << dOffset1 - sOffset1);
 				dest[d] |= save;
-			} else /* dOffset[1] < sOffset[1] */ {
-				if (dOffset[1] > 0) {
-					save = (byte) ((source[s] & ~(BYTE_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0]);
-					dest[d] &= ~(~(BYTE_DATA_MASK << sOffset[1]) >>> sOffset[0] - dOffset[0]);
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					save = (byte) ((source[s] & ~(BYTE_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+					dest[d] &= ~(~(BYTE_DATA_MASK << sOffset1) >>> sOffset0 - dOffset0);
 					dest[d] |= save;
 				}
 				
 				d--;
 				
-				save = (byte) (source[s] << BYTE_DATA_LINES - (sOffset[0] - dOffset[0]));
-				dest[d] &= BYTE_DATA_MASK >>> sOffset[0] - dOffset[0];
+				save = (byte) (source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0));
+				dest[d] &= BYTE_DATA_MASK >>> sOffset0 - dOffset0;
 				dest[d] |= save;
 			}
 		}
 
-		while(--s > sIndex[0]) {
-			save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset[0] - dOffset[0]);
-			dest[d] &= ~(BYTE_DATA_MASK >>> sOffset[0] - dOffset[0]);
+		while(--s > sIndex0) {
+			save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset0 - dOffset0);
+			dest[d] &= ~(BYTE_DATA_MASK >>> sOffset0 - dOffset0);
 			dest[d] |= save;
 
 			--d;
 
-			save = (byte) (source[s] << BYTE_DATA_LINES - (sOffset[0] - dOffset[0]));
-			dest[d] &= BYTE_DATA_MASK >>> sOffset[0] - dOffset[0];
+			save = (byte) (source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0));
+			dest[d] &= BYTE_DATA_MASK >>> sOffset0 - dOffset0;
 			dest[d] |= save;
 		}
 		
-		save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~((BYTE_DATA_MASK >>> sOffset[0]) << dOffset[0]);
+		save = (byte) ((source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0);
+		dest[d] &= ~((BYTE_DATA_MASK >>> sOffset0) << dOffset0);
 		dest[d] |= save;
 	}
 
@@ -571,18 +682,81 @@ public class Copy {
 	 * @since 1.0.0
 	 */
 	public static void safeCopyFrom(char[] source, int srcPos, char[] dest, int destPos, int length) {
-		safeCopyFrom0(source, byRef(srcPos), dest, byRef(destPos), byRef(length));
+		safeCopyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
 	}
 
-	private static void safeCopyFrom0(char[] source, IntRef srcPos, char[] dest, IntRef destPos, IntRef length) {
-		IntRef fillLow = byRef(0);
-		IntRef fillHigh = byRef(0);
-		if (!prepareSafeCopy(srcPos, destPos, length, fillLow, fillHigh, dest.length << CHAR_ADDRESS_LINES, source.length << CHAR_ADDRESS_LINES))
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Offlimits bits are read as 0, and discarded when written to.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void safeCopyFrom(char[] source, long srcPos, char[] dest, long destPos, long length) {
+		if (length == 0)
+			return;
+		
+		if (length < 0)
+			throw new IllegalArgumentException();
+		
+		final long maxDest = (long) dest.length << CHAR_ADDRESS_LINES;
+		final long maxSource = (long) source.length << CHAR_ADDRESS_LINES;
+		
+		if (!(destPos < maxDest && destPos + length > 0))
 			return;
+
+		// fix destination starting point out of range 
+		if (destPos < 0) {
+			length -= -destPos;
+			srcPos += -destPos;
+			destPos = 0;
+		}
+		
+		// fix destination ending point out of range
+		if (destPos + length > maxDest)
+			length -= (destPos + length) - maxDest;
+		
+		long fillLow = 0;
+		long fillHigh = 0;
+		
+		if (!(srcPos < maxSource && srcPos + length > 0)) {
+			fillHigh = length;
+			length = 0;
+			srcPos = 0;
+		} else {
+			// fix source starting point out of range
+			if (srcPos < 0) {
+				fillLow = -srcPos;
+				
+				length -= fillLow;
+				destPos += fillLow;
+				srcPos = 0;
+			}
+			
+			// fix source ending point out of range
+			if (srcPos + length > maxSource) {
+				fillHigh = (srcPos + length) - maxSource;
+				length -= fillHigh;
+			}
+		}
 		
-		copyFrom(source, srcPos.i, dest, destPos.i, length.i);
-		Store.fill(dest, destPos.i + length.i, destPos.i + length.i + fillHigh.i, false);
-		Store.fill(dest, destPos.i - fillLow.i, destPos.i, false);
+		copyFrom(source, srcPos, dest, destPos, length);
+		Store.fill(dest, destPos + length, destPos + length + fillHigh, false);
+		Store.fill(dest, destPos - fillLow, destPos, false);
 	}
 
 	/**
@@ -604,338 +778,431 @@ public class Copy {
 	 * @since 1.0.0
 	 */
 	public static void copyFrom(char[] source, int srcPos, char[] dest, int destPos, int length) {
-		if (!checkSafeIndices(srcPos, destPos, length, source.length << CHAR_ADDRESS_LINES, dest.length << CHAR_ADDRESS_LINES))
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(char[] source, long srcPos, char[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << CHAR_ADDRESS_LINES, (long) dest.length << CHAR_ADDRESS_LINES))
 			return;
 		
-		int[] sIndex  = {srcPos  >> CHAR_ADDRESS_LINES, (srcPos  + length) >> CHAR_ADDRESS_LINES};
-		int[] sOffset = {srcPos  & CHAR_ADDRESS_MASK,   (srcPos  + length) & CHAR_ADDRESS_MASK  };
+		int sIndex0 = (int) (srcPos >> CHAR_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> CHAR_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & CHAR_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & CHAR_ADDRESS_MASK;
 		
-		int[] dIndex  = {destPos >> CHAR_ADDRESS_LINES, (destPos + length) >> CHAR_ADDRESS_LINES};
-		int[] dOffset = {destPos & CHAR_ADDRESS_MASK,   (destPos + length) & CHAR_ADDRESS_MASK  };
+		int dIndex0 = (int) (destPos >> CHAR_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> CHAR_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & CHAR_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & CHAR_ADDRESS_MASK;
 		
-		if (sOffset[0] == dOffset[0])
+		if (sOffset0 == dOffset0)
 			// FAST PATH: handle both ends specially, copy middle unchanged
-			copyParallelFrom0(source, dest, sIndex, dIndex, dOffset);
-		else if (sOffset[0] < dOffset[0])
-			copyHigherFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else /* if (sOffset[0] > dOffset[0]) */
-			copyLowerFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			copyHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			copyLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage, in 
+	 * parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelCopyFrom(char[], long, char[], long, long, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 *
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelCopyFrom(char[] source, long srcPos, char[] dest, long destPos, long length) {
+		parallelCopyFrom(source, srcPos, dest, destPos, length, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage, in 
+	 * parallel. The result is the same as 
+	 * {@link #copyFrom(char[], long, char[], long, long)}.
+	 * 
+	 * <p>The destination region is split on element boundaries into pieces of 
+	 * about {@code grain} bits, which are copied concurrently by the threads 
+	 * of {@code pool}; partial elements at either end are handled by the 
+	 * sequential code. If source and destination regions overlap (within the 
+	 * same storage) the whole region is copied sequentially.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelCopyFrom(final char[] source, final long srcPos, final char[] dest, final long destPos, long length, ForkJoinPool pool, long grain) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << CHAR_ADDRESS_LINES, (long) dest.length << CHAR_ADDRESS_LINES))
+			return;
+		
+		if (source == dest && srcPos < destPos + length && destPos < srcPos + length) {
+			copyFrom(source, srcPos, dest, destPos, length);
+			return;
+		}
+		
+		Parallel.invoke(pool, grain, CHAR_ADDRESS_LINES, destPos, destPos + length, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				copyFrom(source, srcPos + (from - destPos), dest, from, to - from);
+				return 0;
+			}
+		});
 	}
 
-	private static void copyParallelFrom0(char[] source, char[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dIndex[1] == dIndex[0]) {
+	private static void copyParallelFrom0(char[] source, char[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
 			// special case: subword copy within word and neither offset is zero
 			
-			final int LOWEST_BITS_FROM = ~(CHAR_DATA_MASK << dOffset[0]);
-			final int HIGHEST_BITS_TO = CHAR_DATA_MASK << dOffset[1];
+			final int LOWEST_BITS_FROM = ~(CHAR_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = CHAR_DATA_MASK << dOffset1;
 
-			char save = (char) (source[sIndex[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
-			dest[dIndex[0]] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
-			dest[dIndex[0]] |= save;
+			char save = (char) (source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
+			dest[dIndex0] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
+			dest[dIndex0] |= save;
 
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyParallelFromBackwards0(source, dest, sIndex, dIndex, dOffset);
+			copyParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyParallelFromForwards0(char[] source, char[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
+	private static void copyParallelFromForwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		char save;
 		
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset0;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = (char) (source[sIndex[0]] & HIGHEST_BITS);
-			dest[dIndex[0]] &= LOWEST_BITS;
-			dest[dIndex[0]] |= save;
+			save = (char) (source[sIndex0] & HIGHEST_BITS);
+			dest[dIndex0] &= LOWEST_BITS;
+			dest[dIndex0] |= save;
 			
 			// first index already taken care of
-			sIndex[0]++;
-			dIndex[0]++;
+			sIndex0++;
+			dIndex0++;
 		}
 
-		if (dIndex[1] > dIndex[0])
+		if (dIndex1 > dIndex0)
 			// main bulk copy (FASTEST PATH if no end should be handled specially)
-		    System.arraycopy(source, sIndex[0], dest, dIndex[0], dIndex[1]-dIndex[0]);
+		    System.arraycopy(source, sIndex0, dest, dIndex0, dIndex1-dIndex0);
 
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = (char) (source[sIndex[1]] & LOWEST_BITS);
-			dest[dIndex[1]] &= HIGHEST_BITS;
-			dest[dIndex[1]] |= save;
+			save = (char) (source[sIndex1] & LOWEST_BITS);
+			dest[dIndex1] &= HIGHEST_BITS;
+			dest[dIndex1] |= save;
 		}
 	}
 
-	private static void copyParallelFromBackwards0(char[] source, char[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
+	private static void copyParallelFromBackwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		char save;
 		
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = (char) (source[sIndex[1]] & LOWEST_BITS);
-			dest[dIndex[1]] &= HIGHEST_BITS;
-			dest[dIndex[1]] |= save;
+			save = (char) (source[sIndex1] & LOWEST_BITS);
+			dest[dIndex1] &= HIGHEST_BITS;
+			dest[dIndex1] |= save;
 		}
 		
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// don't copy the first index if partial
-			dIndex[0]++;
-			sIndex[0]++;
+			dIndex0++;
+			sIndex0++;
 		}
 		
-		if (dIndex[1] > dIndex[0])
+		if (dIndex1 > dIndex0)
 			// main bulk copy (FASTEST PATH if no end should be handled specially)
-		    System.arraycopy(source, sIndex[0], dest, dIndex[0], dIndex[1]-dIndex[0]);
+		    System.arraycopy(source, sIndex0, dest, dIndex0, dIndex1-dIndex0);
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
-			sIndex[0]--;
-			dIndex[0]--;
+			sIndex0--;
+			dIndex0--;
 			
-			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset0;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = (char) (source[sIndex[0]] & HIGHEST_BITS);
-			dest[dIndex[0]] &= LOWEST_BITS;
-			dest[dIndex[0]] |= save;
+			save = (char) (source[sIndex0] & HIGHEST_BITS);
+			dest[dIndex0] &= LOWEST_BITS;
+			dest[dIndex0] |= save;
 		}
 
 	}
 
-	private static void copyHigherFrom0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (dIndex[0] == dIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void copyHigherFrom0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 					
-			// At this point dIndex[0] == dIndex[1] AND sOffset[0] < dOffset[0].
-			// This implies that sIndex[0] == sIndex[1] (so there is no need to copy more than 1 chunk).
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to copy more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			char save = (char) ((source[s] << dOffset[0] - sOffset[0]) & ~(CHAR_DATA_MASK << dOffset[1]) & CHAR_DATA_MASK << dOffset[0]);
-			dest[d] &= CHAR_DATA_MASK << dOffset[1] | ~(CHAR_DATA_MASK << dOffset[0]);
+			char save = (char) ((source[s] << dOffset0 - sOffset0) & ~(CHAR_DATA_MASK << dOffset1) & CHAR_DATA_MASK << dOffset0);
+			dest[d] &= CHAR_DATA_MASK << dOffset1 | ~(CHAR_DATA_MASK << dOffset0);
 			dest[d] |= save;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyHigherFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyHigherFromForwards0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyHigherFromForwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		char save;
 		
-		int d = dIndex[0];
-		int s = sIndex[0];
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		save = (char) (source[s] >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~(CHAR_DATA_MASK << dOffset[0]);
+		save = (char) (source[s] >>> sOffset0 << dOffset0);
+		dest[d] &= ~(CHAR_DATA_MASK << dOffset0);
 		dest[d] |= save; 
 
-		while(++d < dIndex[1]) {
-			save = (char) (source[s] >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]));
-			dest[d] &= ~(CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]));
+		while(++d < dIndex1) {
+			save = (char) (source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+			dest[d] &= ~(CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
 			dest[d] |= save;
 
 			++s;
 
-			save = (char) (source[s] << dOffset[0] - sOffset[0]);
-			dest[d] &= CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]);
+			save = (char) (source[s] << dOffset0 - sOffset0);
+			dest[d] &= CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset0 - sOffset0);
 			dest[d] |= save;
 		}
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset[1])) >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= CHAR_DATA_MASK << dOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= CHAR_DATA_MASK << dOffset1;
 				dest[d] |= save;
-			} else /* dOffset[1] > sOffset[1] */ {
-				save = (char) (source[s] >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= ~(CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]));
+			} else /* dOffset1 > sOffset1 */ {
+				save = (char) (source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= ~(CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
 				dest[d] |= save;
 				
-				if (sOffset[1] > 0) {
+				if (sOffset1 > 0) {
 					s++;
 					
-					save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-					dest[d] &= CHAR_DATA_MASK << dOffset[1] | CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset[1] - sOffset[1]);
+					save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+					dest[d] &= CHAR_DATA_MASK << dOffset1 | CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset1 - sOffset1);
 					dest[d] |= save;
 				}
 			}
 		}
 	}
 
-	private static void copyHigherFromBackwards0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyHigherFromBackwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		char save;
 		
-		int d = dIndex[1];
-		int s = sIndex[1];
+		int d = dIndex1;
+		int s = sIndex1;
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset[1])) >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= CHAR_DATA_MASK << dOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= CHAR_DATA_MASK << dOffset1;
 				dest[d] |= save;
-			} else /* dOffset[1] > sOffset[1] */ {
-				if (sOffset[1] > 0) {
-					save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-					dest[d] &= CHAR_DATA_MASK << dOffset[1] | CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset[1] - sOffset[1]);
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+					dest[d] &= CHAR_DATA_MASK << dOffset1 | CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset1 - sOffset1);
 					dest[d] |= save;
 				}
 				
 				s--;
 				
-				save = (char) (source[s] >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= ~(CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]));
+				save = (char) (source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= ~(CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
 				dest[d] |= save;
 			}
 		}
 		
-		while(--d > dIndex[0]) {
-			save = (char) (source[s] << dOffset[0] - sOffset[0]);
-			dest[d] &= CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]);
+		while(--d > dIndex0) {
+			save = (char) (source[s] << dOffset0 - sOffset0);
+			dest[d] &= CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset0 - sOffset0);
 			dest[d] |= save;
 
 			--s;
 
-			save = (char) (source[s] >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]));
-			dest[d] &= ~(CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]));
+			save = (char) (source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
+			dest[d] &= ~(CHAR_DATA_MASK >>> CHAR_DATA_LINES - (dOffset0 - sOffset0));
 			dest[d] |= save;
 		}
 
-		save = (char) (source[s] >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~(CHAR_DATA_MASK << dOffset[0]);
+		save = (char) (source[s] >>> sOffset0 << dOffset0);
+		dest[d] &= ~(CHAR_DATA_MASK << dOffset0);
 		dest[d] |= save; 
 	}
 
-	private static void copyLowerFrom0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (sIndex[0] == sIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void copyLowerFrom0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 			
-			// At this point sIndex[0] == sIndex[1] AND sOffset[0] > dOffset[0].
-			// This implies that dIndex[0] == dIndex[1] (so there is no need to copy more than 1 chunk).
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to copy more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			char save = (char) (source[s] >>> (sOffset[0] - dOffset[0]) & ~(CHAR_DATA_MASK << dOffset[1]) & CHAR_DATA_MASK << dOffset[0]);
-			dest[d] &= CHAR_DATA_MASK << dOffset[1] | ~(CHAR_DATA_MASK << dOffset[0]);
+			char save = (char) (source[s] >>> (sOffset0 - dOffset0) & ~(CHAR_DATA_MASK << dOffset1) & CHAR_DATA_MASK << dOffset0);
+			dest[d] &= CHAR_DATA_MASK << dOffset1 | ~(CHAR_DATA_MASK << dOffset0);
 			dest[d] |= save;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyLowerFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyLowerFromForwards0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyLowerFromForwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		char save;
 		
-		int d = dIndex[0];
-		int s = sIndex[0];
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		save = (char) (source[s] >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~((CHAR_DATA_MASK >>> sOffset[0]) << dOffset[0]);
+		save = (char) (source[s] >>> sOffset0 << dOffset0);
+		dest[d] &= ~((CHAR_DATA_MASK >>> sOffset0) << dOffset0);
 		dest[d] |= save;
 
-		while(++s < sIndex[1]) {
-			save = (char) (source[s] << CHAR_DATA_LINES - (sOffset[0] - dOffset[0]));
-			dest[d] &= CHAR_DATA_MASK >>> sOffset[0] - dOffset[0];
+		while(++s < sIndex1) {
+			save = (char) (source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0));
+			dest[d] &= CHAR_DATA_MASK >>> sOffset0 - dOffset0;
 			dest[d] |= save;
 
 			++d;
 
-			save = (char) (source[s] >>> sOffset[0] - dOffset[0]);
-			dest[d] &= ~(CHAR_DATA_MASK >>> sOffset[0] - dOffset[0]);
+			save = (char) (source[s] >>> sOffset0 - dOffset0);
+			dest[d] &= ~(CHAR_DATA_MASK >>> sOffset0 - dOffset0);
 			dest[d] |= save;
 		}
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-				dest[d] &= ~(~(CHAR_DATA_MASK << sOffset[1]) << dOffset[1] - sOffset[1]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				dest[d] &= ~(~(CHAR_DATA_MASK << sOffset1) << dOffset1 - sOffset1);
 				dest[d] |= save;
-			} else /* dOffset[1] < sOffset[1] */ {
-				save = (char) (source[s] << CHAR_DATA_LINES - (sOffset[0] - dOffset[0]));
-				dest[d] &= CHAR_DATA_MASK >>> sOffset[0] - dOffset[0];
+			} else /* dOffset1 < sOffset1 */ {
+				save = (char) (source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0));
+				dest[d] &= CHAR_DATA_MASK >>> sOffset0 - dOffset0;
 				dest[d] |= save;
 				
-				if (dOffset[1] > 0) {
+				if (dOffset1 > 0) {
 					d++;
 					
-					save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0]);
-					dest[d] &= ~(~(CHAR_DATA_MASK << sOffset[1]) >>> sOffset[0] - dOffset[0]);
+					save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+					dest[d] &= ~(~(CHAR_DATA_MASK << sOffset1) >>> sOffset0 - dOffset0);
 					dest[d] |= save;
 				}
 			}
 		}
 	}
 
-	private static void copyLowerFromBackwards0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyLowerFromBackwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		char save;
 		
-		int d = dIndex[1];
-		int s = sIndex[1];
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-				dest[d] &= ~(~(CHAR_DATA_MASK << sOffset[1]) << dOffset[1] - sOffset[1]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				dest[d] &= ~(~(CHAR_DATA_MASK << sOffset1) << dOffset1 - sOffset1);
 				dest[d] |= save;
-			} else /* dOffset[1] < sOffset[1] */ {
-				if (dOffset[1] > 0) {
-					save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0]);
-					dest[d] &= ~(~(CHAR_DATA_MASK << sOffset[1]) >>> sOffset[0] - dOffset[0]);
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					save = (char) ((source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+					dest[d] &= ~(~(CHAR_DATA_MASK << sOffset1) >>> sOffset0 - dOffset0);
 					dest[d] |= save;
 				}
 				
 				d--;
 				
-				save = (char) (source[s] << CHAR_DATA_LINES - (sOffset[0] - dOffset[0]));
-				dest[d] &= CHAR_DATA_MASK >>> sOffset[0] - dOffset[0];
+				save = (char) (source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0));
+				dest[d] &= CHAR_DATA_MASK >>> sOffset0 - dOffset0;
 				dest[d] |= save;
 			}
 		}
 
-		while(--s > sIndex[0]) {
-			save = (char) (source[s] >>> sOffset[0] - dOffset[0]);
-			dest[d] &= ~(CHAR_DATA_MASK >>> sOffset[0] - dOffset[0]);
+		while(--s > sIndex0) {
+			save = (char) (source[s] >>> sOffset0 - dOffset0);
+			dest[d] &= ~(CHAR_DATA_MASK >>> sOffset0 - dOffset0);
 			dest[d] |= save;
 
 			--d;
 
-			save = (char) (source[s] << CHAR_DATA_LINES - (sOffset[0] - dOffset[0]));
-			dest[d] &= CHAR_DATA_MASK >>> sOffset[0] - dOffset[0];
+			save = (char) (source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0));
+			dest[d] &= CHAR_DATA_MASK >>> sOffset0 - dOffset0;
 			dest[d] |= save;
 		}
 		
-		save = (char) (source[s] >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~((CHAR_DATA_MASK >>> sOffset[0]) << dOffset[0]);
+		save = (char) (source[s] >>> sOffset0 << dOffset0);
+		dest[d] &= ~((CHAR_DATA_MASK >>> sOffset0) << dOffset0);
 		dest[d] |= save;
 	}
 
@@ -963,18 +1230,7 @@ public class Copy {
 	 * @since 1.0.0
 	 */
 	public static void safeCopyFrom(short[] source, int srcPos, short[] dest, int destPos, int length) {
-		safeCopyFrom0(source, byRef(srcPos), dest, byRef(destPos), byRef(length));
-	}
-
-	private static void safeCopyFrom0(short[] source, IntRef srcPos, short[] dest, IntRef destPos, IntRef length) {
-		IntRef fillLow = byRef(0);
-		IntRef fillHigh = byRef(0);
-		if (!prepareSafeCopy(srcPos, destPos, length, fillLow, fillHigh, dest.length << SHORT_ADDRESS_LINES, source.length << SHORT_ADDRESS_LINES))
-			return;
-		
-		copyFrom(source, srcPos.i, dest, destPos.i, length.i);
-		Store.fill(dest, destPos.i + length.i, destPos.i + length.i + fillHigh.i, false);
-		Store.fill(dest, destPos.i - fillLow.i, destPos.i, false);
+		safeCopyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
 	}
 
 	/**
@@ -986,6 +1242,9 @@ public class Copy {
 	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
 	 * source storage are copied into positions {@code destPos} through 
 	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Offlimits bits are read as 0, and discarded when written to.
+	 * </p>
 	 *
 	 * @param source the source storage.
 	 * @param srcPos starting bit in the source storage.
@@ -995,339 +1254,503 @@ public class Copy {
 	 *
 	 * @since 1.0.0
 	 */
-	public static void copyFrom(short[] source, int srcPos, short[] dest, int destPos, int length) {
-		if (!checkSafeIndices(srcPos, destPos, length, source.length << SHORT_ADDRESS_LINES, dest.length << SHORT_ADDRESS_LINES))
+	public static void safeCopyFrom(short[] source, long srcPos, short[] dest, long destPos, long length) {
+		if (length == 0)
 			return;
 		
-		int[] sIndex  = {srcPos  >> SHORT_ADDRESS_LINES, (srcPos  + length) >> SHORT_ADDRESS_LINES};
-		int[] sOffset = {srcPos  & SHORT_ADDRESS_MASK,   (srcPos  + length) & SHORT_ADDRESS_MASK  };
+		if (length < 0)
+			throw new IllegalArgumentException();
 		
-		int[] dIndex  = {destPos >> SHORT_ADDRESS_LINES, (destPos + length) >> SHORT_ADDRESS_LINES};
-		int[] dOffset = {destPos & SHORT_ADDRESS_MASK,   (destPos + length) & SHORT_ADDRESS_MASK  };
+		final long maxDest = (long) dest.length << SHORT_ADDRESS_LINES;
+		final long maxSource = (long) source.length << SHORT_ADDRESS_LINES;
 		
-		if (sOffset[0] == dOffset[0])
-			// FAST PATH: handle both ends specially, copy middle unchanged
-			copyParallelFrom0(source, dest, sIndex, dIndex, dOffset);
-		else if (sOffset[0] < dOffset[0])
-			copyHigherFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else /* if (sOffset[0] > dOffset[0]) */
-			copyLowerFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-	}
-
-	private static void copyParallelFrom0(short[] source, short[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dIndex[1] == dIndex[0]) {
-			// special case: subword copy within word and neither offset is zero
-			
-			final int LOWEST_BITS_FROM = ~(SHORT_DATA_MASK << dOffset[0]);
-			final int HIGHEST_BITS_TO = SHORT_DATA_MASK << dOffset[1];
-
-			short save = (short) (source[sIndex[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
-			dest[dIndex[0]] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
-			dest[dIndex[0]] |= save;
-
+		if (!(destPos < maxDest && destPos + length > 0))
 			return;
+
+		// fix destination starting point out of range 
+		if (destPos < 0) {
+			length -= -destPos;
+			srcPos += -destPos;
+			destPos = 0;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else
-			copyParallelFromBackwards0(source, dest, sIndex, dIndex, dOffset);
-	}
-
-	private static void copyParallelFromForwards0(short[] source, short[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		// for the cases where source == dest, so save |red bits, before &ing them
-		short save;
+		// fix destination ending point out of range
+		if (destPos + length > maxDest)
+			length -= (destPos + length) - maxDest;
 		
-		if (dOffset[0] != 0) {
-			// handle "from" end specially
-			
-			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset[0];
-			final int LOWEST_BITS = ~HIGHEST_BITS;
-			
-			save = (short) (source[sIndex[0]] & HIGHEST_BITS);
-			dest[dIndex[0]] &= LOWEST_BITS;
-			dest[dIndex[0]] |= save;
-			
-			// first index already taken care of
-			sIndex[0]++;
-			dIndex[0]++;
-		}
-
-		if (dIndex[1] > dIndex[0])
-			// main bulk copy (FASTEST PATH if no end should be handled specially)
-		    System.arraycopy(source, sIndex[0], dest, dIndex[0], dIndex[1]-dIndex[0]);
-
-		if (dOffset[1] != 0) {
-			// handle "to" end specially
-			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset[1];
-			final int LOWEST_BITS = ~HIGHEST_BITS;
-			
-			save = (short) (source[sIndex[1]] & LOWEST_BITS);
-			dest[dIndex[1]] &= HIGHEST_BITS;
-			dest[dIndex[1]] |= save;
-		}
-	}
-
-	private static void copyParallelFromBackwards0(short[] source, short[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		// for the cases where source == dest, so save |red bits, before &ing them
-		short save;
+		long fillLow = 0;
+		long fillHigh = 0;
 		
-		if (dOffset[1] != 0) {
-			// handle "to" end specially
-			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset[1];
-			final int LOWEST_BITS = ~HIGHEST_BITS;
+		if (!(srcPos < maxSource && srcPos + length > 0)) {
+			fillHigh = length;
+			length = 0;
+			srcPos = 0;
+		} else {
+			// fix source starting point out of range
+			if (srcPos < 0) {
+				fillLow = -srcPos;
+				
+				length -= fillLow;
+				destPos += fillLow;
+				srcPos = 0;
+			}
 			
-			save = (short) (source[sIndex[1]] & LOWEST_BITS);
-			dest[dIndex[1]] &= HIGHEST_BITS;
-			dest[dIndex[1]] |= save;
+			// fix source ending point out of range
+			if (srcPos + length > maxSource) {
+				fillHigh = (srcPos + length) - maxSource;
+				length -= fillHigh;
+			}
 		}
 		
-		if (dOffset[0] != 0) {
-			// don't copy the first index if partial
-			dIndex[0]++;
-			sIndex[0]++;
-		}
-				
-		if (dIndex[1] > dIndex[0])
+		copyFrom(source, srcPos, dest, destPos, length);
+		Store.fill(dest, destPos + length, destPos + length + fillHigh, false);
+		Store.fill(dest, destPos - fillLow, destPos, false);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(short[] source, int srcPos, short[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(short[] source, long srcPos, short[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << SHORT_ADDRESS_LINES, (long) dest.length << SHORT_ADDRESS_LINES))
+			return;
+		
+		int sIndex0 = (int) (srcPos >> SHORT_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> SHORT_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & SHORT_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & SHORT_ADDRESS_MASK;
+		
+		int dIndex0 = (int) (destPos >> SHORT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> SHORT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & SHORT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & SHORT_ADDRESS_MASK;
+		
+		if (sOffset0 == dOffset0)
+			// FAST PATH: handle both ends specially, copy middle unchanged
+			copyParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			copyHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			copyLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage, in 
+	 * parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelCopyFrom(short[], long, short[], long, long, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 *
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelCopyFrom(short[] source, long srcPos, short[] dest, long destPos, long length) {
+		parallelCopyFrom(source, srcPos, dest, destPos, length, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage, in 
+	 * parallel. The result is the same as 
+	 * {@link #copyFrom(short[], long, short[], long, long)}.
+	 * 
+	 * <p>The destination region is split on element boundaries into pieces of 
+	 * about {@code grain} bits, which are copied concurrently by the threads 
+	 * of {@code pool}; partial elements at either end are handled by the 
+	 * sequential code. If source and destination regions overlap (within the 
+	 * same storage) the whole region is copied sequentially.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelCopyFrom(final short[] source, final long srcPos, final short[] dest, final long destPos, long length, ForkJoinPool pool, long grain) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << SHORT_ADDRESS_LINES, (long) dest.length << SHORT_ADDRESS_LINES))
+			return;
+		
+		if (source == dest && srcPos < destPos + length && destPos < srcPos + length) {
+			copyFrom(source, srcPos, dest, destPos, length);
+			return;
+		}
+		
+		Parallel.invoke(pool, grain, SHORT_ADDRESS_LINES, destPos, destPos + length, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				copyFrom(source, srcPos + (from - destPos), dest, from, to - from);
+				return 0;
+			}
+		});
+	}
+
+	private static void copyParallelFrom0(short[] source, short[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy within word and neither offset is zero
+			
+			final int LOWEST_BITS_FROM = ~(SHORT_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = SHORT_DATA_MASK << dOffset1;
+
+			short save = (short) (source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
+			dest[dIndex0] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
+			dest[dIndex0] |= save;
+
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			copyParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			copyParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void copyParallelFromForwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		// for the cases where source == dest, so save |red bits, before &ing them
+		short save;
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset0;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			save = (short) (source[sIndex0] & HIGHEST_BITS);
+			dest[dIndex0] &= LOWEST_BITS;
+			dest[dIndex0] |= save;
+			
+			// first index already taken care of
+			sIndex0++;
+			dIndex0++;
+		}
+
+		if (dIndex1 > dIndex0)
+			// main bulk copy (FASTEST PATH if no end should be handled specially)
+		    System.arraycopy(source, sIndex0, dest, dIndex0, dIndex1-dIndex0);
+
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset1;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			save = (short) (source[sIndex1] & LOWEST_BITS);
+			dest[dIndex1] &= HIGHEST_BITS;
+			dest[dIndex1] |= save;
+		}
+	}
+
+	private static void copyParallelFromBackwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		// for the cases where source == dest, so save |red bits, before &ing them
+		short save;
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset1;
+			final int LOWEST_BITS = ~HIGHEST_BITS;
+			
+			save = (short) (source[sIndex1] & LOWEST_BITS);
+			dest[dIndex1] &= HIGHEST_BITS;
+			dest[dIndex1] |= save;
+		}
+		
+		if (dOffset0 != 0) {
+			// don't copy the first index if partial
+			dIndex0++;
+			sIndex0++;
+		}
+				
+		if (dIndex1 > dIndex0)
 			// main bulk copy (FASTEST PATH if no end should be handled specially)
-		    System.arraycopy(source, sIndex[0], dest, dIndex[0], dIndex[1]-dIndex[0]);
+		    System.arraycopy(source, sIndex0, dest, dIndex0, dIndex1-dIndex0);
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
-			sIndex[0]--;
-			dIndex[0]--;
+			sIndex0--;
+			dIndex0--;
 			
-			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset0;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = (short) (source[sIndex[0]] & HIGHEST_BITS);
-			dest[dIndex[0]] &= LOWEST_BITS;
-			dest[dIndex[0]] |= save;
+			save = (short) (source[sIndex0] & HIGHEST_BITS);
+			dest[dIndex0] &= LOWEST_BITS;
+			dest[dIndex0] |= save;
 			
 		}
 	}
 
-	private static void copyHigherFrom0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (dIndex[0] == dIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void copyHigherFrom0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 					
-			// At this point dIndex[0] == dIndex[1] AND sOffset[0] < dOffset[0].
-			// This implies that sIndex[0] == sIndex[1] (so there is no need to copy more than 1 chunk).
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to copy more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			short save = (short) ((source[s] << dOffset[0] - sOffset[0]) & ~(SHORT_DATA_MASK << dOffset[1]) & SHORT_DATA_MASK << dOffset[0]);
-			dest[d] &= SHORT_DATA_MASK << dOffset[1] | ~(SHORT_DATA_MASK << dOffset[0]);
+			short save = (short) ((source[s] << dOffset0 - sOffset0) & ~(SHORT_DATA_MASK << dOffset1) & SHORT_DATA_MASK << dOffset0);
+			dest[d] &= SHORT_DATA_MASK << dOffset1 | ~(SHORT_DATA_MASK << dOffset0);
 			dest[d] |= save;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyHigherFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyHigherFromForwards0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyHigherFromForwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		short save;
 		
-		int d = dIndex[0];
-		int s = sIndex[0];
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~(SHORT_DATA_MASK << dOffset[0]);
+		save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0);
+		dest[d] &= ~(SHORT_DATA_MASK << dOffset0);
 		dest[d] |= save;
 
-		while(++d < dIndex[1]) {
-			save = (short) ((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]));
-			dest[d] &= ~(SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]));
+		while(++d < dIndex1) {
+			save = (short) ((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+			dest[d] &= ~(SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
 			dest[d] |= save;
 
 			++s;
 
-			save = (short) (source[s] << dOffset[0] - sOffset[0]);
-			dest[d] &= SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]);
+			save = (short) (source[s] << dOffset0 - sOffset0);
+			dest[d] &= SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset0 - sOffset0);
 			dest[d] |= save;
 		}
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				save = (short) ((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset[1])) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= SHORT_DATA_MASK << dOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				save = (short) ((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= SHORT_DATA_MASK << dOffset1;
 				dest[d] |= save;
-			} else /* dOffset[1] > sOffset[1] */ {
-				save = (short) ((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= ~(SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]));
+			} else /* dOffset1 > sOffset1 */ {
+				save = (short) ((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= ~(SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
 				dest[d] |= save;
 				
-				if (sOffset[1] > 0) {
+				if (sOffset1 > 0) {
 					s++;
 					
-					save = (short) ((source[s] & ~(SHORT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-					dest[d] &= SHORT_DATA_MASK << dOffset[1] | SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset[1] - sOffset[1]);
+					save = (short) ((source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+					dest[d] &= SHORT_DATA_MASK << dOffset1 | SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset1 - sOffset1);
 					dest[d] |= save;
 				}
 			}
 		}
 	}
 
-	private static void copyHigherFromBackwards0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyHigherFromBackwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		short save;
 		
-		int d = dIndex[1];
-		int s = sIndex[1];
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				save = (short) ((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset[1])) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= SHORT_DATA_MASK << dOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				save = (short) ((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= SHORT_DATA_MASK << dOffset1;
 				dest[d] |= save;
-			} else /* dOffset[1] > sOffset[1] */ {
-				if (sOffset[1] > 0) {
-					save = (short) ((source[s] & ~(SHORT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-					dest[d] &= SHORT_DATA_MASK << dOffset[1] | SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset[1] - sOffset[1]);
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					save = (short) ((source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+					dest[d] &= SHORT_DATA_MASK << dOffset1 | SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset1 - sOffset1);
 					dest[d] |= save;
 				}
 				
 				s--;
 				
-				save = (short) ((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]));
-				dest[d] &= ~(SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]));
+				save = (short) ((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+				dest[d] &= ~(SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
 				dest[d] |= save;
 			}
 		}
 
-		while(--d > dIndex[0]) {
-			save = (short) (source[s] << dOffset[0] - sOffset[0]);
-			dest[d] &= SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]);
+		while(--d > dIndex0) {
+			save = (short) (source[s] << dOffset0 - sOffset0);
+			dest[d] &= SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset0 - sOffset0);
 			dest[d] |= save;
 
 			--s;
 
-			save = (short) ((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]));
-			dest[d] &= ~(SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]));
+			save = (short) ((source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
+			dest[d] &= ~(SHORT_DATA_MASK >>> SHORT_DATA_LINES - (dOffset0 - sOffset0));
 			dest[d] |= save;
 		}
 
-		save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~(SHORT_DATA_MASK << dOffset[0]);
+		save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0);
+		dest[d] &= ~(SHORT_DATA_MASK << dOffset0);
 		dest[d] |= save;
 	}
 
-	private static void copyLowerFrom0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (sIndex[0] == sIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void copyLowerFrom0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 			
-			// At this point sIndex[0] == sIndex[1] AND sOffset[0] > dOffset[0].
-			// This implies that dIndex[0] == dIndex[1] (so there is no need to copy more than 1 chunk).
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to copy more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			short save = (short) ((source[s] & SHORT_DATA_MASK) >>> (sOffset[0] - dOffset[0]) & ~(SHORT_DATA_MASK << dOffset[1]) & SHORT_DATA_MASK << dOffset[0]);
-			dest[d] &= SHORT_DATA_MASK << dOffset[1] | ~(SHORT_DATA_MASK << dOffset[0]);
+			short save = (short) ((source[s] & SHORT_DATA_MASK) >>> (sOffset0 - dOffset0) & ~(SHORT_DATA_MASK << dOffset1) & SHORT_DATA_MASK << dOffset0);
+			dest[d] &= SHORT_DATA_MASK << dOffset1 | ~(SHORT_DATA_MASK << dOffset0);
 			dest[d] |= save;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyLowerFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyLowerFromForwards0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyLowerFromForwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		short save;
 		
-		int d = dIndex[0];
-		int s = sIndex[0];
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~((SHORT_DATA_MASK >>> sOffset[0]) << dOffset[0]);
+		save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0);
+		dest[d] &= ~((SHORT_DATA_MASK >>> sOffset0) << dOffset0);
 		dest[d] |= save;
 
-		while(++s < sIndex[1]) {
-			save = (short) (source[s] << SHORT_DATA_LINES - (sOffset[0] - dOffset[0]));
-			dest[d] &= SHORT_DATA_MASK >>> sOffset[0] - dOffset[0];
+		while(++s < sIndex1) {
+			save = (short) (source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0));
+			dest[d] &= SHORT_DATA_MASK >>> sOffset0 - dOffset0;
 			dest[d] |= save;
 
 			++d;
 
-			save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset[0] - dOffset[0]);
-			dest[d] &= ~(SHORT_DATA_MASK >>> sOffset[0] - dOffset[0]);
+			save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset0 - dOffset0);
+			dest[d] &= ~(SHORT_DATA_MASK >>> sOffset0 - dOffset0);
 			dest[d] |= save;
 		}
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				save = (short) ((source[s] & ~(SHORT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-				dest[d] &= ~(~(SHORT_DATA_MASK << sOffset[1]) << dOffset[1] - sOffset[1]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				save = (short) ((source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				dest[d] &= ~(~(SHORT_DATA_MASK << sOffset1) << dOffset1 - sOffset1);
 				dest[d] |= save;
-			} else /* dOffset[1] < sOffset[1] */ {
-				save = (short) (source[s] << SHORT_DATA_LINES - (sOffset[0] - dOffset[0]));
-				dest[d] &= SHORT_DATA_MASK >>> sOffset[0] - dOffset[0];
+			} else /* dOffset1 < sOffset1 */ {
+				save = (short) (source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0));
+				dest[d] &= SHORT_DATA_MASK >>> sOffset0 - dOffset0;
 				dest[d] |= save;
 				
-				if (dOffset[1] > 0) {
+				if (dOffset1 > 0) {
 					d++;
 					
-					save = (short) ((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0]);
-					dest[d] &= ~(~(SHORT_DATA_MASK << sOffset[1]) >>> sOffset[0] - dOffset[0]);
+					save = (short) ((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+					dest[d] &= ~(~(SHORT_DATA_MASK << sOffset1) >>> sOffset0 - dOffset0);
 					dest[d] |= save;
 				}
 			}
 		}
 	}
 
-	private static void copyLowerFromBackwards0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyLowerFromBackwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		short save;
 		
-		int d = dIndex[1];
-		int s = sIndex[1];
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				save = (short) ((source[s] & ~(SHORT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1]);
-				dest[d] &= ~(~(SHORT_DATA_MASK << sOffset[1]) << dOffset[1] - sOffset[1]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				save = (short) ((source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1);
+				dest[d] &= ~(~(SHORT_DATA_MASK << sOffset1) << dOffset1 - sOffset1);
 				dest[d] |= save;
-			} else /* dOffset[1] < sOffset[1] */ {
-				if (dOffset[1] > 0) {
-					save = (short) ((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0]);
-					dest[d] &= ~(~(SHORT_DATA_MASK << sOffset[1]) >>> sOffset[0] - dOffset[0]);
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					save = (short) ((source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0);
+					dest[d] &= ~(~(SHORT_DATA_MASK << sOffset1) >>> sOffset0 - dOffset0);
 					dest[d] |= save;
 				}
 				
 				d--;
 				
-				save = (short) (source[s] << SHORT_DATA_LINES - (sOffset[0] - dOffset[0]));
-				dest[d] &= SHORT_DATA_MASK >>> sOffset[0] - dOffset[0];
+				save = (short) (source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0));
+				dest[d] &= SHORT_DATA_MASK >>> sOffset0 - dOffset0;
 				dest[d] |= save;
 			}
 		}
 
-		while(--s > sIndex[0]) {
-			save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset[0] - dOffset[0]);
-			dest[d] &= ~(SHORT_DATA_MASK >>> sOffset[0] - dOffset[0]);
+		while(--s > sIndex0) {
+			save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset0 - dOffset0);
+			dest[d] &= ~(SHORT_DATA_MASK >>> sOffset0 - dOffset0);
 			dest[d] |= save;
 
 			--d;
 
-			save = (short) (source[s] << SHORT_DATA_LINES - (sOffset[0] - dOffset[0]));
-			dest[d] &= SHORT_DATA_MASK >>> sOffset[0] - dOffset[0];
+			save = (short) (source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0));
+			dest[d] &= SHORT_DATA_MASK >>> sOffset0 - dOffset0;
 			dest[d] |= save;
 		}
 		
-		save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset[0] << dOffset[0]);
-		dest[d] &= ~((SHORT_DATA_MASK >>> sOffset[0]) << dOffset[0]);
+		save = (short) ((source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0);
+		dest[d] &= ~((SHORT_DATA_MASK >>> sOffset0) << dOffset0);
 		dest[d] |= save;
 	}
 
@@ -1355,18 +1778,81 @@ public class Copy {
 	 * @since 1.0.0
 	 */
 	public static void safeCopyFrom(int[] source, int srcPos, int[] dest, int destPos, int length) {
-		safeCopyFrom0(source, byRef(srcPos), dest, byRef(destPos), byRef(length));
+		safeCopyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
 	}
 
-	private static void safeCopyFrom0(int[] source, IntRef srcPos, int[] dest, IntRef destPos, IntRef length) {
-		IntRef fillLow = byRef(0);
-		IntRef fillHigh = byRef(0);
-		if (!prepareSafeCopy(srcPos, destPos, length, fillLow, fillHigh, dest.length << INT_ADDRESS_LINES, source.length << INT_ADDRESS_LINES))
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Offlimits bits are read as 0, and discarded when written to.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void safeCopyFrom(int[] source, long srcPos, int[] dest, long destPos, long length) {
+		if (length == 0)
+			return;
+		
+		if (length < 0)
+			throw new IllegalArgumentException();
+		
+		final long maxDest = (long) dest.length << INT_ADDRESS_LINES;
+		final long maxSource = (long) source.length << INT_ADDRESS_LINES;
+		
+		if (!(destPos < maxDest && destPos + length > 0))
 			return;
+
+		// fix destination starting point out of range 
+		if (destPos < 0) {
+			length -= -destPos;
+			srcPos += -destPos;
+			destPos = 0;
+		}
+		
+		// fix destination ending point out of range
+		if (destPos + length > maxDest)
+			length -= (destPos + length) - maxDest;
+		
+		long fillLow = 0;
+		long fillHigh = 0;
+		
+		if (!(srcPos < maxSource && srcPos + length > 0)) {
+			fillHigh = length;
+			length = 0;
+			srcPos = 0;
+		} else {
+			// fix source starting point out of range
+			if (srcPos < 0) {
+				fillLow = -srcPos;
+				
+				length -= fillLow;
+				destPos += fillLow;
+				srcPos = 0;
+			}
+			
+			// fix source ending point out of range
+			if (srcPos + length > maxSource) {
+				fillHigh = (srcPos + length) - maxSource;
+				length -= fillHigh;
+			}
+		}
 		
-		copyFrom(source, srcPos.i, dest, destPos.i, length.i);
-		Store.fill(dest, destPos.i + length.i, destPos.i + length.i + fillHigh.i, false);
-		Store.fill(dest, destPos.i - fillLow.i, destPos.i, false);
+		copyFrom(source, srcPos, dest, destPos, length);
+		Store.fill(dest, destPos + length, destPos + length + fillHigh, false);
+		Store.fill(dest, destPos - fillLow, destPos, false);
 	}
 
 	/**
@@ -1388,337 +1874,430 @@ public class Copy {
 	 * @since 1.0.0
 	 */
 	public static void copyFrom(int[] source, int srcPos, int[] dest, int destPos, int length) {
-		if (!checkSafeIndices(srcPos, destPos, length, source.length << INT_ADDRESS_LINES, dest.length << INT_ADDRESS_LINES))
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(int[] source, long srcPos, int[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << INT_ADDRESS_LINES, (long) dest.length << INT_ADDRESS_LINES))
 			return;
 		
-		int[] sIndex  = {srcPos  >> INT_ADDRESS_LINES, (srcPos  + length) >> INT_ADDRESS_LINES};
-		int[] sOffset = {srcPos  & INT_ADDRESS_MASK,   (srcPos  + length) & INT_ADDRESS_MASK  };
+		int sIndex0 = (int) (srcPos >> INT_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> INT_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & INT_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & INT_ADDRESS_MASK;
 		
-		int[] dIndex  = {destPos >> INT_ADDRESS_LINES, (destPos + length) >> INT_ADDRESS_LINES};
-		int[] dOffset = {destPos & INT_ADDRESS_MASK,   (destPos + length) & INT_ADDRESS_MASK  };
+		int dIndex0 = (int) (destPos >> INT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> INT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & INT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & INT_ADDRESS_MASK;
 		
-		if (sOffset[0] == dOffset[0])
+		if (sOffset0 == dOffset0)
 			// FAST PATH: handle both ends specially, copy middle unchanged
-			copyParallelFrom0(source, dest, sIndex, dIndex, dOffset);
-		else if (sOffset[0] < dOffset[0])
-			copyHigherFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else /* if (sOffset[0] > dOffset[0]) */
-			copyLowerFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			copyHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			copyLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage, in 
+	 * parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelCopyFrom(int[], long, int[], long, long, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 *
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelCopyFrom(int[] source, long srcPos, int[] dest, long destPos, long length) {
+		parallelCopyFrom(source, srcPos, dest, destPos, length, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage, in 
+	 * parallel. The result is the same as 
+	 * {@link #copyFrom(int[], long, int[], long, long)}.
+	 * 
+	 * <p>The destination region is split on element boundaries into pieces of 
+	 * about {@code grain} bits, which are copied concurrently by the threads 
+	 * of {@code pool}; partial elements at either end are handled by the 
+	 * sequential code. If source and destination regions overlap (within the 
+	 * same storage) the whole region is copied sequentially.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelCopyFrom(final int[] source, final long srcPos, final int[] dest, final long destPos, long length, ForkJoinPool pool, long grain) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << INT_ADDRESS_LINES, (long) dest.length << INT_ADDRESS_LINES))
+			return;
+		
+		if (source == dest && srcPos < destPos + length && destPos < srcPos + length) {
+			copyFrom(source, srcPos, dest, destPos, length);
+			return;
+		}
+		
+		Parallel.invoke(pool, grain, INT_ADDRESS_LINES, destPos, destPos + length, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				copyFrom(source, srcPos + (from - destPos), dest, from, to - from);
+				return 0;
+			}
+		});
 	}
 
-	private static void copyParallelFrom0(int[] source, int[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dIndex[1] == dIndex[0]) {
+	private static void copyParallelFrom0(int[] source, int[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
 			// special case: subword copy within word and neither offset is zero
 			
-			final int LOWEST_BITS_FROM = ~(INT_DATA_MASK << dOffset[0]);
-			final int HIGHEST_BITS_TO = INT_DATA_MASK << dOffset[1];
+			final int LOWEST_BITS_FROM = ~(INT_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = INT_DATA_MASK << dOffset1;
 
-			int save = source[sIndex[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
-			dest[dIndex[0]] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
-			dest[dIndex[0]] |= save;
+			int save = source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
+			dest[dIndex0] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
+			dest[dIndex0] |= save;
 
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyParallelFromBackwards0(source, dest, sIndex, dIndex, dOffset);
+			copyParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyParallelFromForwards0(int[] source, int[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
+	private static void copyParallelFromForwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		int save;
 		
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = INT_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset0;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = source[sIndex[0]] & HIGHEST_BITS;
-			dest[dIndex[0]] &= LOWEST_BITS;
-			dest[dIndex[0]] |= save;
+			save = source[sIndex0] & HIGHEST_BITS;
+			dest[dIndex0] &= LOWEST_BITS;
+			dest[dIndex0] |= save;
 			
 			// first index already taken care of
-			sIndex[0]++;
-			dIndex[0]++;
+			sIndex0++;
+			dIndex0++;
 		}
 
-		if (dIndex[1] > dIndex[0])
+		if (dIndex1 > dIndex0)
 			// main bulk copy (FASTEST PATH if no end should be handled specially)
-		    System.arraycopy(source, sIndex[0], dest, dIndex[0], dIndex[1]-dIndex[0]);
+		    System.arraycopy(source, sIndex0, dest, dIndex0, dIndex1-dIndex0);
 
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = INT_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = source[sIndex[1]] & LOWEST_BITS;
-			dest[dIndex[1]] &= HIGHEST_BITS;
-			dest[dIndex[1]] |= save;
+			save = source[sIndex1] & LOWEST_BITS;
+			dest[dIndex1] &= HIGHEST_BITS;
+			dest[dIndex1] |= save;
 		}
 	}
 
-	private static void copyParallelFromBackwards0(int[] source, int[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
+	private static void copyParallelFromBackwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		int save;
 		
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = INT_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = source[sIndex[1]] & LOWEST_BITS;
-			dest[dIndex[1]] &= HIGHEST_BITS;
-			dest[dIndex[1]] |= save;
+			save = source[sIndex1] & LOWEST_BITS;
+			dest[dIndex1] &= HIGHEST_BITS;
+			dest[dIndex1] |= save;
 		}
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// don't copy the first index if partial
-			dIndex[0]++;
-			sIndex[0]++;
+			dIndex0++;
+			sIndex0++;
 		}
 		
-		if (dIndex[1] > dIndex[0])
+		if (dIndex1 > dIndex0)
 			// main bulk copy (FASTEST PATH if no end should be handled specially)
-		    System.arraycopy(source, sIndex[0], dest, dIndex[0], dIndex[1]-dIndex[0]);
+		    System.arraycopy(source, sIndex0, dest, dIndex0, dIndex1-dIndex0);
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
-			sIndex[0]--;
-			dIndex[0]--;
+			sIndex0--;
+			dIndex0--;
 			
-			final int HIGHEST_BITS = INT_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset0;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = source[sIndex[0]] & HIGHEST_BITS;
-			dest[dIndex[0]] &= LOWEST_BITS;
-			dest[dIndex[0]] |= save;
+			save = source[sIndex0] & HIGHEST_BITS;
+			dest[dIndex0] &= LOWEST_BITS;
+			dest[dIndex0] |= save;
 		}
 	}
 
-	private static void copyHigherFrom0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (dIndex[0] == dIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void copyHigherFrom0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 					
-			// At this point dIndex[0] == dIndex[1] AND sOffset[0] < dOffset[0].
-			// This implies that sIndex[0] == sIndex[1] (so there is no need to copy more than 1 chunk).
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to copy more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			int save = (source[s] << dOffset[0] - sOffset[0]) & ~(INT_DATA_MASK << dOffset[1]) & INT_DATA_MASK << dOffset[0];
-			dest[d] &= INT_DATA_MASK << dOffset[1] | ~(INT_DATA_MASK << dOffset[0]);
+			int save = (source[s] << dOffset0 - sOffset0) & ~(INT_DATA_MASK << dOffset1) & INT_DATA_MASK << dOffset0;
+			dest[d] &= INT_DATA_MASK << dOffset1 | ~(INT_DATA_MASK << dOffset0);
 			dest[d] |= save;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyHigherFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyHigherFromForwards0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyHigherFromForwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		int save;
 		
-		int d = dIndex[0];
-		int s = sIndex[0];
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		save = source[s] >>> sOffset[0] << dOffset[0];
-		dest[d] &= ~(INT_DATA_MASK << dOffset[0]);
+		save = source[s] >>> sOffset0 << dOffset0;
+		dest[d] &= ~(INT_DATA_MASK << dOffset0);
 		dest[d] |= save; 
 
-		while(++d < dIndex[1]) {
-			save = source[s] >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
-			dest[d] &= ~(INT_DATA_MASK >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]));
+		while(++d < dIndex1) {
+			save = source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0);
+			dest[d] &= ~(INT_DATA_MASK >>> INT_DATA_LINES - (dOffset0 - sOffset0));
 			dest[d] |= save;
 
 			++s;
 
-			save = source[s] << dOffset[0] - sOffset[0];
-			dest[d] &= INT_DATA_MASK >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
+			save = source[s] << dOffset0 - sOffset0;
+			dest[d] &= INT_DATA_MASK >>> INT_DATA_LINES - (dOffset0 - sOffset0);
 			dest[d] |= save;
 		}
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				save = (source[s] & ~(INT_DATA_MASK << sOffset[1])) >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
-				dest[d] &= INT_DATA_MASK << dOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				save = (source[s] & ~(INT_DATA_MASK << sOffset1)) >>> INT_DATA_LINES - (dOffset0 - sOffset0);
+				dest[d] &= INT_DATA_MASK << dOffset1;
 				dest[d] |= save;
-			} else /* dOffset[1] > sOffset[1] */ {
-				save = source[s] >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
-				dest[d] &= ~(INT_DATA_MASK >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]));
+			} else /* dOffset1 > sOffset1 */ {
+				save = source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0);
+				dest[d] &= ~(INT_DATA_MASK >>> INT_DATA_LINES - (dOffset0 - sOffset0));
 				dest[d] |= save;
 				
-				if (sOffset[1] > 0) {
+				if (sOffset1 > 0) {
 					s++;
 					
-					save = (source[s] & ~(INT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-					dest[d] &= INT_DATA_MASK << dOffset[1] | INT_DATA_MASK >>> INT_DATA_LINES - (dOffset[1] - sOffset[1]);
+					save = (source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+					dest[d] &= INT_DATA_MASK << dOffset1 | INT_DATA_MASK >>> INT_DATA_LINES - (dOffset1 - sOffset1);
 					dest[d] |= save;
 				}
 			}
 		}
 	}
 
-	private static void copyHigherFromBackwards0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyHigherFromBackwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		int save;
 		
-		int d = dIndex[1];
-		int s = sIndex[1];
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				save = (source[s] & ~(INT_DATA_MASK << sOffset[1])) >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
-				dest[d] &= INT_DATA_MASK << dOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				save = (source[s] & ~(INT_DATA_MASK << sOffset1)) >>> INT_DATA_LINES - (dOffset0 - sOffset0);
+				dest[d] &= INT_DATA_MASK << dOffset1;
 				dest[d] |= save;
-			} else /* dOffset[1] > sOffset[1] */ {
-				if (sOffset[1] > 0) {
-					save = (source[s] & ~(INT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-					dest[d] &= INT_DATA_MASK << dOffset[1] | INT_DATA_MASK >>> INT_DATA_LINES - (dOffset[1] - sOffset[1]);
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					save = (source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+					dest[d] &= INT_DATA_MASK << dOffset1 | INT_DATA_MASK >>> INT_DATA_LINES - (dOffset1 - sOffset1);
 					dest[d] |= save;
 				}
 				
 				s--;
 				
-				save = source[s] >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
-				dest[d] &= ~(INT_DATA_MASK >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]));
+				save = source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0);
+				dest[d] &= ~(INT_DATA_MASK >>> INT_DATA_LINES - (dOffset0 - sOffset0));
 				dest[d] |= save;
 			}
 		}
 
-		while(--d > dIndex[0]) {
-			save = source[s] << dOffset[0] - sOffset[0];
-			dest[d] &= INT_DATA_MASK >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
+		while(--d > dIndex0) {
+			save = source[s] << dOffset0 - sOffset0;
+			dest[d] &= INT_DATA_MASK >>> INT_DATA_LINES - (dOffset0 - sOffset0);
 			dest[d] |= save;
 
 			--s;
 
-			save = source[s] >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
-			dest[d] &= ~(INT_DATA_MASK >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]));
+			save = source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0);
+			dest[d] &= ~(INT_DATA_MASK >>> INT_DATA_LINES - (dOffset0 - sOffset0));
 			dest[d] |= save;
 		}
 
-		save = source[s] >>> sOffset[0] << dOffset[0];
-		dest[d] &= ~(INT_DATA_MASK << dOffset[0]);
+		save = source[s] >>> sOffset0 << dOffset0;
+		dest[d] &= ~(INT_DATA_MASK << dOffset0);
 		dest[d] |= save; 
 	}
 
-	private static void copyLowerFrom0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (sIndex[0] == sIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void copyLowerFrom0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 			
-			// At this point sIndex[0] == sIndex[1] AND sOffset[0] > dOffset[0].
-			// This implies that dIndex[0] == dIndex[1] (so there is no need to copy more than 1 chunk).
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to copy more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			int save = source[s] >>> (sOffset[0] - dOffset[0]) & ~(INT_DATA_MASK << dOffset[1]) & INT_DATA_MASK << dOffset[0];
-			dest[d] &= INT_DATA_MASK << dOffset[1] | ~(INT_DATA_MASK << dOffset[0]);
+			int save = source[s] >>> (sOffset0 - dOffset0) & ~(INT_DATA_MASK << dOffset1) & INT_DATA_MASK << dOffset0;
+			dest[d] &= INT_DATA_MASK << dOffset1 | ~(INT_DATA_MASK << dOffset0);
 			dest[d] |= save;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyLowerFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyLowerFromForwards0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyLowerFromForwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		int save;
 		
-		int d = dIndex[0];
-		int s = sIndex[0];
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		save = source[s] >>> sOffset[0] << dOffset[0];
-		dest[d] &= ~((INT_DATA_MASK >>> sOffset[0]) << dOffset[0]);
+		save = source[s] >>> sOffset0 << dOffset0;
+		dest[d] &= ~((INT_DATA_MASK >>> sOffset0) << dOffset0);
 		dest[d] |= save;
 
-		while(++s < sIndex[1]) {
-			save = source[s] << INT_DATA_LINES - (sOffset[0] - dOffset[0]);
-			dest[d] &= INT_DATA_MASK >>> sOffset[0] - dOffset[0];
+		while(++s < sIndex1) {
+			save = source[s] << INT_DATA_LINES - (sOffset0 - dOffset0);
+			dest[d] &= INT_DATA_MASK >>> sOffset0 - dOffset0;
 			dest[d] |= save;
 
 			++d;
 
-			save = source[s] >>> sOffset[0] - dOffset[0];
-			dest[d] &= ~(INT_DATA_MASK >>> sOffset[0] - dOffset[0]);
+			save = source[s] >>> sOffset0 - dOffset0;
+			dest[d] &= ~(INT_DATA_MASK >>> sOffset0 - dOffset0);
 			dest[d] |= save;
 		}
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				save = (source[s] & ~(INT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-				dest[d] &= ~(~(INT_DATA_MASK << sOffset[1]) << dOffset[1] - sOffset[1]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				save = (source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+				dest[d] &= ~(~(INT_DATA_MASK << sOffset1) << dOffset1 - sOffset1);
 				dest[d] |= save;
-			} else /* dOffset[1] < sOffset[1] */ {
-				save = source[s] << INT_DATA_LINES - (sOffset[0] - dOffset[0]);
-				dest[d] &= INT_DATA_MASK >>> sOffset[0] - dOffset[0];
+			} else /* dOffset1 < sOffset1 */ {
+				save = source[s] << INT_DATA_LINES - (sOffset0 - dOffset0);
+				dest[d] &= INT_DATA_MASK >>> sOffset0 - dOffset0;
 				dest[d] |= save;
 				
-				if (dOffset[1] > 0) {
+				if (dOffset1 > 0) {
 					d++;
 					
-					save = (source[s] & ~(INT_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
-					dest[d] &= ~(~(INT_DATA_MASK << sOffset[1]) >>> sOffset[0] - dOffset[0]);
+					save = (source[s] & ~(INT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
+					dest[d] &= ~(~(INT_DATA_MASK << sOffset1) >>> sOffset0 - dOffset0);
 					dest[d] |= save;
 				}
 			}
 		}
 	}
 
-	private static void copyLowerFromBackwards0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyLowerFromBackwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		int save;
 		
-		int d = dIndex[1];
-		int s = sIndex[1];
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				save = (source[s] & ~(INT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-				dest[d] &= ~(~(INT_DATA_MASK << sOffset[1]) << dOffset[1] - sOffset[1]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				save = (source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+				dest[d] &= ~(~(INT_DATA_MASK << sOffset1) << dOffset1 - sOffset1);
 				dest[d] |= save;
-			} else /* dOffset[1] < sOffset[1] */ {
-				if (dOffset[1] > 0) {
-					save = (source[s] & ~(INT_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
-					dest[d] &= ~(~(INT_DATA_MASK << sOffset[1]) >>> sOffset[0] - dOffset[0]);
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					save = (source[s] & ~(INT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
+					dest[d] &= ~(~(INT_DATA_MASK << sOffset1) >>> sOffset0 - dOffset0);
 					dest[d] |= save;
 				}
 				
 				d--;
 				
-				save = source[s] << INT_DATA_LINES - (sOffset[0] - dOffset[0]);
-				dest[d] &= INT_DATA_MASK >>> sOffset[0] - dOffset[0];
+				save = source[s] << INT_DATA_LINES - (sOffset0 - dOffset0);
+				dest[d] &= INT_DATA_MASK >>> sOffset0 - dOffset0;
 				dest[d] |= save;
 			}
 		}
 
-		while(--s > sIndex[0]) {
-			save = source[s] >>> sOffset[0] - dOffset[0];
-			dest[d] &= ~(INT_DATA_MASK >>> sOffset[0] - dOffset[0]);
+		while(--s > sIndex0) {
+			save = source[s] >>> sOffset0 - dOffset0;
+			dest[d] &= ~(INT_DATA_MASK >>> sOffset0 - dOffset0);
 			dest[d] |= save;
 
 			--d;
 
-			save = source[s] << INT_DATA_LINES - (sOffset[0] - dOffset[0]);
-			dest[d] &= INT_DATA_MASK >>> sOffset[0] - dOffset[0];
+			save = source[s] << INT_DATA_LINES - (sOffset0 - dOffset0);
+			dest[d] &= INT_DATA_MASK >>> sOffset0 - dOffset0;
 			dest[d] |= save;
 		}
 		
-		save = source[s] >>> sOffset[0] << dOffset[0];
-		dest[d] &= ~((INT_DATA_MASK >>> sOffset[0]) << dOffset[0]);
+		save = source[s] >>> sOffset0 << dOffset0;
+		dest[d] &= ~((INT_DATA_MASK >>> sOffset0) << dOffset0);
 		dest[d] |= save;
 	}
 
@@ -1746,18 +2325,7 @@ public class Copy {
 	 * @since 1.0.0
 	 */
 	public static void safeCopyFrom(long[] source, int srcPos, long[] dest, int destPos, int length) {
-		safeCopyFrom0(source, byRef(srcPos), dest, byRef(destPos), byRef(length));
-	}
-
-	private static void safeCopyFrom0(long[] source, IntRef srcPos, long[] dest, IntRef destPos, IntRef length) {
-		IntRef fillLow = byRef(0);
-		IntRef fillHigh = byRef(0);
-		if (!prepareSafeCopy(srcPos, destPos, length, fillLow, fillHigh, dest.length << LONG_ADDRESS_LINES, source.length << LONG_ADDRESS_LINES))
-			return;
-		
-		copyFrom(source, srcPos.i, dest, destPos.i, length.i);
-		Store.fill(dest, destPos.i + length.i, destPos.i + length.i + fillHigh.i, false);
-		Store.fill(dest, destPos.i - fillLow.i, destPos.i, false);
+		safeCopyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
 	}
 
 	/**
@@ -1769,6 +2337,9 @@ public class Copy {
 	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
 	 * source storage are copied into positions {@code destPos} through 
 	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Offlimits bits are read as 0, and discarded when written to.
+	 * </p>
 	 *
 	 * @param source the source storage.
 	 * @param srcPos starting bit in the source storage.
@@ -1778,338 +2349,2237 @@ public class Copy {
 	 *
 	 * @since 1.0.0
 	 */
-	public static void copyFrom(long[] source, int srcPos, long[] dest, int destPos, int length) {
-		if (!checkSafeIndices(srcPos, destPos, length, source.length << LONG_ADDRESS_LINES, dest.length << LONG_ADDRESS_LINES))
+	public static void safeCopyFrom(long[] source, long srcPos, long[] dest, long destPos, long length) {
+		if (length == 0)
 			return;
 		
-		int[] sIndex  = {srcPos  >> LONG_ADDRESS_LINES, (srcPos  + length) >> LONG_ADDRESS_LINES};
-		int[] sOffset = {srcPos  & LONG_ADDRESS_MASK,   (srcPos  + length) & LONG_ADDRESS_MASK  };
+		if (length < 0)
+			throw new IllegalArgumentException();
 		
-		int[] dIndex  = {destPos >> LONG_ADDRESS_LINES, (destPos + length) >> LONG_ADDRESS_LINES};
-		int[] dOffset = {destPos & LONG_ADDRESS_MASK,   (destPos + length) & LONG_ADDRESS_MASK  };
+		final long maxDest = (long) dest.length << LONG_ADDRESS_LINES;
+		final long maxSource = (long) source.length << LONG_ADDRESS_LINES;
 		
-		if (sOffset[0] == dOffset[0])
-			// FAST PATH: handle both ends specially, copy middle unchanged
-			copyParallelFrom0(source, dest, sIndex, dIndex, dOffset);
-		else if (sOffset[0] < dOffset[0])
-			copyHigherFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else /* if (sOffset[0] > dOffset[0]) */
-			copyLowerFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-	}
-
-	private static void copyParallelFrom0(long[] source, long[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dIndex[1] == dIndex[0]) {
-			// special case: subword copy within word and neither offset is zero
-			
-			final long LOWEST_BITS_FROM = ~(LONG_DATA_MASK << dOffset[0]);
-			final long HIGHEST_BITS_TO = LONG_DATA_MASK << dOffset[1];
-
-			long save = source[sIndex[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
-			dest[dIndex[0]] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
-			dest[dIndex[0]] |= save;
-
+		if (!(destPos < maxDest && destPos + length > 0))
 			return;
+
+		// fix destination starting point out of range 
+		if (destPos < 0) {
+			length -= -destPos;
+			srcPos += -destPos;
+			destPos = 0;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else
-			copyParallelFromBackwards0(source, dest, sIndex, dIndex, dOffset);
-	}
-
-	private static void copyParallelFromForwards0(long[] source, long[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		// for the cases where source == dest, so save |red bits, before &ing them
-		long save;
+		// fix destination ending point out of range
+		if (destPos + length > maxDest)
+			length -= (destPos + length) - maxDest;
 		
-		if (dOffset[0] != 0) {
-			// handle "from" end specially
-			
-			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset[0];
-			final long LOWEST_BITS = ~HIGHEST_BITS;
-			
-			save = source[sIndex[0]] & HIGHEST_BITS;
-			dest[dIndex[0]] &= LOWEST_BITS;
-			dest[dIndex[0]] |= save;
+		long fillLow = 0;
+		long fillHigh = 0;
+		
+		if (!(srcPos < maxSource && srcPos + length > 0)) {
+			fillHigh = length;
+			length = 0;
+			srcPos = 0;
+		} else {
+			// fix source starting point out of range
+			if (srcPos < 0) {
+				fillLow = -srcPos;
+				
+				length -= fillLow;
+				destPos += fillLow;
+				srcPos = 0;
+			}
 			
-			// first index already taken care of
-			sIndex[0]++;
-			dIndex[0]++;
+			// fix source ending point out of range
+			if (srcPos + length > maxSource) {
+				fillHigh = (srcPos + length) - maxSource;
+				length -= fillHigh;
+			}
 		}
-
-		if (dIndex[1] > dIndex[0])
+		
+		copyFrom(source, srcPos, dest, destPos, length);
+		Store.fill(dest, destPos + length, destPos + length + fillHigh, false);
+		Store.fill(dest, destPos - fillLow, destPos, false);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(long[] source, int srcPos, long[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(long[] source, long srcPos, long[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << LONG_ADDRESS_LINES, (long) dest.length << LONG_ADDRESS_LINES))
+			return;
+		
+		int sIndex0 = (int) (srcPos >> LONG_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> LONG_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & LONG_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & LONG_ADDRESS_MASK;
+		
+		int dIndex0 = (int) (destPos >> LONG_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> LONG_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & LONG_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & LONG_ADDRESS_MASK;
+		
+		if (sOffset0 == dOffset0)
+			// FAST PATH: handle both ends specially, copy middle unchanged
+			copyParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			copyHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			copyLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage, in 
+	 * parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelCopyFrom(long[], long, long[], long, long, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 *
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelCopyFrom(long[] source, long srcPos, long[] dest, long destPos, long length) {
+		parallelCopyFrom(source, srcPos, dest, destPos, length, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage, in 
+	 * parallel. The result is the same as 
+	 * {@link #copyFrom(long[], long, long[], long, long)}.
+	 * 
+	 * <p>The destination region is split on element boundaries into pieces of 
+	 * about {@code grain} bits, which are copied concurrently by the threads 
+	 * of {@code pool}; partial elements at either end are handled by the 
+	 * sequential code. If source and destination regions overlap (within the 
+	 * same storage) the whole region is copied sequentially.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelCopyFrom(final long[] source, final long srcPos, final long[] dest, final long destPos, long length, ForkJoinPool pool, long grain) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << LONG_ADDRESS_LINES, (long) dest.length << LONG_ADDRESS_LINES))
+			return;
+		
+		if (source == dest && srcPos < destPos + length && destPos < srcPos + length) {
+			copyFrom(source, srcPos, dest, destPos, length);
+			return;
+		}
+		
+		Parallel.invoke(pool, grain, LONG_ADDRESS_LINES, destPos, destPos + length, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				copyFrom(source, srcPos + (from - destPos), dest, from, to - from);
+				return 0;
+			}
+		});
+	}
+
+	private static void copyParallelFrom0(long[] source, long[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy within word and neither offset is zero
+			
+			final long LOWEST_BITS_FROM = ~(LONG_DATA_MASK << dOffset0);
+			final long HIGHEST_BITS_TO = LONG_DATA_MASK << dOffset1;
+
+			long save = source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
+			dest[dIndex0] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
+			dest[dIndex0] |= save;
+
+			return;
+		}
+		
+		if (dIndex0 < sIndex0)
+			copyParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else
+			copyParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	private static void copyParallelFromForwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		// for the cases where source == dest, so save |red bits, before &ing them
+		long save;
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset0;
+			final long LOWEST_BITS = ~HIGHEST_BITS;
+			
+			save = source[sIndex0] & HIGHEST_BITS;
+			dest[dIndex0] &= LOWEST_BITS;
+			dest[dIndex0] |= save;
+			
+			// first index already taken care of
+			sIndex0++;
+			dIndex0++;
+		}
+
+		if (dIndex1 > dIndex0)
 			// main bulk copy (FASTEST PATH if no end should be handled specially)
-		    System.arraycopy(source, sIndex[0], dest, dIndex[0], dIndex[1]-dIndex[0]);
+		    System.arraycopy(source, sIndex0, dest, dIndex0, dIndex1-dIndex0);
 
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset[1];
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset1;
 			final long LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = source[sIndex[1]] & LOWEST_BITS;
-			dest[dIndex[1]] &= HIGHEST_BITS;
-			dest[dIndex[1]] |= save;
+			save = source[sIndex1] & LOWEST_BITS;
+			dest[dIndex1] &= HIGHEST_BITS;
+			dest[dIndex1] |= save;
 		}
 	}
 
-	private static void copyParallelFromBackwards0(long[] source, long[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
+	private static void copyParallelFromBackwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		long save;
 		
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset[1];
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset1;
 			final long LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = source[sIndex[1]] & LOWEST_BITS;
-			dest[dIndex[1]] &= HIGHEST_BITS;
-			dest[dIndex[1]] |= save;
+			save = source[sIndex1] & LOWEST_BITS;
+			dest[dIndex1] &= HIGHEST_BITS;
+			dest[dIndex1] |= save;
 		}
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// don't copy the first index if partial
-			dIndex[0]++;
-			sIndex[0]++;
+			dIndex0++;
+			sIndex0++;
 		}
 		
-		if (dIndex[1] > dIndex[0])
+		if (dIndex1 > dIndex0)
 			// main bulk copy (FASTEST PATH if no end should be handled specially)
-		    System.arraycopy(source, sIndex[0], dest, dIndex[0], dIndex[1]-dIndex[0]);
+		    System.arraycopy(source, sIndex0, dest, dIndex0, dIndex1-dIndex0);
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
-			sIndex[0]--;
-			dIndex[0]--;
+			sIndex0--;
+			dIndex0--;
 			
-			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset[0];
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset0;
 			final long LOWEST_BITS = ~HIGHEST_BITS;
 			
-			save = source[sIndex[0]] & HIGHEST_BITS;
-			dest[dIndex[0]] &= LOWEST_BITS;
-			dest[dIndex[0]] |= save;
+			save = source[sIndex0] & HIGHEST_BITS;
+			dest[dIndex0] &= LOWEST_BITS;
+			dest[dIndex0] |= save;
 		}
 	}
 
-	private static void copyHigherFrom0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (dIndex[0] == dIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void copyHigherFrom0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 					
-			// At this point dIndex[0] == dIndex[1] AND sOffset[0] < dOffset[0].
-			// This implies that sIndex[0] == sIndex[1] (so there is no need to copy more than 1 chunk).
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to copy more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			long save = (source[s] << dOffset[0] - sOffset[0]) & ~(LONG_DATA_MASK << dOffset[1]) & LONG_DATA_MASK << dOffset[0];
-			dest[d] &= LONG_DATA_MASK << dOffset[1] | ~(LONG_DATA_MASK << dOffset[0]);
+			long save = (source[s] << dOffset0 - sOffset0) & ~(LONG_DATA_MASK << dOffset1) & LONG_DATA_MASK << dOffset0;
+			dest[d] &= LONG_DATA_MASK << dOffset1 | ~(LONG_DATA_MASK << dOffset0);
 			dest[d] |= save;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyHigherFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyHigherFromForwards0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyHigherFromForwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		long save;
 		
-		int d = dIndex[0];
-		int s = sIndex[0];
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		save = source[s] >>> sOffset[0] << dOffset[0];
-		dest[d] &= ~(LONG_DATA_MASK << dOffset[0]);
+		save = source[s] >>> sOffset0 << dOffset0;
+		dest[d] &= ~(LONG_DATA_MASK << dOffset0);
 		dest[d] |= save; 
 
-		while(++d < dIndex[1]) {
-			save = source[s] >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
-			dest[d] &= ~(LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]));
+		while(++d < dIndex1) {
+			save = source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
+			dest[d] &= ~(LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset0 - sOffset0));
 			dest[d] |= save;
 
 			++s;
 
-			save = source[s] << dOffset[0] - sOffset[0];
-			dest[d] &= LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
+			save = source[s] << dOffset0 - sOffset0;
+			dest[d] &= LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
 			dest[d] |= save;
 		}
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				save = (source[s] & ~(LONG_DATA_MASK << sOffset[1])) >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
-				dest[d] &= LONG_DATA_MASK << dOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				save = (source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
+				dest[d] &= LONG_DATA_MASK << dOffset1;
 				dest[d] |= save;
-			} else /* dOffset[1] > sOffset[1] */ {
-				save = source[s] >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
-				dest[d] &= ~(LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]));
+			} else /* dOffset1 > sOffset1 */ {
+				save = source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
+				dest[d] &= ~(LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset0 - sOffset0));
 				dest[d] |= save;
 				
-				if (sOffset[1] > 0) {
+				if (sOffset1 > 0) {
 					s++;
 					
-					save = (source[s] & ~(LONG_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-					dest[d] &= LONG_DATA_MASK << dOffset[1] | LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset[1] - sOffset[1]);
+					save = (source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+					dest[d] &= LONG_DATA_MASK << dOffset1 | LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset1 - sOffset1);
 					dest[d] |= save;
 				}
 			}
 		}
 	}
 
-	private static void copyHigherFromBackwards0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyHigherFromBackwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		long save;
 		
-		int d = dIndex[1];
-		int s = sIndex[1];
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				save = (source[s] & ~(LONG_DATA_MASK << sOffset[1])) >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
-				dest[d] &= LONG_DATA_MASK << dOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				save = (source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
+				dest[d] &= LONG_DATA_MASK << dOffset1;
 				dest[d] |= save;
-			} else /* dOffset[1] > sOffset[1] */ {
-				if (sOffset[1] > 0) {
-					save = (source[s] & ~(LONG_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-					dest[d] &= LONG_DATA_MASK << dOffset[1] | LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset[1] - sOffset[1]);
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					save = (source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+					dest[d] &= LONG_DATA_MASK << dOffset1 | LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset1 - sOffset1);
 					dest[d] |= save;
 				}
 				
 				s--;
 				
-				save = source[s] >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
-				dest[d] &= ~(LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]));
+				save = source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
+				dest[d] &= ~(LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset0 - sOffset0));
 				dest[d] |= save;
 			}
 		}
 
-		while(--d > dIndex[0]) {
-			save = source[s] << dOffset[0] - sOffset[0];
-			dest[d] &= LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
+		while(--d > dIndex0) {
+			save = source[s] << dOffset0 - sOffset0;
+			dest[d] &= LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
 			dest[d] |= save;
 
 			--s;
 
-			save = source[s] >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
-			dest[d] &= ~(LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]));
+			save = source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
+			dest[d] &= ~(LONG_DATA_MASK >>> LONG_DATA_LINES - (dOffset0 - sOffset0));
 			dest[d] |= save;
 		}
 
-		save = source[s] >>> sOffset[0] << dOffset[0];
-		dest[d] &= ~(LONG_DATA_MASK << dOffset[0]);
+		save = source[s] >>> sOffset0 << dOffset0;
+		dest[d] &= ~(LONG_DATA_MASK << dOffset0);
 		dest[d] |= save; 
 	}
 
-	private static void copyLowerFrom0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (sIndex[0] == sIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void copyLowerFrom0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 			
-			// At this point sIndex[0] == sIndex[1] AND sOffset[0] > dOffset[0].
-			// This implies that dIndex[0] == dIndex[1] (so there is no need to copy more than 1 chunk).
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to copy more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			long save = source[s] >>> (sOffset[0] - dOffset[0]) & ~(LONG_DATA_MASK << dOffset[1]) & LONG_DATA_MASK << dOffset[0];
-			dest[d] &= LONG_DATA_MASK << dOffset[1] | ~(LONG_DATA_MASK << dOffset[0]);
+			long save = source[s] >>> (sOffset0 - dOffset0) & ~(LONG_DATA_MASK << dOffset1) & LONG_DATA_MASK << dOffset0;
+			dest[d] &= LONG_DATA_MASK << dOffset1 | ~(LONG_DATA_MASK << dOffset0);
 			dest[d] |= save;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			copyLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			copyLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			copyLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			copyLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			copyLowerFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			copyLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void copyLowerFromForwards0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyLowerFromForwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		long save;
 		
-		int d = dIndex[0];
-		int s = sIndex[0];
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		save = source[s] >>> sOffset[0] << dOffset[0];
-		dest[d] &= ~((LONG_DATA_MASK >>> sOffset[0]) << dOffset[0]);
+		save = source[s] >>> sOffset0 << dOffset0;
+		dest[d] &= ~((LONG_DATA_MASK >>> sOffset0) << dOffset0);
 		dest[d] |= save;
 
-		while(++s < sIndex[1]) {
-			save = source[s] << LONG_DATA_LINES - (sOffset[0] - dOffset[0]);
-			dest[d] &= LONG_DATA_MASK >>> sOffset[0] - dOffset[0];
+		while(++s < sIndex1) {
+			save = source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0);
+			dest[d] &= LONG_DATA_MASK >>> sOffset0 - dOffset0;
 			dest[d] |= save;
 
 			++d;
 
-			save = source[s] >>> sOffset[0] - dOffset[0];
-			dest[d] &= ~(LONG_DATA_MASK >>> sOffset[0] - dOffset[0]);
+			save = source[s] >>> sOffset0 - dOffset0;
+			dest[d] &= ~(LONG_DATA_MASK >>> sOffset0 - dOffset0);
 			dest[d] |= save;
 		}
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				save = (source[s] & ~(LONG_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-				dest[d] &= ~(~(LONG_DATA_MASK << sOffset[1]) << dOffset[1] - sOffset[1]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				save = (source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+				dest[d] &= ~(~(LONG_DATA_MASK << sOffset1) << dOffset1 - sOffset1);
 				dest[d] |= save;
-			} else /* dOffset[1] < sOffset[1] */ {
-				save = source[s] << LONG_DATA_LINES - (sOffset[0] - dOffset[0]);
-				dest[d] &= LONG_DATA_MASK >>> sOffset[0] - dOffset[0];
+			} else /* dOffset1 < sOffset1 */ {
+				save = source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0);
+				dest[d] &= LONG_DATA_MASK >>> sOffset0 - dOffset0;
 				dest[d] |= save;
 				
-				if (dOffset[1] > 0) {
+				if (dOffset1 > 0) {
 					d++;
 					
-					save = (source[s] & ~(LONG_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
-					dest[d] &= ~(~(LONG_DATA_MASK << sOffset[1]) >>> sOffset[0] - dOffset[0]);
+					save = (source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
+					dest[d] &= ~(~(LONG_DATA_MASK << sOffset1) >>> sOffset0 - dOffset0);
 					dest[d] |= save;
 				}
 			}
 		}
 	}
 	
-	private static void copyLowerFromBackwards0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
+	private static void copyLowerFromBackwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
 		// for the cases where source == dest, so save |red bits, before &ing them
 		long save;
 		
-		int d = dIndex[1];
-		int s = sIndex[1];
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				save = (source[s] & ~(LONG_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-				dest[d] &= ~(~(LONG_DATA_MASK << sOffset[1]) << dOffset[1] - sOffset[1]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				save = (source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+				dest[d] &= ~(~(LONG_DATA_MASK << sOffset1) << dOffset1 - sOffset1);
 				dest[d] |= save;
-			} else /* dOffset[1] < sOffset[1] */ {
-				if (dOffset[1] > 0) {
-					save = (source[s] & ~(LONG_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
-					dest[d] &= ~(~(LONG_DATA_MASK << sOffset[1]) >>> sOffset[0] - dOffset[0]);
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					save = (source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
+					dest[d] &= ~(~(LONG_DATA_MASK << sOffset1) >>> sOffset0 - dOffset0);
 					dest[d] |= save;
 				}
 				
 				d--;
 				
-				save = source[s] << LONG_DATA_LINES - (sOffset[0] - dOffset[0]);
-				dest[d] &= LONG_DATA_MASK >>> sOffset[0] - dOffset[0];
+				save = source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0);
+				dest[d] &= LONG_DATA_MASK >>> sOffset0 - dOffset0;
 				dest[d] |= save;
 			}
 		}
 
-		while(--s > sIndex[0]) {
-			save = source[s] >>> sOffset[0] - dOffset[0];
-			dest[d] &= ~(LONG_DATA_MASK >>> sOffset[0] - dOffset[0]);
+		while(--s > sIndex0) {
+			save = source[s] >>> sOffset0 - dOffset0;
+			dest[d] &= ~(LONG_DATA_MASK >>> sOffset0 - dOffset0);
 			dest[d] |= save;
 
 			--d;
 
-			save = source[s] << LONG_DATA_LINES - (sOffset[0] - dOffset[0]);
-			dest[d] &= LONG_DATA_MASK >>> sOffset[0] - dOffset[0];
+			save = source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0);
+			dest[d] &= LONG_DATA_MASK >>> sOffset0 - dOffset0;
 			dest[d] |= save;
 		}
 		
-		save = source[s] >>> sOffset[0] << dOffset[0];
-		dest[d] &= ~((LONG_DATA_MASK >>> sOffset[0]) << dOffset[0]);
+		save = source[s] >>> sOffset0 << dOffset0;
+		dest[d] &= ~((LONG_DATA_MASK >>> sOffset0) << dOffset0);
 		dest[d] |= save;
 	}
+
+	/********** cross-type **********/
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(byte[] source, int srcPos, char[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(byte[] source, long srcPos, char[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << BYTE_ADDRESS_LINES, (long) dest.length << CHAR_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> CHAR_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> CHAR_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & CHAR_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & CHAR_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = CHAR_DATA_MASK << dOffset0 & ~(CHAR_DATA_MASK << dOffset1);
+			dest[dIndex0] = (char) (dest[dIndex0] & ~MASK | Store.readChar(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = CHAR_DATA_MASK << dOffset0;
+			dest[dIndex0] = (char) (dest[dIndex0] & ~MASK | Store.readChar(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += CHAR_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> BYTE_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & BYTE_ADDRESS_MASK;
+		final int sIndexMax = source.length - 2 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 2)
+				dest[dIndex0] = (char) (pack16(source, sIndex));
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 2)
+				dest[dIndex0] = (char) (pack16(source, sIndex) >>> sOffset | (source[sIndex + 2] & BYTE_DATA_MASK) << CHAR_DATA_LINES - sOffset);
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << BYTE_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += CHAR_DATA_LINES)
+			dest[dIndex0] = Store.readChar(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(CHAR_DATA_MASK << dOffset1);
+			dest[dIndex1] = (char) (dest[dIndex1] & ~MASK | Store.readChar(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(byte[] source, int srcPos, short[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(byte[] source, long srcPos, short[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << BYTE_ADDRESS_LINES, (long) dest.length << SHORT_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> SHORT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> SHORT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & SHORT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & SHORT_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = SHORT_DATA_MASK << dOffset0 & ~(SHORT_DATA_MASK << dOffset1);
+			dest[dIndex0] = (short) (dest[dIndex0] & ~MASK | Store.readShort(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = SHORT_DATA_MASK << dOffset0;
+			dest[dIndex0] = (short) (dest[dIndex0] & ~MASK | Store.readShort(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += SHORT_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> BYTE_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & BYTE_ADDRESS_MASK;
+		final int sIndexMax = source.length - 2 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 2)
+				dest[dIndex0] = (short) (pack16(source, sIndex));
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 2)
+				dest[dIndex0] = (short) (pack16(source, sIndex) >>> sOffset | (source[sIndex + 2] & BYTE_DATA_MASK) << SHORT_DATA_LINES - sOffset);
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << BYTE_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += SHORT_DATA_LINES)
+			dest[dIndex0] = Store.readShort(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(SHORT_DATA_MASK << dOffset1);
+			dest[dIndex1] = (short) (dest[dIndex1] & ~MASK | Store.readShort(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(byte[] source, int srcPos, int[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(byte[] source, long srcPos, int[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << BYTE_ADDRESS_LINES, (long) dest.length << INT_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> INT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> INT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & INT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & INT_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = INT_DATA_MASK << dOffset0 & ~(INT_DATA_MASK << dOffset1);
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readInt(source, srcPos) << dOffset0 & MASK;
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = INT_DATA_MASK << dOffset0;
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readInt(source, srcPos) << dOffset0 & MASK;
+		
+			// first index already taken care of
+			srcPos += INT_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> BYTE_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & BYTE_ADDRESS_MASK;
+		final int sIndexMax = source.length - 4 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 4)
+				dest[dIndex0] = pack32(source, sIndex);
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 4)
+				dest[dIndex0] = pack32(source, sIndex) >>> sOffset | (source[sIndex + 4] & BYTE_DATA_MASK) << INT_DATA_LINES - sOffset;
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << BYTE_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += INT_DATA_LINES)
+			dest[dIndex0] = Store.readInt(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(INT_DATA_MASK << dOffset1);
+			dest[dIndex1] = dest[dIndex1] & ~MASK | Store.readInt(source, srcPos) & MASK;
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(byte[] source, int srcPos, long[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(byte[] source, long srcPos, long[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << BYTE_ADDRESS_LINES, (long) dest.length << LONG_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> LONG_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> LONG_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & LONG_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & LONG_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final long MASK = LONG_DATA_MASK << dOffset0 & ~(LONG_DATA_MASK << dOffset1);
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readLong(source, srcPos) << dOffset0 & MASK;
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final long MASK = LONG_DATA_MASK << dOffset0;
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readLong(source, srcPos) << dOffset0 & MASK;
+		
+			// first index already taken care of
+			srcPos += LONG_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> BYTE_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & BYTE_ADDRESS_MASK;
+		final int sIndexMax = source.length - 8 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 8)
+				dest[dIndex0] = pack64(source, sIndex);
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 8)
+				dest[dIndex0] = pack64(source, sIndex) >>> sOffset | (long) (source[sIndex + 8] & BYTE_DATA_MASK) << LONG_DATA_LINES - sOffset;
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << BYTE_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += LONG_DATA_LINES)
+			dest[dIndex0] = Store.readLong(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final long MASK = ~(LONG_DATA_MASK << dOffset1);
+			dest[dIndex1] = dest[dIndex1] & ~MASK | Store.readLong(source, srcPos) & MASK;
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(char[] source, int srcPos, byte[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(char[] source, long srcPos, byte[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << CHAR_ADDRESS_LINES, (long) dest.length << BYTE_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> BYTE_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> BYTE_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & BYTE_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & BYTE_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = BYTE_DATA_MASK << dOffset0 & ~(BYTE_DATA_MASK << dOffset1);
+			dest[dIndex0] = (byte) (dest[dIndex0] & ~MASK | Store.readByte(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = BYTE_DATA_MASK << dOffset0;
+			dest[dIndex0] = (byte) (dest[dIndex0] & ~MASK | Store.readByte(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += BYTE_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// whole destination words
+		for (; dIndex0 < dIndex1; dIndex0++, srcPos += BYTE_DATA_LINES)
+			dest[dIndex0] = Store.readByte(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(BYTE_DATA_MASK << dOffset1);
+			dest[dIndex1] = (byte) (dest[dIndex1] & ~MASK | Store.readByte(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(char[] source, int srcPos, short[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(char[] source, long srcPos, short[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << CHAR_ADDRESS_LINES, (long) dest.length << SHORT_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> SHORT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> SHORT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & SHORT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & SHORT_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = SHORT_DATA_MASK << dOffset0 & ~(SHORT_DATA_MASK << dOffset1);
+			dest[dIndex0] = (short) (dest[dIndex0] & ~MASK | Store.readShort(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = SHORT_DATA_MASK << dOffset0;
+			dest[dIndex0] = (short) (dest[dIndex0] & ~MASK | Store.readShort(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += SHORT_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> CHAR_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & CHAR_ADDRESS_MASK;
+		final int sIndexMax = source.length - 1 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 1)
+				dest[dIndex0] = (short) ((source[sIndex] & CHAR_DATA_MASK));
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 1)
+				dest[dIndex0] = (short) ((source[sIndex] & CHAR_DATA_MASK) >>> sOffset | (source[sIndex + 1] & CHAR_DATA_MASK) << SHORT_DATA_LINES - sOffset);
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << CHAR_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += SHORT_DATA_LINES)
+			dest[dIndex0] = Store.readShort(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(SHORT_DATA_MASK << dOffset1);
+			dest[dIndex1] = (short) (dest[dIndex1] & ~MASK | Store.readShort(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(char[] source, int srcPos, int[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(char[] source, long srcPos, int[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << CHAR_ADDRESS_LINES, (long) dest.length << INT_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> INT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> INT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & INT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & INT_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = INT_DATA_MASK << dOffset0 & ~(INT_DATA_MASK << dOffset1);
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readInt(source, srcPos) << dOffset0 & MASK;
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = INT_DATA_MASK << dOffset0;
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readInt(source, srcPos) << dOffset0 & MASK;
+		
+			// first index already taken care of
+			srcPos += INT_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> CHAR_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & CHAR_ADDRESS_MASK;
+		final int sIndexMax = source.length - 2 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 2)
+				dest[dIndex0] = pack32(source, sIndex);
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 2)
+				dest[dIndex0] = pack32(source, sIndex) >>> sOffset | (source[sIndex + 2] & CHAR_DATA_MASK) << INT_DATA_LINES - sOffset;
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << CHAR_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += INT_DATA_LINES)
+			dest[dIndex0] = Store.readInt(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(INT_DATA_MASK << dOffset1);
+			dest[dIndex1] = dest[dIndex1] & ~MASK | Store.readInt(source, srcPos) & MASK;
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(char[] source, int srcPos, long[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(char[] source, long srcPos, long[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << CHAR_ADDRESS_LINES, (long) dest.length << LONG_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> LONG_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> LONG_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & LONG_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & LONG_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final long MASK = LONG_DATA_MASK << dOffset0 & ~(LONG_DATA_MASK << dOffset1);
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readLong(source, srcPos) << dOffset0 & MASK;
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final long MASK = LONG_DATA_MASK << dOffset0;
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readLong(source, srcPos) << dOffset0 & MASK;
+		
+			// first index already taken care of
+			srcPos += LONG_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> CHAR_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & CHAR_ADDRESS_MASK;
+		final int sIndexMax = source.length - 4 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 4)
+				dest[dIndex0] = pack64(source, sIndex);
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 4)
+				dest[dIndex0] = pack64(source, sIndex) >>> sOffset | (long) (source[sIndex + 4] & CHAR_DATA_MASK) << LONG_DATA_LINES - sOffset;
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << CHAR_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += LONG_DATA_LINES)
+			dest[dIndex0] = Store.readLong(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final long MASK = ~(LONG_DATA_MASK << dOffset1);
+			dest[dIndex1] = dest[dIndex1] & ~MASK | Store.readLong(source, srcPos) & MASK;
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(short[] source, int srcPos, byte[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(short[] source, long srcPos, byte[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << SHORT_ADDRESS_LINES, (long) dest.length << BYTE_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> BYTE_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> BYTE_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & BYTE_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & BYTE_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = BYTE_DATA_MASK << dOffset0 & ~(BYTE_DATA_MASK << dOffset1);
+			dest[dIndex0] = (byte) (dest[dIndex0] & ~MASK | Store.readByte(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = BYTE_DATA_MASK << dOffset0;
+			dest[dIndex0] = (byte) (dest[dIndex0] & ~MASK | Store.readByte(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += BYTE_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// whole destination words
+		for (; dIndex0 < dIndex1; dIndex0++, srcPos += BYTE_DATA_LINES)
+			dest[dIndex0] = Store.readByte(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(BYTE_DATA_MASK << dOffset1);
+			dest[dIndex1] = (byte) (dest[dIndex1] & ~MASK | Store.readByte(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(short[] source, int srcPos, char[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(short[] source, long srcPos, char[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << SHORT_ADDRESS_LINES, (long) dest.length << CHAR_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> CHAR_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> CHAR_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & CHAR_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & CHAR_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = CHAR_DATA_MASK << dOffset0 & ~(CHAR_DATA_MASK << dOffset1);
+			dest[dIndex0] = (char) (dest[dIndex0] & ~MASK | Store.readChar(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = CHAR_DATA_MASK << dOffset0;
+			dest[dIndex0] = (char) (dest[dIndex0] & ~MASK | Store.readChar(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += CHAR_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> SHORT_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & SHORT_ADDRESS_MASK;
+		final int sIndexMax = source.length - 1 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 1)
+				dest[dIndex0] = (char) ((source[sIndex] & SHORT_DATA_MASK));
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 1)
+				dest[dIndex0] = (char) ((source[sIndex] & SHORT_DATA_MASK) >>> sOffset | (source[sIndex + 1] & SHORT_DATA_MASK) << CHAR_DATA_LINES - sOffset);
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << SHORT_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += CHAR_DATA_LINES)
+			dest[dIndex0] = Store.readChar(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(CHAR_DATA_MASK << dOffset1);
+			dest[dIndex1] = (char) (dest[dIndex1] & ~MASK | Store.readChar(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(short[] source, int srcPos, int[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(short[] source, long srcPos, int[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << SHORT_ADDRESS_LINES, (long) dest.length << INT_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> INT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> INT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & INT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & INT_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = INT_DATA_MASK << dOffset0 & ~(INT_DATA_MASK << dOffset1);
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readInt(source, srcPos) << dOffset0 & MASK;
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = INT_DATA_MASK << dOffset0;
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readInt(source, srcPos) << dOffset0 & MASK;
+		
+			// first index already taken care of
+			srcPos += INT_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> SHORT_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & SHORT_ADDRESS_MASK;
+		final int sIndexMax = source.length - 2 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 2)
+				dest[dIndex0] = pack32(source, sIndex);
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 2)
+				dest[dIndex0] = pack32(source, sIndex) >>> sOffset | (source[sIndex + 2] & SHORT_DATA_MASK) << INT_DATA_LINES - sOffset;
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << SHORT_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += INT_DATA_LINES)
+			dest[dIndex0] = Store.readInt(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(INT_DATA_MASK << dOffset1);
+			dest[dIndex1] = dest[dIndex1] & ~MASK | Store.readInt(source, srcPos) & MASK;
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(short[] source, int srcPos, long[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(short[] source, long srcPos, long[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << SHORT_ADDRESS_LINES, (long) dest.length << LONG_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> LONG_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> LONG_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & LONG_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & LONG_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final long MASK = LONG_DATA_MASK << dOffset0 & ~(LONG_DATA_MASK << dOffset1);
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readLong(source, srcPos) << dOffset0 & MASK;
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final long MASK = LONG_DATA_MASK << dOffset0;
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readLong(source, srcPos) << dOffset0 & MASK;
+		
+			// first index already taken care of
+			srcPos += LONG_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> SHORT_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & SHORT_ADDRESS_MASK;
+		final int sIndexMax = source.length - 4 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 4)
+				dest[dIndex0] = pack64(source, sIndex);
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 4)
+				dest[dIndex0] = pack64(source, sIndex) >>> sOffset | (long) (source[sIndex + 4] & SHORT_DATA_MASK) << LONG_DATA_LINES - sOffset;
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << SHORT_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += LONG_DATA_LINES)
+			dest[dIndex0] = Store.readLong(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final long MASK = ~(LONG_DATA_MASK << dOffset1);
+			dest[dIndex1] = dest[dIndex1] & ~MASK | Store.readLong(source, srcPos) & MASK;
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(int[] source, int srcPos, byte[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(int[] source, long srcPos, byte[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << INT_ADDRESS_LINES, (long) dest.length << BYTE_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> BYTE_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> BYTE_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & BYTE_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & BYTE_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = BYTE_DATA_MASK << dOffset0 & ~(BYTE_DATA_MASK << dOffset1);
+			dest[dIndex0] = (byte) (dest[dIndex0] & ~MASK | Store.readByte(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = BYTE_DATA_MASK << dOffset0;
+			dest[dIndex0] = (byte) (dest[dIndex0] & ~MASK | Store.readByte(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += BYTE_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// whole destination words
+		for (; dIndex0 < dIndex1; dIndex0++, srcPos += BYTE_DATA_LINES)
+			dest[dIndex0] = Store.readByte(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(BYTE_DATA_MASK << dOffset1);
+			dest[dIndex1] = (byte) (dest[dIndex1] & ~MASK | Store.readByte(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(int[] source, int srcPos, char[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(int[] source, long srcPos, char[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << INT_ADDRESS_LINES, (long) dest.length << CHAR_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> CHAR_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> CHAR_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & CHAR_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & CHAR_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = CHAR_DATA_MASK << dOffset0 & ~(CHAR_DATA_MASK << dOffset1);
+			dest[dIndex0] = (char) (dest[dIndex0] & ~MASK | Store.readChar(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = CHAR_DATA_MASK << dOffset0;
+			dest[dIndex0] = (char) (dest[dIndex0] & ~MASK | Store.readChar(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += CHAR_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// whole destination words
+		for (; dIndex0 < dIndex1; dIndex0++, srcPos += CHAR_DATA_LINES)
+			dest[dIndex0] = Store.readChar(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(CHAR_DATA_MASK << dOffset1);
+			dest[dIndex1] = (char) (dest[dIndex1] & ~MASK | Store.readChar(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(int[] source, int srcPos, short[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(int[] source, long srcPos, short[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << INT_ADDRESS_LINES, (long) dest.length << SHORT_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> SHORT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> SHORT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & SHORT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & SHORT_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = SHORT_DATA_MASK << dOffset0 & ~(SHORT_DATA_MASK << dOffset1);
+			dest[dIndex0] = (short) (dest[dIndex0] & ~MASK | Store.readShort(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = SHORT_DATA_MASK << dOffset0;
+			dest[dIndex0] = (short) (dest[dIndex0] & ~MASK | Store.readShort(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += SHORT_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// whole destination words
+		for (; dIndex0 < dIndex1; dIndex0++, srcPos += SHORT_DATA_LINES)
+			dest[dIndex0] = Store.readShort(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(SHORT_DATA_MASK << dOffset1);
+			dest[dIndex1] = (short) (dest[dIndex1] & ~MASK | Store.readShort(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(int[] source, int srcPos, long[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(int[] source, long srcPos, long[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << INT_ADDRESS_LINES, (long) dest.length << LONG_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> LONG_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> LONG_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & LONG_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & LONG_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final long MASK = LONG_DATA_MASK << dOffset0 & ~(LONG_DATA_MASK << dOffset1);
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readLong(source, srcPos) << dOffset0 & MASK;
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final long MASK = LONG_DATA_MASK << dOffset0;
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readLong(source, srcPos) << dOffset0 & MASK;
+		
+			// first index already taken care of
+			srcPos += LONG_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// FAST PATH: assemble whole destination words straight from source elements
+		int sIndex = (int) (srcPos >> INT_ADDRESS_LINES);
+		final int sOffset = (int) srcPos & INT_ADDRESS_MASK;
+		final int sIndexMax = source.length - 2 - (sOffset != 0 ? 1 : 0);
+		
+		if (sOffset == 0)
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 2)
+				dest[dIndex0] = pack64(source, sIndex);
+		else
+			for (; dIndex0 < dIndex1 && sIndex <= sIndexMax; dIndex0++, sIndex += 2)
+				dest[dIndex0] = pack64(source, sIndex) >>> sOffset | (source[sIndex + 2] & 0xFFFFFFFFL) << LONG_DATA_LINES - sOffset;
+		
+		// words reaching the end of source
+		for (srcPos = ((long) sIndex << INT_ADDRESS_LINES) + sOffset; dIndex0 < dIndex1; dIndex0++, srcPos += LONG_DATA_LINES)
+			dest[dIndex0] = Store.readLong(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final long MASK = ~(LONG_DATA_MASK << dOffset1);
+			dest[dIndex1] = dest[dIndex1] & ~MASK | Store.readLong(source, srcPos) & MASK;
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(long[] source, int srcPos, byte[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(long[] source, long srcPos, byte[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << LONG_ADDRESS_LINES, (long) dest.length << BYTE_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> BYTE_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> BYTE_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & BYTE_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & BYTE_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = BYTE_DATA_MASK << dOffset0 & ~(BYTE_DATA_MASK << dOffset1);
+			dest[dIndex0] = (byte) (dest[dIndex0] & ~MASK | Store.readByte(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = BYTE_DATA_MASK << dOffset0;
+			dest[dIndex0] = (byte) (dest[dIndex0] & ~MASK | Store.readByte(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += BYTE_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// whole destination words
+		for (; dIndex0 < dIndex1; dIndex0++, srcPos += BYTE_DATA_LINES)
+			dest[dIndex0] = Store.readByte(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(BYTE_DATA_MASK << dOffset1);
+			dest[dIndex1] = (byte) (dest[dIndex1] & ~MASK | Store.readByte(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(long[] source, int srcPos, char[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(long[] source, long srcPos, char[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << LONG_ADDRESS_LINES, (long) dest.length << CHAR_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> CHAR_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> CHAR_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & CHAR_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & CHAR_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = CHAR_DATA_MASK << dOffset0 & ~(CHAR_DATA_MASK << dOffset1);
+			dest[dIndex0] = (char) (dest[dIndex0] & ~MASK | Store.readChar(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = CHAR_DATA_MASK << dOffset0;
+			dest[dIndex0] = (char) (dest[dIndex0] & ~MASK | Store.readChar(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += CHAR_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// whole destination words
+		for (; dIndex0 < dIndex1; dIndex0++, srcPos += CHAR_DATA_LINES)
+			dest[dIndex0] = Store.readChar(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(CHAR_DATA_MASK << dOffset1);
+			dest[dIndex1] = (char) (dest[dIndex1] & ~MASK | Store.readChar(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(long[] source, int srcPos, short[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(long[] source, long srcPos, short[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << LONG_ADDRESS_LINES, (long) dest.length << SHORT_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> SHORT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> SHORT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & SHORT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & SHORT_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = SHORT_DATA_MASK << dOffset0 & ~(SHORT_DATA_MASK << dOffset1);
+			dest[dIndex0] = (short) (dest[dIndex0] & ~MASK | Store.readShort(source, srcPos) << dOffset0 & MASK);
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = SHORT_DATA_MASK << dOffset0;
+			dest[dIndex0] = (short) (dest[dIndex0] & ~MASK | Store.readShort(source, srcPos) << dOffset0 & MASK);
+		
+			// first index already taken care of
+			srcPos += SHORT_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// whole destination words
+		for (; dIndex0 < dIndex1; dIndex0++, srcPos += SHORT_DATA_LINES)
+			dest[dIndex0] = Store.readShort(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(SHORT_DATA_MASK << dOffset1);
+			dest[dIndex1] = (short) (dest[dIndex1] & ~MASK | Store.readShort(source, srcPos) & MASK);
+		}
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(long[] source, int srcPos, int[] dest, int destPos, int length) {
+		copyFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. A 
+	 * region of bits is copied from the source storage referenced by 
+	 * {@code source} to the destination storage referenced by {@code dest}. 
+	 * The number of bits copied is equal to the {@code length} argument. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void copyFrom(long[] source, long srcPos, int[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << LONG_ADDRESS_LINES, (long) dest.length << INT_ADDRESS_LINES))
+			return;
+		
+		int dIndex0 = (int) (destPos >> INT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> INT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & INT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & INT_ADDRESS_MASK;
+		
+		if (dIndex1 == dIndex0) {
+			// special case: subword copy
+			final int MASK = INT_DATA_MASK << dOffset0 & ~(INT_DATA_MASK << dOffset1);
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readInt(source, srcPos) << dOffset0 & MASK;
+			return;
+		}
+		
+		if (dOffset0 != 0) {
+			// handle "from" end specially
+			final int MASK = INT_DATA_MASK << dOffset0;
+			dest[dIndex0] = dest[dIndex0] & ~MASK | Store.readInt(source, srcPos) << dOffset0 & MASK;
+		
+			// first index already taken care of
+			srcPos += INT_DATA_LINES - dOffset0;
+			dIndex0++;
+		}
+		
+		// whole destination words
+		for (; dIndex0 < dIndex1; dIndex0++, srcPos += INT_DATA_LINES)
+			dest[dIndex0] = Store.readInt(source, srcPos);
+		
+		if (dOffset1 != 0) {
+			// handle "to" end specially
+			final int MASK = ~(INT_DATA_MASK << dOffset1);
+			dest[dIndex1] = dest[dIndex1] & ~MASK | Store.readInt(source, srcPos) & MASK;
+		}
+	}
+
+	// 2 elements, from index on, as a single 16-bit word (no bounds checking)
+	private static int pack16(byte[] data, int index) {
+		return (data[index] & BYTE_DATA_MASK)
+			| (data[index + 1] & BYTE_DATA_MASK) << BYTE_DATA_LINES;
+	}
+
+	// 4 elements, from index on, as a single 32-bit word (no bounds checking)
+	private static int pack32(byte[] data, int index) {
+		return (data[index] & BYTE_DATA_MASK)
+			| (data[index + 1] & BYTE_DATA_MASK) << BYTE_DATA_LINES
+			| (data[index + 2] & BYTE_DATA_MASK) << 2*BYTE_DATA_LINES
+			| (data[index + 3] & BYTE_DATA_MASK) << 3*BYTE_DATA_LINES;
+	}
+
+	// 8 elements, from index on, as a single 64-bit word (no bounds checking)
+	static long pack64(byte[] data, int index) {
+		return (long) (data[index] & BYTE_DATA_MASK)
+			| (long) (data[index + 1] & BYTE_DATA_MASK) << BYTE_DATA_LINES
+			| (long) (data[index + 2] & BYTE_DATA_MASK) << 2*BYTE_DATA_LINES
+			| (long) (data[index + 3] & BYTE_DATA_MASK) << 3*BYTE_DATA_LINES
+			| (long) (data[index + 4] & BYTE_DATA_MASK) << 4*BYTE_DATA_LINES
+			| (long) (data[index + 5] & BYTE_DATA_MASK) << 5*BYTE_DATA_LINES
+			| (long) (data[index + 6] & BYTE_DATA_MASK) << 6*BYTE_DATA_LINES
+			| (long) (data[index + 7] & BYTE_DATA_MASK) << 7*BYTE_DATA_LINES;
+	}
+
+	// 2 elements, from index on, as a single 32-bit word (no bounds checking)
+	private static int pack32(char[] data, int index) {
+		return (data[index] & CHAR_DATA_MASK)
+			| (data[index + 1] & CHAR_DATA_MASK) << CHAR_DATA_LINES;
+	}
+
+	// 4 elements, from index on, as a single 64-bit word (no bounds checking)
+	static long pack64(char[] data, int index) {
+		return (long) (data[index] & CHAR_DATA_MASK)
+			| (long) (data[index + 1] & CHAR_DATA_MASK) << CHAR_DATA_LINES
+			| (long) (data[index + 2] & CHAR_DATA_MASK) << 2*CHAR_DATA_LINES
+			| (long) (data[index + 3] & CHAR_DATA_MASK) << 3*CHAR_DATA_LINES;
+	}
+
+	// 2 elements, from index on, as a single 32-bit word (no bounds checking)
+	private static int pack32(short[] data, int index) {
+		return (data[index] & SHORT_DATA_MASK)
+			| (data[index + 1] & SHORT_DATA_MASK) << SHORT_DATA_LINES;
+	}
+
+	// 4 elements, from index on, as a single 64-bit word (no bounds checking)
+	static long pack64(short[] data, int index) {
+		return (long) (data[index] & SHORT_DATA_MASK)
+			| (long) (data[index + 1] & SHORT_DATA_MASK) << SHORT_DATA_LINES
+			| (long) (data[index + 2] & SHORT_DATA_MASK) << 2*SHORT_DATA_LINES
+			| (long) (data[index + 3] & SHORT_DATA_MASK) << 3*SHORT_DATA_LINES;
+	}
+
+	// 2 elements, from index on, as a single 64-bit word (no bounds checking)
+	static long pack64(int[] data, int index) {
+		return (data[index] & 0xFFFFFFFFL)
+			| (data[index + 1] & 0xFFFFFFFFL) << INT_DATA_LINES;
+	}
+
 }
@@ -29,14 +29,24 @@ package br.eti.rslemos.bitsmagic;
 
 import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_LINES;
 import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_DATA_LINES;
 import static br.eti.rslemos.bitsmagic.Store.CHAR_ADDRESS_LINES;
 import static br.eti.rslemos.bitsmagic.Store.CHAR_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_DATA_LINES;
 import static br.eti.rslemos.bitsmagic.Store.INT_ADDRESS_LINES;
 import static br.eti.rslemos.bitsmagic.Store.INT_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.INT_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.INT_DATA_LINES;
 import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_LINES;
 import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_LINES;
 import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_LINES;
 import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_LINES;
 
 /**
  * This class consists exclusively of static methods for conversion between 
@@ -251,16 +261,37 @@ public class GrayCode {
 		if (to - from < 2)
 			return;
 		
-		int[] index  = {from  >> BYTE_ADDRESS_LINES, to >> BYTE_ADDRESS_LINES};
-		int[] offset = {from  & BYTE_ADDRESS_MASK,   to & BYTE_ADDRESS_MASK  };
+		final int index0 = from >> BYTE_ADDRESS_LINES;
+		final int index1 = (to - 1) >> BYTE_ADDRESS_LINES;
 		
-		if (offset[1] > 0)
-			index[1]++;
+		// bits of the region within the least and the most significant elements
+		final int mask0 = BYTE_DATA_MASK << (from & BYTE_ADDRESS_MASK) & BYTE_DATA_MASK;
+		final int mask1 = BYTE_DATA_MASK >>> BYTE_DATA_LINES - 1 - ((to - 1) & BYTE_ADDRESS_MASK);
 		
-		byte[] aux = new byte[index[1] - index[0]];
-		System.arraycopy(data, index[0], aux, 0, index[1] - index[0]);
-		Shifter.shr(aux, offset[0], offset[0] + to - from, 1);
-		Xor.xorFrom(aux, offset[0], data, from, to - from);
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			final int w = data[index0] & MASK;
+			data[index0] = (byte) (data[index0] & ~MASK | (w ^ w >>> 1) & MASK);
+			return;
+		}
+		
+		// single pass, from the least significant element up: each bit is 
+		// xor'ed with the one above it, which for the most significant bit of 
+		// an element is the least significant bit of the next (yet untouched)
+		int w = data[index0] & BYTE_DATA_MASK;
+		int next = data[index0 + 1] & BYTE_DATA_MASK;
+		data[index0] = (byte) (data[index0] & ~mask0 | (w ^ (w >>> 1 | next << BYTE_DATA_LINES - 1)) & mask0);
+		
+		for (int j = index0 + 1; j < index1; j++) {
+			w = next;
+			next = data[j + 1] & BYTE_DATA_MASK;
+			data[j] = (byte) (w ^ (w >>> 1 | next << BYTE_DATA_LINES - 1));
+		}
+		
+		// bits above the region do not take part
+		w = next & mask1;
+		data[index1] = (byte) (data[index1] & ~mask1 | (w ^ w >>> 1) & mask1);
 	}
 
 	/**
@@ -284,20 +315,32 @@ public class GrayCode {
 		if (to - from < 2)
 			return;
 		
-		int[] index  = {from  >> BYTE_ADDRESS_LINES, to >> BYTE_ADDRESS_LINES};
-		int[] offset = {from  & BYTE_ADDRESS_MASK,   to & BYTE_ADDRESS_MASK  };
+		final int index0 = from >> BYTE_ADDRESS_LINES;
+		final int index1 = (to - 1) >> BYTE_ADDRESS_LINES;
+		
+		// bits of the region within the least and the most significant elements
+		final int mask0 = BYTE_DATA_MASK << (from & BYTE_ADDRESS_MASK) & BYTE_DATA_MASK;
+		final int mask1 = BYTE_DATA_MASK >>> BYTE_DATA_LINES - 1 - ((to - 1) & BYTE_ADDRESS_MASK);
 		
-		if (offset[1] > 0)
-			index[1]++;
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = (byte) (data[index0] & ~MASK | fromGray((byte) (data[index0] & MASK)) & MASK);
+			return;
+		}
 		
-		byte[] aux = new byte[index[1] - index[0]];
+		// single pass, from the most significant element down: each bit is 
+		// xor'ed with every bit above it, those in the same element by the 
+		// scalar fromGray, those in higher elements through the carried parity
+		data[index1] = (byte) (data[index1] & ~mask1 | fromGray((byte) (data[index1] & mask1)) & mask1);
+		int carry = data[index1] & 1;
 		
-		int length = to - from;
-		for(int i = 1; i < length; i <<= 1) {
-			System.arraycopy(data, index[0], aux, 0, index[1] - index[0]);
-			Shifter.shr(aux, offset[0], offset[0] + length, i);
-			Xor.xorFrom(aux, offset[0], data, from, length);
+		for (int j = index1 - 1; j > index0; j--) {
+			data[j] = (byte) (fromGray(data[j]) ^ -carry);
+			carry = data[j] & 1;
 		}
+		
+		data[index0] = (byte) (data[index0] & ~mask0 | (fromGray((byte) (data[index0] & mask0)) ^ -carry) & mask0);
 	}
 	
 	/********** char[] **********/
@@ -323,16 +366,37 @@ public class GrayCode {
 		if (to - from < 2)
 			return;
 		
-		int[] index  = {from  >> CHAR_ADDRESS_LINES, to >> CHAR_ADDRESS_LINES};
-		int[] offset = {from  & CHAR_ADDRESS_MASK,   to & CHAR_ADDRESS_MASK  };
+		final int index0 = from >> CHAR_ADDRESS_LINES;
+		final int index1 = (to - 1) >> CHAR_ADDRESS_LINES;
 		
-		if (offset[1] > 0)
-			index[1]++;
+		// bits of the region within the least and the most significant elements
+		final int mask0 = CHAR_DATA_MASK << (from & CHAR_ADDRESS_MASK) & CHAR_DATA_MASK;
+		final int mask1 = CHAR_DATA_MASK >>> CHAR_DATA_LINES - 1 - ((to - 1) & CHAR_ADDRESS_MASK);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			final int w = data[index0] & MASK;
+			data[index0] = (char) (data[index0] & ~MASK | (w ^ w >>> 1) & MASK);
+			return;
+		}
 		
-		char[] aux = new char[index[1] - index[0]];
-		System.arraycopy(data, index[0], aux, 0, index[1] - index[0]);
-		Shifter.shr(aux, offset[0], offset[0] + to - from, 1);
-		Xor.xorFrom(aux, offset[0], data, from, to - from);
+		// single pass, from the least significant element up: each bit is 
+		// xor'ed with the one above it, which for the most significant bit of 
+		// an element is the least significant bit of the next (yet untouched)
+		int w = data[index0] & CHAR_DATA_MASK;
+		int next = data[index0 + 1] & CHAR_DATA_MASK;
+		data[index0] = (char) (data[index0] & ~mask0 | (w ^ (w >>> 1 | next << CHAR_DATA_LINES - 1)) & mask0);
+		
+		for (int j = index0 + 1; j < index1; j++) {
+			w = next;
+			next = data[j + 1] & CHAR_DATA_MASK;
+			data[j] = (char) (w ^ (w >>> 1 | next << CHAR_DATA_LINES - 1));
+		}
+		
+		// bits above the region do not take part
+		w = next & mask1;
+		data[index1] = (char) (data[index1] & ~mask1 | (w ^ w >>> 1) & mask1);
 	}
 
 	/**
@@ -356,20 +420,32 @@ public class GrayCode {
 		if (to - from < 2)
 			return;
 		
-		int[] index  = {from  >> CHAR_ADDRESS_LINES, to >> CHAR_ADDRESS_LINES};
-		int[] offset = {from  & CHAR_ADDRESS_MASK,   to & CHAR_ADDRESS_MASK  };
+		final int index0 = from >> CHAR_ADDRESS_LINES;
+		final int index1 = (to - 1) >> CHAR_ADDRESS_LINES;
+		
+		// bits of the region within the least and the most significant elements
+		final int mask0 = CHAR_DATA_MASK << (from & CHAR_ADDRESS_MASK) & CHAR_DATA_MASK;
+		final int mask1 = CHAR_DATA_MASK >>> CHAR_DATA_LINES - 1 - ((to - 1) & CHAR_ADDRESS_MASK);
 		
-		if (offset[1] > 0)
-			index[1]++;
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = (char) (data[index0] & ~MASK | fromGray((char) (data[index0] & MASK)) & MASK);
+			return;
+		}
 		
-		char[] aux = new char[index[1] - index[0]];
+		// single pass, from the most significant element down: each bit is 
+		// xor'ed with every bit above it, those in the same element by the 
+		// scalar fromGray, those in higher elements through the carried parity
+		data[index1] = (char) (data[index1] & ~mask1 | fromGray((char) (data[index1] & mask1)) & mask1);
+		int carry = data[index1] & 1;
 		
-		int length = to - from;
-		for(int i = 1; i < length; i <<= 1) {
-			System.arraycopy(data, index[0], aux, 0, index[1] - index[0]);
-			Shifter.shr(aux, offset[0], offset[0] + length, i);
-			Xor.xorFrom(aux, offset[0], data, from, length);
+		for (int j = index1 - 1; j > index0; j--) {
+			data[j] = (char) (fromGray(data[j]) ^ -carry);
+			carry = data[j] & 1;
 		}
+		
+		data[index0] = (char) (data[index0] & ~mask0 | (fromGray((char) (data[index0] & mask0)) ^ -carry) & mask0);
 	}
 	
 	/********** short[] **********/
@@ -395,16 +471,37 @@ public class GrayCode {
 		if (to - from < 2)
 			return;
 		
-		int[] index  = {from  >> SHORT_ADDRESS_LINES, to >> SHORT_ADDRESS_LINES};
-		int[] offset = {from  & SHORT_ADDRESS_MASK,   to & SHORT_ADDRESS_MASK  };
+		final int index0 = from >> SHORT_ADDRESS_LINES;
+		final int index1 = (to - 1) >> SHORT_ADDRESS_LINES;
 		
-		if (offset[1] > 0)
-			index[1]++;
+		// bits of the region within the least and the most significant elements
+		final int mask0 = SHORT_DATA_MASK << (from & SHORT_ADDRESS_MASK) & SHORT_DATA_MASK;
+		final int mask1 = SHORT_DATA_MASK >>> SHORT_DATA_LINES - 1 - ((to - 1) & SHORT_ADDRESS_MASK);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			final int w = data[index0] & MASK;
+			data[index0] = (short) (data[index0] & ~MASK | (w ^ w >>> 1) & MASK);
+			return;
+		}
+		
+		// single pass, from the least significant element up: each bit is 
+		// xor'ed with the one above it, which for the most significant bit of 
+		// an element is the least significant bit of the next (yet untouched)
+		int w = data[index0] & SHORT_DATA_MASK;
+		int next = data[index0 + 1] & SHORT_DATA_MASK;
+		data[index0] = (short) (data[index0] & ~mask0 | (w ^ (w >>> 1 | next << SHORT_DATA_LINES - 1)) & mask0);
+		
+		for (int j = index0 + 1; j < index1; j++) {
+			w = next;
+			next = data[j + 1] & SHORT_DATA_MASK;
+			data[j] = (short) (w ^ (w >>> 1 | next << SHORT_DATA_LINES - 1));
+		}
 		
-		short[] aux = new short[index[1] - index[0]];
-		System.arraycopy(data, index[0], aux, 0, index[1] - index[0]);
-		Shifter.shr(aux, offset[0], offset[0] + to - from, 1);
-		Xor.xorFrom(aux, offset[0], data, from, to - from);
+		// bits above the region do not take part
+		w = next & mask1;
+		data[index1] = (short) (data[index1] & ~mask1 | (w ^ w >>> 1) & mask1);
 	}
 
 	/**
@@ -428,20 +525,32 @@ public class GrayCode {
 		if (to - from < 2)
 			return;
 		
-		int[] index  = {from  >> SHORT_ADDRESS_LINES, to >> SHORT_ADDRESS_LINES};
-		int[] offset = {from  & SHORT_ADDRESS_MASK,   to & SHORT_ADDRESS_MASK  };
+		final int index0 = from >> SHORT_ADDRESS_LINES;
+		final int index1 = (to - 1) >> SHORT_ADDRESS_LINES;
 		
-		if (offset[1] > 0)
-			index[1]++;
+		// bits of the region within the least and the most significant elements
+		final int mask0 = SHORT_DATA_MASK << (from & SHORT_ADDRESS_MASK) & SHORT_DATA_MASK;
+		final int mask1 = SHORT_DATA_MASK >>> SHORT_DATA_LINES - 1 - ((to - 1) & SHORT_ADDRESS_MASK);
 		
-		short[] aux = new short[index[1] - index[0]];
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = (short) (data[index0] & ~MASK | fromGray((short) (data[index0] & MASK)) & MASK);
+			return;
+		}
+		
+		// single pass, from the most significant element down: each bit is 
+		// xor'ed with every bit above it, those in the same element by the 
+		// scalar fromGray, those in higher elements through the carried parity
+		data[index1] = (short) (data[index1] & ~mask1 | fromGray((short) (data[index1] & mask1)) & mask1);
+		int carry = data[index1] & 1;
 		
-		int length = to - from;
-		for(int i = 1; i < length; i <<= 1) {
-			System.arraycopy(data, index[0], aux, 0, index[1] - index[0]);
-			Shifter.shr(aux, offset[0], offset[0] + length, i);
-			Xor.xorFrom(aux, offset[0], data, from, length);
+		for (int j = index1 - 1; j > index0; j--) {
+			data[j] = (short) (fromGray(data[j]) ^ -carry);
+			carry = data[j] & 1;
 		}
+		
+		data[index0] = (short) (data[index0] & ~mask0 | (fromGray((short) (data[index0] & mask0)) ^ -carry) & mask0);
 	}
 	
 	/********** int[] **********/
@@ -467,16 +576,37 @@ public class GrayCode {
 		if (to - from < 2)
 			return;
 		
-		int[] index  = {from  >> INT_ADDRESS_LINES, to >> INT_ADDRESS_LINES};
-		int[] offset = {from  & INT_ADDRESS_MASK,   to & INT_ADDRESS_MASK  };
+		final int index0 = from >> INT_ADDRESS_LINES;
+		final int index1 = (to - 1) >> INT_ADDRESS_LINES;
 		
-		if (offset[1] > 0)
-			index[1]++;
+		// bits of the region within the least and the most significant elements
+		final int mask0 = INT_DATA_MASK << (from & INT_ADDRESS_MASK) & INT_DATA_MASK;
+		final int mask1 = INT_DATA_MASK >>> INT_DATA_LINES - 1 - ((to - 1) & INT_ADDRESS_MASK);
 		
-		int[] aux = new int[index[1] - index[0]];
-		System.arraycopy(data, index[0], aux, 0, index[1] - index[0]);
-		Shifter.shr(aux, offset[0], offset[0] + to - from, 1);
-		Xor.xorFrom(aux, offset[0], data, from, to - from);
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			final int w = data[index0] & MASK;
+			data[index0] = data[index0] & ~MASK | (w ^ w >>> 1) & MASK;
+			return;
+		}
+		
+		// single pass, from the least significant element up: each bit is 
+		// xor'ed with the one above it, which for the most significant bit of 
+		// an element is the least significant bit of the next (yet untouched)
+		int w = data[index0];
+		int next = data[index0 + 1];
+		data[index0] = data[index0] & ~mask0 | (w ^ (w >>> 1 | next << INT_DATA_LINES - 1)) & mask0;
+		
+		for (int j = index0 + 1; j < index1; j++) {
+			w = next;
+			next = data[j + 1];
+			data[j] = w ^ (w >>> 1 | next << INT_DATA_LINES - 1);
+		}
+		
+		// bits above the region do not take part
+		w = next & mask1;
+		data[index1] = data[index1] & ~mask1 | (w ^ w >>> 1) & mask1;
 	}
 
 	/**
@@ -500,20 +630,32 @@ public class GrayCode {
 		if (to - from < 2)
 			return;
 		
-		int[] index  = {from  >> INT_ADDRESS_LINES, to >> INT_ADDRESS_LINES};
-		int[] offset = {from  & INT_ADDRESS_MASK,   to & INT_ADDRESS_MASK  };
+		final int index0 = from >> INT_ADDRESS_LINES;
+		final int index1 = (to - 1) >> INT_ADDRESS_LINES;
 		
-		if (offset[1] > 0)
-			index[1]++;
+		// bits of the region within the least and the most significant elements
+		final int mask0 = INT_DATA_MASK << (from & INT_ADDRESS_MASK) & INT_DATA_MASK;
+		final int mask1 = INT_DATA_MASK >>> INT_DATA_LINES - 1 - ((to - 1) & INT_ADDRESS_MASK);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = data[index0] & ~MASK | fromGray((data[index0] & MASK)) & MASK;
+			return;
+		}
 		
-		int[] aux = new int[index[1] - index[0]];
+		// single pass, from the most significant element down: each bit is 
+		// xor'ed with every bit above it, those in the same element by the 
+		// scalar fromGray, those in higher elements through the carried parity
+		data[index1] = data[index1] & ~mask1 | fromGray((data[index1] & mask1)) & mask1;
+		int carry = data[index1] & 1;
 		
-		int length = to - from;
-		for(int i = 1; i < length; i <<= 1) {
-			System.arraycopy(data, index[0], aux, 0, index[1] - index[0]);
-			Shifter.shr(aux, offset[0], offset[0] + length, i);
-			Xor.xorFrom(aux, offset[0], data, from, length);
+		for (int j = index1 - 1; j > index0; j--) {
+			data[j] = fromGray(data[j]) ^ -carry;
+			carry = data[j] & 1;
 		}
+		
+		data[index0] = data[index0] & ~mask0 | (fromGray((data[index0] & mask0)) ^ -carry) & mask0;
 	}
 	
 	/********** long[] **********/
@@ -539,16 +681,37 @@ public class GrayCode {
 		if (to - from < 2)
 			return;
 		
-		int[] index  = {from  >> LONG_ADDRESS_LINES, to >> LONG_ADDRESS_LINES};
-		int[] offset = {from  & LONG_ADDRESS_MASK,   to & LONG_ADDRESS_MASK  };
+		final int index0 = from >> LONG_ADDRESS_LINES;
+		final int index1 = (to - 1) >> LONG_ADDRESS_LINES;
+		
+		// bits of the region within the least and the most significant elements
+		final long mask0 = LONG_DATA_MASK << (from & LONG_ADDRESS_MASK) & LONG_DATA_MASK;
+		final long mask1 = LONG_DATA_MASK >>> LONG_DATA_LINES - 1 - ((to - 1) & LONG_ADDRESS_MASK);
 		
-		if (offset[1] > 0)
-			index[1]++;
+		if (index0 == index1) {
+			// special case: region within a single element
+			final long MASK = mask0 & mask1;
+			final long w = data[index0] & MASK;
+			data[index0] = data[index0] & ~MASK | (w ^ w >>> 1) & MASK;
+			return;
+		}
 		
-		long[] aux = new long[index[1] - index[0]];
-		System.arraycopy(data, index[0], aux, 0, index[1] - index[0]);
-		Shifter.shr(aux, offset[0], offset[0] + to - from, 1);
-		Xor.xorFrom(aux, offset[0], data, from, to - from);
+		// single pass, from the least significant element up: each bit is 
+		// xor'ed with the one above it, which for the most significant bit of 
+		// an element is the least significant bit of the next (yet untouched)
+		long w = data[index0];
+		long next = data[index0 + 1];
+		data[index0] = data[index0] & ~mask0 | (w ^ (w >>> 1 | next << LONG_DATA_LINES - 1)) & mask0;
+		
+		for (int j = index0 + 1; j < index1; j++) {
+			w = next;
+			next = data[j + 1];
+			data[j] = w ^ (w >>> 1 | next << LONG_DATA_LINES - 1);
+		}
+		
+		// bits above the region do not take part
+		w = next & mask1;
+		data[index1] = data[index1] & ~mask1 | (w ^ w >>> 1) & mask1;
 	}
 
 	/**
@@ -572,19 +735,31 @@ public class GrayCode {
 		if (to - from < 2)
 			return;
 		
-		int[] index  = {from  >> LONG_ADDRESS_LINES, to >> LONG_ADDRESS_LINES};
-		int[] offset = {from  & LONG_ADDRESS_MASK,   to & LONG_ADDRESS_MASK  };
+		final int index0 = from >> LONG_ADDRESS_LINES;
+		final int index1 = (to - 1) >> LONG_ADDRESS_LINES;
 		
-		if (offset[1] > 0)
-			index[1]++;
+		// bits of the region within the least and the most significant elements
+		final long mask0 = LONG_DATA_MASK << (from & LONG_ADDRESS_MASK) & LONG_DATA_MASK;
+		final long mask1 = LONG_DATA_MASK >>> LONG_DATA_LINES - 1 - ((to - 1) & LONG_ADDRESS_MASK);
 		
-		long[] aux = new long[index[1] - index[0]];
+		if (index0 == index1) {
+			// special case: region within a single element
+			final long MASK = mask0 & mask1;
+			data[index0] = data[index0] & ~MASK | fromGray((data[index0] & MASK)) & MASK;
+			return;
+		}
 		
-		int length = to - from;
-		for(int i = 1; i < length; i <<= 1) {
-			System.arraycopy(data, index[0], aux, 0, index[1] - index[0]);
-			Shifter.shr(aux, offset[0], offset[0] + length, i);
-			Xor.xorFrom(aux, offset[0], data, from, length);
+		// single pass, from the most significant element down: each bit is 
+		// xor'ed with every bit above it, those in the same element by the 
+		// scalar fromGray, those in higher elements through the carried parity
+		data[index1] = data[index1] & ~mask1 | fromGray((data[index1] & mask1)) & mask1;
+		int carry = (int) data[index1] & 1;
+		
+		for (int j = index1 - 1; j > index0; j--) {
+			data[j] = fromGray(data[j]) ^ -carry;
+			carry = (int) data[j] & 1;
 		}
+		
+		data[index0] = data[index0] & ~mask0 | (fromGray((data[index0] & mask0)) ^ -carry) & mask0;
 	}
 }
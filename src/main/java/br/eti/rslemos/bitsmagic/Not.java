@@ -0,0 +1,757 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static br.eti.rslemos.bitsmagic.Copy.checkSafeIndices;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.INT_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.INT_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.INT_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_MASK;
+
+/**
+ * This class consists exclusively of static methods that complement bits over 
+ * arrays of integral primitive type ({@code data = ~data}).
+ * 
+ * <p>For every method available in this class, the arguments that represent
+ * offsets should always be given in bits, and are 0-based. For more 
+ * information about bit mapping in arrays of integral primitive types see 
+ * {@link Store} class.
+ * </p>
+ * <p>In-place methods ({@code not}) follow the syntax of 
+ * {@link Store#fill(long[], long, long, boolean)}: offlimits bits are 
+ * silently ignored. Methods that complement from a source storage onto a 
+ * destination ({@code notFrom}) follow the syntax of 
+ * {@link System#arraycopy}: access to offlimits bits, either for reading or 
+ * for writing, will throw {@code ArrayIndexOutOfBoundsException}, in which 
+ * case destination will be left unchanged.
+ * </p>
+ * <p>In case of using the same underlying storage for both source and 
+ * destination, all methods of this class behave as if copying the bits first 
+ * to a temporary location, then complementing them onto the destination.
+ * </p>
+ * <p>{@code NullPointerException} is thrown if either given array is 
+ * {@code null}.
+ * </p>
+ * <p>All methods are inherently thread unsafe: in case of more than one thread 
+ * acting upon the same storage the results are undefined. Also neither they 
+ * acquire nor block on any monitor. Any necessary synchronization should be 
+ * done externally.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+public class Not {
+	private Not() { /* non-instantiable */ }
+
+	/********** byte[] **********/
+	
+	/**
+	 * Complements each bit of the specified range of the given storage. The 
+	 * range to be complemented extends from offset {@code from}, inclusive, 
+	 * to offset {@code to}, exclusive. If {@code to <= from} this method does 
+	 * nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, !Store.readBit(data, i));
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        complemented.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        complemented.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void not(byte[] data, int from, int to) {
+		not(data, (long) from, (long) to);
+	}
+
+	/**
+	 * Complements each bit of the specified range of the given storage. The 
+	 * range to be complemented extends from offset {@code from}, inclusive, 
+	 * to offset {@code to}, exclusive. If {@code to <= from} this method does 
+	 * nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, !Store.readBit(data, i));
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        complemented.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        complemented.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void not(byte[] data, long from, long to) {
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (to > (long) data.length << BYTE_ADDRESS_LINES)
+			to = (long) data.length << BYTE_ADDRESS_LINES;
+		
+		if (!(to > from))
+			return;
+
+		int index0 = (int) (from >> BYTE_ADDRESS_LINES);
+		int index1 = (int) (to >> BYTE_ADDRESS_LINES);
+		int offset0 = (int) from & BYTE_ADDRESS_MASK;
+		int offset1 = (int) to & BYTE_ADDRESS_MASK;
+		
+		if (index1 == index0) {
+			// special case: subword not
+			data[index0] ^= BYTE_DATA_MASK << offset0 & ~(BYTE_DATA_MASK << offset1);
+			return;
+		}
+		
+		if (offset0 != 0) {
+			// handle "from" end specially
+			data[index0] ^= BYTE_DATA_MASK << offset0;
+			
+			// first index already taken care of
+			index0++;
+		}
+
+		for (; index0 < index1; index0++)
+			data[index0] = (byte) ~data[index0];
+
+		if (offset1 != 0)
+			data[index1] ^= ~(BYTE_DATA_MASK << offset1);
+	}
+
+	/**
+	 * Copies the complement of bits from the specified source storage, 
+	 * beginning at the specified bit, to the specified bits of the destination 
+	 * storage. A region of bits is complemented from the source storage 
+	 * referenced by {@code source} to the destination storage referenced by 
+	 * {@code dest}. The number of bits complemented is equal to the 
+	 * {@code length} argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented into 
+	 * positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be complemented.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void notFrom(byte[] source, int srcPos, byte[] dest, int destPos, int length) {
+		notFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies the complement of bits from the specified source storage, 
+	 * beginning at the specified bit, to the specified bits of the destination 
+	 * storage. A region of bits is complemented from the source storage 
+	 * referenced by {@code source} to the destination storage referenced by 
+	 * {@code dest}. The number of bits complemented is equal to the 
+	 * {@code length} argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented into 
+	 * positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be complemented.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void notFrom(byte[] source, long srcPos, byte[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << BYTE_ADDRESS_LINES, (long) dest.length << BYTE_ADDRESS_LINES))
+			return;
+		
+		Copy.copyFrom(source, srcPos, dest, destPos, length);
+		not(dest, destPos, destPos + length);
+	}
+
+	/********** char[] **********/
+	
+	/**
+	 * Complements each bit of the specified range of the given storage. The 
+	 * range to be complemented extends from offset {@code from}, inclusive, 
+	 * to offset {@code to}, exclusive. If {@code to <= from} this method does 
+	 * nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, !Store.readBit(data, i));
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        complemented.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        complemented.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void not(char[] data, int from, int to) {
+		not(data, (long) from, (long) to);
+	}
+
+	/**
+	 * Complements each bit of the specified range of the given storage. The 
+	 * range to be complemented extends from offset {@code from}, inclusive, 
+	 * to offset {@code to}, exclusive. If {@code to <= from} this method does 
+	 * nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, !Store.readBit(data, i));
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        complemented.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        complemented.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void not(char[] data, long from, long to) {
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (to > (long) data.length << CHAR_ADDRESS_LINES)
+			to = (long) data.length << CHAR_ADDRESS_LINES;
+		
+		if (!(to > from))
+			return;
+
+		int index0 = (int) (from >> CHAR_ADDRESS_LINES);
+		int index1 = (int) (to >> CHAR_ADDRESS_LINES);
+		int offset0 = (int) from & CHAR_ADDRESS_MASK;
+		int offset1 = (int) to & CHAR_ADDRESS_MASK;
+		
+		if (index1 == index0) {
+			// special case: subword not
+			data[index0] ^= CHAR_DATA_MASK << offset0 & ~(CHAR_DATA_MASK << offset1);
+			return;
+		}
+		
+		if (offset0 != 0) {
+			// handle "from" end specially
+			data[index0] ^= CHAR_DATA_MASK << offset0;
+			
+			// first index already taken care of
+			index0++;
+		}
+
+		for (; index0 < index1; index0++)
+			data[index0] = (char) ~data[index0];
+
+		if (offset1 != 0)
+			data[index1] ^= ~(CHAR_DATA_MASK << offset1);
+	}
+
+	/**
+	 * Copies the complement of bits from the specified source storage, 
+	 * beginning at the specified bit, to the specified bits of the destination 
+	 * storage. A region of bits is complemented from the source storage 
+	 * referenced by {@code source} to the destination storage referenced by 
+	 * {@code dest}. The number of bits complemented is equal to the 
+	 * {@code length} argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented into 
+	 * positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be complemented.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void notFrom(char[] source, int srcPos, char[] dest, int destPos, int length) {
+		notFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies the complement of bits from the specified source storage, 
+	 * beginning at the specified bit, to the specified bits of the destination 
+	 * storage. A region of bits is complemented from the source storage 
+	 * referenced by {@code source} to the destination storage referenced by 
+	 * {@code dest}. The number of bits complemented is equal to the 
+	 * {@code length} argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented into 
+	 * positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be complemented.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void notFrom(char[] source, long srcPos, char[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << CHAR_ADDRESS_LINES, (long) dest.length << CHAR_ADDRESS_LINES))
+			return;
+		
+		Copy.copyFrom(source, srcPos, dest, destPos, length);
+		not(dest, destPos, destPos + length);
+	}
+
+	/********** short[] **********/
+	
+	/**
+	 * Complements each bit of the specified range of the given storage. The 
+	 * range to be complemented extends from offset {@code from}, inclusive, 
+	 * to offset {@code to}, exclusive. If {@code to <= from} this method does 
+	 * nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, !Store.readBit(data, i));
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        complemented.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        complemented.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void not(short[] data, int from, int to) {
+		not(data, (long) from, (long) to);
+	}
+
+	/**
+	 * Complements each bit of the specified range of the given storage. The 
+	 * range to be complemented extends from offset {@code from}, inclusive, 
+	 * to offset {@code to}, exclusive. If {@code to <= from} this method does 
+	 * nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, !Store.readBit(data, i));
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        complemented.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        complemented.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void not(short[] data, long from, long to) {
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (to > (long) data.length << SHORT_ADDRESS_LINES)
+			to = (long) data.length << SHORT_ADDRESS_LINES;
+		
+		if (!(to > from))
+			return;
+
+		int index0 = (int) (from >> SHORT_ADDRESS_LINES);
+		int index1 = (int) (to >> SHORT_ADDRESS_LINES);
+		int offset0 = (int) from & SHORT_ADDRESS_MASK;
+		int offset1 = (int) to & SHORT_ADDRESS_MASK;
+		
+		if (index1 == index0) {
+			// special case: subword not
+			data[index0] ^= SHORT_DATA_MASK << offset0 & ~(SHORT_DATA_MASK << offset1);
+			return;
+		}
+		
+		if (offset0 != 0) {
+			// handle "from" end specially
+			data[index0] ^= SHORT_DATA_MASK << offset0;
+			
+			// first index already taken care of
+			index0++;
+		}
+
+		for (; index0 < index1; index0++)
+			data[index0] = (short) ~data[index0];
+
+		if (offset1 != 0)
+			data[index1] ^= ~(SHORT_DATA_MASK << offset1);
+	}
+
+	/**
+	 * Copies the complement of bits from the specified source storage, 
+	 * beginning at the specified bit, to the specified bits of the destination 
+	 * storage. A region of bits is complemented from the source storage 
+	 * referenced by {@code source} to the destination storage referenced by 
+	 * {@code dest}. The number of bits complemented is equal to the 
+	 * {@code length} argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented into 
+	 * positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be complemented.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void notFrom(short[] source, int srcPos, short[] dest, int destPos, int length) {
+		notFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies the complement of bits from the specified source storage, 
+	 * beginning at the specified bit, to the specified bits of the destination 
+	 * storage. A region of bits is complemented from the source storage 
+	 * referenced by {@code source} to the destination storage referenced by 
+	 * {@code dest}. The number of bits complemented is equal to the 
+	 * {@code length} argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented into 
+	 * positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be complemented.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void notFrom(short[] source, long srcPos, short[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << SHORT_ADDRESS_LINES, (long) dest.length << SHORT_ADDRESS_LINES))
+			return;
+		
+		Copy.copyFrom(source, srcPos, dest, destPos, length);
+		not(dest, destPos, destPos + length);
+	}
+
+	/********** int[] **********/
+	
+	/**
+	 * Complements each bit of the specified range of the given storage. The 
+	 * range to be complemented extends from offset {@code from}, inclusive, 
+	 * to offset {@code to}, exclusive. If {@code to <= from} this method does 
+	 * nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, !Store.readBit(data, i));
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        complemented.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        complemented.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void not(int[] data, int from, int to) {
+		not(data, (long) from, (long) to);
+	}
+
+	/**
+	 * Complements each bit of the specified range of the given storage. The 
+	 * range to be complemented extends from offset {@code from}, inclusive, 
+	 * to offset {@code to}, exclusive. If {@code to <= from} this method does 
+	 * nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, !Store.readBit(data, i));
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        complemented.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        complemented.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void not(int[] data, long from, long to) {
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (to > (long) data.length << INT_ADDRESS_LINES)
+			to = (long) data.length << INT_ADDRESS_LINES;
+		
+		if (!(to > from))
+			return;
+
+		int index0 = (int) (from >> INT_ADDRESS_LINES);
+		int index1 = (int) (to >> INT_ADDRESS_LINES);
+		int offset0 = (int) from & INT_ADDRESS_MASK;
+		int offset1 = (int) to & INT_ADDRESS_MASK;
+		
+		if (index1 == index0) {
+			// special case: subword not
+			data[index0] ^= INT_DATA_MASK << offset0 & ~(INT_DATA_MASK << offset1);
+			return;
+		}
+		
+		if (offset0 != 0) {
+			// handle "from" end specially
+			data[index0] ^= INT_DATA_MASK << offset0;
+			
+			// first index already taken care of
+			index0++;
+		}
+
+		for (; index0 < index1; index0++)
+			data[index0] = ~data[index0];
+
+		if (offset1 != 0)
+			data[index1] ^= ~(INT_DATA_MASK << offset1);
+	}
+
+	/**
+	 * Copies the complement of bits from the specified source storage, 
+	 * beginning at the specified bit, to the specified bits of the destination 
+	 * storage. A region of bits is complemented from the source storage 
+	 * referenced by {@code source} to the destination storage referenced by 
+	 * {@code dest}. The number of bits complemented is equal to the 
+	 * {@code length} argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented into 
+	 * positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be complemented.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void notFrom(int[] source, int srcPos, int[] dest, int destPos, int length) {
+		notFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies the complement of bits from the specified source storage, 
+	 * beginning at the specified bit, to the specified bits of the destination 
+	 * storage. A region of bits is complemented from the source storage 
+	 * referenced by {@code source} to the destination storage referenced by 
+	 * {@code dest}. The number of bits complemented is equal to the 
+	 * {@code length} argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented into 
+	 * positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be complemented.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void notFrom(int[] source, long srcPos, int[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << INT_ADDRESS_LINES, (long) dest.length << INT_ADDRESS_LINES))
+			return;
+		
+		Copy.copyFrom(source, srcPos, dest, destPos, length);
+		not(dest, destPos, destPos + length);
+	}
+
+	/********** long[] **********/
+	
+	/**
+	 * Complements each bit of the specified range of the given storage. The 
+	 * range to be complemented extends from offset {@code from}, inclusive, 
+	 * to offset {@code to}, exclusive. If {@code to <= from} this method does 
+	 * nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, !Store.readBit(data, i));
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        complemented.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        complemented.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void not(long[] data, int from, int to) {
+		not(data, (long) from, (long) to);
+	}
+
+	/**
+	 * Complements each bit of the specified range of the given storage. The 
+	 * range to be complemented extends from offset {@code from}, inclusive, 
+	 * to offset {@code to}, exclusive. If {@code to <= from} this method does 
+	 * nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, !Store.readBit(data, i));
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        complemented.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        complemented.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void not(long[] data, long from, long to) {
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (to > (long) data.length << LONG_ADDRESS_LINES)
+			to = (long) data.length << LONG_ADDRESS_LINES;
+		
+		if (!(to > from))
+			return;
+
+		int index0 = (int) (from >> LONG_ADDRESS_LINES);
+		int index1 = (int) (to >> LONG_ADDRESS_LINES);
+		int offset0 = (int) from & LONG_ADDRESS_MASK;
+		int offset1 = (int) to & LONG_ADDRESS_MASK;
+		
+		if (index1 == index0) {
+			// special case: subword not
+			data[index0] ^= LONG_DATA_MASK << offset0 & ~(LONG_DATA_MASK << offset1);
+			return;
+		}
+		
+		if (offset0 != 0) {
+			// handle "from" end specially
+			data[index0] ^= LONG_DATA_MASK << offset0;
+			
+			// first index already taken care of
+			index0++;
+		}
+
+		for (; index0 < index1; index0++)
+			data[index0] = ~data[index0];
+
+		if (offset1 != 0)
+			data[index1] ^= ~(LONG_DATA_MASK << offset1);
+	}
+
+	/**
+	 * Copies the complement of bits from the specified source storage, 
+	 * beginning at the specified bit, to the specified bits of the destination 
+	 * storage. A region of bits is complemented from the source storage 
+	 * referenced by {@code source} to the destination storage referenced by 
+	 * {@code dest}. The number of bits complemented is equal to the 
+	 * {@code length} argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented into 
+	 * positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be complemented.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void notFrom(long[] source, int srcPos, long[] dest, int destPos, int length) {
+		notFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Copies the complement of bits from the specified source storage, 
+	 * beginning at the specified bit, to the specified bits of the destination 
+	 * storage. A region of bits is complemented from the source storage 
+	 * referenced by {@code source} to the destination storage referenced by 
+	 * {@code dest}. The number of bits complemented is equal to the 
+	 * {@code length} argument. The bits at offsets {@code srcPos} through 
+	 * {@code srcPos+length-1} in the source storage are complemented into 
+	 * positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be complemented.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void notFrom(long[] source, long srcPos, long[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << LONG_ADDRESS_LINES, (long) dest.length << LONG_ADDRESS_LINES))
+			return;
+		
+		Copy.copyFrom(source, srcPos, dest, destPos, length);
+		not(dest, destPos, destPos + length);
+	}
+}
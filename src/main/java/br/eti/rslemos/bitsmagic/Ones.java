@@ -27,6 +27,7 @@
  *******************************************************************************/
 package br.eti.rslemos.bitsmagic;
 
+import static br.eti.rslemos.bitsmagic.Copy.pack64;
 import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_LINES;
 import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_MASK;
 import static br.eti.rslemos.bitsmagic.Store.BYTE_DATA_MASK;
@@ -43,6 +44,8 @@ import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_LINES;
 import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_MASK;
 import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_MASK;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * This class consists exclusively of static methods that count set bits on 
  * integral primitive types, or arrays of integral primitive types.
@@ -112,16 +115,8 @@ public class Ones {
 	 * @since 1.0.0
 	 */
 	public static int ones(int x) {
-		/*
-		 * 32-bit recursive reduction using SWAR... but first step is mapping
-		 * 2-bit values into sum of 2 1-bit values in sneaky way
-		 */
-		x -= ((x >> 1) & 0x55555555);
-		x = (((x >> 2) & 0x33333333) + (x & 0x33333333));
-		x = (((x >> 4) + x) & 0x0f0f0f0f);
-		x += (x >> 8);
-		x += (x >> 16);
-		return (x & 0x0000003f);
+		// intrinsic (POPCNT) on HotSpot
+		return Integer.bitCount(x);
 	}
 
 	/**
@@ -132,17 +127,8 @@ public class Ones {
 	 * @since 1.0.0
 	 */
 	public static int ones(long x) {
-		/*
-		 * 64-bit recursive reduction using SWAR... but first step is mapping
-		 * 2-bit values into sum of 2 1-bit values in sneaky way
-		 */
-		x -= ((x >> 1) & 0x5555555555555555L);
-		x = (((x >> 2) & 0x3333333333333333L) + (x & 0x3333333333333333L));
-		x = (((x >> 4) + x) & 0x0f0f0f0f0f0f0f0fL);
-		x += (x >> 8);
-		x += (x >> 16);
-		x += (x >> 32);
-		return (int) (x & 0x0000007f);
+		// intrinsic (POPCNT) on HotSpot
+		return Long.bitCount(x);
 	}
 
 	/********** byte[] **********/
@@ -162,53 +148,153 @@ public class Ones {
 	 * @since 1.0.0
 	 */
 	public static int ones(byte[] data, int from, int to) {
+		return (int) ones(data, (long) from, (long) to);
+	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage. The range considered extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive. If {@code to <= from} this 
+	 * method returns 0.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long ones(byte[] data, long from, long to) {
 		// clamp
 		if (from < 0)
 			from = 0;
 		
-		if (to > data.length << BYTE_ADDRESS_LINES)
-			to = data.length << BYTE_ADDRESS_LINES;
+		if (to > (long) data.length << BYTE_ADDRESS_LINES)
+			to = (long) data.length << BYTE_ADDRESS_LINES;
 		
 		if (!(to > from))
 			return 0;
 
-		int[] index  = {from  >> BYTE_ADDRESS_LINES, to >> BYTE_ADDRESS_LINES};
-		int[] offset = {from  & BYTE_ADDRESS_MASK,   to & BYTE_ADDRESS_MASK  };
+		int index0 = (int) (from >> BYTE_ADDRESS_LINES);
+		int index1 = (int) (to >> BYTE_ADDRESS_LINES);
+		int offset0 = (int) from & BYTE_ADDRESS_MASK;
+		int offset1 = (int) to & BYTE_ADDRESS_MASK;
 		
-		if (index[1] == index[0]) {
+		if (index1 == index0) {
 			// special case: subword count
 			
-			final int LOWEST_BITS_FROM = ~(BYTE_DATA_MASK << offset[0]);
-			final int HIGHEST_BITS_TO = BYTE_DATA_MASK << offset[1];
+			final int LOWEST_BITS_FROM = ~(BYTE_DATA_MASK << offset0);
+			final int HIGHEST_BITS_TO = BYTE_DATA_MASK << offset1;
 
-			return ones((byte)(data[index[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO)));
+			return ones((byte)(data[index0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO)));
 		}
 		
-		int count = 0;
+		long count = 0;
 		
-		if (offset[0] != 0) {
+		if (offset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = BYTE_DATA_MASK << offset[0];
+			final int HIGHEST_BITS = BYTE_DATA_MASK << offset0;
 
-			count += ones((byte)(data[index[0]] & HIGHEST_BITS));
+			count += ones((byte)(data[index0] & HIGHEST_BITS));
 			
 			// first index already taken care of
-			index[0]++;
+			index0++;
 		}
 
-		for (int j = index[0]; j < index[1]; j++)
-			count += ones(data[j]);
+		count += ones0(data, index0, index1);
 
-		if (offset[1] != 0) {
-			final int LOWEST_BITS = ~(BYTE_DATA_MASK << offset[1]);
+		if (offset1 != 0) {
+			final int LOWEST_BITS = ~(BYTE_DATA_MASK << offset1);
 			
-			count += ones((byte)(data[index[1]] & LOWEST_BITS));
+			count += ones((byte)(data[index1] & LOWEST_BITS));
 		}
 		
 		return count;
 	}
 
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage, counted in parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelOnes(byte[], long, long, ForkJoinPool, long)} with 
+	 * default pool and grain.
+	 * 
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long parallelOnes(byte[] data, long from, long to) {
+		return parallelOnes(data, from, to, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage, counted in parallel. The result is the same as 
+	 * {@link #ones(byte[], long, long)}.
+	 * 
+	 * <p>The region is split on element boundaries into pieces of about 
+	 * {@code grain} bits, which are counted concurrently by the threads of 
+	 * {@code pool}; partial elements at either end are handled by the 
+	 * sequential code.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long parallelOnes(final byte[] data, long from, long to, ForkJoinPool pool, long grain) {
+		// clamp: there is no point in splitting offlimits bits
+		from = Math.max(from, 0);
+		to = Math.min(to, (long) data.length << BYTE_ADDRESS_LINES);
+		
+		return Parallel.invoke(pool, grain, BYTE_ADDRESS_LINES, from, to, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				return ones(data, from, to);
+			}
+		});
+	}
+
+	// whole elements from index0 (inclusive) to index1 (exclusive), 64 bits at a time
+	private static long ones0(byte[] data, int index0, int index1) {
+		// independent accumulators, so that consecutive POPCNTs do not wait for each other
+		long c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+		
+		int j = index0;
+		for (; j <= index1 - 32; j += 32) {
+			c0 += Long.bitCount(pack64(data, j));
+			c1 += Long.bitCount(pack64(data, j + 8));
+			c2 += Long.bitCount(pack64(data, j + 16));
+			c3 += Long.bitCount(pack64(data, j + 24));
+		}
+
+		for (; j <= index1 - 8; j += 8)
+			c0 += Long.bitCount(pack64(data, j));
+
+		for (; j < index1; j++)
+			c0 += Integer.bitCount(data[j] & BYTE_DATA_MASK);
+		
+		return c0 + c1 + c2 + c3;
+	}
+
 	/********** char[] **********/
 	
 	/**
@@ -226,53 +312,153 @@ public class Ones {
 	 * @since 1.0.0
 	 */
 	public static int ones(char[] data, int from, int to) {
+		return (int) ones(data, (long) from, (long) to);
+	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage. The range considered extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive. If {@code to <= from} this 
+	 * method returns 0.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long ones(char[] data, long from, long to) {
 		// clamp
 		if (from < 0)
 			from = 0;
 		
-		if (to > data.length << CHAR_ADDRESS_LINES)
-			to = data.length << CHAR_ADDRESS_LINES;
+		if (to > (long) data.length << CHAR_ADDRESS_LINES)
+			to = (long) data.length << CHAR_ADDRESS_LINES;
 		
 		if (!(to > from))
 			return 0;
 
-		int[] index  = {from  >> CHAR_ADDRESS_LINES, to >> CHAR_ADDRESS_LINES};
-		int[] offset = {from  & CHAR_ADDRESS_MASK,   to & CHAR_ADDRESS_MASK  };
+		int index0 = (int) (from >> CHAR_ADDRESS_LINES);
+		int index1 = (int) (to >> CHAR_ADDRESS_LINES);
+		int offset0 = (int) from & CHAR_ADDRESS_MASK;
+		int offset1 = (int) to & CHAR_ADDRESS_MASK;
 		
-		if (index[1] == index[0]) {
+		if (index1 == index0) {
 			// special case: subword count
 			
-			final int LOWEST_BITS_FROM = ~(CHAR_DATA_MASK << offset[0]);
-			final int HIGHEST_BITS_TO = CHAR_DATA_MASK << offset[1];
+			final int LOWEST_BITS_FROM = ~(CHAR_DATA_MASK << offset0);
+			final int HIGHEST_BITS_TO = CHAR_DATA_MASK << offset1;
 
-			return ones((char)(data[index[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO)));
+			return ones((char)(data[index0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO)));
 		}
 		
-		int count = 0;
+		long count = 0;
 		
-		if (offset[0] != 0) {
+		if (offset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = CHAR_DATA_MASK << offset[0];
+			final int HIGHEST_BITS = CHAR_DATA_MASK << offset0;
 
-			count += ones((char)(data[index[0]] & HIGHEST_BITS));
+			count += ones((char)(data[index0] & HIGHEST_BITS));
 			
 			// first index already taken care of
-			index[0]++;
+			index0++;
 		}
 
-		for (int j = index[0]; j < index[1]; j++)
-			count += ones(data[j]);
+		count += ones0(data, index0, index1);
 
-		if (offset[1] != 0) {
-			final int LOWEST_BITS = ~(CHAR_DATA_MASK << offset[1]);
+		if (offset1 != 0) {
+			final int LOWEST_BITS = ~(CHAR_DATA_MASK << offset1);
 			
-			count += ones((char)(data[index[1]] & LOWEST_BITS));
+			count += ones((char)(data[index1] & LOWEST_BITS));
 		}
 		
 		return count;
 	}
 
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage, counted in parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelOnes(char[], long, long, ForkJoinPool, long)} with 
+	 * default pool and grain.
+	 * 
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long parallelOnes(char[] data, long from, long to) {
+		return parallelOnes(data, from, to, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage, counted in parallel. The result is the same as 
+	 * {@link #ones(char[], long, long)}.
+	 * 
+	 * <p>The region is split on element boundaries into pieces of about 
+	 * {@code grain} bits, which are counted concurrently by the threads of 
+	 * {@code pool}; partial elements at either end are handled by the 
+	 * sequential code.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long parallelOnes(final char[] data, long from, long to, ForkJoinPool pool, long grain) {
+		// clamp: there is no point in splitting offlimits bits
+		from = Math.max(from, 0);
+		to = Math.min(to, (long) data.length << CHAR_ADDRESS_LINES);
+		
+		return Parallel.invoke(pool, grain, CHAR_ADDRESS_LINES, from, to, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				return ones(data, from, to);
+			}
+		});
+	}
+
+	// whole elements from index0 (inclusive) to index1 (exclusive), 64 bits at a time
+	private static long ones0(char[] data, int index0, int index1) {
+		// independent accumulators, so that consecutive POPCNTs do not wait for each other
+		long c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+		
+		int j = index0;
+		for (; j <= index1 - 16; j += 16) {
+			c0 += Long.bitCount(pack64(data, j));
+			c1 += Long.bitCount(pack64(data, j + 4));
+			c2 += Long.bitCount(pack64(data, j + 8));
+			c3 += Long.bitCount(pack64(data, j + 12));
+		}
+
+		for (; j <= index1 - 4; j += 4)
+			c0 += Long.bitCount(pack64(data, j));
+
+		for (; j < index1; j++)
+			c0 += Integer.bitCount(data[j] & CHAR_DATA_MASK);
+		
+		return c0 + c1 + c2 + c3;
+	}
+
 	/********** short[] **********/
 	
 	/**
@@ -290,53 +476,153 @@ public class Ones {
 	 * @since 1.0.0
 	 */
 	public static int ones(short[] data, int from, int to) {
+		return (int) ones(data, (long) from, (long) to);
+	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage. The range considered extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive. If {@code to <= from} this 
+	 * method returns 0.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long ones(short[] data, long from, long to) {
 		// clamp
 		if (from < 0)
 			from = 0;
 		
-		if (to > data.length << SHORT_ADDRESS_LINES)
-			to = data.length << SHORT_ADDRESS_LINES;
+		if (to > (long) data.length << SHORT_ADDRESS_LINES)
+			to = (long) data.length << SHORT_ADDRESS_LINES;
 		
 		if (!(to > from))
 			return 0;
 
-		int[] index  = {from  >> SHORT_ADDRESS_LINES, to >> SHORT_ADDRESS_LINES};
-		int[] offset = {from  & SHORT_ADDRESS_MASK,   to & SHORT_ADDRESS_MASK  };
+		int index0 = (int) (from >> SHORT_ADDRESS_LINES);
+		int index1 = (int) (to >> SHORT_ADDRESS_LINES);
+		int offset0 = (int) from & SHORT_ADDRESS_MASK;
+		int offset1 = (int) to & SHORT_ADDRESS_MASK;
 		
-		if (index[1] == index[0]) {
+		if (index1 == index0) {
 			// special case: subword count
 			
-			final int LOWEST_BITS_FROM = ~(SHORT_DATA_MASK << offset[0]);
-			final int HIGHEST_BITS_TO = SHORT_DATA_MASK << offset[1];
+			final int LOWEST_BITS_FROM = ~(SHORT_DATA_MASK << offset0);
+			final int HIGHEST_BITS_TO = SHORT_DATA_MASK << offset1;
 
-			return ones((short)(data[index[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO)));
+			return ones((short)(data[index0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO)));
 		}
 		
-		int count = 0;
+		long count = 0;
 		
-		if (offset[0] != 0) {
+		if (offset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = SHORT_DATA_MASK << offset[0];
+			final int HIGHEST_BITS = SHORT_DATA_MASK << offset0;
 
-			count += ones((short)(data[index[0]] & HIGHEST_BITS));
+			count += ones((short)(data[index0] & HIGHEST_BITS));
 			
 			// first index already taken care of
-			index[0]++;
+			index0++;
 		}
 
-		for (int j = index[0]; j < index[1]; j++)
-			count += ones(data[j]);
+		count += ones0(data, index0, index1);
 
-		if (offset[1] != 0) {
-			final int LOWEST_BITS = ~(SHORT_DATA_MASK << offset[1]);
+		if (offset1 != 0) {
+			final int LOWEST_BITS = ~(SHORT_DATA_MASK << offset1);
 			
-			count += ones((short)(data[index[1]] & LOWEST_BITS));
+			count += ones((short)(data[index1] & LOWEST_BITS));
 		}
 		
 		return count;
 	}
 
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage, counted in parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelOnes(short[], long, long, ForkJoinPool, long)} with 
+	 * default pool and grain.
+	 * 
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long parallelOnes(short[] data, long from, long to) {
+		return parallelOnes(data, from, to, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage, counted in parallel. The result is the same as 
+	 * {@link #ones(short[], long, long)}.
+	 * 
+	 * <p>The region is split on element boundaries into pieces of about 
+	 * {@code grain} bits, which are counted concurrently by the threads of 
+	 * {@code pool}; partial elements at either end are handled by the 
+	 * sequential code.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long parallelOnes(final short[] data, long from, long to, ForkJoinPool pool, long grain) {
+		// clamp: there is no point in splitting offlimits bits
+		from = Math.max(from, 0);
+		to = Math.min(to, (long) data.length << SHORT_ADDRESS_LINES);
+		
+		return Parallel.invoke(pool, grain, SHORT_ADDRESS_LINES, from, to, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				return ones(data, from, to);
+			}
+		});
+	}
+
+	// whole elements from index0 (inclusive) to index1 (exclusive), 64 bits at a time
+	private static long ones0(short[] data, int index0, int index1) {
+		// independent accumulators, so that consecutive POPCNTs do not wait for each other
+		long c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+		
+		int j = index0;
+		for (; j <= index1 - 16; j += 16) {
+			c0 += Long.bitCount(pack64(data, j));
+			c1 += Long.bitCount(pack64(data, j + 4));
+			c2 += Long.bitCount(pack64(data, j + 8));
+			c3 += Long.bitCount(pack64(data, j + 12));
+		}
+
+		for (; j <= index1 - 4; j += 4)
+			c0 += Long.bitCount(pack64(data, j));
+
+		for (; j < index1; j++)
+			c0 += Integer.bitCount(data[j] & SHORT_DATA_MASK);
+		
+		return c0 + c1 + c2 + c3;
+	}
+
 	/********** int[] **********/
 	
 	/**
@@ -354,53 +640,153 @@ public class Ones {
 	 * @since 1.0.0
 	 */
 	public static int ones(int[] data, int from, int to) {
+		return (int) ones(data, (long) from, (long) to);
+	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage. The range considered extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive. If {@code to <= from} this 
+	 * method returns 0.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long ones(int[] data, long from, long to) {
 		// clamp
 		if (from < 0)
 			from = 0;
 		
-		if (to > data.length << INT_ADDRESS_LINES)
-			to = data.length << INT_ADDRESS_LINES;
+		if (to > (long) data.length << INT_ADDRESS_LINES)
+			to = (long) data.length << INT_ADDRESS_LINES;
 		
 		if (!(to > from))
 			return 0;
 
-		int[] index  = {from  >> INT_ADDRESS_LINES, to >> INT_ADDRESS_LINES};
-		int[] offset = {from  & INT_ADDRESS_MASK,   to & INT_ADDRESS_MASK  };
+		int index0 = (int) (from >> INT_ADDRESS_LINES);
+		int index1 = (int) (to >> INT_ADDRESS_LINES);
+		int offset0 = (int) from & INT_ADDRESS_MASK;
+		int offset1 = (int) to & INT_ADDRESS_MASK;
 		
-		if (index[1] == index[0]) {
+		if (index1 == index0) {
 			// special case: subword count
 			
-			final int LOWEST_BITS_FROM = ~(INT_DATA_MASK << offset[0]);
-			final int HIGHEST_BITS_TO = INT_DATA_MASK << offset[1];
+			final int LOWEST_BITS_FROM = ~(INT_DATA_MASK << offset0);
+			final int HIGHEST_BITS_TO = INT_DATA_MASK << offset1;
 
-			return ones(data[index[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
+			return ones(data[index0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
 		}
 		
-		int count = 0;
+		long count = 0;
 		
-		if (offset[0] != 0) {
+		if (offset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = INT_DATA_MASK << offset[0];
+			final int HIGHEST_BITS = INT_DATA_MASK << offset0;
 
-			count += ones(data[index[0]] & HIGHEST_BITS);
+			count += ones(data[index0] & HIGHEST_BITS);
 			
 			// first index already taken care of
-			index[0]++;
+			index0++;
 		}
 
-		for (int j = index[0]; j < index[1]; j++)
-			count += ones(data[j]);
+		count += ones0(data, index0, index1);
 
-		if (offset[1] != 0) {
-			final int LOWEST_BITS = ~(INT_DATA_MASK << offset[1]);
+		if (offset1 != 0) {
+			final int LOWEST_BITS = ~(INT_DATA_MASK << offset1);
 			
-			count += ones(data[index[1]] & LOWEST_BITS);
+			count += ones(data[index1] & LOWEST_BITS);
 		}
 		
 		return count;
 	}
 
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage, counted in parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelOnes(int[], long, long, ForkJoinPool, long)} with 
+	 * default pool and grain.
+	 * 
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long parallelOnes(int[] data, long from, long to) {
+		return parallelOnes(data, from, to, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage, counted in parallel. The result is the same as 
+	 * {@link #ones(int[], long, long)}.
+	 * 
+	 * <p>The region is split on element boundaries into pieces of about 
+	 * {@code grain} bits, which are counted concurrently by the threads of 
+	 * {@code pool}; partial elements at either end are handled by the 
+	 * sequential code.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long parallelOnes(final int[] data, long from, long to, ForkJoinPool pool, long grain) {
+		// clamp: there is no point in splitting offlimits bits
+		from = Math.max(from, 0);
+		to = Math.min(to, (long) data.length << INT_ADDRESS_LINES);
+		
+		return Parallel.invoke(pool, grain, INT_ADDRESS_LINES, from, to, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				return ones(data, from, to);
+			}
+		});
+	}
+
+	// whole elements from index0 (inclusive) to index1 (exclusive), 64 bits at a time
+	private static long ones0(int[] data, int index0, int index1) {
+		// independent accumulators, so that consecutive POPCNTs do not wait for each other
+		long c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+		
+		int j = index0;
+		for (; j <= index1 - 8; j += 8) {
+			c0 += Long.bitCount(pack64(data, j));
+			c1 += Long.bitCount(pack64(data, j + 2));
+			c2 += Long.bitCount(pack64(data, j + 4));
+			c3 += Long.bitCount(pack64(data, j + 6));
+		}
+
+		for (; j <= index1 - 2; j += 2)
+			c0 += Long.bitCount(pack64(data, j));
+
+		for (; j < index1; j++)
+			c0 += Integer.bitCount(data[j]);
+		
+		return c0 + c1 + c2 + c3;
+	}
+
 	/********** long[] **********/
 	
 	/**
@@ -418,50 +804,150 @@ public class Ones {
 	 * @since 1.0.0
 	 */
 	public static int ones(long[] data, int from, int to) {
+		return (int) ones(data, (long) from, (long) to);
+	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage. The range considered extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive. If {@code to <= from} this 
+	 * method returns 0.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long ones(long[] data, long from, long to) {
 		// clamp
 		if (from < 0)
 			from = 0;
 		
-		if (to > data.length << LONG_ADDRESS_LINES)
-			to = data.length << LONG_ADDRESS_LINES;
+		if (to > (long) data.length << LONG_ADDRESS_LINES)
+			to = (long) data.length << LONG_ADDRESS_LINES;
 		
 		if (!(to > from))
 			return 0;
 
-		int[] index  = {from  >> LONG_ADDRESS_LINES, to >> LONG_ADDRESS_LINES};
-		int[] offset = {from  & LONG_ADDRESS_MASK,   to & LONG_ADDRESS_MASK  };
+		int index0 = (int) (from >> LONG_ADDRESS_LINES);
+		int index1 = (int) (to >> LONG_ADDRESS_LINES);
+		int offset0 = (int) from & LONG_ADDRESS_MASK;
+		int offset1 = (int) to & LONG_ADDRESS_MASK;
 		
-		if (index[1] == index[0]) {
+		if (index1 == index0) {
 			// special case: subword count
 			
-			final long LOWEST_BITS_FROM = ~(LONG_DATA_MASK << offset[0]);
-			final long HIGHEST_BITS_TO = LONG_DATA_MASK << offset[1];
+			final long LOWEST_BITS_FROM = ~(LONG_DATA_MASK << offset0);
+			final long HIGHEST_BITS_TO = LONG_DATA_MASK << offset1;
 
-			return ones(data[index[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
+			return ones(data[index0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO));
 		}
 		
-		int count = 0;
+		long count = 0;
 		
-		if (offset[0] != 0) {
+		if (offset0 != 0) {
 			// handle "from" end specially
 			
-			final long HIGHEST_BITS = LONG_DATA_MASK << offset[0];
+			final long HIGHEST_BITS = LONG_DATA_MASK << offset0;
 
-			count += ones(data[index[0]] & HIGHEST_BITS);
+			count += ones(data[index0] & HIGHEST_BITS);
 			
 			// first index already taken care of
-			index[0]++;
+			index0++;
 		}
 
-		for (int j = index[0]; j < index[1]; j++)
-			count += ones(data[j]);
+		if (Simd.ENABLED)
+			count += Simd.ones(data, index0, index1);
+		else
+			count += ones0(data, index0, index1);
 
-		if (offset[1] != 0) {
-			final long LOWEST_BITS = ~(LONG_DATA_MASK << offset[1]);
+		if (offset1 != 0) {
+			final long LOWEST_BITS = ~(LONG_DATA_MASK << offset1);
 			
-			count += ones(data[index[1]] & LOWEST_BITS);
+			count += ones(data[index1] & LOWEST_BITS);
 		}
 		
 		return count;
 	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage, counted in parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelOnes(long[], long, long, ForkJoinPool, long)} with 
+	 * default pool and grain.
+	 * 
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long parallelOnes(long[] data, long from, long to) {
+		return parallelOnes(data, from, to, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Returns the count of bits set in the specified region of the given 
+	 * storage, counted in parallel. The result is the same as 
+	 * {@link #ones(long[], long, long)}.
+	 * 
+	 * <p>The region is split on element boundaries into pieces of about 
+	 * {@code grain} bits, which are counted concurrently by the threads of 
+	 * {@code pool}; partial elements at either end are handled by the 
+	 * sequential code.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long parallelOnes(final long[] data, long from, long to, ForkJoinPool pool, long grain) {
+		// clamp: there is no point in splitting offlimits bits
+		from = Math.max(from, 0);
+		to = Math.min(to, (long) data.length << LONG_ADDRESS_LINES);
+		
+		return Parallel.invoke(pool, grain, LONG_ADDRESS_LINES, from, to, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				return ones(data, from, to);
+			}
+		});
+	}
+
+	// whole elements from index0 (inclusive) to index1 (exclusive), 64 bits at a time
+	private static long ones0(long[] data, int index0, int index1) {
+		// independent accumulators, so that consecutive POPCNTs do not wait for each other
+		long c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+		
+		int j = index0;
+		for (; j <= index1 - 4; j += 4) {
+			c0 += Long.bitCount(data[j]);
+			c1 += Long.bitCount(data[j + 1]);
+			c2 += Long.bitCount(data[j + 2]);
+			c3 += Long.bitCount(data[j + 3]);
+		}
+
+		for (; j < index1; j++)
+			c0 += Long.bitCount(data[j]);
+		
+		return c0 + c1 + c2 + c3;
+	}
 }
@@ -0,0 +1,18856 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+/**
+ * Block kernels for {@link PackedLongArray}, unrolled for every width.
+ * 
+ * <p>A block is made of 64 values, which take exactly {@code width} words 
+ * of the storage, so that blocks are packed and unpacked by whole words: 
+ * every shift and mask is a constant and no value needs bounds checking, 
+ * read-modify-write or a branch on whether it straddles words. Width 64 has 
+ * no kernel: values are words then.
+ * </p>
+ * <p>This code is generated by {@code PackedKernelsGenerator} (under 
+ * {@code src/tools/java}, see README): do not edit individual kernels, 
+ * change the generator and run it again instead.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+final class PackedKernels {
+	private PackedKernels() { /* non-instantiable */ }
+
+	/**
+	 * Unpacks {@code blocks} blocks of values of the given width, from word 
+	 * {@code j} of the storage on, into the given buffer.
+	 */
+	static void decode(int width, long[] data, int j, long[] dest, int off, int blocks) {
+		switch (width) {
+			case 1: decode1(data, j, dest, off, blocks); return;
+			case 2: decode2(data, j, dest, off, blocks); return;
+			case 3: decode3(data, j, dest, off, blocks); return;
+			case 4: decode4(data, j, dest, off, blocks); return;
+			case 5: decode5(data, j, dest, off, blocks); return;
+			case 6: decode6(data, j, dest, off, blocks); return;
+			case 7: decode7(data, j, dest, off, blocks); return;
+			case 8: decode8(data, j, dest, off, blocks); return;
+			case 9: decode9(data, j, dest, off, blocks); return;
+			case 10: decode10(data, j, dest, off, blocks); return;
+			case 11: decode11(data, j, dest, off, blocks); return;
+			case 12: decode12(data, j, dest, off, blocks); return;
+			case 13: decode13(data, j, dest, off, blocks); return;
+			case 14: decode14(data, j, dest, off, blocks); return;
+			case 15: decode15(data, j, dest, off, blocks); return;
+			case 16: decode16(data, j, dest, off, blocks); return;
+			case 17: decode17(data, j, dest, off, blocks); return;
+			case 18: decode18(data, j, dest, off, blocks); return;
+			case 19: decode19(data, j, dest, off, blocks); return;
+			case 20: decode20(data, j, dest, off, blocks); return;
+			case 21: decode21(data, j, dest, off, blocks); return;
+			case 22: decode22(data, j, dest, off, blocks); return;
+			case 23: decode23(data, j, dest, off, blocks); return;
+			case 24: decode24(data, j, dest, off, blocks); return;
+			case 25: decode25(data, j, dest, off, blocks); return;
+			case 26: decode26(data, j, dest, off, blocks); return;
+			case 27: decode27(data, j, dest, off, blocks); return;
+			case 28: decode28(data, j, dest, off, blocks); return;
+			case 29: decode29(data, j, dest, off, blocks); return;
+			case 30: decode30(data, j, dest, off, blocks); return;
+			case 31: decode31(data, j, dest, off, blocks); return;
+			case 32: decode32(data, j, dest, off, blocks); return;
+			case 33: decode33(data, j, dest, off, blocks); return;
+			case 34: decode34(data, j, dest, off, blocks); return;
+			case 35: decode35(data, j, dest, off, blocks); return;
+			case 36: decode36(data, j, dest, off, blocks); return;
+			case 37: decode37(data, j, dest, off, blocks); return;
+			case 38: decode38(data, j, dest, off, blocks); return;
+			case 39: decode39(data, j, dest, off, blocks); return;
+			case 40: decode40(data, j, dest, off, blocks); return;
+			case 41: decode41(data, j, dest, off, blocks); return;
+			case 42: decode42(data, j, dest, off, blocks); return;
+			case 43: decode43(data, j, dest, off, blocks); return;
+			case 44: decode44(data, j, dest, off, blocks); return;
+			case 45: decode45(data, j, dest, off, blocks); return;
+			case 46: decode46(data, j, dest, off, blocks); return;
+			case 47: decode47(data, j, dest, off, blocks); return;
+			case 48: decode48(data, j, dest, off, blocks); return;
+			case 49: decode49(data, j, dest, off, blocks); return;
+			case 50: decode50(data, j, dest, off, blocks); return;
+			case 51: decode51(data, j, dest, off, blocks); return;
+			case 52: decode52(data, j, dest, off, blocks); return;
+			case 53: decode53(data, j, dest, off, blocks); return;
+			case 54: decode54(data, j, dest, off, blocks); return;
+			case 55: decode55(data, j, dest, off, blocks); return;
+			case 56: decode56(data, j, dest, off, blocks); return;
+			case 57: decode57(data, j, dest, off, blocks); return;
+			case 58: decode58(data, j, dest, off, blocks); return;
+			case 59: decode59(data, j, dest, off, blocks); return;
+			case 60: decode60(data, j, dest, off, blocks); return;
+			case 61: decode61(data, j, dest, off, blocks); return;
+			case 62: decode62(data, j, dest, off, blocks); return;
+			case 63: decode63(data, j, dest, off, blocks); return;
+			default: throw new IllegalArgumentException("Width must be between 1 and 63: " + width);
+		}
+	}
+
+	/**
+	 * Unpacks {@code blocks} blocks of values of the given width (at most 32), 
+	 * from word {@code j} of the storage on, into the given buffer.
+	 */
+	static void decode(int width, long[] data, int j, int[] dest, int off, int blocks) {
+		switch (width) {
+			case 1: decode1(data, j, dest, off, blocks); return;
+			case 2: decode2(data, j, dest, off, blocks); return;
+			case 3: decode3(data, j, dest, off, blocks); return;
+			case 4: decode4(data, j, dest, off, blocks); return;
+			case 5: decode5(data, j, dest, off, blocks); return;
+			case 6: decode6(data, j, dest, off, blocks); return;
+			case 7: decode7(data, j, dest, off, blocks); return;
+			case 8: decode8(data, j, dest, off, blocks); return;
+			case 9: decode9(data, j, dest, off, blocks); return;
+			case 10: decode10(data, j, dest, off, blocks); return;
+			case 11: decode11(data, j, dest, off, blocks); return;
+			case 12: decode12(data, j, dest, off, blocks); return;
+			case 13: decode13(data, j, dest, off, blocks); return;
+			case 14: decode14(data, j, dest, off, blocks); return;
+			case 15: decode15(data, j, dest, off, blocks); return;
+			case 16: decode16(data, j, dest, off, blocks); return;
+			case 17: decode17(data, j, dest, off, blocks); return;
+			case 18: decode18(data, j, dest, off, blocks); return;
+			case 19: decode19(data, j, dest, off, blocks); return;
+			case 20: decode20(data, j, dest, off, blocks); return;
+			case 21: decode21(data, j, dest, off, blocks); return;
+			case 22: decode22(data, j, dest, off, blocks); return;
+			case 23: decode23(data, j, dest, off, blocks); return;
+			case 24: decode24(data, j, dest, off, blocks); return;
+			case 25: decode25(data, j, dest, off, blocks); return;
+			case 26: decode26(data, j, dest, off, blocks); return;
+			case 27: decode27(data, j, dest, off, blocks); return;
+			case 28: decode28(data, j, dest, off, blocks); return;
+			case 29: decode29(data, j, dest, off, blocks); return;
+			case 30: decode30(data, j, dest, off, blocks); return;
+			case 31: decode31(data, j, dest, off, blocks); return;
+			case 32: decode32(data, j, dest, off, blocks); return;
+			default: throw new IllegalArgumentException("Width must be between 1 and 32: " + width);
+		}
+	}
+
+	/**
+	 * Packs {@code blocks} blocks of values of the given width from the given 
+	 * buffer, onto word {@code j} of the storage on.
+	 */
+	static void encode(int width, long[] src, int off, long[] data, int j, int blocks) {
+		switch (width) {
+			case 1: encode1(src, off, data, j, blocks); return;
+			case 2: encode2(src, off, data, j, blocks); return;
+			case 3: encode3(src, off, data, j, blocks); return;
+			case 4: encode4(src, off, data, j, blocks); return;
+			case 5: encode5(src, off, data, j, blocks); return;
+			case 6: encode6(src, off, data, j, blocks); return;
+			case 7: encode7(src, off, data, j, blocks); return;
+			case 8: encode8(src, off, data, j, blocks); return;
+			case 9: encode9(src, off, data, j, blocks); return;
+			case 10: encode10(src, off, data, j, blocks); return;
+			case 11: encode11(src, off, data, j, blocks); return;
+			case 12: encode12(src, off, data, j, blocks); return;
+			case 13: encode13(src, off, data, j, blocks); return;
+			case 14: encode14(src, off, data, j, blocks); return;
+			case 15: encode15(src, off, data, j, blocks); return;
+			case 16: encode16(src, off, data, j, blocks); return;
+			case 17: encode17(src, off, data, j, blocks); return;
+			case 18: encode18(src, off, data, j, blocks); return;
+			case 19: encode19(src, off, data, j, blocks); return;
+			case 20: encode20(src, off, data, j, blocks); return;
+			case 21: encode21(src, off, data, j, blocks); return;
+			case 22: encode22(src, off, data, j, blocks); return;
+			case 23: encode23(src, off, data, j, blocks); return;
+			case 24: encode24(src, off, data, j, blocks); return;
+			case 25: encode25(src, off, data, j, blocks); return;
+			case 26: encode26(src, off, data, j, blocks); return;
+			case 27: encode27(src, off, data, j, blocks); return;
+			case 28: encode28(src, off, data, j, blocks); return;
+			case 29: encode29(src, off, data, j, blocks); return;
+			case 30: encode30(src, off, data, j, blocks); return;
+			case 31: encode31(src, off, data, j, blocks); return;
+			case 32: encode32(src, off, data, j, blocks); return;
+			case 33: encode33(src, off, data, j, blocks); return;
+			case 34: encode34(src, off, data, j, blocks); return;
+			case 35: encode35(src, off, data, j, blocks); return;
+			case 36: encode36(src, off, data, j, blocks); return;
+			case 37: encode37(src, off, data, j, blocks); return;
+			case 38: encode38(src, off, data, j, blocks); return;
+			case 39: encode39(src, off, data, j, blocks); return;
+			case 40: encode40(src, off, data, j, blocks); return;
+			case 41: encode41(src, off, data, j, blocks); return;
+			case 42: encode42(src, off, data, j, blocks); return;
+			case 43: encode43(src, off, data, j, blocks); return;
+			case 44: encode44(src, off, data, j, blocks); return;
+			case 45: encode45(src, off, data, j, blocks); return;
+			case 46: encode46(src, off, data, j, blocks); return;
+			case 47: encode47(src, off, data, j, blocks); return;
+			case 48: encode48(src, off, data, j, blocks); return;
+			case 49: encode49(src, off, data, j, blocks); return;
+			case 50: encode50(src, off, data, j, blocks); return;
+			case 51: encode51(src, off, data, j, blocks); return;
+			case 52: encode52(src, off, data, j, blocks); return;
+			case 53: encode53(src, off, data, j, blocks); return;
+			case 54: encode54(src, off, data, j, blocks); return;
+			case 55: encode55(src, off, data, j, blocks); return;
+			case 56: encode56(src, off, data, j, blocks); return;
+			case 57: encode57(src, off, data, j, blocks); return;
+			case 58: encode58(src, off, data, j, blocks); return;
+			case 59: encode59(src, off, data, j, blocks); return;
+			case 60: encode60(src, off, data, j, blocks); return;
+			case 61: encode61(src, off, data, j, blocks); return;
+			case 62: encode62(src, off, data, j, blocks); return;
+			case 63: encode63(src, off, data, j, blocks); return;
+			default: throw new IllegalArgumentException("Width must be between 1 and 63: " + width);
+		}
+	}
+
+	/**
+	 * Packs {@code blocks} blocks of values of the given width (at most 32) 
+	 * from the given buffer, taken as unsigned, onto word {@code j} of the 
+	 * storage on.
+	 */
+	static void encode(int width, int[] src, int off, long[] data, int j, int blocks) {
+		switch (width) {
+			case 1: encode1(src, off, data, j, blocks); return;
+			case 2: encode2(src, off, data, j, blocks); return;
+			case 3: encode3(src, off, data, j, blocks); return;
+			case 4: encode4(src, off, data, j, blocks); return;
+			case 5: encode5(src, off, data, j, blocks); return;
+			case 6: encode6(src, off, data, j, blocks); return;
+			case 7: encode7(src, off, data, j, blocks); return;
+			case 8: encode8(src, off, data, j, blocks); return;
+			case 9: encode9(src, off, data, j, blocks); return;
+			case 10: encode10(src, off, data, j, blocks); return;
+			case 11: encode11(src, off, data, j, blocks); return;
+			case 12: encode12(src, off, data, j, blocks); return;
+			case 13: encode13(src, off, data, j, blocks); return;
+			case 14: encode14(src, off, data, j, blocks); return;
+			case 15: encode15(src, off, data, j, blocks); return;
+			case 16: encode16(src, off, data, j, blocks); return;
+			case 17: encode17(src, off, data, j, blocks); return;
+			case 18: encode18(src, off, data, j, blocks); return;
+			case 19: encode19(src, off, data, j, blocks); return;
+			case 20: encode20(src, off, data, j, blocks); return;
+			case 21: encode21(src, off, data, j, blocks); return;
+			case 22: encode22(src, off, data, j, blocks); return;
+			case 23: encode23(src, off, data, j, blocks); return;
+			case 24: encode24(src, off, data, j, blocks); return;
+			case 25: encode25(src, off, data, j, blocks); return;
+			case 26: encode26(src, off, data, j, blocks); return;
+			case 27: encode27(src, off, data, j, blocks); return;
+			case 28: encode28(src, off, data, j, blocks); return;
+			case 29: encode29(src, off, data, j, blocks); return;
+			case 30: encode30(src, off, data, j, blocks); return;
+			case 31: encode31(src, off, data, j, blocks); return;
+			case 32: encode32(src, off, data, j, blocks); return;
+			default: throw new IllegalArgumentException("Width must be between 1 and 32: " + width);
+		}
+	}
+
+	/********** long[] values **********/
+
+	private static void decode1(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 1, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1L;
+			dest[off + 1] = w0 >>> 1 & 0x1L;
+			dest[off + 2] = w0 >>> 2 & 0x1L;
+			dest[off + 3] = w0 >>> 3 & 0x1L;
+			dest[off + 4] = w0 >>> 4 & 0x1L;
+			dest[off + 5] = w0 >>> 5 & 0x1L;
+			dest[off + 6] = w0 >>> 6 & 0x1L;
+			dest[off + 7] = w0 >>> 7 & 0x1L;
+			dest[off + 8] = w0 >>> 8 & 0x1L;
+			dest[off + 9] = w0 >>> 9 & 0x1L;
+			dest[off + 10] = w0 >>> 10 & 0x1L;
+			dest[off + 11] = w0 >>> 11 & 0x1L;
+			dest[off + 12] = w0 >>> 12 & 0x1L;
+			dest[off + 13] = w0 >>> 13 & 0x1L;
+			dest[off + 14] = w0 >>> 14 & 0x1L;
+			dest[off + 15] = w0 >>> 15 & 0x1L;
+			dest[off + 16] = w0 >>> 16 & 0x1L;
+			dest[off + 17] = w0 >>> 17 & 0x1L;
+			dest[off + 18] = w0 >>> 18 & 0x1L;
+			dest[off + 19] = w0 >>> 19 & 0x1L;
+			dest[off + 20] = w0 >>> 20 & 0x1L;
+			dest[off + 21] = w0 >>> 21 & 0x1L;
+			dest[off + 22] = w0 >>> 22 & 0x1L;
+			dest[off + 23] = w0 >>> 23 & 0x1L;
+			dest[off + 24] = w0 >>> 24 & 0x1L;
+			dest[off + 25] = w0 >>> 25 & 0x1L;
+			dest[off + 26] = w0 >>> 26 & 0x1L;
+			dest[off + 27] = w0 >>> 27 & 0x1L;
+			dest[off + 28] = w0 >>> 28 & 0x1L;
+			dest[off + 29] = w0 >>> 29 & 0x1L;
+			dest[off + 30] = w0 >>> 30 & 0x1L;
+			dest[off + 31] = w0 >>> 31 & 0x1L;
+			dest[off + 32] = w0 >>> 32 & 0x1L;
+			dest[off + 33] = w0 >>> 33 & 0x1L;
+			dest[off + 34] = w0 >>> 34 & 0x1L;
+			dest[off + 35] = w0 >>> 35 & 0x1L;
+			dest[off + 36] = w0 >>> 36 & 0x1L;
+			dest[off + 37] = w0 >>> 37 & 0x1L;
+			dest[off + 38] = w0 >>> 38 & 0x1L;
+			dest[off + 39] = w0 >>> 39 & 0x1L;
+			dest[off + 40] = w0 >>> 40 & 0x1L;
+			dest[off + 41] = w0 >>> 41 & 0x1L;
+			dest[off + 42] = w0 >>> 42 & 0x1L;
+			dest[off + 43] = w0 >>> 43 & 0x1L;
+			dest[off + 44] = w0 >>> 44 & 0x1L;
+			dest[off + 45] = w0 >>> 45 & 0x1L;
+			dest[off + 46] = w0 >>> 46 & 0x1L;
+			dest[off + 47] = w0 >>> 47 & 0x1L;
+			dest[off + 48] = w0 >>> 48 & 0x1L;
+			dest[off + 49] = w0 >>> 49 & 0x1L;
+			dest[off + 50] = w0 >>> 50 & 0x1L;
+			dest[off + 51] = w0 >>> 51 & 0x1L;
+			dest[off + 52] = w0 >>> 52 & 0x1L;
+			dest[off + 53] = w0 >>> 53 & 0x1L;
+			dest[off + 54] = w0 >>> 54 & 0x1L;
+			dest[off + 55] = w0 >>> 55 & 0x1L;
+			dest[off + 56] = w0 >>> 56 & 0x1L;
+			dest[off + 57] = w0 >>> 57 & 0x1L;
+			dest[off + 58] = w0 >>> 58 & 0x1L;
+			dest[off + 59] = w0 >>> 59 & 0x1L;
+			dest[off + 60] = w0 >>> 60 & 0x1L;
+			dest[off + 61] = w0 >>> 61 & 0x1L;
+			dest[off + 62] = w0 >>> 62 & 0x1L;
+			dest[off + 63] = w0 >>> 63;
+		}
+	}
+
+	private static void encode1(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 1) {
+			final long v0 = src[off] & 0x1L;
+			final long v1 = src[off + 1] & 0x1L;
+			final long v2 = src[off + 2] & 0x1L;
+			final long v3 = src[off + 3] & 0x1L;
+			final long v4 = src[off + 4] & 0x1L;
+			final long v5 = src[off + 5] & 0x1L;
+			final long v6 = src[off + 6] & 0x1L;
+			final long v7 = src[off + 7] & 0x1L;
+			final long v8 = src[off + 8] & 0x1L;
+			final long v9 = src[off + 9] & 0x1L;
+			final long v10 = src[off + 10] & 0x1L;
+			final long v11 = src[off + 11] & 0x1L;
+			final long v12 = src[off + 12] & 0x1L;
+			final long v13 = src[off + 13] & 0x1L;
+			final long v14 = src[off + 14] & 0x1L;
+			final long v15 = src[off + 15] & 0x1L;
+			final long v16 = src[off + 16] & 0x1L;
+			final long v17 = src[off + 17] & 0x1L;
+			final long v18 = src[off + 18] & 0x1L;
+			final long v19 = src[off + 19] & 0x1L;
+			final long v20 = src[off + 20] & 0x1L;
+			final long v21 = src[off + 21] & 0x1L;
+			final long v22 = src[off + 22] & 0x1L;
+			final long v23 = src[off + 23] & 0x1L;
+			final long v24 = src[off + 24] & 0x1L;
+			final long v25 = src[off + 25] & 0x1L;
+			final long v26 = src[off + 26] & 0x1L;
+			final long v27 = src[off + 27] & 0x1L;
+			final long v28 = src[off + 28] & 0x1L;
+			final long v29 = src[off + 29] & 0x1L;
+			final long v30 = src[off + 30] & 0x1L;
+			final long v31 = src[off + 31] & 0x1L;
+			final long v32 = src[off + 32] & 0x1L;
+			final long v33 = src[off + 33] & 0x1L;
+			final long v34 = src[off + 34] & 0x1L;
+			final long v35 = src[off + 35] & 0x1L;
+			final long v36 = src[off + 36] & 0x1L;
+			final long v37 = src[off + 37] & 0x1L;
+			final long v38 = src[off + 38] & 0x1L;
+			final long v39 = src[off + 39] & 0x1L;
+			final long v40 = src[off + 40] & 0x1L;
+			final long v41 = src[off + 41] & 0x1L;
+			final long v42 = src[off + 42] & 0x1L;
+			final long v43 = src[off + 43] & 0x1L;
+			final long v44 = src[off + 44] & 0x1L;
+			final long v45 = src[off + 45] & 0x1L;
+			final long v46 = src[off + 46] & 0x1L;
+			final long v47 = src[off + 47] & 0x1L;
+			final long v48 = src[off + 48] & 0x1L;
+			final long v49 = src[off + 49] & 0x1L;
+			final long v50 = src[off + 50] & 0x1L;
+			final long v51 = src[off + 51] & 0x1L;
+			final long v52 = src[off + 52] & 0x1L;
+			final long v53 = src[off + 53] & 0x1L;
+			final long v54 = src[off + 54] & 0x1L;
+			final long v55 = src[off + 55] & 0x1L;
+			final long v56 = src[off + 56] & 0x1L;
+			final long v57 = src[off + 57] & 0x1L;
+			final long v58 = src[off + 58] & 0x1L;
+			final long v59 = src[off + 59] & 0x1L;
+			final long v60 = src[off + 60] & 0x1L;
+			final long v61 = src[off + 61] & 0x1L;
+			final long v62 = src[off + 62] & 0x1L;
+			final long v63 = src[off + 63] & 0x1L;
+			data[j] = v0 | v1 << 1 | v2 << 2 | v3 << 3 | v4 << 4 | v5 << 5
+					| v6 << 6 | v7 << 7 | v8 << 8 | v9 << 9 | v10 << 10
+					| v11 << 11 | v12 << 12 | v13 << 13 | v14 << 14 | v15 << 15
+					| v16 << 16 | v17 << 17 | v18 << 18 | v19 << 19 | v20 << 20
+					| v21 << 21 | v22 << 22 | v23 << 23 | v24 << 24 | v25 << 25
+					| v26 << 26 | v27 << 27 | v28 << 28 | v29 << 29 | v30 << 30
+					| v31 << 31 | v32 << 32 | v33 << 33 | v34 << 34 | v35 << 35
+					| v36 << 36 | v37 << 37 | v38 << 38 | v39 << 39 | v40 << 40
+					| v41 << 41 | v42 << 42 | v43 << 43 | v44 << 44 | v45 << 45
+					| v46 << 46 | v47 << 47 | v48 << 48 | v49 << 49 | v50 << 50
+					| v51 << 51 | v52 << 52 | v53 << 53 | v54 << 54 | v55 << 55
+					| v56 << 56 | v57 << 57 | v58 << 58 | v59 << 59 | v60 << 60
+					| v61 << 61 | v62 << 62 | v63 << 63;
+		}
+	}
+
+	private static void decode2(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 2, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3L;
+			dest[off + 1] = w0 >>> 2 & 0x3L;
+			dest[off + 2] = w0 >>> 4 & 0x3L;
+			dest[off + 3] = w0 >>> 6 & 0x3L;
+			dest[off + 4] = w0 >>> 8 & 0x3L;
+			dest[off + 5] = w0 >>> 10 & 0x3L;
+			dest[off + 6] = w0 >>> 12 & 0x3L;
+			dest[off + 7] = w0 >>> 14 & 0x3L;
+			dest[off + 8] = w0 >>> 16 & 0x3L;
+			dest[off + 9] = w0 >>> 18 & 0x3L;
+			dest[off + 10] = w0 >>> 20 & 0x3L;
+			dest[off + 11] = w0 >>> 22 & 0x3L;
+			dest[off + 12] = w0 >>> 24 & 0x3L;
+			dest[off + 13] = w0 >>> 26 & 0x3L;
+			dest[off + 14] = w0 >>> 28 & 0x3L;
+			dest[off + 15] = w0 >>> 30 & 0x3L;
+			dest[off + 16] = w0 >>> 32 & 0x3L;
+			dest[off + 17] = w0 >>> 34 & 0x3L;
+			dest[off + 18] = w0 >>> 36 & 0x3L;
+			dest[off + 19] = w0 >>> 38 & 0x3L;
+			dest[off + 20] = w0 >>> 40 & 0x3L;
+			dest[off + 21] = w0 >>> 42 & 0x3L;
+			dest[off + 22] = w0 >>> 44 & 0x3L;
+			dest[off + 23] = w0 >>> 46 & 0x3L;
+			dest[off + 24] = w0 >>> 48 & 0x3L;
+			dest[off + 25] = w0 >>> 50 & 0x3L;
+			dest[off + 26] = w0 >>> 52 & 0x3L;
+			dest[off + 27] = w0 >>> 54 & 0x3L;
+			dest[off + 28] = w0 >>> 56 & 0x3L;
+			dest[off + 29] = w0 >>> 58 & 0x3L;
+			dest[off + 30] = w0 >>> 60 & 0x3L;
+			dest[off + 31] = w0 >>> 62;
+			final long w1 = data[j + 1];
+			dest[off + 32] = w1 & 0x3L;
+			dest[off + 33] = w1 >>> 2 & 0x3L;
+			dest[off + 34] = w1 >>> 4 & 0x3L;
+			dest[off + 35] = w1 >>> 6 & 0x3L;
+			dest[off + 36] = w1 >>> 8 & 0x3L;
+			dest[off + 37] = w1 >>> 10 & 0x3L;
+			dest[off + 38] = w1 >>> 12 & 0x3L;
+			dest[off + 39] = w1 >>> 14 & 0x3L;
+			dest[off + 40] = w1 >>> 16 & 0x3L;
+			dest[off + 41] = w1 >>> 18 & 0x3L;
+			dest[off + 42] = w1 >>> 20 & 0x3L;
+			dest[off + 43] = w1 >>> 22 & 0x3L;
+			dest[off + 44] = w1 >>> 24 & 0x3L;
+			dest[off + 45] = w1 >>> 26 & 0x3L;
+			dest[off + 46] = w1 >>> 28 & 0x3L;
+			dest[off + 47] = w1 >>> 30 & 0x3L;
+			dest[off + 48] = w1 >>> 32 & 0x3L;
+			dest[off + 49] = w1 >>> 34 & 0x3L;
+			dest[off + 50] = w1 >>> 36 & 0x3L;
+			dest[off + 51] = w1 >>> 38 & 0x3L;
+			dest[off + 52] = w1 >>> 40 & 0x3L;
+			dest[off + 53] = w1 >>> 42 & 0x3L;
+			dest[off + 54] = w1 >>> 44 & 0x3L;
+			dest[off + 55] = w1 >>> 46 & 0x3L;
+			dest[off + 56] = w1 >>> 48 & 0x3L;
+			dest[off + 57] = w1 >>> 50 & 0x3L;
+			dest[off + 58] = w1 >>> 52 & 0x3L;
+			dest[off + 59] = w1 >>> 54 & 0x3L;
+			dest[off + 60] = w1 >>> 56 & 0x3L;
+			dest[off + 61] = w1 >>> 58 & 0x3L;
+			dest[off + 62] = w1 >>> 60 & 0x3L;
+			dest[off + 63] = w1 >>> 62;
+		}
+	}
+
+	private static void encode2(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 2) {
+			final long v0 = src[off] & 0x3L;
+			final long v1 = src[off + 1] & 0x3L;
+			final long v2 = src[off + 2] & 0x3L;
+			final long v3 = src[off + 3] & 0x3L;
+			final long v4 = src[off + 4] & 0x3L;
+			final long v5 = src[off + 5] & 0x3L;
+			final long v6 = src[off + 6] & 0x3L;
+			final long v7 = src[off + 7] & 0x3L;
+			final long v8 = src[off + 8] & 0x3L;
+			final long v9 = src[off + 9] & 0x3L;
+			final long v10 = src[off + 10] & 0x3L;
+			final long v11 = src[off + 11] & 0x3L;
+			final long v12 = src[off + 12] & 0x3L;
+			final long v13 = src[off + 13] & 0x3L;
+			final long v14 = src[off + 14] & 0x3L;
+			final long v15 = src[off + 15] & 0x3L;
+			final long v16 = src[off + 16] & 0x3L;
+			final long v17 = src[off + 17] & 0x3L;
+			final long v18 = src[off + 18] & 0x3L;
+			final long v19 = src[off + 19] & 0x3L;
+			final long v20 = src[off + 20] & 0x3L;
+			final long v21 = src[off + 21] & 0x3L;
+			final long v22 = src[off + 22] & 0x3L;
+			final long v23 = src[off + 23] & 0x3L;
+			final long v24 = src[off + 24] & 0x3L;
+			final long v25 = src[off + 25] & 0x3L;
+			final long v26 = src[off + 26] & 0x3L;
+			final long v27 = src[off + 27] & 0x3L;
+			final long v28 = src[off + 28] & 0x3L;
+			final long v29 = src[off + 29] & 0x3L;
+			final long v30 = src[off + 30] & 0x3L;
+			final long v31 = src[off + 31] & 0x3L;
+			final long v32 = src[off + 32] & 0x3L;
+			final long v33 = src[off + 33] & 0x3L;
+			final long v34 = src[off + 34] & 0x3L;
+			final long v35 = src[off + 35] & 0x3L;
+			final long v36 = src[off + 36] & 0x3L;
+			final long v37 = src[off + 37] & 0x3L;
+			final long v38 = src[off + 38] & 0x3L;
+			final long v39 = src[off + 39] & 0x3L;
+			final long v40 = src[off + 40] & 0x3L;
+			final long v41 = src[off + 41] & 0x3L;
+			final long v42 = src[off + 42] & 0x3L;
+			final long v43 = src[off + 43] & 0x3L;
+			final long v44 = src[off + 44] & 0x3L;
+			final long v45 = src[off + 45] & 0x3L;
+			final long v46 = src[off + 46] & 0x3L;
+			final long v47 = src[off + 47] & 0x3L;
+			final long v48 = src[off + 48] & 0x3L;
+			final long v49 = src[off + 49] & 0x3L;
+			final long v50 = src[off + 50] & 0x3L;
+			final long v51 = src[off + 51] & 0x3L;
+			final long v52 = src[off + 52] & 0x3L;
+			final long v53 = src[off + 53] & 0x3L;
+			final long v54 = src[off + 54] & 0x3L;
+			final long v55 = src[off + 55] & 0x3L;
+			final long v56 = src[off + 56] & 0x3L;
+			final long v57 = src[off + 57] & 0x3L;
+			final long v58 = src[off + 58] & 0x3L;
+			final long v59 = src[off + 59] & 0x3L;
+			final long v60 = src[off + 60] & 0x3L;
+			final long v61 = src[off + 61] & 0x3L;
+			final long v62 = src[off + 62] & 0x3L;
+			final long v63 = src[off + 63] & 0x3L;
+			data[j] = v0 | v1 << 2 | v2 << 4 | v3 << 6 | v4 << 8 | v5 << 10
+					| v6 << 12 | v7 << 14 | v8 << 16 | v9 << 18 | v10 << 20
+					| v11 << 22 | v12 << 24 | v13 << 26 | v14 << 28 | v15 << 30
+					| v16 << 32 | v17 << 34 | v18 << 36 | v19 << 38 | v20 << 40
+					| v21 << 42 | v22 << 44 | v23 << 46 | v24 << 48 | v25 << 50
+					| v26 << 52 | v27 << 54 | v28 << 56 | v29 << 58 | v30 << 60
+					| v31 << 62;
+			data[j + 1] = v32 | v33 << 2 | v34 << 4 | v35 << 6 | v36 << 8
+					| v37 << 10 | v38 << 12 | v39 << 14 | v40 << 16 | v41 << 18
+					| v42 << 20 | v43 << 22 | v44 << 24 | v45 << 26 | v46 << 28
+					| v47 << 30 | v48 << 32 | v49 << 34 | v50 << 36 | v51 << 38
+					| v52 << 40 | v53 << 42 | v54 << 44 | v55 << 46 | v56 << 48
+					| v57 << 50 | v58 << 52 | v59 << 54 | v60 << 56 | v61 << 58
+					| v62 << 60 | v63 << 62;
+		}
+	}
+
+	private static void decode3(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 3, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7L;
+			dest[off + 1] = w0 >>> 3 & 0x7L;
+			dest[off + 2] = w0 >>> 6 & 0x7L;
+			dest[off + 3] = w0 >>> 9 & 0x7L;
+			dest[off + 4] = w0 >>> 12 & 0x7L;
+			dest[off + 5] = w0 >>> 15 & 0x7L;
+			dest[off + 6] = w0 >>> 18 & 0x7L;
+			dest[off + 7] = w0 >>> 21 & 0x7L;
+			dest[off + 8] = w0 >>> 24 & 0x7L;
+			dest[off + 9] = w0 >>> 27 & 0x7L;
+			dest[off + 10] = w0 >>> 30 & 0x7L;
+			dest[off + 11] = w0 >>> 33 & 0x7L;
+			dest[off + 12] = w0 >>> 36 & 0x7L;
+			dest[off + 13] = w0 >>> 39 & 0x7L;
+			dest[off + 14] = w0 >>> 42 & 0x7L;
+			dest[off + 15] = w0 >>> 45 & 0x7L;
+			dest[off + 16] = w0 >>> 48 & 0x7L;
+			dest[off + 17] = w0 >>> 51 & 0x7L;
+			dest[off + 18] = w0 >>> 54 & 0x7L;
+			dest[off + 19] = w0 >>> 57 & 0x7L;
+			dest[off + 20] = w0 >>> 60 & 0x7L;
+			final long w1 = data[j + 1];
+			dest[off + 21] = (w0 >>> 63 | w1 << 1) & 0x7L;
+			dest[off + 22] = w1 >>> 2 & 0x7L;
+			dest[off + 23] = w1 >>> 5 & 0x7L;
+			dest[off + 24] = w1 >>> 8 & 0x7L;
+			dest[off + 25] = w1 >>> 11 & 0x7L;
+			dest[off + 26] = w1 >>> 14 & 0x7L;
+			dest[off + 27] = w1 >>> 17 & 0x7L;
+			dest[off + 28] = w1 >>> 20 & 0x7L;
+			dest[off + 29] = w1 >>> 23 & 0x7L;
+			dest[off + 30] = w1 >>> 26 & 0x7L;
+			dest[off + 31] = w1 >>> 29 & 0x7L;
+			dest[off + 32] = w1 >>> 32 & 0x7L;
+			dest[off + 33] = w1 >>> 35 & 0x7L;
+			dest[off + 34] = w1 >>> 38 & 0x7L;
+			dest[off + 35] = w1 >>> 41 & 0x7L;
+			dest[off + 36] = w1 >>> 44 & 0x7L;
+			dest[off + 37] = w1 >>> 47 & 0x7L;
+			dest[off + 38] = w1 >>> 50 & 0x7L;
+			dest[off + 39] = w1 >>> 53 & 0x7L;
+			dest[off + 40] = w1 >>> 56 & 0x7L;
+			dest[off + 41] = w1 >>> 59 & 0x7L;
+			final long w2 = data[j + 2];
+			dest[off + 42] = (w1 >>> 62 | w2 << 2) & 0x7L;
+			dest[off + 43] = w2 >>> 1 & 0x7L;
+			dest[off + 44] = w2 >>> 4 & 0x7L;
+			dest[off + 45] = w2 >>> 7 & 0x7L;
+			dest[off + 46] = w2 >>> 10 & 0x7L;
+			dest[off + 47] = w2 >>> 13 & 0x7L;
+			dest[off + 48] = w2 >>> 16 & 0x7L;
+			dest[off + 49] = w2 >>> 19 & 0x7L;
+			dest[off + 50] = w2 >>> 22 & 0x7L;
+			dest[off + 51] = w2 >>> 25 & 0x7L;
+			dest[off + 52] = w2 >>> 28 & 0x7L;
+			dest[off + 53] = w2 >>> 31 & 0x7L;
+			dest[off + 54] = w2 >>> 34 & 0x7L;
+			dest[off + 55] = w2 >>> 37 & 0x7L;
+			dest[off + 56] = w2 >>> 40 & 0x7L;
+			dest[off + 57] = w2 >>> 43 & 0x7L;
+			dest[off + 58] = w2 >>> 46 & 0x7L;
+			dest[off + 59] = w2 >>> 49 & 0x7L;
+			dest[off + 60] = w2 >>> 52 & 0x7L;
+			dest[off + 61] = w2 >>> 55 & 0x7L;
+			dest[off + 62] = w2 >>> 58 & 0x7L;
+			dest[off + 63] = w2 >>> 61;
+		}
+	}
+
+	private static void encode3(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 3) {
+			final long v0 = src[off] & 0x7L;
+			final long v1 = src[off + 1] & 0x7L;
+			final long v2 = src[off + 2] & 0x7L;
+			final long v3 = src[off + 3] & 0x7L;
+			final long v4 = src[off + 4] & 0x7L;
+			final long v5 = src[off + 5] & 0x7L;
+			final long v6 = src[off + 6] & 0x7L;
+			final long v7 = src[off + 7] & 0x7L;
+			final long v8 = src[off + 8] & 0x7L;
+			final long v9 = src[off + 9] & 0x7L;
+			final long v10 = src[off + 10] & 0x7L;
+			final long v11 = src[off + 11] & 0x7L;
+			final long v12 = src[off + 12] & 0x7L;
+			final long v13 = src[off + 13] & 0x7L;
+			final long v14 = src[off + 14] & 0x7L;
+			final long v15 = src[off + 15] & 0x7L;
+			final long v16 = src[off + 16] & 0x7L;
+			final long v17 = src[off + 17] & 0x7L;
+			final long v18 = src[off + 18] & 0x7L;
+			final long v19 = src[off + 19] & 0x7L;
+			final long v20 = src[off + 20] & 0x7L;
+			final long v21 = src[off + 21] & 0x7L;
+			final long v22 = src[off + 22] & 0x7L;
+			final long v23 = src[off + 23] & 0x7L;
+			final long v24 = src[off + 24] & 0x7L;
+			final long v25 = src[off + 25] & 0x7L;
+			final long v26 = src[off + 26] & 0x7L;
+			final long v27 = src[off + 27] & 0x7L;
+			final long v28 = src[off + 28] & 0x7L;
+			final long v29 = src[off + 29] & 0x7L;
+			final long v30 = src[off + 30] & 0x7L;
+			final long v31 = src[off + 31] & 0x7L;
+			final long v32 = src[off + 32] & 0x7L;
+			final long v33 = src[off + 33] & 0x7L;
+			final long v34 = src[off + 34] & 0x7L;
+			final long v35 = src[off + 35] & 0x7L;
+			final long v36 = src[off + 36] & 0x7L;
+			final long v37 = src[off + 37] & 0x7L;
+			final long v38 = src[off + 38] & 0x7L;
+			final long v39 = src[off + 39] & 0x7L;
+			final long v40 = src[off + 40] & 0x7L;
+			final long v41 = src[off + 41] & 0x7L;
+			final long v42 = src[off + 42] & 0x7L;
+			final long v43 = src[off + 43] & 0x7L;
+			final long v44 = src[off + 44] & 0x7L;
+			final long v45 = src[off + 45] & 0x7L;
+			final long v46 = src[off + 46] & 0x7L;
+			final long v47 = src[off + 47] & 0x7L;
+			final long v48 = src[off + 48] & 0x7L;
+			final long v49 = src[off + 49] & 0x7L;
+			final long v50 = src[off + 50] & 0x7L;
+			final long v51 = src[off + 51] & 0x7L;
+			final long v52 = src[off + 52] & 0x7L;
+			final long v53 = src[off + 53] & 0x7L;
+			final long v54 = src[off + 54] & 0x7L;
+			final long v55 = src[off + 55] & 0x7L;
+			final long v56 = src[off + 56] & 0x7L;
+			final long v57 = src[off + 57] & 0x7L;
+			final long v58 = src[off + 58] & 0x7L;
+			final long v59 = src[off + 59] & 0x7L;
+			final long v60 = src[off + 60] & 0x7L;
+			final long v61 = src[off + 61] & 0x7L;
+			final long v62 = src[off + 62] & 0x7L;
+			final long v63 = src[off + 63] & 0x7L;
+			data[j] = v0 | v1 << 3 | v2 << 6 | v3 << 9 | v4 << 12 | v5 << 15
+					| v6 << 18 | v7 << 21 | v8 << 24 | v9 << 27 | v10 << 30
+					| v11 << 33 | v12 << 36 | v13 << 39 | v14 << 42 | v15 << 45
+					| v16 << 48 | v17 << 51 | v18 << 54 | v19 << 57 | v20 << 60
+					| v21 << 63;
+			data[j + 1] = v21 >>> 1 | v22 << 2 | v23 << 5 | v24 << 8 | v25 << 11
+					| v26 << 14 | v27 << 17 | v28 << 20 | v29 << 23 | v30 << 26
+					| v31 << 29 | v32 << 32 | v33 << 35 | v34 << 38 | v35 << 41
+					| v36 << 44 | v37 << 47 | v38 << 50 | v39 << 53 | v40 << 56
+					| v41 << 59 | v42 << 62;
+			data[j + 2] = v42 >>> 2 | v43 << 1 | v44 << 4 | v45 << 7 | v46 << 10
+					| v47 << 13 | v48 << 16 | v49 << 19 | v50 << 22 | v51 << 25
+					| v52 << 28 | v53 << 31 | v54 << 34 | v55 << 37 | v56 << 40
+					| v57 << 43 | v58 << 46 | v59 << 49 | v60 << 52 | v61 << 55
+					| v62 << 58 | v63 << 61;
+		}
+	}
+
+	private static void decode4(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 4, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFL;
+			dest[off + 1] = w0 >>> 4 & 0xFL;
+			dest[off + 2] = w0 >>> 8 & 0xFL;
+			dest[off + 3] = w0 >>> 12 & 0xFL;
+			dest[off + 4] = w0 >>> 16 & 0xFL;
+			dest[off + 5] = w0 >>> 20 & 0xFL;
+			dest[off + 6] = w0 >>> 24 & 0xFL;
+			dest[off + 7] = w0 >>> 28 & 0xFL;
+			dest[off + 8] = w0 >>> 32 & 0xFL;
+			dest[off + 9] = w0 >>> 36 & 0xFL;
+			dest[off + 10] = w0 >>> 40 & 0xFL;
+			dest[off + 11] = w0 >>> 44 & 0xFL;
+			dest[off + 12] = w0 >>> 48 & 0xFL;
+			dest[off + 13] = w0 >>> 52 & 0xFL;
+			dest[off + 14] = w0 >>> 56 & 0xFL;
+			dest[off + 15] = w0 >>> 60;
+			final long w1 = data[j + 1];
+			dest[off + 16] = w1 & 0xFL;
+			dest[off + 17] = w1 >>> 4 & 0xFL;
+			dest[off + 18] = w1 >>> 8 & 0xFL;
+			dest[off + 19] = w1 >>> 12 & 0xFL;
+			dest[off + 20] = w1 >>> 16 & 0xFL;
+			dest[off + 21] = w1 >>> 20 & 0xFL;
+			dest[off + 22] = w1 >>> 24 & 0xFL;
+			dest[off + 23] = w1 >>> 28 & 0xFL;
+			dest[off + 24] = w1 >>> 32 & 0xFL;
+			dest[off + 25] = w1 >>> 36 & 0xFL;
+			dest[off + 26] = w1 >>> 40 & 0xFL;
+			dest[off + 27] = w1 >>> 44 & 0xFL;
+			dest[off + 28] = w1 >>> 48 & 0xFL;
+			dest[off + 29] = w1 >>> 52 & 0xFL;
+			dest[off + 30] = w1 >>> 56 & 0xFL;
+			dest[off + 31] = w1 >>> 60;
+			final long w2 = data[j + 2];
+			dest[off + 32] = w2 & 0xFL;
+			dest[off + 33] = w2 >>> 4 & 0xFL;
+			dest[off + 34] = w2 >>> 8 & 0xFL;
+			dest[off + 35] = w2 >>> 12 & 0xFL;
+			dest[off + 36] = w2 >>> 16 & 0xFL;
+			dest[off + 37] = w2 >>> 20 & 0xFL;
+			dest[off + 38] = w2 >>> 24 & 0xFL;
+			dest[off + 39] = w2 >>> 28 & 0xFL;
+			dest[off + 40] = w2 >>> 32 & 0xFL;
+			dest[off + 41] = w2 >>> 36 & 0xFL;
+			dest[off + 42] = w2 >>> 40 & 0xFL;
+			dest[off + 43] = w2 >>> 44 & 0xFL;
+			dest[off + 44] = w2 >>> 48 & 0xFL;
+			dest[off + 45] = w2 >>> 52 & 0xFL;
+			dest[off + 46] = w2 >>> 56 & 0xFL;
+			dest[off + 47] = w2 >>> 60;
+			final long w3 = data[j + 3];
+			dest[off + 48] = w3 & 0xFL;
+			dest[off + 49] = w3 >>> 4 & 0xFL;
+			dest[off + 50] = w3 >>> 8 & 0xFL;
+			dest[off + 51] = w3 >>> 12 & 0xFL;
+			dest[off + 52] = w3 >>> 16 & 0xFL;
+			dest[off + 53] = w3 >>> 20 & 0xFL;
+			dest[off + 54] = w3 >>> 24 & 0xFL;
+			dest[off + 55] = w3 >>> 28 & 0xFL;
+			dest[off + 56] = w3 >>> 32 & 0xFL;
+			dest[off + 57] = w3 >>> 36 & 0xFL;
+			dest[off + 58] = w3 >>> 40 & 0xFL;
+			dest[off + 59] = w3 >>> 44 & 0xFL;
+			dest[off + 60] = w3 >>> 48 & 0xFL;
+			dest[off + 61] = w3 >>> 52 & 0xFL;
+			dest[off + 62] = w3 >>> 56 & 0xFL;
+			dest[off + 63] = w3 >>> 60;
+		}
+	}
+
+	private static void encode4(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 4) {
+			final long v0 = src[off] & 0xFL;
+			final long v1 = src[off + 1] & 0xFL;
+			final long v2 = src[off + 2] & 0xFL;
+			final long v3 = src[off + 3] & 0xFL;
+			final long v4 = src[off + 4] & 0xFL;
+			final long v5 = src[off + 5] & 0xFL;
+			final long v6 = src[off + 6] & 0xFL;
+			final long v7 = src[off + 7] & 0xFL;
+			final long v8 = src[off + 8] & 0xFL;
+			final long v9 = src[off + 9] & 0xFL;
+			final long v10 = src[off + 10] & 0xFL;
+			final long v11 = src[off + 11] & 0xFL;
+			final long v12 = src[off + 12] & 0xFL;
+			final long v13 = src[off + 13] & 0xFL;
+			final long v14 = src[off + 14] & 0xFL;
+			final long v15 = src[off + 15] & 0xFL;
+			final long v16 = src[off + 16] & 0xFL;
+			final long v17 = src[off + 17] & 0xFL;
+			final long v18 = src[off + 18] & 0xFL;
+			final long v19 = src[off + 19] & 0xFL;
+			final long v20 = src[off + 20] & 0xFL;
+			final long v21 = src[off + 21] & 0xFL;
+			final long v22 = src[off + 22] & 0xFL;
+			final long v23 = src[off + 23] & 0xFL;
+			final long v24 = src[off + 24] & 0xFL;
+			final long v25 = src[off + 25] & 0xFL;
+			final long v26 = src[off + 26] & 0xFL;
+			final long v27 = src[off + 27] & 0xFL;
+			final long v28 = src[off + 28] & 0xFL;
+			final long v29 = src[off + 29] & 0xFL;
+			final long v30 = src[off + 30] & 0xFL;
+			final long v31 = src[off + 31] & 0xFL;
+			final long v32 = src[off + 32] & 0xFL;
+			final long v33 = src[off + 33] & 0xFL;
+			final long v34 = src[off + 34] & 0xFL;
+			final long v35 = src[off + 35] & 0xFL;
+			final long v36 = src[off + 36] & 0xFL;
+			final long v37 = src[off + 37] & 0xFL;
+			final long v38 = src[off + 38] & 0xFL;
+			final long v39 = src[off + 39] & 0xFL;
+			final long v40 = src[off + 40] & 0xFL;
+			final long v41 = src[off + 41] & 0xFL;
+			final long v42 = src[off + 42] & 0xFL;
+			final long v43 = src[off + 43] & 0xFL;
+			final long v44 = src[off + 44] & 0xFL;
+			final long v45 = src[off + 45] & 0xFL;
+			final long v46 = src[off + 46] & 0xFL;
+			final long v47 = src[off + 47] & 0xFL;
+			final long v48 = src[off + 48] & 0xFL;
+			final long v49 = src[off + 49] & 0xFL;
+			final long v50 = src[off + 50] & 0xFL;
+			final long v51 = src[off + 51] & 0xFL;
+			final long v52 = src[off + 52] & 0xFL;
+			final long v53 = src[off + 53] & 0xFL;
+			final long v54 = src[off + 54] & 0xFL;
+			final long v55 = src[off + 55] & 0xFL;
+			final long v56 = src[off + 56] & 0xFL;
+			final long v57 = src[off + 57] & 0xFL;
+			final long v58 = src[off + 58] & 0xFL;
+			final long v59 = src[off + 59] & 0xFL;
+			final long v60 = src[off + 60] & 0xFL;
+			final long v61 = src[off + 61] & 0xFL;
+			final long v62 = src[off + 62] & 0xFL;
+			final long v63 = src[off + 63] & 0xFL;
+			data[j] = v0 | v1 << 4 | v2 << 8 | v3 << 12 | v4 << 16 | v5 << 20
+					| v6 << 24 | v7 << 28 | v8 << 32 | v9 << 36 | v10 << 40
+					| v11 << 44 | v12 << 48 | v13 << 52 | v14 << 56 | v15 << 60;
+			data[j + 1] = v16 | v17 << 4 | v18 << 8 | v19 << 12 | v20 << 16
+					| v21 << 20 | v22 << 24 | v23 << 28 | v24 << 32 | v25 << 36
+					| v26 << 40 | v27 << 44 | v28 << 48 | v29 << 52 | v30 << 56
+					| v31 << 60;
+			data[j + 2] = v32 | v33 << 4 | v34 << 8 | v35 << 12 | v36 << 16
+					| v37 << 20 | v38 << 24 | v39 << 28 | v40 << 32 | v41 << 36
+					| v42 << 40 | v43 << 44 | v44 << 48 | v45 << 52 | v46 << 56
+					| v47 << 60;
+			data[j + 3] = v48 | v49 << 4 | v50 << 8 | v51 << 12 | v52 << 16
+					| v53 << 20 | v54 << 24 | v55 << 28 | v56 << 32 | v57 << 36
+					| v58 << 40 | v59 << 44 | v60 << 48 | v61 << 52 | v62 << 56
+					| v63 << 60;
+		}
+	}
+
+	private static void decode5(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 5, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FL;
+			dest[off + 1] = w0 >>> 5 & 0x1FL;
+			dest[off + 2] = w0 >>> 10 & 0x1FL;
+			dest[off + 3] = w0 >>> 15 & 0x1FL;
+			dest[off + 4] = w0 >>> 20 & 0x1FL;
+			dest[off + 5] = w0 >>> 25 & 0x1FL;
+			dest[off + 6] = w0 >>> 30 & 0x1FL;
+			dest[off + 7] = w0 >>> 35 & 0x1FL;
+			dest[off + 8] = w0 >>> 40 & 0x1FL;
+			dest[off + 9] = w0 >>> 45 & 0x1FL;
+			dest[off + 10] = w0 >>> 50 & 0x1FL;
+			dest[off + 11] = w0 >>> 55 & 0x1FL;
+			final long w1 = data[j + 1];
+			dest[off + 12] = (w0 >>> 60 | w1 << 4) & 0x1FL;
+			dest[off + 13] = w1 >>> 1 & 0x1FL;
+			dest[off + 14] = w1 >>> 6 & 0x1FL;
+			dest[off + 15] = w1 >>> 11 & 0x1FL;
+			dest[off + 16] = w1 >>> 16 & 0x1FL;
+			dest[off + 17] = w1 >>> 21 & 0x1FL;
+			dest[off + 18] = w1 >>> 26 & 0x1FL;
+			dest[off + 19] = w1 >>> 31 & 0x1FL;
+			dest[off + 20] = w1 >>> 36 & 0x1FL;
+			dest[off + 21] = w1 >>> 41 & 0x1FL;
+			dest[off + 22] = w1 >>> 46 & 0x1FL;
+			dest[off + 23] = w1 >>> 51 & 0x1FL;
+			dest[off + 24] = w1 >>> 56 & 0x1FL;
+			final long w2 = data[j + 2];
+			dest[off + 25] = (w1 >>> 61 | w2 << 3) & 0x1FL;
+			dest[off + 26] = w2 >>> 2 & 0x1FL;
+			dest[off + 27] = w2 >>> 7 & 0x1FL;
+			dest[off + 28] = w2 >>> 12 & 0x1FL;
+			dest[off + 29] = w2 >>> 17 & 0x1FL;
+			dest[off + 30] = w2 >>> 22 & 0x1FL;
+			dest[off + 31] = w2 >>> 27 & 0x1FL;
+			dest[off + 32] = w2 >>> 32 & 0x1FL;
+			dest[off + 33] = w2 >>> 37 & 0x1FL;
+			dest[off + 34] = w2 >>> 42 & 0x1FL;
+			dest[off + 35] = w2 >>> 47 & 0x1FL;
+			dest[off + 36] = w2 >>> 52 & 0x1FL;
+			dest[off + 37] = w2 >>> 57 & 0x1FL;
+			final long w3 = data[j + 3];
+			dest[off + 38] = (w2 >>> 62 | w3 << 2) & 0x1FL;
+			dest[off + 39] = w3 >>> 3 & 0x1FL;
+			dest[off + 40] = w3 >>> 8 & 0x1FL;
+			dest[off + 41] = w3 >>> 13 & 0x1FL;
+			dest[off + 42] = w3 >>> 18 & 0x1FL;
+			dest[off + 43] = w3 >>> 23 & 0x1FL;
+			dest[off + 44] = w3 >>> 28 & 0x1FL;
+			dest[off + 45] = w3 >>> 33 & 0x1FL;
+			dest[off + 46] = w3 >>> 38 & 0x1FL;
+			dest[off + 47] = w3 >>> 43 & 0x1FL;
+			dest[off + 48] = w3 >>> 48 & 0x1FL;
+			dest[off + 49] = w3 >>> 53 & 0x1FL;
+			dest[off + 50] = w3 >>> 58 & 0x1FL;
+			final long w4 = data[j + 4];
+			dest[off + 51] = (w3 >>> 63 | w4 << 1) & 0x1FL;
+			dest[off + 52] = w4 >>> 4 & 0x1FL;
+			dest[off + 53] = w4 >>> 9 & 0x1FL;
+			dest[off + 54] = w4 >>> 14 & 0x1FL;
+			dest[off + 55] = w4 >>> 19 & 0x1FL;
+			dest[off + 56] = w4 >>> 24 & 0x1FL;
+			dest[off + 57] = w4 >>> 29 & 0x1FL;
+			dest[off + 58] = w4 >>> 34 & 0x1FL;
+			dest[off + 59] = w4 >>> 39 & 0x1FL;
+			dest[off + 60] = w4 >>> 44 & 0x1FL;
+			dest[off + 61] = w4 >>> 49 & 0x1FL;
+			dest[off + 62] = w4 >>> 54 & 0x1FL;
+			dest[off + 63] = w4 >>> 59;
+		}
+	}
+
+	private static void encode5(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 5) {
+			final long v0 = src[off] & 0x1FL;
+			final long v1 = src[off + 1] & 0x1FL;
+			final long v2 = src[off + 2] & 0x1FL;
+			final long v3 = src[off + 3] & 0x1FL;
+			final long v4 = src[off + 4] & 0x1FL;
+			final long v5 = src[off + 5] & 0x1FL;
+			final long v6 = src[off + 6] & 0x1FL;
+			final long v7 = src[off + 7] & 0x1FL;
+			final long v8 = src[off + 8] & 0x1FL;
+			final long v9 = src[off + 9] & 0x1FL;
+			final long v10 = src[off + 10] & 0x1FL;
+			final long v11 = src[off + 11] & 0x1FL;
+			final long v12 = src[off + 12] & 0x1FL;
+			final long v13 = src[off + 13] & 0x1FL;
+			final long v14 = src[off + 14] & 0x1FL;
+			final long v15 = src[off + 15] & 0x1FL;
+			final long v16 = src[off + 16] & 0x1FL;
+			final long v17 = src[off + 17] & 0x1FL;
+			final long v18 = src[off + 18] & 0x1FL;
+			final long v19 = src[off + 19] & 0x1FL;
+			final long v20 = src[off + 20] & 0x1FL;
+			final long v21 = src[off + 21] & 0x1FL;
+			final long v22 = src[off + 22] & 0x1FL;
+			final long v23 = src[off + 23] & 0x1FL;
+			final long v24 = src[off + 24] & 0x1FL;
+			final long v25 = src[off + 25] & 0x1FL;
+			final long v26 = src[off + 26] & 0x1FL;
+			final long v27 = src[off + 27] & 0x1FL;
+			final long v28 = src[off + 28] & 0x1FL;
+			final long v29 = src[off + 29] & 0x1FL;
+			final long v30 = src[off + 30] & 0x1FL;
+			final long v31 = src[off + 31] & 0x1FL;
+			final long v32 = src[off + 32] & 0x1FL;
+			final long v33 = src[off + 33] & 0x1FL;
+			final long v34 = src[off + 34] & 0x1FL;
+			final long v35 = src[off + 35] & 0x1FL;
+			final long v36 = src[off + 36] & 0x1FL;
+			final long v37 = src[off + 37] & 0x1FL;
+			final long v38 = src[off + 38] & 0x1FL;
+			final long v39 = src[off + 39] & 0x1FL;
+			final long v40 = src[off + 40] & 0x1FL;
+			final long v41 = src[off + 41] & 0x1FL;
+			final long v42 = src[off + 42] & 0x1FL;
+			final long v43 = src[off + 43] & 0x1FL;
+			final long v44 = src[off + 44] & 0x1FL;
+			final long v45 = src[off + 45] & 0x1FL;
+			final long v46 = src[off + 46] & 0x1FL;
+			final long v47 = src[off + 47] & 0x1FL;
+			final long v48 = src[off + 48] & 0x1FL;
+			final long v49 = src[off + 49] & 0x1FL;
+			final long v50 = src[off + 50] & 0x1FL;
+			final long v51 = src[off + 51] & 0x1FL;
+			final long v52 = src[off + 52] & 0x1FL;
+			final long v53 = src[off + 53] & 0x1FL;
+			final long v54 = src[off + 54] & 0x1FL;
+			final long v55 = src[off + 55] & 0x1FL;
+			final long v56 = src[off + 56] & 0x1FL;
+			final long v57 = src[off + 57] & 0x1FL;
+			final long v58 = src[off + 58] & 0x1FL;
+			final long v59 = src[off + 59] & 0x1FL;
+			final long v60 = src[off + 60] & 0x1FL;
+			final long v61 = src[off + 61] & 0x1FL;
+			final long v62 = src[off + 62] & 0x1FL;
+			final long v63 = src[off + 63] & 0x1FL;
+			data[j] = v0 | v1 << 5 | v2 << 10 | v3 << 15 | v4 << 20 | v5 << 25
+					| v6 << 30 | v7 << 35 | v8 << 40 | v9 << 45 | v10 << 50
+					| v11 << 55 | v12 << 60;
+			data[j + 1] = v12 >>> 4 | v13 << 1 | v14 << 6 | v15 << 11
+					| v16 << 16 | v17 << 21 | v18 << 26 | v19 << 31 | v20 << 36
+					| v21 << 41 | v22 << 46 | v23 << 51 | v24 << 56 | v25 << 61;
+			data[j + 2] = v25 >>> 3 | v26 << 2 | v27 << 7 | v28 << 12
+					| v29 << 17 | v30 << 22 | v31 << 27 | v32 << 32 | v33 << 37
+					| v34 << 42 | v35 << 47 | v36 << 52 | v37 << 57 | v38 << 62;
+			data[j + 3] = v38 >>> 2 | v39 << 3 | v40 << 8 | v41 << 13
+					| v42 << 18 | v43 << 23 | v44 << 28 | v45 << 33 | v46 << 38
+					| v47 << 43 | v48 << 48 | v49 << 53 | v50 << 58 | v51 << 63;
+			data[j + 4] = v51 >>> 1 | v52 << 4 | v53 << 9 | v54 << 14
+					| v55 << 19 | v56 << 24 | v57 << 29 | v58 << 34 | v59 << 39
+					| v60 << 44 | v61 << 49 | v62 << 54 | v63 << 59;
+		}
+	}
+
+	private static void decode6(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 6, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FL;
+			dest[off + 1] = w0 >>> 6 & 0x3FL;
+			dest[off + 2] = w0 >>> 12 & 0x3FL;
+			dest[off + 3] = w0 >>> 18 & 0x3FL;
+			dest[off + 4] = w0 >>> 24 & 0x3FL;
+			dest[off + 5] = w0 >>> 30 & 0x3FL;
+			dest[off + 6] = w0 >>> 36 & 0x3FL;
+			dest[off + 7] = w0 >>> 42 & 0x3FL;
+			dest[off + 8] = w0 >>> 48 & 0x3FL;
+			dest[off + 9] = w0 >>> 54 & 0x3FL;
+			final long w1 = data[j + 1];
+			dest[off + 10] = (w0 >>> 60 | w1 << 4) & 0x3FL;
+			dest[off + 11] = w1 >>> 2 & 0x3FL;
+			dest[off + 12] = w1 >>> 8 & 0x3FL;
+			dest[off + 13] = w1 >>> 14 & 0x3FL;
+			dest[off + 14] = w1 >>> 20 & 0x3FL;
+			dest[off + 15] = w1 >>> 26 & 0x3FL;
+			dest[off + 16] = w1 >>> 32 & 0x3FL;
+			dest[off + 17] = w1 >>> 38 & 0x3FL;
+			dest[off + 18] = w1 >>> 44 & 0x3FL;
+			dest[off + 19] = w1 >>> 50 & 0x3FL;
+			dest[off + 20] = w1 >>> 56 & 0x3FL;
+			final long w2 = data[j + 2];
+			dest[off + 21] = (w1 >>> 62 | w2 << 2) & 0x3FL;
+			dest[off + 22] = w2 >>> 4 & 0x3FL;
+			dest[off + 23] = w2 >>> 10 & 0x3FL;
+			dest[off + 24] = w2 >>> 16 & 0x3FL;
+			dest[off + 25] = w2 >>> 22 & 0x3FL;
+			dest[off + 26] = w2 >>> 28 & 0x3FL;
+			dest[off + 27] = w2 >>> 34 & 0x3FL;
+			dest[off + 28] = w2 >>> 40 & 0x3FL;
+			dest[off + 29] = w2 >>> 46 & 0x3FL;
+			dest[off + 30] = w2 >>> 52 & 0x3FL;
+			dest[off + 31] = w2 >>> 58;
+			final long w3 = data[j + 3];
+			dest[off + 32] = w3 & 0x3FL;
+			dest[off + 33] = w3 >>> 6 & 0x3FL;
+			dest[off + 34] = w3 >>> 12 & 0x3FL;
+			dest[off + 35] = w3 >>> 18 & 0x3FL;
+			dest[off + 36] = w3 >>> 24 & 0x3FL;
+			dest[off + 37] = w3 >>> 30 & 0x3FL;
+			dest[off + 38] = w3 >>> 36 & 0x3FL;
+			dest[off + 39] = w3 >>> 42 & 0x3FL;
+			dest[off + 40] = w3 >>> 48 & 0x3FL;
+			dest[off + 41] = w3 >>> 54 & 0x3FL;
+			final long w4 = data[j + 4];
+			dest[off + 42] = (w3 >>> 60 | w4 << 4) & 0x3FL;
+			dest[off + 43] = w4 >>> 2 & 0x3FL;
+			dest[off + 44] = w4 >>> 8 & 0x3FL;
+			dest[off + 45] = w4 >>> 14 & 0x3FL;
+			dest[off + 46] = w4 >>> 20 & 0x3FL;
+			dest[off + 47] = w4 >>> 26 & 0x3FL;
+			dest[off + 48] = w4 >>> 32 & 0x3FL;
+			dest[off + 49] = w4 >>> 38 & 0x3FL;
+			dest[off + 50] = w4 >>> 44 & 0x3FL;
+			dest[off + 51] = w4 >>> 50 & 0x3FL;
+			dest[off + 52] = w4 >>> 56 & 0x3FL;
+			final long w5 = data[j + 5];
+			dest[off + 53] = (w4 >>> 62 | w5 << 2) & 0x3FL;
+			dest[off + 54] = w5 >>> 4 & 0x3FL;
+			dest[off + 55] = w5 >>> 10 & 0x3FL;
+			dest[off + 56] = w5 >>> 16 & 0x3FL;
+			dest[off + 57] = w5 >>> 22 & 0x3FL;
+			dest[off + 58] = w5 >>> 28 & 0x3FL;
+			dest[off + 59] = w5 >>> 34 & 0x3FL;
+			dest[off + 60] = w5 >>> 40 & 0x3FL;
+			dest[off + 61] = w5 >>> 46 & 0x3FL;
+			dest[off + 62] = w5 >>> 52 & 0x3FL;
+			dest[off + 63] = w5 >>> 58;
+		}
+	}
+
+	private static void encode6(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 6) {
+			final long v0 = src[off] & 0x3FL;
+			final long v1 = src[off + 1] & 0x3FL;
+			final long v2 = src[off + 2] & 0x3FL;
+			final long v3 = src[off + 3] & 0x3FL;
+			final long v4 = src[off + 4] & 0x3FL;
+			final long v5 = src[off + 5] & 0x3FL;
+			final long v6 = src[off + 6] & 0x3FL;
+			final long v7 = src[off + 7] & 0x3FL;
+			final long v8 = src[off + 8] & 0x3FL;
+			final long v9 = src[off + 9] & 0x3FL;
+			final long v10 = src[off + 10] & 0x3FL;
+			final long v11 = src[off + 11] & 0x3FL;
+			final long v12 = src[off + 12] & 0x3FL;
+			final long v13 = src[off + 13] & 0x3FL;
+			final long v14 = src[off + 14] & 0x3FL;
+			final long v15 = src[off + 15] & 0x3FL;
+			final long v16 = src[off + 16] & 0x3FL;
+			final long v17 = src[off + 17] & 0x3FL;
+			final long v18 = src[off + 18] & 0x3FL;
+			final long v19 = src[off + 19] & 0x3FL;
+			final long v20 = src[off + 20] & 0x3FL;
+			final long v21 = src[off + 21] & 0x3FL;
+			final long v22 = src[off + 22] & 0x3FL;
+			final long v23 = src[off + 23] & 0x3FL;
+			final long v24 = src[off + 24] & 0x3FL;
+			final long v25 = src[off + 25] & 0x3FL;
+			final long v26 = src[off + 26] & 0x3FL;
+			final long v27 = src[off + 27] & 0x3FL;
+			final long v28 = src[off + 28] & 0x3FL;
+			final long v29 = src[off + 29] & 0x3FL;
+			final long v30 = src[off + 30] & 0x3FL;
+			final long v31 = src[off + 31] & 0x3FL;
+			final long v32 = src[off + 32] & 0x3FL;
+			final long v33 = src[off + 33] & 0x3FL;
+			final long v34 = src[off + 34] & 0x3FL;
+			final long v35 = src[off + 35] & 0x3FL;
+			final long v36 = src[off + 36] & 0x3FL;
+			final long v37 = src[off + 37] & 0x3FL;
+			final long v38 = src[off + 38] & 0x3FL;
+			final long v39 = src[off + 39] & 0x3FL;
+			final long v40 = src[off + 40] & 0x3FL;
+			final long v41 = src[off + 41] & 0x3FL;
+			final long v42 = src[off + 42] & 0x3FL;
+			final long v43 = src[off + 43] & 0x3FL;
+			final long v44 = src[off + 44] & 0x3FL;
+			final long v45 = src[off + 45] & 0x3FL;
+			final long v46 = src[off + 46] & 0x3FL;
+			final long v47 = src[off + 47] & 0x3FL;
+			final long v48 = src[off + 48] & 0x3FL;
+			final long v49 = src[off + 49] & 0x3FL;
+			final long v50 = src[off + 50] & 0x3FL;
+			final long v51 = src[off + 51] & 0x3FL;
+			final long v52 = src[off + 52] & 0x3FL;
+			final long v53 = src[off + 53] & 0x3FL;
+			final long v54 = src[off + 54] & 0x3FL;
+			final long v55 = src[off + 55] & 0x3FL;
+			final long v56 = src[off + 56] & 0x3FL;
+			final long v57 = src[off + 57] & 0x3FL;
+			final long v58 = src[off + 58] & 0x3FL;
+			final long v59 = src[off + 59] & 0x3FL;
+			final long v60 = src[off + 60] & 0x3FL;
+			final long v61 = src[off + 61] & 0x3FL;
+			final long v62 = src[off + 62] & 0x3FL;
+			final long v63 = src[off + 63] & 0x3FL;
+			data[j] = v0 | v1 << 6 | v2 << 12 | v3 << 18 | v4 << 24 | v5 << 30
+					| v6 << 36 | v7 << 42 | v8 << 48 | v9 << 54 | v10 << 60;
+			data[j + 1] = v10 >>> 4 | v11 << 2 | v12 << 8 | v13 << 14
+					| v14 << 20 | v15 << 26 | v16 << 32 | v17 << 38 | v18 << 44
+					| v19 << 50 | v20 << 56 | v21 << 62;
+			data[j + 2] = v21 >>> 2 | v22 << 4 | v23 << 10 | v24 << 16
+					| v25 << 22 | v26 << 28 | v27 << 34 | v28 << 40 | v29 << 46
+					| v30 << 52 | v31 << 58;
+			data[j + 3] = v32 | v33 << 6 | v34 << 12 | v35 << 18 | v36 << 24
+					| v37 << 30 | v38 << 36 | v39 << 42 | v40 << 48 | v41 << 54
+					| v42 << 60;
+			data[j + 4] = v42 >>> 4 | v43 << 2 | v44 << 8 | v45 << 14
+					| v46 << 20 | v47 << 26 | v48 << 32 | v49 << 38 | v50 << 44
+					| v51 << 50 | v52 << 56 | v53 << 62;
+			data[j + 5] = v53 >>> 2 | v54 << 4 | v55 << 10 | v56 << 16
+					| v57 << 22 | v58 << 28 | v59 << 34 | v60 << 40 | v61 << 46
+					| v62 << 52 | v63 << 58;
+		}
+	}
+
+	private static void decode7(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 7, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FL;
+			dest[off + 1] = w0 >>> 7 & 0x7FL;
+			dest[off + 2] = w0 >>> 14 & 0x7FL;
+			dest[off + 3] = w0 >>> 21 & 0x7FL;
+			dest[off + 4] = w0 >>> 28 & 0x7FL;
+			dest[off + 5] = w0 >>> 35 & 0x7FL;
+			dest[off + 6] = w0 >>> 42 & 0x7FL;
+			dest[off + 7] = w0 >>> 49 & 0x7FL;
+			dest[off + 8] = w0 >>> 56 & 0x7FL;
+			final long w1 = data[j + 1];
+			dest[off + 9] = (w0 >>> 63 | w1 << 1) & 0x7FL;
+			dest[off + 10] = w1 >>> 6 & 0x7FL;
+			dest[off + 11] = w1 >>> 13 & 0x7FL;
+			dest[off + 12] = w1 >>> 20 & 0x7FL;
+			dest[off + 13] = w1 >>> 27 & 0x7FL;
+			dest[off + 14] = w1 >>> 34 & 0x7FL;
+			dest[off + 15] = w1 >>> 41 & 0x7FL;
+			dest[off + 16] = w1 >>> 48 & 0x7FL;
+			dest[off + 17] = w1 >>> 55 & 0x7FL;
+			final long w2 = data[j + 2];
+			dest[off + 18] = (w1 >>> 62 | w2 << 2) & 0x7FL;
+			dest[off + 19] = w2 >>> 5 & 0x7FL;
+			dest[off + 20] = w2 >>> 12 & 0x7FL;
+			dest[off + 21] = w2 >>> 19 & 0x7FL;
+			dest[off + 22] = w2 >>> 26 & 0x7FL;
+			dest[off + 23] = w2 >>> 33 & 0x7FL;
+			dest[off + 24] = w2 >>> 40 & 0x7FL;
+			dest[off + 25] = w2 >>> 47 & 0x7FL;
+			dest[off + 26] = w2 >>> 54 & 0x7FL;
+			final long w3 = data[j + 3];
+			dest[off + 27] = (w2 >>> 61 | w3 << 3) & 0x7FL;
+			dest[off + 28] = w3 >>> 4 & 0x7FL;
+			dest[off + 29] = w3 >>> 11 & 0x7FL;
+			dest[off + 30] = w3 >>> 18 & 0x7FL;
+			dest[off + 31] = w3 >>> 25 & 0x7FL;
+			dest[off + 32] = w3 >>> 32 & 0x7FL;
+			dest[off + 33] = w3 >>> 39 & 0x7FL;
+			dest[off + 34] = w3 >>> 46 & 0x7FL;
+			dest[off + 35] = w3 >>> 53 & 0x7FL;
+			final long w4 = data[j + 4];
+			dest[off + 36] = (w3 >>> 60 | w4 << 4) & 0x7FL;
+			dest[off + 37] = w4 >>> 3 & 0x7FL;
+			dest[off + 38] = w4 >>> 10 & 0x7FL;
+			dest[off + 39] = w4 >>> 17 & 0x7FL;
+			dest[off + 40] = w4 >>> 24 & 0x7FL;
+			dest[off + 41] = w4 >>> 31 & 0x7FL;
+			dest[off + 42] = w4 >>> 38 & 0x7FL;
+			dest[off + 43] = w4 >>> 45 & 0x7FL;
+			dest[off + 44] = w4 >>> 52 & 0x7FL;
+			final long w5 = data[j + 5];
+			dest[off + 45] = (w4 >>> 59 | w5 << 5) & 0x7FL;
+			dest[off + 46] = w5 >>> 2 & 0x7FL;
+			dest[off + 47] = w5 >>> 9 & 0x7FL;
+			dest[off + 48] = w5 >>> 16 & 0x7FL;
+			dest[off + 49] = w5 >>> 23 & 0x7FL;
+			dest[off + 50] = w5 >>> 30 & 0x7FL;
+			dest[off + 51] = w5 >>> 37 & 0x7FL;
+			dest[off + 52] = w5 >>> 44 & 0x7FL;
+			dest[off + 53] = w5 >>> 51 & 0x7FL;
+			final long w6 = data[j + 6];
+			dest[off + 54] = (w5 >>> 58 | w6 << 6) & 0x7FL;
+			dest[off + 55] = w6 >>> 1 & 0x7FL;
+			dest[off + 56] = w6 >>> 8 & 0x7FL;
+			dest[off + 57] = w6 >>> 15 & 0x7FL;
+			dest[off + 58] = w6 >>> 22 & 0x7FL;
+			dest[off + 59] = w6 >>> 29 & 0x7FL;
+			dest[off + 60] = w6 >>> 36 & 0x7FL;
+			dest[off + 61] = w6 >>> 43 & 0x7FL;
+			dest[off + 62] = w6 >>> 50 & 0x7FL;
+			dest[off + 63] = w6 >>> 57;
+		}
+	}
+
+	private static void encode7(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 7) {
+			final long v0 = src[off] & 0x7FL;
+			final long v1 = src[off + 1] & 0x7FL;
+			final long v2 = src[off + 2] & 0x7FL;
+			final long v3 = src[off + 3] & 0x7FL;
+			final long v4 = src[off + 4] & 0x7FL;
+			final long v5 = src[off + 5] & 0x7FL;
+			final long v6 = src[off + 6] & 0x7FL;
+			final long v7 = src[off + 7] & 0x7FL;
+			final long v8 = src[off + 8] & 0x7FL;
+			final long v9 = src[off + 9] & 0x7FL;
+			final long v10 = src[off + 10] & 0x7FL;
+			final long v11 = src[off + 11] & 0x7FL;
+			final long v12 = src[off + 12] & 0x7FL;
+			final long v13 = src[off + 13] & 0x7FL;
+			final long v14 = src[off + 14] & 0x7FL;
+			final long v15 = src[off + 15] & 0x7FL;
+			final long v16 = src[off + 16] & 0x7FL;
+			final long v17 = src[off + 17] & 0x7FL;
+			final long v18 = src[off + 18] & 0x7FL;
+			final long v19 = src[off + 19] & 0x7FL;
+			final long v20 = src[off + 20] & 0x7FL;
+			final long v21 = src[off + 21] & 0x7FL;
+			final long v22 = src[off + 22] & 0x7FL;
+			final long v23 = src[off + 23] & 0x7FL;
+			final long v24 = src[off + 24] & 0x7FL;
+			final long v25 = src[off + 25] & 0x7FL;
+			final long v26 = src[off + 26] & 0x7FL;
+			final long v27 = src[off + 27] & 0x7FL;
+			final long v28 = src[off + 28] & 0x7FL;
+			final long v29 = src[off + 29] & 0x7FL;
+			final long v30 = src[off + 30] & 0x7FL;
+			final long v31 = src[off + 31] & 0x7FL;
+			final long v32 = src[off + 32] & 0x7FL;
+			final long v33 = src[off + 33] & 0x7FL;
+			final long v34 = src[off + 34] & 0x7FL;
+			final long v35 = src[off + 35] & 0x7FL;
+			final long v36 = src[off + 36] & 0x7FL;
+			final long v37 = src[off + 37] & 0x7FL;
+			final long v38 = src[off + 38] & 0x7FL;
+			final long v39 = src[off + 39] & 0x7FL;
+			final long v40 = src[off + 40] & 0x7FL;
+			final long v41 = src[off + 41] & 0x7FL;
+			final long v42 = src[off + 42] & 0x7FL;
+			final long v43 = src[off + 43] & 0x7FL;
+			final long v44 = src[off + 44] & 0x7FL;
+			final long v45 = src[off + 45] & 0x7FL;
+			final long v46 = src[off + 46] & 0x7FL;
+			final long v47 = src[off + 47] & 0x7FL;
+			final long v48 = src[off + 48] & 0x7FL;
+			final long v49 = src[off + 49] & 0x7FL;
+			final long v50 = src[off + 50] & 0x7FL;
+			final long v51 = src[off + 51] & 0x7FL;
+			final long v52 = src[off + 52] & 0x7FL;
+			final long v53 = src[off + 53] & 0x7FL;
+			final long v54 = src[off + 54] & 0x7FL;
+			final long v55 = src[off + 55] & 0x7FL;
+			final long v56 = src[off + 56] & 0x7FL;
+			final long v57 = src[off + 57] & 0x7FL;
+			final long v58 = src[off + 58] & 0x7FL;
+			final long v59 = src[off + 59] & 0x7FL;
+			final long v60 = src[off + 60] & 0x7FL;
+			final long v61 = src[off + 61] & 0x7FL;
+			final long v62 = src[off + 62] & 0x7FL;
+			final long v63 = src[off + 63] & 0x7FL;
+			data[j] = v0 | v1 << 7 | v2 << 14 | v3 << 21 | v4 << 28 | v5 << 35
+					| v6 << 42 | v7 << 49 | v8 << 56 | v9 << 63;
+			data[j + 1] = v9 >>> 1 | v10 << 6 | v11 << 13 | v12 << 20
+					| v13 << 27 | v14 << 34 | v15 << 41 | v16 << 48 | v17 << 55
+					| v18 << 62;
+			data[j + 2] = v18 >>> 2 | v19 << 5 | v20 << 12 | v21 << 19
+					| v22 << 26 | v23 << 33 | v24 << 40 | v25 << 47 | v26 << 54
+					| v27 << 61;
+			data[j + 3] = v27 >>> 3 | v28 << 4 | v29 << 11 | v30 << 18
+					| v31 << 25 | v32 << 32 | v33 << 39 | v34 << 46 | v35 << 53
+					| v36 << 60;
+			data[j + 4] = v36 >>> 4 | v37 << 3 | v38 << 10 | v39 << 17
+					| v40 << 24 | v41 << 31 | v42 << 38 | v43 << 45 | v44 << 52
+					| v45 << 59;
+			data[j + 5] = v45 >>> 5 | v46 << 2 | v47 << 9 | v48 << 16
+					| v49 << 23 | v50 << 30 | v51 << 37 | v52 << 44 | v53 << 51
+					| v54 << 58;
+			data[j + 6] = v54 >>> 6 | v55 << 1 | v56 << 8 | v57 << 15
+					| v58 << 22 | v59 << 29 | v60 << 36 | v61 << 43 | v62 << 50
+					| v63 << 57;
+		}
+	}
+
+	private static void decode8(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 8, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFL;
+			dest[off + 1] = w0 >>> 8 & 0xFFL;
+			dest[off + 2] = w0 >>> 16 & 0xFFL;
+			dest[off + 3] = w0 >>> 24 & 0xFFL;
+			dest[off + 4] = w0 >>> 32 & 0xFFL;
+			dest[off + 5] = w0 >>> 40 & 0xFFL;
+			dest[off + 6] = w0 >>> 48 & 0xFFL;
+			dest[off + 7] = w0 >>> 56;
+			final long w1 = data[j + 1];
+			dest[off + 8] = w1 & 0xFFL;
+			dest[off + 9] = w1 >>> 8 & 0xFFL;
+			dest[off + 10] = w1 >>> 16 & 0xFFL;
+			dest[off + 11] = w1 >>> 24 & 0xFFL;
+			dest[off + 12] = w1 >>> 32 & 0xFFL;
+			dest[off + 13] = w1 >>> 40 & 0xFFL;
+			dest[off + 14] = w1 >>> 48 & 0xFFL;
+			dest[off + 15] = w1 >>> 56;
+			final long w2 = data[j + 2];
+			dest[off + 16] = w2 & 0xFFL;
+			dest[off + 17] = w2 >>> 8 & 0xFFL;
+			dest[off + 18] = w2 >>> 16 & 0xFFL;
+			dest[off + 19] = w2 >>> 24 & 0xFFL;
+			dest[off + 20] = w2 >>> 32 & 0xFFL;
+			dest[off + 21] = w2 >>> 40 & 0xFFL;
+			dest[off + 22] = w2 >>> 48 & 0xFFL;
+			dest[off + 23] = w2 >>> 56;
+			final long w3 = data[j + 3];
+			dest[off + 24] = w3 & 0xFFL;
+			dest[off + 25] = w3 >>> 8 & 0xFFL;
+			dest[off + 26] = w3 >>> 16 & 0xFFL;
+			dest[off + 27] = w3 >>> 24 & 0xFFL;
+			dest[off + 28] = w3 >>> 32 & 0xFFL;
+			dest[off + 29] = w3 >>> 40 & 0xFFL;
+			dest[off + 30] = w3 >>> 48 & 0xFFL;
+			dest[off + 31] = w3 >>> 56;
+			final long w4 = data[j + 4];
+			dest[off + 32] = w4 & 0xFFL;
+			dest[off + 33] = w4 >>> 8 & 0xFFL;
+			dest[off + 34] = w4 >>> 16 & 0xFFL;
+			dest[off + 35] = w4 >>> 24 & 0xFFL;
+			dest[off + 36] = w4 >>> 32 & 0xFFL;
+			dest[off + 37] = w4 >>> 40 & 0xFFL;
+			dest[off + 38] = w4 >>> 48 & 0xFFL;
+			dest[off + 39] = w4 >>> 56;
+			final long w5 = data[j + 5];
+			dest[off + 40] = w5 & 0xFFL;
+			dest[off + 41] = w5 >>> 8 & 0xFFL;
+			dest[off + 42] = w5 >>> 16 & 0xFFL;
+			dest[off + 43] = w5 >>> 24 & 0xFFL;
+			dest[off + 44] = w5 >>> 32 & 0xFFL;
+			dest[off + 45] = w5 >>> 40 & 0xFFL;
+			dest[off + 46] = w5 >>> 48 & 0xFFL;
+			dest[off + 47] = w5 >>> 56;
+			final long w6 = data[j + 6];
+			dest[off + 48] = w6 & 0xFFL;
+			dest[off + 49] = w6 >>> 8 & 0xFFL;
+			dest[off + 50] = w6 >>> 16 & 0xFFL;
+			dest[off + 51] = w6 >>> 24 & 0xFFL;
+			dest[off + 52] = w6 >>> 32 & 0xFFL;
+			dest[off + 53] = w6 >>> 40 & 0xFFL;
+			dest[off + 54] = w6 >>> 48 & 0xFFL;
+			dest[off + 55] = w6 >>> 56;
+			final long w7 = data[j + 7];
+			dest[off + 56] = w7 & 0xFFL;
+			dest[off + 57] = w7 >>> 8 & 0xFFL;
+			dest[off + 58] = w7 >>> 16 & 0xFFL;
+			dest[off + 59] = w7 >>> 24 & 0xFFL;
+			dest[off + 60] = w7 >>> 32 & 0xFFL;
+			dest[off + 61] = w7 >>> 40 & 0xFFL;
+			dest[off + 62] = w7 >>> 48 & 0xFFL;
+			dest[off + 63] = w7 >>> 56;
+		}
+	}
+
+	private static void encode8(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 8) {
+			final long v0 = src[off] & 0xFFL;
+			final long v1 = src[off + 1] & 0xFFL;
+			final long v2 = src[off + 2] & 0xFFL;
+			final long v3 = src[off + 3] & 0xFFL;
+			final long v4 = src[off + 4] & 0xFFL;
+			final long v5 = src[off + 5] & 0xFFL;
+			final long v6 = src[off + 6] & 0xFFL;
+			final long v7 = src[off + 7] & 0xFFL;
+			final long v8 = src[off + 8] & 0xFFL;
+			final long v9 = src[off + 9] & 0xFFL;
+			final long v10 = src[off + 10] & 0xFFL;
+			final long v11 = src[off + 11] & 0xFFL;
+			final long v12 = src[off + 12] & 0xFFL;
+			final long v13 = src[off + 13] & 0xFFL;
+			final long v14 = src[off + 14] & 0xFFL;
+			final long v15 = src[off + 15] & 0xFFL;
+			final long v16 = src[off + 16] & 0xFFL;
+			final long v17 = src[off + 17] & 0xFFL;
+			final long v18 = src[off + 18] & 0xFFL;
+			final long v19 = src[off + 19] & 0xFFL;
+			final long v20 = src[off + 20] & 0xFFL;
+			final long v21 = src[off + 21] & 0xFFL;
+			final long v22 = src[off + 22] & 0xFFL;
+			final long v23 = src[off + 23] & 0xFFL;
+			final long v24 = src[off + 24] & 0xFFL;
+			final long v25 = src[off + 25] & 0xFFL;
+			final long v26 = src[off + 26] & 0xFFL;
+			final long v27 = src[off + 27] & 0xFFL;
+			final long v28 = src[off + 28] & 0xFFL;
+			final long v29 = src[off + 29] & 0xFFL;
+			final long v30 = src[off + 30] & 0xFFL;
+			final long v31 = src[off + 31] & 0xFFL;
+			final long v32 = src[off + 32] & 0xFFL;
+			final long v33 = src[off + 33] & 0xFFL;
+			final long v34 = src[off + 34] & 0xFFL;
+			final long v35 = src[off + 35] & 0xFFL;
+			final long v36 = src[off + 36] & 0xFFL;
+			final long v37 = src[off + 37] & 0xFFL;
+			final long v38 = src[off + 38] & 0xFFL;
+			final long v39 = src[off + 39] & 0xFFL;
+			final long v40 = src[off + 40] & 0xFFL;
+			final long v41 = src[off + 41] & 0xFFL;
+			final long v42 = src[off + 42] & 0xFFL;
+			final long v43 = src[off + 43] & 0xFFL;
+			final long v44 = src[off + 44] & 0xFFL;
+			final long v45 = src[off + 45] & 0xFFL;
+			final long v46 = src[off + 46] & 0xFFL;
+			final long v47 = src[off + 47] & 0xFFL;
+			final long v48 = src[off + 48] & 0xFFL;
+			final long v49 = src[off + 49] & 0xFFL;
+			final long v50 = src[off + 50] & 0xFFL;
+			final long v51 = src[off + 51] & 0xFFL;
+			final long v52 = src[off + 52] & 0xFFL;
+			final long v53 = src[off + 53] & 0xFFL;
+			final long v54 = src[off + 54] & 0xFFL;
+			final long v55 = src[off + 55] & 0xFFL;
+			final long v56 = src[off + 56] & 0xFFL;
+			final long v57 = src[off + 57] & 0xFFL;
+			final long v58 = src[off + 58] & 0xFFL;
+			final long v59 = src[off + 59] & 0xFFL;
+			final long v60 = src[off + 60] & 0xFFL;
+			final long v61 = src[off + 61] & 0xFFL;
+			final long v62 = src[off + 62] & 0xFFL;
+			final long v63 = src[off + 63] & 0xFFL;
+			data[j] = v0 | v1 << 8 | v2 << 16 | v3 << 24 | v4 << 32 | v5 << 40
+					| v6 << 48 | v7 << 56;
+			data[j + 1] = v8 | v9 << 8 | v10 << 16 | v11 << 24 | v12 << 32
+					| v13 << 40 | v14 << 48 | v15 << 56;
+			data[j + 2] = v16 | v17 << 8 | v18 << 16 | v19 << 24 | v20 << 32
+					| v21 << 40 | v22 << 48 | v23 << 56;
+			data[j + 3] = v24 | v25 << 8 | v26 << 16 | v27 << 24 | v28 << 32
+					| v29 << 40 | v30 << 48 | v31 << 56;
+			data[j + 4] = v32 | v33 << 8 | v34 << 16 | v35 << 24 | v36 << 32
+					| v37 << 40 | v38 << 48 | v39 << 56;
+			data[j + 5] = v40 | v41 << 8 | v42 << 16 | v43 << 24 | v44 << 32
+					| v45 << 40 | v46 << 48 | v47 << 56;
+			data[j + 6] = v48 | v49 << 8 | v50 << 16 | v51 << 24 | v52 << 32
+					| v53 << 40 | v54 << 48 | v55 << 56;
+			data[j + 7] = v56 | v57 << 8 | v58 << 16 | v59 << 24 | v60 << 32
+					| v61 << 40 | v62 << 48 | v63 << 56;
+		}
+	}
+
+	private static void decode9(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 9, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFL;
+			dest[off + 1] = w0 >>> 9 & 0x1FFL;
+			dest[off + 2] = w0 >>> 18 & 0x1FFL;
+			dest[off + 3] = w0 >>> 27 & 0x1FFL;
+			dest[off + 4] = w0 >>> 36 & 0x1FFL;
+			dest[off + 5] = w0 >>> 45 & 0x1FFL;
+			dest[off + 6] = w0 >>> 54 & 0x1FFL;
+			final long w1 = data[j + 1];
+			dest[off + 7] = (w0 >>> 63 | w1 << 1) & 0x1FFL;
+			dest[off + 8] = w1 >>> 8 & 0x1FFL;
+			dest[off + 9] = w1 >>> 17 & 0x1FFL;
+			dest[off + 10] = w1 >>> 26 & 0x1FFL;
+			dest[off + 11] = w1 >>> 35 & 0x1FFL;
+			dest[off + 12] = w1 >>> 44 & 0x1FFL;
+			dest[off + 13] = w1 >>> 53 & 0x1FFL;
+			final long w2 = data[j + 2];
+			dest[off + 14] = (w1 >>> 62 | w2 << 2) & 0x1FFL;
+			dest[off + 15] = w2 >>> 7 & 0x1FFL;
+			dest[off + 16] = w2 >>> 16 & 0x1FFL;
+			dest[off + 17] = w2 >>> 25 & 0x1FFL;
+			dest[off + 18] = w2 >>> 34 & 0x1FFL;
+			dest[off + 19] = w2 >>> 43 & 0x1FFL;
+			dest[off + 20] = w2 >>> 52 & 0x1FFL;
+			final long w3 = data[j + 3];
+			dest[off + 21] = (w2 >>> 61 | w3 << 3) & 0x1FFL;
+			dest[off + 22] = w3 >>> 6 & 0x1FFL;
+			dest[off + 23] = w3 >>> 15 & 0x1FFL;
+			dest[off + 24] = w3 >>> 24 & 0x1FFL;
+			dest[off + 25] = w3 >>> 33 & 0x1FFL;
+			dest[off + 26] = w3 >>> 42 & 0x1FFL;
+			dest[off + 27] = w3 >>> 51 & 0x1FFL;
+			final long w4 = data[j + 4];
+			dest[off + 28] = (w3 >>> 60 | w4 << 4) & 0x1FFL;
+			dest[off + 29] = w4 >>> 5 & 0x1FFL;
+			dest[off + 30] = w4 >>> 14 & 0x1FFL;
+			dest[off + 31] = w4 >>> 23 & 0x1FFL;
+			dest[off + 32] = w4 >>> 32 & 0x1FFL;
+			dest[off + 33] = w4 >>> 41 & 0x1FFL;
+			dest[off + 34] = w4 >>> 50 & 0x1FFL;
+			final long w5 = data[j + 5];
+			dest[off + 35] = (w4 >>> 59 | w5 << 5) & 0x1FFL;
+			dest[off + 36] = w5 >>> 4 & 0x1FFL;
+			dest[off + 37] = w5 >>> 13 & 0x1FFL;
+			dest[off + 38] = w5 >>> 22 & 0x1FFL;
+			dest[off + 39] = w5 >>> 31 & 0x1FFL;
+			dest[off + 40] = w5 >>> 40 & 0x1FFL;
+			dest[off + 41] = w5 >>> 49 & 0x1FFL;
+			final long w6 = data[j + 6];
+			dest[off + 42] = (w5 >>> 58 | w6 << 6) & 0x1FFL;
+			dest[off + 43] = w6 >>> 3 & 0x1FFL;
+			dest[off + 44] = w6 >>> 12 & 0x1FFL;
+			dest[off + 45] = w6 >>> 21 & 0x1FFL;
+			dest[off + 46] = w6 >>> 30 & 0x1FFL;
+			dest[off + 47] = w6 >>> 39 & 0x1FFL;
+			dest[off + 48] = w6 >>> 48 & 0x1FFL;
+			final long w7 = data[j + 7];
+			dest[off + 49] = (w6 >>> 57 | w7 << 7) & 0x1FFL;
+			dest[off + 50] = w7 >>> 2 & 0x1FFL;
+			dest[off + 51] = w7 >>> 11 & 0x1FFL;
+			dest[off + 52] = w7 >>> 20 & 0x1FFL;
+			dest[off + 53] = w7 >>> 29 & 0x1FFL;
+			dest[off + 54] = w7 >>> 38 & 0x1FFL;
+			dest[off + 55] = w7 >>> 47 & 0x1FFL;
+			final long w8 = data[j + 8];
+			dest[off + 56] = (w7 >>> 56 | w8 << 8) & 0x1FFL;
+			dest[off + 57] = w8 >>> 1 & 0x1FFL;
+			dest[off + 58] = w8 >>> 10 & 0x1FFL;
+			dest[off + 59] = w8 >>> 19 & 0x1FFL;
+			dest[off + 60] = w8 >>> 28 & 0x1FFL;
+			dest[off + 61] = w8 >>> 37 & 0x1FFL;
+			dest[off + 62] = w8 >>> 46 & 0x1FFL;
+			dest[off + 63] = w8 >>> 55;
+		}
+	}
+
+	private static void encode9(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 9) {
+			final long v0 = src[off] & 0x1FFL;
+			final long v1 = src[off + 1] & 0x1FFL;
+			final long v2 = src[off + 2] & 0x1FFL;
+			final long v3 = src[off + 3] & 0x1FFL;
+			final long v4 = src[off + 4] & 0x1FFL;
+			final long v5 = src[off + 5] & 0x1FFL;
+			final long v6 = src[off + 6] & 0x1FFL;
+			final long v7 = src[off + 7] & 0x1FFL;
+			final long v8 = src[off + 8] & 0x1FFL;
+			final long v9 = src[off + 9] & 0x1FFL;
+			final long v10 = src[off + 10] & 0x1FFL;
+			final long v11 = src[off + 11] & 0x1FFL;
+			final long v12 = src[off + 12] & 0x1FFL;
+			final long v13 = src[off + 13] & 0x1FFL;
+			final long v14 = src[off + 14] & 0x1FFL;
+			final long v15 = src[off + 15] & 0x1FFL;
+			final long v16 = src[off + 16] & 0x1FFL;
+			final long v17 = src[off + 17] & 0x1FFL;
+			final long v18 = src[off + 18] & 0x1FFL;
+			final long v19 = src[off + 19] & 0x1FFL;
+			final long v20 = src[off + 20] & 0x1FFL;
+			final long v21 = src[off + 21] & 0x1FFL;
+			final long v22 = src[off + 22] & 0x1FFL;
+			final long v23 = src[off + 23] & 0x1FFL;
+			final long v24 = src[off + 24] & 0x1FFL;
+			final long v25 = src[off + 25] & 0x1FFL;
+			final long v26 = src[off + 26] & 0x1FFL;
+			final long v27 = src[off + 27] & 0x1FFL;
+			final long v28 = src[off + 28] & 0x1FFL;
+			final long v29 = src[off + 29] & 0x1FFL;
+			final long v30 = src[off + 30] & 0x1FFL;
+			final long v31 = src[off + 31] & 0x1FFL;
+			final long v32 = src[off + 32] & 0x1FFL;
+			final long v33 = src[off + 33] & 0x1FFL;
+			final long v34 = src[off + 34] & 0x1FFL;
+			final long v35 = src[off + 35] & 0x1FFL;
+			final long v36 = src[off + 36] & 0x1FFL;
+			final long v37 = src[off + 37] & 0x1FFL;
+			final long v38 = src[off + 38] & 0x1FFL;
+			final long v39 = src[off + 39] & 0x1FFL;
+			final long v40 = src[off + 40] & 0x1FFL;
+			final long v41 = src[off + 41] & 0x1FFL;
+			final long v42 = src[off + 42] & 0x1FFL;
+			final long v43 = src[off + 43] & 0x1FFL;
+			final long v44 = src[off + 44] & 0x1FFL;
+			final long v45 = src[off + 45] & 0x1FFL;
+			final long v46 = src[off + 46] & 0x1FFL;
+			final long v47 = src[off + 47] & 0x1FFL;
+			final long v48 = src[off + 48] & 0x1FFL;
+			final long v49 = src[off + 49] & 0x1FFL;
+			final long v50 = src[off + 50] & 0x1FFL;
+			final long v51 = src[off + 51] & 0x1FFL;
+			final long v52 = src[off + 52] & 0x1FFL;
+			final long v53 = src[off + 53] & 0x1FFL;
+			final long v54 = src[off + 54] & 0x1FFL;
+			final long v55 = src[off + 55] & 0x1FFL;
+			final long v56 = src[off + 56] & 0x1FFL;
+			final long v57 = src[off + 57] & 0x1FFL;
+			final long v58 = src[off + 58] & 0x1FFL;
+			final long v59 = src[off + 59] & 0x1FFL;
+			final long v60 = src[off + 60] & 0x1FFL;
+			final long v61 = src[off + 61] & 0x1FFL;
+			final long v62 = src[off + 62] & 0x1FFL;
+			final long v63 = src[off + 63] & 0x1FFL;
+			data[j] = v0 | v1 << 9 | v2 << 18 | v3 << 27 | v4 << 36 | v5 << 45
+					| v6 << 54 | v7 << 63;
+			data[j + 1] = v7 >>> 1 | v8 << 8 | v9 << 17 | v10 << 26 | v11 << 35
+					| v12 << 44 | v13 << 53 | v14 << 62;
+			data[j + 2] = v14 >>> 2 | v15 << 7 | v16 << 16 | v17 << 25
+					| v18 << 34 | v19 << 43 | v20 << 52 | v21 << 61;
+			data[j + 3] = v21 >>> 3 | v22 << 6 | v23 << 15 | v24 << 24
+					| v25 << 33 | v26 << 42 | v27 << 51 | v28 << 60;
+			data[j + 4] = v28 >>> 4 | v29 << 5 | v30 << 14 | v31 << 23
+					| v32 << 32 | v33 << 41 | v34 << 50 | v35 << 59;
+			data[j + 5] = v35 >>> 5 | v36 << 4 | v37 << 13 | v38 << 22
+					| v39 << 31 | v40 << 40 | v41 << 49 | v42 << 58;
+			data[j + 6] = v42 >>> 6 | v43 << 3 | v44 << 12 | v45 << 21
+					| v46 << 30 | v47 << 39 | v48 << 48 | v49 << 57;
+			data[j + 7] = v49 >>> 7 | v50 << 2 | v51 << 11 | v52 << 20
+					| v53 << 29 | v54 << 38 | v55 << 47 | v56 << 56;
+			data[j + 8] = v56 >>> 8 | v57 << 1 | v58 << 10 | v59 << 19
+					| v60 << 28 | v61 << 37 | v62 << 46 | v63 << 55;
+		}
+	}
+
+	private static void decode10(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 10, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFL;
+			dest[off + 1] = w0 >>> 10 & 0x3FFL;
+			dest[off + 2] = w0 >>> 20 & 0x3FFL;
+			dest[off + 3] = w0 >>> 30 & 0x3FFL;
+			dest[off + 4] = w0 >>> 40 & 0x3FFL;
+			dest[off + 5] = w0 >>> 50 & 0x3FFL;
+			final long w1 = data[j + 1];
+			dest[off + 6] = (w0 >>> 60 | w1 << 4) & 0x3FFL;
+			dest[off + 7] = w1 >>> 6 & 0x3FFL;
+			dest[off + 8] = w1 >>> 16 & 0x3FFL;
+			dest[off + 9] = w1 >>> 26 & 0x3FFL;
+			dest[off + 10] = w1 >>> 36 & 0x3FFL;
+			dest[off + 11] = w1 >>> 46 & 0x3FFL;
+			final long w2 = data[j + 2];
+			dest[off + 12] = (w1 >>> 56 | w2 << 8) & 0x3FFL;
+			dest[off + 13] = w2 >>> 2 & 0x3FFL;
+			dest[off + 14] = w2 >>> 12 & 0x3FFL;
+			dest[off + 15] = w2 >>> 22 & 0x3FFL;
+			dest[off + 16] = w2 >>> 32 & 0x3FFL;
+			dest[off + 17] = w2 >>> 42 & 0x3FFL;
+			dest[off + 18] = w2 >>> 52 & 0x3FFL;
+			final long w3 = data[j + 3];
+			dest[off + 19] = (w2 >>> 62 | w3 << 2) & 0x3FFL;
+			dest[off + 20] = w3 >>> 8 & 0x3FFL;
+			dest[off + 21] = w3 >>> 18 & 0x3FFL;
+			dest[off + 22] = w3 >>> 28 & 0x3FFL;
+			dest[off + 23] = w3 >>> 38 & 0x3FFL;
+			dest[off + 24] = w3 >>> 48 & 0x3FFL;
+			final long w4 = data[j + 4];
+			dest[off + 25] = (w3 >>> 58 | w4 << 6) & 0x3FFL;
+			dest[off + 26] = w4 >>> 4 & 0x3FFL;
+			dest[off + 27] = w4 >>> 14 & 0x3FFL;
+			dest[off + 28] = w4 >>> 24 & 0x3FFL;
+			dest[off + 29] = w4 >>> 34 & 0x3FFL;
+			dest[off + 30] = w4 >>> 44 & 0x3FFL;
+			dest[off + 31] = w4 >>> 54;
+			final long w5 = data[j + 5];
+			dest[off + 32] = w5 & 0x3FFL;
+			dest[off + 33] = w5 >>> 10 & 0x3FFL;
+			dest[off + 34] = w5 >>> 20 & 0x3FFL;
+			dest[off + 35] = w5 >>> 30 & 0x3FFL;
+			dest[off + 36] = w5 >>> 40 & 0x3FFL;
+			dest[off + 37] = w5 >>> 50 & 0x3FFL;
+			final long w6 = data[j + 6];
+			dest[off + 38] = (w5 >>> 60 | w6 << 4) & 0x3FFL;
+			dest[off + 39] = w6 >>> 6 & 0x3FFL;
+			dest[off + 40] = w6 >>> 16 & 0x3FFL;
+			dest[off + 41] = w6 >>> 26 & 0x3FFL;
+			dest[off + 42] = w6 >>> 36 & 0x3FFL;
+			dest[off + 43] = w6 >>> 46 & 0x3FFL;
+			final long w7 = data[j + 7];
+			dest[off + 44] = (w6 >>> 56 | w7 << 8) & 0x3FFL;
+			dest[off + 45] = w7 >>> 2 & 0x3FFL;
+			dest[off + 46] = w7 >>> 12 & 0x3FFL;
+			dest[off + 47] = w7 >>> 22 & 0x3FFL;
+			dest[off + 48] = w7 >>> 32 & 0x3FFL;
+			dest[off + 49] = w7 >>> 42 & 0x3FFL;
+			dest[off + 50] = w7 >>> 52 & 0x3FFL;
+			final long w8 = data[j + 8];
+			dest[off + 51] = (w7 >>> 62 | w8 << 2) & 0x3FFL;
+			dest[off + 52] = w8 >>> 8 & 0x3FFL;
+			dest[off + 53] = w8 >>> 18 & 0x3FFL;
+			dest[off + 54] = w8 >>> 28 & 0x3FFL;
+			dest[off + 55] = w8 >>> 38 & 0x3FFL;
+			dest[off + 56] = w8 >>> 48 & 0x3FFL;
+			final long w9 = data[j + 9];
+			dest[off + 57] = (w8 >>> 58 | w9 << 6) & 0x3FFL;
+			dest[off + 58] = w9 >>> 4 & 0x3FFL;
+			dest[off + 59] = w9 >>> 14 & 0x3FFL;
+			dest[off + 60] = w9 >>> 24 & 0x3FFL;
+			dest[off + 61] = w9 >>> 34 & 0x3FFL;
+			dest[off + 62] = w9 >>> 44 & 0x3FFL;
+			dest[off + 63] = w9 >>> 54;
+		}
+	}
+
+	private static void encode10(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 10) {
+			final long v0 = src[off] & 0x3FFL;
+			final long v1 = src[off + 1] & 0x3FFL;
+			final long v2 = src[off + 2] & 0x3FFL;
+			final long v3 = src[off + 3] & 0x3FFL;
+			final long v4 = src[off + 4] & 0x3FFL;
+			final long v5 = src[off + 5] & 0x3FFL;
+			final long v6 = src[off + 6] & 0x3FFL;
+			final long v7 = src[off + 7] & 0x3FFL;
+			final long v8 = src[off + 8] & 0x3FFL;
+			final long v9 = src[off + 9] & 0x3FFL;
+			final long v10 = src[off + 10] & 0x3FFL;
+			final long v11 = src[off + 11] & 0x3FFL;
+			final long v12 = src[off + 12] & 0x3FFL;
+			final long v13 = src[off + 13] & 0x3FFL;
+			final long v14 = src[off + 14] & 0x3FFL;
+			final long v15 = src[off + 15] & 0x3FFL;
+			final long v16 = src[off + 16] & 0x3FFL;
+			final long v17 = src[off + 17] & 0x3FFL;
+			final long v18 = src[off + 18] & 0x3FFL;
+			final long v19 = src[off + 19] & 0x3FFL;
+			final long v20 = src[off + 20] & 0x3FFL;
+			final long v21 = src[off + 21] & 0x3FFL;
+			final long v22 = src[off + 22] & 0x3FFL;
+			final long v23 = src[off + 23] & 0x3FFL;
+			final long v24 = src[off + 24] & 0x3FFL;
+			final long v25 = src[off + 25] & 0x3FFL;
+			final long v26 = src[off + 26] & 0x3FFL;
+			final long v27 = src[off + 27] & 0x3FFL;
+			final long v28 = src[off + 28] & 0x3FFL;
+			final long v29 = src[off + 29] & 0x3FFL;
+			final long v30 = src[off + 30] & 0x3FFL;
+			final long v31 = src[off + 31] & 0x3FFL;
+			final long v32 = src[off + 32] & 0x3FFL;
+			final long v33 = src[off + 33] & 0x3FFL;
+			final long v34 = src[off + 34] & 0x3FFL;
+			final long v35 = src[off + 35] & 0x3FFL;
+			final long v36 = src[off + 36] & 0x3FFL;
+			final long v37 = src[off + 37] & 0x3FFL;
+			final long v38 = src[off + 38] & 0x3FFL;
+			final long v39 = src[off + 39] & 0x3FFL;
+			final long v40 = src[off + 40] & 0x3FFL;
+			final long v41 = src[off + 41] & 0x3FFL;
+			final long v42 = src[off + 42] & 0x3FFL;
+			final long v43 = src[off + 43] & 0x3FFL;
+			final long v44 = src[off + 44] & 0x3FFL;
+			final long v45 = src[off + 45] & 0x3FFL;
+			final long v46 = src[off + 46] & 0x3FFL;
+			final long v47 = src[off + 47] & 0x3FFL;
+			final long v48 = src[off + 48] & 0x3FFL;
+			final long v49 = src[off + 49] & 0x3FFL;
+			final long v50 = src[off + 50] & 0x3FFL;
+			final long v51 = src[off + 51] & 0x3FFL;
+			final long v52 = src[off + 52] & 0x3FFL;
+			final long v53 = src[off + 53] & 0x3FFL;
+			final long v54 = src[off + 54] & 0x3FFL;
+			final long v55 = src[off + 55] & 0x3FFL;
+			final long v56 = src[off + 56] & 0x3FFL;
+			final long v57 = src[off + 57] & 0x3FFL;
+			final long v58 = src[off + 58] & 0x3FFL;
+			final long v59 = src[off + 59] & 0x3FFL;
+			final long v60 = src[off + 60] & 0x3FFL;
+			final long v61 = src[off + 61] & 0x3FFL;
+			final long v62 = src[off + 62] & 0x3FFL;
+			final long v63 = src[off + 63] & 0x3FFL;
+			data[j] = v0 | v1 << 10 | v2 << 20 | v3 << 30 | v4 << 40 | v5 << 50
+					| v6 << 60;
+			data[j + 1] = v6 >>> 4 | v7 << 6 | v8 << 16 | v9 << 26 | v10 << 36
+					| v11 << 46 | v12 << 56;
+			data[j + 2] = v12 >>> 8 | v13 << 2 | v14 << 12 | v15 << 22
+					| v16 << 32 | v17 << 42 | v18 << 52 | v19 << 62;
+			data[j + 3] = v19 >>> 2 | v20 << 8 | v21 << 18 | v22 << 28
+					| v23 << 38 | v24 << 48 | v25 << 58;
+			data[j + 4] = v25 >>> 6 | v26 << 4 | v27 << 14 | v28 << 24
+					| v29 << 34 | v30 << 44 | v31 << 54;
+			data[j + 5] = v32 | v33 << 10 | v34 << 20 | v35 << 30 | v36 << 40
+					| v37 << 50 | v38 << 60;
+			data[j + 6] = v38 >>> 4 | v39 << 6 | v40 << 16 | v41 << 26
+					| v42 << 36 | v43 << 46 | v44 << 56;
+			data[j + 7] = v44 >>> 8 | v45 << 2 | v46 << 12 | v47 << 22
+					| v48 << 32 | v49 << 42 | v50 << 52 | v51 << 62;
+			data[j + 8] = v51 >>> 2 | v52 << 8 | v53 << 18 | v54 << 28
+					| v55 << 38 | v56 << 48 | v57 << 58;
+			data[j + 9] = v57 >>> 6 | v58 << 4 | v59 << 14 | v60 << 24
+					| v61 << 34 | v62 << 44 | v63 << 54;
+		}
+	}
+
+	private static void decode11(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 11, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFL;
+			dest[off + 1] = w0 >>> 11 & 0x7FFL;
+			dest[off + 2] = w0 >>> 22 & 0x7FFL;
+			dest[off + 3] = w0 >>> 33 & 0x7FFL;
+			dest[off + 4] = w0 >>> 44 & 0x7FFL;
+			final long w1 = data[j + 1];
+			dest[off + 5] = (w0 >>> 55 | w1 << 9) & 0x7FFL;
+			dest[off + 6] = w1 >>> 2 & 0x7FFL;
+			dest[off + 7] = w1 >>> 13 & 0x7FFL;
+			dest[off + 8] = w1 >>> 24 & 0x7FFL;
+			dest[off + 9] = w1 >>> 35 & 0x7FFL;
+			dest[off + 10] = w1 >>> 46 & 0x7FFL;
+			final long w2 = data[j + 2];
+			dest[off + 11] = (w1 >>> 57 | w2 << 7) & 0x7FFL;
+			dest[off + 12] = w2 >>> 4 & 0x7FFL;
+			dest[off + 13] = w2 >>> 15 & 0x7FFL;
+			dest[off + 14] = w2 >>> 26 & 0x7FFL;
+			dest[off + 15] = w2 >>> 37 & 0x7FFL;
+			dest[off + 16] = w2 >>> 48 & 0x7FFL;
+			final long w3 = data[j + 3];
+			dest[off + 17] = (w2 >>> 59 | w3 << 5) & 0x7FFL;
+			dest[off + 18] = w3 >>> 6 & 0x7FFL;
+			dest[off + 19] = w3 >>> 17 & 0x7FFL;
+			dest[off + 20] = w3 >>> 28 & 0x7FFL;
+			dest[off + 21] = w3 >>> 39 & 0x7FFL;
+			dest[off + 22] = w3 >>> 50 & 0x7FFL;
+			final long w4 = data[j + 4];
+			dest[off + 23] = (w3 >>> 61 | w4 << 3) & 0x7FFL;
+			dest[off + 24] = w4 >>> 8 & 0x7FFL;
+			dest[off + 25] = w4 >>> 19 & 0x7FFL;
+			dest[off + 26] = w4 >>> 30 & 0x7FFL;
+			dest[off + 27] = w4 >>> 41 & 0x7FFL;
+			dest[off + 28] = w4 >>> 52 & 0x7FFL;
+			final long w5 = data[j + 5];
+			dest[off + 29] = (w4 >>> 63 | w5 << 1) & 0x7FFL;
+			dest[off + 30] = w5 >>> 10 & 0x7FFL;
+			dest[off + 31] = w5 >>> 21 & 0x7FFL;
+			dest[off + 32] = w5 >>> 32 & 0x7FFL;
+			dest[off + 33] = w5 >>> 43 & 0x7FFL;
+			final long w6 = data[j + 6];
+			dest[off + 34] = (w5 >>> 54 | w6 << 10) & 0x7FFL;
+			dest[off + 35] = w6 >>> 1 & 0x7FFL;
+			dest[off + 36] = w6 >>> 12 & 0x7FFL;
+			dest[off + 37] = w6 >>> 23 & 0x7FFL;
+			dest[off + 38] = w6 >>> 34 & 0x7FFL;
+			dest[off + 39] = w6 >>> 45 & 0x7FFL;
+			final long w7 = data[j + 7];
+			dest[off + 40] = (w6 >>> 56 | w7 << 8) & 0x7FFL;
+			dest[off + 41] = w7 >>> 3 & 0x7FFL;
+			dest[off + 42] = w7 >>> 14 & 0x7FFL;
+			dest[off + 43] = w7 >>> 25 & 0x7FFL;
+			dest[off + 44] = w7 >>> 36 & 0x7FFL;
+			dest[off + 45] = w7 >>> 47 & 0x7FFL;
+			final long w8 = data[j + 8];
+			dest[off + 46] = (w7 >>> 58 | w8 << 6) & 0x7FFL;
+			dest[off + 47] = w8 >>> 5 & 0x7FFL;
+			dest[off + 48] = w8 >>> 16 & 0x7FFL;
+			dest[off + 49] = w8 >>> 27 & 0x7FFL;
+			dest[off + 50] = w8 >>> 38 & 0x7FFL;
+			dest[off + 51] = w8 >>> 49 & 0x7FFL;
+			final long w9 = data[j + 9];
+			dest[off + 52] = (w8 >>> 60 | w9 << 4) & 0x7FFL;
+			dest[off + 53] = w9 >>> 7 & 0x7FFL;
+			dest[off + 54] = w9 >>> 18 & 0x7FFL;
+			dest[off + 55] = w9 >>> 29 & 0x7FFL;
+			dest[off + 56] = w9 >>> 40 & 0x7FFL;
+			dest[off + 57] = w9 >>> 51 & 0x7FFL;
+			final long w10 = data[j + 10];
+			dest[off + 58] = (w9 >>> 62 | w10 << 2) & 0x7FFL;
+			dest[off + 59] = w10 >>> 9 & 0x7FFL;
+			dest[off + 60] = w10 >>> 20 & 0x7FFL;
+			dest[off + 61] = w10 >>> 31 & 0x7FFL;
+			dest[off + 62] = w10 >>> 42 & 0x7FFL;
+			dest[off + 63] = w10 >>> 53;
+		}
+	}
+
+	private static void encode11(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 11) {
+			final long v0 = src[off] & 0x7FFL;
+			final long v1 = src[off + 1] & 0x7FFL;
+			final long v2 = src[off + 2] & 0x7FFL;
+			final long v3 = src[off + 3] & 0x7FFL;
+			final long v4 = src[off + 4] & 0x7FFL;
+			final long v5 = src[off + 5] & 0x7FFL;
+			final long v6 = src[off + 6] & 0x7FFL;
+			final long v7 = src[off + 7] & 0x7FFL;
+			final long v8 = src[off + 8] & 0x7FFL;
+			final long v9 = src[off + 9] & 0x7FFL;
+			final long v10 = src[off + 10] & 0x7FFL;
+			final long v11 = src[off + 11] & 0x7FFL;
+			final long v12 = src[off + 12] & 0x7FFL;
+			final long v13 = src[off + 13] & 0x7FFL;
+			final long v14 = src[off + 14] & 0x7FFL;
+			final long v15 = src[off + 15] & 0x7FFL;
+			final long v16 = src[off + 16] & 0x7FFL;
+			final long v17 = src[off + 17] & 0x7FFL;
+			final long v18 = src[off + 18] & 0x7FFL;
+			final long v19 = src[off + 19] & 0x7FFL;
+			final long v20 = src[off + 20] & 0x7FFL;
+			final long v21 = src[off + 21] & 0x7FFL;
+			final long v22 = src[off + 22] & 0x7FFL;
+			final long v23 = src[off + 23] & 0x7FFL;
+			final long v24 = src[off + 24] & 0x7FFL;
+			final long v25 = src[off + 25] & 0x7FFL;
+			final long v26 = src[off + 26] & 0x7FFL;
+			final long v27 = src[off + 27] & 0x7FFL;
+			final long v28 = src[off + 28] & 0x7FFL;
+			final long v29 = src[off + 29] & 0x7FFL;
+			final long v30 = src[off + 30] & 0x7FFL;
+			final long v31 = src[off + 31] & 0x7FFL;
+			final long v32 = src[off + 32] & 0x7FFL;
+			final long v33 = src[off + 33] & 0x7FFL;
+			final long v34 = src[off + 34] & 0x7FFL;
+			final long v35 = src[off + 35] & 0x7FFL;
+			final long v36 = src[off + 36] & 0x7FFL;
+			final long v37 = src[off + 37] & 0x7FFL;
+			final long v38 = src[off + 38] & 0x7FFL;
+			final long v39 = src[off + 39] & 0x7FFL;
+			final long v40 = src[off + 40] & 0x7FFL;
+			final long v41 = src[off + 41] & 0x7FFL;
+			final long v42 = src[off + 42] & 0x7FFL;
+			final long v43 = src[off + 43] & 0x7FFL;
+			final long v44 = src[off + 44] & 0x7FFL;
+			final long v45 = src[off + 45] & 0x7FFL;
+			final long v46 = src[off + 46] & 0x7FFL;
+			final long v47 = src[off + 47] & 0x7FFL;
+			final long v48 = src[off + 48] & 0x7FFL;
+			final long v49 = src[off + 49] & 0x7FFL;
+			final long v50 = src[off + 50] & 0x7FFL;
+			final long v51 = src[off + 51] & 0x7FFL;
+			final long v52 = src[off + 52] & 0x7FFL;
+			final long v53 = src[off + 53] & 0x7FFL;
+			final long v54 = src[off + 54] & 0x7FFL;
+			final long v55 = src[off + 55] & 0x7FFL;
+			final long v56 = src[off + 56] & 0x7FFL;
+			final long v57 = src[off + 57] & 0x7FFL;
+			final long v58 = src[off + 58] & 0x7FFL;
+			final long v59 = src[off + 59] & 0x7FFL;
+			final long v60 = src[off + 60] & 0x7FFL;
+			final long v61 = src[off + 61] & 0x7FFL;
+			final long v62 = src[off + 62] & 0x7FFL;
+			final long v63 = src[off + 63] & 0x7FFL;
+			data[j] = v0 | v1 << 11 | v2 << 22 | v3 << 33 | v4 << 44 | v5 << 55;
+			data[j + 1] = v5 >>> 9 | v6 << 2 | v7 << 13 | v8 << 24 | v9 << 35
+					| v10 << 46 | v11 << 57;
+			data[j + 2] = v11 >>> 7 | v12 << 4 | v13 << 15 | v14 << 26
+					| v15 << 37 | v16 << 48 | v17 << 59;
+			data[j + 3] = v17 >>> 5 | v18 << 6 | v19 << 17 | v20 << 28
+					| v21 << 39 | v22 << 50 | v23 << 61;
+			data[j + 4] = v23 >>> 3 | v24 << 8 | v25 << 19 | v26 << 30
+					| v27 << 41 | v28 << 52 | v29 << 63;
+			data[j + 5] = v29 >>> 1 | v30 << 10 | v31 << 21 | v32 << 32
+					| v33 << 43 | v34 << 54;
+			data[j + 6] = v34 >>> 10 | v35 << 1 | v36 << 12 | v37 << 23
+					| v38 << 34 | v39 << 45 | v40 << 56;
+			data[j + 7] = v40 >>> 8 | v41 << 3 | v42 << 14 | v43 << 25
+					| v44 << 36 | v45 << 47 | v46 << 58;
+			data[j + 8] = v46 >>> 6 | v47 << 5 | v48 << 16 | v49 << 27
+					| v50 << 38 | v51 << 49 | v52 << 60;
+			data[j + 9] = v52 >>> 4 | v53 << 7 | v54 << 18 | v55 << 29
+					| v56 << 40 | v57 << 51 | v58 << 62;
+			data[j + 10] = v58 >>> 2 | v59 << 9 | v60 << 20 | v61 << 31
+					| v62 << 42 | v63 << 53;
+		}
+	}
+
+	private static void decode12(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 12, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFL;
+			dest[off + 1] = w0 >>> 12 & 0xFFFL;
+			dest[off + 2] = w0 >>> 24 & 0xFFFL;
+			dest[off + 3] = w0 >>> 36 & 0xFFFL;
+			dest[off + 4] = w0 >>> 48 & 0xFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 5] = (w0 >>> 60 | w1 << 4) & 0xFFFL;
+			dest[off + 6] = w1 >>> 8 & 0xFFFL;
+			dest[off + 7] = w1 >>> 20 & 0xFFFL;
+			dest[off + 8] = w1 >>> 32 & 0xFFFL;
+			dest[off + 9] = w1 >>> 44 & 0xFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 10] = (w1 >>> 56 | w2 << 8) & 0xFFFL;
+			dest[off + 11] = w2 >>> 4 & 0xFFFL;
+			dest[off + 12] = w2 >>> 16 & 0xFFFL;
+			dest[off + 13] = w2 >>> 28 & 0xFFFL;
+			dest[off + 14] = w2 >>> 40 & 0xFFFL;
+			dest[off + 15] = w2 >>> 52;
+			final long w3 = data[j + 3];
+			dest[off + 16] = w3 & 0xFFFL;
+			dest[off + 17] = w3 >>> 12 & 0xFFFL;
+			dest[off + 18] = w3 >>> 24 & 0xFFFL;
+			dest[off + 19] = w3 >>> 36 & 0xFFFL;
+			dest[off + 20] = w3 >>> 48 & 0xFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 21] = (w3 >>> 60 | w4 << 4) & 0xFFFL;
+			dest[off + 22] = w4 >>> 8 & 0xFFFL;
+			dest[off + 23] = w4 >>> 20 & 0xFFFL;
+			dest[off + 24] = w4 >>> 32 & 0xFFFL;
+			dest[off + 25] = w4 >>> 44 & 0xFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 26] = (w4 >>> 56 | w5 << 8) & 0xFFFL;
+			dest[off + 27] = w5 >>> 4 & 0xFFFL;
+			dest[off + 28] = w5 >>> 16 & 0xFFFL;
+			dest[off + 29] = w5 >>> 28 & 0xFFFL;
+			dest[off + 30] = w5 >>> 40 & 0xFFFL;
+			dest[off + 31] = w5 >>> 52;
+			final long w6 = data[j + 6];
+			dest[off + 32] = w6 & 0xFFFL;
+			dest[off + 33] = w6 >>> 12 & 0xFFFL;
+			dest[off + 34] = w6 >>> 24 & 0xFFFL;
+			dest[off + 35] = w6 >>> 36 & 0xFFFL;
+			dest[off + 36] = w6 >>> 48 & 0xFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 37] = (w6 >>> 60 | w7 << 4) & 0xFFFL;
+			dest[off + 38] = w7 >>> 8 & 0xFFFL;
+			dest[off + 39] = w7 >>> 20 & 0xFFFL;
+			dest[off + 40] = w7 >>> 32 & 0xFFFL;
+			dest[off + 41] = w7 >>> 44 & 0xFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 42] = (w7 >>> 56 | w8 << 8) & 0xFFFL;
+			dest[off + 43] = w8 >>> 4 & 0xFFFL;
+			dest[off + 44] = w8 >>> 16 & 0xFFFL;
+			dest[off + 45] = w8 >>> 28 & 0xFFFL;
+			dest[off + 46] = w8 >>> 40 & 0xFFFL;
+			dest[off + 47] = w8 >>> 52;
+			final long w9 = data[j + 9];
+			dest[off + 48] = w9 & 0xFFFL;
+			dest[off + 49] = w9 >>> 12 & 0xFFFL;
+			dest[off + 50] = w9 >>> 24 & 0xFFFL;
+			dest[off + 51] = w9 >>> 36 & 0xFFFL;
+			dest[off + 52] = w9 >>> 48 & 0xFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 53] = (w9 >>> 60 | w10 << 4) & 0xFFFL;
+			dest[off + 54] = w10 >>> 8 & 0xFFFL;
+			dest[off + 55] = w10 >>> 20 & 0xFFFL;
+			dest[off + 56] = w10 >>> 32 & 0xFFFL;
+			dest[off + 57] = w10 >>> 44 & 0xFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 58] = (w10 >>> 56 | w11 << 8) & 0xFFFL;
+			dest[off + 59] = w11 >>> 4 & 0xFFFL;
+			dest[off + 60] = w11 >>> 16 & 0xFFFL;
+			dest[off + 61] = w11 >>> 28 & 0xFFFL;
+			dest[off + 62] = w11 >>> 40 & 0xFFFL;
+			dest[off + 63] = w11 >>> 52;
+		}
+	}
+
+	private static void encode12(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 12) {
+			final long v0 = src[off] & 0xFFFL;
+			final long v1 = src[off + 1] & 0xFFFL;
+			final long v2 = src[off + 2] & 0xFFFL;
+			final long v3 = src[off + 3] & 0xFFFL;
+			final long v4 = src[off + 4] & 0xFFFL;
+			final long v5 = src[off + 5] & 0xFFFL;
+			final long v6 = src[off + 6] & 0xFFFL;
+			final long v7 = src[off + 7] & 0xFFFL;
+			final long v8 = src[off + 8] & 0xFFFL;
+			final long v9 = src[off + 9] & 0xFFFL;
+			final long v10 = src[off + 10] & 0xFFFL;
+			final long v11 = src[off + 11] & 0xFFFL;
+			final long v12 = src[off + 12] & 0xFFFL;
+			final long v13 = src[off + 13] & 0xFFFL;
+			final long v14 = src[off + 14] & 0xFFFL;
+			final long v15 = src[off + 15] & 0xFFFL;
+			final long v16 = src[off + 16] & 0xFFFL;
+			final long v17 = src[off + 17] & 0xFFFL;
+			final long v18 = src[off + 18] & 0xFFFL;
+			final long v19 = src[off + 19] & 0xFFFL;
+			final long v20 = src[off + 20] & 0xFFFL;
+			final long v21 = src[off + 21] & 0xFFFL;
+			final long v22 = src[off + 22] & 0xFFFL;
+			final long v23 = src[off + 23] & 0xFFFL;
+			final long v24 = src[off + 24] & 0xFFFL;
+			final long v25 = src[off + 25] & 0xFFFL;
+			final long v26 = src[off + 26] & 0xFFFL;
+			final long v27 = src[off + 27] & 0xFFFL;
+			final long v28 = src[off + 28] & 0xFFFL;
+			final long v29 = src[off + 29] & 0xFFFL;
+			final long v30 = src[off + 30] & 0xFFFL;
+			final long v31 = src[off + 31] & 0xFFFL;
+			final long v32 = src[off + 32] & 0xFFFL;
+			final long v33 = src[off + 33] & 0xFFFL;
+			final long v34 = src[off + 34] & 0xFFFL;
+			final long v35 = src[off + 35] & 0xFFFL;
+			final long v36 = src[off + 36] & 0xFFFL;
+			final long v37 = src[off + 37] & 0xFFFL;
+			final long v38 = src[off + 38] & 0xFFFL;
+			final long v39 = src[off + 39] & 0xFFFL;
+			final long v40 = src[off + 40] & 0xFFFL;
+			final long v41 = src[off + 41] & 0xFFFL;
+			final long v42 = src[off + 42] & 0xFFFL;
+			final long v43 = src[off + 43] & 0xFFFL;
+			final long v44 = src[off + 44] & 0xFFFL;
+			final long v45 = src[off + 45] & 0xFFFL;
+			final long v46 = src[off + 46] & 0xFFFL;
+			final long v47 = src[off + 47] & 0xFFFL;
+			final long v48 = src[off + 48] & 0xFFFL;
+			final long v49 = src[off + 49] & 0xFFFL;
+			final long v50 = src[off + 50] & 0xFFFL;
+			final long v51 = src[off + 51] & 0xFFFL;
+			final long v52 = src[off + 52] & 0xFFFL;
+			final long v53 = src[off + 53] & 0xFFFL;
+			final long v54 = src[off + 54] & 0xFFFL;
+			final long v55 = src[off + 55] & 0xFFFL;
+			final long v56 = src[off + 56] & 0xFFFL;
+			final long v57 = src[off + 57] & 0xFFFL;
+			final long v58 = src[off + 58] & 0xFFFL;
+			final long v59 = src[off + 59] & 0xFFFL;
+			final long v60 = src[off + 60] & 0xFFFL;
+			final long v61 = src[off + 61] & 0xFFFL;
+			final long v62 = src[off + 62] & 0xFFFL;
+			final long v63 = src[off + 63] & 0xFFFL;
+			data[j] = v0 | v1 << 12 | v2 << 24 | v3 << 36 | v4 << 48 | v5 << 60;
+			data[j + 1] = v5 >>> 4 | v6 << 8 | v7 << 20 | v8 << 32 | v9 << 44
+					| v10 << 56;
+			data[j + 2] = v10 >>> 8 | v11 << 4 | v12 << 16 | v13 << 28
+					| v14 << 40 | v15 << 52;
+			data[j + 3] = v16 | v17 << 12 | v18 << 24 | v19 << 36 | v20 << 48
+					| v21 << 60;
+			data[j + 4] = v21 >>> 4 | v22 << 8 | v23 << 20 | v24 << 32
+					| v25 << 44 | v26 << 56;
+			data[j + 5] = v26 >>> 8 | v27 << 4 | v28 << 16 | v29 << 28
+					| v30 << 40 | v31 << 52;
+			data[j + 6] = v32 | v33 << 12 | v34 << 24 | v35 << 36 | v36 << 48
+					| v37 << 60;
+			data[j + 7] = v37 >>> 4 | v38 << 8 | v39 << 20 | v40 << 32
+					| v41 << 44 | v42 << 56;
+			data[j + 8] = v42 >>> 8 | v43 << 4 | v44 << 16 | v45 << 28
+					| v46 << 40 | v47 << 52;
+			data[j + 9] = v48 | v49 << 12 | v50 << 24 | v51 << 36 | v52 << 48
+					| v53 << 60;
+			data[j + 10] = v53 >>> 4 | v54 << 8 | v55 << 20 | v56 << 32
+					| v57 << 44 | v58 << 56;
+			data[j + 11] = v58 >>> 8 | v59 << 4 | v60 << 16 | v61 << 28
+					| v62 << 40 | v63 << 52;
+		}
+	}
+
+	private static void decode13(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 13, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFL;
+			dest[off + 1] = w0 >>> 13 & 0x1FFFL;
+			dest[off + 2] = w0 >>> 26 & 0x1FFFL;
+			dest[off + 3] = w0 >>> 39 & 0x1FFFL;
+			final long w1 = data[j + 1];
+			dest[off + 4] = (w0 >>> 52 | w1 << 12) & 0x1FFFL;
+			dest[off + 5] = w1 >>> 1 & 0x1FFFL;
+			dest[off + 6] = w1 >>> 14 & 0x1FFFL;
+			dest[off + 7] = w1 >>> 27 & 0x1FFFL;
+			dest[off + 8] = w1 >>> 40 & 0x1FFFL;
+			final long w2 = data[j + 2];
+			dest[off + 9] = (w1 >>> 53 | w2 << 11) & 0x1FFFL;
+			dest[off + 10] = w2 >>> 2 & 0x1FFFL;
+			dest[off + 11] = w2 >>> 15 & 0x1FFFL;
+			dest[off + 12] = w2 >>> 28 & 0x1FFFL;
+			dest[off + 13] = w2 >>> 41 & 0x1FFFL;
+			final long w3 = data[j + 3];
+			dest[off + 14] = (w2 >>> 54 | w3 << 10) & 0x1FFFL;
+			dest[off + 15] = w3 >>> 3 & 0x1FFFL;
+			dest[off + 16] = w3 >>> 16 & 0x1FFFL;
+			dest[off + 17] = w3 >>> 29 & 0x1FFFL;
+			dest[off + 18] = w3 >>> 42 & 0x1FFFL;
+			final long w4 = data[j + 4];
+			dest[off + 19] = (w3 >>> 55 | w4 << 9) & 0x1FFFL;
+			dest[off + 20] = w4 >>> 4 & 0x1FFFL;
+			dest[off + 21] = w4 >>> 17 & 0x1FFFL;
+			dest[off + 22] = w4 >>> 30 & 0x1FFFL;
+			dest[off + 23] = w4 >>> 43 & 0x1FFFL;
+			final long w5 = data[j + 5];
+			dest[off + 24] = (w4 >>> 56 | w5 << 8) & 0x1FFFL;
+			dest[off + 25] = w5 >>> 5 & 0x1FFFL;
+			dest[off + 26] = w5 >>> 18 & 0x1FFFL;
+			dest[off + 27] = w5 >>> 31 & 0x1FFFL;
+			dest[off + 28] = w5 >>> 44 & 0x1FFFL;
+			final long w6 = data[j + 6];
+			dest[off + 29] = (w5 >>> 57 | w6 << 7) & 0x1FFFL;
+			dest[off + 30] = w6 >>> 6 & 0x1FFFL;
+			dest[off + 31] = w6 >>> 19 & 0x1FFFL;
+			dest[off + 32] = w6 >>> 32 & 0x1FFFL;
+			dest[off + 33] = w6 >>> 45 & 0x1FFFL;
+			final long w7 = data[j + 7];
+			dest[off + 34] = (w6 >>> 58 | w7 << 6) & 0x1FFFL;
+			dest[off + 35] = w7 >>> 7 & 0x1FFFL;
+			dest[off + 36] = w7 >>> 20 & 0x1FFFL;
+			dest[off + 37] = w7 >>> 33 & 0x1FFFL;
+			dest[off + 38] = w7 >>> 46 & 0x1FFFL;
+			final long w8 = data[j + 8];
+			dest[off + 39] = (w7 >>> 59 | w8 << 5) & 0x1FFFL;
+			dest[off + 40] = w8 >>> 8 & 0x1FFFL;
+			dest[off + 41] = w8 >>> 21 & 0x1FFFL;
+			dest[off + 42] = w8 >>> 34 & 0x1FFFL;
+			dest[off + 43] = w8 >>> 47 & 0x1FFFL;
+			final long w9 = data[j + 9];
+			dest[off + 44] = (w8 >>> 60 | w9 << 4) & 0x1FFFL;
+			dest[off + 45] = w9 >>> 9 & 0x1FFFL;
+			dest[off + 46] = w9 >>> 22 & 0x1FFFL;
+			dest[off + 47] = w9 >>> 35 & 0x1FFFL;
+			dest[off + 48] = w9 >>> 48 & 0x1FFFL;
+			final long w10 = data[j + 10];
+			dest[off + 49] = (w9 >>> 61 | w10 << 3) & 0x1FFFL;
+			dest[off + 50] = w10 >>> 10 & 0x1FFFL;
+			dest[off + 51] = w10 >>> 23 & 0x1FFFL;
+			dest[off + 52] = w10 >>> 36 & 0x1FFFL;
+			dest[off + 53] = w10 >>> 49 & 0x1FFFL;
+			final long w11 = data[j + 11];
+			dest[off + 54] = (w10 >>> 62 | w11 << 2) & 0x1FFFL;
+			dest[off + 55] = w11 >>> 11 & 0x1FFFL;
+			dest[off + 56] = w11 >>> 24 & 0x1FFFL;
+			dest[off + 57] = w11 >>> 37 & 0x1FFFL;
+			dest[off + 58] = w11 >>> 50 & 0x1FFFL;
+			final long w12 = data[j + 12];
+			dest[off + 59] = (w11 >>> 63 | w12 << 1) & 0x1FFFL;
+			dest[off + 60] = w12 >>> 12 & 0x1FFFL;
+			dest[off + 61] = w12 >>> 25 & 0x1FFFL;
+			dest[off + 62] = w12 >>> 38 & 0x1FFFL;
+			dest[off + 63] = w12 >>> 51;
+		}
+	}
+
+	private static void encode13(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 13) {
+			final long v0 = src[off] & 0x1FFFL;
+			final long v1 = src[off + 1] & 0x1FFFL;
+			final long v2 = src[off + 2] & 0x1FFFL;
+			final long v3 = src[off + 3] & 0x1FFFL;
+			final long v4 = src[off + 4] & 0x1FFFL;
+			final long v5 = src[off + 5] & 0x1FFFL;
+			final long v6 = src[off + 6] & 0x1FFFL;
+			final long v7 = src[off + 7] & 0x1FFFL;
+			final long v8 = src[off + 8] & 0x1FFFL;
+			final long v9 = src[off + 9] & 0x1FFFL;
+			final long v10 = src[off + 10] & 0x1FFFL;
+			final long v11 = src[off + 11] & 0x1FFFL;
+			final long v12 = src[off + 12] & 0x1FFFL;
+			final long v13 = src[off + 13] & 0x1FFFL;
+			final long v14 = src[off + 14] & 0x1FFFL;
+			final long v15 = src[off + 15] & 0x1FFFL;
+			final long v16 = src[off + 16] & 0x1FFFL;
+			final long v17 = src[off + 17] & 0x1FFFL;
+			final long v18 = src[off + 18] & 0x1FFFL;
+			final long v19 = src[off + 19] & 0x1FFFL;
+			final long v20 = src[off + 20] & 0x1FFFL;
+			final long v21 = src[off + 21] & 0x1FFFL;
+			final long v22 = src[off + 22] & 0x1FFFL;
+			final long v23 = src[off + 23] & 0x1FFFL;
+			final long v24 = src[off + 24] & 0x1FFFL;
+			final long v25 = src[off + 25] & 0x1FFFL;
+			final long v26 = src[off + 26] & 0x1FFFL;
+			final long v27 = src[off + 27] & 0x1FFFL;
+			final long v28 = src[off + 28] & 0x1FFFL;
+			final long v29 = src[off + 29] & 0x1FFFL;
+			final long v30 = src[off + 30] & 0x1FFFL;
+			final long v31 = src[off + 31] & 0x1FFFL;
+			final long v32 = src[off + 32] & 0x1FFFL;
+			final long v33 = src[off + 33] & 0x1FFFL;
+			final long v34 = src[off + 34] & 0x1FFFL;
+			final long v35 = src[off + 35] & 0x1FFFL;
+			final long v36 = src[off + 36] & 0x1FFFL;
+			final long v37 = src[off + 37] & 0x1FFFL;
+			final long v38 = src[off + 38] & 0x1FFFL;
+			final long v39 = src[off + 39] & 0x1FFFL;
+			final long v40 = src[off + 40] & 0x1FFFL;
+			final long v41 = src[off + 41] & 0x1FFFL;
+			final long v42 = src[off + 42] & 0x1FFFL;
+			final long v43 = src[off + 43] & 0x1FFFL;
+			final long v44 = src[off + 44] & 0x1FFFL;
+			final long v45 = src[off + 45] & 0x1FFFL;
+			final long v46 = src[off + 46] & 0x1FFFL;
+			final long v47 = src[off + 47] & 0x1FFFL;
+			final long v48 = src[off + 48] & 0x1FFFL;
+			final long v49 = src[off + 49] & 0x1FFFL;
+			final long v50 = src[off + 50] & 0x1FFFL;
+			final long v51 = src[off + 51] & 0x1FFFL;
+			final long v52 = src[off + 52] & 0x1FFFL;
+			final long v53 = src[off + 53] & 0x1FFFL;
+			final long v54 = src[off + 54] & 0x1FFFL;
+			final long v55 = src[off + 55] & 0x1FFFL;
+			final long v56 = src[off + 56] & 0x1FFFL;
+			final long v57 = src[off + 57] & 0x1FFFL;
+			final long v58 = src[off + 58] & 0x1FFFL;
+			final long v59 = src[off + 59] & 0x1FFFL;
+			final long v60 = src[off + 60] & 0x1FFFL;
+			final long v61 = src[off + 61] & 0x1FFFL;
+			final long v62 = src[off + 62] & 0x1FFFL;
+			final long v63 = src[off + 63] & 0x1FFFL;
+			data[j] = v0 | v1 << 13 | v2 << 26 | v3 << 39 | v4 << 52;
+			data[j + 1] = v4 >>> 12 | v5 << 1 | v6 << 14 | v7 << 27 | v8 << 40
+					| v9 << 53;
+			data[j + 2] = v9 >>> 11 | v10 << 2 | v11 << 15 | v12 << 28
+					| v13 << 41 | v14 << 54;
+			data[j + 3] = v14 >>> 10 | v15 << 3 | v16 << 16 | v17 << 29
+					| v18 << 42 | v19 << 55;
+			data[j + 4] = v19 >>> 9 | v20 << 4 | v21 << 17 | v22 << 30
+					| v23 << 43 | v24 << 56;
+			data[j + 5] = v24 >>> 8 | v25 << 5 | v26 << 18 | v27 << 31
+					| v28 << 44 | v29 << 57;
+			data[j + 6] = v29 >>> 7 | v30 << 6 | v31 << 19 | v32 << 32
+					| v33 << 45 | v34 << 58;
+			data[j + 7] = v34 >>> 6 | v35 << 7 | v36 << 20 | v37 << 33
+					| v38 << 46 | v39 << 59;
+			data[j + 8] = v39 >>> 5 | v40 << 8 | v41 << 21 | v42 << 34
+					| v43 << 47 | v44 << 60;
+			data[j + 9] = v44 >>> 4 | v45 << 9 | v46 << 22 | v47 << 35
+					| v48 << 48 | v49 << 61;
+			data[j + 10] = v49 >>> 3 | v50 << 10 | v51 << 23 | v52 << 36
+					| v53 << 49 | v54 << 62;
+			data[j + 11] = v54 >>> 2 | v55 << 11 | v56 << 24 | v57 << 37
+					| v58 << 50 | v59 << 63;
+			data[j + 12] = v59 >>> 1 | v60 << 12 | v61 << 25 | v62 << 38
+					| v63 << 51;
+		}
+	}
+
+	private static void decode14(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 14, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFL;
+			dest[off + 1] = w0 >>> 14 & 0x3FFFL;
+			dest[off + 2] = w0 >>> 28 & 0x3FFFL;
+			dest[off + 3] = w0 >>> 42 & 0x3FFFL;
+			final long w1 = data[j + 1];
+			dest[off + 4] = (w0 >>> 56 | w1 << 8) & 0x3FFFL;
+			dest[off + 5] = w1 >>> 6 & 0x3FFFL;
+			dest[off + 6] = w1 >>> 20 & 0x3FFFL;
+			dest[off + 7] = w1 >>> 34 & 0x3FFFL;
+			dest[off + 8] = w1 >>> 48 & 0x3FFFL;
+			final long w2 = data[j + 2];
+			dest[off + 9] = (w1 >>> 62 | w2 << 2) & 0x3FFFL;
+			dest[off + 10] = w2 >>> 12 & 0x3FFFL;
+			dest[off + 11] = w2 >>> 26 & 0x3FFFL;
+			dest[off + 12] = w2 >>> 40 & 0x3FFFL;
+			final long w3 = data[j + 3];
+			dest[off + 13] = (w2 >>> 54 | w3 << 10) & 0x3FFFL;
+			dest[off + 14] = w3 >>> 4 & 0x3FFFL;
+			dest[off + 15] = w3 >>> 18 & 0x3FFFL;
+			dest[off + 16] = w3 >>> 32 & 0x3FFFL;
+			dest[off + 17] = w3 >>> 46 & 0x3FFFL;
+			final long w4 = data[j + 4];
+			dest[off + 18] = (w3 >>> 60 | w4 << 4) & 0x3FFFL;
+			dest[off + 19] = w4 >>> 10 & 0x3FFFL;
+			dest[off + 20] = w4 >>> 24 & 0x3FFFL;
+			dest[off + 21] = w4 >>> 38 & 0x3FFFL;
+			final long w5 = data[j + 5];
+			dest[off + 22] = (w4 >>> 52 | w5 << 12) & 0x3FFFL;
+			dest[off + 23] = w5 >>> 2 & 0x3FFFL;
+			dest[off + 24] = w5 >>> 16 & 0x3FFFL;
+			dest[off + 25] = w5 >>> 30 & 0x3FFFL;
+			dest[off + 26] = w5 >>> 44 & 0x3FFFL;
+			final long w6 = data[j + 6];
+			dest[off + 27] = (w5 >>> 58 | w6 << 6) & 0x3FFFL;
+			dest[off + 28] = w6 >>> 8 & 0x3FFFL;
+			dest[off + 29] = w6 >>> 22 & 0x3FFFL;
+			dest[off + 30] = w6 >>> 36 & 0x3FFFL;
+			dest[off + 31] = w6 >>> 50;
+			final long w7 = data[j + 7];
+			dest[off + 32] = w7 & 0x3FFFL;
+			dest[off + 33] = w7 >>> 14 & 0x3FFFL;
+			dest[off + 34] = w7 >>> 28 & 0x3FFFL;
+			dest[off + 35] = w7 >>> 42 & 0x3FFFL;
+			final long w8 = data[j + 8];
+			dest[off + 36] = (w7 >>> 56 | w8 << 8) & 0x3FFFL;
+			dest[off + 37] = w8 >>> 6 & 0x3FFFL;
+			dest[off + 38] = w8 >>> 20 & 0x3FFFL;
+			dest[off + 39] = w8 >>> 34 & 0x3FFFL;
+			dest[off + 40] = w8 >>> 48 & 0x3FFFL;
+			final long w9 = data[j + 9];
+			dest[off + 41] = (w8 >>> 62 | w9 << 2) & 0x3FFFL;
+			dest[off + 42] = w9 >>> 12 & 0x3FFFL;
+			dest[off + 43] = w9 >>> 26 & 0x3FFFL;
+			dest[off + 44] = w9 >>> 40 & 0x3FFFL;
+			final long w10 = data[j + 10];
+			dest[off + 45] = (w9 >>> 54 | w10 << 10) & 0x3FFFL;
+			dest[off + 46] = w10 >>> 4 & 0x3FFFL;
+			dest[off + 47] = w10 >>> 18 & 0x3FFFL;
+			dest[off + 48] = w10 >>> 32 & 0x3FFFL;
+			dest[off + 49] = w10 >>> 46 & 0x3FFFL;
+			final long w11 = data[j + 11];
+			dest[off + 50] = (w10 >>> 60 | w11 << 4) & 0x3FFFL;
+			dest[off + 51] = w11 >>> 10 & 0x3FFFL;
+			dest[off + 52] = w11 >>> 24 & 0x3FFFL;
+			dest[off + 53] = w11 >>> 38 & 0x3FFFL;
+			final long w12 = data[j + 12];
+			dest[off + 54] = (w11 >>> 52 | w12 << 12) & 0x3FFFL;
+			dest[off + 55] = w12 >>> 2 & 0x3FFFL;
+			dest[off + 56] = w12 >>> 16 & 0x3FFFL;
+			dest[off + 57] = w12 >>> 30 & 0x3FFFL;
+			dest[off + 58] = w12 >>> 44 & 0x3FFFL;
+			final long w13 = data[j + 13];
+			dest[off + 59] = (w12 >>> 58 | w13 << 6) & 0x3FFFL;
+			dest[off + 60] = w13 >>> 8 & 0x3FFFL;
+			dest[off + 61] = w13 >>> 22 & 0x3FFFL;
+			dest[off + 62] = w13 >>> 36 & 0x3FFFL;
+			dest[off + 63] = w13 >>> 50;
+		}
+	}
+
+	private static void encode14(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 14) {
+			final long v0 = src[off] & 0x3FFFL;
+			final long v1 = src[off + 1] & 0x3FFFL;
+			final long v2 = src[off + 2] & 0x3FFFL;
+			final long v3 = src[off + 3] & 0x3FFFL;
+			final long v4 = src[off + 4] & 0x3FFFL;
+			final long v5 = src[off + 5] & 0x3FFFL;
+			final long v6 = src[off + 6] & 0x3FFFL;
+			final long v7 = src[off + 7] & 0x3FFFL;
+			final long v8 = src[off + 8] & 0x3FFFL;
+			final long v9 = src[off + 9] & 0x3FFFL;
+			final long v10 = src[off + 10] & 0x3FFFL;
+			final long v11 = src[off + 11] & 0x3FFFL;
+			final long v12 = src[off + 12] & 0x3FFFL;
+			final long v13 = src[off + 13] & 0x3FFFL;
+			final long v14 = src[off + 14] & 0x3FFFL;
+			final long v15 = src[off + 15] & 0x3FFFL;
+			final long v16 = src[off + 16] & 0x3FFFL;
+			final long v17 = src[off + 17] & 0x3FFFL;
+			final long v18 = src[off + 18] & 0x3FFFL;
+			final long v19 = src[off + 19] & 0x3FFFL;
+			final long v20 = src[off + 20] & 0x3FFFL;
+			final long v21 = src[off + 21] & 0x3FFFL;
+			final long v22 = src[off + 22] & 0x3FFFL;
+			final long v23 = src[off + 23] & 0x3FFFL;
+			final long v24 = src[off + 24] & 0x3FFFL;
+			final long v25 = src[off + 25] & 0x3FFFL;
+			final long v26 = src[off + 26] & 0x3FFFL;
+			final long v27 = src[off + 27] & 0x3FFFL;
+			final long v28 = src[off + 28] & 0x3FFFL;
+			final long v29 = src[off + 29] & 0x3FFFL;
+			final long v30 = src[off + 30] & 0x3FFFL;
+			final long v31 = src[off + 31] & 0x3FFFL;
+			final long v32 = src[off + 32] & 0x3FFFL;
+			final long v33 = src[off + 33] & 0x3FFFL;
+			final long v34 = src[off + 34] & 0x3FFFL;
+			final long v35 = src[off + 35] & 0x3FFFL;
+			final long v36 = src[off + 36] & 0x3FFFL;
+			final long v37 = src[off + 37] & 0x3FFFL;
+			final long v38 = src[off + 38] & 0x3FFFL;
+			final long v39 = src[off + 39] & 0x3FFFL;
+			final long v40 = src[off + 40] & 0x3FFFL;
+			final long v41 = src[off + 41] & 0x3FFFL;
+			final long v42 = src[off + 42] & 0x3FFFL;
+			final long v43 = src[off + 43] & 0x3FFFL;
+			final long v44 = src[off + 44] & 0x3FFFL;
+			final long v45 = src[off + 45] & 0x3FFFL;
+			final long v46 = src[off + 46] & 0x3FFFL;
+			final long v47 = src[off + 47] & 0x3FFFL;
+			final long v48 = src[off + 48] & 0x3FFFL;
+			final long v49 = src[off + 49] & 0x3FFFL;
+			final long v50 = src[off + 50] & 0x3FFFL;
+			final long v51 = src[off + 51] & 0x3FFFL;
+			final long v52 = src[off + 52] & 0x3FFFL;
+			final long v53 = src[off + 53] & 0x3FFFL;
+			final long v54 = src[off + 54] & 0x3FFFL;
+			final long v55 = src[off + 55] & 0x3FFFL;
+			final long v56 = src[off + 56] & 0x3FFFL;
+			final long v57 = src[off + 57] & 0x3FFFL;
+			final long v58 = src[off + 58] & 0x3FFFL;
+			final long v59 = src[off + 59] & 0x3FFFL;
+			final long v60 = src[off + 60] & 0x3FFFL;
+			final long v61 = src[off + 61] & 0x3FFFL;
+			final long v62 = src[off + 62] & 0x3FFFL;
+			final long v63 = src[off + 63] & 0x3FFFL;
+			data[j] = v0 | v1 << 14 | v2 << 28 | v3 << 42 | v4 << 56;
+			data[j + 1] = v4 >>> 8 | v5 << 6 | v6 << 20 | v7 << 34 | v8 << 48
+					| v9 << 62;
+			data[j + 2] = v9 >>> 2 | v10 << 12 | v11 << 26 | v12 << 40
+					| v13 << 54;
+			data[j + 3] = v13 >>> 10 | v14 << 4 | v15 << 18 | v16 << 32
+					| v17 << 46 | v18 << 60;
+			data[j + 4] = v18 >>> 4 | v19 << 10 | v20 << 24 | v21 << 38
+					| v22 << 52;
+			data[j + 5] = v22 >>> 12 | v23 << 2 | v24 << 16 | v25 << 30
+					| v26 << 44 | v27 << 58;
+			data[j + 6] = v27 >>> 6 | v28 << 8 | v29 << 22 | v30 << 36
+					| v31 << 50;
+			data[j + 7] = v32 | v33 << 14 | v34 << 28 | v35 << 42 | v36 << 56;
+			data[j + 8] = v36 >>> 8 | v37 << 6 | v38 << 20 | v39 << 34
+					| v40 << 48 | v41 << 62;
+			data[j + 9] = v41 >>> 2 | v42 << 12 | v43 << 26 | v44 << 40
+					| v45 << 54;
+			data[j + 10] = v45 >>> 10 | v46 << 4 | v47 << 18 | v48 << 32
+					| v49 << 46 | v50 << 60;
+			data[j + 11] = v50 >>> 4 | v51 << 10 | v52 << 24 | v53 << 38
+					| v54 << 52;
+			data[j + 12] = v54 >>> 12 | v55 << 2 | v56 << 16 | v57 << 30
+					| v58 << 44 | v59 << 58;
+			data[j + 13] = v59 >>> 6 | v60 << 8 | v61 << 22 | v62 << 36
+					| v63 << 50;
+		}
+	}
+
+	private static void decode15(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 15, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFL;
+			dest[off + 1] = w0 >>> 15 & 0x7FFFL;
+			dest[off + 2] = w0 >>> 30 & 0x7FFFL;
+			dest[off + 3] = w0 >>> 45 & 0x7FFFL;
+			final long w1 = data[j + 1];
+			dest[off + 4] = (w0 >>> 60 | w1 << 4) & 0x7FFFL;
+			dest[off + 5] = w1 >>> 11 & 0x7FFFL;
+			dest[off + 6] = w1 >>> 26 & 0x7FFFL;
+			dest[off + 7] = w1 >>> 41 & 0x7FFFL;
+			final long w2 = data[j + 2];
+			dest[off + 8] = (w1 >>> 56 | w2 << 8) & 0x7FFFL;
+			dest[off + 9] = w2 >>> 7 & 0x7FFFL;
+			dest[off + 10] = w2 >>> 22 & 0x7FFFL;
+			dest[off + 11] = w2 >>> 37 & 0x7FFFL;
+			final long w3 = data[j + 3];
+			dest[off + 12] = (w2 >>> 52 | w3 << 12) & 0x7FFFL;
+			dest[off + 13] = w3 >>> 3 & 0x7FFFL;
+			dest[off + 14] = w3 >>> 18 & 0x7FFFL;
+			dest[off + 15] = w3 >>> 33 & 0x7FFFL;
+			dest[off + 16] = w3 >>> 48 & 0x7FFFL;
+			final long w4 = data[j + 4];
+			dest[off + 17] = (w3 >>> 63 | w4 << 1) & 0x7FFFL;
+			dest[off + 18] = w4 >>> 14 & 0x7FFFL;
+			dest[off + 19] = w4 >>> 29 & 0x7FFFL;
+			dest[off + 20] = w4 >>> 44 & 0x7FFFL;
+			final long w5 = data[j + 5];
+			dest[off + 21] = (w4 >>> 59 | w5 << 5) & 0x7FFFL;
+			dest[off + 22] = w5 >>> 10 & 0x7FFFL;
+			dest[off + 23] = w5 >>> 25 & 0x7FFFL;
+			dest[off + 24] = w5 >>> 40 & 0x7FFFL;
+			final long w6 = data[j + 6];
+			dest[off + 25] = (w5 >>> 55 | w6 << 9) & 0x7FFFL;
+			dest[off + 26] = w6 >>> 6 & 0x7FFFL;
+			dest[off + 27] = w6 >>> 21 & 0x7FFFL;
+			dest[off + 28] = w6 >>> 36 & 0x7FFFL;
+			final long w7 = data[j + 7];
+			dest[off + 29] = (w6 >>> 51 | w7 << 13) & 0x7FFFL;
+			dest[off + 30] = w7 >>> 2 & 0x7FFFL;
+			dest[off + 31] = w7 >>> 17 & 0x7FFFL;
+			dest[off + 32] = w7 >>> 32 & 0x7FFFL;
+			dest[off + 33] = w7 >>> 47 & 0x7FFFL;
+			final long w8 = data[j + 8];
+			dest[off + 34] = (w7 >>> 62 | w8 << 2) & 0x7FFFL;
+			dest[off + 35] = w8 >>> 13 & 0x7FFFL;
+			dest[off + 36] = w8 >>> 28 & 0x7FFFL;
+			dest[off + 37] = w8 >>> 43 & 0x7FFFL;
+			final long w9 = data[j + 9];
+			dest[off + 38] = (w8 >>> 58 | w9 << 6) & 0x7FFFL;
+			dest[off + 39] = w9 >>> 9 & 0x7FFFL;
+			dest[off + 40] = w9 >>> 24 & 0x7FFFL;
+			dest[off + 41] = w9 >>> 39 & 0x7FFFL;
+			final long w10 = data[j + 10];
+			dest[off + 42] = (w9 >>> 54 | w10 << 10) & 0x7FFFL;
+			dest[off + 43] = w10 >>> 5 & 0x7FFFL;
+			dest[off + 44] = w10 >>> 20 & 0x7FFFL;
+			dest[off + 45] = w10 >>> 35 & 0x7FFFL;
+			final long w11 = data[j + 11];
+			dest[off + 46] = (w10 >>> 50 | w11 << 14) & 0x7FFFL;
+			dest[off + 47] = w11 >>> 1 & 0x7FFFL;
+			dest[off + 48] = w11 >>> 16 & 0x7FFFL;
+			dest[off + 49] = w11 >>> 31 & 0x7FFFL;
+			dest[off + 50] = w11 >>> 46 & 0x7FFFL;
+			final long w12 = data[j + 12];
+			dest[off + 51] = (w11 >>> 61 | w12 << 3) & 0x7FFFL;
+			dest[off + 52] = w12 >>> 12 & 0x7FFFL;
+			dest[off + 53] = w12 >>> 27 & 0x7FFFL;
+			dest[off + 54] = w12 >>> 42 & 0x7FFFL;
+			final long w13 = data[j + 13];
+			dest[off + 55] = (w12 >>> 57 | w13 << 7) & 0x7FFFL;
+			dest[off + 56] = w13 >>> 8 & 0x7FFFL;
+			dest[off + 57] = w13 >>> 23 & 0x7FFFL;
+			dest[off + 58] = w13 >>> 38 & 0x7FFFL;
+			final long w14 = data[j + 14];
+			dest[off + 59] = (w13 >>> 53 | w14 << 11) & 0x7FFFL;
+			dest[off + 60] = w14 >>> 4 & 0x7FFFL;
+			dest[off + 61] = w14 >>> 19 & 0x7FFFL;
+			dest[off + 62] = w14 >>> 34 & 0x7FFFL;
+			dest[off + 63] = w14 >>> 49;
+		}
+	}
+
+	private static void encode15(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 15) {
+			final long v0 = src[off] & 0x7FFFL;
+			final long v1 = src[off + 1] & 0x7FFFL;
+			final long v2 = src[off + 2] & 0x7FFFL;
+			final long v3 = src[off + 3] & 0x7FFFL;
+			final long v4 = src[off + 4] & 0x7FFFL;
+			final long v5 = src[off + 5] & 0x7FFFL;
+			final long v6 = src[off + 6] & 0x7FFFL;
+			final long v7 = src[off + 7] & 0x7FFFL;
+			final long v8 = src[off + 8] & 0x7FFFL;
+			final long v9 = src[off + 9] & 0x7FFFL;
+			final long v10 = src[off + 10] & 0x7FFFL;
+			final long v11 = src[off + 11] & 0x7FFFL;
+			final long v12 = src[off + 12] & 0x7FFFL;
+			final long v13 = src[off + 13] & 0x7FFFL;
+			final long v14 = src[off + 14] & 0x7FFFL;
+			final long v15 = src[off + 15] & 0x7FFFL;
+			final long v16 = src[off + 16] & 0x7FFFL;
+			final long v17 = src[off + 17] & 0x7FFFL;
+			final long v18 = src[off + 18] & 0x7FFFL;
+			final long v19 = src[off + 19] & 0x7FFFL;
+			final long v20 = src[off + 20] & 0x7FFFL;
+			final long v21 = src[off + 21] & 0x7FFFL;
+			final long v22 = src[off + 22] & 0x7FFFL;
+			final long v23 = src[off + 23] & 0x7FFFL;
+			final long v24 = src[off + 24] & 0x7FFFL;
+			final long v25 = src[off + 25] & 0x7FFFL;
+			final long v26 = src[off + 26] & 0x7FFFL;
+			final long v27 = src[off + 27] & 0x7FFFL;
+			final long v28 = src[off + 28] & 0x7FFFL;
+			final long v29 = src[off + 29] & 0x7FFFL;
+			final long v30 = src[off + 30] & 0x7FFFL;
+			final long v31 = src[off + 31] & 0x7FFFL;
+			final long v32 = src[off + 32] & 0x7FFFL;
+			final long v33 = src[off + 33] & 0x7FFFL;
+			final long v34 = src[off + 34] & 0x7FFFL;
+			final long v35 = src[off + 35] & 0x7FFFL;
+			final long v36 = src[off + 36] & 0x7FFFL;
+			final long v37 = src[off + 37] & 0x7FFFL;
+			final long v38 = src[off + 38] & 0x7FFFL;
+			final long v39 = src[off + 39] & 0x7FFFL;
+			final long v40 = src[off + 40] & 0x7FFFL;
+			final long v41 = src[off + 41] & 0x7FFFL;
+			final long v42 = src[off + 42] & 0x7FFFL;
+			final long v43 = src[off + 43] & 0x7FFFL;
+			final long v44 = src[off + 44] & 0x7FFFL;
+			final long v45 = src[off + 45] & 0x7FFFL;
+			final long v46 = src[off + 46] & 0x7FFFL;
+			final long v47 = src[off + 47] & 0x7FFFL;
+			final long v48 = src[off + 48] & 0x7FFFL;
+			final long v49 = src[off + 49] & 0x7FFFL;
+			final long v50 = src[off + 50] & 0x7FFFL;
+			final long v51 = src[off + 51] & 0x7FFFL;
+			final long v52 = src[off + 52] & 0x7FFFL;
+			final long v53 = src[off + 53] & 0x7FFFL;
+			final long v54 = src[off + 54] & 0x7FFFL;
+			final long v55 = src[off + 55] & 0x7FFFL;
+			final long v56 = src[off + 56] & 0x7FFFL;
+			final long v57 = src[off + 57] & 0x7FFFL;
+			final long v58 = src[off + 58] & 0x7FFFL;
+			final long v59 = src[off + 59] & 0x7FFFL;
+			final long v60 = src[off + 60] & 0x7FFFL;
+			final long v61 = src[off + 61] & 0x7FFFL;
+			final long v62 = src[off + 62] & 0x7FFFL;
+			final long v63 = src[off + 63] & 0x7FFFL;
+			data[j] = v0 | v1 << 15 | v2 << 30 | v3 << 45 | v4 << 60;
+			data[j + 1] = v4 >>> 4 | v5 << 11 | v6 << 26 | v7 << 41 | v8 << 56;
+			data[j + 2] = v8 >>> 8 | v9 << 7 | v10 << 22 | v11 << 37 | v12 << 52;
+			data[j + 3] = v12 >>> 12 | v13 << 3 | v14 << 18 | v15 << 33
+					| v16 << 48 | v17 << 63;
+			data[j + 4] = v17 >>> 1 | v18 << 14 | v19 << 29 | v20 << 44
+					| v21 << 59;
+			data[j + 5] = v21 >>> 5 | v22 << 10 | v23 << 25 | v24 << 40
+					| v25 << 55;
+			data[j + 6] = v25 >>> 9 | v26 << 6 | v27 << 21 | v28 << 36
+					| v29 << 51;
+			data[j + 7] = v29 >>> 13 | v30 << 2 | v31 << 17 | v32 << 32
+					| v33 << 47 | v34 << 62;
+			data[j + 8] = v34 >>> 2 | v35 << 13 | v36 << 28 | v37 << 43
+					| v38 << 58;
+			data[j + 9] = v38 >>> 6 | v39 << 9 | v40 << 24 | v41 << 39
+					| v42 << 54;
+			data[j + 10] = v42 >>> 10 | v43 << 5 | v44 << 20 | v45 << 35
+					| v46 << 50;
+			data[j + 11] = v46 >>> 14 | v47 << 1 | v48 << 16 | v49 << 31
+					| v50 << 46 | v51 << 61;
+			data[j + 12] = v51 >>> 3 | v52 << 12 | v53 << 27 | v54 << 42
+					| v55 << 57;
+			data[j + 13] = v55 >>> 7 | v56 << 8 | v57 << 23 | v58 << 38
+					| v59 << 53;
+			data[j + 14] = v59 >>> 11 | v60 << 4 | v61 << 19 | v62 << 34
+					| v63 << 49;
+		}
+	}
+
+	private static void decode16(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 16, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFL;
+			dest[off + 1] = w0 >>> 16 & 0xFFFFL;
+			dest[off + 2] = w0 >>> 32 & 0xFFFFL;
+			dest[off + 3] = w0 >>> 48;
+			final long w1 = data[j + 1];
+			dest[off + 4] = w1 & 0xFFFFL;
+			dest[off + 5] = w1 >>> 16 & 0xFFFFL;
+			dest[off + 6] = w1 >>> 32 & 0xFFFFL;
+			dest[off + 7] = w1 >>> 48;
+			final long w2 = data[j + 2];
+			dest[off + 8] = w2 & 0xFFFFL;
+			dest[off + 9] = w2 >>> 16 & 0xFFFFL;
+			dest[off + 10] = w2 >>> 32 & 0xFFFFL;
+			dest[off + 11] = w2 >>> 48;
+			final long w3 = data[j + 3];
+			dest[off + 12] = w3 & 0xFFFFL;
+			dest[off + 13] = w3 >>> 16 & 0xFFFFL;
+			dest[off + 14] = w3 >>> 32 & 0xFFFFL;
+			dest[off + 15] = w3 >>> 48;
+			final long w4 = data[j + 4];
+			dest[off + 16] = w4 & 0xFFFFL;
+			dest[off + 17] = w4 >>> 16 & 0xFFFFL;
+			dest[off + 18] = w4 >>> 32 & 0xFFFFL;
+			dest[off + 19] = w4 >>> 48;
+			final long w5 = data[j + 5];
+			dest[off + 20] = w5 & 0xFFFFL;
+			dest[off + 21] = w5 >>> 16 & 0xFFFFL;
+			dest[off + 22] = w5 >>> 32 & 0xFFFFL;
+			dest[off + 23] = w5 >>> 48;
+			final long w6 = data[j + 6];
+			dest[off + 24] = w6 & 0xFFFFL;
+			dest[off + 25] = w6 >>> 16 & 0xFFFFL;
+			dest[off + 26] = w6 >>> 32 & 0xFFFFL;
+			dest[off + 27] = w6 >>> 48;
+			final long w7 = data[j + 7];
+			dest[off + 28] = w7 & 0xFFFFL;
+			dest[off + 29] = w7 >>> 16 & 0xFFFFL;
+			dest[off + 30] = w7 >>> 32 & 0xFFFFL;
+			dest[off + 31] = w7 >>> 48;
+			final long w8 = data[j + 8];
+			dest[off + 32] = w8 & 0xFFFFL;
+			dest[off + 33] = w8 >>> 16 & 0xFFFFL;
+			dest[off + 34] = w8 >>> 32 & 0xFFFFL;
+			dest[off + 35] = w8 >>> 48;
+			final long w9 = data[j + 9];
+			dest[off + 36] = w9 & 0xFFFFL;
+			dest[off + 37] = w9 >>> 16 & 0xFFFFL;
+			dest[off + 38] = w9 >>> 32 & 0xFFFFL;
+			dest[off + 39] = w9 >>> 48;
+			final long w10 = data[j + 10];
+			dest[off + 40] = w10 & 0xFFFFL;
+			dest[off + 41] = w10 >>> 16 & 0xFFFFL;
+			dest[off + 42] = w10 >>> 32 & 0xFFFFL;
+			dest[off + 43] = w10 >>> 48;
+			final long w11 = data[j + 11];
+			dest[off + 44] = w11 & 0xFFFFL;
+			dest[off + 45] = w11 >>> 16 & 0xFFFFL;
+			dest[off + 46] = w11 >>> 32 & 0xFFFFL;
+			dest[off + 47] = w11 >>> 48;
+			final long w12 = data[j + 12];
+			dest[off + 48] = w12 & 0xFFFFL;
+			dest[off + 49] = w12 >>> 16 & 0xFFFFL;
+			dest[off + 50] = w12 >>> 32 & 0xFFFFL;
+			dest[off + 51] = w12 >>> 48;
+			final long w13 = data[j + 13];
+			dest[off + 52] = w13 & 0xFFFFL;
+			dest[off + 53] = w13 >>> 16 & 0xFFFFL;
+			dest[off + 54] = w13 >>> 32 & 0xFFFFL;
+			dest[off + 55] = w13 >>> 48;
+			final long w14 = data[j + 14];
+			dest[off + 56] = w14 & 0xFFFFL;
+			dest[off + 57] = w14 >>> 16 & 0xFFFFL;
+			dest[off + 58] = w14 >>> 32 & 0xFFFFL;
+			dest[off + 59] = w14 >>> 48;
+			final long w15 = data[j + 15];
+			dest[off + 60] = w15 & 0xFFFFL;
+			dest[off + 61] = w15 >>> 16 & 0xFFFFL;
+			dest[off + 62] = w15 >>> 32 & 0xFFFFL;
+			dest[off + 63] = w15 >>> 48;
+		}
+	}
+
+	private static void encode16(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 16) {
+			final long v0 = src[off] & 0xFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFL;
+			data[j] = v0 | v1 << 16 | v2 << 32 | v3 << 48;
+			data[j + 1] = v4 | v5 << 16 | v6 << 32 | v7 << 48;
+			data[j + 2] = v8 | v9 << 16 | v10 << 32 | v11 << 48;
+			data[j + 3] = v12 | v13 << 16 | v14 << 32 | v15 << 48;
+			data[j + 4] = v16 | v17 << 16 | v18 << 32 | v19 << 48;
+			data[j + 5] = v20 | v21 << 16 | v22 << 32 | v23 << 48;
+			data[j + 6] = v24 | v25 << 16 | v26 << 32 | v27 << 48;
+			data[j + 7] = v28 | v29 << 16 | v30 << 32 | v31 << 48;
+			data[j + 8] = v32 | v33 << 16 | v34 << 32 | v35 << 48;
+			data[j + 9] = v36 | v37 << 16 | v38 << 32 | v39 << 48;
+			data[j + 10] = v40 | v41 << 16 | v42 << 32 | v43 << 48;
+			data[j + 11] = v44 | v45 << 16 | v46 << 32 | v47 << 48;
+			data[j + 12] = v48 | v49 << 16 | v50 << 32 | v51 << 48;
+			data[j + 13] = v52 | v53 << 16 | v54 << 32 | v55 << 48;
+			data[j + 14] = v56 | v57 << 16 | v58 << 32 | v59 << 48;
+			data[j + 15] = v60 | v61 << 16 | v62 << 32 | v63 << 48;
+		}
+	}
+
+	private static void decode17(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 17, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFL;
+			dest[off + 1] = w0 >>> 17 & 0x1FFFFL;
+			dest[off + 2] = w0 >>> 34 & 0x1FFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 3] = (w0 >>> 51 | w1 << 13) & 0x1FFFFL;
+			dest[off + 4] = w1 >>> 4 & 0x1FFFFL;
+			dest[off + 5] = w1 >>> 21 & 0x1FFFFL;
+			dest[off + 6] = w1 >>> 38 & 0x1FFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 7] = (w1 >>> 55 | w2 << 9) & 0x1FFFFL;
+			dest[off + 8] = w2 >>> 8 & 0x1FFFFL;
+			dest[off + 9] = w2 >>> 25 & 0x1FFFFL;
+			dest[off + 10] = w2 >>> 42 & 0x1FFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 11] = (w2 >>> 59 | w3 << 5) & 0x1FFFFL;
+			dest[off + 12] = w3 >>> 12 & 0x1FFFFL;
+			dest[off + 13] = w3 >>> 29 & 0x1FFFFL;
+			dest[off + 14] = w3 >>> 46 & 0x1FFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 15] = (w3 >>> 63 | w4 << 1) & 0x1FFFFL;
+			dest[off + 16] = w4 >>> 16 & 0x1FFFFL;
+			dest[off + 17] = w4 >>> 33 & 0x1FFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 18] = (w4 >>> 50 | w5 << 14) & 0x1FFFFL;
+			dest[off + 19] = w5 >>> 3 & 0x1FFFFL;
+			dest[off + 20] = w5 >>> 20 & 0x1FFFFL;
+			dest[off + 21] = w5 >>> 37 & 0x1FFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 22] = (w5 >>> 54 | w6 << 10) & 0x1FFFFL;
+			dest[off + 23] = w6 >>> 7 & 0x1FFFFL;
+			dest[off + 24] = w6 >>> 24 & 0x1FFFFL;
+			dest[off + 25] = w6 >>> 41 & 0x1FFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 26] = (w6 >>> 58 | w7 << 6) & 0x1FFFFL;
+			dest[off + 27] = w7 >>> 11 & 0x1FFFFL;
+			dest[off + 28] = w7 >>> 28 & 0x1FFFFL;
+			dest[off + 29] = w7 >>> 45 & 0x1FFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 30] = (w7 >>> 62 | w8 << 2) & 0x1FFFFL;
+			dest[off + 31] = w8 >>> 15 & 0x1FFFFL;
+			dest[off + 32] = w8 >>> 32 & 0x1FFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 33] = (w8 >>> 49 | w9 << 15) & 0x1FFFFL;
+			dest[off + 34] = w9 >>> 2 & 0x1FFFFL;
+			dest[off + 35] = w9 >>> 19 & 0x1FFFFL;
+			dest[off + 36] = w9 >>> 36 & 0x1FFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 37] = (w9 >>> 53 | w10 << 11) & 0x1FFFFL;
+			dest[off + 38] = w10 >>> 6 & 0x1FFFFL;
+			dest[off + 39] = w10 >>> 23 & 0x1FFFFL;
+			dest[off + 40] = w10 >>> 40 & 0x1FFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 41] = (w10 >>> 57 | w11 << 7) & 0x1FFFFL;
+			dest[off + 42] = w11 >>> 10 & 0x1FFFFL;
+			dest[off + 43] = w11 >>> 27 & 0x1FFFFL;
+			dest[off + 44] = w11 >>> 44 & 0x1FFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 45] = (w11 >>> 61 | w12 << 3) & 0x1FFFFL;
+			dest[off + 46] = w12 >>> 14 & 0x1FFFFL;
+			dest[off + 47] = w12 >>> 31 & 0x1FFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 48] = (w12 >>> 48 | w13 << 16) & 0x1FFFFL;
+			dest[off + 49] = w13 >>> 1 & 0x1FFFFL;
+			dest[off + 50] = w13 >>> 18 & 0x1FFFFL;
+			dest[off + 51] = w13 >>> 35 & 0x1FFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 52] = (w13 >>> 52 | w14 << 12) & 0x1FFFFL;
+			dest[off + 53] = w14 >>> 5 & 0x1FFFFL;
+			dest[off + 54] = w14 >>> 22 & 0x1FFFFL;
+			dest[off + 55] = w14 >>> 39 & 0x1FFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 56] = (w14 >>> 56 | w15 << 8) & 0x1FFFFL;
+			dest[off + 57] = w15 >>> 9 & 0x1FFFFL;
+			dest[off + 58] = w15 >>> 26 & 0x1FFFFL;
+			dest[off + 59] = w15 >>> 43 & 0x1FFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 60] = (w15 >>> 60 | w16 << 4) & 0x1FFFFL;
+			dest[off + 61] = w16 >>> 13 & 0x1FFFFL;
+			dest[off + 62] = w16 >>> 30 & 0x1FFFFL;
+			dest[off + 63] = w16 >>> 47;
+		}
+	}
+
+	private static void encode17(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 17) {
+			final long v0 = src[off] & 0x1FFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFL;
+			data[j] = v0 | v1 << 17 | v2 << 34 | v3 << 51;
+			data[j + 1] = v3 >>> 13 | v4 << 4 | v5 << 21 | v6 << 38 | v7 << 55;
+			data[j + 2] = v7 >>> 9 | v8 << 8 | v9 << 25 | v10 << 42 | v11 << 59;
+			data[j + 3] = v11 >>> 5 | v12 << 12 | v13 << 29 | v14 << 46
+					| v15 << 63;
+			data[j + 4] = v15 >>> 1 | v16 << 16 | v17 << 33 | v18 << 50;
+			data[j + 5] = v18 >>> 14 | v19 << 3 | v20 << 20 | v21 << 37
+					| v22 << 54;
+			data[j + 6] = v22 >>> 10 | v23 << 7 | v24 << 24 | v25 << 41
+					| v26 << 58;
+			data[j + 7] = v26 >>> 6 | v27 << 11 | v28 << 28 | v29 << 45
+					| v30 << 62;
+			data[j + 8] = v30 >>> 2 | v31 << 15 | v32 << 32 | v33 << 49;
+			data[j + 9] = v33 >>> 15 | v34 << 2 | v35 << 19 | v36 << 36
+					| v37 << 53;
+			data[j + 10] = v37 >>> 11 | v38 << 6 | v39 << 23 | v40 << 40
+					| v41 << 57;
+			data[j + 11] = v41 >>> 7 | v42 << 10 | v43 << 27 | v44 << 44
+					| v45 << 61;
+			data[j + 12] = v45 >>> 3 | v46 << 14 | v47 << 31 | v48 << 48;
+			data[j + 13] = v48 >>> 16 | v49 << 1 | v50 << 18 | v51 << 35
+					| v52 << 52;
+			data[j + 14] = v52 >>> 12 | v53 << 5 | v54 << 22 | v55 << 39
+					| v56 << 56;
+			data[j + 15] = v56 >>> 8 | v57 << 9 | v58 << 26 | v59 << 43
+					| v60 << 60;
+			data[j + 16] = v60 >>> 4 | v61 << 13 | v62 << 30 | v63 << 47;
+		}
+	}
+
+	private static void decode18(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 18, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFL;
+			dest[off + 1] = w0 >>> 18 & 0x3FFFFL;
+			dest[off + 2] = w0 >>> 36 & 0x3FFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 3] = (w0 >>> 54 | w1 << 10) & 0x3FFFFL;
+			dest[off + 4] = w1 >>> 8 & 0x3FFFFL;
+			dest[off + 5] = w1 >>> 26 & 0x3FFFFL;
+			dest[off + 6] = w1 >>> 44 & 0x3FFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 7] = (w1 >>> 62 | w2 << 2) & 0x3FFFFL;
+			dest[off + 8] = w2 >>> 16 & 0x3FFFFL;
+			dest[off + 9] = w2 >>> 34 & 0x3FFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 10] = (w2 >>> 52 | w3 << 12) & 0x3FFFFL;
+			dest[off + 11] = w3 >>> 6 & 0x3FFFFL;
+			dest[off + 12] = w3 >>> 24 & 0x3FFFFL;
+			dest[off + 13] = w3 >>> 42 & 0x3FFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 14] = (w3 >>> 60 | w4 << 4) & 0x3FFFFL;
+			dest[off + 15] = w4 >>> 14 & 0x3FFFFL;
+			dest[off + 16] = w4 >>> 32 & 0x3FFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 17] = (w4 >>> 50 | w5 << 14) & 0x3FFFFL;
+			dest[off + 18] = w5 >>> 4 & 0x3FFFFL;
+			dest[off + 19] = w5 >>> 22 & 0x3FFFFL;
+			dest[off + 20] = w5 >>> 40 & 0x3FFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 21] = (w5 >>> 58 | w6 << 6) & 0x3FFFFL;
+			dest[off + 22] = w6 >>> 12 & 0x3FFFFL;
+			dest[off + 23] = w6 >>> 30 & 0x3FFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 24] = (w6 >>> 48 | w7 << 16) & 0x3FFFFL;
+			dest[off + 25] = w7 >>> 2 & 0x3FFFFL;
+			dest[off + 26] = w7 >>> 20 & 0x3FFFFL;
+			dest[off + 27] = w7 >>> 38 & 0x3FFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 28] = (w7 >>> 56 | w8 << 8) & 0x3FFFFL;
+			dest[off + 29] = w8 >>> 10 & 0x3FFFFL;
+			dest[off + 30] = w8 >>> 28 & 0x3FFFFL;
+			dest[off + 31] = w8 >>> 46;
+			final long w9 = data[j + 9];
+			dest[off + 32] = w9 & 0x3FFFFL;
+			dest[off + 33] = w9 >>> 18 & 0x3FFFFL;
+			dest[off + 34] = w9 >>> 36 & 0x3FFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 35] = (w9 >>> 54 | w10 << 10) & 0x3FFFFL;
+			dest[off + 36] = w10 >>> 8 & 0x3FFFFL;
+			dest[off + 37] = w10 >>> 26 & 0x3FFFFL;
+			dest[off + 38] = w10 >>> 44 & 0x3FFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 39] = (w10 >>> 62 | w11 << 2) & 0x3FFFFL;
+			dest[off + 40] = w11 >>> 16 & 0x3FFFFL;
+			dest[off + 41] = w11 >>> 34 & 0x3FFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 42] = (w11 >>> 52 | w12 << 12) & 0x3FFFFL;
+			dest[off + 43] = w12 >>> 6 & 0x3FFFFL;
+			dest[off + 44] = w12 >>> 24 & 0x3FFFFL;
+			dest[off + 45] = w12 >>> 42 & 0x3FFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 46] = (w12 >>> 60 | w13 << 4) & 0x3FFFFL;
+			dest[off + 47] = w13 >>> 14 & 0x3FFFFL;
+			dest[off + 48] = w13 >>> 32 & 0x3FFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 49] = (w13 >>> 50 | w14 << 14) & 0x3FFFFL;
+			dest[off + 50] = w14 >>> 4 & 0x3FFFFL;
+			dest[off + 51] = w14 >>> 22 & 0x3FFFFL;
+			dest[off + 52] = w14 >>> 40 & 0x3FFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 53] = (w14 >>> 58 | w15 << 6) & 0x3FFFFL;
+			dest[off + 54] = w15 >>> 12 & 0x3FFFFL;
+			dest[off + 55] = w15 >>> 30 & 0x3FFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 56] = (w15 >>> 48 | w16 << 16) & 0x3FFFFL;
+			dest[off + 57] = w16 >>> 2 & 0x3FFFFL;
+			dest[off + 58] = w16 >>> 20 & 0x3FFFFL;
+			dest[off + 59] = w16 >>> 38 & 0x3FFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 60] = (w16 >>> 56 | w17 << 8) & 0x3FFFFL;
+			dest[off + 61] = w17 >>> 10 & 0x3FFFFL;
+			dest[off + 62] = w17 >>> 28 & 0x3FFFFL;
+			dest[off + 63] = w17 >>> 46;
+		}
+	}
+
+	private static void encode18(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 18) {
+			final long v0 = src[off] & 0x3FFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFL;
+			data[j] = v0 | v1 << 18 | v2 << 36 | v3 << 54;
+			data[j + 1] = v3 >>> 10 | v4 << 8 | v5 << 26 | v6 << 44 | v7 << 62;
+			data[j + 2] = v7 >>> 2 | v8 << 16 | v9 << 34 | v10 << 52;
+			data[j + 3] = v10 >>> 12 | v11 << 6 | v12 << 24 | v13 << 42
+					| v14 << 60;
+			data[j + 4] = v14 >>> 4 | v15 << 14 | v16 << 32 | v17 << 50;
+			data[j + 5] = v17 >>> 14 | v18 << 4 | v19 << 22 | v20 << 40
+					| v21 << 58;
+			data[j + 6] = v21 >>> 6 | v22 << 12 | v23 << 30 | v24 << 48;
+			data[j + 7] = v24 >>> 16 | v25 << 2 | v26 << 20 | v27 << 38
+					| v28 << 56;
+			data[j + 8] = v28 >>> 8 | v29 << 10 | v30 << 28 | v31 << 46;
+			data[j + 9] = v32 | v33 << 18 | v34 << 36 | v35 << 54;
+			data[j + 10] = v35 >>> 10 | v36 << 8 | v37 << 26 | v38 << 44
+					| v39 << 62;
+			data[j + 11] = v39 >>> 2 | v40 << 16 | v41 << 34 | v42 << 52;
+			data[j + 12] = v42 >>> 12 | v43 << 6 | v44 << 24 | v45 << 42
+					| v46 << 60;
+			data[j + 13] = v46 >>> 4 | v47 << 14 | v48 << 32 | v49 << 50;
+			data[j + 14] = v49 >>> 14 | v50 << 4 | v51 << 22 | v52 << 40
+					| v53 << 58;
+			data[j + 15] = v53 >>> 6 | v54 << 12 | v55 << 30 | v56 << 48;
+			data[j + 16] = v56 >>> 16 | v57 << 2 | v58 << 20 | v59 << 38
+					| v60 << 56;
+			data[j + 17] = v60 >>> 8 | v61 << 10 | v62 << 28 | v63 << 46;
+		}
+	}
+
+	private static void decode19(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 19, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFL;
+			dest[off + 1] = w0 >>> 19 & 0x7FFFFL;
+			dest[off + 2] = w0 >>> 38 & 0x7FFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 3] = (w0 >>> 57 | w1 << 7) & 0x7FFFFL;
+			dest[off + 4] = w1 >>> 12 & 0x7FFFFL;
+			dest[off + 5] = w1 >>> 31 & 0x7FFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 6] = (w1 >>> 50 | w2 << 14) & 0x7FFFFL;
+			dest[off + 7] = w2 >>> 5 & 0x7FFFFL;
+			dest[off + 8] = w2 >>> 24 & 0x7FFFFL;
+			dest[off + 9] = w2 >>> 43 & 0x7FFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 10] = (w2 >>> 62 | w3 << 2) & 0x7FFFFL;
+			dest[off + 11] = w3 >>> 17 & 0x7FFFFL;
+			dest[off + 12] = w3 >>> 36 & 0x7FFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 13] = (w3 >>> 55 | w4 << 9) & 0x7FFFFL;
+			dest[off + 14] = w4 >>> 10 & 0x7FFFFL;
+			dest[off + 15] = w4 >>> 29 & 0x7FFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 16] = (w4 >>> 48 | w5 << 16) & 0x7FFFFL;
+			dest[off + 17] = w5 >>> 3 & 0x7FFFFL;
+			dest[off + 18] = w5 >>> 22 & 0x7FFFFL;
+			dest[off + 19] = w5 >>> 41 & 0x7FFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 20] = (w5 >>> 60 | w6 << 4) & 0x7FFFFL;
+			dest[off + 21] = w6 >>> 15 & 0x7FFFFL;
+			dest[off + 22] = w6 >>> 34 & 0x7FFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 23] = (w6 >>> 53 | w7 << 11) & 0x7FFFFL;
+			dest[off + 24] = w7 >>> 8 & 0x7FFFFL;
+			dest[off + 25] = w7 >>> 27 & 0x7FFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 26] = (w7 >>> 46 | w8 << 18) & 0x7FFFFL;
+			dest[off + 27] = w8 >>> 1 & 0x7FFFFL;
+			dest[off + 28] = w8 >>> 20 & 0x7FFFFL;
+			dest[off + 29] = w8 >>> 39 & 0x7FFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 30] = (w8 >>> 58 | w9 << 6) & 0x7FFFFL;
+			dest[off + 31] = w9 >>> 13 & 0x7FFFFL;
+			dest[off + 32] = w9 >>> 32 & 0x7FFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 33] = (w9 >>> 51 | w10 << 13) & 0x7FFFFL;
+			dest[off + 34] = w10 >>> 6 & 0x7FFFFL;
+			dest[off + 35] = w10 >>> 25 & 0x7FFFFL;
+			dest[off + 36] = w10 >>> 44 & 0x7FFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 37] = (w10 >>> 63 | w11 << 1) & 0x7FFFFL;
+			dest[off + 38] = w11 >>> 18 & 0x7FFFFL;
+			dest[off + 39] = w11 >>> 37 & 0x7FFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 40] = (w11 >>> 56 | w12 << 8) & 0x7FFFFL;
+			dest[off + 41] = w12 >>> 11 & 0x7FFFFL;
+			dest[off + 42] = w12 >>> 30 & 0x7FFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 43] = (w12 >>> 49 | w13 << 15) & 0x7FFFFL;
+			dest[off + 44] = w13 >>> 4 & 0x7FFFFL;
+			dest[off + 45] = w13 >>> 23 & 0x7FFFFL;
+			dest[off + 46] = w13 >>> 42 & 0x7FFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 47] = (w13 >>> 61 | w14 << 3) & 0x7FFFFL;
+			dest[off + 48] = w14 >>> 16 & 0x7FFFFL;
+			dest[off + 49] = w14 >>> 35 & 0x7FFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 50] = (w14 >>> 54 | w15 << 10) & 0x7FFFFL;
+			dest[off + 51] = w15 >>> 9 & 0x7FFFFL;
+			dest[off + 52] = w15 >>> 28 & 0x7FFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 53] = (w15 >>> 47 | w16 << 17) & 0x7FFFFL;
+			dest[off + 54] = w16 >>> 2 & 0x7FFFFL;
+			dest[off + 55] = w16 >>> 21 & 0x7FFFFL;
+			dest[off + 56] = w16 >>> 40 & 0x7FFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 57] = (w16 >>> 59 | w17 << 5) & 0x7FFFFL;
+			dest[off + 58] = w17 >>> 14 & 0x7FFFFL;
+			dest[off + 59] = w17 >>> 33 & 0x7FFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 60] = (w17 >>> 52 | w18 << 12) & 0x7FFFFL;
+			dest[off + 61] = w18 >>> 7 & 0x7FFFFL;
+			dest[off + 62] = w18 >>> 26 & 0x7FFFFL;
+			dest[off + 63] = w18 >>> 45;
+		}
+	}
+
+	private static void encode19(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 19) {
+			final long v0 = src[off] & 0x7FFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFL;
+			data[j] = v0 | v1 << 19 | v2 << 38 | v3 << 57;
+			data[j + 1] = v3 >>> 7 | v4 << 12 | v5 << 31 | v6 << 50;
+			data[j + 2] = v6 >>> 14 | v7 << 5 | v8 << 24 | v9 << 43 | v10 << 62;
+			data[j + 3] = v10 >>> 2 | v11 << 17 | v12 << 36 | v13 << 55;
+			data[j + 4] = v13 >>> 9 | v14 << 10 | v15 << 29 | v16 << 48;
+			data[j + 5] = v16 >>> 16 | v17 << 3 | v18 << 22 | v19 << 41
+					| v20 << 60;
+			data[j + 6] = v20 >>> 4 | v21 << 15 | v22 << 34 | v23 << 53;
+			data[j + 7] = v23 >>> 11 | v24 << 8 | v25 << 27 | v26 << 46;
+			data[j + 8] = v26 >>> 18 | v27 << 1 | v28 << 20 | v29 << 39
+					| v30 << 58;
+			data[j + 9] = v30 >>> 6 | v31 << 13 | v32 << 32 | v33 << 51;
+			data[j + 10] = v33 >>> 13 | v34 << 6 | v35 << 25 | v36 << 44
+					| v37 << 63;
+			data[j + 11] = v37 >>> 1 | v38 << 18 | v39 << 37 | v40 << 56;
+			data[j + 12] = v40 >>> 8 | v41 << 11 | v42 << 30 | v43 << 49;
+			data[j + 13] = v43 >>> 15 | v44 << 4 | v45 << 23 | v46 << 42
+					| v47 << 61;
+			data[j + 14] = v47 >>> 3 | v48 << 16 | v49 << 35 | v50 << 54;
+			data[j + 15] = v50 >>> 10 | v51 << 9 | v52 << 28 | v53 << 47;
+			data[j + 16] = v53 >>> 17 | v54 << 2 | v55 << 21 | v56 << 40
+					| v57 << 59;
+			data[j + 17] = v57 >>> 5 | v58 << 14 | v59 << 33 | v60 << 52;
+			data[j + 18] = v60 >>> 12 | v61 << 7 | v62 << 26 | v63 << 45;
+		}
+	}
+
+	private static void decode20(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 20, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFL;
+			dest[off + 1] = w0 >>> 20 & 0xFFFFFL;
+			dest[off + 2] = w0 >>> 40 & 0xFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 3] = (w0 >>> 60 | w1 << 4) & 0xFFFFFL;
+			dest[off + 4] = w1 >>> 16 & 0xFFFFFL;
+			dest[off + 5] = w1 >>> 36 & 0xFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 6] = (w1 >>> 56 | w2 << 8) & 0xFFFFFL;
+			dest[off + 7] = w2 >>> 12 & 0xFFFFFL;
+			dest[off + 8] = w2 >>> 32 & 0xFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 9] = (w2 >>> 52 | w3 << 12) & 0xFFFFFL;
+			dest[off + 10] = w3 >>> 8 & 0xFFFFFL;
+			dest[off + 11] = w3 >>> 28 & 0xFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 12] = (w3 >>> 48 | w4 << 16) & 0xFFFFFL;
+			dest[off + 13] = w4 >>> 4 & 0xFFFFFL;
+			dest[off + 14] = w4 >>> 24 & 0xFFFFFL;
+			dest[off + 15] = w4 >>> 44;
+			final long w5 = data[j + 5];
+			dest[off + 16] = w5 & 0xFFFFFL;
+			dest[off + 17] = w5 >>> 20 & 0xFFFFFL;
+			dest[off + 18] = w5 >>> 40 & 0xFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 19] = (w5 >>> 60 | w6 << 4) & 0xFFFFFL;
+			dest[off + 20] = w6 >>> 16 & 0xFFFFFL;
+			dest[off + 21] = w6 >>> 36 & 0xFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 22] = (w6 >>> 56 | w7 << 8) & 0xFFFFFL;
+			dest[off + 23] = w7 >>> 12 & 0xFFFFFL;
+			dest[off + 24] = w7 >>> 32 & 0xFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 25] = (w7 >>> 52 | w8 << 12) & 0xFFFFFL;
+			dest[off + 26] = w8 >>> 8 & 0xFFFFFL;
+			dest[off + 27] = w8 >>> 28 & 0xFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 28] = (w8 >>> 48 | w9 << 16) & 0xFFFFFL;
+			dest[off + 29] = w9 >>> 4 & 0xFFFFFL;
+			dest[off + 30] = w9 >>> 24 & 0xFFFFFL;
+			dest[off + 31] = w9 >>> 44;
+			final long w10 = data[j + 10];
+			dest[off + 32] = w10 & 0xFFFFFL;
+			dest[off + 33] = w10 >>> 20 & 0xFFFFFL;
+			dest[off + 34] = w10 >>> 40 & 0xFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 35] = (w10 >>> 60 | w11 << 4) & 0xFFFFFL;
+			dest[off + 36] = w11 >>> 16 & 0xFFFFFL;
+			dest[off + 37] = w11 >>> 36 & 0xFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 38] = (w11 >>> 56 | w12 << 8) & 0xFFFFFL;
+			dest[off + 39] = w12 >>> 12 & 0xFFFFFL;
+			dest[off + 40] = w12 >>> 32 & 0xFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 41] = (w12 >>> 52 | w13 << 12) & 0xFFFFFL;
+			dest[off + 42] = w13 >>> 8 & 0xFFFFFL;
+			dest[off + 43] = w13 >>> 28 & 0xFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 44] = (w13 >>> 48 | w14 << 16) & 0xFFFFFL;
+			dest[off + 45] = w14 >>> 4 & 0xFFFFFL;
+			dest[off + 46] = w14 >>> 24 & 0xFFFFFL;
+			dest[off + 47] = w14 >>> 44;
+			final long w15 = data[j + 15];
+			dest[off + 48] = w15 & 0xFFFFFL;
+			dest[off + 49] = w15 >>> 20 & 0xFFFFFL;
+			dest[off + 50] = w15 >>> 40 & 0xFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 51] = (w15 >>> 60 | w16 << 4) & 0xFFFFFL;
+			dest[off + 52] = w16 >>> 16 & 0xFFFFFL;
+			dest[off + 53] = w16 >>> 36 & 0xFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 54] = (w16 >>> 56 | w17 << 8) & 0xFFFFFL;
+			dest[off + 55] = w17 >>> 12 & 0xFFFFFL;
+			dest[off + 56] = w17 >>> 32 & 0xFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 57] = (w17 >>> 52 | w18 << 12) & 0xFFFFFL;
+			dest[off + 58] = w18 >>> 8 & 0xFFFFFL;
+			dest[off + 59] = w18 >>> 28 & 0xFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 60] = (w18 >>> 48 | w19 << 16) & 0xFFFFFL;
+			dest[off + 61] = w19 >>> 4 & 0xFFFFFL;
+			dest[off + 62] = w19 >>> 24 & 0xFFFFFL;
+			dest[off + 63] = w19 >>> 44;
+		}
+	}
+
+	private static void encode20(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 20) {
+			final long v0 = src[off] & 0xFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFL;
+			data[j] = v0 | v1 << 20 | v2 << 40 | v3 << 60;
+			data[j + 1] = v3 >>> 4 | v4 << 16 | v5 << 36 | v6 << 56;
+			data[j + 2] = v6 >>> 8 | v7 << 12 | v8 << 32 | v9 << 52;
+			data[j + 3] = v9 >>> 12 | v10 << 8 | v11 << 28 | v12 << 48;
+			data[j + 4] = v12 >>> 16 | v13 << 4 | v14 << 24 | v15 << 44;
+			data[j + 5] = v16 | v17 << 20 | v18 << 40 | v19 << 60;
+			data[j + 6] = v19 >>> 4 | v20 << 16 | v21 << 36 | v22 << 56;
+			data[j + 7] = v22 >>> 8 | v23 << 12 | v24 << 32 | v25 << 52;
+			data[j + 8] = v25 >>> 12 | v26 << 8 | v27 << 28 | v28 << 48;
+			data[j + 9] = v28 >>> 16 | v29 << 4 | v30 << 24 | v31 << 44;
+			data[j + 10] = v32 | v33 << 20 | v34 << 40 | v35 << 60;
+			data[j + 11] = v35 >>> 4 | v36 << 16 | v37 << 36 | v38 << 56;
+			data[j + 12] = v38 >>> 8 | v39 << 12 | v40 << 32 | v41 << 52;
+			data[j + 13] = v41 >>> 12 | v42 << 8 | v43 << 28 | v44 << 48;
+			data[j + 14] = v44 >>> 16 | v45 << 4 | v46 << 24 | v47 << 44;
+			data[j + 15] = v48 | v49 << 20 | v50 << 40 | v51 << 60;
+			data[j + 16] = v51 >>> 4 | v52 << 16 | v53 << 36 | v54 << 56;
+			data[j + 17] = v54 >>> 8 | v55 << 12 | v56 << 32 | v57 << 52;
+			data[j + 18] = v57 >>> 12 | v58 << 8 | v59 << 28 | v60 << 48;
+			data[j + 19] = v60 >>> 16 | v61 << 4 | v62 << 24 | v63 << 44;
+		}
+	}
+
+	private static void decode21(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 21, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFL;
+			dest[off + 1] = w0 >>> 21 & 0x1FFFFFL;
+			dest[off + 2] = w0 >>> 42 & 0x1FFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 3] = (w0 >>> 63 | w1 << 1) & 0x1FFFFFL;
+			dest[off + 4] = w1 >>> 20 & 0x1FFFFFL;
+			dest[off + 5] = w1 >>> 41 & 0x1FFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 6] = (w1 >>> 62 | w2 << 2) & 0x1FFFFFL;
+			dest[off + 7] = w2 >>> 19 & 0x1FFFFFL;
+			dest[off + 8] = w2 >>> 40 & 0x1FFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 9] = (w2 >>> 61 | w3 << 3) & 0x1FFFFFL;
+			dest[off + 10] = w3 >>> 18 & 0x1FFFFFL;
+			dest[off + 11] = w3 >>> 39 & 0x1FFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 12] = (w3 >>> 60 | w4 << 4) & 0x1FFFFFL;
+			dest[off + 13] = w4 >>> 17 & 0x1FFFFFL;
+			dest[off + 14] = w4 >>> 38 & 0x1FFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 15] = (w4 >>> 59 | w5 << 5) & 0x1FFFFFL;
+			dest[off + 16] = w5 >>> 16 & 0x1FFFFFL;
+			dest[off + 17] = w5 >>> 37 & 0x1FFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 18] = (w5 >>> 58 | w6 << 6) & 0x1FFFFFL;
+			dest[off + 19] = w6 >>> 15 & 0x1FFFFFL;
+			dest[off + 20] = w6 >>> 36 & 0x1FFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 21] = (w6 >>> 57 | w7 << 7) & 0x1FFFFFL;
+			dest[off + 22] = w7 >>> 14 & 0x1FFFFFL;
+			dest[off + 23] = w7 >>> 35 & 0x1FFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 24] = (w7 >>> 56 | w8 << 8) & 0x1FFFFFL;
+			dest[off + 25] = w8 >>> 13 & 0x1FFFFFL;
+			dest[off + 26] = w8 >>> 34 & 0x1FFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 27] = (w8 >>> 55 | w9 << 9) & 0x1FFFFFL;
+			dest[off + 28] = w9 >>> 12 & 0x1FFFFFL;
+			dest[off + 29] = w9 >>> 33 & 0x1FFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 30] = (w9 >>> 54 | w10 << 10) & 0x1FFFFFL;
+			dest[off + 31] = w10 >>> 11 & 0x1FFFFFL;
+			dest[off + 32] = w10 >>> 32 & 0x1FFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 33] = (w10 >>> 53 | w11 << 11) & 0x1FFFFFL;
+			dest[off + 34] = w11 >>> 10 & 0x1FFFFFL;
+			dest[off + 35] = w11 >>> 31 & 0x1FFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 36] = (w11 >>> 52 | w12 << 12) & 0x1FFFFFL;
+			dest[off + 37] = w12 >>> 9 & 0x1FFFFFL;
+			dest[off + 38] = w12 >>> 30 & 0x1FFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 39] = (w12 >>> 51 | w13 << 13) & 0x1FFFFFL;
+			dest[off + 40] = w13 >>> 8 & 0x1FFFFFL;
+			dest[off + 41] = w13 >>> 29 & 0x1FFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 42] = (w13 >>> 50 | w14 << 14) & 0x1FFFFFL;
+			dest[off + 43] = w14 >>> 7 & 0x1FFFFFL;
+			dest[off + 44] = w14 >>> 28 & 0x1FFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 45] = (w14 >>> 49 | w15 << 15) & 0x1FFFFFL;
+			dest[off + 46] = w15 >>> 6 & 0x1FFFFFL;
+			dest[off + 47] = w15 >>> 27 & 0x1FFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 48] = (w15 >>> 48 | w16 << 16) & 0x1FFFFFL;
+			dest[off + 49] = w16 >>> 5 & 0x1FFFFFL;
+			dest[off + 50] = w16 >>> 26 & 0x1FFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 51] = (w16 >>> 47 | w17 << 17) & 0x1FFFFFL;
+			dest[off + 52] = w17 >>> 4 & 0x1FFFFFL;
+			dest[off + 53] = w17 >>> 25 & 0x1FFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 54] = (w17 >>> 46 | w18 << 18) & 0x1FFFFFL;
+			dest[off + 55] = w18 >>> 3 & 0x1FFFFFL;
+			dest[off + 56] = w18 >>> 24 & 0x1FFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 57] = (w18 >>> 45 | w19 << 19) & 0x1FFFFFL;
+			dest[off + 58] = w19 >>> 2 & 0x1FFFFFL;
+			dest[off + 59] = w19 >>> 23 & 0x1FFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 60] = (w19 >>> 44 | w20 << 20) & 0x1FFFFFL;
+			dest[off + 61] = w20 >>> 1 & 0x1FFFFFL;
+			dest[off + 62] = w20 >>> 22 & 0x1FFFFFL;
+			dest[off + 63] = w20 >>> 43;
+		}
+	}
+
+	private static void encode21(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 21) {
+			final long v0 = src[off] & 0x1FFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFL;
+			data[j] = v0 | v1 << 21 | v2 << 42 | v3 << 63;
+			data[j + 1] = v3 >>> 1 | v4 << 20 | v5 << 41 | v6 << 62;
+			data[j + 2] = v6 >>> 2 | v7 << 19 | v8 << 40 | v9 << 61;
+			data[j + 3] = v9 >>> 3 | v10 << 18 | v11 << 39 | v12 << 60;
+			data[j + 4] = v12 >>> 4 | v13 << 17 | v14 << 38 | v15 << 59;
+			data[j + 5] = v15 >>> 5 | v16 << 16 | v17 << 37 | v18 << 58;
+			data[j + 6] = v18 >>> 6 | v19 << 15 | v20 << 36 | v21 << 57;
+			data[j + 7] = v21 >>> 7 | v22 << 14 | v23 << 35 | v24 << 56;
+			data[j + 8] = v24 >>> 8 | v25 << 13 | v26 << 34 | v27 << 55;
+			data[j + 9] = v27 >>> 9 | v28 << 12 | v29 << 33 | v30 << 54;
+			data[j + 10] = v30 >>> 10 | v31 << 11 | v32 << 32 | v33 << 53;
+			data[j + 11] = v33 >>> 11 | v34 << 10 | v35 << 31 | v36 << 52;
+			data[j + 12] = v36 >>> 12 | v37 << 9 | v38 << 30 | v39 << 51;
+			data[j + 13] = v39 >>> 13 | v40 << 8 | v41 << 29 | v42 << 50;
+			data[j + 14] = v42 >>> 14 | v43 << 7 | v44 << 28 | v45 << 49;
+			data[j + 15] = v45 >>> 15 | v46 << 6 | v47 << 27 | v48 << 48;
+			data[j + 16] = v48 >>> 16 | v49 << 5 | v50 << 26 | v51 << 47;
+			data[j + 17] = v51 >>> 17 | v52 << 4 | v53 << 25 | v54 << 46;
+			data[j + 18] = v54 >>> 18 | v55 << 3 | v56 << 24 | v57 << 45;
+			data[j + 19] = v57 >>> 19 | v58 << 2 | v59 << 23 | v60 << 44;
+			data[j + 20] = v60 >>> 20 | v61 << 1 | v62 << 22 | v63 << 43;
+		}
+	}
+
+	private static void decode22(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 22, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFL;
+			dest[off + 1] = w0 >>> 22 & 0x3FFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 2] = (w0 >>> 44 | w1 << 20) & 0x3FFFFFL;
+			dest[off + 3] = w1 >>> 2 & 0x3FFFFFL;
+			dest[off + 4] = w1 >>> 24 & 0x3FFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 5] = (w1 >>> 46 | w2 << 18) & 0x3FFFFFL;
+			dest[off + 6] = w2 >>> 4 & 0x3FFFFFL;
+			dest[off + 7] = w2 >>> 26 & 0x3FFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 8] = (w2 >>> 48 | w3 << 16) & 0x3FFFFFL;
+			dest[off + 9] = w3 >>> 6 & 0x3FFFFFL;
+			dest[off + 10] = w3 >>> 28 & 0x3FFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 11] = (w3 >>> 50 | w4 << 14) & 0x3FFFFFL;
+			dest[off + 12] = w4 >>> 8 & 0x3FFFFFL;
+			dest[off + 13] = w4 >>> 30 & 0x3FFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 14] = (w4 >>> 52 | w5 << 12) & 0x3FFFFFL;
+			dest[off + 15] = w5 >>> 10 & 0x3FFFFFL;
+			dest[off + 16] = w5 >>> 32 & 0x3FFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 17] = (w5 >>> 54 | w6 << 10) & 0x3FFFFFL;
+			dest[off + 18] = w6 >>> 12 & 0x3FFFFFL;
+			dest[off + 19] = w6 >>> 34 & 0x3FFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 20] = (w6 >>> 56 | w7 << 8) & 0x3FFFFFL;
+			dest[off + 21] = w7 >>> 14 & 0x3FFFFFL;
+			dest[off + 22] = w7 >>> 36 & 0x3FFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 23] = (w7 >>> 58 | w8 << 6) & 0x3FFFFFL;
+			dest[off + 24] = w8 >>> 16 & 0x3FFFFFL;
+			dest[off + 25] = w8 >>> 38 & 0x3FFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 26] = (w8 >>> 60 | w9 << 4) & 0x3FFFFFL;
+			dest[off + 27] = w9 >>> 18 & 0x3FFFFFL;
+			dest[off + 28] = w9 >>> 40 & 0x3FFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 29] = (w9 >>> 62 | w10 << 2) & 0x3FFFFFL;
+			dest[off + 30] = w10 >>> 20 & 0x3FFFFFL;
+			dest[off + 31] = w10 >>> 42;
+			final long w11 = data[j + 11];
+			dest[off + 32] = w11 & 0x3FFFFFL;
+			dest[off + 33] = w11 >>> 22 & 0x3FFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 34] = (w11 >>> 44 | w12 << 20) & 0x3FFFFFL;
+			dest[off + 35] = w12 >>> 2 & 0x3FFFFFL;
+			dest[off + 36] = w12 >>> 24 & 0x3FFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 37] = (w12 >>> 46 | w13 << 18) & 0x3FFFFFL;
+			dest[off + 38] = w13 >>> 4 & 0x3FFFFFL;
+			dest[off + 39] = w13 >>> 26 & 0x3FFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 40] = (w13 >>> 48 | w14 << 16) & 0x3FFFFFL;
+			dest[off + 41] = w14 >>> 6 & 0x3FFFFFL;
+			dest[off + 42] = w14 >>> 28 & 0x3FFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 43] = (w14 >>> 50 | w15 << 14) & 0x3FFFFFL;
+			dest[off + 44] = w15 >>> 8 & 0x3FFFFFL;
+			dest[off + 45] = w15 >>> 30 & 0x3FFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 46] = (w15 >>> 52 | w16 << 12) & 0x3FFFFFL;
+			dest[off + 47] = w16 >>> 10 & 0x3FFFFFL;
+			dest[off + 48] = w16 >>> 32 & 0x3FFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 49] = (w16 >>> 54 | w17 << 10) & 0x3FFFFFL;
+			dest[off + 50] = w17 >>> 12 & 0x3FFFFFL;
+			dest[off + 51] = w17 >>> 34 & 0x3FFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 52] = (w17 >>> 56 | w18 << 8) & 0x3FFFFFL;
+			dest[off + 53] = w18 >>> 14 & 0x3FFFFFL;
+			dest[off + 54] = w18 >>> 36 & 0x3FFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 55] = (w18 >>> 58 | w19 << 6) & 0x3FFFFFL;
+			dest[off + 56] = w19 >>> 16 & 0x3FFFFFL;
+			dest[off + 57] = w19 >>> 38 & 0x3FFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 58] = (w19 >>> 60 | w20 << 4) & 0x3FFFFFL;
+			dest[off + 59] = w20 >>> 18 & 0x3FFFFFL;
+			dest[off + 60] = w20 >>> 40 & 0x3FFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 61] = (w20 >>> 62 | w21 << 2) & 0x3FFFFFL;
+			dest[off + 62] = w21 >>> 20 & 0x3FFFFFL;
+			dest[off + 63] = w21 >>> 42;
+		}
+	}
+
+	private static void encode22(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 22) {
+			final long v0 = src[off] & 0x3FFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFL;
+			data[j] = v0 | v1 << 22 | v2 << 44;
+			data[j + 1] = v2 >>> 20 | v3 << 2 | v4 << 24 | v5 << 46;
+			data[j + 2] = v5 >>> 18 | v6 << 4 | v7 << 26 | v8 << 48;
+			data[j + 3] = v8 >>> 16 | v9 << 6 | v10 << 28 | v11 << 50;
+			data[j + 4] = v11 >>> 14 | v12 << 8 | v13 << 30 | v14 << 52;
+			data[j + 5] = v14 >>> 12 | v15 << 10 | v16 << 32 | v17 << 54;
+			data[j + 6] = v17 >>> 10 | v18 << 12 | v19 << 34 | v20 << 56;
+			data[j + 7] = v20 >>> 8 | v21 << 14 | v22 << 36 | v23 << 58;
+			data[j + 8] = v23 >>> 6 | v24 << 16 | v25 << 38 | v26 << 60;
+			data[j + 9] = v26 >>> 4 | v27 << 18 | v28 << 40 | v29 << 62;
+			data[j + 10] = v29 >>> 2 | v30 << 20 | v31 << 42;
+			data[j + 11] = v32 | v33 << 22 | v34 << 44;
+			data[j + 12] = v34 >>> 20 | v35 << 2 | v36 << 24 | v37 << 46;
+			data[j + 13] = v37 >>> 18 | v38 << 4 | v39 << 26 | v40 << 48;
+			data[j + 14] = v40 >>> 16 | v41 << 6 | v42 << 28 | v43 << 50;
+			data[j + 15] = v43 >>> 14 | v44 << 8 | v45 << 30 | v46 << 52;
+			data[j + 16] = v46 >>> 12 | v47 << 10 | v48 << 32 | v49 << 54;
+			data[j + 17] = v49 >>> 10 | v50 << 12 | v51 << 34 | v52 << 56;
+			data[j + 18] = v52 >>> 8 | v53 << 14 | v54 << 36 | v55 << 58;
+			data[j + 19] = v55 >>> 6 | v56 << 16 | v57 << 38 | v58 << 60;
+			data[j + 20] = v58 >>> 4 | v59 << 18 | v60 << 40 | v61 << 62;
+			data[j + 21] = v61 >>> 2 | v62 << 20 | v63 << 42;
+		}
+	}
+
+	private static void decode23(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 23, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFL;
+			dest[off + 1] = w0 >>> 23 & 0x7FFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 2] = (w0 >>> 46 | w1 << 18) & 0x7FFFFFL;
+			dest[off + 3] = w1 >>> 5 & 0x7FFFFFL;
+			dest[off + 4] = w1 >>> 28 & 0x7FFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 5] = (w1 >>> 51 | w2 << 13) & 0x7FFFFFL;
+			dest[off + 6] = w2 >>> 10 & 0x7FFFFFL;
+			dest[off + 7] = w2 >>> 33 & 0x7FFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 8] = (w2 >>> 56 | w3 << 8) & 0x7FFFFFL;
+			dest[off + 9] = w3 >>> 15 & 0x7FFFFFL;
+			dest[off + 10] = w3 >>> 38 & 0x7FFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 11] = (w3 >>> 61 | w4 << 3) & 0x7FFFFFL;
+			dest[off + 12] = w4 >>> 20 & 0x7FFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 13] = (w4 >>> 43 | w5 << 21) & 0x7FFFFFL;
+			dest[off + 14] = w5 >>> 2 & 0x7FFFFFL;
+			dest[off + 15] = w5 >>> 25 & 0x7FFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 16] = (w5 >>> 48 | w6 << 16) & 0x7FFFFFL;
+			dest[off + 17] = w6 >>> 7 & 0x7FFFFFL;
+			dest[off + 18] = w6 >>> 30 & 0x7FFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 19] = (w6 >>> 53 | w7 << 11) & 0x7FFFFFL;
+			dest[off + 20] = w7 >>> 12 & 0x7FFFFFL;
+			dest[off + 21] = w7 >>> 35 & 0x7FFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 22] = (w7 >>> 58 | w8 << 6) & 0x7FFFFFL;
+			dest[off + 23] = w8 >>> 17 & 0x7FFFFFL;
+			dest[off + 24] = w8 >>> 40 & 0x7FFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 25] = (w8 >>> 63 | w9 << 1) & 0x7FFFFFL;
+			dest[off + 26] = w9 >>> 22 & 0x7FFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 27] = (w9 >>> 45 | w10 << 19) & 0x7FFFFFL;
+			dest[off + 28] = w10 >>> 4 & 0x7FFFFFL;
+			dest[off + 29] = w10 >>> 27 & 0x7FFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 30] = (w10 >>> 50 | w11 << 14) & 0x7FFFFFL;
+			dest[off + 31] = w11 >>> 9 & 0x7FFFFFL;
+			dest[off + 32] = w11 >>> 32 & 0x7FFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 33] = (w11 >>> 55 | w12 << 9) & 0x7FFFFFL;
+			dest[off + 34] = w12 >>> 14 & 0x7FFFFFL;
+			dest[off + 35] = w12 >>> 37 & 0x7FFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 36] = (w12 >>> 60 | w13 << 4) & 0x7FFFFFL;
+			dest[off + 37] = w13 >>> 19 & 0x7FFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 38] = (w13 >>> 42 | w14 << 22) & 0x7FFFFFL;
+			dest[off + 39] = w14 >>> 1 & 0x7FFFFFL;
+			dest[off + 40] = w14 >>> 24 & 0x7FFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 41] = (w14 >>> 47 | w15 << 17) & 0x7FFFFFL;
+			dest[off + 42] = w15 >>> 6 & 0x7FFFFFL;
+			dest[off + 43] = w15 >>> 29 & 0x7FFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 44] = (w15 >>> 52 | w16 << 12) & 0x7FFFFFL;
+			dest[off + 45] = w16 >>> 11 & 0x7FFFFFL;
+			dest[off + 46] = w16 >>> 34 & 0x7FFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 47] = (w16 >>> 57 | w17 << 7) & 0x7FFFFFL;
+			dest[off + 48] = w17 >>> 16 & 0x7FFFFFL;
+			dest[off + 49] = w17 >>> 39 & 0x7FFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 50] = (w17 >>> 62 | w18 << 2) & 0x7FFFFFL;
+			dest[off + 51] = w18 >>> 21 & 0x7FFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 52] = (w18 >>> 44 | w19 << 20) & 0x7FFFFFL;
+			dest[off + 53] = w19 >>> 3 & 0x7FFFFFL;
+			dest[off + 54] = w19 >>> 26 & 0x7FFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 55] = (w19 >>> 49 | w20 << 15) & 0x7FFFFFL;
+			dest[off + 56] = w20 >>> 8 & 0x7FFFFFL;
+			dest[off + 57] = w20 >>> 31 & 0x7FFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 58] = (w20 >>> 54 | w21 << 10) & 0x7FFFFFL;
+			dest[off + 59] = w21 >>> 13 & 0x7FFFFFL;
+			dest[off + 60] = w21 >>> 36 & 0x7FFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 61] = (w21 >>> 59 | w22 << 5) & 0x7FFFFFL;
+			dest[off + 62] = w22 >>> 18 & 0x7FFFFFL;
+			dest[off + 63] = w22 >>> 41;
+		}
+	}
+
+	private static void encode23(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 23) {
+			final long v0 = src[off] & 0x7FFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFL;
+			data[j] = v0 | v1 << 23 | v2 << 46;
+			data[j + 1] = v2 >>> 18 | v3 << 5 | v4 << 28 | v5 << 51;
+			data[j + 2] = v5 >>> 13 | v6 << 10 | v7 << 33 | v8 << 56;
+			data[j + 3] = v8 >>> 8 | v9 << 15 | v10 << 38 | v11 << 61;
+			data[j + 4] = v11 >>> 3 | v12 << 20 | v13 << 43;
+			data[j + 5] = v13 >>> 21 | v14 << 2 | v15 << 25 | v16 << 48;
+			data[j + 6] = v16 >>> 16 | v17 << 7 | v18 << 30 | v19 << 53;
+			data[j + 7] = v19 >>> 11 | v20 << 12 | v21 << 35 | v22 << 58;
+			data[j + 8] = v22 >>> 6 | v23 << 17 | v24 << 40 | v25 << 63;
+			data[j + 9] = v25 >>> 1 | v26 << 22 | v27 << 45;
+			data[j + 10] = v27 >>> 19 | v28 << 4 | v29 << 27 | v30 << 50;
+			data[j + 11] = v30 >>> 14 | v31 << 9 | v32 << 32 | v33 << 55;
+			data[j + 12] = v33 >>> 9 | v34 << 14 | v35 << 37 | v36 << 60;
+			data[j + 13] = v36 >>> 4 | v37 << 19 | v38 << 42;
+			data[j + 14] = v38 >>> 22 | v39 << 1 | v40 << 24 | v41 << 47;
+			data[j + 15] = v41 >>> 17 | v42 << 6 | v43 << 29 | v44 << 52;
+			data[j + 16] = v44 >>> 12 | v45 << 11 | v46 << 34 | v47 << 57;
+			data[j + 17] = v47 >>> 7 | v48 << 16 | v49 << 39 | v50 << 62;
+			data[j + 18] = v50 >>> 2 | v51 << 21 | v52 << 44;
+			data[j + 19] = v52 >>> 20 | v53 << 3 | v54 << 26 | v55 << 49;
+			data[j + 20] = v55 >>> 15 | v56 << 8 | v57 << 31 | v58 << 54;
+			data[j + 21] = v58 >>> 10 | v59 << 13 | v60 << 36 | v61 << 59;
+			data[j + 22] = v61 >>> 5 | v62 << 18 | v63 << 41;
+		}
+	}
+
+	private static void decode24(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 24, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFFL;
+			dest[off + 1] = w0 >>> 24 & 0xFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 2] = (w0 >>> 48 | w1 << 16) & 0xFFFFFFL;
+			dest[off + 3] = w1 >>> 8 & 0xFFFFFFL;
+			dest[off + 4] = w1 >>> 32 & 0xFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 5] = (w1 >>> 56 | w2 << 8) & 0xFFFFFFL;
+			dest[off + 6] = w2 >>> 16 & 0xFFFFFFL;
+			dest[off + 7] = w2 >>> 40;
+			final long w3 = data[j + 3];
+			dest[off + 8] = w3 & 0xFFFFFFL;
+			dest[off + 9] = w3 >>> 24 & 0xFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 10] = (w3 >>> 48 | w4 << 16) & 0xFFFFFFL;
+			dest[off + 11] = w4 >>> 8 & 0xFFFFFFL;
+			dest[off + 12] = w4 >>> 32 & 0xFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 13] = (w4 >>> 56 | w5 << 8) & 0xFFFFFFL;
+			dest[off + 14] = w5 >>> 16 & 0xFFFFFFL;
+			dest[off + 15] = w5 >>> 40;
+			final long w6 = data[j + 6];
+			dest[off + 16] = w6 & 0xFFFFFFL;
+			dest[off + 17] = w6 >>> 24 & 0xFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 18] = (w6 >>> 48 | w7 << 16) & 0xFFFFFFL;
+			dest[off + 19] = w7 >>> 8 & 0xFFFFFFL;
+			dest[off + 20] = w7 >>> 32 & 0xFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 21] = (w7 >>> 56 | w8 << 8) & 0xFFFFFFL;
+			dest[off + 22] = w8 >>> 16 & 0xFFFFFFL;
+			dest[off + 23] = w8 >>> 40;
+			final long w9 = data[j + 9];
+			dest[off + 24] = w9 & 0xFFFFFFL;
+			dest[off + 25] = w9 >>> 24 & 0xFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 26] = (w9 >>> 48 | w10 << 16) & 0xFFFFFFL;
+			dest[off + 27] = w10 >>> 8 & 0xFFFFFFL;
+			dest[off + 28] = w10 >>> 32 & 0xFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 29] = (w10 >>> 56 | w11 << 8) & 0xFFFFFFL;
+			dest[off + 30] = w11 >>> 16 & 0xFFFFFFL;
+			dest[off + 31] = w11 >>> 40;
+			final long w12 = data[j + 12];
+			dest[off + 32] = w12 & 0xFFFFFFL;
+			dest[off + 33] = w12 >>> 24 & 0xFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 34] = (w12 >>> 48 | w13 << 16) & 0xFFFFFFL;
+			dest[off + 35] = w13 >>> 8 & 0xFFFFFFL;
+			dest[off + 36] = w13 >>> 32 & 0xFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 37] = (w13 >>> 56 | w14 << 8) & 0xFFFFFFL;
+			dest[off + 38] = w14 >>> 16 & 0xFFFFFFL;
+			dest[off + 39] = w14 >>> 40;
+			final long w15 = data[j + 15];
+			dest[off + 40] = w15 & 0xFFFFFFL;
+			dest[off + 41] = w15 >>> 24 & 0xFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 42] = (w15 >>> 48 | w16 << 16) & 0xFFFFFFL;
+			dest[off + 43] = w16 >>> 8 & 0xFFFFFFL;
+			dest[off + 44] = w16 >>> 32 & 0xFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 45] = (w16 >>> 56 | w17 << 8) & 0xFFFFFFL;
+			dest[off + 46] = w17 >>> 16 & 0xFFFFFFL;
+			dest[off + 47] = w17 >>> 40;
+			final long w18 = data[j + 18];
+			dest[off + 48] = w18 & 0xFFFFFFL;
+			dest[off + 49] = w18 >>> 24 & 0xFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 50] = (w18 >>> 48 | w19 << 16) & 0xFFFFFFL;
+			dest[off + 51] = w19 >>> 8 & 0xFFFFFFL;
+			dest[off + 52] = w19 >>> 32 & 0xFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 53] = (w19 >>> 56 | w20 << 8) & 0xFFFFFFL;
+			dest[off + 54] = w20 >>> 16 & 0xFFFFFFL;
+			dest[off + 55] = w20 >>> 40;
+			final long w21 = data[j + 21];
+			dest[off + 56] = w21 & 0xFFFFFFL;
+			dest[off + 57] = w21 >>> 24 & 0xFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 58] = (w21 >>> 48 | w22 << 16) & 0xFFFFFFL;
+			dest[off + 59] = w22 >>> 8 & 0xFFFFFFL;
+			dest[off + 60] = w22 >>> 32 & 0xFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 61] = (w22 >>> 56 | w23 << 8) & 0xFFFFFFL;
+			dest[off + 62] = w23 >>> 16 & 0xFFFFFFL;
+			dest[off + 63] = w23 >>> 40;
+		}
+	}
+
+	private static void encode24(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 24) {
+			final long v0 = src[off] & 0xFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFL;
+			data[j] = v0 | v1 << 24 | v2 << 48;
+			data[j + 1] = v2 >>> 16 | v3 << 8 | v4 << 32 | v5 << 56;
+			data[j + 2] = v5 >>> 8 | v6 << 16 | v7 << 40;
+			data[j + 3] = v8 | v9 << 24 | v10 << 48;
+			data[j + 4] = v10 >>> 16 | v11 << 8 | v12 << 32 | v13 << 56;
+			data[j + 5] = v13 >>> 8 | v14 << 16 | v15 << 40;
+			data[j + 6] = v16 | v17 << 24 | v18 << 48;
+			data[j + 7] = v18 >>> 16 | v19 << 8 | v20 << 32 | v21 << 56;
+			data[j + 8] = v21 >>> 8 | v22 << 16 | v23 << 40;
+			data[j + 9] = v24 | v25 << 24 | v26 << 48;
+			data[j + 10] = v26 >>> 16 | v27 << 8 | v28 << 32 | v29 << 56;
+			data[j + 11] = v29 >>> 8 | v30 << 16 | v31 << 40;
+			data[j + 12] = v32 | v33 << 24 | v34 << 48;
+			data[j + 13] = v34 >>> 16 | v35 << 8 | v36 << 32 | v37 << 56;
+			data[j + 14] = v37 >>> 8 | v38 << 16 | v39 << 40;
+			data[j + 15] = v40 | v41 << 24 | v42 << 48;
+			data[j + 16] = v42 >>> 16 | v43 << 8 | v44 << 32 | v45 << 56;
+			data[j + 17] = v45 >>> 8 | v46 << 16 | v47 << 40;
+			data[j + 18] = v48 | v49 << 24 | v50 << 48;
+			data[j + 19] = v50 >>> 16 | v51 << 8 | v52 << 32 | v53 << 56;
+			data[j + 20] = v53 >>> 8 | v54 << 16 | v55 << 40;
+			data[j + 21] = v56 | v57 << 24 | v58 << 48;
+			data[j + 22] = v58 >>> 16 | v59 << 8 | v60 << 32 | v61 << 56;
+			data[j + 23] = v61 >>> 8 | v62 << 16 | v63 << 40;
+		}
+	}
+
+	private static void decode25(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 25, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFFL;
+			dest[off + 1] = w0 >>> 25 & 0x1FFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 2] = (w0 >>> 50 | w1 << 14) & 0x1FFFFFFL;
+			dest[off + 3] = w1 >>> 11 & 0x1FFFFFFL;
+			dest[off + 4] = w1 >>> 36 & 0x1FFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 5] = (w1 >>> 61 | w2 << 3) & 0x1FFFFFFL;
+			dest[off + 6] = w2 >>> 22 & 0x1FFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 7] = (w2 >>> 47 | w3 << 17) & 0x1FFFFFFL;
+			dest[off + 8] = w3 >>> 8 & 0x1FFFFFFL;
+			dest[off + 9] = w3 >>> 33 & 0x1FFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 10] = (w3 >>> 58 | w4 << 6) & 0x1FFFFFFL;
+			dest[off + 11] = w4 >>> 19 & 0x1FFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 12] = (w4 >>> 44 | w5 << 20) & 0x1FFFFFFL;
+			dest[off + 13] = w5 >>> 5 & 0x1FFFFFFL;
+			dest[off + 14] = w5 >>> 30 & 0x1FFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 15] = (w5 >>> 55 | w6 << 9) & 0x1FFFFFFL;
+			dest[off + 16] = w6 >>> 16 & 0x1FFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 17] = (w6 >>> 41 | w7 << 23) & 0x1FFFFFFL;
+			dest[off + 18] = w7 >>> 2 & 0x1FFFFFFL;
+			dest[off + 19] = w7 >>> 27 & 0x1FFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 20] = (w7 >>> 52 | w8 << 12) & 0x1FFFFFFL;
+			dest[off + 21] = w8 >>> 13 & 0x1FFFFFFL;
+			dest[off + 22] = w8 >>> 38 & 0x1FFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 23] = (w8 >>> 63 | w9 << 1) & 0x1FFFFFFL;
+			dest[off + 24] = w9 >>> 24 & 0x1FFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 25] = (w9 >>> 49 | w10 << 15) & 0x1FFFFFFL;
+			dest[off + 26] = w10 >>> 10 & 0x1FFFFFFL;
+			dest[off + 27] = w10 >>> 35 & 0x1FFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 28] = (w10 >>> 60 | w11 << 4) & 0x1FFFFFFL;
+			dest[off + 29] = w11 >>> 21 & 0x1FFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 30] = (w11 >>> 46 | w12 << 18) & 0x1FFFFFFL;
+			dest[off + 31] = w12 >>> 7 & 0x1FFFFFFL;
+			dest[off + 32] = w12 >>> 32 & 0x1FFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 33] = (w12 >>> 57 | w13 << 7) & 0x1FFFFFFL;
+			dest[off + 34] = w13 >>> 18 & 0x1FFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 35] = (w13 >>> 43 | w14 << 21) & 0x1FFFFFFL;
+			dest[off + 36] = w14 >>> 4 & 0x1FFFFFFL;
+			dest[off + 37] = w14 >>> 29 & 0x1FFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 38] = (w14 >>> 54 | w15 << 10) & 0x1FFFFFFL;
+			dest[off + 39] = w15 >>> 15 & 0x1FFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 40] = (w15 >>> 40 | w16 << 24) & 0x1FFFFFFL;
+			dest[off + 41] = w16 >>> 1 & 0x1FFFFFFL;
+			dest[off + 42] = w16 >>> 26 & 0x1FFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 43] = (w16 >>> 51 | w17 << 13) & 0x1FFFFFFL;
+			dest[off + 44] = w17 >>> 12 & 0x1FFFFFFL;
+			dest[off + 45] = w17 >>> 37 & 0x1FFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 46] = (w17 >>> 62 | w18 << 2) & 0x1FFFFFFL;
+			dest[off + 47] = w18 >>> 23 & 0x1FFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 48] = (w18 >>> 48 | w19 << 16) & 0x1FFFFFFL;
+			dest[off + 49] = w19 >>> 9 & 0x1FFFFFFL;
+			dest[off + 50] = w19 >>> 34 & 0x1FFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 51] = (w19 >>> 59 | w20 << 5) & 0x1FFFFFFL;
+			dest[off + 52] = w20 >>> 20 & 0x1FFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 53] = (w20 >>> 45 | w21 << 19) & 0x1FFFFFFL;
+			dest[off + 54] = w21 >>> 6 & 0x1FFFFFFL;
+			dest[off + 55] = w21 >>> 31 & 0x1FFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 56] = (w21 >>> 56 | w22 << 8) & 0x1FFFFFFL;
+			dest[off + 57] = w22 >>> 17 & 0x1FFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 58] = (w22 >>> 42 | w23 << 22) & 0x1FFFFFFL;
+			dest[off + 59] = w23 >>> 3 & 0x1FFFFFFL;
+			dest[off + 60] = w23 >>> 28 & 0x1FFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 61] = (w23 >>> 53 | w24 << 11) & 0x1FFFFFFL;
+			dest[off + 62] = w24 >>> 14 & 0x1FFFFFFL;
+			dest[off + 63] = w24 >>> 39;
+		}
+	}
+
+	private static void encode25(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 25) {
+			final long v0 = src[off] & 0x1FFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFL;
+			data[j] = v0 | v1 << 25 | v2 << 50;
+			data[j + 1] = v2 >>> 14 | v3 << 11 | v4 << 36 | v5 << 61;
+			data[j + 2] = v5 >>> 3 | v6 << 22 | v7 << 47;
+			data[j + 3] = v7 >>> 17 | v8 << 8 | v9 << 33 | v10 << 58;
+			data[j + 4] = v10 >>> 6 | v11 << 19 | v12 << 44;
+			data[j + 5] = v12 >>> 20 | v13 << 5 | v14 << 30 | v15 << 55;
+			data[j + 6] = v15 >>> 9 | v16 << 16 | v17 << 41;
+			data[j + 7] = v17 >>> 23 | v18 << 2 | v19 << 27 | v20 << 52;
+			data[j + 8] = v20 >>> 12 | v21 << 13 | v22 << 38 | v23 << 63;
+			data[j + 9] = v23 >>> 1 | v24 << 24 | v25 << 49;
+			data[j + 10] = v25 >>> 15 | v26 << 10 | v27 << 35 | v28 << 60;
+			data[j + 11] = v28 >>> 4 | v29 << 21 | v30 << 46;
+			data[j + 12] = v30 >>> 18 | v31 << 7 | v32 << 32 | v33 << 57;
+			data[j + 13] = v33 >>> 7 | v34 << 18 | v35 << 43;
+			data[j + 14] = v35 >>> 21 | v36 << 4 | v37 << 29 | v38 << 54;
+			data[j + 15] = v38 >>> 10 | v39 << 15 | v40 << 40;
+			data[j + 16] = v40 >>> 24 | v41 << 1 | v42 << 26 | v43 << 51;
+			data[j + 17] = v43 >>> 13 | v44 << 12 | v45 << 37 | v46 << 62;
+			data[j + 18] = v46 >>> 2 | v47 << 23 | v48 << 48;
+			data[j + 19] = v48 >>> 16 | v49 << 9 | v50 << 34 | v51 << 59;
+			data[j + 20] = v51 >>> 5 | v52 << 20 | v53 << 45;
+			data[j + 21] = v53 >>> 19 | v54 << 6 | v55 << 31 | v56 << 56;
+			data[j + 22] = v56 >>> 8 | v57 << 17 | v58 << 42;
+			data[j + 23] = v58 >>> 22 | v59 << 3 | v60 << 28 | v61 << 53;
+			data[j + 24] = v61 >>> 11 | v62 << 14 | v63 << 39;
+		}
+	}
+
+	private static void decode26(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 26, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFFL;
+			dest[off + 1] = w0 >>> 26 & 0x3FFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 2] = (w0 >>> 52 | w1 << 12) & 0x3FFFFFFL;
+			dest[off + 3] = w1 >>> 14 & 0x3FFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 4] = (w1 >>> 40 | w2 << 24) & 0x3FFFFFFL;
+			dest[off + 5] = w2 >>> 2 & 0x3FFFFFFL;
+			dest[off + 6] = w2 >>> 28 & 0x3FFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 7] = (w2 >>> 54 | w3 << 10) & 0x3FFFFFFL;
+			dest[off + 8] = w3 >>> 16 & 0x3FFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 9] = (w3 >>> 42 | w4 << 22) & 0x3FFFFFFL;
+			dest[off + 10] = w4 >>> 4 & 0x3FFFFFFL;
+			dest[off + 11] = w4 >>> 30 & 0x3FFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 12] = (w4 >>> 56 | w5 << 8) & 0x3FFFFFFL;
+			dest[off + 13] = w5 >>> 18 & 0x3FFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 14] = (w5 >>> 44 | w6 << 20) & 0x3FFFFFFL;
+			dest[off + 15] = w6 >>> 6 & 0x3FFFFFFL;
+			dest[off + 16] = w6 >>> 32 & 0x3FFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 17] = (w6 >>> 58 | w7 << 6) & 0x3FFFFFFL;
+			dest[off + 18] = w7 >>> 20 & 0x3FFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 19] = (w7 >>> 46 | w8 << 18) & 0x3FFFFFFL;
+			dest[off + 20] = w8 >>> 8 & 0x3FFFFFFL;
+			dest[off + 21] = w8 >>> 34 & 0x3FFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 22] = (w8 >>> 60 | w9 << 4) & 0x3FFFFFFL;
+			dest[off + 23] = w9 >>> 22 & 0x3FFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 24] = (w9 >>> 48 | w10 << 16) & 0x3FFFFFFL;
+			dest[off + 25] = w10 >>> 10 & 0x3FFFFFFL;
+			dest[off + 26] = w10 >>> 36 & 0x3FFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 27] = (w10 >>> 62 | w11 << 2) & 0x3FFFFFFL;
+			dest[off + 28] = w11 >>> 24 & 0x3FFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 29] = (w11 >>> 50 | w12 << 14) & 0x3FFFFFFL;
+			dest[off + 30] = w12 >>> 12 & 0x3FFFFFFL;
+			dest[off + 31] = w12 >>> 38;
+			final long w13 = data[j + 13];
+			dest[off + 32] = w13 & 0x3FFFFFFL;
+			dest[off + 33] = w13 >>> 26 & 0x3FFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 34] = (w13 >>> 52 | w14 << 12) & 0x3FFFFFFL;
+			dest[off + 35] = w14 >>> 14 & 0x3FFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 36] = (w14 >>> 40 | w15 << 24) & 0x3FFFFFFL;
+			dest[off + 37] = w15 >>> 2 & 0x3FFFFFFL;
+			dest[off + 38] = w15 >>> 28 & 0x3FFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 39] = (w15 >>> 54 | w16 << 10) & 0x3FFFFFFL;
+			dest[off + 40] = w16 >>> 16 & 0x3FFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 41] = (w16 >>> 42 | w17 << 22) & 0x3FFFFFFL;
+			dest[off + 42] = w17 >>> 4 & 0x3FFFFFFL;
+			dest[off + 43] = w17 >>> 30 & 0x3FFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 44] = (w17 >>> 56 | w18 << 8) & 0x3FFFFFFL;
+			dest[off + 45] = w18 >>> 18 & 0x3FFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 46] = (w18 >>> 44 | w19 << 20) & 0x3FFFFFFL;
+			dest[off + 47] = w19 >>> 6 & 0x3FFFFFFL;
+			dest[off + 48] = w19 >>> 32 & 0x3FFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 49] = (w19 >>> 58 | w20 << 6) & 0x3FFFFFFL;
+			dest[off + 50] = w20 >>> 20 & 0x3FFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 51] = (w20 >>> 46 | w21 << 18) & 0x3FFFFFFL;
+			dest[off + 52] = w21 >>> 8 & 0x3FFFFFFL;
+			dest[off + 53] = w21 >>> 34 & 0x3FFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 54] = (w21 >>> 60 | w22 << 4) & 0x3FFFFFFL;
+			dest[off + 55] = w22 >>> 22 & 0x3FFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 56] = (w22 >>> 48 | w23 << 16) & 0x3FFFFFFL;
+			dest[off + 57] = w23 >>> 10 & 0x3FFFFFFL;
+			dest[off + 58] = w23 >>> 36 & 0x3FFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 59] = (w23 >>> 62 | w24 << 2) & 0x3FFFFFFL;
+			dest[off + 60] = w24 >>> 24 & 0x3FFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 61] = (w24 >>> 50 | w25 << 14) & 0x3FFFFFFL;
+			dest[off + 62] = w25 >>> 12 & 0x3FFFFFFL;
+			dest[off + 63] = w25 >>> 38;
+		}
+	}
+
+	private static void encode26(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 26) {
+			final long v0 = src[off] & 0x3FFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFL;
+			data[j] = v0 | v1 << 26 | v2 << 52;
+			data[j + 1] = v2 >>> 12 | v3 << 14 | v4 << 40;
+			data[j + 2] = v4 >>> 24 | v5 << 2 | v6 << 28 | v7 << 54;
+			data[j + 3] = v7 >>> 10 | v8 << 16 | v9 << 42;
+			data[j + 4] = v9 >>> 22 | v10 << 4 | v11 << 30 | v12 << 56;
+			data[j + 5] = v12 >>> 8 | v13 << 18 | v14 << 44;
+			data[j + 6] = v14 >>> 20 | v15 << 6 | v16 << 32 | v17 << 58;
+			data[j + 7] = v17 >>> 6 | v18 << 20 | v19 << 46;
+			data[j + 8] = v19 >>> 18 | v20 << 8 | v21 << 34 | v22 << 60;
+			data[j + 9] = v22 >>> 4 | v23 << 22 | v24 << 48;
+			data[j + 10] = v24 >>> 16 | v25 << 10 | v26 << 36 | v27 << 62;
+			data[j + 11] = v27 >>> 2 | v28 << 24 | v29 << 50;
+			data[j + 12] = v29 >>> 14 | v30 << 12 | v31 << 38;
+			data[j + 13] = v32 | v33 << 26 | v34 << 52;
+			data[j + 14] = v34 >>> 12 | v35 << 14 | v36 << 40;
+			data[j + 15] = v36 >>> 24 | v37 << 2 | v38 << 28 | v39 << 54;
+			data[j + 16] = v39 >>> 10 | v40 << 16 | v41 << 42;
+			data[j + 17] = v41 >>> 22 | v42 << 4 | v43 << 30 | v44 << 56;
+			data[j + 18] = v44 >>> 8 | v45 << 18 | v46 << 44;
+			data[j + 19] = v46 >>> 20 | v47 << 6 | v48 << 32 | v49 << 58;
+			data[j + 20] = v49 >>> 6 | v50 << 20 | v51 << 46;
+			data[j + 21] = v51 >>> 18 | v52 << 8 | v53 << 34 | v54 << 60;
+			data[j + 22] = v54 >>> 4 | v55 << 22 | v56 << 48;
+			data[j + 23] = v56 >>> 16 | v57 << 10 | v58 << 36 | v59 << 62;
+			data[j + 24] = v59 >>> 2 | v60 << 24 | v61 << 50;
+			data[j + 25] = v61 >>> 14 | v62 << 12 | v63 << 38;
+		}
+	}
+
+	private static void decode27(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 27, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFFL;
+			dest[off + 1] = w0 >>> 27 & 0x7FFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 2] = (w0 >>> 54 | w1 << 10) & 0x7FFFFFFL;
+			dest[off + 3] = w1 >>> 17 & 0x7FFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 4] = (w1 >>> 44 | w2 << 20) & 0x7FFFFFFL;
+			dest[off + 5] = w2 >>> 7 & 0x7FFFFFFL;
+			dest[off + 6] = w2 >>> 34 & 0x7FFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 7] = (w2 >>> 61 | w3 << 3) & 0x7FFFFFFL;
+			dest[off + 8] = w3 >>> 24 & 0x7FFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 9] = (w3 >>> 51 | w4 << 13) & 0x7FFFFFFL;
+			dest[off + 10] = w4 >>> 14 & 0x7FFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 11] = (w4 >>> 41 | w5 << 23) & 0x7FFFFFFL;
+			dest[off + 12] = w5 >>> 4 & 0x7FFFFFFL;
+			dest[off + 13] = w5 >>> 31 & 0x7FFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 14] = (w5 >>> 58 | w6 << 6) & 0x7FFFFFFL;
+			dest[off + 15] = w6 >>> 21 & 0x7FFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 16] = (w6 >>> 48 | w7 << 16) & 0x7FFFFFFL;
+			dest[off + 17] = w7 >>> 11 & 0x7FFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 18] = (w7 >>> 38 | w8 << 26) & 0x7FFFFFFL;
+			dest[off + 19] = w8 >>> 1 & 0x7FFFFFFL;
+			dest[off + 20] = w8 >>> 28 & 0x7FFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 21] = (w8 >>> 55 | w9 << 9) & 0x7FFFFFFL;
+			dest[off + 22] = w9 >>> 18 & 0x7FFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 23] = (w9 >>> 45 | w10 << 19) & 0x7FFFFFFL;
+			dest[off + 24] = w10 >>> 8 & 0x7FFFFFFL;
+			dest[off + 25] = w10 >>> 35 & 0x7FFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 26] = (w10 >>> 62 | w11 << 2) & 0x7FFFFFFL;
+			dest[off + 27] = w11 >>> 25 & 0x7FFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 28] = (w11 >>> 52 | w12 << 12) & 0x7FFFFFFL;
+			dest[off + 29] = w12 >>> 15 & 0x7FFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 30] = (w12 >>> 42 | w13 << 22) & 0x7FFFFFFL;
+			dest[off + 31] = w13 >>> 5 & 0x7FFFFFFL;
+			dest[off + 32] = w13 >>> 32 & 0x7FFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 33] = (w13 >>> 59 | w14 << 5) & 0x7FFFFFFL;
+			dest[off + 34] = w14 >>> 22 & 0x7FFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 35] = (w14 >>> 49 | w15 << 15) & 0x7FFFFFFL;
+			dest[off + 36] = w15 >>> 12 & 0x7FFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 37] = (w15 >>> 39 | w16 << 25) & 0x7FFFFFFL;
+			dest[off + 38] = w16 >>> 2 & 0x7FFFFFFL;
+			dest[off + 39] = w16 >>> 29 & 0x7FFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 40] = (w16 >>> 56 | w17 << 8) & 0x7FFFFFFL;
+			dest[off + 41] = w17 >>> 19 & 0x7FFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 42] = (w17 >>> 46 | w18 << 18) & 0x7FFFFFFL;
+			dest[off + 43] = w18 >>> 9 & 0x7FFFFFFL;
+			dest[off + 44] = w18 >>> 36 & 0x7FFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 45] = (w18 >>> 63 | w19 << 1) & 0x7FFFFFFL;
+			dest[off + 46] = w19 >>> 26 & 0x7FFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 47] = (w19 >>> 53 | w20 << 11) & 0x7FFFFFFL;
+			dest[off + 48] = w20 >>> 16 & 0x7FFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 49] = (w20 >>> 43 | w21 << 21) & 0x7FFFFFFL;
+			dest[off + 50] = w21 >>> 6 & 0x7FFFFFFL;
+			dest[off + 51] = w21 >>> 33 & 0x7FFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 52] = (w21 >>> 60 | w22 << 4) & 0x7FFFFFFL;
+			dest[off + 53] = w22 >>> 23 & 0x7FFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 54] = (w22 >>> 50 | w23 << 14) & 0x7FFFFFFL;
+			dest[off + 55] = w23 >>> 13 & 0x7FFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 56] = (w23 >>> 40 | w24 << 24) & 0x7FFFFFFL;
+			dest[off + 57] = w24 >>> 3 & 0x7FFFFFFL;
+			dest[off + 58] = w24 >>> 30 & 0x7FFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 59] = (w24 >>> 57 | w25 << 7) & 0x7FFFFFFL;
+			dest[off + 60] = w25 >>> 20 & 0x7FFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 61] = (w25 >>> 47 | w26 << 17) & 0x7FFFFFFL;
+			dest[off + 62] = w26 >>> 10 & 0x7FFFFFFL;
+			dest[off + 63] = w26 >>> 37;
+		}
+	}
+
+	private static void encode27(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 27) {
+			final long v0 = src[off] & 0x7FFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFL;
+			data[j] = v0 | v1 << 27 | v2 << 54;
+			data[j + 1] = v2 >>> 10 | v3 << 17 | v4 << 44;
+			data[j + 2] = v4 >>> 20 | v5 << 7 | v6 << 34 | v7 << 61;
+			data[j + 3] = v7 >>> 3 | v8 << 24 | v9 << 51;
+			data[j + 4] = v9 >>> 13 | v10 << 14 | v11 << 41;
+			data[j + 5] = v11 >>> 23 | v12 << 4 | v13 << 31 | v14 << 58;
+			data[j + 6] = v14 >>> 6 | v15 << 21 | v16 << 48;
+			data[j + 7] = v16 >>> 16 | v17 << 11 | v18 << 38;
+			data[j + 8] = v18 >>> 26 | v19 << 1 | v20 << 28 | v21 << 55;
+			data[j + 9] = v21 >>> 9 | v22 << 18 | v23 << 45;
+			data[j + 10] = v23 >>> 19 | v24 << 8 | v25 << 35 | v26 << 62;
+			data[j + 11] = v26 >>> 2 | v27 << 25 | v28 << 52;
+			data[j + 12] = v28 >>> 12 | v29 << 15 | v30 << 42;
+			data[j + 13] = v30 >>> 22 | v31 << 5 | v32 << 32 | v33 << 59;
+			data[j + 14] = v33 >>> 5 | v34 << 22 | v35 << 49;
+			data[j + 15] = v35 >>> 15 | v36 << 12 | v37 << 39;
+			data[j + 16] = v37 >>> 25 | v38 << 2 | v39 << 29 | v40 << 56;
+			data[j + 17] = v40 >>> 8 | v41 << 19 | v42 << 46;
+			data[j + 18] = v42 >>> 18 | v43 << 9 | v44 << 36 | v45 << 63;
+			data[j + 19] = v45 >>> 1 | v46 << 26 | v47 << 53;
+			data[j + 20] = v47 >>> 11 | v48 << 16 | v49 << 43;
+			data[j + 21] = v49 >>> 21 | v50 << 6 | v51 << 33 | v52 << 60;
+			data[j + 22] = v52 >>> 4 | v53 << 23 | v54 << 50;
+			data[j + 23] = v54 >>> 14 | v55 << 13 | v56 << 40;
+			data[j + 24] = v56 >>> 24 | v57 << 3 | v58 << 30 | v59 << 57;
+			data[j + 25] = v59 >>> 7 | v60 << 20 | v61 << 47;
+			data[j + 26] = v61 >>> 17 | v62 << 10 | v63 << 37;
+		}
+	}
+
+	private static void decode28(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 28, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFFFL;
+			dest[off + 1] = w0 >>> 28 & 0xFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 2] = (w0 >>> 56 | w1 << 8) & 0xFFFFFFFL;
+			dest[off + 3] = w1 >>> 20 & 0xFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 4] = (w1 >>> 48 | w2 << 16) & 0xFFFFFFFL;
+			dest[off + 5] = w2 >>> 12 & 0xFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 6] = (w2 >>> 40 | w3 << 24) & 0xFFFFFFFL;
+			dest[off + 7] = w3 >>> 4 & 0xFFFFFFFL;
+			dest[off + 8] = w3 >>> 32 & 0xFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 9] = (w3 >>> 60 | w4 << 4) & 0xFFFFFFFL;
+			dest[off + 10] = w4 >>> 24 & 0xFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 11] = (w4 >>> 52 | w5 << 12) & 0xFFFFFFFL;
+			dest[off + 12] = w5 >>> 16 & 0xFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 13] = (w5 >>> 44 | w6 << 20) & 0xFFFFFFFL;
+			dest[off + 14] = w6 >>> 8 & 0xFFFFFFFL;
+			dest[off + 15] = w6 >>> 36;
+			final long w7 = data[j + 7];
+			dest[off + 16] = w7 & 0xFFFFFFFL;
+			dest[off + 17] = w7 >>> 28 & 0xFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 18] = (w7 >>> 56 | w8 << 8) & 0xFFFFFFFL;
+			dest[off + 19] = w8 >>> 20 & 0xFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 20] = (w8 >>> 48 | w9 << 16) & 0xFFFFFFFL;
+			dest[off + 21] = w9 >>> 12 & 0xFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 22] = (w9 >>> 40 | w10 << 24) & 0xFFFFFFFL;
+			dest[off + 23] = w10 >>> 4 & 0xFFFFFFFL;
+			dest[off + 24] = w10 >>> 32 & 0xFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 25] = (w10 >>> 60 | w11 << 4) & 0xFFFFFFFL;
+			dest[off + 26] = w11 >>> 24 & 0xFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 27] = (w11 >>> 52 | w12 << 12) & 0xFFFFFFFL;
+			dest[off + 28] = w12 >>> 16 & 0xFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 29] = (w12 >>> 44 | w13 << 20) & 0xFFFFFFFL;
+			dest[off + 30] = w13 >>> 8 & 0xFFFFFFFL;
+			dest[off + 31] = w13 >>> 36;
+			final long w14 = data[j + 14];
+			dest[off + 32] = w14 & 0xFFFFFFFL;
+			dest[off + 33] = w14 >>> 28 & 0xFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 34] = (w14 >>> 56 | w15 << 8) & 0xFFFFFFFL;
+			dest[off + 35] = w15 >>> 20 & 0xFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 36] = (w15 >>> 48 | w16 << 16) & 0xFFFFFFFL;
+			dest[off + 37] = w16 >>> 12 & 0xFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 38] = (w16 >>> 40 | w17 << 24) & 0xFFFFFFFL;
+			dest[off + 39] = w17 >>> 4 & 0xFFFFFFFL;
+			dest[off + 40] = w17 >>> 32 & 0xFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 41] = (w17 >>> 60 | w18 << 4) & 0xFFFFFFFL;
+			dest[off + 42] = w18 >>> 24 & 0xFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 43] = (w18 >>> 52 | w19 << 12) & 0xFFFFFFFL;
+			dest[off + 44] = w19 >>> 16 & 0xFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 45] = (w19 >>> 44 | w20 << 20) & 0xFFFFFFFL;
+			dest[off + 46] = w20 >>> 8 & 0xFFFFFFFL;
+			dest[off + 47] = w20 >>> 36;
+			final long w21 = data[j + 21];
+			dest[off + 48] = w21 & 0xFFFFFFFL;
+			dest[off + 49] = w21 >>> 28 & 0xFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 50] = (w21 >>> 56 | w22 << 8) & 0xFFFFFFFL;
+			dest[off + 51] = w22 >>> 20 & 0xFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 52] = (w22 >>> 48 | w23 << 16) & 0xFFFFFFFL;
+			dest[off + 53] = w23 >>> 12 & 0xFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 54] = (w23 >>> 40 | w24 << 24) & 0xFFFFFFFL;
+			dest[off + 55] = w24 >>> 4 & 0xFFFFFFFL;
+			dest[off + 56] = w24 >>> 32 & 0xFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 57] = (w24 >>> 60 | w25 << 4) & 0xFFFFFFFL;
+			dest[off + 58] = w25 >>> 24 & 0xFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 59] = (w25 >>> 52 | w26 << 12) & 0xFFFFFFFL;
+			dest[off + 60] = w26 >>> 16 & 0xFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 61] = (w26 >>> 44 | w27 << 20) & 0xFFFFFFFL;
+			dest[off + 62] = w27 >>> 8 & 0xFFFFFFFL;
+			dest[off + 63] = w27 >>> 36;
+		}
+	}
+
+	private static void encode28(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 28) {
+			final long v0 = src[off] & 0xFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFL;
+			data[j] = v0 | v1 << 28 | v2 << 56;
+			data[j + 1] = v2 >>> 8 | v3 << 20 | v4 << 48;
+			data[j + 2] = v4 >>> 16 | v5 << 12 | v6 << 40;
+			data[j + 3] = v6 >>> 24 | v7 << 4 | v8 << 32 | v9 << 60;
+			data[j + 4] = v9 >>> 4 | v10 << 24 | v11 << 52;
+			data[j + 5] = v11 >>> 12 | v12 << 16 | v13 << 44;
+			data[j + 6] = v13 >>> 20 | v14 << 8 | v15 << 36;
+			data[j + 7] = v16 | v17 << 28 | v18 << 56;
+			data[j + 8] = v18 >>> 8 | v19 << 20 | v20 << 48;
+			data[j + 9] = v20 >>> 16 | v21 << 12 | v22 << 40;
+			data[j + 10] = v22 >>> 24 | v23 << 4 | v24 << 32 | v25 << 60;
+			data[j + 11] = v25 >>> 4 | v26 << 24 | v27 << 52;
+			data[j + 12] = v27 >>> 12 | v28 << 16 | v29 << 44;
+			data[j + 13] = v29 >>> 20 | v30 << 8 | v31 << 36;
+			data[j + 14] = v32 | v33 << 28 | v34 << 56;
+			data[j + 15] = v34 >>> 8 | v35 << 20 | v36 << 48;
+			data[j + 16] = v36 >>> 16 | v37 << 12 | v38 << 40;
+			data[j + 17] = v38 >>> 24 | v39 << 4 | v40 << 32 | v41 << 60;
+			data[j + 18] = v41 >>> 4 | v42 << 24 | v43 << 52;
+			data[j + 19] = v43 >>> 12 | v44 << 16 | v45 << 44;
+			data[j + 20] = v45 >>> 20 | v46 << 8 | v47 << 36;
+			data[j + 21] = v48 | v49 << 28 | v50 << 56;
+			data[j + 22] = v50 >>> 8 | v51 << 20 | v52 << 48;
+			data[j + 23] = v52 >>> 16 | v53 << 12 | v54 << 40;
+			data[j + 24] = v54 >>> 24 | v55 << 4 | v56 << 32 | v57 << 60;
+			data[j + 25] = v57 >>> 4 | v58 << 24 | v59 << 52;
+			data[j + 26] = v59 >>> 12 | v60 << 16 | v61 << 44;
+			data[j + 27] = v61 >>> 20 | v62 << 8 | v63 << 36;
+		}
+	}
+
+	private static void decode29(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 29, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFFFL;
+			dest[off + 1] = w0 >>> 29 & 0x1FFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 2] = (w0 >>> 58 | w1 << 6) & 0x1FFFFFFFL;
+			dest[off + 3] = w1 >>> 23 & 0x1FFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 4] = (w1 >>> 52 | w2 << 12) & 0x1FFFFFFFL;
+			dest[off + 5] = w2 >>> 17 & 0x1FFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 6] = (w2 >>> 46 | w3 << 18) & 0x1FFFFFFFL;
+			dest[off + 7] = w3 >>> 11 & 0x1FFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 8] = (w3 >>> 40 | w4 << 24) & 0x1FFFFFFFL;
+			dest[off + 9] = w4 >>> 5 & 0x1FFFFFFFL;
+			dest[off + 10] = w4 >>> 34 & 0x1FFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 11] = (w4 >>> 63 | w5 << 1) & 0x1FFFFFFFL;
+			dest[off + 12] = w5 >>> 28 & 0x1FFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 13] = (w5 >>> 57 | w6 << 7) & 0x1FFFFFFFL;
+			dest[off + 14] = w6 >>> 22 & 0x1FFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 15] = (w6 >>> 51 | w7 << 13) & 0x1FFFFFFFL;
+			dest[off + 16] = w7 >>> 16 & 0x1FFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 17] = (w7 >>> 45 | w8 << 19) & 0x1FFFFFFFL;
+			dest[off + 18] = w8 >>> 10 & 0x1FFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 19] = (w8 >>> 39 | w9 << 25) & 0x1FFFFFFFL;
+			dest[off + 20] = w9 >>> 4 & 0x1FFFFFFFL;
+			dest[off + 21] = w9 >>> 33 & 0x1FFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 22] = (w9 >>> 62 | w10 << 2) & 0x1FFFFFFFL;
+			dest[off + 23] = w10 >>> 27 & 0x1FFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 24] = (w10 >>> 56 | w11 << 8) & 0x1FFFFFFFL;
+			dest[off + 25] = w11 >>> 21 & 0x1FFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 26] = (w11 >>> 50 | w12 << 14) & 0x1FFFFFFFL;
+			dest[off + 27] = w12 >>> 15 & 0x1FFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 28] = (w12 >>> 44 | w13 << 20) & 0x1FFFFFFFL;
+			dest[off + 29] = w13 >>> 9 & 0x1FFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 30] = (w13 >>> 38 | w14 << 26) & 0x1FFFFFFFL;
+			dest[off + 31] = w14 >>> 3 & 0x1FFFFFFFL;
+			dest[off + 32] = w14 >>> 32 & 0x1FFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 33] = (w14 >>> 61 | w15 << 3) & 0x1FFFFFFFL;
+			dest[off + 34] = w15 >>> 26 & 0x1FFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 35] = (w15 >>> 55 | w16 << 9) & 0x1FFFFFFFL;
+			dest[off + 36] = w16 >>> 20 & 0x1FFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 37] = (w16 >>> 49 | w17 << 15) & 0x1FFFFFFFL;
+			dest[off + 38] = w17 >>> 14 & 0x1FFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 39] = (w17 >>> 43 | w18 << 21) & 0x1FFFFFFFL;
+			dest[off + 40] = w18 >>> 8 & 0x1FFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 41] = (w18 >>> 37 | w19 << 27) & 0x1FFFFFFFL;
+			dest[off + 42] = w19 >>> 2 & 0x1FFFFFFFL;
+			dest[off + 43] = w19 >>> 31 & 0x1FFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 44] = (w19 >>> 60 | w20 << 4) & 0x1FFFFFFFL;
+			dest[off + 45] = w20 >>> 25 & 0x1FFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 46] = (w20 >>> 54 | w21 << 10) & 0x1FFFFFFFL;
+			dest[off + 47] = w21 >>> 19 & 0x1FFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 48] = (w21 >>> 48 | w22 << 16) & 0x1FFFFFFFL;
+			dest[off + 49] = w22 >>> 13 & 0x1FFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 50] = (w22 >>> 42 | w23 << 22) & 0x1FFFFFFFL;
+			dest[off + 51] = w23 >>> 7 & 0x1FFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 52] = (w23 >>> 36 | w24 << 28) & 0x1FFFFFFFL;
+			dest[off + 53] = w24 >>> 1 & 0x1FFFFFFFL;
+			dest[off + 54] = w24 >>> 30 & 0x1FFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 55] = (w24 >>> 59 | w25 << 5) & 0x1FFFFFFFL;
+			dest[off + 56] = w25 >>> 24 & 0x1FFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 57] = (w25 >>> 53 | w26 << 11) & 0x1FFFFFFFL;
+			dest[off + 58] = w26 >>> 18 & 0x1FFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 59] = (w26 >>> 47 | w27 << 17) & 0x1FFFFFFFL;
+			dest[off + 60] = w27 >>> 12 & 0x1FFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 61] = (w27 >>> 41 | w28 << 23) & 0x1FFFFFFFL;
+			dest[off + 62] = w28 >>> 6 & 0x1FFFFFFFL;
+			dest[off + 63] = w28 >>> 35;
+		}
+	}
+
+	private static void encode29(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 29) {
+			final long v0 = src[off] & 0x1FFFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFFL;
+			data[j] = v0 | v1 << 29 | v2 << 58;
+			data[j + 1] = v2 >>> 6 | v3 << 23 | v4 << 52;
+			data[j + 2] = v4 >>> 12 | v5 << 17 | v6 << 46;
+			data[j + 3] = v6 >>> 18 | v7 << 11 | v8 << 40;
+			data[j + 4] = v8 >>> 24 | v9 << 5 | v10 << 34 | v11 << 63;
+			data[j + 5] = v11 >>> 1 | v12 << 28 | v13 << 57;
+			data[j + 6] = v13 >>> 7 | v14 << 22 | v15 << 51;
+			data[j + 7] = v15 >>> 13 | v16 << 16 | v17 << 45;
+			data[j + 8] = v17 >>> 19 | v18 << 10 | v19 << 39;
+			data[j + 9] = v19 >>> 25 | v20 << 4 | v21 << 33 | v22 << 62;
+			data[j + 10] = v22 >>> 2 | v23 << 27 | v24 << 56;
+			data[j + 11] = v24 >>> 8 | v25 << 21 | v26 << 50;
+			data[j + 12] = v26 >>> 14 | v27 << 15 | v28 << 44;
+			data[j + 13] = v28 >>> 20 | v29 << 9 | v30 << 38;
+			data[j + 14] = v30 >>> 26 | v31 << 3 | v32 << 32 | v33 << 61;
+			data[j + 15] = v33 >>> 3 | v34 << 26 | v35 << 55;
+			data[j + 16] = v35 >>> 9 | v36 << 20 | v37 << 49;
+			data[j + 17] = v37 >>> 15 | v38 << 14 | v39 << 43;
+			data[j + 18] = v39 >>> 21 | v40 << 8 | v41 << 37;
+			data[j + 19] = v41 >>> 27 | v42 << 2 | v43 << 31 | v44 << 60;
+			data[j + 20] = v44 >>> 4 | v45 << 25 | v46 << 54;
+			data[j + 21] = v46 >>> 10 | v47 << 19 | v48 << 48;
+			data[j + 22] = v48 >>> 16 | v49 << 13 | v50 << 42;
+			data[j + 23] = v50 >>> 22 | v51 << 7 | v52 << 36;
+			data[j + 24] = v52 >>> 28 | v53 << 1 | v54 << 30 | v55 << 59;
+			data[j + 25] = v55 >>> 5 | v56 << 24 | v57 << 53;
+			data[j + 26] = v57 >>> 11 | v58 << 18 | v59 << 47;
+			data[j + 27] = v59 >>> 17 | v60 << 12 | v61 << 41;
+			data[j + 28] = v61 >>> 23 | v62 << 6 | v63 << 35;
+		}
+	}
+
+	private static void decode30(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 30, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFFFL;
+			dest[off + 1] = w0 >>> 30 & 0x3FFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 2] = (w0 >>> 60 | w1 << 4) & 0x3FFFFFFFL;
+			dest[off + 3] = w1 >>> 26 & 0x3FFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 4] = (w1 >>> 56 | w2 << 8) & 0x3FFFFFFFL;
+			dest[off + 5] = w2 >>> 22 & 0x3FFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 6] = (w2 >>> 52 | w3 << 12) & 0x3FFFFFFFL;
+			dest[off + 7] = w3 >>> 18 & 0x3FFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 8] = (w3 >>> 48 | w4 << 16) & 0x3FFFFFFFL;
+			dest[off + 9] = w4 >>> 14 & 0x3FFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 10] = (w4 >>> 44 | w5 << 20) & 0x3FFFFFFFL;
+			dest[off + 11] = w5 >>> 10 & 0x3FFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 12] = (w5 >>> 40 | w6 << 24) & 0x3FFFFFFFL;
+			dest[off + 13] = w6 >>> 6 & 0x3FFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 14] = (w6 >>> 36 | w7 << 28) & 0x3FFFFFFFL;
+			dest[off + 15] = w7 >>> 2 & 0x3FFFFFFFL;
+			dest[off + 16] = w7 >>> 32 & 0x3FFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 17] = (w7 >>> 62 | w8 << 2) & 0x3FFFFFFFL;
+			dest[off + 18] = w8 >>> 28 & 0x3FFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 19] = (w8 >>> 58 | w9 << 6) & 0x3FFFFFFFL;
+			dest[off + 20] = w9 >>> 24 & 0x3FFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 21] = (w9 >>> 54 | w10 << 10) & 0x3FFFFFFFL;
+			dest[off + 22] = w10 >>> 20 & 0x3FFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 23] = (w10 >>> 50 | w11 << 14) & 0x3FFFFFFFL;
+			dest[off + 24] = w11 >>> 16 & 0x3FFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 25] = (w11 >>> 46 | w12 << 18) & 0x3FFFFFFFL;
+			dest[off + 26] = w12 >>> 12 & 0x3FFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 27] = (w12 >>> 42 | w13 << 22) & 0x3FFFFFFFL;
+			dest[off + 28] = w13 >>> 8 & 0x3FFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 29] = (w13 >>> 38 | w14 << 26) & 0x3FFFFFFFL;
+			dest[off + 30] = w14 >>> 4 & 0x3FFFFFFFL;
+			dest[off + 31] = w14 >>> 34;
+			final long w15 = data[j + 15];
+			dest[off + 32] = w15 & 0x3FFFFFFFL;
+			dest[off + 33] = w15 >>> 30 & 0x3FFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 34] = (w15 >>> 60 | w16 << 4) & 0x3FFFFFFFL;
+			dest[off + 35] = w16 >>> 26 & 0x3FFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 36] = (w16 >>> 56 | w17 << 8) & 0x3FFFFFFFL;
+			dest[off + 37] = w17 >>> 22 & 0x3FFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 38] = (w17 >>> 52 | w18 << 12) & 0x3FFFFFFFL;
+			dest[off + 39] = w18 >>> 18 & 0x3FFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 40] = (w18 >>> 48 | w19 << 16) & 0x3FFFFFFFL;
+			dest[off + 41] = w19 >>> 14 & 0x3FFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 42] = (w19 >>> 44 | w20 << 20) & 0x3FFFFFFFL;
+			dest[off + 43] = w20 >>> 10 & 0x3FFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 44] = (w20 >>> 40 | w21 << 24) & 0x3FFFFFFFL;
+			dest[off + 45] = w21 >>> 6 & 0x3FFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 46] = (w21 >>> 36 | w22 << 28) & 0x3FFFFFFFL;
+			dest[off + 47] = w22 >>> 2 & 0x3FFFFFFFL;
+			dest[off + 48] = w22 >>> 32 & 0x3FFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 49] = (w22 >>> 62 | w23 << 2) & 0x3FFFFFFFL;
+			dest[off + 50] = w23 >>> 28 & 0x3FFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 51] = (w23 >>> 58 | w24 << 6) & 0x3FFFFFFFL;
+			dest[off + 52] = w24 >>> 24 & 0x3FFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 53] = (w24 >>> 54 | w25 << 10) & 0x3FFFFFFFL;
+			dest[off + 54] = w25 >>> 20 & 0x3FFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 55] = (w25 >>> 50 | w26 << 14) & 0x3FFFFFFFL;
+			dest[off + 56] = w26 >>> 16 & 0x3FFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 57] = (w26 >>> 46 | w27 << 18) & 0x3FFFFFFFL;
+			dest[off + 58] = w27 >>> 12 & 0x3FFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 59] = (w27 >>> 42 | w28 << 22) & 0x3FFFFFFFL;
+			dest[off + 60] = w28 >>> 8 & 0x3FFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 61] = (w28 >>> 38 | w29 << 26) & 0x3FFFFFFFL;
+			dest[off + 62] = w29 >>> 4 & 0x3FFFFFFFL;
+			dest[off + 63] = w29 >>> 34;
+		}
+	}
+
+	private static void encode30(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 30) {
+			final long v0 = src[off] & 0x3FFFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFFL;
+			data[j] = v0 | v1 << 30 | v2 << 60;
+			data[j + 1] = v2 >>> 4 | v3 << 26 | v4 << 56;
+			data[j + 2] = v4 >>> 8 | v5 << 22 | v6 << 52;
+			data[j + 3] = v6 >>> 12 | v7 << 18 | v8 << 48;
+			data[j + 4] = v8 >>> 16 | v9 << 14 | v10 << 44;
+			data[j + 5] = v10 >>> 20 | v11 << 10 | v12 << 40;
+			data[j + 6] = v12 >>> 24 | v13 << 6 | v14 << 36;
+			data[j + 7] = v14 >>> 28 | v15 << 2 | v16 << 32 | v17 << 62;
+			data[j + 8] = v17 >>> 2 | v18 << 28 | v19 << 58;
+			data[j + 9] = v19 >>> 6 | v20 << 24 | v21 << 54;
+			data[j + 10] = v21 >>> 10 | v22 << 20 | v23 << 50;
+			data[j + 11] = v23 >>> 14 | v24 << 16 | v25 << 46;
+			data[j + 12] = v25 >>> 18 | v26 << 12 | v27 << 42;
+			data[j + 13] = v27 >>> 22 | v28 << 8 | v29 << 38;
+			data[j + 14] = v29 >>> 26 | v30 << 4 | v31 << 34;
+			data[j + 15] = v32 | v33 << 30 | v34 << 60;
+			data[j + 16] = v34 >>> 4 | v35 << 26 | v36 << 56;
+			data[j + 17] = v36 >>> 8 | v37 << 22 | v38 << 52;
+			data[j + 18] = v38 >>> 12 | v39 << 18 | v40 << 48;
+			data[j + 19] = v40 >>> 16 | v41 << 14 | v42 << 44;
+			data[j + 20] = v42 >>> 20 | v43 << 10 | v44 << 40;
+			data[j + 21] = v44 >>> 24 | v45 << 6 | v46 << 36;
+			data[j + 22] = v46 >>> 28 | v47 << 2 | v48 << 32 | v49 << 62;
+			data[j + 23] = v49 >>> 2 | v50 << 28 | v51 << 58;
+			data[j + 24] = v51 >>> 6 | v52 << 24 | v53 << 54;
+			data[j + 25] = v53 >>> 10 | v54 << 20 | v55 << 50;
+			data[j + 26] = v55 >>> 14 | v56 << 16 | v57 << 46;
+			data[j + 27] = v57 >>> 18 | v58 << 12 | v59 << 42;
+			data[j + 28] = v59 >>> 22 | v60 << 8 | v61 << 38;
+			data[j + 29] = v61 >>> 26 | v62 << 4 | v63 << 34;
+		}
+	}
+
+	private static void decode31(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 31, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFFFL;
+			dest[off + 1] = w0 >>> 31 & 0x7FFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 2] = (w0 >>> 62 | w1 << 2) & 0x7FFFFFFFL;
+			dest[off + 3] = w1 >>> 29 & 0x7FFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 4] = (w1 >>> 60 | w2 << 4) & 0x7FFFFFFFL;
+			dest[off + 5] = w2 >>> 27 & 0x7FFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 6] = (w2 >>> 58 | w3 << 6) & 0x7FFFFFFFL;
+			dest[off + 7] = w3 >>> 25 & 0x7FFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 8] = (w3 >>> 56 | w4 << 8) & 0x7FFFFFFFL;
+			dest[off + 9] = w4 >>> 23 & 0x7FFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 10] = (w4 >>> 54 | w5 << 10) & 0x7FFFFFFFL;
+			dest[off + 11] = w5 >>> 21 & 0x7FFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 12] = (w5 >>> 52 | w6 << 12) & 0x7FFFFFFFL;
+			dest[off + 13] = w6 >>> 19 & 0x7FFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 14] = (w6 >>> 50 | w7 << 14) & 0x7FFFFFFFL;
+			dest[off + 15] = w7 >>> 17 & 0x7FFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 16] = (w7 >>> 48 | w8 << 16) & 0x7FFFFFFFL;
+			dest[off + 17] = w8 >>> 15 & 0x7FFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 18] = (w8 >>> 46 | w9 << 18) & 0x7FFFFFFFL;
+			dest[off + 19] = w9 >>> 13 & 0x7FFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 20] = (w9 >>> 44 | w10 << 20) & 0x7FFFFFFFL;
+			dest[off + 21] = w10 >>> 11 & 0x7FFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 22] = (w10 >>> 42 | w11 << 22) & 0x7FFFFFFFL;
+			dest[off + 23] = w11 >>> 9 & 0x7FFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 24] = (w11 >>> 40 | w12 << 24) & 0x7FFFFFFFL;
+			dest[off + 25] = w12 >>> 7 & 0x7FFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 26] = (w12 >>> 38 | w13 << 26) & 0x7FFFFFFFL;
+			dest[off + 27] = w13 >>> 5 & 0x7FFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 28] = (w13 >>> 36 | w14 << 28) & 0x7FFFFFFFL;
+			dest[off + 29] = w14 >>> 3 & 0x7FFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 30] = (w14 >>> 34 | w15 << 30) & 0x7FFFFFFFL;
+			dest[off + 31] = w15 >>> 1 & 0x7FFFFFFFL;
+			dest[off + 32] = w15 >>> 32 & 0x7FFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 33] = (w15 >>> 63 | w16 << 1) & 0x7FFFFFFFL;
+			dest[off + 34] = w16 >>> 30 & 0x7FFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 35] = (w16 >>> 61 | w17 << 3) & 0x7FFFFFFFL;
+			dest[off + 36] = w17 >>> 28 & 0x7FFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 37] = (w17 >>> 59 | w18 << 5) & 0x7FFFFFFFL;
+			dest[off + 38] = w18 >>> 26 & 0x7FFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 39] = (w18 >>> 57 | w19 << 7) & 0x7FFFFFFFL;
+			dest[off + 40] = w19 >>> 24 & 0x7FFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 41] = (w19 >>> 55 | w20 << 9) & 0x7FFFFFFFL;
+			dest[off + 42] = w20 >>> 22 & 0x7FFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 43] = (w20 >>> 53 | w21 << 11) & 0x7FFFFFFFL;
+			dest[off + 44] = w21 >>> 20 & 0x7FFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 45] = (w21 >>> 51 | w22 << 13) & 0x7FFFFFFFL;
+			dest[off + 46] = w22 >>> 18 & 0x7FFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 47] = (w22 >>> 49 | w23 << 15) & 0x7FFFFFFFL;
+			dest[off + 48] = w23 >>> 16 & 0x7FFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 49] = (w23 >>> 47 | w24 << 17) & 0x7FFFFFFFL;
+			dest[off + 50] = w24 >>> 14 & 0x7FFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 51] = (w24 >>> 45 | w25 << 19) & 0x7FFFFFFFL;
+			dest[off + 52] = w25 >>> 12 & 0x7FFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 53] = (w25 >>> 43 | w26 << 21) & 0x7FFFFFFFL;
+			dest[off + 54] = w26 >>> 10 & 0x7FFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 55] = (w26 >>> 41 | w27 << 23) & 0x7FFFFFFFL;
+			dest[off + 56] = w27 >>> 8 & 0x7FFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 57] = (w27 >>> 39 | w28 << 25) & 0x7FFFFFFFL;
+			dest[off + 58] = w28 >>> 6 & 0x7FFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 59] = (w28 >>> 37 | w29 << 27) & 0x7FFFFFFFL;
+			dest[off + 60] = w29 >>> 4 & 0x7FFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 61] = (w29 >>> 35 | w30 << 29) & 0x7FFFFFFFL;
+			dest[off + 62] = w30 >>> 2 & 0x7FFFFFFFL;
+			dest[off + 63] = w30 >>> 33;
+		}
+	}
+
+	private static void encode31(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 31) {
+			final long v0 = src[off] & 0x7FFFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFFL;
+			data[j] = v0 | v1 << 31 | v2 << 62;
+			data[j + 1] = v2 >>> 2 | v3 << 29 | v4 << 60;
+			data[j + 2] = v4 >>> 4 | v5 << 27 | v6 << 58;
+			data[j + 3] = v6 >>> 6 | v7 << 25 | v8 << 56;
+			data[j + 4] = v8 >>> 8 | v9 << 23 | v10 << 54;
+			data[j + 5] = v10 >>> 10 | v11 << 21 | v12 << 52;
+			data[j + 6] = v12 >>> 12 | v13 << 19 | v14 << 50;
+			data[j + 7] = v14 >>> 14 | v15 << 17 | v16 << 48;
+			data[j + 8] = v16 >>> 16 | v17 << 15 | v18 << 46;
+			data[j + 9] = v18 >>> 18 | v19 << 13 | v20 << 44;
+			data[j + 10] = v20 >>> 20 | v21 << 11 | v22 << 42;
+			data[j + 11] = v22 >>> 22 | v23 << 9 | v24 << 40;
+			data[j + 12] = v24 >>> 24 | v25 << 7 | v26 << 38;
+			data[j + 13] = v26 >>> 26 | v27 << 5 | v28 << 36;
+			data[j + 14] = v28 >>> 28 | v29 << 3 | v30 << 34;
+			data[j + 15] = v30 >>> 30 | v31 << 1 | v32 << 32 | v33 << 63;
+			data[j + 16] = v33 >>> 1 | v34 << 30 | v35 << 61;
+			data[j + 17] = v35 >>> 3 | v36 << 28 | v37 << 59;
+			data[j + 18] = v37 >>> 5 | v38 << 26 | v39 << 57;
+			data[j + 19] = v39 >>> 7 | v40 << 24 | v41 << 55;
+			data[j + 20] = v41 >>> 9 | v42 << 22 | v43 << 53;
+			data[j + 21] = v43 >>> 11 | v44 << 20 | v45 << 51;
+			data[j + 22] = v45 >>> 13 | v46 << 18 | v47 << 49;
+			data[j + 23] = v47 >>> 15 | v48 << 16 | v49 << 47;
+			data[j + 24] = v49 >>> 17 | v50 << 14 | v51 << 45;
+			data[j + 25] = v51 >>> 19 | v52 << 12 | v53 << 43;
+			data[j + 26] = v53 >>> 21 | v54 << 10 | v55 << 41;
+			data[j + 27] = v55 >>> 23 | v56 << 8 | v57 << 39;
+			data[j + 28] = v57 >>> 25 | v58 << 6 | v59 << 37;
+			data[j + 29] = v59 >>> 27 | v60 << 4 | v61 << 35;
+			data[j + 30] = v61 >>> 29 | v62 << 2 | v63 << 33;
+		}
+	}
+
+	private static void decode32(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 32, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFFFFL;
+			dest[off + 1] = w0 >>> 32;
+			final long w1 = data[j + 1];
+			dest[off + 2] = w1 & 0xFFFFFFFFL;
+			dest[off + 3] = w1 >>> 32;
+			final long w2 = data[j + 2];
+			dest[off + 4] = w2 & 0xFFFFFFFFL;
+			dest[off + 5] = w2 >>> 32;
+			final long w3 = data[j + 3];
+			dest[off + 6] = w3 & 0xFFFFFFFFL;
+			dest[off + 7] = w3 >>> 32;
+			final long w4 = data[j + 4];
+			dest[off + 8] = w4 & 0xFFFFFFFFL;
+			dest[off + 9] = w4 >>> 32;
+			final long w5 = data[j + 5];
+			dest[off + 10] = w5 & 0xFFFFFFFFL;
+			dest[off + 11] = w5 >>> 32;
+			final long w6 = data[j + 6];
+			dest[off + 12] = w6 & 0xFFFFFFFFL;
+			dest[off + 13] = w6 >>> 32;
+			final long w7 = data[j + 7];
+			dest[off + 14] = w7 & 0xFFFFFFFFL;
+			dest[off + 15] = w7 >>> 32;
+			final long w8 = data[j + 8];
+			dest[off + 16] = w8 & 0xFFFFFFFFL;
+			dest[off + 17] = w8 >>> 32;
+			final long w9 = data[j + 9];
+			dest[off + 18] = w9 & 0xFFFFFFFFL;
+			dest[off + 19] = w9 >>> 32;
+			final long w10 = data[j + 10];
+			dest[off + 20] = w10 & 0xFFFFFFFFL;
+			dest[off + 21] = w10 >>> 32;
+			final long w11 = data[j + 11];
+			dest[off + 22] = w11 & 0xFFFFFFFFL;
+			dest[off + 23] = w11 >>> 32;
+			final long w12 = data[j + 12];
+			dest[off + 24] = w12 & 0xFFFFFFFFL;
+			dest[off + 25] = w12 >>> 32;
+			final long w13 = data[j + 13];
+			dest[off + 26] = w13 & 0xFFFFFFFFL;
+			dest[off + 27] = w13 >>> 32;
+			final long w14 = data[j + 14];
+			dest[off + 28] = w14 & 0xFFFFFFFFL;
+			dest[off + 29] = w14 >>> 32;
+			final long w15 = data[j + 15];
+			dest[off + 30] = w15 & 0xFFFFFFFFL;
+			dest[off + 31] = w15 >>> 32;
+			final long w16 = data[j + 16];
+			dest[off + 32] = w16 & 0xFFFFFFFFL;
+			dest[off + 33] = w16 >>> 32;
+			final long w17 = data[j + 17];
+			dest[off + 34] = w17 & 0xFFFFFFFFL;
+			dest[off + 35] = w17 >>> 32;
+			final long w18 = data[j + 18];
+			dest[off + 36] = w18 & 0xFFFFFFFFL;
+			dest[off + 37] = w18 >>> 32;
+			final long w19 = data[j + 19];
+			dest[off + 38] = w19 & 0xFFFFFFFFL;
+			dest[off + 39] = w19 >>> 32;
+			final long w20 = data[j + 20];
+			dest[off + 40] = w20 & 0xFFFFFFFFL;
+			dest[off + 41] = w20 >>> 32;
+			final long w21 = data[j + 21];
+			dest[off + 42] = w21 & 0xFFFFFFFFL;
+			dest[off + 43] = w21 >>> 32;
+			final long w22 = data[j + 22];
+			dest[off + 44] = w22 & 0xFFFFFFFFL;
+			dest[off + 45] = w22 >>> 32;
+			final long w23 = data[j + 23];
+			dest[off + 46] = w23 & 0xFFFFFFFFL;
+			dest[off + 47] = w23 >>> 32;
+			final long w24 = data[j + 24];
+			dest[off + 48] = w24 & 0xFFFFFFFFL;
+			dest[off + 49] = w24 >>> 32;
+			final long w25 = data[j + 25];
+			dest[off + 50] = w25 & 0xFFFFFFFFL;
+			dest[off + 51] = w25 >>> 32;
+			final long w26 = data[j + 26];
+			dest[off + 52] = w26 & 0xFFFFFFFFL;
+			dest[off + 53] = w26 >>> 32;
+			final long w27 = data[j + 27];
+			dest[off + 54] = w27 & 0xFFFFFFFFL;
+			dest[off + 55] = w27 >>> 32;
+			final long w28 = data[j + 28];
+			dest[off + 56] = w28 & 0xFFFFFFFFL;
+			dest[off + 57] = w28 >>> 32;
+			final long w29 = data[j + 29];
+			dest[off + 58] = w29 & 0xFFFFFFFFL;
+			dest[off + 59] = w29 >>> 32;
+			final long w30 = data[j + 30];
+			dest[off + 60] = w30 & 0xFFFFFFFFL;
+			dest[off + 61] = w30 >>> 32;
+			final long w31 = data[j + 31];
+			dest[off + 62] = w31 & 0xFFFFFFFFL;
+			dest[off + 63] = w31 >>> 32;
+		}
+	}
+
+	private static void encode32(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 32) {
+			final long v0 = src[off] & 0xFFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFFL;
+			data[j] = v0 | v1 << 32;
+			data[j + 1] = v2 | v3 << 32;
+			data[j + 2] = v4 | v5 << 32;
+			data[j + 3] = v6 | v7 << 32;
+			data[j + 4] = v8 | v9 << 32;
+			data[j + 5] = v10 | v11 << 32;
+			data[j + 6] = v12 | v13 << 32;
+			data[j + 7] = v14 | v15 << 32;
+			data[j + 8] = v16 | v17 << 32;
+			data[j + 9] = v18 | v19 << 32;
+			data[j + 10] = v20 | v21 << 32;
+			data[j + 11] = v22 | v23 << 32;
+			data[j + 12] = v24 | v25 << 32;
+			data[j + 13] = v26 | v27 << 32;
+			data[j + 14] = v28 | v29 << 32;
+			data[j + 15] = v30 | v31 << 32;
+			data[j + 16] = v32 | v33 << 32;
+			data[j + 17] = v34 | v35 << 32;
+			data[j + 18] = v36 | v37 << 32;
+			data[j + 19] = v38 | v39 << 32;
+			data[j + 20] = v40 | v41 << 32;
+			data[j + 21] = v42 | v43 << 32;
+			data[j + 22] = v44 | v45 << 32;
+			data[j + 23] = v46 | v47 << 32;
+			data[j + 24] = v48 | v49 << 32;
+			data[j + 25] = v50 | v51 << 32;
+			data[j + 26] = v52 | v53 << 32;
+			data[j + 27] = v54 | v55 << 32;
+			data[j + 28] = v56 | v57 << 32;
+			data[j + 29] = v58 | v59 << 32;
+			data[j + 30] = v60 | v61 << 32;
+			data[j + 31] = v62 | v63 << 32;
+		}
+	}
+
+	private static void decode33(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 33, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 33 | w1 << 31) & 0x1FFFFFFFFL;
+			dest[off + 2] = w1 >>> 2 & 0x1FFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 3] = (w1 >>> 35 | w2 << 29) & 0x1FFFFFFFFL;
+			dest[off + 4] = w2 >>> 4 & 0x1FFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 5] = (w2 >>> 37 | w3 << 27) & 0x1FFFFFFFFL;
+			dest[off + 6] = w3 >>> 6 & 0x1FFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 7] = (w3 >>> 39 | w4 << 25) & 0x1FFFFFFFFL;
+			dest[off + 8] = w4 >>> 8 & 0x1FFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 9] = (w4 >>> 41 | w5 << 23) & 0x1FFFFFFFFL;
+			dest[off + 10] = w5 >>> 10 & 0x1FFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 11] = (w5 >>> 43 | w6 << 21) & 0x1FFFFFFFFL;
+			dest[off + 12] = w6 >>> 12 & 0x1FFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 13] = (w6 >>> 45 | w7 << 19) & 0x1FFFFFFFFL;
+			dest[off + 14] = w7 >>> 14 & 0x1FFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 15] = (w7 >>> 47 | w8 << 17) & 0x1FFFFFFFFL;
+			dest[off + 16] = w8 >>> 16 & 0x1FFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 17] = (w8 >>> 49 | w9 << 15) & 0x1FFFFFFFFL;
+			dest[off + 18] = w9 >>> 18 & 0x1FFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 19] = (w9 >>> 51 | w10 << 13) & 0x1FFFFFFFFL;
+			dest[off + 20] = w10 >>> 20 & 0x1FFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 21] = (w10 >>> 53 | w11 << 11) & 0x1FFFFFFFFL;
+			dest[off + 22] = w11 >>> 22 & 0x1FFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 23] = (w11 >>> 55 | w12 << 9) & 0x1FFFFFFFFL;
+			dest[off + 24] = w12 >>> 24 & 0x1FFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 25] = (w12 >>> 57 | w13 << 7) & 0x1FFFFFFFFL;
+			dest[off + 26] = w13 >>> 26 & 0x1FFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 27] = (w13 >>> 59 | w14 << 5) & 0x1FFFFFFFFL;
+			dest[off + 28] = w14 >>> 28 & 0x1FFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 29] = (w14 >>> 61 | w15 << 3) & 0x1FFFFFFFFL;
+			dest[off + 30] = w15 >>> 30 & 0x1FFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 31] = (w15 >>> 63 | w16 << 1) & 0x1FFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 32] = (w16 >>> 32 | w17 << 32) & 0x1FFFFFFFFL;
+			dest[off + 33] = w17 >>> 1 & 0x1FFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 34] = (w17 >>> 34 | w18 << 30) & 0x1FFFFFFFFL;
+			dest[off + 35] = w18 >>> 3 & 0x1FFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 36] = (w18 >>> 36 | w19 << 28) & 0x1FFFFFFFFL;
+			dest[off + 37] = w19 >>> 5 & 0x1FFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 38] = (w19 >>> 38 | w20 << 26) & 0x1FFFFFFFFL;
+			dest[off + 39] = w20 >>> 7 & 0x1FFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 40] = (w20 >>> 40 | w21 << 24) & 0x1FFFFFFFFL;
+			dest[off + 41] = w21 >>> 9 & 0x1FFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 42] = (w21 >>> 42 | w22 << 22) & 0x1FFFFFFFFL;
+			dest[off + 43] = w22 >>> 11 & 0x1FFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 44] = (w22 >>> 44 | w23 << 20) & 0x1FFFFFFFFL;
+			dest[off + 45] = w23 >>> 13 & 0x1FFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 46] = (w23 >>> 46 | w24 << 18) & 0x1FFFFFFFFL;
+			dest[off + 47] = w24 >>> 15 & 0x1FFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 48] = (w24 >>> 48 | w25 << 16) & 0x1FFFFFFFFL;
+			dest[off + 49] = w25 >>> 17 & 0x1FFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 50] = (w25 >>> 50 | w26 << 14) & 0x1FFFFFFFFL;
+			dest[off + 51] = w26 >>> 19 & 0x1FFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 52] = (w26 >>> 52 | w27 << 12) & 0x1FFFFFFFFL;
+			dest[off + 53] = w27 >>> 21 & 0x1FFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 54] = (w27 >>> 54 | w28 << 10) & 0x1FFFFFFFFL;
+			dest[off + 55] = w28 >>> 23 & 0x1FFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 56] = (w28 >>> 56 | w29 << 8) & 0x1FFFFFFFFL;
+			dest[off + 57] = w29 >>> 25 & 0x1FFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 58] = (w29 >>> 58 | w30 << 6) & 0x1FFFFFFFFL;
+			dest[off + 59] = w30 >>> 27 & 0x1FFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 60] = (w30 >>> 60 | w31 << 4) & 0x1FFFFFFFFL;
+			dest[off + 61] = w31 >>> 29 & 0x1FFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 62] = (w31 >>> 62 | w32 << 2) & 0x1FFFFFFFFL;
+			dest[off + 63] = w32 >>> 31;
+		}
+	}
+
+	private static void encode33(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 33) {
+			final long v0 = src[off] & 0x1FFFFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFFFL;
+			data[j] = v0 | v1 << 33;
+			data[j + 1] = v1 >>> 31 | v2 << 2 | v3 << 35;
+			data[j + 2] = v3 >>> 29 | v4 << 4 | v5 << 37;
+			data[j + 3] = v5 >>> 27 | v6 << 6 | v7 << 39;
+			data[j + 4] = v7 >>> 25 | v8 << 8 | v9 << 41;
+			data[j + 5] = v9 >>> 23 | v10 << 10 | v11 << 43;
+			data[j + 6] = v11 >>> 21 | v12 << 12 | v13 << 45;
+			data[j + 7] = v13 >>> 19 | v14 << 14 | v15 << 47;
+			data[j + 8] = v15 >>> 17 | v16 << 16 | v17 << 49;
+			data[j + 9] = v17 >>> 15 | v18 << 18 | v19 << 51;
+			data[j + 10] = v19 >>> 13 | v20 << 20 | v21 << 53;
+			data[j + 11] = v21 >>> 11 | v22 << 22 | v23 << 55;
+			data[j + 12] = v23 >>> 9 | v24 << 24 | v25 << 57;
+			data[j + 13] = v25 >>> 7 | v26 << 26 | v27 << 59;
+			data[j + 14] = v27 >>> 5 | v28 << 28 | v29 << 61;
+			data[j + 15] = v29 >>> 3 | v30 << 30 | v31 << 63;
+			data[j + 16] = v31 >>> 1 | v32 << 32;
+			data[j + 17] = v32 >>> 32 | v33 << 1 | v34 << 34;
+			data[j + 18] = v34 >>> 30 | v35 << 3 | v36 << 36;
+			data[j + 19] = v36 >>> 28 | v37 << 5 | v38 << 38;
+			data[j + 20] = v38 >>> 26 | v39 << 7 | v40 << 40;
+			data[j + 21] = v40 >>> 24 | v41 << 9 | v42 << 42;
+			data[j + 22] = v42 >>> 22 | v43 << 11 | v44 << 44;
+			data[j + 23] = v44 >>> 20 | v45 << 13 | v46 << 46;
+			data[j + 24] = v46 >>> 18 | v47 << 15 | v48 << 48;
+			data[j + 25] = v48 >>> 16 | v49 << 17 | v50 << 50;
+			data[j + 26] = v50 >>> 14 | v51 << 19 | v52 << 52;
+			data[j + 27] = v52 >>> 12 | v53 << 21 | v54 << 54;
+			data[j + 28] = v54 >>> 10 | v55 << 23 | v56 << 56;
+			data[j + 29] = v56 >>> 8 | v57 << 25 | v58 << 58;
+			data[j + 30] = v58 >>> 6 | v59 << 27 | v60 << 60;
+			data[j + 31] = v60 >>> 4 | v61 << 29 | v62 << 62;
+			data[j + 32] = v62 >>> 2 | v63 << 31;
+		}
+	}
+
+	private static void decode34(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 34, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 34 | w1 << 30) & 0x3FFFFFFFFL;
+			dest[off + 2] = w1 >>> 4 & 0x3FFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 3] = (w1 >>> 38 | w2 << 26) & 0x3FFFFFFFFL;
+			dest[off + 4] = w2 >>> 8 & 0x3FFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 5] = (w2 >>> 42 | w3 << 22) & 0x3FFFFFFFFL;
+			dest[off + 6] = w3 >>> 12 & 0x3FFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 7] = (w3 >>> 46 | w4 << 18) & 0x3FFFFFFFFL;
+			dest[off + 8] = w4 >>> 16 & 0x3FFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 9] = (w4 >>> 50 | w5 << 14) & 0x3FFFFFFFFL;
+			dest[off + 10] = w5 >>> 20 & 0x3FFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 11] = (w5 >>> 54 | w6 << 10) & 0x3FFFFFFFFL;
+			dest[off + 12] = w6 >>> 24 & 0x3FFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 13] = (w6 >>> 58 | w7 << 6) & 0x3FFFFFFFFL;
+			dest[off + 14] = w7 >>> 28 & 0x3FFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 15] = (w7 >>> 62 | w8 << 2) & 0x3FFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 16] = (w8 >>> 32 | w9 << 32) & 0x3FFFFFFFFL;
+			dest[off + 17] = w9 >>> 2 & 0x3FFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 18] = (w9 >>> 36 | w10 << 28) & 0x3FFFFFFFFL;
+			dest[off + 19] = w10 >>> 6 & 0x3FFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 20] = (w10 >>> 40 | w11 << 24) & 0x3FFFFFFFFL;
+			dest[off + 21] = w11 >>> 10 & 0x3FFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 22] = (w11 >>> 44 | w12 << 20) & 0x3FFFFFFFFL;
+			dest[off + 23] = w12 >>> 14 & 0x3FFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 24] = (w12 >>> 48 | w13 << 16) & 0x3FFFFFFFFL;
+			dest[off + 25] = w13 >>> 18 & 0x3FFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 26] = (w13 >>> 52 | w14 << 12) & 0x3FFFFFFFFL;
+			dest[off + 27] = w14 >>> 22 & 0x3FFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 28] = (w14 >>> 56 | w15 << 8) & 0x3FFFFFFFFL;
+			dest[off + 29] = w15 >>> 26 & 0x3FFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 30] = (w15 >>> 60 | w16 << 4) & 0x3FFFFFFFFL;
+			dest[off + 31] = w16 >>> 30;
+			final long w17 = data[j + 17];
+			dest[off + 32] = w17 & 0x3FFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 33] = (w17 >>> 34 | w18 << 30) & 0x3FFFFFFFFL;
+			dest[off + 34] = w18 >>> 4 & 0x3FFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 35] = (w18 >>> 38 | w19 << 26) & 0x3FFFFFFFFL;
+			dest[off + 36] = w19 >>> 8 & 0x3FFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 37] = (w19 >>> 42 | w20 << 22) & 0x3FFFFFFFFL;
+			dest[off + 38] = w20 >>> 12 & 0x3FFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 39] = (w20 >>> 46 | w21 << 18) & 0x3FFFFFFFFL;
+			dest[off + 40] = w21 >>> 16 & 0x3FFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 41] = (w21 >>> 50 | w22 << 14) & 0x3FFFFFFFFL;
+			dest[off + 42] = w22 >>> 20 & 0x3FFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 43] = (w22 >>> 54 | w23 << 10) & 0x3FFFFFFFFL;
+			dest[off + 44] = w23 >>> 24 & 0x3FFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 45] = (w23 >>> 58 | w24 << 6) & 0x3FFFFFFFFL;
+			dest[off + 46] = w24 >>> 28 & 0x3FFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 47] = (w24 >>> 62 | w25 << 2) & 0x3FFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 48] = (w25 >>> 32 | w26 << 32) & 0x3FFFFFFFFL;
+			dest[off + 49] = w26 >>> 2 & 0x3FFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 50] = (w26 >>> 36 | w27 << 28) & 0x3FFFFFFFFL;
+			dest[off + 51] = w27 >>> 6 & 0x3FFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 52] = (w27 >>> 40 | w28 << 24) & 0x3FFFFFFFFL;
+			dest[off + 53] = w28 >>> 10 & 0x3FFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 54] = (w28 >>> 44 | w29 << 20) & 0x3FFFFFFFFL;
+			dest[off + 55] = w29 >>> 14 & 0x3FFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 56] = (w29 >>> 48 | w30 << 16) & 0x3FFFFFFFFL;
+			dest[off + 57] = w30 >>> 18 & 0x3FFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 58] = (w30 >>> 52 | w31 << 12) & 0x3FFFFFFFFL;
+			dest[off + 59] = w31 >>> 22 & 0x3FFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 60] = (w31 >>> 56 | w32 << 8) & 0x3FFFFFFFFL;
+			dest[off + 61] = w32 >>> 26 & 0x3FFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 62] = (w32 >>> 60 | w33 << 4) & 0x3FFFFFFFFL;
+			dest[off + 63] = w33 >>> 30;
+		}
+	}
+
+	private static void encode34(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 34) {
+			final long v0 = src[off] & 0x3FFFFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFFFL;
+			data[j] = v0 | v1 << 34;
+			data[j + 1] = v1 >>> 30 | v2 << 4 | v3 << 38;
+			data[j + 2] = v3 >>> 26 | v4 << 8 | v5 << 42;
+			data[j + 3] = v5 >>> 22 | v6 << 12 | v7 << 46;
+			data[j + 4] = v7 >>> 18 | v8 << 16 | v9 << 50;
+			data[j + 5] = v9 >>> 14 | v10 << 20 | v11 << 54;
+			data[j + 6] = v11 >>> 10 | v12 << 24 | v13 << 58;
+			data[j + 7] = v13 >>> 6 | v14 << 28 | v15 << 62;
+			data[j + 8] = v15 >>> 2 | v16 << 32;
+			data[j + 9] = v16 >>> 32 | v17 << 2 | v18 << 36;
+			data[j + 10] = v18 >>> 28 | v19 << 6 | v20 << 40;
+			data[j + 11] = v20 >>> 24 | v21 << 10 | v22 << 44;
+			data[j + 12] = v22 >>> 20 | v23 << 14 | v24 << 48;
+			data[j + 13] = v24 >>> 16 | v25 << 18 | v26 << 52;
+			data[j + 14] = v26 >>> 12 | v27 << 22 | v28 << 56;
+			data[j + 15] = v28 >>> 8 | v29 << 26 | v30 << 60;
+			data[j + 16] = v30 >>> 4 | v31 << 30;
+			data[j + 17] = v32 | v33 << 34;
+			data[j + 18] = v33 >>> 30 | v34 << 4 | v35 << 38;
+			data[j + 19] = v35 >>> 26 | v36 << 8 | v37 << 42;
+			data[j + 20] = v37 >>> 22 | v38 << 12 | v39 << 46;
+			data[j + 21] = v39 >>> 18 | v40 << 16 | v41 << 50;
+			data[j + 22] = v41 >>> 14 | v42 << 20 | v43 << 54;
+			data[j + 23] = v43 >>> 10 | v44 << 24 | v45 << 58;
+			data[j + 24] = v45 >>> 6 | v46 << 28 | v47 << 62;
+			data[j + 25] = v47 >>> 2 | v48 << 32;
+			data[j + 26] = v48 >>> 32 | v49 << 2 | v50 << 36;
+			data[j + 27] = v50 >>> 28 | v51 << 6 | v52 << 40;
+			data[j + 28] = v52 >>> 24 | v53 << 10 | v54 << 44;
+			data[j + 29] = v54 >>> 20 | v55 << 14 | v56 << 48;
+			data[j + 30] = v56 >>> 16 | v57 << 18 | v58 << 52;
+			data[j + 31] = v58 >>> 12 | v59 << 22 | v60 << 56;
+			data[j + 32] = v60 >>> 8 | v61 << 26 | v62 << 60;
+			data[j + 33] = v62 >>> 4 | v63 << 30;
+		}
+	}
+
+	private static void decode35(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 35, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 35 | w1 << 29) & 0x7FFFFFFFFL;
+			dest[off + 2] = w1 >>> 6 & 0x7FFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 3] = (w1 >>> 41 | w2 << 23) & 0x7FFFFFFFFL;
+			dest[off + 4] = w2 >>> 12 & 0x7FFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 5] = (w2 >>> 47 | w3 << 17) & 0x7FFFFFFFFL;
+			dest[off + 6] = w3 >>> 18 & 0x7FFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 7] = (w3 >>> 53 | w4 << 11) & 0x7FFFFFFFFL;
+			dest[off + 8] = w4 >>> 24 & 0x7FFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 9] = (w4 >>> 59 | w5 << 5) & 0x7FFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 10] = (w5 >>> 30 | w6 << 34) & 0x7FFFFFFFFL;
+			dest[off + 11] = w6 >>> 1 & 0x7FFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 12] = (w6 >>> 36 | w7 << 28) & 0x7FFFFFFFFL;
+			dest[off + 13] = w7 >>> 7 & 0x7FFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 14] = (w7 >>> 42 | w8 << 22) & 0x7FFFFFFFFL;
+			dest[off + 15] = w8 >>> 13 & 0x7FFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 16] = (w8 >>> 48 | w9 << 16) & 0x7FFFFFFFFL;
+			dest[off + 17] = w9 >>> 19 & 0x7FFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 18] = (w9 >>> 54 | w10 << 10) & 0x7FFFFFFFFL;
+			dest[off + 19] = w10 >>> 25 & 0x7FFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 20] = (w10 >>> 60 | w11 << 4) & 0x7FFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 21] = (w11 >>> 31 | w12 << 33) & 0x7FFFFFFFFL;
+			dest[off + 22] = w12 >>> 2 & 0x7FFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 23] = (w12 >>> 37 | w13 << 27) & 0x7FFFFFFFFL;
+			dest[off + 24] = w13 >>> 8 & 0x7FFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 25] = (w13 >>> 43 | w14 << 21) & 0x7FFFFFFFFL;
+			dest[off + 26] = w14 >>> 14 & 0x7FFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 27] = (w14 >>> 49 | w15 << 15) & 0x7FFFFFFFFL;
+			dest[off + 28] = w15 >>> 20 & 0x7FFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 29] = (w15 >>> 55 | w16 << 9) & 0x7FFFFFFFFL;
+			dest[off + 30] = w16 >>> 26 & 0x7FFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 31] = (w16 >>> 61 | w17 << 3) & 0x7FFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 32] = (w17 >>> 32 | w18 << 32) & 0x7FFFFFFFFL;
+			dest[off + 33] = w18 >>> 3 & 0x7FFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 34] = (w18 >>> 38 | w19 << 26) & 0x7FFFFFFFFL;
+			dest[off + 35] = w19 >>> 9 & 0x7FFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 36] = (w19 >>> 44 | w20 << 20) & 0x7FFFFFFFFL;
+			dest[off + 37] = w20 >>> 15 & 0x7FFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 38] = (w20 >>> 50 | w21 << 14) & 0x7FFFFFFFFL;
+			dest[off + 39] = w21 >>> 21 & 0x7FFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 40] = (w21 >>> 56 | w22 << 8) & 0x7FFFFFFFFL;
+			dest[off + 41] = w22 >>> 27 & 0x7FFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 42] = (w22 >>> 62 | w23 << 2) & 0x7FFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 43] = (w23 >>> 33 | w24 << 31) & 0x7FFFFFFFFL;
+			dest[off + 44] = w24 >>> 4 & 0x7FFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 45] = (w24 >>> 39 | w25 << 25) & 0x7FFFFFFFFL;
+			dest[off + 46] = w25 >>> 10 & 0x7FFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 47] = (w25 >>> 45 | w26 << 19) & 0x7FFFFFFFFL;
+			dest[off + 48] = w26 >>> 16 & 0x7FFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 49] = (w26 >>> 51 | w27 << 13) & 0x7FFFFFFFFL;
+			dest[off + 50] = w27 >>> 22 & 0x7FFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 51] = (w27 >>> 57 | w28 << 7) & 0x7FFFFFFFFL;
+			dest[off + 52] = w28 >>> 28 & 0x7FFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 53] = (w28 >>> 63 | w29 << 1) & 0x7FFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 54] = (w29 >>> 34 | w30 << 30) & 0x7FFFFFFFFL;
+			dest[off + 55] = w30 >>> 5 & 0x7FFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 56] = (w30 >>> 40 | w31 << 24) & 0x7FFFFFFFFL;
+			dest[off + 57] = w31 >>> 11 & 0x7FFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 58] = (w31 >>> 46 | w32 << 18) & 0x7FFFFFFFFL;
+			dest[off + 59] = w32 >>> 17 & 0x7FFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 60] = (w32 >>> 52 | w33 << 12) & 0x7FFFFFFFFL;
+			dest[off + 61] = w33 >>> 23 & 0x7FFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 62] = (w33 >>> 58 | w34 << 6) & 0x7FFFFFFFFL;
+			dest[off + 63] = w34 >>> 29;
+		}
+	}
+
+	private static void encode35(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 35) {
+			final long v0 = src[off] & 0x7FFFFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFFFL;
+			data[j] = v0 | v1 << 35;
+			data[j + 1] = v1 >>> 29 | v2 << 6 | v3 << 41;
+			data[j + 2] = v3 >>> 23 | v4 << 12 | v5 << 47;
+			data[j + 3] = v5 >>> 17 | v6 << 18 | v7 << 53;
+			data[j + 4] = v7 >>> 11 | v8 << 24 | v9 << 59;
+			data[j + 5] = v9 >>> 5 | v10 << 30;
+			data[j + 6] = v10 >>> 34 | v11 << 1 | v12 << 36;
+			data[j + 7] = v12 >>> 28 | v13 << 7 | v14 << 42;
+			data[j + 8] = v14 >>> 22 | v15 << 13 | v16 << 48;
+			data[j + 9] = v16 >>> 16 | v17 << 19 | v18 << 54;
+			data[j + 10] = v18 >>> 10 | v19 << 25 | v20 << 60;
+			data[j + 11] = v20 >>> 4 | v21 << 31;
+			data[j + 12] = v21 >>> 33 | v22 << 2 | v23 << 37;
+			data[j + 13] = v23 >>> 27 | v24 << 8 | v25 << 43;
+			data[j + 14] = v25 >>> 21 | v26 << 14 | v27 << 49;
+			data[j + 15] = v27 >>> 15 | v28 << 20 | v29 << 55;
+			data[j + 16] = v29 >>> 9 | v30 << 26 | v31 << 61;
+			data[j + 17] = v31 >>> 3 | v32 << 32;
+			data[j + 18] = v32 >>> 32 | v33 << 3 | v34 << 38;
+			data[j + 19] = v34 >>> 26 | v35 << 9 | v36 << 44;
+			data[j + 20] = v36 >>> 20 | v37 << 15 | v38 << 50;
+			data[j + 21] = v38 >>> 14 | v39 << 21 | v40 << 56;
+			data[j + 22] = v40 >>> 8 | v41 << 27 | v42 << 62;
+			data[j + 23] = v42 >>> 2 | v43 << 33;
+			data[j + 24] = v43 >>> 31 | v44 << 4 | v45 << 39;
+			data[j + 25] = v45 >>> 25 | v46 << 10 | v47 << 45;
+			data[j + 26] = v47 >>> 19 | v48 << 16 | v49 << 51;
+			data[j + 27] = v49 >>> 13 | v50 << 22 | v51 << 57;
+			data[j + 28] = v51 >>> 7 | v52 << 28 | v53 << 63;
+			data[j + 29] = v53 >>> 1 | v54 << 34;
+			data[j + 30] = v54 >>> 30 | v55 << 5 | v56 << 40;
+			data[j + 31] = v56 >>> 24 | v57 << 11 | v58 << 46;
+			data[j + 32] = v58 >>> 18 | v59 << 17 | v60 << 52;
+			data[j + 33] = v60 >>> 12 | v61 << 23 | v62 << 58;
+			data[j + 34] = v62 >>> 6 | v63 << 29;
+		}
+	}
+
+	private static void decode36(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 36, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 36 | w1 << 28) & 0xFFFFFFFFFL;
+			dest[off + 2] = w1 >>> 8 & 0xFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 3] = (w1 >>> 44 | w2 << 20) & 0xFFFFFFFFFL;
+			dest[off + 4] = w2 >>> 16 & 0xFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 5] = (w2 >>> 52 | w3 << 12) & 0xFFFFFFFFFL;
+			dest[off + 6] = w3 >>> 24 & 0xFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 7] = (w3 >>> 60 | w4 << 4) & 0xFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 8] = (w4 >>> 32 | w5 << 32) & 0xFFFFFFFFFL;
+			dest[off + 9] = w5 >>> 4 & 0xFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 10] = (w5 >>> 40 | w6 << 24) & 0xFFFFFFFFFL;
+			dest[off + 11] = w6 >>> 12 & 0xFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 12] = (w6 >>> 48 | w7 << 16) & 0xFFFFFFFFFL;
+			dest[off + 13] = w7 >>> 20 & 0xFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 14] = (w7 >>> 56 | w8 << 8) & 0xFFFFFFFFFL;
+			dest[off + 15] = w8 >>> 28;
+			final long w9 = data[j + 9];
+			dest[off + 16] = w9 & 0xFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 17] = (w9 >>> 36 | w10 << 28) & 0xFFFFFFFFFL;
+			dest[off + 18] = w10 >>> 8 & 0xFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 19] = (w10 >>> 44 | w11 << 20) & 0xFFFFFFFFFL;
+			dest[off + 20] = w11 >>> 16 & 0xFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 21] = (w11 >>> 52 | w12 << 12) & 0xFFFFFFFFFL;
+			dest[off + 22] = w12 >>> 24 & 0xFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 23] = (w12 >>> 60 | w13 << 4) & 0xFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 24] = (w13 >>> 32 | w14 << 32) & 0xFFFFFFFFFL;
+			dest[off + 25] = w14 >>> 4 & 0xFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 26] = (w14 >>> 40 | w15 << 24) & 0xFFFFFFFFFL;
+			dest[off + 27] = w15 >>> 12 & 0xFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 28] = (w15 >>> 48 | w16 << 16) & 0xFFFFFFFFFL;
+			dest[off + 29] = w16 >>> 20 & 0xFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 30] = (w16 >>> 56 | w17 << 8) & 0xFFFFFFFFFL;
+			dest[off + 31] = w17 >>> 28;
+			final long w18 = data[j + 18];
+			dest[off + 32] = w18 & 0xFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 33] = (w18 >>> 36 | w19 << 28) & 0xFFFFFFFFFL;
+			dest[off + 34] = w19 >>> 8 & 0xFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 35] = (w19 >>> 44 | w20 << 20) & 0xFFFFFFFFFL;
+			dest[off + 36] = w20 >>> 16 & 0xFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 37] = (w20 >>> 52 | w21 << 12) & 0xFFFFFFFFFL;
+			dest[off + 38] = w21 >>> 24 & 0xFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 39] = (w21 >>> 60 | w22 << 4) & 0xFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 40] = (w22 >>> 32 | w23 << 32) & 0xFFFFFFFFFL;
+			dest[off + 41] = w23 >>> 4 & 0xFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 42] = (w23 >>> 40 | w24 << 24) & 0xFFFFFFFFFL;
+			dest[off + 43] = w24 >>> 12 & 0xFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 44] = (w24 >>> 48 | w25 << 16) & 0xFFFFFFFFFL;
+			dest[off + 45] = w25 >>> 20 & 0xFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 46] = (w25 >>> 56 | w26 << 8) & 0xFFFFFFFFFL;
+			dest[off + 47] = w26 >>> 28;
+			final long w27 = data[j + 27];
+			dest[off + 48] = w27 & 0xFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 49] = (w27 >>> 36 | w28 << 28) & 0xFFFFFFFFFL;
+			dest[off + 50] = w28 >>> 8 & 0xFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 51] = (w28 >>> 44 | w29 << 20) & 0xFFFFFFFFFL;
+			dest[off + 52] = w29 >>> 16 & 0xFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 53] = (w29 >>> 52 | w30 << 12) & 0xFFFFFFFFFL;
+			dest[off + 54] = w30 >>> 24 & 0xFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 55] = (w30 >>> 60 | w31 << 4) & 0xFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 56] = (w31 >>> 32 | w32 << 32) & 0xFFFFFFFFFL;
+			dest[off + 57] = w32 >>> 4 & 0xFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 58] = (w32 >>> 40 | w33 << 24) & 0xFFFFFFFFFL;
+			dest[off + 59] = w33 >>> 12 & 0xFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 60] = (w33 >>> 48 | w34 << 16) & 0xFFFFFFFFFL;
+			dest[off + 61] = w34 >>> 20 & 0xFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 62] = (w34 >>> 56 | w35 << 8) & 0xFFFFFFFFFL;
+			dest[off + 63] = w35 >>> 28;
+		}
+	}
+
+	private static void encode36(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 36) {
+			final long v0 = src[off] & 0xFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFFFL;
+			data[j] = v0 | v1 << 36;
+			data[j + 1] = v1 >>> 28 | v2 << 8 | v3 << 44;
+			data[j + 2] = v3 >>> 20 | v4 << 16 | v5 << 52;
+			data[j + 3] = v5 >>> 12 | v6 << 24 | v7 << 60;
+			data[j + 4] = v7 >>> 4 | v8 << 32;
+			data[j + 5] = v8 >>> 32 | v9 << 4 | v10 << 40;
+			data[j + 6] = v10 >>> 24 | v11 << 12 | v12 << 48;
+			data[j + 7] = v12 >>> 16 | v13 << 20 | v14 << 56;
+			data[j + 8] = v14 >>> 8 | v15 << 28;
+			data[j + 9] = v16 | v17 << 36;
+			data[j + 10] = v17 >>> 28 | v18 << 8 | v19 << 44;
+			data[j + 11] = v19 >>> 20 | v20 << 16 | v21 << 52;
+			data[j + 12] = v21 >>> 12 | v22 << 24 | v23 << 60;
+			data[j + 13] = v23 >>> 4 | v24 << 32;
+			data[j + 14] = v24 >>> 32 | v25 << 4 | v26 << 40;
+			data[j + 15] = v26 >>> 24 | v27 << 12 | v28 << 48;
+			data[j + 16] = v28 >>> 16 | v29 << 20 | v30 << 56;
+			data[j + 17] = v30 >>> 8 | v31 << 28;
+			data[j + 18] = v32 | v33 << 36;
+			data[j + 19] = v33 >>> 28 | v34 << 8 | v35 << 44;
+			data[j + 20] = v35 >>> 20 | v36 << 16 | v37 << 52;
+			data[j + 21] = v37 >>> 12 | v38 << 24 | v39 << 60;
+			data[j + 22] = v39 >>> 4 | v40 << 32;
+			data[j + 23] = v40 >>> 32 | v41 << 4 | v42 << 40;
+			data[j + 24] = v42 >>> 24 | v43 << 12 | v44 << 48;
+			data[j + 25] = v44 >>> 16 | v45 << 20 | v46 << 56;
+			data[j + 26] = v46 >>> 8 | v47 << 28;
+			data[j + 27] = v48 | v49 << 36;
+			data[j + 28] = v49 >>> 28 | v50 << 8 | v51 << 44;
+			data[j + 29] = v51 >>> 20 | v52 << 16 | v53 << 52;
+			data[j + 30] = v53 >>> 12 | v54 << 24 | v55 << 60;
+			data[j + 31] = v55 >>> 4 | v56 << 32;
+			data[j + 32] = v56 >>> 32 | v57 << 4 | v58 << 40;
+			data[j + 33] = v58 >>> 24 | v59 << 12 | v60 << 48;
+			data[j + 34] = v60 >>> 16 | v61 << 20 | v62 << 56;
+			data[j + 35] = v62 >>> 8 | v63 << 28;
+		}
+	}
+
+	private static void decode37(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 37, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 37 | w1 << 27) & 0x1FFFFFFFFFL;
+			dest[off + 2] = w1 >>> 10 & 0x1FFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 3] = (w1 >>> 47 | w2 << 17) & 0x1FFFFFFFFFL;
+			dest[off + 4] = w2 >>> 20 & 0x1FFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 5] = (w2 >>> 57 | w3 << 7) & 0x1FFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 6] = (w3 >>> 30 | w4 << 34) & 0x1FFFFFFFFFL;
+			dest[off + 7] = w4 >>> 3 & 0x1FFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 8] = (w4 >>> 40 | w5 << 24) & 0x1FFFFFFFFFL;
+			dest[off + 9] = w5 >>> 13 & 0x1FFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 10] = (w5 >>> 50 | w6 << 14) & 0x1FFFFFFFFFL;
+			dest[off + 11] = w6 >>> 23 & 0x1FFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 12] = (w6 >>> 60 | w7 << 4) & 0x1FFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 13] = (w7 >>> 33 | w8 << 31) & 0x1FFFFFFFFFL;
+			dest[off + 14] = w8 >>> 6 & 0x1FFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 15] = (w8 >>> 43 | w9 << 21) & 0x1FFFFFFFFFL;
+			dest[off + 16] = w9 >>> 16 & 0x1FFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 17] = (w9 >>> 53 | w10 << 11) & 0x1FFFFFFFFFL;
+			dest[off + 18] = w10 >>> 26 & 0x1FFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 19] = (w10 >>> 63 | w11 << 1) & 0x1FFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 20] = (w11 >>> 36 | w12 << 28) & 0x1FFFFFFFFFL;
+			dest[off + 21] = w12 >>> 9 & 0x1FFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 22] = (w12 >>> 46 | w13 << 18) & 0x1FFFFFFFFFL;
+			dest[off + 23] = w13 >>> 19 & 0x1FFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 24] = (w13 >>> 56 | w14 << 8) & 0x1FFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 25] = (w14 >>> 29 | w15 << 35) & 0x1FFFFFFFFFL;
+			dest[off + 26] = w15 >>> 2 & 0x1FFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 27] = (w15 >>> 39 | w16 << 25) & 0x1FFFFFFFFFL;
+			dest[off + 28] = w16 >>> 12 & 0x1FFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 29] = (w16 >>> 49 | w17 << 15) & 0x1FFFFFFFFFL;
+			dest[off + 30] = w17 >>> 22 & 0x1FFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 31] = (w17 >>> 59 | w18 << 5) & 0x1FFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 32] = (w18 >>> 32 | w19 << 32) & 0x1FFFFFFFFFL;
+			dest[off + 33] = w19 >>> 5 & 0x1FFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 34] = (w19 >>> 42 | w20 << 22) & 0x1FFFFFFFFFL;
+			dest[off + 35] = w20 >>> 15 & 0x1FFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 36] = (w20 >>> 52 | w21 << 12) & 0x1FFFFFFFFFL;
+			dest[off + 37] = w21 >>> 25 & 0x1FFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 38] = (w21 >>> 62 | w22 << 2) & 0x1FFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 39] = (w22 >>> 35 | w23 << 29) & 0x1FFFFFFFFFL;
+			dest[off + 40] = w23 >>> 8 & 0x1FFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 41] = (w23 >>> 45 | w24 << 19) & 0x1FFFFFFFFFL;
+			dest[off + 42] = w24 >>> 18 & 0x1FFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 43] = (w24 >>> 55 | w25 << 9) & 0x1FFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 44] = (w25 >>> 28 | w26 << 36) & 0x1FFFFFFFFFL;
+			dest[off + 45] = w26 >>> 1 & 0x1FFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 46] = (w26 >>> 38 | w27 << 26) & 0x1FFFFFFFFFL;
+			dest[off + 47] = w27 >>> 11 & 0x1FFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 48] = (w27 >>> 48 | w28 << 16) & 0x1FFFFFFFFFL;
+			dest[off + 49] = w28 >>> 21 & 0x1FFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 50] = (w28 >>> 58 | w29 << 6) & 0x1FFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 51] = (w29 >>> 31 | w30 << 33) & 0x1FFFFFFFFFL;
+			dest[off + 52] = w30 >>> 4 & 0x1FFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 53] = (w30 >>> 41 | w31 << 23) & 0x1FFFFFFFFFL;
+			dest[off + 54] = w31 >>> 14 & 0x1FFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 55] = (w31 >>> 51 | w32 << 13) & 0x1FFFFFFFFFL;
+			dest[off + 56] = w32 >>> 24 & 0x1FFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 57] = (w32 >>> 61 | w33 << 3) & 0x1FFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 58] = (w33 >>> 34 | w34 << 30) & 0x1FFFFFFFFFL;
+			dest[off + 59] = w34 >>> 7 & 0x1FFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 60] = (w34 >>> 44 | w35 << 20) & 0x1FFFFFFFFFL;
+			dest[off + 61] = w35 >>> 17 & 0x1FFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 62] = (w35 >>> 54 | w36 << 10) & 0x1FFFFFFFFFL;
+			dest[off + 63] = w36 >>> 27;
+		}
+	}
+
+	private static void encode37(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 37) {
+			final long v0 = src[off] & 0x1FFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFFFFL;
+			data[j] = v0 | v1 << 37;
+			data[j + 1] = v1 >>> 27 | v2 << 10 | v3 << 47;
+			data[j + 2] = v3 >>> 17 | v4 << 20 | v5 << 57;
+			data[j + 3] = v5 >>> 7 | v6 << 30;
+			data[j + 4] = v6 >>> 34 | v7 << 3 | v8 << 40;
+			data[j + 5] = v8 >>> 24 | v9 << 13 | v10 << 50;
+			data[j + 6] = v10 >>> 14 | v11 << 23 | v12 << 60;
+			data[j + 7] = v12 >>> 4 | v13 << 33;
+			data[j + 8] = v13 >>> 31 | v14 << 6 | v15 << 43;
+			data[j + 9] = v15 >>> 21 | v16 << 16 | v17 << 53;
+			data[j + 10] = v17 >>> 11 | v18 << 26 | v19 << 63;
+			data[j + 11] = v19 >>> 1 | v20 << 36;
+			data[j + 12] = v20 >>> 28 | v21 << 9 | v22 << 46;
+			data[j + 13] = v22 >>> 18 | v23 << 19 | v24 << 56;
+			data[j + 14] = v24 >>> 8 | v25 << 29;
+			data[j + 15] = v25 >>> 35 | v26 << 2 | v27 << 39;
+			data[j + 16] = v27 >>> 25 | v28 << 12 | v29 << 49;
+			data[j + 17] = v29 >>> 15 | v30 << 22 | v31 << 59;
+			data[j + 18] = v31 >>> 5 | v32 << 32;
+			data[j + 19] = v32 >>> 32 | v33 << 5 | v34 << 42;
+			data[j + 20] = v34 >>> 22 | v35 << 15 | v36 << 52;
+			data[j + 21] = v36 >>> 12 | v37 << 25 | v38 << 62;
+			data[j + 22] = v38 >>> 2 | v39 << 35;
+			data[j + 23] = v39 >>> 29 | v40 << 8 | v41 << 45;
+			data[j + 24] = v41 >>> 19 | v42 << 18 | v43 << 55;
+			data[j + 25] = v43 >>> 9 | v44 << 28;
+			data[j + 26] = v44 >>> 36 | v45 << 1 | v46 << 38;
+			data[j + 27] = v46 >>> 26 | v47 << 11 | v48 << 48;
+			data[j + 28] = v48 >>> 16 | v49 << 21 | v50 << 58;
+			data[j + 29] = v50 >>> 6 | v51 << 31;
+			data[j + 30] = v51 >>> 33 | v52 << 4 | v53 << 41;
+			data[j + 31] = v53 >>> 23 | v54 << 14 | v55 << 51;
+			data[j + 32] = v55 >>> 13 | v56 << 24 | v57 << 61;
+			data[j + 33] = v57 >>> 3 | v58 << 34;
+			data[j + 34] = v58 >>> 30 | v59 << 7 | v60 << 44;
+			data[j + 35] = v60 >>> 20 | v61 << 17 | v62 << 54;
+			data[j + 36] = v62 >>> 10 | v63 << 27;
+		}
+	}
+
+	private static void decode38(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 38, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 38 | w1 << 26) & 0x3FFFFFFFFFL;
+			dest[off + 2] = w1 >>> 12 & 0x3FFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 3] = (w1 >>> 50 | w2 << 14) & 0x3FFFFFFFFFL;
+			dest[off + 4] = w2 >>> 24 & 0x3FFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 5] = (w2 >>> 62 | w3 << 2) & 0x3FFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 6] = (w3 >>> 36 | w4 << 28) & 0x3FFFFFFFFFL;
+			dest[off + 7] = w4 >>> 10 & 0x3FFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 8] = (w4 >>> 48 | w5 << 16) & 0x3FFFFFFFFFL;
+			dest[off + 9] = w5 >>> 22 & 0x3FFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 10] = (w5 >>> 60 | w6 << 4) & 0x3FFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 11] = (w6 >>> 34 | w7 << 30) & 0x3FFFFFFFFFL;
+			dest[off + 12] = w7 >>> 8 & 0x3FFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 13] = (w7 >>> 46 | w8 << 18) & 0x3FFFFFFFFFL;
+			dest[off + 14] = w8 >>> 20 & 0x3FFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 15] = (w8 >>> 58 | w9 << 6) & 0x3FFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 16] = (w9 >>> 32 | w10 << 32) & 0x3FFFFFFFFFL;
+			dest[off + 17] = w10 >>> 6 & 0x3FFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 18] = (w10 >>> 44 | w11 << 20) & 0x3FFFFFFFFFL;
+			dest[off + 19] = w11 >>> 18 & 0x3FFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 20] = (w11 >>> 56 | w12 << 8) & 0x3FFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 21] = (w12 >>> 30 | w13 << 34) & 0x3FFFFFFFFFL;
+			dest[off + 22] = w13 >>> 4 & 0x3FFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 23] = (w13 >>> 42 | w14 << 22) & 0x3FFFFFFFFFL;
+			dest[off + 24] = w14 >>> 16 & 0x3FFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 25] = (w14 >>> 54 | w15 << 10) & 0x3FFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 26] = (w15 >>> 28 | w16 << 36) & 0x3FFFFFFFFFL;
+			dest[off + 27] = w16 >>> 2 & 0x3FFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 28] = (w16 >>> 40 | w17 << 24) & 0x3FFFFFFFFFL;
+			dest[off + 29] = w17 >>> 14 & 0x3FFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 30] = (w17 >>> 52 | w18 << 12) & 0x3FFFFFFFFFL;
+			dest[off + 31] = w18 >>> 26;
+			final long w19 = data[j + 19];
+			dest[off + 32] = w19 & 0x3FFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 33] = (w19 >>> 38 | w20 << 26) & 0x3FFFFFFFFFL;
+			dest[off + 34] = w20 >>> 12 & 0x3FFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 35] = (w20 >>> 50 | w21 << 14) & 0x3FFFFFFFFFL;
+			dest[off + 36] = w21 >>> 24 & 0x3FFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 37] = (w21 >>> 62 | w22 << 2) & 0x3FFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 38] = (w22 >>> 36 | w23 << 28) & 0x3FFFFFFFFFL;
+			dest[off + 39] = w23 >>> 10 & 0x3FFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 40] = (w23 >>> 48 | w24 << 16) & 0x3FFFFFFFFFL;
+			dest[off + 41] = w24 >>> 22 & 0x3FFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 42] = (w24 >>> 60 | w25 << 4) & 0x3FFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 43] = (w25 >>> 34 | w26 << 30) & 0x3FFFFFFFFFL;
+			dest[off + 44] = w26 >>> 8 & 0x3FFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 45] = (w26 >>> 46 | w27 << 18) & 0x3FFFFFFFFFL;
+			dest[off + 46] = w27 >>> 20 & 0x3FFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 47] = (w27 >>> 58 | w28 << 6) & 0x3FFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 48] = (w28 >>> 32 | w29 << 32) & 0x3FFFFFFFFFL;
+			dest[off + 49] = w29 >>> 6 & 0x3FFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 50] = (w29 >>> 44 | w30 << 20) & 0x3FFFFFFFFFL;
+			dest[off + 51] = w30 >>> 18 & 0x3FFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 52] = (w30 >>> 56 | w31 << 8) & 0x3FFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 53] = (w31 >>> 30 | w32 << 34) & 0x3FFFFFFFFFL;
+			dest[off + 54] = w32 >>> 4 & 0x3FFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 55] = (w32 >>> 42 | w33 << 22) & 0x3FFFFFFFFFL;
+			dest[off + 56] = w33 >>> 16 & 0x3FFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 57] = (w33 >>> 54 | w34 << 10) & 0x3FFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 58] = (w34 >>> 28 | w35 << 36) & 0x3FFFFFFFFFL;
+			dest[off + 59] = w35 >>> 2 & 0x3FFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 60] = (w35 >>> 40 | w36 << 24) & 0x3FFFFFFFFFL;
+			dest[off + 61] = w36 >>> 14 & 0x3FFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 62] = (w36 >>> 52 | w37 << 12) & 0x3FFFFFFFFFL;
+			dest[off + 63] = w37 >>> 26;
+		}
+	}
+
+	private static void encode38(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 38) {
+			final long v0 = src[off] & 0x3FFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFFFFL;
+			data[j] = v0 | v1 << 38;
+			data[j + 1] = v1 >>> 26 | v2 << 12 | v3 << 50;
+			data[j + 2] = v3 >>> 14 | v4 << 24 | v5 << 62;
+			data[j + 3] = v5 >>> 2 | v6 << 36;
+			data[j + 4] = v6 >>> 28 | v7 << 10 | v8 << 48;
+			data[j + 5] = v8 >>> 16 | v9 << 22 | v10 << 60;
+			data[j + 6] = v10 >>> 4 | v11 << 34;
+			data[j + 7] = v11 >>> 30 | v12 << 8 | v13 << 46;
+			data[j + 8] = v13 >>> 18 | v14 << 20 | v15 << 58;
+			data[j + 9] = v15 >>> 6 | v16 << 32;
+			data[j + 10] = v16 >>> 32 | v17 << 6 | v18 << 44;
+			data[j + 11] = v18 >>> 20 | v19 << 18 | v20 << 56;
+			data[j + 12] = v20 >>> 8 | v21 << 30;
+			data[j + 13] = v21 >>> 34 | v22 << 4 | v23 << 42;
+			data[j + 14] = v23 >>> 22 | v24 << 16 | v25 << 54;
+			data[j + 15] = v25 >>> 10 | v26 << 28;
+			data[j + 16] = v26 >>> 36 | v27 << 2 | v28 << 40;
+			data[j + 17] = v28 >>> 24 | v29 << 14 | v30 << 52;
+			data[j + 18] = v30 >>> 12 | v31 << 26;
+			data[j + 19] = v32 | v33 << 38;
+			data[j + 20] = v33 >>> 26 | v34 << 12 | v35 << 50;
+			data[j + 21] = v35 >>> 14 | v36 << 24 | v37 << 62;
+			data[j + 22] = v37 >>> 2 | v38 << 36;
+			data[j + 23] = v38 >>> 28 | v39 << 10 | v40 << 48;
+			data[j + 24] = v40 >>> 16 | v41 << 22 | v42 << 60;
+			data[j + 25] = v42 >>> 4 | v43 << 34;
+			data[j + 26] = v43 >>> 30 | v44 << 8 | v45 << 46;
+			data[j + 27] = v45 >>> 18 | v46 << 20 | v47 << 58;
+			data[j + 28] = v47 >>> 6 | v48 << 32;
+			data[j + 29] = v48 >>> 32 | v49 << 6 | v50 << 44;
+			data[j + 30] = v50 >>> 20 | v51 << 18 | v52 << 56;
+			data[j + 31] = v52 >>> 8 | v53 << 30;
+			data[j + 32] = v53 >>> 34 | v54 << 4 | v55 << 42;
+			data[j + 33] = v55 >>> 22 | v56 << 16 | v57 << 54;
+			data[j + 34] = v57 >>> 10 | v58 << 28;
+			data[j + 35] = v58 >>> 36 | v59 << 2 | v60 << 40;
+			data[j + 36] = v60 >>> 24 | v61 << 14 | v62 << 52;
+			data[j + 37] = v62 >>> 12 | v63 << 26;
+		}
+	}
+
+	private static void decode39(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 39, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 39 | w1 << 25) & 0x7FFFFFFFFFL;
+			dest[off + 2] = w1 >>> 14 & 0x7FFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 3] = (w1 >>> 53 | w2 << 11) & 0x7FFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 4] = (w2 >>> 28 | w3 << 36) & 0x7FFFFFFFFFL;
+			dest[off + 5] = w3 >>> 3 & 0x7FFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 6] = (w3 >>> 42 | w4 << 22) & 0x7FFFFFFFFFL;
+			dest[off + 7] = w4 >>> 17 & 0x7FFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 8] = (w4 >>> 56 | w5 << 8) & 0x7FFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 9] = (w5 >>> 31 | w6 << 33) & 0x7FFFFFFFFFL;
+			dest[off + 10] = w6 >>> 6 & 0x7FFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 11] = (w6 >>> 45 | w7 << 19) & 0x7FFFFFFFFFL;
+			dest[off + 12] = w7 >>> 20 & 0x7FFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 13] = (w7 >>> 59 | w8 << 5) & 0x7FFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 14] = (w8 >>> 34 | w9 << 30) & 0x7FFFFFFFFFL;
+			dest[off + 15] = w9 >>> 9 & 0x7FFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 16] = (w9 >>> 48 | w10 << 16) & 0x7FFFFFFFFFL;
+			dest[off + 17] = w10 >>> 23 & 0x7FFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 18] = (w10 >>> 62 | w11 << 2) & 0x7FFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 19] = (w11 >>> 37 | w12 << 27) & 0x7FFFFFFFFFL;
+			dest[off + 20] = w12 >>> 12 & 0x7FFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 21] = (w12 >>> 51 | w13 << 13) & 0x7FFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 22] = (w13 >>> 26 | w14 << 38) & 0x7FFFFFFFFFL;
+			dest[off + 23] = w14 >>> 1 & 0x7FFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 24] = (w14 >>> 40 | w15 << 24) & 0x7FFFFFFFFFL;
+			dest[off + 25] = w15 >>> 15 & 0x7FFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 26] = (w15 >>> 54 | w16 << 10) & 0x7FFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 27] = (w16 >>> 29 | w17 << 35) & 0x7FFFFFFFFFL;
+			dest[off + 28] = w17 >>> 4 & 0x7FFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 29] = (w17 >>> 43 | w18 << 21) & 0x7FFFFFFFFFL;
+			dest[off + 30] = w18 >>> 18 & 0x7FFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 31] = (w18 >>> 57 | w19 << 7) & 0x7FFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 32] = (w19 >>> 32 | w20 << 32) & 0x7FFFFFFFFFL;
+			dest[off + 33] = w20 >>> 7 & 0x7FFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 34] = (w20 >>> 46 | w21 << 18) & 0x7FFFFFFFFFL;
+			dest[off + 35] = w21 >>> 21 & 0x7FFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 36] = (w21 >>> 60 | w22 << 4) & 0x7FFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 37] = (w22 >>> 35 | w23 << 29) & 0x7FFFFFFFFFL;
+			dest[off + 38] = w23 >>> 10 & 0x7FFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 39] = (w23 >>> 49 | w24 << 15) & 0x7FFFFFFFFFL;
+			dest[off + 40] = w24 >>> 24 & 0x7FFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 41] = (w24 >>> 63 | w25 << 1) & 0x7FFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 42] = (w25 >>> 38 | w26 << 26) & 0x7FFFFFFFFFL;
+			dest[off + 43] = w26 >>> 13 & 0x7FFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 44] = (w26 >>> 52 | w27 << 12) & 0x7FFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 45] = (w27 >>> 27 | w28 << 37) & 0x7FFFFFFFFFL;
+			dest[off + 46] = w28 >>> 2 & 0x7FFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 47] = (w28 >>> 41 | w29 << 23) & 0x7FFFFFFFFFL;
+			dest[off + 48] = w29 >>> 16 & 0x7FFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 49] = (w29 >>> 55 | w30 << 9) & 0x7FFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 50] = (w30 >>> 30 | w31 << 34) & 0x7FFFFFFFFFL;
+			dest[off + 51] = w31 >>> 5 & 0x7FFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 52] = (w31 >>> 44 | w32 << 20) & 0x7FFFFFFFFFL;
+			dest[off + 53] = w32 >>> 19 & 0x7FFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 54] = (w32 >>> 58 | w33 << 6) & 0x7FFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 55] = (w33 >>> 33 | w34 << 31) & 0x7FFFFFFFFFL;
+			dest[off + 56] = w34 >>> 8 & 0x7FFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 57] = (w34 >>> 47 | w35 << 17) & 0x7FFFFFFFFFL;
+			dest[off + 58] = w35 >>> 22 & 0x7FFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 59] = (w35 >>> 61 | w36 << 3) & 0x7FFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 60] = (w36 >>> 36 | w37 << 28) & 0x7FFFFFFFFFL;
+			dest[off + 61] = w37 >>> 11 & 0x7FFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 62] = (w37 >>> 50 | w38 << 14) & 0x7FFFFFFFFFL;
+			dest[off + 63] = w38 >>> 25;
+		}
+	}
+
+	private static void encode39(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 39) {
+			final long v0 = src[off] & 0x7FFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFFFFL;
+			data[j] = v0 | v1 << 39;
+			data[j + 1] = v1 >>> 25 | v2 << 14 | v3 << 53;
+			data[j + 2] = v3 >>> 11 | v4 << 28;
+			data[j + 3] = v4 >>> 36 | v5 << 3 | v6 << 42;
+			data[j + 4] = v6 >>> 22 | v7 << 17 | v8 << 56;
+			data[j + 5] = v8 >>> 8 | v9 << 31;
+			data[j + 6] = v9 >>> 33 | v10 << 6 | v11 << 45;
+			data[j + 7] = v11 >>> 19 | v12 << 20 | v13 << 59;
+			data[j + 8] = v13 >>> 5 | v14 << 34;
+			data[j + 9] = v14 >>> 30 | v15 << 9 | v16 << 48;
+			data[j + 10] = v16 >>> 16 | v17 << 23 | v18 << 62;
+			data[j + 11] = v18 >>> 2 | v19 << 37;
+			data[j + 12] = v19 >>> 27 | v20 << 12 | v21 << 51;
+			data[j + 13] = v21 >>> 13 | v22 << 26;
+			data[j + 14] = v22 >>> 38 | v23 << 1 | v24 << 40;
+			data[j + 15] = v24 >>> 24 | v25 << 15 | v26 << 54;
+			data[j + 16] = v26 >>> 10 | v27 << 29;
+			data[j + 17] = v27 >>> 35 | v28 << 4 | v29 << 43;
+			data[j + 18] = v29 >>> 21 | v30 << 18 | v31 << 57;
+			data[j + 19] = v31 >>> 7 | v32 << 32;
+			data[j + 20] = v32 >>> 32 | v33 << 7 | v34 << 46;
+			data[j + 21] = v34 >>> 18 | v35 << 21 | v36 << 60;
+			data[j + 22] = v36 >>> 4 | v37 << 35;
+			data[j + 23] = v37 >>> 29 | v38 << 10 | v39 << 49;
+			data[j + 24] = v39 >>> 15 | v40 << 24 | v41 << 63;
+			data[j + 25] = v41 >>> 1 | v42 << 38;
+			data[j + 26] = v42 >>> 26 | v43 << 13 | v44 << 52;
+			data[j + 27] = v44 >>> 12 | v45 << 27;
+			data[j + 28] = v45 >>> 37 | v46 << 2 | v47 << 41;
+			data[j + 29] = v47 >>> 23 | v48 << 16 | v49 << 55;
+			data[j + 30] = v49 >>> 9 | v50 << 30;
+			data[j + 31] = v50 >>> 34 | v51 << 5 | v52 << 44;
+			data[j + 32] = v52 >>> 20 | v53 << 19 | v54 << 58;
+			data[j + 33] = v54 >>> 6 | v55 << 33;
+			data[j + 34] = v55 >>> 31 | v56 << 8 | v57 << 47;
+			data[j + 35] = v57 >>> 17 | v58 << 22 | v59 << 61;
+			data[j + 36] = v59 >>> 3 | v60 << 36;
+			data[j + 37] = v60 >>> 28 | v61 << 11 | v62 << 50;
+			data[j + 38] = v62 >>> 14 | v63 << 25;
+		}
+	}
+
+	private static void decode40(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 40, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 40 | w1 << 24) & 0xFFFFFFFFFFL;
+			dest[off + 2] = w1 >>> 16 & 0xFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 3] = (w1 >>> 56 | w2 << 8) & 0xFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 4] = (w2 >>> 32 | w3 << 32) & 0xFFFFFFFFFFL;
+			dest[off + 5] = w3 >>> 8 & 0xFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 6] = (w3 >>> 48 | w4 << 16) & 0xFFFFFFFFFFL;
+			dest[off + 7] = w4 >>> 24;
+			final long w5 = data[j + 5];
+			dest[off + 8] = w5 & 0xFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 9] = (w5 >>> 40 | w6 << 24) & 0xFFFFFFFFFFL;
+			dest[off + 10] = w6 >>> 16 & 0xFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 11] = (w6 >>> 56 | w7 << 8) & 0xFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 12] = (w7 >>> 32 | w8 << 32) & 0xFFFFFFFFFFL;
+			dest[off + 13] = w8 >>> 8 & 0xFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 14] = (w8 >>> 48 | w9 << 16) & 0xFFFFFFFFFFL;
+			dest[off + 15] = w9 >>> 24;
+			final long w10 = data[j + 10];
+			dest[off + 16] = w10 & 0xFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 17] = (w10 >>> 40 | w11 << 24) & 0xFFFFFFFFFFL;
+			dest[off + 18] = w11 >>> 16 & 0xFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 19] = (w11 >>> 56 | w12 << 8) & 0xFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 20] = (w12 >>> 32 | w13 << 32) & 0xFFFFFFFFFFL;
+			dest[off + 21] = w13 >>> 8 & 0xFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 22] = (w13 >>> 48 | w14 << 16) & 0xFFFFFFFFFFL;
+			dest[off + 23] = w14 >>> 24;
+			final long w15 = data[j + 15];
+			dest[off + 24] = w15 & 0xFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 25] = (w15 >>> 40 | w16 << 24) & 0xFFFFFFFFFFL;
+			dest[off + 26] = w16 >>> 16 & 0xFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 27] = (w16 >>> 56 | w17 << 8) & 0xFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 28] = (w17 >>> 32 | w18 << 32) & 0xFFFFFFFFFFL;
+			dest[off + 29] = w18 >>> 8 & 0xFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 30] = (w18 >>> 48 | w19 << 16) & 0xFFFFFFFFFFL;
+			dest[off + 31] = w19 >>> 24;
+			final long w20 = data[j + 20];
+			dest[off + 32] = w20 & 0xFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 33] = (w20 >>> 40 | w21 << 24) & 0xFFFFFFFFFFL;
+			dest[off + 34] = w21 >>> 16 & 0xFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 35] = (w21 >>> 56 | w22 << 8) & 0xFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 36] = (w22 >>> 32 | w23 << 32) & 0xFFFFFFFFFFL;
+			dest[off + 37] = w23 >>> 8 & 0xFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 38] = (w23 >>> 48 | w24 << 16) & 0xFFFFFFFFFFL;
+			dest[off + 39] = w24 >>> 24;
+			final long w25 = data[j + 25];
+			dest[off + 40] = w25 & 0xFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 41] = (w25 >>> 40 | w26 << 24) & 0xFFFFFFFFFFL;
+			dest[off + 42] = w26 >>> 16 & 0xFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 43] = (w26 >>> 56 | w27 << 8) & 0xFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 44] = (w27 >>> 32 | w28 << 32) & 0xFFFFFFFFFFL;
+			dest[off + 45] = w28 >>> 8 & 0xFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 46] = (w28 >>> 48 | w29 << 16) & 0xFFFFFFFFFFL;
+			dest[off + 47] = w29 >>> 24;
+			final long w30 = data[j + 30];
+			dest[off + 48] = w30 & 0xFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 49] = (w30 >>> 40 | w31 << 24) & 0xFFFFFFFFFFL;
+			dest[off + 50] = w31 >>> 16 & 0xFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 51] = (w31 >>> 56 | w32 << 8) & 0xFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 52] = (w32 >>> 32 | w33 << 32) & 0xFFFFFFFFFFL;
+			dest[off + 53] = w33 >>> 8 & 0xFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 54] = (w33 >>> 48 | w34 << 16) & 0xFFFFFFFFFFL;
+			dest[off + 55] = w34 >>> 24;
+			final long w35 = data[j + 35];
+			dest[off + 56] = w35 & 0xFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 57] = (w35 >>> 40 | w36 << 24) & 0xFFFFFFFFFFL;
+			dest[off + 58] = w36 >>> 16 & 0xFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 59] = (w36 >>> 56 | w37 << 8) & 0xFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 60] = (w37 >>> 32 | w38 << 32) & 0xFFFFFFFFFFL;
+			dest[off + 61] = w38 >>> 8 & 0xFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 62] = (w38 >>> 48 | w39 << 16) & 0xFFFFFFFFFFL;
+			dest[off + 63] = w39 >>> 24;
+		}
+	}
+
+	private static void encode40(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 40) {
+			final long v0 = src[off] & 0xFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFFFFL;
+			data[j] = v0 | v1 << 40;
+			data[j + 1] = v1 >>> 24 | v2 << 16 | v3 << 56;
+			data[j + 2] = v3 >>> 8 | v4 << 32;
+			data[j + 3] = v4 >>> 32 | v5 << 8 | v6 << 48;
+			data[j + 4] = v6 >>> 16 | v7 << 24;
+			data[j + 5] = v8 | v9 << 40;
+			data[j + 6] = v9 >>> 24 | v10 << 16 | v11 << 56;
+			data[j + 7] = v11 >>> 8 | v12 << 32;
+			data[j + 8] = v12 >>> 32 | v13 << 8 | v14 << 48;
+			data[j + 9] = v14 >>> 16 | v15 << 24;
+			data[j + 10] = v16 | v17 << 40;
+			data[j + 11] = v17 >>> 24 | v18 << 16 | v19 << 56;
+			data[j + 12] = v19 >>> 8 | v20 << 32;
+			data[j + 13] = v20 >>> 32 | v21 << 8 | v22 << 48;
+			data[j + 14] = v22 >>> 16 | v23 << 24;
+			data[j + 15] = v24 | v25 << 40;
+			data[j + 16] = v25 >>> 24 | v26 << 16 | v27 << 56;
+			data[j + 17] = v27 >>> 8 | v28 << 32;
+			data[j + 18] = v28 >>> 32 | v29 << 8 | v30 << 48;
+			data[j + 19] = v30 >>> 16 | v31 << 24;
+			data[j + 20] = v32 | v33 << 40;
+			data[j + 21] = v33 >>> 24 | v34 << 16 | v35 << 56;
+			data[j + 22] = v35 >>> 8 | v36 << 32;
+			data[j + 23] = v36 >>> 32 | v37 << 8 | v38 << 48;
+			data[j + 24] = v38 >>> 16 | v39 << 24;
+			data[j + 25] = v40 | v41 << 40;
+			data[j + 26] = v41 >>> 24 | v42 << 16 | v43 << 56;
+			data[j + 27] = v43 >>> 8 | v44 << 32;
+			data[j + 28] = v44 >>> 32 | v45 << 8 | v46 << 48;
+			data[j + 29] = v46 >>> 16 | v47 << 24;
+			data[j + 30] = v48 | v49 << 40;
+			data[j + 31] = v49 >>> 24 | v50 << 16 | v51 << 56;
+			data[j + 32] = v51 >>> 8 | v52 << 32;
+			data[j + 33] = v52 >>> 32 | v53 << 8 | v54 << 48;
+			data[j + 34] = v54 >>> 16 | v55 << 24;
+			data[j + 35] = v56 | v57 << 40;
+			data[j + 36] = v57 >>> 24 | v58 << 16 | v59 << 56;
+			data[j + 37] = v59 >>> 8 | v60 << 32;
+			data[j + 38] = v60 >>> 32 | v61 << 8 | v62 << 48;
+			data[j + 39] = v62 >>> 16 | v63 << 24;
+		}
+	}
+
+	private static void decode41(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 41, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 41 | w1 << 23) & 0x1FFFFFFFFFFL;
+			dest[off + 2] = w1 >>> 18 & 0x1FFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 3] = (w1 >>> 59 | w2 << 5) & 0x1FFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 4] = (w2 >>> 36 | w3 << 28) & 0x1FFFFFFFFFFL;
+			dest[off + 5] = w3 >>> 13 & 0x1FFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 6] = (w3 >>> 54 | w4 << 10) & 0x1FFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 7] = (w4 >>> 31 | w5 << 33) & 0x1FFFFFFFFFFL;
+			dest[off + 8] = w5 >>> 8 & 0x1FFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 9] = (w5 >>> 49 | w6 << 15) & 0x1FFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 10] = (w6 >>> 26 | w7 << 38) & 0x1FFFFFFFFFFL;
+			dest[off + 11] = w7 >>> 3 & 0x1FFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 12] = (w7 >>> 44 | w8 << 20) & 0x1FFFFFFFFFFL;
+			dest[off + 13] = w8 >>> 21 & 0x1FFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 14] = (w8 >>> 62 | w9 << 2) & 0x1FFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 15] = (w9 >>> 39 | w10 << 25) & 0x1FFFFFFFFFFL;
+			dest[off + 16] = w10 >>> 16 & 0x1FFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 17] = (w10 >>> 57 | w11 << 7) & 0x1FFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 18] = (w11 >>> 34 | w12 << 30) & 0x1FFFFFFFFFFL;
+			dest[off + 19] = w12 >>> 11 & 0x1FFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 20] = (w12 >>> 52 | w13 << 12) & 0x1FFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 21] = (w13 >>> 29 | w14 << 35) & 0x1FFFFFFFFFFL;
+			dest[off + 22] = w14 >>> 6 & 0x1FFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 23] = (w14 >>> 47 | w15 << 17) & 0x1FFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 24] = (w15 >>> 24 | w16 << 40) & 0x1FFFFFFFFFFL;
+			dest[off + 25] = w16 >>> 1 & 0x1FFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 26] = (w16 >>> 42 | w17 << 22) & 0x1FFFFFFFFFFL;
+			dest[off + 27] = w17 >>> 19 & 0x1FFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 28] = (w17 >>> 60 | w18 << 4) & 0x1FFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 29] = (w18 >>> 37 | w19 << 27) & 0x1FFFFFFFFFFL;
+			dest[off + 30] = w19 >>> 14 & 0x1FFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 31] = (w19 >>> 55 | w20 << 9) & 0x1FFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 32] = (w20 >>> 32 | w21 << 32) & 0x1FFFFFFFFFFL;
+			dest[off + 33] = w21 >>> 9 & 0x1FFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 34] = (w21 >>> 50 | w22 << 14) & 0x1FFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 35] = (w22 >>> 27 | w23 << 37) & 0x1FFFFFFFFFFL;
+			dest[off + 36] = w23 >>> 4 & 0x1FFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 37] = (w23 >>> 45 | w24 << 19) & 0x1FFFFFFFFFFL;
+			dest[off + 38] = w24 >>> 22 & 0x1FFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 39] = (w24 >>> 63 | w25 << 1) & 0x1FFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 40] = (w25 >>> 40 | w26 << 24) & 0x1FFFFFFFFFFL;
+			dest[off + 41] = w26 >>> 17 & 0x1FFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 42] = (w26 >>> 58 | w27 << 6) & 0x1FFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 43] = (w27 >>> 35 | w28 << 29) & 0x1FFFFFFFFFFL;
+			dest[off + 44] = w28 >>> 12 & 0x1FFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 45] = (w28 >>> 53 | w29 << 11) & 0x1FFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 46] = (w29 >>> 30 | w30 << 34) & 0x1FFFFFFFFFFL;
+			dest[off + 47] = w30 >>> 7 & 0x1FFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 48] = (w30 >>> 48 | w31 << 16) & 0x1FFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 49] = (w31 >>> 25 | w32 << 39) & 0x1FFFFFFFFFFL;
+			dest[off + 50] = w32 >>> 2 & 0x1FFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 51] = (w32 >>> 43 | w33 << 21) & 0x1FFFFFFFFFFL;
+			dest[off + 52] = w33 >>> 20 & 0x1FFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 53] = (w33 >>> 61 | w34 << 3) & 0x1FFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 54] = (w34 >>> 38 | w35 << 26) & 0x1FFFFFFFFFFL;
+			dest[off + 55] = w35 >>> 15 & 0x1FFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 56] = (w35 >>> 56 | w36 << 8) & 0x1FFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 57] = (w36 >>> 33 | w37 << 31) & 0x1FFFFFFFFFFL;
+			dest[off + 58] = w37 >>> 10 & 0x1FFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 59] = (w37 >>> 51 | w38 << 13) & 0x1FFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 60] = (w38 >>> 28 | w39 << 36) & 0x1FFFFFFFFFFL;
+			dest[off + 61] = w39 >>> 5 & 0x1FFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 62] = (w39 >>> 46 | w40 << 18) & 0x1FFFFFFFFFFL;
+			dest[off + 63] = w40 >>> 23;
+		}
+	}
+
+	private static void encode41(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 41) {
+			final long v0 = src[off] & 0x1FFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFFFFFL;
+			data[j] = v0 | v1 << 41;
+			data[j + 1] = v1 >>> 23 | v2 << 18 | v3 << 59;
+			data[j + 2] = v3 >>> 5 | v4 << 36;
+			data[j + 3] = v4 >>> 28 | v5 << 13 | v6 << 54;
+			data[j + 4] = v6 >>> 10 | v7 << 31;
+			data[j + 5] = v7 >>> 33 | v8 << 8 | v9 << 49;
+			data[j + 6] = v9 >>> 15 | v10 << 26;
+			data[j + 7] = v10 >>> 38 | v11 << 3 | v12 << 44;
+			data[j + 8] = v12 >>> 20 | v13 << 21 | v14 << 62;
+			data[j + 9] = v14 >>> 2 | v15 << 39;
+			data[j + 10] = v15 >>> 25 | v16 << 16 | v17 << 57;
+			data[j + 11] = v17 >>> 7 | v18 << 34;
+			data[j + 12] = v18 >>> 30 | v19 << 11 | v20 << 52;
+			data[j + 13] = v20 >>> 12 | v21 << 29;
+			data[j + 14] = v21 >>> 35 | v22 << 6 | v23 << 47;
+			data[j + 15] = v23 >>> 17 | v24 << 24;
+			data[j + 16] = v24 >>> 40 | v25 << 1 | v26 << 42;
+			data[j + 17] = v26 >>> 22 | v27 << 19 | v28 << 60;
+			data[j + 18] = v28 >>> 4 | v29 << 37;
+			data[j + 19] = v29 >>> 27 | v30 << 14 | v31 << 55;
+			data[j + 20] = v31 >>> 9 | v32 << 32;
+			data[j + 21] = v32 >>> 32 | v33 << 9 | v34 << 50;
+			data[j + 22] = v34 >>> 14 | v35 << 27;
+			data[j + 23] = v35 >>> 37 | v36 << 4 | v37 << 45;
+			data[j + 24] = v37 >>> 19 | v38 << 22 | v39 << 63;
+			data[j + 25] = v39 >>> 1 | v40 << 40;
+			data[j + 26] = v40 >>> 24 | v41 << 17 | v42 << 58;
+			data[j + 27] = v42 >>> 6 | v43 << 35;
+			data[j + 28] = v43 >>> 29 | v44 << 12 | v45 << 53;
+			data[j + 29] = v45 >>> 11 | v46 << 30;
+			data[j + 30] = v46 >>> 34 | v47 << 7 | v48 << 48;
+			data[j + 31] = v48 >>> 16 | v49 << 25;
+			data[j + 32] = v49 >>> 39 | v50 << 2 | v51 << 43;
+			data[j + 33] = v51 >>> 21 | v52 << 20 | v53 << 61;
+			data[j + 34] = v53 >>> 3 | v54 << 38;
+			data[j + 35] = v54 >>> 26 | v55 << 15 | v56 << 56;
+			data[j + 36] = v56 >>> 8 | v57 << 33;
+			data[j + 37] = v57 >>> 31 | v58 << 10 | v59 << 51;
+			data[j + 38] = v59 >>> 13 | v60 << 28;
+			data[j + 39] = v60 >>> 36 | v61 << 5 | v62 << 46;
+			data[j + 40] = v62 >>> 18 | v63 << 23;
+		}
+	}
+
+	private static void decode42(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 42, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 42 | w1 << 22) & 0x3FFFFFFFFFFL;
+			dest[off + 2] = w1 >>> 20 & 0x3FFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 3] = (w1 >>> 62 | w2 << 2) & 0x3FFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 4] = (w2 >>> 40 | w3 << 24) & 0x3FFFFFFFFFFL;
+			dest[off + 5] = w3 >>> 18 & 0x3FFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 6] = (w3 >>> 60 | w4 << 4) & 0x3FFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 7] = (w4 >>> 38 | w5 << 26) & 0x3FFFFFFFFFFL;
+			dest[off + 8] = w5 >>> 16 & 0x3FFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 9] = (w5 >>> 58 | w6 << 6) & 0x3FFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 10] = (w6 >>> 36 | w7 << 28) & 0x3FFFFFFFFFFL;
+			dest[off + 11] = w7 >>> 14 & 0x3FFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 12] = (w7 >>> 56 | w8 << 8) & 0x3FFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 13] = (w8 >>> 34 | w9 << 30) & 0x3FFFFFFFFFFL;
+			dest[off + 14] = w9 >>> 12 & 0x3FFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 15] = (w9 >>> 54 | w10 << 10) & 0x3FFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 16] = (w10 >>> 32 | w11 << 32) & 0x3FFFFFFFFFFL;
+			dest[off + 17] = w11 >>> 10 & 0x3FFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 18] = (w11 >>> 52 | w12 << 12) & 0x3FFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 19] = (w12 >>> 30 | w13 << 34) & 0x3FFFFFFFFFFL;
+			dest[off + 20] = w13 >>> 8 & 0x3FFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 21] = (w13 >>> 50 | w14 << 14) & 0x3FFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 22] = (w14 >>> 28 | w15 << 36) & 0x3FFFFFFFFFFL;
+			dest[off + 23] = w15 >>> 6 & 0x3FFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 24] = (w15 >>> 48 | w16 << 16) & 0x3FFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 25] = (w16 >>> 26 | w17 << 38) & 0x3FFFFFFFFFFL;
+			dest[off + 26] = w17 >>> 4 & 0x3FFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 27] = (w17 >>> 46 | w18 << 18) & 0x3FFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 28] = (w18 >>> 24 | w19 << 40) & 0x3FFFFFFFFFFL;
+			dest[off + 29] = w19 >>> 2 & 0x3FFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 30] = (w19 >>> 44 | w20 << 20) & 0x3FFFFFFFFFFL;
+			dest[off + 31] = w20 >>> 22;
+			final long w21 = data[j + 21];
+			dest[off + 32] = w21 & 0x3FFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 33] = (w21 >>> 42 | w22 << 22) & 0x3FFFFFFFFFFL;
+			dest[off + 34] = w22 >>> 20 & 0x3FFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 35] = (w22 >>> 62 | w23 << 2) & 0x3FFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 36] = (w23 >>> 40 | w24 << 24) & 0x3FFFFFFFFFFL;
+			dest[off + 37] = w24 >>> 18 & 0x3FFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 38] = (w24 >>> 60 | w25 << 4) & 0x3FFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 39] = (w25 >>> 38 | w26 << 26) & 0x3FFFFFFFFFFL;
+			dest[off + 40] = w26 >>> 16 & 0x3FFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 41] = (w26 >>> 58 | w27 << 6) & 0x3FFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 42] = (w27 >>> 36 | w28 << 28) & 0x3FFFFFFFFFFL;
+			dest[off + 43] = w28 >>> 14 & 0x3FFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 44] = (w28 >>> 56 | w29 << 8) & 0x3FFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 45] = (w29 >>> 34 | w30 << 30) & 0x3FFFFFFFFFFL;
+			dest[off + 46] = w30 >>> 12 & 0x3FFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 47] = (w30 >>> 54 | w31 << 10) & 0x3FFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 48] = (w31 >>> 32 | w32 << 32) & 0x3FFFFFFFFFFL;
+			dest[off + 49] = w32 >>> 10 & 0x3FFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 50] = (w32 >>> 52 | w33 << 12) & 0x3FFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 51] = (w33 >>> 30 | w34 << 34) & 0x3FFFFFFFFFFL;
+			dest[off + 52] = w34 >>> 8 & 0x3FFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 53] = (w34 >>> 50 | w35 << 14) & 0x3FFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 54] = (w35 >>> 28 | w36 << 36) & 0x3FFFFFFFFFFL;
+			dest[off + 55] = w36 >>> 6 & 0x3FFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 56] = (w36 >>> 48 | w37 << 16) & 0x3FFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 57] = (w37 >>> 26 | w38 << 38) & 0x3FFFFFFFFFFL;
+			dest[off + 58] = w38 >>> 4 & 0x3FFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 59] = (w38 >>> 46 | w39 << 18) & 0x3FFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 60] = (w39 >>> 24 | w40 << 40) & 0x3FFFFFFFFFFL;
+			dest[off + 61] = w40 >>> 2 & 0x3FFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 62] = (w40 >>> 44 | w41 << 20) & 0x3FFFFFFFFFFL;
+			dest[off + 63] = w41 >>> 22;
+		}
+	}
+
+	private static void encode42(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 42) {
+			final long v0 = src[off] & 0x3FFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFFFFFL;
+			data[j] = v0 | v1 << 42;
+			data[j + 1] = v1 >>> 22 | v2 << 20 | v3 << 62;
+			data[j + 2] = v3 >>> 2 | v4 << 40;
+			data[j + 3] = v4 >>> 24 | v5 << 18 | v6 << 60;
+			data[j + 4] = v6 >>> 4 | v7 << 38;
+			data[j + 5] = v7 >>> 26 | v8 << 16 | v9 << 58;
+			data[j + 6] = v9 >>> 6 | v10 << 36;
+			data[j + 7] = v10 >>> 28 | v11 << 14 | v12 << 56;
+			data[j + 8] = v12 >>> 8 | v13 << 34;
+			data[j + 9] = v13 >>> 30 | v14 << 12 | v15 << 54;
+			data[j + 10] = v15 >>> 10 | v16 << 32;
+			data[j + 11] = v16 >>> 32 | v17 << 10 | v18 << 52;
+			data[j + 12] = v18 >>> 12 | v19 << 30;
+			data[j + 13] = v19 >>> 34 | v20 << 8 | v21 << 50;
+			data[j + 14] = v21 >>> 14 | v22 << 28;
+			data[j + 15] = v22 >>> 36 | v23 << 6 | v24 << 48;
+			data[j + 16] = v24 >>> 16 | v25 << 26;
+			data[j + 17] = v25 >>> 38 | v26 << 4 | v27 << 46;
+			data[j + 18] = v27 >>> 18 | v28 << 24;
+			data[j + 19] = v28 >>> 40 | v29 << 2 | v30 << 44;
+			data[j + 20] = v30 >>> 20 | v31 << 22;
+			data[j + 21] = v32 | v33 << 42;
+			data[j + 22] = v33 >>> 22 | v34 << 20 | v35 << 62;
+			data[j + 23] = v35 >>> 2 | v36 << 40;
+			data[j + 24] = v36 >>> 24 | v37 << 18 | v38 << 60;
+			data[j + 25] = v38 >>> 4 | v39 << 38;
+			data[j + 26] = v39 >>> 26 | v40 << 16 | v41 << 58;
+			data[j + 27] = v41 >>> 6 | v42 << 36;
+			data[j + 28] = v42 >>> 28 | v43 << 14 | v44 << 56;
+			data[j + 29] = v44 >>> 8 | v45 << 34;
+			data[j + 30] = v45 >>> 30 | v46 << 12 | v47 << 54;
+			data[j + 31] = v47 >>> 10 | v48 << 32;
+			data[j + 32] = v48 >>> 32 | v49 << 10 | v50 << 52;
+			data[j + 33] = v50 >>> 12 | v51 << 30;
+			data[j + 34] = v51 >>> 34 | v52 << 8 | v53 << 50;
+			data[j + 35] = v53 >>> 14 | v54 << 28;
+			data[j + 36] = v54 >>> 36 | v55 << 6 | v56 << 48;
+			data[j + 37] = v56 >>> 16 | v57 << 26;
+			data[j + 38] = v57 >>> 38 | v58 << 4 | v59 << 46;
+			data[j + 39] = v59 >>> 18 | v60 << 24;
+			data[j + 40] = v60 >>> 40 | v61 << 2 | v62 << 44;
+			data[j + 41] = v62 >>> 20 | v63 << 22;
+		}
+	}
+
+	private static void decode43(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 43, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 43 | w1 << 21) & 0x7FFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 22 | w2 << 42) & 0x7FFFFFFFFFFL;
+			dest[off + 3] = w2 >>> 1 & 0x7FFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 4] = (w2 >>> 44 | w3 << 20) & 0x7FFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 5] = (w3 >>> 23 | w4 << 41) & 0x7FFFFFFFFFFL;
+			dest[off + 6] = w4 >>> 2 & 0x7FFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 7] = (w4 >>> 45 | w5 << 19) & 0x7FFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 8] = (w5 >>> 24 | w6 << 40) & 0x7FFFFFFFFFFL;
+			dest[off + 9] = w6 >>> 3 & 0x7FFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 10] = (w6 >>> 46 | w7 << 18) & 0x7FFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 11] = (w7 >>> 25 | w8 << 39) & 0x7FFFFFFFFFFL;
+			dest[off + 12] = w8 >>> 4 & 0x7FFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 13] = (w8 >>> 47 | w9 << 17) & 0x7FFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 14] = (w9 >>> 26 | w10 << 38) & 0x7FFFFFFFFFFL;
+			dest[off + 15] = w10 >>> 5 & 0x7FFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 16] = (w10 >>> 48 | w11 << 16) & 0x7FFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 17] = (w11 >>> 27 | w12 << 37) & 0x7FFFFFFFFFFL;
+			dest[off + 18] = w12 >>> 6 & 0x7FFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 19] = (w12 >>> 49 | w13 << 15) & 0x7FFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 20] = (w13 >>> 28 | w14 << 36) & 0x7FFFFFFFFFFL;
+			dest[off + 21] = w14 >>> 7 & 0x7FFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 22] = (w14 >>> 50 | w15 << 14) & 0x7FFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 23] = (w15 >>> 29 | w16 << 35) & 0x7FFFFFFFFFFL;
+			dest[off + 24] = w16 >>> 8 & 0x7FFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 25] = (w16 >>> 51 | w17 << 13) & 0x7FFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 26] = (w17 >>> 30 | w18 << 34) & 0x7FFFFFFFFFFL;
+			dest[off + 27] = w18 >>> 9 & 0x7FFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 28] = (w18 >>> 52 | w19 << 12) & 0x7FFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 29] = (w19 >>> 31 | w20 << 33) & 0x7FFFFFFFFFFL;
+			dest[off + 30] = w20 >>> 10 & 0x7FFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 31] = (w20 >>> 53 | w21 << 11) & 0x7FFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 32] = (w21 >>> 32 | w22 << 32) & 0x7FFFFFFFFFFL;
+			dest[off + 33] = w22 >>> 11 & 0x7FFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 34] = (w22 >>> 54 | w23 << 10) & 0x7FFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 35] = (w23 >>> 33 | w24 << 31) & 0x7FFFFFFFFFFL;
+			dest[off + 36] = w24 >>> 12 & 0x7FFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 37] = (w24 >>> 55 | w25 << 9) & 0x7FFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 38] = (w25 >>> 34 | w26 << 30) & 0x7FFFFFFFFFFL;
+			dest[off + 39] = w26 >>> 13 & 0x7FFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 40] = (w26 >>> 56 | w27 << 8) & 0x7FFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 41] = (w27 >>> 35 | w28 << 29) & 0x7FFFFFFFFFFL;
+			dest[off + 42] = w28 >>> 14 & 0x7FFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 43] = (w28 >>> 57 | w29 << 7) & 0x7FFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 44] = (w29 >>> 36 | w30 << 28) & 0x7FFFFFFFFFFL;
+			dest[off + 45] = w30 >>> 15 & 0x7FFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 46] = (w30 >>> 58 | w31 << 6) & 0x7FFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 47] = (w31 >>> 37 | w32 << 27) & 0x7FFFFFFFFFFL;
+			dest[off + 48] = w32 >>> 16 & 0x7FFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 49] = (w32 >>> 59 | w33 << 5) & 0x7FFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 50] = (w33 >>> 38 | w34 << 26) & 0x7FFFFFFFFFFL;
+			dest[off + 51] = w34 >>> 17 & 0x7FFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 52] = (w34 >>> 60 | w35 << 4) & 0x7FFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 53] = (w35 >>> 39 | w36 << 25) & 0x7FFFFFFFFFFL;
+			dest[off + 54] = w36 >>> 18 & 0x7FFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 55] = (w36 >>> 61 | w37 << 3) & 0x7FFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 56] = (w37 >>> 40 | w38 << 24) & 0x7FFFFFFFFFFL;
+			dest[off + 57] = w38 >>> 19 & 0x7FFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 58] = (w38 >>> 62 | w39 << 2) & 0x7FFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 59] = (w39 >>> 41 | w40 << 23) & 0x7FFFFFFFFFFL;
+			dest[off + 60] = w40 >>> 20 & 0x7FFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 61] = (w40 >>> 63 | w41 << 1) & 0x7FFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 62] = (w41 >>> 42 | w42 << 22) & 0x7FFFFFFFFFFL;
+			dest[off + 63] = w42 >>> 21;
+		}
+	}
+
+	private static void encode43(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 43) {
+			final long v0 = src[off] & 0x7FFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFFFFFL;
+			data[j] = v0 | v1 << 43;
+			data[j + 1] = v1 >>> 21 | v2 << 22;
+			data[j + 2] = v2 >>> 42 | v3 << 1 | v4 << 44;
+			data[j + 3] = v4 >>> 20 | v5 << 23;
+			data[j + 4] = v5 >>> 41 | v6 << 2 | v7 << 45;
+			data[j + 5] = v7 >>> 19 | v8 << 24;
+			data[j + 6] = v8 >>> 40 | v9 << 3 | v10 << 46;
+			data[j + 7] = v10 >>> 18 | v11 << 25;
+			data[j + 8] = v11 >>> 39 | v12 << 4 | v13 << 47;
+			data[j + 9] = v13 >>> 17 | v14 << 26;
+			data[j + 10] = v14 >>> 38 | v15 << 5 | v16 << 48;
+			data[j + 11] = v16 >>> 16 | v17 << 27;
+			data[j + 12] = v17 >>> 37 | v18 << 6 | v19 << 49;
+			data[j + 13] = v19 >>> 15 | v20 << 28;
+			data[j + 14] = v20 >>> 36 | v21 << 7 | v22 << 50;
+			data[j + 15] = v22 >>> 14 | v23 << 29;
+			data[j + 16] = v23 >>> 35 | v24 << 8 | v25 << 51;
+			data[j + 17] = v25 >>> 13 | v26 << 30;
+			data[j + 18] = v26 >>> 34 | v27 << 9 | v28 << 52;
+			data[j + 19] = v28 >>> 12 | v29 << 31;
+			data[j + 20] = v29 >>> 33 | v30 << 10 | v31 << 53;
+			data[j + 21] = v31 >>> 11 | v32 << 32;
+			data[j + 22] = v32 >>> 32 | v33 << 11 | v34 << 54;
+			data[j + 23] = v34 >>> 10 | v35 << 33;
+			data[j + 24] = v35 >>> 31 | v36 << 12 | v37 << 55;
+			data[j + 25] = v37 >>> 9 | v38 << 34;
+			data[j + 26] = v38 >>> 30 | v39 << 13 | v40 << 56;
+			data[j + 27] = v40 >>> 8 | v41 << 35;
+			data[j + 28] = v41 >>> 29 | v42 << 14 | v43 << 57;
+			data[j + 29] = v43 >>> 7 | v44 << 36;
+			data[j + 30] = v44 >>> 28 | v45 << 15 | v46 << 58;
+			data[j + 31] = v46 >>> 6 | v47 << 37;
+			data[j + 32] = v47 >>> 27 | v48 << 16 | v49 << 59;
+			data[j + 33] = v49 >>> 5 | v50 << 38;
+			data[j + 34] = v50 >>> 26 | v51 << 17 | v52 << 60;
+			data[j + 35] = v52 >>> 4 | v53 << 39;
+			data[j + 36] = v53 >>> 25 | v54 << 18 | v55 << 61;
+			data[j + 37] = v55 >>> 3 | v56 << 40;
+			data[j + 38] = v56 >>> 24 | v57 << 19 | v58 << 62;
+			data[j + 39] = v58 >>> 2 | v59 << 41;
+			data[j + 40] = v59 >>> 23 | v60 << 20 | v61 << 63;
+			data[j + 41] = v61 >>> 1 | v62 << 42;
+			data[j + 42] = v62 >>> 22 | v63 << 21;
+		}
+	}
+
+	private static void decode44(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 44, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 44 | w1 << 20) & 0xFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 24 | w2 << 40) & 0xFFFFFFFFFFFL;
+			dest[off + 3] = w2 >>> 4 & 0xFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 4] = (w2 >>> 48 | w3 << 16) & 0xFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 5] = (w3 >>> 28 | w4 << 36) & 0xFFFFFFFFFFFL;
+			dest[off + 6] = w4 >>> 8 & 0xFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 7] = (w4 >>> 52 | w5 << 12) & 0xFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 8] = (w5 >>> 32 | w6 << 32) & 0xFFFFFFFFFFFL;
+			dest[off + 9] = w6 >>> 12 & 0xFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 10] = (w6 >>> 56 | w7 << 8) & 0xFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 11] = (w7 >>> 36 | w8 << 28) & 0xFFFFFFFFFFFL;
+			dest[off + 12] = w8 >>> 16 & 0xFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 13] = (w8 >>> 60 | w9 << 4) & 0xFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 14] = (w9 >>> 40 | w10 << 24) & 0xFFFFFFFFFFFL;
+			dest[off + 15] = w10 >>> 20;
+			final long w11 = data[j + 11];
+			dest[off + 16] = w11 & 0xFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 17] = (w11 >>> 44 | w12 << 20) & 0xFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 18] = (w12 >>> 24 | w13 << 40) & 0xFFFFFFFFFFFL;
+			dest[off + 19] = w13 >>> 4 & 0xFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 20] = (w13 >>> 48 | w14 << 16) & 0xFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 21] = (w14 >>> 28 | w15 << 36) & 0xFFFFFFFFFFFL;
+			dest[off + 22] = w15 >>> 8 & 0xFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 23] = (w15 >>> 52 | w16 << 12) & 0xFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 24] = (w16 >>> 32 | w17 << 32) & 0xFFFFFFFFFFFL;
+			dest[off + 25] = w17 >>> 12 & 0xFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 26] = (w17 >>> 56 | w18 << 8) & 0xFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 27] = (w18 >>> 36 | w19 << 28) & 0xFFFFFFFFFFFL;
+			dest[off + 28] = w19 >>> 16 & 0xFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 29] = (w19 >>> 60 | w20 << 4) & 0xFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 30] = (w20 >>> 40 | w21 << 24) & 0xFFFFFFFFFFFL;
+			dest[off + 31] = w21 >>> 20;
+			final long w22 = data[j + 22];
+			dest[off + 32] = w22 & 0xFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 33] = (w22 >>> 44 | w23 << 20) & 0xFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 34] = (w23 >>> 24 | w24 << 40) & 0xFFFFFFFFFFFL;
+			dest[off + 35] = w24 >>> 4 & 0xFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 36] = (w24 >>> 48 | w25 << 16) & 0xFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 37] = (w25 >>> 28 | w26 << 36) & 0xFFFFFFFFFFFL;
+			dest[off + 38] = w26 >>> 8 & 0xFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 39] = (w26 >>> 52 | w27 << 12) & 0xFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 40] = (w27 >>> 32 | w28 << 32) & 0xFFFFFFFFFFFL;
+			dest[off + 41] = w28 >>> 12 & 0xFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 42] = (w28 >>> 56 | w29 << 8) & 0xFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 43] = (w29 >>> 36 | w30 << 28) & 0xFFFFFFFFFFFL;
+			dest[off + 44] = w30 >>> 16 & 0xFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 45] = (w30 >>> 60 | w31 << 4) & 0xFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 46] = (w31 >>> 40 | w32 << 24) & 0xFFFFFFFFFFFL;
+			dest[off + 47] = w32 >>> 20;
+			final long w33 = data[j + 33];
+			dest[off + 48] = w33 & 0xFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 49] = (w33 >>> 44 | w34 << 20) & 0xFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 50] = (w34 >>> 24 | w35 << 40) & 0xFFFFFFFFFFFL;
+			dest[off + 51] = w35 >>> 4 & 0xFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 52] = (w35 >>> 48 | w36 << 16) & 0xFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 53] = (w36 >>> 28 | w37 << 36) & 0xFFFFFFFFFFFL;
+			dest[off + 54] = w37 >>> 8 & 0xFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 55] = (w37 >>> 52 | w38 << 12) & 0xFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 56] = (w38 >>> 32 | w39 << 32) & 0xFFFFFFFFFFFL;
+			dest[off + 57] = w39 >>> 12 & 0xFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 58] = (w39 >>> 56 | w40 << 8) & 0xFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 59] = (w40 >>> 36 | w41 << 28) & 0xFFFFFFFFFFFL;
+			dest[off + 60] = w41 >>> 16 & 0xFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 61] = (w41 >>> 60 | w42 << 4) & 0xFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 62] = (w42 >>> 40 | w43 << 24) & 0xFFFFFFFFFFFL;
+			dest[off + 63] = w43 >>> 20;
+		}
+	}
+
+	private static void encode44(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 44) {
+			final long v0 = src[off] & 0xFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 44;
+			data[j + 1] = v1 >>> 20 | v2 << 24;
+			data[j + 2] = v2 >>> 40 | v3 << 4 | v4 << 48;
+			data[j + 3] = v4 >>> 16 | v5 << 28;
+			data[j + 4] = v5 >>> 36 | v6 << 8 | v7 << 52;
+			data[j + 5] = v7 >>> 12 | v8 << 32;
+			data[j + 6] = v8 >>> 32 | v9 << 12 | v10 << 56;
+			data[j + 7] = v10 >>> 8 | v11 << 36;
+			data[j + 8] = v11 >>> 28 | v12 << 16 | v13 << 60;
+			data[j + 9] = v13 >>> 4 | v14 << 40;
+			data[j + 10] = v14 >>> 24 | v15 << 20;
+			data[j + 11] = v16 | v17 << 44;
+			data[j + 12] = v17 >>> 20 | v18 << 24;
+			data[j + 13] = v18 >>> 40 | v19 << 4 | v20 << 48;
+			data[j + 14] = v20 >>> 16 | v21 << 28;
+			data[j + 15] = v21 >>> 36 | v22 << 8 | v23 << 52;
+			data[j + 16] = v23 >>> 12 | v24 << 32;
+			data[j + 17] = v24 >>> 32 | v25 << 12 | v26 << 56;
+			data[j + 18] = v26 >>> 8 | v27 << 36;
+			data[j + 19] = v27 >>> 28 | v28 << 16 | v29 << 60;
+			data[j + 20] = v29 >>> 4 | v30 << 40;
+			data[j + 21] = v30 >>> 24 | v31 << 20;
+			data[j + 22] = v32 | v33 << 44;
+			data[j + 23] = v33 >>> 20 | v34 << 24;
+			data[j + 24] = v34 >>> 40 | v35 << 4 | v36 << 48;
+			data[j + 25] = v36 >>> 16 | v37 << 28;
+			data[j + 26] = v37 >>> 36 | v38 << 8 | v39 << 52;
+			data[j + 27] = v39 >>> 12 | v40 << 32;
+			data[j + 28] = v40 >>> 32 | v41 << 12 | v42 << 56;
+			data[j + 29] = v42 >>> 8 | v43 << 36;
+			data[j + 30] = v43 >>> 28 | v44 << 16 | v45 << 60;
+			data[j + 31] = v45 >>> 4 | v46 << 40;
+			data[j + 32] = v46 >>> 24 | v47 << 20;
+			data[j + 33] = v48 | v49 << 44;
+			data[j + 34] = v49 >>> 20 | v50 << 24;
+			data[j + 35] = v50 >>> 40 | v51 << 4 | v52 << 48;
+			data[j + 36] = v52 >>> 16 | v53 << 28;
+			data[j + 37] = v53 >>> 36 | v54 << 8 | v55 << 52;
+			data[j + 38] = v55 >>> 12 | v56 << 32;
+			data[j + 39] = v56 >>> 32 | v57 << 12 | v58 << 56;
+			data[j + 40] = v58 >>> 8 | v59 << 36;
+			data[j + 41] = v59 >>> 28 | v60 << 16 | v61 << 60;
+			data[j + 42] = v61 >>> 4 | v62 << 40;
+			data[j + 43] = v62 >>> 24 | v63 << 20;
+		}
+	}
+
+	private static void decode45(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 45, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 45 | w1 << 19) & 0x1FFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 26 | w2 << 38) & 0x1FFFFFFFFFFFL;
+			dest[off + 3] = w2 >>> 7 & 0x1FFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 4] = (w2 >>> 52 | w3 << 12) & 0x1FFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 5] = (w3 >>> 33 | w4 << 31) & 0x1FFFFFFFFFFFL;
+			dest[off + 6] = w4 >>> 14 & 0x1FFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 7] = (w4 >>> 59 | w5 << 5) & 0x1FFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 8] = (w5 >>> 40 | w6 << 24) & 0x1FFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 9] = (w6 >>> 21 | w7 << 43) & 0x1FFFFFFFFFFFL;
+			dest[off + 10] = w7 >>> 2 & 0x1FFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 11] = (w7 >>> 47 | w8 << 17) & 0x1FFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 12] = (w8 >>> 28 | w9 << 36) & 0x1FFFFFFFFFFFL;
+			dest[off + 13] = w9 >>> 9 & 0x1FFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 14] = (w9 >>> 54 | w10 << 10) & 0x1FFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 15] = (w10 >>> 35 | w11 << 29) & 0x1FFFFFFFFFFFL;
+			dest[off + 16] = w11 >>> 16 & 0x1FFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 17] = (w11 >>> 61 | w12 << 3) & 0x1FFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 18] = (w12 >>> 42 | w13 << 22) & 0x1FFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 19] = (w13 >>> 23 | w14 << 41) & 0x1FFFFFFFFFFFL;
+			dest[off + 20] = w14 >>> 4 & 0x1FFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 21] = (w14 >>> 49 | w15 << 15) & 0x1FFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 22] = (w15 >>> 30 | w16 << 34) & 0x1FFFFFFFFFFFL;
+			dest[off + 23] = w16 >>> 11 & 0x1FFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 24] = (w16 >>> 56 | w17 << 8) & 0x1FFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 25] = (w17 >>> 37 | w18 << 27) & 0x1FFFFFFFFFFFL;
+			dest[off + 26] = w18 >>> 18 & 0x1FFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 27] = (w18 >>> 63 | w19 << 1) & 0x1FFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 28] = (w19 >>> 44 | w20 << 20) & 0x1FFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 29] = (w20 >>> 25 | w21 << 39) & 0x1FFFFFFFFFFFL;
+			dest[off + 30] = w21 >>> 6 & 0x1FFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 31] = (w21 >>> 51 | w22 << 13) & 0x1FFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 32] = (w22 >>> 32 | w23 << 32) & 0x1FFFFFFFFFFFL;
+			dest[off + 33] = w23 >>> 13 & 0x1FFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 34] = (w23 >>> 58 | w24 << 6) & 0x1FFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 35] = (w24 >>> 39 | w25 << 25) & 0x1FFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 36] = (w25 >>> 20 | w26 << 44) & 0x1FFFFFFFFFFFL;
+			dest[off + 37] = w26 >>> 1 & 0x1FFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 38] = (w26 >>> 46 | w27 << 18) & 0x1FFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 39] = (w27 >>> 27 | w28 << 37) & 0x1FFFFFFFFFFFL;
+			dest[off + 40] = w28 >>> 8 & 0x1FFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 41] = (w28 >>> 53 | w29 << 11) & 0x1FFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 42] = (w29 >>> 34 | w30 << 30) & 0x1FFFFFFFFFFFL;
+			dest[off + 43] = w30 >>> 15 & 0x1FFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 44] = (w30 >>> 60 | w31 << 4) & 0x1FFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 45] = (w31 >>> 41 | w32 << 23) & 0x1FFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 46] = (w32 >>> 22 | w33 << 42) & 0x1FFFFFFFFFFFL;
+			dest[off + 47] = w33 >>> 3 & 0x1FFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 48] = (w33 >>> 48 | w34 << 16) & 0x1FFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 49] = (w34 >>> 29 | w35 << 35) & 0x1FFFFFFFFFFFL;
+			dest[off + 50] = w35 >>> 10 & 0x1FFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 51] = (w35 >>> 55 | w36 << 9) & 0x1FFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 52] = (w36 >>> 36 | w37 << 28) & 0x1FFFFFFFFFFFL;
+			dest[off + 53] = w37 >>> 17 & 0x1FFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 54] = (w37 >>> 62 | w38 << 2) & 0x1FFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 55] = (w38 >>> 43 | w39 << 21) & 0x1FFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 56] = (w39 >>> 24 | w40 << 40) & 0x1FFFFFFFFFFFL;
+			dest[off + 57] = w40 >>> 5 & 0x1FFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 58] = (w40 >>> 50 | w41 << 14) & 0x1FFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 59] = (w41 >>> 31 | w42 << 33) & 0x1FFFFFFFFFFFL;
+			dest[off + 60] = w42 >>> 12 & 0x1FFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 61] = (w42 >>> 57 | w43 << 7) & 0x1FFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 62] = (w43 >>> 38 | w44 << 26) & 0x1FFFFFFFFFFFL;
+			dest[off + 63] = w44 >>> 19;
+		}
+	}
+
+	private static void encode45(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 45) {
+			final long v0 = src[off] & 0x1FFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFFFFFFL;
+			data[j] = v0 | v1 << 45;
+			data[j + 1] = v1 >>> 19 | v2 << 26;
+			data[j + 2] = v2 >>> 38 | v3 << 7 | v4 << 52;
+			data[j + 3] = v4 >>> 12 | v5 << 33;
+			data[j + 4] = v5 >>> 31 | v6 << 14 | v7 << 59;
+			data[j + 5] = v7 >>> 5 | v8 << 40;
+			data[j + 6] = v8 >>> 24 | v9 << 21;
+			data[j + 7] = v9 >>> 43 | v10 << 2 | v11 << 47;
+			data[j + 8] = v11 >>> 17 | v12 << 28;
+			data[j + 9] = v12 >>> 36 | v13 << 9 | v14 << 54;
+			data[j + 10] = v14 >>> 10 | v15 << 35;
+			data[j + 11] = v15 >>> 29 | v16 << 16 | v17 << 61;
+			data[j + 12] = v17 >>> 3 | v18 << 42;
+			data[j + 13] = v18 >>> 22 | v19 << 23;
+			data[j + 14] = v19 >>> 41 | v20 << 4 | v21 << 49;
+			data[j + 15] = v21 >>> 15 | v22 << 30;
+			data[j + 16] = v22 >>> 34 | v23 << 11 | v24 << 56;
+			data[j + 17] = v24 >>> 8 | v25 << 37;
+			data[j + 18] = v25 >>> 27 | v26 << 18 | v27 << 63;
+			data[j + 19] = v27 >>> 1 | v28 << 44;
+			data[j + 20] = v28 >>> 20 | v29 << 25;
+			data[j + 21] = v29 >>> 39 | v30 << 6 | v31 << 51;
+			data[j + 22] = v31 >>> 13 | v32 << 32;
+			data[j + 23] = v32 >>> 32 | v33 << 13 | v34 << 58;
+			data[j + 24] = v34 >>> 6 | v35 << 39;
+			data[j + 25] = v35 >>> 25 | v36 << 20;
+			data[j + 26] = v36 >>> 44 | v37 << 1 | v38 << 46;
+			data[j + 27] = v38 >>> 18 | v39 << 27;
+			data[j + 28] = v39 >>> 37 | v40 << 8 | v41 << 53;
+			data[j + 29] = v41 >>> 11 | v42 << 34;
+			data[j + 30] = v42 >>> 30 | v43 << 15 | v44 << 60;
+			data[j + 31] = v44 >>> 4 | v45 << 41;
+			data[j + 32] = v45 >>> 23 | v46 << 22;
+			data[j + 33] = v46 >>> 42 | v47 << 3 | v48 << 48;
+			data[j + 34] = v48 >>> 16 | v49 << 29;
+			data[j + 35] = v49 >>> 35 | v50 << 10 | v51 << 55;
+			data[j + 36] = v51 >>> 9 | v52 << 36;
+			data[j + 37] = v52 >>> 28 | v53 << 17 | v54 << 62;
+			data[j + 38] = v54 >>> 2 | v55 << 43;
+			data[j + 39] = v55 >>> 21 | v56 << 24;
+			data[j + 40] = v56 >>> 40 | v57 << 5 | v58 << 50;
+			data[j + 41] = v58 >>> 14 | v59 << 31;
+			data[j + 42] = v59 >>> 33 | v60 << 12 | v61 << 57;
+			data[j + 43] = v61 >>> 7 | v62 << 38;
+			data[j + 44] = v62 >>> 26 | v63 << 19;
+		}
+	}
+
+	private static void decode46(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 46, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 46 | w1 << 18) & 0x3FFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 28 | w2 << 36) & 0x3FFFFFFFFFFFL;
+			dest[off + 3] = w2 >>> 10 & 0x3FFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 4] = (w2 >>> 56 | w3 << 8) & 0x3FFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 5] = (w3 >>> 38 | w4 << 26) & 0x3FFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 6] = (w4 >>> 20 | w5 << 44) & 0x3FFFFFFFFFFFL;
+			dest[off + 7] = w5 >>> 2 & 0x3FFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 8] = (w5 >>> 48 | w6 << 16) & 0x3FFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 9] = (w6 >>> 30 | w7 << 34) & 0x3FFFFFFFFFFFL;
+			dest[off + 10] = w7 >>> 12 & 0x3FFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 11] = (w7 >>> 58 | w8 << 6) & 0x3FFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 12] = (w8 >>> 40 | w9 << 24) & 0x3FFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 13] = (w9 >>> 22 | w10 << 42) & 0x3FFFFFFFFFFFL;
+			dest[off + 14] = w10 >>> 4 & 0x3FFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 15] = (w10 >>> 50 | w11 << 14) & 0x3FFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 16] = (w11 >>> 32 | w12 << 32) & 0x3FFFFFFFFFFFL;
+			dest[off + 17] = w12 >>> 14 & 0x3FFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 18] = (w12 >>> 60 | w13 << 4) & 0x3FFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 19] = (w13 >>> 42 | w14 << 22) & 0x3FFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 20] = (w14 >>> 24 | w15 << 40) & 0x3FFFFFFFFFFFL;
+			dest[off + 21] = w15 >>> 6 & 0x3FFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 22] = (w15 >>> 52 | w16 << 12) & 0x3FFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 23] = (w16 >>> 34 | w17 << 30) & 0x3FFFFFFFFFFFL;
+			dest[off + 24] = w17 >>> 16 & 0x3FFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 25] = (w17 >>> 62 | w18 << 2) & 0x3FFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 26] = (w18 >>> 44 | w19 << 20) & 0x3FFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 27] = (w19 >>> 26 | w20 << 38) & 0x3FFFFFFFFFFFL;
+			dest[off + 28] = w20 >>> 8 & 0x3FFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 29] = (w20 >>> 54 | w21 << 10) & 0x3FFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 30] = (w21 >>> 36 | w22 << 28) & 0x3FFFFFFFFFFFL;
+			dest[off + 31] = w22 >>> 18;
+			final long w23 = data[j + 23];
+			dest[off + 32] = w23 & 0x3FFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 33] = (w23 >>> 46 | w24 << 18) & 0x3FFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 34] = (w24 >>> 28 | w25 << 36) & 0x3FFFFFFFFFFFL;
+			dest[off + 35] = w25 >>> 10 & 0x3FFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 36] = (w25 >>> 56 | w26 << 8) & 0x3FFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 37] = (w26 >>> 38 | w27 << 26) & 0x3FFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 38] = (w27 >>> 20 | w28 << 44) & 0x3FFFFFFFFFFFL;
+			dest[off + 39] = w28 >>> 2 & 0x3FFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 40] = (w28 >>> 48 | w29 << 16) & 0x3FFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 41] = (w29 >>> 30 | w30 << 34) & 0x3FFFFFFFFFFFL;
+			dest[off + 42] = w30 >>> 12 & 0x3FFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 43] = (w30 >>> 58 | w31 << 6) & 0x3FFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 44] = (w31 >>> 40 | w32 << 24) & 0x3FFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 45] = (w32 >>> 22 | w33 << 42) & 0x3FFFFFFFFFFFL;
+			dest[off + 46] = w33 >>> 4 & 0x3FFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 47] = (w33 >>> 50 | w34 << 14) & 0x3FFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 48] = (w34 >>> 32 | w35 << 32) & 0x3FFFFFFFFFFFL;
+			dest[off + 49] = w35 >>> 14 & 0x3FFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 50] = (w35 >>> 60 | w36 << 4) & 0x3FFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 51] = (w36 >>> 42 | w37 << 22) & 0x3FFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 52] = (w37 >>> 24 | w38 << 40) & 0x3FFFFFFFFFFFL;
+			dest[off + 53] = w38 >>> 6 & 0x3FFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 54] = (w38 >>> 52 | w39 << 12) & 0x3FFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 55] = (w39 >>> 34 | w40 << 30) & 0x3FFFFFFFFFFFL;
+			dest[off + 56] = w40 >>> 16 & 0x3FFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 57] = (w40 >>> 62 | w41 << 2) & 0x3FFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 58] = (w41 >>> 44 | w42 << 20) & 0x3FFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 59] = (w42 >>> 26 | w43 << 38) & 0x3FFFFFFFFFFFL;
+			dest[off + 60] = w43 >>> 8 & 0x3FFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 61] = (w43 >>> 54 | w44 << 10) & 0x3FFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 62] = (w44 >>> 36 | w45 << 28) & 0x3FFFFFFFFFFFL;
+			dest[off + 63] = w45 >>> 18;
+		}
+	}
+
+	private static void encode46(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 46) {
+			final long v0 = src[off] & 0x3FFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFFFFFFL;
+			data[j] = v0 | v1 << 46;
+			data[j + 1] = v1 >>> 18 | v2 << 28;
+			data[j + 2] = v2 >>> 36 | v3 << 10 | v4 << 56;
+			data[j + 3] = v4 >>> 8 | v5 << 38;
+			data[j + 4] = v5 >>> 26 | v6 << 20;
+			data[j + 5] = v6 >>> 44 | v7 << 2 | v8 << 48;
+			data[j + 6] = v8 >>> 16 | v9 << 30;
+			data[j + 7] = v9 >>> 34 | v10 << 12 | v11 << 58;
+			data[j + 8] = v11 >>> 6 | v12 << 40;
+			data[j + 9] = v12 >>> 24 | v13 << 22;
+			data[j + 10] = v13 >>> 42 | v14 << 4 | v15 << 50;
+			data[j + 11] = v15 >>> 14 | v16 << 32;
+			data[j + 12] = v16 >>> 32 | v17 << 14 | v18 << 60;
+			data[j + 13] = v18 >>> 4 | v19 << 42;
+			data[j + 14] = v19 >>> 22 | v20 << 24;
+			data[j + 15] = v20 >>> 40 | v21 << 6 | v22 << 52;
+			data[j + 16] = v22 >>> 12 | v23 << 34;
+			data[j + 17] = v23 >>> 30 | v24 << 16 | v25 << 62;
+			data[j + 18] = v25 >>> 2 | v26 << 44;
+			data[j + 19] = v26 >>> 20 | v27 << 26;
+			data[j + 20] = v27 >>> 38 | v28 << 8 | v29 << 54;
+			data[j + 21] = v29 >>> 10 | v30 << 36;
+			data[j + 22] = v30 >>> 28 | v31 << 18;
+			data[j + 23] = v32 | v33 << 46;
+			data[j + 24] = v33 >>> 18 | v34 << 28;
+			data[j + 25] = v34 >>> 36 | v35 << 10 | v36 << 56;
+			data[j + 26] = v36 >>> 8 | v37 << 38;
+			data[j + 27] = v37 >>> 26 | v38 << 20;
+			data[j + 28] = v38 >>> 44 | v39 << 2 | v40 << 48;
+			data[j + 29] = v40 >>> 16 | v41 << 30;
+			data[j + 30] = v41 >>> 34 | v42 << 12 | v43 << 58;
+			data[j + 31] = v43 >>> 6 | v44 << 40;
+			data[j + 32] = v44 >>> 24 | v45 << 22;
+			data[j + 33] = v45 >>> 42 | v46 << 4 | v47 << 50;
+			data[j + 34] = v47 >>> 14 | v48 << 32;
+			data[j + 35] = v48 >>> 32 | v49 << 14 | v50 << 60;
+			data[j + 36] = v50 >>> 4 | v51 << 42;
+			data[j + 37] = v51 >>> 22 | v52 << 24;
+			data[j + 38] = v52 >>> 40 | v53 << 6 | v54 << 52;
+			data[j + 39] = v54 >>> 12 | v55 << 34;
+			data[j + 40] = v55 >>> 30 | v56 << 16 | v57 << 62;
+			data[j + 41] = v57 >>> 2 | v58 << 44;
+			data[j + 42] = v58 >>> 20 | v59 << 26;
+			data[j + 43] = v59 >>> 38 | v60 << 8 | v61 << 54;
+			data[j + 44] = v61 >>> 10 | v62 << 36;
+			data[j + 45] = v62 >>> 28 | v63 << 18;
+		}
+	}
+
+	private static void decode47(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 47, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 47 | w1 << 17) & 0x7FFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 30 | w2 << 34) & 0x7FFFFFFFFFFFL;
+			dest[off + 3] = w2 >>> 13 & 0x7FFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 4] = (w2 >>> 60 | w3 << 4) & 0x7FFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 5] = (w3 >>> 43 | w4 << 21) & 0x7FFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 6] = (w4 >>> 26 | w5 << 38) & 0x7FFFFFFFFFFFL;
+			dest[off + 7] = w5 >>> 9 & 0x7FFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 8] = (w5 >>> 56 | w6 << 8) & 0x7FFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 9] = (w6 >>> 39 | w7 << 25) & 0x7FFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 10] = (w7 >>> 22 | w8 << 42) & 0x7FFFFFFFFFFFL;
+			dest[off + 11] = w8 >>> 5 & 0x7FFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 12] = (w8 >>> 52 | w9 << 12) & 0x7FFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 13] = (w9 >>> 35 | w10 << 29) & 0x7FFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 14] = (w10 >>> 18 | w11 << 46) & 0x7FFFFFFFFFFFL;
+			dest[off + 15] = w11 >>> 1 & 0x7FFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 16] = (w11 >>> 48 | w12 << 16) & 0x7FFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 17] = (w12 >>> 31 | w13 << 33) & 0x7FFFFFFFFFFFL;
+			dest[off + 18] = w13 >>> 14 & 0x7FFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 19] = (w13 >>> 61 | w14 << 3) & 0x7FFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 20] = (w14 >>> 44 | w15 << 20) & 0x7FFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 21] = (w15 >>> 27 | w16 << 37) & 0x7FFFFFFFFFFFL;
+			dest[off + 22] = w16 >>> 10 & 0x7FFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 23] = (w16 >>> 57 | w17 << 7) & 0x7FFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 24] = (w17 >>> 40 | w18 << 24) & 0x7FFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 25] = (w18 >>> 23 | w19 << 41) & 0x7FFFFFFFFFFFL;
+			dest[off + 26] = w19 >>> 6 & 0x7FFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 27] = (w19 >>> 53 | w20 << 11) & 0x7FFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 28] = (w20 >>> 36 | w21 << 28) & 0x7FFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 29] = (w21 >>> 19 | w22 << 45) & 0x7FFFFFFFFFFFL;
+			dest[off + 30] = w22 >>> 2 & 0x7FFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 31] = (w22 >>> 49 | w23 << 15) & 0x7FFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 32] = (w23 >>> 32 | w24 << 32) & 0x7FFFFFFFFFFFL;
+			dest[off + 33] = w24 >>> 15 & 0x7FFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 34] = (w24 >>> 62 | w25 << 2) & 0x7FFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 35] = (w25 >>> 45 | w26 << 19) & 0x7FFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 36] = (w26 >>> 28 | w27 << 36) & 0x7FFFFFFFFFFFL;
+			dest[off + 37] = w27 >>> 11 & 0x7FFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 38] = (w27 >>> 58 | w28 << 6) & 0x7FFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 39] = (w28 >>> 41 | w29 << 23) & 0x7FFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 40] = (w29 >>> 24 | w30 << 40) & 0x7FFFFFFFFFFFL;
+			dest[off + 41] = w30 >>> 7 & 0x7FFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 42] = (w30 >>> 54 | w31 << 10) & 0x7FFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 43] = (w31 >>> 37 | w32 << 27) & 0x7FFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 44] = (w32 >>> 20 | w33 << 44) & 0x7FFFFFFFFFFFL;
+			dest[off + 45] = w33 >>> 3 & 0x7FFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 46] = (w33 >>> 50 | w34 << 14) & 0x7FFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 47] = (w34 >>> 33 | w35 << 31) & 0x7FFFFFFFFFFFL;
+			dest[off + 48] = w35 >>> 16 & 0x7FFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 49] = (w35 >>> 63 | w36 << 1) & 0x7FFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 50] = (w36 >>> 46 | w37 << 18) & 0x7FFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 51] = (w37 >>> 29 | w38 << 35) & 0x7FFFFFFFFFFFL;
+			dest[off + 52] = w38 >>> 12 & 0x7FFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 53] = (w38 >>> 59 | w39 << 5) & 0x7FFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 54] = (w39 >>> 42 | w40 << 22) & 0x7FFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 55] = (w40 >>> 25 | w41 << 39) & 0x7FFFFFFFFFFFL;
+			dest[off + 56] = w41 >>> 8 & 0x7FFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 57] = (w41 >>> 55 | w42 << 9) & 0x7FFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 58] = (w42 >>> 38 | w43 << 26) & 0x7FFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 59] = (w43 >>> 21 | w44 << 43) & 0x7FFFFFFFFFFFL;
+			dest[off + 60] = w44 >>> 4 & 0x7FFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 61] = (w44 >>> 51 | w45 << 13) & 0x7FFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 62] = (w45 >>> 34 | w46 << 30) & 0x7FFFFFFFFFFFL;
+			dest[off + 63] = w46 >>> 17;
+		}
+	}
+
+	private static void encode47(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 47) {
+			final long v0 = src[off] & 0x7FFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFFFFFFL;
+			data[j] = v0 | v1 << 47;
+			data[j + 1] = v1 >>> 17 | v2 << 30;
+			data[j + 2] = v2 >>> 34 | v3 << 13 | v4 << 60;
+			data[j + 3] = v4 >>> 4 | v5 << 43;
+			data[j + 4] = v5 >>> 21 | v6 << 26;
+			data[j + 5] = v6 >>> 38 | v7 << 9 | v8 << 56;
+			data[j + 6] = v8 >>> 8 | v9 << 39;
+			data[j + 7] = v9 >>> 25 | v10 << 22;
+			data[j + 8] = v10 >>> 42 | v11 << 5 | v12 << 52;
+			data[j + 9] = v12 >>> 12 | v13 << 35;
+			data[j + 10] = v13 >>> 29 | v14 << 18;
+			data[j + 11] = v14 >>> 46 | v15 << 1 | v16 << 48;
+			data[j + 12] = v16 >>> 16 | v17 << 31;
+			data[j + 13] = v17 >>> 33 | v18 << 14 | v19 << 61;
+			data[j + 14] = v19 >>> 3 | v20 << 44;
+			data[j + 15] = v20 >>> 20 | v21 << 27;
+			data[j + 16] = v21 >>> 37 | v22 << 10 | v23 << 57;
+			data[j + 17] = v23 >>> 7 | v24 << 40;
+			data[j + 18] = v24 >>> 24 | v25 << 23;
+			data[j + 19] = v25 >>> 41 | v26 << 6 | v27 << 53;
+			data[j + 20] = v27 >>> 11 | v28 << 36;
+			data[j + 21] = v28 >>> 28 | v29 << 19;
+			data[j + 22] = v29 >>> 45 | v30 << 2 | v31 << 49;
+			data[j + 23] = v31 >>> 15 | v32 << 32;
+			data[j + 24] = v32 >>> 32 | v33 << 15 | v34 << 62;
+			data[j + 25] = v34 >>> 2 | v35 << 45;
+			data[j + 26] = v35 >>> 19 | v36 << 28;
+			data[j + 27] = v36 >>> 36 | v37 << 11 | v38 << 58;
+			data[j + 28] = v38 >>> 6 | v39 << 41;
+			data[j + 29] = v39 >>> 23 | v40 << 24;
+			data[j + 30] = v40 >>> 40 | v41 << 7 | v42 << 54;
+			data[j + 31] = v42 >>> 10 | v43 << 37;
+			data[j + 32] = v43 >>> 27 | v44 << 20;
+			data[j + 33] = v44 >>> 44 | v45 << 3 | v46 << 50;
+			data[j + 34] = v46 >>> 14 | v47 << 33;
+			data[j + 35] = v47 >>> 31 | v48 << 16 | v49 << 63;
+			data[j + 36] = v49 >>> 1 | v50 << 46;
+			data[j + 37] = v50 >>> 18 | v51 << 29;
+			data[j + 38] = v51 >>> 35 | v52 << 12 | v53 << 59;
+			data[j + 39] = v53 >>> 5 | v54 << 42;
+			data[j + 40] = v54 >>> 22 | v55 << 25;
+			data[j + 41] = v55 >>> 39 | v56 << 8 | v57 << 55;
+			data[j + 42] = v57 >>> 9 | v58 << 38;
+			data[j + 43] = v58 >>> 26 | v59 << 21;
+			data[j + 44] = v59 >>> 43 | v60 << 4 | v61 << 51;
+			data[j + 45] = v61 >>> 13 | v62 << 34;
+			data[j + 46] = v62 >>> 30 | v63 << 17;
+		}
+	}
+
+	private static void decode48(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 48, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 48 | w1 << 16) & 0xFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 32 | w2 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 3] = w2 >>> 16;
+			final long w3 = data[j + 3];
+			dest[off + 4] = w3 & 0xFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 5] = (w3 >>> 48 | w4 << 16) & 0xFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 6] = (w4 >>> 32 | w5 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 7] = w5 >>> 16;
+			final long w6 = data[j + 6];
+			dest[off + 8] = w6 & 0xFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 9] = (w6 >>> 48 | w7 << 16) & 0xFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 10] = (w7 >>> 32 | w8 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 11] = w8 >>> 16;
+			final long w9 = data[j + 9];
+			dest[off + 12] = w9 & 0xFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 13] = (w9 >>> 48 | w10 << 16) & 0xFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 14] = (w10 >>> 32 | w11 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 15] = w11 >>> 16;
+			final long w12 = data[j + 12];
+			dest[off + 16] = w12 & 0xFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 17] = (w12 >>> 48 | w13 << 16) & 0xFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 18] = (w13 >>> 32 | w14 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 19] = w14 >>> 16;
+			final long w15 = data[j + 15];
+			dest[off + 20] = w15 & 0xFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 21] = (w15 >>> 48 | w16 << 16) & 0xFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 22] = (w16 >>> 32 | w17 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 23] = w17 >>> 16;
+			final long w18 = data[j + 18];
+			dest[off + 24] = w18 & 0xFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 25] = (w18 >>> 48 | w19 << 16) & 0xFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 26] = (w19 >>> 32 | w20 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 27] = w20 >>> 16;
+			final long w21 = data[j + 21];
+			dest[off + 28] = w21 & 0xFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 29] = (w21 >>> 48 | w22 << 16) & 0xFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 30] = (w22 >>> 32 | w23 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 31] = w23 >>> 16;
+			final long w24 = data[j + 24];
+			dest[off + 32] = w24 & 0xFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 33] = (w24 >>> 48 | w25 << 16) & 0xFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 34] = (w25 >>> 32 | w26 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 35] = w26 >>> 16;
+			final long w27 = data[j + 27];
+			dest[off + 36] = w27 & 0xFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 37] = (w27 >>> 48 | w28 << 16) & 0xFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 38] = (w28 >>> 32 | w29 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 39] = w29 >>> 16;
+			final long w30 = data[j + 30];
+			dest[off + 40] = w30 & 0xFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 41] = (w30 >>> 48 | w31 << 16) & 0xFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 42] = (w31 >>> 32 | w32 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 43] = w32 >>> 16;
+			final long w33 = data[j + 33];
+			dest[off + 44] = w33 & 0xFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 45] = (w33 >>> 48 | w34 << 16) & 0xFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 46] = (w34 >>> 32 | w35 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 47] = w35 >>> 16;
+			final long w36 = data[j + 36];
+			dest[off + 48] = w36 & 0xFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 49] = (w36 >>> 48 | w37 << 16) & 0xFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 50] = (w37 >>> 32 | w38 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 51] = w38 >>> 16;
+			final long w39 = data[j + 39];
+			dest[off + 52] = w39 & 0xFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 53] = (w39 >>> 48 | w40 << 16) & 0xFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 54] = (w40 >>> 32 | w41 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 55] = w41 >>> 16;
+			final long w42 = data[j + 42];
+			dest[off + 56] = w42 & 0xFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 57] = (w42 >>> 48 | w43 << 16) & 0xFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 58] = (w43 >>> 32 | w44 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 59] = w44 >>> 16;
+			final long w45 = data[j + 45];
+			dest[off + 60] = w45 & 0xFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 61] = (w45 >>> 48 | w46 << 16) & 0xFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 62] = (w46 >>> 32 | w47 << 32) & 0xFFFFFFFFFFFFL;
+			dest[off + 63] = w47 >>> 16;
+		}
+	}
+
+	private static void encode48(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 48) {
+			final long v0 = src[off] & 0xFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 48;
+			data[j + 1] = v1 >>> 16 | v2 << 32;
+			data[j + 2] = v2 >>> 32 | v3 << 16;
+			data[j + 3] = v4 | v5 << 48;
+			data[j + 4] = v5 >>> 16 | v6 << 32;
+			data[j + 5] = v6 >>> 32 | v7 << 16;
+			data[j + 6] = v8 | v9 << 48;
+			data[j + 7] = v9 >>> 16 | v10 << 32;
+			data[j + 8] = v10 >>> 32 | v11 << 16;
+			data[j + 9] = v12 | v13 << 48;
+			data[j + 10] = v13 >>> 16 | v14 << 32;
+			data[j + 11] = v14 >>> 32 | v15 << 16;
+			data[j + 12] = v16 | v17 << 48;
+			data[j + 13] = v17 >>> 16 | v18 << 32;
+			data[j + 14] = v18 >>> 32 | v19 << 16;
+			data[j + 15] = v20 | v21 << 48;
+			data[j + 16] = v21 >>> 16 | v22 << 32;
+			data[j + 17] = v22 >>> 32 | v23 << 16;
+			data[j + 18] = v24 | v25 << 48;
+			data[j + 19] = v25 >>> 16 | v26 << 32;
+			data[j + 20] = v26 >>> 32 | v27 << 16;
+			data[j + 21] = v28 | v29 << 48;
+			data[j + 22] = v29 >>> 16 | v30 << 32;
+			data[j + 23] = v30 >>> 32 | v31 << 16;
+			data[j + 24] = v32 | v33 << 48;
+			data[j + 25] = v33 >>> 16 | v34 << 32;
+			data[j + 26] = v34 >>> 32 | v35 << 16;
+			data[j + 27] = v36 | v37 << 48;
+			data[j + 28] = v37 >>> 16 | v38 << 32;
+			data[j + 29] = v38 >>> 32 | v39 << 16;
+			data[j + 30] = v40 | v41 << 48;
+			data[j + 31] = v41 >>> 16 | v42 << 32;
+			data[j + 32] = v42 >>> 32 | v43 << 16;
+			data[j + 33] = v44 | v45 << 48;
+			data[j + 34] = v45 >>> 16 | v46 << 32;
+			data[j + 35] = v46 >>> 32 | v47 << 16;
+			data[j + 36] = v48 | v49 << 48;
+			data[j + 37] = v49 >>> 16 | v50 << 32;
+			data[j + 38] = v50 >>> 32 | v51 << 16;
+			data[j + 39] = v52 | v53 << 48;
+			data[j + 40] = v53 >>> 16 | v54 << 32;
+			data[j + 41] = v54 >>> 32 | v55 << 16;
+			data[j + 42] = v56 | v57 << 48;
+			data[j + 43] = v57 >>> 16 | v58 << 32;
+			data[j + 44] = v58 >>> 32 | v59 << 16;
+			data[j + 45] = v60 | v61 << 48;
+			data[j + 46] = v61 >>> 16 | v62 << 32;
+			data[j + 47] = v62 >>> 32 | v63 << 16;
+		}
+	}
+
+	private static void decode49(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 49, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 49 | w1 << 15) & 0x1FFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 34 | w2 << 30) & 0x1FFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 19 | w3 << 45) & 0x1FFFFFFFFFFFFL;
+			dest[off + 4] = w3 >>> 4 & 0x1FFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 5] = (w3 >>> 53 | w4 << 11) & 0x1FFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 6] = (w4 >>> 38 | w5 << 26) & 0x1FFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 7] = (w5 >>> 23 | w6 << 41) & 0x1FFFFFFFFFFFFL;
+			dest[off + 8] = w6 >>> 8 & 0x1FFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 9] = (w6 >>> 57 | w7 << 7) & 0x1FFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 10] = (w7 >>> 42 | w8 << 22) & 0x1FFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 11] = (w8 >>> 27 | w9 << 37) & 0x1FFFFFFFFFFFFL;
+			dest[off + 12] = w9 >>> 12 & 0x1FFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 13] = (w9 >>> 61 | w10 << 3) & 0x1FFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 14] = (w10 >>> 46 | w11 << 18) & 0x1FFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 15] = (w11 >>> 31 | w12 << 33) & 0x1FFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 16] = (w12 >>> 16 | w13 << 48) & 0x1FFFFFFFFFFFFL;
+			dest[off + 17] = w13 >>> 1 & 0x1FFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 18] = (w13 >>> 50 | w14 << 14) & 0x1FFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 19] = (w14 >>> 35 | w15 << 29) & 0x1FFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 20] = (w15 >>> 20 | w16 << 44) & 0x1FFFFFFFFFFFFL;
+			dest[off + 21] = w16 >>> 5 & 0x1FFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 22] = (w16 >>> 54 | w17 << 10) & 0x1FFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 23] = (w17 >>> 39 | w18 << 25) & 0x1FFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 24] = (w18 >>> 24 | w19 << 40) & 0x1FFFFFFFFFFFFL;
+			dest[off + 25] = w19 >>> 9 & 0x1FFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 26] = (w19 >>> 58 | w20 << 6) & 0x1FFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 27] = (w20 >>> 43 | w21 << 21) & 0x1FFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 28] = (w21 >>> 28 | w22 << 36) & 0x1FFFFFFFFFFFFL;
+			dest[off + 29] = w22 >>> 13 & 0x1FFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 30] = (w22 >>> 62 | w23 << 2) & 0x1FFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 31] = (w23 >>> 47 | w24 << 17) & 0x1FFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 32] = (w24 >>> 32 | w25 << 32) & 0x1FFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 33] = (w25 >>> 17 | w26 << 47) & 0x1FFFFFFFFFFFFL;
+			dest[off + 34] = w26 >>> 2 & 0x1FFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 35] = (w26 >>> 51 | w27 << 13) & 0x1FFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 36] = (w27 >>> 36 | w28 << 28) & 0x1FFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 37] = (w28 >>> 21 | w29 << 43) & 0x1FFFFFFFFFFFFL;
+			dest[off + 38] = w29 >>> 6 & 0x1FFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 39] = (w29 >>> 55 | w30 << 9) & 0x1FFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 40] = (w30 >>> 40 | w31 << 24) & 0x1FFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 41] = (w31 >>> 25 | w32 << 39) & 0x1FFFFFFFFFFFFL;
+			dest[off + 42] = w32 >>> 10 & 0x1FFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 43] = (w32 >>> 59 | w33 << 5) & 0x1FFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 44] = (w33 >>> 44 | w34 << 20) & 0x1FFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 45] = (w34 >>> 29 | w35 << 35) & 0x1FFFFFFFFFFFFL;
+			dest[off + 46] = w35 >>> 14 & 0x1FFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 47] = (w35 >>> 63 | w36 << 1) & 0x1FFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 48] = (w36 >>> 48 | w37 << 16) & 0x1FFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 49] = (w37 >>> 33 | w38 << 31) & 0x1FFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 50] = (w38 >>> 18 | w39 << 46) & 0x1FFFFFFFFFFFFL;
+			dest[off + 51] = w39 >>> 3 & 0x1FFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 52] = (w39 >>> 52 | w40 << 12) & 0x1FFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 53] = (w40 >>> 37 | w41 << 27) & 0x1FFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 54] = (w41 >>> 22 | w42 << 42) & 0x1FFFFFFFFFFFFL;
+			dest[off + 55] = w42 >>> 7 & 0x1FFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 56] = (w42 >>> 56 | w43 << 8) & 0x1FFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 57] = (w43 >>> 41 | w44 << 23) & 0x1FFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 58] = (w44 >>> 26 | w45 << 38) & 0x1FFFFFFFFFFFFL;
+			dest[off + 59] = w45 >>> 11 & 0x1FFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 60] = (w45 >>> 60 | w46 << 4) & 0x1FFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 61] = (w46 >>> 45 | w47 << 19) & 0x1FFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 62] = (w47 >>> 30 | w48 << 34) & 0x1FFFFFFFFFFFFL;
+			dest[off + 63] = w48 >>> 15;
+		}
+	}
+
+	private static void encode49(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 49) {
+			final long v0 = src[off] & 0x1FFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 49;
+			data[j + 1] = v1 >>> 15 | v2 << 34;
+			data[j + 2] = v2 >>> 30 | v3 << 19;
+			data[j + 3] = v3 >>> 45 | v4 << 4 | v5 << 53;
+			data[j + 4] = v5 >>> 11 | v6 << 38;
+			data[j + 5] = v6 >>> 26 | v7 << 23;
+			data[j + 6] = v7 >>> 41 | v8 << 8 | v9 << 57;
+			data[j + 7] = v9 >>> 7 | v10 << 42;
+			data[j + 8] = v10 >>> 22 | v11 << 27;
+			data[j + 9] = v11 >>> 37 | v12 << 12 | v13 << 61;
+			data[j + 10] = v13 >>> 3 | v14 << 46;
+			data[j + 11] = v14 >>> 18 | v15 << 31;
+			data[j + 12] = v15 >>> 33 | v16 << 16;
+			data[j + 13] = v16 >>> 48 | v17 << 1 | v18 << 50;
+			data[j + 14] = v18 >>> 14 | v19 << 35;
+			data[j + 15] = v19 >>> 29 | v20 << 20;
+			data[j + 16] = v20 >>> 44 | v21 << 5 | v22 << 54;
+			data[j + 17] = v22 >>> 10 | v23 << 39;
+			data[j + 18] = v23 >>> 25 | v24 << 24;
+			data[j + 19] = v24 >>> 40 | v25 << 9 | v26 << 58;
+			data[j + 20] = v26 >>> 6 | v27 << 43;
+			data[j + 21] = v27 >>> 21 | v28 << 28;
+			data[j + 22] = v28 >>> 36 | v29 << 13 | v30 << 62;
+			data[j + 23] = v30 >>> 2 | v31 << 47;
+			data[j + 24] = v31 >>> 17 | v32 << 32;
+			data[j + 25] = v32 >>> 32 | v33 << 17;
+			data[j + 26] = v33 >>> 47 | v34 << 2 | v35 << 51;
+			data[j + 27] = v35 >>> 13 | v36 << 36;
+			data[j + 28] = v36 >>> 28 | v37 << 21;
+			data[j + 29] = v37 >>> 43 | v38 << 6 | v39 << 55;
+			data[j + 30] = v39 >>> 9 | v40 << 40;
+			data[j + 31] = v40 >>> 24 | v41 << 25;
+			data[j + 32] = v41 >>> 39 | v42 << 10 | v43 << 59;
+			data[j + 33] = v43 >>> 5 | v44 << 44;
+			data[j + 34] = v44 >>> 20 | v45 << 29;
+			data[j + 35] = v45 >>> 35 | v46 << 14 | v47 << 63;
+			data[j + 36] = v47 >>> 1 | v48 << 48;
+			data[j + 37] = v48 >>> 16 | v49 << 33;
+			data[j + 38] = v49 >>> 31 | v50 << 18;
+			data[j + 39] = v50 >>> 46 | v51 << 3 | v52 << 52;
+			data[j + 40] = v52 >>> 12 | v53 << 37;
+			data[j + 41] = v53 >>> 27 | v54 << 22;
+			data[j + 42] = v54 >>> 42 | v55 << 7 | v56 << 56;
+			data[j + 43] = v56 >>> 8 | v57 << 41;
+			data[j + 44] = v57 >>> 23 | v58 << 26;
+			data[j + 45] = v58 >>> 38 | v59 << 11 | v60 << 60;
+			data[j + 46] = v60 >>> 4 | v61 << 45;
+			data[j + 47] = v61 >>> 19 | v62 << 30;
+			data[j + 48] = v62 >>> 34 | v63 << 15;
+		}
+	}
+
+	private static void decode50(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 50, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 50 | w1 << 14) & 0x3FFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 36 | w2 << 28) & 0x3FFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 22 | w3 << 42) & 0x3FFFFFFFFFFFFL;
+			dest[off + 4] = w3 >>> 8 & 0x3FFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 5] = (w3 >>> 58 | w4 << 6) & 0x3FFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 6] = (w4 >>> 44 | w5 << 20) & 0x3FFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 7] = (w5 >>> 30 | w6 << 34) & 0x3FFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 8] = (w6 >>> 16 | w7 << 48) & 0x3FFFFFFFFFFFFL;
+			dest[off + 9] = w7 >>> 2 & 0x3FFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 10] = (w7 >>> 52 | w8 << 12) & 0x3FFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 11] = (w8 >>> 38 | w9 << 26) & 0x3FFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 12] = (w9 >>> 24 | w10 << 40) & 0x3FFFFFFFFFFFFL;
+			dest[off + 13] = w10 >>> 10 & 0x3FFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 14] = (w10 >>> 60 | w11 << 4) & 0x3FFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 15] = (w11 >>> 46 | w12 << 18) & 0x3FFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 16] = (w12 >>> 32 | w13 << 32) & 0x3FFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 17] = (w13 >>> 18 | w14 << 46) & 0x3FFFFFFFFFFFFL;
+			dest[off + 18] = w14 >>> 4 & 0x3FFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 19] = (w14 >>> 54 | w15 << 10) & 0x3FFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 20] = (w15 >>> 40 | w16 << 24) & 0x3FFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 21] = (w16 >>> 26 | w17 << 38) & 0x3FFFFFFFFFFFFL;
+			dest[off + 22] = w17 >>> 12 & 0x3FFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 23] = (w17 >>> 62 | w18 << 2) & 0x3FFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 24] = (w18 >>> 48 | w19 << 16) & 0x3FFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 25] = (w19 >>> 34 | w20 << 30) & 0x3FFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 26] = (w20 >>> 20 | w21 << 44) & 0x3FFFFFFFFFFFFL;
+			dest[off + 27] = w21 >>> 6 & 0x3FFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 28] = (w21 >>> 56 | w22 << 8) & 0x3FFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 29] = (w22 >>> 42 | w23 << 22) & 0x3FFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 30] = (w23 >>> 28 | w24 << 36) & 0x3FFFFFFFFFFFFL;
+			dest[off + 31] = w24 >>> 14;
+			final long w25 = data[j + 25];
+			dest[off + 32] = w25 & 0x3FFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 33] = (w25 >>> 50 | w26 << 14) & 0x3FFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 34] = (w26 >>> 36 | w27 << 28) & 0x3FFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 35] = (w27 >>> 22 | w28 << 42) & 0x3FFFFFFFFFFFFL;
+			dest[off + 36] = w28 >>> 8 & 0x3FFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 37] = (w28 >>> 58 | w29 << 6) & 0x3FFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 38] = (w29 >>> 44 | w30 << 20) & 0x3FFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 39] = (w30 >>> 30 | w31 << 34) & 0x3FFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 40] = (w31 >>> 16 | w32 << 48) & 0x3FFFFFFFFFFFFL;
+			dest[off + 41] = w32 >>> 2 & 0x3FFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 42] = (w32 >>> 52 | w33 << 12) & 0x3FFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 43] = (w33 >>> 38 | w34 << 26) & 0x3FFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 44] = (w34 >>> 24 | w35 << 40) & 0x3FFFFFFFFFFFFL;
+			dest[off + 45] = w35 >>> 10 & 0x3FFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 46] = (w35 >>> 60 | w36 << 4) & 0x3FFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 47] = (w36 >>> 46 | w37 << 18) & 0x3FFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 48] = (w37 >>> 32 | w38 << 32) & 0x3FFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 49] = (w38 >>> 18 | w39 << 46) & 0x3FFFFFFFFFFFFL;
+			dest[off + 50] = w39 >>> 4 & 0x3FFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 51] = (w39 >>> 54 | w40 << 10) & 0x3FFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 52] = (w40 >>> 40 | w41 << 24) & 0x3FFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 53] = (w41 >>> 26 | w42 << 38) & 0x3FFFFFFFFFFFFL;
+			dest[off + 54] = w42 >>> 12 & 0x3FFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 55] = (w42 >>> 62 | w43 << 2) & 0x3FFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 56] = (w43 >>> 48 | w44 << 16) & 0x3FFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 57] = (w44 >>> 34 | w45 << 30) & 0x3FFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 58] = (w45 >>> 20 | w46 << 44) & 0x3FFFFFFFFFFFFL;
+			dest[off + 59] = w46 >>> 6 & 0x3FFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 60] = (w46 >>> 56 | w47 << 8) & 0x3FFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 61] = (w47 >>> 42 | w48 << 22) & 0x3FFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 62] = (w48 >>> 28 | w49 << 36) & 0x3FFFFFFFFFFFFL;
+			dest[off + 63] = w49 >>> 14;
+		}
+	}
+
+	private static void encode50(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 50) {
+			final long v0 = src[off] & 0x3FFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 50;
+			data[j + 1] = v1 >>> 14 | v2 << 36;
+			data[j + 2] = v2 >>> 28 | v3 << 22;
+			data[j + 3] = v3 >>> 42 | v4 << 8 | v5 << 58;
+			data[j + 4] = v5 >>> 6 | v6 << 44;
+			data[j + 5] = v6 >>> 20 | v7 << 30;
+			data[j + 6] = v7 >>> 34 | v8 << 16;
+			data[j + 7] = v8 >>> 48 | v9 << 2 | v10 << 52;
+			data[j + 8] = v10 >>> 12 | v11 << 38;
+			data[j + 9] = v11 >>> 26 | v12 << 24;
+			data[j + 10] = v12 >>> 40 | v13 << 10 | v14 << 60;
+			data[j + 11] = v14 >>> 4 | v15 << 46;
+			data[j + 12] = v15 >>> 18 | v16 << 32;
+			data[j + 13] = v16 >>> 32 | v17 << 18;
+			data[j + 14] = v17 >>> 46 | v18 << 4 | v19 << 54;
+			data[j + 15] = v19 >>> 10 | v20 << 40;
+			data[j + 16] = v20 >>> 24 | v21 << 26;
+			data[j + 17] = v21 >>> 38 | v22 << 12 | v23 << 62;
+			data[j + 18] = v23 >>> 2 | v24 << 48;
+			data[j + 19] = v24 >>> 16 | v25 << 34;
+			data[j + 20] = v25 >>> 30 | v26 << 20;
+			data[j + 21] = v26 >>> 44 | v27 << 6 | v28 << 56;
+			data[j + 22] = v28 >>> 8 | v29 << 42;
+			data[j + 23] = v29 >>> 22 | v30 << 28;
+			data[j + 24] = v30 >>> 36 | v31 << 14;
+			data[j + 25] = v32 | v33 << 50;
+			data[j + 26] = v33 >>> 14 | v34 << 36;
+			data[j + 27] = v34 >>> 28 | v35 << 22;
+			data[j + 28] = v35 >>> 42 | v36 << 8 | v37 << 58;
+			data[j + 29] = v37 >>> 6 | v38 << 44;
+			data[j + 30] = v38 >>> 20 | v39 << 30;
+			data[j + 31] = v39 >>> 34 | v40 << 16;
+			data[j + 32] = v40 >>> 48 | v41 << 2 | v42 << 52;
+			data[j + 33] = v42 >>> 12 | v43 << 38;
+			data[j + 34] = v43 >>> 26 | v44 << 24;
+			data[j + 35] = v44 >>> 40 | v45 << 10 | v46 << 60;
+			data[j + 36] = v46 >>> 4 | v47 << 46;
+			data[j + 37] = v47 >>> 18 | v48 << 32;
+			data[j + 38] = v48 >>> 32 | v49 << 18;
+			data[j + 39] = v49 >>> 46 | v50 << 4 | v51 << 54;
+			data[j + 40] = v51 >>> 10 | v52 << 40;
+			data[j + 41] = v52 >>> 24 | v53 << 26;
+			data[j + 42] = v53 >>> 38 | v54 << 12 | v55 << 62;
+			data[j + 43] = v55 >>> 2 | v56 << 48;
+			data[j + 44] = v56 >>> 16 | v57 << 34;
+			data[j + 45] = v57 >>> 30 | v58 << 20;
+			data[j + 46] = v58 >>> 44 | v59 << 6 | v60 << 56;
+			data[j + 47] = v60 >>> 8 | v61 << 42;
+			data[j + 48] = v61 >>> 22 | v62 << 28;
+			data[j + 49] = v62 >>> 36 | v63 << 14;
+		}
+	}
+
+	private static void decode51(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 51, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 51 | w1 << 13) & 0x7FFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 38 | w2 << 26) & 0x7FFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 25 | w3 << 39) & 0x7FFFFFFFFFFFFL;
+			dest[off + 4] = w3 >>> 12 & 0x7FFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 5] = (w3 >>> 63 | w4 << 1) & 0x7FFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 6] = (w4 >>> 50 | w5 << 14) & 0x7FFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 7] = (w5 >>> 37 | w6 << 27) & 0x7FFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 8] = (w6 >>> 24 | w7 << 40) & 0x7FFFFFFFFFFFFL;
+			dest[off + 9] = w7 >>> 11 & 0x7FFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 10] = (w7 >>> 62 | w8 << 2) & 0x7FFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 11] = (w8 >>> 49 | w9 << 15) & 0x7FFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 12] = (w9 >>> 36 | w10 << 28) & 0x7FFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 13] = (w10 >>> 23 | w11 << 41) & 0x7FFFFFFFFFFFFL;
+			dest[off + 14] = w11 >>> 10 & 0x7FFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 15] = (w11 >>> 61 | w12 << 3) & 0x7FFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 16] = (w12 >>> 48 | w13 << 16) & 0x7FFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 17] = (w13 >>> 35 | w14 << 29) & 0x7FFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 18] = (w14 >>> 22 | w15 << 42) & 0x7FFFFFFFFFFFFL;
+			dest[off + 19] = w15 >>> 9 & 0x7FFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 20] = (w15 >>> 60 | w16 << 4) & 0x7FFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 21] = (w16 >>> 47 | w17 << 17) & 0x7FFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 22] = (w17 >>> 34 | w18 << 30) & 0x7FFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 23] = (w18 >>> 21 | w19 << 43) & 0x7FFFFFFFFFFFFL;
+			dest[off + 24] = w19 >>> 8 & 0x7FFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 25] = (w19 >>> 59 | w20 << 5) & 0x7FFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 26] = (w20 >>> 46 | w21 << 18) & 0x7FFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 27] = (w21 >>> 33 | w22 << 31) & 0x7FFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 28] = (w22 >>> 20 | w23 << 44) & 0x7FFFFFFFFFFFFL;
+			dest[off + 29] = w23 >>> 7 & 0x7FFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 30] = (w23 >>> 58 | w24 << 6) & 0x7FFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 31] = (w24 >>> 45 | w25 << 19) & 0x7FFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 32] = (w25 >>> 32 | w26 << 32) & 0x7FFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 33] = (w26 >>> 19 | w27 << 45) & 0x7FFFFFFFFFFFFL;
+			dest[off + 34] = w27 >>> 6 & 0x7FFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 35] = (w27 >>> 57 | w28 << 7) & 0x7FFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 36] = (w28 >>> 44 | w29 << 20) & 0x7FFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 37] = (w29 >>> 31 | w30 << 33) & 0x7FFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 38] = (w30 >>> 18 | w31 << 46) & 0x7FFFFFFFFFFFFL;
+			dest[off + 39] = w31 >>> 5 & 0x7FFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 40] = (w31 >>> 56 | w32 << 8) & 0x7FFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 41] = (w32 >>> 43 | w33 << 21) & 0x7FFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 42] = (w33 >>> 30 | w34 << 34) & 0x7FFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 43] = (w34 >>> 17 | w35 << 47) & 0x7FFFFFFFFFFFFL;
+			dest[off + 44] = w35 >>> 4 & 0x7FFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 45] = (w35 >>> 55 | w36 << 9) & 0x7FFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 46] = (w36 >>> 42 | w37 << 22) & 0x7FFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 47] = (w37 >>> 29 | w38 << 35) & 0x7FFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 48] = (w38 >>> 16 | w39 << 48) & 0x7FFFFFFFFFFFFL;
+			dest[off + 49] = w39 >>> 3 & 0x7FFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 50] = (w39 >>> 54 | w40 << 10) & 0x7FFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 51] = (w40 >>> 41 | w41 << 23) & 0x7FFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 52] = (w41 >>> 28 | w42 << 36) & 0x7FFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 53] = (w42 >>> 15 | w43 << 49) & 0x7FFFFFFFFFFFFL;
+			dest[off + 54] = w43 >>> 2 & 0x7FFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 55] = (w43 >>> 53 | w44 << 11) & 0x7FFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 56] = (w44 >>> 40 | w45 << 24) & 0x7FFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 57] = (w45 >>> 27 | w46 << 37) & 0x7FFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 58] = (w46 >>> 14 | w47 << 50) & 0x7FFFFFFFFFFFFL;
+			dest[off + 59] = w47 >>> 1 & 0x7FFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 60] = (w47 >>> 52 | w48 << 12) & 0x7FFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 61] = (w48 >>> 39 | w49 << 25) & 0x7FFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 62] = (w49 >>> 26 | w50 << 38) & 0x7FFFFFFFFFFFFL;
+			dest[off + 63] = w50 >>> 13;
+		}
+	}
+
+	private static void encode51(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 51) {
+			final long v0 = src[off] & 0x7FFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 51;
+			data[j + 1] = v1 >>> 13 | v2 << 38;
+			data[j + 2] = v2 >>> 26 | v3 << 25;
+			data[j + 3] = v3 >>> 39 | v4 << 12 | v5 << 63;
+			data[j + 4] = v5 >>> 1 | v6 << 50;
+			data[j + 5] = v6 >>> 14 | v7 << 37;
+			data[j + 6] = v7 >>> 27 | v8 << 24;
+			data[j + 7] = v8 >>> 40 | v9 << 11 | v10 << 62;
+			data[j + 8] = v10 >>> 2 | v11 << 49;
+			data[j + 9] = v11 >>> 15 | v12 << 36;
+			data[j + 10] = v12 >>> 28 | v13 << 23;
+			data[j + 11] = v13 >>> 41 | v14 << 10 | v15 << 61;
+			data[j + 12] = v15 >>> 3 | v16 << 48;
+			data[j + 13] = v16 >>> 16 | v17 << 35;
+			data[j + 14] = v17 >>> 29 | v18 << 22;
+			data[j + 15] = v18 >>> 42 | v19 << 9 | v20 << 60;
+			data[j + 16] = v20 >>> 4 | v21 << 47;
+			data[j + 17] = v21 >>> 17 | v22 << 34;
+			data[j + 18] = v22 >>> 30 | v23 << 21;
+			data[j + 19] = v23 >>> 43 | v24 << 8 | v25 << 59;
+			data[j + 20] = v25 >>> 5 | v26 << 46;
+			data[j + 21] = v26 >>> 18 | v27 << 33;
+			data[j + 22] = v27 >>> 31 | v28 << 20;
+			data[j + 23] = v28 >>> 44 | v29 << 7 | v30 << 58;
+			data[j + 24] = v30 >>> 6 | v31 << 45;
+			data[j + 25] = v31 >>> 19 | v32 << 32;
+			data[j + 26] = v32 >>> 32 | v33 << 19;
+			data[j + 27] = v33 >>> 45 | v34 << 6 | v35 << 57;
+			data[j + 28] = v35 >>> 7 | v36 << 44;
+			data[j + 29] = v36 >>> 20 | v37 << 31;
+			data[j + 30] = v37 >>> 33 | v38 << 18;
+			data[j + 31] = v38 >>> 46 | v39 << 5 | v40 << 56;
+			data[j + 32] = v40 >>> 8 | v41 << 43;
+			data[j + 33] = v41 >>> 21 | v42 << 30;
+			data[j + 34] = v42 >>> 34 | v43 << 17;
+			data[j + 35] = v43 >>> 47 | v44 << 4 | v45 << 55;
+			data[j + 36] = v45 >>> 9 | v46 << 42;
+			data[j + 37] = v46 >>> 22 | v47 << 29;
+			data[j + 38] = v47 >>> 35 | v48 << 16;
+			data[j + 39] = v48 >>> 48 | v49 << 3 | v50 << 54;
+			data[j + 40] = v50 >>> 10 | v51 << 41;
+			data[j + 41] = v51 >>> 23 | v52 << 28;
+			data[j + 42] = v52 >>> 36 | v53 << 15;
+			data[j + 43] = v53 >>> 49 | v54 << 2 | v55 << 53;
+			data[j + 44] = v55 >>> 11 | v56 << 40;
+			data[j + 45] = v56 >>> 24 | v57 << 27;
+			data[j + 46] = v57 >>> 37 | v58 << 14;
+			data[j + 47] = v58 >>> 50 | v59 << 1 | v60 << 52;
+			data[j + 48] = v60 >>> 12 | v61 << 39;
+			data[j + 49] = v61 >>> 25 | v62 << 26;
+			data[j + 50] = v62 >>> 38 | v63 << 13;
+		}
+	}
+
+	private static void decode52(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 52, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 52 | w1 << 12) & 0xFFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 40 | w2 << 24) & 0xFFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 28 | w3 << 36) & 0xFFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 16 | w4 << 48) & 0xFFFFFFFFFFFFFL;
+			dest[off + 5] = w4 >>> 4 & 0xFFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 6] = (w4 >>> 56 | w5 << 8) & 0xFFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 7] = (w5 >>> 44 | w6 << 20) & 0xFFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 8] = (w6 >>> 32 | w7 << 32) & 0xFFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 9] = (w7 >>> 20 | w8 << 44) & 0xFFFFFFFFFFFFFL;
+			dest[off + 10] = w8 >>> 8 & 0xFFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 11] = (w8 >>> 60 | w9 << 4) & 0xFFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 12] = (w9 >>> 48 | w10 << 16) & 0xFFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 13] = (w10 >>> 36 | w11 << 28) & 0xFFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 14] = (w11 >>> 24 | w12 << 40) & 0xFFFFFFFFFFFFFL;
+			dest[off + 15] = w12 >>> 12;
+			final long w13 = data[j + 13];
+			dest[off + 16] = w13 & 0xFFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 17] = (w13 >>> 52 | w14 << 12) & 0xFFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 18] = (w14 >>> 40 | w15 << 24) & 0xFFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 19] = (w15 >>> 28 | w16 << 36) & 0xFFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 20] = (w16 >>> 16 | w17 << 48) & 0xFFFFFFFFFFFFFL;
+			dest[off + 21] = w17 >>> 4 & 0xFFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 22] = (w17 >>> 56 | w18 << 8) & 0xFFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 23] = (w18 >>> 44 | w19 << 20) & 0xFFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 24] = (w19 >>> 32 | w20 << 32) & 0xFFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 25] = (w20 >>> 20 | w21 << 44) & 0xFFFFFFFFFFFFFL;
+			dest[off + 26] = w21 >>> 8 & 0xFFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 27] = (w21 >>> 60 | w22 << 4) & 0xFFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 28] = (w22 >>> 48 | w23 << 16) & 0xFFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 29] = (w23 >>> 36 | w24 << 28) & 0xFFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 30] = (w24 >>> 24 | w25 << 40) & 0xFFFFFFFFFFFFFL;
+			dest[off + 31] = w25 >>> 12;
+			final long w26 = data[j + 26];
+			dest[off + 32] = w26 & 0xFFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 33] = (w26 >>> 52 | w27 << 12) & 0xFFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 34] = (w27 >>> 40 | w28 << 24) & 0xFFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 35] = (w28 >>> 28 | w29 << 36) & 0xFFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 36] = (w29 >>> 16 | w30 << 48) & 0xFFFFFFFFFFFFFL;
+			dest[off + 37] = w30 >>> 4 & 0xFFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 38] = (w30 >>> 56 | w31 << 8) & 0xFFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 39] = (w31 >>> 44 | w32 << 20) & 0xFFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 40] = (w32 >>> 32 | w33 << 32) & 0xFFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 41] = (w33 >>> 20 | w34 << 44) & 0xFFFFFFFFFFFFFL;
+			dest[off + 42] = w34 >>> 8 & 0xFFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 43] = (w34 >>> 60 | w35 << 4) & 0xFFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 44] = (w35 >>> 48 | w36 << 16) & 0xFFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 45] = (w36 >>> 36 | w37 << 28) & 0xFFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 46] = (w37 >>> 24 | w38 << 40) & 0xFFFFFFFFFFFFFL;
+			dest[off + 47] = w38 >>> 12;
+			final long w39 = data[j + 39];
+			dest[off + 48] = w39 & 0xFFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 49] = (w39 >>> 52 | w40 << 12) & 0xFFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 50] = (w40 >>> 40 | w41 << 24) & 0xFFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 51] = (w41 >>> 28 | w42 << 36) & 0xFFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 52] = (w42 >>> 16 | w43 << 48) & 0xFFFFFFFFFFFFFL;
+			dest[off + 53] = w43 >>> 4 & 0xFFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 54] = (w43 >>> 56 | w44 << 8) & 0xFFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 55] = (w44 >>> 44 | w45 << 20) & 0xFFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 56] = (w45 >>> 32 | w46 << 32) & 0xFFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 57] = (w46 >>> 20 | w47 << 44) & 0xFFFFFFFFFFFFFL;
+			dest[off + 58] = w47 >>> 8 & 0xFFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 59] = (w47 >>> 60 | w48 << 4) & 0xFFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 60] = (w48 >>> 48 | w49 << 16) & 0xFFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 61] = (w49 >>> 36 | w50 << 28) & 0xFFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 62] = (w50 >>> 24 | w51 << 40) & 0xFFFFFFFFFFFFFL;
+			dest[off + 63] = w51 >>> 12;
+		}
+	}
+
+	private static void encode52(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 52) {
+			final long v0 = src[off] & 0xFFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 52;
+			data[j + 1] = v1 >>> 12 | v2 << 40;
+			data[j + 2] = v2 >>> 24 | v3 << 28;
+			data[j + 3] = v3 >>> 36 | v4 << 16;
+			data[j + 4] = v4 >>> 48 | v5 << 4 | v6 << 56;
+			data[j + 5] = v6 >>> 8 | v7 << 44;
+			data[j + 6] = v7 >>> 20 | v8 << 32;
+			data[j + 7] = v8 >>> 32 | v9 << 20;
+			data[j + 8] = v9 >>> 44 | v10 << 8 | v11 << 60;
+			data[j + 9] = v11 >>> 4 | v12 << 48;
+			data[j + 10] = v12 >>> 16 | v13 << 36;
+			data[j + 11] = v13 >>> 28 | v14 << 24;
+			data[j + 12] = v14 >>> 40 | v15 << 12;
+			data[j + 13] = v16 | v17 << 52;
+			data[j + 14] = v17 >>> 12 | v18 << 40;
+			data[j + 15] = v18 >>> 24 | v19 << 28;
+			data[j + 16] = v19 >>> 36 | v20 << 16;
+			data[j + 17] = v20 >>> 48 | v21 << 4 | v22 << 56;
+			data[j + 18] = v22 >>> 8 | v23 << 44;
+			data[j + 19] = v23 >>> 20 | v24 << 32;
+			data[j + 20] = v24 >>> 32 | v25 << 20;
+			data[j + 21] = v25 >>> 44 | v26 << 8 | v27 << 60;
+			data[j + 22] = v27 >>> 4 | v28 << 48;
+			data[j + 23] = v28 >>> 16 | v29 << 36;
+			data[j + 24] = v29 >>> 28 | v30 << 24;
+			data[j + 25] = v30 >>> 40 | v31 << 12;
+			data[j + 26] = v32 | v33 << 52;
+			data[j + 27] = v33 >>> 12 | v34 << 40;
+			data[j + 28] = v34 >>> 24 | v35 << 28;
+			data[j + 29] = v35 >>> 36 | v36 << 16;
+			data[j + 30] = v36 >>> 48 | v37 << 4 | v38 << 56;
+			data[j + 31] = v38 >>> 8 | v39 << 44;
+			data[j + 32] = v39 >>> 20 | v40 << 32;
+			data[j + 33] = v40 >>> 32 | v41 << 20;
+			data[j + 34] = v41 >>> 44 | v42 << 8 | v43 << 60;
+			data[j + 35] = v43 >>> 4 | v44 << 48;
+			data[j + 36] = v44 >>> 16 | v45 << 36;
+			data[j + 37] = v45 >>> 28 | v46 << 24;
+			data[j + 38] = v46 >>> 40 | v47 << 12;
+			data[j + 39] = v48 | v49 << 52;
+			data[j + 40] = v49 >>> 12 | v50 << 40;
+			data[j + 41] = v50 >>> 24 | v51 << 28;
+			data[j + 42] = v51 >>> 36 | v52 << 16;
+			data[j + 43] = v52 >>> 48 | v53 << 4 | v54 << 56;
+			data[j + 44] = v54 >>> 8 | v55 << 44;
+			data[j + 45] = v55 >>> 20 | v56 << 32;
+			data[j + 46] = v56 >>> 32 | v57 << 20;
+			data[j + 47] = v57 >>> 44 | v58 << 8 | v59 << 60;
+			data[j + 48] = v59 >>> 4 | v60 << 48;
+			data[j + 49] = v60 >>> 16 | v61 << 36;
+			data[j + 50] = v61 >>> 28 | v62 << 24;
+			data[j + 51] = v62 >>> 40 | v63 << 12;
+		}
+	}
+
+	private static void decode53(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 53, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 53 | w1 << 11) & 0x1FFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 42 | w2 << 22) & 0x1FFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 31 | w3 << 33) & 0x1FFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 20 | w4 << 44) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 5] = w4 >>> 9 & 0x1FFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 6] = (w4 >>> 62 | w5 << 2) & 0x1FFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 7] = (w5 >>> 51 | w6 << 13) & 0x1FFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 8] = (w6 >>> 40 | w7 << 24) & 0x1FFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 9] = (w7 >>> 29 | w8 << 35) & 0x1FFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 10] = (w8 >>> 18 | w9 << 46) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 11] = w9 >>> 7 & 0x1FFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 12] = (w9 >>> 60 | w10 << 4) & 0x1FFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 13] = (w10 >>> 49 | w11 << 15) & 0x1FFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 14] = (w11 >>> 38 | w12 << 26) & 0x1FFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 15] = (w12 >>> 27 | w13 << 37) & 0x1FFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 16] = (w13 >>> 16 | w14 << 48) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 17] = w14 >>> 5 & 0x1FFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 18] = (w14 >>> 58 | w15 << 6) & 0x1FFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 19] = (w15 >>> 47 | w16 << 17) & 0x1FFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 20] = (w16 >>> 36 | w17 << 28) & 0x1FFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 21] = (w17 >>> 25 | w18 << 39) & 0x1FFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 22] = (w18 >>> 14 | w19 << 50) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 23] = w19 >>> 3 & 0x1FFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 24] = (w19 >>> 56 | w20 << 8) & 0x1FFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 25] = (w20 >>> 45 | w21 << 19) & 0x1FFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 26] = (w21 >>> 34 | w22 << 30) & 0x1FFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 27] = (w22 >>> 23 | w23 << 41) & 0x1FFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 28] = (w23 >>> 12 | w24 << 52) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 29] = w24 >>> 1 & 0x1FFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 30] = (w24 >>> 54 | w25 << 10) & 0x1FFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 31] = (w25 >>> 43 | w26 << 21) & 0x1FFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 32] = (w26 >>> 32 | w27 << 32) & 0x1FFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 33] = (w27 >>> 21 | w28 << 43) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 34] = w28 >>> 10 & 0x1FFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 35] = (w28 >>> 63 | w29 << 1) & 0x1FFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 36] = (w29 >>> 52 | w30 << 12) & 0x1FFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 37] = (w30 >>> 41 | w31 << 23) & 0x1FFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 38] = (w31 >>> 30 | w32 << 34) & 0x1FFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 39] = (w32 >>> 19 | w33 << 45) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 40] = w33 >>> 8 & 0x1FFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 41] = (w33 >>> 61 | w34 << 3) & 0x1FFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 42] = (w34 >>> 50 | w35 << 14) & 0x1FFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 43] = (w35 >>> 39 | w36 << 25) & 0x1FFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 44] = (w36 >>> 28 | w37 << 36) & 0x1FFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 45] = (w37 >>> 17 | w38 << 47) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 46] = w38 >>> 6 & 0x1FFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 47] = (w38 >>> 59 | w39 << 5) & 0x1FFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 48] = (w39 >>> 48 | w40 << 16) & 0x1FFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 49] = (w40 >>> 37 | w41 << 27) & 0x1FFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 50] = (w41 >>> 26 | w42 << 38) & 0x1FFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 51] = (w42 >>> 15 | w43 << 49) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 52] = w43 >>> 4 & 0x1FFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 53] = (w43 >>> 57 | w44 << 7) & 0x1FFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 54] = (w44 >>> 46 | w45 << 18) & 0x1FFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 55] = (w45 >>> 35 | w46 << 29) & 0x1FFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 56] = (w46 >>> 24 | w47 << 40) & 0x1FFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 57] = (w47 >>> 13 | w48 << 51) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 58] = w48 >>> 2 & 0x1FFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 59] = (w48 >>> 55 | w49 << 9) & 0x1FFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 60] = (w49 >>> 44 | w50 << 20) & 0x1FFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 61] = (w50 >>> 33 | w51 << 31) & 0x1FFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 62] = (w51 >>> 22 | w52 << 42) & 0x1FFFFFFFFFFFFFL;
+			dest[off + 63] = w52 >>> 11;
+		}
+	}
+
+	private static void encode53(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 53) {
+			final long v0 = src[off] & 0x1FFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 53;
+			data[j + 1] = v1 >>> 11 | v2 << 42;
+			data[j + 2] = v2 >>> 22 | v3 << 31;
+			data[j + 3] = v3 >>> 33 | v4 << 20;
+			data[j + 4] = v4 >>> 44 | v5 << 9 | v6 << 62;
+			data[j + 5] = v6 >>> 2 | v7 << 51;
+			data[j + 6] = v7 >>> 13 | v8 << 40;
+			data[j + 7] = v8 >>> 24 | v9 << 29;
+			data[j + 8] = v9 >>> 35 | v10 << 18;
+			data[j + 9] = v10 >>> 46 | v11 << 7 | v12 << 60;
+			data[j + 10] = v12 >>> 4 | v13 << 49;
+			data[j + 11] = v13 >>> 15 | v14 << 38;
+			data[j + 12] = v14 >>> 26 | v15 << 27;
+			data[j + 13] = v15 >>> 37 | v16 << 16;
+			data[j + 14] = v16 >>> 48 | v17 << 5 | v18 << 58;
+			data[j + 15] = v18 >>> 6 | v19 << 47;
+			data[j + 16] = v19 >>> 17 | v20 << 36;
+			data[j + 17] = v20 >>> 28 | v21 << 25;
+			data[j + 18] = v21 >>> 39 | v22 << 14;
+			data[j + 19] = v22 >>> 50 | v23 << 3 | v24 << 56;
+			data[j + 20] = v24 >>> 8 | v25 << 45;
+			data[j + 21] = v25 >>> 19 | v26 << 34;
+			data[j + 22] = v26 >>> 30 | v27 << 23;
+			data[j + 23] = v27 >>> 41 | v28 << 12;
+			data[j + 24] = v28 >>> 52 | v29 << 1 | v30 << 54;
+			data[j + 25] = v30 >>> 10 | v31 << 43;
+			data[j + 26] = v31 >>> 21 | v32 << 32;
+			data[j + 27] = v32 >>> 32 | v33 << 21;
+			data[j + 28] = v33 >>> 43 | v34 << 10 | v35 << 63;
+			data[j + 29] = v35 >>> 1 | v36 << 52;
+			data[j + 30] = v36 >>> 12 | v37 << 41;
+			data[j + 31] = v37 >>> 23 | v38 << 30;
+			data[j + 32] = v38 >>> 34 | v39 << 19;
+			data[j + 33] = v39 >>> 45 | v40 << 8 | v41 << 61;
+			data[j + 34] = v41 >>> 3 | v42 << 50;
+			data[j + 35] = v42 >>> 14 | v43 << 39;
+			data[j + 36] = v43 >>> 25 | v44 << 28;
+			data[j + 37] = v44 >>> 36 | v45 << 17;
+			data[j + 38] = v45 >>> 47 | v46 << 6 | v47 << 59;
+			data[j + 39] = v47 >>> 5 | v48 << 48;
+			data[j + 40] = v48 >>> 16 | v49 << 37;
+			data[j + 41] = v49 >>> 27 | v50 << 26;
+			data[j + 42] = v50 >>> 38 | v51 << 15;
+			data[j + 43] = v51 >>> 49 | v52 << 4 | v53 << 57;
+			data[j + 44] = v53 >>> 7 | v54 << 46;
+			data[j + 45] = v54 >>> 18 | v55 << 35;
+			data[j + 46] = v55 >>> 29 | v56 << 24;
+			data[j + 47] = v56 >>> 40 | v57 << 13;
+			data[j + 48] = v57 >>> 51 | v58 << 2 | v59 << 55;
+			data[j + 49] = v59 >>> 9 | v60 << 44;
+			data[j + 50] = v60 >>> 20 | v61 << 33;
+			data[j + 51] = v61 >>> 31 | v62 << 22;
+			data[j + 52] = v62 >>> 42 | v63 << 11;
+		}
+	}
+
+	private static void decode54(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 54, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 54 | w1 << 10) & 0x3FFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 44 | w2 << 20) & 0x3FFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 34 | w3 << 30) & 0x3FFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 24 | w4 << 40) & 0x3FFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 5] = (w4 >>> 14 | w5 << 50) & 0x3FFFFFFFFFFFFFL;
+			dest[off + 6] = w5 >>> 4 & 0x3FFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 7] = (w5 >>> 58 | w6 << 6) & 0x3FFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 8] = (w6 >>> 48 | w7 << 16) & 0x3FFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 9] = (w7 >>> 38 | w8 << 26) & 0x3FFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 10] = (w8 >>> 28 | w9 << 36) & 0x3FFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 11] = (w9 >>> 18 | w10 << 46) & 0x3FFFFFFFFFFFFFL;
+			dest[off + 12] = w10 >>> 8 & 0x3FFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 13] = (w10 >>> 62 | w11 << 2) & 0x3FFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 14] = (w11 >>> 52 | w12 << 12) & 0x3FFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 15] = (w12 >>> 42 | w13 << 22) & 0x3FFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 16] = (w13 >>> 32 | w14 << 32) & 0x3FFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 17] = (w14 >>> 22 | w15 << 42) & 0x3FFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 18] = (w15 >>> 12 | w16 << 52) & 0x3FFFFFFFFFFFFFL;
+			dest[off + 19] = w16 >>> 2 & 0x3FFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 20] = (w16 >>> 56 | w17 << 8) & 0x3FFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 21] = (w17 >>> 46 | w18 << 18) & 0x3FFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 22] = (w18 >>> 36 | w19 << 28) & 0x3FFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 23] = (w19 >>> 26 | w20 << 38) & 0x3FFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 24] = (w20 >>> 16 | w21 << 48) & 0x3FFFFFFFFFFFFFL;
+			dest[off + 25] = w21 >>> 6 & 0x3FFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 26] = (w21 >>> 60 | w22 << 4) & 0x3FFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 27] = (w22 >>> 50 | w23 << 14) & 0x3FFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 28] = (w23 >>> 40 | w24 << 24) & 0x3FFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 29] = (w24 >>> 30 | w25 << 34) & 0x3FFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 30] = (w25 >>> 20 | w26 << 44) & 0x3FFFFFFFFFFFFFL;
+			dest[off + 31] = w26 >>> 10;
+			final long w27 = data[j + 27];
+			dest[off + 32] = w27 & 0x3FFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 33] = (w27 >>> 54 | w28 << 10) & 0x3FFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 34] = (w28 >>> 44 | w29 << 20) & 0x3FFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 35] = (w29 >>> 34 | w30 << 30) & 0x3FFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 36] = (w30 >>> 24 | w31 << 40) & 0x3FFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 37] = (w31 >>> 14 | w32 << 50) & 0x3FFFFFFFFFFFFFL;
+			dest[off + 38] = w32 >>> 4 & 0x3FFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 39] = (w32 >>> 58 | w33 << 6) & 0x3FFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 40] = (w33 >>> 48 | w34 << 16) & 0x3FFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 41] = (w34 >>> 38 | w35 << 26) & 0x3FFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 42] = (w35 >>> 28 | w36 << 36) & 0x3FFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 43] = (w36 >>> 18 | w37 << 46) & 0x3FFFFFFFFFFFFFL;
+			dest[off + 44] = w37 >>> 8 & 0x3FFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 45] = (w37 >>> 62 | w38 << 2) & 0x3FFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 46] = (w38 >>> 52 | w39 << 12) & 0x3FFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 47] = (w39 >>> 42 | w40 << 22) & 0x3FFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 48] = (w40 >>> 32 | w41 << 32) & 0x3FFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 49] = (w41 >>> 22 | w42 << 42) & 0x3FFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 50] = (w42 >>> 12 | w43 << 52) & 0x3FFFFFFFFFFFFFL;
+			dest[off + 51] = w43 >>> 2 & 0x3FFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 52] = (w43 >>> 56 | w44 << 8) & 0x3FFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 53] = (w44 >>> 46 | w45 << 18) & 0x3FFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 54] = (w45 >>> 36 | w46 << 28) & 0x3FFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 55] = (w46 >>> 26 | w47 << 38) & 0x3FFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 56] = (w47 >>> 16 | w48 << 48) & 0x3FFFFFFFFFFFFFL;
+			dest[off + 57] = w48 >>> 6 & 0x3FFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 58] = (w48 >>> 60 | w49 << 4) & 0x3FFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 59] = (w49 >>> 50 | w50 << 14) & 0x3FFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 60] = (w50 >>> 40 | w51 << 24) & 0x3FFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 61] = (w51 >>> 30 | w52 << 34) & 0x3FFFFFFFFFFFFFL;
+			final long w53 = data[j + 53];
+			dest[off + 62] = (w52 >>> 20 | w53 << 44) & 0x3FFFFFFFFFFFFFL;
+			dest[off + 63] = w53 >>> 10;
+		}
+	}
+
+	private static void encode54(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 54) {
+			final long v0 = src[off] & 0x3FFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 54;
+			data[j + 1] = v1 >>> 10 | v2 << 44;
+			data[j + 2] = v2 >>> 20 | v3 << 34;
+			data[j + 3] = v3 >>> 30 | v4 << 24;
+			data[j + 4] = v4 >>> 40 | v5 << 14;
+			data[j + 5] = v5 >>> 50 | v6 << 4 | v7 << 58;
+			data[j + 6] = v7 >>> 6 | v8 << 48;
+			data[j + 7] = v8 >>> 16 | v9 << 38;
+			data[j + 8] = v9 >>> 26 | v10 << 28;
+			data[j + 9] = v10 >>> 36 | v11 << 18;
+			data[j + 10] = v11 >>> 46 | v12 << 8 | v13 << 62;
+			data[j + 11] = v13 >>> 2 | v14 << 52;
+			data[j + 12] = v14 >>> 12 | v15 << 42;
+			data[j + 13] = v15 >>> 22 | v16 << 32;
+			data[j + 14] = v16 >>> 32 | v17 << 22;
+			data[j + 15] = v17 >>> 42 | v18 << 12;
+			data[j + 16] = v18 >>> 52 | v19 << 2 | v20 << 56;
+			data[j + 17] = v20 >>> 8 | v21 << 46;
+			data[j + 18] = v21 >>> 18 | v22 << 36;
+			data[j + 19] = v22 >>> 28 | v23 << 26;
+			data[j + 20] = v23 >>> 38 | v24 << 16;
+			data[j + 21] = v24 >>> 48 | v25 << 6 | v26 << 60;
+			data[j + 22] = v26 >>> 4 | v27 << 50;
+			data[j + 23] = v27 >>> 14 | v28 << 40;
+			data[j + 24] = v28 >>> 24 | v29 << 30;
+			data[j + 25] = v29 >>> 34 | v30 << 20;
+			data[j + 26] = v30 >>> 44 | v31 << 10;
+			data[j + 27] = v32 | v33 << 54;
+			data[j + 28] = v33 >>> 10 | v34 << 44;
+			data[j + 29] = v34 >>> 20 | v35 << 34;
+			data[j + 30] = v35 >>> 30 | v36 << 24;
+			data[j + 31] = v36 >>> 40 | v37 << 14;
+			data[j + 32] = v37 >>> 50 | v38 << 4 | v39 << 58;
+			data[j + 33] = v39 >>> 6 | v40 << 48;
+			data[j + 34] = v40 >>> 16 | v41 << 38;
+			data[j + 35] = v41 >>> 26 | v42 << 28;
+			data[j + 36] = v42 >>> 36 | v43 << 18;
+			data[j + 37] = v43 >>> 46 | v44 << 8 | v45 << 62;
+			data[j + 38] = v45 >>> 2 | v46 << 52;
+			data[j + 39] = v46 >>> 12 | v47 << 42;
+			data[j + 40] = v47 >>> 22 | v48 << 32;
+			data[j + 41] = v48 >>> 32 | v49 << 22;
+			data[j + 42] = v49 >>> 42 | v50 << 12;
+			data[j + 43] = v50 >>> 52 | v51 << 2 | v52 << 56;
+			data[j + 44] = v52 >>> 8 | v53 << 46;
+			data[j + 45] = v53 >>> 18 | v54 << 36;
+			data[j + 46] = v54 >>> 28 | v55 << 26;
+			data[j + 47] = v55 >>> 38 | v56 << 16;
+			data[j + 48] = v56 >>> 48 | v57 << 6 | v58 << 60;
+			data[j + 49] = v58 >>> 4 | v59 << 50;
+			data[j + 50] = v59 >>> 14 | v60 << 40;
+			data[j + 51] = v60 >>> 24 | v61 << 30;
+			data[j + 52] = v61 >>> 34 | v62 << 20;
+			data[j + 53] = v62 >>> 44 | v63 << 10;
+		}
+	}
+
+	private static void decode55(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 55, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 55 | w1 << 9) & 0x7FFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 46 | w2 << 18) & 0x7FFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 37 | w3 << 27) & 0x7FFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 28 | w4 << 36) & 0x7FFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 5] = (w4 >>> 19 | w5 << 45) & 0x7FFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 6] = (w5 >>> 10 | w6 << 54) & 0x7FFFFFFFFFFFFFL;
+			dest[off + 7] = w6 >>> 1 & 0x7FFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 8] = (w6 >>> 56 | w7 << 8) & 0x7FFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 9] = (w7 >>> 47 | w8 << 17) & 0x7FFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 10] = (w8 >>> 38 | w9 << 26) & 0x7FFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 11] = (w9 >>> 29 | w10 << 35) & 0x7FFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 12] = (w10 >>> 20 | w11 << 44) & 0x7FFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 13] = (w11 >>> 11 | w12 << 53) & 0x7FFFFFFFFFFFFFL;
+			dest[off + 14] = w12 >>> 2 & 0x7FFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 15] = (w12 >>> 57 | w13 << 7) & 0x7FFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 16] = (w13 >>> 48 | w14 << 16) & 0x7FFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 17] = (w14 >>> 39 | w15 << 25) & 0x7FFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 18] = (w15 >>> 30 | w16 << 34) & 0x7FFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 19] = (w16 >>> 21 | w17 << 43) & 0x7FFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 20] = (w17 >>> 12 | w18 << 52) & 0x7FFFFFFFFFFFFFL;
+			dest[off + 21] = w18 >>> 3 & 0x7FFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 22] = (w18 >>> 58 | w19 << 6) & 0x7FFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 23] = (w19 >>> 49 | w20 << 15) & 0x7FFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 24] = (w20 >>> 40 | w21 << 24) & 0x7FFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 25] = (w21 >>> 31 | w22 << 33) & 0x7FFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 26] = (w22 >>> 22 | w23 << 42) & 0x7FFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 27] = (w23 >>> 13 | w24 << 51) & 0x7FFFFFFFFFFFFFL;
+			dest[off + 28] = w24 >>> 4 & 0x7FFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 29] = (w24 >>> 59 | w25 << 5) & 0x7FFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 30] = (w25 >>> 50 | w26 << 14) & 0x7FFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 31] = (w26 >>> 41 | w27 << 23) & 0x7FFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 32] = (w27 >>> 32 | w28 << 32) & 0x7FFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 33] = (w28 >>> 23 | w29 << 41) & 0x7FFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 34] = (w29 >>> 14 | w30 << 50) & 0x7FFFFFFFFFFFFFL;
+			dest[off + 35] = w30 >>> 5 & 0x7FFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 36] = (w30 >>> 60 | w31 << 4) & 0x7FFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 37] = (w31 >>> 51 | w32 << 13) & 0x7FFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 38] = (w32 >>> 42 | w33 << 22) & 0x7FFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 39] = (w33 >>> 33 | w34 << 31) & 0x7FFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 40] = (w34 >>> 24 | w35 << 40) & 0x7FFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 41] = (w35 >>> 15 | w36 << 49) & 0x7FFFFFFFFFFFFFL;
+			dest[off + 42] = w36 >>> 6 & 0x7FFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 43] = (w36 >>> 61 | w37 << 3) & 0x7FFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 44] = (w37 >>> 52 | w38 << 12) & 0x7FFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 45] = (w38 >>> 43 | w39 << 21) & 0x7FFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 46] = (w39 >>> 34 | w40 << 30) & 0x7FFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 47] = (w40 >>> 25 | w41 << 39) & 0x7FFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 48] = (w41 >>> 16 | w42 << 48) & 0x7FFFFFFFFFFFFFL;
+			dest[off + 49] = w42 >>> 7 & 0x7FFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 50] = (w42 >>> 62 | w43 << 2) & 0x7FFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 51] = (w43 >>> 53 | w44 << 11) & 0x7FFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 52] = (w44 >>> 44 | w45 << 20) & 0x7FFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 53] = (w45 >>> 35 | w46 << 29) & 0x7FFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 54] = (w46 >>> 26 | w47 << 38) & 0x7FFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 55] = (w47 >>> 17 | w48 << 47) & 0x7FFFFFFFFFFFFFL;
+			dest[off + 56] = w48 >>> 8 & 0x7FFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 57] = (w48 >>> 63 | w49 << 1) & 0x7FFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 58] = (w49 >>> 54 | w50 << 10) & 0x7FFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 59] = (w50 >>> 45 | w51 << 19) & 0x7FFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 60] = (w51 >>> 36 | w52 << 28) & 0x7FFFFFFFFFFFFFL;
+			final long w53 = data[j + 53];
+			dest[off + 61] = (w52 >>> 27 | w53 << 37) & 0x7FFFFFFFFFFFFFL;
+			final long w54 = data[j + 54];
+			dest[off + 62] = (w53 >>> 18 | w54 << 46) & 0x7FFFFFFFFFFFFFL;
+			dest[off + 63] = w54 >>> 9;
+		}
+	}
+
+	private static void encode55(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 55) {
+			final long v0 = src[off] & 0x7FFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 55;
+			data[j + 1] = v1 >>> 9 | v2 << 46;
+			data[j + 2] = v2 >>> 18 | v3 << 37;
+			data[j + 3] = v3 >>> 27 | v4 << 28;
+			data[j + 4] = v4 >>> 36 | v5 << 19;
+			data[j + 5] = v5 >>> 45 | v6 << 10;
+			data[j + 6] = v6 >>> 54 | v7 << 1 | v8 << 56;
+			data[j + 7] = v8 >>> 8 | v9 << 47;
+			data[j + 8] = v9 >>> 17 | v10 << 38;
+			data[j + 9] = v10 >>> 26 | v11 << 29;
+			data[j + 10] = v11 >>> 35 | v12 << 20;
+			data[j + 11] = v12 >>> 44 | v13 << 11;
+			data[j + 12] = v13 >>> 53 | v14 << 2 | v15 << 57;
+			data[j + 13] = v15 >>> 7 | v16 << 48;
+			data[j + 14] = v16 >>> 16 | v17 << 39;
+			data[j + 15] = v17 >>> 25 | v18 << 30;
+			data[j + 16] = v18 >>> 34 | v19 << 21;
+			data[j + 17] = v19 >>> 43 | v20 << 12;
+			data[j + 18] = v20 >>> 52 | v21 << 3 | v22 << 58;
+			data[j + 19] = v22 >>> 6 | v23 << 49;
+			data[j + 20] = v23 >>> 15 | v24 << 40;
+			data[j + 21] = v24 >>> 24 | v25 << 31;
+			data[j + 22] = v25 >>> 33 | v26 << 22;
+			data[j + 23] = v26 >>> 42 | v27 << 13;
+			data[j + 24] = v27 >>> 51 | v28 << 4 | v29 << 59;
+			data[j + 25] = v29 >>> 5 | v30 << 50;
+			data[j + 26] = v30 >>> 14 | v31 << 41;
+			data[j + 27] = v31 >>> 23 | v32 << 32;
+			data[j + 28] = v32 >>> 32 | v33 << 23;
+			data[j + 29] = v33 >>> 41 | v34 << 14;
+			data[j + 30] = v34 >>> 50 | v35 << 5 | v36 << 60;
+			data[j + 31] = v36 >>> 4 | v37 << 51;
+			data[j + 32] = v37 >>> 13 | v38 << 42;
+			data[j + 33] = v38 >>> 22 | v39 << 33;
+			data[j + 34] = v39 >>> 31 | v40 << 24;
+			data[j + 35] = v40 >>> 40 | v41 << 15;
+			data[j + 36] = v41 >>> 49 | v42 << 6 | v43 << 61;
+			data[j + 37] = v43 >>> 3 | v44 << 52;
+			data[j + 38] = v44 >>> 12 | v45 << 43;
+			data[j + 39] = v45 >>> 21 | v46 << 34;
+			data[j + 40] = v46 >>> 30 | v47 << 25;
+			data[j + 41] = v47 >>> 39 | v48 << 16;
+			data[j + 42] = v48 >>> 48 | v49 << 7 | v50 << 62;
+			data[j + 43] = v50 >>> 2 | v51 << 53;
+			data[j + 44] = v51 >>> 11 | v52 << 44;
+			data[j + 45] = v52 >>> 20 | v53 << 35;
+			data[j + 46] = v53 >>> 29 | v54 << 26;
+			data[j + 47] = v54 >>> 38 | v55 << 17;
+			data[j + 48] = v55 >>> 47 | v56 << 8 | v57 << 63;
+			data[j + 49] = v57 >>> 1 | v58 << 54;
+			data[j + 50] = v58 >>> 10 | v59 << 45;
+			data[j + 51] = v59 >>> 19 | v60 << 36;
+			data[j + 52] = v60 >>> 28 | v61 << 27;
+			data[j + 53] = v61 >>> 37 | v62 << 18;
+			data[j + 54] = v62 >>> 46 | v63 << 9;
+		}
+	}
+
+	private static void decode56(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 56, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 56 | w1 << 8) & 0xFFFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 48 | w2 << 16) & 0xFFFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 40 | w3 << 24) & 0xFFFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 32 | w4 << 32) & 0xFFFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 5] = (w4 >>> 24 | w5 << 40) & 0xFFFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 6] = (w5 >>> 16 | w6 << 48) & 0xFFFFFFFFFFFFFFL;
+			dest[off + 7] = w6 >>> 8;
+			final long w7 = data[j + 7];
+			dest[off + 8] = w7 & 0xFFFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 9] = (w7 >>> 56 | w8 << 8) & 0xFFFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 10] = (w8 >>> 48 | w9 << 16) & 0xFFFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 11] = (w9 >>> 40 | w10 << 24) & 0xFFFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 12] = (w10 >>> 32 | w11 << 32) & 0xFFFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 13] = (w11 >>> 24 | w12 << 40) & 0xFFFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 14] = (w12 >>> 16 | w13 << 48) & 0xFFFFFFFFFFFFFFL;
+			dest[off + 15] = w13 >>> 8;
+			final long w14 = data[j + 14];
+			dest[off + 16] = w14 & 0xFFFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 17] = (w14 >>> 56 | w15 << 8) & 0xFFFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 18] = (w15 >>> 48 | w16 << 16) & 0xFFFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 19] = (w16 >>> 40 | w17 << 24) & 0xFFFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 20] = (w17 >>> 32 | w18 << 32) & 0xFFFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 21] = (w18 >>> 24 | w19 << 40) & 0xFFFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 22] = (w19 >>> 16 | w20 << 48) & 0xFFFFFFFFFFFFFFL;
+			dest[off + 23] = w20 >>> 8;
+			final long w21 = data[j + 21];
+			dest[off + 24] = w21 & 0xFFFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 25] = (w21 >>> 56 | w22 << 8) & 0xFFFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 26] = (w22 >>> 48 | w23 << 16) & 0xFFFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 27] = (w23 >>> 40 | w24 << 24) & 0xFFFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 28] = (w24 >>> 32 | w25 << 32) & 0xFFFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 29] = (w25 >>> 24 | w26 << 40) & 0xFFFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 30] = (w26 >>> 16 | w27 << 48) & 0xFFFFFFFFFFFFFFL;
+			dest[off + 31] = w27 >>> 8;
+			final long w28 = data[j + 28];
+			dest[off + 32] = w28 & 0xFFFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 33] = (w28 >>> 56 | w29 << 8) & 0xFFFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 34] = (w29 >>> 48 | w30 << 16) & 0xFFFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 35] = (w30 >>> 40 | w31 << 24) & 0xFFFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 36] = (w31 >>> 32 | w32 << 32) & 0xFFFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 37] = (w32 >>> 24 | w33 << 40) & 0xFFFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 38] = (w33 >>> 16 | w34 << 48) & 0xFFFFFFFFFFFFFFL;
+			dest[off + 39] = w34 >>> 8;
+			final long w35 = data[j + 35];
+			dest[off + 40] = w35 & 0xFFFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 41] = (w35 >>> 56 | w36 << 8) & 0xFFFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 42] = (w36 >>> 48 | w37 << 16) & 0xFFFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 43] = (w37 >>> 40 | w38 << 24) & 0xFFFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 44] = (w38 >>> 32 | w39 << 32) & 0xFFFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 45] = (w39 >>> 24 | w40 << 40) & 0xFFFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 46] = (w40 >>> 16 | w41 << 48) & 0xFFFFFFFFFFFFFFL;
+			dest[off + 47] = w41 >>> 8;
+			final long w42 = data[j + 42];
+			dest[off + 48] = w42 & 0xFFFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 49] = (w42 >>> 56 | w43 << 8) & 0xFFFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 50] = (w43 >>> 48 | w44 << 16) & 0xFFFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 51] = (w44 >>> 40 | w45 << 24) & 0xFFFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 52] = (w45 >>> 32 | w46 << 32) & 0xFFFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 53] = (w46 >>> 24 | w47 << 40) & 0xFFFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 54] = (w47 >>> 16 | w48 << 48) & 0xFFFFFFFFFFFFFFL;
+			dest[off + 55] = w48 >>> 8;
+			final long w49 = data[j + 49];
+			dest[off + 56] = w49 & 0xFFFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 57] = (w49 >>> 56 | w50 << 8) & 0xFFFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 58] = (w50 >>> 48 | w51 << 16) & 0xFFFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 59] = (w51 >>> 40 | w52 << 24) & 0xFFFFFFFFFFFFFFL;
+			final long w53 = data[j + 53];
+			dest[off + 60] = (w52 >>> 32 | w53 << 32) & 0xFFFFFFFFFFFFFFL;
+			final long w54 = data[j + 54];
+			dest[off + 61] = (w53 >>> 24 | w54 << 40) & 0xFFFFFFFFFFFFFFL;
+			final long w55 = data[j + 55];
+			dest[off + 62] = (w54 >>> 16 | w55 << 48) & 0xFFFFFFFFFFFFFFL;
+			dest[off + 63] = w55 >>> 8;
+		}
+	}
+
+	private static void encode56(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 56) {
+			final long v0 = src[off] & 0xFFFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 56;
+			data[j + 1] = v1 >>> 8 | v2 << 48;
+			data[j + 2] = v2 >>> 16 | v3 << 40;
+			data[j + 3] = v3 >>> 24 | v4 << 32;
+			data[j + 4] = v4 >>> 32 | v5 << 24;
+			data[j + 5] = v5 >>> 40 | v6 << 16;
+			data[j + 6] = v6 >>> 48 | v7 << 8;
+			data[j + 7] = v8 | v9 << 56;
+			data[j + 8] = v9 >>> 8 | v10 << 48;
+			data[j + 9] = v10 >>> 16 | v11 << 40;
+			data[j + 10] = v11 >>> 24 | v12 << 32;
+			data[j + 11] = v12 >>> 32 | v13 << 24;
+			data[j + 12] = v13 >>> 40 | v14 << 16;
+			data[j + 13] = v14 >>> 48 | v15 << 8;
+			data[j + 14] = v16 | v17 << 56;
+			data[j + 15] = v17 >>> 8 | v18 << 48;
+			data[j + 16] = v18 >>> 16 | v19 << 40;
+			data[j + 17] = v19 >>> 24 | v20 << 32;
+			data[j + 18] = v20 >>> 32 | v21 << 24;
+			data[j + 19] = v21 >>> 40 | v22 << 16;
+			data[j + 20] = v22 >>> 48 | v23 << 8;
+			data[j + 21] = v24 | v25 << 56;
+			data[j + 22] = v25 >>> 8 | v26 << 48;
+			data[j + 23] = v26 >>> 16 | v27 << 40;
+			data[j + 24] = v27 >>> 24 | v28 << 32;
+			data[j + 25] = v28 >>> 32 | v29 << 24;
+			data[j + 26] = v29 >>> 40 | v30 << 16;
+			data[j + 27] = v30 >>> 48 | v31 << 8;
+			data[j + 28] = v32 | v33 << 56;
+			data[j + 29] = v33 >>> 8 | v34 << 48;
+			data[j + 30] = v34 >>> 16 | v35 << 40;
+			data[j + 31] = v35 >>> 24 | v36 << 32;
+			data[j + 32] = v36 >>> 32 | v37 << 24;
+			data[j + 33] = v37 >>> 40 | v38 << 16;
+			data[j + 34] = v38 >>> 48 | v39 << 8;
+			data[j + 35] = v40 | v41 << 56;
+			data[j + 36] = v41 >>> 8 | v42 << 48;
+			data[j + 37] = v42 >>> 16 | v43 << 40;
+			data[j + 38] = v43 >>> 24 | v44 << 32;
+			data[j + 39] = v44 >>> 32 | v45 << 24;
+			data[j + 40] = v45 >>> 40 | v46 << 16;
+			data[j + 41] = v46 >>> 48 | v47 << 8;
+			data[j + 42] = v48 | v49 << 56;
+			data[j + 43] = v49 >>> 8 | v50 << 48;
+			data[j + 44] = v50 >>> 16 | v51 << 40;
+			data[j + 45] = v51 >>> 24 | v52 << 32;
+			data[j + 46] = v52 >>> 32 | v53 << 24;
+			data[j + 47] = v53 >>> 40 | v54 << 16;
+			data[j + 48] = v54 >>> 48 | v55 << 8;
+			data[j + 49] = v56 | v57 << 56;
+			data[j + 50] = v57 >>> 8 | v58 << 48;
+			data[j + 51] = v58 >>> 16 | v59 << 40;
+			data[j + 52] = v59 >>> 24 | v60 << 32;
+			data[j + 53] = v60 >>> 32 | v61 << 24;
+			data[j + 54] = v61 >>> 40 | v62 << 16;
+			data[j + 55] = v62 >>> 48 | v63 << 8;
+		}
+	}
+
+	private static void decode57(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 57, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 57 | w1 << 7) & 0x1FFFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 50 | w2 << 14) & 0x1FFFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 43 | w3 << 21) & 0x1FFFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 36 | w4 << 28) & 0x1FFFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 5] = (w4 >>> 29 | w5 << 35) & 0x1FFFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 6] = (w5 >>> 22 | w6 << 42) & 0x1FFFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 7] = (w6 >>> 15 | w7 << 49) & 0x1FFFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 8] = (w7 >>> 8 | w8 << 56) & 0x1FFFFFFFFFFFFFFL;
+			dest[off + 9] = w8 >>> 1 & 0x1FFFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 10] = (w8 >>> 58 | w9 << 6) & 0x1FFFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 11] = (w9 >>> 51 | w10 << 13) & 0x1FFFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 12] = (w10 >>> 44 | w11 << 20) & 0x1FFFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 13] = (w11 >>> 37 | w12 << 27) & 0x1FFFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 14] = (w12 >>> 30 | w13 << 34) & 0x1FFFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 15] = (w13 >>> 23 | w14 << 41) & 0x1FFFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 16] = (w14 >>> 16 | w15 << 48) & 0x1FFFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 17] = (w15 >>> 9 | w16 << 55) & 0x1FFFFFFFFFFFFFFL;
+			dest[off + 18] = w16 >>> 2 & 0x1FFFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 19] = (w16 >>> 59 | w17 << 5) & 0x1FFFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 20] = (w17 >>> 52 | w18 << 12) & 0x1FFFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 21] = (w18 >>> 45 | w19 << 19) & 0x1FFFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 22] = (w19 >>> 38 | w20 << 26) & 0x1FFFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 23] = (w20 >>> 31 | w21 << 33) & 0x1FFFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 24] = (w21 >>> 24 | w22 << 40) & 0x1FFFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 25] = (w22 >>> 17 | w23 << 47) & 0x1FFFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 26] = (w23 >>> 10 | w24 << 54) & 0x1FFFFFFFFFFFFFFL;
+			dest[off + 27] = w24 >>> 3 & 0x1FFFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 28] = (w24 >>> 60 | w25 << 4) & 0x1FFFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 29] = (w25 >>> 53 | w26 << 11) & 0x1FFFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 30] = (w26 >>> 46 | w27 << 18) & 0x1FFFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 31] = (w27 >>> 39 | w28 << 25) & 0x1FFFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 32] = (w28 >>> 32 | w29 << 32) & 0x1FFFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 33] = (w29 >>> 25 | w30 << 39) & 0x1FFFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 34] = (w30 >>> 18 | w31 << 46) & 0x1FFFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 35] = (w31 >>> 11 | w32 << 53) & 0x1FFFFFFFFFFFFFFL;
+			dest[off + 36] = w32 >>> 4 & 0x1FFFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 37] = (w32 >>> 61 | w33 << 3) & 0x1FFFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 38] = (w33 >>> 54 | w34 << 10) & 0x1FFFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 39] = (w34 >>> 47 | w35 << 17) & 0x1FFFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 40] = (w35 >>> 40 | w36 << 24) & 0x1FFFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 41] = (w36 >>> 33 | w37 << 31) & 0x1FFFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 42] = (w37 >>> 26 | w38 << 38) & 0x1FFFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 43] = (w38 >>> 19 | w39 << 45) & 0x1FFFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 44] = (w39 >>> 12 | w40 << 52) & 0x1FFFFFFFFFFFFFFL;
+			dest[off + 45] = w40 >>> 5 & 0x1FFFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 46] = (w40 >>> 62 | w41 << 2) & 0x1FFFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 47] = (w41 >>> 55 | w42 << 9) & 0x1FFFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 48] = (w42 >>> 48 | w43 << 16) & 0x1FFFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 49] = (w43 >>> 41 | w44 << 23) & 0x1FFFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 50] = (w44 >>> 34 | w45 << 30) & 0x1FFFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 51] = (w45 >>> 27 | w46 << 37) & 0x1FFFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 52] = (w46 >>> 20 | w47 << 44) & 0x1FFFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 53] = (w47 >>> 13 | w48 << 51) & 0x1FFFFFFFFFFFFFFL;
+			dest[off + 54] = w48 >>> 6 & 0x1FFFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 55] = (w48 >>> 63 | w49 << 1) & 0x1FFFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 56] = (w49 >>> 56 | w50 << 8) & 0x1FFFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 57] = (w50 >>> 49 | w51 << 15) & 0x1FFFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 58] = (w51 >>> 42 | w52 << 22) & 0x1FFFFFFFFFFFFFFL;
+			final long w53 = data[j + 53];
+			dest[off + 59] = (w52 >>> 35 | w53 << 29) & 0x1FFFFFFFFFFFFFFL;
+			final long w54 = data[j + 54];
+			dest[off + 60] = (w53 >>> 28 | w54 << 36) & 0x1FFFFFFFFFFFFFFL;
+			final long w55 = data[j + 55];
+			dest[off + 61] = (w54 >>> 21 | w55 << 43) & 0x1FFFFFFFFFFFFFFL;
+			final long w56 = data[j + 56];
+			dest[off + 62] = (w55 >>> 14 | w56 << 50) & 0x1FFFFFFFFFFFFFFL;
+			dest[off + 63] = w56 >>> 7;
+		}
+	}
+
+	private static void encode57(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 57) {
+			final long v0 = src[off] & 0x1FFFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 57;
+			data[j + 1] = v1 >>> 7 | v2 << 50;
+			data[j + 2] = v2 >>> 14 | v3 << 43;
+			data[j + 3] = v3 >>> 21 | v4 << 36;
+			data[j + 4] = v4 >>> 28 | v5 << 29;
+			data[j + 5] = v5 >>> 35 | v6 << 22;
+			data[j + 6] = v6 >>> 42 | v7 << 15;
+			data[j + 7] = v7 >>> 49 | v8 << 8;
+			data[j + 8] = v8 >>> 56 | v9 << 1 | v10 << 58;
+			data[j + 9] = v10 >>> 6 | v11 << 51;
+			data[j + 10] = v11 >>> 13 | v12 << 44;
+			data[j + 11] = v12 >>> 20 | v13 << 37;
+			data[j + 12] = v13 >>> 27 | v14 << 30;
+			data[j + 13] = v14 >>> 34 | v15 << 23;
+			data[j + 14] = v15 >>> 41 | v16 << 16;
+			data[j + 15] = v16 >>> 48 | v17 << 9;
+			data[j + 16] = v17 >>> 55 | v18 << 2 | v19 << 59;
+			data[j + 17] = v19 >>> 5 | v20 << 52;
+			data[j + 18] = v20 >>> 12 | v21 << 45;
+			data[j + 19] = v21 >>> 19 | v22 << 38;
+			data[j + 20] = v22 >>> 26 | v23 << 31;
+			data[j + 21] = v23 >>> 33 | v24 << 24;
+			data[j + 22] = v24 >>> 40 | v25 << 17;
+			data[j + 23] = v25 >>> 47 | v26 << 10;
+			data[j + 24] = v26 >>> 54 | v27 << 3 | v28 << 60;
+			data[j + 25] = v28 >>> 4 | v29 << 53;
+			data[j + 26] = v29 >>> 11 | v30 << 46;
+			data[j + 27] = v30 >>> 18 | v31 << 39;
+			data[j + 28] = v31 >>> 25 | v32 << 32;
+			data[j + 29] = v32 >>> 32 | v33 << 25;
+			data[j + 30] = v33 >>> 39 | v34 << 18;
+			data[j + 31] = v34 >>> 46 | v35 << 11;
+			data[j + 32] = v35 >>> 53 | v36 << 4 | v37 << 61;
+			data[j + 33] = v37 >>> 3 | v38 << 54;
+			data[j + 34] = v38 >>> 10 | v39 << 47;
+			data[j + 35] = v39 >>> 17 | v40 << 40;
+			data[j + 36] = v40 >>> 24 | v41 << 33;
+			data[j + 37] = v41 >>> 31 | v42 << 26;
+			data[j + 38] = v42 >>> 38 | v43 << 19;
+			data[j + 39] = v43 >>> 45 | v44 << 12;
+			data[j + 40] = v44 >>> 52 | v45 << 5 | v46 << 62;
+			data[j + 41] = v46 >>> 2 | v47 << 55;
+			data[j + 42] = v47 >>> 9 | v48 << 48;
+			data[j + 43] = v48 >>> 16 | v49 << 41;
+			data[j + 44] = v49 >>> 23 | v50 << 34;
+			data[j + 45] = v50 >>> 30 | v51 << 27;
+			data[j + 46] = v51 >>> 37 | v52 << 20;
+			data[j + 47] = v52 >>> 44 | v53 << 13;
+			data[j + 48] = v53 >>> 51 | v54 << 6 | v55 << 63;
+			data[j + 49] = v55 >>> 1 | v56 << 56;
+			data[j + 50] = v56 >>> 8 | v57 << 49;
+			data[j + 51] = v57 >>> 15 | v58 << 42;
+			data[j + 52] = v58 >>> 22 | v59 << 35;
+			data[j + 53] = v59 >>> 29 | v60 << 28;
+			data[j + 54] = v60 >>> 36 | v61 << 21;
+			data[j + 55] = v61 >>> 43 | v62 << 14;
+			data[j + 56] = v62 >>> 50 | v63 << 7;
+		}
+	}
+
+	private static void decode58(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 58, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 58 | w1 << 6) & 0x3FFFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 52 | w2 << 12) & 0x3FFFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 46 | w3 << 18) & 0x3FFFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 40 | w4 << 24) & 0x3FFFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 5] = (w4 >>> 34 | w5 << 30) & 0x3FFFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 6] = (w5 >>> 28 | w6 << 36) & 0x3FFFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 7] = (w6 >>> 22 | w7 << 42) & 0x3FFFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 8] = (w7 >>> 16 | w8 << 48) & 0x3FFFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 9] = (w8 >>> 10 | w9 << 54) & 0x3FFFFFFFFFFFFFFL;
+			dest[off + 10] = w9 >>> 4 & 0x3FFFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 11] = (w9 >>> 62 | w10 << 2) & 0x3FFFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 12] = (w10 >>> 56 | w11 << 8) & 0x3FFFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 13] = (w11 >>> 50 | w12 << 14) & 0x3FFFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 14] = (w12 >>> 44 | w13 << 20) & 0x3FFFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 15] = (w13 >>> 38 | w14 << 26) & 0x3FFFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 16] = (w14 >>> 32 | w15 << 32) & 0x3FFFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 17] = (w15 >>> 26 | w16 << 38) & 0x3FFFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 18] = (w16 >>> 20 | w17 << 44) & 0x3FFFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 19] = (w17 >>> 14 | w18 << 50) & 0x3FFFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 20] = (w18 >>> 8 | w19 << 56) & 0x3FFFFFFFFFFFFFFL;
+			dest[off + 21] = w19 >>> 2 & 0x3FFFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 22] = (w19 >>> 60 | w20 << 4) & 0x3FFFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 23] = (w20 >>> 54 | w21 << 10) & 0x3FFFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 24] = (w21 >>> 48 | w22 << 16) & 0x3FFFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 25] = (w22 >>> 42 | w23 << 22) & 0x3FFFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 26] = (w23 >>> 36 | w24 << 28) & 0x3FFFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 27] = (w24 >>> 30 | w25 << 34) & 0x3FFFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 28] = (w25 >>> 24 | w26 << 40) & 0x3FFFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 29] = (w26 >>> 18 | w27 << 46) & 0x3FFFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 30] = (w27 >>> 12 | w28 << 52) & 0x3FFFFFFFFFFFFFFL;
+			dest[off + 31] = w28 >>> 6;
+			final long w29 = data[j + 29];
+			dest[off + 32] = w29 & 0x3FFFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 33] = (w29 >>> 58 | w30 << 6) & 0x3FFFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 34] = (w30 >>> 52 | w31 << 12) & 0x3FFFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 35] = (w31 >>> 46 | w32 << 18) & 0x3FFFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 36] = (w32 >>> 40 | w33 << 24) & 0x3FFFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 37] = (w33 >>> 34 | w34 << 30) & 0x3FFFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 38] = (w34 >>> 28 | w35 << 36) & 0x3FFFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 39] = (w35 >>> 22 | w36 << 42) & 0x3FFFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 40] = (w36 >>> 16 | w37 << 48) & 0x3FFFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 41] = (w37 >>> 10 | w38 << 54) & 0x3FFFFFFFFFFFFFFL;
+			dest[off + 42] = w38 >>> 4 & 0x3FFFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 43] = (w38 >>> 62 | w39 << 2) & 0x3FFFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 44] = (w39 >>> 56 | w40 << 8) & 0x3FFFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 45] = (w40 >>> 50 | w41 << 14) & 0x3FFFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 46] = (w41 >>> 44 | w42 << 20) & 0x3FFFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 47] = (w42 >>> 38 | w43 << 26) & 0x3FFFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 48] = (w43 >>> 32 | w44 << 32) & 0x3FFFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 49] = (w44 >>> 26 | w45 << 38) & 0x3FFFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 50] = (w45 >>> 20 | w46 << 44) & 0x3FFFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 51] = (w46 >>> 14 | w47 << 50) & 0x3FFFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 52] = (w47 >>> 8 | w48 << 56) & 0x3FFFFFFFFFFFFFFL;
+			dest[off + 53] = w48 >>> 2 & 0x3FFFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 54] = (w48 >>> 60 | w49 << 4) & 0x3FFFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 55] = (w49 >>> 54 | w50 << 10) & 0x3FFFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 56] = (w50 >>> 48 | w51 << 16) & 0x3FFFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 57] = (w51 >>> 42 | w52 << 22) & 0x3FFFFFFFFFFFFFFL;
+			final long w53 = data[j + 53];
+			dest[off + 58] = (w52 >>> 36 | w53 << 28) & 0x3FFFFFFFFFFFFFFL;
+			final long w54 = data[j + 54];
+			dest[off + 59] = (w53 >>> 30 | w54 << 34) & 0x3FFFFFFFFFFFFFFL;
+			final long w55 = data[j + 55];
+			dest[off + 60] = (w54 >>> 24 | w55 << 40) & 0x3FFFFFFFFFFFFFFL;
+			final long w56 = data[j + 56];
+			dest[off + 61] = (w55 >>> 18 | w56 << 46) & 0x3FFFFFFFFFFFFFFL;
+			final long w57 = data[j + 57];
+			dest[off + 62] = (w56 >>> 12 | w57 << 52) & 0x3FFFFFFFFFFFFFFL;
+			dest[off + 63] = w57 >>> 6;
+		}
+	}
+
+	private static void encode58(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 58) {
+			final long v0 = src[off] & 0x3FFFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 58;
+			data[j + 1] = v1 >>> 6 | v2 << 52;
+			data[j + 2] = v2 >>> 12 | v3 << 46;
+			data[j + 3] = v3 >>> 18 | v4 << 40;
+			data[j + 4] = v4 >>> 24 | v5 << 34;
+			data[j + 5] = v5 >>> 30 | v6 << 28;
+			data[j + 6] = v6 >>> 36 | v7 << 22;
+			data[j + 7] = v7 >>> 42 | v8 << 16;
+			data[j + 8] = v8 >>> 48 | v9 << 10;
+			data[j + 9] = v9 >>> 54 | v10 << 4 | v11 << 62;
+			data[j + 10] = v11 >>> 2 | v12 << 56;
+			data[j + 11] = v12 >>> 8 | v13 << 50;
+			data[j + 12] = v13 >>> 14 | v14 << 44;
+			data[j + 13] = v14 >>> 20 | v15 << 38;
+			data[j + 14] = v15 >>> 26 | v16 << 32;
+			data[j + 15] = v16 >>> 32 | v17 << 26;
+			data[j + 16] = v17 >>> 38 | v18 << 20;
+			data[j + 17] = v18 >>> 44 | v19 << 14;
+			data[j + 18] = v19 >>> 50 | v20 << 8;
+			data[j + 19] = v20 >>> 56 | v21 << 2 | v22 << 60;
+			data[j + 20] = v22 >>> 4 | v23 << 54;
+			data[j + 21] = v23 >>> 10 | v24 << 48;
+			data[j + 22] = v24 >>> 16 | v25 << 42;
+			data[j + 23] = v25 >>> 22 | v26 << 36;
+			data[j + 24] = v26 >>> 28 | v27 << 30;
+			data[j + 25] = v27 >>> 34 | v28 << 24;
+			data[j + 26] = v28 >>> 40 | v29 << 18;
+			data[j + 27] = v29 >>> 46 | v30 << 12;
+			data[j + 28] = v30 >>> 52 | v31 << 6;
+			data[j + 29] = v32 | v33 << 58;
+			data[j + 30] = v33 >>> 6 | v34 << 52;
+			data[j + 31] = v34 >>> 12 | v35 << 46;
+			data[j + 32] = v35 >>> 18 | v36 << 40;
+			data[j + 33] = v36 >>> 24 | v37 << 34;
+			data[j + 34] = v37 >>> 30 | v38 << 28;
+			data[j + 35] = v38 >>> 36 | v39 << 22;
+			data[j + 36] = v39 >>> 42 | v40 << 16;
+			data[j + 37] = v40 >>> 48 | v41 << 10;
+			data[j + 38] = v41 >>> 54 | v42 << 4 | v43 << 62;
+			data[j + 39] = v43 >>> 2 | v44 << 56;
+			data[j + 40] = v44 >>> 8 | v45 << 50;
+			data[j + 41] = v45 >>> 14 | v46 << 44;
+			data[j + 42] = v46 >>> 20 | v47 << 38;
+			data[j + 43] = v47 >>> 26 | v48 << 32;
+			data[j + 44] = v48 >>> 32 | v49 << 26;
+			data[j + 45] = v49 >>> 38 | v50 << 20;
+			data[j + 46] = v50 >>> 44 | v51 << 14;
+			data[j + 47] = v51 >>> 50 | v52 << 8;
+			data[j + 48] = v52 >>> 56 | v53 << 2 | v54 << 60;
+			data[j + 49] = v54 >>> 4 | v55 << 54;
+			data[j + 50] = v55 >>> 10 | v56 << 48;
+			data[j + 51] = v56 >>> 16 | v57 << 42;
+			data[j + 52] = v57 >>> 22 | v58 << 36;
+			data[j + 53] = v58 >>> 28 | v59 << 30;
+			data[j + 54] = v59 >>> 34 | v60 << 24;
+			data[j + 55] = v60 >>> 40 | v61 << 18;
+			data[j + 56] = v61 >>> 46 | v62 << 12;
+			data[j + 57] = v62 >>> 52 | v63 << 6;
+		}
+	}
+
+	private static void decode59(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 59, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 59 | w1 << 5) & 0x7FFFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 54 | w2 << 10) & 0x7FFFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 49 | w3 << 15) & 0x7FFFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 44 | w4 << 20) & 0x7FFFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 5] = (w4 >>> 39 | w5 << 25) & 0x7FFFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 6] = (w5 >>> 34 | w6 << 30) & 0x7FFFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 7] = (w6 >>> 29 | w7 << 35) & 0x7FFFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 8] = (w7 >>> 24 | w8 << 40) & 0x7FFFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 9] = (w8 >>> 19 | w9 << 45) & 0x7FFFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 10] = (w9 >>> 14 | w10 << 50) & 0x7FFFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 11] = (w10 >>> 9 | w11 << 55) & 0x7FFFFFFFFFFFFFFL;
+			dest[off + 12] = w11 >>> 4 & 0x7FFFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 13] = (w11 >>> 63 | w12 << 1) & 0x7FFFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 14] = (w12 >>> 58 | w13 << 6) & 0x7FFFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 15] = (w13 >>> 53 | w14 << 11) & 0x7FFFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 16] = (w14 >>> 48 | w15 << 16) & 0x7FFFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 17] = (w15 >>> 43 | w16 << 21) & 0x7FFFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 18] = (w16 >>> 38 | w17 << 26) & 0x7FFFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 19] = (w17 >>> 33 | w18 << 31) & 0x7FFFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 20] = (w18 >>> 28 | w19 << 36) & 0x7FFFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 21] = (w19 >>> 23 | w20 << 41) & 0x7FFFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 22] = (w20 >>> 18 | w21 << 46) & 0x7FFFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 23] = (w21 >>> 13 | w22 << 51) & 0x7FFFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 24] = (w22 >>> 8 | w23 << 56) & 0x7FFFFFFFFFFFFFFL;
+			dest[off + 25] = w23 >>> 3 & 0x7FFFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 26] = (w23 >>> 62 | w24 << 2) & 0x7FFFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 27] = (w24 >>> 57 | w25 << 7) & 0x7FFFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 28] = (w25 >>> 52 | w26 << 12) & 0x7FFFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 29] = (w26 >>> 47 | w27 << 17) & 0x7FFFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 30] = (w27 >>> 42 | w28 << 22) & 0x7FFFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 31] = (w28 >>> 37 | w29 << 27) & 0x7FFFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 32] = (w29 >>> 32 | w30 << 32) & 0x7FFFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 33] = (w30 >>> 27 | w31 << 37) & 0x7FFFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 34] = (w31 >>> 22 | w32 << 42) & 0x7FFFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 35] = (w32 >>> 17 | w33 << 47) & 0x7FFFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 36] = (w33 >>> 12 | w34 << 52) & 0x7FFFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 37] = (w34 >>> 7 | w35 << 57) & 0x7FFFFFFFFFFFFFFL;
+			dest[off + 38] = w35 >>> 2 & 0x7FFFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 39] = (w35 >>> 61 | w36 << 3) & 0x7FFFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 40] = (w36 >>> 56 | w37 << 8) & 0x7FFFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 41] = (w37 >>> 51 | w38 << 13) & 0x7FFFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 42] = (w38 >>> 46 | w39 << 18) & 0x7FFFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 43] = (w39 >>> 41 | w40 << 23) & 0x7FFFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 44] = (w40 >>> 36 | w41 << 28) & 0x7FFFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 45] = (w41 >>> 31 | w42 << 33) & 0x7FFFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 46] = (w42 >>> 26 | w43 << 38) & 0x7FFFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 47] = (w43 >>> 21 | w44 << 43) & 0x7FFFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 48] = (w44 >>> 16 | w45 << 48) & 0x7FFFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 49] = (w45 >>> 11 | w46 << 53) & 0x7FFFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 50] = (w46 >>> 6 | w47 << 58) & 0x7FFFFFFFFFFFFFFL;
+			dest[off + 51] = w47 >>> 1 & 0x7FFFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 52] = (w47 >>> 60 | w48 << 4) & 0x7FFFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 53] = (w48 >>> 55 | w49 << 9) & 0x7FFFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 54] = (w49 >>> 50 | w50 << 14) & 0x7FFFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 55] = (w50 >>> 45 | w51 << 19) & 0x7FFFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 56] = (w51 >>> 40 | w52 << 24) & 0x7FFFFFFFFFFFFFFL;
+			final long w53 = data[j + 53];
+			dest[off + 57] = (w52 >>> 35 | w53 << 29) & 0x7FFFFFFFFFFFFFFL;
+			final long w54 = data[j + 54];
+			dest[off + 58] = (w53 >>> 30 | w54 << 34) & 0x7FFFFFFFFFFFFFFL;
+			final long w55 = data[j + 55];
+			dest[off + 59] = (w54 >>> 25 | w55 << 39) & 0x7FFFFFFFFFFFFFFL;
+			final long w56 = data[j + 56];
+			dest[off + 60] = (w55 >>> 20 | w56 << 44) & 0x7FFFFFFFFFFFFFFL;
+			final long w57 = data[j + 57];
+			dest[off + 61] = (w56 >>> 15 | w57 << 49) & 0x7FFFFFFFFFFFFFFL;
+			final long w58 = data[j + 58];
+			dest[off + 62] = (w57 >>> 10 | w58 << 54) & 0x7FFFFFFFFFFFFFFL;
+			dest[off + 63] = w58 >>> 5;
+		}
+	}
+
+	private static void encode59(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 59) {
+			final long v0 = src[off] & 0x7FFFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 59;
+			data[j + 1] = v1 >>> 5 | v2 << 54;
+			data[j + 2] = v2 >>> 10 | v3 << 49;
+			data[j + 3] = v3 >>> 15 | v4 << 44;
+			data[j + 4] = v4 >>> 20 | v5 << 39;
+			data[j + 5] = v5 >>> 25 | v6 << 34;
+			data[j + 6] = v6 >>> 30 | v7 << 29;
+			data[j + 7] = v7 >>> 35 | v8 << 24;
+			data[j + 8] = v8 >>> 40 | v9 << 19;
+			data[j + 9] = v9 >>> 45 | v10 << 14;
+			data[j + 10] = v10 >>> 50 | v11 << 9;
+			data[j + 11] = v11 >>> 55 | v12 << 4 | v13 << 63;
+			data[j + 12] = v13 >>> 1 | v14 << 58;
+			data[j + 13] = v14 >>> 6 | v15 << 53;
+			data[j + 14] = v15 >>> 11 | v16 << 48;
+			data[j + 15] = v16 >>> 16 | v17 << 43;
+			data[j + 16] = v17 >>> 21 | v18 << 38;
+			data[j + 17] = v18 >>> 26 | v19 << 33;
+			data[j + 18] = v19 >>> 31 | v20 << 28;
+			data[j + 19] = v20 >>> 36 | v21 << 23;
+			data[j + 20] = v21 >>> 41 | v22 << 18;
+			data[j + 21] = v22 >>> 46 | v23 << 13;
+			data[j + 22] = v23 >>> 51 | v24 << 8;
+			data[j + 23] = v24 >>> 56 | v25 << 3 | v26 << 62;
+			data[j + 24] = v26 >>> 2 | v27 << 57;
+			data[j + 25] = v27 >>> 7 | v28 << 52;
+			data[j + 26] = v28 >>> 12 | v29 << 47;
+			data[j + 27] = v29 >>> 17 | v30 << 42;
+			data[j + 28] = v30 >>> 22 | v31 << 37;
+			data[j + 29] = v31 >>> 27 | v32 << 32;
+			data[j + 30] = v32 >>> 32 | v33 << 27;
+			data[j + 31] = v33 >>> 37 | v34 << 22;
+			data[j + 32] = v34 >>> 42 | v35 << 17;
+			data[j + 33] = v35 >>> 47 | v36 << 12;
+			data[j + 34] = v36 >>> 52 | v37 << 7;
+			data[j + 35] = v37 >>> 57 | v38 << 2 | v39 << 61;
+			data[j + 36] = v39 >>> 3 | v40 << 56;
+			data[j + 37] = v40 >>> 8 | v41 << 51;
+			data[j + 38] = v41 >>> 13 | v42 << 46;
+			data[j + 39] = v42 >>> 18 | v43 << 41;
+			data[j + 40] = v43 >>> 23 | v44 << 36;
+			data[j + 41] = v44 >>> 28 | v45 << 31;
+			data[j + 42] = v45 >>> 33 | v46 << 26;
+			data[j + 43] = v46 >>> 38 | v47 << 21;
+			data[j + 44] = v47 >>> 43 | v48 << 16;
+			data[j + 45] = v48 >>> 48 | v49 << 11;
+			data[j + 46] = v49 >>> 53 | v50 << 6;
+			data[j + 47] = v50 >>> 58 | v51 << 1 | v52 << 60;
+			data[j + 48] = v52 >>> 4 | v53 << 55;
+			data[j + 49] = v53 >>> 9 | v54 << 50;
+			data[j + 50] = v54 >>> 14 | v55 << 45;
+			data[j + 51] = v55 >>> 19 | v56 << 40;
+			data[j + 52] = v56 >>> 24 | v57 << 35;
+			data[j + 53] = v57 >>> 29 | v58 << 30;
+			data[j + 54] = v58 >>> 34 | v59 << 25;
+			data[j + 55] = v59 >>> 39 | v60 << 20;
+			data[j + 56] = v60 >>> 44 | v61 << 15;
+			data[j + 57] = v61 >>> 49 | v62 << 10;
+			data[j + 58] = v62 >>> 54 | v63 << 5;
+		}
+	}
+
+	private static void decode60(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 60, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0xFFFFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 60 | w1 << 4) & 0xFFFFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 56 | w2 << 8) & 0xFFFFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 52 | w3 << 12) & 0xFFFFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 48 | w4 << 16) & 0xFFFFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 5] = (w4 >>> 44 | w5 << 20) & 0xFFFFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 6] = (w5 >>> 40 | w6 << 24) & 0xFFFFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 7] = (w6 >>> 36 | w7 << 28) & 0xFFFFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 8] = (w7 >>> 32 | w8 << 32) & 0xFFFFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 9] = (w8 >>> 28 | w9 << 36) & 0xFFFFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 10] = (w9 >>> 24 | w10 << 40) & 0xFFFFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 11] = (w10 >>> 20 | w11 << 44) & 0xFFFFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 12] = (w11 >>> 16 | w12 << 48) & 0xFFFFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 13] = (w12 >>> 12 | w13 << 52) & 0xFFFFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 14] = (w13 >>> 8 | w14 << 56) & 0xFFFFFFFFFFFFFFFL;
+			dest[off + 15] = w14 >>> 4;
+			final long w15 = data[j + 15];
+			dest[off + 16] = w15 & 0xFFFFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 17] = (w15 >>> 60 | w16 << 4) & 0xFFFFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 18] = (w16 >>> 56 | w17 << 8) & 0xFFFFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 19] = (w17 >>> 52 | w18 << 12) & 0xFFFFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 20] = (w18 >>> 48 | w19 << 16) & 0xFFFFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 21] = (w19 >>> 44 | w20 << 20) & 0xFFFFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 22] = (w20 >>> 40 | w21 << 24) & 0xFFFFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 23] = (w21 >>> 36 | w22 << 28) & 0xFFFFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 24] = (w22 >>> 32 | w23 << 32) & 0xFFFFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 25] = (w23 >>> 28 | w24 << 36) & 0xFFFFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 26] = (w24 >>> 24 | w25 << 40) & 0xFFFFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 27] = (w25 >>> 20 | w26 << 44) & 0xFFFFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 28] = (w26 >>> 16 | w27 << 48) & 0xFFFFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 29] = (w27 >>> 12 | w28 << 52) & 0xFFFFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 30] = (w28 >>> 8 | w29 << 56) & 0xFFFFFFFFFFFFFFFL;
+			dest[off + 31] = w29 >>> 4;
+			final long w30 = data[j + 30];
+			dest[off + 32] = w30 & 0xFFFFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 33] = (w30 >>> 60 | w31 << 4) & 0xFFFFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 34] = (w31 >>> 56 | w32 << 8) & 0xFFFFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 35] = (w32 >>> 52 | w33 << 12) & 0xFFFFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 36] = (w33 >>> 48 | w34 << 16) & 0xFFFFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 37] = (w34 >>> 44 | w35 << 20) & 0xFFFFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 38] = (w35 >>> 40 | w36 << 24) & 0xFFFFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 39] = (w36 >>> 36 | w37 << 28) & 0xFFFFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 40] = (w37 >>> 32 | w38 << 32) & 0xFFFFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 41] = (w38 >>> 28 | w39 << 36) & 0xFFFFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 42] = (w39 >>> 24 | w40 << 40) & 0xFFFFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 43] = (w40 >>> 20 | w41 << 44) & 0xFFFFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 44] = (w41 >>> 16 | w42 << 48) & 0xFFFFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 45] = (w42 >>> 12 | w43 << 52) & 0xFFFFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 46] = (w43 >>> 8 | w44 << 56) & 0xFFFFFFFFFFFFFFFL;
+			dest[off + 47] = w44 >>> 4;
+			final long w45 = data[j + 45];
+			dest[off + 48] = w45 & 0xFFFFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 49] = (w45 >>> 60 | w46 << 4) & 0xFFFFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 50] = (w46 >>> 56 | w47 << 8) & 0xFFFFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 51] = (w47 >>> 52 | w48 << 12) & 0xFFFFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 52] = (w48 >>> 48 | w49 << 16) & 0xFFFFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 53] = (w49 >>> 44 | w50 << 20) & 0xFFFFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 54] = (w50 >>> 40 | w51 << 24) & 0xFFFFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 55] = (w51 >>> 36 | w52 << 28) & 0xFFFFFFFFFFFFFFFL;
+			final long w53 = data[j + 53];
+			dest[off + 56] = (w52 >>> 32 | w53 << 32) & 0xFFFFFFFFFFFFFFFL;
+			final long w54 = data[j + 54];
+			dest[off + 57] = (w53 >>> 28 | w54 << 36) & 0xFFFFFFFFFFFFFFFL;
+			final long w55 = data[j + 55];
+			dest[off + 58] = (w54 >>> 24 | w55 << 40) & 0xFFFFFFFFFFFFFFFL;
+			final long w56 = data[j + 56];
+			dest[off + 59] = (w55 >>> 20 | w56 << 44) & 0xFFFFFFFFFFFFFFFL;
+			final long w57 = data[j + 57];
+			dest[off + 60] = (w56 >>> 16 | w57 << 48) & 0xFFFFFFFFFFFFFFFL;
+			final long w58 = data[j + 58];
+			dest[off + 61] = (w57 >>> 12 | w58 << 52) & 0xFFFFFFFFFFFFFFFL;
+			final long w59 = data[j + 59];
+			dest[off + 62] = (w58 >>> 8 | w59 << 56) & 0xFFFFFFFFFFFFFFFL;
+			dest[off + 63] = w59 >>> 4;
+		}
+	}
+
+	private static void encode60(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 60) {
+			final long v0 = src[off] & 0xFFFFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 60;
+			data[j + 1] = v1 >>> 4 | v2 << 56;
+			data[j + 2] = v2 >>> 8 | v3 << 52;
+			data[j + 3] = v3 >>> 12 | v4 << 48;
+			data[j + 4] = v4 >>> 16 | v5 << 44;
+			data[j + 5] = v5 >>> 20 | v6 << 40;
+			data[j + 6] = v6 >>> 24 | v7 << 36;
+			data[j + 7] = v7 >>> 28 | v8 << 32;
+			data[j + 8] = v8 >>> 32 | v9 << 28;
+			data[j + 9] = v9 >>> 36 | v10 << 24;
+			data[j + 10] = v10 >>> 40 | v11 << 20;
+			data[j + 11] = v11 >>> 44 | v12 << 16;
+			data[j + 12] = v12 >>> 48 | v13 << 12;
+			data[j + 13] = v13 >>> 52 | v14 << 8;
+			data[j + 14] = v14 >>> 56 | v15 << 4;
+			data[j + 15] = v16 | v17 << 60;
+			data[j + 16] = v17 >>> 4 | v18 << 56;
+			data[j + 17] = v18 >>> 8 | v19 << 52;
+			data[j + 18] = v19 >>> 12 | v20 << 48;
+			data[j + 19] = v20 >>> 16 | v21 << 44;
+			data[j + 20] = v21 >>> 20 | v22 << 40;
+			data[j + 21] = v22 >>> 24 | v23 << 36;
+			data[j + 22] = v23 >>> 28 | v24 << 32;
+			data[j + 23] = v24 >>> 32 | v25 << 28;
+			data[j + 24] = v25 >>> 36 | v26 << 24;
+			data[j + 25] = v26 >>> 40 | v27 << 20;
+			data[j + 26] = v27 >>> 44 | v28 << 16;
+			data[j + 27] = v28 >>> 48 | v29 << 12;
+			data[j + 28] = v29 >>> 52 | v30 << 8;
+			data[j + 29] = v30 >>> 56 | v31 << 4;
+			data[j + 30] = v32 | v33 << 60;
+			data[j + 31] = v33 >>> 4 | v34 << 56;
+			data[j + 32] = v34 >>> 8 | v35 << 52;
+			data[j + 33] = v35 >>> 12 | v36 << 48;
+			data[j + 34] = v36 >>> 16 | v37 << 44;
+			data[j + 35] = v37 >>> 20 | v38 << 40;
+			data[j + 36] = v38 >>> 24 | v39 << 36;
+			data[j + 37] = v39 >>> 28 | v40 << 32;
+			data[j + 38] = v40 >>> 32 | v41 << 28;
+			data[j + 39] = v41 >>> 36 | v42 << 24;
+			data[j + 40] = v42 >>> 40 | v43 << 20;
+			data[j + 41] = v43 >>> 44 | v44 << 16;
+			data[j + 42] = v44 >>> 48 | v45 << 12;
+			data[j + 43] = v45 >>> 52 | v46 << 8;
+			data[j + 44] = v46 >>> 56 | v47 << 4;
+			data[j + 45] = v48 | v49 << 60;
+			data[j + 46] = v49 >>> 4 | v50 << 56;
+			data[j + 47] = v50 >>> 8 | v51 << 52;
+			data[j + 48] = v51 >>> 12 | v52 << 48;
+			data[j + 49] = v52 >>> 16 | v53 << 44;
+			data[j + 50] = v53 >>> 20 | v54 << 40;
+			data[j + 51] = v54 >>> 24 | v55 << 36;
+			data[j + 52] = v55 >>> 28 | v56 << 32;
+			data[j + 53] = v56 >>> 32 | v57 << 28;
+			data[j + 54] = v57 >>> 36 | v58 << 24;
+			data[j + 55] = v58 >>> 40 | v59 << 20;
+			data[j + 56] = v59 >>> 44 | v60 << 16;
+			data[j + 57] = v60 >>> 48 | v61 << 12;
+			data[j + 58] = v61 >>> 52 | v62 << 8;
+			data[j + 59] = v62 >>> 56 | v63 << 4;
+		}
+	}
+
+	private static void decode61(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 61, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x1FFFFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 61 | w1 << 3) & 0x1FFFFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 58 | w2 << 6) & 0x1FFFFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 55 | w3 << 9) & 0x1FFFFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 52 | w4 << 12) & 0x1FFFFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 5] = (w4 >>> 49 | w5 << 15) & 0x1FFFFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 6] = (w5 >>> 46 | w6 << 18) & 0x1FFFFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 7] = (w6 >>> 43 | w7 << 21) & 0x1FFFFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 8] = (w7 >>> 40 | w8 << 24) & 0x1FFFFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 9] = (w8 >>> 37 | w9 << 27) & 0x1FFFFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 10] = (w9 >>> 34 | w10 << 30) & 0x1FFFFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 11] = (w10 >>> 31 | w11 << 33) & 0x1FFFFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 12] = (w11 >>> 28 | w12 << 36) & 0x1FFFFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 13] = (w12 >>> 25 | w13 << 39) & 0x1FFFFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 14] = (w13 >>> 22 | w14 << 42) & 0x1FFFFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 15] = (w14 >>> 19 | w15 << 45) & 0x1FFFFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 16] = (w15 >>> 16 | w16 << 48) & 0x1FFFFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 17] = (w16 >>> 13 | w17 << 51) & 0x1FFFFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 18] = (w17 >>> 10 | w18 << 54) & 0x1FFFFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 19] = (w18 >>> 7 | w19 << 57) & 0x1FFFFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 20] = (w19 >>> 4 | w20 << 60) & 0x1FFFFFFFFFFFFFFFL;
+			dest[off + 21] = w20 >>> 1 & 0x1FFFFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 22] = (w20 >>> 62 | w21 << 2) & 0x1FFFFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 23] = (w21 >>> 59 | w22 << 5) & 0x1FFFFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 24] = (w22 >>> 56 | w23 << 8) & 0x1FFFFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 25] = (w23 >>> 53 | w24 << 11) & 0x1FFFFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 26] = (w24 >>> 50 | w25 << 14) & 0x1FFFFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 27] = (w25 >>> 47 | w26 << 17) & 0x1FFFFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 28] = (w26 >>> 44 | w27 << 20) & 0x1FFFFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 29] = (w27 >>> 41 | w28 << 23) & 0x1FFFFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 30] = (w28 >>> 38 | w29 << 26) & 0x1FFFFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 31] = (w29 >>> 35 | w30 << 29) & 0x1FFFFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 32] = (w30 >>> 32 | w31 << 32) & 0x1FFFFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 33] = (w31 >>> 29 | w32 << 35) & 0x1FFFFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 34] = (w32 >>> 26 | w33 << 38) & 0x1FFFFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 35] = (w33 >>> 23 | w34 << 41) & 0x1FFFFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 36] = (w34 >>> 20 | w35 << 44) & 0x1FFFFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 37] = (w35 >>> 17 | w36 << 47) & 0x1FFFFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 38] = (w36 >>> 14 | w37 << 50) & 0x1FFFFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 39] = (w37 >>> 11 | w38 << 53) & 0x1FFFFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 40] = (w38 >>> 8 | w39 << 56) & 0x1FFFFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 41] = (w39 >>> 5 | w40 << 59) & 0x1FFFFFFFFFFFFFFFL;
+			dest[off + 42] = w40 >>> 2 & 0x1FFFFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 43] = (w40 >>> 63 | w41 << 1) & 0x1FFFFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 44] = (w41 >>> 60 | w42 << 4) & 0x1FFFFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 45] = (w42 >>> 57 | w43 << 7) & 0x1FFFFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 46] = (w43 >>> 54 | w44 << 10) & 0x1FFFFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 47] = (w44 >>> 51 | w45 << 13) & 0x1FFFFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 48] = (w45 >>> 48 | w46 << 16) & 0x1FFFFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 49] = (w46 >>> 45 | w47 << 19) & 0x1FFFFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 50] = (w47 >>> 42 | w48 << 22) & 0x1FFFFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 51] = (w48 >>> 39 | w49 << 25) & 0x1FFFFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 52] = (w49 >>> 36 | w50 << 28) & 0x1FFFFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 53] = (w50 >>> 33 | w51 << 31) & 0x1FFFFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 54] = (w51 >>> 30 | w52 << 34) & 0x1FFFFFFFFFFFFFFFL;
+			final long w53 = data[j + 53];
+			dest[off + 55] = (w52 >>> 27 | w53 << 37) & 0x1FFFFFFFFFFFFFFFL;
+			final long w54 = data[j + 54];
+			dest[off + 56] = (w53 >>> 24 | w54 << 40) & 0x1FFFFFFFFFFFFFFFL;
+			final long w55 = data[j + 55];
+			dest[off + 57] = (w54 >>> 21 | w55 << 43) & 0x1FFFFFFFFFFFFFFFL;
+			final long w56 = data[j + 56];
+			dest[off + 58] = (w55 >>> 18 | w56 << 46) & 0x1FFFFFFFFFFFFFFFL;
+			final long w57 = data[j + 57];
+			dest[off + 59] = (w56 >>> 15 | w57 << 49) & 0x1FFFFFFFFFFFFFFFL;
+			final long w58 = data[j + 58];
+			dest[off + 60] = (w57 >>> 12 | w58 << 52) & 0x1FFFFFFFFFFFFFFFL;
+			final long w59 = data[j + 59];
+			dest[off + 61] = (w58 >>> 9 | w59 << 55) & 0x1FFFFFFFFFFFFFFFL;
+			final long w60 = data[j + 60];
+			dest[off + 62] = (w59 >>> 6 | w60 << 58) & 0x1FFFFFFFFFFFFFFFL;
+			dest[off + 63] = w60 >>> 3;
+		}
+	}
+
+	private static void encode61(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 61) {
+			final long v0 = src[off] & 0x1FFFFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 61;
+			data[j + 1] = v1 >>> 3 | v2 << 58;
+			data[j + 2] = v2 >>> 6 | v3 << 55;
+			data[j + 3] = v3 >>> 9 | v4 << 52;
+			data[j + 4] = v4 >>> 12 | v5 << 49;
+			data[j + 5] = v5 >>> 15 | v6 << 46;
+			data[j + 6] = v6 >>> 18 | v7 << 43;
+			data[j + 7] = v7 >>> 21 | v8 << 40;
+			data[j + 8] = v8 >>> 24 | v9 << 37;
+			data[j + 9] = v9 >>> 27 | v10 << 34;
+			data[j + 10] = v10 >>> 30 | v11 << 31;
+			data[j + 11] = v11 >>> 33 | v12 << 28;
+			data[j + 12] = v12 >>> 36 | v13 << 25;
+			data[j + 13] = v13 >>> 39 | v14 << 22;
+			data[j + 14] = v14 >>> 42 | v15 << 19;
+			data[j + 15] = v15 >>> 45 | v16 << 16;
+			data[j + 16] = v16 >>> 48 | v17 << 13;
+			data[j + 17] = v17 >>> 51 | v18 << 10;
+			data[j + 18] = v18 >>> 54 | v19 << 7;
+			data[j + 19] = v19 >>> 57 | v20 << 4;
+			data[j + 20] = v20 >>> 60 | v21 << 1 | v22 << 62;
+			data[j + 21] = v22 >>> 2 | v23 << 59;
+			data[j + 22] = v23 >>> 5 | v24 << 56;
+			data[j + 23] = v24 >>> 8 | v25 << 53;
+			data[j + 24] = v25 >>> 11 | v26 << 50;
+			data[j + 25] = v26 >>> 14 | v27 << 47;
+			data[j + 26] = v27 >>> 17 | v28 << 44;
+			data[j + 27] = v28 >>> 20 | v29 << 41;
+			data[j + 28] = v29 >>> 23 | v30 << 38;
+			data[j + 29] = v30 >>> 26 | v31 << 35;
+			data[j + 30] = v31 >>> 29 | v32 << 32;
+			data[j + 31] = v32 >>> 32 | v33 << 29;
+			data[j + 32] = v33 >>> 35 | v34 << 26;
+			data[j + 33] = v34 >>> 38 | v35 << 23;
+			data[j + 34] = v35 >>> 41 | v36 << 20;
+			data[j + 35] = v36 >>> 44 | v37 << 17;
+			data[j + 36] = v37 >>> 47 | v38 << 14;
+			data[j + 37] = v38 >>> 50 | v39 << 11;
+			data[j + 38] = v39 >>> 53 | v40 << 8;
+			data[j + 39] = v40 >>> 56 | v41 << 5;
+			data[j + 40] = v41 >>> 59 | v42 << 2 | v43 << 63;
+			data[j + 41] = v43 >>> 1 | v44 << 60;
+			data[j + 42] = v44 >>> 4 | v45 << 57;
+			data[j + 43] = v45 >>> 7 | v46 << 54;
+			data[j + 44] = v46 >>> 10 | v47 << 51;
+			data[j + 45] = v47 >>> 13 | v48 << 48;
+			data[j + 46] = v48 >>> 16 | v49 << 45;
+			data[j + 47] = v49 >>> 19 | v50 << 42;
+			data[j + 48] = v50 >>> 22 | v51 << 39;
+			data[j + 49] = v51 >>> 25 | v52 << 36;
+			data[j + 50] = v52 >>> 28 | v53 << 33;
+			data[j + 51] = v53 >>> 31 | v54 << 30;
+			data[j + 52] = v54 >>> 34 | v55 << 27;
+			data[j + 53] = v55 >>> 37 | v56 << 24;
+			data[j + 54] = v56 >>> 40 | v57 << 21;
+			data[j + 55] = v57 >>> 43 | v58 << 18;
+			data[j + 56] = v58 >>> 46 | v59 << 15;
+			data[j + 57] = v59 >>> 49 | v60 << 12;
+			data[j + 58] = v60 >>> 52 | v61 << 9;
+			data[j + 59] = v61 >>> 55 | v62 << 6;
+			data[j + 60] = v62 >>> 58 | v63 << 3;
+		}
+	}
+
+	private static void decode62(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 62, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x3FFFFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 62 | w1 << 2) & 0x3FFFFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 60 | w2 << 4) & 0x3FFFFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 58 | w3 << 6) & 0x3FFFFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 56 | w4 << 8) & 0x3FFFFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 5] = (w4 >>> 54 | w5 << 10) & 0x3FFFFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 6] = (w5 >>> 52 | w6 << 12) & 0x3FFFFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 7] = (w6 >>> 50 | w7 << 14) & 0x3FFFFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 8] = (w7 >>> 48 | w8 << 16) & 0x3FFFFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 9] = (w8 >>> 46 | w9 << 18) & 0x3FFFFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 10] = (w9 >>> 44 | w10 << 20) & 0x3FFFFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 11] = (w10 >>> 42 | w11 << 22) & 0x3FFFFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 12] = (w11 >>> 40 | w12 << 24) & 0x3FFFFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 13] = (w12 >>> 38 | w13 << 26) & 0x3FFFFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 14] = (w13 >>> 36 | w14 << 28) & 0x3FFFFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 15] = (w14 >>> 34 | w15 << 30) & 0x3FFFFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 16] = (w15 >>> 32 | w16 << 32) & 0x3FFFFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 17] = (w16 >>> 30 | w17 << 34) & 0x3FFFFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 18] = (w17 >>> 28 | w18 << 36) & 0x3FFFFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 19] = (w18 >>> 26 | w19 << 38) & 0x3FFFFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 20] = (w19 >>> 24 | w20 << 40) & 0x3FFFFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 21] = (w20 >>> 22 | w21 << 42) & 0x3FFFFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 22] = (w21 >>> 20 | w22 << 44) & 0x3FFFFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 23] = (w22 >>> 18 | w23 << 46) & 0x3FFFFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 24] = (w23 >>> 16 | w24 << 48) & 0x3FFFFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 25] = (w24 >>> 14 | w25 << 50) & 0x3FFFFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 26] = (w25 >>> 12 | w26 << 52) & 0x3FFFFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 27] = (w26 >>> 10 | w27 << 54) & 0x3FFFFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 28] = (w27 >>> 8 | w28 << 56) & 0x3FFFFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 29] = (w28 >>> 6 | w29 << 58) & 0x3FFFFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 30] = (w29 >>> 4 | w30 << 60) & 0x3FFFFFFFFFFFFFFFL;
+			dest[off + 31] = w30 >>> 2;
+			final long w31 = data[j + 31];
+			dest[off + 32] = w31 & 0x3FFFFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 33] = (w31 >>> 62 | w32 << 2) & 0x3FFFFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 34] = (w32 >>> 60 | w33 << 4) & 0x3FFFFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 35] = (w33 >>> 58 | w34 << 6) & 0x3FFFFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 36] = (w34 >>> 56 | w35 << 8) & 0x3FFFFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 37] = (w35 >>> 54 | w36 << 10) & 0x3FFFFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 38] = (w36 >>> 52 | w37 << 12) & 0x3FFFFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 39] = (w37 >>> 50 | w38 << 14) & 0x3FFFFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 40] = (w38 >>> 48 | w39 << 16) & 0x3FFFFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 41] = (w39 >>> 46 | w40 << 18) & 0x3FFFFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 42] = (w40 >>> 44 | w41 << 20) & 0x3FFFFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 43] = (w41 >>> 42 | w42 << 22) & 0x3FFFFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 44] = (w42 >>> 40 | w43 << 24) & 0x3FFFFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 45] = (w43 >>> 38 | w44 << 26) & 0x3FFFFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 46] = (w44 >>> 36 | w45 << 28) & 0x3FFFFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 47] = (w45 >>> 34 | w46 << 30) & 0x3FFFFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 48] = (w46 >>> 32 | w47 << 32) & 0x3FFFFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 49] = (w47 >>> 30 | w48 << 34) & 0x3FFFFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 50] = (w48 >>> 28 | w49 << 36) & 0x3FFFFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 51] = (w49 >>> 26 | w50 << 38) & 0x3FFFFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 52] = (w50 >>> 24 | w51 << 40) & 0x3FFFFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 53] = (w51 >>> 22 | w52 << 42) & 0x3FFFFFFFFFFFFFFFL;
+			final long w53 = data[j + 53];
+			dest[off + 54] = (w52 >>> 20 | w53 << 44) & 0x3FFFFFFFFFFFFFFFL;
+			final long w54 = data[j + 54];
+			dest[off + 55] = (w53 >>> 18 | w54 << 46) & 0x3FFFFFFFFFFFFFFFL;
+			final long w55 = data[j + 55];
+			dest[off + 56] = (w54 >>> 16 | w55 << 48) & 0x3FFFFFFFFFFFFFFFL;
+			final long w56 = data[j + 56];
+			dest[off + 57] = (w55 >>> 14 | w56 << 50) & 0x3FFFFFFFFFFFFFFFL;
+			final long w57 = data[j + 57];
+			dest[off + 58] = (w56 >>> 12 | w57 << 52) & 0x3FFFFFFFFFFFFFFFL;
+			final long w58 = data[j + 58];
+			dest[off + 59] = (w57 >>> 10 | w58 << 54) & 0x3FFFFFFFFFFFFFFFL;
+			final long w59 = data[j + 59];
+			dest[off + 60] = (w58 >>> 8 | w59 << 56) & 0x3FFFFFFFFFFFFFFFL;
+			final long w60 = data[j + 60];
+			dest[off + 61] = (w59 >>> 6 | w60 << 58) & 0x3FFFFFFFFFFFFFFFL;
+			final long w61 = data[j + 61];
+			dest[off + 62] = (w60 >>> 4 | w61 << 60) & 0x3FFFFFFFFFFFFFFFL;
+			dest[off + 63] = w61 >>> 2;
+		}
+	}
+
+	private static void encode62(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 62) {
+			final long v0 = src[off] & 0x3FFFFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 62;
+			data[j + 1] = v1 >>> 2 | v2 << 60;
+			data[j + 2] = v2 >>> 4 | v3 << 58;
+			data[j + 3] = v3 >>> 6 | v4 << 56;
+			data[j + 4] = v4 >>> 8 | v5 << 54;
+			data[j + 5] = v5 >>> 10 | v6 << 52;
+			data[j + 6] = v6 >>> 12 | v7 << 50;
+			data[j + 7] = v7 >>> 14 | v8 << 48;
+			data[j + 8] = v8 >>> 16 | v9 << 46;
+			data[j + 9] = v9 >>> 18 | v10 << 44;
+			data[j + 10] = v10 >>> 20 | v11 << 42;
+			data[j + 11] = v11 >>> 22 | v12 << 40;
+			data[j + 12] = v12 >>> 24 | v13 << 38;
+			data[j + 13] = v13 >>> 26 | v14 << 36;
+			data[j + 14] = v14 >>> 28 | v15 << 34;
+			data[j + 15] = v15 >>> 30 | v16 << 32;
+			data[j + 16] = v16 >>> 32 | v17 << 30;
+			data[j + 17] = v17 >>> 34 | v18 << 28;
+			data[j + 18] = v18 >>> 36 | v19 << 26;
+			data[j + 19] = v19 >>> 38 | v20 << 24;
+			data[j + 20] = v20 >>> 40 | v21 << 22;
+			data[j + 21] = v21 >>> 42 | v22 << 20;
+			data[j + 22] = v22 >>> 44 | v23 << 18;
+			data[j + 23] = v23 >>> 46 | v24 << 16;
+			data[j + 24] = v24 >>> 48 | v25 << 14;
+			data[j + 25] = v25 >>> 50 | v26 << 12;
+			data[j + 26] = v26 >>> 52 | v27 << 10;
+			data[j + 27] = v27 >>> 54 | v28 << 8;
+			data[j + 28] = v28 >>> 56 | v29 << 6;
+			data[j + 29] = v29 >>> 58 | v30 << 4;
+			data[j + 30] = v30 >>> 60 | v31 << 2;
+			data[j + 31] = v32 | v33 << 62;
+			data[j + 32] = v33 >>> 2 | v34 << 60;
+			data[j + 33] = v34 >>> 4 | v35 << 58;
+			data[j + 34] = v35 >>> 6 | v36 << 56;
+			data[j + 35] = v36 >>> 8 | v37 << 54;
+			data[j + 36] = v37 >>> 10 | v38 << 52;
+			data[j + 37] = v38 >>> 12 | v39 << 50;
+			data[j + 38] = v39 >>> 14 | v40 << 48;
+			data[j + 39] = v40 >>> 16 | v41 << 46;
+			data[j + 40] = v41 >>> 18 | v42 << 44;
+			data[j + 41] = v42 >>> 20 | v43 << 42;
+			data[j + 42] = v43 >>> 22 | v44 << 40;
+			data[j + 43] = v44 >>> 24 | v45 << 38;
+			data[j + 44] = v45 >>> 26 | v46 << 36;
+			data[j + 45] = v46 >>> 28 | v47 << 34;
+			data[j + 46] = v47 >>> 30 | v48 << 32;
+			data[j + 47] = v48 >>> 32 | v49 << 30;
+			data[j + 48] = v49 >>> 34 | v50 << 28;
+			data[j + 49] = v50 >>> 36 | v51 << 26;
+			data[j + 50] = v51 >>> 38 | v52 << 24;
+			data[j + 51] = v52 >>> 40 | v53 << 22;
+			data[j + 52] = v53 >>> 42 | v54 << 20;
+			data[j + 53] = v54 >>> 44 | v55 << 18;
+			data[j + 54] = v55 >>> 46 | v56 << 16;
+			data[j + 55] = v56 >>> 48 | v57 << 14;
+			data[j + 56] = v57 >>> 50 | v58 << 12;
+			data[j + 57] = v58 >>> 52 | v59 << 10;
+			data[j + 58] = v59 >>> 54 | v60 << 8;
+			data[j + 59] = v60 >>> 56 | v61 << 6;
+			data[j + 60] = v61 >>> 58 | v62 << 4;
+			data[j + 61] = v62 >>> 60 | v63 << 2;
+		}
+	}
+
+	private static void decode63(long[] data, int j, long[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 63, off += 64) {
+			final long w0 = data[j];
+			dest[off] = w0 & 0x7FFFFFFFFFFFFFFFL;
+			final long w1 = data[j + 1];
+			dest[off + 1] = (w0 >>> 63 | w1 << 1) & 0x7FFFFFFFFFFFFFFFL;
+			final long w2 = data[j + 2];
+			dest[off + 2] = (w1 >>> 62 | w2 << 2) & 0x7FFFFFFFFFFFFFFFL;
+			final long w3 = data[j + 3];
+			dest[off + 3] = (w2 >>> 61 | w3 << 3) & 0x7FFFFFFFFFFFFFFFL;
+			final long w4 = data[j + 4];
+			dest[off + 4] = (w3 >>> 60 | w4 << 4) & 0x7FFFFFFFFFFFFFFFL;
+			final long w5 = data[j + 5];
+			dest[off + 5] = (w4 >>> 59 | w5 << 5) & 0x7FFFFFFFFFFFFFFFL;
+			final long w6 = data[j + 6];
+			dest[off + 6] = (w5 >>> 58 | w6 << 6) & 0x7FFFFFFFFFFFFFFFL;
+			final long w7 = data[j + 7];
+			dest[off + 7] = (w6 >>> 57 | w7 << 7) & 0x7FFFFFFFFFFFFFFFL;
+			final long w8 = data[j + 8];
+			dest[off + 8] = (w7 >>> 56 | w8 << 8) & 0x7FFFFFFFFFFFFFFFL;
+			final long w9 = data[j + 9];
+			dest[off + 9] = (w8 >>> 55 | w9 << 9) & 0x7FFFFFFFFFFFFFFFL;
+			final long w10 = data[j + 10];
+			dest[off + 10] = (w9 >>> 54 | w10 << 10) & 0x7FFFFFFFFFFFFFFFL;
+			final long w11 = data[j + 11];
+			dest[off + 11] = (w10 >>> 53 | w11 << 11) & 0x7FFFFFFFFFFFFFFFL;
+			final long w12 = data[j + 12];
+			dest[off + 12] = (w11 >>> 52 | w12 << 12) & 0x7FFFFFFFFFFFFFFFL;
+			final long w13 = data[j + 13];
+			dest[off + 13] = (w12 >>> 51 | w13 << 13) & 0x7FFFFFFFFFFFFFFFL;
+			final long w14 = data[j + 14];
+			dest[off + 14] = (w13 >>> 50 | w14 << 14) & 0x7FFFFFFFFFFFFFFFL;
+			final long w15 = data[j + 15];
+			dest[off + 15] = (w14 >>> 49 | w15 << 15) & 0x7FFFFFFFFFFFFFFFL;
+			final long w16 = data[j + 16];
+			dest[off + 16] = (w15 >>> 48 | w16 << 16) & 0x7FFFFFFFFFFFFFFFL;
+			final long w17 = data[j + 17];
+			dest[off + 17] = (w16 >>> 47 | w17 << 17) & 0x7FFFFFFFFFFFFFFFL;
+			final long w18 = data[j + 18];
+			dest[off + 18] = (w17 >>> 46 | w18 << 18) & 0x7FFFFFFFFFFFFFFFL;
+			final long w19 = data[j + 19];
+			dest[off + 19] = (w18 >>> 45 | w19 << 19) & 0x7FFFFFFFFFFFFFFFL;
+			final long w20 = data[j + 20];
+			dest[off + 20] = (w19 >>> 44 | w20 << 20) & 0x7FFFFFFFFFFFFFFFL;
+			final long w21 = data[j + 21];
+			dest[off + 21] = (w20 >>> 43 | w21 << 21) & 0x7FFFFFFFFFFFFFFFL;
+			final long w22 = data[j + 22];
+			dest[off + 22] = (w21 >>> 42 | w22 << 22) & 0x7FFFFFFFFFFFFFFFL;
+			final long w23 = data[j + 23];
+			dest[off + 23] = (w22 >>> 41 | w23 << 23) & 0x7FFFFFFFFFFFFFFFL;
+			final long w24 = data[j + 24];
+			dest[off + 24] = (w23 >>> 40 | w24 << 24) & 0x7FFFFFFFFFFFFFFFL;
+			final long w25 = data[j + 25];
+			dest[off + 25] = (w24 >>> 39 | w25 << 25) & 0x7FFFFFFFFFFFFFFFL;
+			final long w26 = data[j + 26];
+			dest[off + 26] = (w25 >>> 38 | w26 << 26) & 0x7FFFFFFFFFFFFFFFL;
+			final long w27 = data[j + 27];
+			dest[off + 27] = (w26 >>> 37 | w27 << 27) & 0x7FFFFFFFFFFFFFFFL;
+			final long w28 = data[j + 28];
+			dest[off + 28] = (w27 >>> 36 | w28 << 28) & 0x7FFFFFFFFFFFFFFFL;
+			final long w29 = data[j + 29];
+			dest[off + 29] = (w28 >>> 35 | w29 << 29) & 0x7FFFFFFFFFFFFFFFL;
+			final long w30 = data[j + 30];
+			dest[off + 30] = (w29 >>> 34 | w30 << 30) & 0x7FFFFFFFFFFFFFFFL;
+			final long w31 = data[j + 31];
+			dest[off + 31] = (w30 >>> 33 | w31 << 31) & 0x7FFFFFFFFFFFFFFFL;
+			final long w32 = data[j + 32];
+			dest[off + 32] = (w31 >>> 32 | w32 << 32) & 0x7FFFFFFFFFFFFFFFL;
+			final long w33 = data[j + 33];
+			dest[off + 33] = (w32 >>> 31 | w33 << 33) & 0x7FFFFFFFFFFFFFFFL;
+			final long w34 = data[j + 34];
+			dest[off + 34] = (w33 >>> 30 | w34 << 34) & 0x7FFFFFFFFFFFFFFFL;
+			final long w35 = data[j + 35];
+			dest[off + 35] = (w34 >>> 29 | w35 << 35) & 0x7FFFFFFFFFFFFFFFL;
+			final long w36 = data[j + 36];
+			dest[off + 36] = (w35 >>> 28 | w36 << 36) & 0x7FFFFFFFFFFFFFFFL;
+			final long w37 = data[j + 37];
+			dest[off + 37] = (w36 >>> 27 | w37 << 37) & 0x7FFFFFFFFFFFFFFFL;
+			final long w38 = data[j + 38];
+			dest[off + 38] = (w37 >>> 26 | w38 << 38) & 0x7FFFFFFFFFFFFFFFL;
+			final long w39 = data[j + 39];
+			dest[off + 39] = (w38 >>> 25 | w39 << 39) & 0x7FFFFFFFFFFFFFFFL;
+			final long w40 = data[j + 40];
+			dest[off + 40] = (w39 >>> 24 | w40 << 40) & 0x7FFFFFFFFFFFFFFFL;
+			final long w41 = data[j + 41];
+			dest[off + 41] = (w40 >>> 23 | w41 << 41) & 0x7FFFFFFFFFFFFFFFL;
+			final long w42 = data[j + 42];
+			dest[off + 42] = (w41 >>> 22 | w42 << 42) & 0x7FFFFFFFFFFFFFFFL;
+			final long w43 = data[j + 43];
+			dest[off + 43] = (w42 >>> 21 | w43 << 43) & 0x7FFFFFFFFFFFFFFFL;
+			final long w44 = data[j + 44];
+			dest[off + 44] = (w43 >>> 20 | w44 << 44) & 0x7FFFFFFFFFFFFFFFL;
+			final long w45 = data[j + 45];
+			dest[off + 45] = (w44 >>> 19 | w45 << 45) & 0x7FFFFFFFFFFFFFFFL;
+			final long w46 = data[j + 46];
+			dest[off + 46] = (w45 >>> 18 | w46 << 46) & 0x7FFFFFFFFFFFFFFFL;
+			final long w47 = data[j + 47];
+			dest[off + 47] = (w46 >>> 17 | w47 << 47) & 0x7FFFFFFFFFFFFFFFL;
+			final long w48 = data[j + 48];
+			dest[off + 48] = (w47 >>> 16 | w48 << 48) & 0x7FFFFFFFFFFFFFFFL;
+			final long w49 = data[j + 49];
+			dest[off + 49] = (w48 >>> 15 | w49 << 49) & 0x7FFFFFFFFFFFFFFFL;
+			final long w50 = data[j + 50];
+			dest[off + 50] = (w49 >>> 14 | w50 << 50) & 0x7FFFFFFFFFFFFFFFL;
+			final long w51 = data[j + 51];
+			dest[off + 51] = (w50 >>> 13 | w51 << 51) & 0x7FFFFFFFFFFFFFFFL;
+			final long w52 = data[j + 52];
+			dest[off + 52] = (w51 >>> 12 | w52 << 52) & 0x7FFFFFFFFFFFFFFFL;
+			final long w53 = data[j + 53];
+			dest[off + 53] = (w52 >>> 11 | w53 << 53) & 0x7FFFFFFFFFFFFFFFL;
+			final long w54 = data[j + 54];
+			dest[off + 54] = (w53 >>> 10 | w54 << 54) & 0x7FFFFFFFFFFFFFFFL;
+			final long w55 = data[j + 55];
+			dest[off + 55] = (w54 >>> 9 | w55 << 55) & 0x7FFFFFFFFFFFFFFFL;
+			final long w56 = data[j + 56];
+			dest[off + 56] = (w55 >>> 8 | w56 << 56) & 0x7FFFFFFFFFFFFFFFL;
+			final long w57 = data[j + 57];
+			dest[off + 57] = (w56 >>> 7 | w57 << 57) & 0x7FFFFFFFFFFFFFFFL;
+			final long w58 = data[j + 58];
+			dest[off + 58] = (w57 >>> 6 | w58 << 58) & 0x7FFFFFFFFFFFFFFFL;
+			final long w59 = data[j + 59];
+			dest[off + 59] = (w58 >>> 5 | w59 << 59) & 0x7FFFFFFFFFFFFFFFL;
+			final long w60 = data[j + 60];
+			dest[off + 60] = (w59 >>> 4 | w60 << 60) & 0x7FFFFFFFFFFFFFFFL;
+			final long w61 = data[j + 61];
+			dest[off + 61] = (w60 >>> 3 | w61 << 61) & 0x7FFFFFFFFFFFFFFFL;
+			final long w62 = data[j + 62];
+			dest[off + 62] = (w61 >>> 2 | w62 << 62) & 0x7FFFFFFFFFFFFFFFL;
+			dest[off + 63] = w62 >>> 1;
+		}
+	}
+
+	private static void encode63(long[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 63) {
+			final long v0 = src[off] & 0x7FFFFFFFFFFFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFFFFFFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFFFFFFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFFFFFFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFFFFFFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFFFFFFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFFFFFFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFFFFFFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFFFFFFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFFFFFFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFFFFFFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFFFFFFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFFFFFFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFFFFFFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFFFFFFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFFFFFFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFFFFFFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFFFFFFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFFFFFFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFFFFFFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFFFFFFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFFFFFFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFFFFFFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFFFFFFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFFFFFFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFFFFFFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFFFFFFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFFFFFFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFFFFFFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFFFFFFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFFFFFFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFFFFFFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFFFFFFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFFFFFFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFFFFFFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFFFFFFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFFFFFFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFFFFFFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFFFFFFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFFFFFFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFFFFFFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFFFFFFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFFFFFFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFFFFFFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFFFFFFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFFFFFFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFFFFFFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFFFFFFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFFFFFFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFFFFFFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFFFFFFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFFFFFFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFFFFFFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFFFFFFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFFFFFFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFFFFFFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFFFFFFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFFFFFFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFFFFFFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFFFFFFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFFFFFFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFFFFFFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFFFFFFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFFFFFFFFFFL;
+			data[j] = v0 | v1 << 63;
+			data[j + 1] = v1 >>> 1 | v2 << 62;
+			data[j + 2] = v2 >>> 2 | v3 << 61;
+			data[j + 3] = v3 >>> 3 | v4 << 60;
+			data[j + 4] = v4 >>> 4 | v5 << 59;
+			data[j + 5] = v5 >>> 5 | v6 << 58;
+			data[j + 6] = v6 >>> 6 | v7 << 57;
+			data[j + 7] = v7 >>> 7 | v8 << 56;
+			data[j + 8] = v8 >>> 8 | v9 << 55;
+			data[j + 9] = v9 >>> 9 | v10 << 54;
+			data[j + 10] = v10 >>> 10 | v11 << 53;
+			data[j + 11] = v11 >>> 11 | v12 << 52;
+			data[j + 12] = v12 >>> 12 | v13 << 51;
+			data[j + 13] = v13 >>> 13 | v14 << 50;
+			data[j + 14] = v14 >>> 14 | v15 << 49;
+			data[j + 15] = v15 >>> 15 | v16 << 48;
+			data[j + 16] = v16 >>> 16 | v17 << 47;
+			data[j + 17] = v17 >>> 17 | v18 << 46;
+			data[j + 18] = v18 >>> 18 | v19 << 45;
+			data[j + 19] = v19 >>> 19 | v20 << 44;
+			data[j + 20] = v20 >>> 20 | v21 << 43;
+			data[j + 21] = v21 >>> 21 | v22 << 42;
+			data[j + 22] = v22 >>> 22 | v23 << 41;
+			data[j + 23] = v23 >>> 23 | v24 << 40;
+			data[j + 24] = v24 >>> 24 | v25 << 39;
+			data[j + 25] = v25 >>> 25 | v26 << 38;
+			data[j + 26] = v26 >>> 26 | v27 << 37;
+			data[j + 27] = v27 >>> 27 | v28 << 36;
+			data[j + 28] = v28 >>> 28 | v29 << 35;
+			data[j + 29] = v29 >>> 29 | v30 << 34;
+			data[j + 30] = v30 >>> 30 | v31 << 33;
+			data[j + 31] = v31 >>> 31 | v32 << 32;
+			data[j + 32] = v32 >>> 32 | v33 << 31;
+			data[j + 33] = v33 >>> 33 | v34 << 30;
+			data[j + 34] = v34 >>> 34 | v35 << 29;
+			data[j + 35] = v35 >>> 35 | v36 << 28;
+			data[j + 36] = v36 >>> 36 | v37 << 27;
+			data[j + 37] = v37 >>> 37 | v38 << 26;
+			data[j + 38] = v38 >>> 38 | v39 << 25;
+			data[j + 39] = v39 >>> 39 | v40 << 24;
+			data[j + 40] = v40 >>> 40 | v41 << 23;
+			data[j + 41] = v41 >>> 41 | v42 << 22;
+			data[j + 42] = v42 >>> 42 | v43 << 21;
+			data[j + 43] = v43 >>> 43 | v44 << 20;
+			data[j + 44] = v44 >>> 44 | v45 << 19;
+			data[j + 45] = v45 >>> 45 | v46 << 18;
+			data[j + 46] = v46 >>> 46 | v47 << 17;
+			data[j + 47] = v47 >>> 47 | v48 << 16;
+			data[j + 48] = v48 >>> 48 | v49 << 15;
+			data[j + 49] = v49 >>> 49 | v50 << 14;
+			data[j + 50] = v50 >>> 50 | v51 << 13;
+			data[j + 51] = v51 >>> 51 | v52 << 12;
+			data[j + 52] = v52 >>> 52 | v53 << 11;
+			data[j + 53] = v53 >>> 53 | v54 << 10;
+			data[j + 54] = v54 >>> 54 | v55 << 9;
+			data[j + 55] = v55 >>> 55 | v56 << 8;
+			data[j + 56] = v56 >>> 56 | v57 << 7;
+			data[j + 57] = v57 >>> 57 | v58 << 6;
+			data[j + 58] = v58 >>> 58 | v59 << 5;
+			data[j + 59] = v59 >>> 59 | v60 << 4;
+			data[j + 60] = v60 >>> 60 | v61 << 3;
+			data[j + 61] = v61 >>> 61 | v62 << 2;
+			data[j + 62] = v62 >>> 62 | v63 << 1;
+		}
+	}
+
+	/********** int[] values **********/
+
+	private static void decode1(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 1, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x1L);
+			dest[off + 1] = (int) (w0 >>> 1 & 0x1L);
+			dest[off + 2] = (int) (w0 >>> 2 & 0x1L);
+			dest[off + 3] = (int) (w0 >>> 3 & 0x1L);
+			dest[off + 4] = (int) (w0 >>> 4 & 0x1L);
+			dest[off + 5] = (int) (w0 >>> 5 & 0x1L);
+			dest[off + 6] = (int) (w0 >>> 6 & 0x1L);
+			dest[off + 7] = (int) (w0 >>> 7 & 0x1L);
+			dest[off + 8] = (int) (w0 >>> 8 & 0x1L);
+			dest[off + 9] = (int) (w0 >>> 9 & 0x1L);
+			dest[off + 10] = (int) (w0 >>> 10 & 0x1L);
+			dest[off + 11] = (int) (w0 >>> 11 & 0x1L);
+			dest[off + 12] = (int) (w0 >>> 12 & 0x1L);
+			dest[off + 13] = (int) (w0 >>> 13 & 0x1L);
+			dest[off + 14] = (int) (w0 >>> 14 & 0x1L);
+			dest[off + 15] = (int) (w0 >>> 15 & 0x1L);
+			dest[off + 16] = (int) (w0 >>> 16 & 0x1L);
+			dest[off + 17] = (int) (w0 >>> 17 & 0x1L);
+			dest[off + 18] = (int) (w0 >>> 18 & 0x1L);
+			dest[off + 19] = (int) (w0 >>> 19 & 0x1L);
+			dest[off + 20] = (int) (w0 >>> 20 & 0x1L);
+			dest[off + 21] = (int) (w0 >>> 21 & 0x1L);
+			dest[off + 22] = (int) (w0 >>> 22 & 0x1L);
+			dest[off + 23] = (int) (w0 >>> 23 & 0x1L);
+			dest[off + 24] = (int) (w0 >>> 24 & 0x1L);
+			dest[off + 25] = (int) (w0 >>> 25 & 0x1L);
+			dest[off + 26] = (int) (w0 >>> 26 & 0x1L);
+			dest[off + 27] = (int) (w0 >>> 27 & 0x1L);
+			dest[off + 28] = (int) (w0 >>> 28 & 0x1L);
+			dest[off + 29] = (int) (w0 >>> 29 & 0x1L);
+			dest[off + 30] = (int) (w0 >>> 30 & 0x1L);
+			dest[off + 31] = (int) (w0 >>> 31 & 0x1L);
+			dest[off + 32] = (int) (w0 >>> 32 & 0x1L);
+			dest[off + 33] = (int) (w0 >>> 33 & 0x1L);
+			dest[off + 34] = (int) (w0 >>> 34 & 0x1L);
+			dest[off + 35] = (int) (w0 >>> 35 & 0x1L);
+			dest[off + 36] = (int) (w0 >>> 36 & 0x1L);
+			dest[off + 37] = (int) (w0 >>> 37 & 0x1L);
+			dest[off + 38] = (int) (w0 >>> 38 & 0x1L);
+			dest[off + 39] = (int) (w0 >>> 39 & 0x1L);
+			dest[off + 40] = (int) (w0 >>> 40 & 0x1L);
+			dest[off + 41] = (int) (w0 >>> 41 & 0x1L);
+			dest[off + 42] = (int) (w0 >>> 42 & 0x1L);
+			dest[off + 43] = (int) (w0 >>> 43 & 0x1L);
+			dest[off + 44] = (int) (w0 >>> 44 & 0x1L);
+			dest[off + 45] = (int) (w0 >>> 45 & 0x1L);
+			dest[off + 46] = (int) (w0 >>> 46 & 0x1L);
+			dest[off + 47] = (int) (w0 >>> 47 & 0x1L);
+			dest[off + 48] = (int) (w0 >>> 48 & 0x1L);
+			dest[off + 49] = (int) (w0 >>> 49 & 0x1L);
+			dest[off + 50] = (int) (w0 >>> 50 & 0x1L);
+			dest[off + 51] = (int) (w0 >>> 51 & 0x1L);
+			dest[off + 52] = (int) (w0 >>> 52 & 0x1L);
+			dest[off + 53] = (int) (w0 >>> 53 & 0x1L);
+			dest[off + 54] = (int) (w0 >>> 54 & 0x1L);
+			dest[off + 55] = (int) (w0 >>> 55 & 0x1L);
+			dest[off + 56] = (int) (w0 >>> 56 & 0x1L);
+			dest[off + 57] = (int) (w0 >>> 57 & 0x1L);
+			dest[off + 58] = (int) (w0 >>> 58 & 0x1L);
+			dest[off + 59] = (int) (w0 >>> 59 & 0x1L);
+			dest[off + 60] = (int) (w0 >>> 60 & 0x1L);
+			dest[off + 61] = (int) (w0 >>> 61 & 0x1L);
+			dest[off + 62] = (int) (w0 >>> 62 & 0x1L);
+			dest[off + 63] = (int) (w0 >>> 63);
+		}
+	}
+
+	private static void encode1(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 1) {
+			final long v0 = src[off] & 0x1L;
+			final long v1 = src[off + 1] & 0x1L;
+			final long v2 = src[off + 2] & 0x1L;
+			final long v3 = src[off + 3] & 0x1L;
+			final long v4 = src[off + 4] & 0x1L;
+			final long v5 = src[off + 5] & 0x1L;
+			final long v6 = src[off + 6] & 0x1L;
+			final long v7 = src[off + 7] & 0x1L;
+			final long v8 = src[off + 8] & 0x1L;
+			final long v9 = src[off + 9] & 0x1L;
+			final long v10 = src[off + 10] & 0x1L;
+			final long v11 = src[off + 11] & 0x1L;
+			final long v12 = src[off + 12] & 0x1L;
+			final long v13 = src[off + 13] & 0x1L;
+			final long v14 = src[off + 14] & 0x1L;
+			final long v15 = src[off + 15] & 0x1L;
+			final long v16 = src[off + 16] & 0x1L;
+			final long v17 = src[off + 17] & 0x1L;
+			final long v18 = src[off + 18] & 0x1L;
+			final long v19 = src[off + 19] & 0x1L;
+			final long v20 = src[off + 20] & 0x1L;
+			final long v21 = src[off + 21] & 0x1L;
+			final long v22 = src[off + 22] & 0x1L;
+			final long v23 = src[off + 23] & 0x1L;
+			final long v24 = src[off + 24] & 0x1L;
+			final long v25 = src[off + 25] & 0x1L;
+			final long v26 = src[off + 26] & 0x1L;
+			final long v27 = src[off + 27] & 0x1L;
+			final long v28 = src[off + 28] & 0x1L;
+			final long v29 = src[off + 29] & 0x1L;
+			final long v30 = src[off + 30] & 0x1L;
+			final long v31 = src[off + 31] & 0x1L;
+			final long v32 = src[off + 32] & 0x1L;
+			final long v33 = src[off + 33] & 0x1L;
+			final long v34 = src[off + 34] & 0x1L;
+			final long v35 = src[off + 35] & 0x1L;
+			final long v36 = src[off + 36] & 0x1L;
+			final long v37 = src[off + 37] & 0x1L;
+			final long v38 = src[off + 38] & 0x1L;
+			final long v39 = src[off + 39] & 0x1L;
+			final long v40 = src[off + 40] & 0x1L;
+			final long v41 = src[off + 41] & 0x1L;
+			final long v42 = src[off + 42] & 0x1L;
+			final long v43 = src[off + 43] & 0x1L;
+			final long v44 = src[off + 44] & 0x1L;
+			final long v45 = src[off + 45] & 0x1L;
+			final long v46 = src[off + 46] & 0x1L;
+			final long v47 = src[off + 47] & 0x1L;
+			final long v48 = src[off + 48] & 0x1L;
+			final long v49 = src[off + 49] & 0x1L;
+			final long v50 = src[off + 50] & 0x1L;
+			final long v51 = src[off + 51] & 0x1L;
+			final long v52 = src[off + 52] & 0x1L;
+			final long v53 = src[off + 53] & 0x1L;
+			final long v54 = src[off + 54] & 0x1L;
+			final long v55 = src[off + 55] & 0x1L;
+			final long v56 = src[off + 56] & 0x1L;
+			final long v57 = src[off + 57] & 0x1L;
+			final long v58 = src[off + 58] & 0x1L;
+			final long v59 = src[off + 59] & 0x1L;
+			final long v60 = src[off + 60] & 0x1L;
+			final long v61 = src[off + 61] & 0x1L;
+			final long v62 = src[off + 62] & 0x1L;
+			final long v63 = src[off + 63] & 0x1L;
+			data[j] = v0 | v1 << 1 | v2 << 2 | v3 << 3 | v4 << 4 | v5 << 5
+					| v6 << 6 | v7 << 7 | v8 << 8 | v9 << 9 | v10 << 10
+					| v11 << 11 | v12 << 12 | v13 << 13 | v14 << 14 | v15 << 15
+					| v16 << 16 | v17 << 17 | v18 << 18 | v19 << 19 | v20 << 20
+					| v21 << 21 | v22 << 22 | v23 << 23 | v24 << 24 | v25 << 25
+					| v26 << 26 | v27 << 27 | v28 << 28 | v29 << 29 | v30 << 30
+					| v31 << 31 | v32 << 32 | v33 << 33 | v34 << 34 | v35 << 35
+					| v36 << 36 | v37 << 37 | v38 << 38 | v39 << 39 | v40 << 40
+					| v41 << 41 | v42 << 42 | v43 << 43 | v44 << 44 | v45 << 45
+					| v46 << 46 | v47 << 47 | v48 << 48 | v49 << 49 | v50 << 50
+					| v51 << 51 | v52 << 52 | v53 << 53 | v54 << 54 | v55 << 55
+					| v56 << 56 | v57 << 57 | v58 << 58 | v59 << 59 | v60 << 60
+					| v61 << 61 | v62 << 62 | v63 << 63;
+		}
+	}
+
+	private static void decode2(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 2, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x3L);
+			dest[off + 1] = (int) (w0 >>> 2 & 0x3L);
+			dest[off + 2] = (int) (w0 >>> 4 & 0x3L);
+			dest[off + 3] = (int) (w0 >>> 6 & 0x3L);
+			dest[off + 4] = (int) (w0 >>> 8 & 0x3L);
+			dest[off + 5] = (int) (w0 >>> 10 & 0x3L);
+			dest[off + 6] = (int) (w0 >>> 12 & 0x3L);
+			dest[off + 7] = (int) (w0 >>> 14 & 0x3L);
+			dest[off + 8] = (int) (w0 >>> 16 & 0x3L);
+			dest[off + 9] = (int) (w0 >>> 18 & 0x3L);
+			dest[off + 10] = (int) (w0 >>> 20 & 0x3L);
+			dest[off + 11] = (int) (w0 >>> 22 & 0x3L);
+			dest[off + 12] = (int) (w0 >>> 24 & 0x3L);
+			dest[off + 13] = (int) (w0 >>> 26 & 0x3L);
+			dest[off + 14] = (int) (w0 >>> 28 & 0x3L);
+			dest[off + 15] = (int) (w0 >>> 30 & 0x3L);
+			dest[off + 16] = (int) (w0 >>> 32 & 0x3L);
+			dest[off + 17] = (int) (w0 >>> 34 & 0x3L);
+			dest[off + 18] = (int) (w0 >>> 36 & 0x3L);
+			dest[off + 19] = (int) (w0 >>> 38 & 0x3L);
+			dest[off + 20] = (int) (w0 >>> 40 & 0x3L);
+			dest[off + 21] = (int) (w0 >>> 42 & 0x3L);
+			dest[off + 22] = (int) (w0 >>> 44 & 0x3L);
+			dest[off + 23] = (int) (w0 >>> 46 & 0x3L);
+			dest[off + 24] = (int) (w0 >>> 48 & 0x3L);
+			dest[off + 25] = (int) (w0 >>> 50 & 0x3L);
+			dest[off + 26] = (int) (w0 >>> 52 & 0x3L);
+			dest[off + 27] = (int) (w0 >>> 54 & 0x3L);
+			dest[off + 28] = (int) (w0 >>> 56 & 0x3L);
+			dest[off + 29] = (int) (w0 >>> 58 & 0x3L);
+			dest[off + 30] = (int) (w0 >>> 60 & 0x3L);
+			dest[off + 31] = (int) (w0 >>> 62);
+			final long w1 = data[j + 1];
+			dest[off + 32] = (int) (w1 & 0x3L);
+			dest[off + 33] = (int) (w1 >>> 2 & 0x3L);
+			dest[off + 34] = (int) (w1 >>> 4 & 0x3L);
+			dest[off + 35] = (int) (w1 >>> 6 & 0x3L);
+			dest[off + 36] = (int) (w1 >>> 8 & 0x3L);
+			dest[off + 37] = (int) (w1 >>> 10 & 0x3L);
+			dest[off + 38] = (int) (w1 >>> 12 & 0x3L);
+			dest[off + 39] = (int) (w1 >>> 14 & 0x3L);
+			dest[off + 40] = (int) (w1 >>> 16 & 0x3L);
+			dest[off + 41] = (int) (w1 >>> 18 & 0x3L);
+			dest[off + 42] = (int) (w1 >>> 20 & 0x3L);
+			dest[off + 43] = (int) (w1 >>> 22 & 0x3L);
+			dest[off + 44] = (int) (w1 >>> 24 & 0x3L);
+			dest[off + 45] = (int) (w1 >>> 26 & 0x3L);
+			dest[off + 46] = (int) (w1 >>> 28 & 0x3L);
+			dest[off + 47] = (int) (w1 >>> 30 & 0x3L);
+			dest[off + 48] = (int) (w1 >>> 32 & 0x3L);
+			dest[off + 49] = (int) (w1 >>> 34 & 0x3L);
+			dest[off + 50] = (int) (w1 >>> 36 & 0x3L);
+			dest[off + 51] = (int) (w1 >>> 38 & 0x3L);
+			dest[off + 52] = (int) (w1 >>> 40 & 0x3L);
+			dest[off + 53] = (int) (w1 >>> 42 & 0x3L);
+			dest[off + 54] = (int) (w1 >>> 44 & 0x3L);
+			dest[off + 55] = (int) (w1 >>> 46 & 0x3L);
+			dest[off + 56] = (int) (w1 >>> 48 & 0x3L);
+			dest[off + 57] = (int) (w1 >>> 50 & 0x3L);
+			dest[off + 58] = (int) (w1 >>> 52 & 0x3L);
+			dest[off + 59] = (int) (w1 >>> 54 & 0x3L);
+			dest[off + 60] = (int) (w1 >>> 56 & 0x3L);
+			dest[off + 61] = (int) (w1 >>> 58 & 0x3L);
+			dest[off + 62] = (int) (w1 >>> 60 & 0x3L);
+			dest[off + 63] = (int) (w1 >>> 62);
+		}
+	}
+
+	private static void encode2(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 2) {
+			final long v0 = src[off] & 0x3L;
+			final long v1 = src[off + 1] & 0x3L;
+			final long v2 = src[off + 2] & 0x3L;
+			final long v3 = src[off + 3] & 0x3L;
+			final long v4 = src[off + 4] & 0x3L;
+			final long v5 = src[off + 5] & 0x3L;
+			final long v6 = src[off + 6] & 0x3L;
+			final long v7 = src[off + 7] & 0x3L;
+			final long v8 = src[off + 8] & 0x3L;
+			final long v9 = src[off + 9] & 0x3L;
+			final long v10 = src[off + 10] & 0x3L;
+			final long v11 = src[off + 11] & 0x3L;
+			final long v12 = src[off + 12] & 0x3L;
+			final long v13 = src[off + 13] & 0x3L;
+			final long v14 = src[off + 14] & 0x3L;
+			final long v15 = src[off + 15] & 0x3L;
+			final long v16 = src[off + 16] & 0x3L;
+			final long v17 = src[off + 17] & 0x3L;
+			final long v18 = src[off + 18] & 0x3L;
+			final long v19 = src[off + 19] & 0x3L;
+			final long v20 = src[off + 20] & 0x3L;
+			final long v21 = src[off + 21] & 0x3L;
+			final long v22 = src[off + 22] & 0x3L;
+			final long v23 = src[off + 23] & 0x3L;
+			final long v24 = src[off + 24] & 0x3L;
+			final long v25 = src[off + 25] & 0x3L;
+			final long v26 = src[off + 26] & 0x3L;
+			final long v27 = src[off + 27] & 0x3L;
+			final long v28 = src[off + 28] & 0x3L;
+			final long v29 = src[off + 29] & 0x3L;
+			final long v30 = src[off + 30] & 0x3L;
+			final long v31 = src[off + 31] & 0x3L;
+			final long v32 = src[off + 32] & 0x3L;
+			final long v33 = src[off + 33] & 0x3L;
+			final long v34 = src[off + 34] & 0x3L;
+			final long v35 = src[off + 35] & 0x3L;
+			final long v36 = src[off + 36] & 0x3L;
+			final long v37 = src[off + 37] & 0x3L;
+			final long v38 = src[off + 38] & 0x3L;
+			final long v39 = src[off + 39] & 0x3L;
+			final long v40 = src[off + 40] & 0x3L;
+			final long v41 = src[off + 41] & 0x3L;
+			final long v42 = src[off + 42] & 0x3L;
+			final long v43 = src[off + 43] & 0x3L;
+			final long v44 = src[off + 44] & 0x3L;
+			final long v45 = src[off + 45] & 0x3L;
+			final long v46 = src[off + 46] & 0x3L;
+			final long v47 = src[off + 47] & 0x3L;
+			final long v48 = src[off + 48] & 0x3L;
+			final long v49 = src[off + 49] & 0x3L;
+			final long v50 = src[off + 50] & 0x3L;
+			final long v51 = src[off + 51] & 0x3L;
+			final long v52 = src[off + 52] & 0x3L;
+			final long v53 = src[off + 53] & 0x3L;
+			final long v54 = src[off + 54] & 0x3L;
+			final long v55 = src[off + 55] & 0x3L;
+			final long v56 = src[off + 56] & 0x3L;
+			final long v57 = src[off + 57] & 0x3L;
+			final long v58 = src[off + 58] & 0x3L;
+			final long v59 = src[off + 59] & 0x3L;
+			final long v60 = src[off + 60] & 0x3L;
+			final long v61 = src[off + 61] & 0x3L;
+			final long v62 = src[off + 62] & 0x3L;
+			final long v63 = src[off + 63] & 0x3L;
+			data[j] = v0 | v1 << 2 | v2 << 4 | v3 << 6 | v4 << 8 | v5 << 10
+					| v6 << 12 | v7 << 14 | v8 << 16 | v9 << 18 | v10 << 20
+					| v11 << 22 | v12 << 24 | v13 << 26 | v14 << 28 | v15 << 30
+					| v16 << 32 | v17 << 34 | v18 << 36 | v19 << 38 | v20 << 40
+					| v21 << 42 | v22 << 44 | v23 << 46 | v24 << 48 | v25 << 50
+					| v26 << 52 | v27 << 54 | v28 << 56 | v29 << 58 | v30 << 60
+					| v31 << 62;
+			data[j + 1] = v32 | v33 << 2 | v34 << 4 | v35 << 6 | v36 << 8
+					| v37 << 10 | v38 << 12 | v39 << 14 | v40 << 16 | v41 << 18
+					| v42 << 20 | v43 << 22 | v44 << 24 | v45 << 26 | v46 << 28
+					| v47 << 30 | v48 << 32 | v49 << 34 | v50 << 36 | v51 << 38
+					| v52 << 40 | v53 << 42 | v54 << 44 | v55 << 46 | v56 << 48
+					| v57 << 50 | v58 << 52 | v59 << 54 | v60 << 56 | v61 << 58
+					| v62 << 60 | v63 << 62;
+		}
+	}
+
+	private static void decode3(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 3, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x7L);
+			dest[off + 1] = (int) (w0 >>> 3 & 0x7L);
+			dest[off + 2] = (int) (w0 >>> 6 & 0x7L);
+			dest[off + 3] = (int) (w0 >>> 9 & 0x7L);
+			dest[off + 4] = (int) (w0 >>> 12 & 0x7L);
+			dest[off + 5] = (int) (w0 >>> 15 & 0x7L);
+			dest[off + 6] = (int) (w0 >>> 18 & 0x7L);
+			dest[off + 7] = (int) (w0 >>> 21 & 0x7L);
+			dest[off + 8] = (int) (w0 >>> 24 & 0x7L);
+			dest[off + 9] = (int) (w0 >>> 27 & 0x7L);
+			dest[off + 10] = (int) (w0 >>> 30 & 0x7L);
+			dest[off + 11] = (int) (w0 >>> 33 & 0x7L);
+			dest[off + 12] = (int) (w0 >>> 36 & 0x7L);
+			dest[off + 13] = (int) (w0 >>> 39 & 0x7L);
+			dest[off + 14] = (int) (w0 >>> 42 & 0x7L);
+			dest[off + 15] = (int) (w0 >>> 45 & 0x7L);
+			dest[off + 16] = (int) (w0 >>> 48 & 0x7L);
+			dest[off + 17] = (int) (w0 >>> 51 & 0x7L);
+			dest[off + 18] = (int) (w0 >>> 54 & 0x7L);
+			dest[off + 19] = (int) (w0 >>> 57 & 0x7L);
+			dest[off + 20] = (int) (w0 >>> 60 & 0x7L);
+			final long w1 = data[j + 1];
+			dest[off + 21] = (int) ((w0 >>> 63 | w1 << 1) & 0x7L);
+			dest[off + 22] = (int) (w1 >>> 2 & 0x7L);
+			dest[off + 23] = (int) (w1 >>> 5 & 0x7L);
+			dest[off + 24] = (int) (w1 >>> 8 & 0x7L);
+			dest[off + 25] = (int) (w1 >>> 11 & 0x7L);
+			dest[off + 26] = (int) (w1 >>> 14 & 0x7L);
+			dest[off + 27] = (int) (w1 >>> 17 & 0x7L);
+			dest[off + 28] = (int) (w1 >>> 20 & 0x7L);
+			dest[off + 29] = (int) (w1 >>> 23 & 0x7L);
+			dest[off + 30] = (int) (w1 >>> 26 & 0x7L);
+			dest[off + 31] = (int) (w1 >>> 29 & 0x7L);
+			dest[off + 32] = (int) (w1 >>> 32 & 0x7L);
+			dest[off + 33] = (int) (w1 >>> 35 & 0x7L);
+			dest[off + 34] = (int) (w1 >>> 38 & 0x7L);
+			dest[off + 35] = (int) (w1 >>> 41 & 0x7L);
+			dest[off + 36] = (int) (w1 >>> 44 & 0x7L);
+			dest[off + 37] = (int) (w1 >>> 47 & 0x7L);
+			dest[off + 38] = (int) (w1 >>> 50 & 0x7L);
+			dest[off + 39] = (int) (w1 >>> 53 & 0x7L);
+			dest[off + 40] = (int) (w1 >>> 56 & 0x7L);
+			dest[off + 41] = (int) (w1 >>> 59 & 0x7L);
+			final long w2 = data[j + 2];
+			dest[off + 42] = (int) ((w1 >>> 62 | w2 << 2) & 0x7L);
+			dest[off + 43] = (int) (w2 >>> 1 & 0x7L);
+			dest[off + 44] = (int) (w2 >>> 4 & 0x7L);
+			dest[off + 45] = (int) (w2 >>> 7 & 0x7L);
+			dest[off + 46] = (int) (w2 >>> 10 & 0x7L);
+			dest[off + 47] = (int) (w2 >>> 13 & 0x7L);
+			dest[off + 48] = (int) (w2 >>> 16 & 0x7L);
+			dest[off + 49] = (int) (w2 >>> 19 & 0x7L);
+			dest[off + 50] = (int) (w2 >>> 22 & 0x7L);
+			dest[off + 51] = (int) (w2 >>> 25 & 0x7L);
+			dest[off + 52] = (int) (w2 >>> 28 & 0x7L);
+			dest[off + 53] = (int) (w2 >>> 31 & 0x7L);
+			dest[off + 54] = (int) (w2 >>> 34 & 0x7L);
+			dest[off + 55] = (int) (w2 >>> 37 & 0x7L);
+			dest[off + 56] = (int) (w2 >>> 40 & 0x7L);
+			dest[off + 57] = (int) (w2 >>> 43 & 0x7L);
+			dest[off + 58] = (int) (w2 >>> 46 & 0x7L);
+			dest[off + 59] = (int) (w2 >>> 49 & 0x7L);
+			dest[off + 60] = (int) (w2 >>> 52 & 0x7L);
+			dest[off + 61] = (int) (w2 >>> 55 & 0x7L);
+			dest[off + 62] = (int) (w2 >>> 58 & 0x7L);
+			dest[off + 63] = (int) (w2 >>> 61);
+		}
+	}
+
+	private static void encode3(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 3) {
+			final long v0 = src[off] & 0x7L;
+			final long v1 = src[off + 1] & 0x7L;
+			final long v2 = src[off + 2] & 0x7L;
+			final long v3 = src[off + 3] & 0x7L;
+			final long v4 = src[off + 4] & 0x7L;
+			final long v5 = src[off + 5] & 0x7L;
+			final long v6 = src[off + 6] & 0x7L;
+			final long v7 = src[off + 7] & 0x7L;
+			final long v8 = src[off + 8] & 0x7L;
+			final long v9 = src[off + 9] & 0x7L;
+			final long v10 = src[off + 10] & 0x7L;
+			final long v11 = src[off + 11] & 0x7L;
+			final long v12 = src[off + 12] & 0x7L;
+			final long v13 = src[off + 13] & 0x7L;
+			final long v14 = src[off + 14] & 0x7L;
+			final long v15 = src[off + 15] & 0x7L;
+			final long v16 = src[off + 16] & 0x7L;
+			final long v17 = src[off + 17] & 0x7L;
+			final long v18 = src[off + 18] & 0x7L;
+			final long v19 = src[off + 19] & 0x7L;
+			final long v20 = src[off + 20] & 0x7L;
+			final long v21 = src[off + 21] & 0x7L;
+			final long v22 = src[off + 22] & 0x7L;
+			final long v23 = src[off + 23] & 0x7L;
+			final long v24 = src[off + 24] & 0x7L;
+			final long v25 = src[off + 25] & 0x7L;
+			final long v26 = src[off + 26] & 0x7L;
+			final long v27 = src[off + 27] & 0x7L;
+			final long v28 = src[off + 28] & 0x7L;
+			final long v29 = src[off + 29] & 0x7L;
+			final long v30 = src[off + 30] & 0x7L;
+			final long v31 = src[off + 31] & 0x7L;
+			final long v32 = src[off + 32] & 0x7L;
+			final long v33 = src[off + 33] & 0x7L;
+			final long v34 = src[off + 34] & 0x7L;
+			final long v35 = src[off + 35] & 0x7L;
+			final long v36 = src[off + 36] & 0x7L;
+			final long v37 = src[off + 37] & 0x7L;
+			final long v38 = src[off + 38] & 0x7L;
+			final long v39 = src[off + 39] & 0x7L;
+			final long v40 = src[off + 40] & 0x7L;
+			final long v41 = src[off + 41] & 0x7L;
+			final long v42 = src[off + 42] & 0x7L;
+			final long v43 = src[off + 43] & 0x7L;
+			final long v44 = src[off + 44] & 0x7L;
+			final long v45 = src[off + 45] & 0x7L;
+			final long v46 = src[off + 46] & 0x7L;
+			final long v47 = src[off + 47] & 0x7L;
+			final long v48 = src[off + 48] & 0x7L;
+			final long v49 = src[off + 49] & 0x7L;
+			final long v50 = src[off + 50] & 0x7L;
+			final long v51 = src[off + 51] & 0x7L;
+			final long v52 = src[off + 52] & 0x7L;
+			final long v53 = src[off + 53] & 0x7L;
+			final long v54 = src[off + 54] & 0x7L;
+			final long v55 = src[off + 55] & 0x7L;
+			final long v56 = src[off + 56] & 0x7L;
+			final long v57 = src[off + 57] & 0x7L;
+			final long v58 = src[off + 58] & 0x7L;
+			final long v59 = src[off + 59] & 0x7L;
+			final long v60 = src[off + 60] & 0x7L;
+			final long v61 = src[off + 61] & 0x7L;
+			final long v62 = src[off + 62] & 0x7L;
+			final long v63 = src[off + 63] & 0x7L;
+			data[j] = v0 | v1 << 3 | v2 << 6 | v3 << 9 | v4 << 12 | v5 << 15
+					| v6 << 18 | v7 << 21 | v8 << 24 | v9 << 27 | v10 << 30
+					| v11 << 33 | v12 << 36 | v13 << 39 | v14 << 42 | v15 << 45
+					| v16 << 48 | v17 << 51 | v18 << 54 | v19 << 57 | v20 << 60
+					| v21 << 63;
+			data[j + 1] = v21 >>> 1 | v22 << 2 | v23 << 5 | v24 << 8 | v25 << 11
+					| v26 << 14 | v27 << 17 | v28 << 20 | v29 << 23 | v30 << 26
+					| v31 << 29 | v32 << 32 | v33 << 35 | v34 << 38 | v35 << 41
+					| v36 << 44 | v37 << 47 | v38 << 50 | v39 << 53 | v40 << 56
+					| v41 << 59 | v42 << 62;
+			data[j + 2] = v42 >>> 2 | v43 << 1 | v44 << 4 | v45 << 7 | v46 << 10
+					| v47 << 13 | v48 << 16 | v49 << 19 | v50 << 22 | v51 << 25
+					| v52 << 28 | v53 << 31 | v54 << 34 | v55 << 37 | v56 << 40
+					| v57 << 43 | v58 << 46 | v59 << 49 | v60 << 52 | v61 << 55
+					| v62 << 58 | v63 << 61;
+		}
+	}
+
+	private static void decode4(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 4, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0xFL);
+			dest[off + 1] = (int) (w0 >>> 4 & 0xFL);
+			dest[off + 2] = (int) (w0 >>> 8 & 0xFL);
+			dest[off + 3] = (int) (w0 >>> 12 & 0xFL);
+			dest[off + 4] = (int) (w0 >>> 16 & 0xFL);
+			dest[off + 5] = (int) (w0 >>> 20 & 0xFL);
+			dest[off + 6] = (int) (w0 >>> 24 & 0xFL);
+			dest[off + 7] = (int) (w0 >>> 28 & 0xFL);
+			dest[off + 8] = (int) (w0 >>> 32 & 0xFL);
+			dest[off + 9] = (int) (w0 >>> 36 & 0xFL);
+			dest[off + 10] = (int) (w0 >>> 40 & 0xFL);
+			dest[off + 11] = (int) (w0 >>> 44 & 0xFL);
+			dest[off + 12] = (int) (w0 >>> 48 & 0xFL);
+			dest[off + 13] = (int) (w0 >>> 52 & 0xFL);
+			dest[off + 14] = (int) (w0 >>> 56 & 0xFL);
+			dest[off + 15] = (int) (w0 >>> 60);
+			final long w1 = data[j + 1];
+			dest[off + 16] = (int) (w1 & 0xFL);
+			dest[off + 17] = (int) (w1 >>> 4 & 0xFL);
+			dest[off + 18] = (int) (w1 >>> 8 & 0xFL);
+			dest[off + 19] = (int) (w1 >>> 12 & 0xFL);
+			dest[off + 20] = (int) (w1 >>> 16 & 0xFL);
+			dest[off + 21] = (int) (w1 >>> 20 & 0xFL);
+			dest[off + 22] = (int) (w1 >>> 24 & 0xFL);
+			dest[off + 23] = (int) (w1 >>> 28 & 0xFL);
+			dest[off + 24] = (int) (w1 >>> 32 & 0xFL);
+			dest[off + 25] = (int) (w1 >>> 36 & 0xFL);
+			dest[off + 26] = (int) (w1 >>> 40 & 0xFL);
+			dest[off + 27] = (int) (w1 >>> 44 & 0xFL);
+			dest[off + 28] = (int) (w1 >>> 48 & 0xFL);
+			dest[off + 29] = (int) (w1 >>> 52 & 0xFL);
+			dest[off + 30] = (int) (w1 >>> 56 & 0xFL);
+			dest[off + 31] = (int) (w1 >>> 60);
+			final long w2 = data[j + 2];
+			dest[off + 32] = (int) (w2 & 0xFL);
+			dest[off + 33] = (int) (w2 >>> 4 & 0xFL);
+			dest[off + 34] = (int) (w2 >>> 8 & 0xFL);
+			dest[off + 35] = (int) (w2 >>> 12 & 0xFL);
+			dest[off + 36] = (int) (w2 >>> 16 & 0xFL);
+			dest[off + 37] = (int) (w2 >>> 20 & 0xFL);
+			dest[off + 38] = (int) (w2 >>> 24 & 0xFL);
+			dest[off + 39] = (int) (w2 >>> 28 & 0xFL);
+			dest[off + 40] = (int) (w2 >>> 32 & 0xFL);
+			dest[off + 41] = (int) (w2 >>> 36 & 0xFL);
+			dest[off + 42] = (int) (w2 >>> 40 & 0xFL);
+			dest[off + 43] = (int) (w2 >>> 44 & 0xFL);
+			dest[off + 44] = (int) (w2 >>> 48 & 0xFL);
+			dest[off + 45] = (int) (w2 >>> 52 & 0xFL);
+			dest[off + 46] = (int) (w2 >>> 56 & 0xFL);
+			dest[off + 47] = (int) (w2 >>> 60);
+			final long w3 = data[j + 3];
+			dest[off + 48] = (int) (w3 & 0xFL);
+			dest[off + 49] = (int) (w3 >>> 4 & 0xFL);
+			dest[off + 50] = (int) (w3 >>> 8 & 0xFL);
+			dest[off + 51] = (int) (w3 >>> 12 & 0xFL);
+			dest[off + 52] = (int) (w3 >>> 16 & 0xFL);
+			dest[off + 53] = (int) (w3 >>> 20 & 0xFL);
+			dest[off + 54] = (int) (w3 >>> 24 & 0xFL);
+			dest[off + 55] = (int) (w3 >>> 28 & 0xFL);
+			dest[off + 56] = (int) (w3 >>> 32 & 0xFL);
+			dest[off + 57] = (int) (w3 >>> 36 & 0xFL);
+			dest[off + 58] = (int) (w3 >>> 40 & 0xFL);
+			dest[off + 59] = (int) (w3 >>> 44 & 0xFL);
+			dest[off + 60] = (int) (w3 >>> 48 & 0xFL);
+			dest[off + 61] = (int) (w3 >>> 52 & 0xFL);
+			dest[off + 62] = (int) (w3 >>> 56 & 0xFL);
+			dest[off + 63] = (int) (w3 >>> 60);
+		}
+	}
+
+	private static void encode4(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 4) {
+			final long v0 = src[off] & 0xFL;
+			final long v1 = src[off + 1] & 0xFL;
+			final long v2 = src[off + 2] & 0xFL;
+			final long v3 = src[off + 3] & 0xFL;
+			final long v4 = src[off + 4] & 0xFL;
+			final long v5 = src[off + 5] & 0xFL;
+			final long v6 = src[off + 6] & 0xFL;
+			final long v7 = src[off + 7] & 0xFL;
+			final long v8 = src[off + 8] & 0xFL;
+			final long v9 = src[off + 9] & 0xFL;
+			final long v10 = src[off + 10] & 0xFL;
+			final long v11 = src[off + 11] & 0xFL;
+			final long v12 = src[off + 12] & 0xFL;
+			final long v13 = src[off + 13] & 0xFL;
+			final long v14 = src[off + 14] & 0xFL;
+			final long v15 = src[off + 15] & 0xFL;
+			final long v16 = src[off + 16] & 0xFL;
+			final long v17 = src[off + 17] & 0xFL;
+			final long v18 = src[off + 18] & 0xFL;
+			final long v19 = src[off + 19] & 0xFL;
+			final long v20 = src[off + 20] & 0xFL;
+			final long v21 = src[off + 21] & 0xFL;
+			final long v22 = src[off + 22] & 0xFL;
+			final long v23 = src[off + 23] & 0xFL;
+			final long v24 = src[off + 24] & 0xFL;
+			final long v25 = src[off + 25] & 0xFL;
+			final long v26 = src[off + 26] & 0xFL;
+			final long v27 = src[off + 27] & 0xFL;
+			final long v28 = src[off + 28] & 0xFL;
+			final long v29 = src[off + 29] & 0xFL;
+			final long v30 = src[off + 30] & 0xFL;
+			final long v31 = src[off + 31] & 0xFL;
+			final long v32 = src[off + 32] & 0xFL;
+			final long v33 = src[off + 33] & 0xFL;
+			final long v34 = src[off + 34] & 0xFL;
+			final long v35 = src[off + 35] & 0xFL;
+			final long v36 = src[off + 36] & 0xFL;
+			final long v37 = src[off + 37] & 0xFL;
+			final long v38 = src[off + 38] & 0xFL;
+			final long v39 = src[off + 39] & 0xFL;
+			final long v40 = src[off + 40] & 0xFL;
+			final long v41 = src[off + 41] & 0xFL;
+			final long v42 = src[off + 42] & 0xFL;
+			final long v43 = src[off + 43] & 0xFL;
+			final long v44 = src[off + 44] & 0xFL;
+			final long v45 = src[off + 45] & 0xFL;
+			final long v46 = src[off + 46] & 0xFL;
+			final long v47 = src[off + 47] & 0xFL;
+			final long v48 = src[off + 48] & 0xFL;
+			final long v49 = src[off + 49] & 0xFL;
+			final long v50 = src[off + 50] & 0xFL;
+			final long v51 = src[off + 51] & 0xFL;
+			final long v52 = src[off + 52] & 0xFL;
+			final long v53 = src[off + 53] & 0xFL;
+			final long v54 = src[off + 54] & 0xFL;
+			final long v55 = src[off + 55] & 0xFL;
+			final long v56 = src[off + 56] & 0xFL;
+			final long v57 = src[off + 57] & 0xFL;
+			final long v58 = src[off + 58] & 0xFL;
+			final long v59 = src[off + 59] & 0xFL;
+			final long v60 = src[off + 60] & 0xFL;
+			final long v61 = src[off + 61] & 0xFL;
+			final long v62 = src[off + 62] & 0xFL;
+			final long v63 = src[off + 63] & 0xFL;
+			data[j] = v0 | v1 << 4 | v2 << 8 | v3 << 12 | v4 << 16 | v5 << 20
+					| v6 << 24 | v7 << 28 | v8 << 32 | v9 << 36 | v10 << 40
+					| v11 << 44 | v12 << 48 | v13 << 52 | v14 << 56 | v15 << 60;
+			data[j + 1] = v16 | v17 << 4 | v18 << 8 | v19 << 12 | v20 << 16
+					| v21 << 20 | v22 << 24 | v23 << 28 | v24 << 32 | v25 << 36
+					| v26 << 40 | v27 << 44 | v28 << 48 | v29 << 52 | v30 << 56
+					| v31 << 60;
+			data[j + 2] = v32 | v33 << 4 | v34 << 8 | v35 << 12 | v36 << 16
+					| v37 << 20 | v38 << 24 | v39 << 28 | v40 << 32 | v41 << 36
+					| v42 << 40 | v43 << 44 | v44 << 48 | v45 << 52 | v46 << 56
+					| v47 << 60;
+			data[j + 3] = v48 | v49 << 4 | v50 << 8 | v51 << 12 | v52 << 16
+					| v53 << 20 | v54 << 24 | v55 << 28 | v56 << 32 | v57 << 36
+					| v58 << 40 | v59 << 44 | v60 << 48 | v61 << 52 | v62 << 56
+					| v63 << 60;
+		}
+	}
+
+	private static void decode5(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 5, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x1FL);
+			dest[off + 1] = (int) (w0 >>> 5 & 0x1FL);
+			dest[off + 2] = (int) (w0 >>> 10 & 0x1FL);
+			dest[off + 3] = (int) (w0 >>> 15 & 0x1FL);
+			dest[off + 4] = (int) (w0 >>> 20 & 0x1FL);
+			dest[off + 5] = (int) (w0 >>> 25 & 0x1FL);
+			dest[off + 6] = (int) (w0 >>> 30 & 0x1FL);
+			dest[off + 7] = (int) (w0 >>> 35 & 0x1FL);
+			dest[off + 8] = (int) (w0 >>> 40 & 0x1FL);
+			dest[off + 9] = (int) (w0 >>> 45 & 0x1FL);
+			dest[off + 10] = (int) (w0 >>> 50 & 0x1FL);
+			dest[off + 11] = (int) (w0 >>> 55 & 0x1FL);
+			final long w1 = data[j + 1];
+			dest[off + 12] = (int) ((w0 >>> 60 | w1 << 4) & 0x1FL);
+			dest[off + 13] = (int) (w1 >>> 1 & 0x1FL);
+			dest[off + 14] = (int) (w1 >>> 6 & 0x1FL);
+			dest[off + 15] = (int) (w1 >>> 11 & 0x1FL);
+			dest[off + 16] = (int) (w1 >>> 16 & 0x1FL);
+			dest[off + 17] = (int) (w1 >>> 21 & 0x1FL);
+			dest[off + 18] = (int) (w1 >>> 26 & 0x1FL);
+			dest[off + 19] = (int) (w1 >>> 31 & 0x1FL);
+			dest[off + 20] = (int) (w1 >>> 36 & 0x1FL);
+			dest[off + 21] = (int) (w1 >>> 41 & 0x1FL);
+			dest[off + 22] = (int) (w1 >>> 46 & 0x1FL);
+			dest[off + 23] = (int) (w1 >>> 51 & 0x1FL);
+			dest[off + 24] = (int) (w1 >>> 56 & 0x1FL);
+			final long w2 = data[j + 2];
+			dest[off + 25] = (int) ((w1 >>> 61 | w2 << 3) & 0x1FL);
+			dest[off + 26] = (int) (w2 >>> 2 & 0x1FL);
+			dest[off + 27] = (int) (w2 >>> 7 & 0x1FL);
+			dest[off + 28] = (int) (w2 >>> 12 & 0x1FL);
+			dest[off + 29] = (int) (w2 >>> 17 & 0x1FL);
+			dest[off + 30] = (int) (w2 >>> 22 & 0x1FL);
+			dest[off + 31] = (int) (w2 >>> 27 & 0x1FL);
+			dest[off + 32] = (int) (w2 >>> 32 & 0x1FL);
+			dest[off + 33] = (int) (w2 >>> 37 & 0x1FL);
+			dest[off + 34] = (int) (w2 >>> 42 & 0x1FL);
+			dest[off + 35] = (int) (w2 >>> 47 & 0x1FL);
+			dest[off + 36] = (int) (w2 >>> 52 & 0x1FL);
+			dest[off + 37] = (int) (w2 >>> 57 & 0x1FL);
+			final long w3 = data[j + 3];
+			dest[off + 38] = (int) ((w2 >>> 62 | w3 << 2) & 0x1FL);
+			dest[off + 39] = (int) (w3 >>> 3 & 0x1FL);
+			dest[off + 40] = (int) (w3 >>> 8 & 0x1FL);
+			dest[off + 41] = (int) (w3 >>> 13 & 0x1FL);
+			dest[off + 42] = (int) (w3 >>> 18 & 0x1FL);
+			dest[off + 43] = (int) (w3 >>> 23 & 0x1FL);
+			dest[off + 44] = (int) (w3 >>> 28 & 0x1FL);
+			dest[off + 45] = (int) (w3 >>> 33 & 0x1FL);
+			dest[off + 46] = (int) (w3 >>> 38 & 0x1FL);
+			dest[off + 47] = (int) (w3 >>> 43 & 0x1FL);
+			dest[off + 48] = (int) (w3 >>> 48 & 0x1FL);
+			dest[off + 49] = (int) (w3 >>> 53 & 0x1FL);
+			dest[off + 50] = (int) (w3 >>> 58 & 0x1FL);
+			final long w4 = data[j + 4];
+			dest[off + 51] = (int) ((w3 >>> 63 | w4 << 1) & 0x1FL);
+			dest[off + 52] = (int) (w4 >>> 4 & 0x1FL);
+			dest[off + 53] = (int) (w4 >>> 9 & 0x1FL);
+			dest[off + 54] = (int) (w4 >>> 14 & 0x1FL);
+			dest[off + 55] = (int) (w4 >>> 19 & 0x1FL);
+			dest[off + 56] = (int) (w4 >>> 24 & 0x1FL);
+			dest[off + 57] = (int) (w4 >>> 29 & 0x1FL);
+			dest[off + 58] = (int) (w4 >>> 34 & 0x1FL);
+			dest[off + 59] = (int) (w4 >>> 39 & 0x1FL);
+			dest[off + 60] = (int) (w4 >>> 44 & 0x1FL);
+			dest[off + 61] = (int) (w4 >>> 49 & 0x1FL);
+			dest[off + 62] = (int) (w4 >>> 54 & 0x1FL);
+			dest[off + 63] = (int) (w4 >>> 59);
+		}
+	}
+
+	private static void encode5(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 5) {
+			final long v0 = src[off] & 0x1FL;
+			final long v1 = src[off + 1] & 0x1FL;
+			final long v2 = src[off + 2] & 0x1FL;
+			final long v3 = src[off + 3] & 0x1FL;
+			final long v4 = src[off + 4] & 0x1FL;
+			final long v5 = src[off + 5] & 0x1FL;
+			final long v6 = src[off + 6] & 0x1FL;
+			final long v7 = src[off + 7] & 0x1FL;
+			final long v8 = src[off + 8] & 0x1FL;
+			final long v9 = src[off + 9] & 0x1FL;
+			final long v10 = src[off + 10] & 0x1FL;
+			final long v11 = src[off + 11] & 0x1FL;
+			final long v12 = src[off + 12] & 0x1FL;
+			final long v13 = src[off + 13] & 0x1FL;
+			final long v14 = src[off + 14] & 0x1FL;
+			final long v15 = src[off + 15] & 0x1FL;
+			final long v16 = src[off + 16] & 0x1FL;
+			final long v17 = src[off + 17] & 0x1FL;
+			final long v18 = src[off + 18] & 0x1FL;
+			final long v19 = src[off + 19] & 0x1FL;
+			final long v20 = src[off + 20] & 0x1FL;
+			final long v21 = src[off + 21] & 0x1FL;
+			final long v22 = src[off + 22] & 0x1FL;
+			final long v23 = src[off + 23] & 0x1FL;
+			final long v24 = src[off + 24] & 0x1FL;
+			final long v25 = src[off + 25] & 0x1FL;
+			final long v26 = src[off + 26] & 0x1FL;
+			final long v27 = src[off + 27] & 0x1FL;
+			final long v28 = src[off + 28] & 0x1FL;
+			final long v29 = src[off + 29] & 0x1FL;
+			final long v30 = src[off + 30] & 0x1FL;
+			final long v31 = src[off + 31] & 0x1FL;
+			final long v32 = src[off + 32] & 0x1FL;
+			final long v33 = src[off + 33] & 0x1FL;
+			final long v34 = src[off + 34] & 0x1FL;
+			final long v35 = src[off + 35] & 0x1FL;
+			final long v36 = src[off + 36] & 0x1FL;
+			final long v37 = src[off + 37] & 0x1FL;
+			final long v38 = src[off + 38] & 0x1FL;
+			final long v39 = src[off + 39] & 0x1FL;
+			final long v40 = src[off + 40] & 0x1FL;
+			final long v41 = src[off + 41] & 0x1FL;
+			final long v42 = src[off + 42] & 0x1FL;
+			final long v43 = src[off + 43] & 0x1FL;
+			final long v44 = src[off + 44] & 0x1FL;
+			final long v45 = src[off + 45] & 0x1FL;
+			final long v46 = src[off + 46] & 0x1FL;
+			final long v47 = src[off + 47] & 0x1FL;
+			final long v48 = src[off + 48] & 0x1FL;
+			final long v49 = src[off + 49] & 0x1FL;
+			final long v50 = src[off + 50] & 0x1FL;
+			final long v51 = src[off + 51] & 0x1FL;
+			final long v52 = src[off + 52] & 0x1FL;
+			final long v53 = src[off + 53] & 0x1FL;
+			final long v54 = src[off + 54] & 0x1FL;
+			final long v55 = src[off + 55] & 0x1FL;
+			final long v56 = src[off + 56] & 0x1FL;
+			final long v57 = src[off + 57] & 0x1FL;
+			final long v58 = src[off + 58] & 0x1FL;
+			final long v59 = src[off + 59] & 0x1FL;
+			final long v60 = src[off + 60] & 0x1FL;
+			final long v61 = src[off + 61] & 0x1FL;
+			final long v62 = src[off + 62] & 0x1FL;
+			final long v63 = src[off + 63] & 0x1FL;
+			data[j] = v0 | v1 << 5 | v2 << 10 | v3 << 15 | v4 << 20 | v5 << 25
+					| v6 << 30 | v7 << 35 | v8 << 40 | v9 << 45 | v10 << 50
+					| v11 << 55 | v12 << 60;
+			data[j + 1] = v12 >>> 4 | v13 << 1 | v14 << 6 | v15 << 11
+					| v16 << 16 | v17 << 21 | v18 << 26 | v19 << 31 | v20 << 36
+					| v21 << 41 | v22 << 46 | v23 << 51 | v24 << 56 | v25 << 61;
+			data[j + 2] = v25 >>> 3 | v26 << 2 | v27 << 7 | v28 << 12
+					| v29 << 17 | v30 << 22 | v31 << 27 | v32 << 32 | v33 << 37
+					| v34 << 42 | v35 << 47 | v36 << 52 | v37 << 57 | v38 << 62;
+			data[j + 3] = v38 >>> 2 | v39 << 3 | v40 << 8 | v41 << 13
+					| v42 << 18 | v43 << 23 | v44 << 28 | v45 << 33 | v46 << 38
+					| v47 << 43 | v48 << 48 | v49 << 53 | v50 << 58 | v51 << 63;
+			data[j + 4] = v51 >>> 1 | v52 << 4 | v53 << 9 | v54 << 14
+					| v55 << 19 | v56 << 24 | v57 << 29 | v58 << 34 | v59 << 39
+					| v60 << 44 | v61 << 49 | v62 << 54 | v63 << 59;
+		}
+	}
+
+	private static void decode6(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 6, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x3FL);
+			dest[off + 1] = (int) (w0 >>> 6 & 0x3FL);
+			dest[off + 2] = (int) (w0 >>> 12 & 0x3FL);
+			dest[off + 3] = (int) (w0 >>> 18 & 0x3FL);
+			dest[off + 4] = (int) (w0 >>> 24 & 0x3FL);
+			dest[off + 5] = (int) (w0 >>> 30 & 0x3FL);
+			dest[off + 6] = (int) (w0 >>> 36 & 0x3FL);
+			dest[off + 7] = (int) (w0 >>> 42 & 0x3FL);
+			dest[off + 8] = (int) (w0 >>> 48 & 0x3FL);
+			dest[off + 9] = (int) (w0 >>> 54 & 0x3FL);
+			final long w1 = data[j + 1];
+			dest[off + 10] = (int) ((w0 >>> 60 | w1 << 4) & 0x3FL);
+			dest[off + 11] = (int) (w1 >>> 2 & 0x3FL);
+			dest[off + 12] = (int) (w1 >>> 8 & 0x3FL);
+			dest[off + 13] = (int) (w1 >>> 14 & 0x3FL);
+			dest[off + 14] = (int) (w1 >>> 20 & 0x3FL);
+			dest[off + 15] = (int) (w1 >>> 26 & 0x3FL);
+			dest[off + 16] = (int) (w1 >>> 32 & 0x3FL);
+			dest[off + 17] = (int) (w1 >>> 38 & 0x3FL);
+			dest[off + 18] = (int) (w1 >>> 44 & 0x3FL);
+			dest[off + 19] = (int) (w1 >>> 50 & 0x3FL);
+			dest[off + 20] = (int) (w1 >>> 56 & 0x3FL);
+			final long w2 = data[j + 2];
+			dest[off + 21] = (int) ((w1 >>> 62 | w2 << 2) & 0x3FL);
+			dest[off + 22] = (int) (w2 >>> 4 & 0x3FL);
+			dest[off + 23] = (int) (w2 >>> 10 & 0x3FL);
+			dest[off + 24] = (int) (w2 >>> 16 & 0x3FL);
+			dest[off + 25] = (int) (w2 >>> 22 & 0x3FL);
+			dest[off + 26] = (int) (w2 >>> 28 & 0x3FL);
+			dest[off + 27] = (int) (w2 >>> 34 & 0x3FL);
+			dest[off + 28] = (int) (w2 >>> 40 & 0x3FL);
+			dest[off + 29] = (int) (w2 >>> 46 & 0x3FL);
+			dest[off + 30] = (int) (w2 >>> 52 & 0x3FL);
+			dest[off + 31] = (int) (w2 >>> 58);
+			final long w3 = data[j + 3];
+			dest[off + 32] = (int) (w3 & 0x3FL);
+			dest[off + 33] = (int) (w3 >>> 6 & 0x3FL);
+			dest[off + 34] = (int) (w3 >>> 12 & 0x3FL);
+			dest[off + 35] = (int) (w3 >>> 18 & 0x3FL);
+			dest[off + 36] = (int) (w3 >>> 24 & 0x3FL);
+			dest[off + 37] = (int) (w3 >>> 30 & 0x3FL);
+			dest[off + 38] = (int) (w3 >>> 36 & 0x3FL);
+			dest[off + 39] = (int) (w3 >>> 42 & 0x3FL);
+			dest[off + 40] = (int) (w3 >>> 48 & 0x3FL);
+			dest[off + 41] = (int) (w3 >>> 54 & 0x3FL);
+			final long w4 = data[j + 4];
+			dest[off + 42] = (int) ((w3 >>> 60 | w4 << 4) & 0x3FL);
+			dest[off + 43] = (int) (w4 >>> 2 & 0x3FL);
+			dest[off + 44] = (int) (w4 >>> 8 & 0x3FL);
+			dest[off + 45] = (int) (w4 >>> 14 & 0x3FL);
+			dest[off + 46] = (int) (w4 >>> 20 & 0x3FL);
+			dest[off + 47] = (int) (w4 >>> 26 & 0x3FL);
+			dest[off + 48] = (int) (w4 >>> 32 & 0x3FL);
+			dest[off + 49] = (int) (w4 >>> 38 & 0x3FL);
+			dest[off + 50] = (int) (w4 >>> 44 & 0x3FL);
+			dest[off + 51] = (int) (w4 >>> 50 & 0x3FL);
+			dest[off + 52] = (int) (w4 >>> 56 & 0x3FL);
+			final long w5 = data[j + 5];
+			dest[off + 53] = (int) ((w4 >>> 62 | w5 << 2) & 0x3FL);
+			dest[off + 54] = (int) (w5 >>> 4 & 0x3FL);
+			dest[off + 55] = (int) (w5 >>> 10 & 0x3FL);
+			dest[off + 56] = (int) (w5 >>> 16 & 0x3FL);
+			dest[off + 57] = (int) (w5 >>> 22 & 0x3FL);
+			dest[off + 58] = (int) (w5 >>> 28 & 0x3FL);
+			dest[off + 59] = (int) (w5 >>> 34 & 0x3FL);
+			dest[off + 60] = (int) (w5 >>> 40 & 0x3FL);
+			dest[off + 61] = (int) (w5 >>> 46 & 0x3FL);
+			dest[off + 62] = (int) (w5 >>> 52 & 0x3FL);
+			dest[off + 63] = (int) (w5 >>> 58);
+		}
+	}
+
+	private static void encode6(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 6) {
+			final long v0 = src[off] & 0x3FL;
+			final long v1 = src[off + 1] & 0x3FL;
+			final long v2 = src[off + 2] & 0x3FL;
+			final long v3 = src[off + 3] & 0x3FL;
+			final long v4 = src[off + 4] & 0x3FL;
+			final long v5 = src[off + 5] & 0x3FL;
+			final long v6 = src[off + 6] & 0x3FL;
+			final long v7 = src[off + 7] & 0x3FL;
+			final long v8 = src[off + 8] & 0x3FL;
+			final long v9 = src[off + 9] & 0x3FL;
+			final long v10 = src[off + 10] & 0x3FL;
+			final long v11 = src[off + 11] & 0x3FL;
+			final long v12 = src[off + 12] & 0x3FL;
+			final long v13 = src[off + 13] & 0x3FL;
+			final long v14 = src[off + 14] & 0x3FL;
+			final long v15 = src[off + 15] & 0x3FL;
+			final long v16 = src[off + 16] & 0x3FL;
+			final long v17 = src[off + 17] & 0x3FL;
+			final long v18 = src[off + 18] & 0x3FL;
+			final long v19 = src[off + 19] & 0x3FL;
+			final long v20 = src[off + 20] & 0x3FL;
+			final long v21 = src[off + 21] & 0x3FL;
+			final long v22 = src[off + 22] & 0x3FL;
+			final long v23 = src[off + 23] & 0x3FL;
+			final long v24 = src[off + 24] & 0x3FL;
+			final long v25 = src[off + 25] & 0x3FL;
+			final long v26 = src[off + 26] & 0x3FL;
+			final long v27 = src[off + 27] & 0x3FL;
+			final long v28 = src[off + 28] & 0x3FL;
+			final long v29 = src[off + 29] & 0x3FL;
+			final long v30 = src[off + 30] & 0x3FL;
+			final long v31 = src[off + 31] & 0x3FL;
+			final long v32 = src[off + 32] & 0x3FL;
+			final long v33 = src[off + 33] & 0x3FL;
+			final long v34 = src[off + 34] & 0x3FL;
+			final long v35 = src[off + 35] & 0x3FL;
+			final long v36 = src[off + 36] & 0x3FL;
+			final long v37 = src[off + 37] & 0x3FL;
+			final long v38 = src[off + 38] & 0x3FL;
+			final long v39 = src[off + 39] & 0x3FL;
+			final long v40 = src[off + 40] & 0x3FL;
+			final long v41 = src[off + 41] & 0x3FL;
+			final long v42 = src[off + 42] & 0x3FL;
+			final long v43 = src[off + 43] & 0x3FL;
+			final long v44 = src[off + 44] & 0x3FL;
+			final long v45 = src[off + 45] & 0x3FL;
+			final long v46 = src[off + 46] & 0x3FL;
+			final long v47 = src[off + 47] & 0x3FL;
+			final long v48 = src[off + 48] & 0x3FL;
+			final long v49 = src[off + 49] & 0x3FL;
+			final long v50 = src[off + 50] & 0x3FL;
+			final long v51 = src[off + 51] & 0x3FL;
+			final long v52 = src[off + 52] & 0x3FL;
+			final long v53 = src[off + 53] & 0x3FL;
+			final long v54 = src[off + 54] & 0x3FL;
+			final long v55 = src[off + 55] & 0x3FL;
+			final long v56 = src[off + 56] & 0x3FL;
+			final long v57 = src[off + 57] & 0x3FL;
+			final long v58 = src[off + 58] & 0x3FL;
+			final long v59 = src[off + 59] & 0x3FL;
+			final long v60 = src[off + 60] & 0x3FL;
+			final long v61 = src[off + 61] & 0x3FL;
+			final long v62 = src[off + 62] & 0x3FL;
+			final long v63 = src[off + 63] & 0x3FL;
+			data[j] = v0 | v1 << 6 | v2 << 12 | v3 << 18 | v4 << 24 | v5 << 30
+					| v6 << 36 | v7 << 42 | v8 << 48 | v9 << 54 | v10 << 60;
+			data[j + 1] = v10 >>> 4 | v11 << 2 | v12 << 8 | v13 << 14
+					| v14 << 20 | v15 << 26 | v16 << 32 | v17 << 38 | v18 << 44
+					| v19 << 50 | v20 << 56 | v21 << 62;
+			data[j + 2] = v21 >>> 2 | v22 << 4 | v23 << 10 | v24 << 16
+					| v25 << 22 | v26 << 28 | v27 << 34 | v28 << 40 | v29 << 46
+					| v30 << 52 | v31 << 58;
+			data[j + 3] = v32 | v33 << 6 | v34 << 12 | v35 << 18 | v36 << 24
+					| v37 << 30 | v38 << 36 | v39 << 42 | v40 << 48 | v41 << 54
+					| v42 << 60;
+			data[j + 4] = v42 >>> 4 | v43 << 2 | v44 << 8 | v45 << 14
+					| v46 << 20 | v47 << 26 | v48 << 32 | v49 << 38 | v50 << 44
+					| v51 << 50 | v52 << 56 | v53 << 62;
+			data[j + 5] = v53 >>> 2 | v54 << 4 | v55 << 10 | v56 << 16
+					| v57 << 22 | v58 << 28 | v59 << 34 | v60 << 40 | v61 << 46
+					| v62 << 52 | v63 << 58;
+		}
+	}
+
+	private static void decode7(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 7, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x7FL);
+			dest[off + 1] = (int) (w0 >>> 7 & 0x7FL);
+			dest[off + 2] = (int) (w0 >>> 14 & 0x7FL);
+			dest[off + 3] = (int) (w0 >>> 21 & 0x7FL);
+			dest[off + 4] = (int) (w0 >>> 28 & 0x7FL);
+			dest[off + 5] = (int) (w0 >>> 35 & 0x7FL);
+			dest[off + 6] = (int) (w0 >>> 42 & 0x7FL);
+			dest[off + 7] = (int) (w0 >>> 49 & 0x7FL);
+			dest[off + 8] = (int) (w0 >>> 56 & 0x7FL);
+			final long w1 = data[j + 1];
+			dest[off + 9] = (int) ((w0 >>> 63 | w1 << 1) & 0x7FL);
+			dest[off + 10] = (int) (w1 >>> 6 & 0x7FL);
+			dest[off + 11] = (int) (w1 >>> 13 & 0x7FL);
+			dest[off + 12] = (int) (w1 >>> 20 & 0x7FL);
+			dest[off + 13] = (int) (w1 >>> 27 & 0x7FL);
+			dest[off + 14] = (int) (w1 >>> 34 & 0x7FL);
+			dest[off + 15] = (int) (w1 >>> 41 & 0x7FL);
+			dest[off + 16] = (int) (w1 >>> 48 & 0x7FL);
+			dest[off + 17] = (int) (w1 >>> 55 & 0x7FL);
+			final long w2 = data[j + 2];
+			dest[off + 18] = (int) ((w1 >>> 62 | w2 << 2) & 0x7FL);
+			dest[off + 19] = (int) (w2 >>> 5 & 0x7FL);
+			dest[off + 20] = (int) (w2 >>> 12 & 0x7FL);
+			dest[off + 21] = (int) (w2 >>> 19 & 0x7FL);
+			dest[off + 22] = (int) (w2 >>> 26 & 0x7FL);
+			dest[off + 23] = (int) (w2 >>> 33 & 0x7FL);
+			dest[off + 24] = (int) (w2 >>> 40 & 0x7FL);
+			dest[off + 25] = (int) (w2 >>> 47 & 0x7FL);
+			dest[off + 26] = (int) (w2 >>> 54 & 0x7FL);
+			final long w3 = data[j + 3];
+			dest[off + 27] = (int) ((w2 >>> 61 | w3 << 3) & 0x7FL);
+			dest[off + 28] = (int) (w3 >>> 4 & 0x7FL);
+			dest[off + 29] = (int) (w3 >>> 11 & 0x7FL);
+			dest[off + 30] = (int) (w3 >>> 18 & 0x7FL);
+			dest[off + 31] = (int) (w3 >>> 25 & 0x7FL);
+			dest[off + 32] = (int) (w3 >>> 32 & 0x7FL);
+			dest[off + 33] = (int) (w3 >>> 39 & 0x7FL);
+			dest[off + 34] = (int) (w3 >>> 46 & 0x7FL);
+			dest[off + 35] = (int) (w3 >>> 53 & 0x7FL);
+			final long w4 = data[j + 4];
+			dest[off + 36] = (int) ((w3 >>> 60 | w4 << 4) & 0x7FL);
+			dest[off + 37] = (int) (w4 >>> 3 & 0x7FL);
+			dest[off + 38] = (int) (w4 >>> 10 & 0x7FL);
+			dest[off + 39] = (int) (w4 >>> 17 & 0x7FL);
+			dest[off + 40] = (int) (w4 >>> 24 & 0x7FL);
+			dest[off + 41] = (int) (w4 >>> 31 & 0x7FL);
+			dest[off + 42] = (int) (w4 >>> 38 & 0x7FL);
+			dest[off + 43] = (int) (w4 >>> 45 & 0x7FL);
+			dest[off + 44] = (int) (w4 >>> 52 & 0x7FL);
+			final long w5 = data[j + 5];
+			dest[off + 45] = (int) ((w4 >>> 59 | w5 << 5) & 0x7FL);
+			dest[off + 46] = (int) (w5 >>> 2 & 0x7FL);
+			dest[off + 47] = (int) (w5 >>> 9 & 0x7FL);
+			dest[off + 48] = (int) (w5 >>> 16 & 0x7FL);
+			dest[off + 49] = (int) (w5 >>> 23 & 0x7FL);
+			dest[off + 50] = (int) (w5 >>> 30 & 0x7FL);
+			dest[off + 51] = (int) (w5 >>> 37 & 0x7FL);
+			dest[off + 52] = (int) (w5 >>> 44 & 0x7FL);
+			dest[off + 53] = (int) (w5 >>> 51 & 0x7FL);
+			final long w6 = data[j + 6];
+			dest[off + 54] = (int) ((w5 >>> 58 | w6 << 6) & 0x7FL);
+			dest[off + 55] = (int) (w6 >>> 1 & 0x7FL);
+			dest[off + 56] = (int) (w6 >>> 8 & 0x7FL);
+			dest[off + 57] = (int) (w6 >>> 15 & 0x7FL);
+			dest[off + 58] = (int) (w6 >>> 22 & 0x7FL);
+			dest[off + 59] = (int) (w6 >>> 29 & 0x7FL);
+			dest[off + 60] = (int) (w6 >>> 36 & 0x7FL);
+			dest[off + 61] = (int) (w6 >>> 43 & 0x7FL);
+			dest[off + 62] = (int) (w6 >>> 50 & 0x7FL);
+			dest[off + 63] = (int) (w6 >>> 57);
+		}
+	}
+
+	private static void encode7(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 7) {
+			final long v0 = src[off] & 0x7FL;
+			final long v1 = src[off + 1] & 0x7FL;
+			final long v2 = src[off + 2] & 0x7FL;
+			final long v3 = src[off + 3] & 0x7FL;
+			final long v4 = src[off + 4] & 0x7FL;
+			final long v5 = src[off + 5] & 0x7FL;
+			final long v6 = src[off + 6] & 0x7FL;
+			final long v7 = src[off + 7] & 0x7FL;
+			final long v8 = src[off + 8] & 0x7FL;
+			final long v9 = src[off + 9] & 0x7FL;
+			final long v10 = src[off + 10] & 0x7FL;
+			final long v11 = src[off + 11] & 0x7FL;
+			final long v12 = src[off + 12] & 0x7FL;
+			final long v13 = src[off + 13] & 0x7FL;
+			final long v14 = src[off + 14] & 0x7FL;
+			final long v15 = src[off + 15] & 0x7FL;
+			final long v16 = src[off + 16] & 0x7FL;
+			final long v17 = src[off + 17] & 0x7FL;
+			final long v18 = src[off + 18] & 0x7FL;
+			final long v19 = src[off + 19] & 0x7FL;
+			final long v20 = src[off + 20] & 0x7FL;
+			final long v21 = src[off + 21] & 0x7FL;
+			final long v22 = src[off + 22] & 0x7FL;
+			final long v23 = src[off + 23] & 0x7FL;
+			final long v24 = src[off + 24] & 0x7FL;
+			final long v25 = src[off + 25] & 0x7FL;
+			final long v26 = src[off + 26] & 0x7FL;
+			final long v27 = src[off + 27] & 0x7FL;
+			final long v28 = src[off + 28] & 0x7FL;
+			final long v29 = src[off + 29] & 0x7FL;
+			final long v30 = src[off + 30] & 0x7FL;
+			final long v31 = src[off + 31] & 0x7FL;
+			final long v32 = src[off + 32] & 0x7FL;
+			final long v33 = src[off + 33] & 0x7FL;
+			final long v34 = src[off + 34] & 0x7FL;
+			final long v35 = src[off + 35] & 0x7FL;
+			final long v36 = src[off + 36] & 0x7FL;
+			final long v37 = src[off + 37] & 0x7FL;
+			final long v38 = src[off + 38] & 0x7FL;
+			final long v39 = src[off + 39] & 0x7FL;
+			final long v40 = src[off + 40] & 0x7FL;
+			final long v41 = src[off + 41] & 0x7FL;
+			final long v42 = src[off + 42] & 0x7FL;
+			final long v43 = src[off + 43] & 0x7FL;
+			final long v44 = src[off + 44] & 0x7FL;
+			final long v45 = src[off + 45] & 0x7FL;
+			final long v46 = src[off + 46] & 0x7FL;
+			final long v47 = src[off + 47] & 0x7FL;
+			final long v48 = src[off + 48] & 0x7FL;
+			final long v49 = src[off + 49] & 0x7FL;
+			final long v50 = src[off + 50] & 0x7FL;
+			final long v51 = src[off + 51] & 0x7FL;
+			final long v52 = src[off + 52] & 0x7FL;
+			final long v53 = src[off + 53] & 0x7FL;
+			final long v54 = src[off + 54] & 0x7FL;
+			final long v55 = src[off + 55] & 0x7FL;
+			final long v56 = src[off + 56] & 0x7FL;
+			final long v57 = src[off + 57] & 0x7FL;
+			final long v58 = src[off + 58] & 0x7FL;
+			final long v59 = src[off + 59] & 0x7FL;
+			final long v60 = src[off + 60] & 0x7FL;
+			final long v61 = src[off + 61] & 0x7FL;
+			final long v62 = src[off + 62] & 0x7FL;
+			final long v63 = src[off + 63] & 0x7FL;
+			data[j] = v0 | v1 << 7 | v2 << 14 | v3 << 21 | v4 << 28 | v5 << 35
+					| v6 << 42 | v7 << 49 | v8 << 56 | v9 << 63;
+			data[j + 1] = v9 >>> 1 | v10 << 6 | v11 << 13 | v12 << 20
+					| v13 << 27 | v14 << 34 | v15 << 41 | v16 << 48 | v17 << 55
+					| v18 << 62;
+			data[j + 2] = v18 >>> 2 | v19 << 5 | v20 << 12 | v21 << 19
+					| v22 << 26 | v23 << 33 | v24 << 40 | v25 << 47 | v26 << 54
+					| v27 << 61;
+			data[j + 3] = v27 >>> 3 | v28 << 4 | v29 << 11 | v30 << 18
+					| v31 << 25 | v32 << 32 | v33 << 39 | v34 << 46 | v35 << 53
+					| v36 << 60;
+			data[j + 4] = v36 >>> 4 | v37 << 3 | v38 << 10 | v39 << 17
+					| v40 << 24 | v41 << 31 | v42 << 38 | v43 << 45 | v44 << 52
+					| v45 << 59;
+			data[j + 5] = v45 >>> 5 | v46 << 2 | v47 << 9 | v48 << 16
+					| v49 << 23 | v50 << 30 | v51 << 37 | v52 << 44 | v53 << 51
+					| v54 << 58;
+			data[j + 6] = v54 >>> 6 | v55 << 1 | v56 << 8 | v57 << 15
+					| v58 << 22 | v59 << 29 | v60 << 36 | v61 << 43 | v62 << 50
+					| v63 << 57;
+		}
+	}
+
+	private static void decode8(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 8, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0xFFL);
+			dest[off + 1] = (int) (w0 >>> 8 & 0xFFL);
+			dest[off + 2] = (int) (w0 >>> 16 & 0xFFL);
+			dest[off + 3] = (int) (w0 >>> 24 & 0xFFL);
+			dest[off + 4] = (int) (w0 >>> 32 & 0xFFL);
+			dest[off + 5] = (int) (w0 >>> 40 & 0xFFL);
+			dest[off + 6] = (int) (w0 >>> 48 & 0xFFL);
+			dest[off + 7] = (int) (w0 >>> 56);
+			final long w1 = data[j + 1];
+			dest[off + 8] = (int) (w1 & 0xFFL);
+			dest[off + 9] = (int) (w1 >>> 8 & 0xFFL);
+			dest[off + 10] = (int) (w1 >>> 16 & 0xFFL);
+			dest[off + 11] = (int) (w1 >>> 24 & 0xFFL);
+			dest[off + 12] = (int) (w1 >>> 32 & 0xFFL);
+			dest[off + 13] = (int) (w1 >>> 40 & 0xFFL);
+			dest[off + 14] = (int) (w1 >>> 48 & 0xFFL);
+			dest[off + 15] = (int) (w1 >>> 56);
+			final long w2 = data[j + 2];
+			dest[off + 16] = (int) (w2 & 0xFFL);
+			dest[off + 17] = (int) (w2 >>> 8 & 0xFFL);
+			dest[off + 18] = (int) (w2 >>> 16 & 0xFFL);
+			dest[off + 19] = (int) (w2 >>> 24 & 0xFFL);
+			dest[off + 20] = (int) (w2 >>> 32 & 0xFFL);
+			dest[off + 21] = (int) (w2 >>> 40 & 0xFFL);
+			dest[off + 22] = (int) (w2 >>> 48 & 0xFFL);
+			dest[off + 23] = (int) (w2 >>> 56);
+			final long w3 = data[j + 3];
+			dest[off + 24] = (int) (w3 & 0xFFL);
+			dest[off + 25] = (int) (w3 >>> 8 & 0xFFL);
+			dest[off + 26] = (int) (w3 >>> 16 & 0xFFL);
+			dest[off + 27] = (int) (w3 >>> 24 & 0xFFL);
+			dest[off + 28] = (int) (w3 >>> 32 & 0xFFL);
+			dest[off + 29] = (int) (w3 >>> 40 & 0xFFL);
+			dest[off + 30] = (int) (w3 >>> 48 & 0xFFL);
+			dest[off + 31] = (int) (w3 >>> 56);
+			final long w4 = data[j + 4];
+			dest[off + 32] = (int) (w4 & 0xFFL);
+			dest[off + 33] = (int) (w4 >>> 8 & 0xFFL);
+			dest[off + 34] = (int) (w4 >>> 16 & 0xFFL);
+			dest[off + 35] = (int) (w4 >>> 24 & 0xFFL);
+			dest[off + 36] = (int) (w4 >>> 32 & 0xFFL);
+			dest[off + 37] = (int) (w4 >>> 40 & 0xFFL);
+			dest[off + 38] = (int) (w4 >>> 48 & 0xFFL);
+			dest[off + 39] = (int) (w4 >>> 56);
+			final long w5 = data[j + 5];
+			dest[off + 40] = (int) (w5 & 0xFFL);
+			dest[off + 41] = (int) (w5 >>> 8 & 0xFFL);
+			dest[off + 42] = (int) (w5 >>> 16 & 0xFFL);
+			dest[off + 43] = (int) (w5 >>> 24 & 0xFFL);
+			dest[off + 44] = (int) (w5 >>> 32 & 0xFFL);
+			dest[off + 45] = (int) (w5 >>> 40 & 0xFFL);
+			dest[off + 46] = (int) (w5 >>> 48 & 0xFFL);
+			dest[off + 47] = (int) (w5 >>> 56);
+			final long w6 = data[j + 6];
+			dest[off + 48] = (int) (w6 & 0xFFL);
+			dest[off + 49] = (int) (w6 >>> 8 & 0xFFL);
+			dest[off + 50] = (int) (w6 >>> 16 & 0xFFL);
+			dest[off + 51] = (int) (w6 >>> 24 & 0xFFL);
+			dest[off + 52] = (int) (w6 >>> 32 & 0xFFL);
+			dest[off + 53] = (int) (w6 >>> 40 & 0xFFL);
+			dest[off + 54] = (int) (w6 >>> 48 & 0xFFL);
+			dest[off + 55] = (int) (w6 >>> 56);
+			final long w7 = data[j + 7];
+			dest[off + 56] = (int) (w7 & 0xFFL);
+			dest[off + 57] = (int) (w7 >>> 8 & 0xFFL);
+			dest[off + 58] = (int) (w7 >>> 16 & 0xFFL);
+			dest[off + 59] = (int) (w7 >>> 24 & 0xFFL);
+			dest[off + 60] = (int) (w7 >>> 32 & 0xFFL);
+			dest[off + 61] = (int) (w7 >>> 40 & 0xFFL);
+			dest[off + 62] = (int) (w7 >>> 48 & 0xFFL);
+			dest[off + 63] = (int) (w7 >>> 56);
+		}
+	}
+
+	private static void encode8(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 8) {
+			final long v0 = src[off] & 0xFFL;
+			final long v1 = src[off + 1] & 0xFFL;
+			final long v2 = src[off + 2] & 0xFFL;
+			final long v3 = src[off + 3] & 0xFFL;
+			final long v4 = src[off + 4] & 0xFFL;
+			final long v5 = src[off + 5] & 0xFFL;
+			final long v6 = src[off + 6] & 0xFFL;
+			final long v7 = src[off + 7] & 0xFFL;
+			final long v8 = src[off + 8] & 0xFFL;
+			final long v9 = src[off + 9] & 0xFFL;
+			final long v10 = src[off + 10] & 0xFFL;
+			final long v11 = src[off + 11] & 0xFFL;
+			final long v12 = src[off + 12] & 0xFFL;
+			final long v13 = src[off + 13] & 0xFFL;
+			final long v14 = src[off + 14] & 0xFFL;
+			final long v15 = src[off + 15] & 0xFFL;
+			final long v16 = src[off + 16] & 0xFFL;
+			final long v17 = src[off + 17] & 0xFFL;
+			final long v18 = src[off + 18] & 0xFFL;
+			final long v19 = src[off + 19] & 0xFFL;
+			final long v20 = src[off + 20] & 0xFFL;
+			final long v21 = src[off + 21] & 0xFFL;
+			final long v22 = src[off + 22] & 0xFFL;
+			final long v23 = src[off + 23] & 0xFFL;
+			final long v24 = src[off + 24] & 0xFFL;
+			final long v25 = src[off + 25] & 0xFFL;
+			final long v26 = src[off + 26] & 0xFFL;
+			final long v27 = src[off + 27] & 0xFFL;
+			final long v28 = src[off + 28] & 0xFFL;
+			final long v29 = src[off + 29] & 0xFFL;
+			final long v30 = src[off + 30] & 0xFFL;
+			final long v31 = src[off + 31] & 0xFFL;
+			final long v32 = src[off + 32] & 0xFFL;
+			final long v33 = src[off + 33] & 0xFFL;
+			final long v34 = src[off + 34] & 0xFFL;
+			final long v35 = src[off + 35] & 0xFFL;
+			final long v36 = src[off + 36] & 0xFFL;
+			final long v37 = src[off + 37] & 0xFFL;
+			final long v38 = src[off + 38] & 0xFFL;
+			final long v39 = src[off + 39] & 0xFFL;
+			final long v40 = src[off + 40] & 0xFFL;
+			final long v41 = src[off + 41] & 0xFFL;
+			final long v42 = src[off + 42] & 0xFFL;
+			final long v43 = src[off + 43] & 0xFFL;
+			final long v44 = src[off + 44] & 0xFFL;
+			final long v45 = src[off + 45] & 0xFFL;
+			final long v46 = src[off + 46] & 0xFFL;
+			final long v47 = src[off + 47] & 0xFFL;
+			final long v48 = src[off + 48] & 0xFFL;
+			final long v49 = src[off + 49] & 0xFFL;
+			final long v50 = src[off + 50] & 0xFFL;
+			final long v51 = src[off + 51] & 0xFFL;
+			final long v52 = src[off + 52] & 0xFFL;
+			final long v53 = src[off + 53] & 0xFFL;
+			final long v54 = src[off + 54] & 0xFFL;
+			final long v55 = src[off + 55] & 0xFFL;
+			final long v56 = src[off + 56] & 0xFFL;
+			final long v57 = src[off + 57] & 0xFFL;
+			final long v58 = src[off + 58] & 0xFFL;
+			final long v59 = src[off + 59] & 0xFFL;
+			final long v60 = src[off + 60] & 0xFFL;
+			final long v61 = src[off + 61] & 0xFFL;
+			final long v62 = src[off + 62] & 0xFFL;
+			final long v63 = src[off + 63] & 0xFFL;
+			data[j] = v0 | v1 << 8 | v2 << 16 | v3 << 24 | v4 << 32 | v5 << 40
+					| v6 << 48 | v7 << 56;
+			data[j + 1] = v8 | v9 << 8 | v10 << 16 | v11 << 24 | v12 << 32
+					| v13 << 40 | v14 << 48 | v15 << 56;
+			data[j + 2] = v16 | v17 << 8 | v18 << 16 | v19 << 24 | v20 << 32
+					| v21 << 40 | v22 << 48 | v23 << 56;
+			data[j + 3] = v24 | v25 << 8 | v26 << 16 | v27 << 24 | v28 << 32
+					| v29 << 40 | v30 << 48 | v31 << 56;
+			data[j + 4] = v32 | v33 << 8 | v34 << 16 | v35 << 24 | v36 << 32
+					| v37 << 40 | v38 << 48 | v39 << 56;
+			data[j + 5] = v40 | v41 << 8 | v42 << 16 | v43 << 24 | v44 << 32
+					| v45 << 40 | v46 << 48 | v47 << 56;
+			data[j + 6] = v48 | v49 << 8 | v50 << 16 | v51 << 24 | v52 << 32
+					| v53 << 40 | v54 << 48 | v55 << 56;
+			data[j + 7] = v56 | v57 << 8 | v58 << 16 | v59 << 24 | v60 << 32
+					| v61 << 40 | v62 << 48 | v63 << 56;
+		}
+	}
+
+	private static void decode9(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 9, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x1FFL);
+			dest[off + 1] = (int) (w0 >>> 9 & 0x1FFL);
+			dest[off + 2] = (int) (w0 >>> 18 & 0x1FFL);
+			dest[off + 3] = (int) (w0 >>> 27 & 0x1FFL);
+			dest[off + 4] = (int) (w0 >>> 36 & 0x1FFL);
+			dest[off + 5] = (int) (w0 >>> 45 & 0x1FFL);
+			dest[off + 6] = (int) (w0 >>> 54 & 0x1FFL);
+			final long w1 = data[j + 1];
+			dest[off + 7] = (int) ((w0 >>> 63 | w1 << 1) & 0x1FFL);
+			dest[off + 8] = (int) (w1 >>> 8 & 0x1FFL);
+			dest[off + 9] = (int) (w1 >>> 17 & 0x1FFL);
+			dest[off + 10] = (int) (w1 >>> 26 & 0x1FFL);
+			dest[off + 11] = (int) (w1 >>> 35 & 0x1FFL);
+			dest[off + 12] = (int) (w1 >>> 44 & 0x1FFL);
+			dest[off + 13] = (int) (w1 >>> 53 & 0x1FFL);
+			final long w2 = data[j + 2];
+			dest[off + 14] = (int) ((w1 >>> 62 | w2 << 2) & 0x1FFL);
+			dest[off + 15] = (int) (w2 >>> 7 & 0x1FFL);
+			dest[off + 16] = (int) (w2 >>> 16 & 0x1FFL);
+			dest[off + 17] = (int) (w2 >>> 25 & 0x1FFL);
+			dest[off + 18] = (int) (w2 >>> 34 & 0x1FFL);
+			dest[off + 19] = (int) (w2 >>> 43 & 0x1FFL);
+			dest[off + 20] = (int) (w2 >>> 52 & 0x1FFL);
+			final long w3 = data[j + 3];
+			dest[off + 21] = (int) ((w2 >>> 61 | w3 << 3) & 0x1FFL);
+			dest[off + 22] = (int) (w3 >>> 6 & 0x1FFL);
+			dest[off + 23] = (int) (w3 >>> 15 & 0x1FFL);
+			dest[off + 24] = (int) (w3 >>> 24 & 0x1FFL);
+			dest[off + 25] = (int) (w3 >>> 33 & 0x1FFL);
+			dest[off + 26] = (int) (w3 >>> 42 & 0x1FFL);
+			dest[off + 27] = (int) (w3 >>> 51 & 0x1FFL);
+			final long w4 = data[j + 4];
+			dest[off + 28] = (int) ((w3 >>> 60 | w4 << 4) & 0x1FFL);
+			dest[off + 29] = (int) (w4 >>> 5 & 0x1FFL);
+			dest[off + 30] = (int) (w4 >>> 14 & 0x1FFL);
+			dest[off + 31] = (int) (w4 >>> 23 & 0x1FFL);
+			dest[off + 32] = (int) (w4 >>> 32 & 0x1FFL);
+			dest[off + 33] = (int) (w4 >>> 41 & 0x1FFL);
+			dest[off + 34] = (int) (w4 >>> 50 & 0x1FFL);
+			final long w5 = data[j + 5];
+			dest[off + 35] = (int) ((w4 >>> 59 | w5 << 5) & 0x1FFL);
+			dest[off + 36] = (int) (w5 >>> 4 & 0x1FFL);
+			dest[off + 37] = (int) (w5 >>> 13 & 0x1FFL);
+			dest[off + 38] = (int) (w5 >>> 22 & 0x1FFL);
+			dest[off + 39] = (int) (w5 >>> 31 & 0x1FFL);
+			dest[off + 40] = (int) (w5 >>> 40 & 0x1FFL);
+			dest[off + 41] = (int) (w5 >>> 49 & 0x1FFL);
+			final long w6 = data[j + 6];
+			dest[off + 42] = (int) ((w5 >>> 58 | w6 << 6) & 0x1FFL);
+			dest[off + 43] = (int) (w6 >>> 3 & 0x1FFL);
+			dest[off + 44] = (int) (w6 >>> 12 & 0x1FFL);
+			dest[off + 45] = (int) (w6 >>> 21 & 0x1FFL);
+			dest[off + 46] = (int) (w6 >>> 30 & 0x1FFL);
+			dest[off + 47] = (int) (w6 >>> 39 & 0x1FFL);
+			dest[off + 48] = (int) (w6 >>> 48 & 0x1FFL);
+			final long w7 = data[j + 7];
+			dest[off + 49] = (int) ((w6 >>> 57 | w7 << 7) & 0x1FFL);
+			dest[off + 50] = (int) (w7 >>> 2 & 0x1FFL);
+			dest[off + 51] = (int) (w7 >>> 11 & 0x1FFL);
+			dest[off + 52] = (int) (w7 >>> 20 & 0x1FFL);
+			dest[off + 53] = (int) (w7 >>> 29 & 0x1FFL);
+			dest[off + 54] = (int) (w7 >>> 38 & 0x1FFL);
+			dest[off + 55] = (int) (w7 >>> 47 & 0x1FFL);
+			final long w8 = data[j + 8];
+			dest[off + 56] = (int) ((w7 >>> 56 | w8 << 8) & 0x1FFL);
+			dest[off + 57] = (int) (w8 >>> 1 & 0x1FFL);
+			dest[off + 58] = (int) (w8 >>> 10 & 0x1FFL);
+			dest[off + 59] = (int) (w8 >>> 19 & 0x1FFL);
+			dest[off + 60] = (int) (w8 >>> 28 & 0x1FFL);
+			dest[off + 61] = (int) (w8 >>> 37 & 0x1FFL);
+			dest[off + 62] = (int) (w8 >>> 46 & 0x1FFL);
+			dest[off + 63] = (int) (w8 >>> 55);
+		}
+	}
+
+	private static void encode9(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 9) {
+			final long v0 = src[off] & 0x1FFL;
+			final long v1 = src[off + 1] & 0x1FFL;
+			final long v2 = src[off + 2] & 0x1FFL;
+			final long v3 = src[off + 3] & 0x1FFL;
+			final long v4 = src[off + 4] & 0x1FFL;
+			final long v5 = src[off + 5] & 0x1FFL;
+			final long v6 = src[off + 6] & 0x1FFL;
+			final long v7 = src[off + 7] & 0x1FFL;
+			final long v8 = src[off + 8] & 0x1FFL;
+			final long v9 = src[off + 9] & 0x1FFL;
+			final long v10 = src[off + 10] & 0x1FFL;
+			final long v11 = src[off + 11] & 0x1FFL;
+			final long v12 = src[off + 12] & 0x1FFL;
+			final long v13 = src[off + 13] & 0x1FFL;
+			final long v14 = src[off + 14] & 0x1FFL;
+			final long v15 = src[off + 15] & 0x1FFL;
+			final long v16 = src[off + 16] & 0x1FFL;
+			final long v17 = src[off + 17] & 0x1FFL;
+			final long v18 = src[off + 18] & 0x1FFL;
+			final long v19 = src[off + 19] & 0x1FFL;
+			final long v20 = src[off + 20] & 0x1FFL;
+			final long v21 = src[off + 21] & 0x1FFL;
+			final long v22 = src[off + 22] & 0x1FFL;
+			final long v23 = src[off + 23] & 0x1FFL;
+			final long v24 = src[off + 24] & 0x1FFL;
+			final long v25 = src[off + 25] & 0x1FFL;
+			final long v26 = src[off + 26] & 0x1FFL;
+			final long v27 = src[off + 27] & 0x1FFL;
+			final long v28 = src[off + 28] & 0x1FFL;
+			final long v29 = src[off + 29] & 0x1FFL;
+			final long v30 = src[off + 30] & 0x1FFL;
+			final long v31 = src[off + 31] & 0x1FFL;
+			final long v32 = src[off + 32] & 0x1FFL;
+			final long v33 = src[off + 33] & 0x1FFL;
+			final long v34 = src[off + 34] & 0x1FFL;
+			final long v35 = src[off + 35] & 0x1FFL;
+			final long v36 = src[off + 36] & 0x1FFL;
+			final long v37 = src[off + 37] & 0x1FFL;
+			final long v38 = src[off + 38] & 0x1FFL;
+			final long v39 = src[off + 39] & 0x1FFL;
+			final long v40 = src[off + 40] & 0x1FFL;
+			final long v41 = src[off + 41] & 0x1FFL;
+			final long v42 = src[off + 42] & 0x1FFL;
+			final long v43 = src[off + 43] & 0x1FFL;
+			final long v44 = src[off + 44] & 0x1FFL;
+			final long v45 = src[off + 45] & 0x1FFL;
+			final long v46 = src[off + 46] & 0x1FFL;
+			final long v47 = src[off + 47] & 0x1FFL;
+			final long v48 = src[off + 48] & 0x1FFL;
+			final long v49 = src[off + 49] & 0x1FFL;
+			final long v50 = src[off + 50] & 0x1FFL;
+			final long v51 = src[off + 51] & 0x1FFL;
+			final long v52 = src[off + 52] & 0x1FFL;
+			final long v53 = src[off + 53] & 0x1FFL;
+			final long v54 = src[off + 54] & 0x1FFL;
+			final long v55 = src[off + 55] & 0x1FFL;
+			final long v56 = src[off + 56] & 0x1FFL;
+			final long v57 = src[off + 57] & 0x1FFL;
+			final long v58 = src[off + 58] & 0x1FFL;
+			final long v59 = src[off + 59] & 0x1FFL;
+			final long v60 = src[off + 60] & 0x1FFL;
+			final long v61 = src[off + 61] & 0x1FFL;
+			final long v62 = src[off + 62] & 0x1FFL;
+			final long v63 = src[off + 63] & 0x1FFL;
+			data[j] = v0 | v1 << 9 | v2 << 18 | v3 << 27 | v4 << 36 | v5 << 45
+					| v6 << 54 | v7 << 63;
+			data[j + 1] = v7 >>> 1 | v8 << 8 | v9 << 17 | v10 << 26 | v11 << 35
+					| v12 << 44 | v13 << 53 | v14 << 62;
+			data[j + 2] = v14 >>> 2 | v15 << 7 | v16 << 16 | v17 << 25
+					| v18 << 34 | v19 << 43 | v20 << 52 | v21 << 61;
+			data[j + 3] = v21 >>> 3 | v22 << 6 | v23 << 15 | v24 << 24
+					| v25 << 33 | v26 << 42 | v27 << 51 | v28 << 60;
+			data[j + 4] = v28 >>> 4 | v29 << 5 | v30 << 14 | v31 << 23
+					| v32 << 32 | v33 << 41 | v34 << 50 | v35 << 59;
+			data[j + 5] = v35 >>> 5 | v36 << 4 | v37 << 13 | v38 << 22
+					| v39 << 31 | v40 << 40 | v41 << 49 | v42 << 58;
+			data[j + 6] = v42 >>> 6 | v43 << 3 | v44 << 12 | v45 << 21
+					| v46 << 30 | v47 << 39 | v48 << 48 | v49 << 57;
+			data[j + 7] = v49 >>> 7 | v50 << 2 | v51 << 11 | v52 << 20
+					| v53 << 29 | v54 << 38 | v55 << 47 | v56 << 56;
+			data[j + 8] = v56 >>> 8 | v57 << 1 | v58 << 10 | v59 << 19
+					| v60 << 28 | v61 << 37 | v62 << 46 | v63 << 55;
+		}
+	}
+
+	private static void decode10(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 10, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x3FFL);
+			dest[off + 1] = (int) (w0 >>> 10 & 0x3FFL);
+			dest[off + 2] = (int) (w0 >>> 20 & 0x3FFL);
+			dest[off + 3] = (int) (w0 >>> 30 & 0x3FFL);
+			dest[off + 4] = (int) (w0 >>> 40 & 0x3FFL);
+			dest[off + 5] = (int) (w0 >>> 50 & 0x3FFL);
+			final long w1 = data[j + 1];
+			dest[off + 6] = (int) ((w0 >>> 60 | w1 << 4) & 0x3FFL);
+			dest[off + 7] = (int) (w1 >>> 6 & 0x3FFL);
+			dest[off + 8] = (int) (w1 >>> 16 & 0x3FFL);
+			dest[off + 9] = (int) (w1 >>> 26 & 0x3FFL);
+			dest[off + 10] = (int) (w1 >>> 36 & 0x3FFL);
+			dest[off + 11] = (int) (w1 >>> 46 & 0x3FFL);
+			final long w2 = data[j + 2];
+			dest[off + 12] = (int) ((w1 >>> 56 | w2 << 8) & 0x3FFL);
+			dest[off + 13] = (int) (w2 >>> 2 & 0x3FFL);
+			dest[off + 14] = (int) (w2 >>> 12 & 0x3FFL);
+			dest[off + 15] = (int) (w2 >>> 22 & 0x3FFL);
+			dest[off + 16] = (int) (w2 >>> 32 & 0x3FFL);
+			dest[off + 17] = (int) (w2 >>> 42 & 0x3FFL);
+			dest[off + 18] = (int) (w2 >>> 52 & 0x3FFL);
+			final long w3 = data[j + 3];
+			dest[off + 19] = (int) ((w2 >>> 62 | w3 << 2) & 0x3FFL);
+			dest[off + 20] = (int) (w3 >>> 8 & 0x3FFL);
+			dest[off + 21] = (int) (w3 >>> 18 & 0x3FFL);
+			dest[off + 22] = (int) (w3 >>> 28 & 0x3FFL);
+			dest[off + 23] = (int) (w3 >>> 38 & 0x3FFL);
+			dest[off + 24] = (int) (w3 >>> 48 & 0x3FFL);
+			final long w4 = data[j + 4];
+			dest[off + 25] = (int) ((w3 >>> 58 | w4 << 6) & 0x3FFL);
+			dest[off + 26] = (int) (w4 >>> 4 & 0x3FFL);
+			dest[off + 27] = (int) (w4 >>> 14 & 0x3FFL);
+			dest[off + 28] = (int) (w4 >>> 24 & 0x3FFL);
+			dest[off + 29] = (int) (w4 >>> 34 & 0x3FFL);
+			dest[off + 30] = (int) (w4 >>> 44 & 0x3FFL);
+			dest[off + 31] = (int) (w4 >>> 54);
+			final long w5 = data[j + 5];
+			dest[off + 32] = (int) (w5 & 0x3FFL);
+			dest[off + 33] = (int) (w5 >>> 10 & 0x3FFL);
+			dest[off + 34] = (int) (w5 >>> 20 & 0x3FFL);
+			dest[off + 35] = (int) (w5 >>> 30 & 0x3FFL);
+			dest[off + 36] = (int) (w5 >>> 40 & 0x3FFL);
+			dest[off + 37] = (int) (w5 >>> 50 & 0x3FFL);
+			final long w6 = data[j + 6];
+			dest[off + 38] = (int) ((w5 >>> 60 | w6 << 4) & 0x3FFL);
+			dest[off + 39] = (int) (w6 >>> 6 & 0x3FFL);
+			dest[off + 40] = (int) (w6 >>> 16 & 0x3FFL);
+			dest[off + 41] = (int) (w6 >>> 26 & 0x3FFL);
+			dest[off + 42] = (int) (w6 >>> 36 & 0x3FFL);
+			dest[off + 43] = (int) (w6 >>> 46 & 0x3FFL);
+			final long w7 = data[j + 7];
+			dest[off + 44] = (int) ((w6 >>> 56 | w7 << 8) & 0x3FFL);
+			dest[off + 45] = (int) (w7 >>> 2 & 0x3FFL);
+			dest[off + 46] = (int) (w7 >>> 12 & 0x3FFL);
+			dest[off + 47] = (int) (w7 >>> 22 & 0x3FFL);
+			dest[off + 48] = (int) (w7 >>> 32 & 0x3FFL);
+			dest[off + 49] = (int) (w7 >>> 42 & 0x3FFL);
+			dest[off + 50] = (int) (w7 >>> 52 & 0x3FFL);
+			final long w8 = data[j + 8];
+			dest[off + 51] = (int) ((w7 >>> 62 | w8 << 2) & 0x3FFL);
+			dest[off + 52] = (int) (w8 >>> 8 & 0x3FFL);
+			dest[off + 53] = (int) (w8 >>> 18 & 0x3FFL);
+			dest[off + 54] = (int) (w8 >>> 28 & 0x3FFL);
+			dest[off + 55] = (int) (w8 >>> 38 & 0x3FFL);
+			dest[off + 56] = (int) (w8 >>> 48 & 0x3FFL);
+			final long w9 = data[j + 9];
+			dest[off + 57] = (int) ((w8 >>> 58 | w9 << 6) & 0x3FFL);
+			dest[off + 58] = (int) (w9 >>> 4 & 0x3FFL);
+			dest[off + 59] = (int) (w9 >>> 14 & 0x3FFL);
+			dest[off + 60] = (int) (w9 >>> 24 & 0x3FFL);
+			dest[off + 61] = (int) (w9 >>> 34 & 0x3FFL);
+			dest[off + 62] = (int) (w9 >>> 44 & 0x3FFL);
+			dest[off + 63] = (int) (w9 >>> 54);
+		}
+	}
+
+	private static void encode10(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 10) {
+			final long v0 = src[off] & 0x3FFL;
+			final long v1 = src[off + 1] & 0x3FFL;
+			final long v2 = src[off + 2] & 0x3FFL;
+			final long v3 = src[off + 3] & 0x3FFL;
+			final long v4 = src[off + 4] & 0x3FFL;
+			final long v5 = src[off + 5] & 0x3FFL;
+			final long v6 = src[off + 6] & 0x3FFL;
+			final long v7 = src[off + 7] & 0x3FFL;
+			final long v8 = src[off + 8] & 0x3FFL;
+			final long v9 = src[off + 9] & 0x3FFL;
+			final long v10 = src[off + 10] & 0x3FFL;
+			final long v11 = src[off + 11] & 0x3FFL;
+			final long v12 = src[off + 12] & 0x3FFL;
+			final long v13 = src[off + 13] & 0x3FFL;
+			final long v14 = src[off + 14] & 0x3FFL;
+			final long v15 = src[off + 15] & 0x3FFL;
+			final long v16 = src[off + 16] & 0x3FFL;
+			final long v17 = src[off + 17] & 0x3FFL;
+			final long v18 = src[off + 18] & 0x3FFL;
+			final long v19 = src[off + 19] & 0x3FFL;
+			final long v20 = src[off + 20] & 0x3FFL;
+			final long v21 = src[off + 21] & 0x3FFL;
+			final long v22 = src[off + 22] & 0x3FFL;
+			final long v23 = src[off + 23] & 0x3FFL;
+			final long v24 = src[off + 24] & 0x3FFL;
+			final long v25 = src[off + 25] & 0x3FFL;
+			final long v26 = src[off + 26] & 0x3FFL;
+			final long v27 = src[off + 27] & 0x3FFL;
+			final long v28 = src[off + 28] & 0x3FFL;
+			final long v29 = src[off + 29] & 0x3FFL;
+			final long v30 = src[off + 30] & 0x3FFL;
+			final long v31 = src[off + 31] & 0x3FFL;
+			final long v32 = src[off + 32] & 0x3FFL;
+			final long v33 = src[off + 33] & 0x3FFL;
+			final long v34 = src[off + 34] & 0x3FFL;
+			final long v35 = src[off + 35] & 0x3FFL;
+			final long v36 = src[off + 36] & 0x3FFL;
+			final long v37 = src[off + 37] & 0x3FFL;
+			final long v38 = src[off + 38] & 0x3FFL;
+			final long v39 = src[off + 39] & 0x3FFL;
+			final long v40 = src[off + 40] & 0x3FFL;
+			final long v41 = src[off + 41] & 0x3FFL;
+			final long v42 = src[off + 42] & 0x3FFL;
+			final long v43 = src[off + 43] & 0x3FFL;
+			final long v44 = src[off + 44] & 0x3FFL;
+			final long v45 = src[off + 45] & 0x3FFL;
+			final long v46 = src[off + 46] & 0x3FFL;
+			final long v47 = src[off + 47] & 0x3FFL;
+			final long v48 = src[off + 48] & 0x3FFL;
+			final long v49 = src[off + 49] & 0x3FFL;
+			final long v50 = src[off + 50] & 0x3FFL;
+			final long v51 = src[off + 51] & 0x3FFL;
+			final long v52 = src[off + 52] & 0x3FFL;
+			final long v53 = src[off + 53] & 0x3FFL;
+			final long v54 = src[off + 54] & 0x3FFL;
+			final long v55 = src[off + 55] & 0x3FFL;
+			final long v56 = src[off + 56] & 0x3FFL;
+			final long v57 = src[off + 57] & 0x3FFL;
+			final long v58 = src[off + 58] & 0x3FFL;
+			final long v59 = src[off + 59] & 0x3FFL;
+			final long v60 = src[off + 60] & 0x3FFL;
+			final long v61 = src[off + 61] & 0x3FFL;
+			final long v62 = src[off + 62] & 0x3FFL;
+			final long v63 = src[off + 63] & 0x3FFL;
+			data[j] = v0 | v1 << 10 | v2 << 20 | v3 << 30 | v4 << 40 | v5 << 50
+					| v6 << 60;
+			data[j + 1] = v6 >>> 4 | v7 << 6 | v8 << 16 | v9 << 26 | v10 << 36
+					| v11 << 46 | v12 << 56;
+			data[j + 2] = v12 >>> 8 | v13 << 2 | v14 << 12 | v15 << 22
+					| v16 << 32 | v17 << 42 | v18 << 52 | v19 << 62;
+			data[j + 3] = v19 >>> 2 | v20 << 8 | v21 << 18 | v22 << 28
+					| v23 << 38 | v24 << 48 | v25 << 58;
+			data[j + 4] = v25 >>> 6 | v26 << 4 | v27 << 14 | v28 << 24
+					| v29 << 34 | v30 << 44 | v31 << 54;
+			data[j + 5] = v32 | v33 << 10 | v34 << 20 | v35 << 30 | v36 << 40
+					| v37 << 50 | v38 << 60;
+			data[j + 6] = v38 >>> 4 | v39 << 6 | v40 << 16 | v41 << 26
+					| v42 << 36 | v43 << 46 | v44 << 56;
+			data[j + 7] = v44 >>> 8 | v45 << 2 | v46 << 12 | v47 << 22
+					| v48 << 32 | v49 << 42 | v50 << 52 | v51 << 62;
+			data[j + 8] = v51 >>> 2 | v52 << 8 | v53 << 18 | v54 << 28
+					| v55 << 38 | v56 << 48 | v57 << 58;
+			data[j + 9] = v57 >>> 6 | v58 << 4 | v59 << 14 | v60 << 24
+					| v61 << 34 | v62 << 44 | v63 << 54;
+		}
+	}
+
+	private static void decode11(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 11, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x7FFL);
+			dest[off + 1] = (int) (w0 >>> 11 & 0x7FFL);
+			dest[off + 2] = (int) (w0 >>> 22 & 0x7FFL);
+			dest[off + 3] = (int) (w0 >>> 33 & 0x7FFL);
+			dest[off + 4] = (int) (w0 >>> 44 & 0x7FFL);
+			final long w1 = data[j + 1];
+			dest[off + 5] = (int) ((w0 >>> 55 | w1 << 9) & 0x7FFL);
+			dest[off + 6] = (int) (w1 >>> 2 & 0x7FFL);
+			dest[off + 7] = (int) (w1 >>> 13 & 0x7FFL);
+			dest[off + 8] = (int) (w1 >>> 24 & 0x7FFL);
+			dest[off + 9] = (int) (w1 >>> 35 & 0x7FFL);
+			dest[off + 10] = (int) (w1 >>> 46 & 0x7FFL);
+			final long w2 = data[j + 2];
+			dest[off + 11] = (int) ((w1 >>> 57 | w2 << 7) & 0x7FFL);
+			dest[off + 12] = (int) (w2 >>> 4 & 0x7FFL);
+			dest[off + 13] = (int) (w2 >>> 15 & 0x7FFL);
+			dest[off + 14] = (int) (w2 >>> 26 & 0x7FFL);
+			dest[off + 15] = (int) (w2 >>> 37 & 0x7FFL);
+			dest[off + 16] = (int) (w2 >>> 48 & 0x7FFL);
+			final long w3 = data[j + 3];
+			dest[off + 17] = (int) ((w2 >>> 59 | w3 << 5) & 0x7FFL);
+			dest[off + 18] = (int) (w3 >>> 6 & 0x7FFL);
+			dest[off + 19] = (int) (w3 >>> 17 & 0x7FFL);
+			dest[off + 20] = (int) (w3 >>> 28 & 0x7FFL);
+			dest[off + 21] = (int) (w3 >>> 39 & 0x7FFL);
+			dest[off + 22] = (int) (w3 >>> 50 & 0x7FFL);
+			final long w4 = data[j + 4];
+			dest[off + 23] = (int) ((w3 >>> 61 | w4 << 3) & 0x7FFL);
+			dest[off + 24] = (int) (w4 >>> 8 & 0x7FFL);
+			dest[off + 25] = (int) (w4 >>> 19 & 0x7FFL);
+			dest[off + 26] = (int) (w4 >>> 30 & 0x7FFL);
+			dest[off + 27] = (int) (w4 >>> 41 & 0x7FFL);
+			dest[off + 28] = (int) (w4 >>> 52 & 0x7FFL);
+			final long w5 = data[j + 5];
+			dest[off + 29] = (int) ((w4 >>> 63 | w5 << 1) & 0x7FFL);
+			dest[off + 30] = (int) (w5 >>> 10 & 0x7FFL);
+			dest[off + 31] = (int) (w5 >>> 21 & 0x7FFL);
+			dest[off + 32] = (int) (w5 >>> 32 & 0x7FFL);
+			dest[off + 33] = (int) (w5 >>> 43 & 0x7FFL);
+			final long w6 = data[j + 6];
+			dest[off + 34] = (int) ((w5 >>> 54 | w6 << 10) & 0x7FFL);
+			dest[off + 35] = (int) (w6 >>> 1 & 0x7FFL);
+			dest[off + 36] = (int) (w6 >>> 12 & 0x7FFL);
+			dest[off + 37] = (int) (w6 >>> 23 & 0x7FFL);
+			dest[off + 38] = (int) (w6 >>> 34 & 0x7FFL);
+			dest[off + 39] = (int) (w6 >>> 45 & 0x7FFL);
+			final long w7 = data[j + 7];
+			dest[off + 40] = (int) ((w6 >>> 56 | w7 << 8) & 0x7FFL);
+			dest[off + 41] = (int) (w7 >>> 3 & 0x7FFL);
+			dest[off + 42] = (int) (w7 >>> 14 & 0x7FFL);
+			dest[off + 43] = (int) (w7 >>> 25 & 0x7FFL);
+			dest[off + 44] = (int) (w7 >>> 36 & 0x7FFL);
+			dest[off + 45] = (int) (w7 >>> 47 & 0x7FFL);
+			final long w8 = data[j + 8];
+			dest[off + 46] = (int) ((w7 >>> 58 | w8 << 6) & 0x7FFL);
+			dest[off + 47] = (int) (w8 >>> 5 & 0x7FFL);
+			dest[off + 48] = (int) (w8 >>> 16 & 0x7FFL);
+			dest[off + 49] = (int) (w8 >>> 27 & 0x7FFL);
+			dest[off + 50] = (int) (w8 >>> 38 & 0x7FFL);
+			dest[off + 51] = (int) (w8 >>> 49 & 0x7FFL);
+			final long w9 = data[j + 9];
+			dest[off + 52] = (int) ((w8 >>> 60 | w9 << 4) & 0x7FFL);
+			dest[off + 53] = (int) (w9 >>> 7 & 0x7FFL);
+			dest[off + 54] = (int) (w9 >>> 18 & 0x7FFL);
+			dest[off + 55] = (int) (w9 >>> 29 & 0x7FFL);
+			dest[off + 56] = (int) (w9 >>> 40 & 0x7FFL);
+			dest[off + 57] = (int) (w9 >>> 51 & 0x7FFL);
+			final long w10 = data[j + 10];
+			dest[off + 58] = (int) ((w9 >>> 62 | w10 << 2) & 0x7FFL);
+			dest[off + 59] = (int) (w10 >>> 9 & 0x7FFL);
+			dest[off + 60] = (int) (w10 >>> 20 & 0x7FFL);
+			dest[off + 61] = (int) (w10 >>> 31 & 0x7FFL);
+			dest[off + 62] = (int) (w10 >>> 42 & 0x7FFL);
+			dest[off + 63] = (int) (w10 >>> 53);
+		}
+	}
+
+	private static void encode11(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 11) {
+			final long v0 = src[off] & 0x7FFL;
+			final long v1 = src[off + 1] & 0x7FFL;
+			final long v2 = src[off + 2] & 0x7FFL;
+			final long v3 = src[off + 3] & 0x7FFL;
+			final long v4 = src[off + 4] & 0x7FFL;
+			final long v5 = src[off + 5] & 0x7FFL;
+			final long v6 = src[off + 6] & 0x7FFL;
+			final long v7 = src[off + 7] & 0x7FFL;
+			final long v8 = src[off + 8] & 0x7FFL;
+			final long v9 = src[off + 9] & 0x7FFL;
+			final long v10 = src[off + 10] & 0x7FFL;
+			final long v11 = src[off + 11] & 0x7FFL;
+			final long v12 = src[off + 12] & 0x7FFL;
+			final long v13 = src[off + 13] & 0x7FFL;
+			final long v14 = src[off + 14] & 0x7FFL;
+			final long v15 = src[off + 15] & 0x7FFL;
+			final long v16 = src[off + 16] & 0x7FFL;
+			final long v17 = src[off + 17] & 0x7FFL;
+			final long v18 = src[off + 18] & 0x7FFL;
+			final long v19 = src[off + 19] & 0x7FFL;
+			final long v20 = src[off + 20] & 0x7FFL;
+			final long v21 = src[off + 21] & 0x7FFL;
+			final long v22 = src[off + 22] & 0x7FFL;
+			final long v23 = src[off + 23] & 0x7FFL;
+			final long v24 = src[off + 24] & 0x7FFL;
+			final long v25 = src[off + 25] & 0x7FFL;
+			final long v26 = src[off + 26] & 0x7FFL;
+			final long v27 = src[off + 27] & 0x7FFL;
+			final long v28 = src[off + 28] & 0x7FFL;
+			final long v29 = src[off + 29] & 0x7FFL;
+			final long v30 = src[off + 30] & 0x7FFL;
+			final long v31 = src[off + 31] & 0x7FFL;
+			final long v32 = src[off + 32] & 0x7FFL;
+			final long v33 = src[off + 33] & 0x7FFL;
+			final long v34 = src[off + 34] & 0x7FFL;
+			final long v35 = src[off + 35] & 0x7FFL;
+			final long v36 = src[off + 36] & 0x7FFL;
+			final long v37 = src[off + 37] & 0x7FFL;
+			final long v38 = src[off + 38] & 0x7FFL;
+			final long v39 = src[off + 39] & 0x7FFL;
+			final long v40 = src[off + 40] & 0x7FFL;
+			final long v41 = src[off + 41] & 0x7FFL;
+			final long v42 = src[off + 42] & 0x7FFL;
+			final long v43 = src[off + 43] & 0x7FFL;
+			final long v44 = src[off + 44] & 0x7FFL;
+			final long v45 = src[off + 45] & 0x7FFL;
+			final long v46 = src[off + 46] & 0x7FFL;
+			final long v47 = src[off + 47] & 0x7FFL;
+			final long v48 = src[off + 48] & 0x7FFL;
+			final long v49 = src[off + 49] & 0x7FFL;
+			final long v50 = src[off + 50] & 0x7FFL;
+			final long v51 = src[off + 51] & 0x7FFL;
+			final long v52 = src[off + 52] & 0x7FFL;
+			final long v53 = src[off + 53] & 0x7FFL;
+			final long v54 = src[off + 54] & 0x7FFL;
+			final long v55 = src[off + 55] & 0x7FFL;
+			final long v56 = src[off + 56] & 0x7FFL;
+			final long v57 = src[off + 57] & 0x7FFL;
+			final long v58 = src[off + 58] & 0x7FFL;
+			final long v59 = src[off + 59] & 0x7FFL;
+			final long v60 = src[off + 60] & 0x7FFL;
+			final long v61 = src[off + 61] & 0x7FFL;
+			final long v62 = src[off + 62] & 0x7FFL;
+			final long v63 = src[off + 63] & 0x7FFL;
+			data[j] = v0 | v1 << 11 | v2 << 22 | v3 << 33 | v4 << 44 | v5 << 55;
+			data[j + 1] = v5 >>> 9 | v6 << 2 | v7 << 13 | v8 << 24 | v9 << 35
+					| v10 << 46 | v11 << 57;
+			data[j + 2] = v11 >>> 7 | v12 << 4 | v13 << 15 | v14 << 26
+					| v15 << 37 | v16 << 48 | v17 << 59;
+			data[j + 3] = v17 >>> 5 | v18 << 6 | v19 << 17 | v20 << 28
+					| v21 << 39 | v22 << 50 | v23 << 61;
+			data[j + 4] = v23 >>> 3 | v24 << 8 | v25 << 19 | v26 << 30
+					| v27 << 41 | v28 << 52 | v29 << 63;
+			data[j + 5] = v29 >>> 1 | v30 << 10 | v31 << 21 | v32 << 32
+					| v33 << 43 | v34 << 54;
+			data[j + 6] = v34 >>> 10 | v35 << 1 | v36 << 12 | v37 << 23
+					| v38 << 34 | v39 << 45 | v40 << 56;
+			data[j + 7] = v40 >>> 8 | v41 << 3 | v42 << 14 | v43 << 25
+					| v44 << 36 | v45 << 47 | v46 << 58;
+			data[j + 8] = v46 >>> 6 | v47 << 5 | v48 << 16 | v49 << 27
+					| v50 << 38 | v51 << 49 | v52 << 60;
+			data[j + 9] = v52 >>> 4 | v53 << 7 | v54 << 18 | v55 << 29
+					| v56 << 40 | v57 << 51 | v58 << 62;
+			data[j + 10] = v58 >>> 2 | v59 << 9 | v60 << 20 | v61 << 31
+					| v62 << 42 | v63 << 53;
+		}
+	}
+
+	private static void decode12(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 12, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0xFFFL);
+			dest[off + 1] = (int) (w0 >>> 12 & 0xFFFL);
+			dest[off + 2] = (int) (w0 >>> 24 & 0xFFFL);
+			dest[off + 3] = (int) (w0 >>> 36 & 0xFFFL);
+			dest[off + 4] = (int) (w0 >>> 48 & 0xFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 5] = (int) ((w0 >>> 60 | w1 << 4) & 0xFFFL);
+			dest[off + 6] = (int) (w1 >>> 8 & 0xFFFL);
+			dest[off + 7] = (int) (w1 >>> 20 & 0xFFFL);
+			dest[off + 8] = (int) (w1 >>> 32 & 0xFFFL);
+			dest[off + 9] = (int) (w1 >>> 44 & 0xFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 10] = (int) ((w1 >>> 56 | w2 << 8) & 0xFFFL);
+			dest[off + 11] = (int) (w2 >>> 4 & 0xFFFL);
+			dest[off + 12] = (int) (w2 >>> 16 & 0xFFFL);
+			dest[off + 13] = (int) (w2 >>> 28 & 0xFFFL);
+			dest[off + 14] = (int) (w2 >>> 40 & 0xFFFL);
+			dest[off + 15] = (int) (w2 >>> 52);
+			final long w3 = data[j + 3];
+			dest[off + 16] = (int) (w3 & 0xFFFL);
+			dest[off + 17] = (int) (w3 >>> 12 & 0xFFFL);
+			dest[off + 18] = (int) (w3 >>> 24 & 0xFFFL);
+			dest[off + 19] = (int) (w3 >>> 36 & 0xFFFL);
+			dest[off + 20] = (int) (w3 >>> 48 & 0xFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 21] = (int) ((w3 >>> 60 | w4 << 4) & 0xFFFL);
+			dest[off + 22] = (int) (w4 >>> 8 & 0xFFFL);
+			dest[off + 23] = (int) (w4 >>> 20 & 0xFFFL);
+			dest[off + 24] = (int) (w4 >>> 32 & 0xFFFL);
+			dest[off + 25] = (int) (w4 >>> 44 & 0xFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 26] = (int) ((w4 >>> 56 | w5 << 8) & 0xFFFL);
+			dest[off + 27] = (int) (w5 >>> 4 & 0xFFFL);
+			dest[off + 28] = (int) (w5 >>> 16 & 0xFFFL);
+			dest[off + 29] = (int) (w5 >>> 28 & 0xFFFL);
+			dest[off + 30] = (int) (w5 >>> 40 & 0xFFFL);
+			dest[off + 31] = (int) (w5 >>> 52);
+			final long w6 = data[j + 6];
+			dest[off + 32] = (int) (w6 & 0xFFFL);
+			dest[off + 33] = (int) (w6 >>> 12 & 0xFFFL);
+			dest[off + 34] = (int) (w6 >>> 24 & 0xFFFL);
+			dest[off + 35] = (int) (w6 >>> 36 & 0xFFFL);
+			dest[off + 36] = (int) (w6 >>> 48 & 0xFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 37] = (int) ((w6 >>> 60 | w7 << 4) & 0xFFFL);
+			dest[off + 38] = (int) (w7 >>> 8 & 0xFFFL);
+			dest[off + 39] = (int) (w7 >>> 20 & 0xFFFL);
+			dest[off + 40] = (int) (w7 >>> 32 & 0xFFFL);
+			dest[off + 41] = (int) (w7 >>> 44 & 0xFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 42] = (int) ((w7 >>> 56 | w8 << 8) & 0xFFFL);
+			dest[off + 43] = (int) (w8 >>> 4 & 0xFFFL);
+			dest[off + 44] = (int) (w8 >>> 16 & 0xFFFL);
+			dest[off + 45] = (int) (w8 >>> 28 & 0xFFFL);
+			dest[off + 46] = (int) (w8 >>> 40 & 0xFFFL);
+			dest[off + 47] = (int) (w8 >>> 52);
+			final long w9 = data[j + 9];
+			dest[off + 48] = (int) (w9 & 0xFFFL);
+			dest[off + 49] = (int) (w9 >>> 12 & 0xFFFL);
+			dest[off + 50] = (int) (w9 >>> 24 & 0xFFFL);
+			dest[off + 51] = (int) (w9 >>> 36 & 0xFFFL);
+			dest[off + 52] = (int) (w9 >>> 48 & 0xFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 53] = (int) ((w9 >>> 60 | w10 << 4) & 0xFFFL);
+			dest[off + 54] = (int) (w10 >>> 8 & 0xFFFL);
+			dest[off + 55] = (int) (w10 >>> 20 & 0xFFFL);
+			dest[off + 56] = (int) (w10 >>> 32 & 0xFFFL);
+			dest[off + 57] = (int) (w10 >>> 44 & 0xFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 58] = (int) ((w10 >>> 56 | w11 << 8) & 0xFFFL);
+			dest[off + 59] = (int) (w11 >>> 4 & 0xFFFL);
+			dest[off + 60] = (int) (w11 >>> 16 & 0xFFFL);
+			dest[off + 61] = (int) (w11 >>> 28 & 0xFFFL);
+			dest[off + 62] = (int) (w11 >>> 40 & 0xFFFL);
+			dest[off + 63] = (int) (w11 >>> 52);
+		}
+	}
+
+	private static void encode12(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 12) {
+			final long v0 = src[off] & 0xFFFL;
+			final long v1 = src[off + 1] & 0xFFFL;
+			final long v2 = src[off + 2] & 0xFFFL;
+			final long v3 = src[off + 3] & 0xFFFL;
+			final long v4 = src[off + 4] & 0xFFFL;
+			final long v5 = src[off + 5] & 0xFFFL;
+			final long v6 = src[off + 6] & 0xFFFL;
+			final long v7 = src[off + 7] & 0xFFFL;
+			final long v8 = src[off + 8] & 0xFFFL;
+			final long v9 = src[off + 9] & 0xFFFL;
+			final long v10 = src[off + 10] & 0xFFFL;
+			final long v11 = src[off + 11] & 0xFFFL;
+			final long v12 = src[off + 12] & 0xFFFL;
+			final long v13 = src[off + 13] & 0xFFFL;
+			final long v14 = src[off + 14] & 0xFFFL;
+			final long v15 = src[off + 15] & 0xFFFL;
+			final long v16 = src[off + 16] & 0xFFFL;
+			final long v17 = src[off + 17] & 0xFFFL;
+			final long v18 = src[off + 18] & 0xFFFL;
+			final long v19 = src[off + 19] & 0xFFFL;
+			final long v20 = src[off + 20] & 0xFFFL;
+			final long v21 = src[off + 21] & 0xFFFL;
+			final long v22 = src[off + 22] & 0xFFFL;
+			final long v23 = src[off + 23] & 0xFFFL;
+			final long v24 = src[off + 24] & 0xFFFL;
+			final long v25 = src[off + 25] & 0xFFFL;
+			final long v26 = src[off + 26] & 0xFFFL;
+			final long v27 = src[off + 27] & 0xFFFL;
+			final long v28 = src[off + 28] & 0xFFFL;
+			final long v29 = src[off + 29] & 0xFFFL;
+			final long v30 = src[off + 30] & 0xFFFL;
+			final long v31 = src[off + 31] & 0xFFFL;
+			final long v32 = src[off + 32] & 0xFFFL;
+			final long v33 = src[off + 33] & 0xFFFL;
+			final long v34 = src[off + 34] & 0xFFFL;
+			final long v35 = src[off + 35] & 0xFFFL;
+			final long v36 = src[off + 36] & 0xFFFL;
+			final long v37 = src[off + 37] & 0xFFFL;
+			final long v38 = src[off + 38] & 0xFFFL;
+			final long v39 = src[off + 39] & 0xFFFL;
+			final long v40 = src[off + 40] & 0xFFFL;
+			final long v41 = src[off + 41] & 0xFFFL;
+			final long v42 = src[off + 42] & 0xFFFL;
+			final long v43 = src[off + 43] & 0xFFFL;
+			final long v44 = src[off + 44] & 0xFFFL;
+			final long v45 = src[off + 45] & 0xFFFL;
+			final long v46 = src[off + 46] & 0xFFFL;
+			final long v47 = src[off + 47] & 0xFFFL;
+			final long v48 = src[off + 48] & 0xFFFL;
+			final long v49 = src[off + 49] & 0xFFFL;
+			final long v50 = src[off + 50] & 0xFFFL;
+			final long v51 = src[off + 51] & 0xFFFL;
+			final long v52 = src[off + 52] & 0xFFFL;
+			final long v53 = src[off + 53] & 0xFFFL;
+			final long v54 = src[off + 54] & 0xFFFL;
+			final long v55 = src[off + 55] & 0xFFFL;
+			final long v56 = src[off + 56] & 0xFFFL;
+			final long v57 = src[off + 57] & 0xFFFL;
+			final long v58 = src[off + 58] & 0xFFFL;
+			final long v59 = src[off + 59] & 0xFFFL;
+			final long v60 = src[off + 60] & 0xFFFL;
+			final long v61 = src[off + 61] & 0xFFFL;
+			final long v62 = src[off + 62] & 0xFFFL;
+			final long v63 = src[off + 63] & 0xFFFL;
+			data[j] = v0 | v1 << 12 | v2 << 24 | v3 << 36 | v4 << 48 | v5 << 60;
+			data[j + 1] = v5 >>> 4 | v6 << 8 | v7 << 20 | v8 << 32 | v9 << 44
+					| v10 << 56;
+			data[j + 2] = v10 >>> 8 | v11 << 4 | v12 << 16 | v13 << 28
+					| v14 << 40 | v15 << 52;
+			data[j + 3] = v16 | v17 << 12 | v18 << 24 | v19 << 36 | v20 << 48
+					| v21 << 60;
+			data[j + 4] = v21 >>> 4 | v22 << 8 | v23 << 20 | v24 << 32
+					| v25 << 44 | v26 << 56;
+			data[j + 5] = v26 >>> 8 | v27 << 4 | v28 << 16 | v29 << 28
+					| v30 << 40 | v31 << 52;
+			data[j + 6] = v32 | v33 << 12 | v34 << 24 | v35 << 36 | v36 << 48
+					| v37 << 60;
+			data[j + 7] = v37 >>> 4 | v38 << 8 | v39 << 20 | v40 << 32
+					| v41 << 44 | v42 << 56;
+			data[j + 8] = v42 >>> 8 | v43 << 4 | v44 << 16 | v45 << 28
+					| v46 << 40 | v47 << 52;
+			data[j + 9] = v48 | v49 << 12 | v50 << 24 | v51 << 36 | v52 << 48
+					| v53 << 60;
+			data[j + 10] = v53 >>> 4 | v54 << 8 | v55 << 20 | v56 << 32
+					| v57 << 44 | v58 << 56;
+			data[j + 11] = v58 >>> 8 | v59 << 4 | v60 << 16 | v61 << 28
+					| v62 << 40 | v63 << 52;
+		}
+	}
+
+	private static void decode13(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 13, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x1FFFL);
+			dest[off + 1] = (int) (w0 >>> 13 & 0x1FFFL);
+			dest[off + 2] = (int) (w0 >>> 26 & 0x1FFFL);
+			dest[off + 3] = (int) (w0 >>> 39 & 0x1FFFL);
+			final long w1 = data[j + 1];
+			dest[off + 4] = (int) ((w0 >>> 52 | w1 << 12) & 0x1FFFL);
+			dest[off + 5] = (int) (w1 >>> 1 & 0x1FFFL);
+			dest[off + 6] = (int) (w1 >>> 14 & 0x1FFFL);
+			dest[off + 7] = (int) (w1 >>> 27 & 0x1FFFL);
+			dest[off + 8] = (int) (w1 >>> 40 & 0x1FFFL);
+			final long w2 = data[j + 2];
+			dest[off + 9] = (int) ((w1 >>> 53 | w2 << 11) & 0x1FFFL);
+			dest[off + 10] = (int) (w2 >>> 2 & 0x1FFFL);
+			dest[off + 11] = (int) (w2 >>> 15 & 0x1FFFL);
+			dest[off + 12] = (int) (w2 >>> 28 & 0x1FFFL);
+			dest[off + 13] = (int) (w2 >>> 41 & 0x1FFFL);
+			final long w3 = data[j + 3];
+			dest[off + 14] = (int) ((w2 >>> 54 | w3 << 10) & 0x1FFFL);
+			dest[off + 15] = (int) (w3 >>> 3 & 0x1FFFL);
+			dest[off + 16] = (int) (w3 >>> 16 & 0x1FFFL);
+			dest[off + 17] = (int) (w3 >>> 29 & 0x1FFFL);
+			dest[off + 18] = (int) (w3 >>> 42 & 0x1FFFL);
+			final long w4 = data[j + 4];
+			dest[off + 19] = (int) ((w3 >>> 55 | w4 << 9) & 0x1FFFL);
+			dest[off + 20] = (int) (w4 >>> 4 & 0x1FFFL);
+			dest[off + 21] = (int) (w4 >>> 17 & 0x1FFFL);
+			dest[off + 22] = (int) (w4 >>> 30 & 0x1FFFL);
+			dest[off + 23] = (int) (w4 >>> 43 & 0x1FFFL);
+			final long w5 = data[j + 5];
+			dest[off + 24] = (int) ((w4 >>> 56 | w5 << 8) & 0x1FFFL);
+			dest[off + 25] = (int) (w5 >>> 5 & 0x1FFFL);
+			dest[off + 26] = (int) (w5 >>> 18 & 0x1FFFL);
+			dest[off + 27] = (int) (w5 >>> 31 & 0x1FFFL);
+			dest[off + 28] = (int) (w5 >>> 44 & 0x1FFFL);
+			final long w6 = data[j + 6];
+			dest[off + 29] = (int) ((w5 >>> 57 | w6 << 7) & 0x1FFFL);
+			dest[off + 30] = (int) (w6 >>> 6 & 0x1FFFL);
+			dest[off + 31] = (int) (w6 >>> 19 & 0x1FFFL);
+			dest[off + 32] = (int) (w6 >>> 32 & 0x1FFFL);
+			dest[off + 33] = (int) (w6 >>> 45 & 0x1FFFL);
+			final long w7 = data[j + 7];
+			dest[off + 34] = (int) ((w6 >>> 58 | w7 << 6) & 0x1FFFL);
+			dest[off + 35] = (int) (w7 >>> 7 & 0x1FFFL);
+			dest[off + 36] = (int) (w7 >>> 20 & 0x1FFFL);
+			dest[off + 37] = (int) (w7 >>> 33 & 0x1FFFL);
+			dest[off + 38] = (int) (w7 >>> 46 & 0x1FFFL);
+			final long w8 = data[j + 8];
+			dest[off + 39] = (int) ((w7 >>> 59 | w8 << 5) & 0x1FFFL);
+			dest[off + 40] = (int) (w8 >>> 8 & 0x1FFFL);
+			dest[off + 41] = (int) (w8 >>> 21 & 0x1FFFL);
+			dest[off + 42] = (int) (w8 >>> 34 & 0x1FFFL);
+			dest[off + 43] = (int) (w8 >>> 47 & 0x1FFFL);
+			final long w9 = data[j + 9];
+			dest[off + 44] = (int) ((w8 >>> 60 | w9 << 4) & 0x1FFFL);
+			dest[off + 45] = (int) (w9 >>> 9 & 0x1FFFL);
+			dest[off + 46] = (int) (w9 >>> 22 & 0x1FFFL);
+			dest[off + 47] = (int) (w9 >>> 35 & 0x1FFFL);
+			dest[off + 48] = (int) (w9 >>> 48 & 0x1FFFL);
+			final long w10 = data[j + 10];
+			dest[off + 49] = (int) ((w9 >>> 61 | w10 << 3) & 0x1FFFL);
+			dest[off + 50] = (int) (w10 >>> 10 & 0x1FFFL);
+			dest[off + 51] = (int) (w10 >>> 23 & 0x1FFFL);
+			dest[off + 52] = (int) (w10 >>> 36 & 0x1FFFL);
+			dest[off + 53] = (int) (w10 >>> 49 & 0x1FFFL);
+			final long w11 = data[j + 11];
+			dest[off + 54] = (int) ((w10 >>> 62 | w11 << 2) & 0x1FFFL);
+			dest[off + 55] = (int) (w11 >>> 11 & 0x1FFFL);
+			dest[off + 56] = (int) (w11 >>> 24 & 0x1FFFL);
+			dest[off + 57] = (int) (w11 >>> 37 & 0x1FFFL);
+			dest[off + 58] = (int) (w11 >>> 50 & 0x1FFFL);
+			final long w12 = data[j + 12];
+			dest[off + 59] = (int) ((w11 >>> 63 | w12 << 1) & 0x1FFFL);
+			dest[off + 60] = (int) (w12 >>> 12 & 0x1FFFL);
+			dest[off + 61] = (int) (w12 >>> 25 & 0x1FFFL);
+			dest[off + 62] = (int) (w12 >>> 38 & 0x1FFFL);
+			dest[off + 63] = (int) (w12 >>> 51);
+		}
+	}
+
+	private static void encode13(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 13) {
+			final long v0 = src[off] & 0x1FFFL;
+			final long v1 = src[off + 1] & 0x1FFFL;
+			final long v2 = src[off + 2] & 0x1FFFL;
+			final long v3 = src[off + 3] & 0x1FFFL;
+			final long v4 = src[off + 4] & 0x1FFFL;
+			final long v5 = src[off + 5] & 0x1FFFL;
+			final long v6 = src[off + 6] & 0x1FFFL;
+			final long v7 = src[off + 7] & 0x1FFFL;
+			final long v8 = src[off + 8] & 0x1FFFL;
+			final long v9 = src[off + 9] & 0x1FFFL;
+			final long v10 = src[off + 10] & 0x1FFFL;
+			final long v11 = src[off + 11] & 0x1FFFL;
+			final long v12 = src[off + 12] & 0x1FFFL;
+			final long v13 = src[off + 13] & 0x1FFFL;
+			final long v14 = src[off + 14] & 0x1FFFL;
+			final long v15 = src[off + 15] & 0x1FFFL;
+			final long v16 = src[off + 16] & 0x1FFFL;
+			final long v17 = src[off + 17] & 0x1FFFL;
+			final long v18 = src[off + 18] & 0x1FFFL;
+			final long v19 = src[off + 19] & 0x1FFFL;
+			final long v20 = src[off + 20] & 0x1FFFL;
+			final long v21 = src[off + 21] & 0x1FFFL;
+			final long v22 = src[off + 22] & 0x1FFFL;
+			final long v23 = src[off + 23] & 0x1FFFL;
+			final long v24 = src[off + 24] & 0x1FFFL;
+			final long v25 = src[off + 25] & 0x1FFFL;
+			final long v26 = src[off + 26] & 0x1FFFL;
+			final long v27 = src[off + 27] & 0x1FFFL;
+			final long v28 = src[off + 28] & 0x1FFFL;
+			final long v29 = src[off + 29] & 0x1FFFL;
+			final long v30 = src[off + 30] & 0x1FFFL;
+			final long v31 = src[off + 31] & 0x1FFFL;
+			final long v32 = src[off + 32] & 0x1FFFL;
+			final long v33 = src[off + 33] & 0x1FFFL;
+			final long v34 = src[off + 34] & 0x1FFFL;
+			final long v35 = src[off + 35] & 0x1FFFL;
+			final long v36 = src[off + 36] & 0x1FFFL;
+			final long v37 = src[off + 37] & 0x1FFFL;
+			final long v38 = src[off + 38] & 0x1FFFL;
+			final long v39 = src[off + 39] & 0x1FFFL;
+			final long v40 = src[off + 40] & 0x1FFFL;
+			final long v41 = src[off + 41] & 0x1FFFL;
+			final long v42 = src[off + 42] & 0x1FFFL;
+			final long v43 = src[off + 43] & 0x1FFFL;
+			final long v44 = src[off + 44] & 0x1FFFL;
+			final long v45 = src[off + 45] & 0x1FFFL;
+			final long v46 = src[off + 46] & 0x1FFFL;
+			final long v47 = src[off + 47] & 0x1FFFL;
+			final long v48 = src[off + 48] & 0x1FFFL;
+			final long v49 = src[off + 49] & 0x1FFFL;
+			final long v50 = src[off + 50] & 0x1FFFL;
+			final long v51 = src[off + 51] & 0x1FFFL;
+			final long v52 = src[off + 52] & 0x1FFFL;
+			final long v53 = src[off + 53] & 0x1FFFL;
+			final long v54 = src[off + 54] & 0x1FFFL;
+			final long v55 = src[off + 55] & 0x1FFFL;
+			final long v56 = src[off + 56] & 0x1FFFL;
+			final long v57 = src[off + 57] & 0x1FFFL;
+			final long v58 = src[off + 58] & 0x1FFFL;
+			final long v59 = src[off + 59] & 0x1FFFL;
+			final long v60 = src[off + 60] & 0x1FFFL;
+			final long v61 = src[off + 61] & 0x1FFFL;
+			final long v62 = src[off + 62] & 0x1FFFL;
+			final long v63 = src[off + 63] & 0x1FFFL;
+			data[j] = v0 | v1 << 13 | v2 << 26 | v3 << 39 | v4 << 52;
+			data[j + 1] = v4 >>> 12 | v5 << 1 | v6 << 14 | v7 << 27 | v8 << 40
+					| v9 << 53;
+			data[j + 2] = v9 >>> 11 | v10 << 2 | v11 << 15 | v12 << 28
+					| v13 << 41 | v14 << 54;
+			data[j + 3] = v14 >>> 10 | v15 << 3 | v16 << 16 | v17 << 29
+					| v18 << 42 | v19 << 55;
+			data[j + 4] = v19 >>> 9 | v20 << 4 | v21 << 17 | v22 << 30
+					| v23 << 43 | v24 << 56;
+			data[j + 5] = v24 >>> 8 | v25 << 5 | v26 << 18 | v27 << 31
+					| v28 << 44 | v29 << 57;
+			data[j + 6] = v29 >>> 7 | v30 << 6 | v31 << 19 | v32 << 32
+					| v33 << 45 | v34 << 58;
+			data[j + 7] = v34 >>> 6 | v35 << 7 | v36 << 20 | v37 << 33
+					| v38 << 46 | v39 << 59;
+			data[j + 8] = v39 >>> 5 | v40 << 8 | v41 << 21 | v42 << 34
+					| v43 << 47 | v44 << 60;
+			data[j + 9] = v44 >>> 4 | v45 << 9 | v46 << 22 | v47 << 35
+					| v48 << 48 | v49 << 61;
+			data[j + 10] = v49 >>> 3 | v50 << 10 | v51 << 23 | v52 << 36
+					| v53 << 49 | v54 << 62;
+			data[j + 11] = v54 >>> 2 | v55 << 11 | v56 << 24 | v57 << 37
+					| v58 << 50 | v59 << 63;
+			data[j + 12] = v59 >>> 1 | v60 << 12 | v61 << 25 | v62 << 38
+					| v63 << 51;
+		}
+	}
+
+	private static void decode14(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 14, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x3FFFL);
+			dest[off + 1] = (int) (w0 >>> 14 & 0x3FFFL);
+			dest[off + 2] = (int) (w0 >>> 28 & 0x3FFFL);
+			dest[off + 3] = (int) (w0 >>> 42 & 0x3FFFL);
+			final long w1 = data[j + 1];
+			dest[off + 4] = (int) ((w0 >>> 56 | w1 << 8) & 0x3FFFL);
+			dest[off + 5] = (int) (w1 >>> 6 & 0x3FFFL);
+			dest[off + 6] = (int) (w1 >>> 20 & 0x3FFFL);
+			dest[off + 7] = (int) (w1 >>> 34 & 0x3FFFL);
+			dest[off + 8] = (int) (w1 >>> 48 & 0x3FFFL);
+			final long w2 = data[j + 2];
+			dest[off + 9] = (int) ((w1 >>> 62 | w2 << 2) & 0x3FFFL);
+			dest[off + 10] = (int) (w2 >>> 12 & 0x3FFFL);
+			dest[off + 11] = (int) (w2 >>> 26 & 0x3FFFL);
+			dest[off + 12] = (int) (w2 >>> 40 & 0x3FFFL);
+			final long w3 = data[j + 3];
+			dest[off + 13] = (int) ((w2 >>> 54 | w3 << 10) & 0x3FFFL);
+			dest[off + 14] = (int) (w3 >>> 4 & 0x3FFFL);
+			dest[off + 15] = (int) (w3 >>> 18 & 0x3FFFL);
+			dest[off + 16] = (int) (w3 >>> 32 & 0x3FFFL);
+			dest[off + 17] = (int) (w3 >>> 46 & 0x3FFFL);
+			final long w4 = data[j + 4];
+			dest[off + 18] = (int) ((w3 >>> 60 | w4 << 4) & 0x3FFFL);
+			dest[off + 19] = (int) (w4 >>> 10 & 0x3FFFL);
+			dest[off + 20] = (int) (w4 >>> 24 & 0x3FFFL);
+			dest[off + 21] = (int) (w4 >>> 38 & 0x3FFFL);
+			final long w5 = data[j + 5];
+			dest[off + 22] = (int) ((w4 >>> 52 | w5 << 12) & 0x3FFFL);
+			dest[off + 23] = (int) (w5 >>> 2 & 0x3FFFL);
+			dest[off + 24] = (int) (w5 >>> 16 & 0x3FFFL);
+			dest[off + 25] = (int) (w5 >>> 30 & 0x3FFFL);
+			dest[off + 26] = (int) (w5 >>> 44 & 0x3FFFL);
+			final long w6 = data[j + 6];
+			dest[off + 27] = (int) ((w5 >>> 58 | w6 << 6) & 0x3FFFL);
+			dest[off + 28] = (int) (w6 >>> 8 & 0x3FFFL);
+			dest[off + 29] = (int) (w6 >>> 22 & 0x3FFFL);
+			dest[off + 30] = (int) (w6 >>> 36 & 0x3FFFL);
+			dest[off + 31] = (int) (w6 >>> 50);
+			final long w7 = data[j + 7];
+			dest[off + 32] = (int) (w7 & 0x3FFFL);
+			dest[off + 33] = (int) (w7 >>> 14 & 0x3FFFL);
+			dest[off + 34] = (int) (w7 >>> 28 & 0x3FFFL);
+			dest[off + 35] = (int) (w7 >>> 42 & 0x3FFFL);
+			final long w8 = data[j + 8];
+			dest[off + 36] = (int) ((w7 >>> 56 | w8 << 8) & 0x3FFFL);
+			dest[off + 37] = (int) (w8 >>> 6 & 0x3FFFL);
+			dest[off + 38] = (int) (w8 >>> 20 & 0x3FFFL);
+			dest[off + 39] = (int) (w8 >>> 34 & 0x3FFFL);
+			dest[off + 40] = (int) (w8 >>> 48 & 0x3FFFL);
+			final long w9 = data[j + 9];
+			dest[off + 41] = (int) ((w8 >>> 62 | w9 << 2) & 0x3FFFL);
+			dest[off + 42] = (int) (w9 >>> 12 & 0x3FFFL);
+			dest[off + 43] = (int) (w9 >>> 26 & 0x3FFFL);
+			dest[off + 44] = (int) (w9 >>> 40 & 0x3FFFL);
+			final long w10 = data[j + 10];
+			dest[off + 45] = (int) ((w9 >>> 54 | w10 << 10) & 0x3FFFL);
+			dest[off + 46] = (int) (w10 >>> 4 & 0x3FFFL);
+			dest[off + 47] = (int) (w10 >>> 18 & 0x3FFFL);
+			dest[off + 48] = (int) (w10 >>> 32 & 0x3FFFL);
+			dest[off + 49] = (int) (w10 >>> 46 & 0x3FFFL);
+			final long w11 = data[j + 11];
+			dest[off + 50] = (int) ((w10 >>> 60 | w11 << 4) & 0x3FFFL);
+			dest[off + 51] = (int) (w11 >>> 10 & 0x3FFFL);
+			dest[off + 52] = (int) (w11 >>> 24 & 0x3FFFL);
+			dest[off + 53] = (int) (w11 >>> 38 & 0x3FFFL);
+			final long w12 = data[j + 12];
+			dest[off + 54] = (int) ((w11 >>> 52 | w12 << 12) & 0x3FFFL);
+			dest[off + 55] = (int) (w12 >>> 2 & 0x3FFFL);
+			dest[off + 56] = (int) (w12 >>> 16 & 0x3FFFL);
+			dest[off + 57] = (int) (w12 >>> 30 & 0x3FFFL);
+			dest[off + 58] = (int) (w12 >>> 44 & 0x3FFFL);
+			final long w13 = data[j + 13];
+			dest[off + 59] = (int) ((w12 >>> 58 | w13 << 6) & 0x3FFFL);
+			dest[off + 60] = (int) (w13 >>> 8 & 0x3FFFL);
+			dest[off + 61] = (int) (w13 >>> 22 & 0x3FFFL);
+			dest[off + 62] = (int) (w13 >>> 36 & 0x3FFFL);
+			dest[off + 63] = (int) (w13 >>> 50);
+		}
+	}
+
+	private static void encode14(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 14) {
+			final long v0 = src[off] & 0x3FFFL;
+			final long v1 = src[off + 1] & 0x3FFFL;
+			final long v2 = src[off + 2] & 0x3FFFL;
+			final long v3 = src[off + 3] & 0x3FFFL;
+			final long v4 = src[off + 4] & 0x3FFFL;
+			final long v5 = src[off + 5] & 0x3FFFL;
+			final long v6 = src[off + 6] & 0x3FFFL;
+			final long v7 = src[off + 7] & 0x3FFFL;
+			final long v8 = src[off + 8] & 0x3FFFL;
+			final long v9 = src[off + 9] & 0x3FFFL;
+			final long v10 = src[off + 10] & 0x3FFFL;
+			final long v11 = src[off + 11] & 0x3FFFL;
+			final long v12 = src[off + 12] & 0x3FFFL;
+			final long v13 = src[off + 13] & 0x3FFFL;
+			final long v14 = src[off + 14] & 0x3FFFL;
+			final long v15 = src[off + 15] & 0x3FFFL;
+			final long v16 = src[off + 16] & 0x3FFFL;
+			final long v17 = src[off + 17] & 0x3FFFL;
+			final long v18 = src[off + 18] & 0x3FFFL;
+			final long v19 = src[off + 19] & 0x3FFFL;
+			final long v20 = src[off + 20] & 0x3FFFL;
+			final long v21 = src[off + 21] & 0x3FFFL;
+			final long v22 = src[off + 22] & 0x3FFFL;
+			final long v23 = src[off + 23] & 0x3FFFL;
+			final long v24 = src[off + 24] & 0x3FFFL;
+			final long v25 = src[off + 25] & 0x3FFFL;
+			final long v26 = src[off + 26] & 0x3FFFL;
+			final long v27 = src[off + 27] & 0x3FFFL;
+			final long v28 = src[off + 28] & 0x3FFFL;
+			final long v29 = src[off + 29] & 0x3FFFL;
+			final long v30 = src[off + 30] & 0x3FFFL;
+			final long v31 = src[off + 31] & 0x3FFFL;
+			final long v32 = src[off + 32] & 0x3FFFL;
+			final long v33 = src[off + 33] & 0x3FFFL;
+			final long v34 = src[off + 34] & 0x3FFFL;
+			final long v35 = src[off + 35] & 0x3FFFL;
+			final long v36 = src[off + 36] & 0x3FFFL;
+			final long v37 = src[off + 37] & 0x3FFFL;
+			final long v38 = src[off + 38] & 0x3FFFL;
+			final long v39 = src[off + 39] & 0x3FFFL;
+			final long v40 = src[off + 40] & 0x3FFFL;
+			final long v41 = src[off + 41] & 0x3FFFL;
+			final long v42 = src[off + 42] & 0x3FFFL;
+			final long v43 = src[off + 43] & 0x3FFFL;
+			final long v44 = src[off + 44] & 0x3FFFL;
+			final long v45 = src[off + 45] & 0x3FFFL;
+			final long v46 = src[off + 46] & 0x3FFFL;
+			final long v47 = src[off + 47] & 0x3FFFL;
+			final long v48 = src[off + 48] & 0x3FFFL;
+			final long v49 = src[off + 49] & 0x3FFFL;
+			final long v50 = src[off + 50] & 0x3FFFL;
+			final long v51 = src[off + 51] & 0x3FFFL;
+			final long v52 = src[off + 52] & 0x3FFFL;
+			final long v53 = src[off + 53] & 0x3FFFL;
+			final long v54 = src[off + 54] & 0x3FFFL;
+			final long v55 = src[off + 55] & 0x3FFFL;
+			final long v56 = src[off + 56] & 0x3FFFL;
+			final long v57 = src[off + 57] & 0x3FFFL;
+			final long v58 = src[off + 58] & 0x3FFFL;
+			final long v59 = src[off + 59] & 0x3FFFL;
+			final long v60 = src[off + 60] & 0x3FFFL;
+			final long v61 = src[off + 61] & 0x3FFFL;
+			final long v62 = src[off + 62] & 0x3FFFL;
+			final long v63 = src[off + 63] & 0x3FFFL;
+			data[j] = v0 | v1 << 14 | v2 << 28 | v3 << 42 | v4 << 56;
+			data[j + 1] = v4 >>> 8 | v5 << 6 | v6 << 20 | v7 << 34 | v8 << 48
+					| v9 << 62;
+			data[j + 2] = v9 >>> 2 | v10 << 12 | v11 << 26 | v12 << 40
+					| v13 << 54;
+			data[j + 3] = v13 >>> 10 | v14 << 4 | v15 << 18 | v16 << 32
+					| v17 << 46 | v18 << 60;
+			data[j + 4] = v18 >>> 4 | v19 << 10 | v20 << 24 | v21 << 38
+					| v22 << 52;
+			data[j + 5] = v22 >>> 12 | v23 << 2 | v24 << 16 | v25 << 30
+					| v26 << 44 | v27 << 58;
+			data[j + 6] = v27 >>> 6 | v28 << 8 | v29 << 22 | v30 << 36
+					| v31 << 50;
+			data[j + 7] = v32 | v33 << 14 | v34 << 28 | v35 << 42 | v36 << 56;
+			data[j + 8] = v36 >>> 8 | v37 << 6 | v38 << 20 | v39 << 34
+					| v40 << 48 | v41 << 62;
+			data[j + 9] = v41 >>> 2 | v42 << 12 | v43 << 26 | v44 << 40
+					| v45 << 54;
+			data[j + 10] = v45 >>> 10 | v46 << 4 | v47 << 18 | v48 << 32
+					| v49 << 46 | v50 << 60;
+			data[j + 11] = v50 >>> 4 | v51 << 10 | v52 << 24 | v53 << 38
+					| v54 << 52;
+			data[j + 12] = v54 >>> 12 | v55 << 2 | v56 << 16 | v57 << 30
+					| v58 << 44 | v59 << 58;
+			data[j + 13] = v59 >>> 6 | v60 << 8 | v61 << 22 | v62 << 36
+					| v63 << 50;
+		}
+	}
+
+	private static void decode15(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 15, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x7FFFL);
+			dest[off + 1] = (int) (w0 >>> 15 & 0x7FFFL);
+			dest[off + 2] = (int) (w0 >>> 30 & 0x7FFFL);
+			dest[off + 3] = (int) (w0 >>> 45 & 0x7FFFL);
+			final long w1 = data[j + 1];
+			dest[off + 4] = (int) ((w0 >>> 60 | w1 << 4) & 0x7FFFL);
+			dest[off + 5] = (int) (w1 >>> 11 & 0x7FFFL);
+			dest[off + 6] = (int) (w1 >>> 26 & 0x7FFFL);
+			dest[off + 7] = (int) (w1 >>> 41 & 0x7FFFL);
+			final long w2 = data[j + 2];
+			dest[off + 8] = (int) ((w1 >>> 56 | w2 << 8) & 0x7FFFL);
+			dest[off + 9] = (int) (w2 >>> 7 & 0x7FFFL);
+			dest[off + 10] = (int) (w2 >>> 22 & 0x7FFFL);
+			dest[off + 11] = (int) (w2 >>> 37 & 0x7FFFL);
+			final long w3 = data[j + 3];
+			dest[off + 12] = (int) ((w2 >>> 52 | w3 << 12) & 0x7FFFL);
+			dest[off + 13] = (int) (w3 >>> 3 & 0x7FFFL);
+			dest[off + 14] = (int) (w3 >>> 18 & 0x7FFFL);
+			dest[off + 15] = (int) (w3 >>> 33 & 0x7FFFL);
+			dest[off + 16] = (int) (w3 >>> 48 & 0x7FFFL);
+			final long w4 = data[j + 4];
+			dest[off + 17] = (int) ((w3 >>> 63 | w4 << 1) & 0x7FFFL);
+			dest[off + 18] = (int) (w4 >>> 14 & 0x7FFFL);
+			dest[off + 19] = (int) (w4 >>> 29 & 0x7FFFL);
+			dest[off + 20] = (int) (w4 >>> 44 & 0x7FFFL);
+			final long w5 = data[j + 5];
+			dest[off + 21] = (int) ((w4 >>> 59 | w5 << 5) & 0x7FFFL);
+			dest[off + 22] = (int) (w5 >>> 10 & 0x7FFFL);
+			dest[off + 23] = (int) (w5 >>> 25 & 0x7FFFL);
+			dest[off + 24] = (int) (w5 >>> 40 & 0x7FFFL);
+			final long w6 = data[j + 6];
+			dest[off + 25] = (int) ((w5 >>> 55 | w6 << 9) & 0x7FFFL);
+			dest[off + 26] = (int) (w6 >>> 6 & 0x7FFFL);
+			dest[off + 27] = (int) (w6 >>> 21 & 0x7FFFL);
+			dest[off + 28] = (int) (w6 >>> 36 & 0x7FFFL);
+			final long w7 = data[j + 7];
+			dest[off + 29] = (int) ((w6 >>> 51 | w7 << 13) & 0x7FFFL);
+			dest[off + 30] = (int) (w7 >>> 2 & 0x7FFFL);
+			dest[off + 31] = (int) (w7 >>> 17 & 0x7FFFL);
+			dest[off + 32] = (int) (w7 >>> 32 & 0x7FFFL);
+			dest[off + 33] = (int) (w7 >>> 47 & 0x7FFFL);
+			final long w8 = data[j + 8];
+			dest[off + 34] = (int) ((w7 >>> 62 | w8 << 2) & 0x7FFFL);
+			dest[off + 35] = (int) (w8 >>> 13 & 0x7FFFL);
+			dest[off + 36] = (int) (w8 >>> 28 & 0x7FFFL);
+			dest[off + 37] = (int) (w8 >>> 43 & 0x7FFFL);
+			final long w9 = data[j + 9];
+			dest[off + 38] = (int) ((w8 >>> 58 | w9 << 6) & 0x7FFFL);
+			dest[off + 39] = (int) (w9 >>> 9 & 0x7FFFL);
+			dest[off + 40] = (int) (w9 >>> 24 & 0x7FFFL);
+			dest[off + 41] = (int) (w9 >>> 39 & 0x7FFFL);
+			final long w10 = data[j + 10];
+			dest[off + 42] = (int) ((w9 >>> 54 | w10 << 10) & 0x7FFFL);
+			dest[off + 43] = (int) (w10 >>> 5 & 0x7FFFL);
+			dest[off + 44] = (int) (w10 >>> 20 & 0x7FFFL);
+			dest[off + 45] = (int) (w10 >>> 35 & 0x7FFFL);
+			final long w11 = data[j + 11];
+			dest[off + 46] = (int) ((w10 >>> 50 | w11 << 14) & 0x7FFFL);
+			dest[off + 47] = (int) (w11 >>> 1 & 0x7FFFL);
+			dest[off + 48] = (int) (w11 >>> 16 & 0x7FFFL);
+			dest[off + 49] = (int) (w11 >>> 31 & 0x7FFFL);
+			dest[off + 50] = (int) (w11 >>> 46 & 0x7FFFL);
+			final long w12 = data[j + 12];
+			dest[off + 51] = (int) ((w11 >>> 61 | w12 << 3) & 0x7FFFL);
+			dest[off + 52] = (int) (w12 >>> 12 & 0x7FFFL);
+			dest[off + 53] = (int) (w12 >>> 27 & 0x7FFFL);
+			dest[off + 54] = (int) (w12 >>> 42 & 0x7FFFL);
+			final long w13 = data[j + 13];
+			dest[off + 55] = (int) ((w12 >>> 57 | w13 << 7) & 0x7FFFL);
+			dest[off + 56] = (int) (w13 >>> 8 & 0x7FFFL);
+			dest[off + 57] = (int) (w13 >>> 23 & 0x7FFFL);
+			dest[off + 58] = (int) (w13 >>> 38 & 0x7FFFL);
+			final long w14 = data[j + 14];
+			dest[off + 59] = (int) ((w13 >>> 53 | w14 << 11) & 0x7FFFL);
+			dest[off + 60] = (int) (w14 >>> 4 & 0x7FFFL);
+			dest[off + 61] = (int) (w14 >>> 19 & 0x7FFFL);
+			dest[off + 62] = (int) (w14 >>> 34 & 0x7FFFL);
+			dest[off + 63] = (int) (w14 >>> 49);
+		}
+	}
+
+	private static void encode15(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 15) {
+			final long v0 = src[off] & 0x7FFFL;
+			final long v1 = src[off + 1] & 0x7FFFL;
+			final long v2 = src[off + 2] & 0x7FFFL;
+			final long v3 = src[off + 3] & 0x7FFFL;
+			final long v4 = src[off + 4] & 0x7FFFL;
+			final long v5 = src[off + 5] & 0x7FFFL;
+			final long v6 = src[off + 6] & 0x7FFFL;
+			final long v7 = src[off + 7] & 0x7FFFL;
+			final long v8 = src[off + 8] & 0x7FFFL;
+			final long v9 = src[off + 9] & 0x7FFFL;
+			final long v10 = src[off + 10] & 0x7FFFL;
+			final long v11 = src[off + 11] & 0x7FFFL;
+			final long v12 = src[off + 12] & 0x7FFFL;
+			final long v13 = src[off + 13] & 0x7FFFL;
+			final long v14 = src[off + 14] & 0x7FFFL;
+			final long v15 = src[off + 15] & 0x7FFFL;
+			final long v16 = src[off + 16] & 0x7FFFL;
+			final long v17 = src[off + 17] & 0x7FFFL;
+			final long v18 = src[off + 18] & 0x7FFFL;
+			final long v19 = src[off + 19] & 0x7FFFL;
+			final long v20 = src[off + 20] & 0x7FFFL;
+			final long v21 = src[off + 21] & 0x7FFFL;
+			final long v22 = src[off + 22] & 0x7FFFL;
+			final long v23 = src[off + 23] & 0x7FFFL;
+			final long v24 = src[off + 24] & 0x7FFFL;
+			final long v25 = src[off + 25] & 0x7FFFL;
+			final long v26 = src[off + 26] & 0x7FFFL;
+			final long v27 = src[off + 27] & 0x7FFFL;
+			final long v28 = src[off + 28] & 0x7FFFL;
+			final long v29 = src[off + 29] & 0x7FFFL;
+			final long v30 = src[off + 30] & 0x7FFFL;
+			final long v31 = src[off + 31] & 0x7FFFL;
+			final long v32 = src[off + 32] & 0x7FFFL;
+			final long v33 = src[off + 33] & 0x7FFFL;
+			final long v34 = src[off + 34] & 0x7FFFL;
+			final long v35 = src[off + 35] & 0x7FFFL;
+			final long v36 = src[off + 36] & 0x7FFFL;
+			final long v37 = src[off + 37] & 0x7FFFL;
+			final long v38 = src[off + 38] & 0x7FFFL;
+			final long v39 = src[off + 39] & 0x7FFFL;
+			final long v40 = src[off + 40] & 0x7FFFL;
+			final long v41 = src[off + 41] & 0x7FFFL;
+			final long v42 = src[off + 42] & 0x7FFFL;
+			final long v43 = src[off + 43] & 0x7FFFL;
+			final long v44 = src[off + 44] & 0x7FFFL;
+			final long v45 = src[off + 45] & 0x7FFFL;
+			final long v46 = src[off + 46] & 0x7FFFL;
+			final long v47 = src[off + 47] & 0x7FFFL;
+			final long v48 = src[off + 48] & 0x7FFFL;
+			final long v49 = src[off + 49] & 0x7FFFL;
+			final long v50 = src[off + 50] & 0x7FFFL;
+			final long v51 = src[off + 51] & 0x7FFFL;
+			final long v52 = src[off + 52] & 0x7FFFL;
+			final long v53 = src[off + 53] & 0x7FFFL;
+			final long v54 = src[off + 54] & 0x7FFFL;
+			final long v55 = src[off + 55] & 0x7FFFL;
+			final long v56 = src[off + 56] & 0x7FFFL;
+			final long v57 = src[off + 57] & 0x7FFFL;
+			final long v58 = src[off + 58] & 0x7FFFL;
+			final long v59 = src[off + 59] & 0x7FFFL;
+			final long v60 = src[off + 60] & 0x7FFFL;
+			final long v61 = src[off + 61] & 0x7FFFL;
+			final long v62 = src[off + 62] & 0x7FFFL;
+			final long v63 = src[off + 63] & 0x7FFFL;
+			data[j] = v0 | v1 << 15 | v2 << 30 | v3 << 45 | v4 << 60;
+			data[j + 1] = v4 >>> 4 | v5 << 11 | v6 << 26 | v7 << 41 | v8 << 56;
+			data[j + 2] = v8 >>> 8 | v9 << 7 | v10 << 22 | v11 << 37 | v12 << 52;
+			data[j + 3] = v12 >>> 12 | v13 << 3 | v14 << 18 | v15 << 33
+					| v16 << 48 | v17 << 63;
+			data[j + 4] = v17 >>> 1 | v18 << 14 | v19 << 29 | v20 << 44
+					| v21 << 59;
+			data[j + 5] = v21 >>> 5 | v22 << 10 | v23 << 25 | v24 << 40
+					| v25 << 55;
+			data[j + 6] = v25 >>> 9 | v26 << 6 | v27 << 21 | v28 << 36
+					| v29 << 51;
+			data[j + 7] = v29 >>> 13 | v30 << 2 | v31 << 17 | v32 << 32
+					| v33 << 47 | v34 << 62;
+			data[j + 8] = v34 >>> 2 | v35 << 13 | v36 << 28 | v37 << 43
+					| v38 << 58;
+			data[j + 9] = v38 >>> 6 | v39 << 9 | v40 << 24 | v41 << 39
+					| v42 << 54;
+			data[j + 10] = v42 >>> 10 | v43 << 5 | v44 << 20 | v45 << 35
+					| v46 << 50;
+			data[j + 11] = v46 >>> 14 | v47 << 1 | v48 << 16 | v49 << 31
+					| v50 << 46 | v51 << 61;
+			data[j + 12] = v51 >>> 3 | v52 << 12 | v53 << 27 | v54 << 42
+					| v55 << 57;
+			data[j + 13] = v55 >>> 7 | v56 << 8 | v57 << 23 | v58 << 38
+					| v59 << 53;
+			data[j + 14] = v59 >>> 11 | v60 << 4 | v61 << 19 | v62 << 34
+					| v63 << 49;
+		}
+	}
+
+	private static void decode16(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 16, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0xFFFFL);
+			dest[off + 1] = (int) (w0 >>> 16 & 0xFFFFL);
+			dest[off + 2] = (int) (w0 >>> 32 & 0xFFFFL);
+			dest[off + 3] = (int) (w0 >>> 48);
+			final long w1 = data[j + 1];
+			dest[off + 4] = (int) (w1 & 0xFFFFL);
+			dest[off + 5] = (int) (w1 >>> 16 & 0xFFFFL);
+			dest[off + 6] = (int) (w1 >>> 32 & 0xFFFFL);
+			dest[off + 7] = (int) (w1 >>> 48);
+			final long w2 = data[j + 2];
+			dest[off + 8] = (int) (w2 & 0xFFFFL);
+			dest[off + 9] = (int) (w2 >>> 16 & 0xFFFFL);
+			dest[off + 10] = (int) (w2 >>> 32 & 0xFFFFL);
+			dest[off + 11] = (int) (w2 >>> 48);
+			final long w3 = data[j + 3];
+			dest[off + 12] = (int) (w3 & 0xFFFFL);
+			dest[off + 13] = (int) (w3 >>> 16 & 0xFFFFL);
+			dest[off + 14] = (int) (w3 >>> 32 & 0xFFFFL);
+			dest[off + 15] = (int) (w3 >>> 48);
+			final long w4 = data[j + 4];
+			dest[off + 16] = (int) (w4 & 0xFFFFL);
+			dest[off + 17] = (int) (w4 >>> 16 & 0xFFFFL);
+			dest[off + 18] = (int) (w4 >>> 32 & 0xFFFFL);
+			dest[off + 19] = (int) (w4 >>> 48);
+			final long w5 = data[j + 5];
+			dest[off + 20] = (int) (w5 & 0xFFFFL);
+			dest[off + 21] = (int) (w5 >>> 16 & 0xFFFFL);
+			dest[off + 22] = (int) (w5 >>> 32 & 0xFFFFL);
+			dest[off + 23] = (int) (w5 >>> 48);
+			final long w6 = data[j + 6];
+			dest[off + 24] = (int) (w6 & 0xFFFFL);
+			dest[off + 25] = (int) (w6 >>> 16 & 0xFFFFL);
+			dest[off + 26] = (int) (w6 >>> 32 & 0xFFFFL);
+			dest[off + 27] = (int) (w6 >>> 48);
+			final long w7 = data[j + 7];
+			dest[off + 28] = (int) (w7 & 0xFFFFL);
+			dest[off + 29] = (int) (w7 >>> 16 & 0xFFFFL);
+			dest[off + 30] = (int) (w7 >>> 32 & 0xFFFFL);
+			dest[off + 31] = (int) (w7 >>> 48);
+			final long w8 = data[j + 8];
+			dest[off + 32] = (int) (w8 & 0xFFFFL);
+			dest[off + 33] = (int) (w8 >>> 16 & 0xFFFFL);
+			dest[off + 34] = (int) (w8 >>> 32 & 0xFFFFL);
+			dest[off + 35] = (int) (w8 >>> 48);
+			final long w9 = data[j + 9];
+			dest[off + 36] = (int) (w9 & 0xFFFFL);
+			dest[off + 37] = (int) (w9 >>> 16 & 0xFFFFL);
+			dest[off + 38] = (int) (w9 >>> 32 & 0xFFFFL);
+			dest[off + 39] = (int) (w9 >>> 48);
+			final long w10 = data[j + 10];
+			dest[off + 40] = (int) (w10 & 0xFFFFL);
+			dest[off + 41] = (int) (w10 >>> 16 & 0xFFFFL);
+			dest[off + 42] = (int) (w10 >>> 32 & 0xFFFFL);
+			dest[off + 43] = (int) (w10 >>> 48);
+			final long w11 = data[j + 11];
+			dest[off + 44] = (int) (w11 & 0xFFFFL);
+			dest[off + 45] = (int) (w11 >>> 16 & 0xFFFFL);
+			dest[off + 46] = (int) (w11 >>> 32 & 0xFFFFL);
+			dest[off + 47] = (int) (w11 >>> 48);
+			final long w12 = data[j + 12];
+			dest[off + 48] = (int) (w12 & 0xFFFFL);
+			dest[off + 49] = (int) (w12 >>> 16 & 0xFFFFL);
+			dest[off + 50] = (int) (w12 >>> 32 & 0xFFFFL);
+			dest[off + 51] = (int) (w12 >>> 48);
+			final long w13 = data[j + 13];
+			dest[off + 52] = (int) (w13 & 0xFFFFL);
+			dest[off + 53] = (int) (w13 >>> 16 & 0xFFFFL);
+			dest[off + 54] = (int) (w13 >>> 32 & 0xFFFFL);
+			dest[off + 55] = (int) (w13 >>> 48);
+			final long w14 = data[j + 14];
+			dest[off + 56] = (int) (w14 & 0xFFFFL);
+			dest[off + 57] = (int) (w14 >>> 16 & 0xFFFFL);
+			dest[off + 58] = (int) (w14 >>> 32 & 0xFFFFL);
+			dest[off + 59] = (int) (w14 >>> 48);
+			final long w15 = data[j + 15];
+			dest[off + 60] = (int) (w15 & 0xFFFFL);
+			dest[off + 61] = (int) (w15 >>> 16 & 0xFFFFL);
+			dest[off + 62] = (int) (w15 >>> 32 & 0xFFFFL);
+			dest[off + 63] = (int) (w15 >>> 48);
+		}
+	}
+
+	private static void encode16(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 16) {
+			final long v0 = src[off] & 0xFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFL;
+			data[j] = v0 | v1 << 16 | v2 << 32 | v3 << 48;
+			data[j + 1] = v4 | v5 << 16 | v6 << 32 | v7 << 48;
+			data[j + 2] = v8 | v9 << 16 | v10 << 32 | v11 << 48;
+			data[j + 3] = v12 | v13 << 16 | v14 << 32 | v15 << 48;
+			data[j + 4] = v16 | v17 << 16 | v18 << 32 | v19 << 48;
+			data[j + 5] = v20 | v21 << 16 | v22 << 32 | v23 << 48;
+			data[j + 6] = v24 | v25 << 16 | v26 << 32 | v27 << 48;
+			data[j + 7] = v28 | v29 << 16 | v30 << 32 | v31 << 48;
+			data[j + 8] = v32 | v33 << 16 | v34 << 32 | v35 << 48;
+			data[j + 9] = v36 | v37 << 16 | v38 << 32 | v39 << 48;
+			data[j + 10] = v40 | v41 << 16 | v42 << 32 | v43 << 48;
+			data[j + 11] = v44 | v45 << 16 | v46 << 32 | v47 << 48;
+			data[j + 12] = v48 | v49 << 16 | v50 << 32 | v51 << 48;
+			data[j + 13] = v52 | v53 << 16 | v54 << 32 | v55 << 48;
+			data[j + 14] = v56 | v57 << 16 | v58 << 32 | v59 << 48;
+			data[j + 15] = v60 | v61 << 16 | v62 << 32 | v63 << 48;
+		}
+	}
+
+	private static void decode17(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 17, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x1FFFFL);
+			dest[off + 1] = (int) (w0 >>> 17 & 0x1FFFFL);
+			dest[off + 2] = (int) (w0 >>> 34 & 0x1FFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 3] = (int) ((w0 >>> 51 | w1 << 13) & 0x1FFFFL);
+			dest[off + 4] = (int) (w1 >>> 4 & 0x1FFFFL);
+			dest[off + 5] = (int) (w1 >>> 21 & 0x1FFFFL);
+			dest[off + 6] = (int) (w1 >>> 38 & 0x1FFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 7] = (int) ((w1 >>> 55 | w2 << 9) & 0x1FFFFL);
+			dest[off + 8] = (int) (w2 >>> 8 & 0x1FFFFL);
+			dest[off + 9] = (int) (w2 >>> 25 & 0x1FFFFL);
+			dest[off + 10] = (int) (w2 >>> 42 & 0x1FFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 11] = (int) ((w2 >>> 59 | w3 << 5) & 0x1FFFFL);
+			dest[off + 12] = (int) (w3 >>> 12 & 0x1FFFFL);
+			dest[off + 13] = (int) (w3 >>> 29 & 0x1FFFFL);
+			dest[off + 14] = (int) (w3 >>> 46 & 0x1FFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 15] = (int) ((w3 >>> 63 | w4 << 1) & 0x1FFFFL);
+			dest[off + 16] = (int) (w4 >>> 16 & 0x1FFFFL);
+			dest[off + 17] = (int) (w4 >>> 33 & 0x1FFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 18] = (int) ((w4 >>> 50 | w5 << 14) & 0x1FFFFL);
+			dest[off + 19] = (int) (w5 >>> 3 & 0x1FFFFL);
+			dest[off + 20] = (int) (w5 >>> 20 & 0x1FFFFL);
+			dest[off + 21] = (int) (w5 >>> 37 & 0x1FFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 22] = (int) ((w5 >>> 54 | w6 << 10) & 0x1FFFFL);
+			dest[off + 23] = (int) (w6 >>> 7 & 0x1FFFFL);
+			dest[off + 24] = (int) (w6 >>> 24 & 0x1FFFFL);
+			dest[off + 25] = (int) (w6 >>> 41 & 0x1FFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 26] = (int) ((w6 >>> 58 | w7 << 6) & 0x1FFFFL);
+			dest[off + 27] = (int) (w7 >>> 11 & 0x1FFFFL);
+			dest[off + 28] = (int) (w7 >>> 28 & 0x1FFFFL);
+			dest[off + 29] = (int) (w7 >>> 45 & 0x1FFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 30] = (int) ((w7 >>> 62 | w8 << 2) & 0x1FFFFL);
+			dest[off + 31] = (int) (w8 >>> 15 & 0x1FFFFL);
+			dest[off + 32] = (int) (w8 >>> 32 & 0x1FFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 33] = (int) ((w8 >>> 49 | w9 << 15) & 0x1FFFFL);
+			dest[off + 34] = (int) (w9 >>> 2 & 0x1FFFFL);
+			dest[off + 35] = (int) (w9 >>> 19 & 0x1FFFFL);
+			dest[off + 36] = (int) (w9 >>> 36 & 0x1FFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 37] = (int) ((w9 >>> 53 | w10 << 11) & 0x1FFFFL);
+			dest[off + 38] = (int) (w10 >>> 6 & 0x1FFFFL);
+			dest[off + 39] = (int) (w10 >>> 23 & 0x1FFFFL);
+			dest[off + 40] = (int) (w10 >>> 40 & 0x1FFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 41] = (int) ((w10 >>> 57 | w11 << 7) & 0x1FFFFL);
+			dest[off + 42] = (int) (w11 >>> 10 & 0x1FFFFL);
+			dest[off + 43] = (int) (w11 >>> 27 & 0x1FFFFL);
+			dest[off + 44] = (int) (w11 >>> 44 & 0x1FFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 45] = (int) ((w11 >>> 61 | w12 << 3) & 0x1FFFFL);
+			dest[off + 46] = (int) (w12 >>> 14 & 0x1FFFFL);
+			dest[off + 47] = (int) (w12 >>> 31 & 0x1FFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 48] = (int) ((w12 >>> 48 | w13 << 16) & 0x1FFFFL);
+			dest[off + 49] = (int) (w13 >>> 1 & 0x1FFFFL);
+			dest[off + 50] = (int) (w13 >>> 18 & 0x1FFFFL);
+			dest[off + 51] = (int) (w13 >>> 35 & 0x1FFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 52] = (int) ((w13 >>> 52 | w14 << 12) & 0x1FFFFL);
+			dest[off + 53] = (int) (w14 >>> 5 & 0x1FFFFL);
+			dest[off + 54] = (int) (w14 >>> 22 & 0x1FFFFL);
+			dest[off + 55] = (int) (w14 >>> 39 & 0x1FFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 56] = (int) ((w14 >>> 56 | w15 << 8) & 0x1FFFFL);
+			dest[off + 57] = (int) (w15 >>> 9 & 0x1FFFFL);
+			dest[off + 58] = (int) (w15 >>> 26 & 0x1FFFFL);
+			dest[off + 59] = (int) (w15 >>> 43 & 0x1FFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 60] = (int) ((w15 >>> 60 | w16 << 4) & 0x1FFFFL);
+			dest[off + 61] = (int) (w16 >>> 13 & 0x1FFFFL);
+			dest[off + 62] = (int) (w16 >>> 30 & 0x1FFFFL);
+			dest[off + 63] = (int) (w16 >>> 47);
+		}
+	}
+
+	private static void encode17(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 17) {
+			final long v0 = src[off] & 0x1FFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFL;
+			data[j] = v0 | v1 << 17 | v2 << 34 | v3 << 51;
+			data[j + 1] = v3 >>> 13 | v4 << 4 | v5 << 21 | v6 << 38 | v7 << 55;
+			data[j + 2] = v7 >>> 9 | v8 << 8 | v9 << 25 | v10 << 42 | v11 << 59;
+			data[j + 3] = v11 >>> 5 | v12 << 12 | v13 << 29 | v14 << 46
+					| v15 << 63;
+			data[j + 4] = v15 >>> 1 | v16 << 16 | v17 << 33 | v18 << 50;
+			data[j + 5] = v18 >>> 14 | v19 << 3 | v20 << 20 | v21 << 37
+					| v22 << 54;
+			data[j + 6] = v22 >>> 10 | v23 << 7 | v24 << 24 | v25 << 41
+					| v26 << 58;
+			data[j + 7] = v26 >>> 6 | v27 << 11 | v28 << 28 | v29 << 45
+					| v30 << 62;
+			data[j + 8] = v30 >>> 2 | v31 << 15 | v32 << 32 | v33 << 49;
+			data[j + 9] = v33 >>> 15 | v34 << 2 | v35 << 19 | v36 << 36
+					| v37 << 53;
+			data[j + 10] = v37 >>> 11 | v38 << 6 | v39 << 23 | v40 << 40
+					| v41 << 57;
+			data[j + 11] = v41 >>> 7 | v42 << 10 | v43 << 27 | v44 << 44
+					| v45 << 61;
+			data[j + 12] = v45 >>> 3 | v46 << 14 | v47 << 31 | v48 << 48;
+			data[j + 13] = v48 >>> 16 | v49 << 1 | v50 << 18 | v51 << 35
+					| v52 << 52;
+			data[j + 14] = v52 >>> 12 | v53 << 5 | v54 << 22 | v55 << 39
+					| v56 << 56;
+			data[j + 15] = v56 >>> 8 | v57 << 9 | v58 << 26 | v59 << 43
+					| v60 << 60;
+			data[j + 16] = v60 >>> 4 | v61 << 13 | v62 << 30 | v63 << 47;
+		}
+	}
+
+	private static void decode18(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 18, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x3FFFFL);
+			dest[off + 1] = (int) (w0 >>> 18 & 0x3FFFFL);
+			dest[off + 2] = (int) (w0 >>> 36 & 0x3FFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 3] = (int) ((w0 >>> 54 | w1 << 10) & 0x3FFFFL);
+			dest[off + 4] = (int) (w1 >>> 8 & 0x3FFFFL);
+			dest[off + 5] = (int) (w1 >>> 26 & 0x3FFFFL);
+			dest[off + 6] = (int) (w1 >>> 44 & 0x3FFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 7] = (int) ((w1 >>> 62 | w2 << 2) & 0x3FFFFL);
+			dest[off + 8] = (int) (w2 >>> 16 & 0x3FFFFL);
+			dest[off + 9] = (int) (w2 >>> 34 & 0x3FFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 10] = (int) ((w2 >>> 52 | w3 << 12) & 0x3FFFFL);
+			dest[off + 11] = (int) (w3 >>> 6 & 0x3FFFFL);
+			dest[off + 12] = (int) (w3 >>> 24 & 0x3FFFFL);
+			dest[off + 13] = (int) (w3 >>> 42 & 0x3FFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 14] = (int) ((w3 >>> 60 | w4 << 4) & 0x3FFFFL);
+			dest[off + 15] = (int) (w4 >>> 14 & 0x3FFFFL);
+			dest[off + 16] = (int) (w4 >>> 32 & 0x3FFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 17] = (int) ((w4 >>> 50 | w5 << 14) & 0x3FFFFL);
+			dest[off + 18] = (int) (w5 >>> 4 & 0x3FFFFL);
+			dest[off + 19] = (int) (w5 >>> 22 & 0x3FFFFL);
+			dest[off + 20] = (int) (w5 >>> 40 & 0x3FFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 21] = (int) ((w5 >>> 58 | w6 << 6) & 0x3FFFFL);
+			dest[off + 22] = (int) (w6 >>> 12 & 0x3FFFFL);
+			dest[off + 23] = (int) (w6 >>> 30 & 0x3FFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 24] = (int) ((w6 >>> 48 | w7 << 16) & 0x3FFFFL);
+			dest[off + 25] = (int) (w7 >>> 2 & 0x3FFFFL);
+			dest[off + 26] = (int) (w7 >>> 20 & 0x3FFFFL);
+			dest[off + 27] = (int) (w7 >>> 38 & 0x3FFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 28] = (int) ((w7 >>> 56 | w8 << 8) & 0x3FFFFL);
+			dest[off + 29] = (int) (w8 >>> 10 & 0x3FFFFL);
+			dest[off + 30] = (int) (w8 >>> 28 & 0x3FFFFL);
+			dest[off + 31] = (int) (w8 >>> 46);
+			final long w9 = data[j + 9];
+			dest[off + 32] = (int) (w9 & 0x3FFFFL);
+			dest[off + 33] = (int) (w9 >>> 18 & 0x3FFFFL);
+			dest[off + 34] = (int) (w9 >>> 36 & 0x3FFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 35] = (int) ((w9 >>> 54 | w10 << 10) & 0x3FFFFL);
+			dest[off + 36] = (int) (w10 >>> 8 & 0x3FFFFL);
+			dest[off + 37] = (int) (w10 >>> 26 & 0x3FFFFL);
+			dest[off + 38] = (int) (w10 >>> 44 & 0x3FFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 39] = (int) ((w10 >>> 62 | w11 << 2) & 0x3FFFFL);
+			dest[off + 40] = (int) (w11 >>> 16 & 0x3FFFFL);
+			dest[off + 41] = (int) (w11 >>> 34 & 0x3FFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 42] = (int) ((w11 >>> 52 | w12 << 12) & 0x3FFFFL);
+			dest[off + 43] = (int) (w12 >>> 6 & 0x3FFFFL);
+			dest[off + 44] = (int) (w12 >>> 24 & 0x3FFFFL);
+			dest[off + 45] = (int) (w12 >>> 42 & 0x3FFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 46] = (int) ((w12 >>> 60 | w13 << 4) & 0x3FFFFL);
+			dest[off + 47] = (int) (w13 >>> 14 & 0x3FFFFL);
+			dest[off + 48] = (int) (w13 >>> 32 & 0x3FFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 49] = (int) ((w13 >>> 50 | w14 << 14) & 0x3FFFFL);
+			dest[off + 50] = (int) (w14 >>> 4 & 0x3FFFFL);
+			dest[off + 51] = (int) (w14 >>> 22 & 0x3FFFFL);
+			dest[off + 52] = (int) (w14 >>> 40 & 0x3FFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 53] = (int) ((w14 >>> 58 | w15 << 6) & 0x3FFFFL);
+			dest[off + 54] = (int) (w15 >>> 12 & 0x3FFFFL);
+			dest[off + 55] = (int) (w15 >>> 30 & 0x3FFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 56] = (int) ((w15 >>> 48 | w16 << 16) & 0x3FFFFL);
+			dest[off + 57] = (int) (w16 >>> 2 & 0x3FFFFL);
+			dest[off + 58] = (int) (w16 >>> 20 & 0x3FFFFL);
+			dest[off + 59] = (int) (w16 >>> 38 & 0x3FFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 60] = (int) ((w16 >>> 56 | w17 << 8) & 0x3FFFFL);
+			dest[off + 61] = (int) (w17 >>> 10 & 0x3FFFFL);
+			dest[off + 62] = (int) (w17 >>> 28 & 0x3FFFFL);
+			dest[off + 63] = (int) (w17 >>> 46);
+		}
+	}
+
+	private static void encode18(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 18) {
+			final long v0 = src[off] & 0x3FFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFL;
+			data[j] = v0 | v1 << 18 | v2 << 36 | v3 << 54;
+			data[j + 1] = v3 >>> 10 | v4 << 8 | v5 << 26 | v6 << 44 | v7 << 62;
+			data[j + 2] = v7 >>> 2 | v8 << 16 | v9 << 34 | v10 << 52;
+			data[j + 3] = v10 >>> 12 | v11 << 6 | v12 << 24 | v13 << 42
+					| v14 << 60;
+			data[j + 4] = v14 >>> 4 | v15 << 14 | v16 << 32 | v17 << 50;
+			data[j + 5] = v17 >>> 14 | v18 << 4 | v19 << 22 | v20 << 40
+					| v21 << 58;
+			data[j + 6] = v21 >>> 6 | v22 << 12 | v23 << 30 | v24 << 48;
+			data[j + 7] = v24 >>> 16 | v25 << 2 | v26 << 20 | v27 << 38
+					| v28 << 56;
+			data[j + 8] = v28 >>> 8 | v29 << 10 | v30 << 28 | v31 << 46;
+			data[j + 9] = v32 | v33 << 18 | v34 << 36 | v35 << 54;
+			data[j + 10] = v35 >>> 10 | v36 << 8 | v37 << 26 | v38 << 44
+					| v39 << 62;
+			data[j + 11] = v39 >>> 2 | v40 << 16 | v41 << 34 | v42 << 52;
+			data[j + 12] = v42 >>> 12 | v43 << 6 | v44 << 24 | v45 << 42
+					| v46 << 60;
+			data[j + 13] = v46 >>> 4 | v47 << 14 | v48 << 32 | v49 << 50;
+			data[j + 14] = v49 >>> 14 | v50 << 4 | v51 << 22 | v52 << 40
+					| v53 << 58;
+			data[j + 15] = v53 >>> 6 | v54 << 12 | v55 << 30 | v56 << 48;
+			data[j + 16] = v56 >>> 16 | v57 << 2 | v58 << 20 | v59 << 38
+					| v60 << 56;
+			data[j + 17] = v60 >>> 8 | v61 << 10 | v62 << 28 | v63 << 46;
+		}
+	}
+
+	private static void decode19(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 19, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x7FFFFL);
+			dest[off + 1] = (int) (w0 >>> 19 & 0x7FFFFL);
+			dest[off + 2] = (int) (w0 >>> 38 & 0x7FFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 3] = (int) ((w0 >>> 57 | w1 << 7) & 0x7FFFFL);
+			dest[off + 4] = (int) (w1 >>> 12 & 0x7FFFFL);
+			dest[off + 5] = (int) (w1 >>> 31 & 0x7FFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 6] = (int) ((w1 >>> 50 | w2 << 14) & 0x7FFFFL);
+			dest[off + 7] = (int) (w2 >>> 5 & 0x7FFFFL);
+			dest[off + 8] = (int) (w2 >>> 24 & 0x7FFFFL);
+			dest[off + 9] = (int) (w2 >>> 43 & 0x7FFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 10] = (int) ((w2 >>> 62 | w3 << 2) & 0x7FFFFL);
+			dest[off + 11] = (int) (w3 >>> 17 & 0x7FFFFL);
+			dest[off + 12] = (int) (w3 >>> 36 & 0x7FFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 13] = (int) ((w3 >>> 55 | w4 << 9) & 0x7FFFFL);
+			dest[off + 14] = (int) (w4 >>> 10 & 0x7FFFFL);
+			dest[off + 15] = (int) (w4 >>> 29 & 0x7FFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 16] = (int) ((w4 >>> 48 | w5 << 16) & 0x7FFFFL);
+			dest[off + 17] = (int) (w5 >>> 3 & 0x7FFFFL);
+			dest[off + 18] = (int) (w5 >>> 22 & 0x7FFFFL);
+			dest[off + 19] = (int) (w5 >>> 41 & 0x7FFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 20] = (int) ((w5 >>> 60 | w6 << 4) & 0x7FFFFL);
+			dest[off + 21] = (int) (w6 >>> 15 & 0x7FFFFL);
+			dest[off + 22] = (int) (w6 >>> 34 & 0x7FFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 23] = (int) ((w6 >>> 53 | w7 << 11) & 0x7FFFFL);
+			dest[off + 24] = (int) (w7 >>> 8 & 0x7FFFFL);
+			dest[off + 25] = (int) (w7 >>> 27 & 0x7FFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 26] = (int) ((w7 >>> 46 | w8 << 18) & 0x7FFFFL);
+			dest[off + 27] = (int) (w8 >>> 1 & 0x7FFFFL);
+			dest[off + 28] = (int) (w8 >>> 20 & 0x7FFFFL);
+			dest[off + 29] = (int) (w8 >>> 39 & 0x7FFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 30] = (int) ((w8 >>> 58 | w9 << 6) & 0x7FFFFL);
+			dest[off + 31] = (int) (w9 >>> 13 & 0x7FFFFL);
+			dest[off + 32] = (int) (w9 >>> 32 & 0x7FFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 33] = (int) ((w9 >>> 51 | w10 << 13) & 0x7FFFFL);
+			dest[off + 34] = (int) (w10 >>> 6 & 0x7FFFFL);
+			dest[off + 35] = (int) (w10 >>> 25 & 0x7FFFFL);
+			dest[off + 36] = (int) (w10 >>> 44 & 0x7FFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 37] = (int) ((w10 >>> 63 | w11 << 1) & 0x7FFFFL);
+			dest[off + 38] = (int) (w11 >>> 18 & 0x7FFFFL);
+			dest[off + 39] = (int) (w11 >>> 37 & 0x7FFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 40] = (int) ((w11 >>> 56 | w12 << 8) & 0x7FFFFL);
+			dest[off + 41] = (int) (w12 >>> 11 & 0x7FFFFL);
+			dest[off + 42] = (int) (w12 >>> 30 & 0x7FFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 43] = (int) ((w12 >>> 49 | w13 << 15) & 0x7FFFFL);
+			dest[off + 44] = (int) (w13 >>> 4 & 0x7FFFFL);
+			dest[off + 45] = (int) (w13 >>> 23 & 0x7FFFFL);
+			dest[off + 46] = (int) (w13 >>> 42 & 0x7FFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 47] = (int) ((w13 >>> 61 | w14 << 3) & 0x7FFFFL);
+			dest[off + 48] = (int) (w14 >>> 16 & 0x7FFFFL);
+			dest[off + 49] = (int) (w14 >>> 35 & 0x7FFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 50] = (int) ((w14 >>> 54 | w15 << 10) & 0x7FFFFL);
+			dest[off + 51] = (int) (w15 >>> 9 & 0x7FFFFL);
+			dest[off + 52] = (int) (w15 >>> 28 & 0x7FFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 53] = (int) ((w15 >>> 47 | w16 << 17) & 0x7FFFFL);
+			dest[off + 54] = (int) (w16 >>> 2 & 0x7FFFFL);
+			dest[off + 55] = (int) (w16 >>> 21 & 0x7FFFFL);
+			dest[off + 56] = (int) (w16 >>> 40 & 0x7FFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 57] = (int) ((w16 >>> 59 | w17 << 5) & 0x7FFFFL);
+			dest[off + 58] = (int) (w17 >>> 14 & 0x7FFFFL);
+			dest[off + 59] = (int) (w17 >>> 33 & 0x7FFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 60] = (int) ((w17 >>> 52 | w18 << 12) & 0x7FFFFL);
+			dest[off + 61] = (int) (w18 >>> 7 & 0x7FFFFL);
+			dest[off + 62] = (int) (w18 >>> 26 & 0x7FFFFL);
+			dest[off + 63] = (int) (w18 >>> 45);
+		}
+	}
+
+	private static void encode19(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 19) {
+			final long v0 = src[off] & 0x7FFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFL;
+			data[j] = v0 | v1 << 19 | v2 << 38 | v3 << 57;
+			data[j + 1] = v3 >>> 7 | v4 << 12 | v5 << 31 | v6 << 50;
+			data[j + 2] = v6 >>> 14 | v7 << 5 | v8 << 24 | v9 << 43 | v10 << 62;
+			data[j + 3] = v10 >>> 2 | v11 << 17 | v12 << 36 | v13 << 55;
+			data[j + 4] = v13 >>> 9 | v14 << 10 | v15 << 29 | v16 << 48;
+			data[j + 5] = v16 >>> 16 | v17 << 3 | v18 << 22 | v19 << 41
+					| v20 << 60;
+			data[j + 6] = v20 >>> 4 | v21 << 15 | v22 << 34 | v23 << 53;
+			data[j + 7] = v23 >>> 11 | v24 << 8 | v25 << 27 | v26 << 46;
+			data[j + 8] = v26 >>> 18 | v27 << 1 | v28 << 20 | v29 << 39
+					| v30 << 58;
+			data[j + 9] = v30 >>> 6 | v31 << 13 | v32 << 32 | v33 << 51;
+			data[j + 10] = v33 >>> 13 | v34 << 6 | v35 << 25 | v36 << 44
+					| v37 << 63;
+			data[j + 11] = v37 >>> 1 | v38 << 18 | v39 << 37 | v40 << 56;
+			data[j + 12] = v40 >>> 8 | v41 << 11 | v42 << 30 | v43 << 49;
+			data[j + 13] = v43 >>> 15 | v44 << 4 | v45 << 23 | v46 << 42
+					| v47 << 61;
+			data[j + 14] = v47 >>> 3 | v48 << 16 | v49 << 35 | v50 << 54;
+			data[j + 15] = v50 >>> 10 | v51 << 9 | v52 << 28 | v53 << 47;
+			data[j + 16] = v53 >>> 17 | v54 << 2 | v55 << 21 | v56 << 40
+					| v57 << 59;
+			data[j + 17] = v57 >>> 5 | v58 << 14 | v59 << 33 | v60 << 52;
+			data[j + 18] = v60 >>> 12 | v61 << 7 | v62 << 26 | v63 << 45;
+		}
+	}
+
+	private static void decode20(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 20, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0xFFFFFL);
+			dest[off + 1] = (int) (w0 >>> 20 & 0xFFFFFL);
+			dest[off + 2] = (int) (w0 >>> 40 & 0xFFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 3] = (int) ((w0 >>> 60 | w1 << 4) & 0xFFFFFL);
+			dest[off + 4] = (int) (w1 >>> 16 & 0xFFFFFL);
+			dest[off + 5] = (int) (w1 >>> 36 & 0xFFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 6] = (int) ((w1 >>> 56 | w2 << 8) & 0xFFFFFL);
+			dest[off + 7] = (int) (w2 >>> 12 & 0xFFFFFL);
+			dest[off + 8] = (int) (w2 >>> 32 & 0xFFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 9] = (int) ((w2 >>> 52 | w3 << 12) & 0xFFFFFL);
+			dest[off + 10] = (int) (w3 >>> 8 & 0xFFFFFL);
+			dest[off + 11] = (int) (w3 >>> 28 & 0xFFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 12] = (int) ((w3 >>> 48 | w4 << 16) & 0xFFFFFL);
+			dest[off + 13] = (int) (w4 >>> 4 & 0xFFFFFL);
+			dest[off + 14] = (int) (w4 >>> 24 & 0xFFFFFL);
+			dest[off + 15] = (int) (w4 >>> 44);
+			final long w5 = data[j + 5];
+			dest[off + 16] = (int) (w5 & 0xFFFFFL);
+			dest[off + 17] = (int) (w5 >>> 20 & 0xFFFFFL);
+			dest[off + 18] = (int) (w5 >>> 40 & 0xFFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 19] = (int) ((w5 >>> 60 | w6 << 4) & 0xFFFFFL);
+			dest[off + 20] = (int) (w6 >>> 16 & 0xFFFFFL);
+			dest[off + 21] = (int) (w6 >>> 36 & 0xFFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 22] = (int) ((w6 >>> 56 | w7 << 8) & 0xFFFFFL);
+			dest[off + 23] = (int) (w7 >>> 12 & 0xFFFFFL);
+			dest[off + 24] = (int) (w7 >>> 32 & 0xFFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 25] = (int) ((w7 >>> 52 | w8 << 12) & 0xFFFFFL);
+			dest[off + 26] = (int) (w8 >>> 8 & 0xFFFFFL);
+			dest[off + 27] = (int) (w8 >>> 28 & 0xFFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 28] = (int) ((w8 >>> 48 | w9 << 16) & 0xFFFFFL);
+			dest[off + 29] = (int) (w9 >>> 4 & 0xFFFFFL);
+			dest[off + 30] = (int) (w9 >>> 24 & 0xFFFFFL);
+			dest[off + 31] = (int) (w9 >>> 44);
+			final long w10 = data[j + 10];
+			dest[off + 32] = (int) (w10 & 0xFFFFFL);
+			dest[off + 33] = (int) (w10 >>> 20 & 0xFFFFFL);
+			dest[off + 34] = (int) (w10 >>> 40 & 0xFFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 35] = (int) ((w10 >>> 60 | w11 << 4) & 0xFFFFFL);
+			dest[off + 36] = (int) (w11 >>> 16 & 0xFFFFFL);
+			dest[off + 37] = (int) (w11 >>> 36 & 0xFFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 38] = (int) ((w11 >>> 56 | w12 << 8) & 0xFFFFFL);
+			dest[off + 39] = (int) (w12 >>> 12 & 0xFFFFFL);
+			dest[off + 40] = (int) (w12 >>> 32 & 0xFFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 41] = (int) ((w12 >>> 52 | w13 << 12) & 0xFFFFFL);
+			dest[off + 42] = (int) (w13 >>> 8 & 0xFFFFFL);
+			dest[off + 43] = (int) (w13 >>> 28 & 0xFFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 44] = (int) ((w13 >>> 48 | w14 << 16) & 0xFFFFFL);
+			dest[off + 45] = (int) (w14 >>> 4 & 0xFFFFFL);
+			dest[off + 46] = (int) (w14 >>> 24 & 0xFFFFFL);
+			dest[off + 47] = (int) (w14 >>> 44);
+			final long w15 = data[j + 15];
+			dest[off + 48] = (int) (w15 & 0xFFFFFL);
+			dest[off + 49] = (int) (w15 >>> 20 & 0xFFFFFL);
+			dest[off + 50] = (int) (w15 >>> 40 & 0xFFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 51] = (int) ((w15 >>> 60 | w16 << 4) & 0xFFFFFL);
+			dest[off + 52] = (int) (w16 >>> 16 & 0xFFFFFL);
+			dest[off + 53] = (int) (w16 >>> 36 & 0xFFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 54] = (int) ((w16 >>> 56 | w17 << 8) & 0xFFFFFL);
+			dest[off + 55] = (int) (w17 >>> 12 & 0xFFFFFL);
+			dest[off + 56] = (int) (w17 >>> 32 & 0xFFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 57] = (int) ((w17 >>> 52 | w18 << 12) & 0xFFFFFL);
+			dest[off + 58] = (int) (w18 >>> 8 & 0xFFFFFL);
+			dest[off + 59] = (int) (w18 >>> 28 & 0xFFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 60] = (int) ((w18 >>> 48 | w19 << 16) & 0xFFFFFL);
+			dest[off + 61] = (int) (w19 >>> 4 & 0xFFFFFL);
+			dest[off + 62] = (int) (w19 >>> 24 & 0xFFFFFL);
+			dest[off + 63] = (int) (w19 >>> 44);
+		}
+	}
+
+	private static void encode20(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 20) {
+			final long v0 = src[off] & 0xFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFL;
+			data[j] = v0 | v1 << 20 | v2 << 40 | v3 << 60;
+			data[j + 1] = v3 >>> 4 | v4 << 16 | v5 << 36 | v6 << 56;
+			data[j + 2] = v6 >>> 8 | v7 << 12 | v8 << 32 | v9 << 52;
+			data[j + 3] = v9 >>> 12 | v10 << 8 | v11 << 28 | v12 << 48;
+			data[j + 4] = v12 >>> 16 | v13 << 4 | v14 << 24 | v15 << 44;
+			data[j + 5] = v16 | v17 << 20 | v18 << 40 | v19 << 60;
+			data[j + 6] = v19 >>> 4 | v20 << 16 | v21 << 36 | v22 << 56;
+			data[j + 7] = v22 >>> 8 | v23 << 12 | v24 << 32 | v25 << 52;
+			data[j + 8] = v25 >>> 12 | v26 << 8 | v27 << 28 | v28 << 48;
+			data[j + 9] = v28 >>> 16 | v29 << 4 | v30 << 24 | v31 << 44;
+			data[j + 10] = v32 | v33 << 20 | v34 << 40 | v35 << 60;
+			data[j + 11] = v35 >>> 4 | v36 << 16 | v37 << 36 | v38 << 56;
+			data[j + 12] = v38 >>> 8 | v39 << 12 | v40 << 32 | v41 << 52;
+			data[j + 13] = v41 >>> 12 | v42 << 8 | v43 << 28 | v44 << 48;
+			data[j + 14] = v44 >>> 16 | v45 << 4 | v46 << 24 | v47 << 44;
+			data[j + 15] = v48 | v49 << 20 | v50 << 40 | v51 << 60;
+			data[j + 16] = v51 >>> 4 | v52 << 16 | v53 << 36 | v54 << 56;
+			data[j + 17] = v54 >>> 8 | v55 << 12 | v56 << 32 | v57 << 52;
+			data[j + 18] = v57 >>> 12 | v58 << 8 | v59 << 28 | v60 << 48;
+			data[j + 19] = v60 >>> 16 | v61 << 4 | v62 << 24 | v63 << 44;
+		}
+	}
+
+	private static void decode21(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 21, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x1FFFFFL);
+			dest[off + 1] = (int) (w0 >>> 21 & 0x1FFFFFL);
+			dest[off + 2] = (int) (w0 >>> 42 & 0x1FFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 3] = (int) ((w0 >>> 63 | w1 << 1) & 0x1FFFFFL);
+			dest[off + 4] = (int) (w1 >>> 20 & 0x1FFFFFL);
+			dest[off + 5] = (int) (w1 >>> 41 & 0x1FFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 6] = (int) ((w1 >>> 62 | w2 << 2) & 0x1FFFFFL);
+			dest[off + 7] = (int) (w2 >>> 19 & 0x1FFFFFL);
+			dest[off + 8] = (int) (w2 >>> 40 & 0x1FFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 9] = (int) ((w2 >>> 61 | w3 << 3) & 0x1FFFFFL);
+			dest[off + 10] = (int) (w3 >>> 18 & 0x1FFFFFL);
+			dest[off + 11] = (int) (w3 >>> 39 & 0x1FFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 12] = (int) ((w3 >>> 60 | w4 << 4) & 0x1FFFFFL);
+			dest[off + 13] = (int) (w4 >>> 17 & 0x1FFFFFL);
+			dest[off + 14] = (int) (w4 >>> 38 & 0x1FFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 15] = (int) ((w4 >>> 59 | w5 << 5) & 0x1FFFFFL);
+			dest[off + 16] = (int) (w5 >>> 16 & 0x1FFFFFL);
+			dest[off + 17] = (int) (w5 >>> 37 & 0x1FFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 18] = (int) ((w5 >>> 58 | w6 << 6) & 0x1FFFFFL);
+			dest[off + 19] = (int) (w6 >>> 15 & 0x1FFFFFL);
+			dest[off + 20] = (int) (w6 >>> 36 & 0x1FFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 21] = (int) ((w6 >>> 57 | w7 << 7) & 0x1FFFFFL);
+			dest[off + 22] = (int) (w7 >>> 14 & 0x1FFFFFL);
+			dest[off + 23] = (int) (w7 >>> 35 & 0x1FFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 24] = (int) ((w7 >>> 56 | w8 << 8) & 0x1FFFFFL);
+			dest[off + 25] = (int) (w8 >>> 13 & 0x1FFFFFL);
+			dest[off + 26] = (int) (w8 >>> 34 & 0x1FFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 27] = (int) ((w8 >>> 55 | w9 << 9) & 0x1FFFFFL);
+			dest[off + 28] = (int) (w9 >>> 12 & 0x1FFFFFL);
+			dest[off + 29] = (int) (w9 >>> 33 & 0x1FFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 30] = (int) ((w9 >>> 54 | w10 << 10) & 0x1FFFFFL);
+			dest[off + 31] = (int) (w10 >>> 11 & 0x1FFFFFL);
+			dest[off + 32] = (int) (w10 >>> 32 & 0x1FFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 33] = (int) ((w10 >>> 53 | w11 << 11) & 0x1FFFFFL);
+			dest[off + 34] = (int) (w11 >>> 10 & 0x1FFFFFL);
+			dest[off + 35] = (int) (w11 >>> 31 & 0x1FFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 36] = (int) ((w11 >>> 52 | w12 << 12) & 0x1FFFFFL);
+			dest[off + 37] = (int) (w12 >>> 9 & 0x1FFFFFL);
+			dest[off + 38] = (int) (w12 >>> 30 & 0x1FFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 39] = (int) ((w12 >>> 51 | w13 << 13) & 0x1FFFFFL);
+			dest[off + 40] = (int) (w13 >>> 8 & 0x1FFFFFL);
+			dest[off + 41] = (int) (w13 >>> 29 & 0x1FFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 42] = (int) ((w13 >>> 50 | w14 << 14) & 0x1FFFFFL);
+			dest[off + 43] = (int) (w14 >>> 7 & 0x1FFFFFL);
+			dest[off + 44] = (int) (w14 >>> 28 & 0x1FFFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 45] = (int) ((w14 >>> 49 | w15 << 15) & 0x1FFFFFL);
+			dest[off + 46] = (int) (w15 >>> 6 & 0x1FFFFFL);
+			dest[off + 47] = (int) (w15 >>> 27 & 0x1FFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 48] = (int) ((w15 >>> 48 | w16 << 16) & 0x1FFFFFL);
+			dest[off + 49] = (int) (w16 >>> 5 & 0x1FFFFFL);
+			dest[off + 50] = (int) (w16 >>> 26 & 0x1FFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 51] = (int) ((w16 >>> 47 | w17 << 17) & 0x1FFFFFL);
+			dest[off + 52] = (int) (w17 >>> 4 & 0x1FFFFFL);
+			dest[off + 53] = (int) (w17 >>> 25 & 0x1FFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 54] = (int) ((w17 >>> 46 | w18 << 18) & 0x1FFFFFL);
+			dest[off + 55] = (int) (w18 >>> 3 & 0x1FFFFFL);
+			dest[off + 56] = (int) (w18 >>> 24 & 0x1FFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 57] = (int) ((w18 >>> 45 | w19 << 19) & 0x1FFFFFL);
+			dest[off + 58] = (int) (w19 >>> 2 & 0x1FFFFFL);
+			dest[off + 59] = (int) (w19 >>> 23 & 0x1FFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 60] = (int) ((w19 >>> 44 | w20 << 20) & 0x1FFFFFL);
+			dest[off + 61] = (int) (w20 >>> 1 & 0x1FFFFFL);
+			dest[off + 62] = (int) (w20 >>> 22 & 0x1FFFFFL);
+			dest[off + 63] = (int) (w20 >>> 43);
+		}
+	}
+
+	private static void encode21(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 21) {
+			final long v0 = src[off] & 0x1FFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFL;
+			data[j] = v0 | v1 << 21 | v2 << 42 | v3 << 63;
+			data[j + 1] = v3 >>> 1 | v4 << 20 | v5 << 41 | v6 << 62;
+			data[j + 2] = v6 >>> 2 | v7 << 19 | v8 << 40 | v9 << 61;
+			data[j + 3] = v9 >>> 3 | v10 << 18 | v11 << 39 | v12 << 60;
+			data[j + 4] = v12 >>> 4 | v13 << 17 | v14 << 38 | v15 << 59;
+			data[j + 5] = v15 >>> 5 | v16 << 16 | v17 << 37 | v18 << 58;
+			data[j + 6] = v18 >>> 6 | v19 << 15 | v20 << 36 | v21 << 57;
+			data[j + 7] = v21 >>> 7 | v22 << 14 | v23 << 35 | v24 << 56;
+			data[j + 8] = v24 >>> 8 | v25 << 13 | v26 << 34 | v27 << 55;
+			data[j + 9] = v27 >>> 9 | v28 << 12 | v29 << 33 | v30 << 54;
+			data[j + 10] = v30 >>> 10 | v31 << 11 | v32 << 32 | v33 << 53;
+			data[j + 11] = v33 >>> 11 | v34 << 10 | v35 << 31 | v36 << 52;
+			data[j + 12] = v36 >>> 12 | v37 << 9 | v38 << 30 | v39 << 51;
+			data[j + 13] = v39 >>> 13 | v40 << 8 | v41 << 29 | v42 << 50;
+			data[j + 14] = v42 >>> 14 | v43 << 7 | v44 << 28 | v45 << 49;
+			data[j + 15] = v45 >>> 15 | v46 << 6 | v47 << 27 | v48 << 48;
+			data[j + 16] = v48 >>> 16 | v49 << 5 | v50 << 26 | v51 << 47;
+			data[j + 17] = v51 >>> 17 | v52 << 4 | v53 << 25 | v54 << 46;
+			data[j + 18] = v54 >>> 18 | v55 << 3 | v56 << 24 | v57 << 45;
+			data[j + 19] = v57 >>> 19 | v58 << 2 | v59 << 23 | v60 << 44;
+			data[j + 20] = v60 >>> 20 | v61 << 1 | v62 << 22 | v63 << 43;
+		}
+	}
+
+	private static void decode22(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 22, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x3FFFFFL);
+			dest[off + 1] = (int) (w0 >>> 22 & 0x3FFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) ((w0 >>> 44 | w1 << 20) & 0x3FFFFFL);
+			dest[off + 3] = (int) (w1 >>> 2 & 0x3FFFFFL);
+			dest[off + 4] = (int) (w1 >>> 24 & 0x3FFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 5] = (int) ((w1 >>> 46 | w2 << 18) & 0x3FFFFFL);
+			dest[off + 6] = (int) (w2 >>> 4 & 0x3FFFFFL);
+			dest[off + 7] = (int) (w2 >>> 26 & 0x3FFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 8] = (int) ((w2 >>> 48 | w3 << 16) & 0x3FFFFFL);
+			dest[off + 9] = (int) (w3 >>> 6 & 0x3FFFFFL);
+			dest[off + 10] = (int) (w3 >>> 28 & 0x3FFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 11] = (int) ((w3 >>> 50 | w4 << 14) & 0x3FFFFFL);
+			dest[off + 12] = (int) (w4 >>> 8 & 0x3FFFFFL);
+			dest[off + 13] = (int) (w4 >>> 30 & 0x3FFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 14] = (int) ((w4 >>> 52 | w5 << 12) & 0x3FFFFFL);
+			dest[off + 15] = (int) (w5 >>> 10 & 0x3FFFFFL);
+			dest[off + 16] = (int) (w5 >>> 32 & 0x3FFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 17] = (int) ((w5 >>> 54 | w6 << 10) & 0x3FFFFFL);
+			dest[off + 18] = (int) (w6 >>> 12 & 0x3FFFFFL);
+			dest[off + 19] = (int) (w6 >>> 34 & 0x3FFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 20] = (int) ((w6 >>> 56 | w7 << 8) & 0x3FFFFFL);
+			dest[off + 21] = (int) (w7 >>> 14 & 0x3FFFFFL);
+			dest[off + 22] = (int) (w7 >>> 36 & 0x3FFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 23] = (int) ((w7 >>> 58 | w8 << 6) & 0x3FFFFFL);
+			dest[off + 24] = (int) (w8 >>> 16 & 0x3FFFFFL);
+			dest[off + 25] = (int) (w8 >>> 38 & 0x3FFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 26] = (int) ((w8 >>> 60 | w9 << 4) & 0x3FFFFFL);
+			dest[off + 27] = (int) (w9 >>> 18 & 0x3FFFFFL);
+			dest[off + 28] = (int) (w9 >>> 40 & 0x3FFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 29] = (int) ((w9 >>> 62 | w10 << 2) & 0x3FFFFFL);
+			dest[off + 30] = (int) (w10 >>> 20 & 0x3FFFFFL);
+			dest[off + 31] = (int) (w10 >>> 42);
+			final long w11 = data[j + 11];
+			dest[off + 32] = (int) (w11 & 0x3FFFFFL);
+			dest[off + 33] = (int) (w11 >>> 22 & 0x3FFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 34] = (int) ((w11 >>> 44 | w12 << 20) & 0x3FFFFFL);
+			dest[off + 35] = (int) (w12 >>> 2 & 0x3FFFFFL);
+			dest[off + 36] = (int) (w12 >>> 24 & 0x3FFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 37] = (int) ((w12 >>> 46 | w13 << 18) & 0x3FFFFFL);
+			dest[off + 38] = (int) (w13 >>> 4 & 0x3FFFFFL);
+			dest[off + 39] = (int) (w13 >>> 26 & 0x3FFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 40] = (int) ((w13 >>> 48 | w14 << 16) & 0x3FFFFFL);
+			dest[off + 41] = (int) (w14 >>> 6 & 0x3FFFFFL);
+			dest[off + 42] = (int) (w14 >>> 28 & 0x3FFFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 43] = (int) ((w14 >>> 50 | w15 << 14) & 0x3FFFFFL);
+			dest[off + 44] = (int) (w15 >>> 8 & 0x3FFFFFL);
+			dest[off + 45] = (int) (w15 >>> 30 & 0x3FFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 46] = (int) ((w15 >>> 52 | w16 << 12) & 0x3FFFFFL);
+			dest[off + 47] = (int) (w16 >>> 10 & 0x3FFFFFL);
+			dest[off + 48] = (int) (w16 >>> 32 & 0x3FFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 49] = (int) ((w16 >>> 54 | w17 << 10) & 0x3FFFFFL);
+			dest[off + 50] = (int) (w17 >>> 12 & 0x3FFFFFL);
+			dest[off + 51] = (int) (w17 >>> 34 & 0x3FFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 52] = (int) ((w17 >>> 56 | w18 << 8) & 0x3FFFFFL);
+			dest[off + 53] = (int) (w18 >>> 14 & 0x3FFFFFL);
+			dest[off + 54] = (int) (w18 >>> 36 & 0x3FFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 55] = (int) ((w18 >>> 58 | w19 << 6) & 0x3FFFFFL);
+			dest[off + 56] = (int) (w19 >>> 16 & 0x3FFFFFL);
+			dest[off + 57] = (int) (w19 >>> 38 & 0x3FFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 58] = (int) ((w19 >>> 60 | w20 << 4) & 0x3FFFFFL);
+			dest[off + 59] = (int) (w20 >>> 18 & 0x3FFFFFL);
+			dest[off + 60] = (int) (w20 >>> 40 & 0x3FFFFFL);
+			final long w21 = data[j + 21];
+			dest[off + 61] = (int) ((w20 >>> 62 | w21 << 2) & 0x3FFFFFL);
+			dest[off + 62] = (int) (w21 >>> 20 & 0x3FFFFFL);
+			dest[off + 63] = (int) (w21 >>> 42);
+		}
+	}
+
+	private static void encode22(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 22) {
+			final long v0 = src[off] & 0x3FFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFL;
+			data[j] = v0 | v1 << 22 | v2 << 44;
+			data[j + 1] = v2 >>> 20 | v3 << 2 | v4 << 24 | v5 << 46;
+			data[j + 2] = v5 >>> 18 | v6 << 4 | v7 << 26 | v8 << 48;
+			data[j + 3] = v8 >>> 16 | v9 << 6 | v10 << 28 | v11 << 50;
+			data[j + 4] = v11 >>> 14 | v12 << 8 | v13 << 30 | v14 << 52;
+			data[j + 5] = v14 >>> 12 | v15 << 10 | v16 << 32 | v17 << 54;
+			data[j + 6] = v17 >>> 10 | v18 << 12 | v19 << 34 | v20 << 56;
+			data[j + 7] = v20 >>> 8 | v21 << 14 | v22 << 36 | v23 << 58;
+			data[j + 8] = v23 >>> 6 | v24 << 16 | v25 << 38 | v26 << 60;
+			data[j + 9] = v26 >>> 4 | v27 << 18 | v28 << 40 | v29 << 62;
+			data[j + 10] = v29 >>> 2 | v30 << 20 | v31 << 42;
+			data[j + 11] = v32 | v33 << 22 | v34 << 44;
+			data[j + 12] = v34 >>> 20 | v35 << 2 | v36 << 24 | v37 << 46;
+			data[j + 13] = v37 >>> 18 | v38 << 4 | v39 << 26 | v40 << 48;
+			data[j + 14] = v40 >>> 16 | v41 << 6 | v42 << 28 | v43 << 50;
+			data[j + 15] = v43 >>> 14 | v44 << 8 | v45 << 30 | v46 << 52;
+			data[j + 16] = v46 >>> 12 | v47 << 10 | v48 << 32 | v49 << 54;
+			data[j + 17] = v49 >>> 10 | v50 << 12 | v51 << 34 | v52 << 56;
+			data[j + 18] = v52 >>> 8 | v53 << 14 | v54 << 36 | v55 << 58;
+			data[j + 19] = v55 >>> 6 | v56 << 16 | v57 << 38 | v58 << 60;
+			data[j + 20] = v58 >>> 4 | v59 << 18 | v60 << 40 | v61 << 62;
+			data[j + 21] = v61 >>> 2 | v62 << 20 | v63 << 42;
+		}
+	}
+
+	private static void decode23(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 23, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x7FFFFFL);
+			dest[off + 1] = (int) (w0 >>> 23 & 0x7FFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) ((w0 >>> 46 | w1 << 18) & 0x7FFFFFL);
+			dest[off + 3] = (int) (w1 >>> 5 & 0x7FFFFFL);
+			dest[off + 4] = (int) (w1 >>> 28 & 0x7FFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 5] = (int) ((w1 >>> 51 | w2 << 13) & 0x7FFFFFL);
+			dest[off + 6] = (int) (w2 >>> 10 & 0x7FFFFFL);
+			dest[off + 7] = (int) (w2 >>> 33 & 0x7FFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 8] = (int) ((w2 >>> 56 | w3 << 8) & 0x7FFFFFL);
+			dest[off + 9] = (int) (w3 >>> 15 & 0x7FFFFFL);
+			dest[off + 10] = (int) (w3 >>> 38 & 0x7FFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 11] = (int) ((w3 >>> 61 | w4 << 3) & 0x7FFFFFL);
+			dest[off + 12] = (int) (w4 >>> 20 & 0x7FFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 13] = (int) ((w4 >>> 43 | w5 << 21) & 0x7FFFFFL);
+			dest[off + 14] = (int) (w5 >>> 2 & 0x7FFFFFL);
+			dest[off + 15] = (int) (w5 >>> 25 & 0x7FFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 16] = (int) ((w5 >>> 48 | w6 << 16) & 0x7FFFFFL);
+			dest[off + 17] = (int) (w6 >>> 7 & 0x7FFFFFL);
+			dest[off + 18] = (int) (w6 >>> 30 & 0x7FFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 19] = (int) ((w6 >>> 53 | w7 << 11) & 0x7FFFFFL);
+			dest[off + 20] = (int) (w7 >>> 12 & 0x7FFFFFL);
+			dest[off + 21] = (int) (w7 >>> 35 & 0x7FFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 22] = (int) ((w7 >>> 58 | w8 << 6) & 0x7FFFFFL);
+			dest[off + 23] = (int) (w8 >>> 17 & 0x7FFFFFL);
+			dest[off + 24] = (int) (w8 >>> 40 & 0x7FFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 25] = (int) ((w8 >>> 63 | w9 << 1) & 0x7FFFFFL);
+			dest[off + 26] = (int) (w9 >>> 22 & 0x7FFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 27] = (int) ((w9 >>> 45 | w10 << 19) & 0x7FFFFFL);
+			dest[off + 28] = (int) (w10 >>> 4 & 0x7FFFFFL);
+			dest[off + 29] = (int) (w10 >>> 27 & 0x7FFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 30] = (int) ((w10 >>> 50 | w11 << 14) & 0x7FFFFFL);
+			dest[off + 31] = (int) (w11 >>> 9 & 0x7FFFFFL);
+			dest[off + 32] = (int) (w11 >>> 32 & 0x7FFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 33] = (int) ((w11 >>> 55 | w12 << 9) & 0x7FFFFFL);
+			dest[off + 34] = (int) (w12 >>> 14 & 0x7FFFFFL);
+			dest[off + 35] = (int) (w12 >>> 37 & 0x7FFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 36] = (int) ((w12 >>> 60 | w13 << 4) & 0x7FFFFFL);
+			dest[off + 37] = (int) (w13 >>> 19 & 0x7FFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 38] = (int) ((w13 >>> 42 | w14 << 22) & 0x7FFFFFL);
+			dest[off + 39] = (int) (w14 >>> 1 & 0x7FFFFFL);
+			dest[off + 40] = (int) (w14 >>> 24 & 0x7FFFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 41] = (int) ((w14 >>> 47 | w15 << 17) & 0x7FFFFFL);
+			dest[off + 42] = (int) (w15 >>> 6 & 0x7FFFFFL);
+			dest[off + 43] = (int) (w15 >>> 29 & 0x7FFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 44] = (int) ((w15 >>> 52 | w16 << 12) & 0x7FFFFFL);
+			dest[off + 45] = (int) (w16 >>> 11 & 0x7FFFFFL);
+			dest[off + 46] = (int) (w16 >>> 34 & 0x7FFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 47] = (int) ((w16 >>> 57 | w17 << 7) & 0x7FFFFFL);
+			dest[off + 48] = (int) (w17 >>> 16 & 0x7FFFFFL);
+			dest[off + 49] = (int) (w17 >>> 39 & 0x7FFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 50] = (int) ((w17 >>> 62 | w18 << 2) & 0x7FFFFFL);
+			dest[off + 51] = (int) (w18 >>> 21 & 0x7FFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 52] = (int) ((w18 >>> 44 | w19 << 20) & 0x7FFFFFL);
+			dest[off + 53] = (int) (w19 >>> 3 & 0x7FFFFFL);
+			dest[off + 54] = (int) (w19 >>> 26 & 0x7FFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 55] = (int) ((w19 >>> 49 | w20 << 15) & 0x7FFFFFL);
+			dest[off + 56] = (int) (w20 >>> 8 & 0x7FFFFFL);
+			dest[off + 57] = (int) (w20 >>> 31 & 0x7FFFFFL);
+			final long w21 = data[j + 21];
+			dest[off + 58] = (int) ((w20 >>> 54 | w21 << 10) & 0x7FFFFFL);
+			dest[off + 59] = (int) (w21 >>> 13 & 0x7FFFFFL);
+			dest[off + 60] = (int) (w21 >>> 36 & 0x7FFFFFL);
+			final long w22 = data[j + 22];
+			dest[off + 61] = (int) ((w21 >>> 59 | w22 << 5) & 0x7FFFFFL);
+			dest[off + 62] = (int) (w22 >>> 18 & 0x7FFFFFL);
+			dest[off + 63] = (int) (w22 >>> 41);
+		}
+	}
+
+	private static void encode23(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 23) {
+			final long v0 = src[off] & 0x7FFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFL;
+			data[j] = v0 | v1 << 23 | v2 << 46;
+			data[j + 1] = v2 >>> 18 | v3 << 5 | v4 << 28 | v5 << 51;
+			data[j + 2] = v5 >>> 13 | v6 << 10 | v7 << 33 | v8 << 56;
+			data[j + 3] = v8 >>> 8 | v9 << 15 | v10 << 38 | v11 << 61;
+			data[j + 4] = v11 >>> 3 | v12 << 20 | v13 << 43;
+			data[j + 5] = v13 >>> 21 | v14 << 2 | v15 << 25 | v16 << 48;
+			data[j + 6] = v16 >>> 16 | v17 << 7 | v18 << 30 | v19 << 53;
+			data[j + 7] = v19 >>> 11 | v20 << 12 | v21 << 35 | v22 << 58;
+			data[j + 8] = v22 >>> 6 | v23 << 17 | v24 << 40 | v25 << 63;
+			data[j + 9] = v25 >>> 1 | v26 << 22 | v27 << 45;
+			data[j + 10] = v27 >>> 19 | v28 << 4 | v29 << 27 | v30 << 50;
+			data[j + 11] = v30 >>> 14 | v31 << 9 | v32 << 32 | v33 << 55;
+			data[j + 12] = v33 >>> 9 | v34 << 14 | v35 << 37 | v36 << 60;
+			data[j + 13] = v36 >>> 4 | v37 << 19 | v38 << 42;
+			data[j + 14] = v38 >>> 22 | v39 << 1 | v40 << 24 | v41 << 47;
+			data[j + 15] = v41 >>> 17 | v42 << 6 | v43 << 29 | v44 << 52;
+			data[j + 16] = v44 >>> 12 | v45 << 11 | v46 << 34 | v47 << 57;
+			data[j + 17] = v47 >>> 7 | v48 << 16 | v49 << 39 | v50 << 62;
+			data[j + 18] = v50 >>> 2 | v51 << 21 | v52 << 44;
+			data[j + 19] = v52 >>> 20 | v53 << 3 | v54 << 26 | v55 << 49;
+			data[j + 20] = v55 >>> 15 | v56 << 8 | v57 << 31 | v58 << 54;
+			data[j + 21] = v58 >>> 10 | v59 << 13 | v60 << 36 | v61 << 59;
+			data[j + 22] = v61 >>> 5 | v62 << 18 | v63 << 41;
+		}
+	}
+
+	private static void decode24(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 24, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0xFFFFFFL);
+			dest[off + 1] = (int) (w0 >>> 24 & 0xFFFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) ((w0 >>> 48 | w1 << 16) & 0xFFFFFFL);
+			dest[off + 3] = (int) (w1 >>> 8 & 0xFFFFFFL);
+			dest[off + 4] = (int) (w1 >>> 32 & 0xFFFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 5] = (int) ((w1 >>> 56 | w2 << 8) & 0xFFFFFFL);
+			dest[off + 6] = (int) (w2 >>> 16 & 0xFFFFFFL);
+			dest[off + 7] = (int) (w2 >>> 40);
+			final long w3 = data[j + 3];
+			dest[off + 8] = (int) (w3 & 0xFFFFFFL);
+			dest[off + 9] = (int) (w3 >>> 24 & 0xFFFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 10] = (int) ((w3 >>> 48 | w4 << 16) & 0xFFFFFFL);
+			dest[off + 11] = (int) (w4 >>> 8 & 0xFFFFFFL);
+			dest[off + 12] = (int) (w4 >>> 32 & 0xFFFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 13] = (int) ((w4 >>> 56 | w5 << 8) & 0xFFFFFFL);
+			dest[off + 14] = (int) (w5 >>> 16 & 0xFFFFFFL);
+			dest[off + 15] = (int) (w5 >>> 40);
+			final long w6 = data[j + 6];
+			dest[off + 16] = (int) (w6 & 0xFFFFFFL);
+			dest[off + 17] = (int) (w6 >>> 24 & 0xFFFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 18] = (int) ((w6 >>> 48 | w7 << 16) & 0xFFFFFFL);
+			dest[off + 19] = (int) (w7 >>> 8 & 0xFFFFFFL);
+			dest[off + 20] = (int) (w7 >>> 32 & 0xFFFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 21] = (int) ((w7 >>> 56 | w8 << 8) & 0xFFFFFFL);
+			dest[off + 22] = (int) (w8 >>> 16 & 0xFFFFFFL);
+			dest[off + 23] = (int) (w8 >>> 40);
+			final long w9 = data[j + 9];
+			dest[off + 24] = (int) (w9 & 0xFFFFFFL);
+			dest[off + 25] = (int) (w9 >>> 24 & 0xFFFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 26] = (int) ((w9 >>> 48 | w10 << 16) & 0xFFFFFFL);
+			dest[off + 27] = (int) (w10 >>> 8 & 0xFFFFFFL);
+			dest[off + 28] = (int) (w10 >>> 32 & 0xFFFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 29] = (int) ((w10 >>> 56 | w11 << 8) & 0xFFFFFFL);
+			dest[off + 30] = (int) (w11 >>> 16 & 0xFFFFFFL);
+			dest[off + 31] = (int) (w11 >>> 40);
+			final long w12 = data[j + 12];
+			dest[off + 32] = (int) (w12 & 0xFFFFFFL);
+			dest[off + 33] = (int) (w12 >>> 24 & 0xFFFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 34] = (int) ((w12 >>> 48 | w13 << 16) & 0xFFFFFFL);
+			dest[off + 35] = (int) (w13 >>> 8 & 0xFFFFFFL);
+			dest[off + 36] = (int) (w13 >>> 32 & 0xFFFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 37] = (int) ((w13 >>> 56 | w14 << 8) & 0xFFFFFFL);
+			dest[off + 38] = (int) (w14 >>> 16 & 0xFFFFFFL);
+			dest[off + 39] = (int) (w14 >>> 40);
+			final long w15 = data[j + 15];
+			dest[off + 40] = (int) (w15 & 0xFFFFFFL);
+			dest[off + 41] = (int) (w15 >>> 24 & 0xFFFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 42] = (int) ((w15 >>> 48 | w16 << 16) & 0xFFFFFFL);
+			dest[off + 43] = (int) (w16 >>> 8 & 0xFFFFFFL);
+			dest[off + 44] = (int) (w16 >>> 32 & 0xFFFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 45] = (int) ((w16 >>> 56 | w17 << 8) & 0xFFFFFFL);
+			dest[off + 46] = (int) (w17 >>> 16 & 0xFFFFFFL);
+			dest[off + 47] = (int) (w17 >>> 40);
+			final long w18 = data[j + 18];
+			dest[off + 48] = (int) (w18 & 0xFFFFFFL);
+			dest[off + 49] = (int) (w18 >>> 24 & 0xFFFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 50] = (int) ((w18 >>> 48 | w19 << 16) & 0xFFFFFFL);
+			dest[off + 51] = (int) (w19 >>> 8 & 0xFFFFFFL);
+			dest[off + 52] = (int) (w19 >>> 32 & 0xFFFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 53] = (int) ((w19 >>> 56 | w20 << 8) & 0xFFFFFFL);
+			dest[off + 54] = (int) (w20 >>> 16 & 0xFFFFFFL);
+			dest[off + 55] = (int) (w20 >>> 40);
+			final long w21 = data[j + 21];
+			dest[off + 56] = (int) (w21 & 0xFFFFFFL);
+			dest[off + 57] = (int) (w21 >>> 24 & 0xFFFFFFL);
+			final long w22 = data[j + 22];
+			dest[off + 58] = (int) ((w21 >>> 48 | w22 << 16) & 0xFFFFFFL);
+			dest[off + 59] = (int) (w22 >>> 8 & 0xFFFFFFL);
+			dest[off + 60] = (int) (w22 >>> 32 & 0xFFFFFFL);
+			final long w23 = data[j + 23];
+			dest[off + 61] = (int) ((w22 >>> 56 | w23 << 8) & 0xFFFFFFL);
+			dest[off + 62] = (int) (w23 >>> 16 & 0xFFFFFFL);
+			dest[off + 63] = (int) (w23 >>> 40);
+		}
+	}
+
+	private static void encode24(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 24) {
+			final long v0 = src[off] & 0xFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFL;
+			data[j] = v0 | v1 << 24 | v2 << 48;
+			data[j + 1] = v2 >>> 16 | v3 << 8 | v4 << 32 | v5 << 56;
+			data[j + 2] = v5 >>> 8 | v6 << 16 | v7 << 40;
+			data[j + 3] = v8 | v9 << 24 | v10 << 48;
+			data[j + 4] = v10 >>> 16 | v11 << 8 | v12 << 32 | v13 << 56;
+			data[j + 5] = v13 >>> 8 | v14 << 16 | v15 << 40;
+			data[j + 6] = v16 | v17 << 24 | v18 << 48;
+			data[j + 7] = v18 >>> 16 | v19 << 8 | v20 << 32 | v21 << 56;
+			data[j + 8] = v21 >>> 8 | v22 << 16 | v23 << 40;
+			data[j + 9] = v24 | v25 << 24 | v26 << 48;
+			data[j + 10] = v26 >>> 16 | v27 << 8 | v28 << 32 | v29 << 56;
+			data[j + 11] = v29 >>> 8 | v30 << 16 | v31 << 40;
+			data[j + 12] = v32 | v33 << 24 | v34 << 48;
+			data[j + 13] = v34 >>> 16 | v35 << 8 | v36 << 32 | v37 << 56;
+			data[j + 14] = v37 >>> 8 | v38 << 16 | v39 << 40;
+			data[j + 15] = v40 | v41 << 24 | v42 << 48;
+			data[j + 16] = v42 >>> 16 | v43 << 8 | v44 << 32 | v45 << 56;
+			data[j + 17] = v45 >>> 8 | v46 << 16 | v47 << 40;
+			data[j + 18] = v48 | v49 << 24 | v50 << 48;
+			data[j + 19] = v50 >>> 16 | v51 << 8 | v52 << 32 | v53 << 56;
+			data[j + 20] = v53 >>> 8 | v54 << 16 | v55 << 40;
+			data[j + 21] = v56 | v57 << 24 | v58 << 48;
+			data[j + 22] = v58 >>> 16 | v59 << 8 | v60 << 32 | v61 << 56;
+			data[j + 23] = v61 >>> 8 | v62 << 16 | v63 << 40;
+		}
+	}
+
+	private static void decode25(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 25, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x1FFFFFFL);
+			dest[off + 1] = (int) (w0 >>> 25 & 0x1FFFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) ((w0 >>> 50 | w1 << 14) & 0x1FFFFFFL);
+			dest[off + 3] = (int) (w1 >>> 11 & 0x1FFFFFFL);
+			dest[off + 4] = (int) (w1 >>> 36 & 0x1FFFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 5] = (int) ((w1 >>> 61 | w2 << 3) & 0x1FFFFFFL);
+			dest[off + 6] = (int) (w2 >>> 22 & 0x1FFFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 7] = (int) ((w2 >>> 47 | w3 << 17) & 0x1FFFFFFL);
+			dest[off + 8] = (int) (w3 >>> 8 & 0x1FFFFFFL);
+			dest[off + 9] = (int) (w3 >>> 33 & 0x1FFFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 10] = (int) ((w3 >>> 58 | w4 << 6) & 0x1FFFFFFL);
+			dest[off + 11] = (int) (w4 >>> 19 & 0x1FFFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 12] = (int) ((w4 >>> 44 | w5 << 20) & 0x1FFFFFFL);
+			dest[off + 13] = (int) (w5 >>> 5 & 0x1FFFFFFL);
+			dest[off + 14] = (int) (w5 >>> 30 & 0x1FFFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 15] = (int) ((w5 >>> 55 | w6 << 9) & 0x1FFFFFFL);
+			dest[off + 16] = (int) (w6 >>> 16 & 0x1FFFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 17] = (int) ((w6 >>> 41 | w7 << 23) & 0x1FFFFFFL);
+			dest[off + 18] = (int) (w7 >>> 2 & 0x1FFFFFFL);
+			dest[off + 19] = (int) (w7 >>> 27 & 0x1FFFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 20] = (int) ((w7 >>> 52 | w8 << 12) & 0x1FFFFFFL);
+			dest[off + 21] = (int) (w8 >>> 13 & 0x1FFFFFFL);
+			dest[off + 22] = (int) (w8 >>> 38 & 0x1FFFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 23] = (int) ((w8 >>> 63 | w9 << 1) & 0x1FFFFFFL);
+			dest[off + 24] = (int) (w9 >>> 24 & 0x1FFFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 25] = (int) ((w9 >>> 49 | w10 << 15) & 0x1FFFFFFL);
+			dest[off + 26] = (int) (w10 >>> 10 & 0x1FFFFFFL);
+			dest[off + 27] = (int) (w10 >>> 35 & 0x1FFFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 28] = (int) ((w10 >>> 60 | w11 << 4) & 0x1FFFFFFL);
+			dest[off + 29] = (int) (w11 >>> 21 & 0x1FFFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 30] = (int) ((w11 >>> 46 | w12 << 18) & 0x1FFFFFFL);
+			dest[off + 31] = (int) (w12 >>> 7 & 0x1FFFFFFL);
+			dest[off + 32] = (int) (w12 >>> 32 & 0x1FFFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 33] = (int) ((w12 >>> 57 | w13 << 7) & 0x1FFFFFFL);
+			dest[off + 34] = (int) (w13 >>> 18 & 0x1FFFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 35] = (int) ((w13 >>> 43 | w14 << 21) & 0x1FFFFFFL);
+			dest[off + 36] = (int) (w14 >>> 4 & 0x1FFFFFFL);
+			dest[off + 37] = (int) (w14 >>> 29 & 0x1FFFFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 38] = (int) ((w14 >>> 54 | w15 << 10) & 0x1FFFFFFL);
+			dest[off + 39] = (int) (w15 >>> 15 & 0x1FFFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 40] = (int) ((w15 >>> 40 | w16 << 24) & 0x1FFFFFFL);
+			dest[off + 41] = (int) (w16 >>> 1 & 0x1FFFFFFL);
+			dest[off + 42] = (int) (w16 >>> 26 & 0x1FFFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 43] = (int) ((w16 >>> 51 | w17 << 13) & 0x1FFFFFFL);
+			dest[off + 44] = (int) (w17 >>> 12 & 0x1FFFFFFL);
+			dest[off + 45] = (int) (w17 >>> 37 & 0x1FFFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 46] = (int) ((w17 >>> 62 | w18 << 2) & 0x1FFFFFFL);
+			dest[off + 47] = (int) (w18 >>> 23 & 0x1FFFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 48] = (int) ((w18 >>> 48 | w19 << 16) & 0x1FFFFFFL);
+			dest[off + 49] = (int) (w19 >>> 9 & 0x1FFFFFFL);
+			dest[off + 50] = (int) (w19 >>> 34 & 0x1FFFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 51] = (int) ((w19 >>> 59 | w20 << 5) & 0x1FFFFFFL);
+			dest[off + 52] = (int) (w20 >>> 20 & 0x1FFFFFFL);
+			final long w21 = data[j + 21];
+			dest[off + 53] = (int) ((w20 >>> 45 | w21 << 19) & 0x1FFFFFFL);
+			dest[off + 54] = (int) (w21 >>> 6 & 0x1FFFFFFL);
+			dest[off + 55] = (int) (w21 >>> 31 & 0x1FFFFFFL);
+			final long w22 = data[j + 22];
+			dest[off + 56] = (int) ((w21 >>> 56 | w22 << 8) & 0x1FFFFFFL);
+			dest[off + 57] = (int) (w22 >>> 17 & 0x1FFFFFFL);
+			final long w23 = data[j + 23];
+			dest[off + 58] = (int) ((w22 >>> 42 | w23 << 22) & 0x1FFFFFFL);
+			dest[off + 59] = (int) (w23 >>> 3 & 0x1FFFFFFL);
+			dest[off + 60] = (int) (w23 >>> 28 & 0x1FFFFFFL);
+			final long w24 = data[j + 24];
+			dest[off + 61] = (int) ((w23 >>> 53 | w24 << 11) & 0x1FFFFFFL);
+			dest[off + 62] = (int) (w24 >>> 14 & 0x1FFFFFFL);
+			dest[off + 63] = (int) (w24 >>> 39);
+		}
+	}
+
+	private static void encode25(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 25) {
+			final long v0 = src[off] & 0x1FFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFL;
+			data[j] = v0 | v1 << 25 | v2 << 50;
+			data[j + 1] = v2 >>> 14 | v3 << 11 | v4 << 36 | v5 << 61;
+			data[j + 2] = v5 >>> 3 | v6 << 22 | v7 << 47;
+			data[j + 3] = v7 >>> 17 | v8 << 8 | v9 << 33 | v10 << 58;
+			data[j + 4] = v10 >>> 6 | v11 << 19 | v12 << 44;
+			data[j + 5] = v12 >>> 20 | v13 << 5 | v14 << 30 | v15 << 55;
+			data[j + 6] = v15 >>> 9 | v16 << 16 | v17 << 41;
+			data[j + 7] = v17 >>> 23 | v18 << 2 | v19 << 27 | v20 << 52;
+			data[j + 8] = v20 >>> 12 | v21 << 13 | v22 << 38 | v23 << 63;
+			data[j + 9] = v23 >>> 1 | v24 << 24 | v25 << 49;
+			data[j + 10] = v25 >>> 15 | v26 << 10 | v27 << 35 | v28 << 60;
+			data[j + 11] = v28 >>> 4 | v29 << 21 | v30 << 46;
+			data[j + 12] = v30 >>> 18 | v31 << 7 | v32 << 32 | v33 << 57;
+			data[j + 13] = v33 >>> 7 | v34 << 18 | v35 << 43;
+			data[j + 14] = v35 >>> 21 | v36 << 4 | v37 << 29 | v38 << 54;
+			data[j + 15] = v38 >>> 10 | v39 << 15 | v40 << 40;
+			data[j + 16] = v40 >>> 24 | v41 << 1 | v42 << 26 | v43 << 51;
+			data[j + 17] = v43 >>> 13 | v44 << 12 | v45 << 37 | v46 << 62;
+			data[j + 18] = v46 >>> 2 | v47 << 23 | v48 << 48;
+			data[j + 19] = v48 >>> 16 | v49 << 9 | v50 << 34 | v51 << 59;
+			data[j + 20] = v51 >>> 5 | v52 << 20 | v53 << 45;
+			data[j + 21] = v53 >>> 19 | v54 << 6 | v55 << 31 | v56 << 56;
+			data[j + 22] = v56 >>> 8 | v57 << 17 | v58 << 42;
+			data[j + 23] = v58 >>> 22 | v59 << 3 | v60 << 28 | v61 << 53;
+			data[j + 24] = v61 >>> 11 | v62 << 14 | v63 << 39;
+		}
+	}
+
+	private static void decode26(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 26, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x3FFFFFFL);
+			dest[off + 1] = (int) (w0 >>> 26 & 0x3FFFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) ((w0 >>> 52 | w1 << 12) & 0x3FFFFFFL);
+			dest[off + 3] = (int) (w1 >>> 14 & 0x3FFFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 4] = (int) ((w1 >>> 40 | w2 << 24) & 0x3FFFFFFL);
+			dest[off + 5] = (int) (w2 >>> 2 & 0x3FFFFFFL);
+			dest[off + 6] = (int) (w2 >>> 28 & 0x3FFFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 7] = (int) ((w2 >>> 54 | w3 << 10) & 0x3FFFFFFL);
+			dest[off + 8] = (int) (w3 >>> 16 & 0x3FFFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 9] = (int) ((w3 >>> 42 | w4 << 22) & 0x3FFFFFFL);
+			dest[off + 10] = (int) (w4 >>> 4 & 0x3FFFFFFL);
+			dest[off + 11] = (int) (w4 >>> 30 & 0x3FFFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 12] = (int) ((w4 >>> 56 | w5 << 8) & 0x3FFFFFFL);
+			dest[off + 13] = (int) (w5 >>> 18 & 0x3FFFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 14] = (int) ((w5 >>> 44 | w6 << 20) & 0x3FFFFFFL);
+			dest[off + 15] = (int) (w6 >>> 6 & 0x3FFFFFFL);
+			dest[off + 16] = (int) (w6 >>> 32 & 0x3FFFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 17] = (int) ((w6 >>> 58 | w7 << 6) & 0x3FFFFFFL);
+			dest[off + 18] = (int) (w7 >>> 20 & 0x3FFFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 19] = (int) ((w7 >>> 46 | w8 << 18) & 0x3FFFFFFL);
+			dest[off + 20] = (int) (w8 >>> 8 & 0x3FFFFFFL);
+			dest[off + 21] = (int) (w8 >>> 34 & 0x3FFFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 22] = (int) ((w8 >>> 60 | w9 << 4) & 0x3FFFFFFL);
+			dest[off + 23] = (int) (w9 >>> 22 & 0x3FFFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 24] = (int) ((w9 >>> 48 | w10 << 16) & 0x3FFFFFFL);
+			dest[off + 25] = (int) (w10 >>> 10 & 0x3FFFFFFL);
+			dest[off + 26] = (int) (w10 >>> 36 & 0x3FFFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 27] = (int) ((w10 >>> 62 | w11 << 2) & 0x3FFFFFFL);
+			dest[off + 28] = (int) (w11 >>> 24 & 0x3FFFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 29] = (int) ((w11 >>> 50 | w12 << 14) & 0x3FFFFFFL);
+			dest[off + 30] = (int) (w12 >>> 12 & 0x3FFFFFFL);
+			dest[off + 31] = (int) (w12 >>> 38);
+			final long w13 = data[j + 13];
+			dest[off + 32] = (int) (w13 & 0x3FFFFFFL);
+			dest[off + 33] = (int) (w13 >>> 26 & 0x3FFFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 34] = (int) ((w13 >>> 52 | w14 << 12) & 0x3FFFFFFL);
+			dest[off + 35] = (int) (w14 >>> 14 & 0x3FFFFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 36] = (int) ((w14 >>> 40 | w15 << 24) & 0x3FFFFFFL);
+			dest[off + 37] = (int) (w15 >>> 2 & 0x3FFFFFFL);
+			dest[off + 38] = (int) (w15 >>> 28 & 0x3FFFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 39] = (int) ((w15 >>> 54 | w16 << 10) & 0x3FFFFFFL);
+			dest[off + 40] = (int) (w16 >>> 16 & 0x3FFFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 41] = (int) ((w16 >>> 42 | w17 << 22) & 0x3FFFFFFL);
+			dest[off + 42] = (int) (w17 >>> 4 & 0x3FFFFFFL);
+			dest[off + 43] = (int) (w17 >>> 30 & 0x3FFFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 44] = (int) ((w17 >>> 56 | w18 << 8) & 0x3FFFFFFL);
+			dest[off + 45] = (int) (w18 >>> 18 & 0x3FFFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 46] = (int) ((w18 >>> 44 | w19 << 20) & 0x3FFFFFFL);
+			dest[off + 47] = (int) (w19 >>> 6 & 0x3FFFFFFL);
+			dest[off + 48] = (int) (w19 >>> 32 & 0x3FFFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 49] = (int) ((w19 >>> 58 | w20 << 6) & 0x3FFFFFFL);
+			dest[off + 50] = (int) (w20 >>> 20 & 0x3FFFFFFL);
+			final long w21 = data[j + 21];
+			dest[off + 51] = (int) ((w20 >>> 46 | w21 << 18) & 0x3FFFFFFL);
+			dest[off + 52] = (int) (w21 >>> 8 & 0x3FFFFFFL);
+			dest[off + 53] = (int) (w21 >>> 34 & 0x3FFFFFFL);
+			final long w22 = data[j + 22];
+			dest[off + 54] = (int) ((w21 >>> 60 | w22 << 4) & 0x3FFFFFFL);
+			dest[off + 55] = (int) (w22 >>> 22 & 0x3FFFFFFL);
+			final long w23 = data[j + 23];
+			dest[off + 56] = (int) ((w22 >>> 48 | w23 << 16) & 0x3FFFFFFL);
+			dest[off + 57] = (int) (w23 >>> 10 & 0x3FFFFFFL);
+			dest[off + 58] = (int) (w23 >>> 36 & 0x3FFFFFFL);
+			final long w24 = data[j + 24];
+			dest[off + 59] = (int) ((w23 >>> 62 | w24 << 2) & 0x3FFFFFFL);
+			dest[off + 60] = (int) (w24 >>> 24 & 0x3FFFFFFL);
+			final long w25 = data[j + 25];
+			dest[off + 61] = (int) ((w24 >>> 50 | w25 << 14) & 0x3FFFFFFL);
+			dest[off + 62] = (int) (w25 >>> 12 & 0x3FFFFFFL);
+			dest[off + 63] = (int) (w25 >>> 38);
+		}
+	}
+
+	private static void encode26(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 26) {
+			final long v0 = src[off] & 0x3FFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFL;
+			data[j] = v0 | v1 << 26 | v2 << 52;
+			data[j + 1] = v2 >>> 12 | v3 << 14 | v4 << 40;
+			data[j + 2] = v4 >>> 24 | v5 << 2 | v6 << 28 | v7 << 54;
+			data[j + 3] = v7 >>> 10 | v8 << 16 | v9 << 42;
+			data[j + 4] = v9 >>> 22 | v10 << 4 | v11 << 30 | v12 << 56;
+			data[j + 5] = v12 >>> 8 | v13 << 18 | v14 << 44;
+			data[j + 6] = v14 >>> 20 | v15 << 6 | v16 << 32 | v17 << 58;
+			data[j + 7] = v17 >>> 6 | v18 << 20 | v19 << 46;
+			data[j + 8] = v19 >>> 18 | v20 << 8 | v21 << 34 | v22 << 60;
+			data[j + 9] = v22 >>> 4 | v23 << 22 | v24 << 48;
+			data[j + 10] = v24 >>> 16 | v25 << 10 | v26 << 36 | v27 << 62;
+			data[j + 11] = v27 >>> 2 | v28 << 24 | v29 << 50;
+			data[j + 12] = v29 >>> 14 | v30 << 12 | v31 << 38;
+			data[j + 13] = v32 | v33 << 26 | v34 << 52;
+			data[j + 14] = v34 >>> 12 | v35 << 14 | v36 << 40;
+			data[j + 15] = v36 >>> 24 | v37 << 2 | v38 << 28 | v39 << 54;
+			data[j + 16] = v39 >>> 10 | v40 << 16 | v41 << 42;
+			data[j + 17] = v41 >>> 22 | v42 << 4 | v43 << 30 | v44 << 56;
+			data[j + 18] = v44 >>> 8 | v45 << 18 | v46 << 44;
+			data[j + 19] = v46 >>> 20 | v47 << 6 | v48 << 32 | v49 << 58;
+			data[j + 20] = v49 >>> 6 | v50 << 20 | v51 << 46;
+			data[j + 21] = v51 >>> 18 | v52 << 8 | v53 << 34 | v54 << 60;
+			data[j + 22] = v54 >>> 4 | v55 << 22 | v56 << 48;
+			data[j + 23] = v56 >>> 16 | v57 << 10 | v58 << 36 | v59 << 62;
+			data[j + 24] = v59 >>> 2 | v60 << 24 | v61 << 50;
+			data[j + 25] = v61 >>> 14 | v62 << 12 | v63 << 38;
+		}
+	}
+
+	private static void decode27(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 27, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x7FFFFFFL);
+			dest[off + 1] = (int) (w0 >>> 27 & 0x7FFFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) ((w0 >>> 54 | w1 << 10) & 0x7FFFFFFL);
+			dest[off + 3] = (int) (w1 >>> 17 & 0x7FFFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 4] = (int) ((w1 >>> 44 | w2 << 20) & 0x7FFFFFFL);
+			dest[off + 5] = (int) (w2 >>> 7 & 0x7FFFFFFL);
+			dest[off + 6] = (int) (w2 >>> 34 & 0x7FFFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 7] = (int) ((w2 >>> 61 | w3 << 3) & 0x7FFFFFFL);
+			dest[off + 8] = (int) (w3 >>> 24 & 0x7FFFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 9] = (int) ((w3 >>> 51 | w4 << 13) & 0x7FFFFFFL);
+			dest[off + 10] = (int) (w4 >>> 14 & 0x7FFFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 11] = (int) ((w4 >>> 41 | w5 << 23) & 0x7FFFFFFL);
+			dest[off + 12] = (int) (w5 >>> 4 & 0x7FFFFFFL);
+			dest[off + 13] = (int) (w5 >>> 31 & 0x7FFFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 14] = (int) ((w5 >>> 58 | w6 << 6) & 0x7FFFFFFL);
+			dest[off + 15] = (int) (w6 >>> 21 & 0x7FFFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 16] = (int) ((w6 >>> 48 | w7 << 16) & 0x7FFFFFFL);
+			dest[off + 17] = (int) (w7 >>> 11 & 0x7FFFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 18] = (int) ((w7 >>> 38 | w8 << 26) & 0x7FFFFFFL);
+			dest[off + 19] = (int) (w8 >>> 1 & 0x7FFFFFFL);
+			dest[off + 20] = (int) (w8 >>> 28 & 0x7FFFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 21] = (int) ((w8 >>> 55 | w9 << 9) & 0x7FFFFFFL);
+			dest[off + 22] = (int) (w9 >>> 18 & 0x7FFFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 23] = (int) ((w9 >>> 45 | w10 << 19) & 0x7FFFFFFL);
+			dest[off + 24] = (int) (w10 >>> 8 & 0x7FFFFFFL);
+			dest[off + 25] = (int) (w10 >>> 35 & 0x7FFFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 26] = (int) ((w10 >>> 62 | w11 << 2) & 0x7FFFFFFL);
+			dest[off + 27] = (int) (w11 >>> 25 & 0x7FFFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 28] = (int) ((w11 >>> 52 | w12 << 12) & 0x7FFFFFFL);
+			dest[off + 29] = (int) (w12 >>> 15 & 0x7FFFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 30] = (int) ((w12 >>> 42 | w13 << 22) & 0x7FFFFFFL);
+			dest[off + 31] = (int) (w13 >>> 5 & 0x7FFFFFFL);
+			dest[off + 32] = (int) (w13 >>> 32 & 0x7FFFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 33] = (int) ((w13 >>> 59 | w14 << 5) & 0x7FFFFFFL);
+			dest[off + 34] = (int) (w14 >>> 22 & 0x7FFFFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 35] = (int) ((w14 >>> 49 | w15 << 15) & 0x7FFFFFFL);
+			dest[off + 36] = (int) (w15 >>> 12 & 0x7FFFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 37] = (int) ((w15 >>> 39 | w16 << 25) & 0x7FFFFFFL);
+			dest[off + 38] = (int) (w16 >>> 2 & 0x7FFFFFFL);
+			dest[off + 39] = (int) (w16 >>> 29 & 0x7FFFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 40] = (int) ((w16 >>> 56 | w17 << 8) & 0x7FFFFFFL);
+			dest[off + 41] = (int) (w17 >>> 19 & 0x7FFFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 42] = (int) ((w17 >>> 46 | w18 << 18) & 0x7FFFFFFL);
+			dest[off + 43] = (int) (w18 >>> 9 & 0x7FFFFFFL);
+			dest[off + 44] = (int) (w18 >>> 36 & 0x7FFFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 45] = (int) ((w18 >>> 63 | w19 << 1) & 0x7FFFFFFL);
+			dest[off + 46] = (int) (w19 >>> 26 & 0x7FFFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 47] = (int) ((w19 >>> 53 | w20 << 11) & 0x7FFFFFFL);
+			dest[off + 48] = (int) (w20 >>> 16 & 0x7FFFFFFL);
+			final long w21 = data[j + 21];
+			dest[off + 49] = (int) ((w20 >>> 43 | w21 << 21) & 0x7FFFFFFL);
+			dest[off + 50] = (int) (w21 >>> 6 & 0x7FFFFFFL);
+			dest[off + 51] = (int) (w21 >>> 33 & 0x7FFFFFFL);
+			final long w22 = data[j + 22];
+			dest[off + 52] = (int) ((w21 >>> 60 | w22 << 4) & 0x7FFFFFFL);
+			dest[off + 53] = (int) (w22 >>> 23 & 0x7FFFFFFL);
+			final long w23 = data[j + 23];
+			dest[off + 54] = (int) ((w22 >>> 50 | w23 << 14) & 0x7FFFFFFL);
+			dest[off + 55] = (int) (w23 >>> 13 & 0x7FFFFFFL);
+			final long w24 = data[j + 24];
+			dest[off + 56] = (int) ((w23 >>> 40 | w24 << 24) & 0x7FFFFFFL);
+			dest[off + 57] = (int) (w24 >>> 3 & 0x7FFFFFFL);
+			dest[off + 58] = (int) (w24 >>> 30 & 0x7FFFFFFL);
+			final long w25 = data[j + 25];
+			dest[off + 59] = (int) ((w24 >>> 57 | w25 << 7) & 0x7FFFFFFL);
+			dest[off + 60] = (int) (w25 >>> 20 & 0x7FFFFFFL);
+			final long w26 = data[j + 26];
+			dest[off + 61] = (int) ((w25 >>> 47 | w26 << 17) & 0x7FFFFFFL);
+			dest[off + 62] = (int) (w26 >>> 10 & 0x7FFFFFFL);
+			dest[off + 63] = (int) (w26 >>> 37);
+		}
+	}
+
+	private static void encode27(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 27) {
+			final long v0 = src[off] & 0x7FFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFL;
+			data[j] = v0 | v1 << 27 | v2 << 54;
+			data[j + 1] = v2 >>> 10 | v3 << 17 | v4 << 44;
+			data[j + 2] = v4 >>> 20 | v5 << 7 | v6 << 34 | v7 << 61;
+			data[j + 3] = v7 >>> 3 | v8 << 24 | v9 << 51;
+			data[j + 4] = v9 >>> 13 | v10 << 14 | v11 << 41;
+			data[j + 5] = v11 >>> 23 | v12 << 4 | v13 << 31 | v14 << 58;
+			data[j + 6] = v14 >>> 6 | v15 << 21 | v16 << 48;
+			data[j + 7] = v16 >>> 16 | v17 << 11 | v18 << 38;
+			data[j + 8] = v18 >>> 26 | v19 << 1 | v20 << 28 | v21 << 55;
+			data[j + 9] = v21 >>> 9 | v22 << 18 | v23 << 45;
+			data[j + 10] = v23 >>> 19 | v24 << 8 | v25 << 35 | v26 << 62;
+			data[j + 11] = v26 >>> 2 | v27 << 25 | v28 << 52;
+			data[j + 12] = v28 >>> 12 | v29 << 15 | v30 << 42;
+			data[j + 13] = v30 >>> 22 | v31 << 5 | v32 << 32 | v33 << 59;
+			data[j + 14] = v33 >>> 5 | v34 << 22 | v35 << 49;
+			data[j + 15] = v35 >>> 15 | v36 << 12 | v37 << 39;
+			data[j + 16] = v37 >>> 25 | v38 << 2 | v39 << 29 | v40 << 56;
+			data[j + 17] = v40 >>> 8 | v41 << 19 | v42 << 46;
+			data[j + 18] = v42 >>> 18 | v43 << 9 | v44 << 36 | v45 << 63;
+			data[j + 19] = v45 >>> 1 | v46 << 26 | v47 << 53;
+			data[j + 20] = v47 >>> 11 | v48 << 16 | v49 << 43;
+			data[j + 21] = v49 >>> 21 | v50 << 6 | v51 << 33 | v52 << 60;
+			data[j + 22] = v52 >>> 4 | v53 << 23 | v54 << 50;
+			data[j + 23] = v54 >>> 14 | v55 << 13 | v56 << 40;
+			data[j + 24] = v56 >>> 24 | v57 << 3 | v58 << 30 | v59 << 57;
+			data[j + 25] = v59 >>> 7 | v60 << 20 | v61 << 47;
+			data[j + 26] = v61 >>> 17 | v62 << 10 | v63 << 37;
+		}
+	}
+
+	private static void decode28(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 28, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0xFFFFFFFL);
+			dest[off + 1] = (int) (w0 >>> 28 & 0xFFFFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) ((w0 >>> 56 | w1 << 8) & 0xFFFFFFFL);
+			dest[off + 3] = (int) (w1 >>> 20 & 0xFFFFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 4] = (int) ((w1 >>> 48 | w2 << 16) & 0xFFFFFFFL);
+			dest[off + 5] = (int) (w2 >>> 12 & 0xFFFFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 6] = (int) ((w2 >>> 40 | w3 << 24) & 0xFFFFFFFL);
+			dest[off + 7] = (int) (w3 >>> 4 & 0xFFFFFFFL);
+			dest[off + 8] = (int) (w3 >>> 32 & 0xFFFFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 9] = (int) ((w3 >>> 60 | w4 << 4) & 0xFFFFFFFL);
+			dest[off + 10] = (int) (w4 >>> 24 & 0xFFFFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 11] = (int) ((w4 >>> 52 | w5 << 12) & 0xFFFFFFFL);
+			dest[off + 12] = (int) (w5 >>> 16 & 0xFFFFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 13] = (int) ((w5 >>> 44 | w6 << 20) & 0xFFFFFFFL);
+			dest[off + 14] = (int) (w6 >>> 8 & 0xFFFFFFFL);
+			dest[off + 15] = (int) (w6 >>> 36);
+			final long w7 = data[j + 7];
+			dest[off + 16] = (int) (w7 & 0xFFFFFFFL);
+			dest[off + 17] = (int) (w7 >>> 28 & 0xFFFFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 18] = (int) ((w7 >>> 56 | w8 << 8) & 0xFFFFFFFL);
+			dest[off + 19] = (int) (w8 >>> 20 & 0xFFFFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 20] = (int) ((w8 >>> 48 | w9 << 16) & 0xFFFFFFFL);
+			dest[off + 21] = (int) (w9 >>> 12 & 0xFFFFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 22] = (int) ((w9 >>> 40 | w10 << 24) & 0xFFFFFFFL);
+			dest[off + 23] = (int) (w10 >>> 4 & 0xFFFFFFFL);
+			dest[off + 24] = (int) (w10 >>> 32 & 0xFFFFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 25] = (int) ((w10 >>> 60 | w11 << 4) & 0xFFFFFFFL);
+			dest[off + 26] = (int) (w11 >>> 24 & 0xFFFFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 27] = (int) ((w11 >>> 52 | w12 << 12) & 0xFFFFFFFL);
+			dest[off + 28] = (int) (w12 >>> 16 & 0xFFFFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 29] = (int) ((w12 >>> 44 | w13 << 20) & 0xFFFFFFFL);
+			dest[off + 30] = (int) (w13 >>> 8 & 0xFFFFFFFL);
+			dest[off + 31] = (int) (w13 >>> 36);
+			final long w14 = data[j + 14];
+			dest[off + 32] = (int) (w14 & 0xFFFFFFFL);
+			dest[off + 33] = (int) (w14 >>> 28 & 0xFFFFFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 34] = (int) ((w14 >>> 56 | w15 << 8) & 0xFFFFFFFL);
+			dest[off + 35] = (int) (w15 >>> 20 & 0xFFFFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 36] = (int) ((w15 >>> 48 | w16 << 16) & 0xFFFFFFFL);
+			dest[off + 37] = (int) (w16 >>> 12 & 0xFFFFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 38] = (int) ((w16 >>> 40 | w17 << 24) & 0xFFFFFFFL);
+			dest[off + 39] = (int) (w17 >>> 4 & 0xFFFFFFFL);
+			dest[off + 40] = (int) (w17 >>> 32 & 0xFFFFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 41] = (int) ((w17 >>> 60 | w18 << 4) & 0xFFFFFFFL);
+			dest[off + 42] = (int) (w18 >>> 24 & 0xFFFFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 43] = (int) ((w18 >>> 52 | w19 << 12) & 0xFFFFFFFL);
+			dest[off + 44] = (int) (w19 >>> 16 & 0xFFFFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 45] = (int) ((w19 >>> 44 | w20 << 20) & 0xFFFFFFFL);
+			dest[off + 46] = (int) (w20 >>> 8 & 0xFFFFFFFL);
+			dest[off + 47] = (int) (w20 >>> 36);
+			final long w21 = data[j + 21];
+			dest[off + 48] = (int) (w21 & 0xFFFFFFFL);
+			dest[off + 49] = (int) (w21 >>> 28 & 0xFFFFFFFL);
+			final long w22 = data[j + 22];
+			dest[off + 50] = (int) ((w21 >>> 56 | w22 << 8) & 0xFFFFFFFL);
+			dest[off + 51] = (int) (w22 >>> 20 & 0xFFFFFFFL);
+			final long w23 = data[j + 23];
+			dest[off + 52] = (int) ((w22 >>> 48 | w23 << 16) & 0xFFFFFFFL);
+			dest[off + 53] = (int) (w23 >>> 12 & 0xFFFFFFFL);
+			final long w24 = data[j + 24];
+			dest[off + 54] = (int) ((w23 >>> 40 | w24 << 24) & 0xFFFFFFFL);
+			dest[off + 55] = (int) (w24 >>> 4 & 0xFFFFFFFL);
+			dest[off + 56] = (int) (w24 >>> 32 & 0xFFFFFFFL);
+			final long w25 = data[j + 25];
+			dest[off + 57] = (int) ((w24 >>> 60 | w25 << 4) & 0xFFFFFFFL);
+			dest[off + 58] = (int) (w25 >>> 24 & 0xFFFFFFFL);
+			final long w26 = data[j + 26];
+			dest[off + 59] = (int) ((w25 >>> 52 | w26 << 12) & 0xFFFFFFFL);
+			dest[off + 60] = (int) (w26 >>> 16 & 0xFFFFFFFL);
+			final long w27 = data[j + 27];
+			dest[off + 61] = (int) ((w26 >>> 44 | w27 << 20) & 0xFFFFFFFL);
+			dest[off + 62] = (int) (w27 >>> 8 & 0xFFFFFFFL);
+			dest[off + 63] = (int) (w27 >>> 36);
+		}
+	}
+
+	private static void encode28(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 28) {
+			final long v0 = src[off] & 0xFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFL;
+			data[j] = v0 | v1 << 28 | v2 << 56;
+			data[j + 1] = v2 >>> 8 | v3 << 20 | v4 << 48;
+			data[j + 2] = v4 >>> 16 | v5 << 12 | v6 << 40;
+			data[j + 3] = v6 >>> 24 | v7 << 4 | v8 << 32 | v9 << 60;
+			data[j + 4] = v9 >>> 4 | v10 << 24 | v11 << 52;
+			data[j + 5] = v11 >>> 12 | v12 << 16 | v13 << 44;
+			data[j + 6] = v13 >>> 20 | v14 << 8 | v15 << 36;
+			data[j + 7] = v16 | v17 << 28 | v18 << 56;
+			data[j + 8] = v18 >>> 8 | v19 << 20 | v20 << 48;
+			data[j + 9] = v20 >>> 16 | v21 << 12 | v22 << 40;
+			data[j + 10] = v22 >>> 24 | v23 << 4 | v24 << 32 | v25 << 60;
+			data[j + 11] = v25 >>> 4 | v26 << 24 | v27 << 52;
+			data[j + 12] = v27 >>> 12 | v28 << 16 | v29 << 44;
+			data[j + 13] = v29 >>> 20 | v30 << 8 | v31 << 36;
+			data[j + 14] = v32 | v33 << 28 | v34 << 56;
+			data[j + 15] = v34 >>> 8 | v35 << 20 | v36 << 48;
+			data[j + 16] = v36 >>> 16 | v37 << 12 | v38 << 40;
+			data[j + 17] = v38 >>> 24 | v39 << 4 | v40 << 32 | v41 << 60;
+			data[j + 18] = v41 >>> 4 | v42 << 24 | v43 << 52;
+			data[j + 19] = v43 >>> 12 | v44 << 16 | v45 << 44;
+			data[j + 20] = v45 >>> 20 | v46 << 8 | v47 << 36;
+			data[j + 21] = v48 | v49 << 28 | v50 << 56;
+			data[j + 22] = v50 >>> 8 | v51 << 20 | v52 << 48;
+			data[j + 23] = v52 >>> 16 | v53 << 12 | v54 << 40;
+			data[j + 24] = v54 >>> 24 | v55 << 4 | v56 << 32 | v57 << 60;
+			data[j + 25] = v57 >>> 4 | v58 << 24 | v59 << 52;
+			data[j + 26] = v59 >>> 12 | v60 << 16 | v61 << 44;
+			data[j + 27] = v61 >>> 20 | v62 << 8 | v63 << 36;
+		}
+	}
+
+	private static void decode29(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 29, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x1FFFFFFFL);
+			dest[off + 1] = (int) (w0 >>> 29 & 0x1FFFFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) ((w0 >>> 58 | w1 << 6) & 0x1FFFFFFFL);
+			dest[off + 3] = (int) (w1 >>> 23 & 0x1FFFFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 4] = (int) ((w1 >>> 52 | w2 << 12) & 0x1FFFFFFFL);
+			dest[off + 5] = (int) (w2 >>> 17 & 0x1FFFFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 6] = (int) ((w2 >>> 46 | w3 << 18) & 0x1FFFFFFFL);
+			dest[off + 7] = (int) (w3 >>> 11 & 0x1FFFFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 8] = (int) ((w3 >>> 40 | w4 << 24) & 0x1FFFFFFFL);
+			dest[off + 9] = (int) (w4 >>> 5 & 0x1FFFFFFFL);
+			dest[off + 10] = (int) (w4 >>> 34 & 0x1FFFFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 11] = (int) ((w4 >>> 63 | w5 << 1) & 0x1FFFFFFFL);
+			dest[off + 12] = (int) (w5 >>> 28 & 0x1FFFFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 13] = (int) ((w5 >>> 57 | w6 << 7) & 0x1FFFFFFFL);
+			dest[off + 14] = (int) (w6 >>> 22 & 0x1FFFFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 15] = (int) ((w6 >>> 51 | w7 << 13) & 0x1FFFFFFFL);
+			dest[off + 16] = (int) (w7 >>> 16 & 0x1FFFFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 17] = (int) ((w7 >>> 45 | w8 << 19) & 0x1FFFFFFFL);
+			dest[off + 18] = (int) (w8 >>> 10 & 0x1FFFFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 19] = (int) ((w8 >>> 39 | w9 << 25) & 0x1FFFFFFFL);
+			dest[off + 20] = (int) (w9 >>> 4 & 0x1FFFFFFFL);
+			dest[off + 21] = (int) (w9 >>> 33 & 0x1FFFFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 22] = (int) ((w9 >>> 62 | w10 << 2) & 0x1FFFFFFFL);
+			dest[off + 23] = (int) (w10 >>> 27 & 0x1FFFFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 24] = (int) ((w10 >>> 56 | w11 << 8) & 0x1FFFFFFFL);
+			dest[off + 25] = (int) (w11 >>> 21 & 0x1FFFFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 26] = (int) ((w11 >>> 50 | w12 << 14) & 0x1FFFFFFFL);
+			dest[off + 27] = (int) (w12 >>> 15 & 0x1FFFFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 28] = (int) ((w12 >>> 44 | w13 << 20) & 0x1FFFFFFFL);
+			dest[off + 29] = (int) (w13 >>> 9 & 0x1FFFFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 30] = (int) ((w13 >>> 38 | w14 << 26) & 0x1FFFFFFFL);
+			dest[off + 31] = (int) (w14 >>> 3 & 0x1FFFFFFFL);
+			dest[off + 32] = (int) (w14 >>> 32 & 0x1FFFFFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 33] = (int) ((w14 >>> 61 | w15 << 3) & 0x1FFFFFFFL);
+			dest[off + 34] = (int) (w15 >>> 26 & 0x1FFFFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 35] = (int) ((w15 >>> 55 | w16 << 9) & 0x1FFFFFFFL);
+			dest[off + 36] = (int) (w16 >>> 20 & 0x1FFFFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 37] = (int) ((w16 >>> 49 | w17 << 15) & 0x1FFFFFFFL);
+			dest[off + 38] = (int) (w17 >>> 14 & 0x1FFFFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 39] = (int) ((w17 >>> 43 | w18 << 21) & 0x1FFFFFFFL);
+			dest[off + 40] = (int) (w18 >>> 8 & 0x1FFFFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 41] = (int) ((w18 >>> 37 | w19 << 27) & 0x1FFFFFFFL);
+			dest[off + 42] = (int) (w19 >>> 2 & 0x1FFFFFFFL);
+			dest[off + 43] = (int) (w19 >>> 31 & 0x1FFFFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 44] = (int) ((w19 >>> 60 | w20 << 4) & 0x1FFFFFFFL);
+			dest[off + 45] = (int) (w20 >>> 25 & 0x1FFFFFFFL);
+			final long w21 = data[j + 21];
+			dest[off + 46] = (int) ((w20 >>> 54 | w21 << 10) & 0x1FFFFFFFL);
+			dest[off + 47] = (int) (w21 >>> 19 & 0x1FFFFFFFL);
+			final long w22 = data[j + 22];
+			dest[off + 48] = (int) ((w21 >>> 48 | w22 << 16) & 0x1FFFFFFFL);
+			dest[off + 49] = (int) (w22 >>> 13 & 0x1FFFFFFFL);
+			final long w23 = data[j + 23];
+			dest[off + 50] = (int) ((w22 >>> 42 | w23 << 22) & 0x1FFFFFFFL);
+			dest[off + 51] = (int) (w23 >>> 7 & 0x1FFFFFFFL);
+			final long w24 = data[j + 24];
+			dest[off + 52] = (int) ((w23 >>> 36 | w24 << 28) & 0x1FFFFFFFL);
+			dest[off + 53] = (int) (w24 >>> 1 & 0x1FFFFFFFL);
+			dest[off + 54] = (int) (w24 >>> 30 & 0x1FFFFFFFL);
+			final long w25 = data[j + 25];
+			dest[off + 55] = (int) ((w24 >>> 59 | w25 << 5) & 0x1FFFFFFFL);
+			dest[off + 56] = (int) (w25 >>> 24 & 0x1FFFFFFFL);
+			final long w26 = data[j + 26];
+			dest[off + 57] = (int) ((w25 >>> 53 | w26 << 11) & 0x1FFFFFFFL);
+			dest[off + 58] = (int) (w26 >>> 18 & 0x1FFFFFFFL);
+			final long w27 = data[j + 27];
+			dest[off + 59] = (int) ((w26 >>> 47 | w27 << 17) & 0x1FFFFFFFL);
+			dest[off + 60] = (int) (w27 >>> 12 & 0x1FFFFFFFL);
+			final long w28 = data[j + 28];
+			dest[off + 61] = (int) ((w27 >>> 41 | w28 << 23) & 0x1FFFFFFFL);
+			dest[off + 62] = (int) (w28 >>> 6 & 0x1FFFFFFFL);
+			dest[off + 63] = (int) (w28 >>> 35);
+		}
+	}
+
+	private static void encode29(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 29) {
+			final long v0 = src[off] & 0x1FFFFFFFL;
+			final long v1 = src[off + 1] & 0x1FFFFFFFL;
+			final long v2 = src[off + 2] & 0x1FFFFFFFL;
+			final long v3 = src[off + 3] & 0x1FFFFFFFL;
+			final long v4 = src[off + 4] & 0x1FFFFFFFL;
+			final long v5 = src[off + 5] & 0x1FFFFFFFL;
+			final long v6 = src[off + 6] & 0x1FFFFFFFL;
+			final long v7 = src[off + 7] & 0x1FFFFFFFL;
+			final long v8 = src[off + 8] & 0x1FFFFFFFL;
+			final long v9 = src[off + 9] & 0x1FFFFFFFL;
+			final long v10 = src[off + 10] & 0x1FFFFFFFL;
+			final long v11 = src[off + 11] & 0x1FFFFFFFL;
+			final long v12 = src[off + 12] & 0x1FFFFFFFL;
+			final long v13 = src[off + 13] & 0x1FFFFFFFL;
+			final long v14 = src[off + 14] & 0x1FFFFFFFL;
+			final long v15 = src[off + 15] & 0x1FFFFFFFL;
+			final long v16 = src[off + 16] & 0x1FFFFFFFL;
+			final long v17 = src[off + 17] & 0x1FFFFFFFL;
+			final long v18 = src[off + 18] & 0x1FFFFFFFL;
+			final long v19 = src[off + 19] & 0x1FFFFFFFL;
+			final long v20 = src[off + 20] & 0x1FFFFFFFL;
+			final long v21 = src[off + 21] & 0x1FFFFFFFL;
+			final long v22 = src[off + 22] & 0x1FFFFFFFL;
+			final long v23 = src[off + 23] & 0x1FFFFFFFL;
+			final long v24 = src[off + 24] & 0x1FFFFFFFL;
+			final long v25 = src[off + 25] & 0x1FFFFFFFL;
+			final long v26 = src[off + 26] & 0x1FFFFFFFL;
+			final long v27 = src[off + 27] & 0x1FFFFFFFL;
+			final long v28 = src[off + 28] & 0x1FFFFFFFL;
+			final long v29 = src[off + 29] & 0x1FFFFFFFL;
+			final long v30 = src[off + 30] & 0x1FFFFFFFL;
+			final long v31 = src[off + 31] & 0x1FFFFFFFL;
+			final long v32 = src[off + 32] & 0x1FFFFFFFL;
+			final long v33 = src[off + 33] & 0x1FFFFFFFL;
+			final long v34 = src[off + 34] & 0x1FFFFFFFL;
+			final long v35 = src[off + 35] & 0x1FFFFFFFL;
+			final long v36 = src[off + 36] & 0x1FFFFFFFL;
+			final long v37 = src[off + 37] & 0x1FFFFFFFL;
+			final long v38 = src[off + 38] & 0x1FFFFFFFL;
+			final long v39 = src[off + 39] & 0x1FFFFFFFL;
+			final long v40 = src[off + 40] & 0x1FFFFFFFL;
+			final long v41 = src[off + 41] & 0x1FFFFFFFL;
+			final long v42 = src[off + 42] & 0x1FFFFFFFL;
+			final long v43 = src[off + 43] & 0x1FFFFFFFL;
+			final long v44 = src[off + 44] & 0x1FFFFFFFL;
+			final long v45 = src[off + 45] & 0x1FFFFFFFL;
+			final long v46 = src[off + 46] & 0x1FFFFFFFL;
+			final long v47 = src[off + 47] & 0x1FFFFFFFL;
+			final long v48 = src[off + 48] & 0x1FFFFFFFL;
+			final long v49 = src[off + 49] & 0x1FFFFFFFL;
+			final long v50 = src[off + 50] & 0x1FFFFFFFL;
+			final long v51 = src[off + 51] & 0x1FFFFFFFL;
+			final long v52 = src[off + 52] & 0x1FFFFFFFL;
+			final long v53 = src[off + 53] & 0x1FFFFFFFL;
+			final long v54 = src[off + 54] & 0x1FFFFFFFL;
+			final long v55 = src[off + 55] & 0x1FFFFFFFL;
+			final long v56 = src[off + 56] & 0x1FFFFFFFL;
+			final long v57 = src[off + 57] & 0x1FFFFFFFL;
+			final long v58 = src[off + 58] & 0x1FFFFFFFL;
+			final long v59 = src[off + 59] & 0x1FFFFFFFL;
+			final long v60 = src[off + 60] & 0x1FFFFFFFL;
+			final long v61 = src[off + 61] & 0x1FFFFFFFL;
+			final long v62 = src[off + 62] & 0x1FFFFFFFL;
+			final long v63 = src[off + 63] & 0x1FFFFFFFL;
+			data[j] = v0 | v1 << 29 | v2 << 58;
+			data[j + 1] = v2 >>> 6 | v3 << 23 | v4 << 52;
+			data[j + 2] = v4 >>> 12 | v5 << 17 | v6 << 46;
+			data[j + 3] = v6 >>> 18 | v7 << 11 | v8 << 40;
+			data[j + 4] = v8 >>> 24 | v9 << 5 | v10 << 34 | v11 << 63;
+			data[j + 5] = v11 >>> 1 | v12 << 28 | v13 << 57;
+			data[j + 6] = v13 >>> 7 | v14 << 22 | v15 << 51;
+			data[j + 7] = v15 >>> 13 | v16 << 16 | v17 << 45;
+			data[j + 8] = v17 >>> 19 | v18 << 10 | v19 << 39;
+			data[j + 9] = v19 >>> 25 | v20 << 4 | v21 << 33 | v22 << 62;
+			data[j + 10] = v22 >>> 2 | v23 << 27 | v24 << 56;
+			data[j + 11] = v24 >>> 8 | v25 << 21 | v26 << 50;
+			data[j + 12] = v26 >>> 14 | v27 << 15 | v28 << 44;
+			data[j + 13] = v28 >>> 20 | v29 << 9 | v30 << 38;
+			data[j + 14] = v30 >>> 26 | v31 << 3 | v32 << 32 | v33 << 61;
+			data[j + 15] = v33 >>> 3 | v34 << 26 | v35 << 55;
+			data[j + 16] = v35 >>> 9 | v36 << 20 | v37 << 49;
+			data[j + 17] = v37 >>> 15 | v38 << 14 | v39 << 43;
+			data[j + 18] = v39 >>> 21 | v40 << 8 | v41 << 37;
+			data[j + 19] = v41 >>> 27 | v42 << 2 | v43 << 31 | v44 << 60;
+			data[j + 20] = v44 >>> 4 | v45 << 25 | v46 << 54;
+			data[j + 21] = v46 >>> 10 | v47 << 19 | v48 << 48;
+			data[j + 22] = v48 >>> 16 | v49 << 13 | v50 << 42;
+			data[j + 23] = v50 >>> 22 | v51 << 7 | v52 << 36;
+			data[j + 24] = v52 >>> 28 | v53 << 1 | v54 << 30 | v55 << 59;
+			data[j + 25] = v55 >>> 5 | v56 << 24 | v57 << 53;
+			data[j + 26] = v57 >>> 11 | v58 << 18 | v59 << 47;
+			data[j + 27] = v59 >>> 17 | v60 << 12 | v61 << 41;
+			data[j + 28] = v61 >>> 23 | v62 << 6 | v63 << 35;
+		}
+	}
+
+	private static void decode30(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 30, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x3FFFFFFFL);
+			dest[off + 1] = (int) (w0 >>> 30 & 0x3FFFFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) ((w0 >>> 60 | w1 << 4) & 0x3FFFFFFFL);
+			dest[off + 3] = (int) (w1 >>> 26 & 0x3FFFFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 4] = (int) ((w1 >>> 56 | w2 << 8) & 0x3FFFFFFFL);
+			dest[off + 5] = (int) (w2 >>> 22 & 0x3FFFFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 6] = (int) ((w2 >>> 52 | w3 << 12) & 0x3FFFFFFFL);
+			dest[off + 7] = (int) (w3 >>> 18 & 0x3FFFFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 8] = (int) ((w3 >>> 48 | w4 << 16) & 0x3FFFFFFFL);
+			dest[off + 9] = (int) (w4 >>> 14 & 0x3FFFFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 10] = (int) ((w4 >>> 44 | w5 << 20) & 0x3FFFFFFFL);
+			dest[off + 11] = (int) (w5 >>> 10 & 0x3FFFFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 12] = (int) ((w5 >>> 40 | w6 << 24) & 0x3FFFFFFFL);
+			dest[off + 13] = (int) (w6 >>> 6 & 0x3FFFFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 14] = (int) ((w6 >>> 36 | w7 << 28) & 0x3FFFFFFFL);
+			dest[off + 15] = (int) (w7 >>> 2 & 0x3FFFFFFFL);
+			dest[off + 16] = (int) (w7 >>> 32 & 0x3FFFFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 17] = (int) ((w7 >>> 62 | w8 << 2) & 0x3FFFFFFFL);
+			dest[off + 18] = (int) (w8 >>> 28 & 0x3FFFFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 19] = (int) ((w8 >>> 58 | w9 << 6) & 0x3FFFFFFFL);
+			dest[off + 20] = (int) (w9 >>> 24 & 0x3FFFFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 21] = (int) ((w9 >>> 54 | w10 << 10) & 0x3FFFFFFFL);
+			dest[off + 22] = (int) (w10 >>> 20 & 0x3FFFFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 23] = (int) ((w10 >>> 50 | w11 << 14) & 0x3FFFFFFFL);
+			dest[off + 24] = (int) (w11 >>> 16 & 0x3FFFFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 25] = (int) ((w11 >>> 46 | w12 << 18) & 0x3FFFFFFFL);
+			dest[off + 26] = (int) (w12 >>> 12 & 0x3FFFFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 27] = (int) ((w12 >>> 42 | w13 << 22) & 0x3FFFFFFFL);
+			dest[off + 28] = (int) (w13 >>> 8 & 0x3FFFFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 29] = (int) ((w13 >>> 38 | w14 << 26) & 0x3FFFFFFFL);
+			dest[off + 30] = (int) (w14 >>> 4 & 0x3FFFFFFFL);
+			dest[off + 31] = (int) (w14 >>> 34);
+			final long w15 = data[j + 15];
+			dest[off + 32] = (int) (w15 & 0x3FFFFFFFL);
+			dest[off + 33] = (int) (w15 >>> 30 & 0x3FFFFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 34] = (int) ((w15 >>> 60 | w16 << 4) & 0x3FFFFFFFL);
+			dest[off + 35] = (int) (w16 >>> 26 & 0x3FFFFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 36] = (int) ((w16 >>> 56 | w17 << 8) & 0x3FFFFFFFL);
+			dest[off + 37] = (int) (w17 >>> 22 & 0x3FFFFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 38] = (int) ((w17 >>> 52 | w18 << 12) & 0x3FFFFFFFL);
+			dest[off + 39] = (int) (w18 >>> 18 & 0x3FFFFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 40] = (int) ((w18 >>> 48 | w19 << 16) & 0x3FFFFFFFL);
+			dest[off + 41] = (int) (w19 >>> 14 & 0x3FFFFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 42] = (int) ((w19 >>> 44 | w20 << 20) & 0x3FFFFFFFL);
+			dest[off + 43] = (int) (w20 >>> 10 & 0x3FFFFFFFL);
+			final long w21 = data[j + 21];
+			dest[off + 44] = (int) ((w20 >>> 40 | w21 << 24) & 0x3FFFFFFFL);
+			dest[off + 45] = (int) (w21 >>> 6 & 0x3FFFFFFFL);
+			final long w22 = data[j + 22];
+			dest[off + 46] = (int) ((w21 >>> 36 | w22 << 28) & 0x3FFFFFFFL);
+			dest[off + 47] = (int) (w22 >>> 2 & 0x3FFFFFFFL);
+			dest[off + 48] = (int) (w22 >>> 32 & 0x3FFFFFFFL);
+			final long w23 = data[j + 23];
+			dest[off + 49] = (int) ((w22 >>> 62 | w23 << 2) & 0x3FFFFFFFL);
+			dest[off + 50] = (int) (w23 >>> 28 & 0x3FFFFFFFL);
+			final long w24 = data[j + 24];
+			dest[off + 51] = (int) ((w23 >>> 58 | w24 << 6) & 0x3FFFFFFFL);
+			dest[off + 52] = (int) (w24 >>> 24 & 0x3FFFFFFFL);
+			final long w25 = data[j + 25];
+			dest[off + 53] = (int) ((w24 >>> 54 | w25 << 10) & 0x3FFFFFFFL);
+			dest[off + 54] = (int) (w25 >>> 20 & 0x3FFFFFFFL);
+			final long w26 = data[j + 26];
+			dest[off + 55] = (int) ((w25 >>> 50 | w26 << 14) & 0x3FFFFFFFL);
+			dest[off + 56] = (int) (w26 >>> 16 & 0x3FFFFFFFL);
+			final long w27 = data[j + 27];
+			dest[off + 57] = (int) ((w26 >>> 46 | w27 << 18) & 0x3FFFFFFFL);
+			dest[off + 58] = (int) (w27 >>> 12 & 0x3FFFFFFFL);
+			final long w28 = data[j + 28];
+			dest[off + 59] = (int) ((w27 >>> 42 | w28 << 22) & 0x3FFFFFFFL);
+			dest[off + 60] = (int) (w28 >>> 8 & 0x3FFFFFFFL);
+			final long w29 = data[j + 29];
+			dest[off + 61] = (int) ((w28 >>> 38 | w29 << 26) & 0x3FFFFFFFL);
+			dest[off + 62] = (int) (w29 >>> 4 & 0x3FFFFFFFL);
+			dest[off + 63] = (int) (w29 >>> 34);
+		}
+	}
+
+	private static void encode30(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 30) {
+			final long v0 = src[off] & 0x3FFFFFFFL;
+			final long v1 = src[off + 1] & 0x3FFFFFFFL;
+			final long v2 = src[off + 2] & 0x3FFFFFFFL;
+			final long v3 = src[off + 3] & 0x3FFFFFFFL;
+			final long v4 = src[off + 4] & 0x3FFFFFFFL;
+			final long v5 = src[off + 5] & 0x3FFFFFFFL;
+			final long v6 = src[off + 6] & 0x3FFFFFFFL;
+			final long v7 = src[off + 7] & 0x3FFFFFFFL;
+			final long v8 = src[off + 8] & 0x3FFFFFFFL;
+			final long v9 = src[off + 9] & 0x3FFFFFFFL;
+			final long v10 = src[off + 10] & 0x3FFFFFFFL;
+			final long v11 = src[off + 11] & 0x3FFFFFFFL;
+			final long v12 = src[off + 12] & 0x3FFFFFFFL;
+			final long v13 = src[off + 13] & 0x3FFFFFFFL;
+			final long v14 = src[off + 14] & 0x3FFFFFFFL;
+			final long v15 = src[off + 15] & 0x3FFFFFFFL;
+			final long v16 = src[off + 16] & 0x3FFFFFFFL;
+			final long v17 = src[off + 17] & 0x3FFFFFFFL;
+			final long v18 = src[off + 18] & 0x3FFFFFFFL;
+			final long v19 = src[off + 19] & 0x3FFFFFFFL;
+			final long v20 = src[off + 20] & 0x3FFFFFFFL;
+			final long v21 = src[off + 21] & 0x3FFFFFFFL;
+			final long v22 = src[off + 22] & 0x3FFFFFFFL;
+			final long v23 = src[off + 23] & 0x3FFFFFFFL;
+			final long v24 = src[off + 24] & 0x3FFFFFFFL;
+			final long v25 = src[off + 25] & 0x3FFFFFFFL;
+			final long v26 = src[off + 26] & 0x3FFFFFFFL;
+			final long v27 = src[off + 27] & 0x3FFFFFFFL;
+			final long v28 = src[off + 28] & 0x3FFFFFFFL;
+			final long v29 = src[off + 29] & 0x3FFFFFFFL;
+			final long v30 = src[off + 30] & 0x3FFFFFFFL;
+			final long v31 = src[off + 31] & 0x3FFFFFFFL;
+			final long v32 = src[off + 32] & 0x3FFFFFFFL;
+			final long v33 = src[off + 33] & 0x3FFFFFFFL;
+			final long v34 = src[off + 34] & 0x3FFFFFFFL;
+			final long v35 = src[off + 35] & 0x3FFFFFFFL;
+			final long v36 = src[off + 36] & 0x3FFFFFFFL;
+			final long v37 = src[off + 37] & 0x3FFFFFFFL;
+			final long v38 = src[off + 38] & 0x3FFFFFFFL;
+			final long v39 = src[off + 39] & 0x3FFFFFFFL;
+			final long v40 = src[off + 40] & 0x3FFFFFFFL;
+			final long v41 = src[off + 41] & 0x3FFFFFFFL;
+			final long v42 = src[off + 42] & 0x3FFFFFFFL;
+			final long v43 = src[off + 43] & 0x3FFFFFFFL;
+			final long v44 = src[off + 44] & 0x3FFFFFFFL;
+			final long v45 = src[off + 45] & 0x3FFFFFFFL;
+			final long v46 = src[off + 46] & 0x3FFFFFFFL;
+			final long v47 = src[off + 47] & 0x3FFFFFFFL;
+			final long v48 = src[off + 48] & 0x3FFFFFFFL;
+			final long v49 = src[off + 49] & 0x3FFFFFFFL;
+			final long v50 = src[off + 50] & 0x3FFFFFFFL;
+			final long v51 = src[off + 51] & 0x3FFFFFFFL;
+			final long v52 = src[off + 52] & 0x3FFFFFFFL;
+			final long v53 = src[off + 53] & 0x3FFFFFFFL;
+			final long v54 = src[off + 54] & 0x3FFFFFFFL;
+			final long v55 = src[off + 55] & 0x3FFFFFFFL;
+			final long v56 = src[off + 56] & 0x3FFFFFFFL;
+			final long v57 = src[off + 57] & 0x3FFFFFFFL;
+			final long v58 = src[off + 58] & 0x3FFFFFFFL;
+			final long v59 = src[off + 59] & 0x3FFFFFFFL;
+			final long v60 = src[off + 60] & 0x3FFFFFFFL;
+			final long v61 = src[off + 61] & 0x3FFFFFFFL;
+			final long v62 = src[off + 62] & 0x3FFFFFFFL;
+			final long v63 = src[off + 63] & 0x3FFFFFFFL;
+			data[j] = v0 | v1 << 30 | v2 << 60;
+			data[j + 1] = v2 >>> 4 | v3 << 26 | v4 << 56;
+			data[j + 2] = v4 >>> 8 | v5 << 22 | v6 << 52;
+			data[j + 3] = v6 >>> 12 | v7 << 18 | v8 << 48;
+			data[j + 4] = v8 >>> 16 | v9 << 14 | v10 << 44;
+			data[j + 5] = v10 >>> 20 | v11 << 10 | v12 << 40;
+			data[j + 6] = v12 >>> 24 | v13 << 6 | v14 << 36;
+			data[j + 7] = v14 >>> 28 | v15 << 2 | v16 << 32 | v17 << 62;
+			data[j + 8] = v17 >>> 2 | v18 << 28 | v19 << 58;
+			data[j + 9] = v19 >>> 6 | v20 << 24 | v21 << 54;
+			data[j + 10] = v21 >>> 10 | v22 << 20 | v23 << 50;
+			data[j + 11] = v23 >>> 14 | v24 << 16 | v25 << 46;
+			data[j + 12] = v25 >>> 18 | v26 << 12 | v27 << 42;
+			data[j + 13] = v27 >>> 22 | v28 << 8 | v29 << 38;
+			data[j + 14] = v29 >>> 26 | v30 << 4 | v31 << 34;
+			data[j + 15] = v32 | v33 << 30 | v34 << 60;
+			data[j + 16] = v34 >>> 4 | v35 << 26 | v36 << 56;
+			data[j + 17] = v36 >>> 8 | v37 << 22 | v38 << 52;
+			data[j + 18] = v38 >>> 12 | v39 << 18 | v40 << 48;
+			data[j + 19] = v40 >>> 16 | v41 << 14 | v42 << 44;
+			data[j + 20] = v42 >>> 20 | v43 << 10 | v44 << 40;
+			data[j + 21] = v44 >>> 24 | v45 << 6 | v46 << 36;
+			data[j + 22] = v46 >>> 28 | v47 << 2 | v48 << 32 | v49 << 62;
+			data[j + 23] = v49 >>> 2 | v50 << 28 | v51 << 58;
+			data[j + 24] = v51 >>> 6 | v52 << 24 | v53 << 54;
+			data[j + 25] = v53 >>> 10 | v54 << 20 | v55 << 50;
+			data[j + 26] = v55 >>> 14 | v56 << 16 | v57 << 46;
+			data[j + 27] = v57 >>> 18 | v58 << 12 | v59 << 42;
+			data[j + 28] = v59 >>> 22 | v60 << 8 | v61 << 38;
+			data[j + 29] = v61 >>> 26 | v62 << 4 | v63 << 34;
+		}
+	}
+
+	private static void decode31(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 31, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) (w0 & 0x7FFFFFFFL);
+			dest[off + 1] = (int) (w0 >>> 31 & 0x7FFFFFFFL);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) ((w0 >>> 62 | w1 << 2) & 0x7FFFFFFFL);
+			dest[off + 3] = (int) (w1 >>> 29 & 0x7FFFFFFFL);
+			final long w2 = data[j + 2];
+			dest[off + 4] = (int) ((w1 >>> 60 | w2 << 4) & 0x7FFFFFFFL);
+			dest[off + 5] = (int) (w2 >>> 27 & 0x7FFFFFFFL);
+			final long w3 = data[j + 3];
+			dest[off + 6] = (int) ((w2 >>> 58 | w3 << 6) & 0x7FFFFFFFL);
+			dest[off + 7] = (int) (w3 >>> 25 & 0x7FFFFFFFL);
+			final long w4 = data[j + 4];
+			dest[off + 8] = (int) ((w3 >>> 56 | w4 << 8) & 0x7FFFFFFFL);
+			dest[off + 9] = (int) (w4 >>> 23 & 0x7FFFFFFFL);
+			final long w5 = data[j + 5];
+			dest[off + 10] = (int) ((w4 >>> 54 | w5 << 10) & 0x7FFFFFFFL);
+			dest[off + 11] = (int) (w5 >>> 21 & 0x7FFFFFFFL);
+			final long w6 = data[j + 6];
+			dest[off + 12] = (int) ((w5 >>> 52 | w6 << 12) & 0x7FFFFFFFL);
+			dest[off + 13] = (int) (w6 >>> 19 & 0x7FFFFFFFL);
+			final long w7 = data[j + 7];
+			dest[off + 14] = (int) ((w6 >>> 50 | w7 << 14) & 0x7FFFFFFFL);
+			dest[off + 15] = (int) (w7 >>> 17 & 0x7FFFFFFFL);
+			final long w8 = data[j + 8];
+			dest[off + 16] = (int) ((w7 >>> 48 | w8 << 16) & 0x7FFFFFFFL);
+			dest[off + 17] = (int) (w8 >>> 15 & 0x7FFFFFFFL);
+			final long w9 = data[j + 9];
+			dest[off + 18] = (int) ((w8 >>> 46 | w9 << 18) & 0x7FFFFFFFL);
+			dest[off + 19] = (int) (w9 >>> 13 & 0x7FFFFFFFL);
+			final long w10 = data[j + 10];
+			dest[off + 20] = (int) ((w9 >>> 44 | w10 << 20) & 0x7FFFFFFFL);
+			dest[off + 21] = (int) (w10 >>> 11 & 0x7FFFFFFFL);
+			final long w11 = data[j + 11];
+			dest[off + 22] = (int) ((w10 >>> 42 | w11 << 22) & 0x7FFFFFFFL);
+			dest[off + 23] = (int) (w11 >>> 9 & 0x7FFFFFFFL);
+			final long w12 = data[j + 12];
+			dest[off + 24] = (int) ((w11 >>> 40 | w12 << 24) & 0x7FFFFFFFL);
+			dest[off + 25] = (int) (w12 >>> 7 & 0x7FFFFFFFL);
+			final long w13 = data[j + 13];
+			dest[off + 26] = (int) ((w12 >>> 38 | w13 << 26) & 0x7FFFFFFFL);
+			dest[off + 27] = (int) (w13 >>> 5 & 0x7FFFFFFFL);
+			final long w14 = data[j + 14];
+			dest[off + 28] = (int) ((w13 >>> 36 | w14 << 28) & 0x7FFFFFFFL);
+			dest[off + 29] = (int) (w14 >>> 3 & 0x7FFFFFFFL);
+			final long w15 = data[j + 15];
+			dest[off + 30] = (int) ((w14 >>> 34 | w15 << 30) & 0x7FFFFFFFL);
+			dest[off + 31] = (int) (w15 >>> 1 & 0x7FFFFFFFL);
+			dest[off + 32] = (int) (w15 >>> 32 & 0x7FFFFFFFL);
+			final long w16 = data[j + 16];
+			dest[off + 33] = (int) ((w15 >>> 63 | w16 << 1) & 0x7FFFFFFFL);
+			dest[off + 34] = (int) (w16 >>> 30 & 0x7FFFFFFFL);
+			final long w17 = data[j + 17];
+			dest[off + 35] = (int) ((w16 >>> 61 | w17 << 3) & 0x7FFFFFFFL);
+			dest[off + 36] = (int) (w17 >>> 28 & 0x7FFFFFFFL);
+			final long w18 = data[j + 18];
+			dest[off + 37] = (int) ((w17 >>> 59 | w18 << 5) & 0x7FFFFFFFL);
+			dest[off + 38] = (int) (w18 >>> 26 & 0x7FFFFFFFL);
+			final long w19 = data[j + 19];
+			dest[off + 39] = (int) ((w18 >>> 57 | w19 << 7) & 0x7FFFFFFFL);
+			dest[off + 40] = (int) (w19 >>> 24 & 0x7FFFFFFFL);
+			final long w20 = data[j + 20];
+			dest[off + 41] = (int) ((w19 >>> 55 | w20 << 9) & 0x7FFFFFFFL);
+			dest[off + 42] = (int) (w20 >>> 22 & 0x7FFFFFFFL);
+			final long w21 = data[j + 21];
+			dest[off + 43] = (int) ((w20 >>> 53 | w21 << 11) & 0x7FFFFFFFL);
+			dest[off + 44] = (int) (w21 >>> 20 & 0x7FFFFFFFL);
+			final long w22 = data[j + 22];
+			dest[off + 45] = (int) ((w21 >>> 51 | w22 << 13) & 0x7FFFFFFFL);
+			dest[off + 46] = (int) (w22 >>> 18 & 0x7FFFFFFFL);
+			final long w23 = data[j + 23];
+			dest[off + 47] = (int) ((w22 >>> 49 | w23 << 15) & 0x7FFFFFFFL);
+			dest[off + 48] = (int) (w23 >>> 16 & 0x7FFFFFFFL);
+			final long w24 = data[j + 24];
+			dest[off + 49] = (int) ((w23 >>> 47 | w24 << 17) & 0x7FFFFFFFL);
+			dest[off + 50] = (int) (w24 >>> 14 & 0x7FFFFFFFL);
+			final long w25 = data[j + 25];
+			dest[off + 51] = (int) ((w24 >>> 45 | w25 << 19) & 0x7FFFFFFFL);
+			dest[off + 52] = (int) (w25 >>> 12 & 0x7FFFFFFFL);
+			final long w26 = data[j + 26];
+			dest[off + 53] = (int) ((w25 >>> 43 | w26 << 21) & 0x7FFFFFFFL);
+			dest[off + 54] = (int) (w26 >>> 10 & 0x7FFFFFFFL);
+			final long w27 = data[j + 27];
+			dest[off + 55] = (int) ((w26 >>> 41 | w27 << 23) & 0x7FFFFFFFL);
+			dest[off + 56] = (int) (w27 >>> 8 & 0x7FFFFFFFL);
+			final long w28 = data[j + 28];
+			dest[off + 57] = (int) ((w27 >>> 39 | w28 << 25) & 0x7FFFFFFFL);
+			dest[off + 58] = (int) (w28 >>> 6 & 0x7FFFFFFFL);
+			final long w29 = data[j + 29];
+			dest[off + 59] = (int) ((w28 >>> 37 | w29 << 27) & 0x7FFFFFFFL);
+			dest[off + 60] = (int) (w29 >>> 4 & 0x7FFFFFFFL);
+			final long w30 = data[j + 30];
+			dest[off + 61] = (int) ((w29 >>> 35 | w30 << 29) & 0x7FFFFFFFL);
+			dest[off + 62] = (int) (w30 >>> 2 & 0x7FFFFFFFL);
+			dest[off + 63] = (int) (w30 >>> 33);
+		}
+	}
+
+	private static void encode31(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 31) {
+			final long v0 = src[off] & 0x7FFFFFFFL;
+			final long v1 = src[off + 1] & 0x7FFFFFFFL;
+			final long v2 = src[off + 2] & 0x7FFFFFFFL;
+			final long v3 = src[off + 3] & 0x7FFFFFFFL;
+			final long v4 = src[off + 4] & 0x7FFFFFFFL;
+			final long v5 = src[off + 5] & 0x7FFFFFFFL;
+			final long v6 = src[off + 6] & 0x7FFFFFFFL;
+			final long v7 = src[off + 7] & 0x7FFFFFFFL;
+			final long v8 = src[off + 8] & 0x7FFFFFFFL;
+			final long v9 = src[off + 9] & 0x7FFFFFFFL;
+			final long v10 = src[off + 10] & 0x7FFFFFFFL;
+			final long v11 = src[off + 11] & 0x7FFFFFFFL;
+			final long v12 = src[off + 12] & 0x7FFFFFFFL;
+			final long v13 = src[off + 13] & 0x7FFFFFFFL;
+			final long v14 = src[off + 14] & 0x7FFFFFFFL;
+			final long v15 = src[off + 15] & 0x7FFFFFFFL;
+			final long v16 = src[off + 16] & 0x7FFFFFFFL;
+			final long v17 = src[off + 17] & 0x7FFFFFFFL;
+			final long v18 = src[off + 18] & 0x7FFFFFFFL;
+			final long v19 = src[off + 19] & 0x7FFFFFFFL;
+			final long v20 = src[off + 20] & 0x7FFFFFFFL;
+			final long v21 = src[off + 21] & 0x7FFFFFFFL;
+			final long v22 = src[off + 22] & 0x7FFFFFFFL;
+			final long v23 = src[off + 23] & 0x7FFFFFFFL;
+			final long v24 = src[off + 24] & 0x7FFFFFFFL;
+			final long v25 = src[off + 25] & 0x7FFFFFFFL;
+			final long v26 = src[off + 26] & 0x7FFFFFFFL;
+			final long v27 = src[off + 27] & 0x7FFFFFFFL;
+			final long v28 = src[off + 28] & 0x7FFFFFFFL;
+			final long v29 = src[off + 29] & 0x7FFFFFFFL;
+			final long v30 = src[off + 30] & 0x7FFFFFFFL;
+			final long v31 = src[off + 31] & 0x7FFFFFFFL;
+			final long v32 = src[off + 32] & 0x7FFFFFFFL;
+			final long v33 = src[off + 33] & 0x7FFFFFFFL;
+			final long v34 = src[off + 34] & 0x7FFFFFFFL;
+			final long v35 = src[off + 35] & 0x7FFFFFFFL;
+			final long v36 = src[off + 36] & 0x7FFFFFFFL;
+			final long v37 = src[off + 37] & 0x7FFFFFFFL;
+			final long v38 = src[off + 38] & 0x7FFFFFFFL;
+			final long v39 = src[off + 39] & 0x7FFFFFFFL;
+			final long v40 = src[off + 40] & 0x7FFFFFFFL;
+			final long v41 = src[off + 41] & 0x7FFFFFFFL;
+			final long v42 = src[off + 42] & 0x7FFFFFFFL;
+			final long v43 = src[off + 43] & 0x7FFFFFFFL;
+			final long v44 = src[off + 44] & 0x7FFFFFFFL;
+			final long v45 = src[off + 45] & 0x7FFFFFFFL;
+			final long v46 = src[off + 46] & 0x7FFFFFFFL;
+			final long v47 = src[off + 47] & 0x7FFFFFFFL;
+			final long v48 = src[off + 48] & 0x7FFFFFFFL;
+			final long v49 = src[off + 49] & 0x7FFFFFFFL;
+			final long v50 = src[off + 50] & 0x7FFFFFFFL;
+			final long v51 = src[off + 51] & 0x7FFFFFFFL;
+			final long v52 = src[off + 52] & 0x7FFFFFFFL;
+			final long v53 = src[off + 53] & 0x7FFFFFFFL;
+			final long v54 = src[off + 54] & 0x7FFFFFFFL;
+			final long v55 = src[off + 55] & 0x7FFFFFFFL;
+			final long v56 = src[off + 56] & 0x7FFFFFFFL;
+			final long v57 = src[off + 57] & 0x7FFFFFFFL;
+			final long v58 = src[off + 58] & 0x7FFFFFFFL;
+			final long v59 = src[off + 59] & 0x7FFFFFFFL;
+			final long v60 = src[off + 60] & 0x7FFFFFFFL;
+			final long v61 = src[off + 61] & 0x7FFFFFFFL;
+			final long v62 = src[off + 62] & 0x7FFFFFFFL;
+			final long v63 = src[off + 63] & 0x7FFFFFFFL;
+			data[j] = v0 | v1 << 31 | v2 << 62;
+			data[j + 1] = v2 >>> 2 | v3 << 29 | v4 << 60;
+			data[j + 2] = v4 >>> 4 | v5 << 27 | v6 << 58;
+			data[j + 3] = v6 >>> 6 | v7 << 25 | v8 << 56;
+			data[j + 4] = v8 >>> 8 | v9 << 23 | v10 << 54;
+			data[j + 5] = v10 >>> 10 | v11 << 21 | v12 << 52;
+			data[j + 6] = v12 >>> 12 | v13 << 19 | v14 << 50;
+			data[j + 7] = v14 >>> 14 | v15 << 17 | v16 << 48;
+			data[j + 8] = v16 >>> 16 | v17 << 15 | v18 << 46;
+			data[j + 9] = v18 >>> 18 | v19 << 13 | v20 << 44;
+			data[j + 10] = v20 >>> 20 | v21 << 11 | v22 << 42;
+			data[j + 11] = v22 >>> 22 | v23 << 9 | v24 << 40;
+			data[j + 12] = v24 >>> 24 | v25 << 7 | v26 << 38;
+			data[j + 13] = v26 >>> 26 | v27 << 5 | v28 << 36;
+			data[j + 14] = v28 >>> 28 | v29 << 3 | v30 << 34;
+			data[j + 15] = v30 >>> 30 | v31 << 1 | v32 << 32 | v33 << 63;
+			data[j + 16] = v33 >>> 1 | v34 << 30 | v35 << 61;
+			data[j + 17] = v35 >>> 3 | v36 << 28 | v37 << 59;
+			data[j + 18] = v37 >>> 5 | v38 << 26 | v39 << 57;
+			data[j + 19] = v39 >>> 7 | v40 << 24 | v41 << 55;
+			data[j + 20] = v41 >>> 9 | v42 << 22 | v43 << 53;
+			data[j + 21] = v43 >>> 11 | v44 << 20 | v45 << 51;
+			data[j + 22] = v45 >>> 13 | v46 << 18 | v47 << 49;
+			data[j + 23] = v47 >>> 15 | v48 << 16 | v49 << 47;
+			data[j + 24] = v49 >>> 17 | v50 << 14 | v51 << 45;
+			data[j + 25] = v51 >>> 19 | v52 << 12 | v53 << 43;
+			data[j + 26] = v53 >>> 21 | v54 << 10 | v55 << 41;
+			data[j + 27] = v55 >>> 23 | v56 << 8 | v57 << 39;
+			data[j + 28] = v57 >>> 25 | v58 << 6 | v59 << 37;
+			data[j + 29] = v59 >>> 27 | v60 << 4 | v61 << 35;
+			data[j + 30] = v61 >>> 29 | v62 << 2 | v63 << 33;
+		}
+	}
+
+	private static void decode32(long[] data, int j, int[] dest, int off, int blocks) {
+		for (; blocks > 0; blocks--, j += 32, off += 64) {
+			final long w0 = data[j];
+			dest[off] = (int) w0;
+			dest[off + 1] = (int) (w0 >>> 32);
+			final long w1 = data[j + 1];
+			dest[off + 2] = (int) w1;
+			dest[off + 3] = (int) (w1 >>> 32);
+			final long w2 = data[j + 2];
+			dest[off + 4] = (int) w2;
+			dest[off + 5] = (int) (w2 >>> 32);
+			final long w3 = data[j + 3];
+			dest[off + 6] = (int) w3;
+			dest[off + 7] = (int) (w3 >>> 32);
+			final long w4 = data[j + 4];
+			dest[off + 8] = (int) w4;
+			dest[off + 9] = (int) (w4 >>> 32);
+			final long w5 = data[j + 5];
+			dest[off + 10] = (int) w5;
+			dest[off + 11] = (int) (w5 >>> 32);
+			final long w6 = data[j + 6];
+			dest[off + 12] = (int) w6;
+			dest[off + 13] = (int) (w6 >>> 32);
+			final long w7 = data[j + 7];
+			dest[off + 14] = (int) w7;
+			dest[off + 15] = (int) (w7 >>> 32);
+			final long w8 = data[j + 8];
+			dest[off + 16] = (int) w8;
+			dest[off + 17] = (int) (w8 >>> 32);
+			final long w9 = data[j + 9];
+			dest[off + 18] = (int) w9;
+			dest[off + 19] = (int) (w9 >>> 32);
+			final long w10 = data[j + 10];
+			dest[off + 20] = (int) w10;
+			dest[off + 21] = (int) (w10 >>> 32);
+			final long w11 = data[j + 11];
+			dest[off + 22] = (int) w11;
+			dest[off + 23] = (int) (w11 >>> 32);
+			final long w12 = data[j + 12];
+			dest[off + 24] = (int) w12;
+			dest[off + 25] = (int) (w12 >>> 32);
+			final long w13 = data[j + 13];
+			dest[off + 26] = (int) w13;
+			dest[off + 27] = (int) (w13 >>> 32);
+			final long w14 = data[j + 14];
+			dest[off + 28] = (int) w14;
+			dest[off + 29] = (int) (w14 >>> 32);
+			final long w15 = data[j + 15];
+			dest[off + 30] = (int) w15;
+			dest[off + 31] = (int) (w15 >>> 32);
+			final long w16 = data[j + 16];
+			dest[off + 32] = (int) w16;
+			dest[off + 33] = (int) (w16 >>> 32);
+			final long w17 = data[j + 17];
+			dest[off + 34] = (int) w17;
+			dest[off + 35] = (int) (w17 >>> 32);
+			final long w18 = data[j + 18];
+			dest[off + 36] = (int) w18;
+			dest[off + 37] = (int) (w18 >>> 32);
+			final long w19 = data[j + 19];
+			dest[off + 38] = (int) w19;
+			dest[off + 39] = (int) (w19 >>> 32);
+			final long w20 = data[j + 20];
+			dest[off + 40] = (int) w20;
+			dest[off + 41] = (int) (w20 >>> 32);
+			final long w21 = data[j + 21];
+			dest[off + 42] = (int) w21;
+			dest[off + 43] = (int) (w21 >>> 32);
+			final long w22 = data[j + 22];
+			dest[off + 44] = (int) w22;
+			dest[off + 45] = (int) (w22 >>> 32);
+			final long w23 = data[j + 23];
+			dest[off + 46] = (int) w23;
+			dest[off + 47] = (int) (w23 >>> 32);
+			final long w24 = data[j + 24];
+			dest[off + 48] = (int) w24;
+			dest[off + 49] = (int) (w24 >>> 32);
+			final long w25 = data[j + 25];
+			dest[off + 50] = (int) w25;
+			dest[off + 51] = (int) (w25 >>> 32);
+			final long w26 = data[j + 26];
+			dest[off + 52] = (int) w26;
+			dest[off + 53] = (int) (w26 >>> 32);
+			final long w27 = data[j + 27];
+			dest[off + 54] = (int) w27;
+			dest[off + 55] = (int) (w27 >>> 32);
+			final long w28 = data[j + 28];
+			dest[off + 56] = (int) w28;
+			dest[off + 57] = (int) (w28 >>> 32);
+			final long w29 = data[j + 29];
+			dest[off + 58] = (int) w29;
+			dest[off + 59] = (int) (w29 >>> 32);
+			final long w30 = data[j + 30];
+			dest[off + 60] = (int) w30;
+			dest[off + 61] = (int) (w30 >>> 32);
+			final long w31 = data[j + 31];
+			dest[off + 62] = (int) w31;
+			dest[off + 63] = (int) (w31 >>> 32);
+		}
+	}
+
+	private static void encode32(int[] src, int off, long[] data, int j, int blocks) {
+		for (; blocks > 0; blocks--, off += 64, j += 32) {
+			final long v0 = src[off] & 0xFFFFFFFFL;
+			final long v1 = src[off + 1] & 0xFFFFFFFFL;
+			final long v2 = src[off + 2] & 0xFFFFFFFFL;
+			final long v3 = src[off + 3] & 0xFFFFFFFFL;
+			final long v4 = src[off + 4] & 0xFFFFFFFFL;
+			final long v5 = src[off + 5] & 0xFFFFFFFFL;
+			final long v6 = src[off + 6] & 0xFFFFFFFFL;
+			final long v7 = src[off + 7] & 0xFFFFFFFFL;
+			final long v8 = src[off + 8] & 0xFFFFFFFFL;
+			final long v9 = src[off + 9] & 0xFFFFFFFFL;
+			final long v10 = src[off + 10] & 0xFFFFFFFFL;
+			final long v11 = src[off + 11] & 0xFFFFFFFFL;
+			final long v12 = src[off + 12] & 0xFFFFFFFFL;
+			final long v13 = src[off + 13] & 0xFFFFFFFFL;
+			final long v14 = src[off + 14] & 0xFFFFFFFFL;
+			final long v15 = src[off + 15] & 0xFFFFFFFFL;
+			final long v16 = src[off + 16] & 0xFFFFFFFFL;
+			final long v17 = src[off + 17] & 0xFFFFFFFFL;
+			final long v18 = src[off + 18] & 0xFFFFFFFFL;
+			final long v19 = src[off + 19] & 0xFFFFFFFFL;
+			final long v20 = src[off + 20] & 0xFFFFFFFFL;
+			final long v21 = src[off + 21] & 0xFFFFFFFFL;
+			final long v22 = src[off + 22] & 0xFFFFFFFFL;
+			final long v23 = src[off + 23] & 0xFFFFFFFFL;
+			final long v24 = src[off + 24] & 0xFFFFFFFFL;
+			final long v25 = src[off + 25] & 0xFFFFFFFFL;
+			final long v26 = src[off + 26] & 0xFFFFFFFFL;
+			final long v27 = src[off + 27] & 0xFFFFFFFFL;
+			final long v28 = src[off + 28] & 0xFFFFFFFFL;
+			final long v29 = src[off + 29] & 0xFFFFFFFFL;
+			final long v30 = src[off + 30] & 0xFFFFFFFFL;
+			final long v31 = src[off + 31] & 0xFFFFFFFFL;
+			final long v32 = src[off + 32] & 0xFFFFFFFFL;
+			final long v33 = src[off + 33] & 0xFFFFFFFFL;
+			final long v34 = src[off + 34] & 0xFFFFFFFFL;
+			final long v35 = src[off + 35] & 0xFFFFFFFFL;
+			final long v36 = src[off + 36] & 0xFFFFFFFFL;
+			final long v37 = src[off + 37] & 0xFFFFFFFFL;
+			final long v38 = src[off + 38] & 0xFFFFFFFFL;
+			final long v39 = src[off + 39] & 0xFFFFFFFFL;
+			final long v40 = src[off + 40] & 0xFFFFFFFFL;
+			final long v41 = src[off + 41] & 0xFFFFFFFFL;
+			final long v42 = src[off + 42] & 0xFFFFFFFFL;
+			final long v43 = src[off + 43] & 0xFFFFFFFFL;
+			final long v44 = src[off + 44] & 0xFFFFFFFFL;
+			final long v45 = src[off + 45] & 0xFFFFFFFFL;
+			final long v46 = src[off + 46] & 0xFFFFFFFFL;
+			final long v47 = src[off + 47] & 0xFFFFFFFFL;
+			final long v48 = src[off + 48] & 0xFFFFFFFFL;
+			final long v49 = src[off + 49] & 0xFFFFFFFFL;
+			final long v50 = src[off + 50] & 0xFFFFFFFFL;
+			final long v51 = src[off + 51] & 0xFFFFFFFFL;
+			final long v52 = src[off + 52] & 0xFFFFFFFFL;
+			final long v53 = src[off + 53] & 0xFFFFFFFFL;
+			final long v54 = src[off + 54] & 0xFFFFFFFFL;
+			final long v55 = src[off + 55] & 0xFFFFFFFFL;
+			final long v56 = src[off + 56] & 0xFFFFFFFFL;
+			final long v57 = src[off + 57] & 0xFFFFFFFFL;
+			final long v58 = src[off + 58] & 0xFFFFFFFFL;
+			final long v59 = src[off + 59] & 0xFFFFFFFFL;
+			final long v60 = src[off + 60] & 0xFFFFFFFFL;
+			final long v61 = src[off + 61] & 0xFFFFFFFFL;
+			final long v62 = src[off + 62] & 0xFFFFFFFFL;
+			final long v63 = src[off + 63] & 0xFFFFFFFFL;
+			data[j] = v0 | v1 << 32;
+			data[j + 1] = v2 | v3 << 32;
+			data[j + 2] = v4 | v5 << 32;
+			data[j + 3] = v6 | v7 << 32;
+			data[j + 4] = v8 | v9 << 32;
+			data[j + 5] = v10 | v11 << 32;
+			data[j + 6] = v12 | v13 << 32;
+			data[j + 7] = v14 | v15 << 32;
+			data[j + 8] = v16 | v17 << 32;
+			data[j + 9] = v18 | v19 << 32;
+			data[j + 10] = v20 | v21 << 32;
+			data[j + 11] = v22 | v23 << 32;
+			data[j + 12] = v24 | v25 << 32;
+			data[j + 13] = v26 | v27 << 32;
+			data[j + 14] = v28 | v29 << 32;
+			data[j + 15] = v30 | v31 << 32;
+			data[j + 16] = v32 | v33 << 32;
+			data[j + 17] = v34 | v35 << 32;
+			data[j + 18] = v36 | v37 << 32;
+			data[j + 19] = v38 | v39 << 32;
+			data[j + 20] = v40 | v41 << 32;
+			data[j + 21] = v42 | v43 << 32;
+			data[j + 22] = v44 | v45 << 32;
+			data[j + 23] = v46 | v47 << 32;
+			data[j + 24] = v48 | v49 << 32;
+			data[j + 25] = v50 | v51 << 32;
+			data[j + 26] = v52 | v53 << 32;
+			data[j + 27] = v54 | v55 << 32;
+			data[j + 28] = v56 | v57 << 32;
+			data[j + 29] = v58 | v59 << 32;
+			data[j + 30] = v60 | v61 << 32;
+			data[j + 31] = v62 | v63 << 32;
+		}
+	}
+}
@@ -0,0 +1,438 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_MASK;
+
+/**
+ * Array of unsigned integers of a fixed width (from 1 to 64 bits), packed 
+ * into a {@code long[]} storage.
+ * 
+ * <p>Value {@code i} takes bits {@code i*width} through 
+ * {@code i*width+width-1} of the storage, its least significant bit first, 
+ * as laid out by {@link Store}; so the value at {@code i} is the same as 
+ * {@code Store.readLong(data(), i*width)}, masked down to {@code width} bits. 
+ * Values written are masked down to {@code width} bits as well. The array 
+ * does not copy the storage: it keeps a reference to it, which can also be 
+ * read and written straight through {@link Store} (see {@link #data()}).
+ * </p>
+ * <p>Bulk methods unpack (or pack) values in blocks of 64, which take 
+ * exactly {@code width} words of the storage, through code unrolled for each 
+ * width: no shift amount, mask or word boundary is computed at run time. 
+ * Only values before the first whole block and after the last one are 
+ * read (or written) one by one.
+ * </p>
+ * <p>{@code ArrayIndexOutOfBoundsException} is thrown by any method that would 
+ * access values before index 0 or at index {@link #size()} and beyond.
+ * </p>
+ * <p>All methods are inherently thread unsafe: in case of more than one 
+ * thread acting upon the same array (or storage) the results are undefined. 
+ * Also neither they acquire nor block on any monitor. Any necessary 
+ * synchronization should be done externally.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ * @see Store
+ */
+public class PackedLongArray {
+	// values per block (see PackedKernels)
+	private static final int BLOCK_LINES = 6;
+	private static final long BLOCK_MASK = (1L << BLOCK_LINES) - 1;
+	
+	private final long[] data;
+	private final int width;
+	private final long mask;
+	private final long size;
+
+	/**
+	 * Allocates an array of {@code size} values of {@code width} bits each, 
+	 * all of them 0.
+	 * 
+	 * @param width bits per value, from 1 to 64.
+	 * @param size number of values.
+	 * 
+	 * @since 1.0.0
+	 */
+	public PackedLongArray(int width, long size) {
+		this(width, new long[words(width, size)], size);
+	}
+
+	/**
+	 * Wraps the given storage as an array of values of {@code width} bits 
+	 * each. The array holds as many values as fit in the storage.
+	 * 
+	 * @param width bits per value, from 1 to 64.
+	 * @param data storage array.
+	 * 
+	 * @since 1.0.0
+	 */
+	public PackedLongArray(int width, long[] data) {
+		this(width, data, ((long) data.length << LONG_ADDRESS_LINES) / checkWidth(width));
+	}
+
+	private PackedLongArray(int width, long[] data, long size) {
+		this.data = data;
+		this.width = checkWidth(width);
+		this.mask = LONG_DATA_MASK >>> LONG_DATA_LINES - width;
+		this.size = size;
+	}
+
+	private static int checkWidth(int width) {
+		if (width < 1 || width > LONG_DATA_LINES)
+			throw new IllegalArgumentException("Width must be between 1 and 64: " + width);
+		
+		return width;
+	}
+
+	private static int words(int width, long size) {
+		if (size < 0)
+			throw new IllegalArgumentException("Negative size: " + size);
+		
+		long words = (size * checkWidth(width) + LONG_DATA_LINES - 1) >> LONG_ADDRESS_LINES;
+		if (words > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Too many values: " + size);
+		
+		return (int) words;
+	}
+
+	/**
+	 * Returns the storage this array was built upon.
+	 * 
+	 * @since 1.0.0
+	 */
+	public long[] data() {
+		return data;
+	}
+
+	/**
+	 * Returns the number of bits per value.
+	 * 
+	 * @since 1.0.0
+	 */
+	public int width() {
+		return width;
+	}
+
+	/**
+	 * Returns the number of values.
+	 * 
+	 * @since 1.0.0
+	 */
+	public long size() {
+		return size;
+	}
+
+	private void checkRange(long index, long length) {
+		if (index < 0 || index > size)
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + index);
+		
+		if (length < 0 || index + length > size)
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + (index + length));
+	}
+
+	/**
+	 * Reads the value at the given index.
+	 * 
+	 * @param index 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public long get(long index) {
+		checkRange(index, 1);
+		return get0(index);
+	}
+
+	/**
+	 * Writes the value at the given index. Only its {@code width} least 
+	 * significant bits are taken into account.
+	 * 
+	 * @param index 0-based.
+	 * @param v value to be written.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void set(long index, long v) {
+		checkRange(index, 1);
+		set0(index, v);
+	}
+
+	private long get0(long index) {
+		final long bit = index * width;
+		final int j = (int) (bit >> LONG_ADDRESS_LINES);
+		final int shift = (int) bit & LONG_ADDRESS_MASK;
+		
+		if (shift + width <= LONG_DATA_LINES)
+			return data[j] >>> shift & mask;
+		else
+			return (data[j] >>> shift | data[j + 1] << LONG_DATA_LINES - shift) & mask;
+	}
+
+	private void set0(long index, long v) {
+		final long bit = index * width;
+		final int j = (int) (bit >> LONG_ADDRESS_LINES);
+		final int shift = (int) bit & LONG_ADDRESS_MASK;
+		
+		v &= mask;
+		data[j] = data[j] & ~(mask << shift) | v << shift;
+		
+		if (shift + width > LONG_DATA_LINES)
+			data[j + 1] = data[j + 1] & ~(mask >>> LONG_DATA_LINES - shift) | v >>> LONG_DATA_LINES - shift;
+	}
+
+	/**
+	 * Reads {@code length} values, starting from the given index, into the 
+	 * given buffer.
+	 * 
+	 * @param index 0-based index of the first value to be read.
+	 * @param dest destination buffer.
+	 * @param off offset in {@code dest} of the first value read.
+	 * @param length number of values to be read.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void get(long index, long[] dest, int off, int length) {
+		checkRange(index, length);
+		checkBuffer(dest.length, off, length);
+		
+		if (width == LONG_DATA_LINES) {
+			// FAST PATH: values are words
+			System.arraycopy(data, (int) index, dest, off, length);
+			return;
+		}
+		
+		final int end = off + length;
+		
+		// up to the first whole block
+		for (; off < end && (index & BLOCK_MASK) != 0; off++, index++)
+			dest[off] = get0(index);
+		
+		final int blocks = (end - off) >> BLOCK_LINES;
+		if (blocks > 0) {
+			PackedKernels.decode(width, data, (int) (index >> BLOCK_LINES) * width, dest, off, blocks);
+			off += blocks << BLOCK_LINES;
+			index += blocks << BLOCK_LINES;
+		}
+		
+		// after the last whole block
+		for (; off < end; off++, index++)
+			dest[off] = get0(index);
+	}
+
+	/**
+	 * Reads {@code length} values, starting from the given index, into the 
+	 * given buffer. This requires a width of at most 32 bits; values 32 bits 
+	 * wide come out as {@code int}s reinterpreted as signed.
+	 * 
+	 * @param index 0-based index of the first value to be read.
+	 * @param dest destination buffer.
+	 * @param off offset in {@code dest} of the first value read.
+	 * @param length number of values to be read.
+	 * 
+	 * @throws IllegalStateException if this array is more than 32 bits wide.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void get(long index, int[] dest, int off, int length) {
+		checkIntWidth();
+		checkRange(index, length);
+		checkBuffer(dest.length, off, length);
+		
+		final int end = off + length;
+		
+		// up to the first whole block
+		for (; off < end && (index & BLOCK_MASK) != 0; off++, index++)
+			dest[off] = (int) get0(index);
+		
+		final int blocks = (end - off) >> BLOCK_LINES;
+		if (blocks > 0) {
+			PackedKernels.decode(width, data, (int) (index >> BLOCK_LINES) * width, dest, off, blocks);
+			off += blocks << BLOCK_LINES;
+			index += blocks << BLOCK_LINES;
+		}
+		
+		// after the last whole block
+		for (; off < end; off++, index++)
+			dest[off] = (int) get0(index);
+	}
+
+	/**
+	 * Writes {@code length} values, starting from the given index, from the 
+	 * given buffer. Only the {@code width} least significant bits of each 
+	 * value are taken into account.
+	 * 
+	 * @param index 0-based index of the first value to be written.
+	 * @param src source buffer.
+	 * @param off offset in {@code src} of the first value to be written.
+	 * @param length number of values to be written.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void set(long index, long[] src, int off, int length) {
+		checkRange(index, length);
+		checkBuffer(src.length, off, length);
+		
+		if (width == LONG_DATA_LINES) {
+			// FAST PATH: values are words
+			System.arraycopy(src, off, data, (int) index, length);
+			return;
+		}
+		
+		final int end = off + length;
+		
+		// up to the first whole block
+		for (; off < end && (index & BLOCK_MASK) != 0; off++, index++)
+			set0(index, src[off]);
+		
+		final int blocks = (end - off) >> BLOCK_LINES;
+		if (blocks > 0) {
+			PackedKernels.encode(width, src, off, data, (int) (index >> BLOCK_LINES) * width, blocks);
+			off += blocks << BLOCK_LINES;
+			index += blocks << BLOCK_LINES;
+		}
+		
+		// after the last whole block
+		for (; off < end; off++, index++)
+			set0(index, src[off]);
+	}
+
+	/**
+	 * Writes {@code length} values, starting from the given index, from the 
+	 * given buffer. Values are taken as unsigned, and only their 
+	 * {@code width} least significant bits are taken into account.
+	 * 
+	 * @param index 0-based index of the first value to be written.
+	 * @param src source buffer.
+	 * @param off offset in {@code src} of the first value to be written.
+	 * @param length number of values to be written.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void set(long index, int[] src, int off, int length) {
+		checkRange(index, length);
+		checkBuffer(src.length, off, length);
+		
+		final int end = off + length;
+		
+		if (width > Integer.SIZE) {
+			// upper bits are all 0
+			for (; off < end; off++, index++)
+				set0(index, src[off] & 0xFFFFFFFFL);
+			
+			return;
+		}
+		
+		// up to the first whole block
+		for (; off < end && (index & BLOCK_MASK) != 0; off++, index++)
+			set0(index, src[off] & 0xFFFFFFFFL);
+		
+		final int blocks = (end - off) >> BLOCK_LINES;
+		if (blocks > 0) {
+			PackedKernels.encode(width, src, off, data, (int) (index >> BLOCK_LINES) * width, blocks);
+			off += blocks << BLOCK_LINES;
+			index += blocks << BLOCK_LINES;
+		}
+		
+		// after the last whole block
+		for (; off < end; off++, index++)
+			set0(index, src[off] & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Assigns the given value to every value in the given range. The range to 
+	 * be filled extends from index {@code from}, inclusive, to index 
+	 * {@code to}, exclusive. If {@code to <= from} this method does nothing. 
+	 * Only the {@code width} least significant bits of {@code v} are taken 
+	 * into account.
+	 * 
+	 * @param from 0-based index of the first value (inclusive) to be filled.
+	 * @param to 0-based index of the last value (exclusive) to be filled.
+	 * @param v value to be written.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void fill(long from, long to, long v) {
+		if (!(to > from))
+			return;
+		
+		checkRange(from, to - from);
+		
+		v &= mask;
+		
+		if (v == 0 || v == mask) {
+			// FAST PATH: all bits the same
+			Store.fill(data, from * width, to * width, v != 0);
+			return;
+		}
+		
+		// lay out a single value, then keep doubling the filled region
+		set(from, v);
+		for (long n = 1; n < to - from; n <<= 1)
+			Copy.copyFrom(data, from * width, data, (from + n) * width, Math.min(n, to - from - n) * width);
+	}
+
+	/**
+	 * Copies values from the given array, beginning at the specified index, 
+	 * to the specified index of this array. Both arrays must have the same 
+	 * width (they may also be the same array, in which case it behaves as if 
+	 * the values were copied first to a temporary location).
+	 * 
+	 * @param source the source array.
+	 * @param srcIndex 0-based index of the first value to be copied.
+	 * @param destIndex 0-based index in this array where the first value is to 
+	 *        be copied to.
+	 * @param length the number of values to be copied.
+	 * 
+	 * @throws IllegalArgumentException if {@code source} width differs from 
+	 *         this array's.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void copyFrom(PackedLongArray source, long srcIndex, long destIndex, long length) {
+		if (source.width != width)
+			throw new IllegalArgumentException("Width mismatch: " + source.width + " != " + width);
+		
+		source.checkRange(srcIndex, length);
+		checkRange(destIndex, length);
+		
+		Copy.copyFrom(source.data, srcIndex * width, data, destIndex * width, length * width);
+	}
+
+	private static void checkBuffer(int bufferLength, int off, int length) {
+		if (off < 0 || off > bufferLength - length)
+			throw new ArrayIndexOutOfBoundsException("Array index out of range: " + off);
+	}
+
+	private void checkIntWidth() {
+		if (width > Integer.SIZE)
+			throw new IllegalStateException("Values too wide for int: " + width);
+	}
+}
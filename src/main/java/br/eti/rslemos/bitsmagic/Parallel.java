@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join splitting of bit ranges, upon which the {@code parallel*} 
+ * methods are built.
+ * 
+ * <p>A range is halved, on element boundaries, until its pieces are no 
+ * larger than the grain; each piece is then handed to the sequential code. 
+ * Pieces never share an element, so concurrent writers never touch the same 
+ * element. Ranges no larger than the grain are run by the calling thread, 
+ * without any task being created.
+ * </p>
+ * <p>This relies on {@link ForkJoinPool#commonPool()}, hence requires Java 
+ * 8 or later, even though the sequential code runs on Java 6.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+final class Parallel {
+	private Parallel() { /* non-instantiable */ }
+	
+	/**
+	 * Default grain: 16 Mibit (2 MiB).
+	 */
+	static final long GRAIN = 1L << 24;
+	
+	/**
+	 * Sequential work over a piece of the range.
+	 */
+	interface Range {
+		/**
+		 * @return partial result to be summed up, if any.
+		 */
+		long run(long from, long to);
+	}
+	
+	static long invoke(ForkJoinPool pool, long grain, int addressLines, long from, long to, Range range) {
+		if (grain <= 0)
+			throw new IllegalArgumentException("Grain must be positive: " + grain);
+		
+		if (!(to > from))
+			return 0;
+		
+		if (to - from <= grain)
+			return range.run(from, to);
+		
+		if (pool == null)
+			pool = ForkJoinPool.commonPool();
+		
+		return pool.invoke(new Split(range, grain, addressLines, from, to));
+	}
+	
+	private static final class Split extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+		
+		private final Range range;
+		private final long grain;
+		private final int addressLines;
+		private final long from;
+		private final long to;
+		
+		Split(Range range, long grain, int addressLines, long from, long to) {
+			this.range = range;
+			this.grain = grain;
+			this.addressLines = addressLines;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected Long compute() {
+			// halve on an element boundary
+			final long mid = (from + (to - from) / 2) >> addressLines << addressLines;
+			
+			if (to - from <= grain || mid <= from)
+				return range.run(from, to);
+			
+			Split lower = new Split(range, grain, addressLines, from, mid);
+			lower.fork();
+			long result = new Split(range, grain, addressLines, mid, to).compute();
+			return result + lower.join();
+		}
+	}
+}
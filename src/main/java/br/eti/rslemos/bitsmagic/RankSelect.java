@@ -0,0 +1,477 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_MASK;
+
+import java.util.Arrays;
+
+/**
+ * Rank and select index over a {@code long[]} storage.
+ * 
+ * <p>{@link #rank(long) rank(i)} is the number of bits set before bit 
+ * {@code i}; {@link #select(long) select(k)} is the offset of the bit set 
+ * whose rank is {@code k} (that is, the {@code k}<sup>th</sup> bit set, 
+ * 0-based). Both take constant time, except for select over very sparse 
+ * regions, which takes a binary search over the superblocks between two 
+ * samples.
+ * </p>
+ * <p>Changes to superblock counts are not spread over all subsequent 
+ * superblocks at once: they are kept in a Fenwick tree and folded in only 
+ * after about every 16<sup>th</sup> superblock has changed. Meanwhile both 
+ * rank and select take an extra time logarithmic on the number of 
+ * superblocks.
+ * </p>
+ * <p>The index does not copy the storage: it keeps a reference to it, so 
+ * bits are to be read and written straight through {@link Store} (see 
+ * {@link #data()}). Bit mapping follows that of {@link Store}. Offlimits 
+ * bits are hardwired to 0, as usual.
+ * </p>
+ * <p>The index is laid out in two levels: every superblock of 4096 bits 
+ * holds the count of bits set before it ({@code long}), and every block of 
+ * 512 bits holds the count of bits set before it within its superblock 
+ * ({@code char}). Offsets of every 8192<sup>th</sup> bit set are sampled to 
+ * speed up select. Altogether the index takes about 4.7% of the storage 
+ * size, plus less than 0.4% for the samples. Once written to (through 
+ * either {@link #writeBit(long, boolean)} or {@link #update(long, long)}) 
+ * the index also keeps the Fenwick tree of pending changes, one more 
+ * {@code long} per superblock, bringing it to about 6.25%.
+ * </p>
+ * <p>Whenever the storage changes behind the index, the affected range 
+ * should be reported through {@link #update(long, long)}; otherwise the 
+ * results of both rank and select are undefined. Single bits may also be 
+ * written through {@link #writeBit(long, boolean)}, which keeps the index 
+ * up to date.
+ * </p>
+ * <p>All methods are inherently thread unsafe: in case of more than one 
+ * thread acting upon the same index (or storage) the results are undefined. 
+ * Also neither they acquire nor block on any monitor. Any necessary 
+ * synchronization should be done externally.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ * @see Ones
+ */
+public class RankSelect {
+	// 512 bits (8 words) per block
+	static final int BLOCK_LINES = 9;
+	// 4096 bits (8 blocks, 64 words) per superblock
+	static final int SUPERBLOCK_LINES = 12;
+	// one sample every 8192 bits set
+	static final int SAMPLE_LINES = 13;
+	// pending changes are folded after every 16th superblock has changed
+	static final int FOLD_LINES = 4;
+	
+	private static final int WORDS_PER_BLOCK = 1 << BLOCK_LINES - LONG_ADDRESS_LINES;
+	private static final int BLOCKS_PER_SUPERBLOCK = 1 << SUPERBLOCK_LINES - BLOCK_LINES;
+	
+	private final long[] data;
+	
+	// superblocks[s]: bits set before superblock s (the last one holds the total), as of last fold
+	private final long[] superblocks;
+	// Fenwick tree (1-based) of changes to superblock counts since last fold (null until first written to)
+	private long[] deltas;
+	// superblock counts changed since last fold
+	private int pending;
+	// blocks[b]: bits set before block b, counting from the start of its superblock
+	private final char[] blocks;
+	// samples[j]: superblock holding the bit set of rank j << SAMPLE_LINES (a hint, between folds)
+	private int[] samples;
+
+	/**
+	 * Builds the index over the given storage. This takes time linear on the 
+	 * size of the storage.
+	 * 
+	 * @param data storage array.
+	 * 
+	 * @since 1.0.0
+	 */
+	public RankSelect(long[] data) {
+		this.data = data;
+		
+		int nBlocks = (int) (((long) data.length + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK);
+		int nSuperblocks = (nBlocks + BLOCKS_PER_SUPERBLOCK - 1) / BLOCKS_PER_SUPERBLOCK;
+		
+		blocks = new char[nBlocks];
+		superblocks = new long[nSuperblocks + 1];
+		
+		for (int s = 0; s < nSuperblocks; s++)
+			superblocks[s + 1] = superblocks[s] + index(s);
+		
+		sample();
+	}
+
+	/**
+	 * Returns the storage this index was built upon.
+	 * 
+	 * @since 1.0.0
+	 */
+	public long[] data() {
+		return data;
+	}
+
+	/**
+	 * Returns the size, in bits, of the storage.
+	 * 
+	 * @since 1.0.0
+	 */
+	public long size() {
+		return (long) data.length << LONG_ADDRESS_LINES;
+	}
+
+	/**
+	 * Returns the count of bits set in the whole storage.
+	 * 
+	 * @since 1.0.0
+	 */
+	public long ones() {
+		return prefix(superblocks.length - 1);
+	}
+
+	/**
+	 * Returns the count of bits set before the specified bit, that is, in 
+	 * the range from offset 0, inclusive, to offset {@code i}, exclusive.
+	 * 
+	 * <p>This method behaves as {@code Ones.ones(data(), 0L, i)}.
+	 * </p>
+	 * 
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public long rank(long i) {
+		if (i <= 0)
+			return 0;
+		
+		if (i >= size())
+			return ones();
+		
+		final int index = (int) (i >> LONG_ADDRESS_LINES);
+		final int offset = (int) i & LONG_ADDRESS_MASK;
+		final int b = index / WORDS_PER_BLOCK;
+		
+		long rank = prefix(b / BLOCKS_PER_SUPERBLOCK) + blocks[b];
+		
+		for (int j = b * WORDS_PER_BLOCK; j < index; j++)
+			rank += Long.bitCount(data[j]);
+		
+		if (offset != 0)
+			rank += Long.bitCount(data[index] & ~(-1L << offset));
+		
+		return rank;
+	}
+
+	/**
+	 * Returns the offset of the bit set whose rank is {@code k}, that is, 
+	 * the {@code k}<sup>th</sup> bit set (0-based). Returns -1 if there are 
+	 * not that many bits set in the storage.
+	 * 
+	 * <p>This method is the inverse of {@link #rank(long)}: for every 
+	 * {@code k} in range, {@code rank(select(k)) == k}, and the bit at 
+	 * {@code select(k)} is set.
+	 * </p>
+	 * 
+	 * @param k rank of the bit set to be found, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public long select(long k) {
+		if (k < 0 || k >= ones())
+			return -1;
+		
+		// superblock: search between samples (ones may have grown past the last one)
+		final int j = (int) (k >> SAMPLE_LINES);
+		final int s;
+		if (j < samples.length)
+			s = superblock(k, samples[j], j + 1 < samples.length ? samples[j + 1] : superblocks.length - 2);
+		else
+			s = superblock(k, samples.length > 0 ? samples[samples.length - 1] : 0, superblocks.length - 2);
+		
+		long r = k - prefix(s);
+		
+		// block: linear scan within superblock
+		int b = s * BLOCKS_PER_SUPERBLOCK;
+		final int bMax = Math.min(b + BLOCKS_PER_SUPERBLOCK, blocks.length);
+		while (b + 1 < bMax && blocks[b + 1] <= r)
+			b++;
+		
+		r -= blocks[b];
+		
+		// word: linear scan within block
+		int index = b * WORDS_PER_BLOCK;
+		for (int ones; r >= (ones = Long.bitCount(data[index])); index++)
+			r -= ones;
+		
+		return ((long) index << LONG_ADDRESS_LINES) + select(data[index], (int) r);
+	}
+
+	/**
+	 * Reads the specified bit of the storage.
+	 * 
+	 * <p>This method behaves as {@code Store.readBit(data(), i)}.
+	 * </p>
+	 * 
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public boolean readBit(long i) {
+		return Store.readBit(data, i);
+	}
+
+	/**
+	 * Writes the specified bit of the storage, keeping the index up to date.
+	 * 
+	 * <p>This method behaves as {@code Store.writeBit(data(), i, v)} 
+	 * followed by {@code update(i, i + 1)}, though it takes only amortized 
+	 * time polylogarithmic on the number of superblocks. To write many bits, it 
+	 * is faster to write them through {@link Store} then call 
+	 * {@link #update(long, long)} once.
+	 * </p>
+	 * 
+	 * @param i offset, in bits, 0-based.
+	 * @param v value to be written.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void writeBit(long i, boolean v) {
+		if (i < 0 || i >= size() || Store.readBit(data, i) == v)
+			return;
+		
+		Store.writeBit(data, i, v);
+		
+		final int delta = v ? 1 : -1;
+		final int b = (int) (i >> BLOCK_LINES);
+		final int s = b / BLOCKS_PER_SUPERBLOCK;
+		
+		for (int c = b + 1; c < Math.min((s + 1) * BLOCKS_PER_SUPERBLOCK, blocks.length); c++)
+			blocks[c] += delta;
+		
+		change(s, delta);
+		
+		if (pending > superblocks.length >> FOLD_LINES)
+			fold();
+		else
+			resample(s, s);
+	}
+
+	/**
+	 * Brings the index up to date after the specified range of the storage 
+	 * has been changed behind it (through {@link Store}, {@link Copy}, 
+	 * {@link Xor} and so on). The range extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive. If {@code to <= from} this 
+	 * method does nothing.
+	 * 
+	 * <p>Every superblock (4096 bits) overlapping the range is counted again; 
+	 * counts of subsequent superblocks are only shifted, lazily.
+	 * </p>
+	 * 
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) 
+	 *        that may have changed.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) that 
+	 *        may have changed.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void update(long from, long to) {
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (to > size())
+			to = size();
+		
+		if (!(to > from))
+			return;
+		
+		final int s0 = (int) (from >> SUPERBLOCK_LINES);
+		final int s1 = (int) ((to - 1) >> SUPERBLOCK_LINES);
+		
+		if (pending + (s1 - s0 + 1) > superblocks.length >> FOLD_LINES) {
+			// wide range: count it straight into the folded counts
+			fold(s0, s1);
+			return;
+		}
+		
+		for (int s = s0; s <= s1; s++) {
+			final long old = prefix(s + 1) - prefix(s);
+			final int count = index(s);
+			
+			if (count != old)
+				change(s, count - old);
+		}
+		
+		resample(s0, s1);
+	}
+
+	// bits set before superblock t
+	private long prefix(int t) {
+		long prefix = superblocks[t];
+		
+		if (pending != 0)
+			for (int i = t; i > 0; i -= i & -i)
+				prefix += deltas[i];
+		
+		return prefix;
+	}
+
+	private void change(int s, long delta) {
+		if (deltas == null)
+			deltas = new long[superblocks.length];
+		
+		for (int i = s + 1; i < deltas.length; i += i & -i)
+			deltas[i] += delta;
+		
+		pending++;
+	}
+
+	private void fold() {
+		fold(0, -1);
+	}
+
+	// folds pending changes into superblock counts, counting superblocks s0 to s1 (inclusive) again
+	private void fold(int s0, int s1) {
+		// Fenwick tree back to plain changes
+		if (pending != 0)
+			for (int i = deltas.length - 1; i > 0; i--) {
+				final int parent = i + (i & -i);
+				if (parent < deltas.length)
+					deltas[parent] -= deltas[i];
+			}
+		
+		long before = superblocks[0];
+		for (int s = 0; s < superblocks.length - 1; s++) {
+			long count = superblocks[s + 1] - before;
+			if (s0 <= s && s <= s1)
+				count = index(s);
+			else if (pending != 0)
+				count += deltas[s + 1];
+			
+			before = superblocks[s + 1];
+			superblocks[s + 1] = superblocks[s] + count;
+		}
+		
+		if (pending != 0)
+			Arrays.fill(deltas, 0);
+		
+		pending = 0;
+		sample();
+	}
+
+	// counts blocks of superblock s, returning its total
+	private int index(int s) {
+		final int b0 = s * BLOCKS_PER_SUPERBLOCK;
+		final int b1 = Math.min(b0 + BLOCKS_PER_SUPERBLOCK, blocks.length);
+		
+		int count = 0;
+		for (int b = b0; b < b1; b++) {
+			blocks[b] = (char) count;
+			
+			final int j1 = Math.min((b + 1) * WORDS_PER_BLOCK, data.length);
+			for (int j = b * WORDS_PER_BLOCK; j < j1; j++)
+				count += Long.bitCount(data[j]);
+		}
+		
+		return count;
+	}
+
+	private void sample() {
+		samples = new int[(int) ((ones() + (1 << SAMPLE_LINES) - 1) >> SAMPLE_LINES)];
+		
+		int j = 0;
+		for (int s = 0; s < superblocks.length - 1; s++)
+			while (j < samples.length && (long) j << SAMPLE_LINES < superblocks[s + 1])
+				samples[j++] = s;
+	}
+
+	// refreshes the samples whose range overlaps superblocks s0 to s1 (inclusive)
+	private void resample(int s0, int s1) {
+		int lo = 0;
+		int hi = samples.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (samples[mid] < s0)
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		
+		final int last = superblocks.length - 2;
+		for (int j = Math.max(lo - 1, 0); j < samples.length && (j < lo || samples[j] <= s1); j++)
+			samples[j] = superblock((long) j << SAMPLE_LINES, samples[j], j + 1 < samples.length ? samples[j + 1] : last);
+	}
+
+	// last superblock starting at or below rank k, around hints lo and hi
+	private int superblock(long k, int lo, int hi) {
+		final int last = superblocks.length - 2;
+		
+		if (hi > last)
+			hi = last;
+		if (lo > hi)
+			lo = hi;
+		
+		// hints may be off by the changes since last fold: widen them
+		for (int step = 1; lo > 0 && prefix(lo) > k; step <<= 1) {
+			hi = lo;
+			lo = Math.max(lo - step, 0);
+		}
+		
+		for (int step = 1; hi < last && prefix(hi + 1) <= k; step <<= 1) {
+			lo = hi + 1;
+			hi = Math.min(hi + step, last);
+		}
+		
+		// binary search
+		while (lo < hi) {
+			int mid = (lo + hi + 1) >>> 1;
+			if (prefix(mid) <= k)
+				lo = mid;
+			else
+				hi = mid - 1;
+		}
+		
+		return lo;
+	}
+
+	// offset of the bit set of rank r (0 <= r < bitCount(x)) within x
+	static int select(long x, int r) {
+		int offset = 0;
+		
+		// skip whole bytes
+		for (int ones; r >= (ones = Long.bitCount(x & 0xFF)); x >>>= 8, offset += 8)
+			r -= ones;
+		
+		// then clear the r lowest bits set
+		for (; r > 0; r--)
+			x &= x - 1;
+		
+		return offset + Long.numberOfTrailingZeros(x);
+	}
+}
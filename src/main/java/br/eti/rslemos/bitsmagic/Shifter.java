@@ -27,6 +27,27 @@
  *******************************************************************************/
 package br.eti.rslemos.bitsmagic;
 
+import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.BYTE_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.CHAR_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.INT_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.INT_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.INT_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.INT_DATA_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_LINES;
+import static br.eti.rslemos.bitsmagic.Store.LONG_ADDRESS_MASK;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_LINES;
+import static br.eti.rslemos.bitsmagic.Store.LONG_DATA_MASK;
+
 /**
  * This class consists exclusively of static methods that implement a barrel 
  * shifter over arrays of integral primitive types.
@@ -40,8 +61,9 @@ package br.eti.rslemos.bitsmagic;
  * operators: the shift amount is always taken modulo shift region width.
  * </p>
  * <p>Offlimits bits are hardwired to 0: when shifted in they appear as 0; 
- * when shifted out they are simply discarded. Methods in this class should 
- * never throw {@code ArrayIndexOutOfBoundsException}.
+ * when shifted out they are simply discarded. Rotations take them into 
+ * account as well, as if they were 0. Methods in this class should never 
+ * throw {@code ArrayIndexOutOfBoundsException}.
  * </p>
  * <p>{@code NullPointerException} is thrown if the given array is {@code null}.
  * </p>
@@ -104,8 +126,290 @@ public class Shifter {
 		if (amount == 0)
 			return;
 		
-		Copy.safeCopyFrom(data, from + amount, data, from, to - from - amount);
-		Store.fill(data, to - amount, to, false);
+		// offlimits bits neither are read nor written
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << BYTE_ADDRESS_LINES);
+		
+		shr0(data, lo, hi, amount);
+	}
+	
+	/**
+	 * Shifts to the left (towards MSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The real amount of bits shifted 
+	 * will be between 0, inclusive, and {@code to - from}, exclusive. If the 
+	 * real amount of bits shifted is 0, the storage is left unchanged. The 
+	 * shifted in bits to the right (on LSB) are hardwired to 0.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        shifted to the left.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        shifted to the left.
+	 * @param amount number of bits to shift to left. This number is taken 
+	 *        modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void shl(byte[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		// offlimits bits neither are read nor written
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << BYTE_ADDRESS_LINES);
+		
+		shl0(data, lo, hi, amount);
+	}
+	
+	/**
+	 * Rotates to the right (towards LSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The bits shifted out on the 
+	 * LSB end of the region are shifted back in on the MSB end.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        rotated to the right.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        rotated to the right.
+	 * @param amount number of bits to rotate to right. This number is 
+	 *        taken modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void rotr(byte[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		rotr0(data, from, to, amount);
+	}
+	
+	/**
+	 * Rotates to the left (towards MSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The bits shifted out on the 
+	 * MSB end of the region are shifted back in on the LSB end.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        rotated to the left.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        rotated to the left.
+	 * @param amount number of bits to rotate to left. This number is 
+	 *        taken modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void rotl(byte[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		rotr0(data, from, to, to - from - amount);
+	}
+	
+	private static void rotr0(byte[] data, int from, int to, int amount) {
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << BYTE_ADDRESS_LINES);
+		final int length = hi - lo;
+		
+		if (length <= 0)
+			return;
+		
+		if (length == to - from) {
+			rotr00(data, lo, hi, amount);
+			return;
+		}
+		
+		// some (offlimits) bits are always 0: those coming from below the 
+		// region end up shifted left, and those from above end up between 
+		// the two parts of the rotated region
+		if (amount < length) {
+			rotr00(data, lo, hi, amount);
+			shl0(data, hi - amount, hi, to - from - length);
+		} else
+			shl0(data, lo, hi, to - from - amount);
+	}
+	
+	// in-bounds region, 0 < amount < to - from
+	private static void rotr00(byte[] data, int from, int to, int amount) {
+		final int length = to - from;
+		
+		if (amount <= LONG_DATA_LINES) {
+			// FAST PATH: the bits rotated out fit in a long
+			final long save = read(data, from, amount);
+			shr0(data, from, to, amount);
+			write(data, to - amount, amount, save);
+		} else if (length - amount <= LONG_DATA_LINES) {
+			final long save = read(data, to - (length - amount), length - amount);
+			shl0(data, from, to, length - amount);
+			write(data, from, length - amount, save);
+		} else {
+			// rotation by three reversals
+			reverse0(data, from, from + amount);
+			reverse0(data, from + amount, to);
+			reverse0(data, from, to);
+		}
+	}
+	
+	// in-bounds region, 0 < amount
+	private static void shr0(byte[] data, int from, int to, int amount) {
+		if (amount >= to - from) {
+			Store.fill(data, from, to, false);
+			return;
+		}
+		
+		final int index0 = from >> BYTE_ADDRESS_LINES;
+		final int index1 = (to - 1) >> BYTE_ADDRESS_LINES;
+		final int skip = amount >> BYTE_ADDRESS_LINES;
+		final int offset = amount & BYTE_ADDRESS_MASK;
+		
+		// bits of the region within the least and the most significant elements
+		final int mask0 = BYTE_DATA_MASK << (from & BYTE_ADDRESS_MASK) & BYTE_DATA_MASK;
+		final int mask1 = BYTE_DATA_MASK >>> BYTE_DATA_LINES - 1 - ((to - 1) & BYTE_ADDRESS_MASK);
+		final int top = data[index1] & BYTE_DATA_MASK & mask1;
+		
+		// funnel shift, from the least significant element up: every element 
+		// is read (ahead of being written) and written exactly once
+		int lo = upTo(data, index0 + skip, index1, top);
+		int hi = upTo(data, index0 + skip + 1, index1, top);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = (byte) (data[index0] & ~MASK | (lo >>> offset | hi << 1 << BYTE_DATA_LINES - 1 - offset) & MASK);
+			return;
+		}
+		
+		data[index0] = (byte) (data[index0] & ~mask0 | (lo >>> offset | hi << 1 << BYTE_DATA_LINES - 1 - offset) & mask0);
+		
+		int j = index0 + 1;
+		
+		for (; j < index1 - skip - 1; j++) {
+			lo = hi;
+			hi = data[j + skip + 1] & BYTE_DATA_MASK;
+			data[j] = (byte) (lo >>> offset | hi << 1 << BYTE_DATA_LINES - 1 - offset);
+		}
+		
+		// reaching the end of the region
+		for (; j < index1; j++) {
+			lo = hi;
+			hi = upTo(data, j + skip + 1, index1, top);
+			data[j] = (byte) (lo >>> offset | hi << 1 << BYTE_DATA_LINES - 1 - offset);
+		}
+		
+		data[index1] = (byte) (data[index1] & ~mask1 | hi >>> offset & mask1);
+	}
+	
+	// in-bounds region, 0 < amount
+	private static void shl0(byte[] data, int from, int to, int amount) {
+		if (amount >= to - from) {
+			Store.fill(data, from, to, false);
+			return;
+		}
+		
+		final int index0 = from >> BYTE_ADDRESS_LINES;
+		final int index1 = (to - 1) >> BYTE_ADDRESS_LINES;
+		final int skip = amount >> BYTE_ADDRESS_LINES;
+		final int offset = amount & BYTE_ADDRESS_MASK;
+		
+		// bits of the region within the least and the most significant elements
+		final int mask0 = BYTE_DATA_MASK << (from & BYTE_ADDRESS_MASK) & BYTE_DATA_MASK;
+		final int mask1 = BYTE_DATA_MASK >>> BYTE_DATA_LINES - 1 - ((to - 1) & BYTE_ADDRESS_MASK);
+		final int bottom = data[index0] & BYTE_DATA_MASK & mask0;
+		
+		// funnel shift, from the most significant element down: every element 
+		// is read (ahead of being written) and written exactly once
+		int hi = downTo(data, index1 - skip, index0, bottom);
+		int lo = downTo(data, index1 - skip - 1, index0, bottom);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = (byte) (data[index0] & ~MASK | (hi << offset | lo >>> 1 >>> BYTE_DATA_LINES - 1 - offset) & MASK);
+			return;
+		}
+		
+		data[index1] = (byte) (data[index1] & ~mask1 | (hi << offset | lo >>> 1 >>> BYTE_DATA_LINES - 1 - offset) & mask1);
+		
+		int j = index1 - 1;
+		
+		for (; j > index0 + skip + 1; j--) {
+			hi = lo;
+			lo = data[j - skip - 1] & BYTE_DATA_MASK;
+			data[j] = (byte) (hi << offset | lo >>> 1 >>> BYTE_DATA_LINES - 1 - offset);
+		}
+		
+		// reaching the start of the region
+		for (; j > index0; j--) {
+			hi = lo;
+			lo = downTo(data, j - skip - 1, index0, bottom);
+			data[j] = (byte) (hi << offset | lo >>> 1 >>> BYTE_DATA_LINES - 1 - offset);
+		}
+		
+		data[index0] = (byte) (data[index0] & ~mask0 | lo << offset & mask0);
+	}
+	
+	// element k of a region ending at element index1 (whose bits within the region are given); 0 above it
+	private static int upTo(byte[] data, int k, int index1, int top) {
+		return k < index1 ? data[k] & BYTE_DATA_MASK : k == index1 ? top : 0;
+	}
+	
+	// element k of a region starting at element index0 (whose bits within the region are given); 0 below it
+	private static int downTo(byte[] data, int k, int index0, int bottom) {
+		return k > index0 ? data[k] & BYTE_DATA_MASK : k == index0 ? bottom : 0;
+	}
+	
+	// in-bounds region
+	private static void reverse0(byte[] data, int from, int to) {
+		// swap (reversed) chunks of up to 64 bits from both ends, moving inwards
+		while (to - from > 1) {
+			final int n = Math.min(LONG_DATA_LINES, (to - from) >> 1);
+			final long x = read(data, from, n);
+			final long y = read(data, to - n, n);
+			write(data, from, n, Long.reverse(y) >>> LONG_DATA_LINES - n);
+			write(data, to - n, n, Long.reverse(x) >>> LONG_DATA_LINES - n);
+			from += n;
+			to -= n;
+		}
+	}
+	
+	// n bits (1 to 64) from bit i on, as the least significant bits of a long
+	private static long read(byte[] data, int i, int n) {
+		return Store.readLong(data, i) & LONG_DATA_MASK >>> LONG_DATA_LINES - n;
+	}
+	
+	// writes the n (1 to 64) least significant bits of v from bit i on
+	private static void write(byte[] data, int i, int n, long v) {
+		final long MASK = LONG_DATA_MASK >>> LONG_DATA_LINES - n;
+		Store.writeLong(data, i, Store.readLong(data, i) & ~MASK | v);
 	}
 	
 	/********** char[] **********/
@@ -141,14 +445,15 @@ public class Shifter {
 		if (amount == 0)
 			return;
 		
-		Copy.safeCopyFrom(data, from + amount, data, from, to - from - amount);
-		Store.fill(data, to - amount, to, false);
+		// offlimits bits neither are read nor written
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << CHAR_ADDRESS_LINES);
+		
+		shr0(data, lo, hi, amount);
 	}
 	
-	/********** short[] **********/
-	
 	/**
-	 * Shifts to the right (towards LSB) the specified region of the given 
+	 * Shifts to the left (towards MSB) the specified region of the given 
 	 * storage by the specified amount. The range considered extends from 
 	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
 	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
@@ -156,20 +461,20 @@ public class Shifter {
 	 * added {@code to - from} until positive. The real amount of bits shifted 
 	 * will be between 0, inclusive, and {@code to - from}, exclusive. If the 
 	 * real amount of bits shifted is 0, the storage is left unchanged. The 
-	 * shifted in bits to the left (on MSB) are hardwired to 0.
+	 * shifted in bits to the right (on LSB) are hardwired to 0.
 	 * 
 	 * @param data storage array.
 	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
-	 *        shifted to the right.
+	 *        shifted to the left.
 	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
-	 *        shifted to the right.
-	 * @param amount number of bits to shift to right. This number is taken 
+	 *        shifted to the left.
+	 * @param amount number of bits to shift to left. This number is taken 
 	 *        modulo {@code to - from}. If negative, it is added 
 	 *        {@code to - from} until positive.
 	 * 
 	 * @since 1.0.0
 	 */
-	public static void shr(short[] data, int from, int to, int amount) {
+	public static void shl(char[] data, int from, int to, int amount) {
 		if (data == null)
 			throw new NullPointerException();
 
@@ -178,11 +483,255 @@ public class Shifter {
 		if (amount == 0)
 			return;
 		
-		Copy.safeCopyFrom(data, from + amount, data, from, to - from - amount);
-		Store.fill(data, to - amount, to, false);
+		// offlimits bits neither are read nor written
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << CHAR_ADDRESS_LINES);
+		
+		shl0(data, lo, hi, amount);
 	}
 	
-	/********** int[] **********/
+	/**
+	 * Rotates to the right (towards LSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The bits shifted out on the 
+	 * LSB end of the region are shifted back in on the MSB end.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        rotated to the right.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        rotated to the right.
+	 * @param amount number of bits to rotate to right. This number is 
+	 *        taken modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void rotr(char[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		rotr0(data, from, to, amount);
+	}
+	
+	/**
+	 * Rotates to the left (towards MSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The bits shifted out on the 
+	 * MSB end of the region are shifted back in on the LSB end.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        rotated to the left.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        rotated to the left.
+	 * @param amount number of bits to rotate to left. This number is 
+	 *        taken modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void rotl(char[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		rotr0(data, from, to, to - from - amount);
+	}
+	
+	private static void rotr0(char[] data, int from, int to, int amount) {
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << CHAR_ADDRESS_LINES);
+		final int length = hi - lo;
+		
+		if (length <= 0)
+			return;
+		
+		if (length == to - from) {
+			rotr00(data, lo, hi, amount);
+			return;
+		}
+		
+		// some (offlimits) bits are always 0: those coming from below the 
+		// region end up shifted left, and those from above end up between 
+		// the two parts of the rotated region
+		if (amount < length) {
+			rotr00(data, lo, hi, amount);
+			shl0(data, hi - amount, hi, to - from - length);
+		} else
+			shl0(data, lo, hi, to - from - amount);
+	}
+	
+	// in-bounds region, 0 < amount < to - from
+	private static void rotr00(char[] data, int from, int to, int amount) {
+		final int length = to - from;
+		
+		if (amount <= LONG_DATA_LINES) {
+			// FAST PATH: the bits rotated out fit in a long
+			final long save = read(data, from, amount);
+			shr0(data, from, to, amount);
+			write(data, to - amount, amount, save);
+		} else if (length - amount <= LONG_DATA_LINES) {
+			final long save = read(data, to - (length - amount), length - amount);
+			shl0(data, from, to, length - amount);
+			write(data, from, length - amount, save);
+		} else {
+			// rotation by three reversals
+			reverse0(data, from, from + amount);
+			reverse0(data, from + amount, to);
+			reverse0(data, from, to);
+		}
+	}
+	
+	// in-bounds region, 0 < amount
+	private static void shr0(char[] data, int from, int to, int amount) {
+		if (amount >= to - from) {
+			Store.fill(data, from, to, false);
+			return;
+		}
+		
+		final int index0 = from >> CHAR_ADDRESS_LINES;
+		final int index1 = (to - 1) >> CHAR_ADDRESS_LINES;
+		final int skip = amount >> CHAR_ADDRESS_LINES;
+		final int offset = amount & CHAR_ADDRESS_MASK;
+		
+		// bits of the region within the least and the most significant elements
+		final int mask0 = CHAR_DATA_MASK << (from & CHAR_ADDRESS_MASK) & CHAR_DATA_MASK;
+		final int mask1 = CHAR_DATA_MASK >>> CHAR_DATA_LINES - 1 - ((to - 1) & CHAR_ADDRESS_MASK);
+		final int top = data[index1] & mask1;
+		
+		// funnel shift, from the least significant element up: every element 
+		// is read (ahead of being written) and written exactly once
+		int lo = upTo(data, index0 + skip, index1, top);
+		int hi = upTo(data, index0 + skip + 1, index1, top);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = (char) (data[index0] & ~MASK | (lo >>> offset | hi << 1 << CHAR_DATA_LINES - 1 - offset) & MASK);
+			return;
+		}
+		
+		data[index0] = (char) (data[index0] & ~mask0 | (lo >>> offset | hi << 1 << CHAR_DATA_LINES - 1 - offset) & mask0);
+		
+		int j = index0 + 1;
+		
+		for (; j < index1 - skip - 1; j++) {
+			lo = hi;
+			hi = data[j + skip + 1];
+			data[j] = (char) (lo >>> offset | hi << 1 << CHAR_DATA_LINES - 1 - offset);
+		}
+		
+		// reaching the end of the region
+		for (; j < index1; j++) {
+			lo = hi;
+			hi = upTo(data, j + skip + 1, index1, top);
+			data[j] = (char) (lo >>> offset | hi << 1 << CHAR_DATA_LINES - 1 - offset);
+		}
+		
+		data[index1] = (char) (data[index1] & ~mask1 | hi >>> offset & mask1);
+	}
+	
+	// in-bounds region, 0 < amount
+	private static void shl0(char[] data, int from, int to, int amount) {
+		if (amount >= to - from) {
+			Store.fill(data, from, to, false);
+			return;
+		}
+		
+		final int index0 = from >> CHAR_ADDRESS_LINES;
+		final int index1 = (to - 1) >> CHAR_ADDRESS_LINES;
+		final int skip = amount >> CHAR_ADDRESS_LINES;
+		final int offset = amount & CHAR_ADDRESS_MASK;
+		
+		// bits of the region within the least and the most significant elements
+		final int mask0 = CHAR_DATA_MASK << (from & CHAR_ADDRESS_MASK) & CHAR_DATA_MASK;
+		final int mask1 = CHAR_DATA_MASK >>> CHAR_DATA_LINES - 1 - ((to - 1) & CHAR_ADDRESS_MASK);
+		final int bottom = data[index0] & mask0;
+		
+		// funnel shift, from the most significant element down: every element 
+		// is read (ahead of being written) and written exactly once
+		int hi = downTo(data, index1 - skip, index0, bottom);
+		int lo = downTo(data, index1 - skip - 1, index0, bottom);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = (char) (data[index0] & ~MASK | (hi << offset | lo >>> 1 >>> CHAR_DATA_LINES - 1 - offset) & MASK);
+			return;
+		}
+		
+		data[index1] = (char) (data[index1] & ~mask1 | (hi << offset | lo >>> 1 >>> CHAR_DATA_LINES - 1 - offset) & mask1);
+		
+		int j = index1 - 1;
+		
+		for (; j > index0 + skip + 1; j--) {
+			hi = lo;
+			lo = data[j - skip - 1];
+			data[j] = (char) (hi << offset | lo >>> 1 >>> CHAR_DATA_LINES - 1 - offset);
+		}
+		
+		// reaching the start of the region
+		for (; j > index0; j--) {
+			hi = lo;
+			lo = downTo(data, j - skip - 1, index0, bottom);
+			data[j] = (char) (hi << offset | lo >>> 1 >>> CHAR_DATA_LINES - 1 - offset);
+		}
+		
+		data[index0] = (char) (data[index0] & ~mask0 | lo << offset & mask0);
+	}
+	
+	// element k of a region ending at element index1 (whose bits within the region are given); 0 above it
+	private static int upTo(char[] data, int k, int index1, int top) {
+		return k < index1 ? data[k] : k == index1 ? top : 0;
+	}
+	
+	// element k of a region starting at element index0 (whose bits within the region are given); 0 below it
+	private static int downTo(char[] data, int k, int index0, int bottom) {
+		return k > index0 ? data[k] : k == index0 ? bottom : 0;
+	}
+	
+	// in-bounds region
+	private static void reverse0(char[] data, int from, int to) {
+		// swap (reversed) chunks of up to 64 bits from both ends, moving inwards
+		while (to - from > 1) {
+			final int n = Math.min(LONG_DATA_LINES, (to - from) >> 1);
+			final long x = read(data, from, n);
+			final long y = read(data, to - n, n);
+			write(data, from, n, Long.reverse(y) >>> LONG_DATA_LINES - n);
+			write(data, to - n, n, Long.reverse(x) >>> LONG_DATA_LINES - n);
+			from += n;
+			to -= n;
+		}
+	}
+	
+	// n bits (1 to 64) from bit i on, as the least significant bits of a long
+	private static long read(char[] data, int i, int n) {
+		return Store.readLong(data, i) & LONG_DATA_MASK >>> LONG_DATA_LINES - n;
+	}
+	
+	// writes the n (1 to 64) least significant bits of v from bit i on
+	private static void write(char[] data, int i, int n, long v) {
+		final long MASK = LONG_DATA_MASK >>> LONG_DATA_LINES - n;
+		Store.writeLong(data, i, Store.readLong(data, i) & ~MASK | v);
+	}
+	
+	/********** short[] **********/
 	
 	/**
 	 * Shifts to the right (towards LSB) the specified region of the given 
@@ -206,7 +755,7 @@ public class Shifter {
 	 * 
 	 * @since 1.0.0
 	 */
-	public static void shr(int[] data, int from, int to, int amount) {
+	public static void shr(short[] data, int from, int to, int amount) {
 		if (data == null)
 			throw new NullPointerException();
 
@@ -215,14 +764,15 @@ public class Shifter {
 		if (amount == 0)
 			return;
 		
-		Copy.safeCopyFrom(data, from + amount, data, from, to - from - amount);
-		Store.fill(data, to - amount, to, false);
+		// offlimits bits neither are read nor written
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << SHORT_ADDRESS_LINES);
+		
+		shr0(data, lo, hi, amount);
 	}
 	
-	/********** long[] **********/
-	
 	/**
-	 * Shifts to the right (towards LSB) the specified region of the given 
+	 * Shifts to the left (towards MSB) the specified region of the given 
 	 * storage by the specified amount. The range considered extends from 
 	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
 	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
@@ -230,20 +780,20 @@ public class Shifter {
 	 * added {@code to - from} until positive. The real amount of bits shifted 
 	 * will be between 0, inclusive, and {@code to - from}, exclusive. If the 
 	 * real amount of bits shifted is 0, the storage is left unchanged. The 
-	 * shifted in bits to the left (on MSB) are hardwired to 0.
+	 * shifted in bits to the right (on LSB) are hardwired to 0.
 	 * 
 	 * @param data storage array.
 	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
-	 *        shifted to the right.
+	 *        shifted to the left.
 	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
-	 *        shifted to the right.
-	 * @param amount number of bits to shift to right. This number is taken 
+	 *        shifted to the left.
+	 * @param amount number of bits to shift to left. This number is taken 
 	 *        modulo {@code to - from}. If negative, it is added 
 	 *        {@code to - from} until positive.
 	 * 
 	 * @since 1.0.0
 	 */
-	public static void shr(long[] data, int from, int to, int amount) {
+	public static void shl(short[] data, int from, int to, int amount) {
 		if (data == null)
 			throw new NullPointerException();
 
@@ -252,7 +802,889 @@ public class Shifter {
 		if (amount == 0)
 			return;
 		
-		Copy.safeCopyFrom(data, from + amount, data, from, to - from - amount);
-		Store.fill(data, to - amount, to, false);
+		// offlimits bits neither are read nor written
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << SHORT_ADDRESS_LINES);
+		
+		shl0(data, lo, hi, amount);
+	}
+	
+	/**
+	 * Rotates to the right (towards LSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The bits shifted out on the 
+	 * LSB end of the region are shifted back in on the MSB end.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        rotated to the right.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        rotated to the right.
+	 * @param amount number of bits to rotate to right. This number is 
+	 *        taken modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void rotr(short[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		rotr0(data, from, to, amount);
+	}
+	
+	/**
+	 * Rotates to the left (towards MSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The bits shifted out on the 
+	 * MSB end of the region are shifted back in on the LSB end.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        rotated to the left.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        rotated to the left.
+	 * @param amount number of bits to rotate to left. This number is 
+	 *        taken modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void rotl(short[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		rotr0(data, from, to, to - from - amount);
+	}
+	
+	private static void rotr0(short[] data, int from, int to, int amount) {
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << SHORT_ADDRESS_LINES);
+		final int length = hi - lo;
+		
+		if (length <= 0)
+			return;
+		
+		if (length == to - from) {
+			rotr00(data, lo, hi, amount);
+			return;
+		}
+		
+		// some (offlimits) bits are always 0: those coming from below the 
+		// region end up shifted left, and those from above end up between 
+		// the two parts of the rotated region
+		if (amount < length) {
+			rotr00(data, lo, hi, amount);
+			shl0(data, hi - amount, hi, to - from - length);
+		} else
+			shl0(data, lo, hi, to - from - amount);
+	}
+	
+	// in-bounds region, 0 < amount < to - from
+	private static void rotr00(short[] data, int from, int to, int amount) {
+		final int length = to - from;
+		
+		if (amount <= LONG_DATA_LINES) {
+			// FAST PATH: the bits rotated out fit in a long
+			final long save = read(data, from, amount);
+			shr0(data, from, to, amount);
+			write(data, to - amount, amount, save);
+		} else if (length - amount <= LONG_DATA_LINES) {
+			final long save = read(data, to - (length - amount), length - amount);
+			shl0(data, from, to, length - amount);
+			write(data, from, length - amount, save);
+		} else {
+			// rotation by three reversals
+			reverse0(data, from, from + amount);
+			reverse0(data, from + amount, to);
+			reverse0(data, from, to);
+		}
+	}
+	
+	// in-bounds region, 0 < amount
+	private static void shr0(short[] data, int from, int to, int amount) {
+		if (amount >= to - from) {
+			Store.fill(data, from, to, false);
+			return;
+		}
+		
+		final int index0 = from >> SHORT_ADDRESS_LINES;
+		final int index1 = (to - 1) >> SHORT_ADDRESS_LINES;
+		final int skip = amount >> SHORT_ADDRESS_LINES;
+		final int offset = amount & SHORT_ADDRESS_MASK;
+		
+		// bits of the region within the least and the most significant elements
+		final int mask0 = SHORT_DATA_MASK << (from & SHORT_ADDRESS_MASK) & SHORT_DATA_MASK;
+		final int mask1 = SHORT_DATA_MASK >>> SHORT_DATA_LINES - 1 - ((to - 1) & SHORT_ADDRESS_MASK);
+		final int top = data[index1] & SHORT_DATA_MASK & mask1;
+		
+		// funnel shift, from the least significant element up: every element 
+		// is read (ahead of being written) and written exactly once
+		int lo = upTo(data, index0 + skip, index1, top);
+		int hi = upTo(data, index0 + skip + 1, index1, top);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = (short) (data[index0] & ~MASK | (lo >>> offset | hi << 1 << SHORT_DATA_LINES - 1 - offset) & MASK);
+			return;
+		}
+		
+		data[index0] = (short) (data[index0] & ~mask0 | (lo >>> offset | hi << 1 << SHORT_DATA_LINES - 1 - offset) & mask0);
+		
+		int j = index0 + 1;
+		
+		for (; j < index1 - skip - 1; j++) {
+			lo = hi;
+			hi = data[j + skip + 1] & SHORT_DATA_MASK;
+			data[j] = (short) (lo >>> offset | hi << 1 << SHORT_DATA_LINES - 1 - offset);
+		}
+		
+		// reaching the end of the region
+		for (; j < index1; j++) {
+			lo = hi;
+			hi = upTo(data, j + skip + 1, index1, top);
+			data[j] = (short) (lo >>> offset | hi << 1 << SHORT_DATA_LINES - 1 - offset);
+		}
+		
+		data[index1] = (short) (data[index1] & ~mask1 | hi >>> offset & mask1);
+	}
+	
+	// in-bounds region, 0 < amount
+	private static void shl0(short[] data, int from, int to, int amount) {
+		if (amount >= to - from) {
+			Store.fill(data, from, to, false);
+			return;
+		}
+		
+		final int index0 = from >> SHORT_ADDRESS_LINES;
+		final int index1 = (to - 1) >> SHORT_ADDRESS_LINES;
+		final int skip = amount >> SHORT_ADDRESS_LINES;
+		final int offset = amount & SHORT_ADDRESS_MASK;
+		
+		// bits of the region within the least and the most significant elements
+		final int mask0 = SHORT_DATA_MASK << (from & SHORT_ADDRESS_MASK) & SHORT_DATA_MASK;
+		final int mask1 = SHORT_DATA_MASK >>> SHORT_DATA_LINES - 1 - ((to - 1) & SHORT_ADDRESS_MASK);
+		final int bottom = data[index0] & SHORT_DATA_MASK & mask0;
+		
+		// funnel shift, from the most significant element down: every element 
+		// is read (ahead of being written) and written exactly once
+		int hi = downTo(data, index1 - skip, index0, bottom);
+		int lo = downTo(data, index1 - skip - 1, index0, bottom);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = (short) (data[index0] & ~MASK | (hi << offset | lo >>> 1 >>> SHORT_DATA_LINES - 1 - offset) & MASK);
+			return;
+		}
+		
+		data[index1] = (short) (data[index1] & ~mask1 | (hi << offset | lo >>> 1 >>> SHORT_DATA_LINES - 1 - offset) & mask1);
+		
+		int j = index1 - 1;
+		
+		for (; j > index0 + skip + 1; j--) {
+			hi = lo;
+			lo = data[j - skip - 1] & SHORT_DATA_MASK;
+			data[j] = (short) (hi << offset | lo >>> 1 >>> SHORT_DATA_LINES - 1 - offset);
+		}
+		
+		// reaching the start of the region
+		for (; j > index0; j--) {
+			hi = lo;
+			lo = downTo(data, j - skip - 1, index0, bottom);
+			data[j] = (short) (hi << offset | lo >>> 1 >>> SHORT_DATA_LINES - 1 - offset);
+		}
+		
+		data[index0] = (short) (data[index0] & ~mask0 | lo << offset & mask0);
+	}
+	
+	// element k of a region ending at element index1 (whose bits within the region are given); 0 above it
+	private static int upTo(short[] data, int k, int index1, int top) {
+		return k < index1 ? data[k] & SHORT_DATA_MASK : k == index1 ? top : 0;
+	}
+	
+	// element k of a region starting at element index0 (whose bits within the region are given); 0 below it
+	private static int downTo(short[] data, int k, int index0, int bottom) {
+		return k > index0 ? data[k] & SHORT_DATA_MASK : k == index0 ? bottom : 0;
+	}
+	
+	// in-bounds region
+	private static void reverse0(short[] data, int from, int to) {
+		// swap (reversed) chunks of up to 64 bits from both ends, moving inwards
+		while (to - from > 1) {
+			final int n = Math.min(LONG_DATA_LINES, (to - from) >> 1);
+			final long x = read(data, from, n);
+			final long y = read(data, to - n, n);
+			write(data, from, n, Long.reverse(y) >>> LONG_DATA_LINES - n);
+			write(data, to - n, n, Long.reverse(x) >>> LONG_DATA_LINES - n);
+			from += n;
+			to -= n;
+		}
+	}
+	
+	// n bits (1 to 64) from bit i on, as the least significant bits of a long
+	private static long read(short[] data, int i, int n) {
+		return Store.readLong(data, i) & LONG_DATA_MASK >>> LONG_DATA_LINES - n;
+	}
+	
+	// writes the n (1 to 64) least significant bits of v from bit i on
+	private static void write(short[] data, int i, int n, long v) {
+		final long MASK = LONG_DATA_MASK >>> LONG_DATA_LINES - n;
+		Store.writeLong(data, i, Store.readLong(data, i) & ~MASK | v);
+	}
+	
+	/********** int[] **********/
+	
+	/**
+	 * Shifts to the right (towards LSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The real amount of bits shifted 
+	 * will be between 0, inclusive, and {@code to - from}, exclusive. If the 
+	 * real amount of bits shifted is 0, the storage is left unchanged. The 
+	 * shifted in bits to the left (on MSB) are hardwired to 0.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        shifted to the right.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        shifted to the right.
+	 * @param amount number of bits to shift to right. This number is taken 
+	 *        modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void shr(int[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		// offlimits bits neither are read nor written
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << INT_ADDRESS_LINES);
+		
+		shr0(data, lo, hi, amount);
+	}
+	
+	/**
+	 * Shifts to the left (towards MSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The real amount of bits shifted 
+	 * will be between 0, inclusive, and {@code to - from}, exclusive. If the 
+	 * real amount of bits shifted is 0, the storage is left unchanged. The 
+	 * shifted in bits to the right (on LSB) are hardwired to 0.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        shifted to the left.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        shifted to the left.
+	 * @param amount number of bits to shift to left. This number is taken 
+	 *        modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void shl(int[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		// offlimits bits neither are read nor written
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << INT_ADDRESS_LINES);
+		
+		shl0(data, lo, hi, amount);
+	}
+	
+	/**
+	 * Rotates to the right (towards LSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The bits shifted out on the 
+	 * LSB end of the region are shifted back in on the MSB end.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        rotated to the right.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        rotated to the right.
+	 * @param amount number of bits to rotate to right. This number is 
+	 *        taken modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void rotr(int[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		rotr0(data, from, to, amount);
+	}
+	
+	/**
+	 * Rotates to the left (towards MSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The bits shifted out on the 
+	 * MSB end of the region are shifted back in on the LSB end.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        rotated to the left.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        rotated to the left.
+	 * @param amount number of bits to rotate to left. This number is 
+	 *        taken modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void rotl(int[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		rotr0(data, from, to, to - from - amount);
+	}
+	
+	private static void rotr0(int[] data, int from, int to, int amount) {
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << INT_ADDRESS_LINES);
+		final int length = hi - lo;
+		
+		if (length <= 0)
+			return;
+		
+		if (length == to - from) {
+			rotr00(data, lo, hi, amount);
+			return;
+		}
+		
+		// some (offlimits) bits are always 0: those coming from below the 
+		// region end up shifted left, and those from above end up between 
+		// the two parts of the rotated region
+		if (amount < length) {
+			rotr00(data, lo, hi, amount);
+			shl0(data, hi - amount, hi, to - from - length);
+		} else
+			shl0(data, lo, hi, to - from - amount);
+	}
+	
+	// in-bounds region, 0 < amount < to - from
+	private static void rotr00(int[] data, int from, int to, int amount) {
+		final int length = to - from;
+		
+		if (amount <= LONG_DATA_LINES) {
+			// FAST PATH: the bits rotated out fit in a long
+			final long save = read(data, from, amount);
+			shr0(data, from, to, amount);
+			write(data, to - amount, amount, save);
+		} else if (length - amount <= LONG_DATA_LINES) {
+			final long save = read(data, to - (length - amount), length - amount);
+			shl0(data, from, to, length - amount);
+			write(data, from, length - amount, save);
+		} else {
+			// rotation by three reversals
+			reverse0(data, from, from + amount);
+			reverse0(data, from + amount, to);
+			reverse0(data, from, to);
+		}
+	}
+	
+	// in-bounds region, 0 < amount
+	private static void shr0(int[] data, int from, int to, int amount) {
+		if (amount >= to - from) {
+			Store.fill(data, from, to, false);
+			return;
+		}
+		
+		final int index0 = from >> INT_ADDRESS_LINES;
+		final int index1 = (to - 1) >> INT_ADDRESS_LINES;
+		final int skip = amount >> INT_ADDRESS_LINES;
+		final int offset = amount & INT_ADDRESS_MASK;
+		
+		// bits of the region within the least and the most significant elements
+		final int mask0 = INT_DATA_MASK << (from & INT_ADDRESS_MASK) & INT_DATA_MASK;
+		final int mask1 = INT_DATA_MASK >>> INT_DATA_LINES - 1 - ((to - 1) & INT_ADDRESS_MASK);
+		final int top = data[index1] & mask1;
+		
+		// funnel shift, from the least significant element up: every element 
+		// is read (ahead of being written) and written exactly once
+		int lo = upTo(data, index0 + skip, index1, top);
+		int hi = upTo(data, index0 + skip + 1, index1, top);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = data[index0] & ~MASK | (lo >>> offset | hi << 1 << INT_DATA_LINES - 1 - offset) & MASK;
+			return;
+		}
+		
+		data[index0] = data[index0] & ~mask0 | (lo >>> offset | hi << 1 << INT_DATA_LINES - 1 - offset) & mask0;
+		
+		int j = index0 + 1;
+		
+		for (; j < index1 - skip - 1; j++) {
+			lo = hi;
+			hi = data[j + skip + 1];
+			data[j] = lo >>> offset | hi << 1 << INT_DATA_LINES - 1 - offset;
+		}
+		
+		// reaching the end of the region
+		for (; j < index1; j++) {
+			lo = hi;
+			hi = upTo(data, j + skip + 1, index1, top);
+			data[j] = lo >>> offset | hi << 1 << INT_DATA_LINES - 1 - offset;
+		}
+		
+		data[index1] = data[index1] & ~mask1 | hi >>> offset & mask1;
+	}
+	
+	// in-bounds region, 0 < amount
+	private static void shl0(int[] data, int from, int to, int amount) {
+		if (amount >= to - from) {
+			Store.fill(data, from, to, false);
+			return;
+		}
+		
+		final int index0 = from >> INT_ADDRESS_LINES;
+		final int index1 = (to - 1) >> INT_ADDRESS_LINES;
+		final int skip = amount >> INT_ADDRESS_LINES;
+		final int offset = amount & INT_ADDRESS_MASK;
+		
+		// bits of the region within the least and the most significant elements
+		final int mask0 = INT_DATA_MASK << (from & INT_ADDRESS_MASK) & INT_DATA_MASK;
+		final int mask1 = INT_DATA_MASK >>> INT_DATA_LINES - 1 - ((to - 1) & INT_ADDRESS_MASK);
+		final int bottom = data[index0] & mask0;
+		
+		// funnel shift, from the most significant element down: every element 
+		// is read (ahead of being written) and written exactly once
+		int hi = downTo(data, index1 - skip, index0, bottom);
+		int lo = downTo(data, index1 - skip - 1, index0, bottom);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final int MASK = mask0 & mask1;
+			data[index0] = data[index0] & ~MASK | (hi << offset | lo >>> 1 >>> INT_DATA_LINES - 1 - offset) & MASK;
+			return;
+		}
+		
+		data[index1] = data[index1] & ~mask1 | (hi << offset | lo >>> 1 >>> INT_DATA_LINES - 1 - offset) & mask1;
+		
+		int j = index1 - 1;
+		
+		for (; j > index0 + skip + 1; j--) {
+			hi = lo;
+			lo = data[j - skip - 1];
+			data[j] = hi << offset | lo >>> 1 >>> INT_DATA_LINES - 1 - offset;
+		}
+		
+		// reaching the start of the region
+		for (; j > index0; j--) {
+			hi = lo;
+			lo = downTo(data, j - skip - 1, index0, bottom);
+			data[j] = hi << offset | lo >>> 1 >>> INT_DATA_LINES - 1 - offset;
+		}
+		
+		data[index0] = data[index0] & ~mask0 | lo << offset & mask0;
+	}
+	
+	// element k of a region ending at element index1 (whose bits within the region are given); 0 above it
+	private static int upTo(int[] data, int k, int index1, int top) {
+		return k < index1 ? data[k] : k == index1 ? top : 0;
+	}
+	
+	// element k of a region starting at element index0 (whose bits within the region are given); 0 below it
+	private static int downTo(int[] data, int k, int index0, int bottom) {
+		return k > index0 ? data[k] : k == index0 ? bottom : 0;
+	}
+	
+	// in-bounds region
+	private static void reverse0(int[] data, int from, int to) {
+		// swap (reversed) chunks of up to 64 bits from both ends, moving inwards
+		while (to - from > 1) {
+			final int n = Math.min(LONG_DATA_LINES, (to - from) >> 1);
+			final long x = read(data, from, n);
+			final long y = read(data, to - n, n);
+			write(data, from, n, Long.reverse(y) >>> LONG_DATA_LINES - n);
+			write(data, to - n, n, Long.reverse(x) >>> LONG_DATA_LINES - n);
+			from += n;
+			to -= n;
+		}
+	}
+	
+	// n bits (1 to 64) from bit i on, as the least significant bits of a long
+	private static long read(int[] data, int i, int n) {
+		return Store.readLong(data, i) & LONG_DATA_MASK >>> LONG_DATA_LINES - n;
+	}
+	
+	// writes the n (1 to 64) least significant bits of v from bit i on
+	private static void write(int[] data, int i, int n, long v) {
+		final long MASK = LONG_DATA_MASK >>> LONG_DATA_LINES - n;
+		Store.writeLong(data, i, Store.readLong(data, i) & ~MASK | v);
+	}
+	
+	/********** long[] **********/
+	
+	/**
+	 * Shifts to the right (towards LSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The real amount of bits shifted 
+	 * will be between 0, inclusive, and {@code to - from}, exclusive. If the 
+	 * real amount of bits shifted is 0, the storage is left unchanged. The 
+	 * shifted in bits to the left (on MSB) are hardwired to 0.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        shifted to the right.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        shifted to the right.
+	 * @param amount number of bits to shift to right. This number is taken 
+	 *        modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void shr(long[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		// offlimits bits neither are read nor written
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << LONG_ADDRESS_LINES);
+		
+		shr0(data, lo, hi, amount);
+	}
+	
+	/**
+	 * Shifts to the left (towards MSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The real amount of bits shifted 
+	 * will be between 0, inclusive, and {@code to - from}, exclusive. If the 
+	 * real amount of bits shifted is 0, the storage is left unchanged. The 
+	 * shifted in bits to the right (on LSB) are hardwired to 0.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        shifted to the left.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        shifted to the left.
+	 * @param amount number of bits to shift to left. This number is taken 
+	 *        modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void shl(long[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		// offlimits bits neither are read nor written
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << LONG_ADDRESS_LINES);
+		
+		shl0(data, lo, hi, amount);
+	}
+	
+	/**
+	 * Rotates to the right (towards LSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The bits shifted out on the 
+	 * LSB end of the region are shifted back in on the MSB end.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        rotated to the right.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        rotated to the right.
+	 * @param amount number of bits to rotate to right. This number is 
+	 *        taken modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void rotr(long[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		rotr0(data, from, to, amount);
+	}
+	
+	/**
+	 * Rotates to the left (towards MSB) the specified region of the given 
+	 * storage by the specified amount. The range considered extends from 
+	 * offset {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} the storage is left unchanged. The {@code amount} is 
+	 * taken modulo {@code to - from}. If {@code amount} is negative, it is 
+	 * added {@code to - from} until positive. The bits shifted out on the 
+	 * MSB end of the region are shifted back in on the LSB end.
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        rotated to the left.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        rotated to the left.
+	 * @param amount number of bits to rotate to left. This number is 
+	 *        taken modulo {@code to - from}. If negative, it is added 
+	 *        {@code to - from} until positive.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void rotl(long[] data, int from, int to, int amount) {
+		if (data == null)
+			throw new NullPointerException();
+
+		amount = fixAmount(to - from, amount);
+
+		if (amount == 0)
+			return;
+		
+		rotr0(data, from, to, to - from - amount);
+	}
+	
+	private static void rotr0(long[] data, int from, int to, int amount) {
+		final int lo = Math.max(from, 0);
+		final int hi = (int) Math.min(to, (long) data.length << LONG_ADDRESS_LINES);
+		final int length = hi - lo;
+		
+		if (length <= 0)
+			return;
+		
+		if (length == to - from) {
+			rotr00(data, lo, hi, amount);
+			return;
+		}
+		
+		// some (offlimits) bits are always 0: those coming from below the 
+		// region end up shifted left, and those from above end up between 
+		// the two parts of the rotated region
+		if (amount < length) {
+			rotr00(data, lo, hi, amount);
+			shl0(data, hi - amount, hi, to - from - length);
+		} else
+			shl0(data, lo, hi, to - from - amount);
+	}
+	
+	// in-bounds region, 0 < amount < to - from
+	private static void rotr00(long[] data, int from, int to, int amount) {
+		final int length = to - from;
+		
+		if (amount <= LONG_DATA_LINES) {
+			// FAST PATH: the bits rotated out fit in a long
+			final long save = read(data, from, amount);
+			shr0(data, from, to, amount);
+			write(data, to - amount, amount, save);
+		} else if (length - amount <= LONG_DATA_LINES) {
+			final long save = read(data, to - (length - amount), length - amount);
+			shl0(data, from, to, length - amount);
+			write(data, from, length - amount, save);
+		} else {
+			// rotation by three reversals
+			reverse0(data, from, from + amount);
+			reverse0(data, from + amount, to);
+			reverse0(data, from, to);
+		}
+	}
+	
+	// in-bounds region, 0 < amount
+	private static void shr0(long[] data, int from, int to, int amount) {
+		if (amount >= to - from) {
+			Store.fill(data, from, to, false);
+			return;
+		}
+		
+		final int index0 = from >> LONG_ADDRESS_LINES;
+		final int index1 = (to - 1) >> LONG_ADDRESS_LINES;
+		final int skip = amount >> LONG_ADDRESS_LINES;
+		final int offset = amount & LONG_ADDRESS_MASK;
+		
+		// bits of the region within the least and the most significant elements
+		final long mask0 = LONG_DATA_MASK << (from & LONG_ADDRESS_MASK) & LONG_DATA_MASK;
+		final long mask1 = LONG_DATA_MASK >>> LONG_DATA_LINES - 1 - ((to - 1) & LONG_ADDRESS_MASK);
+		final long top = data[index1] & mask1;
+		
+		// funnel shift, from the least significant element up: every element 
+		// is read (ahead of being written) and written exactly once
+		long lo = upTo(data, index0 + skip, index1, top);
+		long hi = upTo(data, index0 + skip + 1, index1, top);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final long MASK = mask0 & mask1;
+			data[index0] = data[index0] & ~MASK | (lo >>> offset | hi << 1 << LONG_DATA_LINES - 1 - offset) & MASK;
+			return;
+		}
+		
+		data[index0] = data[index0] & ~mask0 | (lo >>> offset | hi << 1 << LONG_DATA_LINES - 1 - offset) & mask0;
+		
+		int j = index0 + 1;
+		
+		for (; j < index1 - skip - 1; j++) {
+			lo = hi;
+			hi = data[j + skip + 1];
+			data[j] = lo >>> offset | hi << 1 << LONG_DATA_LINES - 1 - offset;
+		}
+		
+		// reaching the end of the region
+		for (; j < index1; j++) {
+			lo = hi;
+			hi = upTo(data, j + skip + 1, index1, top);
+			data[j] = lo >>> offset | hi << 1 << LONG_DATA_LINES - 1 - offset;
+		}
+		
+		data[index1] = data[index1] & ~mask1 | hi >>> offset & mask1;
+	}
+	
+	// in-bounds region, 0 < amount
+	private static void shl0(long[] data, int from, int to, int amount) {
+		if (amount >= to - from) {
+			Store.fill(data, from, to, false);
+			return;
+		}
+		
+		final int index0 = from >> LONG_ADDRESS_LINES;
+		final int index1 = (to - 1) >> LONG_ADDRESS_LINES;
+		final int skip = amount >> LONG_ADDRESS_LINES;
+		final int offset = amount & LONG_ADDRESS_MASK;
+		
+		// bits of the region within the least and the most significant elements
+		final long mask0 = LONG_DATA_MASK << (from & LONG_ADDRESS_MASK) & LONG_DATA_MASK;
+		final long mask1 = LONG_DATA_MASK >>> LONG_DATA_LINES - 1 - ((to - 1) & LONG_ADDRESS_MASK);
+		final long bottom = data[index0] & mask0;
+		
+		// funnel shift, from the most significant element down: every element 
+		// is read (ahead of being written) and written exactly once
+		long hi = downTo(data, index1 - skip, index0, bottom);
+		long lo = downTo(data, index1 - skip - 1, index0, bottom);
+		
+		if (index0 == index1) {
+			// special case: region within a single element
+			final long MASK = mask0 & mask1;
+			data[index0] = data[index0] & ~MASK | (hi << offset | lo >>> 1 >>> LONG_DATA_LINES - 1 - offset) & MASK;
+			return;
+		}
+		
+		data[index1] = data[index1] & ~mask1 | (hi << offset | lo >>> 1 >>> LONG_DATA_LINES - 1 - offset) & mask1;
+		
+		int j = index1 - 1;
+		
+		for (; j > index0 + skip + 1; j--) {
+			hi = lo;
+			lo = data[j - skip - 1];
+			data[j] = hi << offset | lo >>> 1 >>> LONG_DATA_LINES - 1 - offset;
+		}
+		
+		// reaching the start of the region
+		for (; j > index0; j--) {
+			hi = lo;
+			lo = downTo(data, j - skip - 1, index0, bottom);
+			data[j] = hi << offset | lo >>> 1 >>> LONG_DATA_LINES - 1 - offset;
+		}
+		
+		data[index0] = data[index0] & ~mask0 | lo << offset & mask0;
+	}
+	
+	// element k of a region ending at element index1 (whose bits within the region are given); 0 above it
+	private static long upTo(long[] data, int k, int index1, long top) {
+		return k < index1 ? data[k] : k == index1 ? top : 0;
+	}
+	
+	// element k of a region starting at element index0 (whose bits within the region are given); 0 below it
+	private static long downTo(long[] data, int k, int index0, long bottom) {
+		return k > index0 ? data[k] : k == index0 ? bottom : 0;
+	}
+	
+	// in-bounds region
+	private static void reverse0(long[] data, int from, int to) {
+		// swap (reversed) chunks of up to 64 bits from both ends, moving inwards
+		while (to - from > 1) {
+			final int n = Math.min(LONG_DATA_LINES, (to - from) >> 1);
+			final long x = read(data, from, n);
+			final long y = read(data, to - n, n);
+			write(data, from, n, Long.reverse(y) >>> LONG_DATA_LINES - n);
+			write(data, to - n, n, Long.reverse(x) >>> LONG_DATA_LINES - n);
+			from += n;
+			to -= n;
+		}
+	}
+	
+	// n bits (1 to 64) from bit i on, as the least significant bits of a long
+	private static long read(long[] data, int i, int n) {
+		return Store.readLong(data, i) & LONG_DATA_MASK >>> LONG_DATA_LINES - n;
+	}
+	
+	// writes the n (1 to 64) least significant bits of v from bit i on
+	private static void write(long[] data, int i, int n, long v) {
+		final long MASK = LONG_DATA_MASK >>> LONG_DATA_LINES - n;
+		Store.writeLong(data, i, Store.readLong(data, i) & ~MASK | v);
 	}
 }
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+/**
+ * Hooks for SIMD kernels over whole words.
+ * 
+ * <p>This is the portable version: it reports no SIMD support, so every 
+ * caller keeps to its scalar loop. On Java 21 or later it is superseded by 
+ * the multi-release version (under {@code META-INF/versions/21}), which 
+ * delegates to the Vector API whenever the {@code jdk.incubator.vector} 
+ * module is present.
+ * </p>
+ * <p>The kernels here are plain word loops, the same ones callers fall back 
+ * to, so invoking them directly is always correct, just never faster.
+ * </p>
+ * <p>Kernels operate on whole words (no bit offsets) and perform no bounds 
+ * checking. Those that take a {@code Backwards} suffix walk from the highest 
+ * index down, for use when source and destination overlap with 
+ * {@code dIndex > sIndex}.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+final class Simd {
+	private Simd() { /* non-instantiable */ }
+	
+	// not a compile-time constant: callers must not have it inlined by javac
+	static final boolean ENABLED = enabled();
+	
+	private static boolean enabled() {
+		return false;
+	}
+	
+	static void xorForwards(byte[] source, int sIndex, byte[] dest, int dIndex, int length) {
+		for (int i = 0; i < length; i++)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorBackwards(byte[] source, int sIndex, byte[] dest, int dIndex, int length) {
+		for (int i = length - 1; i >= 0; i--)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorForwards(char[] source, int sIndex, char[] dest, int dIndex, int length) {
+		for (int i = 0; i < length; i++)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorBackwards(char[] source, int sIndex, char[] dest, int dIndex, int length) {
+		for (int i = length - 1; i >= 0; i--)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorForwards(short[] source, int sIndex, short[] dest, int dIndex, int length) {
+		for (int i = 0; i < length; i++)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorBackwards(short[] source, int sIndex, short[] dest, int dIndex, int length) {
+		for (int i = length - 1; i >= 0; i--)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorForwards(int[] source, int sIndex, int[] dest, int dIndex, int length) {
+		for (int i = 0; i < length; i++)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorBackwards(int[] source, int sIndex, int[] dest, int dIndex, int length) {
+		for (int i = length - 1; i >= 0; i--)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorForwards(long[] source, int sIndex, long[] dest, int dIndex, int length) {
+		for (int i = 0; i < length; i++)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorBackwards(long[] source, int sIndex, long[] dest, int dIndex, int length) {
+		for (int i = length - 1; i >= 0; i--)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static long ones(long[] data, int index0, int index1) {
+		long count = 0;
+		for (int i = index0; i < index1; i++)
+			count += Long.bitCount(data[i]);
+		
+		return count;
+	}
+}
@@ -28,6 +28,7 @@
 package br.eti.rslemos.bitsmagic;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class consists exclusively of static methods that read or write bits 
@@ -67,12 +68,18 @@ import java.util.Arrays;
  * written to them is discarded. Except where otherwise noted, methods in this 
  * class should never throw {@code ArrayIndexOutOfBoundsException}.
  * </p>
+ * <p>Methods that take offsets come in two flavors: {@code int} offsets, 
+ * and {@code long} offsets. The latter are able to address every bit of any 
+ * array (for instance a {@code long[]} holds up to 2<sup>37</sup> bits). Use 
+ * {@link Chunked} for storages beyond the size of a single array.
+ * </p>
  * <p>{@code NullPointerException} is thrown if the given array is {@code null}.
  * </p>
  * <p>All methods are inherently thread unsafe: in case of more than one thread 
  * acting upon the same storage the results are undefined. Also neither they 
  * acquire nor block on any monitor. Any necessary synchronization should be 
- * done externally.
+ * done externally. For {@code int[]} and {@code long[]} storages, 
+ * {@link AtomicStore} offers atomic counterparts of single bit writes.
  * </p>
  * 
  * @author Rodrigo Lemos
@@ -81,6 +88,13 @@ import java.util.Arrays;
 public class Store {
 	private Store() { /* non-instantiable */ }
 
+	// word indices beyond int range are offlimits anyway; saturate them so 
+	// that they stay offlimits after the few increments done by readers and 
+	// writers
+	static int saturate(long index) {
+		return index > Integer.MAX_VALUE ? Integer.MAX_VALUE : index < Integer.MIN_VALUE ? Integer.MIN_VALUE : (int) index;
+	}
+
 	/********** byte[] **********/
 
 	static final int BYTE_ADDRESS_LINES = 3;
@@ -102,12 +116,24 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static boolean readBit(byte[] data, int i) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		return readBit(data, (long) i);
+	}
+
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean readBit(byte[] data, long i) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 
 		if (index >= data.length || index < 0)
 			return false;
 		
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		return readBit0(data, index, offset);
 	}
 	
@@ -125,10 +151,23 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeBit(byte[] data, int i, boolean v) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		writeBit(data, (long) i, v);
+	}
+
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBit(byte[] data, long i, boolean v) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 
 		if (index < data.length && index >= 0)
-			writeBit0(data, index, i & BYTE_ADDRESS_MASK, v);
+			writeBit0(data, index, (int) i & BYTE_ADDRESS_MASK, v);
 	}
 
 	private static void writeBit0(byte[] data, int index, int offset, boolean v) {
@@ -162,60 +201,153 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void fill(byte[] data, int from, int to, boolean v) {
+		fill(data, (long) from, (long) to, v);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage. The range to be filled extends from offset 
+	 * {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} this method does nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * <pre>
+	 *   for(int i = from; i &lt; to; i++)
+	 *     Store.writeBit(data, i, v);
+	 * </pre>
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void fill(byte[] data, long from, long to, boolean v) {
 		// clamp
 		if (from < 0)
 			from = 0;
 		
-		if (to > data.length << BYTE_ADDRESS_LINES)
-			to = data.length << BYTE_ADDRESS_LINES;
+		if (to > (long) data.length << BYTE_ADDRESS_LINES)
+			to = (long) data.length << BYTE_ADDRESS_LINES;
 		
 		if (!(to > from))
 			return;
 
-		int[] index  = {from  >> BYTE_ADDRESS_LINES, to >> BYTE_ADDRESS_LINES};
-		int[] offset = {from  & BYTE_ADDRESS_MASK,   to & BYTE_ADDRESS_MASK  };
+		int index0 = (int) (from >> BYTE_ADDRESS_LINES);
+		int index1 = (int) (to >> BYTE_ADDRESS_LINES);
+		int offset0 = (int) from & BYTE_ADDRESS_MASK;
+		int offset1 = (int) to & BYTE_ADDRESS_MASK;
 		
-		if (index[1] == index[0]) {
+		if (index1 == index0) {
 			// special case: subword count
 			
-			final long LOWEST_BITS_FROM = ~(BYTE_DATA_MASK << offset[0]);
-			final long HIGHEST_BITS_TO = BYTE_DATA_MASK << offset[1];
+			final long LOWEST_BITS_FROM = ~(BYTE_DATA_MASK << offset0);
+			final long HIGHEST_BITS_TO = BYTE_DATA_MASK << offset1;
 
 			if (v)
-				data[index[0]] |= ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
+				data[index0] |= ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
 			else
-				data[index[0]] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
+				data[index0] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
 			
 			return;
 		}
 		
-		if (offset[0] != 0) {
+		if (offset0 != 0) {
 			// handle "from" end specially
 			
-			final long HIGHEST_BITS = BYTE_DATA_MASK << offset[0];
+			final long HIGHEST_BITS = BYTE_DATA_MASK << offset0;
 
 			if (v)
-				data[index[0]] |= HIGHEST_BITS;
+				data[index0] |= HIGHEST_BITS;
 			else
-				data[index[0]] &= ~HIGHEST_BITS;
+				data[index0] &= ~HIGHEST_BITS;
 			
 			// first index already taken care of
-			index[0]++;
+			index0++;
 		}
 
-		if (index[1] > index[0])
-			Arrays.fill(data, index[0], index[1], (byte) (v ? -1 : 0));
+		if (index1 > index0)
+			Arrays.fill(data, index0, index1, (byte) (v ? -1 : 0));
 
-		if (offset[1] != 0) {
-			final long LOWEST_BITS = ~(BYTE_DATA_MASK << offset[1]);
+		if (offset1 != 0) {
+			final long LOWEST_BITS = ~(BYTE_DATA_MASK << offset1);
 
 			if (v)
-				data[index[1]] |= LOWEST_BITS;
+				data[index1] |= LOWEST_BITS;
 			else
-				data[index[1]] &= ~LOWEST_BITS;
+				data[index1] &= ~LOWEST_BITS;
 		}
 	}
 
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage, in parallel on the common {@link ForkJoinPool}. Same 
+	 * as {@link #parallelFill(byte[], long, long, boolean, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 * 
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void parallelFill(byte[] data, long from, long to, boolean v) {
+		parallelFill(data, from, to, v, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage, in parallel. The result is the same as 
+	 * {@link #fill(byte[], long, long, boolean)}.
+	 * 
+	 * <p>The region is split on element boundaries into pieces of about 
+	 * {@code grain} bits, which are filled concurrently by the threads of 
+	 * {@code pool}; partial elements at either end are handled by the 
+	 * sequential code.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void parallelFill(final byte[] data, long from, long to, final boolean v, ForkJoinPool pool, long grain) {
+		// clamp: there is no point in splitting offlimits bits
+		from = Math.max(from, 0);
+		to = Math.min(to, (long) data.length << BYTE_ADDRESS_LINES);
+		
+		Parallel.invoke(pool, grain, BYTE_ADDRESS_LINES, from, to, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				fill(data, from, to, v);
+				return 0;
+			}
+		});
+	}
+
 	/**
 	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
 	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
@@ -227,11 +359,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static byte readByte(byte[] data, int i) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		return readByte(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static byte readByte(byte[] data, long i) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		if (offset == 0)
 			return (byte) d0;
 
@@ -255,12 +401,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeByte(byte[] data, int i, byte v) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		writeByte(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 8 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeByte(byte[] data, long i, byte v) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		
 		int mask = ~(BYTE_DATA_MASK << Byte.SIZE) << offset;
 		
@@ -291,12 +452,26 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static char readChar(byte[] data, int i) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		return readChar(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code char} the 16 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static char readChar(byte[] data, long i) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		int d1 = read(data, ++index);
 	
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		if (offset == 0)
 			return (char) (d1 << BYTE_DATA_LINES | d0);
 		
@@ -321,12 +496,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeChar(byte[] data, int i, char v) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		writeChar(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 16 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeChar(byte[] data, long i, char v) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -2) return;
 		
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		if (offset == 0) {
 			if (index >= 0)
 				data[index] = (byte)(v >> 0);
@@ -366,12 +556,26 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static short readShort(byte[] data, int i) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		return readShort(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code short} the 16 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static short readShort(byte[] data, long i) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		int d1 = read(data, ++index);
 	
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		if (offset == 0)
 			return (short) (d1 << BYTE_DATA_LINES | d0);
 		
@@ -396,12 +600,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeShort(byte[] data, int i, short v) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		writeShort(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 16 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeShort(byte[] data, long i, short v) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -2) return;
 		
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		if (offset == 0) {
 			if (index >= 0)
 				data[index] = (byte)(v >> 0);
@@ -441,14 +660,28 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static int readInt(byte[] data, int i) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		return readInt(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code int} the 32 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int readInt(byte[] data, long i) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		int d1 = read(data, ++index);
 		int d2 = read(data, ++index);
 		int d3 = read(data, ++index);
 	
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		if (offset == 0)
 			return (int) (d3 << 3*BYTE_DATA_LINES | d2 << 2*BYTE_DATA_LINES | d1 << BYTE_DATA_LINES | d0);
 		
@@ -475,12 +708,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeInt(byte[] data, int i, int v) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		writeInt(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 32 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeInt(byte[] data, long i, int v) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -4) return;
 		
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		if (offset == 0) {
 			if (index >= 0)
 				data[index] = (byte)(v >> 0);
@@ -536,7 +784,21 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static long readLong(byte[] data, int i) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		return readLong(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code long} the 64 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long readLong(byte[] data, long i) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		int d1 = read(data, ++index);
@@ -547,7 +809,7 @@ public class Store {
 		long d6 = read(data, ++index);
 		long d7 = read(data, ++index);
 	
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		if (offset == 0)
 			return d7 << 7*BYTE_DATA_LINES | d6 << 6*BYTE_DATA_LINES | d5 << 5*BYTE_DATA_LINES | d4 << 4*BYTE_DATA_LINES
 					| d3 << 3*BYTE_DATA_LINES | d2 << 2*BYTE_DATA_LINES | d1 << BYTE_DATA_LINES | d0;
@@ -579,12 +841,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeLong(byte[] data, int i, long v) {
-		int index = i >> BYTE_ADDRESS_LINES;
+		writeLong(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 64 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeLong(byte[] data, long i, long v) {
+		int index = saturate(i >> BYTE_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -8) return;
 		
-		int offset = i & BYTE_ADDRESS_MASK;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
 		if (offset == 0) {
 			if (index >= 0)
 				data[index] = (byte)(v >> 0);
@@ -777,12 +1054,24 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static boolean readBit(char[] data, int i) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		return readBit(data, (long) i);
+	}
+
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean readBit(char[] data, long i) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 
 		if (index >= data.length || index < 0)
 			return false;
 		
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		return readBit0(data, index, offset);
 	}
 
@@ -800,10 +1089,23 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeBit(char[] data, int i, boolean v) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		writeBit(data, (long) i, v);
+	}
+
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBit(char[] data, long i, boolean v) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 
 		if (index < data.length && index >= 0)
-			writeBit0(data, index, i & CHAR_ADDRESS_MASK, v);
+			writeBit0(data, index, (int) i & CHAR_ADDRESS_MASK, v);
 	}
 
 	private static void writeBit0(char[] data, int index, int offset, boolean v) {
@@ -837,62 +1139,155 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void fill(char[] data, int from, int to, boolean v) {
+		fill(data, (long) from, (long) to, v);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage. The range to be filled extends from offset 
+	 * {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} this method does nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i < to; i++)
+	 *     Store.writeBit(data, i, v);
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void fill(char[] data, long from, long to, boolean v) {
 		// clamp
 		if (from < 0)
 			from = 0;
 		
-		if (to > data.length << CHAR_ADDRESS_LINES)
-			to = data.length << CHAR_ADDRESS_LINES;
+		if (to > (long) data.length << CHAR_ADDRESS_LINES)
+			to = (long) data.length << CHAR_ADDRESS_LINES;
 
 		if (!(to > from))
 			return;
 
-		int[] index  = {from  >> CHAR_ADDRESS_LINES, to >> CHAR_ADDRESS_LINES};
-		int[] offset = {from  & CHAR_ADDRESS_MASK,   to & CHAR_ADDRESS_MASK  };
+		int index0 = (int) (from >> CHAR_ADDRESS_LINES);
+		int index1 = (int) (to >> CHAR_ADDRESS_LINES);
+		int offset0 = (int) from & CHAR_ADDRESS_MASK;
+		int offset1 = (int) to & CHAR_ADDRESS_MASK;
 		
-		if (index[1] == index[0]) {
+		if (index1 == index0) {
 			// special case: subword count
 			
-			final long LOWEST_BITS_FROM = ~(CHAR_DATA_MASK << offset[0]);
-			final long HIGHEST_BITS_TO = CHAR_DATA_MASK << offset[1];
+			final long LOWEST_BITS_FROM = ~(CHAR_DATA_MASK << offset0);
+			final long HIGHEST_BITS_TO = CHAR_DATA_MASK << offset1;
 
 			if (v)
-				data[index[0]] |= ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
+				data[index0] |= ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
 			else
-				data[index[0]] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
+				data[index0] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
 			
 			return;
 		}
 		
-		if (offset[0] != 0) {
+		if (offset0 != 0) {
 			// handle "from" end specially
 			
-			final long HIGHEST_BITS = CHAR_DATA_MASK << offset[0];
+			final long HIGHEST_BITS = CHAR_DATA_MASK << offset0;
 
 			if (v)
-				data[index[0]] |= HIGHEST_BITS;
+				data[index0] |= HIGHEST_BITS;
 			else
-				data[index[0]] &= ~HIGHEST_BITS;
+				data[index0] &= ~HIGHEST_BITS;
 			
 			// first index already taken care of
-			index[0]++;
+			index0++;
 		}
 
-		if (index[1] > index[0])
-			Arrays.fill(data, index[0], index[1], (char) (v ? -1 : 0));
+		if (index1 > index0)
+			Arrays.fill(data, index0, index1, (char) (v ? -1 : 0));
 
-		if (offset[1] != 0) {
-			final long LOWEST_BITS = ~(CHAR_DATA_MASK << offset[1]);
+		if (offset1 != 0) {
+			final long LOWEST_BITS = ~(CHAR_DATA_MASK << offset1);
 
 			if (v)
-				data[index[1]] |= LOWEST_BITS;
+				data[index1] |= LOWEST_BITS;
 			else
-				data[index[1]] &= ~LOWEST_BITS;
+				data[index1] &= ~LOWEST_BITS;
 		}
 	}
 
 	/**
-	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage, in parallel on the common {@link ForkJoinPool}. Same 
+	 * as {@link #parallelFill(char[], long, long, boolean, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 * 
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void parallelFill(char[] data, long from, long to, boolean v) {
+		parallelFill(data, from, to, v, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage, in parallel. The result is the same as 
+	 * {@link #fill(char[], long, long, boolean)}.
+	 * 
+	 * <p>The region is split on element boundaries into pieces of about 
+	 * {@code grain} bits, which are filled concurrently by the threads of 
+	 * {@code pool}; partial elements at either end are handled by the 
+	 * sequential code.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void parallelFill(final char[] data, long from, long to, final boolean v, ForkJoinPool pool, long grain) {
+		// clamp: there is no point in splitting offlimits bits
+		from = Math.max(from, 0);
+		to = Math.min(to, (long) data.length << CHAR_ADDRESS_LINES);
+		
+		Parallel.invoke(pool, grain, CHAR_ADDRESS_LINES, from, to, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				fill(data, from, to, v);
+				return 0;
+			}
+		});
+	}
+
+	/**
+	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
 	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
 	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
 	 * 
@@ -902,11 +1297,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static byte readByte(char[] data, int i) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		return readByte(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static byte readByte(char[] data, long i) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		if (offset == 0)
 			return (byte) d0;
 
@@ -933,12 +1342,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeByte(char[] data, int i, byte v) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		writeByte(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 8 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeByte(char[] data, long i, byte v) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		
 		int mask = ~(CHAR_DATA_MASK << Byte.SIZE) << offset;
 		
@@ -969,11 +1393,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static char readChar(char[] data, int i) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		return readChar(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code char} the 16 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static char readChar(char[] data, long i) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		if (offset == 0)
 			return (char) d0;
 
@@ -997,12 +1435,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeChar(char[] data, int i, char v) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		writeChar(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 16 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeChar(char[] data, long i, char v) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		
 		int mask = ~(CHAR_DATA_MASK << Character.SIZE) << offset;
 		
@@ -1033,11 +1486,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static short readShort(char[] data, int i) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		return readShort(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code short} the 16 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static short readShort(char[] data, long i) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		if (offset == 0)
 			return (short) d0;
 
@@ -1061,12 +1528,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeShort(char[] data, int i, short v) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		writeShort(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 16 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeShort(char[] data, long i, short v) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		
 		int mask = ~(CHAR_DATA_MASK << Short.SIZE) << offset;
 		
@@ -1097,12 +1579,26 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static int readInt(char[] data, int i) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		return readInt(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code int} the 32 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int readInt(char[] data, long i) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		int d1 = read(data, ++index);
 	
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		if (offset == 0)
 			return d1 << CHAR_DATA_LINES | d0;
 		
@@ -1127,12 +1623,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeInt(char[] data, int i, int v) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		writeInt(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 32 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeInt(char[] data, long i, int v) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -2) return;
 		
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		if (offset == 0) {
 			if (index >= 0)
 				data[index] = (char)(v >> 0);
@@ -1172,14 +1683,28 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static long readLong(char[] data, int i) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		return readLong(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code long} the 64 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long readLong(char[] data, long i) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 		
 		long d0 = read(data, index);
 		long d1 = read(data, ++index);
 		long d2 = read(data, ++index);
 		long d3 = read(data, ++index);
 	
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		if (offset == 0)
 			return d3 << 3*CHAR_DATA_LINES | d2 << 2*CHAR_DATA_LINES | d1 << CHAR_DATA_LINES | d0;
 		
@@ -1206,12 +1731,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeLong(char[] data, int i, long v) {
-		int index = i >> CHAR_ADDRESS_LINES;
+		writeLong(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 64 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeLong(char[] data, long i, long v) {
+		int index = saturate(i >> CHAR_ADDRESS_LINES);
 	
 		if (index >= data.length) return;
 		if (index < -4) return;
 		
-		int offset = i & CHAR_ADDRESS_MASK;
+		int offset = (int) i & CHAR_ADDRESS_MASK;
 		if (offset == 0) {
 			if (index >= 0)
 				data[index] = (char)(v >> 0);
@@ -1372,12 +1912,24 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static boolean readBit(short[] data, int i) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		return readBit(data, (long) i);
+	}
+
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean readBit(short[] data, long i) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 
 		if (index >= data.length || index < 0)
 			return false;
 		
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		return readBit0(data, index, offset);
 	}
 
@@ -1395,10 +1947,23 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeBit(short[] data, int i, boolean v) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		writeBit(data, (long) i, v);
+	}
+
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBit(short[] data, long i, boolean v) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 
 		if (index < data.length && index >= 0)
-			writeBit0(data, index, i & SHORT_ADDRESS_MASK, v);
+			writeBit0(data, index, (int) i & SHORT_ADDRESS_MASK, v);
 	}
 
 	private static void writeBit0(short[] data, int index, int offset, boolean v) {
@@ -1432,60 +1997,153 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void fill(short[] data, int from, int to, boolean v) {
+		fill(data, (long) from, (long) to, v);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage. The range to be filled extends from offset 
+	 * {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} this method does nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i < to; i++)
+	 *     Store.writeBit(data, i, v);
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void fill(short[] data, long from, long to, boolean v) {
 		// clamp
 		if (from < 0)
 			from = 0;
 		
-		if (to > data.length << SHORT_ADDRESS_LINES)
-			to = data.length << SHORT_ADDRESS_LINES;
+		if (to > (long) data.length << SHORT_ADDRESS_LINES)
+			to = (long) data.length << SHORT_ADDRESS_LINES;
 
 		if (!(to > from))
 			return;
 
-		int[] index  = {from  >> SHORT_ADDRESS_LINES, to >> SHORT_ADDRESS_LINES};
-		int[] offset = {from  & SHORT_ADDRESS_MASK,   to & SHORT_ADDRESS_MASK  };
+		int index0 = (int) (from >> SHORT_ADDRESS_LINES);
+		int index1 = (int) (to >> SHORT_ADDRESS_LINES);
+		int offset0 = (int) from & SHORT_ADDRESS_MASK;
+		int offset1 = (int) to & SHORT_ADDRESS_MASK;
 		
-		if (index[1] == index[0]) {
+		if (index1 == index0) {
 			// special case: subword count
 			
-			final long LOWEST_BITS_FROM = ~(SHORT_DATA_MASK << offset[0]);
-			final long HIGHEST_BITS_TO = SHORT_DATA_MASK << offset[1];
+			final long LOWEST_BITS_FROM = ~(SHORT_DATA_MASK << offset0);
+			final long HIGHEST_BITS_TO = SHORT_DATA_MASK << offset1;
 
 			if (v)
-				data[index[0]] |= ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
+				data[index0] |= ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
 			else
-				data[index[0]] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
+				data[index0] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
 			
 			return;
 		}
 		
-		if (offset[0] != 0) {
+		if (offset0 != 0) {
 			// handle "from" end specially
 			
-			final long HIGHEST_BITS = SHORT_DATA_MASK << offset[0];
+			final long HIGHEST_BITS = SHORT_DATA_MASK << offset0;
 
 			if (v)
-				data[index[0]] |= HIGHEST_BITS;
+				data[index0] |= HIGHEST_BITS;
 			else
-				data[index[0]] &= ~HIGHEST_BITS;
+				data[index0] &= ~HIGHEST_BITS;
 			
 			// first index already taken care of
-			index[0]++;
+			index0++;
 		}
 
-		if (index[1] > index[0])
-			Arrays.fill(data, index[0], index[1], (short) (v ? -1 : 0));
+		if (index1 > index0)
+			Arrays.fill(data, index0, index1, (short) (v ? -1 : 0));
 
-		if (offset[1] != 0) {
-			final long LOWEST_BITS = ~(SHORT_DATA_MASK << offset[1]);
+		if (offset1 != 0) {
+			final long LOWEST_BITS = ~(SHORT_DATA_MASK << offset1);
 
 			if (v)
-				data[index[1]] |= LOWEST_BITS;
+				data[index1] |= LOWEST_BITS;
 			else
-				data[index[1]] &= ~LOWEST_BITS;
+				data[index1] &= ~LOWEST_BITS;
 		}
 	}
 
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage, in parallel on the common {@link ForkJoinPool}. Same 
+	 * as {@link #parallelFill(short[], long, long, boolean, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 * 
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void parallelFill(short[] data, long from, long to, boolean v) {
+		parallelFill(data, from, to, v, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage, in parallel. The result is the same as 
+	 * {@link #fill(short[], long, long, boolean)}.
+	 * 
+	 * <p>The region is split on element boundaries into pieces of about 
+	 * {@code grain} bits, which are filled concurrently by the threads of 
+	 * {@code pool}; partial elements at either end are handled by the 
+	 * sequential code.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void parallelFill(final short[] data, long from, long to, final boolean v, ForkJoinPool pool, long grain) {
+		// clamp: there is no point in splitting offlimits bits
+		from = Math.max(from, 0);
+		to = Math.min(to, (long) data.length << SHORT_ADDRESS_LINES);
+		
+		Parallel.invoke(pool, grain, SHORT_ADDRESS_LINES, from, to, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				fill(data, from, to, v);
+				return 0;
+			}
+		});
+	}
+
 	/**
 	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
 	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
@@ -1497,11 +2155,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static byte readByte(short[] data, int i) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		return readByte(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static byte readByte(short[] data, long i) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		if (offset == 0)
 			return (byte) d0;
 
@@ -1528,12 +2200,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeByte(short[] data, int i, byte v) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		writeByte(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 8 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeByte(short[] data, long i, byte v) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		
 		int mask = ~(SHORT_DATA_MASK << Byte.SIZE) << offset;
 		
@@ -1564,11 +2251,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static char readChar(short[] data, int i) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		return readChar(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code char} the 16 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static char readChar(short[] data, long i) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		if (offset == 0)
 			return (char) d0;
 		
@@ -1592,12 +2293,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeChar(short[] data, int i, char v) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		writeChar(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 16 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeChar(short[] data, long i, char v) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		
 		int mask = ~(SHORT_DATA_MASK << Character.SIZE) << offset;
 		
@@ -1628,11 +2344,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static short readShort(short[] data, int i) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		return readShort(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code short} the 16 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static short readShort(short[] data, long i) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		if (offset == 0)
 			return (short) d0;
 
@@ -1656,12 +2386,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeShort(short[] data, int i, short v) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		writeShort(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 16 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeShort(short[] data, long i, short v) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		
 		int mask = ~(SHORT_DATA_MASK << Short.SIZE) << offset;
 		
@@ -1692,12 +2437,26 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static int readInt(short[] data, int i) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		return readInt(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code int} the 32 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int readInt(short[] data, long i) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		int d1 = read(data, ++index);
 	
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		if (offset == 0)
 			return d1 << SHORT_DATA_LINES | d0;
 		
@@ -1722,12 +2481,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeInt(short[] data, int i, int v) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		writeInt(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 32 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeInt(short[] data, long i, int v) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -2) return;
 		
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		if (offset == 0) {
 			if (index >= 0)
 				data[index] = (short)(v >> 0);
@@ -1767,14 +2541,28 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static long readLong(short[] data, int i) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		return readLong(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code long} the 64 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long readLong(short[] data, long i) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 		
 		long d0 = read(data, index);
 		long d1 = read(data, ++index);
 		long d2 = read(data, ++index);
 		long d3 = read(data, ++index);
 	
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		if (offset == 0)
 			return d3 << 3*SHORT_DATA_LINES | d2 << 2*SHORT_DATA_LINES | d1 << SHORT_DATA_LINES | d0;
 		
@@ -1801,12 +2589,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeLong(short[] data, int i, long v) {
-		int index = i >> SHORT_ADDRESS_LINES;
+		writeLong(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 64 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeLong(short[] data, long i, long v) {
+		int index = saturate(i >> SHORT_ADDRESS_LINES);
 	
 		if (index >= data.length) return;
 		if (index < -4) return;
 		
-		int offset = i & SHORT_ADDRESS_MASK;
+		int offset = (int) i & SHORT_ADDRESS_MASK;
 		if (offset == 0) {
 			if (index >= 0)
 				data[index] = (short)(v >> 0);
@@ -1972,12 +2775,24 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static boolean readBit(int[] data, int i) {
-		int index = i >> INT_ADDRESS_LINES;
+		return readBit(data, (long) i);
+	}
+
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean readBit(int[] data, long i) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 
 		if (index >= data.length || index < 0)
 			return false;
 		
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		return readBit0(data, index, offset);
 	}
 
@@ -1995,10 +2810,23 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeBit(int[] data, int i, boolean v) {
-		int index = i >> INT_ADDRESS_LINES;
+		writeBit(data, (long) i, v);
+	}
+
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBit(int[] data, long i, boolean v) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 
 		if (index < data.length && index >= 0)
-			writeBit0(data, index, i & INT_ADDRESS_MASK, v);
+			writeBit0(data, index, (int) i & INT_ADDRESS_MASK, v);
 	}
 
 	private static void writeBit0(int[] data, int index, int offset, boolean v) {
@@ -2032,60 +2860,153 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void fill(int[] data, int from, int to, boolean v) {
+		fill(data, (long) from, (long) to, v);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage. The range to be filled extends from offset 
+	 * {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} this method does nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i < to; i++)
+	 *     Store.writeBit(data, i, v);
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void fill(int[] data, long from, long to, boolean v) {
 		// clamp
 		if (from < 0)
 			from = 0;
 		
-		if (to > data.length << INT_ADDRESS_LINES)
-			to = data.length << INT_ADDRESS_LINES;
+		if (to > (long) data.length << INT_ADDRESS_LINES)
+			to = (long) data.length << INT_ADDRESS_LINES;
 
 		if (!(to > from))
 			return;
 
-		int[] index  = {from  >> INT_ADDRESS_LINES, to >> INT_ADDRESS_LINES};
-		int[] offset = {from  & INT_ADDRESS_MASK,   to & INT_ADDRESS_MASK  };
+		int index0 = (int) (from >> INT_ADDRESS_LINES);
+		int index1 = (int) (to >> INT_ADDRESS_LINES);
+		int offset0 = (int) from & INT_ADDRESS_MASK;
+		int offset1 = (int) to & INT_ADDRESS_MASK;
 		
-		if (index[1] == index[0]) {
+		if (index1 == index0) {
 			// special case: subword count
 			
-			final long LOWEST_BITS_FROM = ~(INT_DATA_MASK << offset[0]);
-			final long HIGHEST_BITS_TO = INT_DATA_MASK << offset[1];
+			final long LOWEST_BITS_FROM = ~(INT_DATA_MASK << offset0);
+			final long HIGHEST_BITS_TO = INT_DATA_MASK << offset1;
 
 			if (v)
-				data[index[0]] |= ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
+				data[index0] |= ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
 			else
-				data[index[0]] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
+				data[index0] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
 			
 			return;
 		}
 		
-		if (offset[0] != 0) {
+		if (offset0 != 0) {
 			// handle "from" end specially
 			
-			final long HIGHEST_BITS = INT_DATA_MASK << offset[0];
+			final long HIGHEST_BITS = INT_DATA_MASK << offset0;
 
 			if (v)
-				data[index[0]] |= HIGHEST_BITS;
+				data[index0] |= HIGHEST_BITS;
 			else
-				data[index[0]] &= ~HIGHEST_BITS;
+				data[index0] &= ~HIGHEST_BITS;
 			
 			// first index already taken care of
-			index[0]++;
+			index0++;
 		}
 
-		if (index[1] > index[0])
-			Arrays.fill(data, index[0], index[1], v ? -1 : 0);
+		if (index1 > index0)
+			Arrays.fill(data, index0, index1, v ? -1 : 0);
 
-		if (offset[1] != 0) {
-			final long LOWEST_BITS = ~(INT_DATA_MASK << offset[1]);
+		if (offset1 != 0) {
+			final long LOWEST_BITS = ~(INT_DATA_MASK << offset1);
 
 			if (v)
-				data[index[1]] |= LOWEST_BITS;
+				data[index1] |= LOWEST_BITS;
 			else
-				data[index[1]] &= ~LOWEST_BITS;
+				data[index1] &= ~LOWEST_BITS;
 		}
 	}
 
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage, in parallel on the common {@link ForkJoinPool}. Same 
+	 * as {@link #parallelFill(int[], long, long, boolean, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 * 
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void parallelFill(int[] data, long from, long to, boolean v) {
+		parallelFill(data, from, to, v, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage, in parallel. The result is the same as 
+	 * {@link #fill(int[], long, long, boolean)}.
+	 * 
+	 * <p>The region is split on element boundaries into pieces of about 
+	 * {@code grain} bits, which are filled concurrently by the threads of 
+	 * {@code pool}; partial elements at either end are handled by the 
+	 * sequential code.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void parallelFill(final int[] data, long from, long to, final boolean v, ForkJoinPool pool, long grain) {
+		// clamp: there is no point in splitting offlimits bits
+		from = Math.max(from, 0);
+		to = Math.min(to, (long) data.length << INT_ADDRESS_LINES);
+		
+		Parallel.invoke(pool, grain, INT_ADDRESS_LINES, from, to, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				fill(data, from, to, v);
+				return 0;
+			}
+		});
+	}
+
 	/**
 	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
 	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
@@ -2097,11 +3018,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static byte readByte(int[] data, int i) {
-		int index = i >> INT_ADDRESS_LINES;
+		return readByte(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static byte readByte(int[] data, long i) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		if (offset == 0)
 			return (byte) d0;
 
@@ -2128,12 +3063,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeByte(int[] data, int i, byte v) {
-		int index = i >> INT_ADDRESS_LINES;
+		writeByte(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 8 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeByte(int[] data, long i, byte v) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		
 		int mask = ~(INT_DATA_MASK << Byte.SIZE) << offset;
 		
@@ -2164,11 +3114,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static char readChar(int[] data, int i) {
-		int index = i >> INT_ADDRESS_LINES;
+		return readChar(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code char} the 16 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static char readChar(int[] data, long i) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		if (offset == 0)
 			return (char) d0;
 
@@ -2195,12 +3159,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeChar(int[] data, int i, char v) {
-		int index = i >> INT_ADDRESS_LINES;
+		writeChar(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 16 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeChar(int[] data, long i, char v) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		
 		int mask = ~(INT_DATA_MASK << Character.SIZE) << offset;
 		
@@ -2231,11 +3210,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static short readShort(int[] data, int i) {
-		int index = i >> INT_ADDRESS_LINES;
+		return readShort(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code short} the 16 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static short readShort(int[] data, long i) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 		
 		int d0 = read(data, index);
 		
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		if (offset == 0)
 			return (short) d0;
 
@@ -2262,12 +3255,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeShort(int[] data, int i, short v) {
-		int index = i >> INT_ADDRESS_LINES;
+		writeShort(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 16 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeShort(int[] data, long i, short v) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		
 		int mask = ~(INT_DATA_MASK << Short.SIZE) << offset;
 		
@@ -2298,11 +3306,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static int readInt(int[] data, int i) {
-		int index = i >> INT_ADDRESS_LINES;
+		return readInt(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code int} the 32 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int readInt(int[] data, long i) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 	
 		int d0 = read(data, index);
 	
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		if (offset == 0)
 			return d0;
 		
@@ -2326,12 +3348,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeInt(int[] data, int i, int v) {
-		int index = i >> INT_ADDRESS_LINES;
+		writeInt(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 32 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeInt(int[] data, long i, int v) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		
 		if (offset == 0) {
 			if (index >= 0)
@@ -2365,12 +3402,26 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static long readLong(int[] data, int i) {
-		int index = i >> INT_ADDRESS_LINES;
+		return readLong(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code long} the 64 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long readLong(int[] data, long i) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 		
 		long d0 = readl(data, index);
 		long d1 = readl(data, ++index);
 	
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		if (offset == 0)
 			return d1 << INT_DATA_LINES | d0;
 		
@@ -2395,12 +3446,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeLong(int[] data, int i, long v) {
-		int index = i >> INT_ADDRESS_LINES;
+		writeLong(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 64 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeLong(int[] data, long i, long v) {
+		int index = saturate(i >> INT_ADDRESS_LINES);
 	
 		if (index >= data.length) return;
 		if (index < -2) return;
 		
-		int offset = i & INT_ADDRESS_MASK;
+		int offset = (int) i & INT_ADDRESS_MASK;
 		if (offset == 0) {
 			if (index >= 0)
 				data[index] = (int)(v >> 0);
@@ -2545,12 +3611,24 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static boolean readBit(long[] data, int i) {
-		int index = i >> LONG_ADDRESS_LINES;
+		return readBit(data, (long) i);
+	}
+
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean readBit(long[] data, long i) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 
 		if (index >= data.length || index < 0)
 			return false;
 		
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		return readBit0(data, index, offset);
 	}
 
@@ -2568,10 +3646,23 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeBit(long[] data, int i, boolean v) {
-		int index = i >> LONG_ADDRESS_LINES;
+		writeBit(data, (long) i, v);
+	}
+
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBit(long[] data, long i, boolean v) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 
 		if (index < data.length && index >= 0)
-			writeBit0(data, index, i & LONG_ADDRESS_MASK, v);
+			writeBit0(data, index, (int) i & LONG_ADDRESS_MASK, v);
 	}
 
 	private static void writeBit0(long[] data, int index, int offset, boolean v) {
@@ -2605,60 +3696,153 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void fill(long[] data, int from, int to, boolean v) {
+		fill(data, (long) from, (long) to, v);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage. The range to be filled extends from offset 
+	 * {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} this method does nothing.
+	 * 
+	 * <p>This method behaves as the following code:
+	 * </p>
+	 * <pre>
+	 *   for(int i = from; i < to; i++)
+	 *     Store.writeBit(data, i, v);
+	 * </pre>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void fill(long[] data, long from, long to, boolean v) {
 		// clamp
 		if (from < 0)
 			from = 0;
 		
-		if (to > data.length << LONG_ADDRESS_LINES)
-			to = data.length << LONG_ADDRESS_LINES;
+		if (to > (long) data.length << LONG_ADDRESS_LINES)
+			to = (long) data.length << LONG_ADDRESS_LINES;
 
 		if (!(to > from))
 			return;
 
-		int[] index  = {from  >> LONG_ADDRESS_LINES, to >> LONG_ADDRESS_LINES};
-		int[] offset = {from  & LONG_ADDRESS_MASK,   to & LONG_ADDRESS_MASK  };
+		int index0 = (int) (from >> LONG_ADDRESS_LINES);
+		int index1 = (int) (to >> LONG_ADDRESS_LINES);
+		int offset0 = (int) from & LONG_ADDRESS_MASK;
+		int offset1 = (int) to & LONG_ADDRESS_MASK;
 		
-		if (index[1] == index[0]) {
+		if (index1 == index0) {
 			// special case: subword count
 			
-			final long LOWEST_BITS_FROM = ~(LONG_DATA_MASK << offset[0]);
-			final long HIGHEST_BITS_TO = LONG_DATA_MASK << offset[1];
+			final long LOWEST_BITS_FROM = ~(LONG_DATA_MASK << offset0);
+			final long HIGHEST_BITS_TO = LONG_DATA_MASK << offset1;
 
 			if (v)
-				data[index[0]] |= ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
+				data[index0] |= ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);
 			else
-				data[index[0]] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
+				data[index0] &= LOWEST_BITS_FROM | HIGHEST_BITS_TO;
 			
 			return;
 		}
 		
-		if (offset[0] != 0) {
+		if (offset0 != 0) {
 			// handle "from" end specially
 			
-			final long HIGHEST_BITS = LONG_DATA_MASK << offset[0];
+			final long HIGHEST_BITS = LONG_DATA_MASK << offset0;
 
 			if (v)
-				data[index[0]] |= HIGHEST_BITS;
+				data[index0] |= HIGHEST_BITS;
 			else
-				data[index[0]] &= ~HIGHEST_BITS;
+				data[index0] &= ~HIGHEST_BITS;
 			
 			// first index already taken care of
-			index[0]++;
+			index0++;
 		}
 
-		if (index[1] > index[0])
-			Arrays.fill(data, index[0], index[1], v ? -1L : 0L);
+		if (index1 > index0)
+			Arrays.fill(data, index0, index1, v ? -1L : 0L);
 
-		if (offset[1] != 0) {
-			final long LOWEST_BITS = ~(LONG_DATA_MASK << offset[1]);
+		if (offset1 != 0) {
+			final long LOWEST_BITS = ~(LONG_DATA_MASK << offset1);
 
 			if (v)
-				data[index[1]] |= LOWEST_BITS;
+				data[index1] |= LOWEST_BITS;
 			else
-				data[index[1]] &= ~LOWEST_BITS;
+				data[index1] &= ~LOWEST_BITS;
 		}
 	}
 
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage, in parallel on the common {@link ForkJoinPool}. Same 
+	 * as {@link #parallelFill(long[], long, long, boolean, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 * 
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void parallelFill(long[] data, long from, long to, boolean v) {
+		parallelFill(data, from, to, v, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage, in parallel. The result is the same as 
+	 * {@link #fill(long[], long, long, boolean)}.
+	 * 
+	 * <p>The region is split on element boundaries into pieces of about 
+	 * {@code grain} bits, which are filled concurrently by the threads of 
+	 * {@code pool}; partial elements at either end are handled by the 
+	 * sequential code.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 * 
+	 * @param data storage array.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void parallelFill(final long[] data, long from, long to, final boolean v, ForkJoinPool pool, long grain) {
+		// clamp: there is no point in splitting offlimits bits
+		from = Math.max(from, 0);
+		to = Math.min(to, (long) data.length << LONG_ADDRESS_LINES);
+		
+		Parallel.invoke(pool, grain, LONG_ADDRESS_LINES, from, to, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				fill(data, from, to, v);
+				return 0;
+			}
+		});
+	}
+
 	/**
 	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
 	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
@@ -2670,11 +3854,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static byte readByte(long[] data, int i) {
-		int index = i >> LONG_ADDRESS_LINES;
+		return readByte(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code byte} the 8 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static byte readByte(long[] data, long i) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 		
 		long d0 = read(data, index);
 		
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		if (offset == 0)
 			return (byte) d0;
 
@@ -2701,12 +3899,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeByte(long[] data, int i, byte v) {
-		int index = i >> LONG_ADDRESS_LINES;
+		writeByte(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 8 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+8}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeByte(long[] data, long i, byte v) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		
 		long mask = ~(LONG_DATA_MASK << Byte.SIZE) << offset;
 		
@@ -2737,11 +3950,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static char readChar(long[] data, int i) {
-		int index = i >> LONG_ADDRESS_LINES;
+		return readChar(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code char} the 16 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static char readChar(long[] data, long i) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 		
 		long d0 = read(data, index);
 		
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		if (offset == 0)
 			return (char) d0;
 
@@ -2768,12 +3995,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeChar(long[] data, int i, char v) {
-		int index = i >> LONG_ADDRESS_LINES;
+		writeChar(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 16 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeChar(long[] data, long i, char v) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		
 		long mask = ~(LONG_DATA_MASK << Character.SIZE) << offset;
 		
@@ -2804,11 +4046,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static short readShort(long[] data, int i) {
-		int index = i >> LONG_ADDRESS_LINES;
+		return readShort(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code short} the 16 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static short readShort(long[] data, long i) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 		
 		long d0 = read(data, index);
 		
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		if (offset == 0)
 			return (short) d0;
 
@@ -2835,12 +4091,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeShort(long[] data, int i, short v) {
-		int index = i >> LONG_ADDRESS_LINES;
+		writeShort(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 16 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+16}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeShort(long[] data, long i, short v) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		
 		long mask = ~(LONG_DATA_MASK << Short.SIZE) << offset;
 		
@@ -2871,11 +4142,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static int readInt(long[] data, int i) {
-		int index = i >> LONG_ADDRESS_LINES;
+		return readInt(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code int} the 32 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int readInt(long[] data, long i) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 		
 		long d0 = read(data, index);
 		
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		if (offset == 0)
 			return (int) d0;
 
@@ -2902,12 +4187,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeInt(long[] data, int i, int v) {
-		int index = i >> LONG_ADDRESS_LINES;
+		writeInt(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 32 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeInt(long[] data, long i, int v) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 		
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		
 		long mask = ~(LONG_DATA_MASK << Integer.SIZE) << offset;
 		
@@ -2938,11 +4238,25 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static long readLong(long[] data, int i) {
-		int index = i >> LONG_ADDRESS_LINES;
+		return readLong(data, (long) i);
+	}
+
+	/**
+	 * Reads as {@code long} the 64 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long readLong(long[] data, long i) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 		
 		long d0 = read(data, index);
 	
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		if (offset == 0)
 			return d0;
 		
@@ -2966,12 +4280,27 @@ public class Store {
 	 * @since 1.0.0
 	 */
 	public static void writeLong(long[] data, int i, long v) {
-		int index = i >> LONG_ADDRESS_LINES;
+		writeLong(data, (long) i, v);
+	}
+
+	/**
+	 * Writes 64 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage array.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeLong(long[] data, long i, long v) {
+		int index = saturate(i >> LONG_ADDRESS_LINES);
 	
 		if (index >= data.length) return;
 		if (index < -1) return;
 		
-		int offset = i & LONG_ADDRESS_MASK;
+		int offset = (int) i & LONG_ADDRESS_MASK;
 		if (offset == 0) {
 			if (index >= 0)
 				data[index] = (v >> 0);
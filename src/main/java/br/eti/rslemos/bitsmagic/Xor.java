@@ -49,6 +49,8 @@ import static br.eti.rslemos.bitsmagic.Store.SHORT_ADDRESS_MASK;
 import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_LINES;
 import static br.eti.rslemos.bitsmagic.Store.SHORT_DATA_MASK;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * This class consists exclusively of static methods that xor bits over arrays 
  * of integral primitive type.
@@ -105,259 +107,356 @@ public class Xor {
 	 * @since 1.0.0
 	 */
 	public static void xorFrom(byte[] source, int srcPos, byte[] dest, int destPos, int length) {
-		if (!checkSafeIndices(srcPos, destPos, length, source.length << BYTE_ADDRESS_LINES, dest.length << BYTE_ADDRESS_LINES))
+		xorFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Xors bits from the specified source storage, beginning at the specified 
+	 * bit, onto the specified bits of the destination storage. A region 
+	 * of bits is xor'ed from the source storage referenced by {@code source} 
+	 * to the destination storage referenced by {@code dest}. The number of 
+	 * bits xor'ed is equal to the {@code length} argument. The bits at offsets 
+	 * {@code srcPos} through {@code srcPos+length-1} in the source storage are 
+	 * xor'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void xorFrom(byte[] source, long srcPos, byte[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << BYTE_ADDRESS_LINES, (long) dest.length << BYTE_ADDRESS_LINES))
 			return;
 		
-		int[] sIndex  = {srcPos  >> BYTE_ADDRESS_LINES, (srcPos  + length) >> BYTE_ADDRESS_LINES};
-		int[] sOffset = {srcPos  & BYTE_ADDRESS_MASK,   (srcPos  + length) & BYTE_ADDRESS_MASK  };
+		int sIndex0 = (int) (srcPos >> BYTE_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> BYTE_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & BYTE_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & BYTE_ADDRESS_MASK;
 		
-		int[] dIndex  = {destPos >> BYTE_ADDRESS_LINES, (destPos + length) >> BYTE_ADDRESS_LINES};
-		int[] dOffset = {destPos & BYTE_ADDRESS_MASK,   (destPos + length) & BYTE_ADDRESS_MASK  };
+		int dIndex0 = (int) (destPos >> BYTE_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> BYTE_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & BYTE_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & BYTE_ADDRESS_MASK;
 		
-		if (sOffset[0] == dOffset[0])
+		if (sOffset0 == dOffset0)
 			// FAST PATH: handle both ends specially, xor middle unchanged
-			xorParallelFrom0(source, dest, sIndex, dIndex, dOffset);
-		else if (sOffset[0] < dOffset[0])
-			xorHigherFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else /* if (sOffset[0] > dOffset[0]) */
-			xorLowerFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			xorHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			xorLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	/**
+	 * Xors bits from the specified source storage, beginning at the 
+	 * specified bit, onto the specified bits of the destination storage, in 
+	 * parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelXorFrom(byte[], long, byte[], long, long, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 *
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelXorFrom(byte[] source, long srcPos, byte[] dest, long destPos, long length) {
+		parallelXorFrom(source, srcPos, dest, destPos, length, null, Parallel.GRAIN);
 	}
 
-	private static void xorParallelFrom0(byte[] source, byte[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dIndex[1] == dIndex[0]) {
+	/**
+	 * Xors bits from the specified source storage, beginning at the 
+	 * specified bit, onto the specified bits of the destination storage, in 
+	 * parallel. The result is the same as 
+	 * {@link #xorFrom(byte[], long, byte[], long, long)}.
+	 * 
+	 * <p>The destination region is split on element boundaries into pieces of 
+	 * about {@code grain} bits, which are xor'ed concurrently by the threads 
+	 * of {@code pool}; partial elements at either end are handled by the 
+	 * sequential code. If source and destination regions overlap (within the 
+	 * same storage) the whole region is xor'ed sequentially.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelXorFrom(final byte[] source, final long srcPos, final byte[] dest, final long destPos, long length, ForkJoinPool pool, long grain) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << BYTE_ADDRESS_LINES, (long) dest.length << BYTE_ADDRESS_LINES))
+			return;
+		
+		if (source == dest && srcPos < destPos + length && destPos < srcPos + length) {
+			xorFrom(source, srcPos, dest, destPos, length);
+			return;
+		}
+		
+		Parallel.invoke(pool, grain, BYTE_ADDRESS_LINES, destPos, destPos + length, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				xorFrom(source, srcPos + (from - destPos), dest, from, to - from);
+				return 0;
+			}
+		});
+	}
+
+	private static void xorParallelFrom0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
 			// special case: subword xor within word and neither offset is zero
 			
-			final int LOWEST_BITS_FROM = ~(BYTE_DATA_MASK << dOffset[0]);
-			final int HIGHEST_BITS_TO = BYTE_DATA_MASK << dOffset[1];
+			final int LOWEST_BITS_FROM = ~(BYTE_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = BYTE_DATA_MASK << dOffset1;
 
-			dest[dIndex[0]] ^= source[sIndex[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);;
+			dest[dIndex0] ^= source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);;
 
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorParallelFromBackwards0(source, dest, sIndex, dIndex, dOffset);
+			xorParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorParallelFromForwards0(byte[] source, byte[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dOffset[0] != 0) {
+	private static void xorParallelFromForwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset0;
 			
-			dest[dIndex[0]] ^= source[sIndex[0]] & HIGHEST_BITS;
+			dest[dIndex0] ^= source[sIndex0] & HIGHEST_BITS;
 			
 			// first index already taken care of
-			sIndex[0]++;
-			dIndex[0]++;
+			sIndex0++;
+			dIndex0++;
 		}
 
-		// unfortunately no fast path available
-		// (though this is fast enough without masking and bit shifting)
-		for(int i = dIndex[0], j = sIndex[0]; i < dIndex[1]; i++, j++)
-			dest[i] ^= source[j];
+		if (Simd.ENABLED)
+			Simd.xorForwards(source, sIndex0, dest, dIndex0, dIndex1 - dIndex0);
+		else
+			// no masking nor bit shifting: plain word loop
+			for(int i = dIndex0, j = sIndex0; i < dIndex1; i++, j++)
+				dest[i] ^= source[j];
 
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			dest[dIndex[1]] ^= source[sIndex[1]] & LOWEST_BITS;
+			dest[dIndex1] ^= source[sIndex1] & LOWEST_BITS;
 		}
 	}
 
-	private static void xorParallelFromBackwards0(byte[] source, byte[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dOffset[1] != 0) {
+	private static void xorParallelFromBackwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			dest[dIndex[1]] ^= source[sIndex[1]] & LOWEST_BITS;
+			dest[dIndex1] ^= source[sIndex1] & LOWEST_BITS;
 		}
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// don't xor the first index if partial
-			dIndex[0]++;
-			sIndex[0]++;
+			dIndex0++;
+			sIndex0++;
 		}
 		
-		// unfortunately no fast path available
-		// (though this is fast enough without masking and bit shifting)
-		for(int i = dIndex[1] - 1, j = sIndex[1] - 1; i >= dIndex[0]; i--, j--)
-			dest[i] ^= source[j];
+		if (Simd.ENABLED)
+			Simd.xorBackwards(source, sIndex0, dest, dIndex0, dIndex1 - dIndex0);
+		else
+			// no masking nor bit shifting: plain word loop
+			for(int i = dIndex1 - 1, j = sIndex1 - 1; i >= dIndex0; i--, j--)
+				dest[i] ^= source[j];
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
-			sIndex[0]--;
-			dIndex[0]--;
+			sIndex0--;
+			dIndex0--;
 			
-			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = BYTE_DATA_MASK << dOffset0;
 			
-			dest[dIndex[0]] ^= source[sIndex[0]] & HIGHEST_BITS;
+			dest[dIndex0] ^= source[sIndex0] & HIGHEST_BITS;
 		}
 	}
 
-	private static void xorHigherFrom0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (dIndex[0] == dIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void xorHigherFrom0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 					
-			// At this point dIndex[0] == dIndex[1] AND sOffset[0] < dOffset[0].
-			// This implies that sIndex[0] == sIndex[1] (so there is no need to xor more than 1 chunk).
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to xor more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			dest[d] ^= (source[s] << dOffset[0] - sOffset[0]) & ~(BYTE_DATA_MASK << dOffset[1]) & BYTE_DATA_MASK << dOffset[0];
+			dest[d] ^= (source[s] << dOffset0 - sOffset0) & ~(BYTE_DATA_MASK << dOffset1) & BYTE_DATA_MASK << dOffset0;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorHigherFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorHigherFromForwards0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[0];
-		int s = sIndex[0];
+	private static void xorHigherFromForwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
 				
-		dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset[0] << dOffset[0]; 
+		dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0; 
 
-		while(++d < dIndex[1]) {
-			dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]);
+		while(++d < dIndex1) {
+			dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0);
 
 			++s;
 
-			dest[d] ^= source[s] << dOffset[0] - sOffset[0];
+			dest[d] ^= source[s] << dOffset0 - sOffset0;
 		}
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				dest[d] ^= (source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset[1])) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]);
-			} else /* dOffset[1] > sOffset[1] */ {
-				dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]);
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] ^= (source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0);
+			} else /* dOffset1 > sOffset1 */ {
+				dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0);
 				
-				if (sOffset[1] > 0) {
+				if (sOffset1 > 0) {
 					s++;
 					
-					dest[d] ^= (source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
+					dest[d] ^= (source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
 				}
 			}
 		}
 	}
 
-	private static void xorHigherFromBackwards0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[1];
-		int s = sIndex[1];
+	private static void xorHigherFromBackwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
 				
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				dest[d] ^= (source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset[1])) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]);
-			} else /* dOffset[1] > sOffset[1] */ {
-				if (sOffset[1] > 0) {
-					dest[d] ^= (source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				dest[d] ^= (source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0);
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					dest[d] ^= (source[s] & BYTE_DATA_MASK & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
 				}
 				
 				s--;
 				
-				dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]);
+				dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0);
 			}
 		}
 
-		while(--d > dIndex[0]) {
-			dest[d] ^= source[s] << dOffset[0] - sOffset[0];
+		while(--d > dIndex0) {
+			dest[d] ^= source[s] << dOffset0 - sOffset0;
 
 			--s;
 
-			dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset[0] - sOffset[0]);
+			dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> BYTE_DATA_LINES - (dOffset0 - sOffset0);
 		}
 
-		dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset[0] << dOffset[0]; 
+		dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0; 
 	}
 
-	private static void xorLowerFrom0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (sIndex[0] == sIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void xorLowerFrom0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 			
-			// At this point sIndex[0] == sIndex[1] AND sOffset[0] > dOffset[0].
-			// This implies that dIndex[0] == dIndex[1] (so there is no need to xor more than 1 chunk).
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to xor more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> (sOffset[0] - dOffset[0]) & ~(BYTE_DATA_MASK << dOffset[1]) & BYTE_DATA_MASK << dOffset[0];
+			dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> (sOffset0 - dOffset0) & ~(BYTE_DATA_MASK << dOffset1) & BYTE_DATA_MASK << dOffset0;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorLowerFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorLowerFromForwards0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[0];
-		int s = sIndex[0];
+	private static void xorLowerFromForwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset[0] << dOffset[0];
+		dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0;
 
-		while(++s < sIndex[1]) {
-			dest[d] ^= source[s] << BYTE_DATA_LINES - (sOffset[0] - dOffset[0]);
+		while(++s < sIndex1) {
+			dest[d] ^= source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0);
 
 			++d;
 
-			dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset[0] - dOffset[0];
+			dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset0 - dOffset0;
 		}
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(BYTE_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-			} else /* dOffset[1] < sOffset[1] */ {
-				dest[d] ^= source[s] << BYTE_DATA_LINES - (sOffset[0] - dOffset[0]);
-
-				if (dOffset[1] > 0) {
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+			} else /* dOffset1 < sOffset1 */ {
+				dest[d] ^= source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0);
+
+				if (dOffset1 > 0) {
 					d++;
 					
-					dest[d] ^= (source[s] & ~(BYTE_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
+					dest[d] ^= (source[s] & ~(BYTE_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
 				}
 			}
 		}
 	}
 
-	private static void xorLowerFromBackwards0(byte[] source, byte[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[1];
-		int s = sIndex[1];
+	private static void xorLowerFromBackwards0(byte[] source, byte[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(BYTE_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-			} else /* dOffset[1] < sOffset[1] */ {
-				if (dOffset[1] > 0) {
-					dest[d] ^= (source[s] & ~(BYTE_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(BYTE_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					dest[d] ^= (source[s] & ~(BYTE_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
 				}
 				
 				d--;
 				
-				dest[d] ^= source[s] << BYTE_DATA_LINES - (sOffset[0] - dOffset[0]);
+				dest[d] ^= source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0);
 			}
 		}
 
-		while(--s > sIndex[0]) {
-			dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset[0] - dOffset[0];
+		while(--s > sIndex0) {
+			dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset0 - dOffset0;
 
 			--d;
 
-			dest[d] ^= source[s] << BYTE_DATA_LINES - (sOffset[0] - dOffset[0]);
+			dest[d] ^= source[s] << BYTE_DATA_LINES - (sOffset0 - dOffset0);
 		}
 		
-		dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset[0] << dOffset[0];
+		dest[d] ^= (source[s] & BYTE_DATA_MASK) >>> sOffset0 << dOffset0;
 	}
 
 	/********** char[] **********/
@@ -381,260 +480,357 @@ public class Xor {
 	 * @since 1.0.0
 	 */
 	public static void xorFrom(char[] source, int srcPos, char[] dest, int destPos, int length) {
-		if (!checkSafeIndices(srcPos, destPos, length, source.length << CHAR_ADDRESS_LINES, dest.length << CHAR_ADDRESS_LINES))
+		xorFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Xors bits from the specified source storage, beginning at the specified 
+	 * bit, onto the specified bits of the destination storage. A region 
+	 * of bits is xor'ed from the source storage referenced by {@code source} 
+	 * to the destination storage referenced by {@code dest}. The number of 
+	 * bits xor'ed is equal to the {@code length} argument. The bits at offsets 
+	 * {@code srcPos} through {@code srcPos+length-1} in the source storage are 
+	 * xor'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void xorFrom(char[] source, long srcPos, char[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << CHAR_ADDRESS_LINES, (long) dest.length << CHAR_ADDRESS_LINES))
 			return;
 		
-		int[] sIndex  = {srcPos  >> CHAR_ADDRESS_LINES, (srcPos  + length) >> CHAR_ADDRESS_LINES};
-		int[] sOffset = {srcPos  & CHAR_ADDRESS_MASK,   (srcPos  + length) & CHAR_ADDRESS_MASK  };
+		int sIndex0 = (int) (srcPos >> CHAR_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> CHAR_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & CHAR_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & CHAR_ADDRESS_MASK;
 		
-		int[] dIndex  = {destPos >> CHAR_ADDRESS_LINES, (destPos + length) >> CHAR_ADDRESS_LINES};
-		int[] dOffset = {destPos & CHAR_ADDRESS_MASK,   (destPos + length) & CHAR_ADDRESS_MASK  };
+		int dIndex0 = (int) (destPos >> CHAR_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> CHAR_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & CHAR_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & CHAR_ADDRESS_MASK;
 		
-		if (sOffset[0] == dOffset[0])
+		if (sOffset0 == dOffset0)
 			// FAST PATH: handle both ends specially, xor middle unchanged
-			xorParallelFrom0(source, dest, sIndex, dIndex, dOffset);
-		else if (sOffset[0] < dOffset[0])
-			xorHigherFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else /* if (sOffset[0] > dOffset[0]) */
-			xorLowerFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			xorHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			xorLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+	}
+
+	/**
+	 * Xors bits from the specified source storage, beginning at the 
+	 * specified bit, onto the specified bits of the destination storage, in 
+	 * parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelXorFrom(char[], long, char[], long, long, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 *
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelXorFrom(char[] source, long srcPos, char[] dest, long destPos, long length) {
+		parallelXorFrom(source, srcPos, dest, destPos, length, null, Parallel.GRAIN);
 	}
 
-	private static void xorParallelFrom0(char[] source, char[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dIndex[1] == dIndex[0]) {
+	/**
+	 * Xors bits from the specified source storage, beginning at the 
+	 * specified bit, onto the specified bits of the destination storage, in 
+	 * parallel. The result is the same as 
+	 * {@link #xorFrom(char[], long, char[], long, long)}.
+	 * 
+	 * <p>The destination region is split on element boundaries into pieces of 
+	 * about {@code grain} bits, which are xor'ed concurrently by the threads 
+	 * of {@code pool}; partial elements at either end are handled by the 
+	 * sequential code. If source and destination regions overlap (within the 
+	 * same storage) the whole region is xor'ed sequentially.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelXorFrom(final char[] source, final long srcPos, final char[] dest, final long destPos, long length, ForkJoinPool pool, long grain) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << CHAR_ADDRESS_LINES, (long) dest.length << CHAR_ADDRESS_LINES))
+			return;
+		
+		if (source == dest && srcPos < destPos + length && destPos < srcPos + length) {
+			xorFrom(source, srcPos, dest, destPos, length);
+			return;
+		}
+		
+		Parallel.invoke(pool, grain, CHAR_ADDRESS_LINES, destPos, destPos + length, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				xorFrom(source, srcPos + (from - destPos), dest, from, to - from);
+				return 0;
+			}
+		});
+	}
+
+	private static void xorParallelFrom0(char[] source, char[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
 			// special case: subword xor within word and neither offset is zero
 			
-			final int LOWEST_BITS_FROM = ~(CHAR_DATA_MASK << dOffset[0]);
-			final int HIGHEST_BITS_TO = CHAR_DATA_MASK << dOffset[1];
+			final int LOWEST_BITS_FROM = ~(CHAR_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = CHAR_DATA_MASK << dOffset1;
 
-			dest[dIndex[0]] ^= source[sIndex[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);;
+			dest[dIndex0] ^= source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);;
 
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorParallelFromBackwards0(source, dest, sIndex, dIndex, dOffset);
+			xorParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorParallelFromForwards0(char[] source, char[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dOffset[0] != 0) {
+	private static void xorParallelFromForwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset0;
 			
-			dest[dIndex[0]] ^= source[sIndex[0]] & HIGHEST_BITS;
+			dest[dIndex0] ^= source[sIndex0] & HIGHEST_BITS;
 			
 			// first index already taken care of
-			sIndex[0]++;
-			dIndex[0]++;
+			sIndex0++;
+			dIndex0++;
 		}
 
-		// unfortunately no fast path available
-		// (though this is fast enough without masking and bit shifting)
-		for(int i = dIndex[0], j = sIndex[0]; i < dIndex[1]; i++, j++)
-			dest[i] ^= source[j];
+		if (Simd.ENABLED)
+			Simd.xorForwards(source, sIndex0, dest, dIndex0, dIndex1 - dIndex0);
+		else
+			// no masking nor bit shifting: plain word loop
+			for(int i = dIndex0, j = sIndex0; i < dIndex1; i++, j++)
+				dest[i] ^= source[j];
 
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			dest[dIndex[1]] ^= source[sIndex[1]] & LOWEST_BITS;
+			dest[dIndex1] ^= source[sIndex1] & LOWEST_BITS;
 		}
 	}
 
-	private static void xorParallelFromBackwards0(char[] source, char[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dOffset[1] != 0) {
+	private static void xorParallelFromBackwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			dest[dIndex[1]] ^= source[sIndex[1]] & LOWEST_BITS;
+			dest[dIndex1] ^= source[sIndex1] & LOWEST_BITS;
 		}
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// don't xor the first index if partial
-			dIndex[0]++;
-			sIndex[0]++;
+			dIndex0++;
+			sIndex0++;
 		}
 		
-		// unfortunately no fast path available
-		// (though this is fast enough without masking and bit shifting)
-		for(int i = dIndex[1] - 1, j = sIndex[1] - 1; i >= dIndex[0]; i--, j--)
-			dest[i] ^= source[j];
+		if (Simd.ENABLED)
+			Simd.xorBackwards(source, sIndex0, dest, dIndex0, dIndex1 - dIndex0);
+		else
+			// no masking nor bit shifting: plain word loop
+			for(int i = dIndex1 - 1, j = sIndex1 - 1; i >= dIndex0; i--, j--)
+				dest[i] ^= source[j];
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
-			sIndex[0]--;
-			dIndex[0]--;
+			sIndex0--;
+			dIndex0--;
 			
-			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = CHAR_DATA_MASK << dOffset0;
 			
-			dest[dIndex[0]] ^= source[sIndex[0]] & HIGHEST_BITS;
+			dest[dIndex0] ^= source[sIndex0] & HIGHEST_BITS;
 		}
 	}
 
-	private static void xorHigherFrom0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (dIndex[0] == dIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void xorHigherFrom0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 					
-			// At this point dIndex[0] == dIndex[1] AND sOffset[0] < dOffset[0].
-			// This implies that sIndex[0] == sIndex[1] (so there is no need to xor more than 1 chunk).
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to xor more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			dest[d] ^= (source[s] << dOffset[0] - sOffset[0]) & ~(CHAR_DATA_MASK << dOffset[1]) & CHAR_DATA_MASK << dOffset[0];
+			dest[d] ^= (source[s] << dOffset0 - sOffset0) & ~(CHAR_DATA_MASK << dOffset1) & CHAR_DATA_MASK << dOffset0;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorHigherFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorHigherFromForwards0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[0];
-		int s = sIndex[0];
+	private static void xorHigherFromForwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
 				
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0]; 
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0; 
 
-		while(++d < dIndex[1]) {
-			dest[d] ^= source[s] >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]);
+		while(++d < dIndex1) {
+			dest[d] ^= source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0);
 
 			++s;
 
-			dest[d] ^= source[s] << dOffset[0] - sOffset[0];
+			dest[d] ^= source[s] << dOffset0 - sOffset0;
 		}
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset[1])) >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]);
-			} else /* dOffset[1] > sOffset[1] */ {
-				dest[d] ^= source[s] >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]);
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> CHAR_DATA_LINES - (dOffset0 - sOffset0);
+			} else /* dOffset1 > sOffset1 */ {
+				dest[d] ^= source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0);
 				
-				if (sOffset[1] > 0) {
+				if (sOffset1 > 0) {
 					s++;
 					
-					dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
+					dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
 				}
 			}
 		}
 	}
 
-	private static void xorHigherFromBackwards0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[1];
-		int s = sIndex[1];
+	private static void xorHigherFromBackwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
 				
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset[1])) >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]);
-			} else /* dOffset[1] > sOffset[1] */ {
-				if (sOffset[1] > 0) {
-					dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> CHAR_DATA_LINES - (dOffset0 - sOffset0);
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
 				}
 				
 				s--;
 				
-				dest[d] ^= source[s] >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]);
+				dest[d] ^= source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0);
 			}
 		}
 
-		while(--d > dIndex[0]) {
-			dest[d] ^= source[s] << dOffset[0] - sOffset[0];
+		while(--d > dIndex0) {
+			dest[d] ^= source[s] << dOffset0 - sOffset0;
 
 			--s;
 
-			dest[d] ^= source[s] >>> CHAR_DATA_LINES - (dOffset[0] - sOffset[0]);
+			dest[d] ^= source[s] >>> CHAR_DATA_LINES - (dOffset0 - sOffset0);
 		}
 
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0]; 
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0; 
 	}
 
-	private static void xorLowerFrom0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (sIndex[0] == sIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void xorLowerFrom0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 			
-			// At this point sIndex[0] == sIndex[1] AND sOffset[0] > dOffset[0].
-			// This implies that dIndex[0] == dIndex[1] (so there is no need to xor more than 1 chunk).
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to xor more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			dest[d] ^= source[s] >>> (sOffset[0] - dOffset[0]) & ~(CHAR_DATA_MASK << dOffset[1]) & CHAR_DATA_MASK << dOffset[0];
+			dest[d] ^= source[s] >>> (sOffset0 - dOffset0) & ~(CHAR_DATA_MASK << dOffset1) & CHAR_DATA_MASK << dOffset0;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorLowerFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorLowerFromForwards0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[0];
-		int s = sIndex[0];
+	private static void xorLowerFromForwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0];
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0;
 
-		while(++s < sIndex[1]) {
-			dest[d] ^= source[s] << CHAR_DATA_LINES - (sOffset[0] - dOffset[0]);
+		while(++s < sIndex1) {
+			dest[d] ^= source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0);
 
 			++d;
 
-			dest[d] ^= source[s] >>> sOffset[0] - dOffset[0];
+			dest[d] ^= source[s] >>> sOffset0 - dOffset0;
 		}
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-			} else /* dOffset[1] < sOffset[1] */ {
-				dest[d] ^= source[s] << CHAR_DATA_LINES - (sOffset[0] - dOffset[0]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+			} else /* dOffset1 < sOffset1 */ {
+				dest[d] ^= source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0);
 				
-				if (dOffset[1] > 0) {
+				if (dOffset1 > 0) {
 					d++;
 					
-					dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
+					dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
 				}
 			}
 		}
 	}
 
-	private static void xorLowerFromBackwards0(char[] source, char[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[1];
-		int s = sIndex[1];
+	private static void xorLowerFromBackwards0(char[] source, char[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-			} else /* dOffset[1] < sOffset[1] */ {
-				if (dOffset[1] > 0) {
-					dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					dest[d] ^= (source[s] & ~(CHAR_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
 				}
 				
 				d--;
 				
-				dest[d] ^= source[s] << CHAR_DATA_LINES - (sOffset[0] - dOffset[0]);
+				dest[d] ^= source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0);
 			}
 		}
 
-		while(--s > sIndex[0]) {
-			dest[d] ^= source[s] >>> sOffset[0] - dOffset[0];
+		while(--s > sIndex0) {
+			dest[d] ^= source[s] >>> sOffset0 - dOffset0;
 
 			--d;
 
-			dest[d] ^= source[s] << CHAR_DATA_LINES - (sOffset[0] - dOffset[0]);
+			dest[d] ^= source[s] << CHAR_DATA_LINES - (sOffset0 - dOffset0);
 		}
 		
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0];
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0;
 	}
 
 	/********** short[] **********/
@@ -658,258 +854,355 @@ public class Xor {
 	 * @since 1.0.0
 	 */
 	public static void xorFrom(short[] source, int srcPos, short[] dest, int destPos, int length) {
-		if (!checkSafeIndices(srcPos, destPos, length, source.length << SHORT_ADDRESS_LINES, dest.length << SHORT_ADDRESS_LINES))
+		xorFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Xors bits from the specified source storage, beginning at the specified 
+	 * bit, onto the specified bits of the destination storage. A region 
+	 * of bits is xor'ed from the source storage referenced by {@code source} 
+	 * to the destination storage referenced by {@code dest}. The number of 
+	 * bits xor'ed is equal to the {@code length} argument. The bits at offsets 
+	 * {@code srcPos} through {@code srcPos+length-1} in the source storage are 
+	 * xor'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void xorFrom(short[] source, long srcPos, short[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << SHORT_ADDRESS_LINES, (long) dest.length << SHORT_ADDRESS_LINES))
 			return;
 		
-		int[] sIndex  = {srcPos  >> SHORT_ADDRESS_LINES, (srcPos  + length) >> SHORT_ADDRESS_LINES};
-		int[] sOffset = {srcPos  & SHORT_ADDRESS_MASK,   (srcPos  + length) & SHORT_ADDRESS_MASK  };
+		int sIndex0 = (int) (srcPos >> SHORT_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> SHORT_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & SHORT_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & SHORT_ADDRESS_MASK;
 		
-		int[] dIndex  = {destPos >> SHORT_ADDRESS_LINES, (destPos + length) >> SHORT_ADDRESS_LINES};
-		int[] dOffset = {destPos & SHORT_ADDRESS_MASK,   (destPos + length) & SHORT_ADDRESS_MASK  };
+		int dIndex0 = (int) (destPos >> SHORT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> SHORT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & SHORT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & SHORT_ADDRESS_MASK;
 		
-		if (sOffset[0] == dOffset[0])
+		if (sOffset0 == dOffset0)
 			// FAST PATH: handle both ends specially, xor middle unchanged
-			xorParallelFrom0(source, dest, sIndex, dIndex, dOffset);
-		else if (sOffset[0] < dOffset[0])
-			xorHigherFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else /* if (sOffset[0] > dOffset[0]) */
-			xorLowerFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			xorHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			xorLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorParallelFrom0(short[] source, short[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dIndex[1] == dIndex[0]) {
+	/**
+	 * Xors bits from the specified source storage, beginning at the 
+	 * specified bit, onto the specified bits of the destination storage, in 
+	 * parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelXorFrom(short[], long, short[], long, long, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 *
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelXorFrom(short[] source, long srcPos, short[] dest, long destPos, long length) {
+		parallelXorFrom(source, srcPos, dest, destPos, length, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Xors bits from the specified source storage, beginning at the 
+	 * specified bit, onto the specified bits of the destination storage, in 
+	 * parallel. The result is the same as 
+	 * {@link #xorFrom(short[], long, short[], long, long)}.
+	 * 
+	 * <p>The destination region is split on element boundaries into pieces of 
+	 * about {@code grain} bits, which are xor'ed concurrently by the threads 
+	 * of {@code pool}; partial elements at either end are handled by the 
+	 * sequential code. If source and destination regions overlap (within the 
+	 * same storage) the whole region is xor'ed sequentially.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelXorFrom(final short[] source, final long srcPos, final short[] dest, final long destPos, long length, ForkJoinPool pool, long grain) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << SHORT_ADDRESS_LINES, (long) dest.length << SHORT_ADDRESS_LINES))
+			return;
+		
+		if (source == dest && srcPos < destPos + length && destPos < srcPos + length) {
+			xorFrom(source, srcPos, dest, destPos, length);
+			return;
+		}
+		
+		Parallel.invoke(pool, grain, SHORT_ADDRESS_LINES, destPos, destPos + length, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				xorFrom(source, srcPos + (from - destPos), dest, from, to - from);
+				return 0;
+			}
+		});
+	}
+
+	private static void xorParallelFrom0(short[] source, short[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
 			// special case: subword xor within word and neither offset is zero
 			
-			final int LOWEST_BITS_FROM = ~(SHORT_DATA_MASK << dOffset[0]);
-			final int HIGHEST_BITS_TO = SHORT_DATA_MASK << dOffset[1];
+			final int LOWEST_BITS_FROM = ~(SHORT_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = SHORT_DATA_MASK << dOffset1;
 
-			dest[dIndex[0]] ^= source[sIndex[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);;
+			dest[dIndex0] ^= source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);;
 
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorParallelFromBackwards0(source, dest, sIndex, dIndex, dOffset);
+			xorParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorParallelFromForwards0(short[] source, short[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dOffset[0] != 0) {
+	private static void xorParallelFromForwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset0;
 			
-			dest[dIndex[0]] ^= source[sIndex[0]] & HIGHEST_BITS;
+			dest[dIndex0] ^= source[sIndex0] & HIGHEST_BITS;
 			
 			// first index already taken care of
-			sIndex[0]++;
-			dIndex[0]++;
+			sIndex0++;
+			dIndex0++;
 		}
 
-		// unfortunately no fast path available
-		// (though this is fast enough without masking and bit shifting)
-		for(int i = dIndex[0], j = sIndex[0]; i < dIndex[1]; i++, j++)
-			dest[i] ^= source[j];
+		if (Simd.ENABLED)
+			Simd.xorForwards(source, sIndex0, dest, dIndex0, dIndex1 - dIndex0);
+		else
+			// no masking nor bit shifting: plain word loop
+			for(int i = dIndex0, j = sIndex0; i < dIndex1; i++, j++)
+				dest[i] ^= source[j];
 
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			dest[dIndex[1]] ^= source[sIndex[1]] & LOWEST_BITS;
+			dest[dIndex1] ^= source[sIndex1] & LOWEST_BITS;
 		}
 	}
 
-	private static void xorParallelFromBackwards0(short[] source, short[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dOffset[1] != 0) {
+	private static void xorParallelFromBackwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			dest[dIndex[1]] ^= source[sIndex[1]] & LOWEST_BITS;
+			dest[dIndex1] ^= source[sIndex1] & LOWEST_BITS;
 		}
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// don't xor the first index if partial
-			dIndex[0]++;
-			sIndex[0]++;
+			dIndex0++;
+			sIndex0++;
 		}
 		
-		// unfortunately no fast path available
-		// (though this is fast enough without masking and bit shifting)
-		for(int i = dIndex[1] - 1, j = sIndex[1] - 1; i >= dIndex[0]; i--, j--)
-			dest[i] ^= source[j];
+		if (Simd.ENABLED)
+			Simd.xorBackwards(source, sIndex0, dest, dIndex0, dIndex1 - dIndex0);
+		else
+			// no masking nor bit shifting: plain word loop
+			for(int i = dIndex1 - 1, j = sIndex1 - 1; i >= dIndex0; i--, j--)
+				dest[i] ^= source[j];
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
-			sIndex[0]--;
-			dIndex[0]--;
+			sIndex0--;
+			dIndex0--;
 			
-			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = SHORT_DATA_MASK << dOffset0;
 			
-			dest[dIndex[0]] ^= source[sIndex[0]] & HIGHEST_BITS;
+			dest[dIndex0] ^= source[sIndex0] & HIGHEST_BITS;
 		}
 	}
 
-	private static void xorHigherFrom0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (dIndex[0] == dIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void xorHigherFrom0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 					
-			// At this point dIndex[0] == dIndex[1] AND sOffset[0] < dOffset[0].
-			// This implies that sIndex[0] == sIndex[1] (so there is no need to xor more than 1 chunk).
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to xor more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			dest[d] ^= (source[s] << dOffset[0] - sOffset[0]) & ~(SHORT_DATA_MASK << dOffset[1]) & SHORT_DATA_MASK << dOffset[0];
+			dest[d] ^= (source[s] << dOffset0 - sOffset0) & ~(SHORT_DATA_MASK << dOffset1) & SHORT_DATA_MASK << dOffset0;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorHigherFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorHigherFromForwards0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[0];
-		int s = sIndex[0];
+	private static void xorHigherFromForwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
 				
-		dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset[0] << dOffset[0]; 
+		dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0; 
 
-		while(++d < dIndex[1]) {
-			dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]);
+		while(++d < dIndex1) {
+			dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0);
 
 			++s;
 
-			dest[d] ^= source[s] << dOffset[0] - sOffset[0];
+			dest[d] ^= source[s] << dOffset0 - sOffset0;
 		}
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				dest[d] ^= (source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset[1])) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]);
-			} else /* dOffset[1] > sOffset[1] */ {
-				dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]);
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] ^= (source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0);
+			} else /* dOffset1 > sOffset1 */ {
+				dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0);
 				
-				if (sOffset[1] > 0) {
+				if (sOffset1 > 0) {
 					s++;
 					
-					dest[d] ^= (source[s] & ~(SHORT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
+					dest[d] ^= (source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
 				}
 			}
 		}
 	}
 
-	private static void xorHigherFromBackwards0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[1];
-		int s = sIndex[1];
+	private static void xorHigherFromBackwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
 				
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				dest[d] ^= (source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset[1])) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]);
-			} else /* dOffset[1] > sOffset[1] */ {
-				if (sOffset[1] > 0) {
-					dest[d] ^= (source[s] & ~(SHORT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				dest[d] ^= (source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0);
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					dest[d] ^= (source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
 				}
 				
 				s--;
 				
-				dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]);
+				dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0);
 			}
 		}
 
-		while(--d > dIndex[0]) {
-			dest[d] ^= source[s] << dOffset[0] - sOffset[0];
+		while(--d > dIndex0) {
+			dest[d] ^= source[s] << dOffset0 - sOffset0;
 
 			--s;
 
-			dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset[0] - sOffset[0]);
+			dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> SHORT_DATA_LINES - (dOffset0 - sOffset0);
 		}
 
-		dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset[0] << dOffset[0]; 
+		dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0; 
 	}
 
-	private static void xorLowerFrom0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (sIndex[0] == sIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void xorLowerFrom0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 			
-			// At this point sIndex[0] == sIndex[1] AND sOffset[0] > dOffset[0].
-			// This implies that dIndex[0] == dIndex[1] (so there is no need to xor more than 1 chunk).
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to xor more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> (sOffset[0] - dOffset[0]) & ~(SHORT_DATA_MASK << dOffset[1]) & SHORT_DATA_MASK << dOffset[0];
+			dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> (sOffset0 - dOffset0) & ~(SHORT_DATA_MASK << dOffset1) & SHORT_DATA_MASK << dOffset0;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorLowerFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorLowerFromForwards0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[0];
-		int s = sIndex[0];
+	private static void xorLowerFromForwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset[0] << dOffset[0];
+		dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0;
 
-		while(++s < sIndex[1]) {
-			dest[d] ^= source[s] << SHORT_DATA_LINES - (sOffset[0] - dOffset[0]);
+		while(++s < sIndex1) {
+			dest[d] ^= source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0);
 
 			++d;
 
-			dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset[0] - dOffset[0];
+			dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset0 - dOffset0;
 		}
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(SHORT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-			} else /* dOffset[1] < sOffset[1] */ {
-				dest[d] ^= source[s] << SHORT_DATA_LINES - (sOffset[0] - dOffset[0]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+			} else /* dOffset1 < sOffset1 */ {
+				dest[d] ^= source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0);
 				
-				if (dOffset[1] > 0) {
+				if (dOffset1 > 0) {
 					d++;
 					
-					dest[d] ^= (source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
+					dest[d] ^= (source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
 				}
 			}
 		}
 	}
 
-	private static void xorLowerFromBackwards0(short[] source, short[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[1];
-		int s = sIndex[1];
+	private static void xorLowerFromBackwards0(short[] source, short[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				dest[d] ^= (source[s] & ~(SHORT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-			} else /* dOffset[1] < sOffset[1] */ {
-				if (dOffset[1] > 0) {
-					dest[d] ^= (source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				dest[d] ^= (source[s] & ~(SHORT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					dest[d] ^= (source[s] & SHORT_DATA_MASK & ~(SHORT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
 				}
 				
 				d--;
 				
-				dest[d] ^= source[s] << SHORT_DATA_LINES - (sOffset[0] - dOffset[0]);
+				dest[d] ^= source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0);
 			}
 		}
 
-		while(--s > sIndex[0]) {
-			dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset[0] - dOffset[0];
+		while(--s > sIndex0) {
+			dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset0 - dOffset0;
 
 			--d;
 
-			dest[d] ^= source[s] << SHORT_DATA_LINES - (sOffset[0] - dOffset[0]);
+			dest[d] ^= source[s] << SHORT_DATA_LINES - (sOffset0 - dOffset0);
 		}
 		
-		dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset[0] << dOffset[0];
+		dest[d] ^= (source[s] & SHORT_DATA_MASK) >>> sOffset0 << dOffset0;
 	}
 
 	/********** int[] **********/
@@ -933,258 +1226,355 @@ public class Xor {
 	 * @since 1.0.0
 	 */
 	public static void xorFrom(int[] source, int srcPos, int[] dest, int destPos, int length) {
-		if (!checkSafeIndices(srcPos, destPos, length, source.length << INT_ADDRESS_LINES, dest.length << INT_ADDRESS_LINES))
+		xorFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Xors bits from the specified source storage, beginning at the specified 
+	 * bit, onto the specified bits of the destination storage. A region 
+	 * of bits is xor'ed from the source storage referenced by {@code source} 
+	 * to the destination storage referenced by {@code dest}. The number of 
+	 * bits xor'ed is equal to the {@code length} argument. The bits at offsets 
+	 * {@code srcPos} through {@code srcPos+length-1} in the source storage are 
+	 * xor'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void xorFrom(int[] source, long srcPos, int[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << INT_ADDRESS_LINES, (long) dest.length << INT_ADDRESS_LINES))
 			return;
 		
-		int[] sIndex  = {srcPos  >> INT_ADDRESS_LINES, (srcPos  + length) >> INT_ADDRESS_LINES};
-		int[] sOffset = {srcPos  & INT_ADDRESS_MASK,   (srcPos  + length) & INT_ADDRESS_MASK  };
+		int sIndex0 = (int) (srcPos >> INT_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> INT_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & INT_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & INT_ADDRESS_MASK;
 		
-		int[] dIndex  = {destPos >> INT_ADDRESS_LINES, (destPos + length) >> INT_ADDRESS_LINES};
-		int[] dOffset = {destPos & INT_ADDRESS_MASK,   (destPos + length) & INT_ADDRESS_MASK  };
+		int dIndex0 = (int) (destPos >> INT_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> INT_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & INT_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & INT_ADDRESS_MASK;
 		
-		if (sOffset[0] == dOffset[0])
+		if (sOffset0 == dOffset0)
 			// FAST PATH: handle both ends specially, xor middle unchanged
-			xorParallelFrom0(source, dest, sIndex, dIndex, dOffset);
-		else if (sOffset[0] < dOffset[0])
-			xorHigherFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else /* if (sOffset[0] > dOffset[0]) */
-			xorLowerFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			xorHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			xorLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorParallelFrom0(int[] source, int[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dIndex[1] == dIndex[0]) {
+	/**
+	 * Xors bits from the specified source storage, beginning at the 
+	 * specified bit, onto the specified bits of the destination storage, in 
+	 * parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelXorFrom(int[], long, int[], long, long, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 *
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelXorFrom(int[] source, long srcPos, int[] dest, long destPos, long length) {
+		parallelXorFrom(source, srcPos, dest, destPos, length, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Xors bits from the specified source storage, beginning at the 
+	 * specified bit, onto the specified bits of the destination storage, in 
+	 * parallel. The result is the same as 
+	 * {@link #xorFrom(int[], long, int[], long, long)}.
+	 * 
+	 * <p>The destination region is split on element boundaries into pieces of 
+	 * about {@code grain} bits, which are xor'ed concurrently by the threads 
+	 * of {@code pool}; partial elements at either end are handled by the 
+	 * sequential code. If source and destination regions overlap (within the 
+	 * same storage) the whole region is xor'ed sequentially.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelXorFrom(final int[] source, final long srcPos, final int[] dest, final long destPos, long length, ForkJoinPool pool, long grain) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << INT_ADDRESS_LINES, (long) dest.length << INT_ADDRESS_LINES))
+			return;
+		
+		if (source == dest && srcPos < destPos + length && destPos < srcPos + length) {
+			xorFrom(source, srcPos, dest, destPos, length);
+			return;
+		}
+		
+		Parallel.invoke(pool, grain, INT_ADDRESS_LINES, destPos, destPos + length, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				xorFrom(source, srcPos + (from - destPos), dest, from, to - from);
+				return 0;
+			}
+		});
+	}
+
+	private static void xorParallelFrom0(int[] source, int[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
 			// special case: subword xor within word and neither offset is zero
 			
-			final int LOWEST_BITS_FROM = ~(INT_DATA_MASK << dOffset[0]);
-			final int HIGHEST_BITS_TO = INT_DATA_MASK << dOffset[1];
+			final int LOWEST_BITS_FROM = ~(INT_DATA_MASK << dOffset0);
+			final int HIGHEST_BITS_TO = INT_DATA_MASK << dOffset1;
 
-			dest[dIndex[0]] ^= source[sIndex[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);;
+			dest[dIndex0] ^= source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);;
 
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorParallelFromBackwards0(source, dest, sIndex, dIndex, dOffset);
+			xorParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorParallelFromForwards0(int[] source, int[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dOffset[0] != 0) {
+	private static void xorParallelFromForwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
 			
-			final int HIGHEST_BITS = INT_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset0;
 			
-			dest[dIndex[0]] ^= source[sIndex[0]] & HIGHEST_BITS;
+			dest[dIndex0] ^= source[sIndex0] & HIGHEST_BITS;
 			
 			// first index already taken care of
-			sIndex[0]++;
-			dIndex[0]++;
+			sIndex0++;
+			dIndex0++;
 		}
 
-		// unfortunately no fast path available
-		// (though this is fast enough without masking and bit shifting)
-		for(int i = dIndex[0], j = sIndex[0]; i < dIndex[1]; i++, j++)
-			dest[i] ^= source[j];
+		if (Simd.ENABLED)
+			Simd.xorForwards(source, sIndex0, dest, dIndex0, dIndex1 - dIndex0);
+		else
+			// no masking nor bit shifting: plain word loop
+			for(int i = dIndex0, j = sIndex0; i < dIndex1; i++, j++)
+				dest[i] ^= source[j];
 
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = INT_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			dest[dIndex[1]] ^= source[sIndex[1]] & LOWEST_BITS;
+			dest[dIndex1] ^= source[sIndex1] & LOWEST_BITS;
 		}
 	}
 
-	private static void xorParallelFromBackwards0(int[] source, int[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dOffset[1] != 0) {
+	private static void xorParallelFromBackwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final int HIGHEST_BITS = INT_DATA_MASK << dOffset[1];
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset1;
 			final int LOWEST_BITS = ~HIGHEST_BITS;
 			
-			dest[dIndex[1]] ^= source[sIndex[1]] & LOWEST_BITS;
+			dest[dIndex1] ^= source[sIndex1] & LOWEST_BITS;
 		}
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// don't xor the first index if partial
-			dIndex[0]++;
-			sIndex[0]++;
+			dIndex0++;
+			sIndex0++;
 		}
 		
-		// unfortunately no fast path available
-		// (though this is fast enough without masking and bit shifting)
-		for(int i = dIndex[1] - 1, j = sIndex[1] - 1; i >= dIndex[0]; i--, j--)
-			dest[i] ^= source[j];
+		if (Simd.ENABLED)
+			Simd.xorBackwards(source, sIndex0, dest, dIndex0, dIndex1 - dIndex0);
+		else
+			// no masking nor bit shifting: plain word loop
+			for(int i = dIndex1 - 1, j = sIndex1 - 1; i >= dIndex0; i--, j--)
+				dest[i] ^= source[j];
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
-			sIndex[0]--;
-			dIndex[0]--;
+			sIndex0--;
+			dIndex0--;
 			
-			final int HIGHEST_BITS = INT_DATA_MASK << dOffset[0];
+			final int HIGHEST_BITS = INT_DATA_MASK << dOffset0;
 			
-			dest[dIndex[0]] ^= source[sIndex[0]] & HIGHEST_BITS;
+			dest[dIndex0] ^= source[sIndex0] & HIGHEST_BITS;
 		}
 	}
 
-	private static void xorHigherFrom0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (dIndex[0] == dIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void xorHigherFrom0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 					
-			// At this point dIndex[0] == dIndex[1] AND sOffset[0] < dOffset[0].
-			// This implies that sIndex[0] == sIndex[1] (so there is no need to xor more than 1 chunk).
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to xor more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			dest[d] ^= (source[s] << dOffset[0] - sOffset[0]) & ~(INT_DATA_MASK << dOffset[1]) & INT_DATA_MASK << dOffset[0];
+			dest[d] ^= (source[s] << dOffset0 - sOffset0) & ~(INT_DATA_MASK << dOffset1) & INT_DATA_MASK << dOffset0;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorHigherFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorHigherFromForwards0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[0];
-		int s = sIndex[0];
+	private static void xorHigherFromForwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
 				
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0]; 
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0; 
 
-		while(++d < dIndex[1]) {
-			dest[d] ^= source[s] >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
+		while(++d < dIndex1) {
+			dest[d] ^= source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0);
 
 			++s;
 
-			dest[d] ^= source[s] << dOffset[0] - sOffset[0];
+			dest[d] ^= source[s] << dOffset0 - sOffset0;
 		}
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset[1])) >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
-			} else /* dOffset[1] > sOffset[1] */ {
-				dest[d] ^= source[s] >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset1)) >>> INT_DATA_LINES - (dOffset0 - sOffset0);
+			} else /* dOffset1 > sOffset1 */ {
+				dest[d] ^= source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0);
 				
-				if (sOffset[1] > 0) {
+				if (sOffset1 > 0) {
 					s++;
 					
-					dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
+					dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
 				}
 			}
 		}
 	}
 
-	private static void xorHigherFromBackwards0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[1];
-		int s = sIndex[1];
+	private static void xorHigherFromBackwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
 				
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset[1])) >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
-			} else /* dOffset[1] > sOffset[1] */ {
-				if (sOffset[1] > 0) {
-					dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset1)) >>> INT_DATA_LINES - (dOffset0 - sOffset0);
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
 				}
 				
 				s--;
 				
-				dest[d] ^= source[s] >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
+				dest[d] ^= source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0);
 			}
 		}
 
-		while(--d > dIndex[0]) {
-			dest[d] ^= source[s] << dOffset[0] - sOffset[0];
+		while(--d > dIndex0) {
+			dest[d] ^= source[s] << dOffset0 - sOffset0;
 
 			--s;
 
-			dest[d] ^= source[s] >>> INT_DATA_LINES - (dOffset[0] - sOffset[0]);
+			dest[d] ^= source[s] >>> INT_DATA_LINES - (dOffset0 - sOffset0);
 		}
 
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0]; 
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0; 
 	}
 
-	private static void xorLowerFrom0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (sIndex[0] == sIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void xorLowerFrom0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 			
-			// At this point sIndex[0] == sIndex[1] AND sOffset[0] > dOffset[0].
-			// This implies that dIndex[0] == dIndex[1] (so there is no need to xor more than 1 chunk).
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to xor more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			dest[d] ^= source[s] >>> (sOffset[0] - dOffset[0]) & ~(INT_DATA_MASK << dOffset[1]) & INT_DATA_MASK << dOffset[0];
+			dest[d] ^= source[s] >>> (sOffset0 - dOffset0) & ~(INT_DATA_MASK << dOffset1) & INT_DATA_MASK << dOffset0;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorLowerFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorLowerFromForwards0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[0];
-		int s = sIndex[0];
+	private static void xorLowerFromForwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0];
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0;
 
-		while(++s < sIndex[1]) {
-			dest[d] ^= source[s] << INT_DATA_LINES - (sOffset[0] - dOffset[0]);
+		while(++s < sIndex1) {
+			dest[d] ^= source[s] << INT_DATA_LINES - (sOffset0 - dOffset0);
 
 			++d;
 
-			dest[d] ^= source[s] >>> sOffset[0] - dOffset[0];
+			dest[d] ^= source[s] >>> sOffset0 - dOffset0;
 		}
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-			} else /* dOffset[1] < sOffset[1] */ {
-				dest[d] ^= source[s] << INT_DATA_LINES - (sOffset[0] - dOffset[0]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+			} else /* dOffset1 < sOffset1 */ {
+				dest[d] ^= source[s] << INT_DATA_LINES - (sOffset0 - dOffset0);
 				
-				if (dOffset[1] > 0) {
+				if (dOffset1 > 0) {
 					d++;
 					
-					dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
+					dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
 				}
 			}
 		}
 	}
 
-	private static void xorLowerFromBackwards0(int[] source, int[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[1];
-		int s = sIndex[1];
+	private static void xorLowerFromBackwards0(int[] source, int[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-			} else /* dOffset[1] < sOffset[1] */ {
-				if (dOffset[1] > 0) {
-					dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					dest[d] ^= (source[s] & ~(INT_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
 				}
 				
 				d--;
 				
-				dest[d] ^= source[s] << INT_DATA_LINES - (sOffset[0] - dOffset[0]);
+				dest[d] ^= source[s] << INT_DATA_LINES - (sOffset0 - dOffset0);
 			}
 		}
 
-		while(--s > sIndex[0]) {
-			dest[d] ^= source[s] >>> sOffset[0] - dOffset[0];
+		while(--s > sIndex0) {
+			dest[d] ^= source[s] >>> sOffset0 - dOffset0;
 
 			--d;
 
-			dest[d] ^= source[s] << INT_DATA_LINES - (sOffset[0] - dOffset[0]);
+			dest[d] ^= source[s] << INT_DATA_LINES - (sOffset0 - dOffset0);
 		}
 		
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0];
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0;
 	}
 
 	/********** long[] **********/
@@ -1208,257 +1598,354 @@ public class Xor {
 	 * @since 1.0.0
 	 */
 	public static void xorFrom(long[] source, int srcPos, long[] dest, int destPos, int length) {
-		if (!checkSafeIndices(srcPos, destPos, length, source.length << LONG_ADDRESS_LINES, dest.length << LONG_ADDRESS_LINES))
+		xorFrom(source, (long) srcPos, dest, (long) destPos, (long) length);
+	}
+
+	/**
+	 * Xors bits from the specified source storage, beginning at the specified 
+	 * bit, onto the specified bits of the destination storage. A region 
+	 * of bits is xor'ed from the source storage referenced by {@code source} 
+	 * to the destination storage referenced by {@code dest}. The number of 
+	 * bits xor'ed is equal to the {@code length} argument. The bits at offsets 
+	 * {@code srcPos} through {@code srcPos+length-1} in the source storage are 
+	 * xor'ed into positions {@code destPos} through {@code destPos+length-1}, 
+	 * respectively, of the destination storage.
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void xorFrom(long[] source, long srcPos, long[] dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << LONG_ADDRESS_LINES, (long) dest.length << LONG_ADDRESS_LINES))
 			return;
 		
-		int[] sIndex  = {srcPos  >> LONG_ADDRESS_LINES, (srcPos  + length) >> LONG_ADDRESS_LINES};
-		int[] sOffset = {srcPos  & LONG_ADDRESS_MASK,   (srcPos  + length) & LONG_ADDRESS_MASK  };
+		int sIndex0 = (int) (srcPos >> LONG_ADDRESS_LINES);
+		int sIndex1 = (int) ((srcPos + length) >> LONG_ADDRESS_LINES);
+		int sOffset0 = (int) srcPos & LONG_ADDRESS_MASK;
+		int sOffset1 = (int) (srcPos + length) & LONG_ADDRESS_MASK;
 		
-		int[] dIndex  = {destPos >> LONG_ADDRESS_LINES, (destPos + length) >> LONG_ADDRESS_LINES};
-		int[] dOffset = {destPos & LONG_ADDRESS_MASK,   (destPos + length) & LONG_ADDRESS_MASK  };
+		int dIndex0 = (int) (destPos >> LONG_ADDRESS_LINES);
+		int dIndex1 = (int) ((destPos + length) >> LONG_ADDRESS_LINES);
+		int dOffset0 = (int) destPos & LONG_ADDRESS_MASK;
+		int dOffset1 = (int) (destPos + length) & LONG_ADDRESS_MASK;
 		
-		if (sOffset[0] == dOffset[0])
+		if (sOffset0 == dOffset0)
 			// FAST PATH: handle both ends specially, xor middle unchanged
-			xorParallelFrom0(source, dest, sIndex, dIndex, dOffset);
-		else if (sOffset[0] < dOffset[0])
-			xorHigherFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else /* if (sOffset[0] > dOffset[0]) */
-			xorLowerFrom0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorParallelFrom0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (sOffset0 < dOffset0)
+			xorHigherFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else /* if (sOffset0 > dOffset0) */
+			xorLowerFrom0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorParallelFrom0(long[] source, long[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dIndex[1] == dIndex[0]) {
+	/**
+	 * Xors bits from the specified source storage, beginning at the 
+	 * specified bit, onto the specified bits of the destination storage, in 
+	 * parallel on the common {@link ForkJoinPool}. Same as 
+	 * {@link #parallelXorFrom(long[], long, long[], long, long, ForkJoinPool, long)} 
+	 * with default pool and grain.
+	 *
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelXorFrom(long[] source, long srcPos, long[] dest, long destPos, long length) {
+		parallelXorFrom(source, srcPos, dest, destPos, length, null, Parallel.GRAIN);
+	}
+
+	/**
+	 * Xors bits from the specified source storage, beginning at the 
+	 * specified bit, onto the specified bits of the destination storage, in 
+	 * parallel. The result is the same as 
+	 * {@link #xorFrom(long[], long, long[], long, long)}.
+	 * 
+	 * <p>The destination region is split on element boundaries into pieces of 
+	 * about {@code grain} bits, which are xor'ed concurrently by the threads 
+	 * of {@code pool}; partial elements at either end are handled by the 
+	 * sequential code. If source and destination regions overlap (within the 
+	 * same storage) the whole region is xor'ed sequentially.
+	 * </p>
+	 * <p>Requires Java 8 or later.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xor'ed.
+	 * @param pool the pool whose threads do the work, or {@code null} for the 
+	 *        common pool.
+	 * @param grain the size, in bits, of the pieces the region is split into; 
+	 *        a region of up to {@code grain} bits is handled sequentially by 
+	 *        the calling thread.
+	 *
+	 * @since 1.0.0
+	 */
+	public static void parallelXorFrom(final long[] source, final long srcPos, final long[] dest, final long destPos, long length, ForkJoinPool pool, long grain) {
+		if (!checkSafeIndices(srcPos, destPos, length, (long) source.length << LONG_ADDRESS_LINES, (long) dest.length << LONG_ADDRESS_LINES))
+			return;
+		
+		if (source == dest && srcPos < destPos + length && destPos < srcPos + length) {
+			xorFrom(source, srcPos, dest, destPos, length);
+			return;
+		}
+		
+		Parallel.invoke(pool, grain, LONG_ADDRESS_LINES, destPos, destPos + length, new Parallel.Range() {
+			@Override public long run(long from, long to) {
+				xorFrom(source, srcPos + (from - destPos), dest, from, to - from);
+				return 0;
+			}
+		});
+	}
+
+	private static void xorParallelFrom0(long[] source, long[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex1 == dIndex0) {
 			// special case: subword xor within word and neither offset is zero
 			
-			final long LOWEST_BITS_FROM = ~(LONG_DATA_MASK << dOffset[0]);
-			final long HIGHEST_BITS_TO = LONG_DATA_MASK << dOffset[1];
+			final long LOWEST_BITS_FROM = ~(LONG_DATA_MASK << dOffset0);
+			final long HIGHEST_BITS_TO = LONG_DATA_MASK << dOffset1;
 
-			dest[dIndex[0]] ^= source[sIndex[0]] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);;
+			dest[dIndex0] ^= source[sIndex0] & ~(LOWEST_BITS_FROM | HIGHEST_BITS_TO);;
 
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorParallelFromForwards0(source, dest, sIndex, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorParallelFromForwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorParallelFromBackwards0(source, dest, sIndex, dIndex, dOffset);
+			xorParallelFromBackwards0(source, dest, sIndex0, sIndex1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorParallelFromForwards0(long[] source, long[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dOffset[0] != 0) {
+	private static void xorParallelFromForwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
 			
-			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset[0];
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset0;
 			
-			dest[dIndex[0]] ^= source[sIndex[0]] & HIGHEST_BITS;
+			dest[dIndex0] ^= source[sIndex0] & HIGHEST_BITS;
 			
 			// first index already taken care of
-			sIndex[0]++;
-			dIndex[0]++;
+			sIndex0++;
+			dIndex0++;
 		}
 
-		// unfortunately no fast path available
-		// (though this is fast enough without masking and bit shifting)
-		for(int i = dIndex[0], j = sIndex[0]; i < dIndex[1]; i++, j++)
-			dest[i] ^= source[j];
+		if (Simd.ENABLED)
+			Simd.xorForwards(source, sIndex0, dest, dIndex0, dIndex1 - dIndex0);
+		else
+			// no masking nor bit shifting: plain word loop
+			for(int i = dIndex0, j = sIndex0; i < dIndex1; i++, j++)
+				dest[i] ^= source[j];
 
-		if (dOffset[1] != 0) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset[1];
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset1;
 			final long LOWEST_BITS = ~HIGHEST_BITS;
 			
-			dest[dIndex[1]] ^= source[sIndex[1]] & LOWEST_BITS;
+			dest[dIndex1] ^= source[sIndex1] & LOWEST_BITS;
 		}
 	}
 
-	private static void xorParallelFromBackwards0(long[] source, long[] dest, int[] sIndex, int[] dIndex, int[] dOffset) {
-		if (dOffset[1] != 0) {
+	private static void xorParallelFromBackwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dOffset1 != 0) {
 			// handle "to" end specially
-			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset[1];
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset1;
 			final long LOWEST_BITS = ~HIGHEST_BITS;
 			
-			dest[dIndex[1]] ^= source[sIndex[1]] & LOWEST_BITS;
+			dest[dIndex1] ^= source[sIndex1] & LOWEST_BITS;
 		}
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// don't xor the first index if partial
-			dIndex[0]++;
-			sIndex[0]++;
+			dIndex0++;
+			sIndex0++;
 		}
 		
-		// unfortunately no fast path available
-		// (though this is fast enough without masking and bit shifting)
-		for(int i = dIndex[1] - 1, j = sIndex[1] - 1; i >= dIndex[0]; i--, j--)
-			dest[i] ^= source[j];
+		if (Simd.ENABLED)
+			Simd.xorBackwards(source, sIndex0, dest, dIndex0, dIndex1 - dIndex0);
+		else
+			// no masking nor bit shifting: plain word loop
+			for(int i = dIndex1 - 1, j = sIndex1 - 1; i >= dIndex0; i--, j--)
+				dest[i] ^= source[j];
 
-		if (dOffset[0] != 0) {
+		if (dOffset0 != 0) {
 			// handle "from" end specially
-			sIndex[0]--;
-			dIndex[0]--;
+			sIndex0--;
+			dIndex0--;
 			
-			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset[0];
+			final long HIGHEST_BITS = LONG_DATA_MASK << dOffset0;
 			
-			dest[dIndex[0]] ^= source[sIndex[0]] & HIGHEST_BITS;
+			dest[dIndex0] ^= source[sIndex0] & HIGHEST_BITS;
 		}
 	}
 
-	private static void xorHigherFrom0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (dIndex[0] == dIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void xorHigherFrom0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (dIndex0 == dIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 					
-			// At this point dIndex[0] == dIndex[1] AND sOffset[0] < dOffset[0].
-			// This implies that sIndex[0] == sIndex[1] (so there is no need to xor more than 1 chunk).
+			// At this point dIndex0 == dIndex1 AND sOffset0 < dOffset0.
+			// This implies that sIndex0 == sIndex1 (so there is no need to xor more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			dest[d] ^= (source[s] << dOffset[0] - sOffset[0]) & ~(LONG_DATA_MASK << dOffset[1]) & LONG_DATA_MASK << dOffset[0];
+			dest[d] ^= (source[s] << dOffset0 - sOffset0) & ~(LONG_DATA_MASK << dOffset1) & LONG_DATA_MASK << dOffset0;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorHigherFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorHigherFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorHigherFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorHigherFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorHigherFromForwards0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[0];
-		int s = sIndex[0];
+	private static void xorHigherFromForwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
 				
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0]; 
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0; 
 
-		while(++d < dIndex[1]) {
-			dest[d] ^= source[s] >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
+		while(++d < dIndex1) {
+			dest[d] ^= source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
 
 			++s;
 
-			dest[d] ^= source[s] << dOffset[0] - sOffset[0];
+			dest[d] ^= source[s] << dOffset0 - sOffset0;
 		}
 
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				// implies s == sIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset[1])) >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
-			} else /* dOffset[1] > sOffset[1] */ {
-				dest[d] ^= source[s] >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				// implies s == sIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
+			} else /* dOffset1 > sOffset1 */ {
+				dest[d] ^= source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
 				
-				if (sOffset[1] > 0) {
+				if (sOffset1 > 0) {
 					s++;
 					
-					dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
+					dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
 				}
 			}
 		}
 	}
 
-	private static void xorHigherFromBackwards0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[1];
-		int s = sIndex[1];
+	private static void xorHigherFromBackwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
 				
-		if (dOffset[1] > 0) {
-			if (dOffset[1] < sOffset[1]) {
-				dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset[1])) >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
-			} else /* dOffset[1] > sOffset[1] */ {
-				if (sOffset[1] > 0) {
-					dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
+		if (dOffset1 > 0) {
+			if (dOffset1 < sOffset1) {
+				dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
+			} else /* dOffset1 > sOffset1 */ {
+				if (sOffset1 > 0) {
+					dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
 				}
 				
 				s--;
 				
-				dest[d] ^= source[s] >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
+				dest[d] ^= source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
 			}
 		}
 
-		while(--d > dIndex[0]) {
-			dest[d] ^= source[s] << dOffset[0] - sOffset[0];
+		while(--d > dIndex0) {
+			dest[d] ^= source[s] << dOffset0 - sOffset0;
 
 			--s;
 
-			dest[d] ^= source[s] >>> LONG_DATA_LINES - (dOffset[0] - sOffset[0]);
+			dest[d] ^= source[s] >>> LONG_DATA_LINES - (dOffset0 - sOffset0);
 		}
 
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0]; 
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0; 
 	}
 
-	private static void xorLowerFrom0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		if (sIndex[0] == sIndex[1]) {
-			int d = dIndex[0];
-			int s = sIndex[0];
+	private static void xorLowerFrom0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		if (sIndex0 == sIndex1) {
+			int d = dIndex0;
+			int s = sIndex0;
 			
-			// At this point sIndex[0] == sIndex[1] AND sOffset[0] > dOffset[0].
-			// This implies that dIndex[0] == dIndex[1] (so there is no need to xor more than 1 chunk).
+			// At this point sIndex0 == sIndex1 AND sOffset0 > dOffset0.
+			// This implies that dIndex0 == dIndex1 (so there is no need to xor more than 1 chunk).
 			// I have discovered a truly marvelous proof of this, which this media is too clumsy to contain.
-			dest[d] ^= source[s] >>> (sOffset[0] - dOffset[0]) & ~(LONG_DATA_MASK << dOffset[1]) & LONG_DATA_MASK << dOffset[0];
+			dest[d] ^= source[s] >>> (sOffset0 - dOffset0) & ~(LONG_DATA_MASK << dOffset1) & LONG_DATA_MASK << dOffset0;
 			return;
 		}
 		
-		if (dIndex[0] < sIndex[0])
-			xorLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
-		else if (dIndex[0] == sIndex[0])
-			xorLowerFromForwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+		if (dIndex0 < sIndex0)
+			xorLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
+		else if (dIndex0 == sIndex0)
+			xorLowerFromForwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 		else
-			xorLowerFromBackwards0(source, dest, sIndex, sOffset, dIndex, dOffset);
+			xorLowerFromBackwards0(source, dest, sIndex0, sIndex1, sOffset0, sOffset1, dIndex0, dIndex1, dOffset0, dOffset1);
 	}
 
-	private static void xorLowerFromForwards0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[0];
-		int s = sIndex[0];
+	private static void xorLowerFromForwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex0;
+		int s = sIndex0;
 		
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0];
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0;
 
-		while(++s < sIndex[1]) {
-			dest[d] ^= source[s] << LONG_DATA_LINES - (sOffset[0] - dOffset[0]);
+		while(++s < sIndex1) {
+			dest[d] ^= source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0);
 
 			++d;
 
-			dest[d] ^= source[s] >>> sOffset[0] - dOffset[0];
+			dest[d] ^= source[s] >>> sOffset0 - dOffset0;
 		}
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				// implies d == dIndex[1] [proof needed]
-				dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-			} else /* dOffset[1] < sOffset[1] */ {
-				dest[d] ^= source[s] << LONG_DATA_LINES - (sOffset[0] - dOffset[0]);
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				// implies d == dIndex1 [proof needed]
+				dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+			} else /* dOffset1 < sOffset1 */ {
+				dest[d] ^= source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0);
 				
-				if (dOffset[1] > 0) {
+				if (dOffset1 > 0) {
 					d++;
 					
-					dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
+					dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
 				}
 			}
 		}
 	}
 
-	private static void xorLowerFromBackwards0(long[] source, long[] dest, int[] sIndex, int[] sOffset, int[] dIndex, int[] dOffset) {
-		int d = dIndex[1];
-		int s = sIndex[1];
+	private static void xorLowerFromBackwards0(long[] source, long[] dest, int sIndex0, int sIndex1, int sOffset0, int sOffset1, int dIndex0, int dIndex1, int dOffset0, int dOffset1) {
+		int d = dIndex1;
+		int s = sIndex1;
 		
-		if (sOffset[1] > 0) {
-			if (dOffset[1] > sOffset[1]) {
-				dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset[1])) << dOffset[1] - sOffset[1];
-			} else /* dOffset[1] < sOffset[1] */ {
-				if (dOffset[1] > 0) {
-					dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset[1])) >>> sOffset[0] - dOffset[0];
+		if (sOffset1 > 0) {
+			if (dOffset1 > sOffset1) {
+				dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset1)) << dOffset1 - sOffset1;
+			} else /* dOffset1 < sOffset1 */ {
+				if (dOffset1 > 0) {
+					dest[d] ^= (source[s] & ~(LONG_DATA_MASK << sOffset1)) >>> sOffset0 - dOffset0;
 				}
 				
 				d--;
 				
-				dest[d] ^= source[s] << LONG_DATA_LINES - (sOffset[0] - dOffset[0]);
+				dest[d] ^= source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0);
 			}
 		}
 
-		while(--s > sIndex[0]) {
-			dest[d] ^= source[s] >>> sOffset[0] - dOffset[0];
+		while(--s > sIndex0) {
+			dest[d] ^= source[s] >>> sOffset0 - dOffset0;
 
 			--d;
 
-			dest[d] ^= source[s] << LONG_DATA_LINES - (sOffset[0] - dOffset[0]);
+			dest[d] ^= source[s] << LONG_DATA_LINES - (sOffset0 - dOffset0);
 		}
 		
-		dest[d] ^= source[s] >>> sOffset[0] << dOffset[0];
+		dest[d] ^= source[s] >>> sOffset0 << dOffset0;
 	}
 }
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+/**
+ * Adaptive {@link FrequencyModel}, which counts the symbols coded so far.
+ * 
+ * <p>Counts are kept in a Fenwick (binary indexed) tree, so that updating a 
+ * count, computing a cumulative count and finding the symbol of a given 
+ * count all take {@code O(log n)} time, {@code n} being the number of 
+ * symbols. Every symbol starts with a count of 1, and each time it is coded 
+ * its count goes up by {@code increment}. Whenever the total count goes 
+ * over {@code limit}, every count is halved (but kept at least 1), which 
+ * keeps the total within the range the codec can handle while favoring the 
+ * most recent symbols.
+ * </p>
+ * <p>Both ends of a coded message must use models built with the same 
+ * arguments.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ * @see <a href="https://en.wikipedia.org/wiki/Fenwick_tree">Fenwick tree</a>
+ */
+public class AdaptiveFrequencyModel implements FrequencyModel {
+	/**
+	 * Count increment per coded symbol, when none is given.
+	 */
+	public static final int DEFAULT_INCREMENT = 32;
+	
+	/**
+	 * Highest total count, when none is given.
+	 */
+	public static final int DEFAULT_LIMIT = 1 << 24;
+	
+	private final int increment;
+	private final int limit;
+	
+	private final int[] counts;
+	// 1-based: tree[i] holds the sum of counts (i - (i & -i), i]
+	private final int[] tree;
+	private final int top;
+	private int total;
+
+	/**
+	 * Builds a model of the given number of symbols.
+	 * 
+	 * @param symbols number of symbols in the alphabet.
+	 * @param increment count increment per coded symbol.
+	 * @param limit highest total count; must be over {@code 2*symbols}, and 
+	 *        no more than {@code Integer.MAX_VALUE - increment}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public AdaptiveFrequencyModel(int symbols, int increment, int limit) {
+		if (symbols <= 0)
+			throw new IllegalArgumentException("Empty alphabet");
+		
+		if (increment <= 0)
+			throw new IllegalArgumentException("Non positive increment: " + increment);
+		
+		if (limit <= 2 * symbols || limit > Integer.MAX_VALUE - increment)
+			throw new IllegalArgumentException("Limit out of range: " + limit);
+		
+		this.increment = increment;
+		this.limit = limit;
+		this.counts = new int[symbols];
+		this.tree = new int[symbols + 1];
+		this.top = Integer.highestOneBit(symbols);
+		
+		for (int i = 0; i < symbols; i++)
+			counts[i] = 1;
+		
+		rebuild();
+	}
+
+	/**
+	 * Builds a model of the given number of symbols, with the default 
+	 * increment and limit.
+	 * 
+	 * @param symbols number of symbols in the alphabet.
+	 * 
+	 * @since 1.0.0
+	 */
+	public AdaptiveFrequencyModel(int symbols) {
+		this(symbols, DEFAULT_INCREMENT, DEFAULT_LIMIT);
+	}
+
+	@Override public int symbols() {
+		return counts.length;
+	}
+
+	@Override public int total() {
+		return total;
+	}
+
+	@Override public int cumulativeCount(int symbol) {
+		int sum = 0;
+		for (int i = symbol + 1; i > 0; i -= i & -i)
+			sum += tree[i];
+		
+		return sum;
+	}
+
+	@Override public int getSymbol(int count) {
+		// descend the tree, skipping whole subtrees whose sum is not over count
+		int pos = 0;
+		for (int step = top; step > 0; step >>= 1) {
+			final int next = pos + step;
+			if (next < tree.length && tree[next] <= count) {
+				pos = next;
+				count -= tree[next];
+			}
+		}
+		
+		return pos;
+	}
+
+	@Override public void update(int symbol) {
+		counts[symbol] += increment;
+		total += increment;
+		for (int i = symbol + 1; i < tree.length; i += i & -i)
+			tree[i] += increment;
+		
+		while (total > limit)
+			rescale();
+	}
+
+	private void rescale() {
+		for (int i = 0; i < counts.length; i++)
+			counts[i] = (counts[i] + 1) >>> 1;
+		
+		rebuild();
+	}
+
+	// builds the tree bottom up, in O(n)
+	private void rebuild() {
+		total = 0;
+		for (int i = 1; i < tree.length; i++) {
+			tree[i] = counts[i - 1];
+			total += counts[i - 1];
+		}
+		
+		for (int i = 1; i < tree.length; i++) {
+			final int parent = i + (i & -i);
+			if (parent < tree.length)
+				tree[parent] += tree[i];
+		}
+	}
+}
@@ -62,6 +62,17 @@ public abstract class AnyBaseArithmeticCodec {
 		int size = cumulativeCount[symbol] - start;
 		int total = cumulativeCount[cumulativeCount.length - 1];
 		
+		narrow(start, size, total);
+	}
+
+	void advance(int symbol, FrequencyModel model) throws IOException {
+		int start = symbol == 0 ? 0 : model.cumulativeCount(symbol - 1);
+		int size = model.cumulativeCount(symbol) - start;
+		
+		narrow(start, size, model.total());
+	}
+
+	private void narrow(int start, int size, int total) throws IOException {
 		scale(start, size, total);
 		
 		while (peek(low) == peek(low + range - 1))
@@ -89,12 +100,20 @@ public abstract class AnyBaseArithmeticCodec {
 
 	int getSymbol(long code, int... cumulativeCount) {
 		int total = cumulativeCount[cumulativeCount.length - 1];
-		int count = (int) ((code - low)/(range / total));
-		
-		int symbol;
-		for(symbol = 0; cumulativeCount[symbol] <= count; symbol++);
 		
-		return symbol;
+		return DecodeTable.search(cumulativeCount, getCount(code, total), 0, cumulativeCount.length - 1);
+	}
+
+	int getSymbol(long code, DecodeTable table) {
+		return table.getSymbol(getCount(code, table.total));
+	}
+
+	int getSymbol(long code, FrequencyModel model) {
+		return model.getSymbol(getCount(code, model.total()));
+	}
+
+	private int getCount(long code, int total) {
+		return (int) ((code - low)/(range / total));
 	}
 	
 	void shiftOut(int v) throws IOException {
@@ -85,6 +85,20 @@ public interface ArithmeticCodec {
 		 */
 		void write(int v, int... cumulativeCount) throws IOException;
 
+		/**
+		 * Writes a symbol of an alphabet with an input probability 
+		 * distribution given by a model, then updates the model.
+		 *
+		 * @param v symbol to be written, between 0, inclusive, and 
+		 *        {@code model.symbols()}, exclusive.
+		 * @param model input probability distribution; if {@code v} has a 
+		 *        count of 0 then it is unexpected, and 
+		 *        {@code IllegalArgumentException} is thrown.
+		 * 
+		 * @since 1.0.0
+		 */
+		void write(int v, FrequencyModel model) throws IOException;
+
 		/**
 		 * Flushes whatever internal state is stored in this Encoder. This 
 		 * Encoder should not be used anymore. Any other call to this Encoder 
@@ -118,5 +132,31 @@ public interface ArithmeticCodec {
 		 * @since 1.0.0
 		 */
 		int read(int... cumulativeCount) throws IOException;
+
+		/**
+		 * Reads a symbol of an alphabet with a static input probability 
+		 * distribution, looked up through the given table. Same as 
+		 * {@link #read(int...)} with the discrete cumulative count function 
+		 * the table was built from, only faster.
+		 *
+		 * @param table count to symbol lookup table.
+		 * @return symbol between 0, inclusive, and the length of the discrete 
+		 *        cumulative count function, exclusive.
+		 * 
+		 * @since 1.0.0
+		 */
+		int read(DecodeTable table) throws IOException;
+
+		/**
+		 * Reads a symbol of an alphabet with an input probability 
+		 * distribution given by a model, then updates the model.
+		 *
+		 * @param model input probability distribution.
+		 * @return symbol between 0, inclusive, and {@code model.symbols()}, 
+		 *        exclusive.
+		 * 
+		 * @since 1.0.0
+		 */
+		int read(FrequencyModel model) throws IOException;
 	}
 }
@@ -27,10 +27,14 @@
  *******************************************************************************/
 package br.eti.rslemos.bitsmagic.arithmetic;
 
+import java.io.Flushable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
+import br.eti.rslemos.bitsmagic.stream.ByteArrayIntStream;
 import br.eti.rslemos.bitsmagic.stream.IntInputStream;
 import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+import br.eti.rslemos.bitsmagic.stream.RunIntOutputStream;
 
 public class Base2ArithmeticCodec extends AnyBaseArithmeticCodec {
 	// parameters (constant really)
@@ -58,7 +62,8 @@ public class Base2ArithmeticCodec extends AnyBaseArithmeticCodec {
 	}
 	
 	public static class Encoder extends Base2ArithmeticCodec implements ArithmeticCodec.Encoder {
-		private final DelayedZeroIntOutputStream stream;
+		// either wrapper writes runs in bulk
+		private final RunIntOutputStream stream;
 
 		// more state
 		long underflowTailCount;
@@ -69,9 +74,29 @@ public class Base2ArithmeticCodec extends AnyBaseArithmeticCodec {
 			range = 1L << (SHIFT_MASK_BITS + BASE_BITS);
 		}
 
+		/**
+		 * Builds an encoder which packs its output digits straight into 
+		 * {@code sink}, from its current position on, laid out as 
+		 * {@link ByteArrayIntStream.Output} would over a fresh array. The last 
+		 * bytes are written by {@link #flush()}. Should {@code sink} fill up, 
+		 * writing or flushing throws {@link java.io.EOFException}.
+		 * 
+		 * @since 1.0.0
+		 */
+		public Encoder(ByteBuffer sink) {
+			this.stream = new ByteBufferDigitOutputStream(sink, BASE_BITS);
+			
+			range = 1L << (SHIFT_MASK_BITS + BASE_BITS);
+		}
+
 		@Override public void write(int symbol, int... cumulativeCount) throws IOException {
 			advance(symbol, cumulativeCount);
 		}
+
+		@Override public void write(int symbol, FrequencyModel model) throws IOException {
+			advance(symbol, model);
+			model.update(symbol);
+		}
 		
 		@Override int underflow() throws IOException {
 			underflowTailCount++;
@@ -85,13 +110,18 @@ public class Base2ArithmeticCodec extends AnyBaseArithmeticCodec {
 		@Override void shiftOut(int v) throws IOException {
 			stream.writeInt(v);
 
-			for(; underflowTailCount != 0; underflowTailCount--)
-				stream.writeInt(v == 0 ? HIGHEST_OUTPUT : 0);
+			if (underflowTailCount != 0) {
+				stream.writeRun(v == 0 ? HIGHEST_OUTPUT : 0, underflowTailCount);
+				underflowTailCount = 0;
+			}
 		}
 		
 		@Override public void flush() throws IOException {
 			low += SHIFT_MASK;
 			shiftOut(shift());
+			
+			if (stream instanceof Flushable)
+				((Flushable) stream).flush();
 		}
 		
 		public String toString() {
@@ -100,7 +130,7 @@ public class Base2ArithmeticCodec extends AnyBaseArithmeticCodec {
 	}
 
 	public static class Decoder extends Base2ArithmeticCodec implements ArithmeticCodec.Decoder {
-		private final TrailingZeroIntInputStream stream;
+		private final IntInputStream stream;
 		
 		// more state
 		private long code = 0;
@@ -112,6 +142,21 @@ public class Base2ArithmeticCodec extends AnyBaseArithmeticCodec {
 			while ((range - 1) >> SHIFT_MASK_BITS == 0)
 				shift();
 		}
+
+		/**
+		 * Builds a decoder which unpacks its input digits straight from 
+		 * {@code source}, from its current position on, as written by 
+		 * {@link Encoder#Encoder(ByteBuffer)}.
+		 * 
+		 * @since 1.0.0
+		 */
+		public Decoder(ByteBuffer source) throws IOException {
+			this.stream = new ByteBufferDigitInputStream(source, BASE_BITS);
+			range = 1;
+			
+			while ((range - 1) >> SHIFT_MASK_BITS == 0)
+				shift();
+		}
 		
 		@Override public int read(int... cumulativeCount) throws IOException {
 			int symbol = getSymbol(code, cumulativeCount);
@@ -120,6 +165,23 @@ public class Base2ArithmeticCodec extends AnyBaseArithmeticCodec {
 			
 			return symbol;
 		}
+
+		@Override public int read(DecodeTable table) throws IOException {
+			int symbol = getSymbol(code, table);
+			
+			advance(symbol, table.cumulativeCount);
+			
+			return symbol;
+		}
+
+		@Override public int read(FrequencyModel model) throws IOException {
+			int symbol = getSymbol(code, model);
+			
+			advance(symbol, model);
+			model.update(symbol);
+			
+			return symbol;
+		}
 		
 		@Override int shift() throws IOException {
 			int carry = peek(code);
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import br.eti.rslemos.bitsmagic.stream.AbstractIntInputStream;
+
+/*
+ * Unpacks digits straight from a ByteBuffer, 32 bits at a time, laid out as 
+ * ByteArrayIntStream.Input would; reads 0 digits past the end of the buffer 
+ * (as TrailingZeroIntInputStream does).
+ */
+class ByteBufferDigitInputStream extends AbstractIntInputStream {
+
+	private final ByteBuffer buffer;
+	private final boolean bigEndian;
+	private final int width;
+	private final long mask;
+	
+	private long acc;
+	private int bits;
+
+	public ByteBufferDigitInputStream(ByteBuffer buffer, int width) {
+		this.buffer = buffer;
+		this.bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+		this.width = width;
+		this.mask = ~(-1L << width);
+	}
+
+	@Override public int readInt() {
+		if (bits < width)
+			fill();
+		
+		final int v = (int) (acc & mask);
+		acc >>>= width;
+		bits -= width;
+		
+		return v;
+	}
+
+	private void fill() {
+		long w;
+		if (buffer.remaining() >= Integer.SIZE / Byte.SIZE) {
+			final int i = buffer.getInt();
+			w = (bigEndian ? Integer.reverseBytes(i) : i) & 0xFFFFFFFFL;
+		} else {
+			w = 0;
+			for (int shift = 0; buffer.hasRemaining(); shift += Byte.SIZE)
+				w |= (buffer.get() & 0xFFL) << shift;
+		}
+		
+		acc |= w << bits;
+		bits += Integer.SIZE;
+	}
+}
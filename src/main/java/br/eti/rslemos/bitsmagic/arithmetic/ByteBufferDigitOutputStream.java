@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import br.eti.rslemos.bitsmagic.stream.AbstractIntOutputStream;
+
+/*
+ * Packs digits straight into a ByteBuffer, 32 bits at a time, laid out as 
+ * ByteArrayIntStream.Output would (behind a DelayedZeroIntOutputStream): runs 
+ * of 0 digits are only counted, and trailing ones are never written. A full 
+ * buffer is reported as EOFException.
+ */
+class ByteBufferDigitOutputStream extends AbstractIntOutputStream implements Flushable {
+
+	private final ByteBuffer buffer;
+	private final boolean bigEndian;
+	private final int width;
+	
+	private long acc;
+	private int bits;
+	private long zeros;
+
+	public ByteBufferDigitOutputStream(ByteBuffer buffer, int width) {
+		this.buffer = buffer;
+		this.bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+		this.width = width;
+	}
+
+	@Override public void writeInt(int v) throws IOException {
+		if (v == 0) {
+			zeros += width;
+			
+			if (zeros < 0)
+				throw new IllegalStateException("Too many zeros");
+			
+			return;
+		}
+		
+		if (zeros != 0)
+			drainZeros();
+		
+		acc |= (long) v << bits;
+		bits += width;
+		
+		if (bits >= Integer.SIZE)
+			putInt();
+	}
+
+	@Override public void writeRun(int v, long count) throws IOException {
+		if (count < 0)
+			throw new IllegalArgumentException("Negative count: " + count);
+		
+		if (v == 0) {
+			// zeros are counted in bits
+			if (count > (Long.MAX_VALUE - zeros) / width)
+				throw new IllegalStateException("Too many zeros");
+			
+			zeros += count * width;
+		} else
+			for (; count != 0; count--)
+				writeInt(v);
+	}
+
+	private void drainZeros() throws IOException {
+		while (bits + zeros >= Integer.SIZE) {
+			zeros -= Integer.SIZE - bits;
+			bits = Integer.SIZE;
+			putInt();
+		}
+		
+		bits += (int) zeros;
+		zeros = 0;
+	}
+
+	private void putInt() throws EOFException {
+		final int w = (int) acc;
+		try {
+			buffer.putInt(bigEndian ? Integer.reverseBytes(w) : w);
+		} catch (BufferOverflowException e) {
+			throw full(e);
+		}
+		
+		acc >>>= Integer.SIZE;
+		bits -= Integer.SIZE;
+	}
+
+	/*
+	 * Writes what is left, padding the last byte with 0 bits. Pending 0 
+	 * digits are implied, and left out.
+	 */
+	@Override public void flush() throws EOFException {
+		try {
+			for (; bits > 0; bits -= Byte.SIZE, acc >>>= Byte.SIZE)
+				buffer.put((byte) acc);
+		} catch (BufferOverflowException e) {
+			throw full(e);
+		}
+		
+		acc = 0;
+		bits = 0;
+		zeros = 0;
+	}
+
+	private static EOFException full(BufferOverflowException cause) {
+		final EOFException e = new EOFException("Sink is full");
+		e.initCause(cause);
+		return e;
+	}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+/**
+ * Count to symbol lookup table, built once from a static discrete cumulative 
+ * count function and reused across {@link ArithmeticCodec.Decoder#read(DecodeTable)} 
+ * calls.
+ * 
+ * <p>The count range {@code [0, total)} is split into (at most 65536) buckets 
+ * of equal power of 2 size, each one knowing the first symbol whose count 
+ * goes past its start. A count is thus decoded by narrowing the search down 
+ * to the symbols of its bucket, which in most cases are just one or two (and 
+ * exactly one if {@code total} does not exceed the number of buckets).
+ * </p>
+ * <p>As a {@link FrequencyModel} it is static: {@link #update(int)} does 
+ * nothing.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+public final class DecodeTable implements FrequencyModel {
+	// at most this many buckets
+	private static final int TABLE_BITS = 16;
+	
+	// searches ranges at most this long linearly
+	private static final int LINEAR = 8;
+	
+	final int[] cumulativeCount;
+	final int total;
+	
+	private final int shift;
+	private final int[] bucket;
+
+	/**
+	 * Builds a table for the given discrete cumulative count function.
+	 * 
+	 * @param cumulativeCount discrete cumulative count function, as given to 
+	 *        {@link ArithmeticCodec.Decoder#read(int...)}; it is copied, so 
+	 *        later changes to this array do not affect the table.
+	 *        
+	 * @since 1.0.0
+	 */
+	public DecodeTable(int... cumulativeCount) {
+		if (cumulativeCount.length == 0 || cumulativeCount[cumulativeCount.length - 1] <= 0)
+			throw new IllegalArgumentException("Empty distribution");
+		
+		this.cumulativeCount = cumulativeCount.clone();
+		this.total = cumulativeCount[cumulativeCount.length - 1];
+		this.shift = Math.max(0, Integer.SIZE - Integer.numberOfLeadingZeros(total - 1) - TABLE_BITS);
+		
+		final int buckets = ((total - 1) >>> shift) + 1;
+		this.bucket = new int[buckets + 1];
+		
+		final int last = cumulativeCount.length - 1;
+		int symbol = 0;
+		for (int b = 0; b <= buckets; b++) {
+			final long start = (long) b << shift;
+			while (symbol < last && cumulativeCount[symbol] <= start)
+				symbol++;
+			
+			bucket[b] = symbol;
+		}
+	}
+
+	@Override public int symbols() {
+		return cumulativeCount.length;
+	}
+
+	@Override public int total() {
+		return total;
+	}
+
+	@Override public int cumulativeCount(int symbol) {
+		return cumulativeCount[symbol];
+	}
+
+	@Override public void update(int symbol) {
+	}
+
+	@Override public int getSymbol(int count) {
+		final int b = count >>> shift;
+		return search(cumulativeCount, count, bucket[b], bucket[b + 1]);
+	}
+
+	/**
+	 * Returns the first symbol {@code i} in {@code [lo, hi]} such that 
+	 * {@code cumulativeCount[i] > count}, or {@code hi} if there is none.
+	 */
+	static int search(int[] cumulativeCount, int count, int lo, int hi) {
+		while (hi - lo > LINEAR) {
+			final int mid = (lo + hi) >>> 1;
+			if (cumulativeCount[mid] > count)
+				hi = mid;
+			else
+				lo = mid + 1;
+		}
+		
+		for (; lo < hi && cumulativeCount[lo] <= count; lo++);
+		
+		return lo;
+	}
+}
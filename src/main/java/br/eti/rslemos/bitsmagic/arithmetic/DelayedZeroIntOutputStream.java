@@ -29,9 +29,11 @@ package br.eti.rslemos.bitsmagic.arithmetic;
 
 import java.io.IOException;
 
+import br.eti.rslemos.bitsmagic.stream.AbstractIntOutputStream;
 import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+import br.eti.rslemos.bitsmagic.stream.RunIntOutputStream;
 
-class DelayedZeroIntOutputStream implements IntOutputStream {
+class DelayedZeroIntOutputStream extends AbstractIntOutputStream {
 
 	private final IntOutputStream stream;
 	private long zeros;
@@ -47,16 +49,44 @@ class DelayedZeroIntOutputStream implements IntOutputStream {
 		}
 	}
 
+	@Override public void writeRun(int v, long count) throws IOException {
+		if (count < 0)
+			throw new IllegalArgumentException("Negative count: " + count);
+		
+		if (count == 0)
+			return;
+		
+		if (v == 0) {
+			zeros += count;
+			
+			if (zeros < 0)
+				throw new IllegalStateException("Too many zeros");
+		} else {
+			drainZeros();
+			writeRun0(v, count);
+		}
+	}
+
 	private void drainZeros() throws IOException {
-		for(; zeros != 0; zeros--)
-			stream.writeInt(0);
+		if (zeros != 0) {
+			writeRun0(0, zeros);
+			zeros = 0;
+		}
+	}
+
+	private void writeRun0(int v, long count) throws IOException {
+		if (stream instanceof RunIntOutputStream)
+			((RunIntOutputStream) stream).writeRun(v, count);
+		else
+			for (; count != 0; count--)
+				stream.writeInt(v);
 	}
 
 	private boolean delayZero(int v) {
 		if (v == 0) {
 			zeros++;
 		
-			if (zeros == 0)
+			if (zeros < 0)
 				throw new IllegalStateException("Too many zeros");
 		}
 		
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+/**
+ * Probability distribution of an alphabet, as seen by an 
+ * {@link ArithmeticCodec}: a discrete cumulative count function {@code f} 
+ * which the codec queries symbol by symbol instead of taking it whole (see 
+ * {@link ArithmeticCodec.Encoder#write(int, int...)}).
+ * 
+ * <p>Models may adapt to the symbols coded: the codec calls 
+ * {@link #update(int)} after every symbol, both when encoding and when 
+ * decoding, so that the decoder sees the same sequence of distributions as 
+ * the encoder did.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ * @see AdaptiveFrequencyModel
+ * @see DecodeTable
+ */
+public interface FrequencyModel {
+	/**
+	 * Returns the number of symbols in the alphabet.
+	 * 
+	 * @since 1.0.0
+	 */
+	int symbols();
+
+	/**
+	 * Returns the total count, that is {@code f(symbols() - 1)}.
+	 * 
+	 * @since 1.0.0
+	 */
+	int total();
+
+	/**
+	 * Returns the count of symbols up to the given symbol, inclusive, that is 
+	 * {@code f(symbol)}.
+	 * 
+	 * @param symbol between 0, inclusive, and {@link #symbols()}, exclusive.
+	 * 
+	 * @since 1.0.0
+	 */
+	int cumulativeCount(int symbol);
+
+	/**
+	 * Returns the symbol whose range of counts contains {@code count}, that 
+	 * is the first symbol {@code i} such that {@code f(i) > count}.
+	 * 
+	 * @param count between 0, inclusive, and {@link #total()}, exclusive.
+	 * 
+	 * @since 1.0.0
+	 */
+	int getSymbol(int count);
+
+	/**
+	 * Takes notice that the given symbol was just coded.
+	 * 
+	 * @param symbol between 0, inclusive, and {@link #symbols()}, exclusive.
+	 * 
+	 * @since 1.0.0
+	 */
+	void update(int symbol);
+}
@@ -27,10 +27,14 @@
  *******************************************************************************/
 package br.eti.rslemos.bitsmagic.arithmetic;
 
+import java.io.Flushable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
+import br.eti.rslemos.bitsmagic.stream.ByteArrayIntStream;
 import br.eti.rslemos.bitsmagic.stream.IntInputStream;
 import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+import br.eti.rslemos.bitsmagic.stream.RunIntOutputStream;
 
 public class IntegralPowerOf2BaseArithmeticCodec extends AnyBaseArithmeticCodec {
 	// parameters
@@ -62,7 +66,8 @@ public class IntegralPowerOf2BaseArithmeticCodec extends AnyBaseArithmeticCodec
 	}
 	
 	public static class Encoder extends IntegralPowerOf2BaseArithmeticCodec implements ArithmeticCodec.Encoder {
-		private final DelayedZeroIntOutputStream stream;
+		// either wrapper writes runs in bulk
+		private final RunIntOutputStream stream;
 
 		// more state
 		int underflowHeadValue;
@@ -75,9 +80,30 @@ public class IntegralPowerOf2BaseArithmeticCodec extends AnyBaseArithmeticCodec
 			range = 1L << (SHIFT_MASK_BITS + BASE_BITS);
 		}
 
+		/**
+		 * Builds an encoder which packs its output digits straight into 
+		 * {@code sink}, from its current position on, laid out as 
+		 * {@link ByteArrayIntStream.Output} would over a fresh array. The last 
+		 * bytes are written by {@link #flush()}. Should {@code sink} fill up, 
+		 * writing or flushing throws {@link java.io.EOFException}.
+		 * 
+		 * @since 1.0.0
+		 */
+		public Encoder(ByteBuffer sink, int baseBits) {
+			super(baseBits);
+			this.stream = new ByteBufferDigitOutputStream(sink, BASE_BITS);
+			
+			range = 1L << (SHIFT_MASK_BITS + BASE_BITS);
+		}
+
 		@Override public void write(int symbol, int... cumulativeCount) throws IOException {
 			advance(symbol, cumulativeCount);
 		}
+
+		@Override public void write(int symbol, FrequencyModel model) throws IOException {
+			advance(symbol, model);
+			model.update(symbol);
+		}
 		
 		@Override int underflow() throws IOException {
 			if (underflowTailCount == 0)
@@ -97,13 +123,18 @@ public class IntegralPowerOf2BaseArithmeticCodec extends AnyBaseArithmeticCodec
 			stream.writeInt(v + underflowHeadValue);
 			underflowHeadValue = 0;
 
-			for(; underflowTailCount != 0; underflowTailCount--)
-				stream.writeInt(v == 0 ? HIGHEST_OUTPUT : 0);
+			if (underflowTailCount != 0) {
+				stream.writeRun(v == 0 ? HIGHEST_OUTPUT : 0, underflowTailCount);
+				underflowTailCount = 0;
+			}
 		}
 
 		@Override public void flush() throws IOException {
 			low += SHIFT_MASK;
 			shiftOut(shift());
+			
+			if (stream instanceof Flushable)
+				((Flushable) stream).flush();
 		}
 
 		public String toString() {
@@ -112,7 +143,7 @@ public class IntegralPowerOf2BaseArithmeticCodec extends AnyBaseArithmeticCodec
 	}
 
 	public static class Decoder extends IntegralPowerOf2BaseArithmeticCodec implements ArithmeticCodec.Decoder {
-		private final TrailingZeroIntInputStream stream;
+		private final IntInputStream stream;
 		
 		// more state
 		private long code = 0;
@@ -125,6 +156,22 @@ public class IntegralPowerOf2BaseArithmeticCodec extends AnyBaseArithmeticCodec
 			while ((range - 1) >> SHIFT_MASK_BITS == 0)
 				shift();
 		}
+
+		/**
+		 * Builds a decoder which unpacks its input digits straight from 
+		 * {@code source}, from its current position on, as written by 
+		 * {@link Encoder#Encoder(ByteBuffer, int)}.
+		 * 
+		 * @since 1.0.0
+		 */
+		public Decoder(ByteBuffer source, int baseBits) throws IOException {
+			super(baseBits);
+			this.stream = new ByteBufferDigitInputStream(source, BASE_BITS);
+			range = 1;
+			
+			while ((range - 1) >> SHIFT_MASK_BITS == 0)
+				shift();
+		}
 		
 		@Override public int read(int... cumulativeCount) throws IOException {
 			int symbol = getSymbol(code, cumulativeCount);
@@ -133,6 +180,23 @@ public class IntegralPowerOf2BaseArithmeticCodec extends AnyBaseArithmeticCodec
 			
 			return symbol;
 		}
+
+		@Override public int read(DecodeTable table) throws IOException {
+			int symbol = getSymbol(code, table);
+			
+			advance(symbol, table.cumulativeCount);
+			
+			return symbol;
+		}
+
+		@Override public int read(FrequencyModel model) throws IOException {
+			int symbol = getSymbol(code, model);
+			
+			advance(symbol, model);
+			model.update(symbol);
+			
+			return symbol;
+		}
 		
 		@Override int shift() throws IOException {
 			int carry = peek(code);
@@ -66,6 +66,11 @@ public class NonIntegralPowerOf2BaseArithmeticCodec extends AnyBaseArithmeticCod
 		@Override public void write(int symbol, int... cumulativeCount) throws IOException {
 			advance(symbol, cumulativeCount);
 		}
+
+		@Override public void write(int symbol, FrequencyModel model) throws IOException {
+			advance(symbol, model);
+			model.update(symbol);
+		}
 		
 		@Override int underflow() throws IOException {
 			if (underflowTailCount == 0)
@@ -121,6 +126,23 @@ public class NonIntegralPowerOf2BaseArithmeticCodec extends AnyBaseArithmeticCod
 			
 			return symbol;
 		}
+
+		@Override public int read(DecodeTable table) throws IOException {
+			int symbol = getSymbol(code, table);
+			
+			advance(symbol, table.cumulativeCount);
+			
+			return symbol;
+		}
+
+		@Override public int read(FrequencyModel model) throws IOException {
+			int symbol = getSymbol(code, model);
+			
+			advance(symbol, model);
+			model.update(symbol);
+			
+			return symbol;
+		}
 		
 		@Override int shift() throws IOException {
 			int carry = peek(code);
@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import br.eti.rslemos.bitsmagic.stream.IntInputStream;
+import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+
+/**
+ * Range variant of asymmetric numeral systems (rANS), behind the 
+ * {@link ArithmeticCodec} interfaces.
+ * 
+ * <p>The coder state is a 64-bit integer kept between {@code 2^31} and 
+ * {@code 2^63}, renormalized 32 bits at a time. Probability distributions 
+ * are given as with the arithmetic codecs (discrete cumulative count 
+ * functions, {@link DecodeTable}s or {@link FrequencyModel}s), and are 
+ * scaled to a total of {@code 2^31}. Any positive {@code int} total is thus 
+ * accepted, and every symbol of nonzero count keeps a nonzero scaled count. 
+ * Decoding takes no division at all when the total is a power of 2 (and two 
+ * when it is not).
+ * </p>
+ * <p>rANS decodes symbols in the reverse order they are encoded. So the 
+ * {@link Encoder} keeps every symbol (as its scaled range, 8 bytes each) 
+ * until {@link Encoder#flush()}, and only then encodes them all, last to 
+ * first. Output is a stream of bytes, as {@code int}s from 0 to 255, 
+ * trailing zeros left out.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ * @see <a href="https://arxiv.org/abs/1311.2540">J. Duda, Asymmetric numeral 
+ *   systems</a>
+ */
+public abstract class RansCodec {
+	private static final int SCALE_BITS = 31;
+	private static final long STATE_LOW = 1L << 31;
+	
+	// renormalization unit
+	private static final int WORD_BYTES = Integer.SIZE / Byte.SIZE;
+	// bytes of the final state
+	private static final int STATE_BYTES = Long.SIZE / Byte.SIZE;
+	
+	private RansCodec() {
+	}
+	
+	// scales a count of a total to a count of 2^SCALE_BITS
+	static long scale(int count, int total) {
+		if ((total & (total - 1)) == 0)
+			// FAST PATH: no division at all
+			return (long) count << Integer.numberOfLeadingZeros(total) - (Integer.SIZE - 1 - SCALE_BITS);
+		else
+			return ((long) count << SCALE_BITS) / total;
+	}
+	
+	static void checkTotal(int total) {
+		if (!(total > 0))
+			throw new IllegalArgumentException("Total out of range: " + total);
+	}
+	
+	public static class Encoder implements ArithmeticCodec.Encoder {
+		private final IntOutputStream stream;
+		
+		// scaled range of every symbol written so far (sizes unsigned, up to 2^31)
+		private int[] starts = new int[64];
+		private int[] sizes = new int[64];
+		private int n;
+
+		public Encoder(IntOutputStream stream) {
+			this.stream = new DelayedZeroIntOutputStream(stream);
+		}
+		
+		public Encoder(ByteBuffer sink) {
+			this.stream = new ByteBufferDigitOutputStream(sink, Byte.SIZE);
+		}
+
+		@Override public void write(int symbol, int... cumulativeCount) {
+			int total = cumulativeCount[cumulativeCount.length - 1];
+			
+			push(symbol == 0 ? 0 : cumulativeCount[symbol - 1], cumulativeCount[symbol], total);
+		}
+
+		@Override public void write(int symbol, FrequencyModel model) {
+			push(symbol == 0 ? 0 : model.cumulativeCount(symbol - 1), model.cumulativeCount(symbol), model.total());
+			model.update(symbol);
+		}
+		
+		private void push(int start, int end, int total) {
+			if (end == start)
+				throw new IllegalArgumentException("Unexpected symbol");
+			
+			checkTotal(total);
+			
+			if (n == starts.length) {
+				starts = Arrays.copyOf(starts, 2 * n);
+				sizes = Arrays.copyOf(sizes, 2 * n);
+			}
+			
+			final long scaled = scale(start, total);
+			starts[n] = (int) scaled;
+			sizes[n] = (int) (scale(end, total) - scaled);
+			n++;
+		}
+
+		@Override public void flush() throws IOException {
+			byte[] out = new byte[n + STATE_BYTES];
+			int m = 0;
+			
+			long x = STATE_LOW;
+			for (int i = n - 1; i >= 0; i--) {
+				final long size = sizes[i] & 0xFFFFFFFFL;
+				
+				// renormalize, so that x ends up in [STATE_LOW, STATE_LOW << 32): once is enough
+				if (x >>> Integer.SIZE >= size) {
+					if (m + WORD_BYTES > out.length)
+						out = Arrays.copyOf(out, 2 * out.length);
+					
+					for (int k = 0; k < WORD_BYTES; k++, x >>>= Byte.SIZE)
+						out[m++] = (byte) x;
+				}
+				
+				x = (x / size << SCALE_BITS) + x % size + starts[i];
+			}
+			
+			// the final state, last of all
+			if (m + STATE_BYTES > out.length)
+				out = Arrays.copyOf(out, m + STATE_BYTES);
+			
+			for (int i = 0; i < STATE_BYTES; i++, x >>>= Byte.SIZE)
+				out[m++] = (byte) x;
+			
+			// the decoder reads it all backwards
+			while (m > 0)
+				stream.writeInt(out[--m] & 0xFF);
+			
+			if (stream instanceof Flushable)
+				((Flushable) stream).flush();
+		}
+		
+		public String toString() {
+			return String.format("RansCodec.Encoder{%d symbols}", n);
+		}
+	}
+	
+	public static class Decoder implements ArithmeticCodec.Decoder {
+		private final IntInputStream stream;
+		
+		private long x;
+
+		public Decoder(IntInputStream stream) throws IOException {
+			this.stream = new TrailingZeroIntInputStream(stream);
+			init();
+		}
+		
+		public Decoder(ByteBuffer source) throws IOException {
+			this.stream = new ByteBufferDigitInputStream(source, Byte.SIZE);
+			init();
+		}
+
+		private void init() throws IOException {
+			for (int i = 0; i < STATE_BYTES; i++)
+				x = x << Byte.SIZE | stream.readInt() & 0xFF;
+		}
+
+		@Override public int read(int... cumulativeCount) throws IOException {
+			final int total = cumulativeCount[cumulativeCount.length - 1];
+			final int slot = slot();
+			
+			int symbol = DecodeTable.search(cumulativeCount, getCount(slot, total), 0, cumulativeCount.length - 1);
+			
+			advance(slot, symbol == 0 ? 0 : cumulativeCount[symbol - 1], cumulativeCount[symbol], total);
+			
+			return symbol;
+		}
+
+		@Override public int read(DecodeTable table) throws IOException {
+			final int slot = slot();
+			
+			int symbol = table.getSymbol(getCount(slot, table.total));
+			
+			advance(slot, symbol == 0 ? 0 : table.cumulativeCount[symbol - 1], table.cumulativeCount[symbol], table.total);
+			
+			return symbol;
+		}
+
+		@Override public int read(FrequencyModel model) throws IOException {
+			final int total = model.total();
+			final int slot = slot();
+			
+			int symbol = model.getSymbol(getCount(slot, total));
+			
+			advance(slot, symbol == 0 ? 0 : model.cumulativeCount(symbol - 1), model.cumulativeCount(symbol), total);
+			model.update(symbol);
+			
+			return symbol;
+		}
+		
+		private int slot() {
+			return (int) x & (1 << SCALE_BITS) - 1;
+		}
+		
+		// the highest count whose scaled value is no more than slot
+		private static int getCount(int slot, int total) {
+			checkTotal(total);
+			
+			return (int) (((long) slot + 1) * total - 1 >>> SCALE_BITS);
+		}
+		
+		private void advance(int slot, int start, int end, int total) throws IOException {
+			final long scaled = scale(start, total);
+			
+			x = (scale(end, total) - scaled) * (x >>> SCALE_BITS) + slot - scaled;
+			
+			// renormalize: once is enough
+			if (x < STATE_LOW)
+				for (int k = 0; k < WORD_BYTES; k++)
+					x = x << Byte.SIZE | stream.readInt() & 0xFF;
+		}
+		
+		public String toString() {
+			return String.format("RansCodec.Decoder{state %016x}", x);
+		}
+	}
+}
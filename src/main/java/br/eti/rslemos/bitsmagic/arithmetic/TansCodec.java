@@ -0,0 +1,382 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import br.eti.rslemos.bitsmagic.stream.IntInputStream;
+import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+
+/**
+ * Tabled variant of asymmetric numeral systems (tANS), behind the 
+ * {@link ArithmeticCodec} interfaces.
+ * 
+ * <p>Every probability distribution is normalized to a power of 2 (between 
+ * {@code 2^12} and {@code 2^20}, enough to give each symbol of the alphabet 
+ * at least one state), and spread over a table of as many states; coding a 
+ * symbol is then a table look up and a few bits in (or out), with no 
+ * arithmetic at all. Building a table takes time proportional to its size, 
+ * so tANS is meant for static distributions only: tables are kept for the 
+ * last cumulative count array (or {@link DecodeTable}) seen, and reused for 
+ * as long as the very same one keeps being passed in, which must then not 
+ * change in between. Any other {@link FrequencyModel} (adaptive ones 
+ * included) is refused with {@code UnsupportedOperationException}.
+ * </p>
+ * <p>As with {@link RansCodec}, symbols are decoded in the reverse order 
+ * they are encoded, so the {@link Encoder} keeps them all until 
+ * {@link Encoder#flush()}. Output is a stream of bytes, as {@code int}s from 
+ * 0 to 255, trailing zeros left out.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ * @see <a href="https://arxiv.org/abs/1311.2540">J. Duda, Asymmetric numeral 
+ *   systems</a>
+ */
+public abstract class TansCodec {
+	private static final int MIN_TABLE_LOG = 12;
+	private static final int MAX_TABLE_LOG = 20;
+	
+	private TansCodec() {
+	}
+	
+	static final class Table {
+		final int tableLog;
+		
+		// per symbol
+		final int[] norm;
+		final int[] cumulativeNorm;
+		
+		// per state, for decoding
+		final int[] symbol;
+		final byte[] bits;
+		final int[] base;
+		
+		// per (symbol, occurrence), for encoding
+		final int[] next;
+		
+		Table(int... cumulativeCount) {
+			final int symbols = cumulativeCount.length;
+			final int total = cumulativeCount[symbols - 1];
+			if (total <= 0)
+				throw new IllegalArgumentException("Non positive total: " + total);
+			
+			tableLog = Math.max(MIN_TABLE_LOG, Integer.SIZE - Integer.numberOfLeadingZeros(symbols - 1) + 1);
+			if (tableLog > MAX_TABLE_LOG)
+				throw new IllegalArgumentException("Alphabet too large: " + symbols);
+			
+			final int size = 1 << tableLog;
+			
+			norm = normalize(cumulativeCount, size);
+			cumulativeNorm = new int[symbols + 1];
+			for (int s = 0; s < symbols; s++)
+				cumulativeNorm[s + 1] = cumulativeNorm[s] + norm[s];
+			
+			// spread symbols all over the table, by an odd step
+			final int[] spread = new int[size];
+			final int step = (size >>> 1) + (size >>> 3) + 3;
+			for (int s = 0, pos = 0; s < symbols; s++)
+				for (int i = 0; i < norm[s]; i++, pos = (pos + step) & size - 1)
+					spread[pos] = s;
+			
+			symbol = spread;
+			bits = new byte[size];
+			base = new int[size];
+			next = new int[size];
+			
+			final int[] occurrence = norm.clone();
+			for (int state = 0; state < size; state++) {
+				final int s = spread[state];
+				final int y = occurrence[s]++;
+				final int nbBits = tableLog - (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(y));
+				
+				bits[state] = (byte) nbBits;
+				base[state] = (y << nbBits) - size;
+				next[cumulativeNorm[s] + y - norm[s]] = state;
+			}
+		}
+
+		Table(FrequencyModel model) {
+			this(cumulativeCount(model));
+		}
+
+		private static int[] cumulativeCount(FrequencyModel model) {
+			if (!(model instanceof DecodeTable))
+				throw new UnsupportedOperationException("Static models only");
+			
+			return ((DecodeTable) model).cumulativeCount;
+		}
+		
+		// counts scaled to size, every expected symbol at least 1
+		private static int[] normalize(int[] cumulativeCount, int size) {
+			final int symbols = cumulativeCount.length;
+			final long total = cumulativeCount[symbols - 1];
+			final int[] norm = new int[symbols];
+			
+			int sum = 0;
+			for (int s = 0, low = 0; s < symbols; low = cumulativeCount[s++]) {
+				final int count = cumulativeCount[s] - low;
+				if (count > 0)
+					sum += norm[s] = Math.max(1, (int) ((long) count * size / total));
+			}
+			
+			// rounding off leaves some states over (or some short), to be 
+			// taken by (or from) the most probable symbols
+			while (sum != size) {
+				int max = 0;
+				for (int s = 1; s < symbols; s++)
+					if (norm[s] > norm[max])
+						max = s;
+				
+				final int delta = Math.max(size - sum, 1 - norm[max]);
+				norm[max] += delta;
+				sum += delta;
+			}
+			
+			return norm;
+		}
+	}
+	
+	public static class Encoder implements ArithmeticCodec.Encoder {
+		private final IntOutputStream stream;
+		
+		private int[] lastCumulativeCount;
+		private FrequencyModel lastModel;
+		private Table lastTable;
+		
+		// every symbol written so far, and its table
+		private int[] symbols = new int[64];
+		private Table[] tables = new Table[64];
+		private int n;
+
+		public Encoder(IntOutputStream stream) {
+			this.stream = new DelayedZeroIntOutputStream(stream);
+		}
+		
+		public Encoder(ByteBuffer sink) {
+			this.stream = new ByteBufferDigitOutputStream(sink, Byte.SIZE);
+		}
+
+		@Override public void write(int symbol, int... cumulativeCount) {
+			if (cumulativeCount != lastCumulativeCount) {
+				lastTable = new Table(cumulativeCount);
+				lastCumulativeCount = cumulativeCount;
+				lastModel = null;
+			}
+			
+			push(symbol, lastTable);
+		}
+
+		@Override public void write(int symbol, FrequencyModel model) {
+			if (model != lastModel) {
+				lastTable = new Table(model);
+				lastModel = model;
+				lastCumulativeCount = null;
+			}
+			
+			push(symbol, lastTable);
+		}
+		
+		private void push(int symbol, Table table) {
+			if (table.norm[symbol] == 0)
+				throw new IllegalArgumentException("Unexpected symbol");
+			
+			if (n == symbols.length) {
+				symbols = Arrays.copyOf(symbols, 2 * n);
+				tables = Arrays.copyOf(tables, 2 * n);
+			}
+			
+			symbols[n] = symbol;
+			tables[n] = table;
+			n++;
+		}
+
+		@Override public void flush() throws IOException {
+			// bits taken out of the state by every symbol, last to first
+			long[] values = new long[n];
+			byte[] lengths = new byte[n];
+			
+			int state = 0;
+			int tableLog = n > 0 ? tables[n - 1].tableLog : MIN_TABLE_LOG;
+			for (int i = n - 1; i >= 0; i--) {
+				final Table table = tables[i];
+				final int s = symbols[i];
+				
+				// carry the state over from one table to the next: into a 
+				// larger one as is, into a smaller one leaving bits behind
+				int x = state + (1 << tableLog);
+				int carryBits = 0;
+				long carry = 0;
+				if (table.tableLog > tableLog) {
+					x <<= table.tableLog - tableLog;
+				} else if (table.tableLog < tableLog) {
+					carryBits = tableLog - table.tableLog;
+					carry = x & (1 << carryBits) - 1;
+					x >>>= carryBits;
+				}
+				tableLog = table.tableLog;
+				
+				final int norm = table.norm[s];
+				int k = tableLog - (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(norm));
+				if (x >>> k < norm)
+					k--;
+				
+				// bits left behind are read right after those of the symbol
+				values[i] = x & (1 << k) - 1 | carry << k;
+				lengths[i] = (byte) (k + carryBits);
+				state = table.next[table.cumulativeNorm[s] + (x >>> k) - norm];
+			}
+			
+			BitWriter writer = new BitWriter(stream);
+			
+			// the final state, first of all
+			writer.write(state, tableLog);
+			for (int i = 0; i < n; i++)
+				writer.write(values[i], lengths[i]);
+			
+			writer.flush();
+			
+			if (stream instanceof Flushable)
+				((Flushable) stream).flush();
+		}
+		
+		public String toString() {
+			return String.format("TansCodec.Encoder{%d symbols}", n);
+		}
+	}
+	
+	public static class Decoder implements ArithmeticCodec.Decoder {
+		private final IntInputStream stream;
+		
+		private int[] lastCumulativeCount;
+		private FrequencyModel lastModel;
+		private Table lastTable;
+		
+		private int state = -1;
+		private int tableLog;
+		
+		// bits read, not yet consumed
+		private long acc;
+		private int bits;
+
+		public Decoder(IntInputStream stream) {
+			this.stream = new TrailingZeroIntInputStream(stream);
+		}
+		
+		public Decoder(ByteBuffer source) {
+			this.stream = new ByteBufferDigitInputStream(source, Byte.SIZE);
+		}
+
+		@Override public int read(int... cumulativeCount) throws IOException {
+			if (cumulativeCount != lastCumulativeCount) {
+				lastTable = new Table(cumulativeCount);
+				lastCumulativeCount = cumulativeCount;
+				lastModel = null;
+			}
+			
+			return read0(lastTable);
+		}
+
+		@Override public int read(DecodeTable table) throws IOException {
+			return read((FrequencyModel) table);
+		}
+
+		@Override public int read(FrequencyModel model) throws IOException {
+			if (model != lastModel) {
+				lastTable = new Table(model);
+				lastModel = model;
+				lastCumulativeCount = null;
+			}
+			
+			return read0(lastTable);
+		}
+		
+		private int read0(Table table) throws IOException {
+			if (state < 0) {
+				// the final state of the encoder, first of all
+				tableLog = table.tableLog;
+				state = readBits(tableLog);
+			} else if (table.tableLog != tableLog) {
+				// carry the state over from one table to the next
+				int x = state + (1 << tableLog);
+				if (table.tableLog > tableLog)
+					x = x << table.tableLog - tableLog | readBits(table.tableLog - tableLog);
+				else
+					x >>>= tableLog - table.tableLog;
+				
+				state = x - (1 << table.tableLog);
+				tableLog = table.tableLog;
+			}
+			
+			final int symbol = table.symbol[state];
+			state = table.base[state] + readBits(table.bits[state]);
+			
+			return symbol;
+		}
+		
+		private int readBits(int n) throws IOException {
+			for (; bits < n; bits += Byte.SIZE)
+				acc |= (long) (stream.readInt() & 0xFF) << bits;
+			
+			final int v = (int) acc & (1 << n) - 1;
+			acc >>>= n;
+			bits -= n;
+			
+			return v;
+		}
+		
+		public String toString() {
+			return String.format("TansCodec.Decoder{state %d}", state);
+		}
+	}
+	
+	private static final class BitWriter {
+		private final IntOutputStream stream;
+		
+		private long acc;
+		private int bits;
+		
+		BitWriter(IntOutputStream stream) {
+			this.stream = stream;
+		}
+		
+		void write(long v, int n) throws IOException {
+			acc |= v << bits;
+			for (bits += n; bits >= Byte.SIZE; bits -= Byte.SIZE, acc >>>= Byte.SIZE)
+				stream.writeInt((int) acc & 0xFF);
+		}
+		
+		void flush() throws IOException {
+			if (bits > 0)
+				stream.writeInt((int) acc & 0xFF);
+		}
+	}
+}
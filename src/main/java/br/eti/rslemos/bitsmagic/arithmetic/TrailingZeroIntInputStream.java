@@ -29,10 +29,12 @@ package br.eti.rslemos.bitsmagic.arithmetic;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.Arrays;
 
+import br.eti.rslemos.bitsmagic.stream.AbstractIntInputStream;
 import br.eti.rslemos.bitsmagic.stream.IntInputStream;
 
-class TrailingZeroIntInputStream implements IntInputStream {
+class TrailingZeroIntInputStream extends AbstractIntInputStream {
 
 	private final IntInputStream stream;
 
@@ -47,5 +49,17 @@ class TrailingZeroIntInputStream implements IntInputStream {
 			return 0;
 		}
 	}
+
+	@Override public int readInts(int[] dst, int off, int len) throws IOException {
+		int n;
+		try {
+			n = len > 0 ? stream.readInts(dst, off, len) : 0;
+		} catch (EOFException e) {
+			n = 0;
+		}
+		
+		Arrays.fill(dst, off + n, off + len, 0);
+		return len;
+	}
 	
 }
\ No newline at end of file
@@ -90,7 +90,140 @@ public abstract class AbstractArrayIntStream<T> {
 			throw new EOFException();
 	}
 	
+	int readInts(int[] dst, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || off > dst.length - len)
+			throw new IndexOutOfBoundsException();
+		
+		if (len == 0)
+			return 0;
+		
+		if (!(from < to))
+			throw new EOFException();
+		
+		// whole values
+		final int n = Math.min(len, (to - from) / width);
+		readInts0(dst, off, n);
+		from += n * width;
+		
+		// a value cut short by the end of the stream
+		if (n < len && from < to) {
+			dst[off + n] = readInt();
+			return n + 1;
+		}
+		
+		return n;
+	}
+
+	void writeInts(int[] src, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || off > src.length - len)
+			throw new IndexOutOfBoundsException();
+		
+		// whole values
+		final int n = from < to ? Math.min(len, (to - from) / width) : 0;
+		writeInts0(src, off, n);
+		from += n * width;
+		
+		// a value cut short by the end of the stream (then EOFException)
+		for (int i = n; i < len; i++)
+			writeInt(src[off + i]);
+	}
+
+	void writeRun(int v, long count) throws IOException {
+		if (count < 0)
+			throw new IllegalArgumentException("Negative count: " + count);
+		
+		// whole values
+		final int n = from < to ? (int) Math.min(count, (to - from) / width) : 0;
+		writeRun0(v & ~mask, n);
+		from += n * width;
+		
+		// a value cut short by the end of the stream (then EOFException)
+		for (long i = n; i < count; i++)
+			writeInt(v);
+	}
+
+	/**
+	 * Reads {@code n} whole values from the current position on (which is left 
+	 * untouched). Values are unpacked from 64-bit windows, as many as fit in 
+	 * each one.
+	 */
+	void readInts0(int[] dst, int off, int n) {
+		final int perWindow = Long.SIZE / width;
+		final long m = ~(-1L << width);
+		final int end = off + n;
+		
+		for (int pos = from; off < end; ) {
+			final int k = Math.min(perWindow, end - off);
+			long w = readLong0(pos);
+			for (int i = 0; i < k; i++, w >>>= width)
+				dst[off++] = (int) (w & m);
+			
+			pos += k * width;
+		}
+	}
+
+	/**
+	 * Writes {@code n} whole values from the current position on (which is 
+	 * left untouched). Values are packed into 64-bit windows, as many as fit 
+	 * in each one.
+	 */
+	void writeInts0(int[] src, int off, int n) {
+		final int perWindow = Long.SIZE / width;
+		final long m = ~(-1L << width);
+		final int end = off + n;
+		
+		for (int pos = from; off < end; ) {
+			final int k = Math.min(perWindow, end - off);
+			final int bits = k * width;
+			
+			long w = 0;
+			for (int shift = 0; shift < bits; shift += width)
+				w |= (src[off++] & m) << shift;
+			
+			// keep whatever follows the last value packed
+			if (bits < Long.SIZE)
+				w |= readLong0(pos) & -1L << bits;
+			
+			writeLong0(pos, w);
+			pos += bits;
+		}
+	}
+	
+	/**
+	 * Writes {@code n} whole copies of {@code v} from the current position on 
+	 * (which is left untouched). Runs of all 0 or all 1 bits are filled 
+	 * straight away; other values are packed into a 64-bit window once, which 
+	 * is then written over and over.
+	 */
+	void writeRun0(int v, int n) {
+		final int end = from + n * width;
+		
+		if (v == 0 || v == ~mask) {
+			// FAST PATH: all bits the same
+			fill0(from, end, v != 0);
+			return;
+		}
+		
+		final int bits = Long.SIZE / width * width;
+		
+		long w = 0;
+		for (int shift = 0; shift < bits; shift += width)
+			w |= (v & 0xFFFFFFFFL) << shift;
+		
+		for (int pos = from; pos < end; pos += bits) {
+			// keep whatever follows the last value of the run
+			final int k = Math.min(bits, end - pos);
+			writeLong0(pos, k < Long.SIZE ? w & ~(-1L << k) | readLong0(pos) & -1L << k : w);
+		}
+	}
+	
 	abstract int readInt0();
 	
 	abstract void writeInt0(int v);
+	
+	abstract long readLong0(int pos);
+	
+	abstract void writeLong0(int pos, long v);
+	
+	abstract void fill0(int from, int to, boolean v);
 }
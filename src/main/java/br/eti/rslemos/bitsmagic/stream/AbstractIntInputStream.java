@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.stream;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * This class provides a default implementation of 
+ * {@link IntInputStream#readInts(int[], int, int)} in terms of 
+ * {@link IntInputStream#readInt()}. Subclasses should override it whenever 
+ * they can read values in bulk more efficiently.
+ * 
+ * @since 1.0.0
+ */
+public abstract class AbstractIntInputStream implements IntInputStream {
+	@Override public int readInts(int[] dst, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || off > dst.length - len)
+			throw new IndexOutOfBoundsException();
+		
+		for (int i = 0; i < len; i++)
+			try {
+				dst[off + i] = readInt();
+			} catch (EOFException e) {
+				if (i == 0)
+					throw e;
+				
+				return i;
+			}
+		
+		return len;
+	}
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.stream;
+
+import java.io.IOException;
+
+/**
+ * This class provides default implementations of 
+ * {@link IntOutputStream#writeInts(int[], int, int)} and 
+ * {@link RunIntOutputStream#writeRun(int, long)} in terms of 
+ * {@link IntOutputStream#writeInt(int)}. Subclasses should override them 
+ * whenever they can write values in bulk more efficiently.
+ * 
+ * @since 1.0.0
+ */
+public abstract class AbstractIntOutputStream implements RunIntOutputStream {
+	@Override public void writeInts(int[] src, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || off > src.length - len)
+			throw new IndexOutOfBoundsException();
+		
+		for (int i = 0; i < len; i++)
+			writeInt(src[off + i]);
+	}
+
+	@Override public void writeRun(int v, long count) throws IOException {
+		if (count < 0)
+			throw new IllegalArgumentException("Negative count: " + count);
+		
+		for (; count != 0; count--)
+			writeInt(v);
+	}
+}
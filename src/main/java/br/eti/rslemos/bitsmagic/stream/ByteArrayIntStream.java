@@ -44,17 +44,26 @@ public class ByteArrayIntStream extends AbstractArrayIntStream<byte[]> {
 
 	@Override void writeInt0(int v) { Store.writeInt(buffer, from, v); }
 
+	@Override long readLong0(int pos) { return Store.readLong(buffer, pos); }
+
+	@Override void writeLong0(int pos, long v) { Store.writeLong(buffer, pos, v); }
+
+	@Override void fill0(int from, int to, boolean v) { Store.fill(buffer, from, to, v); }
+
 	public static class Input extends ByteArrayIntStream implements IntInputStream {
 		public Input(int width, byte[] buffer, int from, int to) { super(width, buffer, from, to); }
 		public Input(int width, byte[] buffer) { super(width, buffer); }
 		
 		@Override public int readInt() throws IOException { return super.readInt(); }
+		@Override public int readInts(int[] dst, int off, int len) throws IOException { return super.readInts(dst, off, len); }
 	}
 	
-	public static class Output extends ByteArrayIntStream implements IntOutputStream {
+	public static class Output extends ByteArrayIntStream implements RunIntOutputStream {
 		public Output(int width, byte[] buffer, int from, int to) { super(width, buffer, from, to); }
 		public Output(int width, byte[] buffer) { super(width, buffer); }
 		
 		@Override public void writeInt(int v) throws IOException { super.writeInt(v); }
+		@Override public void writeInts(int[] src, int off, int len) throws IOException { super.writeInts(src, off, len); }
+		@Override public void writeRun(int v, long count) throws IOException { super.writeRun(v, count); }
 	}
 }
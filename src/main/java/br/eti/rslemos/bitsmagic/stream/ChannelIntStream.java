@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.stream;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * This class provides implementations for {@link IntInputStream} and 
+ * {@link IntOutputStream} which read values from (or write values to) a byte 
+ * channel (or a {@code java.io} stream, through {@link Channels}).
+ * 
+ * <p>Values are packed as {@link ByteArrayIntStream} does over a 
+ * {@code byte[]} starting at bit 0: a stream of bytes written by 
+ * {@link Output} is the same as the contents of an array written by 
+ * {@link ByteArrayIntStream.Output}, and vice versa. Bits go through a 64-bit 
+ * accumulator into a reusable direct {@link ByteBuffer}, which is exchanged 
+ * with the channel only when full (or empty), so the whole payload is never 
+ * materialized.
+ * </p>
+ * <p>Since the channel knows bytes only, {@link Output#close()} pads the last 
+ * value up to the next byte boundary with 0 bits; {@link Input} takes fewer 
+ * than {@code width} bits left at the end of the channel as such padding, 
+ * never as a value. Widths under 8 bits may then read padding back as 
+ * trailing 0 values (as {@link ByteArrayIntStream} would from the same 
+ * bytes); the number of values, if relevant, should be kept elsewhere.
+ * </p>
+ * 
+ * @since 1.0.0
+ */
+public abstract class ChannelIntStream {
+	/**
+	 * Buffer capacity, in bytes, when none is given.
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 16;
+	
+	final int width;
+	final long mask;
+	final ByteBuffer buffer;
+	
+	// bits not yet in buffer (Output) or not yet consumed (Input), from bit 0 up
+	long acc;
+	int bits;
+
+	ChannelIntStream(int width, int capacity) {
+		if (!(width > 0 && width <= Integer.SIZE))
+			throw new IllegalArgumentException();
+		
+		if (capacity < Long.SIZE / Byte.SIZE)
+			throw new IllegalArgumentException();
+		
+		this.width = width;
+		this.mask = ~(-1L << width);
+		this.buffer = ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	public static class Input extends ChannelIntStream implements IntInputStream, Closeable {
+		private final ReadableByteChannel channel;
+		private boolean eof;
+		
+		public Input(int width, ReadableByteChannel channel, int capacity) {
+			super(width, capacity);
+			this.channel = channel;
+			
+			// nothing to read yet
+			buffer.flip();
+		}
+		
+		public Input(int width, ReadableByteChannel channel) { this(width, channel, DEFAULT_CAPACITY); }
+		public Input(int width, InputStream in) { this(width, Channels.newChannel(in)); }
+
+		@Override public int readInt() throws IOException {
+			if (bits >= width) {
+				final int v = (int) (acc & mask);
+				acc >>>= width;
+				bits -= width;
+				return v;
+			}
+			
+			if (buffer.remaining() < Long.SIZE / Byte.SIZE)
+				fill();
+			
+			if (buffer.remaining() >= Long.SIZE / Byte.SIZE) {
+				// FAST PATH: a whole word at once
+				final long w = buffer.getLong();
+				final int v = (int) ((acc | w << bits) & mask);
+				acc = w >>> width - bits;
+				bits += Long.SIZE - width;
+				return v;
+			}
+			
+			// near the end of the channel: byte by byte
+			while (bits < width && buffer.hasRemaining()) {
+				acc |= (buffer.get() & 0xFFL) << bits;
+				bits += Byte.SIZE;
+			}
+			
+			if (bits < width)
+				throw new EOFException();
+			
+			final int v = (int) (acc & mask);
+			acc >>>= width;
+			bits -= width;
+			return v;
+		}
+
+		@Override public int readInts(int[] dst, int off, int len) throws IOException {
+			if (off < 0 || len < 0 || off > dst.length - len)
+				throw new IndexOutOfBoundsException();
+			
+			for (int i = 0; i < len; i++)
+				try {
+					dst[off + i] = readInt();
+				} catch (EOFException e) {
+					if (i == 0)
+						throw e;
+					
+					return i;
+				}
+			
+			return len;
+		}
+
+		// tops the buffer up, until it holds at least a word or the channel ends
+		private void fill() throws IOException {
+			buffer.compact();
+			try {
+				while (!eof && buffer.position() < Long.SIZE / Byte.SIZE)
+					eof = channel.read(buffer) < 0;
+			} finally {
+				buffer.flip();
+			}
+		}
+
+		@Override public void close() throws IOException {
+			channel.close();
+		}
+	}
+	
+	public static class Output extends ChannelIntStream implements RunIntOutputStream, Flushable, Closeable {
+		private final WritableByteChannel channel;
+		// whatever lies beyond the channel and may hold bytes back (null if none)
+		private final Flushable downstream;
+		
+		public Output(int width, WritableByteChannel channel, int capacity) {
+			this(width, channel, capacity, channel instanceof Flushable ? (Flushable) channel : null);
+		}
+		
+		public Output(int width, WritableByteChannel channel) { this(width, channel, DEFAULT_CAPACITY); }
+		public Output(int width, OutputStream out) { this(width, Channels.newChannel(out), DEFAULT_CAPACITY, out); }
+
+		private Output(int width, WritableByteChannel channel, int capacity, Flushable downstream) {
+			super(width, capacity);
+			this.channel = channel;
+			this.downstream = downstream;
+		}
+
+		@Override public void writeInt(int v) throws IOException {
+			final long u = v & mask;
+			acc |= u << bits;
+			bits += width;
+			
+			if (bits >= Long.SIZE) {
+				if (buffer.remaining() < Long.SIZE / Byte.SIZE)
+					drain();
+				
+				buffer.putLong(acc);
+				bits -= Long.SIZE;
+				acc = bits > 0 ? u >>> width - bits : 0;
+			}
+		}
+
+		@Override public void writeInts(int[] src, int off, int len) throws IOException {
+			if (off < 0 || len < 0 || off > src.length - len)
+				throw new IndexOutOfBoundsException();
+			
+			for (int i = 0; i < len; i++)
+				writeInt(src[off + i]);
+		}
+
+		@Override public void writeRun(int v, long count) throws IOException {
+			if (count < 0)
+				throw new IllegalArgumentException("Negative count: " + count);
+			
+			for (; count != 0; count--)
+				writeInt(v);
+		}
+
+		/**
+		 * Writes every whole byte accumulated so far to the channel, then 
+		 * flushes the underlying {@code OutputStream} (or the channel itself, 
+		 * if it is {@link Flushable}). Bits short of a whole byte are kept 
+		 * until more values are written or the stream is closed.
+		 */
+		@Override public void flush() throws IOException {
+			for (; bits >= Byte.SIZE; bits -= Byte.SIZE, acc >>>= Byte.SIZE) {
+				if (!buffer.hasRemaining())
+					drain();
+				
+				buffer.put((byte) acc);
+			}
+			
+			drain();
+			
+			if (downstream != null)
+				downstream.flush();
+		}
+
+		/**
+		 * Writes everything accumulated so far to the channel, padding the last 
+		 * byte with 0 bits, then closes the channel.
+		 */
+		@Override public void close() throws IOException {
+			flush();
+			
+			if (bits > 0) {
+				buffer.put((byte) acc);
+				acc = 0;
+				bits = 0;
+				drain();
+			}
+			
+			channel.close();
+		}
+
+		// empties the buffer onto the channel
+		private void drain() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+			
+			buffer.clear();
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.stream;
+
+import java.util.Arrays;
+
+import br.eti.rslemos.bitsmagic.PackedLongArray;
+
+/**
+ * A {@link RunIntOutputStream} which packs values into a {@code long[]} that 
+ * grows as needed, never running out of room (much like 
+ * {@link java.io.ByteArrayOutputStream}).
+ * 
+ * <p>Values are packed as {@link LongArrayIntStream} does, from bit 0 on: 
+ * {@link #toLongArray()} is what a {@link LongArrayIntStream.Output} would 
+ * have produced over a large enough array, and {@link #toByteArray()} what a 
+ * {@link ByteArrayIntStream.Output} would. Whenever full, the internal array 
+ * doubles in size; {@link #reset()} keeps it, so an instance can be reused 
+ * across messages without reallocating.
+ * </p>
+ * 
+ * @since 1.0.0
+ */
+public class GrowableIntOutputStream implements RunIntOutputStream {
+	/**
+	 * Initial capacity, in words, when none is given.
+	 */
+	public static final int DEFAULT_CAPACITY = 16;
+	
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+	
+	private final int width;
+	private final long mask;
+	
+	private long[] data;
+	// whole words in data
+	private int words;
+	// bits short of a whole word, from bit 0 up
+	private long acc;
+	private int bits;
+
+	public GrowableIntOutputStream(int width, int capacity) {
+		if (!(width > 0 && width <= Integer.SIZE))
+			throw new IllegalArgumentException();
+		
+		if (capacity < 0)
+			throw new IllegalArgumentException();
+		
+		this.width = width;
+		this.mask = ~(-1L << width);
+		this.data = new long[capacity];
+	}
+
+	public GrowableIntOutputStream(int width) { this(width, DEFAULT_CAPACITY); }
+
+	@Override public void writeInt(int v) {
+		final long u = v & mask;
+		acc |= u << bits;
+		bits += width;
+		
+		if (bits >= Long.SIZE) {
+			if (words == data.length)
+				grow();
+			
+			data[words++] = acc;
+			bits -= Long.SIZE;
+			acc = bits > 0 ? u >>> width - bits : 0;
+		}
+	}
+
+	@Override public void writeInts(int[] src, int off, int len) {
+		if (off < 0 || len < 0 || off > src.length - len)
+			throw new IndexOutOfBoundsException();
+		
+		// room enough for every value up front
+		final long needed = ((long) bits + (long) len * width) >> 6;
+		while (data.length - words < needed)
+			grow();
+		
+		long acc = this.acc;
+		int bits = this.bits;
+		
+		for (final int end = off + len; off < end; off++) {
+			final long u = src[off] & mask;
+			acc |= u << bits;
+			bits += width;
+			
+			if (bits >= Long.SIZE) {
+				data[words++] = acc;
+				bits -= Long.SIZE;
+				acc = bits > 0 ? u >>> width - bits : 0;
+			}
+		}
+		
+		this.acc = acc;
+		this.bits = bits;
+	}
+
+	@Override public void writeRun(int v, long count) {
+		if (count < 0)
+			throw new IllegalArgumentException("Negative count: " + count);
+		
+		if (count == 0)
+			return;
+		
+		final long start = bitLength();
+		if (count > (((long) MAX_CAPACITY << 6) - start) / width)
+			throw new OutOfMemoryError();
+		
+		// room enough for the whole run, up front
+		final long end = start + count * width;
+		while (data.length < (end + Long.SIZE - 1) >> 6)
+			grow();
+		
+		// fill from the accumulated bits on, in place
+		if (bits > 0)
+			data[words] = acc;
+		
+		new PackedLongArray(width, data).fill(start / width, start / width + count, v & mask);
+		
+		words = (int) (end >> 6);
+		bits = (int) end & (Long.SIZE - 1);
+		acc = bits > 0 ? data[words] & ~(-1L << bits) : 0;
+	}
+
+	private void grow() {
+		if (data.length == MAX_CAPACITY)
+			throw new OutOfMemoryError();
+		
+		data = Arrays.copyOf(data, (int) Math.min(Math.max(2L * data.length, 1), MAX_CAPACITY));
+	}
+
+	/**
+	 * Returns the number of bits written so far.
+	 */
+	public long bitLength() {
+		return ((long) words << 6) + bits;
+	}
+
+	/**
+	 * Discards everything written so far, keeping the internal array.
+	 */
+	public void reset() {
+		words = 0;
+		acc = 0;
+		bits = 0;
+	}
+
+	/**
+	 * Returns a copy of the bits written so far, in as many words as needed. 
+	 * Bits past {@link #bitLength()} are 0.
+	 */
+	public long[] toLongArray() {
+		if (bits == 0)
+			return Arrays.copyOf(data, words);
+		
+		final long[] result = Arrays.copyOf(data, words + 1);
+		result[words] = acc;
+		return result;
+	}
+
+	/**
+	 * Returns a copy of the bits written so far, in as many bytes as needed. 
+	 * Bits past {@link #bitLength()} are 0.
+	 */
+	public byte[] toByteArray() {
+		final long length = (bitLength() + Byte.SIZE - 1) >> 3;
+		if (length > MAX_CAPACITY)
+			throw new OutOfMemoryError();
+		
+		final byte[] result = new byte[(int) length];
+		
+		int i = 0;
+		for (int j = 0; j < words; j++)
+			for (long w = data[j], k = 0; k < Long.SIZE / Byte.SIZE; k++, w >>>= Byte.SIZE)
+				result[i++] = (byte) w;
+		
+		for (long w = acc; i < result.length; w >>>= Byte.SIZE)
+			result[i++] = (byte) w;
+		
+		return result;
+	}
+}
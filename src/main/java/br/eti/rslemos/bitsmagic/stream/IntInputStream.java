@@ -44,4 +44,21 @@ public interface IntInputStream {
 	 * </p>
 	 */
 	int readInt() throws IOException;
+
+	/**
+	 * Reads up to {@code len} next {@code int}s in the stream into the given 
+	 * buffer, as if by as many calls to {@link #readInt()}.
+	 * 
+	 * <p>Fewer than {@code len} values are read only if the stream ends before 
+	 * that; if it ends before even the first value, this method fails just 
+	 * like {@link #readInt()} would. {@link AbstractIntInputStream} provides a 
+	 * default implementation.
+	 * </p>
+	 * 
+	 * @param dst the buffer into which values are read
+	 * @param off offset in {@code dst} of the first value read
+	 * @param len maximum number of values to be read
+	 * @return the number of values read
+	 */
+	int readInts(int[] dst, int off, int len) throws IOException;
 }
@@ -40,4 +40,15 @@ public interface IntOutputStream {
 	 * @param v the next value written to the stream
 	 */
 	void writeInt(int v) throws IOException;
+
+	/**
+	 * Writes {@code len} values from the given buffer to the stream, as if by 
+	 * as many calls to {@link #writeInt(int)}. 
+	 * {@link AbstractIntOutputStream} provides a default implementation.
+	 * 
+	 * @param src the buffer from which values are written
+	 * @param off offset in {@code src} of the first value written
+	 * @param len number of values to be written
+	 */
+	void writeInts(int[] src, int off, int len) throws IOException;
 }
@@ -29,11 +29,16 @@ package br.eti.rslemos.bitsmagic.stream;
 
 import java.io.IOException;
 
+import br.eti.rslemos.bitsmagic.PackedLongArray;
 import br.eti.rslemos.bitsmagic.Store;
 
 public class LongArrayIntStream extends AbstractArrayIntStream<long[]> {
+	// same storage, seen as values of this width (from bit 0)
+	private final PackedLongArray packed;
+	
 	private LongArrayIntStream (int width, long[] buffer, int from, int to) {
 		super(width, buffer, from, to);
+		this.packed = new PackedLongArray(width, buffer);
 	}
 	
 	private LongArrayIntStream (int width, long[] buffer) {
@@ -44,17 +49,50 @@ public class LongArrayIntStream extends AbstractArrayIntStream<long[]> {
 
 	@Override void writeInt0(int v) { Store.writeInt(buffer, from, v); }
 
+	@Override long readLong0(int pos) { return Store.readLong(buffer, pos); }
+
+	@Override void writeLong0(int pos, long v) { Store.writeLong(buffer, pos, v); }
+
+	@Override void fill0(int from, int to, boolean v) { Store.fill(buffer, from, to, v); }
+
+	@Override void readInts0(int[] dst, int off, int n) {
+		// FAST PATH: values lined up with those of packed
+		if (from >= 0 && from % width == 0)
+			packed.get(from / width, dst, off, n);
+		else
+			super.readInts0(dst, off, n);
+	}
+
+	@Override void writeInts0(int[] src, int off, int n) {
+		// FAST PATH: values lined up with those of packed
+		if (from >= 0 && from % width == 0)
+			packed.set(from / width, src, off, n);
+		else
+			super.writeInts0(src, off, n);
+	}
+
+	@Override void writeRun0(int v, int n) {
+		// FAST PATH: values lined up with those of packed
+		if (from >= 0 && from % width == 0)
+			packed.fill(from / width, from / width + n, v & 0xFFFFFFFFL);
+		else
+			super.writeRun0(v, n);
+	}
+
 	public static class Input extends LongArrayIntStream implements IntInputStream {
 		public Input(int width, long[] buffer, int from, int to) { super(width, buffer, from, to); }
 		public Input(int width, long[] buffer) { super(width, buffer); }
 		
 		@Override public int readInt() throws IOException { return super.readInt(); }
+		@Override public int readInts(int[] dst, int off, int len) throws IOException { return super.readInts(dst, off, len); }
 	}
 	
-	public static class Output extends LongArrayIntStream implements IntOutputStream {
+	public static class Output extends LongArrayIntStream implements RunIntOutputStream {
 		public Output(int width, long[] buffer, int from, int to) { super(width, buffer, from, to); }
 		public Output(int width, long[] buffer) { super(width, buffer); }
 		
 		@Override public void writeInt(int v) throws IOException { super.writeInt(v); }
+		@Override public void writeInts(int[] src, int off, int len) throws IOException { super.writeInts(src, off, len); }
+		@Override public void writeRun(int v, long count) throws IOException { super.writeRun(v, count); }
 	}
 }
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.stream;
+
+import java.io.IOException;
+
+/**
+ * An {@link IntOutputStream} which can also write runs of a single value in 
+ * bulk. Callers holding a plain {@link IntOutputStream} should check for 
+ * this interface and otherwise fall back to calling 
+ * {@link #writeInt(int)} repeatedly.
+ * 
+ * @since 1.0.0
+ */
+public interface RunIntOutputStream extends IntOutputStream {
+	/**
+	 * Writes {@code count} copies of the given value to the stream, as if by 
+	 * as many calls to {@link #writeInt(int)}. 
+	 * {@link AbstractIntOutputStream} provides a default implementation.
+	 * 
+	 * @param v the value repeatedly written to the stream
+	 * @param count number of times {@code v} is to be written
+	 * @throws IllegalArgumentException if {@code count} is negative
+	 */
+	void writeRun(int v, long count) throws IOException;
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+/**
+ * Hooks for SIMD kernels over whole words.
+ * 
+ * <p>This is the Java 21 version: it delegates to {@link VectorKernels} 
+ * whenever the {@code jdk.incubator.vector} module is present (that is, the 
+ * JVM was started with {@code --add-modules jdk.incubator.vector}) and the 
+ * system property {@code br.eti.rslemos.bitsmagic.simd} is not 
+ * {@code false}. Otherwise it reports no SIMD support and callers keep to 
+ * their scalar loops.
+ * </p>
+ * <p>Kernels operate on whole words (no bit offsets) and perform no bounds 
+ * checking. Those that take a {@code Backwards} suffix walk from the highest 
+ * index down, for use when source and destination overlap with 
+ * {@code dIndex > sIndex}.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+final class Simd {
+	private Simd() { /* non-instantiable */ }
+	
+	static final boolean ENABLED = enabled();
+	
+	private static boolean enabled() {
+		if ("false".equalsIgnoreCase(System.getProperty("br.eti.rslemos.bitsmagic.simd")))
+			return false;
+		
+		// VectorKernels must not even be loaded without the module
+		return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+	}
+	
+	static void xorForwards(byte[] source, int sIndex, byte[] dest, int dIndex, int length) {
+		VectorKernels.xorForwards(source, sIndex, dest, dIndex, length);
+	}
+
+	static void xorBackwards(byte[] source, int sIndex, byte[] dest, int dIndex, int length) {
+		VectorKernels.xorBackwards(source, sIndex, dest, dIndex, length);
+	}
+
+	static void xorForwards(char[] source, int sIndex, char[] dest, int dIndex, int length) {
+		VectorKernels.xorForwards(source, sIndex, dest, dIndex, length);
+	}
+
+	static void xorBackwards(char[] source, int sIndex, char[] dest, int dIndex, int length) {
+		VectorKernels.xorBackwards(source, sIndex, dest, dIndex, length);
+	}
+
+	static void xorForwards(short[] source, int sIndex, short[] dest, int dIndex, int length) {
+		VectorKernels.xorForwards(source, sIndex, dest, dIndex, length);
+	}
+
+	static void xorBackwards(short[] source, int sIndex, short[] dest, int dIndex, int length) {
+		VectorKernels.xorBackwards(source, sIndex, dest, dIndex, length);
+	}
+
+	static void xorForwards(int[] source, int sIndex, int[] dest, int dIndex, int length) {
+		VectorKernels.xorForwards(source, sIndex, dest, dIndex, length);
+	}
+
+	static void xorBackwards(int[] source, int sIndex, int[] dest, int dIndex, int length) {
+		VectorKernels.xorBackwards(source, sIndex, dest, dIndex, length);
+	}
+
+	static void xorForwards(long[] source, int sIndex, long[] dest, int dIndex, int length) {
+		VectorKernels.xorForwards(source, sIndex, dest, dIndex, length);
+	}
+
+	static void xorBackwards(long[] source, int sIndex, long[] dest, int dIndex, int length) {
+		VectorKernels.xorBackwards(source, sIndex, dest, dIndex, length);
+	}
+
+	static long ones(long[] data, int index0, int index1) {
+		return VectorKernels.ones(data, index0, index1);
+	}
+}
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static jdk.incubator.vector.VectorOperators.ADD;
+import static jdk.incubator.vector.VectorOperators.BIT_COUNT;
+import static jdk.incubator.vector.VectorOperators.XOR;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of the {@link Simd} kernels.
+ * 
+ * <p>Every vector step loads all of its lanes before storing any of them, 
+ * so walking forwards when {@code dIndex <= sIndex} (and backwards 
+ * otherwise) yields the same results as the scalar loops even when source 
+ * and destination are the same array. Words that do not fill a whole vector 
+ * are handled by the scalar loop.
+ * </p>
+ * <p>This class must only be loaded when the {@code jdk.incubator.vector} 
+ * module is present.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+final class VectorKernels {
+	private VectorKernels() { /* non-instantiable */ }
+
+	/********** byte[] **********/
+	
+	private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_PREFERRED;
+	
+	static void xorForwards(byte[] source, int sIndex, byte[] dest, int dIndex, int length) {
+		final int LANES = BYTE_SPECIES.length();
+		
+		int i = 0;
+		for (int bound = BYTE_SPECIES.loopBound(length); i < bound; i += LANES)
+			ByteVector.fromArray(BYTE_SPECIES, dest, dIndex + i)
+				.lanewise(XOR, ByteVector.fromArray(BYTE_SPECIES, source, sIndex + i))
+				.intoArray(dest, dIndex + i);
+		
+		for (; i < length; i++)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorBackwards(byte[] source, int sIndex, byte[] dest, int dIndex, int length) {
+		final int LANES = BYTE_SPECIES.length();
+		
+		int i = length;
+		for (int bound = length - BYTE_SPECIES.loopBound(length); i > bound; ) {
+			i -= LANES;
+			ByteVector.fromArray(BYTE_SPECIES, dest, dIndex + i)
+				.lanewise(XOR, ByteVector.fromArray(BYTE_SPECIES, source, sIndex + i))
+				.intoArray(dest, dIndex + i);
+		}
+		
+		while (--i >= 0)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	/********** char[] **********/
+	
+	private static final VectorSpecies<Short> CHAR_SPECIES = ShortVector.SPECIES_PREFERRED;
+	
+	static void xorForwards(char[] source, int sIndex, char[] dest, int dIndex, int length) {
+		final int LANES = CHAR_SPECIES.length();
+		
+		int i = 0;
+		for (int bound = CHAR_SPECIES.loopBound(length); i < bound; i += LANES)
+			ShortVector.fromCharArray(CHAR_SPECIES, dest, dIndex + i)
+				.lanewise(XOR, ShortVector.fromCharArray(CHAR_SPECIES, source, sIndex + i))
+				.intoCharArray(dest, dIndex + i);
+		
+		for (; i < length; i++)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorBackwards(char[] source, int sIndex, char[] dest, int dIndex, int length) {
+		final int LANES = CHAR_SPECIES.length();
+		
+		int i = length;
+		for (int bound = length - CHAR_SPECIES.loopBound(length); i > bound; ) {
+			i -= LANES;
+			ShortVector.fromCharArray(CHAR_SPECIES, dest, dIndex + i)
+				.lanewise(XOR, ShortVector.fromCharArray(CHAR_SPECIES, source, sIndex + i))
+				.intoCharArray(dest, dIndex + i);
+		}
+		
+		while (--i >= 0)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	/********** short[] **********/
+	
+	private static final VectorSpecies<Short> SHORT_SPECIES = ShortVector.SPECIES_PREFERRED;
+	
+	static void xorForwards(short[] source, int sIndex, short[] dest, int dIndex, int length) {
+		final int LANES = SHORT_SPECIES.length();
+		
+		int i = 0;
+		for (int bound = SHORT_SPECIES.loopBound(length); i < bound; i += LANES)
+			ShortVector.fromArray(SHORT_SPECIES, dest, dIndex + i)
+				.lanewise(XOR, ShortVector.fromArray(SHORT_SPECIES, source, sIndex + i))
+				.intoArray(dest, dIndex + i);
+		
+		for (; i < length; i++)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorBackwards(short[] source, int sIndex, short[] dest, int dIndex, int length) {
+		final int LANES = SHORT_SPECIES.length();
+		
+		int i = length;
+		for (int bound = length - SHORT_SPECIES.loopBound(length); i > bound; ) {
+			i -= LANES;
+			ShortVector.fromArray(SHORT_SPECIES, dest, dIndex + i)
+				.lanewise(XOR, ShortVector.fromArray(SHORT_SPECIES, source, sIndex + i))
+				.intoArray(dest, dIndex + i);
+		}
+		
+		while (--i >= 0)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	/********** int[] **********/
+	
+	private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+	
+	static void xorForwards(int[] source, int sIndex, int[] dest, int dIndex, int length) {
+		final int LANES = INT_SPECIES.length();
+		
+		int i = 0;
+		for (int bound = INT_SPECIES.loopBound(length); i < bound; i += LANES)
+			IntVector.fromArray(INT_SPECIES, dest, dIndex + i)
+				.lanewise(XOR, IntVector.fromArray(INT_SPECIES, source, sIndex + i))
+				.intoArray(dest, dIndex + i);
+		
+		for (; i < length; i++)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorBackwards(int[] source, int sIndex, int[] dest, int dIndex, int length) {
+		final int LANES = INT_SPECIES.length();
+		
+		int i = length;
+		for (int bound = length - INT_SPECIES.loopBound(length); i > bound; ) {
+			i -= LANES;
+			IntVector.fromArray(INT_SPECIES, dest, dIndex + i)
+				.lanewise(XOR, IntVector.fromArray(INT_SPECIES, source, sIndex + i))
+				.intoArray(dest, dIndex + i);
+		}
+		
+		while (--i >= 0)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	/********** long[] **********/
+	
+	private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+	
+	static void xorForwards(long[] source, int sIndex, long[] dest, int dIndex, int length) {
+		final int LANES = LONG_SPECIES.length();
+		
+		int i = 0;
+		for (int bound = LONG_SPECIES.loopBound(length); i < bound; i += LANES)
+			LongVector.fromArray(LONG_SPECIES, dest, dIndex + i)
+				.lanewise(XOR, LongVector.fromArray(LONG_SPECIES, source, sIndex + i))
+				.intoArray(dest, dIndex + i);
+		
+		for (; i < length; i++)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static void xorBackwards(long[] source, int sIndex, long[] dest, int dIndex, int length) {
+		final int LANES = LONG_SPECIES.length();
+		
+		int i = length;
+		for (int bound = length - LONG_SPECIES.loopBound(length); i > bound; ) {
+			i -= LANES;
+			LongVector.fromArray(LONG_SPECIES, dest, dIndex + i)
+				.lanewise(XOR, LongVector.fromArray(LONG_SPECIES, source, sIndex + i))
+				.intoArray(dest, dIndex + i);
+		}
+		
+		while (--i >= 0)
+			dest[dIndex + i] ^= source[sIndex + i];
+	}
+
+	static long ones(long[] data, int index0, int index1) {
+		final int LANES = LONG_SPECIES.length();
+		
+		// per lane counts: no lane can overflow before the array ends
+		LongVector counts = LongVector.zero(LONG_SPECIES);
+		
+		int j = index0;
+		for (int bound = index0 + LONG_SPECIES.loopBound(index1 - index0); j < bound; j += LANES)
+			counts = counts.add(LongVector.fromArray(LONG_SPECIES, data, j).lanewise(BIT_COUNT));
+		
+		long count = counts.reduceLanes(ADD);
+		for (; j < index1; j++)
+			count += Long.bitCount(data[j]);
+		
+		return count;
+	}
+}
@@ -0,0 +1,575 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static br.eti.rslemos.bitsmagic.Copy.checkSafeIndices;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * This class consists exclusively of static methods that operate on bits 
+ * stored in a {@link MemorySegment}. It offers, for segments, the 
+ * counterparts of {@link Store}, {@link Copy}, {@link Xor} and {@link Ones}, 
+ * so that storage may live off-heap, with its lifetime governed by an 
+ * {@link java.lang.foreign.Arena}.
+ * 
+ * <p>Bit mapping is the same as that of {@link Store} for {@code byte[]}, 
+ * taking segment bytes from offset {@code 0}, inclusive, to 
+ * {@code byteSize()}, exclusive. Whenever possible bytes are accessed 8 at a 
+ * time, through {@link ValueLayout#JAVA_LONG_UNALIGNED} (always in 
+ * little-endian order, irrespective of the platform), so that neither 
+ * segment address nor bit offsets need be aligned.
+ * </p>
+ * <p>For every method available in this class, the arguments that represent
+ * offsets should always be given in bits, and are 0-based.
+ * </p>
+ * <p>Offlimits bits are hardwired to 0: they always read as 0, and any value 
+ * written to them is discarded. Except where otherwise noted, methods in this 
+ * class should never throw {@code IndexOutOfBoundsException}.
+ * </p>
+ * <p>{@code NullPointerException} is thrown if the given segment is 
+ * {@code null}. Accessing a segment whose arena has already been closed, or 
+ * from a thread other than its owner, or writing to a read-only segment fails 
+ * as specified by {@link MemorySegment}.
+ * </p>
+ * <p>All methods are inherently thread unsafe: in case of more than one thread 
+ * acting upon the same storage the results are undefined. Also neither they 
+ * acquire nor block on any monitor. Any necessary synchronization should be 
+ * done externally.
+ * </p>
+ * <p>This class is only available when running on Java 22 or later.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ * @see Store
+ * @see Copy
+ * @see Xor
+ * @see Ones
+ */
+public class SegmentStore {
+	private SegmentStore() { /* non-instantiable */ }
+
+	private static final int BYTE_ADDRESS_LINES = Store.BYTE_ADDRESS_LINES;
+	private static final int BYTE_ADDRESS_MASK = Store.BYTE_ADDRESS_MASK;
+	private static final int BYTE_DATA_MASK = Store.BYTE_DATA_MASK;
+	
+	private static final int WORD_BYTES = Long.SIZE/Byte.SIZE;
+	
+	// 8 bytes, least significant first
+	private static final ValueLayout.OfLong WORD = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+	
+	/**
+	 * Returns the number of bits available in the given storage.
+	 * 
+	 * @param data storage segment.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long size(MemorySegment data) {
+		return data.byteSize() << BYTE_ADDRESS_LINES;
+	}
+	
+	// we expect this function to be heavily inlined
+	private static int read(MemorySegment data, long index) {
+		return index < data.byteSize() && index >= 0 ? data.get(ValueLayout.JAVA_BYTE, index) & BYTE_DATA_MASK : 0;
+	}
+	
+	/**
+	 * Reads the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage segment.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static boolean readBit(MemorySegment data, long i) {
+		return (read(data, i >> BYTE_ADDRESS_LINES) >>> ((int) i & BYTE_ADDRESS_MASK) & 1) != 0;
+	}
+	
+	/**
+	 * Writes the {@code i}<sup>th</sup> bit of the given storage.
+	 * 
+	 * @param data storage segment.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeBit(MemorySegment data, long i, boolean v) {
+		long index = i >> BYTE_ADDRESS_LINES;
+		
+		if (index < data.byteSize() && index >= 0)
+			fill0(data, index, 1 << ((int) i & BYTE_ADDRESS_MASK), v);
+	}
+
+	/**
+	 * Assigns the specified bit value to each bit of the specified range of 
+	 * the given storage. The range to be filled extends from offset 
+	 * {@code from}, inclusive, to offset {@code to}, exclusive. If 
+	 * {@code to <= from} this method does nothing.
+	 * 
+	 * @param data storage segment.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        filled with the specified value.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        filled with the specified value.
+	 * @param v value whose contents will be used to fill the specified region 
+	 *        into {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void fill(MemorySegment data, long from, long to, boolean v) {
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (to > size(data))
+			to = size(data);
+		
+		if (!(to > from))
+			return;
+
+		long index0 = from >> BYTE_ADDRESS_LINES;
+		long index1 = to >> BYTE_ADDRESS_LINES;
+		int offset0 = (int) from & BYTE_ADDRESS_MASK;
+		int offset1 = (int) to & BYTE_ADDRESS_MASK;
+		
+		if (index1 == index0) {
+			// special case: subword fill
+			fill0(data, index0, BYTE_DATA_MASK << offset0 & ~(BYTE_DATA_MASK << offset1), v);
+			return;
+		}
+		
+		if (offset0 != 0) {
+			// handle "from" end specially
+			fill0(data, index0, BYTE_DATA_MASK << offset0, v);
+			
+			// first index already taken care of
+			index0++;
+		}
+
+		data.asSlice(index0, index1 - index0).fill((byte) (v ? -1 : 0));
+
+		if (offset1 != 0)
+			fill0(data, index1, ~(BYTE_DATA_MASK << offset1), v);
+	}
+
+	private static void fill0(MemorySegment data, long index, int mask, boolean v) {
+		int d = data.get(ValueLayout.JAVA_BYTE, index);
+		data.set(ValueLayout.JAVA_BYTE, index, (byte) (v ? d | mask : d & ~mask));
+	}
+	
+	/**
+	 * Reads as {@code int} the 32 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage segment.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static int readInt(MemorySegment data, long i) {
+		long index = i >> BYTE_ADDRESS_LINES;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
+		
+		// FAST PATH: 32 bits at any offset fit into 8 bytes
+		if (index >= 0 && index <= data.byteSize() - WORD_BYTES)
+			return (int) (data.get(WORD, index) >>> offset);
+		
+		return (int) readLong0(data, index, offset);
+	}
+	
+	/**
+	 * Writes 32 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+32}, exclusive.
+	 * 
+	 * @param data storage segment.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeInt(MemorySegment data, long i, int v) {
+		final long MASK = 0xFFFFFFFFL;
+		write(data, i, v & MASK, MASK);
+	}
+
+	/**
+	 * Reads as {@code long} the 64 bits of the given storage starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits read extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage segment.
+	 * @param i offset, in bits, 0-based.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static long readLong(MemorySegment data, long i) {
+		long index = i >> BYTE_ADDRESS_LINES;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
+		
+		// FAST PATH: all 8 (or 9) bytes within limits
+		if (index >= 0 && index <= data.byteSize() - (offset == 0 ? WORD_BYTES : WORD_BYTES + 1)) {
+			long d = data.get(WORD, index);
+			
+			if (offset == 0)
+				return d;
+			
+			return d >>> offset | (long) (data.get(ValueLayout.JAVA_BYTE, index + WORD_BYTES) & BYTE_DATA_MASK) << Long.SIZE - offset;
+		}
+		
+		return readLong0(data, index, offset);
+	}
+
+	private static long readLong0(MemorySegment data, long index, int offset) {
+		long d = 0;
+		for (int k = 0; k < WORD_BYTES; k++)
+			d |= (long) read(data, index + k) << k*Byte.SIZE;
+		
+		if (offset == 0)
+			return d;
+		
+		return d >>> offset | (long) read(data, index + WORD_BYTES) << Long.SIZE - offset;
+	}
+	
+	/**
+	 * Writes 64 bits of the given storage, starting from the 
+	 * {@code i}<sup>th</sup> bit. The range of bits written extends from 
+	 * {@code i}, inclusive, to offset {@code i+64}, exclusive.
+	 * 
+	 * @param data storage segment.
+	 * @param i offset, in bits, 0-based.
+	 * @param v value whose contents will be written to {@code data}.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void writeLong(MemorySegment data, long i, long v) {
+		write(data, i, v, -1L);
+	}
+	
+	// writes the bits of v selected by mask (which must be of the form 2^n-1)
+	private static void write(MemorySegment data, long i, long v, long mask) {
+		long index = i >> BYTE_ADDRESS_LINES;
+		int offset = (int) i & BYTE_ADDRESS_MASK;
+		
+		// FAST PATH: all 8 (or 9) bytes within limits
+		if (index >= 0 && index <= data.byteSize() - (offset == 0 ? WORD_BYTES : WORD_BYTES + 1)) {
+			if (offset == 0 && mask == -1L) {
+				data.set(WORD, index, v);
+				return;
+			}
+			
+			long d = data.get(WORD, index);
+			d &= ~(mask << offset);
+			d |= v << offset;
+			data.set(WORD, index, d);
+			
+			if (offset == 0)
+				return;
+			
+			final int HIGHEST_BITS = (int) (mask >>> Long.SIZE - offset);
+			if (HIGHEST_BITS == 0)
+				return;
+			
+			int d8 = data.get(ValueLayout.JAVA_BYTE, index + WORD_BYTES);
+			d8 &= ~HIGHEST_BITS;
+			d8 |= (int) (v >>> Long.SIZE - offset);
+			data.set(ValueLayout.JAVA_BYTE, index + WORD_BYTES, (byte) d8);
+			return;
+		}
+		
+		write0(data, i, v, mask);
+	}
+
+	// slow path: byte by byte, skipping offlimits bytes
+	private static void write0(MemorySegment data, long i, long v, long mask) {
+		final int width = Long.SIZE - Long.numberOfLeadingZeros(mask);
+		
+		long index0 = Math.max(i >> BYTE_ADDRESS_LINES, 0);
+		long index1 = Math.min((i + width - 1) >> BYTE_ADDRESS_LINES, data.byteSize() - 1);
+		
+		for (long index = index0; index <= index1; index++) {
+			// position, within v, of bit 0 of this byte
+			long shift = (index << BYTE_ADDRESS_LINES) - i;
+			
+			int bits = (int) (shift >= 0 ? v >>> shift : v << -shift);
+			int m = (int) (shift >= 0 ? mask >>> shift : mask << -shift) & BYTE_DATA_MASK;
+			
+			int d = data.get(ValueLayout.JAVA_BYTE, index);
+			data.set(ValueLayout.JAVA_BYTE, index, (byte) (d & ~m | bits & m));
+		}
+	}
+	
+	/**
+	 * Counts the number of bits set in the specified range of the given 
+	 * storage. The range to be counted extends from offset {@code from}, 
+	 * inclusive, to offset {@code to}, exclusive. Offlimits bits count as 0.
+	 * 
+	 * @param data storage segment.
+	 * @param from offset, in bits, 0-based, of the first bit (inclusive) to be 
+	 *        counted.
+	 * @param to offset, in bits, 0-based, of the last bit (exclusive) to be 
+	 *        counted.
+	 * 
+	 * @since 1.0.0
+	 * @see Ones#ones(byte[], long, long)
+	 */
+	public static long ones(MemorySegment data, long from, long to) {
+		// clamp
+		if (from < 0)
+			from = 0;
+		
+		if (to > size(data))
+			to = size(data);
+		
+		if (!(to > from))
+			return 0;
+
+		long index0 = from >> BYTE_ADDRESS_LINES;
+		long index1 = to >> BYTE_ADDRESS_LINES;
+		int offset0 = (int) from & BYTE_ADDRESS_MASK;
+		int offset1 = (int) to & BYTE_ADDRESS_MASK;
+		
+		if (index1 == index0)
+			// special case: subword count
+			return Integer.bitCount(read(data, index0) & BYTE_DATA_MASK << offset0 & ~(BYTE_DATA_MASK << offset1));
+		
+		long count = 0;
+		
+		if (offset0 != 0) {
+			// handle "from" end specially
+			count += Integer.bitCount(read(data, index0) & BYTE_DATA_MASK << offset0);
+			
+			// first index already taken care of
+			index0++;
+		}
+		
+		for (; index0 + WORD_BYTES <= index1; index0 += WORD_BYTES)
+			count += Long.bitCount(data.get(WORD, index0));
+		
+		for (; index0 < index1; index0++)
+			count += Integer.bitCount(read(data, index0));
+		
+		if (offset1 != 0)
+			count += Integer.bitCount(read(data, index1) & ~(BYTE_DATA_MASK << offset1));
+		
+		return count;
+	}
+	
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Source and destination may overlap (even if they are different 
+	 * segments over the same memory); copying takes place as if the bits 
+	 * were first copied to a temporary storage.
+	 * </p>
+	 * <p>Touching any offlimits bits throws 
+	 * {@code ArrayIndexOutOfBoundsException}, destination being left 
+	 * unchanged.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 * @see Copy#copyFrom(byte[], long, byte[], long, long)
+	 */
+	public static void copyFrom(MemorySegment source, long srcPos, MemorySegment dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, size(source), size(dest)))
+			return;
+		
+		if (((srcPos | destPos) & BYTE_ADDRESS_MASK) == 0) {
+			// FAST PATH: whole bytes are moved by the segment itself
+			final long bytes = length >> BYTE_ADDRESS_LINES;
+			final int rest = (int) length & BYTE_ADDRESS_MASK;
+			
+			// read the trailing bits before they get overwritten
+			final int tail = read(source, (srcPos >> BYTE_ADDRESS_LINES) + bytes);
+			
+			MemorySegment.copy(source, srcPos >> BYTE_ADDRESS_LINES, dest, destPos >> BYTE_ADDRESS_LINES, bytes);
+			
+			if (rest != 0)
+				write(dest, destPos + (bytes << BYTE_ADDRESS_LINES), tail & ~(-1 << rest), ~(-1L << rest));
+			
+			return;
+		}
+		
+		transfer(source, srcPos, dest, destPos, length, false);
+	}
+	
+	/**
+	 * Copies bits from the specified source storage, beginning at the 
+	 * specified bit, to the specified bits of the destination storage. The 
+	 * bits at offsets {@code srcPos} through {@code srcPos+length-1} in the 
+	 * source storage are copied into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Offlimits bits are read as 0, and discarded when written to.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be copied.
+	 *
+	 * @since 1.0.0
+	 * @see Copy#safeCopyFrom(byte[], long, byte[], long, long)
+	 */
+	public static void safeCopyFrom(MemorySegment source, long srcPos, MemorySegment dest, long destPos, long length) {
+		if (length == 0)
+			return;
+		
+		if (length < 0)
+			throw new IllegalArgumentException();
+		
+		final long maxDest = size(dest);
+		final long maxSource = size(source);
+		
+		if (!(destPos < maxDest && destPos + length > 0))
+			return;
+
+		// fix destination starting point out of range 
+		if (destPos < 0) {
+			length -= -destPos;
+			srcPos += -destPos;
+			destPos = 0;
+		}
+		
+		// fix destination ending point out of range
+		if (destPos + length > maxDest)
+			length -= (destPos + length) - maxDest;
+		
+		long fillLow = 0;
+		long fillHigh = 0;
+		
+		if (!(srcPos < maxSource && srcPos + length > 0)) {
+			fillHigh = length;
+			length = 0;
+			srcPos = 0;
+		} else {
+			// fix source starting point out of range
+			if (srcPos < 0) {
+				fillLow = -srcPos;
+				
+				length -= fillLow;
+				destPos += fillLow;
+				srcPos = 0;
+			}
+			
+			// fix source ending point out of range
+			if (srcPos + length > maxSource) {
+				fillHigh = (srcPos + length) - maxSource;
+				length -= fillHigh;
+			}
+		}
+		
+		copyFrom(source, srcPos, dest, destPos, length);
+		fill(dest, destPos + length, destPos + length + fillHigh, false);
+		fill(dest, destPos - fillLow, destPos, false);
+	}
+	
+	/**
+	 * Xors bits from the specified source storage, beginning at the specified 
+	 * bit, to the specified bits of the destination storage. The bits at 
+	 * offsets {@code srcPos} through {@code srcPos+length-1} in the source 
+	 * storage are xored into positions {@code destPos} through 
+	 * {@code destPos+length-1}, respectively, of the destination storage.
+	 * 
+	 * <p>Source and destination may overlap (even if they are different 
+	 * segments over the same memory); xoring takes place as if the source 
+	 * bits were first copied to a temporary storage.
+	 * </p>
+	 * <p>Touching any offlimits bits throws 
+	 * {@code ArrayIndexOutOfBoundsException}, destination being left 
+	 * unchanged.
+	 * </p>
+	 *
+	 * @param source the source storage.
+	 * @param srcPos starting bit in the source storage.
+	 * @param dest the destination storage.
+	 * @param destPos starting bit in the destination storage.
+	 * @param length the number of bits to be xored.
+	 *
+	 * @since 1.0.0
+	 * @see Xor#xorFrom(byte[], long, byte[], long, long)
+	 */
+	public static void xorFrom(MemorySegment source, long srcPos, MemorySegment dest, long destPos, long length) {
+		if (!checkSafeIndices(srcPos, destPos, length, size(source), size(dest)))
+			return;
+		
+		transfer(source, srcPos, dest, destPos, length, true);
+	}
+	
+	/*
+	 * Moves 64 bits at a time. When source and destination share memory and 
+	 * the destination lies ahead, words are transferred last to first, so 
+	 * that no source bit is overwritten before being read.
+	 */
+	private static void transfer(MemorySegment source, long srcPos, MemorySegment dest, long destPos, long length, boolean xor) {
+		final boolean backwards = source.asOverlappingSlice(dest).isPresent() 
+				&& (source.segmentOffset(dest) << BYTE_ADDRESS_LINES) + destPos > srcPos;
+		
+		if (!backwards) {
+			long r = 0;
+			for (; r + Long.SIZE <= length; r += Long.SIZE)
+				transfer0(source, srcPos + r, dest, destPos + r, -1L, xor);
+			
+			if (r < length)
+				transfer0(source, srcPos + r, dest, destPos + r, -1L >>> Long.SIZE - (length - r), xor);
+		} else {
+			long r = length;
+			for (; r >= Long.SIZE; r -= Long.SIZE)
+				transfer0(source, srcPos + r - Long.SIZE, dest, destPos + r - Long.SIZE, -1L, xor);
+			
+			if (r > 0)
+				transfer0(source, srcPos, dest, destPos, -1L >>> Long.SIZE - r, xor);
+		}
+	}
+	
+	private static void transfer0(MemorySegment source, long srcPos, MemorySegment dest, long destPos, long mask, boolean xor) {
+		long v = readLong(source, srcPos);
+		
+		if (xor)
+			v ^= readLong(dest, destPos);
+		
+		write(dest, destPos, v & mask, mask);
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Atomic primitives over single elements of {@code int[]} and {@code long[]} 
+ * arrays, upon which {@link AtomicStore} is built.
+ * 
+ * <p>This is the Java 9 version: it is lock-free, going through array 
+ * element {@link VarHandle}s with volatile memory semantics (the same as 
+ * {@link java.util.concurrent.atomic.AtomicLongArray}).
+ * </p>
+ * <p>Indices are not checked beyond what array access itself does.
+ * </p>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+final class AtomicArrays {
+	private AtomicArrays() { /* non-instantiable */ }
+	
+	private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+	private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+	
+	/********** int[] **********/
+	
+	static int getVolatile(int[] data, int index) {
+		return (int) INTS.getVolatile(data, index);
+	}
+	
+	static boolean compareAndSet(int[] data, int index, int expected, int v) {
+		return INTS.compareAndSet(data, index, expected, v);
+	}
+	
+	static int getAndBitwiseOr(int[] data, int index, int v) {
+		return (int) INTS.getAndBitwiseOr(data, index, v);
+	}
+	
+	static int getAndBitwiseAnd(int[] data, int index, int v) {
+		return (int) INTS.getAndBitwiseAnd(data, index, v);
+	}
+	
+	static int getAndBitwiseXor(int[] data, int index, int v) {
+		return (int) INTS.getAndBitwiseXor(data, index, v);
+	}
+	
+	/********** long[] **********/
+	
+	static long getVolatile(long[] data, int index) {
+		return (long) LONGS.getVolatile(data, index);
+	}
+	
+	static boolean compareAndSet(long[] data, int index, long expected, long v) {
+		return LONGS.compareAndSet(data, index, expected, v);
+	}
+	
+	static long getAndBitwiseOr(long[] data, int index, long v) {
+		return (long) LONGS.getAndBitwiseOr(data, index, v);
+	}
+	
+	static long getAndBitwiseAnd(long[] data, int index, long v) {
+		return (long) LONGS.getAndBitwiseAnd(data, index, v);
+	}
+	
+	static long getAndBitwiseXor(long[] data, int index, long v) {
+		return (long) LONGS.getAndBitwiseXor(data, index, v);
+	}
+}
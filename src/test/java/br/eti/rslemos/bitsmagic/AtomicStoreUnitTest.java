@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+public class AtomicStoreUnitTest {
+	private static final int THREADS = 8;
+	
+	// runs THREADS copies of task at once, each given its own ordinal
+	private static void concurrently(final Task task) throws InterruptedException {
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[THREADS];
+		
+		for (int t = 0; t < THREADS; t++) {
+			final int ordinal = t;
+			threads[t] = new Thread() {
+				@Override public void run() {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					task.run(ordinal);
+				}
+			};
+			threads[t].start();
+		}
+		
+		start.countDown();
+		for (Thread thread : threads)
+			thread.join();
+	}
+	
+	private interface Task {
+		void run(int ordinal);
+	}
+	
+	/********** int[] **********/
+	
+	@Test
+	public void setBit_int() {
+		int[] data = new int[2];
+		
+		assertThat(AtomicStore.setBit(data, 35), is(equalTo(false)));
+		assertThat(AtomicStore.setBit(data, 35), is(equalTo(true)));
+		assertThat(AtomicStore.setBit(data, 31), is(equalTo(false)));
+		
+		assertThat(data[0], is(equalTo(0x80000000)));
+		assertThat(data[1], is(equalTo(0x00000008)));
+		assertThat(Store.readBit(data, 35), is(equalTo(true)));
+		assertThat(AtomicStore.getBit(data, 35), is(equalTo(true)));
+		assertThat(AtomicStore.getBit(data, 34), is(equalTo(false)));
+	}
+	
+	@Test
+	public void clearBit_int() {
+		int[] data = { -1, -1 };
+		
+		assertThat(AtomicStore.clearBit(data, 0), is(equalTo(true)));
+		assertThat(AtomicStore.clearBit(data, 0), is(equalTo(false)));
+		assertThat(AtomicStore.clearBit(data, 63), is(equalTo(true)));
+		
+		assertThat(data[0], is(equalTo(0xFFFFFFFE)));
+		assertThat(data[1], is(equalTo(0x7FFFFFFF)));
+	}
+	
+	@Test
+	public void flipBit_int() {
+		int[] data = new int[1];
+		
+		assertThat(AtomicStore.flipBit(data, 7), is(equalTo(false)));
+		assertThat(data[0], is(equalTo(0x80)));
+		assertThat(AtomicStore.flipBit(data, 7), is(equalTo(true)));
+		assertThat(data[0], is(equalTo(0)));
+	}
+	
+	@Test
+	public void getAndSetBit_int() {
+		int[] data = new int[1];
+		
+		assertThat(AtomicStore.getAndSetBit(data, 4, true), is(equalTo(false)));
+		assertThat(AtomicStore.getAndSetBit(data, 4, true), is(equalTo(true)));
+		assertThat(AtomicStore.getAndSetBit(data, 4, false), is(equalTo(true)));
+		assertThat(data[0], is(equalTo(0)));
+	}
+	
+	@Test
+	public void offlimits_int() {
+		int[] data = new int[1];
+		
+		assertThat(AtomicStore.setBit(data, -1), is(equalTo(false)));
+		assertThat(AtomicStore.setBit(data, 32), is(equalTo(false)));
+		assertThat(AtomicStore.getBit(data, 32), is(equalTo(false)));
+		assertThat(AtomicStore.flipBit(data, Long.MAX_VALUE), is(equalTo(false)));
+		assertThat(AtomicStore.compareAndSetRange(data, 32, 40, 0, 5), is(equalTo(true)));
+		assertThat(AtomicStore.compareAndSetRange(data, 32, 40, 1, 5), is(equalTo(false)));
+		assertThat(AtomicStore.fetchOr(data, -8, -4, 15), is(equalTo(0)));
+		assertThat(data[0], is(equalTo(0)));
+	}
+	
+	@Test
+	public void compareAndSetRange_int() {
+		int[] data = { 0x12345678 };
+		
+		assertThat(AtomicStore.compareAndSetRange(data, 8, 16, 0x55, 0xAB), is(equalTo(false)));
+		assertThat(data[0], is(equalTo(0x12345678)));
+		
+		// bits beyond the field width are ignored
+		assertThat(AtomicStore.compareAndSetRange(data, 8, 16, 0x756, 0xFAB), is(equalTo(true)));
+		assertThat(data[0], is(equalTo(0x1234AB78)));
+		
+		assertThat(AtomicStore.compareAndSetRange(data, 0, 32, 0x1234AB78, 0xCAFEBABE), is(equalTo(true)));
+		assertThat(data[0], is(equalTo(0xCAFEBABE)));
+	}
+	
+	@Test
+	public void fetchOr_int() {
+		int[] data = { 0, 0x00F00000 };
+		
+		assertThat(AtomicStore.fetchOr(data, 52, 60, 0x0F), is(equalTo(0x0F)));
+		assertThat(data[1], is(equalTo(0x00F00000)));
+		
+		assertThat(AtomicStore.fetchOr(data, 52, 60, 0x1F0), is(equalTo(0x0F)));
+		assertThat(data[1], is(equalTo(0x0FF00000)));
+		assertThat(data[0], is(equalTo(0)));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void compareAndSetRange_int_acrossElements() {
+		AtomicStore.compareAndSetRange(new int[2], 30, 34, 0, 0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void fetchOr_int_empty() {
+		AtomicStore.fetchOr(new int[1], 3, 3, 0);
+	}
+	
+	@Test
+	public void setBit_int_concurrently() throws InterruptedException {
+		// threads interleave bit by bit: every single update would clash with another
+		final int[] data = new int[64];
+		
+		concurrently(new Task() {
+			@Override public void run(int ordinal) {
+				for (int i = ordinal; i < data.length * Integer.SIZE; i += THREADS)
+					AtomicStore.setBit(data, i);
+			}
+		});
+		
+		for (int j = 0; j < data.length; j++)
+			assertThat("data[" + j + "]", data[j], is(equalTo(-1)));
+	}
+	
+	/********** long[] **********/
+	
+	@Test
+	public void setBit_long() {
+		long[] data = new long[2];
+		
+		assertThat(AtomicStore.setBit(data, 67), is(equalTo(false)));
+		assertThat(AtomicStore.setBit(data, 67), is(equalTo(true)));
+		assertThat(AtomicStore.setBit(data, 63), is(equalTo(false)));
+		
+		assertThat(data[0], is(equalTo(0x8000000000000000L)));
+		assertThat(data[1], is(equalTo(0x0000000000000008L)));
+		assertThat(Store.readBit(data, 67), is(equalTo(true)));
+		assertThat(AtomicStore.getBit(data, 67), is(equalTo(true)));
+		assertThat(AtomicStore.getBit(data, 66), is(equalTo(false)));
+	}
+	
+	@Test
+	public void clearBit_long() {
+		long[] data = { -1L, -1L };
+		
+		assertThat(AtomicStore.clearBit(data, 0), is(equalTo(true)));
+		assertThat(AtomicStore.clearBit(data, 0), is(equalTo(false)));
+		assertThat(AtomicStore.clearBit(data, 127), is(equalTo(true)));
+		
+		assertThat(data[0], is(equalTo(0xFFFFFFFFFFFFFFFEL)));
+		assertThat(data[1], is(equalTo(0x7FFFFFFFFFFFFFFFL)));
+	}
+	
+	@Test
+	public void flipBit_long() {
+		long[] data = new long[1];
+		
+		assertThat(AtomicStore.flipBit(data, 40), is(equalTo(false)));
+		assertThat(data[0], is(equalTo(1L << 40)));
+		assertThat(AtomicStore.flipBit(data, 40), is(equalTo(true)));
+		assertThat(data[0], is(equalTo(0L)));
+	}
+	
+	@Test
+	public void getAndSetBit_long() {
+		long[] data = new long[1];
+		
+		assertThat(AtomicStore.getAndSetBit(data, 60L, true), is(equalTo(false)));
+		assertThat(AtomicStore.getAndSetBit(data, 60L, true), is(equalTo(true)));
+		assertThat(AtomicStore.getAndSetBit(data, 60L, false), is(equalTo(true)));
+		assertThat(data[0], is(equalTo(0L)));
+	}
+	
+	@Test
+	public void offlimits_long() {
+		long[] data = new long[1];
+		
+		assertThat(AtomicStore.setBit(data, -1), is(equalTo(false)));
+		assertThat(AtomicStore.setBit(data, 64), is(equalTo(false)));
+		assertThat(AtomicStore.getBit(data, 64), is(equalTo(false)));
+		assertThat(AtomicStore.flipBit(data, Long.MIN_VALUE), is(equalTo(false)));
+		assertThat(AtomicStore.compareAndSetRange(data, 64, 72, 0, 5), is(equalTo(true)));
+		assertThat(AtomicStore.compareAndSetRange(data, 64, 72, 1, 5), is(equalTo(false)));
+		assertThat(AtomicStore.fetchOr(data, -8, -4, 15), is(equalTo(0L)));
+		assertThat(data[0], is(equalTo(0L)));
+	}
+	
+	@Test
+	public void compareAndSetRange_long() {
+		long[] data = { 0x0123456789ABCDEFL };
+		
+		assertThat(AtomicStore.compareAndSetRange(data, 36, 52, 0x1234, 0xBEEF), is(equalTo(false)));
+		assertThat(data[0], is(equalTo(0x0123456789ABCDEFL)));
+		
+		assertThat(AtomicStore.compareAndSetRange(data, 36, 52, 0x3456, 0xBEEF), is(equalTo(true)));
+		assertThat(data[0], is(equalTo(0x012BEEF789ABCDEFL)));
+		
+		assertThat(AtomicStore.compareAndSetRange(data, 0, 64, 0x012BEEF789ABCDEFL, -1L), is(equalTo(true)));
+		assertThat(data[0], is(equalTo(-1L)));
+	}
+	
+	@Test
+	public void fetchOr_long() {
+		long[] data = { 0, 0x000000F000000000L };
+		
+		assertThat(AtomicStore.fetchOr(data, 100, 108, 0x0FL), is(equalTo(0x0FL)));
+		assertThat(AtomicStore.fetchOr(data, 100, 108, 0x1F0L), is(equalTo(0x0FL)));
+		assertThat(data[1], is(equalTo(0x00000FF000000000L)));
+		assertThat(data[0], is(equalTo(0L)));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void compareAndSetRange_long_acrossElements() {
+		AtomicStore.compareAndSetRange(new long[2], 60, 68, 0, 0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void fetchOr_long_reversed() {
+		AtomicStore.fetchOr(new long[1], 8, 4, 0);
+	}
+	
+	@Test
+	public void flipBit_long_concurrently() throws InterruptedException {
+		// every thread flips every bit once: an even number of flips leaves all bits clear
+		final long[] data = new long[32];
+		
+		concurrently(new Task() {
+			@Override public void run(int ordinal) {
+				for (int i = 0; i < data.length * Long.SIZE; i++)
+					AtomicStore.flipBit(data, (i + ordinal * 64) % (data.length * Long.SIZE));
+			}
+		});
+		
+		for (int j = 0; j < data.length; j++)
+			assertThat("data[" + j + "]", data[j], is(equalTo(0L)));
+	}
+	
+	@Test
+	public void compareAndSetRange_long_concurrently() throws InterruptedException {
+		// each thread increments its own 8-bit counter, all of them in the same element
+		final long[] data = new long[1];
+		
+		concurrently(new Task() {
+			@Override public void run(int ordinal) {
+				final int from = ordinal * 8;
+				for (int k = 0; k < 255; k++) {
+					long current;
+					do {
+						current = Store.readLong(data, 0) >>> from & 0xFF;
+					} while (!AtomicStore.compareAndSetRange(data, from, from + 8, current, current + 1));
+				}
+			}
+		});
+		
+		assertThat(data[0], is(equalTo(-1L)));
+	}
+}
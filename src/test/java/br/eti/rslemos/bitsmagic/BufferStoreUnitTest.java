@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+@RunWith(Enclosed.class)
+public class BufferStoreUnitTest {
+	@Ignore
+	public static abstract class ByteBufferCases {
+		// odd size, so that the last bytes cannot be reached 8 at a time
+		protected static final int SIZE = 21;
+		
+		protected ByteBuffer subject;
+		// array counterpart, used as reference
+		protected byte[] reference;
+		
+		protected abstract ByteBuffer allocate(int size) throws IOException;
+		
+		@Before
+		public void setUp() throws IOException {
+			subject = allocate(SIZE);
+			reference = new byte[SIZE];
+			
+			new Random(0xB0FFE4L).nextBytes(reference);
+			for (int i = 0; i < SIZE; i++)
+				subject.put(i, reference[i]);
+			
+			subject.position(3);
+		}
+		
+		private void assertSameAsReference() {
+			for (int i = 0; i < SIZE; i++)
+				assertThat("byte " + i, subject.get(i), is(equalTo(reference[i])));
+			
+			assertThat(subject.position(), is(equalTo(3)));
+		}
+		
+		@Test public void readBit() {
+			for (long i = -3; i < SIZE*8 + 3; i++)
+				assertThat("bit " + i, BufferStore.readBit(subject, i), is(equalTo(Store.readBit(reference, i))));
+		}
+		
+		@Test public void writeBit() {
+			for (long i = -3; i < SIZE*8 + 3; i += 5) {
+				BufferStore.writeBit(subject, i, (i & 2) == 0);
+				Store.writeBit(reference, i, (i & 2) == 0);
+			}
+			
+			assertSameAsReference();
+		}
+		
+		@Test public void readInt() {
+			for (long i = -40; i < SIZE*8 + 3; i++)
+				assertThat("offset " + i, BufferStore.readInt(subject, i), is(equalTo(Store.readInt(reference, i))));
+		}
+		
+		@Test public void writeInt() {
+			for (long i = -40; i < SIZE*8 + 3; i++) {
+				BufferStore.writeInt(subject, i, (int) i * 0x9E3779B9);
+				Store.writeInt(reference, i, (int) i * 0x9E3779B9);
+				
+				assertSameAsReference();
+			}
+		}
+		
+		@Test public void readLong() {
+			for (long i = -70; i < SIZE*8 + 3; i++)
+				assertThat("offset " + i, BufferStore.readLong(subject, i), is(equalTo(Store.readLong(reference, i))));
+		}
+		
+		@Test public void writeLong() {
+			for (long i = -70; i < SIZE*8 + 3; i++) {
+				BufferStore.writeLong(subject, i, i * 0x9E3779B97F4A7C15L);
+				Store.writeLong(reference, i, i * 0x9E3779B97F4A7C15L);
+				
+				assertSameAsReference();
+			}
+		}
+		
+		@Test public void readLongFarBeyond() {
+			assertThat(BufferStore.readLong(subject, 1L << 40), is(equalTo(0L)));
+		}
+		
+		@Test public void fill() {
+			for (long from = -5; from < SIZE*8; from += 13)
+				for (long to = from; to < SIZE*8 + 5; to += 29) {
+					boolean v = ((from ^ to) & 1) != 0;
+					BufferStore.fill(subject, from, to, v);
+					Store.fill(reference, from, to, v);
+					
+					assertSameAsReference();
+				}
+		}
+		
+		@Test public void readBitString() {
+			assertThat(BufferStore.readBitString(subject, 5, 150), is(equalTo(Store.readBitString(reference, 5, 150))));
+		}
+		
+		@Test public void writeBitString() {
+			String v = "1100101011110000101";
+			BufferStore.writeBitString(subject, 60, v);
+			Store.writeBitString(reference, 60, v);
+			
+			assertSameAsReference();
+		}
+		
+		@Test(expected = IndexOutOfBoundsException.class)
+		public void readBitStringBeyondLimit() {
+			BufferStore.readBitString(subject, SIZE*8 - 10, 11);
+		}
+	}
+	
+	public static class HeapByteBuffer extends ByteBufferCases {
+		@Override protected ByteBuffer allocate(int size) { return ByteBuffer.allocate(size); }
+	}
+	
+	public static class HeapLittleEndianByteBuffer extends ByteBufferCases {
+		@Override protected ByteBuffer allocate(int size) { return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN); }
+	}
+	
+	public static class DirectByteBuffer extends ByteBufferCases {
+		@Override protected ByteBuffer allocate(int size) { return ByteBuffer.allocateDirect(size); }
+	}
+	
+	public static class MappedByteBuffer extends ByteBufferCases {
+		private File file;
+		private RandomAccessFile raf;
+		
+		@Override protected ByteBuffer allocate(int size) throws IOException {
+			file = File.createTempFile("bitsmagic", ".bin");
+			raf = new RandomAccessFile(file, "rw");
+			return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+		
+		@After
+		public void tearDown() throws IOException {
+			raf.close();
+			file.delete();
+		}
+	}
+	
+	@Ignore
+	public static abstract class LongBufferCases {
+		protected static final int SIZE = 3;
+		
+		protected LongBuffer subject;
+		// array counterpart, used as reference
+		protected long[] reference;
+		
+		protected abstract LongBuffer allocate(int size);
+		
+		@Before
+		public void setUp() {
+			subject = allocate(SIZE);
+			reference = new long[SIZE];
+			
+			Random random = new Random(0x10B0FFL);
+			for (int i = 0; i < SIZE; i++)
+				subject.put(i, reference[i] = random.nextLong());
+		}
+		
+		private void assertSameAsReference() {
+			for (int i = 0; i < SIZE; i++)
+				assertThat("word " + i, subject.get(i), is(equalTo(reference[i])));
+		}
+		
+		@Test public void readBit() {
+			for (long i = -3; i < SIZE*64 + 3; i++)
+				assertThat("bit " + i, BufferStore.readBit(subject, i), is(equalTo(Store.readBit(reference, i))));
+		}
+		
+		@Test public void writeBit() {
+			for (long i = -3; i < SIZE*64 + 3; i += 5) {
+				BufferStore.writeBit(subject, i, (i & 2) == 0);
+				Store.writeBit(reference, i, (i & 2) == 0);
+			}
+			
+			assertSameAsReference();
+		}
+		
+		@Test public void readInt() {
+			for (long i = -40; i < SIZE*64 + 3; i++)
+				assertThat("offset " + i, BufferStore.readInt(subject, i), is(equalTo(Store.readInt(reference, i))));
+		}
+		
+		@Test public void writeInt() {
+			for (long i = -40; i < SIZE*64 + 3; i++) {
+				BufferStore.writeInt(subject, i, (int) i * 0x9E3779B9);
+				Store.writeInt(reference, i, (int) i * 0x9E3779B9);
+				
+				assertSameAsReference();
+			}
+		}
+		
+		@Test public void readLong() {
+			for (long i = -70; i < SIZE*64 + 3; i++)
+				assertThat("offset " + i, BufferStore.readLong(subject, i), is(equalTo(Store.readLong(reference, i))));
+		}
+		
+		@Test public void writeLong() {
+			for (long i = -70; i < SIZE*64 + 3; i++) {
+				BufferStore.writeLong(subject, i, i * 0x9E3779B97F4A7C15L);
+				Store.writeLong(reference, i, i * 0x9E3779B97F4A7C15L);
+				
+				assertSameAsReference();
+			}
+		}
+		
+		@Test public void fill() {
+			for (long from = -5; from < SIZE*64; from += 13)
+				for (long to = from; to < SIZE*64 + 5; to += 29) {
+					boolean v = ((from ^ to) & 1) != 0;
+					BufferStore.fill(subject, from, to, v);
+					Store.fill(reference, from, to, v);
+					
+					assertSameAsReference();
+				}
+		}
+		
+		@Test public void readBitString() {
+			assertThat(BufferStore.readBitString(subject, 5, 150), is(equalTo(Store.readBitString(reference, 5, 150))));
+		}
+		
+		@Test public void writeBitString() {
+			String v = "1100101011110000101";
+			BufferStore.writeBitString(subject, 60, v);
+			Store.writeBitString(reference, 60, v);
+			
+			assertSameAsReference();
+		}
+	}
+	
+	public static class HeapLongBuffer extends LongBufferCases {
+		@Override protected LongBuffer allocate(int size) { return LongBuffer.allocate(size); }
+	}
+	
+	public static class DirectLongBuffer extends LongBufferCases {
+		@Override protected LongBuffer allocate(int size) { return ByteBuffer.allocateDirect(size * 8).asLongBuffer(); }
+	}
+}
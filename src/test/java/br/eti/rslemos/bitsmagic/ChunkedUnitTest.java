@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ChunkedUnitTest {
+	// 9 words in chunks of 2: the last chunk is shorter
+	private static final int WORDS = 9;
+	private static final int CHUNK_LENGTH = 2;
+	private static final long SIZE = WORDS * Long.SIZE;
+	
+	private long[][] subject;
+	private long[][] source;
+	
+	// flat counterparts, used as reference
+	private long[] flatSubject;
+	private long[] flatSource;
+	
+	@Before
+	public void setUp() {
+		Random random = new Random(0xC4A2CL);
+		
+		subject = Chunked.allocate(SIZE, CHUNK_LENGTH);
+		source = Chunked.allocate(SIZE, CHUNK_LENGTH + 1);
+		
+		for (long i = 0; i < SIZE; i += Long.SIZE) {
+			Chunked.writeLong(subject, i, random.nextLong());
+			Chunked.writeLong(source, i, random.nextLong());
+		}
+		
+		flatSubject = flatten(subject);
+		flatSource = flatten(source);
+	}
+	
+	private static long[] flatten(long[][] data) {
+		long[] flat = new long[(int) (Chunked.size(data) / Long.SIZE)];
+		
+		int j = 0;
+		for (long[] chunk : data)
+			for (long x : chunk)
+				flat[j++] = x;
+		
+		return flat;
+	}
+	
+	private void assertSameAsReference() {
+		assertThat(flatten(subject), is(equalTo(flatSubject)));
+	}
+	
+	@Test
+	public void allocate() {
+		long[][] data = Chunked.allocate(SIZE - 1, CHUNK_LENGTH);
+		
+		assertThat(data.length, is(equalTo(5)));
+		assertThat(data[0].length, is(equalTo(CHUNK_LENGTH)));
+		assertThat(data[4].length, is(equalTo(1)));
+		assertThat(Chunked.size(data), is(equalTo(SIZE)));
+	}
+	
+	@Test
+	public void allocateEmpty() {
+		assertThat(Chunked.size(Chunked.allocate(0, CHUNK_LENGTH)), is(equalTo(0L)));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void allocateNegative() {
+		Chunked.allocate(-1, CHUNK_LENGTH);
+	}
+	
+	@Test
+	public void readBit() {
+		for (long i = -3; i < SIZE + 3; i++)
+			assertThat("bit " + i, Chunked.readBit(subject, i), is(equalTo(Store.readBit(flatSubject, i))));
+	}
+	
+	@Test
+	public void writeBit() {
+		for (long i = -3; i < SIZE + 3; i += 7) {
+			Chunked.writeBit(subject, i, true);
+			Store.writeBit(flatSubject, i, true);
+		}
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void readInt() {
+		for (long i = -40; i < SIZE + 3; i++)
+			assertThat("offset " + i, Chunked.readInt(subject, i), is(equalTo(Store.readInt(flatSubject, i))));
+	}
+	
+	@Test
+	public void writeInt() {
+		for (long i = -40; i < SIZE + 3; i += 29) {
+			Chunked.writeInt(subject, i, 0xCAFEBABE);
+			Store.writeInt(flatSubject, i, 0xCAFEBABE);
+		}
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void readLong() {
+		for (long i = -70; i < SIZE + 3; i++)
+			assertThat("offset " + i, Chunked.readLong(subject, i), is(equalTo(Store.readLong(flatSubject, i))));
+	}
+	
+	@Test
+	public void writeLong() {
+		for (long i = -70; i < SIZE + 3; i += 61) {
+			Chunked.writeLong(subject, i, 0xDEADBEEFCAFEBABEL);
+			Store.writeLong(flatSubject, i, 0xDEADBEEFCAFEBABEL);
+		}
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void fillTrue() {
+		Chunked.fill(subject, 100, 500, true);
+		Store.fill(flatSubject, 100, 500, true);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void fillFalseBeyondLimits() {
+		Chunked.fill(subject, -100, 300, false);
+		Chunked.fill(subject, 520, SIZE + 100, false);
+		Store.fill(flatSubject, -100, 300, false);
+		Store.fill(flatSubject, 520, SIZE + 100, false);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void ones() {
+		for (long from = -5; from < SIZE; from += 37)
+			for (long to = from; to < SIZE + 5; to += 41)
+				assertThat(from + ".." + to, Chunked.ones(subject, from, to), is(equalTo(Ones.ones(flatSubject, from, to))));
+	}
+	
+	@Test
+	public void copyFromOtherStorage() {
+		for (long length = 0; length < 300; length += 53) {
+			Chunked.copyFrom(source, 77, subject, 121, length);
+			Copy.copyFrom(flatSource, 77, flatSubject, 121, length);
+			
+			assertSameAsReference();
+		}
+	}
+	
+	@Test
+	public void copyFromSameStorageForwards() {
+		Chunked.copyFrom(subject, 200, subject, 3, 350);
+		Copy.copyFrom(flatSubject, 200, flatSubject, 3, 350);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void copyFromSameStorageBackwards() {
+		Chunked.copyFrom(subject, 3, subject, 200, 350);
+		Copy.copyFrom(flatSubject, 3, flatSubject, 200, 350);
+		
+		assertSameAsReference();
+	}
+	
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void copyFromBeyondLimits() {
+		Chunked.copyFrom(source, 0, subject, 1, SIZE);
+	}
+	
+	@Test
+	public void safeCopyFromBeyondLimits() {
+		Chunked.safeCopyFrom(source, -50, subject, 30, SIZE);
+		Copy.safeCopyFrom(flatSource, -50, flatSubject, 30, SIZE);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void xorFromOtherStorage() {
+		Chunked.xorFrom(source, 13, subject, 250, 300);
+		Xor.xorFrom(flatSource, 13, flatSubject, 250, 300);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void xorFromSameStorageBackwards() {
+		Chunked.xorFrom(subject, 5, subject, 260, 300);
+		Xor.xorFrom(flatSubject, 5, flatSubject, 260, 300);
+		
+		assertSameAsReference();
+	}
+}
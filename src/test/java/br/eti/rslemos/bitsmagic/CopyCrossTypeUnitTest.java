@@ -0,0 +1,442 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import br.eti.rslemos.bitsmagic.StorageBuilder.ByteArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.CharArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.IntArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.LongArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.ShortArrayBuilder;
+
+public class CopyCrossTypeUnitTest {
+	// most significant word first (see StorageBuilder)
+	private static final long[] SOURCE = { 0x0123456789ABCDEFL, 0xFEDCBA9876543210L, 0xDEADBEEFCAFEBABEL, 0x5555AAAA3333CCCCL };
+	private static final long[] DEST   = { 0x0F0F0F0F0F0F0F0FL, 0x00FF00FF00FF00FFL, 0x0000FFFF0000FFFFL, 0x00000000FFFFFFFFL };
+	
+	private static final int SIZE = SOURCE.length * Long.SIZE;
+	
+	private static final int[] OFFSETS = { 0, 1, 7, 8, 13, 16, 31, 32, 63, 64, 100, 191 };
+	private static final int[] LENGTHS = { 0, 1, 5, 8, 16, 31, 32, 33, 64, 65, 127, 130, 192 };
+	
+	// computed over long[] storages
+	private static long[] expected(int srcPos, int destPos, int length) {
+		long[] dest = LongArrayBuilder.build0(DEST);
+		Copy.copyFrom(LongArrayBuilder.build0(SOURCE), srcPos, dest, destPos, length);
+		
+		return dest;
+	}
+	
+	private static long[] words(byte[] data) {
+		long[] result = new long[(int) (((long) data.length * Byte.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	private static long[] words(char[] data) {
+		long[] result = new long[(int) (((long) data.length * Character.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	private static long[] words(short[] data) {
+		long[] result = new long[(int) (((long) data.length * Short.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	private static long[] words(int[] data) {
+		long[] result = new long[(int) (((long) data.length * Integer.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	private static long[] words(long[] data) {
+		long[] result = new long[(int) (((long) data.length * Long.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	@Test
+	public void byteToChar() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					byte[] source = ByteArrayBuilder.build0(SOURCE);
+					char[] dest = CharArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void byteToShort() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					byte[] source = ByteArrayBuilder.build0(SOURCE);
+					short[] dest = ShortArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void byteToInt() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					byte[] source = ByteArrayBuilder.build0(SOURCE);
+					int[] dest = IntArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void byteToLong() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					byte[] source = ByteArrayBuilder.build0(SOURCE);
+					long[] dest = LongArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void charToByte() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					char[] source = CharArrayBuilder.build0(SOURCE);
+					byte[] dest = ByteArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void charToShort() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					char[] source = CharArrayBuilder.build0(SOURCE);
+					short[] dest = ShortArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void charToInt() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					char[] source = CharArrayBuilder.build0(SOURCE);
+					int[] dest = IntArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void charToLong() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					char[] source = CharArrayBuilder.build0(SOURCE);
+					long[] dest = LongArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void shortToByte() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					short[] source = ShortArrayBuilder.build0(SOURCE);
+					byte[] dest = ByteArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void shortToChar() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					short[] source = ShortArrayBuilder.build0(SOURCE);
+					char[] dest = CharArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void shortToInt() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					short[] source = ShortArrayBuilder.build0(SOURCE);
+					int[] dest = IntArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void shortToLong() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					short[] source = ShortArrayBuilder.build0(SOURCE);
+					long[] dest = LongArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void intToByte() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					int[] source = IntArrayBuilder.build0(SOURCE);
+					byte[] dest = ByteArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void intToChar() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					int[] source = IntArrayBuilder.build0(SOURCE);
+					char[] dest = CharArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void intToShort() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					int[] source = IntArrayBuilder.build0(SOURCE);
+					short[] dest = ShortArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void intToLong() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					int[] source = IntArrayBuilder.build0(SOURCE);
+					long[] dest = LongArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void longToByte() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					long[] source = LongArrayBuilder.build0(SOURCE);
+					byte[] dest = ByteArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void longToChar() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					long[] source = LongArrayBuilder.build0(SOURCE);
+					char[] dest = CharArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void longToShort() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					long[] source = LongArrayBuilder.build0(SOURCE);
+					short[] dest = ShortArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test
+	public void longToInt() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					long[] source = LongArrayBuilder.build0(SOURCE);
+					int[] dest = IntArrayBuilder.build0(DEST);
+					
+					Copy.copyFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(srcPos, destPos, length))));
+				}
+	}
+
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void beyondSource() {
+		Copy.copyFrom(new byte[8], 1, new long[2], 0, 64);
+	}
+	
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void beyondDest() {
+		Copy.copyFrom(new long[1], 0, new char[4], 1, 64);
+	}
+	
+	@Test
+	public void destinationUnchangedWhenBeyondLimits() {
+		char[] dest = CharArrayBuilder.build0(DEST);
+		
+		try {
+			Copy.copyFrom(LongArrayBuilder.build0(SOURCE), 0, dest, 1, SIZE);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			// expected
+		}
+		
+		assertThat(dest, is(equalTo(CharArrayBuilder.build0(DEST))));
+	}
+}
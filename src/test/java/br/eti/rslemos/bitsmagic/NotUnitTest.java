@@ -0,0 +1,471 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import br.eti.rslemos.bitsmagic.StorageBuilder.ByteArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.CharArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.IntArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.LongArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.ShortArrayBuilder;
+
+public class NotUnitTest {
+	// most significant word first (see StorageBuilder)
+	private static final long[] SOURCE = { 0x0123456789ABCDEFL, 0xFEDCBA9876543210L, 0xDEADBEEFCAFEBABEL, 0x5555AAAA3333CCCCL };
+	private static final long[] DEST   = { 0x0F0F0F0F0F0F0F0FL, 0x00FF00FF00FF00FFL, 0x0000FFFF0000FFFFL, 0x00000000FFFFFFFFL };
+	
+	private static final int SIZE = SOURCE.length * Long.SIZE;
+	
+	private static final int[] OFFSETS = { 0, 1, 7, 8, 13, 16, 31, 32, 63, 64, 100, 191 };
+	private static final int[] LENGTHS = { 0, 1, 5, 8, 16, 31, 32, 33, 64, 65, 127, 130, 192 };
+	
+	// bit by bit, over long[] storages
+	private static long[] expectedNot(int from, int to) {
+		long[] data = LongArrayBuilder.build0(DEST);
+		for (int i = Math.max(from, 0); i < Math.min(to, SIZE); i++)
+			Store.writeBit(data, i, !Store.readBit(data, i));
+		
+		return data;
+	}
+	
+	private static long[] expectedNotFrom(long[] source, int srcPos, long[] dest, int destPos, int length) {
+		boolean[] bits = new boolean[length];
+		for (int i = 0; i < length; i++)
+			bits[i] = Store.readBit(source, srcPos + i);
+		
+		for (int i = 0; i < length; i++)
+			Store.writeBit(dest, destPos + i, !bits[i]);
+		
+		return dest;
+	}
+
+	private static long[] words(byte[] data) {
+		long[] result = new long[(int) (((long) data.length * Byte.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	private static long[] words(char[] data) {
+		long[] result = new long[(int) (((long) data.length * Character.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	private static long[] words(short[] data) {
+		long[] result = new long[(int) (((long) data.length * Short.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	private static long[] words(int[] data) {
+		long[] result = new long[(int) (((long) data.length * Integer.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	private static long[] words(long[] data) {
+		long[] result = new long[(int) (((long) data.length * Long.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	@Test
+	public void byteNot() {
+		for (int from : OFFSETS)
+			for (int length : LENGTHS) {
+				byte[] data = ByteArrayBuilder.build0(DEST);
+				
+				Not.not(data, from, from + length);
+				assertThat(from + "," + length, words(data), is(equalTo(expectedNot(from, from + length))));
+			}
+	}
+
+	@Test
+	public void byteNotClamped() {
+		byte[] data = ByteArrayBuilder.build0(DEST);
+		
+		Not.not(data, -100, SIZE + 100);
+		assertThat(words(data), is(equalTo(expectedNot(0, SIZE))));
+		
+		Not.not(data, 10L, 5L);
+		assertThat(words(data), is(equalTo(expectedNot(0, SIZE))));
+	}
+
+	@Test
+	public void byteNotFrom() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					byte[] source = ByteArrayBuilder.build0(SOURCE);
+					byte[] dest = ByteArrayBuilder.build0(DEST);
+					
+					Not.notFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expectedNotFrom(LongArrayBuilder.build0(SOURCE), srcPos, LongArrayBuilder.build0(DEST), destPos, length))));
+				}
+	}
+
+	@Test
+	public void byteNotFromSameArray() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					byte[] subject = ByteArrayBuilder.build0(DEST);
+					long[] reference = LongArrayBuilder.build0(DEST);
+					
+					Not.notFrom(subject, srcPos, subject, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(subject), is(equalTo(expectedNotFrom(reference, srcPos, reference, destPos, length))));
+				}
+	}
+
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void byteNotFromBeyondSource() {
+		Not.notFrom(ByteArrayBuilder.build0(SOURCE), 1, ByteArrayBuilder.build0(DEST), 0, SIZE);
+	}
+
+	@Test
+	public void byteNotFromUnchangedWhenBeyondLimits() {
+		byte[] dest = ByteArrayBuilder.build0(DEST);
+		
+		try {
+			Not.notFrom(ByteArrayBuilder.build0(SOURCE), 0, dest, 1, SIZE);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			// expected
+		}
+		
+		assertThat(words(dest), is(equalTo(LongArrayBuilder.build0(DEST))));
+	}
+
+	@Test
+	public void charNot() {
+		for (int from : OFFSETS)
+			for (int length : LENGTHS) {
+				char[] data = CharArrayBuilder.build0(DEST);
+				
+				Not.not(data, from, from + length);
+				assertThat(from + "," + length, words(data), is(equalTo(expectedNot(from, from + length))));
+			}
+	}
+
+	@Test
+	public void charNotClamped() {
+		char[] data = CharArrayBuilder.build0(DEST);
+		
+		Not.not(data, -100, SIZE + 100);
+		assertThat(words(data), is(equalTo(expectedNot(0, SIZE))));
+		
+		Not.not(data, 10L, 5L);
+		assertThat(words(data), is(equalTo(expectedNot(0, SIZE))));
+	}
+
+	@Test
+	public void charNotFrom() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					char[] source = CharArrayBuilder.build0(SOURCE);
+					char[] dest = CharArrayBuilder.build0(DEST);
+					
+					Not.notFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expectedNotFrom(LongArrayBuilder.build0(SOURCE), srcPos, LongArrayBuilder.build0(DEST), destPos, length))));
+				}
+	}
+
+	@Test
+	public void charNotFromSameArray() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					char[] subject = CharArrayBuilder.build0(DEST);
+					long[] reference = LongArrayBuilder.build0(DEST);
+					
+					Not.notFrom(subject, srcPos, subject, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(subject), is(equalTo(expectedNotFrom(reference, srcPos, reference, destPos, length))));
+				}
+	}
+
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void charNotFromBeyondSource() {
+		Not.notFrom(CharArrayBuilder.build0(SOURCE), 1, CharArrayBuilder.build0(DEST), 0, SIZE);
+	}
+
+	@Test
+	public void charNotFromUnchangedWhenBeyondLimits() {
+		char[] dest = CharArrayBuilder.build0(DEST);
+		
+		try {
+			Not.notFrom(CharArrayBuilder.build0(SOURCE), 0, dest, 1, SIZE);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			// expected
+		}
+		
+		assertThat(words(dest), is(equalTo(LongArrayBuilder.build0(DEST))));
+	}
+
+	@Test
+	public void shortNot() {
+		for (int from : OFFSETS)
+			for (int length : LENGTHS) {
+				short[] data = ShortArrayBuilder.build0(DEST);
+				
+				Not.not(data, from, from + length);
+				assertThat(from + "," + length, words(data), is(equalTo(expectedNot(from, from + length))));
+			}
+	}
+
+	@Test
+	public void shortNotClamped() {
+		short[] data = ShortArrayBuilder.build0(DEST);
+		
+		Not.not(data, -100, SIZE + 100);
+		assertThat(words(data), is(equalTo(expectedNot(0, SIZE))));
+		
+		Not.not(data, 10L, 5L);
+		assertThat(words(data), is(equalTo(expectedNot(0, SIZE))));
+	}
+
+	@Test
+	public void shortNotFrom() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					short[] source = ShortArrayBuilder.build0(SOURCE);
+					short[] dest = ShortArrayBuilder.build0(DEST);
+					
+					Not.notFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expectedNotFrom(LongArrayBuilder.build0(SOURCE), srcPos, LongArrayBuilder.build0(DEST), destPos, length))));
+				}
+	}
+
+	@Test
+	public void shortNotFromSameArray() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					short[] subject = ShortArrayBuilder.build0(DEST);
+					long[] reference = LongArrayBuilder.build0(DEST);
+					
+					Not.notFrom(subject, srcPos, subject, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(subject), is(equalTo(expectedNotFrom(reference, srcPos, reference, destPos, length))));
+				}
+	}
+
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void shortNotFromBeyondSource() {
+		Not.notFrom(ShortArrayBuilder.build0(SOURCE), 1, ShortArrayBuilder.build0(DEST), 0, SIZE);
+	}
+
+	@Test
+	public void shortNotFromUnchangedWhenBeyondLimits() {
+		short[] dest = ShortArrayBuilder.build0(DEST);
+		
+		try {
+			Not.notFrom(ShortArrayBuilder.build0(SOURCE), 0, dest, 1, SIZE);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			// expected
+		}
+		
+		assertThat(words(dest), is(equalTo(LongArrayBuilder.build0(DEST))));
+	}
+
+	@Test
+	public void intNot() {
+		for (int from : OFFSETS)
+			for (int length : LENGTHS) {
+				int[] data = IntArrayBuilder.build0(DEST);
+				
+				Not.not(data, from, from + length);
+				assertThat(from + "," + length, words(data), is(equalTo(expectedNot(from, from + length))));
+			}
+	}
+
+	@Test
+	public void intNotClamped() {
+		int[] data = IntArrayBuilder.build0(DEST);
+		
+		Not.not(data, -100, SIZE + 100);
+		assertThat(words(data), is(equalTo(expectedNot(0, SIZE))));
+		
+		Not.not(data, 10L, 5L);
+		assertThat(words(data), is(equalTo(expectedNot(0, SIZE))));
+	}
+
+	@Test
+	public void intNotFrom() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					int[] source = IntArrayBuilder.build0(SOURCE);
+					int[] dest = IntArrayBuilder.build0(DEST);
+					
+					Not.notFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expectedNotFrom(LongArrayBuilder.build0(SOURCE), srcPos, LongArrayBuilder.build0(DEST), destPos, length))));
+				}
+	}
+
+	@Test
+	public void intNotFromSameArray() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					int[] subject = IntArrayBuilder.build0(DEST);
+					long[] reference = LongArrayBuilder.build0(DEST);
+					
+					Not.notFrom(subject, srcPos, subject, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(subject), is(equalTo(expectedNotFrom(reference, srcPos, reference, destPos, length))));
+				}
+	}
+
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void intNotFromBeyondSource() {
+		Not.notFrom(IntArrayBuilder.build0(SOURCE), 1, IntArrayBuilder.build0(DEST), 0, SIZE);
+	}
+
+	@Test
+	public void intNotFromUnchangedWhenBeyondLimits() {
+		int[] dest = IntArrayBuilder.build0(DEST);
+		
+		try {
+			Not.notFrom(IntArrayBuilder.build0(SOURCE), 0, dest, 1, SIZE);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			// expected
+		}
+		
+		assertThat(words(dest), is(equalTo(LongArrayBuilder.build0(DEST))));
+	}
+
+	@Test
+	public void longNot() {
+		for (int from : OFFSETS)
+			for (int length : LENGTHS) {
+				long[] data = LongArrayBuilder.build0(DEST);
+				
+				Not.not(data, from, from + length);
+				assertThat(from + "," + length, words(data), is(equalTo(expectedNot(from, from + length))));
+			}
+	}
+
+	@Test
+	public void longNotClamped() {
+		long[] data = LongArrayBuilder.build0(DEST);
+		
+		Not.not(data, -100, SIZE + 100);
+		assertThat(words(data), is(equalTo(expectedNot(0, SIZE))));
+		
+		Not.not(data, 10L, 5L);
+		assertThat(words(data), is(equalTo(expectedNot(0, SIZE))));
+	}
+
+	@Test
+	public void longNotFrom() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					long[] source = LongArrayBuilder.build0(SOURCE);
+					long[] dest = LongArrayBuilder.build0(DEST);
+					
+					Not.notFrom(source, srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expectedNotFrom(LongArrayBuilder.build0(SOURCE), srcPos, LongArrayBuilder.build0(DEST), destPos, length))));
+				}
+	}
+
+	@Test
+	public void longNotFromSameArray() {
+		for (int srcPos : OFFSETS)
+			for (int destPos : OFFSETS)
+				for (int length : LENGTHS) {
+					if (srcPos + length > SIZE || destPos + length > SIZE)
+						continue;
+					
+					long[] subject = LongArrayBuilder.build0(DEST);
+					long[] reference = LongArrayBuilder.build0(DEST);
+					
+					Not.notFrom(subject, srcPos, subject, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(subject), is(equalTo(expectedNotFrom(reference, srcPos, reference, destPos, length))));
+				}
+	}
+
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void longNotFromBeyondSource() {
+		Not.notFrom(LongArrayBuilder.build0(SOURCE), 1, LongArrayBuilder.build0(DEST), 0, SIZE);
+	}
+
+	@Test
+	public void longNotFromUnchangedWhenBeyondLimits() {
+		long[] dest = LongArrayBuilder.build0(DEST);
+		
+		try {
+			Not.notFrom(LongArrayBuilder.build0(SOURCE), 0, dest, 1, SIZE);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			// expected
+		}
+		
+		assertThat(words(dest), is(equalTo(LongArrayBuilder.build0(DEST))));
+	}
+}
@@ -312,6 +312,8 @@ public class OnesUnitTest {
 		@Test public void ones_16_240() { assertThat(ones(subject, 16, 16 + 240), is(equalTo(119))); }
 		@Test public void ones_16_248() { assertThat(ones(subject, 16, 16 + 248), is(equalTo(123))); }
 		@Test public void ones_16_288() { assertThat(ones(subject, 16, 16 + 288), is(equalTo(155))); }
+		@Test public void ones_0_384()  { assertThat(ones(subject,  0,      384), is(equalTo(191))); }
+		@Test public void ones_3_376()  { assertThat(ones(subject,  3,  3 + 376), is(equalTo(187))); }
 	}
 	
 	public static class ByteArray extends Cases<byte[]> {
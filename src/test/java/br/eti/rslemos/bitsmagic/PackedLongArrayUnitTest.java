@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PackedLongArrayUnitTest {
+	// enough values to span a few blocks at any width
+	private static final int SIZE = 400;
+	
+	private static long mask(int width) {
+		return -1L >>> Long.SIZE - width;
+	}
+	
+	// value at index as read bit by bit from the storage
+	private static long reference(long[] data, int width, long index) {
+		long v = 0;
+		for (int i = 0; i < width; i++)
+			if (Store.readBit(data, index * width + i))
+				v |= 1L << i;
+		
+		return v;
+	}
+	
+	// writes value at index bit by bit into the storage
+	private static void write(long[] data, int width, long index, long v) {
+		for (int i = 0; i < width; i++)
+			Store.writeBit(data, index * width + i, (v >>> i & 1) != 0);
+	}
+	
+	private static long[] random(int width, long seed) {
+		Random random = new Random(seed);
+		long[] data = new long[(SIZE * width + 63) / 64];
+		for (int j = 0; j < data.length; j++)
+			data[j] = random.nextLong();
+		
+		return data;
+	}
+	
+	@Test
+	public void allocation() {
+		for (int width = 1; width <= 64; width++) {
+			PackedLongArray subject = new PackedLongArray(width, SIZE);
+			
+			assertThat(subject.width(), is(equalTo(width)));
+			assertThat(subject.size(), is(equalTo((long) SIZE)));
+			assertThat(subject.data().length, is(equalTo((SIZE * width + 63) / 64)));
+		}
+	}
+	
+	@Test
+	public void wrapping() {
+		PackedLongArray subject = new PackedLongArray(7, new long[3]);
+		
+		assertThat(subject.size(), is(equalTo(27L)));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void zeroWidth() {
+		new PackedLongArray(0, 10);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void tooWide() {
+		new PackedLongArray(65, 10);
+	}
+	
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void getPastEnd() {
+		new PackedLongArray(5, 10).get(10);
+	}
+	
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void setBeforeStart() {
+		new PackedLongArray(5, 10).set(-1, 0);
+	}
+	
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void bulkGetPastEnd() {
+		new PackedLongArray(5, 10).get(5, new long[10], 0, 6);
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void intBufferTooNarrow() {
+		new PackedLongArray(33, 10).get(0, new int[10], 0, 10);
+	}
+	
+	@Test
+	public void get() {
+		for (int width = 1; width <= 64; width++) {
+			long[] data = random(width, width);
+			PackedLongArray subject = new PackedLongArray(width, data);
+			
+			for (int i = 0; i < SIZE; i++)
+				assertThat("width " + width + ", index " + i, subject.get(i), is(equalTo(reference(data, width, i))));
+		}
+	}
+	
+	@Test
+	public void set() {
+		Random random = new Random(0);
+		
+		for (int width = 1; width <= 64; width++) {
+			long[] expected = random(width, width);
+			PackedLongArray subject = new PackedLongArray(width, random(width, -width));
+			
+			// unmasked values: extra bits must be discarded
+			for (int i = 0; i < SIZE; i++)
+				subject.set(i, reference(expected, width, i) | random.nextLong() << width - 1 << 1);
+			
+			for (int i = 0; i < SIZE; i++)
+				assertThat("width " + width + ", index " + i, subject.get(i), is(equalTo(reference(expected, width, i))));
+		}
+	}
+	
+	@Test
+	public void bulkGetLong() {
+		for (int width = 1; width <= 64; width++) {
+			long[] data = random(width, width);
+			PackedLongArray subject = new PackedLongArray(width, data);
+			
+			for (int from = 0; from < 70; from += 3)
+				for (int length : new int[] { 0, 1, 2, 63, 64, 65, SIZE - 70 }) {
+					long[] dest = new long[length + 2];
+					subject.get(from, dest, 1, length);
+					
+					assertThat(dest[0], is(equalTo(0L)));
+					assertThat(dest[length + 1], is(equalTo(0L)));
+					for (int i = 0; i < length; i++)
+						assertThat("width " + width + ", index " + (from + i), dest[i + 1], is(equalTo(reference(data, width, from + i))));
+				}
+		}
+	}
+	
+	@Test
+	public void bulkGetInt() {
+		for (int width = 1; width <= 32; width++) {
+			long[] data = random(width, width);
+			PackedLongArray subject = new PackedLongArray(width, data);
+			
+			for (int from = 0; from < 70; from += 3)
+				for (int length : new int[] { 0, 1, 2, 63, 64, 65, SIZE - 70 }) {
+					int[] dest = new int[length + 2];
+					subject.get(from, dest, 1, length);
+					
+					assertThat(dest[0], is(equalTo(0)));
+					assertThat(dest[length + 1], is(equalTo(0)));
+					for (int i = 0; i < length; i++)
+						assertThat("width " + width + ", index " + (from + i), dest[i + 1], is(equalTo((int) reference(data, width, from + i))));
+				}
+		}
+	}
+	
+	@Test
+	public void bulkSetLong() {
+		Random random = new Random(0);
+		
+		for (int width = 1; width <= 64; width++)
+			for (int from = 0; from < 70; from += 7)
+				for (int length : new int[] { 0, 1, 2, 63, 64, 65, SIZE - 70 }) {
+					long[] data = random(width, width);
+					long[] expected = data.clone();
+					PackedLongArray subject = new PackedLongArray(width, data);
+					
+					long[] src = new long[length + 1];
+					for (int i = 0; i < src.length; i++)
+						src[i] = random.nextLong();
+					
+					for (int i = 0; i < length; i++)
+						write(expected, width, from + i, src[i + 1]);
+					
+					subject.set(from, src, 1, length);
+					
+					assertThat("width " + width + ", from " + from + ", length " + length, data, is(equalTo(expected)));
+				}
+	}
+	
+	@Test
+	public void bulkSetInt() {
+		Random random = new Random(0);
+		
+		for (int width = 1; width <= 64; width++)
+			for (int from = 0; from < 70; from += 7)
+				for (int length : new int[] { 0, 1, 2, 63, 64, 65, SIZE - 70 }) {
+					long[] data = random(width, width);
+					long[] expected = data.clone();
+					PackedLongArray subject = new PackedLongArray(width, data);
+					
+					int[] src = new int[length + 1];
+					for (int i = 0; i < src.length; i++)
+						src[i] = random.nextInt();
+					
+					// ints are taken as unsigned
+					for (int i = 0; i < length; i++)
+						write(expected, width, from + i, src[i + 1] & 0xFFFFFFFFL);
+					
+					subject.set(from, src, 1, length);
+					
+					assertThat("width " + width + ", from " + from + ", length " + length, data, is(equalTo(expected)));
+				}
+	}
+	
+	@Test
+	public void fill() {
+		for (int width = 1; width <= 64; width++)
+			for (long v : new long[] { 0, -1, 0x5A5A5A5A5A5A5A5AL }) {
+				long[] data = random(width, width);
+				long[] original = data.clone();
+				PackedLongArray subject = new PackedLongArray(width, data);
+				
+				subject.fill(3, SIZE - 5, v);
+				
+				for (int i = 0; i < SIZE; i++)
+					assertThat("width " + width + ", index " + i, subject.get(i), 
+							is(equalTo(i >= 3 && i < SIZE - 5 ? v & mask(width) : reference(original, width, i))));
+			}
+	}
+	
+	@Test
+	public void fillEmptyRange() {
+		long[] data = random(9, 9);
+		long[] original = data.clone();
+		
+		new PackedLongArray(9, data).fill(10, 10, 0);
+		
+		assertThat(data, is(equalTo(original)));
+	}
+	
+	@Test
+	public void copyFrom() {
+		for (int width = 1; width <= 64; width++) {
+			long[] source = random(width, width);
+			long[] data = random(width, -width);
+			long[] original = data.clone();
+			
+			new PackedLongArray(width, data).copyFrom(new PackedLongArray(width, source), 5, 17, 100);
+			
+			PackedLongArray subject = new PackedLongArray(width, data);
+			for (int i = 0; i < SIZE; i++)
+				assertThat("width " + width + ", index " + i, subject.get(i), 
+						is(equalTo(i >= 17 && i < 117 ? reference(source, width, i - 12) : reference(original, width, i))));
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void copyFromWidthMismatch() {
+		new PackedLongArray(5, 10).copyFrom(new PackedLongArray(6, 10), 0, 0, 1);
+	}
+}
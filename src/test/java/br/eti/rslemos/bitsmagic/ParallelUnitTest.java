@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+public class ParallelUnitTest {
+	private static final int WORDS = 1031;
+	private static final int SIZE = WORDS * Long.SIZE;
+	
+	// small enough to split the regions below into dozens of pieces, not a multiple of any element width
+	private static final long GRAIN = 1000;
+	
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+	
+	// regions of every alignment, and partially offlimits ones
+	private static final long[][] REGIONS = {
+		{ 0, SIZE }, { 3, SIZE - 5 }, { 64, 40000 }, { 17, 20017 }, { -100, 30000 }, { 50000, SIZE + 100 }, { 5, 900 },
+	};
+	
+	@AfterClass
+	public static void shutdown() {
+		POOL.shutdown();
+	}
+	
+	private static long[] random(long seed) {
+		Random random = new Random(seed);
+		
+		long[] words = new long[WORDS];
+		for (int k = 0; k < words.length; k++)
+			words[k] = random.nextLong();
+		
+		return words;
+	}
+	
+	private static byte[] bytes(long[] words) {
+		byte[] data = new byte[words.length * 8];
+		Copy.copyFrom(words, 0, data, 0, SIZE);
+		return data;
+	}
+	
+	@Test
+	public void parallelOnes() {
+		long[] data = random(1);
+		byte[] bytes = bytes(data);
+		
+		for (long[] r : REGIONS) {
+			assertThat(Ones.parallelOnes(data, r[0], r[1], POOL, GRAIN), is(equalTo(Ones.ones(data, r[0], r[1]))));
+			assertThat(Ones.parallelOnes(bytes, r[0], r[1], POOL, GRAIN), is(equalTo(Ones.ones(data, r[0], r[1]))));
+			assertThat(Ones.parallelOnes(data, r[0], r[1]), is(equalTo(Ones.ones(data, r[0], r[1]))));
+		}
+	}
+	
+	@Test
+	public void parallelFill() {
+		for (boolean v : new boolean[] { false, true }) {
+			for (long[] r : REGIONS) {
+				long[] expected = random(2);
+				long[] actual = expected.clone();
+				byte[] bytes = bytes(expected);
+				
+				Store.fill(expected, r[0], r[1], v);
+				Store.parallelFill(actual, r[0], r[1], v, POOL, GRAIN);
+				Store.parallelFill(bytes, r[0], r[1], v, POOL, GRAIN);
+				
+				assertThat(actual, is(equalTo(expected)));
+				assertThat(bytes, is(equalTo(bytes(expected))));
+			}
+		}
+	}
+	
+	@Test
+	public void parallelCopyFrom() {
+		long[] source = random(3);
+		byte[] sourceBytes = bytes(source);
+		
+		for (long[] r : REGIONS) {
+			if (r[0] < 0 || r[1] > SIZE)
+				continue;
+			
+			for (long destPos : new long[] { 0, 5, 64, SIZE - (r[1] - r[0]) }) {
+				if (destPos + r[1] - r[0] > SIZE)
+					continue;
+				
+				long[] expected = random(4);
+				long[] actual = expected.clone();
+				byte[] bytes = bytes(expected);
+				
+				Copy.copyFrom(source, r[0], expected, destPos, r[1] - r[0]);
+				Copy.parallelCopyFrom(source, r[0], actual, destPos, r[1] - r[0], POOL, GRAIN);
+				Copy.parallelCopyFrom(sourceBytes, r[0], bytes, destPos, r[1] - r[0], POOL, GRAIN);
+				
+				assertThat(actual, is(equalTo(expected)));
+				assertThat(bytes, is(equalTo(bytes(expected))));
+			}
+		}
+	}
+	
+	@Test
+	public void parallelXorFrom() {
+		long[] source = random(5);
+		byte[] sourceBytes = bytes(source);
+		
+		for (long[] r : REGIONS) {
+			if (r[0] < 0 || r[1] > SIZE)
+				continue;
+			
+			for (long destPos : new long[] { 0, 5, 64, SIZE - (r[1] - r[0]) }) {
+				if (destPos + r[1] - r[0] > SIZE)
+					continue;
+				
+				long[] expected = random(6);
+				long[] actual = expected.clone();
+				byte[] bytes = bytes(expected);
+				
+				Xor.xorFrom(source, r[0], expected, destPos, r[1] - r[0]);
+				Xor.parallelXorFrom(source, r[0], actual, destPos, r[1] - r[0], POOL, GRAIN);
+				Xor.parallelXorFrom(sourceBytes, r[0], bytes, destPos, r[1] - r[0], POOL, GRAIN);
+				
+				assertThat(actual, is(equalTo(expected)));
+				assertThat(bytes, is(equalTo(bytes(expected))));
+			}
+		}
+	}
+	
+	@Test
+	public void parallelCopyFrom_sameStorage() {
+		// overlapping (done sequentially) and disjoint regions of the same storage
+		for (long[] p : new long[][] { { 0, 33 }, { 33, 0 }, { 0, SIZE / 2 }, { SIZE / 2 + 7, 3 } }) {
+			long[] expected = random(7);
+			long[] actual = expected.clone();
+			
+			Copy.copyFrom(expected, p[0], expected, p[1], SIZE / 2 - 10);
+			Copy.parallelCopyFrom(actual, p[0], actual, p[1], SIZE / 2 - 10, POOL, GRAIN);
+			
+			assertThat(Arrays.toString(p), actual, is(equalTo(expected)));
+		}
+	}
+	
+	@Test
+	public void parallelXorFrom_sameStorage() {
+		for (long[] p : new long[][] { { 0, 33 }, { 33, 0 }, { 0, SIZE / 2 }, { SIZE / 2 + 7, 3 } }) {
+			long[] expected = random(8);
+			long[] actual = expected.clone();
+			
+			Xor.xorFrom(expected, p[0], expected, p[1], SIZE / 2 - 10);
+			Xor.parallelXorFrom(actual, p[0], actual, p[1], SIZE / 2 - 10, POOL, GRAIN);
+			
+			assertThat(Arrays.toString(p), actual, is(equalTo(expected)));
+		}
+	}
+	
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void parallelCopyFrom_outOfBounds() {
+		Copy.parallelCopyFrom(new long[2], 0, new long[2], 1, 128, POOL, GRAIN);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void parallelOnes_nonPositiveGrain() {
+		Ones.parallelOnes(new long[2], 0, 128, POOL, 0);
+	}
+}
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class RankSelectUnitTest {
+	// 3 whole superblocks, a partial block and a few words over
+	private static final int WORDS = 3 * 64 + 8 + 5;
+	
+	private static long[] random(int words, long seed, int density) {
+		Random random = new Random(seed);
+		
+		long[] data = new long[words];
+		for (int j = 0; j < data.length; j++)
+			for (int i = 0; i < Long.SIZE; i++)
+				if (random.nextInt(100) < density)
+					data[j] |= 1L << i;
+		
+		return data;
+	}
+	
+	// checks every rank and every select against a plain bit by bit scan
+	private static void verify(RankSelect subject) {
+		long[] data = subject.data();
+		long size = (long) data.length * Long.SIZE;
+		
+		long rank = 0;
+		for (long i = 0; i < size; i++) {
+			assertThat("rank(" + i + ")", subject.rank(i), is(equalTo(rank)));
+			
+			if (Store.readBit(data, i)) {
+				assertThat("select(" + rank + ")", subject.select(rank), is(equalTo(i)));
+				rank++;
+			}
+		}
+		
+		assertThat(subject.rank(size), is(equalTo(rank)));
+		assertThat(subject.ones(), is(equalTo(rank)));
+		assertThat(subject.select(rank), is(equalTo(-1L)));
+	}
+	
+	@Test
+	public void empty() {
+		RankSelect subject = new RankSelect(new long[0]);
+		
+		assertThat(subject.ones(), is(equalTo(0L)));
+		assertThat(subject.rank(0), is(equalTo(0L)));
+		assertThat(subject.rank(100), is(equalTo(0L)));
+		assertThat(subject.select(0), is(equalTo(-1L)));
+	}
+	
+	@Test
+	public void allZeros() {
+		verify(new RankSelect(new long[WORDS]));
+	}
+	
+	@Test
+	public void allOnes() {
+		long[] data = new long[WORDS];
+		Store.fill(data, 0L, (long) WORDS * Long.SIZE, true);
+		
+		verify(new RankSelect(data));
+	}
+	
+	@Test
+	public void sparse() {
+		verify(new RankSelect(random(WORDS, 0x5EEDL, 1)));
+	}
+	
+	@Test
+	public void dense() {
+		verify(new RankSelect(random(WORDS, 0x5EEDL, 90)));
+	}
+	
+	@Test
+	public void manySamples() {
+		// about 4 samples
+		verify(new RankSelect(random(1000, 0x5EEDL, 50)));
+	}
+	
+	@Test
+	public void emptySuperblocksBetweenSamples() {
+		long[] data = new long[WORDS * 4];
+		Store.fill(data, 0L, 10000L, true);
+		Store.fill(data, 40000L, 50000L, true);
+		
+		verify(new RankSelect(data));
+	}
+	
+	@Test
+	public void outOfRange() {
+		RankSelect subject = new RankSelect(random(WORDS, 0x5EEDL, 50));
+		
+		assertThat(subject.rank(-1), is(equalTo(0L)));
+		assertThat(subject.rank(Long.MAX_VALUE), is(equalTo(subject.ones())));
+		assertThat(subject.select(-1), is(equalTo(-1L)));
+		assertThat(subject.select(Long.MAX_VALUE), is(equalTo(-1L)));
+	}
+	
+	@Test
+	public void selectWithinWord() {
+		Random random = new Random(0x5EEDL);
+		
+		for (int n = 0; n < 1000; n++) {
+			long x = random.nextLong();
+			
+			for (int r = 0, i = 0; i < Long.SIZE; i++)
+				if ((x >>> i & 1) != 0)
+					assertThat(RankSelect.select(x, r++), is(equalTo(i)));
+		}
+	}
+	
+	@Test
+	public void writeBit() {
+		RankSelect subject = new RankSelect(random(WORDS, 0x5EEDL, 50));
+		Random random = new Random(~0x5EEDL);
+		
+		for (int n = 0; n < 200; n++)
+			subject.writeBit(random.nextInt(WORDS * Long.SIZE), random.nextBoolean());
+		
+		// offlimits: discarded
+		subject.writeBit(-1, true);
+		subject.writeBit((long) WORDS * Long.SIZE, true);
+		
+		verify(subject);
+	}
+	
+	@Test
+	public void writeBitBetweenQueries() {
+		// enough superblocks for changes to stay pending between folds
+		long[] data = random(64 * 64, 0x5EEDL, 50);
+		RankSelect subject = new RankSelect(data);
+		Random random = new Random(~0x5EEDL);
+		
+		for (int n = 0; n < 100; n++) {
+			subject.writeBit(random.nextInt(data.length * Long.SIZE), random.nextBoolean());
+			
+			long i = random.nextInt(data.length * Long.SIZE);
+			long rank = Ones.ones(data, 0L, i);
+			assertThat("rank(" + i + ")", subject.rank(i), is(equalTo(rank)));
+			
+			if (Store.readBit(data, i))
+				assertThat("select(" + rank + ")", subject.select(rank), is(equalTo(i)));
+		}
+		
+		verify(subject);
+	}
+	
+	@Test
+	public void updateBetweenQueries() {
+		long[] data = random(64 * 64, 0x5EEDL, 50);
+		RankSelect subject = new RankSelect(data);
+		
+		// narrow ranges: changes stay pending
+		Store.fill(data, 5000L, 9000L, true);
+		subject.update(5000L, 9000L);
+		verify(subject);
+		
+		Store.fill(data, 100000L, 100300L, false);
+		subject.update(100000L, 100300L);
+		verify(subject);
+		
+		// wide range: folded
+		Store.fill(data, 0L, 200000L, false);
+		subject.update(0L, 200000L);
+		verify(subject);
+	}
+	
+	@Test
+	public void update() {
+		long[] data = random(WORDS, 0x5EEDL, 50);
+		RankSelect subject = new RankSelect(data);
+		
+		Store.fill(data, 5000L, 9000L, true);
+		subject.update(5000L, 9000L);
+		verify(subject);
+		
+		Store.fill(data, 100L, 200L, false);
+		Store.writeBit(data, 12000L, !Store.readBit(data, 12000L));
+		subject.update(100L, 12001L);
+		verify(subject);
+		
+		// clamped
+		Store.fill(data, 0L, (long) WORDS * Long.SIZE, false);
+		subject.update(-100L, Long.MAX_VALUE);
+		verify(subject);
+	}
+}
@@ -41,6 +41,9 @@ public class ShifterUnitTest {
 	@Ignore
 	public abstract static class Cases<T> implements StorageBuilder<T> {
 		protected abstract void shr(T data, int i, int length, int amount);
+		protected abstract void shl(T data, int i, int length, int amount);
+		protected abstract void rotr(T data, int i, int length, int amount);
+		protected abstract void rotl(T data, int i, int length, int amount);
 		
 		@Test public void shr__72_64__206() {
 			T subject  = build(0b0011111111111111111111111111111111111111111111111111111111111110L);
@@ -6289,30 +6292,1485 @@ public class ShifterUnitTest {
 			shr(subject,   66,   68,    7);
 			assertThat(subject, is(equalTo(expected)));
 		}
+
+		@Test public void shl_0_64__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b1100000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,    0,   64,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_0_64_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0101101110100011100101111010100100111000011110110100101011001100L);
+			
+			shl(subject,    0,   64,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_0_64_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b1011101000111001011110101001001110000111101101001010110011000000L);
+			
+			shl(subject,    0,   64,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_0_64_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0100111000011110110100101011001100000000000000000000000000000000L);
+			
+			shl(subject,    0,   64,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_0_64_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,    0,   64,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_3_61__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0011000000000000000000000000000000000000000000000000000000000110L);
+			
+			shl(subject,    3,   61,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_3_61_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0011101110100011100101111010100100111000011110110100101011000110L);
+			
+			shl(subject,    3,   61,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_3_61_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0011101000111001011110101001001110000111101101001010110000000110L);
+			
+			shl(subject,    3,   61,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_3_61_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010111000011110110100101011000000000000000000000000000000000110L);
+			
+			shl(subject,    3,   61,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_3_61_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0011101000111001011110101001001110000111101101001010110000000110L);
+			
+			shl(subject,    3,   61,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__8_72__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,   -8,   72,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__8_72_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0101101110100011100101111010100100111000011110110100101011001100L);
+			
+			shl(subject,   -8,   72,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__8_72_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b1011101000111001011110101001001110000111101101001010110011000000L);
+			
+			shl(subject,   -8,   72,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__8_72_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0100111000011110110100101011001100000000000000000000000000000000L);
+			
+			shl(subject,   -8,   72,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__8_72_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,   -8,   72,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_60_68__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000110111010001110010111101010010011100001111011010010101100110L);
+			
+			shl(subject,   60,   68,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_60_68_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0100110111010001110010111101010010011100001111011010010101100110L);
+			
+			shl(subject,   60,   68,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_60_68_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000110111010001110010111101010010011100001111011010010101100110L);
+			
+			shl(subject,   60,   68,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_60_68_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000110111010001110010111101010010011100001111011010010101100110L);
+			
+			shl(subject,   60,   68,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_60_68_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000110111010001110010111101010010011100001111011010010101100110L);
+			
+			shl(subject,   60,   68,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__4_4__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100000L);
+			
+			shl(subject,   -4,    4,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__4_4_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101101100L);
+			
+			shl(subject,   -4,    4,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__4_4_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100000L);
+			
+			shl(subject,   -4,    4,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__4_4_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100000L);
+			
+			shl(subject,   -4,    4,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__4_4_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100000L);
+			
+			shl(subject,   -4,    4,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_17_19__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110011010010101100110L);
+			
+			shl(subject,   17,   19,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_17_19_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110011010010101100110L);
+			
+			shl(subject,   17,   19,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_17_19_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110011010010101100110L);
+			
+			shl(subject,   17,   19,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_17_19_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110011010010101100110L);
+			
+			shl(subject,   17,   19,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_17_19_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110011010010101100110L);
+			
+			shl(subject,   17,   19,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_0_192_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001010011100010110100111100001010110100111001011000011110100100L,
+			                0b1011010010111001101001110000101111010010110100011100010110100111L,
+			                0b0110100001110110100101100011110100101101110000110101100101100010L);
+			
+			shl(subject,    0,  192,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_0_192_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L,
+			                0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,    0,  192,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_0_192_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001011100110100111000010111101001011010001110001011010011101101L,
+			                0b0000111011010010110001111010010110111000011010110010110001000000L,
+			                0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,    0,  192,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_0_192_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001011010001110001011010011101101000011101101001011000111101001L,
+			                0b0110111000011010110010110001000000000000000000000000000000000000L,
+			                0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,    0,  192,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_0_192_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101101000011101101001011000111101001011011100001101011001011000L,
+			                0b1000000000000000000000000000000000000000000000000000000000000000L,
+			                0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,    0,  192,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_5_190_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101010011100010110100111100001010110100111001011000011110100100L,
+			                0b1011010010111001101001110000101111010010110100011100010110100111L,
+			                0b0110100001110110100101100011110100101101110000110101100101010001L);
+			
+			shl(subject,    5,  190,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_5_190_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010100000L,
+			                0b0000000000000000000000000000000000000000000000000000000000010001L);
+			
+			shl(subject,    5,  190,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_5_190_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101011100110100111000010111101001011010001110001011010011101101L,
+			                0b0000111011010010110001111010010110111000011010110010100000000000L,
+			                0b0000000000000000000000000000000000000000000000000000000000010001L);
+			
+			shl(subject,    5,  190,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_5_190_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101011010001110001011010011101101000011101101001011000111101001L,
+			                0b0110111000011010110010100000000000000000000000000000000000000000L,
+			                0b0000000000000000000000000000000000000000000000000000000000010001L);
+			
+			shl(subject,    5,  190,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_5_190_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101101000011101101001011000111101001011011100001101011001010000L,
+			                0b0000000000000000000000000000000000000000000000000000000000000000L,
+			                0b0000000000000000000000000000000000000000000000000000000000010001L);
+			
+			shl(subject,    5,  190,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_70_130_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010000L,
+			                0b1011010010111001101001110000101111010010110100011100010110010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			shl(subject,   70,  130,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_70_130_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010001L,
+			                0b1010010111001101001110000101111010010110100011100010110000010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			shl(subject,   70,  130,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_70_130_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010001L,
+			                0b0111001101001110000101111010010110100011100010110000000000010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			shl(subject,   70,  130,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_70_130_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010001L,
+			                0b0110100011100010110000000000000000000000000000000000000000010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			shl(subject,   70,  130,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl_70_130_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010001L,
+			                0b0010111001101001110000101111010010110100011100010110000000010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			shl(subject,   70,  130,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__10_200_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001010011100010110100111100001010110100111001011000011110100100L,
+			                0b1011010010111001101001110000101111010010110100011100010110100111L,
+			                0b0110100001110110100101100011110100101101110000110101100101100010L);
+			
+			shl(subject,  -10,  200,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__10_200_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L,
+			                0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,  -10,  200,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__10_200_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001011100110100111000010111101001011010001110001011010011101101L,
+			                0b0000111011010010110001111010010110111000011010110010110001000000L,
+			                0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,  -10,  200,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__10_200_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001011010001110001011010011101101000011101101001011000111101001L,
+			                0b0110111000011010110010110001000000000000000000000000000000000000L,
+			                0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,  -10,  200,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void shl__10_200_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101101000011101101001011000111101001011011100001101011001011000L,
+			                0b1000000000000000000000000000000000000000000000000000000000000000L,
+			                0b0000000000000000000000000000000000000000000000000000000000000000L);
+			
+			shl(subject,  -10,  200,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_0_64__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0110111010001110010111101010010011100001111011010010101100110001L);
+			
+			rotr(subject,    0,   64,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_0_64_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0001011011101000111001011110101001001110000111101101001010110011L);
+			
+			rotr(subject,    0,   64,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_0_64_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0011000101101110100011100101111010100100111000011110110100101011L);
+			
+			rotr(subject,    0,   64,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_0_64_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0011100001111011010010101100110001011011101000111001011110101001L);
+			
+			rotr(subject,    0,   64,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_0_64_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0101101110100011100101111010100100111000011110110100101011001100L);
+			
+			rotr(subject,    0,   64,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_3_61__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010111010001110010111101010010011100001111011010010101100011110L);
+			
+			rotr(subject,    3,   61,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_3_61_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010011011101000111001011110101001001110000111101101001010110110L);
+			
+			rotr(subject,    3,   61,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_3_61_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110001101110100011100101111010100100111000011110110100101110L);
+			
+			rotr(subject,    3,   61,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_3_61_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010010011100001111011010010101100011011101000111001011110101110L);
+			
+			rotr(subject,    3,   61,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_3_61_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110001101110100011100101111010100100111000011110110100101110L);
+			
+			rotr(subject,    3,   61,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__8_72__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0110111010001110010111101010010011100001111011010010101100110000L);
+			
+			rotr(subject,   -8,   72,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__8_72_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0001011011101000111001011110101001001110000111101101001010110011L);
+			
+			rotr(subject,   -8,   72,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__8_72_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000000101101110100011100101111010100100111000011110110100101011L);
+			
+			rotr(subject,   -8,   72,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__8_72_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0100101011001100000000000000000001011011101000111001011110101001L);
+			
+			rotr(subject,   -8,   72,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__8_72_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b1001011110101001001110000111101101001010110011000000000000000000L);
+			
+			rotr(subject,   -8,   72,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_60_68__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000110111010001110010111101010010011100001111011010010101100110L);
+			
+			rotr(subject,   60,   68,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_60_68_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0001110111010001110010111101010010011100001111011010010101100110L);
+			
+			rotr(subject,   60,   68,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_60_68_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000110111010001110010111101010010011100001111011010010101100110L);
+			
+			rotr(subject,   60,   68,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_60_68_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0100110111010001110010111101010010011100001111011010010101100110L);
+			
+			rotr(subject,   60,   68,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_60_68_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0100110111010001110010111101010010011100001111011010010101100110L);
+			
+			rotr(subject,   60,   68,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__4_4__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100000L);
+			
+			rotr(subject,   -4,    4,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__4_4_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100011L);
+			
+			rotr(subject,   -4,    4,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__4_4_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100000L);
+			
+			rotr(subject,   -4,    4,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__4_4_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101101100L);
+			
+			rotr(subject,   -4,    4,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__4_4_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101101100L);
+			
+			rotr(subject,   -4,    4,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_17_19__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110111010010101100110L);
+			
+			rotr(subject,   17,   19,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_17_19_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110111010010101100110L);
+			
+			rotr(subject,   17,   19,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_17_19_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110111010010101100110L);
+			
+			rotr(subject,   17,   19,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_17_19_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110111010010101100110L);
+			
+			rotr(subject,   17,   19,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_17_19_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110111010010101100110L);
+			
+			rotr(subject,   17,   19,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_0_192_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1110010100111000101101001111000010101101001110010110000111101001L,
+			                0b0010110100101110011010011100001011110100101101000111000101101001L,
+			                0b1101101000011101101001011000111101001011011100001101011001011000L);
+			
+			rotr(subject,    0,  192,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_0_192_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1011010000111011010010110001111010010110111000011010110010110001L,
+			                0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L);
+			
+			rotr(subject,    0,  192,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_0_192_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b0100111011010000111011010010110001111010010110111000011010110010L,
+			                0b1100011100101001110001011010011110000101011010011100101100001111L,
+			                0b0100100101101001011100110100111000010111101001011010001110001011L);
+			
+			rotr(subject,    0,  192,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_0_192_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b0101111010010110100011100010110100111011010000111011010010110001L,
+			                0b1110100101101110000110101100101100011100101001110001011010011110L,
+			                0b0001010110100111001011000011110100100101101001011100110100111000L);
+			
+			rotr(subject,    0,  192,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_0_192_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1011010010111001101001110000101111010010110100011100010110100111L,
+			                0b0110100001110110100101100011110100101101110000110101100101100011L,
+			                0b1001010011100010110100111100001010110100111001011000011110100100L);
+			
+			rotr(subject,    0,  192,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_5_190_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1110010100111000101101001111000010101101001110010110000111101001L,
+			                0b0010110100101110011010011100001011110100101101000111000101101001L,
+			                0b1101101000011101101001011000111101001011011100001101011001010001L);
+			
+			rotr(subject,    5,  190,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_5_190_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1110011101101000011101101001011000111101001011011100001101011001L,
+			                0b0100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010001L);
+			
+			rotr(subject,    5,  190,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_5_190_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101011010011101101000011101101001011000111101001011011100001101L,
+			                0b0110010100101001110001011010011110000101011010011100101100001111L,
+			                0b0100100101101001011100110100111000010111101001011010001110010001L);
+			
+			rotr(subject,    5,  190,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_5_190_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1111000010111101001011010001110001011010011101101000011101101001L,
+			                0b0110001111010010110111000011010110010100101001110001011010011110L,
+			                0b0001010110100111001011000011110100100101101001011100110100110001L);
+			
+			rotr(subject,    5,  190,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_5_190_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100100101101001011100110100111000010111101001011010001110001011L,
+			                0b0100111011010000111011010010110001111010010110111000011010110010L,
+			                0b1001010011100010110100111100001010110100111001011000011110110001L);
+			
+			rotr(subject,    5,  190,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_70_130_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010011L,
+			                0b0010110100101110011010011100001011110100101101000111000101010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			rotr(subject,   70,  130,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_70_130_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b1110010110100101110011010011100001011110100101101000111000010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			rotr(subject,   70,  130,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_70_130_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010011L,
+			                0b1000101110010110100101110011010011100001011110100101101000010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			rotr(subject,   70,  130,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_70_130_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010001L,
+			                0b0011100001011110100101101000111000101110010110100101110011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			rotr(subject,   70,  130,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr_70_130_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010000L,
+			                0b0101110010110100101110011010011100001011110100101101000111010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			rotr(subject,   70,  130,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__10_200_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b0110010100111000101101001111000010101101001110010110000111101001L,
+			                0b0010110100101110011010011100001011110100101101000111000101101001L,
+			                0b1101101000011101101001011000111101001011011100001101011001011000L);
+			
+			rotr(subject,  -10,  200,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__10_200_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b0010110001111010010110111000011010110010110001000000000000000000L,
+			                0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L);
+			
+			rotr(subject,  -10,  200,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__10_200_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1011010010110001111010010110111000011010110010110001000000000000L,
+			                0b0000001100101001110001011010011110000101011010011100101100001111L,
+			                0b0100100101101001011100110100111000010111101001011010001110001011L);
+			
+			rotr(subject,  -10,  200,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__10_200_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b0011100010110100111011010000111011010010110001111010010110111000L,
+			                0b0110101100101100010000000000000000001100101001110001011010011110L,
+			                0b0001010110100111001011000011110100100101101001011100110100111000L);
+			
+			rotr(subject,  -10,  200,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotr__10_200_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001110000101111010010110100011100010110100111011010000111011010L,
+			                0b0101100011110100101101110000110101100101100010000000000000000001L,
+			                0b1001010011100010110100111100001010110100111001011000011110100100L);
+			
+			rotr(subject,  -10,  200,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_0_64__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b1100010110111010001110010111101010010011100001111011010010101100L);
+			
+			rotl(subject,    0,   64,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_0_64_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0101101110100011100101111010100100111000011110110100101011001100L);
+			
+			rotl(subject,    0,   64,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_0_64_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b1011101000111001011110101001001110000111101101001010110011000101L);
+			
+			rotl(subject,    0,   64,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_0_64_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0100111000011110110100101011001100010110111010001110010111101010L);
+			
+			rotl(subject,    0,   64,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_0_64_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0001011011101000111001011110101001001110000111101101001010110011L);
+			
+			rotl(subject,    0,   64,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_3_61__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0011000110111010001110010111101010010011100001111011010010101110L);
+			
+			rotl(subject,    3,   61,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_3_61_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0011101110100011100101111010100100111000011110110100101011000110L);
+			
+			rotl(subject,    3,   61,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_3_61_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0011101000111001011110101001001110000111101101001010110001101110L);
+			
+			rotl(subject,    3,   61,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_3_61_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010111000011110110100101011000110111010001110010111101010010110L);
+			
+			rotl(subject,    3,   61,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_3_61_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0011101000111001011110101001001110000111101101001010110001101110L);
+			
+			rotl(subject,    3,   61,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__8_72__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000010110111010001110010111101010010011100001111011010010101100L);
+			
+			rotl(subject,   -8,   72,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__8_72_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0101101110100011100101111010100100111000011110110100101011001100L);
+			
+			rotl(subject,   -8,   72,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__8_72_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b1011101000111001011110101001001110000111101101001010110011000000L);
+			
+			rotl(subject,   -8,   72,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__8_72_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0100111000011110110100101011001100000000000000000001011011101000L);
+			
+			rotl(subject,   -8,   72,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__8_72_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000000000000000000101101110100011100101111010100100111000011110L);
+			
+			rotl(subject,   -8,   72,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_60_68__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000110111010001110010111101010010011100001111011010010101100110L);
+			
+			rotl(subject,   60,   68,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_60_68_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0100110111010001110010111101010010011100001111011010010101100110L);
+			
+			rotl(subject,   60,   68,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_60_68_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0000110111010001110010111101010010011100001111011010010101100110L);
+			
+			rotl(subject,   60,   68,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_60_68_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0001110111010001110010111101010010011100001111011010010101100110L);
+			
+			rotl(subject,   60,   68,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_60_68_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0001110111010001110010111101010010011100001111011010010101100110L);
+			
+			rotl(subject,   60,   68,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__4_4__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100000L);
+			
+			rotl(subject,   -4,    4,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__4_4_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101101100L);
+			
+			rotl(subject,   -4,    4,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__4_4_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100000L);
+			
+			rotl(subject,   -4,    4,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__4_4_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100011L);
+			
+			rotl(subject,   -4,    4,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__4_4_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001111011010010101100011L);
+			
+			rotl(subject,   -4,    4,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_17_19__3() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110111010010101100110L);
+			
+			rotl(subject,   17,   19,   -3);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_17_19_1() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110111010010101100110L);
+			
+			rotl(subject,   17,   19,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_17_19_5() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110111010010101100110L);
+			
+			rotl(subject,   17,   19,    5);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_17_19_31() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110111010010101100110L);
+			
+			rotl(subject,   17,   19,   31);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_17_19_63() {
+			T subject  = build(0b0010110111010001110010111101010010011100001111011010010101100110L);
+			T expected = build(0b0010110111010001110010111101010010011100001110111010010101100110L);
+			
+			rotl(subject,   17,   19,   63);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_0_192_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001010011100010110100111100001010110100111001011000011110100100L,
+			                0b1011010010111001101001110000101111010010110100011100010110100111L,
+			                0b0110100001110110100101100011110100101101110000110101100101100011L);
+			
+			rotl(subject,    0,  192,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_0_192_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L,
+			                0b1100101001110001011010011110000101011010011100101100001111010010L);
+			
+			rotl(subject,    0,  192,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_0_192_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001011100110100111000010111101001011010001110001011010011101101L,
+			                0b0000111011010010110001111010010110111000011010110010110001110010L,
+			                0b1001110001011010011110000101011010011100101100001111010010010110L);
+			
+			rotl(subject,    0,  192,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_0_192_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001011010001110001011010011101101000011101101001011000111101001L,
+			                0b0110111000011010110010110001110010100111000101101001111000010101L,
+			                0b1010011100101100001111010010010110100101110011010011100001011110L);
+			
+			rotl(subject,    0,  192,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_0_192_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101101000011101101001011000111101001011011100001101011001011000L,
+			                0b1110010100111000101101001111000010101101001110010110000111101001L,
+			                0b0010110100101110011010011100001011110100101101000111000101101001L);
+			
+			rotl(subject,    0,  192,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_5_190_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101010011100010110100111100001010110100111001011000011110100100L,
+			                0b1011010010111001101001110000101111010010110100011100010110100111L,
+			                0b0110100001110110100101100011110100101101110000110101100101010001L);
+			
+			rotl(subject,    5,  190,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_5_190_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010100101L,
+			                0b0011100010110100111100001010110100111001011000011110100100110001L);
+			
+			rotl(subject,    5,  190,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_5_190_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101011100110100111000010111101001011010001110001011010011101101L,
+			                0b0000111011010010110001111010010110111000011010110010100101001110L,
+			                0b0010110100111100001010110100111001011000011110100100101101010001L);
+			
+			rotl(subject,    5,  190,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_5_190_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101011010001110001011010011101101000011101101001011000111101001L,
+			                0b0110111000011010110010100101001110001011010011110000101011010011L,
+			                0b1001011000011110100100101101001011100110100111000010111101010001L);
+			
+			rotl(subject,    5,  190,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_5_190_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101101000011101101001011000111101001011011100001101011001010010L,
+			                0b1001110001011010011110000101011010011100101100001111010010010110L,
+			                0b1001011100110100111000010111101001011010001110001011010011110001L);
+			
+			rotl(subject,    5,  190,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_70_130_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010000L,
+			                0b1011010010111001101001110000101111010010110100011100010111010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			rotl(subject,   70,  130,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_70_130_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010001L,
+			                0b1010010111001101001110000101111010010110100011100010111001010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			rotl(subject,   70,  130,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_70_130_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010001L,
+			                0b0111001101001110000101111010010110100011100010111001011010010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			rotl(subject,   70,  130,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_70_130_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010001L,
+			                0b0110100011100010111001011010010111001101001110000101111010010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			rotl(subject,   70,  130,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl_70_130_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1100101001110001011010011110000101011010011100101100001111010001L,
+			                0b0010111001101001110000101111010010110100011100010111001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			
+			rotl(subject,   70,  130,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__10_200_1() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001010011100010110100111100001010110100111001011000011110100100L,
+			                0b1011010010111001101001110000101111010010110100011100010110100111L,
+			                0b0110100001110110100101100011110100101101110000110101100101100010L);
+			
+			rotl(subject,  -10,  200,    1);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__10_200_64() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L,
+			                0b0000000000000000001100101001110001011010011110000101011010011100L);
+			
+			rotl(subject,  -10,  200,   64);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__10_200_70() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001011100110100111000010111101001011010001110001011010011101101L,
+			                0b0000111011010010110001111010010110111000011010110010110001000000L,
+			                0b0000000000001100101001110001011010011110000101011010011100101100L);
+			
+			rotl(subject,  -10,  200,   70);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__10_200_100() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1001011010001110001011010011101101000011101101001011000111101001L,
+			                0b0110111000011010110010110001000000000000000000110010100111000101L,
+			                0b1010011110000101011010011100101100001111010010010110100101110011L);
+			
+			rotl(subject,  -10,  200,  100);
+			assertThat(subject, is(equalTo(expected)));
+		}
+
+		@Test public void rotl__10_200_127() {
+			T subject  = build(0b1100101001110001011010011110000101011010011100101100001111010010L,
+			                0b0101101001011100110100111000010111101001011010001110001011010011L,
+			                0b1011010000111011010010110001111010010110111000011010110010110001L);
+			T expected = build(0b1101101000011101101001011000111101001011011100001101011001011000L,
+			                0b1000000000000000000110010100111000101101001111000010101101001110L,
+			                0b0101100001111010010010110100101110011010011100001011110100101101L);
+			
+			rotl(subject,  -10,  200,  127);
+			assertThat(subject, is(equalTo(expected)));
+		}
 	}
 	
 	public static class Byte extends Cases<byte[]> {
 		@Override protected void shr(byte[] data, int i, int length, int amount) { Shifter.shr(data, i, length, amount); }
+		@Override protected void shl(byte[] data, int i, int length, int amount) { Shifter.shl(data, i, length, amount); }
+		@Override protected void rotr(byte[] data, int i, int length, int amount) { Shifter.rotr(data, i, length, amount); }
+		@Override protected void rotl(byte[] data, int i, int length, int amount) { Shifter.rotl(data, i, length, amount); }
 		@Override public byte[] build(long... d) { return ByteArrayBuilder.build0(d); }
 	}
 	
 	public static class Char extends Cases<char[]> {
 		@Override protected void shr(char[] data, int i, int length, int amount) { Shifter.shr(data, i, length, amount); }
+		@Override protected void shl(char[] data, int i, int length, int amount) { Shifter.shl(data, i, length, amount); }
+		@Override protected void rotr(char[] data, int i, int length, int amount) { Shifter.rotr(data, i, length, amount); }
+		@Override protected void rotl(char[] data, int i, int length, int amount) { Shifter.rotl(data, i, length, amount); }
 		@Override public char[] build(long... d) { return CharArrayBuilder.build0(d); }
 	}
 	
 	public static class Short extends Cases<short[]> {
 		@Override protected void shr(short[] data, int i, int length, int amount) { Shifter.shr(data, i, length, amount); }
+		@Override protected void shl(short[] data, int i, int length, int amount) { Shifter.shl(data, i, length, amount); }
+		@Override protected void rotr(short[] data, int i, int length, int amount) { Shifter.rotr(data, i, length, amount); }
+		@Override protected void rotl(short[] data, int i, int length, int amount) { Shifter.rotl(data, i, length, amount); }
 		@Override public short[] build(long... d) { return ShortArrayBuilder.build0(d); }
 	}
 	
 	public static class Int extends Cases<int[]> {
 		@Override protected void shr(int[] data, int i, int length, int amount) { Shifter.shr(data, i, length, amount); }
+		@Override protected void shl(int[] data, int i, int length, int amount) { Shifter.shl(data, i, length, amount); }
+		@Override protected void rotr(int[] data, int i, int length, int amount) { Shifter.rotr(data, i, length, amount); }
+		@Override protected void rotl(int[] data, int i, int length, int amount) { Shifter.rotl(data, i, length, amount); }
 		@Override public int[] build(long... d) { return IntArrayBuilder.build0(d); }
 	}
 	
 	public static class Long extends Cases<long[]> {
 		@Override protected void shr(long[] data, int i, int length, int amount) { Shifter.shr(data, i, length, amount); }
+		@Override protected void shl(long[] data, int i, int length, int amount) { Shifter.shl(data, i, length, amount); }
+		@Override protected void rotr(long[] data, int i, int length, int amount) { Shifter.rotr(data, i, length, amount); }
+		@Override protected void rotl(long[] data, int i, int length, int amount) { Shifter.rotl(data, i, length, amount); }
 		@Override public long[] build(long... d) { return LongArrayBuilder.build0(d); }
 	}
 }
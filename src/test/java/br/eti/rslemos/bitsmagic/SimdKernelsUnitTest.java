@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/*
+ * Kernels are called directly, whether or not Simd.ENABLED: on the portable
+ * layer these are the scalar fallbacks, on the Java 21 layer the vector ones.
+ */
+public class SimdKernelsUnitTest {
+	private static final int WORDS = 67;
+	
+	private static long[] random(long seed) {
+		Random random = new Random(seed);
+		
+		long[] words = new long[WORDS];
+		for (int k = 0; k < words.length; k++)
+			words[k] = random.nextLong();
+		
+		return words;
+	}
+	
+	private static final long[] SOURCE = random(0x5EEDL);
+	private static final long[] DEST = random(~0x5EEDL);
+	
+	@Test
+	public void longXorForwards() {
+		long[] dest = DEST.clone();
+		Simd.xorForwards(SOURCE, 3, dest, 5, 50);
+		
+		long[] expected = DEST.clone();
+		for (int i = 0; i < 50; i++)
+			expected[5 + i] ^= SOURCE[3 + i];
+		
+		assertThat(dest, is(equalTo(expected)));
+	}
+	
+	@Test
+	public void longXorBackwardsOverlapping() {
+		long[] subject = DEST.clone();
+		Simd.xorBackwards(subject, 3, subject, 5, 50);
+		
+		long[] expected = DEST.clone();
+		for (int i = 49; i >= 0; i--)
+			expected[5 + i] ^= expected[3 + i];
+		
+		assertThat(subject, is(equalTo(expected)));
+	}
+	
+	@Test
+	public void byteXorForwards() {
+		byte[] source = new byte[WORDS];
+		byte[] dest = new byte[WORDS];
+		for (int i = 0; i < WORDS; i++) {
+			source[i] = (byte) SOURCE[i];
+			dest[i] = (byte) DEST[i];
+		}
+		
+		byte[] expected = dest.clone();
+		for (int i = 0; i < 60; i++)
+			expected[2 + i] ^= source[i];
+		
+		Simd.xorForwards(source, 0, dest, 2, 60);
+		assertThat(dest, is(equalTo(expected)));
+	}
+	
+	@Test
+	public void ones() {
+		long expected = 0;
+		for (int i = 7; i < 61; i++)
+			expected += Long.bitCount(SOURCE[i]);
+		
+		assertThat(Simd.ones(SOURCE, 7, 61), is(equalTo(expected)));
+	}
+	
+	@Test
+	public void onesEmpty() {
+		assertThat(Simd.ones(SOURCE, 7, 7), is(equalTo(0L)));
+	}
+}
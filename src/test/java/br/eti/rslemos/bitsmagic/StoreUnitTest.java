@@ -4278,6 +4278,68 @@ public class StoreUnitTest {
 			}
 		}
 
+		public static abstract class LongOffset<T> extends Fixture<T> {
+			// offsets that do not fit into an int must not wrap around
+			
+			private static final long SUBJECT = 0b0011001100110110100000001000000100000100001000100010010010101010L;
+			private static final long INT_WRAP = 1L << java.lang.Integer.SIZE;
+			
+			protected abstract boolean readBit(T data, long i);
+			protected abstract void writeBit(T data, long i, boolean v);
+			protected abstract long readLong(T data, long i);
+			protected abstract void writeLong(T data, long i, long v);
+			protected abstract void fill(T data, long from, long to, boolean v);
+
+			@Test public void readBit() {
+				assertThat(readBit(subject, 1L), is(equalTo(true)));
+			}
+			
+			@Test public void readBitBeyondIntRange() {
+				assertThat(readBit(subject, INT_WRAP + 1), is(equalTo(false)));
+			}
+			
+			@Test public void readBitFarBelow() {
+				assertThat(readBit(subject, -INT_WRAP + 1), is(equalTo(false)));
+			}
+			
+			@Test public void writeBitBeyondIntRange() {
+				writeBit(subject, INT_WRAP, true);
+				assertThat(readLong(subject, 0L), is(equalTo(SUBJECT)));
+			}
+			
+			@Test public void readLong() {
+				assertThat(readLong(subject, 3L), is(equalTo(SUBJECT >>> 3)));
+			}
+			
+			@Test public void readLongBeyondIntRange() {
+				assertThat(readLong(subject, INT_WRAP), is(equalTo(0L)));
+			}
+			
+			@Test public void readLongFarBelow() {
+				assertThat(readLong(subject, java.lang.Long.MIN_VALUE), is(equalTo(0L)));
+			}
+			
+			@Test public void writeLongBeyondIntRange() {
+				writeLong(subject, INT_WRAP, -1L);
+				assertThat(readLong(subject, 0L), is(equalTo(SUBJECT)));
+			}
+			
+			@Test public void writeLongFarBelow() {
+				writeLong(subject, -INT_WRAP, -1L);
+				assertThat(readLong(subject, 0L), is(equalTo(SUBJECT)));
+			}
+			
+			@Test public void fillBeyondIntRange() {
+				fill(subject, INT_WRAP, INT_WRAP + java.lang.Long.SIZE, true);
+				assertThat(readLong(subject, 0L), is(equalTo(SUBJECT)));
+			}
+			
+			@Test public void fillFromFarBelowToFarBeyond() {
+				fill(subject, -INT_WRAP, INT_WRAP, true);
+				assertThat(readLong(subject, 0L), is(equalTo(-1L)));
+			}
+		}
+		
 		public static abstract class BitString<T> extends Fixture<T> {
 			protected abstract String readBitString(T data, int offset, int length);
 			protected abstract void writeBitString(T data, int offset, String v);
@@ -4384,6 +4446,15 @@ public class StoreUnitTest {
 			@Override public byte[] build(long... d) { return build0(d); }
 		}
 	
+		public static class LongOffset extends Cases.LongOffset<byte[]> {
+			@Override protected boolean readBit(byte[] data, long i) { return Store.readBit(data, i); }
+			@Override protected void writeBit(byte[] data, long i, boolean v) { Store.writeBit(data, i, v); }
+			@Override protected long readLong(byte[] data, long i) { return Store.readLong(data, i); }
+			@Override protected void writeLong(byte[] data, long i, long v) { Store.writeLong(data, i, v); }
+			@Override protected void fill(byte[] data, long from, long to, boolean v) { Store.fill(data, from, to, v); }
+			@Override public byte[] build(long... d) { return build0(d); }
+		}
+	
 		public static class BitString extends Cases.BitString<byte[]> {
 			@Override protected String readBitString(byte[] data, int offset, int length) { return Store.readBitString(data, offset, length); }
 			@Override protected void writeBitString(byte[] data, int offset, String v) { Store.writeBitString(data, offset, v); }
@@ -4436,6 +4507,15 @@ public class StoreUnitTest {
 			@Override public char[] build(long... d) { return build0(d); }
 		}
 	
+		public static class LongOffset extends Cases.LongOffset<char[]> {
+			@Override protected boolean readBit(char[] data, long i) { return Store.readBit(data, i); }
+			@Override protected void writeBit(char[] data, long i, boolean v) { Store.writeBit(data, i, v); }
+			@Override protected long readLong(char[] data, long i) { return Store.readLong(data, i); }
+			@Override protected void writeLong(char[] data, long i, long v) { Store.writeLong(data, i, v); }
+			@Override protected void fill(char[] data, long from, long to, boolean v) { Store.fill(data, from, to, v); }
+			@Override public char[] build(long... d) { return build0(d); }
+		}
+	
 		public static class BitString extends Cases.BitString<char[]> {
 			@Override protected String readBitString(char[] data, int offset, int length) { return Store.readBitString(data, offset, length); }
 			@Override protected void writeBitString(char[] data, int offset, String v) { Store.writeBitString(data, offset, v); }
@@ -4488,6 +4568,15 @@ public class StoreUnitTest {
 			@Override public short[] build(long... d) { return build0(d); }
 		}
 	
+		public static class LongOffset extends Cases.LongOffset<short[]> {
+			@Override protected boolean readBit(short[] data, long i) { return Store.readBit(data, i); }
+			@Override protected void writeBit(short[] data, long i, boolean v) { Store.writeBit(data, i, v); }
+			@Override protected long readLong(short[] data, long i) { return Store.readLong(data, i); }
+			@Override protected void writeLong(short[] data, long i, long v) { Store.writeLong(data, i, v); }
+			@Override protected void fill(short[] data, long from, long to, boolean v) { Store.fill(data, from, to, v); }
+			@Override public short[] build(long... d) { return build0(d); }
+		}
+	
 		public static class BitString extends Cases.BitString<short[]> {
 			@Override protected String readBitString(short[] data, int offset, int length) { return Store.readBitString(data, offset, length); }
 			@Override protected void writeBitString(short[] data, int offset, String v) { Store.writeBitString(data, offset, v); }
@@ -4540,6 +4629,15 @@ public class StoreUnitTest {
 			@Override public int[] build(long... d) { return build0(d); }
 		}
 	
+		public static class LongOffset extends Cases.LongOffset<int[]> {
+			@Override protected boolean readBit(int[] data, long i) { return Store.readBit(data, i); }
+			@Override protected void writeBit(int[] data, long i, boolean v) { Store.writeBit(data, i, v); }
+			@Override protected long readLong(int[] data, long i) { return Store.readLong(data, i); }
+			@Override protected void writeLong(int[] data, long i, long v) { Store.writeLong(data, i, v); }
+			@Override protected void fill(int[] data, long from, long to, boolean v) { Store.fill(data, from, to, v); }
+			@Override public int[] build(long... d) { return build0(d); }
+		}
+	
 		public static class BitString extends Cases.BitString<int[]> {
 			@Override protected String readBitString(int[] data, int offset, int length) { return Store.readBitString(data, offset, length); }
 			@Override protected void writeBitString(int[] data, int offset, String v) { Store.writeBitString(data, offset, v); }
@@ -4592,6 +4690,15 @@ public class StoreUnitTest {
 			@Override public long[] build(long... d) { return build0(d); }
 		}
 	
+		public static class LongOffset extends Cases.LongOffset<long[]> {
+			@Override protected boolean readBit(long[] data, long i) { return Store.readBit(data, i); }
+			@Override protected void writeBit(long[] data, long i, boolean v) { Store.writeBit(data, i, v); }
+			@Override protected long readLong(long[] data, long i) { return Store.readLong(data, i); }
+			@Override protected void writeLong(long[] data, long i, long v) { Store.writeLong(data, i, v); }
+			@Override protected void fill(long[] data, long from, long to, boolean v) { Store.fill(data, from, to, v); }
+			@Override public long[] build(long... d) { return build0(d); }
+		}
+	
 		public static class BitString extends Cases.BitString<long[]> {
 			@Override protected String readBitString(long[] data, int offset, int length) { return Store.readBitString(data, offset, length); }
 			@Override protected void writeBitString(long[] data, int offset, String v) { Store.writeBitString(data, offset, v); }
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class AdaptiveFrequencyModelUnitTest {
+	// the plain counts the model should agree with
+	private static void verify(AdaptiveFrequencyModel model, int[] counts) {
+		int[] cumulativeCount = Distribution.toCumulative(counts);
+		int total = cumulativeCount[cumulativeCount.length - 1];
+		
+		assertThat(model.symbols(), is(equalTo(counts.length)));
+		assertThat(model.total(), is(equalTo(total)));
+		
+		for (int i = 0; i < counts.length; i++)
+			assertThat("symbol " + i, model.cumulativeCount(i), is(equalTo(cumulativeCount[i])));
+		
+		for (int count = 0; count < total; count++)
+			assertThat("count " + count, model.getSymbol(count), is(equalTo(DecodeTable.search(cumulativeCount, count, 0, counts.length - 1))));
+	}
+	
+	private static void update(AdaptiveFrequencyModel model, int[] counts, int increment, int limit, int symbol) {
+		model.update(symbol);
+		counts[symbol] += increment;
+		
+		int total;
+		while ((total = sum(counts)) > limit)
+			for (int i = 0; i < counts.length; i++)
+				counts[i] = (counts[i] + 1) / 2;
+		
+		assertThat(total, is(lessThanOrEqualTo(limit)));
+	}
+	
+	private static int sum(int[] counts) {
+		int sum = 0;
+		for (int count : counts)
+			sum += count;
+		
+		return sum;
+	}
+
+	@Test public void initiallyEven() {
+		for (int symbols = 1; symbols <= 70; symbols++) {
+			int[] counts = new int[symbols];
+			Arrays.fill(counts, 1);
+			
+			verify(new AdaptiveFrequencyModel(symbols), counts);
+		}
+	}
+	
+	@Test public void updates() {
+		for (int symbols : new int[] { 1, 2, 3, 7, 8, 9, 33, 64, 100 }) {
+			Random random = new Random(symbols);
+			AdaptiveFrequencyModel model = new AdaptiveFrequencyModel(symbols, 5, 1 << 20);
+			int[] counts = new int[symbols];
+			Arrays.fill(counts, 1);
+			
+			for (int i = 0; i < 200; i++) {
+				update(model, counts, 5, 1 << 20, random.nextInt(symbols));
+				verify(model, counts);
+			}
+		}
+	}
+	
+	@Test public void rescales() {
+		for (int symbols : new int[] { 1, 2, 5, 16, 17, 31 }) {
+			Random random = new Random(symbols);
+			int limit = 2 * symbols + 50;
+			AdaptiveFrequencyModel model = new AdaptiveFrequencyModel(symbols, 16, limit);
+			int[] counts = new int[symbols];
+			Arrays.fill(counts, 1);
+			
+			for (int i = 0; i < 500; i++) {
+				// skewed towards the low symbols
+				update(model, counts, 16, limit, random.nextInt(random.nextInt(symbols) + 1));
+				verify(model, counts);
+			}
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void emptyAlphabet() {
+		new AdaptiveFrequencyModel(0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void nonPositiveIncrement() {
+		new AdaptiveFrequencyModel(4, 0, 1 << 16);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void limitTooLow() {
+		new AdaptiveFrequencyModel(4, 1, 8);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void limitTooHigh() {
+		new AdaptiveFrequencyModel(4, 2, Integer.MAX_VALUE - 1);
+	}
+}
@@ -36,6 +36,7 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.Assert.assertThat;
 
 import java.io.IOException;
+import java.util.Random;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -86,6 +87,33 @@ public class ArithmeticCodecUnitTest {
 			
 			assertThat(decode(base, input, expected.length, cumulativeCount), is(equalTo(expected)));
 		}
+		
+		@Test public void paperDecodeTable() {
+			int base = 10;
+			DecodeTable table = new DecodeTable(10, 31, 58, 100);
+			int[] input = {7, 4, 3, 6, 0, 2, 4};
+			int[] expected = {3, 2, 1, 3, 3, 3, 0, 0, 3, 2, 1};
+			
+			assertThat(decode(base, input, expected.length, table), is(equalTo(expected)));
+		}
+
+		@Test public void paperEncodeModel() {
+			int base = 10;
+			FrequencyModel model = new DecodeTable(10, 31, 58, 100);
+			int[] input = {3, 2, 1, 3, 3, 3, 0, 0, 3, 2, 1};
+			int[] expected = {7, 4, 3, 6, 0, 2, 4};
+			
+			assertThat(encode(base, input, model), is(equalTo(expected)));
+		}
+		
+		@Test public void paperDecodeModel() {
+			int base = 10;
+			FrequencyModel model = new DecodeTable(10, 31, 58, 100);
+			int[] input = {7, 4, 3, 6, 0, 2, 4};
+			int[] expected = {3, 2, 1, 3, 3, 3, 0, 0, 3, 2, 1};
+			
+			assertThat(decode(base, input, expected.length, model), is(equalTo(expected)));
+		}
 
 		private int[] encode(int outbase, int[] input, int[] cumulativeCount) {
 			try {
@@ -117,6 +145,155 @@ public class ArithmeticCodecUnitTest {
 				throw new RuntimeException(e);
 			}
 		}
+
+		private int[] encode(int outbase, int[] input, FrequencyModel model) {
+			try {
+				IntegerListOutputStream stream = new IntegerListOutputStream();
+				Encoder encoder = factory.encoder(stream, outbase);
+				
+				for (int i = 0; i < input.length; i++)
+					encoder.write(input[i], model);
+				
+				encoder.flush();
+				return stream.toIntArray();
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		private int[] decode(int inbase, int[] input, int n, FrequencyModel model) {
+			try {
+				IntArrayInputStream stream = new IntArrayInputStream(input);
+				Decoder decoder = factory.decoder(stream, inbase);
+				
+				int[] result = new int[n];
+				
+				for (int i = 0; i < result.length; i++)
+					result[i] = decoder.read(model);
+				
+				return result;
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		private int[] decode(int inbase, int[] input, int n, DecodeTable table) {
+			try {
+				IntArrayInputStream stream = new IntArrayInputStream(input);
+				Decoder decoder = factory.decoder(stream, inbase);
+				
+				int[] result = new int[n];
+				
+				for (int i = 0; i < result.length; i++)
+					result[i] = decoder.read(table);
+				
+				return result;
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+	
+	public abstract static class Adaptive extends ArithmeticCodecUnitTest {
+		private final int base;
+		
+		Adaptive(ArithmeticCodecFactory factory, int base) { super(factory); this.base = base; }
+		
+		@Test public void roundtripSmallAlphabet() { roundtrip(  2, 1 << 8); }
+		@Test public void roundtripSkewed()        { roundtrip( 33, 1 << 12); }
+		@Test public void roundtripLargeAlphabet() { roundtrip(300, 1 << 16); }
+		
+		private void roundtrip(int symbols, int limit) {
+			Random random = new Random(symbols);
+			int[] input = new int[5000];
+			for (int i = 0; i < input.length; i++)
+				// skewed, and shifting halfway through
+				input[i] = (Integer.numberOfLeadingZeros(random.nextInt() | 1) + (i < input.length/2 ? 0 : 8)) % symbols;
+			
+			try {
+				IntegerListOutputStream sink = new IntegerListOutputStream();
+				Encoder encoder = factory.encoder(sink, base);
+				FrequencyModel model = new AdaptiveFrequencyModel(symbols, 24, limit);
+				
+				for (int i = 0; i < input.length; i++)
+					encoder.write(input[i], model);
+				
+				encoder.flush();
+				
+				Decoder decoder = factory.decoder(new IntArrayInputStream(sink.toIntArray()), base);
+				model = new AdaptiveFrequencyModel(symbols, 24, limit);
+				
+				int[] output = new int[input.length];
+				for (int i = 0; i < output.length; i++)
+					output[i] = decoder.read(model);
+				
+				assertThat(output, is(equalTo(input)));
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+	
+	public abstract static class Interleaved extends ArithmeticCodecUnitTest {
+		private final int base;
+		
+		Interleaved(ArithmeticCodecFactory factory, int base) { super(factory); this.base = base; }
+		
+		@Test public void roundtripCumulativeCount() { roundtrip(false); }
+		@Test public void roundtripDecodeTable()     { roundtrip(true); }
+		
+		// symbols of several static distributions, of several alphabet sizes and totals, mixed
+		private void roundtrip(boolean decodeTable) {
+			Random random = new Random(decodeTable ? 1 : 0);
+			
+			int[][] cumulativeCounts = new int[4][];
+			DecodeTable[] tables = new DecodeTable[cumulativeCounts.length];
+			int[] alphabets = { 2, 100, 3000, 17 };
+			int[] totals = { 1 << 16, 60000, 1 << 12, 1000 };
+			for (int d = 0; d < cumulativeCounts.length; d++) {
+				int[] counts = new int[alphabets[d]];
+				for (int i = 0, left = totals[d] - counts.length; i < counts.length; i++) {
+					int count = i == counts.length - 1 ? left : random.nextInt(left / 4 + 1);
+					counts[i] = 1 + count;
+					left -= count;
+				}
+				
+				// one unexpected symbol
+				counts[counts.length - 1] += counts[1] - 1;
+				counts[1] = 0;
+				
+				cumulativeCounts[d] = toCumulative(counts);
+				tables[d] = new DecodeTable(cumulativeCounts[d]);
+			}
+			
+			int[] ds = new int[5000];
+			int[] input = new int[ds.length];
+			for (int i = 0; i < input.length; i++) {
+				// runs of the same distribution
+				ds[i] = i > 0 && random.nextInt(8) != 0 ? ds[i - 1] : random.nextInt(cumulativeCounts.length);
+				
+				do 
+					input[i] = random.nextInt(alphabets[ds[i]]);
+				while (input[i] == 1);
+			}
+			
+			try {
+				IntegerListOutputStream sink = new IntegerListOutputStream();
+				Encoder encoder = factory.encoder(sink, base);
+				for (int i = 0; i < input.length; i++)
+					encoder.write(input[i], cumulativeCounts[ds[i]]);
+				encoder.flush();
+				
+				Decoder decoder = factory.decoder(new IntArrayInputStream(sink.toIntArray()), base);
+				int[] output = new int[input.length];
+				for (int i = 0; i < output.length; i++)
+					output[i] = decodeTable ? decoder.read(tables[ds[i]]) : decoder.read(cumulativeCounts[ds[i]]);
+				
+				assertThat(output, is(equalTo(input)));
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
 	}
 	
 	public abstract static class Permutation extends ArithmeticCodecUnitTest {
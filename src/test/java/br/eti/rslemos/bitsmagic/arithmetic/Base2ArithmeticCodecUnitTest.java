@@ -49,6 +49,9 @@ import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
 
 @RunWith(Enclosed.class)
 public class Base2ArithmeticCodecUnitTest {
+	public static class Adaptive extends ArithmeticCodecUnitTest.Adaptive { public Adaptive() { super(FACTORY, 2); } }
+	public static class Interleaved extends ArithmeticCodecUnitTest.Interleaved { public Interleaved() { super(FACTORY, 2); } }
+
 	@RunWith(Enclosed.class)
 	public static class Roundtrip {
 		@RunWith(Enclosed.class)
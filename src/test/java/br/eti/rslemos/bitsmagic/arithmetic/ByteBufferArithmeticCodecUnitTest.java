@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+import static br.eti.rslemos.bitsmagic.arithmetic.Distribution.toCumulative;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import br.eti.rslemos.bitsmagic.arithmetic.ArithmeticCodec.Decoder;
+import br.eti.rslemos.bitsmagic.arithmetic.ArithmeticCodec.Encoder;
+import br.eti.rslemos.bitsmagic.stream.ByteArrayIntStream;
+import br.eti.rslemos.bitsmagic.stream.IntInputStream;
+import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+
+public class ByteBufferArithmeticCodecUnitTest {
+	private static final int[] BASE_BITS = { 1, 2, 3, 4, 5, 7, 8, 11, 16, 20 };
+
+	private static Encoder encoder(IntOutputStream sink, int baseBits) {
+		return baseBits == 1 ? new Base2ArithmeticCodec.Encoder(sink) : new IntegralPowerOf2BaseArithmeticCodec.Encoder(sink, baseBits);
+	}
+	
+	private static Encoder encoder(ByteBuffer sink, int baseBits) {
+		return baseBits == 1 ? new Base2ArithmeticCodec.Encoder(sink) : new IntegralPowerOf2BaseArithmeticCodec.Encoder(sink, baseBits);
+	}
+	
+	private static Decoder decoder(IntInputStream source, int baseBits) throws IOException {
+		return baseBits == 1 ? new Base2ArithmeticCodec.Decoder(source) : new IntegralPowerOf2BaseArithmeticCodec.Decoder(source, baseBits);
+	}
+	
+	private static Decoder decoder(ByteBuffer source, int baseBits) throws IOException {
+		return baseBits == 1 ? new Base2ArithmeticCodec.Decoder(source) : new IntegralPowerOf2BaseArithmeticCodec.Decoder(source, baseBits);
+	}
+	
+	private static byte[] encode(ByteBuffer sink, int baseBits, int[] input, int[] cumulativeCount) throws IOException {
+		Encoder encoder = encoder(sink, baseBits);
+		for (int symbol : input)
+			encoder.write(symbol, cumulativeCount);
+		
+		encoder.flush();
+		
+		return Arrays.copyOf(sink.array(), sink.position());
+	}
+	
+	private static void verify(int[] input, int[] cumulativeCount) throws IOException {
+		for (int baseBits : BASE_BITS) {
+			String message = "baseBits " + baseBits;
+			
+			byte[] array = new byte[input.length * 8 + 16];
+			Encoder encoder = encoder(new ByteArrayIntStream.Output(baseBits, array), baseBits);
+			for (int symbol : input)
+				encoder.write(symbol, cumulativeCount);
+			encoder.flush();
+			
+			byte[] little = encode(ByteBuffer.allocate(array.length).order(ByteOrder.LITTLE_ENDIAN), baseBits, input, cumulativeCount);
+			byte[] big = encode(ByteBuffer.allocate(array.length).order(ByteOrder.BIG_ENDIAN), baseBits, input, cumulativeCount);
+			
+			// same layout as the digit stream, trailing 0 digits left out
+			assertThat(message, little, is(equalTo(Arrays.copyOf(array, little.length))));
+			assertThat(message, Arrays.copyOfRange(array, little.length, array.length), is(equalTo(new byte[array.length - little.length])));
+			assertThat(message, big, is(equalTo(little)));
+			
+			Decoder fromBuffer = decoder(ByteBuffer.wrap(little), baseBits);
+			Decoder fromStream = decoder(new ByteArrayIntStream.Input(baseBits, little), baseBits);
+			for (int i = 0; i < input.length; i++) {
+				assertThat(message + ", symbol " + i, fromBuffer.read(cumulativeCount), is(equalTo(input[i])));
+				assertThat(message + ", symbol " + i, fromStream.read(cumulativeCount), is(equalTo(input[i])));
+			}
+		}
+	}
+	
+	@Test public void empty() throws IOException {
+		verify(new int[0], toCumulative(1, 1));
+	}
+	
+	@Test public void random() throws IOException {
+		Random random = new Random(0);
+		int[] counts = new int[50];
+		for (int i = 0; i < counts.length; i++)
+			counts[i] = random.nextInt(100) + 1;
+		
+		int[] input = new int[3000];
+		for (int i = 0; i < input.length; i++)
+			input[i] = random.nextInt(counts.length);
+		
+		verify(input, toCumulative(counts));
+	}
+	
+	@Test public void longRunsOfZeros() throws IOException {
+		int[] input = new int[3000];
+		input[1000] = 1;
+		input[2999] = 1;
+		
+		verify(input, toCumulative(100000, 1));
+	}
+	
+	@Test public void longRunsOfOnes() throws IOException {
+		int[] input = new int[3000];
+		Arrays.fill(input, 1);
+		input[1500] = 0;
+		
+		verify(input, toCumulative(1, 100000));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void tooManyZeros() throws IOException {
+		ByteBufferDigitOutputStream stream = new ByteBufferDigitOutputStream(ByteBuffer.allocate(8), Byte.SIZE);
+		
+		// just fits, counted in bits
+		stream.writeRun(0, Long.MAX_VALUE / Byte.SIZE);
+		stream.writeRun(0, 1);
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void tooLongRunOfZeros() throws IOException {
+		new ByteBufferDigitOutputStream(ByteBuffer.allocate(8), Byte.SIZE).writeRun(0, Long.MAX_VALUE);
+	}
+	
+	@Test(expected = EOFException.class)
+	public void sinkFull() throws IOException {
+		Random random = new Random(0);
+		int[] input = new int[3000];
+		for (int i = 0; i < input.length; i++)
+			input[i] = random.nextInt(3);
+		
+		encode(ByteBuffer.allocate(16), 8, input, toCumulative(3, 5, 7));
+	}
+	
+	@Test(expected = EOFException.class)
+	public void sinkFullOnFlush() throws IOException {
+		ByteBufferDigitOutputStream stream = new ByteBufferDigitOutputStream(ByteBuffer.allocate(0), Byte.SIZE);
+		
+		stream.writeInt(1);
+		stream.flush();
+	}
+	
+	@Test public void offsetBuffer() throws IOException {
+		int[] cumulativeCount = toCumulative(3, 5, 7);
+		int[] input = { 0, 1, 2, 2, 1, 0, 0, 2, 1, 1, 2 };
+		
+		ByteBuffer sink = ByteBuffer.allocate(64);
+		sink.put((byte) 0x5A);
+		byte[] encoded = encode(sink, 3, input, cumulativeCount);
+		
+		assertThat(encoded[0], is(equalTo((byte) 0x5A)));
+		
+		ByteBuffer source = ByteBuffer.wrap(encoded);
+		source.get();
+		Decoder decoder = decoder(source, 3);
+		for (int i = 0; i < input.length; i++)
+			assertThat("symbol " + i, decoder.read(cumulativeCount), is(equalTo(input[i])));
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+import static br.eti.rslemos.bitsmagic.arithmetic.Distribution.even;
+import static br.eti.rslemos.bitsmagic.arithmetic.Distribution.toCumulative;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DecodeTableUnitTest {
+	// the plain linear scan
+	private static int reference(int[] cumulativeCount, int count) {
+		int symbol;
+		for (symbol = 0; cumulativeCount[symbol] <= count; symbol++);
+		
+		return symbol;
+	}
+	
+	private static int[] random(int symbols, int maxCount, long seed) {
+		Random random = new Random(seed);
+		int[] counts = new int[symbols];
+		for (int i = 0; i < counts.length; i++)
+			// some unexpected symbols in between
+			counts[i] = random.nextInt(4) == 0 ? 0 : random.nextInt(maxCount) + 1;
+		
+		counts[symbols - 1]++;
+		return toCumulative(counts);
+	}
+	
+	private static void verify(int[] cumulativeCount) {
+		DecodeTable table = new DecodeTable(cumulativeCount);
+		int total = cumulativeCount[cumulativeCount.length - 1];
+		
+		// every count of small totals, a sample of the larger ones
+		int step = Math.max(1, total / 100000);
+		for (int count = 0; count < total; count += step) {
+			int expected = reference(cumulativeCount, count);
+			
+			assertThat("count " + count, table.getSymbol(count), is(equalTo(expected)));
+			assertThat("count " + count, DecodeTable.search(cumulativeCount, count, 0, cumulativeCount.length - 1), is(equalTo(expected)));
+		}
+		
+		assertThat(table.getSymbol(total - 1), is(equalTo(reference(cumulativeCount, total - 1))));
+	}
+	
+	@Test public void singleSymbol() {
+		verify(new int[] { 1 });
+		verify(new int[] { 100 });
+	}
+	
+	@Test public void binary() {
+		verify(new int[] { 1, 2 });
+		verify(new int[] { 0, 5 });
+		verify(new int[] { 5, 5 });
+	}
+	
+	@Test public void even256() {
+		verify(toCumulative(even(256)));
+	}
+	
+	@Test public void random256() {
+		verify(random(256, 1000, 256));
+	}
+	
+	@Test public void random65536() {
+		// total over the table size: several counts per bucket
+		verify(random(65536, 30, 65536));
+	}
+	
+	@Test public void skewed() {
+		// a single symbol takes almost every count, many symbols share a bucket
+		int[] counts = even(4096);
+		counts[1000] = 1 << 24;
+		verify(toCumulative(counts));
+	}
+	
+	@Test public void doesNotAlias() {
+		int[] cumulativeCount = { 1, 2 };
+		DecodeTable table = new DecodeTable(cumulativeCount);
+		cumulativeCount[0] = 0;
+		
+		assertThat(table.getSymbol(0), is(equalTo(0)));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void empty() {
+		new DecodeTable();
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void zeroTotal() {
+		new DecodeTable(0, 0);
+	}
+}
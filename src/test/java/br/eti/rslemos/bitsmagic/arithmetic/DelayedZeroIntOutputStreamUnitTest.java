@@ -27,6 +27,7 @@
  *******************************************************************************/
 package br.eti.rslemos.bitsmagic.arithmetic;
 
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -39,15 +40,17 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+import br.eti.rslemos.bitsmagic.stream.RunIntOutputStream;
 
 public class DelayedZeroIntOutputStreamUnitTest {
-	private IntOutputStream sink;
+	private RunIntOutputStream sink;
 	private DelayedZeroIntOutputStream delayedZeroSink;
 
 	@Before public void setup() {
-		sink = mock(IntOutputStream.class);
+		sink = mock(RunIntOutputStream.class);
 		delayedZeroSink = new DelayedZeroIntOutputStream(sink);
 	}
 	
@@ -88,7 +91,42 @@ public class DelayedZeroIntOutputStreamUnitTest {
 			delayedZeroSink.writeInt(0);
 		delayedZeroSink.writeInt(1);
 		
-		verify(sink, times(n)).writeInt(0);
+		if (n > 0)
+			verify(sink).writeRun(0, n);
 		verify(sink).writeInt(1);
 	}
+	
+	@Test public void delayRunOfZeros() throws IOException {
+		delayedZeroSink.writeInt(0);
+		delayedZeroSink.writeRun(0, 1L << 40);
+		delayedZeroSink.writeRun(0, 0);
+		delayedZeroSink.writeRun(3, 5);
+		
+		verify(sink).writeRun(0, (1L << 40) + 1);
+		verify(sink).writeRun(3, 5);
+	}
+	
+	@Test public void swallowRunOfZeros() throws IOException {
+		delayedZeroSink.writeRun(0, 1L << 40);
+		verify(sink, never()).writeRun(0, 1L << 40);
+	}
+	
+	@Test public void runOfZerosOverPlainStream() throws IOException {
+		IntOutputStream plain = mock(IntOutputStream.class);
+		DelayedZeroIntOutputStream subject = new DelayedZeroIntOutputStream(plain);
+		
+		subject.writeRun(0, 3);
+		subject.writeRun(5, 2);
+		
+		InOrder inOrder = inOrder(plain);
+		inOrder.verify(plain, times(3)).writeInt(0);
+		inOrder.verify(plain, times(2)).writeInt(5);
+		verifyNoMoreInteractions(plain);
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void tooManyZeros() throws IOException {
+		delayedZeroSink.writeRun(0, Long.MAX_VALUE);
+		delayedZeroSink.writeInt(0);
+	}
 }
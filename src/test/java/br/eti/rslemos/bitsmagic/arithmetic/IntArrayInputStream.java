@@ -29,9 +29,9 @@ package br.eti.rslemos.bitsmagic.arithmetic;
 
 import java.io.EOFException;
 
-import br.eti.rslemos.bitsmagic.stream.IntInputStream;
+import br.eti.rslemos.bitsmagic.stream.AbstractIntInputStream;
 
-class IntArrayInputStream implements IntInputStream {
+class IntArrayInputStream extends AbstractIntInputStream {
 	private final int[] symbols;
 	private int i;
 	
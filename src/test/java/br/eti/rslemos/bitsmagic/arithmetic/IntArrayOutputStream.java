@@ -30,9 +30,9 @@ package br.eti.rslemos.bitsmagic.arithmetic;
 import java.io.IOException;
 import java.util.Arrays;
 
-import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+import br.eti.rslemos.bitsmagic.stream.AbstractIntOutputStream;
 
-class IntArrayOutputStream implements IntOutputStream {
+class IntArrayOutputStream extends AbstractIntOutputStream {
 
 	private final int[] symbols;
 	private int i;
@@ -30,9 +30,9 @@ package br.eti.rslemos.bitsmagic.arithmetic;
 import java.util.ArrayList;
 import java.util.List;
 
-import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+import br.eti.rslemos.bitsmagic.stream.AbstractIntOutputStream;
 
-class IntegerListOutputStream implements IntOutputStream {
+class IntegerListOutputStream extends AbstractIntOutputStream {
 	public final List<Integer> symbols = new ArrayList<>();
 
 	@Override public void writeInt(int symbol) { symbols.add(symbol); }
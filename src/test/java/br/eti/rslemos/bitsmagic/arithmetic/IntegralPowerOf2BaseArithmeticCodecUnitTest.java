@@ -50,6 +50,9 @@ import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
 
 @RunWith(Enclosed.class)
 public class IntegralPowerOf2BaseArithmeticCodecUnitTest {
+	public static class Adaptive extends ArithmeticCodecUnitTest.Adaptive { public Adaptive() { super(FACTORY, 16); } }
+	public static class Interleaved extends ArithmeticCodecUnitTest.Interleaved { public Interleaved() { super(FACTORY, 16); } }
+
 	@RunWith(Enclosed.class)
 	public static class Roundtrip {
 		@RunWith(Enclosed.class)
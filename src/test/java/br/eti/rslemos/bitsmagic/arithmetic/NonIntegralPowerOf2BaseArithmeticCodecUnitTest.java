@@ -48,6 +48,8 @@ import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
 public class NonIntegralPowerOf2BaseArithmeticCodecUnitTest {
 	public static class LiteratureCases extends ArithmeticCodecUnitTest.LiteratureCases { public LiteratureCases() { super(FACTORY); } }
 	public static class Permutation extends ArithmeticCodecUnitTest.Permutation { public Permutation() { super(FACTORY); } }
+	public static class Adaptive extends ArithmeticCodecUnitTest.Adaptive { public Adaptive() { super(FACTORY, 10); } }
+	public static class Interleaved extends ArithmeticCodecUnitTest.Interleaved { public Interleaved() { super(FACTORY, 10); } }
 	
 	@RunWith(Enclosed.class)
 	public static class Roundtrip {
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+import static br.eti.rslemos.bitsmagic.arithmetic.Distribution.toCumulative;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import br.eti.rslemos.bitsmagic.arithmetic.ArithmeticCodec.Decoder;
+import br.eti.rslemos.bitsmagic.arithmetic.ArithmeticCodec.Encoder;
+import br.eti.rslemos.bitsmagic.stream.IntInputStream;
+import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+
+@RunWith(Enclosed.class)
+public class RansCodecUnitTest {
+	public static class Adaptive extends ArithmeticCodecUnitTest.Adaptive { public Adaptive() { super(FACTORY, 256); } }
+	public static class Interleaved extends ArithmeticCodecUnitTest.Interleaved { public Interleaved() { super(FACTORY, 256); } }
+	
+	public static class Cases {
+		private static int[] random(int n, int[] cumulativeCount, long seed) {
+			Random random = new Random(seed);
+			int[] input = new int[n];
+			for (int i = 0; i < n; i++)
+				input[i] = DecodeTable.search(cumulativeCount, random.nextInt(cumulativeCount[cumulativeCount.length - 1]), 0, cumulativeCount.length - 1);
+			
+			return input;
+		}
+		
+		private static int[] encode(int[] input, int[] cumulativeCount) throws IOException {
+			IntegerListOutputStream sink = new IntegerListOutputStream();
+			Encoder encoder = new RansCodec.Encoder(sink);
+			for (int symbol : input)
+				encoder.write(symbol, cumulativeCount);
+			encoder.flush();
+			
+			return sink.toIntArray();
+		}
+		
+		private static int[] decode(int[] encoded, int n, int[] cumulativeCount) throws IOException {
+			Decoder decoder = new RansCodec.Decoder(new IntArrayInputStream(encoded));
+			int[] output = new int[n];
+			for (int i = 0; i < n; i++)
+				output[i] = decoder.read(cumulativeCount);
+			
+			return output;
+		}
+		
+		@Test public void empty() throws IOException {
+			int[] cumulativeCount = toCumulative(3, 5);
+			
+			assertThat(decode(encode(new int[0], cumulativeCount), 0, cumulativeCount), is(equalTo(new int[0])));
+		}
+		
+		@Test public void singleSymbol() throws IOException {
+			int[] cumulativeCount = toCumulative(0, 7, 0);
+			int[] input = new int[1000];
+			Arrays.fill(input, 1);
+			
+			assertThat(decode(encode(input, cumulativeCount), input.length, cumulativeCount), is(equalTo(input)));
+		}
+		
+		@Test public void nonPowerOf2Total() throws IOException {
+			int[] cumulativeCount = toCumulative(10, 21, 27, 42);
+			int[] input = random(10000, cumulativeCount, 0);
+			
+			assertThat(decode(encode(input, cumulativeCount), input.length, cumulativeCount), is(equalTo(input)));
+		}
+		
+		@Test public void compresses() throws IOException {
+			// 1/2, 1/4, 1/8, 1/8: 1.75 bits per symbol
+			int[] cumulativeCount = toCumulative(4, 2, 1, 1);
+			int[] input = random(80000, cumulativeCount, 1);
+			
+			int[] encoded = encode(input, cumulativeCount);
+			assertThat(encoded.length < 80000 * 1.76 / 8, is(true));
+			assertThat(decode(encoded, input.length, cumulativeCount), is(equalTo(input)));
+		}
+		
+		@Test public void byteBuffer() throws IOException {
+			int[] cumulativeCount = toCumulative(100, 1, 30, 2, 900);
+			int[] input = random(5000, cumulativeCount, 2);
+			int[] expected = encode(input, cumulativeCount);
+			
+			ByteBuffer sink = ByteBuffer.allocate(8192);
+			Encoder encoder = new RansCodec.Encoder(sink);
+			for (int symbol : input)
+				encoder.write(symbol, cumulativeCount);
+			encoder.flush();
+			
+			// same bytes as through an int stream
+			int[] actual = new int[sink.position()];
+			for (int i = 0; i < actual.length; i++)
+				actual[i] = sink.get(i) & 0xFF;
+			assertThat(actual, is(equalTo(expected)));
+			
+			sink.flip();
+			Decoder decoder = new RansCodec.Decoder(sink);
+			for (int i = 0; i < input.length; i++)
+				assertThat("symbol " + i, decoder.read(cumulativeCount), is(equalTo(input[i])));
+		}
+		
+		@Test(expected = IllegalArgumentException.class)
+		public void unexpectedSymbol() throws IOException {
+			new RansCodec.Encoder(new IntegerListOutputStream()).write(1, 3, 3, 5);
+		}
+		
+		@Test public void largeTotals() throws IOException {
+			for (int[] cumulativeCount : new int[][] {
+					toCumulative(1, (1 << 30) - 2, 1),
+					toCumulative(1, 3, Integer.MAX_VALUE - 5, 1),
+					toCumulative(1 << 28, 1 << 28, 1 << 28, (1 << 28) + 12345)
+				}) {
+				int[] input = new int[3000];
+				for (int i = 0; i < input.length; i++)
+					input[i] = i % cumulativeCount.length;
+				
+				assertThat(decode(encode(input, cumulativeCount), input.length, cumulativeCount), is(equalTo(input)));
+			}
+		}
+		
+		@Test public void adaptiveModelDefaultLimit() throws IOException {
+			// totals well over 2^16
+			Random random = new Random(3);
+			int[] input = new int[20000];
+			for (int i = 0; i < input.length; i++)
+				input[i] = random.nextInt(1 + random.nextInt(256));
+			
+			IntegerListOutputStream sink = new IntegerListOutputStream();
+			Encoder encoder = new RansCodec.Encoder(sink);
+			FrequencyModel model = new AdaptiveFrequencyModel(256);
+			for (int symbol : input)
+				encoder.write(symbol, model);
+			encoder.flush();
+			
+			assertThat(model.total() > 1 << 16, is(true));
+			
+			Decoder decoder = new RansCodec.Decoder(new IntArrayInputStream(sink.toIntArray()));
+			model = new AdaptiveFrequencyModel(256);
+			for (int i = 0; i < input.length; i++)
+				assertThat("symbol " + i, decoder.read(model), is(equalTo(input[i])));
+		}
+		
+		@Test(expected = IllegalArgumentException.class)
+		public void totalOutOfRange() throws IOException {
+			new RansCodec.Encoder(new IntegerListOutputStream()).write(1, -3, -1);
+		}
+		
+		@Test public void scale() {
+			for (int total : new int[] { 1, 2, 3, 100, 1 << 12, 60000, 1 << 16 })
+				for (int count = 0; count <= total; count++)
+					assertThat(RansCodec.scale(count, total), is(equalTo(((long) count << 31) / total)));
+			
+			for (int total : new int[] { 1 << 30, (1 << 30) + 1, Integer.MAX_VALUE })
+				for (int count : new int[] { 0, 1, total / 3, total - 1, total })
+					assertThat(RansCodec.scale(count, total), is(equalTo(((long) count << 31) / total)));
+		}
+	}
+	
+	private static final ArithmeticCodecFactory FACTORY = new ArithmeticCodecFactory() {
+		@Override public void isValidBase(int base) { assumeThat(base, is(equalTo(256))); }
+		
+		@Override public Encoder encoder(IntOutputStream sink, int outbase) {
+			isValidBase(outbase);
+			return new RansCodec.Encoder(sink);
+		}
+
+		@Override public Decoder decoder(IntInputStream source, int inbase) throws IOException {
+			isValidBase(inbase);
+			return new RansCodec.Decoder(source);
+		}
+	};
+}
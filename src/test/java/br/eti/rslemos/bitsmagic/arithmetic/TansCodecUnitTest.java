@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.arithmetic;
+
+import static br.eti.rslemos.bitsmagic.arithmetic.Distribution.toCumulative;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import br.eti.rslemos.bitsmagic.arithmetic.ArithmeticCodec.Decoder;
+import br.eti.rslemos.bitsmagic.arithmetic.ArithmeticCodec.Encoder;
+import br.eti.rslemos.bitsmagic.stream.IntInputStream;
+import br.eti.rslemos.bitsmagic.stream.IntOutputStream;
+
+@RunWith(Enclosed.class)
+public class TansCodecUnitTest {
+	public static class Interleaved extends ArithmeticCodecUnitTest.Interleaved { public Interleaved() { super(FACTORY, 256); } }
+	
+	public static class Cases {
+		private static int[] random(int n, int[] cumulativeCount, long seed) {
+			Random random = new Random(seed);
+			int[] input = new int[n];
+			for (int i = 0; i < n; i++)
+				input[i] = DecodeTable.search(cumulativeCount, random.nextInt(cumulativeCount[cumulativeCount.length - 1]), 0, cumulativeCount.length - 1);
+			
+			return input;
+		}
+		
+		private static int[] encode(int[] input, int[] cumulativeCount) throws IOException {
+			IntegerListOutputStream sink = new IntegerListOutputStream();
+			Encoder encoder = new TansCodec.Encoder(sink);
+			for (int symbol : input)
+				encoder.write(symbol, cumulativeCount);
+			encoder.flush();
+			
+			return sink.toIntArray();
+		}
+		
+		private static int[] decode(int[] encoded, int n, int[] cumulativeCount) throws IOException {
+			Decoder decoder = new TansCodec.Decoder(new IntArrayInputStream(encoded));
+			int[] output = new int[n];
+			for (int i = 0; i < n; i++)
+				output[i] = decoder.read(cumulativeCount);
+			
+			return output;
+		}
+		
+		@Test public void empty() throws IOException {
+			int[] cumulativeCount = toCumulative(3, 5);
+			
+			assertThat(decode(encode(new int[0], cumulativeCount), 0, cumulativeCount), is(equalTo(new int[0])));
+		}
+		
+		@Test public void singleSymbol() throws IOException {
+			int[] cumulativeCount = toCumulative(0, 7, 0);
+			int[] input = new int[1000];
+			Arrays.fill(input, 1);
+			
+			assertThat(decode(encode(input, cumulativeCount), input.length, cumulativeCount), is(equalTo(input)));
+		}
+		
+		@Test public void nonPowerOf2Total() throws IOException {
+			int[] cumulativeCount = toCumulative(10, 21, 27, 42);
+			int[] input = random(10000, cumulativeCount, 0);
+			
+			assertThat(decode(encode(input, cumulativeCount), input.length, cumulativeCount), is(equalTo(input)));
+		}
+		
+		@Test public void compresses() throws IOException {
+			// 1/2, 1/4, 1/8, 1/8: 1.75 bits per symbol
+			int[] cumulativeCount = toCumulative(4, 2, 1, 1);
+			int[] input = random(80000, cumulativeCount, 1);
+			
+			int[] encoded = encode(input, cumulativeCount);
+			assertThat(encoded.length < 80000 * 1.76 / 8, is(true));
+			assertThat(decode(encoded, input.length, cumulativeCount), is(equalTo(input)));
+		}
+		
+		@Test public void byteBuffer() throws IOException {
+			int[] cumulativeCount = toCumulative(100, 1, 30, 2, 900);
+			int[] input = random(5000, cumulativeCount, 2);
+			int[] expected = encode(input, cumulativeCount);
+			
+			ByteBuffer sink = ByteBuffer.allocate(8192);
+			Encoder encoder = new TansCodec.Encoder(sink);
+			for (int symbol : input)
+				encoder.write(symbol, cumulativeCount);
+			encoder.flush();
+			
+			// same bytes as through an int stream
+			int[] actual = new int[sink.position()];
+			for (int i = 0; i < actual.length; i++)
+				actual[i] = sink.get(i) & 0xFF;
+			assertThat(actual, is(equalTo(expected)));
+			
+			sink.flip();
+			Decoder decoder = new TansCodec.Decoder(sink);
+			for (int i = 0; i < input.length; i++)
+				assertThat("symbol " + i, decoder.read(cumulativeCount), is(equalTo(input[i])));
+		}
+		
+		@Test(expected = IllegalArgumentException.class)
+		public void unexpectedSymbol() throws IOException {
+			new TansCodec.Encoder(new IntegerListOutputStream()).write(1, 3, 3, 5);
+		}
+		
+		@Test(expected = IllegalArgumentException.class)
+		public void alphabetTooLarge() throws IOException {
+			new TansCodec.Encoder(new IntegerListOutputStream()).write(0, toCumulative(Distribution.even(1 << 20)));
+		}
+		
+		@Test(expected = UnsupportedOperationException.class)
+		public void adaptiveModelEncode() throws IOException {
+			new TansCodec.Encoder(new IntegerListOutputStream()).write(0, new AdaptiveFrequencyModel(4));
+		}
+		
+		@Test(expected = UnsupportedOperationException.class)
+		public void adaptiveModelDecode() throws IOException {
+			new TansCodec.Decoder(new IntArrayInputStream(new int[0])).read(new AdaptiveFrequencyModel(4));
+		}
+		
+		@Test public void decodeTableModel() throws IOException {
+			DecodeTable table = new DecodeTable(toCumulative(5, 0, 9, 2));
+			int[] input = random(3000, table.cumulativeCount, 4);
+			
+			IntegerListOutputStream sink = new IntegerListOutputStream();
+			Encoder encoder = new TansCodec.Encoder(sink);
+			for (int symbol : input)
+				encoder.write(symbol, table);
+			encoder.flush();
+			
+			assertThat(sink.toIntArray(), is(equalTo(encode(input, table.cumulativeCount))));
+			assertThat(decode(sink.toIntArray(), input.length, table.cumulativeCount), is(equalTo(input)));
+		}
+		
+		@Test public void normalization() {
+			Random random = new Random(3);
+			for (int symbols : new int[] { 1, 2, 5, 1000, 5000 }) {
+				int[] counts = new int[symbols];
+				for (int i = 0; i < symbols; i++)
+					// mostly very improbable symbols, and a few unexpected ones
+					counts[i] = random.nextInt(10) == 0 ? 0 : random.nextInt(4) == 0 ? random.nextInt(1 << 20) : 1;
+				counts[0]++;
+				
+				TansCodec.Table table = new TansCodec.Table(toCumulative(counts));
+				
+				int sum = 0;
+				for (int i = 0; i < symbols; i++) {
+					assertThat("symbol " + i, table.norm[i] > 0, is(counts[i] > 0));
+					sum += table.norm[i];
+				}
+				
+				assertThat(sum, is(equalTo(1 << table.tableLog)));
+			}
+		}
+	}
+	
+	private static final ArithmeticCodecFactory FACTORY = new ArithmeticCodecFactory() {
+		@Override public void isValidBase(int base) { assumeThat(base, is(equalTo(256))); }
+		
+		@Override public Encoder encoder(IntOutputStream sink, int outbase) {
+			isValidBase(outbase);
+			return new TansCodec.Encoder(sink);
+		}
+
+		@Override public Decoder decoder(IntInputStream source, int inbase) throws IOException {
+			isValidBase(inbase);
+			return new TansCodec.Decoder(source);
+		}
+	};
+}
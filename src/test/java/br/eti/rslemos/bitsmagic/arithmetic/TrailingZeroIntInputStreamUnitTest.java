@@ -41,6 +41,8 @@ import java.io.IOException;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import br.eti.rslemos.bitsmagic.stream.IntInputStream;
 
@@ -68,4 +70,27 @@ public class TrailingZeroIntInputStreamUnitTest {
 		assertThat(trailingZeroSource.readInt(), is(equalTo(0)));
 		verify(source).readInt();
 	}
-}
\ No newline at end of file
+
+	@Test public void readIntsPastEOF() throws IOException {
+		int[] dst = { -1, -1, -1, -1, -1 };
+		when(source.readInts(dst, 1, 3)).thenAnswer(new Answer<Integer>() {
+			@Override public Integer answer(InvocationOnMock invocation) {
+				((int[]) invocation.getArguments()[0])[1] = 7;
+				return 1;
+			}
+		});
+		
+		assertThat(trailingZeroSource.readInts(dst, 1, 3), is(equalTo(3)));
+		assertThat(dst, is(equalTo(new int[] { -1, 7, 0, 0, -1 })));
+		verify(source).readInts(dst, 1, 3);
+	}
+
+	@Test public void readIntsAtEOF() throws IOException {
+		int[] dst = { -1, -1, -1 };
+		when(source.readInts(dst, 0, 2)).thenThrow(new EOFException());
+		
+		assertThat(trailingZeroSource.readInts(dst, 0, 2), is(equalTo(2)));
+		assertThat(dst, is(equalTo(new int[] { 0, 0, -1 })));
+		verify(source).readInts(dst, 0, 2);
+	}
+}
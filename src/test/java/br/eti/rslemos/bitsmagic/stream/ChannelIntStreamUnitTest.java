@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ChannelIntStreamUnitTest {
+	private static final int VALUES = 1000;
+	
+	private static int[] random(int width, long seed) {
+		Random random = new Random(seed);
+		int[] values = new int[VALUES];
+		for (int i = 0; i < values.length; i++)
+			values[i] = random.nextInt() & (int) ~(-1L << width);
+		
+		return values;
+	}
+	
+	// the same values, as written by ByteArrayIntStream
+	private static byte[] expected(int width, int[] values) throws IOException {
+		byte[] bytes = new byte[(values.length * width + Byte.SIZE - 1) / Byte.SIZE];
+		new ByteArrayIntStream.Output(width, bytes).writeInts(values, 0, values.length);
+		return bytes;
+	}
+	
+	// hands out at most 3 bytes per read
+	private static InputStream trickle(byte[] bytes) {
+		return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+			@Override public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(len, 3));
+			}
+		};
+	}
+	
+	@Test public void write() throws IOException {
+		for (int width = 1; width <= 32; width++)
+			for (int capacity : new int[] { 8, 13, ChannelIntStream.DEFAULT_CAPACITY }) {
+				int[] values = random(width, width);
+				
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				ChannelIntStream.Output output = new ChannelIntStream.Output(width, Channels.newChannel(out), capacity);
+				output.writeInts(values, 0, 10);
+				for (int i = 10; i < values.length; i++)
+					output.writeInt(values[i]);
+				output.close();
+				
+				assertThat("width " + width + ", capacity " + capacity, out.toByteArray(), is(equalTo(expected(width, values))));
+			}
+	}
+	
+	@Test public void read() throws IOException {
+		for (int width = 1; width <= 32; width++)
+			for (int capacity : new int[] { 8, 13, ChannelIntStream.DEFAULT_CAPACITY }) {
+				int[] values = random(width, width);
+				
+				ChannelIntStream.Input input = new ChannelIntStream.Input(width, Channels.newChannel(trickle(expected(width, values))), capacity);
+				int[] actual = new int[values.length + 10];
+				assertThat(input.readInts(actual, 0, 10), is(equalTo(10)));
+				for (int i = 10; i < values.length - 10; i++)
+					actual[i] = input.readInt();
+				assertThat(input.readInts(actual, values.length - 10, 20), is(equalTo(10)));
+				input.close();
+				
+				assertThat("width " + width + ", capacity " + capacity, Arrays.copyOf(actual, values.length), is(equalTo(values)));
+			}
+	}
+	
+	@Test(expected = EOFException.class)
+	public void readPast() throws IOException {
+		// 3 values of 5 bits, padded with a single 0 bit
+		IntInputStream input = new ChannelIntStream.Input(5, new ByteArrayInputStream(new byte[] { (byte) 0xFF, 0x7F }));
+		
+		assertThat(input.readInt(), is(equalTo(0b11111)));
+		assertThat(input.readInt(), is(equalTo(0b11111)));
+		assertThat(input.readInt(), is(equalTo(0b11111)));
+		input.readInt();
+	}
+	
+	@Test public void flush() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ChannelIntStream.Output output = new ChannelIntStream.Output(12, out);
+		
+		output.writeInt(0xABC);
+		output.flush();
+		assertThat(out.toByteArray(), is(equalTo(new byte[] { (byte) 0xBC })));
+		
+		output.writeInt(0xDEF);
+		output.flush();
+		assertThat(out.toByteArray(), is(equalTo(new byte[] { (byte) 0xBC, (byte) 0xFA, (byte) 0xDE })));
+		
+		output.writeInt(0x123);
+		output.close();
+		assertThat(out.toByteArray(), is(equalTo(new byte[] { (byte) 0xBC, (byte) 0xFA, (byte) 0xDE, 0x23, 0x01 })));
+	}
+	
+	@Test public void flushThroughBufferedStream() throws IOException {
+		int[] values = Arrays.copyOf(random(8, 8), 100);
+		
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ChannelIntStream.Output output = new ChannelIntStream.Output(8, new BufferedOutputStream(out));
+		
+		output.writeInts(values, 0, values.length);
+		output.flush();
+		assertThat(out.toByteArray(), is(equalTo(expected(8, values))));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void tooWide() {
+		new ChannelIntStream.Output(33, new ByteArrayOutputStream());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void tooSmall() {
+		new ChannelIntStream.Input(8, Channels.newChannel(new ByteArrayInputStream(new byte[0])), 7);
+	}
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic.stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class GrowableIntOutputStreamUnitTest {
+	private static final int VALUES = 1000;
+	
+	private static int[] random(long seed) {
+		Random random = new Random(seed);
+		int[] values = new int[VALUES];
+		for (int i = 0; i < values.length; i++)
+			values[i] = random.nextInt();
+		
+		return values;
+	}
+	
+	private static void write(GrowableIntOutputStream output, int[] values, int n) {
+		// mix single and bulk writes
+		output.writeInts(values, 0, 10);
+		for (int i = 10; i < n / 2; i++)
+			output.writeInt(values[i]);
+		output.writeInts(values, n / 2, n - n / 2);
+	}
+	
+	@Test public void sameAsArrayStreams() throws IOException {
+		for (int width = 1; width <= 32; width++)
+			for (int capacity : new int[] { 0, 1, GrowableIntOutputStream.DEFAULT_CAPACITY }) {
+				int[] values = random(width);
+				
+				GrowableIntOutputStream output = new GrowableIntOutputStream(width, capacity);
+				write(output, values, values.length);
+				
+				long[] longs = new long[(VALUES * width + Long.SIZE - 1) / Long.SIZE];
+				new LongArrayIntStream.Output(width, longs).writeInts(values, 0, VALUES);
+				byte[] bytes = new byte[(VALUES * width + Byte.SIZE - 1) / Byte.SIZE];
+				new ByteArrayIntStream.Output(width, bytes).writeInts(values, 0, VALUES);
+				
+				String reason = "width " + width + ", capacity " + capacity;
+				assertThat(reason, output.bitLength(), is(equalTo((long) VALUES * width)));
+				assertThat(reason, output.toLongArray(), is(equalTo(longs)));
+				assertThat(reason, output.toByteArray(), is(equalTo(bytes)));
+			}
+	}
+	
+	@Test public void partialByte() {
+		GrowableIntOutputStream output = new GrowableIntOutputStream(3);
+		output.writeInt(0b101);
+		output.writeInt(-1);
+		output.writeInt(0b010);
+		
+		assertThat(output.bitLength(), is(equalTo(9L)));
+		assertThat(output.toByteArray(), is(equalTo(new byte[] { (byte) 0b10111101, 0b0 })));
+		assertThat(output.toLongArray(), is(equalTo(new long[] { 0b010111101L })));
+	}
+	
+	@Test public void empty() {
+		GrowableIntOutputStream output = new GrowableIntOutputStream(7, 0);
+		
+		assertThat(output.bitLength(), is(equalTo(0L)));
+		assertThat(output.toByteArray(), is(equalTo(new byte[0])));
+		assertThat(output.toLongArray(), is(equalTo(new long[0])));
+	}
+	
+	@Test public void reset() {
+		int[] values = random(0);
+		
+		GrowableIntOutputStream expected = new GrowableIntOutputStream(13);
+		write(expected, values, 100);
+		
+		GrowableIntOutputStream output = new GrowableIntOutputStream(13);
+		write(output, random(1), VALUES);
+		output.reset();
+		assertThat(output.bitLength(), is(equalTo(0L)));
+		
+		write(output, values, 100);
+		assertThat(output.bitLength(), is(equalTo(1300L)));
+		assertThat(output.toLongArray(), is(equalTo(expected.toLongArray())));
+		assertThat(output.toByteArray(), is(equalTo(expected.toByteArray())));
+	}
+	
+	@Test public void writeRun() {
+		for (int width = 1; width <= 32; width++)
+			for (int v : new int[] { 0, -1, 0x5555AAAA, width * 0x9E3779B9 }) {
+				int[] values = random(width);
+				
+				GrowableIntOutputStream expected = new GrowableIntOutputStream(width);
+				write(expected, values, 17);
+				for (int i = 0; i < 300; i++)
+					expected.writeInt(v);
+				expected.writeInt(values[17]);
+				
+				// over stale bits, from a mid word position
+				GrowableIntOutputStream output = new GrowableIntOutputStream(width, 1);
+				write(output, random(~width), VALUES);
+				output.reset();
+				write(output, values, 17);
+				output.writeRun(v, 0);
+				output.writeRun(v, 1);
+				output.writeRun(v, 299);
+				output.writeInt(values[17]);
+				
+				String reason = "width " + width + ", v " + v;
+				assertThat(reason, output.bitLength(), is(equalTo(expected.bitLength())));
+				assertThat(reason, output.toLongArray(), is(equalTo(expected.toLongArray())));
+			}
+	}
+	
+	@Test public void writeRunGrows() throws IOException {
+		GrowableIntOutputStream output = new GrowableIntOutputStream(3, 0);
+		output.writeRun(0b101, 1000);
+		
+		assertThat(output.bitLength(), is(equalTo(3000L)));
+		
+		byte[] expected = new byte[375];
+		new ByteArrayIntStream.Output(3, expected).writeRun(0b101, 1000);
+		assertThat(output.toByteArray(), is(equalTo(expected)));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void writeRunNegative() {
+		new GrowableIntOutputStream(8).writeRun(0, -1);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void tooWide() {
+		new GrowableIntOutputStream(33);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeCapacity() {
+		new GrowableIntOutputStream(8, -1);
+	}
+}
@@ -33,6 +33,8 @@ import static org.junit.Assert.assertThat;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -46,6 +48,16 @@ public class IntStreamUnitTest {
 	protected abstract static class Fixture<T> implements StorageBuilder<T> {
 		//                         3210987654321098765432109876543210987654321098765432109876543210
 		public T subject = build(0b0011001100110110100000001000000100000100001000100010010010101010L);
+		
+		// 1280 bits, enough for bulk methods to go beyond their head and tail
+		T random(long seed) {
+			Random random = new Random(seed);
+			long[] words = new long[20];
+			for (int i = 0; i < words.length; i++)
+				words[i] = random.nextLong();
+			
+			return build(words);
+		}
 	}
 	
 	@Ignore
@@ -283,6 +295,52 @@ public class IntStreamUnitTest {
 				read(40, 0, 0, 0);
 			}
 			
+			@Test public void readInts() throws IOException {
+				T data = random(0);
+				
+				for (int width = 1; width <= 32; width++)
+					for (int from : new int[] { 0, 3, 64, 5 * width, 100 }) {
+						int to = 1280 - 5;
+						int n = ((to - from) + (width - 1)) / width;
+						
+						IntInputStream one = build(width, data, from, to);
+						int[] expected = new int[n];
+						for (int i = 0; i < n; i++)
+							expected[i] = one.readInt();
+						
+						IntInputStream bulk = build(width, data, from, to);
+						int[] actual = new int[n + 2];
+						assertThat(bulk.readInts(actual, 1, 7), is(equalTo(Math.min(7, n))));
+						assertThat(bulk.readInts(actual, 8, n + 1 - 8), is(equalTo(n - 7)));
+						
+						assertThat("width " + width + ", from " + from, Arrays.copyOfRange(actual, 1, n + 1), is(equalTo(expected)));
+						assertThat(actual[0], is(equalTo(0)));
+						assertThat(actual[n + 1], is(equalTo(0)));
+					}
+			}
+			
+			@Test public void readInts_short() throws IOException {
+				input = build(8, subject, 8, 60);
+				
+				int[] actual = new int[10];
+				assertThat(input.readInts(actual, 0, 10), is(equalTo(7)));
+				assertThat(actual, is(equalTo(new int[] { 0b00100100, 0b00100010, 0b00000100, 0b10000001, 0b10000000, 0b00110110, 0b0011, 0, 0, 0 })));
+			}
+			
+			@Test public void readInts_none() throws IOException {
+				input = build(8, subject, 8, 60);
+				
+				assertThat(input.readInts(new int[10], 0, 0), is(equalTo(0)));
+			}
+			
+			@Test(expected = EOFException.class)
+			public void readIntsPast() throws IOException {
+				input = build(8, subject, 8, 60);
+				
+				input.readInts(new int[10], 0, 7);
+				input.readInts(new int[10], 0, 1);
+			}
+			
 			private int[] read(int width, int from, int to) throws IOException {
 				int n = ((to - from) + (width - 1)) / width;
 				return read(width, from, to, Math.max(0, n));
@@ -675,6 +733,97 @@ public class IntStreamUnitTest {
 				write(40, 0, 0, 0);
 			}
 			
+			@Test public void writeInts() throws IOException {
+				Random random = new Random(1);
+				int[] write = new int[1300];
+				for (int i = 0; i < write.length; i++)
+					write[i] = random.nextInt();
+				
+				for (int width = 1; width <= 32; width++)
+					for (int from : new int[] { 0, 3, 64, 5 * width, 100 }) {
+						int to = 1280 - 5;
+						int n = (to - from) / width;
+						
+						T expected = random(width);
+						IntOutputStream one = build(width, expected, from, to);
+						for (int i = 0; i < n; i++)
+							one.writeInt(write[i + 1]);
+						
+						T actual = random(width);
+						IntOutputStream bulk = build(width, actual, from, to);
+						bulk.writeInts(write, 1, Math.min(7, n));
+						bulk.writeInts(write, 1 + Math.min(7, n), n - Math.min(7, n));
+						
+						assertThat("width " + width + ", from " + from, actual, is(equalTo(expected)));
+					}
+			}
+			
+			@Test public void writeInts_short() throws IOException {
+				T expected = build(0b0011001100110110100000001000000100000100001000100010010010101010L);
+				IntOutputStream one = build(8, expected, 8, 60);
+				for (int i = 0; i < 7; i++)
+					one.writeInt(-1);
+				
+				IntOutputStream bulk = build(8, subject, 8, 60);
+				bulk.writeInts(new int[] { -1, -1, -1, -1, -1, -1, -1 }, 0, 7);
+				
+				assertThat(subject, is(equalTo(expected)));
+			}
+			
+			@Test(expected = EOFException.class)
+			public void writeIntsPast() throws IOException {
+				build(8, subject, 8, 60).writeInts(new int[8], 0, 8);
+			}
+			
+			@Test public void writeRun() throws IOException {
+				Random random = new Random(2);
+				
+				for (int width = 1; width <= 32; width++)
+					for (int v : new int[] { 0, -1, random.nextInt(), 0x5555AAAA })
+						for (int from : new int[] { 0, 3, 64, 5 * width, 100 }) {
+							int to = 1280 - 5;
+							int n = (to - from) / width;
+							
+							T expected = random(width);
+							IntOutputStream one = build(width, expected, from, to);
+							one.writeInt(7);
+							for (int i = 2; i < n; i++)
+								one.writeInt(v);
+							one.writeInt(9);
+							
+							T actual = random(width);
+							RunIntOutputStream run = build(width, actual, from, to);
+							run.writeInt(7);
+							run.writeRun(v, 0);
+							run.writeRun(v, Math.min(5, n - 2));
+							run.writeRun(v, n - 2 - Math.min(5, n - 2));
+							run.writeInt(9);
+							
+							assertThat("width " + width + ", v " + v + ", from " + from, actual, is(equalTo(expected)));
+						}
+			}
+			
+			@Test public void writeRun_short() throws IOException {
+				T expected = build(0b0011001100110110100000001000000100000100001000100010010010101010L);
+				IntOutputStream one = build(8, expected, 8, 60);
+				for (int i = 0; i < 7; i++)
+					one.writeInt(0x5A);
+				
+				build(8, subject, 8, 60).writeRun(0x5A, 7);
+				
+				assertThat(subject, is(equalTo(expected)));
+			}
+			
+			@Test(expected = EOFException.class)
+			public void writeRunPast() throws IOException {
+				build(8, subject, 8, 60).writeRun(0, 8);
+			}
+			
+			@Test(expected = IllegalArgumentException.class)
+			public void writeRunNegative() throws IOException {
+				build(8, subject, 8, 60).writeRun(0, -1);
+			}
+			
 			private void write(int width, int from, int to, int... write) throws IOException {
 				IntOutputStream output = build(width, subject, from, to);
 				
@@ -682,7 +831,7 @@ public class IntStreamUnitTest {
 					output.writeInt(w);
 			}
 	
-			abstract IntOutputStream build(int width, T subject, int from, int to);
+			abstract RunIntOutputStream build(int width, T subject, int from, int to);
 		}
 	}
 	
@@ -694,7 +843,7 @@ public class IntStreamUnitTest {
 		}
 		
 		public static class Write extends Cases.Write<byte[]> {
-			@Override IntOutputStream build(int width, byte[] subject, int from, int to) { return new ByteArrayIntStream.Output(width, subject, from, to); }
+			@Override RunIntOutputStream build(int width, byte[] subject, int from, int to) { return new ByteArrayIntStream.Output(width, subject, from, to); }
 			@Override public byte[] build(long... d) { return ByteArrayBuilder.build0(d); }
 		}
 	}
@@ -707,7 +856,7 @@ public class IntStreamUnitTest {
 		}
 		
 		public static class Write extends Cases.Write<char[]> {
-			@Override IntOutputStream build(int width, char[] subject, int from, int to) { return new CharArrayIntStream.Output(width, subject, from, to); }
+			@Override RunIntOutputStream build(int width, char[] subject, int from, int to) { return new CharArrayIntStream.Output(width, subject, from, to); }
 			@Override public char[] build(long... d) { return CharArrayBuilder.build0(d); }
 		}
 	}
@@ -720,7 +869,7 @@ public class IntStreamUnitTest {
 		}
 		
 		public static class Write extends Cases.Write<short[]> {
-			@Override IntOutputStream build(int width, short[] subject, int from, int to) { return new ShortArrayIntStream.Output(width, subject, from, to); }
+			@Override RunIntOutputStream build(int width, short[] subject, int from, int to) { return new ShortArrayIntStream.Output(width, subject, from, to); }
 			@Override public short[] build(long... d) { return ShortArrayBuilder.build0(d); }
 		}
 	}
@@ -733,7 +882,7 @@ public class IntStreamUnitTest {
 		}
 		
 		public static class Write extends Cases.Write<int[]> {
-			@Override IntOutputStream build(int width, int[] subject, int from, int to) { return new IntArrayIntStream.Output(width, subject, from, to); }
+			@Override RunIntOutputStream build(int width, int[] subject, int from, int to) { return new IntArrayIntStream.Output(width, subject, from, to); }
 			@Override public int[] build(long... d) { return IntArrayBuilder.build0(d); }
 		}
 	}
@@ -746,7 +895,7 @@ public class IntStreamUnitTest {
 		}
 		
 		public static class Write extends Cases.Write<long[]> {
-			@Override IntOutputStream build(int width, long[] subject, int from, int to) { return new LongArrayIntStream.Output(width, subject, from, to); }
+			@Override RunIntOutputStream build(int width, long[] subject, int from, int to) { return new LongArrayIntStream.Output(width, subject, from, to); }
 			@Override public long[] build(long... d) { return LongArrayBuilder.build0(d); }
 		}
 	}
@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import br.eti.rslemos.bitsmagic.StorageBuilder.ByteArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.CharArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.IntArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.LongArrayBuilder;
+import br.eti.rslemos.bitsmagic.StorageBuilder.ShortArrayBuilder;
+
+public class SimdUnitTest {
+	// enough words for several whole vectors plus a scalar remainder, whatever the vector width
+	private static final int WORDS = 67;
+	private static final int SIZE = WORDS * Long.SIZE;
+	
+	// parallel path only: both offsets share the same misalignment
+	private static final int[] POSITIONS = { 0, 3, 64, 67, 520, 1027 };
+	private static final int[] LENGTHS = { 0, 64, 1000, 2048, 3000 };
+	
+	private static long[] random(long seed) {
+		Random random = new Random(seed);
+		
+		long[] words = new long[WORDS];
+		for (int k = 0; k < words.length; k++)
+			words[k] = random.nextLong();
+		
+		return words;
+	}
+	
+	private static final long[] SOURCE = random(0x5EEDL);
+	private static final long[] DEST = random(~0x5EEDL);
+	
+	// bit by bit, over long[] storages
+	private static long[] expected(long[] source, int srcPos, long[] dest, int destPos, int length) {
+		boolean[] bits = new boolean[length];
+		for (int i = 0; i < length; i++)
+			bits[i] = Store.readBit(source, srcPos + i);
+		
+		for (int i = 0; i < length; i++)
+			Store.writeBit(dest, destPos + i, Store.readBit(dest, destPos + i) ^ bits[i]);
+		
+		return dest;
+	}
+
+	private static int fits(int... positions) {
+		int max = 0;
+		for (int pos : positions)
+			max = Math.max(max, pos);
+		
+		return SIZE - max;
+	}
+
+	@Test
+	public void enabled() {
+		// surefire runs with --add-modules jdk.incubator.vector
+		assertThat(Simd.ENABLED, is(equalTo(true)));
+	}
+
+	private static long[] words(byte[] data) {
+		long[] result = new long[(int) (((long) data.length * Byte.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	@Test
+	public void byteXorFrom() {
+		for (int srcPos : POSITIONS)
+			for (int destPos : POSITIONS)
+				for (int length : LENGTHS) {
+					if (length > fits(srcPos, destPos) || (srcPos - destPos) % Byte.SIZE != 0)
+						continue;
+					
+					byte[] dest = ByteArrayBuilder.build0(DEST);
+					
+					Xor.xorFrom(ByteArrayBuilder.build0(SOURCE), srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(LongArrayBuilder.build0(SOURCE), srcPos, LongArrayBuilder.build0(DEST), destPos, length))));
+				}
+	}
+
+	@Test
+	public void byteXorFromSameArray() {
+		for (int srcPos : POSITIONS)
+			for (int destPos : POSITIONS)
+				for (int length : LENGTHS) {
+					if (length > fits(srcPos, destPos) || (srcPos - destPos) % Byte.SIZE != 0)
+						continue;
+					
+					byte[] subject = ByteArrayBuilder.build0(DEST);
+					long[] reference = LongArrayBuilder.build0(DEST);
+					
+					Xor.xorFrom(subject, srcPos, subject, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(subject), is(equalTo(expected(reference, srcPos, reference, destPos, length))));
+				}
+	}
+
+	private static long[] words(char[] data) {
+		long[] result = new long[(int) (((long) data.length * Character.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	@Test
+	public void charXorFrom() {
+		for (int srcPos : POSITIONS)
+			for (int destPos : POSITIONS)
+				for (int length : LENGTHS) {
+					if (length > fits(srcPos, destPos) || (srcPos - destPos) % Character.SIZE != 0)
+						continue;
+					
+					char[] dest = CharArrayBuilder.build0(DEST);
+					
+					Xor.xorFrom(CharArrayBuilder.build0(SOURCE), srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(LongArrayBuilder.build0(SOURCE), srcPos, LongArrayBuilder.build0(DEST), destPos, length))));
+				}
+	}
+
+	@Test
+	public void charXorFromSameArray() {
+		for (int srcPos : POSITIONS)
+			for (int destPos : POSITIONS)
+				for (int length : LENGTHS) {
+					if (length > fits(srcPos, destPos) || (srcPos - destPos) % Character.SIZE != 0)
+						continue;
+					
+					char[] subject = CharArrayBuilder.build0(DEST);
+					long[] reference = LongArrayBuilder.build0(DEST);
+					
+					Xor.xorFrom(subject, srcPos, subject, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(subject), is(equalTo(expected(reference, srcPos, reference, destPos, length))));
+				}
+	}
+
+	private static long[] words(short[] data) {
+		long[] result = new long[(int) (((long) data.length * Short.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	@Test
+	public void shortXorFrom() {
+		for (int srcPos : POSITIONS)
+			for (int destPos : POSITIONS)
+				for (int length : LENGTHS) {
+					if (length > fits(srcPos, destPos) || (srcPos - destPos) % Short.SIZE != 0)
+						continue;
+					
+					short[] dest = ShortArrayBuilder.build0(DEST);
+					
+					Xor.xorFrom(ShortArrayBuilder.build0(SOURCE), srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(LongArrayBuilder.build0(SOURCE), srcPos, LongArrayBuilder.build0(DEST), destPos, length))));
+				}
+	}
+
+	@Test
+	public void shortXorFromSameArray() {
+		for (int srcPos : POSITIONS)
+			for (int destPos : POSITIONS)
+				for (int length : LENGTHS) {
+					if (length > fits(srcPos, destPos) || (srcPos - destPos) % Short.SIZE != 0)
+						continue;
+					
+					short[] subject = ShortArrayBuilder.build0(DEST);
+					long[] reference = LongArrayBuilder.build0(DEST);
+					
+					Xor.xorFrom(subject, srcPos, subject, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(subject), is(equalTo(expected(reference, srcPos, reference, destPos, length))));
+				}
+	}
+
+	private static long[] words(int[] data) {
+		long[] result = new long[(int) (((long) data.length * Integer.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	@Test
+	public void intXorFrom() {
+		for (int srcPos : POSITIONS)
+			for (int destPos : POSITIONS)
+				for (int length : LENGTHS) {
+					if (length > fits(srcPos, destPos) || (srcPos - destPos) % Integer.SIZE != 0)
+						continue;
+					
+					int[] dest = IntArrayBuilder.build0(DEST);
+					
+					Xor.xorFrom(IntArrayBuilder.build0(SOURCE), srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(LongArrayBuilder.build0(SOURCE), srcPos, LongArrayBuilder.build0(DEST), destPos, length))));
+				}
+	}
+
+	@Test
+	public void intXorFromSameArray() {
+		for (int srcPos : POSITIONS)
+			for (int destPos : POSITIONS)
+				for (int length : LENGTHS) {
+					if (length > fits(srcPos, destPos) || (srcPos - destPos) % Integer.SIZE != 0)
+						continue;
+					
+					int[] subject = IntArrayBuilder.build0(DEST);
+					long[] reference = LongArrayBuilder.build0(DEST);
+					
+					Xor.xorFrom(subject, srcPos, subject, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(subject), is(equalTo(expected(reference, srcPos, reference, destPos, length))));
+				}
+	}
+
+	private static long[] words(long[] data) {
+		long[] result = new long[(int) (((long) data.length * Long.SIZE) / Long.SIZE)];
+		for (int k = 0; k < result.length; k++)
+			result[k] = Store.readLong(data, (long) k * Long.SIZE);
+		
+		return result;
+	}
+
+	@Test
+	public void longXorFrom() {
+		for (int srcPos : POSITIONS)
+			for (int destPos : POSITIONS)
+				for (int length : LENGTHS) {
+					if (length > fits(srcPos, destPos) || (srcPos - destPos) % Long.SIZE != 0)
+						continue;
+					
+					long[] dest = LongArrayBuilder.build0(DEST);
+					
+					Xor.xorFrom(LongArrayBuilder.build0(SOURCE), srcPos, dest, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(dest), is(equalTo(expected(LongArrayBuilder.build0(SOURCE), srcPos, LongArrayBuilder.build0(DEST), destPos, length))));
+				}
+	}
+
+	@Test
+	public void longXorFromSameArray() {
+		for (int srcPos : POSITIONS)
+			for (int destPos : POSITIONS)
+				for (int length : LENGTHS) {
+					if (length > fits(srcPos, destPos) || (srcPos - destPos) % Long.SIZE != 0)
+						continue;
+					
+					long[] subject = LongArrayBuilder.build0(DEST);
+					long[] reference = LongArrayBuilder.build0(DEST);
+					
+					Xor.xorFrom(subject, srcPos, subject, destPos, length);
+					assertThat(srcPos + "," + destPos + "," + length, words(subject), is(equalTo(expected(reference, srcPos, reference, destPos, length))));
+				}
+	}
+
+	@Test
+	public void ones() {
+		long[] data = LongArrayBuilder.build0(SOURCE);
+		
+		for (int from : POSITIONS)
+			for (int length : LENGTHS) {
+				if (length > fits(from))
+					continue;
+				
+				long expected = 0;
+				for (int i = from; i < from + length; i++)
+					expected += Store.readBit(data, i) ? 1 : 0;
+				
+				assertThat(from + "," + length, Ones.ones(data, (long) from, (long) (from + length)), is(equalTo(expected)));
+			}
+	}
+}
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+package br.eti.rslemos.bitsmagic;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SegmentStoreUnitTest {
+	// an odd number of bytes, so that the last word is partial
+	private static final int BYTES = 77;
+	private static final long SIZE = BYTES * Byte.SIZE;
+	
+	private Arena arena;
+	
+	private MemorySegment subject;
+	private MemorySegment source;
+	
+	// on-heap counterparts, used as reference
+	private byte[] refSubject;
+	private byte[] refSource;
+	
+	@Before
+	public void setUp() {
+		Random random = new Random(0x5E6L);
+		
+		refSubject = new byte[BYTES];
+		refSource = new byte[BYTES];
+		random.nextBytes(refSubject);
+		random.nextBytes(refSource);
+		
+		arena = Arena.ofConfined();
+		
+		// slice at an odd address, so that no word access is aligned
+		subject = arena.allocate(BYTES + 1).asSlice(1);
+		source = arena.allocate(BYTES);
+		
+		subject.copyFrom(MemorySegment.ofArray(refSubject));
+		source.copyFrom(MemorySegment.ofArray(refSource));
+	}
+	
+	@After
+	public void tearDown() {
+		arena.close();
+	}
+	
+	private void assertSameAsReference() {
+		assertThat(subject.toArray(ValueLayout.JAVA_BYTE), is(equalTo(refSubject)));
+	}
+	
+	@Test
+	public void size() {
+		assertThat(SegmentStore.size(subject), is(equalTo(SIZE)));
+	}
+	
+	@Test
+	public void readBit() {
+		for (long i = -3; i < SIZE + 3; i++)
+			assertThat("bit " + i, SegmentStore.readBit(subject, i), is(equalTo(Store.readBit(refSubject, i))));
+	}
+	
+	@Test
+	public void writeBit() {
+		for (long i = -3; i < SIZE + 3; i += 7) {
+			SegmentStore.writeBit(subject, i, true);
+			Store.writeBit(refSubject, i, true);
+		}
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void readInt() {
+		for (long i = -40; i < SIZE + 3; i++)
+			assertThat("offset " + i, SegmentStore.readInt(subject, i), is(equalTo(Store.readInt(refSubject, i))));
+	}
+	
+	@Test
+	public void writeInt() {
+		for (long i = -40; i < SIZE + 3; i += 29) {
+			SegmentStore.writeInt(subject, i, 0xCAFEBABE);
+			Store.writeInt(refSubject, i, 0xCAFEBABE);
+		}
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void readLong() {
+		for (long i = -70; i < SIZE + 3; i++)
+			assertThat("offset " + i, SegmentStore.readLong(subject, i), is(equalTo(Store.readLong(refSubject, i))));
+	}
+	
+	@Test
+	public void writeLong() {
+		for (long i = -70; i < SIZE + 3; i += 61) {
+			SegmentStore.writeLong(subject, i, 0xDEADBEEFCAFEBABEL);
+			Store.writeLong(refSubject, i, 0xDEADBEEFCAFEBABEL);
+		}
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void fillTrue() {
+		SegmentStore.fill(subject, 100, 500, true);
+		Store.fill(refSubject, 100, 500, true);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void fillFalseBeyondLimits() {
+		SegmentStore.fill(subject, -100, 300, false);
+		SegmentStore.fill(subject, 520, SIZE + 100, false);
+		Store.fill(refSubject, -100, 300, false);
+		Store.fill(refSubject, 520, SIZE + 100, false);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void ones() {
+		for (long from = -5; from < SIZE; from += 37)
+			for (long to = from; to < SIZE + 5; to += 41)
+				assertThat(from + ".." + to, SegmentStore.ones(subject, from, to), is(equalTo(Ones.ones(refSubject, from, to))));
+	}
+	
+	@Test
+	public void copyFromOtherStorage() {
+		for (long length = 0; length < 300; length += 53) {
+			SegmentStore.copyFrom(source, 77, subject, 121, length);
+			Copy.copyFrom(refSource, 77, refSubject, 121, length);
+			
+			assertSameAsReference();
+		}
+	}
+	
+	@Test
+	public void copyFromByteAligned() {
+		for (long length = 0; length < 300; length += 53) {
+			SegmentStore.copyFrom(source, 80, subject, 128, length);
+			Copy.copyFrom(refSource, 80, refSubject, 128, length);
+			
+			assertSameAsReference();
+		}
+	}
+	
+	@Test
+	public void copyFromSameStorageForwards() {
+		SegmentStore.copyFrom(subject, 200, subject, 3, 350);
+		Copy.copyFrom(refSubject, 200, refSubject, 3, 350);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void copyFromSameStorageBackwards() {
+		SegmentStore.copyFrom(subject, 3, subject, 200, 350);
+		Copy.copyFrom(refSubject, 3, refSubject, 200, 350);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void copyFromOverlappingSlices() {
+		// same memory, seen through different segments
+		SegmentStore.copyFrom(subject, 3, subject.asSlice(10), 120, 350);
+		Copy.copyFrom(refSubject, 3, refSubject, 200, 350);
+		
+		assertSameAsReference();
+	}
+	
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void copyFromBeyondLimits() {
+		SegmentStore.copyFrom(source, 0, subject, 1, SIZE);
+	}
+	
+	@Test
+	public void safeCopyFromBeyondLimits() {
+		SegmentStore.safeCopyFrom(source, -50, subject, 30, SIZE);
+		Copy.safeCopyFrom(refSource, -50, refSubject, 30, SIZE);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void xorFromOtherStorage() {
+		SegmentStore.xorFrom(source, 13, subject, 250, 300);
+		Xor.xorFrom(refSource, 13, refSubject, 250, 300);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void xorFromSameStorageBackwards() {
+		SegmentStore.xorFrom(subject, 5, subject, 260, 300);
+		Xor.xorFrom(refSubject, 5, refSubject, 260, 300);
+		
+		assertSameAsReference();
+	}
+	
+	@Test
+	public void heapSegment() {
+		byte[] data = refSubject.clone();
+		
+		SegmentStore.copyFrom(source, 13, MemorySegment.ofArray(data), 250, 300);
+		Copy.copyFrom(refSource, 13, refSubject, 250, 300);
+		
+		assertThat(data, is(equalTo(refSubject)));
+	}
+}
@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * BEGIN COPYRIGHT NOTICE
+ * 
+ * The MIT License (MIT)
+ * 
+ * Copyright (c) 2016 Rodrigo Lemos
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * 
+ * END COPYRIGHT NOTICE
+ *******************************************************************************/
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Generates {@code PackedKernels}, the block kernels of 
+ * {@code PackedLongArray}, one unrolled decoder and encoder per width.
+ * 
+ * <p>Usage, from the project root (the output file defaults to 
+ * {@code src/main/java/br/eti/rslemos/bitsmagic/PackedKernels.java}):
+ * </p>
+ * <pre>
+ * mkdir -p target/tools
+ * javac -d target/tools src/tools/java/PackedKernelsGenerator.java
+ * java -cp target/tools PackedKernelsGenerator [output file]
+ * </pre>
+ * 
+ * @author Rodrigo Lemos
+ * @since 1.0.0
+ */
+public class PackedKernelsGenerator {
+	private static final String HEADER = 
+			"/*******************************************************************************\n" +
+			" * BEGIN COPYRIGHT NOTICE\n" +
+			" * \n" +
+			" * The MIT License (MIT)\n" +
+			" * \n" +
+			" * Copyright (c) 2016 Rodrigo Lemos\n" +
+			" * \n" +
+			" * Permission is hereby granted, free of charge, to any person obtaining a copy\n" +
+			" * of this software and associated documentation files (the \"Software\"), to deal\n" +
+			" * in the Software without restriction, including without limitation the rights\n" +
+			" * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell\n" +
+			" * copies of the Software, and to permit persons to whom the Software is\n" +
+			" * furnished to do so, subject to the following conditions:\n" +
+			" * \n" +
+			" * The above copyright notice and this permission notice shall be included in all\n" +
+			" * copies or substantial portions of the Software.\n" +
+			" * \n" +
+			" * THE SOFTWARE IS PROVIDED \"AS IS\", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR\n" +
+			" * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,\n" +
+			" * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE\n" +
+			" * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER\n" +
+			" * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,\n" +
+			" * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE\n" +
+			" * SOFTWARE.\n" +
+			" * \n" +
+			" * END COPYRIGHT NOTICE\n" +
+			" *******************************************************************************/\n";
+	
+	private static final String CLASS_DOC = 
+			"/**\n" +
+			" * Block kernels for {@link PackedLongArray}, unrolled for every width.\n" +
+			" * \n" +
+			" * <p>A block is made of 64 values, which take exactly {@code width} words \n" +
+			" * of the storage, so that blocks are packed and unpacked by whole words: \n" +
+			" * every shift and mask is a constant and no value needs bounds checking, \n" +
+			" * read-modify-write or a branch on whether it straddles words. Width 64 has \n" +
+			" * no kernel: values are words then.\n" +
+			" * </p>\n" +
+			" * <p>This code is generated by {@code PackedKernelsGenerator} (under \n" +
+			" * {@code src/tools/java}, see README): do not edit individual kernels, \n" +
+			" * change the generator and run it again instead.\n" +
+			" * </p>\n" +
+			" * \n" +
+			" * @author Rodrigo Lemos\n" +
+			" * @since 1.0.0\n" +
+			" */\n";
+	
+	// widest kernels for long[] and int[] values
+	private static final int LONG_WIDTHS = 63;
+	private static final int INT_WIDTHS = 32;
+	
+	private final StringBuilder out = new StringBuilder();
+	
+	public static void main(String[] args) throws IOException {
+		String path = args.length > 0 ? args[0] : "src/main/java/br/eti/rslemos/bitsmagic/PackedKernels.java";
+		
+		PackedKernelsGenerator generator = new PackedKernelsGenerator();
+		generator.generate();
+		
+		Writer writer = new OutputStreamWriter(new FileOutputStream(path), "UTF-8");
+		try {
+			writer.write(generator.out.toString());
+		} finally {
+			writer.close();
+		}
+	}
+	
+	private void line(String line) {
+		out.append(line).append('\n');
+	}
+	
+	private void generate() {
+		out.append(HEADER);
+		line("package br.eti.rslemos.bitsmagic;");
+		line("");
+		out.append(CLASS_DOC);
+		line("final class PackedKernels {");
+		line("\tprivate PackedKernels() { /* non-instantiable */ }");
+		line("");
+		
+		line("\t/**");
+		line("\t * Unpacks {@code blocks} blocks of values of the given width, from word ");
+		line("\t * {@code j} of the storage on, into the given buffer.");
+		line("\t */");
+		dispatch("decode", "int width, long[] data, int j, long[] dest, int off, int blocks", "data, j, dest, off, blocks", LONG_WIDTHS);
+		line("");
+		
+		line("\t/**");
+		line("\t * Unpacks {@code blocks} blocks of values of the given width (at most 32), ");
+		line("\t * from word {@code j} of the storage on, into the given buffer.");
+		line("\t */");
+		dispatch("decode", "int width, long[] data, int j, int[] dest, int off, int blocks", "data, j, dest, off, blocks", INT_WIDTHS);
+		line("");
+		
+		line("\t/**");
+		line("\t * Packs {@code blocks} blocks of values of the given width from the given ");
+		line("\t * buffer, onto word {@code j} of the storage on.");
+		line("\t */");
+		dispatch("encode", "int width, long[] src, int off, long[] data, int j, int blocks", "src, off, data, j, blocks", LONG_WIDTHS);
+		line("");
+		
+		line("\t/**");
+		line("\t * Packs {@code blocks} blocks of values of the given width (at most 32) ");
+		line("\t * from the given buffer, taken as unsigned, onto word {@code j} of the ");
+		line("\t * storage on.");
+		line("\t */");
+		dispatch("encode", "int width, int[] src, int off, long[] data, int j, int blocks", "src, off, data, j, blocks", INT_WIDTHS);
+		line("");
+		
+		line("\t/********** long[] values **********/");
+		line("");
+		for (int w = 1; w <= LONG_WIDTHS; w++) {
+			decode(w, "long");
+			line("");
+			encode(w, "long");
+			if (w < LONG_WIDTHS)
+				line("");
+		}
+		line("");
+		
+		line("\t/********** int[] values **********/");
+		line("");
+		for (int w = 1; w <= INT_WIDTHS; w++) {
+			decode(w, "int");
+			line("");
+			encode(w, "int");
+			if (w < INT_WIDTHS)
+				line("");
+		}
+		line("}");
+	}
+	
+	private void dispatch(String name, String signature, String call, int widths) {
+		line("\tstatic void " + name + "(" + signature + ") {");
+		line("\t\tswitch (width) {");
+		for (int w = 1; w <= widths; w++)
+			line("\t\t\tcase " + w + ": " + name + w + "(" + call + "); return;");
+		line("\t\t\tdefault: throw new IllegalArgumentException(\"Width must be between 1 and " + widths + ": \" + width);");
+		line("\t\t}");
+		line("\t}");
+	}
+	
+	private void decode(int w, String type) {
+		final boolean ints = type.equals("int");
+		
+		line("\tprivate static void decode" + w + "(long[] data, int j, " + type + "[] dest, int off, int blocks) {");
+		line("\t\tfor (; blocks > 0; blocks--, j += " + w + ", off += 64) {");
+		
+		int loaded = -1;
+		for (int v = 0, bit = 0; v < 64; v++, bit += w) {
+			final int shift = bit & 63;
+			final int word = bit >> 6;
+			
+			if (word > loaded) {
+				line(word != 0 ? "\t\t\tfinal long w" + word + " = data[j + " + word + "];" : "\t\t\tfinal long w0 = data[j];");
+				loaded = word;
+			}
+			
+			// a 32-bit int cast does the masking by itself
+			final boolean masked = !(ints && w == 32);
+			
+			String e;
+			if (shift + w <= 64) {
+				e = shift != 0 ? "w" + word + " >>> " + shift : "w" + word;
+				if (shift + w < 64 && masked)
+					e += " & " + mask(w);
+			} else {
+				line("\t\t\tfinal long w" + (word + 1) + " = data[j + " + (word + 1) + "];");
+				loaded = word + 1;
+				
+				e = "w" + word + " >>> " + shift + " | w" + (word + 1) + " << " + (64 - shift);
+				if (masked)
+					e = "(" + e + ") & " + mask(w);
+			}
+			
+			if (ints)
+				e = e.indexOf(' ') >= 0 ? "(int) (" + e + ")" : "(int) " + e;
+			
+			line(v != 0 ? "\t\t\tdest[off + " + v + "] = " + e + ";" : "\t\t\tdest[off] = " + e + ";");
+		}
+		
+		line("\t\t}");
+		line("\t}");
+	}
+	
+	private void encode(int w, String type) {
+		line("\tprivate static void encode" + w + "(" + type + "[] src, int off, long[] data, int j, int blocks) {");
+		line("\t\tfor (; blocks > 0; blocks--, off += 64, j += " + w + ") {");
+		
+		for (int v = 0; v < 64; v++)
+			line("\t\t\tfinal long v" + v + " = " + (v != 0 ? "src[off + " + v + "]" : "src[off]") + " & " + mask(w) + ";");
+		
+		for (int k = 0; k < w; k++) {
+			final int lo = 64 * k;
+			final int hi = lo + 64;
+			
+			StringBuilder line = new StringBuilder(k != 0 ? "\t\t\tdata[j + " + k + "] = " : "\t\t\tdata[j] = ");
+			boolean first = true;
+			for (int v = 0; v < 64; v++) {
+				final int a = v * w;
+				final int b = a + w;
+				
+				if (b <= lo || a >= hi)
+					continue;
+				
+				String term;
+				if (a < lo)
+					term = "v" + v + " >>> " + (lo - a);
+				else if (a == lo)
+					term = "v" + v;
+				else
+					term = "v" + v + " << " + (a - lo);
+				
+				if (first) {
+					line.append(term);
+					first = false;
+				} else if (width(line) + term.length() + 3 > 80) {
+					line(line.toString());
+					line.setLength(0);
+					line.append("\t\t\t\t\t| ").append(term);
+				} else
+					line.append(" | ").append(term);
+			}
+			
+			line(line + ";");
+		}
+		
+		line("\t\t}");
+		line("\t}");
+	}
+	
+	// display width, with tab stops every 4 columns
+	private static int width(CharSequence line) {
+		int width = 0;
+		for (int i = 0; i < line.length(); i++)
+			width = line.charAt(i) == '\t' ? (width / 4 + 1) * 4 : width + 1;
+		
+		return width;
+	}
+	
+	private static String mask(int w) {
+		return String.format("0x%XL", (1L << w) - 1);
+	}
+}